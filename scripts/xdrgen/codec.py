@@ -0,0 +1,259 @@
+"""The binary XDR methods added to the generated classes: encodedSize, the limits and depth checks
+of decode, decodeInto, skip, fromXdrBase64 and fromXdrByteArray.
+
+Every statement is generated flat and indented afterwards by javasrc.reindent.
+"""
+
+import re
+
+import javasrc
+from model import BUILTINS
+
+# Classes of which equal values are shared by XdrDataInputStream#intern, see XdrInterner.
+INTERNED = {'AccountID', 'AlphaNum4', 'AlphaNum12', 'Asset', 'PublicKey', 'SCSymbol'}
+
+
+def recursive_types(types):
+    """Returns the classes which can contain themselves, whose decoding is bounded by the maximum
+    depth of XdrDecodeLimits."""
+    graph = {n: {s[1] for _, s in t.field_specs if s[0] in ('elem', 'optional', 'array')}
+             for n, t in types.items()}
+    index, low, stack, on_stack, res = {}, {}, [], set(), set()
+
+    def visit(v):
+        index[v] = low[v] = len(index)
+        stack.append(v)
+        on_stack.add(v)
+        for w in graph.get(v, ()):
+            if w not in index:
+                visit(w)
+                low[v] = min(low[v], low[w])
+            elif w in on_stack:
+                low[v] = min(low[v], index[w])
+        if low[v] == index[v]:
+            component = []
+            while True:
+                w = stack.pop()
+                on_stack.discard(w)
+                component.append(w)
+                if w == v:
+                    break
+            if len(component) > 1 or v in graph.get(v, ()):
+                res.update(component)
+
+    for v in sorted(graph):
+        if v not in index:
+            visit(v)
+    return res
+
+
+def with_depth(lines):
+    """Counts the decoding depth around statements, releasing it even if decoding fails."""
+    return ['stream.increaseDepth();', 'try {'] + lines + [
+        '} finally {', 'stream.decreaseDepth();', '}']
+
+
+# ---------- encodedSize ----------
+
+def _size_statement(line):
+    if re.match(r'^stream\.writeInt\(.*\);$', line):
+        return 'size += 4;'
+    if re.match(r'^stream\.writeLong\(.*\);$', line):
+        return 'size += 8;'
+    m = re.match(r'^(.+)\.encode\(stream\);$', line)
+    if m:
+        return 'size += %s.encodedSize();' % m.group(1)
+    m = re.match(r'^stream\.write\(.+, 0, (\w+)\);$', line)
+    if m:
+        return 'size += XdrDataOutputStream.paddedSize(%s);' % m.group(1)
+    if re.match(r'^(int \w+ = .*;|switch .*\{|case .*:|default:|break;|\}|\} else \{|'
+                r'if \(.*\) \{|for \(.*\) \{)$', line):
+        return line
+    raise ValueError('unknown statement: ' + line)
+
+
+def encoded_size(encode_body):
+    """The encodedSize method, which adds up the sizes of what encode writes."""
+    statements = [_size_statement(l) for l in javasrc.statements(encode_body)]
+    if len(statements) == 1 and statements[0].startswith('size += '):
+        body = ['return %s' % statements[0][len('size += '):]]
+    else:
+        body = ['int size = 0;'] + statements + ['return size;']
+    return ['public int encodedSize() {'] + body + ['}']
+
+
+# ---------- decode ----------
+
+def decode(xdr_type, body, recursive):
+    """The body of decode, with the lengths checked against the limits of the stream."""
+    specs = dict(xdr_type.field_specs)
+    lines = []
+    for line in javasrc.statements(body):
+        m = re.match(r'^int (\w+)Size = stream\.readInt\(\);$', line)
+        if m:
+            line = 'int %sSize = %s;' % (m.group(1), _length(specs[m.group(1)], bounded=False))
+        lines.append(line)
+    if xdr_type.name in INTERNED:
+        D = 'decoded' + xdr_type.name
+        assert lines[-1] == 'return %s;' % D
+        lines = ['int start = stream.getPosition();'] + lines[:-1] + [
+            'return stream.intern(start, %s);' % D]
+    if xdr_type.name in recursive:
+        lines = with_depth(lines)
+    return lines
+
+
+def _length(spec, bounded):
+    """The statement reading the length of a variable-length opaque or array. Only skip checks the
+    maximum length declared in XDR, decode has never enforced it."""
+    elem = 1 if spec[0] == 'opaque' else 4
+    if not bounded:
+        return 'stream.readLength(%d)' % elem
+    return 'stream.readLength(%s, %d)' % (spec[2] if spec[0] == 'opaque' else spec[3], elem)
+
+
+def _size(spec, bounded):
+    return spec[-2] if spec[-2] else _length(spec, bounded)
+
+
+# ---------- decodeInto ----------
+
+def _decode_into_value(types, t, lhs):
+    if t in BUILTINS or types[t].kind == 'enum':
+        return '%s.decode(stream)' % t
+    return '%s.decodeInto(%s, stream)' % (t, lhs)
+
+
+def _decode_into_field(types, f, spec, D):
+    lhs = '%s.%s' % (D, f)
+    k = spec[0]
+    if k == 'elem':
+        return ['%s = %s;' % (lhs, _decode_into_value(types, spec[1], lhs))]
+    if k == 'string':
+        return ['%s = XdrString.decode(stream, %s);' % (lhs, spec[1])]
+    if k == 'bool':
+        return ['%s = stream.readInt() == 1 ? true : false;' % lhs]
+    if k in ('int', 'long'):
+        return ['%s = stream.read%s();' % (lhs, k.capitalize())]
+    if k == 'optional':
+        return ['int %sPresent = stream.readInt();' % f,
+                'if (%sPresent != 0) {' % f,
+                '%s = %s;' % (lhs, _decode_into_value(types, spec[1], lhs)),
+                '} else {',
+                '%s = null;' % lhs,
+                '}']
+    if k == 'opaque':
+        return ['int %sSize = %s;' % (f, _size(spec, bounded=False)),
+                '%s = XdrRecycler.resize(%s, %sSize);' % (lhs, lhs, f),
+                'stream.read(%s, 0, %sSize);' % (lhs, f)]
+    if k == 'array':
+        t = spec[1]
+        return ['int %sSize = %s;' % (f, _size(spec, bounded=False)),
+                '%s = XdrRecycler.resize(%s, %sSize, %s[]::new);' % (lhs, lhs, f, t),
+                'for (int i = 0; i < %sSize; i++) {' % f,
+                '%s[i] = %s;' % (lhs, _decode_into_value(types, t, lhs + '[i]')),
+                '}']
+    raise ValueError(spec)
+
+
+def _read_discriminant(xdr_type):
+    if xdr_type.dtype == 'Integer':
+        return 'Integer discriminant = stream.readInt();'
+    return '%s discriminant = %s.decode(stream);' % (xdr_type.dtype, xdr_type.dtype)
+
+
+def decode_into(types, xdr_type, recursive):
+    """The decodeInto method, which decodes into an existing value where the shape allows it."""
+    name = xdr_type.name
+    D = 'decoded' + name
+    lines = []
+    if xdr_type.kind == 'union':
+        lines.append(_read_discriminant(xdr_type))
+        # The value is only reused for the same arm, so that the fields of the others stay null.
+        lines.append('%s %s = existing != null && discriminant.equals(existing.discriminant)'
+                     ' ? existing : new %s();' % (name, D, name))
+        lines.append('%s.setDiscriminant(discriminant);' % D)
+        lines.append('switch (%s) {' % xdr_type.dvalue)
+        for labels, f, spec in xdr_type.arms:
+            lines += ['case %s:' % l for l in labels]
+            if f is not None:
+                lines += _decode_into_field(types, f, spec, D)
+            lines.append('break;')
+        lines.append('}')
+    else:
+        lines.append('%s %s = existing != null ? existing : new %s();' % (name, D, name))
+        for f, spec in xdr_type.fields:
+            lines += _decode_into_field(types, f, spec, D)
+    lines.append('return %s;' % D)
+    if name in recursive:
+        lines = with_depth(lines)
+    if name in INTERNED:
+        # Interned values are shared, so they are never decoded into.
+        lines = ['if (stream.getInterner() != null) {', 'return decode(stream);', '}'] + lines
+    return (['public static %s decodeInto(%s existing, XdrDataInputStream stream)'
+             ' throws IOException {' % (name, name)] + lines + ['}'])
+
+
+# ---------- skip ----------
+
+def _skip_field(f, spec):
+    k = spec[0]
+    if k == 'elem':
+        return ['%s.skip(stream);' % spec[1]]
+    if k == 'string':
+        return ['XdrString.skip(stream, %s);' % spec[1]]
+    if k == 'bool':
+        return ['stream.readXdrBoolean();']
+    if k in ('int', 'long'):
+        return ['stream.read%s();' % k.capitalize()]
+    if k == 'optional':
+        return ['if (stream.readXdrBoolean()) {', '%s.skip(stream);' % spec[1], '}']
+    if k == 'opaque':
+        return ['int %sSize = %s;' % (f, _size(spec, bounded=True)), 'stream.skipOpaque(%sSize);' % f]
+    if k == 'array':
+        return ['int %sSize = %s;' % (f, _size(spec, bounded=True)),
+                'for (int i = 0; i < %sSize; i++) {' % f,
+                '%s.skip(stream);' % spec[1],
+                '}']
+    raise ValueError(spec)
+
+
+def skip(xdr_type, recursive):
+    """The skip method, which reads past a value without allocating it, checking the
+    discriminants, the booleans, the lengths and the depth as it goes."""
+    if xdr_type.kind == 'enum':
+        lines = ['decode(stream);']
+    elif xdr_type.kind == 'union':
+        lines = [_read_discriminant(xdr_type), 'switch (%s) {' % xdr_type.dvalue]
+        for labels, f, spec in xdr_type.arms:
+            lines += ['case %s:' % l for l in labels]
+            if f is not None:
+                lines += _skip_field(f, spec)
+            lines.append('break;')
+        lines += ['default:',
+                  'throw new IOException("Unknown %s discriminant: " + discriminant);'
+                  % xdr_type.name,
+                  '}']
+    else:
+        lines = []
+        for f, spec in xdr_type.fields:
+            lines += _skip_field(f, spec)
+    if xdr_type.name in recursive:
+        lines = with_depth(lines)
+    signature = 'public static void skip(XdrDataInputStream stream) throws IOException {'
+    return [signature] + lines + ['}']
+
+
+# ---------- base64 and byte arrays ----------
+
+def from_xdr(name):
+    """fromXdrBase64 and fromXdrByteArray, which decode without copying the input."""
+    return ['public static %s fromXdrBase64(String xdr) throws IOException {' % name,
+            'XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);',
+            'return decode(xdrDataInputStream);',
+            '}',
+            '',
+            'public static %s fromXdrByteArray(byte[] xdr) throws IOException {' % name,
+            'XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);',
+            'return decode(xdrDataInputStream);',
+            '}']
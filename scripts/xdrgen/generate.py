@@ -0,0 +1,100 @@
+#!/usr/bin/env python3
+"""Extends the classes generated by xdrgen with the methods of the SDK.
+
+Usage: generate.py XDRGEN_OUTPUT_DIR TARGET_DIR
+
+Reads the classes xdrgen generated in XDRGEN_OUTPUT_DIR, adds encodedSize, the limits and depth
+checks of decode, decodeInto, skip and the JSON methods to them, replaces fromXdrBase64 and
+fromXdrByteArray with versions that decode without copying the input, and writes them to TARGET_DIR
+along with the classes of its slim package. The runtime classes that xdrgen also writes, such as
+XdrDataInputStream, are maintained in TARGET_DIR and are not copied.
+"""
+
+import os
+import sys
+
+import codec
+import javasrc
+import model
+import scval
+import sep51
+import slim
+
+
+def _lines(lines, ind):
+    return '\n'.join(javasrc.reindent(lines, ind))
+
+
+def _insert_after(src, m, lines):
+    return src[:m.end()] + '\n' + _lines(lines, m.group(1)) + '\n' + src[m.end():]
+
+
+def _replace(src, start, end, lines, ind):
+    return src[:start] + _lines(lines, ind) + '\n' + src[end:]
+
+
+def _extend_class(src, types, recursive, xdr_type):
+    name = xdr_type.name
+    m = javasrc.find_method(src, name, r'public void encode\(XdrDataOutputStream stream\)')
+    src = _insert_after(src, m, codec.encoded_size(m.group(2)))
+
+    signature = r'public static %s decode\(XdrDataInputStream stream\)' % name
+    m = javasrc.find_method(src, name, signature)
+    skip = codec.skip(xdr_type, recursive)
+    if xdr_type.kind == 'enum':
+        src = _insert_after(src, m, skip)
+    else:
+        if name == 'SCVal':
+            methods = scval.decode_methods(javasrc.statements(m.group(2)))
+        else:
+            methods = ['public static %s decode(XdrDataInputStream stream) throws IOException {'
+                       % name] + codec.decode(xdr_type, m.group(2), recursive) + ['}', '']
+            methods += codec.decode_into(types, xdr_type, recursive)
+        src = _replace(src, m.start(), m.end(), methods + [''] + skip, m.group(1))
+
+    start = javasrc.find_method(
+        src, name, r'public static %s fromXdrBase64\(String xdr\)' % name).start()
+    m = javasrc.find_method(src, name, r'public static %s fromXdrByteArray\(byte\[\] xdr\)' % name)
+    methods = codec.from_xdr(name) + [''] + sep51.json_methods(types, xdr_type)
+    return _replace(src, start, m.end(), methods, m.group(1))
+
+
+def _imports(src):
+    add = ['com.google.gson.stream.JsonReader', 'com.google.gson.stream.JsonWriter']
+    for name, used in (('com.google.gson.stream.JsonToken', 'JsonToken.'),
+                       ('org.stellar.sdk.StrKey', 'StrKey.'),
+                       ('java.math.BigInteger', 'BigInteger'),
+                       ('java.util.ArrayDeque', 'ArrayDeque<')):
+        if used in src:
+            add.append(name)
+    return javasrc.replace_imports(
+        src, remove=('java.io.ByteArrayInputStream', 'org.stellar.sdk.Base64Factory'), add=add)
+
+
+def generate(source_dir, target_dir, slim_roots=slim.ROOTS):
+    types = model.load(source_dir)
+    recursive = codec.recursive_types(types)
+    for f in sorted(os.listdir(source_dir)):
+        if not f.endswith('.java'):
+            continue
+        src = open(os.path.join(source_dir, f)).read()
+        if not javasrc.is_generated(src):
+            continue
+        if f != 'Constants.java':
+            for _, name, _, _, _ in javasrc.classes(src):
+                src = _extend_class(src, types, recursive, types[name])
+            src = _imports(src)
+        with open(os.path.join(target_dir, f), 'w') as out:
+            out.write(src)
+
+    slim_dir = os.path.join(target_dir, 'slim')
+    os.makedirs(slim_dir, exist_ok=True)
+    for f, (header, body) in slim.Generator(types, slim_roots).files(target_dir).items():
+        with open(os.path.join(slim_dir, f), 'w') as out:
+            out.write('\n'.join(header) + '\n' + _lines(body, '') + '\n')
+
+
+if __name__ == '__main__':
+    if len(sys.argv) != 3:
+        sys.exit(__doc__)
+    generate(sys.argv[1], sys.argv[2])
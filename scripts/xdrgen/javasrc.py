@@ -0,0 +1,94 @@
+"""Helpers to find and edit the classes and methods of the Java sources generated by xdrgen."""
+
+import re
+
+GENERATED_HEADER = '// Automatically generated by xdrgen'
+
+_CLASS = re.compile(r'^( *)public (?:static )?(class|enum) (\w+) implements XdrElement \{$', re.M)
+
+
+def is_generated(src):
+    return src.startswith(GENERATED_HEADER)
+
+
+def classes(src):
+    """Returns (kind, name, indent, start, end) for every XDR class of a source, outer ones first.
+
+    start is the offset of the class declaration and end the offset of its closing brace.
+    """
+    res = []
+    for m in _CLASS.finditer(src):
+        ind = m.group(1)
+        end = src.index('\n' + ind + '}\n', m.end()) + 1 if ind else src.rindex('\n}') + 1
+        res.append((m.group(2), m.group(3), ind, m.start(), end))
+    return res
+
+
+def find_class(src, name):
+    for c in classes(src):
+        if c[1] == name:
+            return c
+    raise KeyError(name)
+
+
+def find_method(src, name, signature):
+    """Returns the match of a method of the class name, the signature being a regular expression.
+
+    The groups of the match are the indent of the method, then those of the signature, and the
+    last one is the body of the method.
+    """
+    _, _, ind, start, end = find_class(src, name)
+    pattern = re.compile(
+        r'^(' + ind + r'  )' + signature + r'\s+throws IOException \{\n(.*?)\n\1\}\n', re.M | re.S)
+    m = pattern.search(src, start, end)
+    if m is None:
+        raise KeyError('%s: %s' % (name, signature))
+    return m
+
+
+def statements(body):
+    """Splits a method body into its statements, joining the ones xdrgen wrapped."""
+    res, cur = [], ''
+    for line in body.split('\n'):
+        line = line.strip()
+        if not line:
+            continue
+        cur = cur + ' ' + line if cur else line
+        if cur.endswith((';', '{', '}', ':')):
+            res.append(cur)
+            cur = ''
+    assert not cur, cur
+    return res
+
+
+def reindent(lines, ind):
+    """Indents flat statements by their braces and case labels, the first level being ind."""
+    res, stack = [], []
+    for line in lines:
+        if line.startswith('}'):
+            if stack.pop() == 'case':
+                stack.pop()
+        if line.startswith('case ') or line == 'default:':
+            if stack[-1] == 'case':
+                stack.pop()
+            res.append(ind + '  ' * len(stack) + line)
+            stack.append('case')
+            continue
+        if line.startswith('*'):
+            # The continuation of a doc comment.
+            line = ' ' + line
+        res.append(ind + '  ' * len(stack) + line if line else line)
+        if line.endswith('{'):
+            stack.append('brace')
+    assert not stack, lines
+    return res
+
+
+def replace_imports(src, remove=(), add=()):
+    lines = src.split('\n')
+    imports = [l for l in lines if l.startswith('import ')]
+    first = lines.index(imports[0])
+    last = len(lines) - 1 - lines[::-1].index(imports[-1])
+    keep = {l for l in imports if l[len('import '):-1] not in remove}
+    keep |= {'import %s;' % i for i in add}
+    return '\n'.join(lines[:first] + sorted(keep) + lines[last + 1:])
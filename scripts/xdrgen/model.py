@@ -0,0 +1,198 @@
+"""The XDR types, as read back from the decode methods of the classes generated by xdrgen.
+
+A field is described by a spec tuple:
+
+  ('elem', T)                 a value of class T
+  ('string', bound)           an XdrString of at most bound bytes
+  ('bool',), ('int',), ('long',)
+  ('optional', T)             a value of class T, or null
+  ('opaque', fixed, bound)    fixed bytes if fixed is set, otherwise at most bound bytes
+  ('array', T, fixed, bound)  fixed values of class T if fixed is set, otherwise at most bound
+
+fixed and bound are Java expressions. The bounds of variable-length opaques and arrays are not in
+the generated decode methods, they are read from the XDR definitions in the class comments.
+"""
+
+import html
+import os
+import re
+
+import javasrc
+
+BUILTINS = {'XdrUnsignedInteger', 'XdrUnsignedHyperInteger'}
+
+
+class XdrType(object):
+    def __init__(self, name, kind, file, ind, outer):
+        self.name = name
+        self.kind = kind  # enum, struct, union or typedef
+        self.file = file
+        self.ind = ind
+        self.outer = outer  # the name of the enclosing class, if the class is nested
+        self.members = []  # enum: the names of the members
+        self.fields = []  # struct and typedef: (name, spec)
+        self.dtype = None  # union: the class of the discriminant, Integer or Uint32 if not an enum
+        self.arms = []  # union: (case labels, field name or None for void, spec or None)
+        self.dvalue = None  # union: the expression switched on to select the arm
+
+    @property
+    def field_specs(self):
+        """The fields of a struct or typedef, or those of the arms of a union."""
+        if self.kind == 'union':
+            return [(f, spec) for _, f, spec in self.arms if f is not None]
+        return self.fields
+
+
+def _constants(src):
+    return dict(re.findall(r'public static final int (\w+) = (\d+);', src))
+
+
+def _bounds(src, constants):
+    """Maps the names declared in the XDR definition of a class to their bound, or to None if the
+    name is declared with different bounds."""
+    pre = re.search(r'<pre>(.*?)</pre>', src, re.S)
+    res = {}
+    if not pre:
+        return res
+    text = html.unescape(re.sub(r'^ *\* ?', '', pre.group(1), flags=re.M))
+    text = re.sub(r'//.*', '', text)
+    for m in re.finditer(r'(\w+)\s*<\s*(\w*)\s*>', text):
+        name, bound = m.group(1), m.group(2)
+        if bound and not bound.isdigit():
+            bound = constants[bound]
+        res[name] = None if name in res and res[name] != bound else bound
+    return res
+
+
+class _Parser(object):
+    def __init__(self, name, statements, bounds):
+        self.name = name
+        self.lines = statements
+        self.bounds = bounds
+        self.var = 'decoded' + name
+        self.i = 0
+
+    def bound(self, field):
+        for key in (field, field[0].upper() + field[1:]):
+            if key in self.bounds:
+                return self.bounds[key] or 'Integer.MAX_VALUE'
+        return 'Integer.MAX_VALUE'
+
+    def next(self):
+        line = self.lines[self.i]
+        self.i += 1
+        return line
+
+    def expect(self, line):
+        actual = self.next()
+        assert actual == line, (self.name, actual, line)
+
+    def field(self):
+        """Parses the statements decoding one field."""
+        D = re.escape(self.var)
+        line = self.next()
+        m = re.match(r'^%s\.(\w+) = (\w+)\.decode\(stream\);$' % D, line)
+        if m:
+            return m.group(1), ('elem', m.group(2))
+        m = re.match(r'^%s\.(\w+) = XdrString\.decode\(stream, ([\w.]+)\);$' % D, line)
+        if m:
+            return m.group(1), ('string', m.group(2))
+        m = re.match(r'^%s\.(\w+) = stream\.readInt\(\) == 1 \? true : false;$' % D, line)
+        if m:
+            return m.group(1), ('bool',)
+        m = re.match(r'^%s\.(\w+) = stream\.read(Int|Long)\(\);$' % D, line)
+        if m:
+            return m.group(1), (m.group(2).lower(),)
+        m = re.match(r'^int (\w+)Present = stream\.readInt\(\);$', line)
+        if m:
+            self.expect('if (%sPresent != 0) {' % m.group(1))
+            f, spec = self.field()
+            assert f == m.group(1) and spec[0] == 'elem', (self.name, f, spec)
+            self.expect('}')
+            return f, ('optional', spec[1])
+        m = re.match(r'^int (\w+)Size = (stream\.readInt\(\)|[\w.]+);$', line)
+        if m:
+            f = m.group(1)
+            fixed = None if m.group(2) == 'stream.readInt()' else m.group(2)
+            bound = self.bound(f) if fixed is None else None
+            m2 = re.match(r'^%s\.%s = new (\w+)\[%sSize\];$' % (D, f, f), self.next())
+            assert m2, (self.name, self.lines[self.i - 1])
+            if m2.group(1) == 'byte':
+                self.expect('stream.read(%s.%s, 0, %sSize);' % (self.var, f, f))
+                return f, ('opaque', fixed, bound)
+            self.expect('for (int i = 0; i < %sSize; i++) {' % f)
+            m3 = re.match(r'^%s\.%s\[i\] = (\w+)\.decode\(stream\);$' % (D, f), self.next())
+            assert m3, (self.name, self.lines[self.i - 1])
+            self.expect('}')
+            return f, ('array', m3.group(1), fixed, bound)
+        raise ValueError('%s: unknown statement: %s' % (self.name, line))
+
+
+def _parse_class(xdr_type, src, bounds):
+    name = xdr_type.name
+    _, _, ind, start, end = javasrc.find_class(src, name)
+    if xdr_type.kind == 'enum':
+        members = re.findall(r'^' + ind + r'  (\w+)\((-?\d+)\)[,;]$', src[start:end], re.M)
+        xdr_type.members = [m for m, _ in members]
+        return
+    body = javasrc.find_method(
+        src, name, r'public static %s decode\(XdrDataInputStream stream\)' % name)
+    p = _Parser(name, javasrc.statements(body.group(2)), bounds)
+    p.expect('%s %s = new %s();' % (name, p.var, name))
+    m = re.match(r'^(\w+) discriminant = (?:\w+\.decode\(stream\)|stream\.readInt\(\));$',
+                 p.lines[1])
+    if m:
+        xdr_type.kind = 'union'
+        xdr_type.dtype = m.group(1)
+        p.next()
+        p.expect('%s.setDiscriminant(discriminant);' % p.var)
+        m = re.match(r'^switch \(%s\.getDiscriminant\(\)(.*)\) \{$' % p.var, p.next())
+        assert m, (name, p.lines[p.i - 1])
+        xdr_type.dvalue = 'discriminant' + m.group(1)
+        labels = []
+        while p.lines[p.i] != '}':
+            line = p.lines[p.i]
+            if line.startswith('case '):
+                labels.append(line[len('case '):-1])
+                p.i += 1
+            elif line == 'break;':
+                xdr_type.arms.append((labels, None, None))
+                labels = []
+                p.i += 1
+            else:
+                f, spec = p.field()
+                p.expect('break;')
+                xdr_type.arms.append((labels, f, spec))
+                labels = []
+        p.expect('}')
+    else:
+        xdr_type.kind = 'struct'
+        while p.lines[p.i] != 'return %s;' % p.var:
+            xdr_type.fields.append(p.field())
+        if len(xdr_type.fields) == 1 and xdr_type.fields[0][0].lower() == name.lower():
+            xdr_type.kind = 'typedef'
+    p.expect('return %s;' % p.var)
+    assert p.i == len(p.lines), name
+
+
+def load(directory):
+    """Returns the XDR types of the classes generated by xdrgen in a directory, by name."""
+    constants = _constants(open(os.path.join(directory, 'Constants.java')).read())
+    types = {}
+    for f in sorted(os.listdir(directory)):
+        if not f.endswith('.java'):
+            continue
+        src = open(os.path.join(directory, f)).read()
+        if not javasrc.is_generated(src) or f == 'Constants.java':
+            continue
+        bounds = _bounds(src, constants)
+        enclosing = []
+        for kind, name, ind, start, end in javasrc.classes(src):
+            while enclosing and enclosing[-1][1] < start:
+                enclosing.pop()
+            outer = enclosing[-1][0] if enclosing else None
+            xdr_type = XdrType(name, kind, f, ind, outer)
+            _parse_class(xdr_type, src, bounds)
+            types[name] = xdr_type
+            enclosing.append((name, end))
+    return types
@@ -0,0 +1,161 @@
+"""The decoding of SCVal, which is iterative rather than recursive.
+
+Vectors, maps and contract instance storage can be nested deeper than the call stack allows, so
+the elements of the arms below are decoded from an explicit stack of frames. The other arms are
+decoded like those of any union.
+"""
+
+# The statements replacing the decoding of the arms which push a frame.
+FRAME_ARMS = {
+    'SCV_VEC': '''int vecPresent = stream.readInt();
+if (vecPresent != 0) {
+int SCVecSize = stream.readLength(4);
+SCVal[] values = new SCVal[SCVecSize];
+decodedSCVal.vec = new SCVec(values);
+stream.increaseDepth();
+frames.push(new DecodeFrame(values, null, 2));
+}''',
+    'SCV_MAP': '''int mapPresent = stream.readInt();
+if (mapPresent != 0) {
+decodedSCVal.map = decodeMapFrame(stream, frames, 2);
+}''',
+    'SCV_CONTRACT_INSTANCE': '''stream.increaseDepth();
+try {
+decodedSCVal.instance = new SCContractInstance();
+decodedSCVal.instance.setExecutable(ContractExecutable.decode(stream));
+int storagePresent = stream.readInt();
+if (storagePresent != 0) {
+decodedSCVal.instance.setStorage(decodeMapFrame(stream, frames, 3));
+}
+} finally {
+if (frames.size() == frameCount) {
+stream.decreaseDepth();
+}
+}''',
+}
+
+DECODE = '''public static SCVal decode(XdrDataInputStream stream) throws IOException {
+// Vectors, maps and contract instance storage can be nested deeper than the call stack
+// allows, so their elements are decoded with an explicit stack of frames instead of
+// recursion. The depth is counted as if each nested type was decoded recursively.
+ArrayDeque<DecodeFrame> frames = new ArrayDeque<>();
+try {
+SCVal decodedSCVal = decodeValue(stream, frames);
+while (!frames.isEmpty()) {
+DecodeFrame frame = frames.peek();
+if (frame.values != null) {
+if (frame.index == frame.values.length) {
+frames.pop();
+frame.release(stream);
+} else {
+frame.values[frame.index++] = decodeValue(stream, frames);
+}
+} else if (frame.index == 2 * frame.entries.length) {
+frames.pop();
+frame.release(stream);
+} else {
+if (frame.index == 0) {
+// The depth of the entry itself, which is the same for every entry of the map.
+frame.enter(stream);
+}
+SCMapEntry entry = frame.entries[frame.index / 2];
+if (frame.index++ % 2 == 0) {
+entry.setKey(decodeValue(stream, frames));
+} else {
+entry.setVal(decodeValue(stream, frames));
+}
+}
+}
+return decodedSCVal;
+} finally {
+// Releases the depth of the frames that a decoding failure left unfinished.
+for (DecodeFrame frame : frames) {
+frame.release(stream);
+}
+}
+}
+
+public static SCVal decodeInto(SCVal existing, XdrDataInputStream stream) throws IOException {
+return decode(stream);
+}
+
+/**
+* Decodes a single value. The elements of a vector or map are not decoded; instead, a frame that
+* they are decoded into is pushed onto {@code frames}.
+*/
+private static SCVal decodeValue(XdrDataInputStream stream, ArrayDeque<DecodeFrame> frames)
+throws IOException {
+stream.increaseDepth();
+int frameCount = frames.size();
+try {
+return decodeBody(stream, frames, frameCount);
+} finally {
+// Once a frame has been pushed, it releases the depth of the value along with its own.
+if (frames.size() == frameCount) {
+stream.decreaseDepth();
+}
+}
+}'''
+
+DECODE_BODY = ('private static SCVal decodeBody(XdrDataInputStream stream, '
+               'ArrayDeque<DecodeFrame> frames, int frameCount) throws IOException {')
+
+FRAMES = '''private static SCMap decodeMapFrame(
+XdrDataInputStream stream, ArrayDeque<DecodeFrame> frames, int depth) throws IOException {
+int SCMapSize = stream.readLength(4);
+SCMapEntry[] entries = new SCMapEntry[SCMapSize];
+for (int i = 0; i < SCMapSize; i++) {
+entries[i] = new SCMapEntry();
+}
+stream.increaseDepth();
+frames.push(new DecodeFrame(null, entries, depth));
+return new SCMap(entries);
+}
+
+/** The elements of a vector or the entries of a map that are being decoded. */
+private static final class DecodeFrame {
+private final SCVal[] values;
+private final SCMapEntry[] entries;
+// The number of elements decoded so far, counting keys and values separately for maps.
+private int index;
+// The depth to release once all elements have been decoded.
+private int depth;
+
+private DecodeFrame(SCVal[] values, SCMapEntry[] entries, int depth) {
+this.values = values;
+this.entries = entries;
+this.depth = depth;
+}
+
+private void enter(XdrDataInputStream stream) throws IOException {
+stream.increaseDepth();
+depth++;
+}
+
+private void release(XdrDataInputStream stream) {
+for (int i = 0; i < depth; i++) {
+stream.decreaseDepth();
+}
+}
+}'''
+
+
+def _decode_body(decode_lines):
+    """The statements of the xdrgen decode method, with the arms in FRAME_ARMS replaced."""
+    res, arm = [], None
+    for line in decode_lines:
+        if arm is not None:
+            if line != 'break;':
+                continue
+            res += FRAME_ARMS[arm].split('\n')
+            arm = None
+        res.append(line)
+        if line.startswith('case ') and line[len('case '):-1] in FRAME_ARMS:
+            arm = line[len('case '):-1]
+    return res
+
+
+def decode_methods(decode_lines):
+    """decode, decodeInto and the helpers of SCVal, replacing the decode method of xdrgen."""
+    return (DECODE.split('\n') + ['', DECODE_BODY] + _decode_body(decode_lines) + ['}', '']
+            + FRAMES.split('\n'))
@@ -0,0 +1,352 @@
+"""The SEP-51 JSON methods added to the generated classes: toJson, fromJson(JsonReader) and
+fromJson(String).
+
+Names are converted to snake case, enum members lose the prefix they all share, and the arms of a
+union are named after their case. The classes of addresses, keys and 128 and 256 bits integers have
+the string forms of SEP-51, see OVERRIDES.
+"""
+
+import re
+
+
+def _words(name):
+    return re.findall(r'[A-Z]+\d*(?![a-z])|[A-Z]?[a-z]+\d*|\d+', name)
+
+
+def snake(name):
+    res = []
+    for part in name.split('_'):
+        res.extend(w.lower() for w in _words(part))
+    return '_'.join(res)
+
+
+def member_names(members):
+    """Maps the members of an enum to their JSON names, without the prefix they all share."""
+    words = [m.split('_') for m in members]
+    n = 0
+    if len(words) > 1:
+        while all(len(w) > n + 1 for w in words) and len({w[n] for w in words}) == 1:
+            n += 1
+    else:
+        n = len(words[0]) - 1
+    return {m: snake('_'.join(w[n:])) for m, w in zip(members, words)}
+
+
+def _arm_name(types, xdr_type, label):
+    if xdr_type.dtype in ('Integer', 'Uint32'):
+        return 'v' + label
+    return member_names(types[xdr_type.dtype].members)[label]
+
+
+def _write(f, spec):
+    k = spec[0]
+    if k in ('elem', 'string'):
+        return '%s.toJson(writer);' % f
+    if k in ('bool', 'int'):
+        return 'writer.value(%s);' % f
+    if k == 'long':
+        return 'writer.value(%s.toString());' % f
+    if k == 'optional':
+        return 'XdrJson.writeOptional(writer, %s);' % f
+    if k == 'opaque':
+        return 'XdrJson.writeHex(writer, %s);' % f
+    if k == 'array':
+        return 'XdrJson.writeArray(writer, %s);' % f
+    raise ValueError(spec)
+
+
+def _read(spec):
+    k = spec[0]
+    if k == 'elem':
+        return '%s.fromJson(reader)' % spec[1]
+    if k == 'string':
+        return 'XdrString.fromJson(reader)'
+    if k == 'bool':
+        return 'reader.nextBoolean()'
+    if k == 'int':
+        return 'reader.nextInt()'
+    if k == 'long':
+        return 'reader.nextLong()'
+    if k == 'optional':
+        return 'XdrJson.readOptional(reader, %s::fromJson)' % spec[1]
+    if k == 'opaque':
+        return 'XdrJson.readHex(reader, %s)' % spec[1] if spec[1] else 'XdrJson.readHex(reader)'
+    if k == 'array':
+        t = spec[1]
+        if spec[2]:
+            return 'XdrJson.readArray(reader, %s, %s[]::new, %s::fromJson)' % (spec[2], t, t)
+        return 'XdrJson.readArray(reader, %s[]::new, %s::fromJson)' % (t, t)
+    raise ValueError(spec)
+
+
+def _methods(name, to_json, from_json):
+    return (['@Override', 'public void toJson(JsonWriter writer) throws IOException {'] + to_json
+            + ['}', '', 'public static %s fromJson(JsonReader reader) throws IOException {' % name]
+            + from_json
+            + ['}', '', 'public static %s fromJson(String json) throws IOException {' % name,
+               'return XdrJson.fromJson(json, reader -> fromJson(reader));', '}'])
+
+
+def _enum(xdr_type):
+    name = xdr_type.name
+    names = member_names(xdr_type.members)
+    to_json = ['switch (this) {']
+    for m in xdr_type.members:
+        to_json += ['case %s:' % m, 'writer.value("%s");' % names[m], 'break;']
+    to_json.append('}')
+    from_json = ['String value = reader.nextString();', 'switch (value) {']
+    for m in xdr_type.members:
+        from_json += ['case "%s":' % names[m], 'return %s;' % m]
+    from_json += ['default:', 'throw new IOException("Unknown %s value: " + value);' % name, '}']
+    return to_json, from_json
+
+
+def _typedef(xdr_type):
+    name = xdr_type.name
+    D = 'decoded' + name
+    f, spec = xdr_type.fields[0]
+    return [_write(f, spec)], ['%s %s = new %s();' % (name, D, name),
+                               '%s.%s = %s;' % (D, f, _read(spec)),
+                               'return %s;' % D]
+
+
+def _struct(xdr_type):
+    name = xdr_type.name
+    D = 'decoded' + name
+    to_json = ['writer.beginObject();']
+    for f, spec in xdr_type.fields:
+        to_json += ['writer.name("%s");' % snake(f), _write(f, spec)]
+    to_json.append('writer.endObject();')
+    from_json = ['%s %s = new %s();' % (name, D, name),
+                 'reader.beginObject();',
+                 'while (reader.hasNext()) {',
+                 'String key = reader.nextName();',
+                 'switch (key) {']
+    for f, spec in xdr_type.fields:
+        from_json += ['case "%s":' % snake(f), '%s.%s = %s;' % (D, f, _read(spec)), 'break;']
+    from_json += ['default:', 'throw new IOException("Unknown %s field: " + key);' % name,
+                  '}', '}', 'reader.endObject();', 'return %s;' % D]
+    return to_json, from_json
+
+
+def _union(types, xdr_type):
+    name = xdr_type.name
+    D = 'decoded' + name
+    dtype = xdr_type.dtype
+    to_json = ['switch (%s) {' % xdr_type.dvalue]
+    voids, values = [], []
+    for labels, f, spec in xdr_type.arms:
+        for label in labels:
+            arm = _arm_name(types, xdr_type, label)
+            to_json.append('case %s:' % label)
+            if f is None:
+                to_json.append('writer.value("%s");' % arm)
+                voids.append((label, arm))
+            else:
+                to_json += ['writer.beginObject();', 'writer.name("%s");' % arm, _write(f, spec),
+                            'writer.endObject();']
+                values.append((label, arm, f, spec))
+            to_json.append('break;')
+    to_json.append('}')
+
+    def discriminant(label):
+        if dtype == 'Integer':
+            return label
+        if dtype == 'Uint32':
+            return 'new Uint32(new XdrUnsignedInteger(%s))' % label
+        return '%s.%s' % (dtype, label)
+
+    unknown = ['default:', 'throw new IOException("Unknown %s arm: " + key);' % name, '}']
+    from_json = ['%s %s = new %s();' % (name, D, name)]
+    if voids:
+        if values:
+            from_json.append('if (reader.peek() == JsonToken.STRING) {')
+        from_json += ['String key = reader.nextString();', 'switch (key) {']
+        for label, arm in voids:
+            from_json += ['case "%s":' % arm, '%s.setDiscriminant(%s);' % (D, discriminant(label)),
+                          'break;']
+        from_json += unknown + ['return %s;' % D]
+        if values:
+            from_json.append('}')
+    if values:
+        from_json += ['reader.beginObject();', 'String key = reader.nextName();', 'switch (key) {']
+        for label, arm, f, spec in values:
+            from_json += ['case "%s":' % arm, '%s.setDiscriminant(%s);' % (D, discriminant(label)),
+                          '%s.%s = %s;' % (D, f, _read(spec)), 'break;']
+        from_json += unknown + ['reader.endObject();', 'return %s;' % D]
+    return to_json, from_json
+
+
+def json_methods(types, xdr_type):
+    name = xdr_type.name
+    if name in OVERRIDES:
+        to_json, from_json = OVERRIDES[name]
+        return _methods(name, to_json.split('\n'), from_json.split('\n'))
+    if xdr_type.kind == 'enum':
+        to_json, from_json = _enum(xdr_type)
+    elif xdr_type.kind == 'typedef':
+        to_json, from_json = _typedef(xdr_type)
+    elif xdr_type.kind == 'struct':
+        to_json, from_json = _struct(xdr_type)
+    else:
+        to_json, from_json = _union(types, xdr_type)
+    return _methods(name, to_json, from_json)
+
+
+def _parts(name, fields, signed):
+    """Writes a 128 or 256 bits integer as a decimal string."""
+    D = 'decoded' + name
+    bits = ['%s.getInt64()' % fields[0] if signed else 'XdrJson.bits(%s)' % fields[0]]
+    bits += ['XdrJson.bits(%s)' % f for f in fields[1:]]
+    to_json = ('long[] parts = {%s};\n'
+               'writer.value(XdrJson.joinParts(parts, %s).toString());'
+               % (', '.join(bits), str(signed).lower()))
+    from_json = ['long[] parts = XdrJson.splitParts(XdrJson.readInteger(reader), %d, %s);'
+                 % (len(fields), str(signed).lower()),
+                 '%s %s = new %s();' % (name, D, name)]
+    for i, f in enumerate(fields):
+        if i == 0 and signed:
+            from_json.append('%s.%s = new Int64(parts[0]);' % (D, f))
+        else:
+            from_json.append('%s.%s = XdrJson.uint64(parts[%d]);' % (D, f, i))
+    from_json.append('return %s;' % D)
+    return to_json, '\n'.join(from_json)
+
+
+OVERRIDES = {
+    'PublicKey': (
+        'writer.value(XdrJson.encodePublicKey(this));',
+        'return XdrJson.decodePublicKey(reader.nextString());'),
+    'ContractID': (
+        'writer.value(XdrJson.encodeContractId(this));',
+        'return XdrJson.decodeContractId(reader.nextString());'),
+    'PoolID': (
+        'writer.value(XdrJson.encodePoolId(this));',
+        'return XdrJson.decodePoolId(reader.nextString());'),
+    'ClaimableBalanceID': (
+        'writer.value(XdrJson.encodeClaimableBalanceId(this));',
+        'return XdrJson.decodeClaimableBalanceId(reader.nextString());'),
+    'MuxedEd25519Account': (
+        'writer.value(XdrJson.encodeMuxedAccount(ed25519, id));',
+        'return XdrJson.decodeMuxedAccount(reader.nextString());'),
+    'MuxedAccountMed25519': (
+        'writer.value(XdrJson.encodeMuxedAccount(ed25519, id));',
+        'MuxedEd25519Account account = XdrJson.decodeMuxedAccount(reader.nextString());\n'
+        'return new MuxedAccountMed25519(account.getId(), account.getEd25519());'),
+    'MuxedAccount': ('''switch (discriminant) {
+case KEY_TYPE_ED25519:
+writer.value(StrKey.encodeEd25519PublicKey(ed25519.getUint256()));
+break;
+case KEY_TYPE_MUXED_ED25519:
+med25519.toJson(writer);
+break;
+}''', '''String address = reader.nextString();
+MuxedAccount decodedMuxedAccount = new MuxedAccount();
+if (address.startsWith("M")) {
+MuxedEd25519Account account = XdrJson.decodeMuxedAccount(address);
+decodedMuxedAccount.setDiscriminant(CryptoKeyType.KEY_TYPE_MUXED_ED25519);
+decodedMuxedAccount.med25519 = new MuxedAccountMed25519(account.getId(), account.getEd25519());
+} else {
+decodedMuxedAccount.setDiscriminant(CryptoKeyType.KEY_TYPE_ED25519);
+decodedMuxedAccount.ed25519 = new Uint256(StrKey.decodeEd25519PublicKey(address));
+}
+return decodedMuxedAccount;'''),
+    'SCAddress': ('''switch (discriminant) {
+case SC_ADDRESS_TYPE_ACCOUNT:
+accountId.toJson(writer);
+break;
+case SC_ADDRESS_TYPE_CONTRACT:
+contractId.toJson(writer);
+break;
+case SC_ADDRESS_TYPE_MUXED_ACCOUNT:
+muxedAccount.toJson(writer);
+break;
+case SC_ADDRESS_TYPE_CLAIMABLE_BALANCE:
+claimableBalanceId.toJson(writer);
+break;
+case SC_ADDRESS_TYPE_LIQUIDITY_POOL:
+liquidityPoolId.toJson(writer);
+break;
+}''', '''String address = reader.nextString();
+SCAddress decodedSCAddress = new SCAddress();
+switch (address.isEmpty() ? 0 : address.charAt(0)) {
+case 'G':
+decodedSCAddress.setDiscriminant(SCAddressType.SC_ADDRESS_TYPE_ACCOUNT);
+decodedSCAddress.accountId = new AccountID(XdrJson.decodePublicKey(address));
+break;
+case 'C':
+decodedSCAddress.setDiscriminant(SCAddressType.SC_ADDRESS_TYPE_CONTRACT);
+decodedSCAddress.contractId = XdrJson.decodeContractId(address);
+break;
+case 'M':
+decodedSCAddress.setDiscriminant(SCAddressType.SC_ADDRESS_TYPE_MUXED_ACCOUNT);
+decodedSCAddress.muxedAccount = XdrJson.decodeMuxedAccount(address);
+break;
+case 'B':
+decodedSCAddress.setDiscriminant(SCAddressType.SC_ADDRESS_TYPE_CLAIMABLE_BALANCE);
+decodedSCAddress.claimableBalanceId = XdrJson.decodeClaimableBalanceId(address);
+break;
+case 'L':
+decodedSCAddress.setDiscriminant(SCAddressType.SC_ADDRESS_TYPE_LIQUIDITY_POOL);
+decodedSCAddress.liquidityPoolId = XdrJson.decodePoolId(address);
+break;
+default:
+throw new IOException("Unknown SCAddress: " + address);
+}
+return decodedSCAddress;'''),
+    'SignerKey': ('''switch (discriminant) {
+case SIGNER_KEY_TYPE_ED25519:
+writer.value(StrKey.encodeEd25519PublicKey(ed25519.getUint256()));
+break;
+case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+writer.value(StrKey.encodePreAuthTx(preAuthTx.getUint256()));
+break;
+case SIGNER_KEY_TYPE_HASH_X:
+writer.value(StrKey.encodeSha256Hash(hashX.getUint256()));
+break;
+case SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD:
+ed25519SignedPayload.toJson(writer);
+break;
+}''', '''String key = reader.nextString();
+SignerKey decodedSignerKey = new SignerKey();
+switch (key.isEmpty() ? 0 : key.charAt(0)) {
+case 'G':
+decodedSignerKey.setDiscriminant(SignerKeyType.SIGNER_KEY_TYPE_ED25519);
+decodedSignerKey.ed25519 = new Uint256(StrKey.decodeEd25519PublicKey(key));
+break;
+case 'T':
+decodedSignerKey.setDiscriminant(SignerKeyType.SIGNER_KEY_TYPE_PRE_AUTH_TX);
+decodedSignerKey.preAuthTx = new Uint256(StrKey.decodePreAuthTx(key));
+break;
+case 'X':
+decodedSignerKey.setDiscriminant(SignerKeyType.SIGNER_KEY_TYPE_HASH_X);
+decodedSignerKey.hashX = new Uint256(StrKey.decodeSha256Hash(key));
+break;
+case 'P':
+decodedSignerKey.setDiscriminant(SignerKeyType.SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD);
+decodedSignerKey.ed25519SignedPayload =
+SignerKeyEd25519SignedPayload.fromXdrByteArray(StrKey.decodeSignedPayload(key));
+break;
+default:
+throw new IOException("Unknown SignerKey: " + key);
+}
+return decodedSignerKey;'''),
+    'SignerKeyEd25519SignedPayload': (
+        '// The strkey contains the XDR encoding of the key and the payload.\n'
+        'writer.value(StrKey.encodeSignedPayload(toXdrByteArray()));',
+        'return fromXdrByteArray(StrKey.decodeSignedPayload(reader.nextString()));'),
+    'AssetCode4': (
+        'XdrJson.writeAssetCode(writer, AssetCode4);',
+        'AssetCode4 decodedAssetCode4 = new AssetCode4();\n'
+        'decodedAssetCode4.AssetCode4 = XdrJson.readAssetCode(reader, 4);\n'
+        'return decodedAssetCode4;'),
+    'AssetCode12': (
+        'XdrJson.writeAssetCode(writer, AssetCode12);',
+        'AssetCode12 decodedAssetCode12 = new AssetCode12();\n'
+        'decodedAssetCode12.AssetCode12 = XdrJson.readAssetCode(reader, 12);\n'
+        'return decodedAssetCode12;'),
+    'Int128Parts': _parts('Int128Parts', ['hi', 'lo'], True),
+    'UInt128Parts': _parts('UInt128Parts', ['hi', 'lo'], False),
+    'Int256Parts': _parts('Int256Parts', ['hi_hi', 'hi_lo', 'lo_hi', 'lo_lo'], True),
+    'UInt256Parts': _parts('UInt256Parts', ['hi_hi', 'hi_lo', 'lo_hi', 'lo_lo'], False),
+}
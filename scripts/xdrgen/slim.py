@@ -0,0 +1,457 @@
+"""The classes of org.stellar.sdk.xdr.slim, see its package documentation.
+
+The slim classes of the types reachable from ROOTS hold Java primitives, arrays and enums in place
+of typedef classes, and convert from and to the regular classes with fromXdr and toXdr.
+"""
+
+import os
+import re
+
+import codec
+
+PACKAGE = 'org.stellar.sdk.xdr'
+Q = PACKAGE + '.'
+
+ROOTS = ['LedgerEntry', 'LedgerKey', 'LedgerEntryChanges', 'TransactionResult',
+         'TransactionResultPair', 'TransactionMeta', 'TransactionResultMeta',
+         'TransactionResultMetaV1', 'SCVal', 'ContractEvent']
+
+HEADER = ['// Automatically generated by xdrgen',
+          '// DO NOT EDIT or your changes may be overwritten', '',
+          'package %s.slim;' % PACKAGE, '']
+
+BOX = {'int': 'Integer', 'long': 'Long', 'boolean': 'Boolean'}
+
+
+class Node(object):
+    """A resolved XDR type: the typedef layers (class, field) around a base type."""
+
+    def __init__(self, wrappers, base, **kw):
+        self.wrappers = wrappers
+        self.base = base
+        self.fixed = self.bound = self.name = self.inner = self.elem = None
+        self.unsigned = self.string = False
+        self.__dict__.update(kw)
+
+    def attributes(self):
+        return {k: v for k, v in self.__dict__.items() if k not in ('wrappers', 'base', 'xtype')}
+
+
+def _getter(f):
+    return 'get' + f[0].upper() + f[1:]
+
+
+def _setter(f):
+    return 'set' + f[0].upper() + f[1:]
+
+
+def _doc(text, level):
+    """A doc comment wrapped at 100 columns for a class nested at level."""
+    width = 100 - 2 * level - len(' * ')
+    lines, cur = [], ''
+    for w in text.split(' '):
+        if cur and len(cur) + 1 + len(w) > width:
+            lines.append(cur)
+            cur = w
+        else:
+            cur = cur + ' ' + w if cur else w
+    if not lines and 2 * level + len('/**  */') + len(cur) <= 100:
+        return ['/** %s */' % cur]
+    return ['/**'] + ['* ' + l for l in lines + [cur]] + ['*/']
+
+
+def _new_array(t, size):
+    """new byte[n][] for byte[][], new X[n] for X[]."""
+    i = t.index('[]')
+    return 'new %s[%s]%s' % (t[:i], size, t[i + 2:])
+
+
+class Generator(object):
+    def __init__(self, types, roots=ROOTS):
+        self.types = types
+        self.recursive = codec.recursive_types(types)
+        closure, stack = set(), list(roots)
+        while stack:
+            n = stack.pop()
+            if n in closure:
+                continue
+            closure.add(n)
+            stack += self._deps(n)
+            # A nested class is generated with its enclosing class.
+            if n in types and types[n].outer:
+                stack.append(types[n].outer)
+        self.slim = {n for n in closure if self._kind(n) in ('struct', 'union')}
+
+    def _kind(self, n):
+        return self.types[n].kind if n in self.types else 'builtin'
+
+    def _deps(self, n):
+        t = self.types.get(n)
+        if t is None:
+            return []
+        res = [t.dtype] if t.kind == 'union' else []
+        return res + [s[1] for _, s in t.field_specs if s[0] in ('elem', 'optional', 'array')]
+
+    def path(self, n):
+        outer = self.types[n].outer
+        return self.path(outer) + '.' + n if outer else n
+
+    def ref(self, n, cur):
+        """How class n is referred to from class cur."""
+        scope = []
+        while cur:
+            scope.append(cur)
+            cur = self.types[cur].outer
+        outer = self.types[n].outer
+        return n if outer is None or outer in scope else self.path(n)
+
+    # ---------- type nodes ----------
+
+    def resolve(self, spec):
+        k = spec[0]
+        if k == 'bool':
+            return Node([], 'boolean', xtype='Boolean')
+        if k == 'int':
+            return Node([], 'int', xtype='Integer')
+        if k == 'long':
+            return Node([], 'long', xtype='Long')
+        if k == 'string':
+            return Node([], 'bytes', bound=spec[1], string=True, xtype='XdrString')
+        if k == 'opaque':
+            return Node([], 'bytes', fixed=spec[1], bound=spec[2], xtype='byte[]')
+        if k == 'optional':
+            inner = self.resolve(('elem', spec[1]))
+            return Node([], 'optional', inner=inner, xtype=inner.xtype)
+        if k == 'array':
+            elem = self.resolve(('elem', spec[1]))
+            return Node([], 'array', elem=elem, fixed=spec[2], bound=spec[3],
+                        xtype=elem.xtype + '[]')
+        n = spec[1]
+        if n == 'XdrUnsignedInteger':
+            return Node([], 'int', unsigned=True, xtype=n)
+        if n == 'XdrUnsignedHyperInteger':
+            return Node([], 'long', unsigned=True, xtype=n)
+        t = self.types[n]
+        if t.kind == 'enum':
+            return Node([], 'enum', name=n, xtype=n)
+        if t.kind in ('struct', 'union'):
+            return Node([], 'ref', name=n, xtype=Q + self.path(n))
+        f, inner_spec = t.fields[0]
+        inner = self.resolve(inner_spec)
+        return Node([(n, f)] + inner.wrappers, inner.base, xtype=n, **inner.attributes())
+
+    def jtype(self, node, cur, boxed=False):
+        b = node.base
+        if b in BOX:
+            return BOX[b] if boxed else b
+        if b == 'bytes':
+            return 'byte[]'
+        if b == 'enum':
+            return node.name
+        if b == 'ref':
+            return self.ref(node.name, cur)
+        if b == 'optional':
+            return self.jtype(node.inner, cur, True)
+        if b == 'array':
+            return self.jtype(node.elem, cur, node.elem.base == 'optional') + '[]'
+        raise ValueError(b)
+
+    # ---------- decode, encode and encodedSize ----------
+
+    def dec(self, node, lhs, var, cur, lvl=0):
+        """Statements decoding node into lhs, var naming the locals."""
+        b = node.base
+        if b == 'int':
+            res = ['%s = stream.readInt();' % lhs]
+        elif b == 'long':
+            res = ['%s = stream.readLong();' % lhs]
+        elif b == 'boolean':
+            res = ['%s = stream.readInt() == 1;' % lhs]
+        elif b in ('enum', 'ref'):
+            res = ['%s = %s.decode(stream);' % (lhs, self.jtype(node, cur))]
+        elif b == 'bytes':
+            size = node.fixed or 'stream.readLength(1)'
+            res = ['int %sSize = %s;' % (var, size),
+                   '%s = new byte[%sSize];' % (lhs, var),
+                   'stream.read(%s, 0, %sSize);' % (lhs, var)]
+        elif b == 'optional':
+            res = (['int %sPresent = stream.readInt();' % var, 'if (%sPresent != 0) {' % var]
+                   + self.dec(node.inner, lhs, var, cur, lvl) + ['}'])
+        elif b == 'array':
+            i = 'ijk'[lvl]
+            size = node.fixed or 'stream.readLength(4)'
+            res = ['int %sSize = %s;' % (var, size),
+                   '%s = %s;' % (lhs, _new_array(self.jtype(node, cur), var + 'Size')),
+                   'for (int %s = 0; %s < %sSize; %s++) {' % (i, i, var, i)]
+            res += self.dec(node.elem, '%s[%s]' % (lhs, i), var + 'Element', cur, lvl + 1)
+            res.append('}')
+        else:
+            raise ValueError(b)
+        # The typedef layers which can contain themselves count in the decoding depth.
+        for w, _ in node.wrappers:
+            if w in self.recursive:
+                res = codec.with_depth(res)
+        return res
+
+    def enc(self, node, v, var, cur, lvl=0):
+        b = node.base
+        if b == 'int':
+            return ['stream.writeInt(%s);' % v]
+        if b == 'long':
+            return ['stream.writeLong(%s);' % v]
+        if b == 'boolean':
+            return ['stream.writeInt(%s ? 1 : 0);' % v]
+        if b in ('enum', 'ref'):
+            return ['%s.encode(stream);' % v]
+        if b == 'bytes':
+            res = ['int %sSize = %s.length;' % (var, v)]
+            if not node.fixed:
+                res.append('stream.writeInt(%sSize);' % var)
+            return res + ['stream.write(%s, 0, %sSize);' % (v, var)]
+        if b == 'optional':
+            return (['if (%s != null) {' % v, 'stream.writeInt(1);']
+                    + self.enc(node.inner, v, var, cur, lvl)
+                    + ['} else {', 'stream.writeInt(0);', '}'])
+        if b == 'array':
+            i = 'ijk'[lvl]
+            res = ['int %sSize = %s.length;' % (var, v)]
+            if not node.fixed:
+                res.append('stream.writeInt(%sSize);' % var)
+            res.append('for (int %s = 0; %s < %sSize; %s++) {' % (i, i, var, i))
+            res += self.enc(node.elem, '%s[%s]' % (v, i), var + 'Element', cur, lvl + 1)
+            return res + ['}']
+        raise ValueError(b)
+
+    def size(self, node, v, var, cur, lvl=0):
+        b = node.base
+        if b in ('int', 'boolean', 'enum'):
+            return ['size += 4;']
+        if b == 'long':
+            return ['size += 8;']
+        if b == 'ref':
+            return ['size += %s.encodedSize();' % v]
+        if b == 'bytes':
+            return ([] if node.fixed else ['size += 4;']) + [
+                'size += XdrDataOutputStream.paddedSize(%s.length);' % v]
+        if b == 'optional':
+            return (['size += 4;', 'if (%s != null) {' % v]
+                    + self.size(node.inner, v, var, cur, lvl) + ['}'])
+        if b == 'array':
+            i = 'ijk'[lvl]
+            res = [] if node.fixed else ['size += 4;']
+            e = node.elem
+            if e.base in ('int', 'boolean', 'enum', 'long'):
+                return res + ['size += %d * %s.length;' % (8 if e.base == 'long' else 4, v)]
+            res.append('for (int %s = 0; %s < %s.length; %s++) {' % (i, i, v, i))
+            res += self.size(e, '%s[%s]' % (v, i), var + 'Element', cur, lvl + 1)
+            return res + ['}']
+        raise ValueError(b)
+
+    # ---------- conversions ----------
+
+    def _from_expr(self, node, x, cur):
+        """Converts the regular value x, without its typedef layers, to the slim value."""
+        b = node.base
+        if b in ('int', 'long', 'boolean'):
+            if node.unsigned:
+                return '%s.getNumber().%s()' % (x, 'intValue' if b == 'int' else 'longValue')
+            return x
+        if b == 'bytes':
+            return x + '.getBytes()' if node.string else x
+        if b == 'enum':
+            return x
+        if b == 'ref':
+            return '%s.fromXdr(%s)' % (self.ref(node.name, cur), x)
+        raise ValueError(b)
+
+    def _to_expr(self, node, v):
+        """Converts the slim value v to the regular value, without its typedef layers."""
+        b = node.base
+        if b in ('int', 'long', 'boolean'):
+            if node.unsigned and b == 'int':
+                return 'new XdrUnsignedInteger(Integer.toUnsignedLong(%s))' % v
+            if node.unsigned:
+                return 'new XdrUnsignedHyperInteger(Unsigned.toBigInteger(%s))' % v
+            return v
+        if b == 'bytes':
+            return 'new XdrString(%s)' % v if node.string else v
+        if b == 'enum':
+            return v
+        if b == 'ref':
+            return v + '.toXdr()'
+        raise ValueError(b)
+
+    @staticmethod
+    def _unwrap(node, e):
+        for _, f in node.wrappers:
+            e = '%s.%s()' % (e, _getter(f))
+        return e
+
+    @staticmethod
+    def _wrap(node, e):
+        for w, _ in reversed(node.wrappers):
+            e = 'new %s(%s)' % (w, e)
+        return e
+
+    def convert_from(self, node, e, assign, var, cur, lvl=0):
+        """Statements converting the regular value e and passing the slim value to assign."""
+        x = self._unwrap(node, e)
+        b = node.base
+        if b == 'optional':
+            return (['if (%s != null) {' % x]
+                    + self.convert_from(node.inner, x, assign, var, cur, lvl) + ['}'])
+        if b == 'array':
+            i = 'ijk'[lvl]
+            a = var + 'Array'
+            t = self.jtype(node, cur)
+            res = ['%s[] %s = %s;' % (node.elem.xtype, a, x),
+                   '%s %s = %s;' % (t, var, _new_array(t, a + '.length')),
+                   'for (int %s = 0; %s < %s.length; %s++) {' % (i, i, a, i)]
+            res += self.convert_from(
+                node.elem, '%s[%s]' % (a, i), lambda ex: '%s[%s] = %s;' % (var, i, ex),
+                var + 'Element', cur, lvl + 1)
+            return res + ['}', assign(var)]
+        return [assign(self._from_expr(node, x, cur))]
+
+    def convert_to(self, node, v, assign, var, cur, lvl=0):
+        """Statements converting the slim value v and passing the regular value to assign."""
+        b = node.base
+        if b == 'optional':
+            res = ['if (%s != null) {' % v]
+            res += self.convert_to(
+                node.inner, v, lambda ex: assign(self._wrap(node, ex)), var, cur, lvl)
+            if node.wrappers:
+                res += ['} else {', assign(self._wrap(node, 'null'))]
+            return res + ['}']
+        if b == 'array':
+            i = 'ijk'[lvl]
+            a = var + 'Array'
+            xt = node.elem.xtype + '[]'
+            res = ['%s %s = %s;' % (xt, a, _new_array(xt, v + '.length')),
+                   'for (int %s = 0; %s < %s.length; %s++) {' % (i, i, v, i)]
+            res += self.convert_to(
+                node.elem, '%s[%s]' % (v, i), lambda ex: '%s[%s] = %s;' % (a, i, ex),
+                var + 'Element', cur, lvl + 1)
+            return res + ['}', assign(self._wrap(node, a))]
+        return [assign(self._wrap(node, self._to_expr(node, v)))]
+
+    # ---------- classes ----------
+
+    def _switch(self, arms, body):
+        res = ['switch (discriminant) {']
+        for labels, f, n in arms:
+            res += ['case %s:' % l for l in labels]
+            if f:
+                res += body(f, n)
+            res.append('break;')
+        return res + ['}']
+
+    def gen_class(self, name, level):
+        t = self.types[name]
+        D = 'decoded' + name
+        xt = Q + self.path(name)
+        res = _doc('The slim form of {@link %s}, see the package documentation.' % xt, level)
+        res += ['@Data', '@NoArgsConstructor', '@AllArgsConstructor', '@Builder(toBuilder = true)',
+               'public %sclass %s implements XdrElement {' % ('static ' if level else '', name)]
+        if t.kind == 'struct':
+            fields = [(f, self.resolve(s)) for f, s in t.fields]
+            res += ['private %s %s;' % (self.jtype(n, name), f) for f, n in fields]
+            res += ['', 'public void encode(XdrDataOutputStream stream) throws IOException {']
+            for f, n in fields:
+                res += self.enc(n, f, f, name)
+            res += ['}', '', 'public int encodedSize() {', 'int size = 0;']
+            for f, n in fields:
+                res += self.size(n, f, f, name)
+            res += ['return size;', '}', '']
+            decode = ['%s %s = new %s();' % (name, D, name)]
+            for f, n in fields:
+                decode += self.dec(n, '%s.%s' % (D, f), f, name)
+            conv_from = ['%s converted = new %s();' % (name, name)]
+            for f, n in fields:
+                conv_from += self.convert_from(
+                    n, 'value.%s()' % _getter(f), lambda e, f=f: 'converted.%s = %s;' % (f, e),
+                    f, name)
+            conv_to = ['%s value = new %s();' % (xt, xt)]
+            for f, n in fields:
+                conv_to += self.convert_to(
+                    n, f, lambda e, f=f: 'value.%s(%s);' % (_setter(f), e), f, name)
+        else:
+            dtype = t.dtype
+            assert dtype != 'Uint32', name
+            dj = 'int' if dtype == 'Integer' else dtype
+            arms = [(labels, f, self.resolve(s) if s else None) for labels, f, s in t.arms]
+            res.append('private %s discriminant;' % dj)
+            res += ['private %s %s;' % (self.jtype(n, name), f) for _, f, n in arms if f]
+            res += ['', 'public void encode(XdrDataOutputStream stream) throws IOException {']
+            res.append('stream.writeInt(discriminant%s);' % ('' if dj == 'int' else '.getValue()'))
+            res += self._switch(arms, lambda f, n: self.enc(n, f, f, name))
+            res += ['}', '', 'public int encodedSize() {', 'int size = 0;', 'size += 4;']
+            res += self._switch(arms, lambda f, n: self.size(n, f, f, name))
+            res += ['return size;', '}', '']
+            decode = ['%s %s = new %s();' % (name, D, name),
+                      '%s discriminant = %s;'
+                      % (dj, 'stream.readInt()' if dj == 'int' else dtype + '.decode(stream)'),
+                      '%s.discriminant = discriminant;' % D]
+            decode += self._switch(arms, lambda f, n: self.dec(n, '%s.%s' % (D, f), f, name))
+            conv_from = ['%s converted = new %s();' % (name, name),
+                         'converted.discriminant = value.getDiscriminant();']
+            conv_from += ['switch (converted.discriminant) {'] + self._switch(
+                arms, lambda f, n: self.convert_from(
+                    n, 'value.%s()' % _getter(f), lambda e, f=f: 'converted.%s = %s;' % (f, e),
+                    f, name))[1:]
+            conv_to = ['%s value = new %s();' % (xt, xt), 'value.setDiscriminant(discriminant);']
+            conv_to += self._switch(arms, lambda f, n: self.convert_to(
+                n, f, lambda e, f=f: 'value.%s(%s);' % (_setter(f), e), f, name))
+        decode.append('return %s;' % D)
+        if name in self.recursive:
+            decode = codec.with_depth(decode)
+        res += ['public static %s decode(XdrDataInputStream stream) throws IOException {' % name]
+        res += decode + ['}', '']
+        res += codec.from_xdr(name) + ['']
+        res += ['/**',
+                '* Converts a value of the regular XDR model to the slim model.',
+                '*',
+                '* @param value the value of the regular model',
+                '* @return the value of the slim model',
+                '*/',
+                'public static %s fromXdr(%s value) {' % (name, xt)]
+        res += conv_from + ['return converted;', '}', '']
+        res += ['/**',
+                '* Converts this value to the regular XDR model.',
+                '*',
+                '* @return the value of the regular model',
+                '*/',
+                'public %s toXdr() {' % xt]
+        res += conv_to + ['return value;', '}', '']
+        res += ['@Override', 'public void toJson(JsonWriter writer) throws IOException {',
+                'toXdr().toJson(writer);', '}']
+        for n in sorted(self.slim):
+            if self.types[n].outer == name:
+                res += [''] + self.gen_class(n, level + 1)
+        return res + ['}']
+
+    def imports(self, lines, xdr_dir):
+        res = {'java.io.IOException', 'lombok.AllArgsConstructor', 'lombok.Builder',
+               'lombok.Data', 'lombok.NoArgsConstructor', 'com.google.gson.stream.JsonWriter'}
+        text = '\n'.join(l for l in lines if not l.startswith(('*', '/**')))
+        text = re.sub(r'org\.stellar\.sdk\.xdr\.[\w.]+', '', text)
+        for w in set(re.findall(r'\b[A-Z]\w*\b', text)):
+            if w in self.slim or w == 'Unsigned' or w.isupper() and w not in self.types:
+                continue
+            if os.path.exists(os.path.join(xdr_dir, w + '.java')):
+                res.add(Q + w)
+        return sorted(res)
+
+    def files(self, xdr_dir):
+        """Returns the sources of the slim classes by file name, as flat statements.
+
+        xdr_dir is the directory of the regular classes and runtime, whose classes are imported.
+        """
+        res = {}
+        for n in sorted(self.slim):
+            if self.types[n].outer:
+                continue
+            body = self.gen_class(n, 0)
+            imports = ['import %s;' % i for i in self.imports(body, xdr_dir)]
+            res[n + '.java'] = HEADER + imports + [''], body
+        return res
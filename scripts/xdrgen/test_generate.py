@@ -0,0 +1,101 @@
+"""Tests of the generator, run with: python3 -m unittest discover -s scripts/xdrgen
+
+testdata/input holds classes as generated by xdrgen, and testdata/expected what generate.py makes
+of them, before formatting. The runtime classes in testdata/input, which have no generated header,
+stand for the ones maintained in the target directory. After a deliberate change to the generator,
+rewrite the expected classes by running the tests with UPDATE_GOLDEN=1 and review the changes.
+"""
+
+import os
+import shutil
+import tempfile
+import unittest
+
+import generate
+import javasrc
+
+TESTDATA = os.path.join(os.path.dirname(os.path.abspath(__file__)), 'testdata')
+
+
+INPUT = os.path.join(TESTDATA, 'input')
+EXPECTED = os.path.join(TESTDATA, 'expected')
+RUNTIME = 'XdrElement.java'
+# The roots of the slim classes among the input classes.
+SLIM_ROOTS = ['Claimant', 'Memo', 'SCPQuorumSet']
+
+
+def _generated(directory):
+    """The generated classes of a directory and its subdirectories, by relative path."""
+    res = {}
+    for root, _, files in os.walk(directory):
+        for f in files:
+            src = open(os.path.join(root, f)).read()
+            if javasrc.is_generated(src):
+                res[os.path.relpath(os.path.join(root, f), directory)] = src
+    return res
+
+
+class GenerateTest(unittest.TestCase):
+    maxDiff = None
+
+    def setUp(self):
+        self.out = tempfile.mkdtemp()
+        shutil.copy(os.path.join(INPUT, RUNTIME), self.out)
+
+    def tearDown(self):
+        shutil.rmtree(self.out)
+
+    def generate(self):
+        generate.generate(INPUT, self.out, slim_roots=SLIM_ROOTS)
+        return _generated(self.out)
+
+    def test_golden(self):
+        actual = self.generate()
+        if os.environ.get('UPDATE_GOLDEN'):
+            shutil.rmtree(EXPECTED, ignore_errors=True)
+            for f, src in actual.items():
+                os.makedirs(os.path.dirname(os.path.join(EXPECTED, f)), exist_ok=True)
+                with open(os.path.join(EXPECTED, f), 'w') as out:
+                    out.write(src)
+        expected = _generated(EXPECTED)
+        self.assertEqual(sorted(expected), sorted(actual))
+        for f in sorted(expected):
+            self.assertEqual(expected[f], actual[f], f)
+
+    def test_runtime_classes_are_left_alone(self):
+        self.generate()
+        self.assertEqual(open(os.path.join(INPUT, RUNTIME)).read(),
+                         open(os.path.join(self.out, RUNTIME)).read())
+
+
+class JavasrcTest(unittest.TestCase):
+    def test_reindent(self):
+        lines = ['switch (x) {', 'case A:', 'case B:', 'a();', 'break;', 'default:',
+                 'if (b) {', 'c();', '}', '}', '', 'return;']
+        self.assertEqual(['    switch (x) {',
+                          '      case A:',
+                          '      case B:',
+                          '        a();',
+                          '        break;',
+                          '      default:',
+                          '        if (b) {',
+                          '          c();',
+                          '        }',
+                          '    }',
+                          '',
+                          '    return;'], javasrc.reindent(lines, '    '))
+
+    def test_replace_imports(self):
+        src = '\n'.join(['package p;', '', 'import b.B;', 'import a.A;', '', 'class C {}'])
+        self.assertEqual('\n'.join(['package p;', '', 'import a.A;', 'import c.C;', '',
+                                    'class C {}']),
+                         javasrc.replace_imports(src, remove=('b.B',), add=('c.C',)))
+
+    def test_classes(self):
+        src = open(os.path.join(TESTDATA, 'input', 'Claimant.java')).read()
+        self.assertEqual([('class', 'Claimant', ''), ('class', 'ClaimantV0', '  ')],
+                         [c[:3] for c in javasrc.classes(src)])
+
+
+if __name__ == '__main__':
+    unittest.main()
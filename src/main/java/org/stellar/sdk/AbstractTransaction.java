@@ -74,7 +74,7 @@ public abstract class AbstractTransaction {
    * @return the transaction hash
    */
   public byte[] hash() {
-    return Util.hash(this.signatureBase());
+    return Util.hash(getTransactionSignaturePayload(this.toTaggedTransaction(), network));
   }
 
   /**
@@ -93,6 +93,14 @@ public abstract class AbstractTransaction {
    */
   public abstract byte[] signatureBase();
 
+  /**
+   * Returns the tagged transaction that is signed, which is part of the signature base.
+   *
+   * @return the tagged transaction
+   */
+  abstract TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction
+      toTaggedTransaction();
+
   /**
    * Gets read only list(immutable) of the signatures on transaction.
    *
@@ -178,15 +186,18 @@ public abstract class AbstractTransaction {
       TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction taggedTransaction,
       Network network) {
     try {
-      Hash networkIdHash = new Hash(network.getNetworkId());
-      TransactionSignaturePayload payload =
-          TransactionSignaturePayload.builder()
-              .networkId(networkIdHash)
-              .taggedTransaction(taggedTransaction)
-              .build();
-      return payload.toXdrByteArray();
+      return getTransactionSignaturePayload(taggedTransaction, network).toXdrByteArray();
     } catch (IOException e) {
       throw new UnexpectedException(e);
     }
   }
+
+  private static TransactionSignaturePayload getTransactionSignaturePayload(
+      TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction taggedTransaction,
+      Network network) {
+    return TransactionSignaturePayload.builder()
+        .networkId(new Hash(network.networkId()))
+        .taggedTransaction(taggedTransaction)
+        .build();
+  }
 }
@@ -140,7 +140,7 @@ public abstract class Asset implements Comparable<Asset> {
             .discriminant(EnvelopeType.ENVELOPE_TYPE_CONTRACT_ID)
             .contractID(
                 HashIDPreimage.HashIDPreimageContractID.builder()
-                    .networkID(new Hash(network.getNetworkId()))
+                    .networkID(new Hash(network.networkId()))
                     .contractIDPreimage(
                         ContractIDPreimage.builder()
                             .discriminant(ContractIDPreimageType.CONTRACT_ID_PREIMAGE_FROM_ASSET)
@@ -180,7 +180,7 @@ public class Auth {
             .discriminant(EnvelopeType.ENVELOPE_TYPE_SOROBAN_AUTHORIZATION)
             .sorobanAuthorization(
                 HashIDPreimage.HashIDPreimageSorobanAuthorization.builder()
-                    .networkID(new Hash(network.getNetworkId()))
+                    .networkID(new Hash(network.networkId()))
                     .nonce(addressCredentials.getNonce())
                     .invocation(clone.getRootInvocation())
                     .signatureExpirationLedger(addressCredentials.getSignatureExpirationLedger())
@@ -146,11 +146,16 @@ public class FeeBumpTransaction extends AbstractTransaction {
 
   @Override
   public byte[] signatureBase() {
+    return getTransactionSignatureBase(toTaggedTransaction(), network);
+  }
+
+  @Override
+  TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction toTaggedTransaction() {
     TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction taggedTransaction =
         new TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction();
     taggedTransaction.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_TX_FEE_BUMP);
     taggedTransaction.setFeeBump(this.toXdr());
-    return getTransactionSignatureBase(taggedTransaction, network);
+    return taggedTransaction;
   }
 
   /** Generates TransactionEnvelope XDR object. */
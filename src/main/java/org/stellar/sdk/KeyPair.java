@@ -3,7 +3,6 @@ package org.stellar.sdk;
 import static java.lang.System.arraycopy;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.security.SecureRandom;
 import java.security.Security;
@@ -21,7 +20,6 @@ import org.stellar.sdk.xdr.DecoratedSignature;
 import org.stellar.sdk.xdr.PublicKeyType;
 import org.stellar.sdk.xdr.SignatureHint;
 import org.stellar.sdk.xdr.Uint256;
-import org.stellar.sdk.xdr.XdrDataOutputStream;
 
 /** Holds a Stellar keypair. */
 public class KeyPair {
@@ -188,16 +186,13 @@ public class KeyPair {
 
   /** Returns the signature hint for this keypair. */
   public SignatureHint getSignatureHint() {
-    ByteArrayOutputStream publicKeyBytesStream = new ByteArrayOutputStream();
-    XdrDataOutputStream xdrOutputStream = new XdrDataOutputStream(publicKeyBytesStream);
-
+    byte[] publicKeyBytes;
     try {
-      this.getXdrPublicKey().encode(xdrOutputStream);
+      publicKeyBytes = this.getXdrPublicKey().toXdrByteArray();
     } catch (IOException e) {
       throw new UnexpectedException(e);
     }
 
-    byte[] publicKeyBytes = publicKeyBytesStream.toByteArray();
     byte[] signatureHintBytes =
         Arrays.copyOfRange(publicKeyBytes, publicKeyBytes.length - 4, publicKeyBytes.length);
     SignatureHint signatureHint = new SignatureHint();
@@ -0,0 +1,61 @@
+package org.stellar.sdk;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers whether accounts require a memo, for the memo required check of {@link Server}.
+ * Accounts which do not exist are remembered as not requiring a memo.
+ */
+final class MemoRequiredCache {
+  static final int MAX_ENTRIES = 10_000;
+
+  // Guarded by this. In access order, so that the least recently used account is evicted first
+  // once the cache is full.
+  private final LinkedHashMap<String, Entry> entries =
+      new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MemoRequiredCache.Entry> eldest) {
+          return size() > MAX_ENTRIES;
+        }
+      };
+
+  /**
+   * Returns whether an account requires a memo, or null if it is not known or was loaded more than
+   * ttlMillis ago.
+   */
+  synchronized Boolean get(String accountId, long ttlMillis) {
+    Entry entry = entries.get(accountId);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime(), ttlMillis)) {
+      entries.remove(accountId);
+      return null;
+    }
+    return entry.memoRequired;
+  }
+
+  /** Remembers whether an account requires a memo, unless caching is disabled by ttlMillis. */
+  synchronized void put(String accountId, boolean memoRequired, long ttlMillis) {
+    if (ttlMillis <= 0) {
+      return;
+    }
+    entries.put(accountId, new Entry(memoRequired, System.nanoTime()));
+  }
+
+  private static final class Entry {
+    private final boolean memoRequired;
+    private final long loadedAtNanos;
+
+    Entry(boolean memoRequired, long loadedAtNanos) {
+      this.memoRequired = memoRequired;
+      this.loadedAtNanos = loadedAtNanos;
+    }
+
+    boolean isExpired(long nowNanos, long ttlMillis) {
+      return nowNanos - loadedAtNanos >= TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.stellar.sdk;
 
 import java.nio.charset.StandardCharsets;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -23,6 +24,11 @@ public class Network {
   /** The network passphrase */
   @NonNull private final String networkPassphrase;
 
+  // SHA-256 hash of networkPassphrase, computed once since every transaction hash needs it.
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  private final byte[] networkId;
+
   /**
    * Creates a new Network object to represent a network with a given passphrase
    *
@@ -30,6 +36,7 @@ public class Network {
    */
   public Network(@NonNull String networkPassphrase) {
     this.networkPassphrase = networkPassphrase;
+    this.networkId = Util.hash(networkPassphrase.getBytes(StandardCharsets.UTF_8));
   }
 
   /**
@@ -38,7 +45,12 @@ public class Network {
    * @return network id
    */
   public byte[] getNetworkId() {
-    return Util.hash(this.networkPassphrase.getBytes(StandardCharsets.UTF_8));
+    return this.networkId.clone();
+  }
+
+  /** Returns the network id without copying it, for callers that don't modify it. */
+  byte[] networkId() {
+    return this.networkId;
   }
 
   @Override
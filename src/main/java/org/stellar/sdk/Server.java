@@ -4,8 +4,13 @@ import com.google.gson.reflect.TypeToken;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.Setter;
@@ -32,6 +37,30 @@ public class Server implements Closeable {
   /** submitHttpClient is used only for submitting transactions. The read timeout is longer. */
   @Getter @Setter private OkHttpClient submitHttpClient;
 
+  /**
+   * requestCoalescer shares the GET requests of the request builders created by this server with
+   * the identical requests in flight, see {@link RequestCoalescer}. Coalescing is disabled if it is
+   * null, which is the default.
+   */
+  @Getter @Setter private RequestCoalescer requestCoalescer;
+
+  /**
+   * responseCache caches the responses to the blocking GET requests of the request builders created
+   * by this server, see {@link ResponseCache}. Caching is disabled if it is null, which is the
+   * default. Responses answered from the cache are shared, and must not be modified.
+   */
+  @Getter @Setter private ResponseCache responseCache;
+
+  /**
+   * memoRequiredCacheTtlMillis is how long, in milliseconds, the memo required check remembers
+   * whether a destination account requires a memo, or does not exist, before loading it again. The
+   * cache is disabled if it is 0. The default is 60 seconds.
+   */
+  @Getter @Setter
+  private volatile long memoRequiredCacheTtlMillis = DEFAULT_MEMO_REQUIRED_CACHE_TTL_MILLIS;
+
+  private final MemoRequiredCache memoRequiredCache = new MemoRequiredCache();
+
   /**
    * HORIZON_SUBMIT_TIMEOUT is a time in seconds after Horizon sends a timeout response after
    * internal txsub timeout.
@@ -47,6 +76,8 @@ public class Server implements Closeable {
   /** ACCOUNT_REQUIRES_MEMO_KEY is the data name described in SEP 29. */
   private static final String ACCOUNT_REQUIRES_MEMO_KEY = "config.memo_required";
 
+  private static final long DEFAULT_MEMO_REQUIRED_CACHE_TTL_MILLIS = 60_000;
+
   /**
    * Constructs a new Server object with default HTTP clients.
    *
@@ -113,77 +144,77 @@ public class Server implements Closeable {
    * @return {@link RootRequestBuilder} instance.
    */
   public RootRequestBuilder root() {
-    return new RootRequestBuilder(httpClient, serverURI);
+    return configure(new RootRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link AccountsRequestBuilder} instance.
    */
   public AccountsRequestBuilder accounts() {
-    return new AccountsRequestBuilder(httpClient, serverURI);
+    return configure(new AccountsRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link AssetsRequestBuilder} instance.
    */
   public AssetsRequestBuilder assets() {
-    return new AssetsRequestBuilder(httpClient, serverURI);
+    return configure(new AssetsRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link ClaimableBalancesRequestBuilder} instance.
    */
   public ClaimableBalancesRequestBuilder claimableBalances() {
-    return new ClaimableBalancesRequestBuilder(httpClient, serverURI);
+    return configure(new ClaimableBalancesRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link EffectsRequestBuilder} instance.
    */
   public EffectsRequestBuilder effects() {
-    return new EffectsRequestBuilder(httpClient, serverURI);
+    return configure(new EffectsRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link LedgersRequestBuilder} instance.
    */
   public LedgersRequestBuilder ledgers() {
-    return new LedgersRequestBuilder(httpClient, serverURI);
+    return configure(new LedgersRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link OffersRequestBuilder} instance.
    */
   public OffersRequestBuilder offers() {
-    return new OffersRequestBuilder(httpClient, serverURI);
+    return configure(new OffersRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link OperationsRequestBuilder} instance.
    */
   public OperationsRequestBuilder operations() {
-    return new OperationsRequestBuilder(httpClient, serverURI);
+    return configure(new OperationsRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link FeeStatsResponse} instance.
    */
   public FeeStatsRequestBuilder feeStats() {
-    return new FeeStatsRequestBuilder(httpClient, serverURI);
+    return configure(new FeeStatsRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link OrderBookRequestBuilder} instance.
    */
   public OrderBookRequestBuilder orderBook() {
-    return new OrderBookRequestBuilder(httpClient, serverURI);
+    return configure(new OrderBookRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link TradesRequestBuilder} instance.
    */
   public TradesRequestBuilder trades() {
-    return new TradesRequestBuilder(httpClient, serverURI);
+    return configure(new TradesRequestBuilder(httpClient, serverURI));
   }
 
   /**
@@ -196,43 +227,57 @@ public class Server implements Closeable {
       long endTime,
       long resolution,
       long offset) {
-    return new TradeAggregationsRequestBuilder(
-        httpClient, serverURI, baseAsset, counterAsset, startTime, endTime, resolution, offset);
+    return configure(
+        new TradeAggregationsRequestBuilder(
+            httpClient,
+            serverURI,
+            baseAsset,
+            counterAsset,
+            startTime,
+            endTime,
+            resolution,
+            offset));
   }
 
   /**
    * @return {@link StrictReceivePathsRequestBuilder} instance.
    */
   public StrictReceivePathsRequestBuilder strictReceivePaths() {
-    return new StrictReceivePathsRequestBuilder(httpClient, serverURI);
+    return configure(new StrictReceivePathsRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link StrictSendPathsRequestBuilder} instance.
    */
   public StrictSendPathsRequestBuilder strictSendPaths() {
-    return new StrictSendPathsRequestBuilder(httpClient, serverURI);
+    return configure(new StrictSendPathsRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link PaymentsRequestBuilder} instance.
    */
   public PaymentsRequestBuilder payments() {
-    return new PaymentsRequestBuilder(httpClient, serverURI);
+    return configure(new PaymentsRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link TransactionsRequestBuilder} instance.
    */
   public TransactionsRequestBuilder transactions() {
-    return new TransactionsRequestBuilder(httpClient, serverURI);
+    return configure(new TransactionsRequestBuilder(httpClient, serverURI));
   }
 
   /**
    * @return {@link LiquidityPoolsRequestBuilder} instance.
    */
   public LiquidityPoolsRequestBuilder liquidityPools() {
-    return new LiquidityPoolsRequestBuilder(httpClient, serverURI);
+    return configure(new LiquidityPoolsRequestBuilder(httpClient, serverURI));
+  }
+
+  private <T extends RequestBuilder> T configure(T requestBuilder) {
+    requestBuilder.setRequestCoalescer(requestCoalescer);
+    requestBuilder.setResponseCache(responseCache);
+    return requestBuilder;
   }
 
   /**
@@ -279,6 +324,10 @@ public class Server implements Closeable {
   /**
    * Submits a transaction to the network
    *
+   * <p>The memo required check loads the destination accounts with asynchronous calls of {@link
+   * #getHttpClient()}, at most {@link okhttp3.Dispatcher#getMaxRequestsPerHost()} at once, and
+   * waits for them, so it must not be run from the callbacks of that client.
+   *
    * @param transaction transaction to submit to the network
    * @param skipMemoRequiredCheck set to true to skip memoRequiredCheck
    * @return {@link TransactionResponse}
@@ -310,6 +359,10 @@ public class Server implements Closeable {
   /**
    * Submits a fee bump transaction to the network
    *
+   * <p>The memo required check loads the destination accounts with asynchronous calls of {@link
+   * #getHttpClient()}, at most {@link okhttp3.Dispatcher#getMaxRequestsPerHost()} at once, and
+   * waits for them, so it must not be run from the callbacks of that client.
+   *
    * @param transaction transaction to submit to the network
    * @param skipMemoRequiredCheck set to true to skip memoRequiredCheck
    * @return {@link TransactionResponse}
@@ -402,6 +455,93 @@ public class Server implements Closeable {
     return submitTransaction(transaction, false);
   }
 
+  /**
+   * Like {@link #submitTransactionXdr(String)}, but without blocking the calling thread.
+   *
+   * @param transactionXdr base64 encoded transaction envelope to submit to the network
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the {@link TransactionResponse}, or exceptionally with the
+   *     exception {@link #submitTransactionXdr(String)} would throw
+   */
+  public CompletableFuture<TransactionResponse> submitTransactionXdrFuture(
+      String transactionXdr, Executor executor) {
+    HttpUrl transactionsURI = serverURI.newBuilder().addPathSegment("transactions").build();
+    RequestBody requestBody = new FormBody.Builder().add("tx", transactionXdr).build();
+    Request submitTransactionRequest =
+        new Request.Builder().url(transactionsURI).post(requestBody).build();
+    TypeToken<TransactionResponse> type = new TypeToken<TransactionResponse>() {};
+
+    ResponseHandler<TransactionResponse> responseHandler = new ResponseHandler<>(type);
+    return responseHandler.enqueue(
+        this.submitHttpClient.newCall(submitTransactionRequest), false, executor);
+  }
+
+  /**
+   * Like {@link #submitTransaction(Transaction, boolean)}, but without blocking the calling thread.
+   * The destination accounts of the memo required check are loaded concurrently.
+   *
+   * @param transaction transaction to submit to the network
+   * @param skipMemoRequiredCheck set to true to skip memoRequiredCheck
+   * @param executor the executor to handle the responses and complete the future on
+   * @return a future completed with the {@link TransactionResponse}, or exceptionally with the
+   *     exception {@link #submitTransaction(Transaction, boolean)} would throw
+   */
+  public CompletableFuture<TransactionResponse> submitTransactionFuture(
+      Transaction transaction, boolean skipMemoRequiredCheck, Executor executor) {
+    String transactionXdr = transaction.toEnvelopeXdrBase64();
+    if (skipMemoRequiredCheck) {
+      return this.submitTransactionXdrFuture(transactionXdr, executor);
+    }
+    return checkMemoRequiredFuture(transaction, executor)
+        .thenCompose(ignored -> this.submitTransactionXdrFuture(transactionXdr, executor));
+  }
+
+  /**
+   * Like {@link #submitTransaction(FeeBumpTransaction, boolean)}, but without blocking the calling
+   * thread. The destination accounts of the memo required check are loaded concurrently.
+   *
+   * @param transaction transaction to submit to the network
+   * @param skipMemoRequiredCheck set to true to skip memoRequiredCheck
+   * @param executor the executor to handle the responses and complete the future on
+   * @return a future completed with the {@link TransactionResponse}, or exceptionally with the
+   *     exception {@link #submitTransaction(FeeBumpTransaction, boolean)} would throw
+   */
+  public CompletableFuture<TransactionResponse> submitTransactionFuture(
+      FeeBumpTransaction transaction, boolean skipMemoRequiredCheck, Executor executor) {
+    String transactionXdr = transaction.toEnvelopeXdrBase64();
+    if (skipMemoRequiredCheck) {
+      return this.submitTransactionXdrFuture(transactionXdr, executor);
+    }
+    return checkMemoRequiredFuture(transaction.getInnerTransaction(), executor)
+        .thenCompose(ignored -> this.submitTransactionXdrFuture(transactionXdr, executor));
+  }
+
+  /**
+   * Like {@link #submitTransaction(Transaction)}, but without blocking the calling thread.
+   *
+   * @param transaction transaction to submit to the network.
+   * @param executor the executor to handle the responses and complete the future on
+   * @return a future completed with the {@link TransactionResponse}, or exceptionally with the
+   *     exception {@link #submitTransaction(Transaction)} would throw
+   */
+  public CompletableFuture<TransactionResponse> submitTransactionFuture(
+      Transaction transaction, Executor executor) {
+    return submitTransactionFuture(transaction, false, executor);
+  }
+
+  /**
+   * Like {@link #submitTransaction(FeeBumpTransaction)}, but without blocking the calling thread.
+   *
+   * @param transaction transaction to submit to the network.
+   * @param executor the executor to handle the responses and complete the future on
+   * @return a future completed with the {@link TransactionResponse}, or exceptionally with the
+   *     exception {@link #submitTransaction(FeeBumpTransaction)} would throw
+   */
+  public CompletableFuture<TransactionResponse> submitTransactionFuture(
+      FeeBumpTransaction transaction, Executor executor) {
+    return submitTransactionFuture(transaction, false, executor);
+  }
+
   /**
    * Submits a base64 asynchronous transaction to the network. Unlike the synchronous version, which
    * blocks and waits for the transaction to be ingested in Horizon, this endpoint relays the
@@ -595,20 +735,198 @@ public class Server implements Closeable {
     return submitTransactionAsync(transaction, false);
   }
 
+  /**
+   * Like {@link #submitTransactionXdrAsync(String)}, but without blocking the calling thread.
+   *
+   * @param transactionXdr base64 encoded transaction envelope to submit to the network
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the {@link SubmitTransactionAsyncResponse}, or exceptionally
+   *     with the exception {@link #submitTransactionXdrAsync(String)} would throw
+   */
+  public CompletableFuture<SubmitTransactionAsyncResponse> submitTransactionXdrAsyncFuture(
+      String transactionXdr, Executor executor) {
+    HttpUrl transactionsURI = serverURI.newBuilder().addPathSegment("transactions_async").build();
+    RequestBody requestBody = new FormBody.Builder().add("tx", transactionXdr).build();
+    Request submitTransactionRequest =
+        new Request.Builder().url(transactionsURI).post(requestBody).build();
+    TypeToken<SubmitTransactionAsyncResponse> type =
+        new TypeToken<SubmitTransactionAsyncResponse>() {};
+
+    ResponseHandler<SubmitTransactionAsyncResponse> responseHandler = new ResponseHandler<>(type);
+    return responseHandler.enqueue(
+        this.submitHttpClient.newCall(submitTransactionRequest), true, executor);
+  }
+
+  /**
+   * Like {@link #submitTransactionAsync(Transaction, boolean)}, but without blocking the calling
+   * thread. The destination accounts of the memo required check are loaded concurrently.
+   *
+   * @param transaction transaction to submit to the network
+   * @param skipMemoRequiredCheck set to true to skip memoRequiredCheck
+   * @param executor the executor to handle the responses and complete the future on
+   * @return a future completed with the {@link SubmitTransactionAsyncResponse}, or exceptionally
+   *     with the exception {@link #submitTransactionAsync(Transaction, boolean)} would throw
+   */
+  public CompletableFuture<SubmitTransactionAsyncResponse> submitTransactionAsyncFuture(
+      Transaction transaction, boolean skipMemoRequiredCheck, Executor executor) {
+    String transactionXdr = transaction.toEnvelopeXdrBase64();
+    if (skipMemoRequiredCheck) {
+      return this.submitTransactionXdrAsyncFuture(transactionXdr, executor);
+    }
+    return checkMemoRequiredFuture(transaction, executor)
+        .thenCompose(ignored -> this.submitTransactionXdrAsyncFuture(transactionXdr, executor));
+  }
+
+  /**
+   * Like {@link #submitTransactionAsync(FeeBumpTransaction, boolean)}, but without blocking the
+   * calling thread. The destination accounts of the memo required check are loaded concurrently.
+   *
+   * @param transaction transaction to submit to the network
+   * @param skipMemoRequiredCheck set to true to skip memoRequiredCheck
+   * @param executor the executor to handle the responses and complete the future on
+   * @return a future completed with the {@link SubmitTransactionAsyncResponse}, or exceptionally
+   *     with the exception {@link #submitTransactionAsync(FeeBumpTransaction, boolean)} would throw
+   */
+  public CompletableFuture<SubmitTransactionAsyncResponse> submitTransactionAsyncFuture(
+      FeeBumpTransaction transaction, boolean skipMemoRequiredCheck, Executor executor) {
+    String transactionXdr = transaction.toEnvelopeXdrBase64();
+    if (skipMemoRequiredCheck) {
+      return this.submitTransactionXdrAsyncFuture(transactionXdr, executor);
+    }
+    return checkMemoRequiredFuture(transaction.getInnerTransaction(), executor)
+        .thenCompose(ignored -> this.submitTransactionXdrAsyncFuture(transactionXdr, executor));
+  }
+
+  /**
+   * Like {@link #submitTransactionAsync(Transaction)}, but without blocking the calling thread.
+   *
+   * @param transaction transaction to submit to the network.
+   * @param executor the executor to handle the responses and complete the future on
+   * @return a future completed with the {@link SubmitTransactionAsyncResponse}, or exceptionally
+   *     with the exception {@link #submitTransactionAsync(Transaction)} would throw
+   */
+  public CompletableFuture<SubmitTransactionAsyncResponse> submitTransactionAsyncFuture(
+      Transaction transaction, Executor executor) {
+    return submitTransactionAsyncFuture(transaction, false, executor);
+  }
+
+  /**
+   * Like {@link #submitTransactionAsync(FeeBumpTransaction)}, but without blocking the calling
+   * thread.
+   *
+   * @param transaction transaction to submit to the network.
+   * @param executor the executor to handle the responses and complete the future on
+   * @return a future completed with the {@link SubmitTransactionAsyncResponse}, or exceptionally
+   *     with the exception {@link #submitTransactionAsync(FeeBumpTransaction)} would throw
+   */
+  public CompletableFuture<SubmitTransactionAsyncResponse> submitTransactionAsyncFuture(
+      FeeBumpTransaction transaction, Executor executor) {
+    return submitTransactionAsyncFuture(transaction, false, executor);
+  }
+
   /**
    * checkMemoRequired implements a memo required check as defined in <a
    * href="https://github.com/stellar/stellar-protocol/blob/master/ecosystem/sep-0029.md"
    * target="_blank">SEP-0029</a>
    *
+   * <p>The destination accounts are loaded concurrently, unless they were checked in the last
+   * {@link #getMemoRequiredCacheTtlMillis()} milliseconds. The loads are asynchronous calls of the
+   * {@link #getHttpClient()} of this server, and the calling thread waits for them, so they share
+   * the limits of its {@link okhttp3.Dispatcher}: at most {@link
+   * okhttp3.Dispatcher#getMaxRequestsPerHost()} of them, 5 by default, run at once, and they wait
+   * behind the asynchronous calls already queued for Horizon. As a call of the dispatcher holds its
+   * slot until its callback returns, a transaction must not be submitted with this check from the
+   * callbacks of that client, which could then wait for each other's slots.
+   *
    * @param transaction transaction to submit to the network.
    * @throws AccountRequiresMemoException when a transaction is trying to submit an operation to an
    *     account which requires a memo.
    */
   private void checkMemoRequired(Transaction transaction) {
+    try {
+      checkMemoRequiredFuture(transaction, Runnable::run).join();
+    } catch (CompletionException e) {
+      // Throws the exception of the first failing destination, like a sequential check would.
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Like {@link #checkMemoRequired(Transaction)}, but without blocking the calling thread.
+   *
+   * @param transaction transaction to submit to the network.
+   * @param executor the executor to handle the responses on
+   * @return a future completed exceptionally with {@link AccountRequiresMemoException} when a
+   *     transaction is trying to submit an operation to an account which requires a memo.
+   */
+  private CompletableFuture<Void> checkMemoRequiredFuture(
+      Transaction transaction, Executor executor) {
+    Map<String, Integer> destinations = memoRequiredCheckDestinations(transaction);
+    List<CompletableFuture<Boolean>> lookups = new ArrayList<>();
+    for (String destination : destinations.keySet()) {
+      lookups.add(memoRequiredFuture(destination, executor));
+    }
+    return CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0]))
+        .handle(
+            (ignored, failure) -> {
+              // Reports the first failing destination in operation order, whether its lookup failed
+              // or it requires a memo.
+              int i = 0;
+              for (Map.Entry<String, Integer> destination : destinations.entrySet()) {
+                if (lookups.get(i++).join()) {
+                  throw new AccountRequiresMemoException(
+                      "Destination account requires a memo in the transaction.",
+                      destination.getKey(),
+                      destination.getValue());
+                }
+              }
+              return null;
+            });
+  }
+
+  /**
+   * Returns a future of whether an account requires a memo, which is false if it does not exist.
+   */
+  private CompletableFuture<Boolean> memoRequiredFuture(String accountId, Executor executor) {
+    long ttlMillis = memoRequiredCacheTtlMillis;
+    Boolean cached = memoRequiredCache.get(accountId, ttlMillis);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    return this.accounts()
+        .accountFuture(accountId, executor)
+        .handle(
+            (account, e) -> {
+              boolean memoRequired;
+              if (e == null) {
+                memoRequired =
+                    ACCOUNT_REQUIRES_MEMO_VALUE.equals(
+                        account.getData().get(ACCOUNT_REQUIRES_MEMO_KEY));
+              } else {
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                if (!(cause instanceof BadRequestException
+                    && ((BadRequestException) cause).getCode() == 404)) {
+                  throw new CompletionException(cause);
+                }
+                memoRequired = false;
+              }
+              memoRequiredCache.put(accountId, memoRequired, ttlMillis);
+              return memoRequired;
+            });
+  }
+
+  /**
+   * Returns the destinations that must be checked by the memo required check, mapped to the index
+   * of the first operation sending to them, in operation order.
+   */
+  private static Map<String, Integer> memoRequiredCheckDestinations(Transaction transaction) {
+    Map<String, Integer> destinations = new LinkedHashMap<>();
     if (!transaction.getMemo().equals(Memo.none())) {
-      return;
+      return destinations;
     }
-    Set<String> destinations = new HashSet<>();
     Operation[] operations = transaction.getOperations();
     for (int i = 0; i < operations.length; i++) {
       String destination;
@@ -624,25 +942,12 @@ public class Server implements Closeable {
       } else {
         continue;
       }
-      if (destinations.contains(destination) || StrKey.isValidMed25519PublicKey(destination)) {
+      if (destinations.containsKey(destination) || StrKey.isValidMed25519PublicKey(destination)) {
         continue;
       }
-
-      destinations.add(destination);
-      AccountResponse.Data data;
-      try {
-        data = this.accounts().account(destination).getData();
-      } catch (BadRequestException e) {
-        if (e.getCode() == 404) {
-          continue;
-        }
-        throw e;
-      }
-      if (ACCOUNT_REQUIRES_MEMO_VALUE.equals(data.get(ACCOUNT_REQUIRES_MEMO_KEY))) {
-        throw new AccountRequiresMemoException(
-            "Destination account requires a memo in the transaction.", destination, i);
-      }
+      destinations.put(destination, i);
     }
+    return destinations;
   }
 
   @Override
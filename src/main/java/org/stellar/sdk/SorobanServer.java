@@ -15,6 +15,8 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.IntFunction;
+import lombok.Getter;
+import lombok.Setter;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
@@ -30,6 +32,7 @@ import org.stellar.sdk.exception.SorobanRpcException;
 import org.stellar.sdk.operations.InvokeHostFunctionOperation;
 import org.stellar.sdk.operations.Operation;
 import org.stellar.sdk.requests.ClientIdentificationInterceptor;
+import org.stellar.sdk.requests.RequestCoalescer;
 import org.stellar.sdk.requests.ResponseHandler;
 import org.stellar.sdk.requests.sorobanrpc.GetEventsRequest;
 import org.stellar.sdk.requests.sorobanrpc.GetLedgerEntriesRequest;
@@ -73,6 +76,14 @@ public class SorobanServer implements Closeable {
   private final OkHttpClient httpClient;
   private final Gson gson = new Gson();
 
+  /**
+   * requestCoalescer shares the requests of this server with the identical requests in flight, see
+   * {@link RequestCoalescer}. Requests are identical if they have the same method and parameters,
+   * and <code>sendTransaction</code> requests are never shared. Coalescing is disabled if it is
+   * null, which is the default.
+   */
+  @Getter @Setter private RequestCoalescer requestCoalescer;
+
   /**
    * Creates a new SorobanServer instance.
    *
@@ -777,6 +788,17 @@ public class SorobanServer implements Closeable {
    */
   private <T, R> R sendRequest(
       String method, @Nullable T params, TypeToken<SorobanRpcResponse<R>> responseType) {
+    RequestCoalescer coalescer = requestCoalescer;
+    if (coalescer == null || method.equals("sendTransaction")) {
+      return executeRequest(method, params, responseType);
+    }
+    // The id of the request is left out, as it is unique to each request.
+    List<Object> key = Arrays.asList(method, gson.toJson(params), responseType);
+    return coalescer.execute(key, () -> executeRequest(method, params, responseType));
+  }
+
+  private <T, R> R executeRequest(
+      String method, @Nullable T params, TypeToken<SorobanRpcResponse<R>> responseType) {
     String requestId = generateRequestId();
     ResponseHandler<SorobanRpcResponse<R>> responseHandler = new ResponseHandler<>(responseType);
     SorobanRpcRequest<T> sorobanRpcRequest = new SorobanRpcRequest<>(requestId, method, params);
@@ -1,6 +1,5 @@
 package org.stellar.sdk;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
@@ -459,8 +458,7 @@ public class StrKey {
       case MED25519_PUBLIC_KEY:
         XdrDataInputStream input =
             new XdrDataInputStream(
-                new ByteArrayInputStream(
-                    decodeCheck(VersionByte.MED25519_PUBLIC_KEY, data.toCharArray())));
+                decodeCheck(VersionByte.MED25519_PUBLIC_KEY, data.toCharArray()));
         muxed.setDiscriminant(CryptoKeyType.KEY_TYPE_MUXED_ED25519);
         MuxedAccount.MuxedAccountMed25519 med = new MuxedAccount.MuxedAccountMed25519();
         try {
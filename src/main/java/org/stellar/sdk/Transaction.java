@@ -101,11 +101,16 @@ public class Transaction extends AbstractTransaction {
 
   @Override
   public byte[] signatureBase() {
+    return getTransactionSignatureBase(toTaggedTransaction(), network);
+  }
+
+  @Override
+  TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction toTaggedTransaction() {
     TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction taggedTransaction =
         new TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction();
     taggedTransaction.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_TX);
     taggedTransaction.setTx(this.toV1Xdr());
-    return getTransactionSignatureBase(taggedTransaction, network);
+    return taggedTransaction;
   }
 
   /**
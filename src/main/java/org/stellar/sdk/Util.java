@@ -2,10 +2,14 @@ package org.stellar.sdk;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.XdrDataOutputStream;
+import org.stellar.sdk.xdr.XdrElement;
 
 /**
  * Utility class for common operations.
@@ -15,6 +19,22 @@ import org.stellar.sdk.exception.UnexpectedException;
 public class Util {
   private static final char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
 
+  // MessageDigest instances are not thread-safe, and looking one up is costly.
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(
+          () -> {
+            try {
+              return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+              throw new UnexpectedException("SHA-256 not implemented");
+            }
+          });
+
+  // The staging buffer used to encode XDR values into SHA_256. A heap buffer is digested in place,
+  // while a direct one would be copied into a temporary array first.
+  private static final ThreadLocal<ByteBuffer> HASH_BUFFER =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocate(4096));
+
   /**
    * Returns hex representation of <code>bytes</code> array.
    *
@@ -54,12 +74,30 @@ public class Util {
    * @return SHA-256 hash of the data
    */
   public static byte[] hash(byte[] data) {
+    MessageDigest md = SHA_256.get();
+    md.reset();
+    return md.digest(data);
+  }
+
+  /**
+   * Returns SHA-256 hash of the XDR encoding of <code>element</code>, which is the same as <code>
+   * hash(element.toXdrByteArray())</code>. The value is encoded straight into the digest, without
+   * building the encoded byte array.
+   *
+   * @param element XDR value to hash
+   * @return SHA-256 hash of the XDR encoding of the value
+   */
+  public static byte[] hash(XdrElement element) {
+    MessageDigest md = SHA_256.get();
+    md.reset();
     try {
-      MessageDigest md = MessageDigest.getInstance("SHA-256");
-      md.update(data);
+      XdrDataOutputStream stream =
+          new XdrDataOutputStream(new DigestChannel(md), HASH_BUFFER.get());
+      element.encode(stream);
+      stream.flush();
       return md.digest();
-    } catch (NoSuchAlgorithmException e) {
-      throw new UnexpectedException("SHA-256 not implemented");
+    } catch (IOException e) {
+      throw new UnexpectedException(e);
     }
   }
 
@@ -146,6 +184,30 @@ public class Util {
     return bytes;
   }
 
+  /** A channel that feeds everything written to it into a message digest. */
+  private static final class DigestChannel implements WritableByteChannel {
+    private final MessageDigest md;
+
+    private DigestChannel(MessageDigest md) {
+      this.md = md;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+      int length = src.remaining();
+      md.update(src);
+      return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {}
+  }
+
   /** The function that converts XDR string to XDR object. */
   @FunctionalInterface
   public interface XdrDecodeFunction<T, R> {
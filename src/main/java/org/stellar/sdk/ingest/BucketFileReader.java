@@ -0,0 +1,462 @@
+package org.stellar.sdk.ingest;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import lombok.Getter;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.AccountID;
+import org.stellar.sdk.xdr.BucketEntry;
+import org.stellar.sdk.xdr.BucketEntryType;
+import org.stellar.sdk.xdr.ClaimableBalanceID;
+import org.stellar.sdk.xdr.ConfigSettingID;
+import org.stellar.sdk.xdr.ContractCodeEntry;
+import org.stellar.sdk.xdr.ContractDataDurability;
+import org.stellar.sdk.xdr.ExtensionPoint;
+import org.stellar.sdk.xdr.Hash;
+import org.stellar.sdk.xdr.Int64;
+import org.stellar.sdk.xdr.LedgerEntry;
+import org.stellar.sdk.xdr.LedgerEntryType;
+import org.stellar.sdk.xdr.LedgerKey;
+import org.stellar.sdk.xdr.PoolID;
+import org.stellar.sdk.xdr.SCAddress;
+import org.stellar.sdk.xdr.SCVal;
+import org.stellar.sdk.xdr.String64;
+import org.stellar.sdk.xdr.TrustLineAsset;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * Looks up the entries of an uncompressed stellar-core bucket file by {@link LedgerKey}, without
+ * loading the bucket into memory.
+ *
+ * <p>A bucket file is a sequence of {@link BucketEntry} records framed as read by {@link
+ * XdrRecordReader}. The buckets of history archives are compressed with gzip and have to be
+ * decompressed before they can be opened. The bucket file is memory mapped, and so is an index of
+ * the offsets of its entries sorted by key, which is kept next to the bucket file and built the
+ * first time the bucket is opened:
+ *
+ * <pre>
+ * BucketFileReader bucket = BucketFileReader.open(path);
+ * LedgerEntry account = bucket.getLedgerEntry(accountKey);
+ * </pre>
+ *
+ * <p>Live and init entries are indexed by the key of their ledger entry, and dead entries by the
+ * key they delete. The metadata entry is not indexed, see {@link #getMetadata()}.
+ *
+ * <p>Keys are ordered by their XDR encoding, which is not the order of the entries in the bucket.
+ * Keys of the same type are adjacent, and within a type, the trustlines, offers and data entries of
+ * an account are adjacent too, so range lookups can return all of them.
+ *
+ * <p>A reader is thread-safe.
+ */
+public class BucketFileReader {
+  /** The suffix appended to the name of a bucket file to get the name of its index file. */
+  public static final String INDEX_SUFFIX = ".index";
+
+  // The longest record or key that can be read, which is also the overlap between mapped segments.
+  private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+  private static final int INDEX_MAGIC = 0x53424958; // "SBIX"
+  private static final int INDEX_VERSION = 1;
+  // magic, version, bucket size, bucket modification time, entry count and reserved.
+  private static final int INDEX_HEADER_SIZE = 32;
+  // Offset of the key in the index, key length, offset of the entry in the bucket, entry length.
+  private static final int SLOT_SIZE = 24;
+
+  private final MappedFile bucket;
+  private final MappedFile index;
+
+  /** The number of entries in the index, which excludes the metadata entry. */
+  @Getter private final int entryCount;
+
+  // Offset and length of the metadata entry in the bucket, or -1 if there is none.
+  private final long metadataOffset;
+  private final int metadataLength;
+
+  private BucketFileReader(MappedFile bucket, MappedFile index) throws IOException {
+    this.bucket = bucket;
+    this.index = index;
+    this.entryCount = index.getInt(24);
+    // The metadata entry, if any, is the first entry of a bucket.
+    if (bucket.size() > 0) {
+      int length = recordLength(bucket, 0);
+      ByteBuffer first = bucket.slice(4, length);
+      if (BucketEntryType.decode(new XdrDataInputStream(first)) == BucketEntryType.METAENTRY) {
+        metadataOffset = 4;
+        metadataLength = length;
+        return;
+      }
+    }
+    metadataOffset = -1;
+    metadataLength = 0;
+  }
+
+  /**
+   * Opens a bucket file, using the index file next to it. The index is built and written if it does
+   * not exist, or if the bucket file has changed since it was written.
+   *
+   * @param path the path of the uncompressed bucket file
+   * @return the reader
+   * @throws IOException if the bucket is not valid, or if the index cannot be read or written
+   */
+  public static BucketFileReader open(Path path) throws IOException {
+    return open(path, path.resolveSibling(path.getFileName() + INDEX_SUFFIX));
+  }
+
+  /**
+   * Opens a bucket file, using the specified index file. The index is built and written if it does
+   * not exist, or if the bucket file has changed since it was written.
+   *
+   * @param path the path of the uncompressed bucket file
+   * @param indexPath the path of the index file
+   * @return the reader
+   * @throws IOException if the bucket is not valid, or if the index cannot be read or written
+   */
+  public static BucketFileReader open(Path path, Path indexPath) throws IOException {
+    MappedFile bucket = MappedFile.map(path, MAX_RECORD_SIZE);
+    long lastModified = Files.getLastModifiedTime(path).toMillis();
+    if (!isIndexValid(indexPath, bucket.size(), lastModified)) {
+      buildIndex(bucket, indexPath, lastModified);
+    }
+    return new BucketFileReader(bucket, MappedFile.map(indexPath, MAX_RECORD_SIZE));
+  }
+
+  /**
+   * Returns the metadata entry of the bucket, which buckets written since protocol 11 start with.
+   *
+   * @return the metadata entry, or null if the bucket has none
+   * @throws IOException if the entry cannot be decoded
+   */
+  public BucketEntry getMetadata() throws IOException {
+    if (metadataOffset < 0) {
+      return null;
+    }
+    return BucketEntry.decode(new XdrDataInputStream(bucket.slice(metadataOffset, metadataLength)));
+  }
+
+  /**
+   * Returns the encoded bucket entry with the specified key, without decoding it.
+   *
+   * @param key the key to look up
+   * @return a read-only slice of the bucket file holding the encoded {@link BucketEntry}, or null
+   *     if the bucket has no entry with this key
+   * @throws IOException if the index or bucket cannot be read
+   */
+  public ByteBuffer getXdr(LedgerKey key) throws IOException {
+    byte[] encodedKey = key.toXdrByteArray();
+    int slot = lowerBound(encodedKey);
+    if (slot == entryCount || compare(slot, encodedKey) != 0) {
+      return null;
+    }
+    return entryAt(slot);
+  }
+
+  /**
+   * Returns the bucket entry with the specified key. A {@link BucketEntryType#DEADENTRY} entry
+   * means that the bucket deletes the entry.
+   *
+   * @param key the key to look up
+   * @return the bucket entry, or null if the bucket has no entry with this key
+   * @throws IOException if the index or bucket cannot be read or the entry cannot be decoded
+   */
+  public BucketEntry get(LedgerKey key) throws IOException {
+    ByteBuffer xdr = getXdr(key);
+    return xdr == null ? null : BucketEntry.decode(new XdrDataInputStream(xdr));
+  }
+
+  /**
+   * Returns the live ledger entry with the specified key.
+   *
+   * @param key the key to look up
+   * @return the ledger entry, or null if the bucket has no entry with this key or deletes it
+   * @throws IOException if the index or bucket cannot be read or the entry cannot be decoded
+   */
+  public LedgerEntry getLedgerEntry(LedgerKey key) throws IOException {
+    BucketEntry entry = get(key);
+    return entry == null ? null : entry.getLiveEntry();
+  }
+
+  /**
+   * Returns the encoded bucket entries whose key is at least {@code from} and less than {@code to},
+   * in key order, without decoding them. Errors while iterating are thrown as {@link
+   * UnexpectedException}.
+   *
+   * @param from the first key of the range, or null to start at the first entry
+   * @param to the key after the range, or null to end at the last entry
+   * @return an iterator over read-only slices of the bucket file
+   * @throws IOException if the index cannot be read
+   */
+  public Iterator<ByteBuffer> rangeXdr(LedgerKey from, LedgerKey to) throws IOException {
+    int start = from == null ? 0 : lowerBound(from.toXdrByteArray());
+    int end = to == null ? entryCount : lowerBound(to.toXdrByteArray());
+    return new Iterator<ByteBuffer>() {
+      private int next = start;
+
+      @Override
+      public boolean hasNext() {
+        return next < end;
+      }
+
+      @Override
+      public ByteBuffer next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        try {
+          return entryAt(next++);
+        } catch (IOException e) {
+          throw new UnexpectedException(e);
+        }
+      }
+    };
+  }
+
+  /**
+   * Returns the bucket entries whose key is at least {@code from} and less than {@code to}, in key
+   * order. Errors while iterating are thrown as {@link UnexpectedException}.
+   *
+   * @param from the first key of the range, or null to start at the first entry
+   * @param to the key after the range, or null to end at the last entry
+   * @return an iterator over the decoded entries
+   * @throws IOException if the index cannot be read
+   */
+  public Iterator<BucketEntry> range(LedgerKey from, LedgerKey to) throws IOException {
+    Iterator<ByteBuffer> xdr = rangeXdr(from, to);
+    return new Iterator<BucketEntry>() {
+      @Override
+      public boolean hasNext() {
+        return xdr.hasNext();
+      }
+
+      @Override
+      public BucketEntry next() {
+        try {
+          return BucketEntry.decode(new XdrDataInputStream(xdr.next()));
+        } catch (IOException e) {
+          throw new UnexpectedException(e);
+        }
+      }
+    };
+  }
+
+  // Returns the first slot whose key is not less than key.
+  private int lowerBound(byte[] key) throws IOException {
+    int low = 0;
+    int high = entryCount;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (compare(middle, key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  // Compares the key of a slot with key.
+  private int compare(int slot, byte[] key) throws IOException {
+    long slotOffset = INDEX_HEADER_SIZE + (long) slot * SLOT_SIZE;
+    ByteBuffer slotKey = index.slice(index.getLong(slotOffset), index.getInt(slotOffset + 8));
+    return compareUnsigned(slotKey, key);
+  }
+
+  private ByteBuffer entryAt(int slot) throws IOException {
+    long slotOffset = INDEX_HEADER_SIZE + (long) slot * SLOT_SIZE;
+    return bucket.slice(index.getLong(slotOffset + 12), index.getInt(slotOffset + 20));
+  }
+
+  private static int compareUnsigned(ByteBuffer a, byte[] b) {
+    int length = Math.min(a.remaining(), b.length);
+    for (int i = 0; i < length; i++) {
+      int diff = (a.get(a.position() + i) & 0xff) - (b[i] & 0xff);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return a.remaining() - b.length;
+  }
+
+  private static int compareUnsigned(byte[] a, byte[] b) {
+    return compareUnsigned(ByteBuffer.wrap(a), b);
+  }
+
+  private static boolean isIndexValid(Path indexPath, long bucketSize, long lastModified)
+      throws IOException {
+    if (!Files.isRegularFile(indexPath) || Files.size(indexPath) < INDEX_HEADER_SIZE) {
+      return false;
+    }
+    try (DataInputStream in = new DataInputStream(Files.newInputStream(indexPath))) {
+      return in.readInt() == INDEX_MAGIC
+          && in.readInt() == INDEX_VERSION
+          && in.readLong() == bucketSize
+          && in.readLong() == lastModified
+          && Files.size(indexPath) >= INDEX_HEADER_SIZE + (long) in.readInt() * SLOT_SIZE;
+    }
+  }
+
+  // Returns the length of the record whose marker is at offset.
+  private static int recordLength(MappedFile bucket, long offset) throws IOException {
+    int marker = bucket.getInt(offset);
+    if (marker >= 0) {
+      // stellar-core writes every bucket entry as a single fragment.
+      throw new IOException("Unsupported multi-fragment record at offset " + offset);
+    }
+    return marker & 0x7fffffff;
+  }
+
+  private static void buildIndex(MappedFile bucket, Path indexPath, long lastModified)
+      throws IOException {
+    List<byte[]> keys = new ArrayList<>();
+    long[] offsets = new long[1024];
+    int[] lengths = new int[1024];
+    long offset = 0;
+    while (offset < bucket.size()) {
+      int length = recordLength(bucket, offset);
+      byte[] key = keyOf(bucket.slice(offset + 4, length));
+      if (key != null) {
+        if (keys.size() == offsets.length) {
+          offsets = Arrays.copyOf(offsets, offsets.length * 2);
+          lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        }
+        offsets[keys.size()] = offset + 4;
+        lengths[keys.size()] = length;
+        keys.add(key);
+      }
+      offset += 4 + (long) length;
+    }
+
+    Integer[] order = new Integer[keys.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> compareUnsigned(keys.get(a), keys.get(b)));
+
+    // Write the index next to its final location and move it there, so that a reader never sees a
+    // partial index.
+    Path temporary = Files.createTempFile(indexPath.toAbsolutePath().getParent(), "bucket", ".tmp");
+    try {
+      try (OutputStream file = Files.newOutputStream(temporary);
+          DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024))) {
+        out.writeInt(INDEX_MAGIC);
+        out.writeInt(INDEX_VERSION);
+        out.writeLong(bucket.size());
+        out.writeLong(lastModified);
+        out.writeInt(order.length);
+        out.writeInt(0);
+        long keyOffset = INDEX_HEADER_SIZE + (long) order.length * SLOT_SIZE;
+        for (int i : order) {
+          out.writeLong(keyOffset);
+          out.writeInt(keys.get(i).length);
+          out.writeLong(offsets[i]);
+          out.writeInt(lengths[i]);
+          keyOffset += keys.get(i).length;
+        }
+        for (int i : order) {
+          out.write(keys.get(i));
+        }
+      }
+      Files.move(temporary, indexPath, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /**
+   * Returns the encoded {@link LedgerKey} of an encoded bucket entry, or null for the metadata
+   * entry. The key fields of every ledger entry type are encoded next to each other in the entry,
+   * mostly at its start, so the key is cut out of the entry instead of being built from a decoded
+   * entry.
+   */
+  static byte[] keyOf(ByteBuffer entry) throws IOException {
+    XdrDataInputStream stream = new XdrDataInputStream(entry);
+    switch (BucketEntryType.decode(stream)) {
+      case METAENTRY:
+        return null;
+      case DEADENTRY:
+        int start = stream.getPosition();
+        LedgerKey.skip(stream);
+        return copy(entry, start, stream.getPosition());
+      default:
+        break;
+    }
+    // lastModifiedLedgerSeq
+    stream.readInt();
+    int typeStart = stream.getPosition();
+    LedgerEntryType type = LedgerEntryType.decode(stream);
+    if (type == LedgerEntryType.CONTRACT_DATA) {
+      ExtensionPoint.skip(stream);
+    } else if (type == LedgerEntryType.CONTRACT_CODE) {
+      ContractCodeEntry.ContractCodeEntryExt.skip(stream);
+    }
+    int keyStart = stream.getPosition();
+    switch (type) {
+      case ACCOUNT:
+        AccountID.skip(stream);
+        break;
+      case TRUSTLINE:
+        AccountID.skip(stream);
+        TrustLineAsset.skip(stream);
+        break;
+      case OFFER:
+        AccountID.skip(stream);
+        Int64.skip(stream);
+        break;
+      case DATA:
+        AccountID.skip(stream);
+        String64.skip(stream);
+        break;
+      case CLAIMABLE_BALANCE:
+        ClaimableBalanceID.skip(stream);
+        break;
+      case LIQUIDITY_POOL:
+        PoolID.skip(stream);
+        break;
+      case CONTRACT_DATA:
+        SCAddress.skip(stream);
+        SCVal.skip(stream);
+        ContractDataDurability.skip(stream);
+        break;
+      case CONTRACT_CODE:
+        Hash.skip(stream);
+        break;
+      case CONFIG_SETTING:
+        ConfigSettingID.skip(stream);
+        break;
+      case TTL:
+        Hash.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown ledger entry type: " + type);
+    }
+    int keyEnd = stream.getPosition();
+    byte[] key = new byte[4 + keyEnd - keyStart];
+    copy(entry, typeStart, key, 0, 4);
+    copy(entry, keyStart, key, 4, keyEnd - keyStart);
+    return key;
+  }
+
+  private static byte[] copy(ByteBuffer buffer, int start, int end) {
+    byte[] bytes = new byte[end - start];
+    copy(buffer, start, bytes, 0, bytes.length);
+    return bytes;
+  }
+
+  // Copies length bytes at start, relative to the position of buffer, into bytes.
+  private static void copy(ByteBuffer buffer, int start, byte[] bytes, int offset, int length) {
+    ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(buffer.position() + start);
+    duplicate.get(bytes, offset, length);
+  }
+}
@@ -0,0 +1,402 @@
+package org.stellar.sdk.ingest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.Getter;
+import lombok.Setter;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.LedgerCloseMetaBatch;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+import org.stellar.sdk.xdr.XdrInterner;
+
+/**
+ * Reads the ledgers of an XDR encoded {@link LedgerCloseMetaBatch}, such as the files written by
+ * the ledger exporter, one at a time.
+ *
+ * <p>Unlike {@link LedgerCloseMetaBatch#decode(XdrDataInputStream)}, the reader never holds more
+ * than one ledger in memory. A batch can be read from a memory mapped file with {@link
+ * #open(Path)}, from a buffer with {@link #fromXdrByteBuffer(ByteBuffer)}, or from any stream with
+ * {@link #fromInputStream(InputStream)}, for example one that decompresses a file on the fly.
+ *
+ * <p>The reader assumes that the batch contains every ledger from {@link #getStartSequence()} to
+ * {@link #getEndSequence()} in order, which is how the exporter writes batches.
+ *
+ * <p>A reader is not thread-safe. {@link #parallelIterator(Executor, int)} can be used to decode
+ * ledgers on several threads.
+ */
+public class LedgerCloseMetaBatchReader implements Closeable {
+  // The size of startSequence, endSequence and the length of ledgerCloseMetas.
+  private static final int HEADER_SIZE = 12;
+
+  // The maximum size of one ledger in a memory mapped file larger than 1 GiB.
+  private static final int MAX_LEDGER_SIZE = 256 * 1024 * 1024;
+
+  // The encoded batch, null if the batch is read from a stream.
+  private final MappedFile file;
+  // Offset of every ledger read so far in file, and of the end of the last one.
+  private final long[] offsets;
+  // The number of valid entries in offsets.
+  private int indexed;
+
+  // The stream to read the batch from, null if the batch is read from a buffer.
+  private final RecordingInputStream in;
+  private final XdrDataInputStream stream;
+
+  /** The sequence number of the first ledger in the batch. */
+  @Getter private final long startSequence;
+
+  /** The sequence number of the last ledger in the batch. */
+  @Getter private final long endSequence;
+
+  /** The number of ledgers in the batch. */
+  @Getter private final int ledgerCount;
+
+  // The index of the next ledger to read.
+  private int next;
+
+  /**
+   * The interner used when decoding ledgers, or null if decoded values are not interned. An
+   * interner can keep the ledgers of a whole batch much smaller in memory, see {@link XdrInterner}.
+   */
+  @Getter @Setter private XdrInterner interner;
+
+  private LedgerCloseMetaBatchReader(MappedFile encoded) throws IOException {
+    file = encoded;
+    in = null;
+    stream = null;
+
+    startSequence = file.getInt(0) & 0xffffffffL;
+    endSequence = file.getInt(4) & 0xffffffffL;
+    ledgerCount = file.getInt(8);
+    // Every ledger close meta takes at least 4 bytes.
+    if (ledgerCount < 0 || ledgerCount > (file.size() - HEADER_SIZE) / 4) {
+      throw new IOException("Invalid ledger count: " + ledgerCount);
+    }
+    offsets = new long[ledgerCount + 1];
+    offsets[0] = HEADER_SIZE;
+    indexed = 1;
+  }
+
+  private LedgerCloseMetaBatchReader(InputStream inputStream) throws IOException {
+    file = null;
+    offsets = null;
+    in = new RecordingInputStream(inputStream);
+    stream = new XdrDataInputStream(in);
+
+    startSequence = stream.readInt() & 0xffffffffL;
+    endSequence = stream.readInt() & 0xffffffffL;
+    ledgerCount = stream.readInt();
+    if (ledgerCount < 0) {
+      throw new IOException("Invalid ledger count: " + ledgerCount);
+    }
+  }
+
+  /**
+   * Opens a reader over a file containing an XDR encoded {@link LedgerCloseMetaBatch}. The file is
+   * memory mapped, so only the pages of the ledgers being read have to be in memory. Files larger
+   * than 1 GiB are mapped in segments, in which case a single ledger must not be larger than 256
+   * MiB.
+   *
+   * @param path the path of the file
+   * @return the reader
+   * @throws IOException if the file cannot be mapped or does not start with a valid batch header
+   */
+  public static LedgerCloseMetaBatchReader open(Path path) throws IOException {
+    return new LedgerCloseMetaBatchReader(MappedFile.map(path, MAX_LEDGER_SIZE));
+  }
+
+  /**
+   * Creates a reader over the XDR encoded {@link LedgerCloseMetaBatch} starting at the position of
+   * the specified buffer. The buffer is not copied and its position is not modified.
+   *
+   * @param xdr the encoded batch
+   * @return the reader
+   * @throws IOException if the buffer does not start with a valid batch header
+   */
+  public static LedgerCloseMetaBatchReader fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LedgerCloseMetaBatchReader(MappedFile.wrap(xdr));
+  }
+
+  /**
+   * Creates a reader over a stream containing an XDR encoded {@link LedgerCloseMetaBatch}. The
+   * header of the batch is read immediately, the ledgers are read as they are requested. A reader
+   * created this way can only seek forward.
+   *
+   * @param inputStream the stream to read from, it is closed when the reader is closed
+   * @return the reader
+   * @throws IOException if the stream does not start with a valid batch header
+   */
+  public static LedgerCloseMetaBatchReader fromInputStream(InputStream inputStream)
+      throws IOException {
+    return new LedgerCloseMetaBatchReader(inputStream);
+  }
+
+  /** Returns true if there are ledgers left to read. */
+  public boolean hasNext() {
+    return next < ledgerCount;
+  }
+
+  /** Returns the sequence number of the ledger that the next call to {@link #next()} returns. */
+  public long getNextSequence() {
+    return startSequence + next;
+  }
+
+  /**
+   * Decodes and returns the next ledger.
+   *
+   * @return the next ledger
+   * @throws NoSuchElementException if all ledgers have been read
+   * @throws IOException if the ledger cannot be decoded
+   */
+  public LedgerCloseMeta next() throws IOException {
+    checkHasNext();
+    if (file == null) {
+      stream.setInterner(interner);
+      LedgerCloseMeta ledgerCloseMeta = LedgerCloseMeta.decode(stream);
+      next++;
+      return ledgerCloseMeta;
+    }
+    XdrDataInputStream ledgerStream = new XdrDataInputStream(file.sliceFrom(offsets[next]));
+    ledgerStream.setInterner(interner);
+    LedgerCloseMeta ledgerCloseMeta = LedgerCloseMeta.decode(ledgerStream);
+    advance(offsets[next] + ledgerStream.getPosition());
+    return ledgerCloseMeta;
+  }
+
+  /**
+   * Returns a lazy view over the next ledger, see {@link LedgerCloseMetaView}.
+   *
+   * @return the next ledger
+   * @throws NoSuchElementException if all ledgers have been read
+   * @throws IOException if the ledger is not valid
+   */
+  public LedgerCloseMetaView nextView() throws IOException {
+    return LedgerCloseMetaView.fromXdrByteBuffer(nextXdr());
+  }
+
+  /**
+   * Returns the encoded bytes of the next ledger without decoding them. If the batch is read from a
+   * file or buffer, the returned buffer is a read-only slice of it, otherwise it is a copy.
+   *
+   * @return the next encoded ledger
+   * @throws NoSuchElementException if all ledgers have been read
+   * @throws IOException if the ledger is not valid
+   */
+  public ByteBuffer nextXdr() throws IOException {
+    checkHasNext();
+    if (file == null) {
+      in.startRecording();
+      LedgerCloseMeta.skip(stream);
+      next++;
+      return ByteBuffer.wrap(in.stopRecording());
+    }
+    long start = offsets[next];
+    XdrDataInputStream ledgerStream = new XdrDataInputStream(file.sliceFrom(start));
+    LedgerCloseMeta.skip(ledgerStream);
+    advance(start + ledgerStream.getPosition());
+    return file.slice(start, ledgerStream.getPosition());
+  }
+
+  /**
+   * Positions the reader so that the next ledger read is the one with the specified sequence
+   * number. Ledgers between the current position and the requested one are skipped without being
+   * decoded. Once a ledger has been skipped, seeking back to it is cheap for readers over a file or
+   * buffer, and not supported for readers over a stream.
+   *
+   * @param ledgerSequence the sequence number of the ledger to read next
+   * @throws IllegalArgumentException if the ledger is not in the batch, or if it has already been
+   *     read from a stream
+   * @throws IOException if a skipped ledger is not valid
+   */
+  public void seek(long ledgerSequence) throws IOException {
+    if (ledgerSequence < startSequence || ledgerSequence - startSequence >= ledgerCount) {
+      throw new IllegalArgumentException(
+          "Ledger " + ledgerSequence + " is not in batch " + startSequence + "-" + endSequence);
+    }
+    int target = (int) (ledgerSequence - startSequence);
+    if (file == null) {
+      if (target < next) {
+        throw new IllegalArgumentException(
+            "Cannot seek back to ledger " + ledgerSequence + " in a stream");
+      }
+      while (next < target) {
+        LedgerCloseMeta.skip(stream);
+        next++;
+      }
+      return;
+    }
+    if (target < indexed) {
+      next = target;
+      return;
+    }
+    next = indexed - 1;
+    while (next < target) {
+      XdrDataInputStream ledgerStream = new XdrDataInputStream(file.sliceFrom(offsets[next]));
+      LedgerCloseMeta.skip(ledgerStream);
+      advance(offsets[next] + ledgerStream.getPosition());
+    }
+  }
+
+  /**
+   * Returns an iterator over the remaining ledgers which decodes up to {@code maxInFlight} ledgers
+   * ahead of the caller on the specified executor. The ledgers are returned in ledger order.
+   *
+   * <p>The bytes of each ledger are read on the thread calling {@link Iterator#next()}, so the
+   * reader must not be used while the iterator is in use. Decoding errors are thrown from {@link
+   * Iterator#next()} as {@link UnexpectedException}.
+   *
+   * @param executor the executor to decode ledgers on
+   * @param maxInFlight the maximum number of ledgers being decoded or waiting to be returned
+   * @return the iterator
+   */
+  public Iterator<LedgerCloseMeta> parallelIterator(Executor executor, int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be positive");
+    }
+    return new ParallelIterator(executor, maxInFlight);
+  }
+
+  /** Closes the underlying stream, if the reader was created with a stream. */
+  @Override
+  public void close() throws IOException {
+    if (in != null) {
+      in.close();
+    }
+  }
+
+  private void checkHasNext() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+  }
+
+  // Records the end of the current ledger and moves to the next one.
+  private void advance(long end) {
+    next++;
+    if (next == indexed) {
+      offsets[indexed++] = end;
+    }
+  }
+
+  private static LedgerCloseMeta decode(ByteBuffer xdr, XdrInterner interner) {
+    try {
+      XdrDataInputStream stream = new XdrDataInputStream(xdr);
+      stream.setInterner(interner);
+      return LedgerCloseMeta.decode(stream);
+    } catch (IOException e) {
+      throw new UnexpectedException(e);
+    }
+  }
+
+  private final class ParallelIterator implements Iterator<LedgerCloseMeta> {
+    private final Executor executor;
+    private final int maxInFlight;
+    private final ArrayDeque<CompletableFuture<LedgerCloseMeta>> inFlight = new ArrayDeque<>();
+
+    ParallelIterator(Executor executor, int maxInFlight) {
+      this.executor = executor;
+      this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !inFlight.isEmpty() || LedgerCloseMetaBatchReader.this.hasNext();
+    }
+
+    @Override
+    public LedgerCloseMeta next() {
+      fill();
+      CompletableFuture<LedgerCloseMeta> future = inFlight.poll();
+      if (future == null) {
+        throw new NoSuchElementException();
+      }
+      fill();
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+
+    private void fill() {
+      while (inFlight.size() < maxInFlight && LedgerCloseMetaBatchReader.this.hasNext()) {
+        ByteBuffer xdr;
+        try {
+          xdr = nextXdr();
+        } catch (IOException e) {
+          throw new UnexpectedException(e);
+        }
+        XdrInterner ledgerInterner = interner;
+        inFlight.add(CompletableFuture.supplyAsync(() -> decode(xdr, ledgerInterner), executor));
+      }
+    }
+  }
+
+  /** An input stream that can record the bytes read from it. */
+  private static final class RecordingInputStream extends FilterInputStream {
+    private final byte[] skipBuffer = new byte[8192];
+    private ByteArrayOutputStream recording;
+
+    RecordingInputStream(InputStream in) {
+      super(in);
+    }
+
+    void startRecording() {
+      recording = new ByteArrayOutputStream();
+    }
+
+    byte[] stopRecording() {
+      byte[] recorded = recording.toByteArray();
+      recording = null;
+      return recorded;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int read = in.read();
+      if (read >= 0 && recording != null) {
+        recording.write(read);
+      }
+      return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = in.read(b, off, len);
+      if (read > 0 && recording != null) {
+        recording.write(b, off, read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      if (recording == null) {
+        return in.skip(n);
+      }
+      // Skipped bytes have to be read to be recorded.
+      int read = read(skipBuffer, 0, (int) Math.min(n, skipBuffer.length));
+      return Math.max(read, 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,690 @@
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import lombok.Getter;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.ExtensionPoint;
+import org.stellar.sdk.xdr.GeneralizedTransactionSet;
+import org.stellar.sdk.xdr.Hash;
+import org.stellar.sdk.xdr.Int64;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.LedgerCloseMetaExt;
+import org.stellar.sdk.xdr.LedgerCloseMetaV0;
+import org.stellar.sdk.xdr.LedgerCloseMetaV1;
+import org.stellar.sdk.xdr.LedgerCloseMetaV2;
+import org.stellar.sdk.xdr.LedgerEntry;
+import org.stellar.sdk.xdr.LedgerEntryChanges;
+import org.stellar.sdk.xdr.LedgerHeaderHistoryEntry;
+import org.stellar.sdk.xdr.LedgerKey;
+import org.stellar.sdk.xdr.SCPHistoryEntry;
+import org.stellar.sdk.xdr.TransactionEnvelope;
+import org.stellar.sdk.xdr.TransactionMeta;
+import org.stellar.sdk.xdr.TransactionResultMeta;
+import org.stellar.sdk.xdr.TransactionResultMetaV1;
+import org.stellar.sdk.xdr.TransactionResultPair;
+import org.stellar.sdk.xdr.TransactionSet;
+import org.stellar.sdk.xdr.TxSetComponentType;
+import org.stellar.sdk.xdr.Uint64;
+import org.stellar.sdk.xdr.UpgradeEntryMeta;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A lazy, read-only view over an XDR encoded {@link LedgerCloseMeta}.
+ *
+ * <p>Creating a view scans the encoded bytes once, without decoding them, and records the offsets
+ * of the ledger header, the transaction set, every transaction envelope, the result and meta of
+ * every applied transaction and every evicted key. Each getter then decodes only the part it
+ * returns, every time it is called. The getters ending in {@code Xdr} return the encoded bytes
+ * instead, as read-only {@link ByteBuffer} slices that share memory with the view.
+ *
+ * <p>Fields that do not exist in the version of the ledger close meta being viewed are returned as
+ * {@code null}. A view is immutable and can be shared between threads, as long as the underlying
+ * bytes are not modified.
+ *
+ * <p>{@link #toLedgerCloseMeta(ForkJoinPool)} uses the recorded offsets to decode the applied
+ * transactions of a large ledger on several threads.
+ */
+public class LedgerCloseMetaView {
+  // Boundaries recorded for every element of txProcessing, in this order.
+  private static final int TX_START = 0;
+  private static final int TX_RESULT_START = 1;
+  private static final int TX_FEE_PROCESSING_START = 2;
+  private static final int TX_META_START = 3;
+  private static final int TX_POST_FEE_PROCESSING_START = 4;
+  private static final int TX_END = 5;
+  private static final int TX_BOUNDARIES = 6;
+
+  // The number of bytes of txProcessing below which the elements are decoded in a single task.
+  private static final int PARALLEL_THRESHOLD = 64 * 1024;
+
+  private final ByteBuffer buffer;
+
+  /** The version of the ledger close meta, that is the discriminant of {@link LedgerCloseMeta}. */
+  @Getter private final int version;
+
+  private final int extStart;
+  private final int ledgerHeaderStart;
+  private final int txSetStart;
+  private final int txSetEnd;
+  // Start and end offset of every transaction envelope in the transaction set.
+  private final int[] envelopes;
+  private final int[] txProcessing;
+  private final int upgradesProcessingStart;
+  private final int scpInfoStart;
+  private final int scpInfoEnd;
+  private final int totalByteSizeOfLiveSorobanStateStart;
+  // Start and end offset of every evicted key.
+  private final int[] evictedKeys;
+  private final int evictedKeysStart;
+  private final int evictedKeysEnd;
+
+  private LedgerCloseMetaView(ByteBuffer encoded) throws IOException {
+    ByteBuffer slice = encoded.slice();
+    XdrDataInputStream stream = new XdrDataInputStream(slice);
+    version = stream.readInt();
+    if (version < 0 || version > 2) {
+      throw new IOException("Unknown LedgerCloseMeta version: " + version);
+    }
+
+    extStart = stream.getPosition();
+    if (version >= 1) {
+      LedgerCloseMetaExt.skip(stream);
+    }
+
+    ledgerHeaderStart = stream.getPosition();
+    LedgerHeaderHistoryEntry.skip(stream);
+
+    txSetStart = stream.getPosition();
+    OffsetList envelopeOffsets = new OffsetList();
+    if (version == 0) {
+      scanTransactionSet(stream, envelopeOffsets);
+    } else {
+      scanGeneralizedTransactionSet(stream, envelopeOffsets);
+    }
+    envelopes = envelopeOffsets.toArray();
+    txSetEnd = stream.getPosition();
+
+    int txCount = readCount(stream);
+    txProcessing = new int[txCount * TX_BOUNDARIES];
+    for (int i = 0; i < txCount; i++) {
+      int base = i * TX_BOUNDARIES;
+      txProcessing[base + TX_START] = stream.getPosition();
+      if (version == 2) {
+        ExtensionPoint.skip(stream);
+      }
+      txProcessing[base + TX_RESULT_START] = stream.getPosition();
+      TransactionResultPair.skip(stream);
+      txProcessing[base + TX_FEE_PROCESSING_START] = stream.getPosition();
+      LedgerEntryChanges.skip(stream);
+      txProcessing[base + TX_META_START] = stream.getPosition();
+      TransactionMeta.skip(stream);
+      txProcessing[base + TX_POST_FEE_PROCESSING_START] = stream.getPosition();
+      if (version == 2) {
+        LedgerEntryChanges.skip(stream);
+      }
+      txProcessing[base + TX_END] = stream.getPosition();
+    }
+
+    upgradesProcessingStart = stream.getPosition();
+    int upgradeCount = readCount(stream);
+    for (int i = 0; i < upgradeCount; i++) {
+      UpgradeEntryMeta.skip(stream);
+    }
+
+    scpInfoStart = stream.getPosition();
+    int scpInfoCount = readCount(stream);
+    for (int i = 0; i < scpInfoCount; i++) {
+      SCPHistoryEntry.skip(stream);
+    }
+    scpInfoEnd = stream.getPosition();
+
+    totalByteSizeOfLiveSorobanStateStart = stream.getPosition();
+    OffsetList evictedKeyOffsets = new OffsetList();
+    if (version >= 1) {
+      Uint64.skip(stream);
+      evictedKeysStart = stream.getPosition();
+      int evictedKeyCount = readCount(stream);
+      for (int i = 0; i < evictedKeyCount; i++) {
+        evictedKeyOffsets.add(stream.getPosition());
+        LedgerKey.skip(stream);
+        evictedKeyOffsets.add(stream.getPosition());
+      }
+      evictedKeysEnd = stream.getPosition();
+      if (version == 1) {
+        int unusedCount = readCount(stream);
+        for (int i = 0; i < unusedCount; i++) {
+          LedgerEntry.skip(stream);
+        }
+      }
+    } else {
+      evictedKeysStart = stream.getPosition();
+      evictedKeysEnd = stream.getPosition();
+    }
+    evictedKeys = evictedKeyOffsets.toArray();
+
+    slice.position(0);
+    slice.limit(stream.getPosition());
+    buffer = slice.slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Creates a view over the XDR encoded {@link LedgerCloseMeta} at the start of the specified byte
+   * array. The array is not copied.
+   *
+   * @param xdr the encoded ledger close meta
+   * @return the view
+   * @throws IOException if the bytes are not a valid encoded ledger close meta
+   */
+  public static LedgerCloseMetaView fromXdrByteArray(byte[] xdr) throws IOException {
+    return new LedgerCloseMetaView(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Creates a view over the XDR encoded {@link LedgerCloseMeta} starting at the position of the
+   * specified buffer. The buffer is not copied and its position is not modified.
+   *
+   * @param xdr the encoded ledger close meta
+   * @return the view
+   * @throws IOException if the bytes are not a valid encoded ledger close meta
+   */
+  public static LedgerCloseMetaView fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LedgerCloseMetaView(xdr);
+  }
+
+  /**
+   * Creates a view over a base64 encoded {@link LedgerCloseMeta}.
+   *
+   * @param xdr the base64 encoded ledger close meta
+   * @return the view
+   * @throws IOException if the bytes are not a valid encoded ledger close meta
+   */
+  public static LedgerCloseMetaView fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /** Returns the encoded ledger close meta. */
+  public ByteBuffer getXdr() {
+    return buffer.duplicate();
+  }
+
+  /** Decodes the complete ledger close meta. */
+  public LedgerCloseMeta toLedgerCloseMeta() {
+    return decode(0, buffer.limit(), LedgerCloseMeta::decode);
+  }
+
+  /**
+   * Decodes the complete ledger close meta like {@link #toLedgerCloseMeta()}, but decodes the
+   * elements of {@code txProcessing} in parallel on the specified pool, while the rest of the
+   * ledger is decoded. The result is equal to that of {@link #toLedgerCloseMeta()}, with the
+   * transactions in apply order.
+   *
+   * @param pool the pool to decode on
+   * @return the ledger close meta
+   */
+  public LedgerCloseMeta toLedgerCloseMeta(ForkJoinPool pool) {
+    int txCount = getTransactionCount();
+    Object[] txProcessingResults =
+        version == 2 ? new TransactionResultMetaV1[txCount] : new TransactionResultMeta[txCount];
+    return pool.invoke(
+        ForkJoinTask.adapt(
+            () -> {
+              ForkJoinTask<Void> txProcessingTask =
+                  new TxProcessingTask(txProcessingResults, 0, txCount).fork();
+              LedgerCloseMeta ledgerCloseMeta = decodeWithoutTxProcessing();
+              txProcessingTask.join();
+              switch (version) {
+                case 0:
+                  ledgerCloseMeta
+                      .getV0()
+                      .setTxProcessing((TransactionResultMeta[]) txProcessingResults);
+                  break;
+                case 1:
+                  ledgerCloseMeta
+                      .getV1()
+                      .setTxProcessing((TransactionResultMeta[]) txProcessingResults);
+                  break;
+                default:
+                  ledgerCloseMeta
+                      .getV2()
+                      .setTxProcessing((TransactionResultMetaV1[]) txProcessingResults);
+                  break;
+              }
+              return ledgerCloseMeta;
+            }));
+  }
+
+  /** Returns the ledger close meta extension, or null for version 0. */
+  public LedgerCloseMetaExt getExt() {
+    if (version == 0) {
+      return null;
+    }
+    return decode(extStart, ledgerHeaderStart, LedgerCloseMetaExt::decode);
+  }
+
+  public LedgerHeaderHistoryEntry getLedgerHeader() {
+    return decode(ledgerHeaderStart, txSetStart, LedgerHeaderHistoryEntry::decode);
+  }
+
+  public ByteBuffer getLedgerHeaderXdr() {
+    return slice(ledgerHeaderStart, txSetStart);
+  }
+
+  /** Returns the transaction set of a version 0 ledger close meta, or null for later versions. */
+  public TransactionSet getTxSet() {
+    if (version != 0) {
+      return null;
+    }
+    return decode(txSetStart, txSetEnd, TransactionSet::decode);
+  }
+
+  /** Returns the transaction set of a version 1 or 2 ledger close meta, or null for version 0. */
+  public GeneralizedTransactionSet getGeneralizedTxSet() {
+    if (version == 0) {
+      return null;
+    }
+    return decode(txSetStart, txSetEnd, GeneralizedTransactionSet::decode);
+  }
+
+  /**
+   * Returns the encoded transaction set, either a {@link TransactionSet} or a {@link
+   * GeneralizedTransactionSet} depending on the version.
+   */
+  public ByteBuffer getTxSetXdr() {
+    return slice(txSetStart, txSetEnd);
+  }
+
+  /**
+   * Returns the number of transaction envelopes in the transaction set. The transaction set is
+   * sorted in hash order, use {@link #getTransactionCount()} for the transactions in apply order.
+   */
+  public int getTransactionEnvelopeCount() {
+    return envelopes.length / 2;
+  }
+
+  /**
+   * Returns a transaction envelope of the transaction set.
+   *
+   * @param index the index of the envelope in the transaction set
+   */
+  public TransactionEnvelope getTransactionEnvelope(int index) {
+    return decode(envelopes[2 * index], envelopes[2 * index + 1], TransactionEnvelope::decode);
+  }
+
+  public ByteBuffer getTransactionEnvelopeXdr(int index) {
+    return slice(envelopes[2 * index], envelopes[2 * index + 1]);
+  }
+
+  /** Returns the number of applied transactions, that is the length of {@code txProcessing}. */
+  public int getTransactionCount() {
+    return txProcessing.length / TX_BOUNDARIES;
+  }
+
+  /**
+   * Returns the encoded {@code txProcessing} element of an applied transaction, either a {@link
+   * org.stellar.sdk.xdr.TransactionResultMeta} or a {@link
+   * org.stellar.sdk.xdr.TransactionResultMetaV1} depending on the version.
+   *
+   * @param index the index of the transaction in apply order
+   */
+  public ByteBuffer getTxProcessingXdr(int index) {
+    return txProcessingSlice(index, TX_START, TX_END);
+  }
+
+  /**
+   * Returns the result of an applied transaction.
+   *
+   * @param index the index of the transaction in apply order
+   */
+  public TransactionResultPair getTransactionResult(int index) {
+    return txProcessingDecode(
+        index, TX_RESULT_START, TX_FEE_PROCESSING_START, TransactionResultPair::decode);
+  }
+
+  public ByteBuffer getTransactionResultXdr(int index) {
+    return txProcessingSlice(index, TX_RESULT_START, TX_FEE_PROCESSING_START);
+  }
+
+  /**
+   * Returns the fee processing changes of an applied transaction.
+   *
+   * @param index the index of the transaction in apply order
+   */
+  public LedgerEntryChanges getFeeProcessing(int index) {
+    return txProcessingDecode(
+        index, TX_FEE_PROCESSING_START, TX_META_START, LedgerEntryChanges::decode);
+  }
+
+  public ByteBuffer getFeeProcessingXdr(int index) {
+    return txProcessingSlice(index, TX_FEE_PROCESSING_START, TX_META_START);
+  }
+
+  /**
+   * Returns the meta of an applied transaction.
+   *
+   * @param index the index of the transaction in apply order
+   */
+  public TransactionMeta getTransactionMeta(int index) {
+    return txProcessingDecode(
+        index, TX_META_START, TX_POST_FEE_PROCESSING_START, TransactionMeta::decode);
+  }
+
+  public ByteBuffer getTransactionMetaXdr(int index) {
+    return txProcessingSlice(index, TX_META_START, TX_POST_FEE_PROCESSING_START);
+  }
+
+  /**
+   * Returns the post apply fee processing changes of an applied transaction, or null if the version
+   * is lower than 2.
+   *
+   * @param index the index of the transaction in apply order
+   */
+  public LedgerEntryChanges getPostTxApplyFeeProcessing(int index) {
+    if (version != 2) {
+      return null;
+    }
+    return txProcessingDecode(
+        index, TX_POST_FEE_PROCESSING_START, TX_END, LedgerEntryChanges::decode);
+  }
+
+  public ByteBuffer getPostTxApplyFeeProcessingXdr(int index) {
+    if (version != 2) {
+      return null;
+    }
+    return txProcessingSlice(index, TX_POST_FEE_PROCESSING_START, TX_END);
+  }
+
+  public UpgradeEntryMeta[] getUpgradesProcessing() {
+    return decode(
+        upgradesProcessingStart,
+        scpInfoStart,
+        stream -> {
+          int size = stream.readInt();
+          UpgradeEntryMeta[] upgrades = new UpgradeEntryMeta[size];
+          for (int i = 0; i < size; i++) {
+            upgrades[i] = UpgradeEntryMeta.decode(stream);
+          }
+          return upgrades;
+        });
+  }
+
+  /** Returns the encoded {@code upgradesProcessing} array, including its length. */
+  public ByteBuffer getUpgradesProcessingXdr() {
+    return slice(upgradesProcessingStart, scpInfoStart);
+  }
+
+  public SCPHistoryEntry[] getScpInfo() {
+    return decode(
+        scpInfoStart,
+        scpInfoEnd,
+        stream -> {
+          int size = stream.readInt();
+          SCPHistoryEntry[] scpInfo = new SCPHistoryEntry[size];
+          for (int i = 0; i < size; i++) {
+            scpInfo[i] = SCPHistoryEntry.decode(stream);
+          }
+          return scpInfo;
+        });
+  }
+
+  /** Returns the encoded {@code scpInfo} array, including its length. */
+  public ByteBuffer getScpInfoXdr() {
+    return slice(scpInfoStart, scpInfoEnd);
+  }
+
+  /** Returns the size of the live Soroban state in bytes, or null for version 0. */
+  public Uint64 getTotalByteSizeOfLiveSorobanState() {
+    if (version == 0) {
+      return null;
+    }
+    return decode(totalByteSizeOfLiveSorobanStateStart, evictedKeysStart, Uint64::decode);
+  }
+
+  /** Returns the number of evicted keys, which is always 0 for version 0. */
+  public int getEvictedKeyCount() {
+    return evictedKeys.length / 2;
+  }
+
+  public LedgerKey getEvictedKey(int index) {
+    return decode(evictedKeys[2 * index], evictedKeys[2 * index + 1], LedgerKey::decode);
+  }
+
+  public ByteBuffer getEvictedKeyXdr(int index) {
+    return slice(evictedKeys[2 * index], evictedKeys[2 * index + 1]);
+  }
+
+  /** Returns the encoded {@code evictedKeys} array, including its length, or null for version 0. */
+  public ByteBuffer getEvictedKeysXdr() {
+    if (version == 0) {
+      return null;
+    }
+    return slice(evictedKeysStart, evictedKeysEnd);
+  }
+
+  // Decodes everything but txProcessing, which is left null.
+  private LedgerCloseMeta decodeWithoutTxProcessing() {
+    LedgerKey[] decodedEvictedKeys = new LedgerKey[getEvictedKeyCount()];
+    for (int i = 0; i < decodedEvictedKeys.length; i++) {
+      decodedEvictedKeys[i] = getEvictedKey(i);
+    }
+    switch (version) {
+      case 0:
+        return LedgerCloseMeta.builder()
+            .discriminant(0)
+            .v0(
+                LedgerCloseMetaV0.builder()
+                    .ledgerHeader(getLedgerHeader())
+                    .txSet(getTxSet())
+                    .upgradesProcessing(getUpgradesProcessing())
+                    .scpInfo(getScpInfo())
+                    .build())
+            .build();
+      case 1:
+        return LedgerCloseMeta.builder()
+            .discriminant(1)
+            .v1(
+                LedgerCloseMetaV1.builder()
+                    .ext(getExt())
+                    .ledgerHeader(getLedgerHeader())
+                    .txSet(getGeneralizedTxSet())
+                    .upgradesProcessing(getUpgradesProcessing())
+                    .scpInfo(getScpInfo())
+                    .totalByteSizeOfLiveSorobanState(getTotalByteSizeOfLiveSorobanState())
+                    .evictedKeys(decodedEvictedKeys)
+                    .unused(
+                        decode(
+                            evictedKeysEnd,
+                            buffer.limit(),
+                            stream -> {
+                              int size = stream.readInt();
+                              LedgerEntry[] unused = new LedgerEntry[size];
+                              for (int i = 0; i < size; i++) {
+                                unused[i] = LedgerEntry.decode(stream);
+                              }
+                              return unused;
+                            }))
+                    .build())
+            .build();
+      default:
+        return LedgerCloseMeta.builder()
+            .discriminant(2)
+            .v2(
+                LedgerCloseMetaV2.builder()
+                    .ext(getExt())
+                    .ledgerHeader(getLedgerHeader())
+                    .txSet(getGeneralizedTxSet())
+                    .upgradesProcessing(getUpgradesProcessing())
+                    .scpInfo(getScpInfo())
+                    .totalByteSizeOfLiveSorobanState(getTotalByteSizeOfLiveSorobanState())
+                    .evictedKeys(decodedEvictedKeys)
+                    .build())
+            .build();
+    }
+  }
+
+  private ByteBuffer txProcessingSlice(int index, int from, int to) {
+    int base = txProcessingBase(index);
+    return slice(txProcessing[base + from], txProcessing[base + to]);
+  }
+
+  private <T> T txProcessingDecode(int index, int from, int to, Decoder<T> decoder) {
+    int base = txProcessingBase(index);
+    return decode(txProcessing[base + from], txProcessing[base + to], decoder);
+  }
+
+  private int txProcessingBase(int index) {
+    if (index < 0 || index >= getTransactionCount()) {
+      throw new IndexOutOfBoundsException("Transaction index out of range: " + index);
+    }
+    return index * TX_BOUNDARIES;
+  }
+
+  private ByteBuffer slice(int start, int end) {
+    ByteBuffer slice = buffer.duplicate();
+    slice.position(start);
+    slice.limit(end);
+    return slice.slice();
+  }
+
+  private <T> T decode(int start, int end, Decoder<T> decoder) {
+    try {
+      return decoder.decode(new XdrDataInputStream(slice(start, end)));
+    } catch (IOException e) {
+      // The bytes have already been scanned when the view was created.
+      throw new UnexpectedException(e);
+    }
+  }
+
+  private static void scanTransactionSet(XdrDataInputStream stream, OffsetList envelopes)
+      throws IOException {
+    Hash.skip(stream);
+    scanTransactionEnvelopes(stream, envelopes);
+  }
+
+  private static void scanGeneralizedTransactionSet(XdrDataInputStream stream, OffsetList envelopes)
+      throws IOException {
+    int txSetVersion = stream.readInt();
+    if (txSetVersion != 1) {
+      throw new IOException("Unknown GeneralizedTransactionSet version: " + txSetVersion);
+    }
+    Hash.skip(stream);
+    int phaseCount = readCount(stream);
+    for (int i = 0; i < phaseCount; i++) {
+      int phaseVersion = stream.readInt();
+      switch (phaseVersion) {
+        case 0:
+          int componentCount = readCount(stream);
+          for (int j = 0; j < componentCount; j++) {
+            // TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE is the only component type.
+            TxSetComponentType.decode(stream);
+            skipOptionalInt64(stream);
+            scanTransactionEnvelopes(stream, envelopes);
+          }
+          break;
+        case 1:
+          skipOptionalInt64(stream);
+          int stageCount = readCount(stream);
+          for (int j = 0; j < stageCount; j++) {
+            int clusterCount = readCount(stream);
+            for (int k = 0; k < clusterCount; k++) {
+              scanTransactionEnvelopes(stream, envelopes);
+            }
+          }
+          break;
+        default:
+          throw new IOException("Unknown TransactionPhase version: " + phaseVersion);
+      }
+    }
+  }
+
+  private static void scanTransactionEnvelopes(XdrDataInputStream stream, OffsetList envelopes)
+      throws IOException {
+    int txCount = readCount(stream);
+    for (int i = 0; i < txCount; i++) {
+      envelopes.add(stream.getPosition());
+      TransactionEnvelope.skip(stream);
+      envelopes.add(stream.getPosition());
+    }
+  }
+
+  private static void skipOptionalInt64(XdrDataInputStream stream) throws IOException {
+    if (stream.readInt() != 0) {
+      Int64.skip(stream);
+    }
+  }
+
+  /**
+   * Reads the length of an array. Every element takes at least 4 bytes, so a length that does not
+   * fit into the rest of the stream is rejected before anything is allocated for it.
+   */
+  private static int readCount(XdrDataInputStream stream) throws IOException {
+    int count = stream.readInt();
+    if (count < 0 || count > stream.available() / 4) {
+      throw new IOException("Invalid array length: " + count);
+    }
+    return count;
+  }
+
+  private interface Decoder<T> {
+    T decode(XdrDataInputStream stream) throws IOException;
+  }
+
+  /**
+   * Decodes a range of txProcessing elements into an array, splitting the range in half while it is
+   * larger than {@link #PARALLEL_THRESHOLD} bytes.
+   */
+  private final class TxProcessingTask extends RecursiveAction {
+    private final Object[] results;
+    private final int from;
+    private final int to;
+
+    TxProcessingTask(Object[] results, int from, int to) {
+      this.results = results;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1
+          && txProcessing[to * TX_BOUNDARIES - 1] - txProcessing[from * TX_BOUNDARIES]
+              > PARALLEL_THRESHOLD) {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new TxProcessingTask(results, from, middle), new TxProcessingTask(results, middle, to));
+        return;
+      }
+      for (int i = from; i < to; i++) {
+        results[i] =
+            version == 2
+                ? txProcessingDecode(i, TX_START, TX_END, TransactionResultMetaV1::decode)
+                : txProcessingDecode(i, TX_START, TX_END, TransactionResultMeta::decode);
+      }
+    }
+  }
+
+  /** A growable list of offsets. */
+  private static final class OffsetList {
+    private int[] values = new int[16];
+    private int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        int[] grown = new int[values.length * 2];
+        System.arraycopy(values, 0, grown, 0, size);
+        values = grown;
+      }
+      values[size++] = value;
+    }
+
+    int[] toArray() {
+      int[] result = new int[size];
+      System.arraycopy(values, 0, result, 0, size);
+      return result;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package org.stellar.sdk.ingest;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only memory mapping of a whole file, which may be larger than the 2 GiB that a single
+ * {@link ByteBuffer} can map.
+ *
+ * <p>The file is mapped in segments that overlap by {@code maxSpan} bytes, so any range of up to
+ * {@code maxSpan} bytes lies within the segment of its first byte. A buffer that is already in
+ * memory can be used in place of a file with {@link #wrap(ByteBuffer)}.
+ */
+final class MappedFile {
+  private static final int SEGMENT_SIZE = 1 << 30;
+
+  private final ByteBuffer[] segments;
+  private final int segmentSize;
+  private final long size;
+  private final int maxSpan;
+
+  private MappedFile(ByteBuffer[] segments, int segmentSize, long size, int maxSpan) {
+    this.segments = segments;
+    this.segmentSize = segmentSize;
+    this.size = size;
+    this.maxSpan = maxSpan;
+  }
+
+  static MappedFile map(Path path, int maxSpan) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      int segmentCount = (int) Math.max(1, (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+      ByteBuffer[] segments = new ByteBuffer[segmentCount];
+      for (int i = 0; i < segments.length; i++) {
+        long start = (long) i * SEGMENT_SIZE;
+        long length = Math.min((long) SEGMENT_SIZE + maxSpan, size - start);
+        // The mapping stays valid after the channel is closed.
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+      }
+      return new MappedFile(segments, SEGMENT_SIZE, size, maxSpan);
+    }
+  }
+
+  /**
+   * Returns a single segment over the remaining bytes of the specified buffer, in which any range
+   * can be read. The buffer is not copied and its position is not modified.
+   */
+  static MappedFile wrap(ByteBuffer buffer) {
+    ByteBuffer segment = buffer.slice();
+    int size = segment.remaining();
+    return new MappedFile(new ByteBuffer[] {segment}, Integer.MAX_VALUE, size, size);
+  }
+
+  long size() {
+    return size;
+  }
+
+  /** Returns a read-only slice of {@code length} bytes starting at {@code offset}. */
+  ByteBuffer slice(long offset, int length) throws IOException {
+    ByteBuffer slice = segmentAt(offset, length).duplicate();
+    int position = (int) (offset % segmentSize);
+    slice.position(position);
+    slice.limit(position + length);
+    return slice.slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Returns a read-only slice starting at {@code offset}, which ends after {@code maxSpan} bytes or
+   * at the end of the file, whichever comes first.
+   */
+  ByteBuffer sliceFrom(long offset) throws IOException {
+    return slice(offset, (int) Math.min(maxSpan, size - offset));
+  }
+
+  int getInt(long offset) throws IOException {
+    return segmentAt(offset, 4).getInt((int) (offset % segmentSize));
+  }
+
+  long getLong(long offset) throws IOException {
+    return segmentAt(offset, 8).getLong((int) (offset % segmentSize));
+  }
+
+  private ByteBuffer segmentAt(long offset, int length) throws IOException {
+    if (offset < 0 || length < 0 || offset > size - length) {
+      throw new EOFException("Range " + offset + "+" + length + " is outside the file");
+    }
+    if (length > maxSpan) {
+      throw new IOException("Range of " + length + " bytes is longer than " + maxSpan + " bytes");
+    }
+    return segments[(int) (offset / segmentSize)];
+  }
+}
@@ -0,0 +1,341 @@
+package org.stellar.sdk.ingest;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPInputStream;
+import lombok.Getter;
+import lombok.Setter;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+import org.stellar.sdk.xdr.XdrElement;
+import org.stellar.sdk.xdr.XdrInterner;
+
+/**
+ * Reads a sequence of XDR records framed with the record marking standard of <a
+ * href="https://datatracker.ietf.org/doc/html/rfc5531#section-11">RFC 5531</a>, which is how
+ * stellar-core writes history archive files, bucket files and overlay captures.
+ *
+ * <p>Each record is made of one or more fragments. A fragment starts with a 4 byte header holding
+ * the length of the fragment in its low 31 bits, and whether it is the last fragment of the record
+ * in its high bit. The reader holds one record at a time, so files of any size can be read with
+ * bounded memory:
+ *
+ * <pre>
+ * try (XdrRecordReader&lt;TransactionHistoryEntry&gt; reader =
+ *     XdrRecordReader.open(path, TransactionHistoryEntry::decode)) {
+ *   while (reader.hasNext()) {
+ *     TransactionHistoryEntry entry = reader.next();
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>The same works for {@code TransactionHistoryResultEntry}, {@code LedgerHeaderHistoryEntry},
+ * {@code BucketEntry} and any other XDR type. {@link #open(Path, Decoder)} decompresses gzip files,
+ * such as the {@code .xdr.gz} files of history archives, on the fly.
+ *
+ * <p>A reader is not thread-safe. {@link #parallelIterator(Executor, int)} can be used to decode
+ * records on several threads.
+ *
+ * @param <T> the type of the records
+ */
+public class XdrRecordReader<T extends XdrElement> implements Closeable {
+  /** The default of {@link #getMaxRecordSize()}, 64 MiB. */
+  public static final int DEFAULT_MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int LAST_FRAGMENT = 0x80000000;
+
+  private final InputStream in;
+  private final Decoder<T> decoder;
+  private final byte[] header = new byte[4];
+
+  // The current record, which is reused by the next record if it fits.
+  private byte[] record = new byte[256];
+  // The length of the current record, or -1 if no record has been read ahead.
+  private int recordLength = -1;
+  // Whether the end of the stream has been reached.
+  private boolean eof;
+
+  /**
+   * The maximum length of a record, which protects against allocating huge buffers for corrupt
+   * input. A longer record makes the reader throw an {@link IOException}.
+   */
+  @Getter @Setter private int maxRecordSize = DEFAULT_MAX_RECORD_SIZE;
+
+  /**
+   * The interner used when decoding records, or null if decoded values are not interned, see {@link
+   * XdrInterner}.
+   */
+  @Getter @Setter private XdrInterner interner;
+
+  /** Decodes a single record, typically a reference to the {@code decode} method of an XDR type. */
+  @FunctionalInterface
+  public interface Decoder<T> {
+    T decode(XdrDataInputStream stream) throws IOException;
+  }
+
+  private XdrRecordReader(InputStream in, Decoder<T> decoder) {
+    this.in = in;
+    this.decoder = decoder;
+  }
+
+  /**
+   * Opens a reader over a file of records. If the file is compressed with gzip, it is decompressed
+   * while it is read.
+   *
+   * @param path the path of the file
+   * @param decoder the decoder of the records, such as {@code BucketEntry::decode}
+   * @param <T> the type of the records
+   * @return the reader
+   * @throws IOException if the file cannot be opened
+   */
+  public static <T extends XdrElement> XdrRecordReader<T> open(Path path, Decoder<T> decoder)
+      throws IOException {
+    InputStream in = new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE);
+    try {
+      in.mark(2);
+      int magic = in.read() | in.read() << 8;
+      in.reset();
+      if (magic == GZIPInputStream.GZIP_MAGIC) {
+        in = new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+      }
+    } catch (IOException e) {
+      in.close();
+      throw e;
+    }
+    return new XdrRecordReader<>(in, decoder);
+  }
+
+  /**
+   * Creates a reader over a stream of records. The stream is read in chunks, so it doesn't need to
+   * be buffered.
+   *
+   * @param inputStream the stream to read from, it is closed when the reader is closed
+   * @param decoder the decoder of the records, such as {@code BucketEntry::decode}
+   * @param <T> the type of the records
+   * @return the reader
+   */
+  public static <T extends XdrElement> XdrRecordReader<T> fromInputStream(
+      InputStream inputStream, Decoder<T> decoder) {
+    return new XdrRecordReader<>(new BufferedInputStream(inputStream, BUFFER_SIZE), decoder);
+  }
+
+  /**
+   * Returns true if there are records left to read.
+   *
+   * @throws IOException if the next record cannot be read
+   */
+  public boolean hasNext() throws IOException {
+    return readAhead();
+  }
+
+  /**
+   * Reads and decodes the next record.
+   *
+   * @return the next record
+   * @throws NoSuchElementException if all records have been read
+   * @throws IOException if the record cannot be read or decoded, or if it is longer than its
+   *     encoded value
+   */
+  public T next() throws IOException {
+    checkHasNext();
+    int length = recordLength;
+    recordLength = -1;
+    return decode(record, length, decoder, interner);
+  }
+
+  /**
+   * Reads the next record without decoding it.
+   *
+   * @return a copy of the encoded record
+   * @throws NoSuchElementException if all records have been read
+   * @throws IOException if the record cannot be read
+   */
+  public byte[] nextXdr() throws IOException {
+    checkHasNext();
+    byte[] xdr = Arrays.copyOf(record, recordLength);
+    recordLength = -1;
+    return xdr;
+  }
+
+  /**
+   * Skips the next record without decoding it.
+   *
+   * @throws NoSuchElementException if all records have been read
+   * @throws IOException if the record cannot be read
+   */
+  public void skip() throws IOException {
+    checkHasNext();
+    recordLength = -1;
+  }
+
+  /**
+   * Returns an iterator over the remaining records which decodes up to {@code maxInFlight} records
+   * ahead of the caller on the specified executor. The records are returned in file order.
+   *
+   * <p>The records are read on the thread calling {@link Iterator#next()}, so the reader must not
+   * be used while the iterator is in use. Read and decoding errors are thrown from the iterator as
+   * {@link UnexpectedException}.
+   *
+   * @param executor the executor to decode records on
+   * @param maxInFlight the maximum number of records being decoded or waiting to be returned
+   * @return the iterator
+   */
+  public Iterator<T> parallelIterator(Executor executor, int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be positive");
+    }
+    return new ParallelIterator(executor, maxInFlight);
+  }
+
+  /** Closes the underlying stream. */
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  private void checkHasNext() throws IOException {
+    if (!readAhead()) {
+      throw new NoSuchElementException();
+    }
+  }
+
+  // Reads the fragments of the next record into record, unless it has already been read. Returns
+  // false at the end of the stream.
+  private boolean readAhead() throws IOException {
+    if (recordLength >= 0) {
+      return true;
+    }
+    if (eof) {
+      return false;
+    }
+    int length = 0;
+    boolean last = false;
+    while (!last) {
+      int read = readFully(header, 0, 4);
+      if (read == 0 && length == 0) {
+        eof = true;
+        return false;
+      }
+      if (read < 4) {
+        throw new EOFException("Truncated record header");
+      }
+      int marker =
+          (header[0] & 0xff) << 24
+              | (header[1] & 0xff) << 16
+              | (header[2] & 0xff) << 8
+              | (header[3] & 0xff);
+      last = (marker & LAST_FRAGMENT) != 0;
+      int fragmentLength = marker & ~LAST_FRAGMENT;
+      if (fragmentLength > maxRecordSize - length) {
+        throw new IOException(
+            "Record exceeds the maximum record size of " + maxRecordSize + " bytes");
+      }
+      if (length + fragmentLength > record.length) {
+        record = Arrays.copyOf(record, Math.max(length + fragmentLength, record.length * 2));
+      }
+      if (readFully(record, length, fragmentLength) < fragmentLength) {
+        throw new EOFException("Truncated record");
+      }
+      length += fragmentLength;
+    }
+    recordLength = length;
+    return true;
+  }
+
+  // Reads up to len bytes, stopping early only at the end of the stream.
+  private int readFully(byte[] b, int off, int len) throws IOException {
+    int total = 0;
+    while (total < len) {
+      int read = in.read(b, off + total, len - total);
+      if (read < 0) {
+        break;
+      }
+      total += read;
+    }
+    return total;
+  }
+
+  private static <T> T decode(byte[] xdr, int length, Decoder<T> decoder, XdrInterner interner)
+      throws IOException {
+    XdrDataInputStream stream = new XdrDataInputStream(xdr, 0, length);
+    stream.setInterner(interner);
+    T value = decoder.decode(stream);
+    if (stream.getPosition() != length) {
+      throw new IOException(
+          "Record has " + (length - stream.getPosition()) + " bytes after its value");
+    }
+    return value;
+  }
+
+  private final class ParallelIterator implements Iterator<T> {
+    private final Executor executor;
+    private final int maxInFlight;
+    private final ArrayDeque<CompletableFuture<T>> inFlight = new ArrayDeque<>();
+
+    ParallelIterator(Executor executor, int maxInFlight) {
+      this.executor = executor;
+      this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        return !inFlight.isEmpty() || XdrRecordReader.this.hasNext();
+      } catch (IOException e) {
+        throw new UnexpectedException(e);
+      }
+    }
+
+    @Override
+    public T next() {
+      fill();
+      CompletableFuture<T> future = inFlight.poll();
+      if (future == null) {
+        throw new NoSuchElementException();
+      }
+      fill();
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+
+    private void fill() {
+      try {
+        while (inFlight.size() < maxInFlight && XdrRecordReader.this.hasNext()) {
+          byte[] xdr = nextXdr();
+          XdrInterner recordInterner = interner;
+          inFlight.add(
+              CompletableFuture.supplyAsync(
+                  () -> {
+                    try {
+                      return decode(xdr, xdr.length, decoder, recordInterner);
+                    } catch (IOException e) {
+                      throw new UnexpectedException(e);
+                    }
+                  },
+                  executor));
+        }
+      } catch (IOException e) {
+        throw new UnexpectedException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package org.stellar.sdk.ingest;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+import org.stellar.sdk.xdr.XdrElement;
+
+/**
+ * Writes a sequence of XDR records framed with the record marking standard of <a
+ * href="https://datatracker.ietf.org/doc/html/rfc5531#section-11">RFC 5531</a>, in the format read
+ * by {@link XdrRecordReader} and by stellar-core.
+ *
+ * <p>Like stellar-core, the writer writes every record as a single fragment. Records are encoded
+ * into a buffer that is reused from one record to the next, and written in chunks.
+ *
+ * <p>A writer is not thread-safe.
+ */
+public class XdrRecordWriter implements Closeable, Flushable {
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int LAST_FRAGMENT = 0x80000000;
+
+  private final OutputStream out;
+  // The header and encoded value of the current record.
+  private byte[] record = new byte[256];
+
+  private XdrRecordWriter(OutputStream out) {
+    this.out = out;
+  }
+
+  /**
+   * Creates or truncates a file and opens a writer over it. If the name of the file ends with
+   * {@code .gz}, the records are compressed with gzip, like the files of history archives.
+   *
+   * @param path the path of the file
+   * @return the writer
+   * @throws IOException if the file cannot be created
+   */
+  public static XdrRecordWriter open(Path path) throws IOException {
+    OutputStream out = Files.newOutputStream(path);
+    if (path.getFileName().toString().endsWith(".gz")) {
+      out = new GZIPOutputStream(out, BUFFER_SIZE);
+    }
+    return new XdrRecordWriter(new BufferedOutputStream(out, BUFFER_SIZE));
+  }
+
+  /**
+   * Creates a writer over a stream. The stream is written in chunks, so it doesn't need to be
+   * buffered.
+   *
+   * @param outputStream the stream to write to, it is closed when the writer is closed
+   * @return the writer
+   */
+  public static XdrRecordWriter fromOutputStream(OutputStream outputStream) {
+    return new XdrRecordWriter(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+  }
+
+  /**
+   * Writes a value as a record.
+   *
+   * @param value the value to write
+   * @throws IOException if the value cannot be written
+   */
+  public void write(XdrElement value) throws IOException {
+    int length = value.encodedSize();
+    if (length > Integer.MAX_VALUE - 4) {
+      throw new IOException("Record too large: " + length + " bytes");
+    }
+    if (length + 4 > record.length) {
+      record = new byte[Math.max(length + 4, record.length * 2)];
+    }
+    int marker = LAST_FRAGMENT | length;
+    record[0] = (byte) (marker >>> 24);
+    record[1] = (byte) (marker >>> 16);
+    record[2] = (byte) (marker >>> 8);
+    record[3] = (byte) marker;
+    value.toXdrByteArray(record, 4);
+    out.write(record, 0, length + 4);
+  }
+
+  /**
+   * Writes the buffered records to the underlying stream and flushes it. A gzip stream is flushed
+   * without ending the current compressed block, so this does not make the output readable up to
+   * this point.
+   */
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  /** Writes the buffered records and closes the underlying stream. */
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+}
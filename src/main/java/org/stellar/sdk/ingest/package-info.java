@@ -0,0 +1,5 @@
+/**
+ * Contains tools for processing ledger close meta and other XDR encoded ledger data in bulk, such
+ * as {@link org.stellar.sdk.ingest.LedgerCloseMetaView}.
+ */
+package org.stellar.sdk.ingest;
@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.AssetTypeCreditAlphaNum;
@@ -42,7 +44,20 @@ public class AccountsRequestBuilder extends RequestBuilder {
    */
   public AccountResponse account(HttpUrl uri) {
     TypeToken<AccountResponse> type = new TypeToken<AccountResponse>() {};
-    return executeGetRequest(httpClient, uri, type);
+    return executeGetRequest(uri, type);
+  }
+
+  /**
+   * Like {@link #account(HttpUrl)}, but without blocking the calling thread.
+   *
+   * @param uri the URI to request
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #account(HttpUrl)}, or exceptionally with
+   *     the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<AccountResponse> accountFuture(HttpUrl uri, Executor executor) {
+    TypeToken<AccountResponse> type = new TypeToken<AccountResponse>() {};
+    return enqueueGetRequest(uri, type, executor);
   }
 
   /**
@@ -71,6 +86,19 @@ public class AccountsRequestBuilder extends RequestBuilder {
     return this.account(this.buildUri());
   }
 
+  /**
+   * Like {@link #account(String)}, but without blocking the calling thread.
+   *
+   * @param account Account to fetch
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #account(String)}, or exceptionally with
+   *     the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<AccountResponse> accountFuture(String account, Executor executor) {
+    this.setSegments("accounts", account);
+    return this.accountFuture(this.buildUri(), executor);
+  }
+
   /**
    * Returns all accounts that contain a specific signer.
    *
@@ -226,7 +254,37 @@ public class AccountsRequestBuilder extends RequestBuilder {
    *     connectivity problems, etc.
    */
   public Page<AccountResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<AccountResponse>> type = new TypeToken<Page<AccountResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<AccountResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<AccountResponse>> type = new TypeToken<Page<AccountResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<AccountResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<AccountResponse>> type = new TypeToken<Page<AccountResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<AccountResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
   }
 
   @Override
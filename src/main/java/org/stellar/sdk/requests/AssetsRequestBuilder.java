@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.exception.ConnectionErrorException;
@@ -70,7 +72,37 @@ public class AssetsRequestBuilder extends RequestBuilder {
    *     connectivity problems, etc.
    */
   public Page<AssetResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<AssetResponse>> type = new TypeToken<Page<AssetResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<AssetResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<AssetResponse>> type = new TypeToken<Page<AssetResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<AssetResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<AssetResponse>> type = new TypeToken<Page<AssetResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<AssetResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
   }
 
   @Override
@@ -0,0 +1,186 @@
+package org.stellar.sdk.requests;
+
+import com.google.gson.reflect.TypeToken;
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.stellar.sdk.TOID;
+import org.stellar.sdk.responses.Page;
+import org.stellar.sdk.responses.Pageable;
+
+/**
+ * An iterator over the records of a range of ledgers, which pages several parts of the range
+ * concurrently.
+ *
+ * <p>The range is split into windows of {@link BackfillOptions#getLedgersPerWindow()} ledgers. Each
+ * window is paged from the {@link TOID} of its first ledger, as the cursor of the request, until
+ * the first record at or after the TOID of the ledger following it. Up to {@link
+ * BackfillOptions#getParallelism()} windows are paged at the same time, and the records of each
+ * window are buffered until the windows before it have been consumed, so the records are returned
+ * in TOID order, exactly as a single ascending walk over the range would return them.
+ *
+ * <p>Errors are thrown like in {@link PageIterator}. Closing the iterator cancels the downloads in
+ * progress.
+ *
+ * <p>An iterator must not be used by several threads at the same time.
+ *
+ * @param <T> the type of the records
+ * @see BackfillOptions
+ */
+public class BackfillIterator<T extends Pageable> implements Iterator<T>, Closeable {
+  private final OkHttpClient httpClient;
+  private final HttpUrl url;
+  private final TypeToken<Page<T>> type;
+  private final BackfillOptions options;
+  private final PageFetchOptions fetchOptions;
+  private final int toLedger;
+
+  // The windows being paged, in ledger order. The first one is being consumed.
+  private final ArrayDeque<Window> windows = new ArrayDeque<>();
+  // The first ledger of the next window to open.
+  private int nextLedger;
+  private boolean closed;
+
+  BackfillIterator(
+      OkHttpClient httpClient,
+      HttpUrl url,
+      TypeToken<Page<T>> type,
+      int fromLedger,
+      int toLedger,
+      BackfillOptions options) {
+    // Validates the range.
+    TOID.ledgerRangeInclusive(fromLedger, toLedger);
+    if (options.getParallelism() < 1) {
+      throw new IllegalArgumentException("parallelism must be positive");
+    }
+    if (options.getLedgersPerWindow() < 1) {
+      throw new IllegalArgumentException("ledgersPerWindow must be positive");
+    }
+    this.httpClient = httpClient;
+    this.url = url;
+    this.type = type;
+    this.options = options;
+    this.fetchOptions = PageFetchOptions.builder().prefetchPages(options.getBufferPages()).build();
+    this.toLedger = toLedger;
+    this.nextLedger = fromLedger;
+    openWindows();
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!closed) {
+      Window window = windows.peek();
+      if (window == null) {
+        return false;
+      }
+      if (window.hasNext()) {
+        return true;
+      }
+      windows.poll().close();
+      openWindows();
+    }
+    return false;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return windows.peek().next();
+  }
+
+  /** Returns a spliterator over the remaining records. */
+  public Spliterator<T> spliterator() {
+    return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+
+  /**
+   * Returns a sequential stream of the remaining records. Closing the stream closes this iterator.
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false).onClose(this::close);
+  }
+
+  /** Cancels the downloads in progress and drops the records downloaded ahead. */
+  @Override
+  public void close() {
+    closed = true;
+    for (Window window : windows) {
+      window.close();
+    }
+    windows.clear();
+  }
+
+  private void openWindows() {
+    while (windows.size() < options.getParallelism() && nextLedger <= toLedger) {
+      int windowTo =
+          (int) Math.min((long) nextLedger + options.getLedgersPerWindow() - 1, toLedger);
+      windows.add(new Window(TOID.ledgerRangeInclusive(nextLedger, windowTo)));
+      nextLedger = windowTo + 1;
+    }
+  }
+
+  // The paging token of operations and transactions is their TOID, and the paging token of
+  // effects is the TOID of their operation followed by a dash and their index.
+  private static long toid(Pageable record) {
+    String pagingToken = record.getPagingToken();
+    int dash = pagingToken.indexOf('-');
+    return Long.parseLong(dash < 0 ? pagingToken : pagingToken.substring(0, dash));
+  }
+
+  private final class Window implements Closeable {
+    private final long end;
+    private final PageIterator<T> pages;
+    // The next record of the window, if it has been read ahead.
+    private T pending;
+    private boolean done;
+
+    Window(TOID.TOIDRange range) {
+      this.end = range.getEnd();
+      HttpUrl windowUrl =
+          url.newBuilder()
+              .setQueryParameter("cursor", String.valueOf(range.getStart()))
+              .setQueryParameter("order", RequestBuilder.Order.ASC.getValue())
+              .setQueryParameter("limit", String.valueOf(options.getLimit()))
+              .build();
+      this.pages =
+          new PageIterator<>(
+              httpClient, windowUrl, type, fetchOptions, record -> toid(record) >= end);
+    }
+
+    boolean hasNext() {
+      if (pending == null && !done) {
+        if (pages.hasNext()) {
+          T record = pages.next();
+          if (toid(record) < end) {
+            pending = record;
+          } else {
+            done = true;
+          }
+        } else {
+          done = true;
+        }
+      }
+      return pending != null;
+    }
+
+    T next() {
+      T record = pending;
+      pending = null;
+      return record;
+    }
+
+    @Override
+    public void close() {
+      pages.close();
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package org.stellar.sdk.requests;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options of the {@link BackfillIterator} returned by the {@code backfill} methods of the request
+ * builders.
+ *
+ * <p>Note that the {@link okhttp3.Dispatcher} of the HTTP client also limits the number of
+ * concurrent requests to a host, to 5 by default.
+ */
+@Value
+@Builder(toBuilder = true)
+public class BackfillOptions {
+  /** The default options. */
+  public static final BackfillOptions DEFAULT = BackfillOptions.builder().build();
+
+  /** The maximum number of windows paged at the same time. */
+  @Builder.Default int parallelism = 4;
+
+  /** The number of ledgers of each window, by default about a day of ledgers. */
+  @Builder.Default int ledgersPerWindow = 17_280;
+
+  /**
+   * The maximum number of pages of a window downloaded ahead of the caller, including the windows
+   * that are waiting for the windows before them to be consumed.
+   */
+  @Builder.Default int bufferPages = 10;
+
+  /** The <code>limit</code> of the requests. */
+  @Builder.Default int limit = 200;
+}
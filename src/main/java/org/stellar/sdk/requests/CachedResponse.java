@@ -0,0 +1,47 @@
+package org.stellar.sdk.requests;
+
+import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A successful Horizon response held by a {@link ResponseCache}.
+ *
+ * <p>The body is parsed at most once per instance and response type, and the parsed object is
+ * shared by all the requests of that type the instance answers, so it must not be modified.
+ */
+@Getter
+public final class CachedResponse {
+  /** The body of the response. */
+  @NonNull private final String body;
+
+  /** The <code>ETag</code> header of the response, if any. */
+  @Nullable private final String etag;
+
+  @Getter(AccessLevel.NONE)
+  private final ConcurrentHashMap<TypeToken<?>, Object> parsed = new ConcurrentHashMap<>(1);
+
+  /**
+   * Creates a cached response.
+   *
+   * @param body the body of the response
+   * @param etag the <code>ETag</code> header of the response, or null
+   */
+  public CachedResponse(@NonNull String body, @Nullable String etag) {
+    this.body = body;
+    this.etag = etag;
+  }
+
+  /** Returns the number of bytes the body takes in memory, as an estimate of the entry's size. */
+  public long getWeight() {
+    return 2L * body.length();
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> T parse(TypeToken<T> type) {
+    return (T) parsed.computeIfAbsent(type, key -> ResponseHandler.parse(body, type));
+  }
+}
@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.Asset;
@@ -38,7 +40,21 @@ public class ClaimableBalancesRequestBuilder extends RequestBuilder {
    */
   public ClaimableBalanceResponse claimableBalance(HttpUrl uri) {
     TypeToken<ClaimableBalanceResponse> type = new TypeToken<ClaimableBalanceResponse>() {};
-    return executeGetRequest(httpClient, uri, type);
+    return executeGetRequest(uri, type);
+  }
+
+  /**
+   * Like {@link #claimableBalance(HttpUrl)}, but without blocking the calling thread.
+   *
+   * @param uri the URI to request
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #claimableBalance(HttpUrl)}, or
+   *     exceptionally with the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<ClaimableBalanceResponse> claimableBalanceFuture(
+      HttpUrl uri, Executor executor) {
+    TypeToken<ClaimableBalanceResponse> type = new TypeToken<ClaimableBalanceResponse>() {};
+    return enqueueGetRequest(uri, type, executor);
   }
 
   /**
@@ -66,6 +82,20 @@ public class ClaimableBalancesRequestBuilder extends RequestBuilder {
     return this.claimableBalance(this.buildUri());
   }
 
+  /**
+   * Like {@link #claimableBalance(String)}, but without blocking the calling thread.
+   *
+   * @param id specifies which claimable balance to load.
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #claimableBalance(String)}, or
+   *     exceptionally with the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<ClaimableBalanceResponse> claimableBalanceFuture(
+      String id, Executor executor) {
+    this.setSegments("claimable_balances", id);
+    return this.claimableBalanceFuture(this.buildUri(), executor);
+  }
+
   /**
    * Returns all claimable balances sponsored by a given account.
    *
@@ -133,7 +163,40 @@ public class ClaimableBalancesRequestBuilder extends RequestBuilder {
    * @throws TooManyRequestsException when too many requests were sent to the Horizon server.
    */
   public Page<ClaimableBalanceResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<ClaimableBalanceResponse>> type =
+        new TypeToken<Page<ClaimableBalanceResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<ClaimableBalanceResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<ClaimableBalanceResponse>> type =
+        new TypeToken<Page<ClaimableBalanceResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<ClaimableBalanceResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<ClaimableBalanceResponse>> type =
+        new TypeToken<Page<ClaimableBalanceResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<ClaimableBalanceResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
   }
 
   @Override
@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.NonNull;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -146,7 +148,61 @@ public class EffectsRequestBuilder extends RequestBuilder {
    *     connectivity problems, etc.
    */
   public Page<EffectResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<EffectResponse>> type = new TypeToken<Page<EffectResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<EffectResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<EffectResponse>> type = new TypeToken<Page<EffectResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<EffectResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<EffectResponse>> type = new TypeToken<Page<EffectResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<EffectResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
+  }
+
+  /**
+   * Build the request and iterate over the effects of a range of ledgers in ascending order. The
+   * range is split into windows of TOID cursors, which are paged concurrently, and the effects are
+   * returned in TOID order. The cursor, order and limit of this request are ignored.
+   *
+   * @param fromLedger the first ledger of the range
+   * @param toLedger the last ledger of the range, inclusive
+   * @param options the window and parallelism options
+   * @return an iterator over the effects, which should be closed if it isn't iterated to its end
+   * @see org.stellar.sdk.TOID#ledgerRangeInclusive(int, int)
+   */
+  public BackfillIterator<EffectResponse> backfill(
+      int fromLedger, int toLedger, BackfillOptions options) {
+    TypeToken<Page<EffectResponse>> type = new TypeToken<Page<EffectResponse>>() {};
+    return backfillIterator(type, fromLedger, toLedger, options);
+  }
+
+  /**
+   * An overloaded version of {@link #backfill(int, int, BackfillOptions)} with the default options.
+   */
+  public BackfillIterator<EffectResponse> backfill(int fromLedger, int toLedger) {
+    return backfill(fromLedger, toLedger, BackfillOptions.DEFAULT);
   }
 
   @Override
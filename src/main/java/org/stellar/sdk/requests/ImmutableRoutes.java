@@ -0,0 +1,36 @@
+package org.stellar.sdk.requests;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/** The Horizon routes whose responses never change, see {@link ResponseCache#isImmutable}. */
+final class ImmutableRoutes {
+  private static final Pattern NUMBER = Pattern.compile("[0-9]{1,19}");
+  private static final Pattern HASH = Pattern.compile("[0-9a-fA-F]{64}");
+
+  private ImmutableRoutes() {}
+
+  // Matches the end of the path, as the URL of the server may have a path of its own. Only single
+  // resources are matched: Horizon answers them with 404 until they exist, whereas the
+  // transactions, operations, payments and effects of a ledger that has not closed yet are an
+  // empty page, which would be cached for good.
+  static boolean matches(List<String> segments) {
+    int size = segments.size();
+    if (size > 0 && segments.get(size - 1).isEmpty()) {
+      size--;
+    }
+    return size >= 2 && isResource(segments.get(size - 2), segments.get(size - 1));
+  }
+
+  private static boolean isResource(String collection, String id) {
+    switch (collection) {
+      case "ledgers":
+      case "operations":
+        return NUMBER.matcher(id).matches();
+      case "transactions":
+        return HASH.matcher(id).matches();
+      default:
+        return false;
+    }
+  }
+}
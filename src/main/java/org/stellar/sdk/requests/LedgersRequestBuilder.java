@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.exception.TooManyRequestsException;
@@ -35,7 +37,20 @@ public class LedgersRequestBuilder extends RequestBuilder {
    */
   public LedgerResponse ledger(HttpUrl uri) {
     TypeToken<LedgerResponse> type = new TypeToken<LedgerResponse>() {};
-    return executeGetRequest(httpClient, uri, type);
+    return executeGetRequest(uri, type);
+  }
+
+  /**
+   * Like {@link #ledger(HttpUrl)}, but without blocking the calling thread.
+   *
+   * @param uri the URI to request
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #ledger(HttpUrl)}, or exceptionally with
+   *     the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<LedgerResponse> ledgerFuture(HttpUrl uri, Executor executor) {
+    TypeToken<LedgerResponse> type = new TypeToken<LedgerResponse>() {};
+    return enqueueGetRequest(uri, type, executor);
   }
 
   /**
@@ -64,6 +79,19 @@ public class LedgersRequestBuilder extends RequestBuilder {
     return this.ledger(this.buildUri());
   }
 
+  /**
+   * Like {@link #ledger(long)}, but without blocking the calling thread.
+   *
+   * @param ledgerSeq Ledger to fetch
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #ledger(long)}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<LedgerResponse> ledgerFuture(long ledgerSeq, Executor executor) {
+    this.setSegments("ledgers", String.valueOf(ledgerSeq));
+    return this.ledgerFuture(this.buildUri(), executor);
+  }
+
   /**
    * Requests specific <code>uri</code> and returns {@link Page} of {@link LedgerResponse}. This
    * method is helpful for getting the next set of results.
@@ -124,7 +152,37 @@ public class LedgersRequestBuilder extends RequestBuilder {
    *     IOException, including but not limited to a timeout, connection failure etc.
    */
   public Page<LedgerResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<LedgerResponse>> type = new TypeToken<Page<LedgerResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<LedgerResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<LedgerResponse>> type = new TypeToken<Page<LedgerResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<LedgerResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<LedgerResponse>> type = new TypeToken<Page<LedgerResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<LedgerResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
   }
 
   @Override
@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.exception.TooManyRequestsException;
@@ -38,7 +40,21 @@ public class LiquidityPoolsRequestBuilder extends RequestBuilder {
    */
   public LiquidityPoolResponse liquidityPool(HttpUrl uri) {
     TypeToken<LiquidityPoolResponse> type = new TypeToken<LiquidityPoolResponse>() {};
-    return executeGetRequest(httpClient, uri, type);
+    return executeGetRequest(uri, type);
+  }
+
+  /**
+   * Like {@link #liquidityPool(HttpUrl)}, but without blocking the calling thread.
+   *
+   * @param uri the URI to request
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #liquidityPool(HttpUrl)}, or exceptionally
+   *     with the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<LiquidityPoolResponse> liquidityPoolFuture(
+      HttpUrl uri, Executor executor) {
+    TypeToken<LiquidityPoolResponse> type = new TypeToken<LiquidityPoolResponse>() {};
+    return enqueueGetRequest(uri, type, executor);
   }
 
   /**
@@ -61,6 +77,20 @@ public class LiquidityPoolsRequestBuilder extends RequestBuilder {
     return this.liquidityPool(this.buildUri());
   }
 
+  /**
+   * Like {@link #liquidityPool(String)}, but without blocking the calling thread.
+   *
+   * @param liquidityPoolId Liquidity Pool to fetch
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #liquidityPool(String)}, or exceptionally
+   *     with the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<LiquidityPoolResponse> liquidityPoolFuture(
+      String liquidityPoolId, Executor executor) {
+    this.setSegments("liquidity_pools", liquidityPoolId);
+    return this.liquidityPoolFuture(this.buildUri(), executor);
+  }
+
   /**
    * Returns all liquidity pools that contain reserves in all specified assets.
    *
@@ -161,7 +191,37 @@ public class LiquidityPoolsRequestBuilder extends RequestBuilder {
    *     due to cancellation or connectivity problems, etc.
    */
   public Page<LiquidityPoolResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<LiquidityPoolResponse>> type = new TypeToken<Page<LiquidityPoolResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<LiquidityPoolResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<LiquidityPoolResponse>> type = new TypeToken<Page<LiquidityPoolResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<LiquidityPoolResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<LiquidityPoolResponse>> type = new TypeToken<Page<LiquidityPoolResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<LiquidityPoolResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
   }
 
   @Override
@@ -0,0 +1,240 @@
+package org.stellar.sdk.requests;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import okhttp3.HttpUrl;
+import org.stellar.sdk.Util;
+
+/**
+ * A {@link ResponseCache} which keeps the least recently used responses in memory, up to a total
+ * size, and optionally spills the responses it evicts to files in a directory, up to another total
+ * size.
+ *
+ * <p>The size of a response is estimated from the length of its body. Responses read back from disk
+ * are moved to memory and parsed again on first use. Spilled responses are kept in files named
+ * after the SHA-256 hash of their URL, and the files found in the directory when the cache is
+ * created are reused, so immutable responses survive restarts. Disk errors are ignored, and only
+ * make responses miss the cache.
+ */
+public class LruResponseCache implements ResponseCache {
+  private static final String FILE_SUFFIX = ".response";
+
+  /** The maximum total size of the responses kept in memory, in bytes. */
+  @Getter private final long maxMemoryBytes;
+
+  /** The directory responses are spilled to, or null if they are dropped. */
+  @Getter private final Path spillDirectory;
+
+  /** The maximum total size of the responses spilled to disk, in bytes. */
+  @Getter private final long maxDiskBytes;
+
+  // Guarded by this, while files are read, written and deleted without holding the lock. Both
+  // maps are in access order, the least recently used entry first. disk holds the size of each
+  // spilled response as it was when it was spilled.
+  private final LinkedHashMap<String, CachedResponse> memory = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+  private long memoryBytes;
+  private long diskBytes;
+
+  /**
+   * Creates a cache which only keeps responses in memory.
+   *
+   * @param maxMemoryBytes the maximum total size of the responses kept in memory
+   */
+  public LruResponseCache(long maxMemoryBytes) {
+    this.maxMemoryBytes = maxMemoryBytes;
+    this.spillDirectory = null;
+    this.maxDiskBytes = 0;
+  }
+
+  /**
+   * Creates a cache which spills the responses evicted from memory to a directory.
+   *
+   * @param maxMemoryBytes the maximum total size of the responses kept in memory
+   * @param spillDirectory the directory to spill responses to, which should not be used for
+   *     anything else
+   * @param maxDiskBytes the maximum total size of the responses spilled to disk
+   * @throws IOException if the directory cannot be created or listed
+   */
+  public LruResponseCache(long maxMemoryBytes, Path spillDirectory, long maxDiskBytes)
+      throws IOException {
+    this.maxMemoryBytes = maxMemoryBytes;
+    this.spillDirectory = spillDirectory;
+    this.maxDiskBytes = maxDiskBytes;
+    Files.createDirectories(spillDirectory);
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(spillDirectory, "*" + FILE_SUFFIX)) {
+      for (Path file : files) {
+        String name = file.getFileName().toString();
+        long size = Files.size(file);
+        disk.put(name.substring(0, name.length() - FILE_SUFFIX.length()), size);
+        diskBytes += size;
+      }
+    }
+    for (String key : trimDisk()) {
+      deleteFile(key);
+    }
+  }
+
+  @Override
+  public CachedResponse get(HttpUrl url) {
+    String key = key(url);
+    synchronized (this) {
+      CachedResponse response = memory.get(key);
+      if (response != null || !removeFromDisk(key)) {
+        return response;
+      }
+    }
+    // The file is read and deleted without holding the lock, so that disk I/O does not block the
+    // other requests. A response spilled again in the meantime only makes a later request miss.
+    CachedResponse response = unspill(key);
+    if (response != null) {
+      List<Map.Entry<String, CachedResponse>> evicted;
+      synchronized (this) {
+        evicted = putInMemory(key, response);
+      }
+      spill(evicted);
+    }
+    return response;
+  }
+
+  @Override
+  public void put(HttpUrl url, CachedResponse response) {
+    String key = key(url);
+    boolean spilled;
+    List<Map.Entry<String, CachedResponse>> evicted;
+    synchronized (this) {
+      spilled = removeFromDisk(key);
+      evicted = putInMemory(key, response);
+    }
+    if (spilled) {
+      deleteFile(key);
+    }
+    spill(evicted);
+  }
+
+  // Returns the entries evicted from memory, which the caller spills once it released the lock.
+  private List<Map.Entry<String, CachedResponse>> putInMemory(String key, CachedResponse response) {
+    CachedResponse previous = memory.put(key, response);
+    if (previous != null) {
+      memoryBytes -= previous.getWeight();
+    }
+    memoryBytes += response.getWeight();
+    List<Map.Entry<String, CachedResponse>> evicted = new ArrayList<>();
+    Iterator<Map.Entry<String, CachedResponse>> eldest = memory.entrySet().iterator();
+    while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+      Map.Entry<String, CachedResponse> entry = eldest.next();
+      eldest.remove();
+      memoryBytes -= entry.getValue().getWeight();
+      evicted.add(entry);
+    }
+    return evicted;
+  }
+
+  private void spill(List<Map.Entry<String, CachedResponse>> evicted) {
+    if (spillDirectory == null) {
+      return;
+    }
+    for (Map.Entry<String, CachedResponse> entry : evicted) {
+      spill(entry.getKey(), entry.getValue());
+    }
+  }
+
+  private void spill(String key, CachedResponse response) {
+    String etag = response.getEtag() == null ? "" : response.getEtag();
+    byte[] content = (etag + "\n" + response.getBody()).getBytes(StandardCharsets.UTF_8);
+    if (content.length > maxDiskBytes) {
+      return;
+    }
+    try {
+      Path temp = Files.createTempFile(spillDirectory, key, ".tmp");
+      try {
+        Files.write(temp, content);
+        Files.move(temp, file(key), StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (IOException e) {
+      return;
+    }
+    List<String> trimmed;
+    synchronized (this) {
+      Long previous = disk.put(key, (long) content.length);
+      if (previous != null) {
+        diskBytes -= previous;
+      }
+      diskBytes += content.length;
+      trimmed = trimDisk();
+    }
+    for (String trimmedKey : trimmed) {
+      deleteFile(trimmedKey);
+    }
+  }
+
+  private CachedResponse unspill(String key) {
+    String content;
+    try {
+      content = new String(Files.readAllBytes(file(key)), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      content = null;
+    }
+    deleteFile(key);
+    int newline = content == null ? -1 : content.indexOf('\n');
+    if (newline < 0) {
+      return null;
+    }
+    String etag = content.substring(0, newline);
+    return new CachedResponse(content.substring(newline + 1), etag.isEmpty() ? null : etag);
+  }
+
+  // Returns the keys evicted from disk, whose files the caller deletes once it released the lock.
+  private List<String> trimDisk() {
+    List<String> trimmed = new ArrayList<>();
+    Iterator<Map.Entry<String, Long>> eldest = disk.entrySet().iterator();
+    while (diskBytes > maxDiskBytes && eldest.hasNext()) {
+      Map.Entry<String, Long> entry = eldest.next();
+      eldest.remove();
+      diskBytes -= entry.getValue();
+      trimmed.add(entry.getKey());
+    }
+    return trimmed;
+  }
+
+  // Forgets a spilled response, subtracting the size recorded when it was spilled rather than the
+  // size of its file, which may have been replaced or deleted since. Returns true if there was one.
+  private boolean removeFromDisk(String key) {
+    Long size = disk.remove(key);
+    if (size == null) {
+      return false;
+    }
+    diskBytes -= size;
+    return true;
+  }
+
+  private void deleteFile(String key) {
+    try {
+      Files.deleteIfExists(file(key));
+    } catch (IOException ignored) {
+      // The file will be overwritten if the response is spilled again.
+    }
+  }
+
+  private Path file(String key) {
+    return spillDirectory.resolve(key + FILE_SUFFIX);
+  }
+
+  private static String key(HttpUrl url) {
+    return Util.bytesToHex(Util.hash(url.toString().getBytes(StandardCharsets.UTF_8)))
+        .toLowerCase();
+  }
+}
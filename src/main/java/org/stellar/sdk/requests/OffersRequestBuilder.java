@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.Asset;
@@ -36,7 +38,20 @@ public class OffersRequestBuilder extends RequestBuilder {
    */
   public OfferResponse offer(HttpUrl uri) {
     TypeToken<OfferResponse> type = new TypeToken<OfferResponse>() {};
-    return executeGetRequest(httpClient, uri, type);
+    return executeGetRequest(uri, type);
+  }
+
+  /**
+   * Like {@link #offer(HttpUrl)}, but without blocking the calling thread.
+   *
+   * @param uri the URI to request
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #offer(HttpUrl)}, or exceptionally with
+   *     the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<OfferResponse> offerFuture(HttpUrl uri, Executor executor) {
+    TypeToken<OfferResponse> type = new TypeToken<OfferResponse>() {};
+    return enqueueGetRequest(uri, type, executor);
   }
 
   /**
@@ -64,6 +79,19 @@ public class OffersRequestBuilder extends RequestBuilder {
     return this.offer(this.buildUri());
   }
 
+  /**
+   * Like {@link #offer(long)}, but without blocking the calling thread.
+   *
+   * @param offerId specifies which offer to load.
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #offer(long)}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<OfferResponse> offerFuture(long offerId, Executor executor) {
+    this.setSegments("offers", String.valueOf(offerId));
+    return this.offerFuture(this.buildUri(), executor);
+  }
+
   /**
    * Returns all offers sponsored by a given account.
    *
@@ -172,7 +200,37 @@ public class OffersRequestBuilder extends RequestBuilder {
    *     IOException, including but not limited to a timeout, connection failure etc.
    */
   public Page<OfferResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<OfferResponse>> type = new TypeToken<Page<OfferResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<OfferResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<OfferResponse>> type = new TypeToken<Page<OfferResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<OfferResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<OfferResponse>> type = new TypeToken<Page<OfferResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<OfferResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
   }
 
   @Override
@@ -3,6 +3,8 @@ package org.stellar.sdk.requests;
 import com.google.gson.reflect.TypeToken;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.NonNull;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -41,7 +43,20 @@ public class OperationsRequestBuilder extends RequestBuilder {
    */
   public OperationResponse operation(HttpUrl uri) {
     TypeToken<OperationResponse> type = new TypeToken<OperationResponse>() {};
-    return executeGetRequest(httpClient, uri, type);
+    return executeGetRequest(uri, type);
+  }
+
+  /**
+   * Like {@link #operation(HttpUrl)}, but without blocking the calling thread.
+   *
+   * @param uri the URI to request
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #operation(HttpUrl)}, or exceptionally
+   *     with the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<OperationResponse> operationFuture(HttpUrl uri, Executor executor) {
+    TypeToken<OperationResponse> type = new TypeToken<OperationResponse>() {};
+    return enqueueGetRequest(uri, type, executor);
   }
 
   /**
@@ -71,6 +86,19 @@ public class OperationsRequestBuilder extends RequestBuilder {
     return this.operation(this.buildUri());
   }
 
+  /**
+   * Like {@link #operation(long)}, but without blocking the calling thread.
+   *
+   * @param operationId Operation to fetch
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #operation(long)}, or exceptionally with
+   *     the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<OperationResponse> operationFuture(long operationId, Executor executor) {
+    this.setSegments("operations", String.valueOf(operationId));
+    return this.operationFuture(this.buildUri(), executor);
+  }
+
   /**
    * Builds request to <code>GET /accounts/{account}/operations</code>
    *
@@ -228,7 +256,61 @@ public class OperationsRequestBuilder extends RequestBuilder {
    *     IOException, including but not limited to a timeout, connection failure etc.
    */
   public Page<OperationResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<OperationResponse>> type = new TypeToken<Page<OperationResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<OperationResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<OperationResponse>> type = new TypeToken<Page<OperationResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<OperationResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<OperationResponse>> type = new TypeToken<Page<OperationResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<OperationResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
+  }
+
+  /**
+   * Build the request and iterate over the operations of a range of ledgers in ascending order. The
+   * range is split into windows of TOID cursors, which are paged concurrently, and the operations
+   * are returned in TOID order. The cursor, order and limit of this request are ignored.
+   *
+   * @param fromLedger the first ledger of the range
+   * @param toLedger the last ledger of the range, inclusive
+   * @param options the window and parallelism options
+   * @return an iterator over the operations, which should be closed if it isn't iterated to its end
+   * @see org.stellar.sdk.TOID#ledgerRangeInclusive(int, int)
+   */
+  public BackfillIterator<OperationResponse> backfill(
+      int fromLedger, int toLedger, BackfillOptions options) {
+    TypeToken<Page<OperationResponse>> type = new TypeToken<Page<OperationResponse>>() {};
+    return backfillIterator(type, fromLedger, toLedger, options);
+  }
+
+  /**
+   * An overloaded version of {@link #backfill(int, int, BackfillOptions)} with the default options.
+   */
+  public BackfillIterator<OperationResponse> backfill(int fromLedger, int toLedger) {
+    return backfill(fromLedger, toLedger, BackfillOptions.DEFAULT);
   }
 
   @Override
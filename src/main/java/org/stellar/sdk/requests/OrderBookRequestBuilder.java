@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.Asset;
@@ -104,7 +106,20 @@ public class OrderBookRequestBuilder extends RequestBuilder {
    *     due to cancellation or connectivity problems, etc.
    */
   public OrderBookResponse execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<OrderBookResponse> type = new TypeToken<OrderBookResponse>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<OrderBookResponse> executeFuture(Executor executor) {
+    TypeToken<OrderBookResponse> type = new TypeToken<OrderBookResponse>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
   }
 
   @Override
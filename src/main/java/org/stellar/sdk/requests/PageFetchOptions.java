@@ -0,0 +1,40 @@
+package org.stellar.sdk.requests;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options of the {@link PageIterator} returned by the {@code iterator} methods of the request
+ * builders.
+ *
+ * <p>By default, the iterator keeps downloading up to two pages ahead of the caller and leaves the
+ * page size to the request. Setting {@link #getTargetPageLatencyMillis()} makes it grow or shrink
+ * the <code>limit</code> of the following pages, within {@link #getMinLimit()} and {@link
+ * #getMaxLimit()}, so that each page takes about that long to download.
+ */
+@Value
+@Builder(toBuilder = true)
+public class PageFetchOptions {
+  /** The default options. */
+  public static final PageFetchOptions DEFAULT = PageFetchOptions.builder().build();
+
+  /**
+   * The maximum number of pages downloaded ahead of the caller and held until it reaches them. At
+   * most one page is downloaded at a time, because the link to a page is only known once the page
+   * before it has been received.
+   */
+  @Builder.Default int prefetchPages = 2;
+
+  /**
+   * The time each page should take to download, in milliseconds, or 0 to keep the <code>limit
+   * </code> of the request for all pages. Pages that download in less than half this time double
+   * the limit of the following pages, and pages that take longer than this time halve it.
+   */
+  @Builder.Default long targetPageLatencyMillis = 0;
+
+  /** The smallest <code>limit</code> the page size is adapted to. */
+  @Builder.Default int minLimit = 10;
+
+  /** The largest <code>limit</code> the page size is adapted to, which is capped by Horizon. */
+  @Builder.Default int maxLimit = 200;
+}
@@ -0,0 +1,231 @@
+package org.stellar.sdk.requests;
+
+import com.google.gson.reflect.TypeToken;
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.stellar.sdk.exception.ConnectionErrorException;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.responses.Page;
+
+/**
+ * An iterator over the records of all the pages of a collection, which follows the <code>next
+ * </code> links of the pages and downloads the following pages in the background while the caller
+ * processes the records of the current one.
+ *
+ * <pre>
+ * try (PageIterator&lt;OperationResponse&gt; operations =
+ *     server.operations().forAccount(accountId).limit(200).iterator()) {
+ *   while (operations.hasNext()) {
+ *     OperationResponse operation = operations.next();
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>The iteration ends at the first empty page, or at a page without a <code>next</code> link. A
+ * failed download is thrown from {@link #hasNext()} or {@link #next()}, after the records of the
+ * pages received before it, as the same {@link org.stellar.sdk.exception.NetworkException} that
+ * {@code execute()} would throw. Closing the iterator cancels the download in progress, so an
+ * iterator that is abandoned before its end should be closed.
+ *
+ * <p>An iterator must not be used by several threads at the same time.
+ *
+ * @param <T> the type of the records
+ * @see PageFetchOptions
+ */
+public class PageIterator<T> implements Iterator<T>, Closeable {
+  private static final int HORIZON_DEFAULT_LIMIT = 10;
+
+  private final OkHttpClient httpClient;
+  private final TypeToken<Page<T>> type;
+  private final PageFetchOptions options;
+  // Whether a record lies past the end of the iteration, or null to follow all the pages.
+  private final Predicate<T> isPastEnd;
+
+  // Guarded by this, as downloads complete on the threads of the HTTP client.
+  private final ArrayDeque<Page<T>> pages = new ArrayDeque<>();
+  // The URL of the next page to download, or null if it is unknown or there are no more pages.
+  private HttpUrl nextUrl;
+  private int limit;
+  private CompletableFuture<Page<T>> download;
+  private RuntimeException failure;
+  private boolean closed;
+
+  // The remaining records of the current page.
+  private Iterator<T> records = Collections.emptyIterator();
+
+  PageIterator(
+      OkHttpClient httpClient, HttpUrl url, TypeToken<Page<T>> type, PageFetchOptions options) {
+    this(httpClient, url, type, options, null);
+  }
+
+  // Stops following the next links after the first page whose last record is past the end. The
+  // records past the end are still returned, the caller is expected to skip them.
+  PageIterator(
+      OkHttpClient httpClient,
+      HttpUrl url,
+      TypeToken<Page<T>> type,
+      PageFetchOptions options,
+      Predicate<T> isPastEnd) {
+    if (options.getPrefetchPages() < 1) {
+      throw new IllegalArgumentException("prefetchPages must be positive");
+    }
+    if (options.getMinLimit() < 1 || options.getMaxLimit() < options.getMinLimit()) {
+      throw new IllegalArgumentException("Invalid minLimit and maxLimit");
+    }
+    this.httpClient = httpClient;
+    this.type = type;
+    this.options = options;
+    this.isPastEnd = isPastEnd;
+    String limitParameter = url.queryParameter("limit");
+    this.limit = limitParameter == null ? HORIZON_DEFAULT_LIMIT : Integer.parseInt(limitParameter);
+    this.nextUrl = url;
+    synchronized (this) {
+      fetch();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!records.hasNext()) {
+      Page<T> page = takePage();
+      if (page == null) {
+        return false;
+      }
+      records = page.getRecords().iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return records.next();
+  }
+
+  /** Returns a spliterator over the remaining records. */
+  public Spliterator<T> spliterator() {
+    return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+
+  /**
+   * Returns a sequential stream of the remaining records. Closing the stream closes this iterator.
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false).onClose(this::close);
+  }
+
+  /** Cancels the download in progress and drops the pages downloaded ahead. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      pages.clear();
+      if (download != null) {
+        download.cancel(true);
+      }
+      notifyAll();
+    }
+    records = Collections.emptyIterator();
+  }
+
+  // Waits for the next page, and returns it, or null at the end of the iteration.
+  private synchronized Page<T> takePage() {
+    while (pages.isEmpty() && download != null && !closed) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ConnectionErrorException(e);
+      }
+    }
+    Page<T> page = pages.poll();
+    if (page != null) {
+      fetch();
+      return page;
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return null;
+  }
+
+  // Starts downloading the next page, unless a download is in progress, enough pages are waiting
+  // for the caller, or the iteration has ended.
+  private void fetch() {
+    if (download != null
+        || nextUrl == null
+        || failure != null
+        || closed
+        || pages.size() >= options.getPrefetchPages()) {
+      return;
+    }
+    HttpUrl url = nextUrl;
+    nextUrl = null;
+    long start = System.nanoTime();
+    Request request = new Request.Builder().get().url(url).build();
+    ResponseHandler<Page<T>> responseHandler = new ResponseHandler<>(type);
+    download = responseHandler.enqueue(httpClient.newCall(request), false, Runnable::run);
+    download.whenComplete((page, e) -> onDownload(url, page, e, System.nanoTime() - start));
+  }
+
+  private synchronized void onDownload(HttpUrl url, Page<T> page, Throwable e, long nanos) {
+    download = null;
+    if (closed) {
+      return;
+    }
+    if (e != null) {
+      Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+      failure =
+          cause instanceof RuntimeException
+              ? (RuntimeException) cause
+              : new UnexpectedException(cause);
+    } else if (page.getRecords() != null && !page.getRecords().isEmpty()) {
+      pages.add(page);
+      List<T> pageRecords = page.getRecords();
+      if (isPastEnd == null || !isPastEnd.test(pageRecords.get(pageRecords.size() - 1))) {
+        nextUrl = nextUrl(url, page, nanos);
+      }
+      fetch();
+    }
+    notifyAll();
+  }
+
+  private HttpUrl nextUrl(HttpUrl url, Page<T> page, long nanos) {
+    if (page.getLinks() == null || page.getLinks().getNext() == null) {
+      return null;
+    }
+    HttpUrl next = url.resolve(page.getLinks().getNext().getHref());
+    if (next == null || next.equals(url)) {
+      return null;
+    }
+    long targetMillis = options.getTargetPageLatencyMillis();
+    if (targetMillis <= 0) {
+      return next;
+    }
+    long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+    if (millis < targetMillis / 2) {
+      limit *= 2;
+    } else if (millis > targetMillis) {
+      limit /= 2;
+    }
+    limit = Math.max(options.getMinLimit(), Math.min(options.getMaxLimit(), limit));
+    return next.newBuilder().setQueryParameter("limit", String.valueOf(limit)).build();
+  }
+}
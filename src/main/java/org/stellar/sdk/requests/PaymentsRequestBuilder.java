@@ -3,6 +3,8 @@ package org.stellar.sdk.requests;
 import com.google.gson.reflect.TypeToken;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.NonNull;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -150,7 +152,61 @@ public class PaymentsRequestBuilder extends RequestBuilder {
    *     due to cancellation or connectivity problems, etc.
    */
   public Page<OperationResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<OperationResponse>> type = new TypeToken<Page<OperationResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<OperationResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<OperationResponse>> type = new TypeToken<Page<OperationResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<OperationResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<OperationResponse>> type = new TypeToken<Page<OperationResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<OperationResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
+  }
+
+  /**
+   * Build the request and iterate over the payments of a range of ledgers in ascending order. The
+   * range is split into windows of TOID cursors, which are paged concurrently, and the payments are
+   * returned in TOID order. The cursor, order and limit of this request are ignored.
+   *
+   * @param fromLedger the first ledger of the range
+   * @param toLedger the last ledger of the range, inclusive
+   * @param options the window and parallelism options
+   * @return an iterator over the payments, which should be closed if it isn't iterated to its end
+   * @see org.stellar.sdk.TOID#ledgerRangeInclusive(int, int)
+   */
+  public BackfillIterator<OperationResponse> backfill(
+      int fromLedger, int toLedger, BackfillOptions options) {
+    TypeToken<Page<OperationResponse>> type = new TypeToken<Page<OperationResponse>>() {};
+    return backfillIterator(type, fromLedger, toLedger, options);
+  }
+
+  /**
+   * An overloaded version of {@link #backfill(int, int, BackfillOptions)} with the default options.
+   */
+  public BackfillIterator<OperationResponse> backfill(int fromLedger, int toLedger) {
+    return backfill(fromLedger, toLedger, BackfillOptions.DEFAULT);
   }
 
   @Override
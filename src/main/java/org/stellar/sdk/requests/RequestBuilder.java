@@ -6,6 +6,8 @@ import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -16,6 +18,9 @@ import org.stellar.sdk.AssetTypeNative;
 import org.stellar.sdk.exception.ConnectionErrorException;
 import org.stellar.sdk.exception.RequestTimeoutException;
 import org.stellar.sdk.exception.TooManyRequestsException;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.responses.Page;
+import org.stellar.sdk.responses.Pageable;
 
 /** Abstract class for request builders. */
 public abstract class RequestBuilder {
@@ -23,6 +28,8 @@ public abstract class RequestBuilder {
   protected OkHttpClient httpClient;
   private final ArrayList<String> segments;
   private boolean segmentsAdded;
+  private RequestCoalescer requestCoalescer;
+  private ResponseCache responseCache;
 
   RequestBuilder(OkHttpClient httpClient, HttpUrl serverURI, String defaultSegment) {
     this.httpClient = httpClient;
@@ -142,6 +149,30 @@ public abstract class RequestBuilder {
     }
   }
 
+  /**
+   * Sets the coalescer which shares the GET requests of this builder with the identical requests in
+   * flight, or disables coalescing if it is null, which is the default. {@link
+   * org.stellar.sdk.Server} sets its own coalescer on the builders it creates.
+   *
+   * @param requestCoalescer the coalescer, or null
+   * @see RequestCoalescer
+   */
+  public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+    this.requestCoalescer = requestCoalescer;
+  }
+
+  /**
+   * Sets the cache used by the blocking GET requests of this builder, or disables caching if it is
+   * null, which is the default. {@link org.stellar.sdk.Server} sets its own cache on the builders
+   * it creates.
+   *
+   * @param responseCache the cache, or null
+   * @see ResponseCache
+   */
+  public void setResponseCache(ResponseCache responseCache) {
+    this.responseCache = responseCache;
+  }
+
   /**
    * Executes a GET request and handles the response.
    *
@@ -166,20 +197,101 @@ public abstract class RequestBuilder {
    *     connectivity problems, etc.
    */
   static <T> T executeGetRequest(OkHttpClient httpClient, HttpUrl url, TypeToken<T> typeToken) {
+    return executeGetRequest(httpClient, url, typeToken, null);
+  }
+
+  // Like executeGetRequest, answered from the cache, or revalidated against it, if it is not null.
+  private static <T> T executeGetRequest(
+      OkHttpClient httpClient, HttpUrl url, TypeToken<T> typeToken, ResponseCache cache) {
     ResponseHandler<T> responseHandler = new ResponseHandler<>(typeToken);
+    boolean immutable = cache != null && ResponseCache.isImmutable(url);
+    CachedResponse cached = cache == null ? null : cache.get(url);
+    if (cached != null && immutable) {
+      return cached.parse(typeToken);
+    }
 
-    Request request = new Request.Builder().get().url(url).build();
+    Request.Builder requestBuilder = new Request.Builder().get().url(url);
+    if (cached != null && cached.getEtag() != null) {
+      requestBuilder.header("If-None-Match", cached.getEtag());
+    }
     Response response;
     try {
-      response = httpClient.newCall(request).execute();
+      response = httpClient.newCall(requestBuilder.build()).execute();
     } catch (SocketTimeoutException e) {
       throw new RequestTimeoutException(e);
     } catch (IOException e) {
       throw new ConnectionErrorException(e);
     }
+
+    if (cached != null && response.code() == 304) {
+      response.close();
+      return cached.parse(typeToken);
+    }
+    String etag = response.header("ETag");
+    if (cache != null && response.isSuccessful() && (immutable || etag != null)) {
+      String body;
+      try {
+        body = response.body().string();
+      } catch (IOException e) {
+        throw new UnexpectedException("Unexpected error reading response", e);
+      } finally {
+        response.close();
+      }
+      CachedResponse fresh = new CachedResponse(body, etag);
+      T object = fresh.parse(typeToken);
+      cache.put(url, fresh);
+      return object;
+    }
     return responseHandler.handleResponse(response);
   }
 
+  static <T> CompletableFuture<T> enqueueGetRequest(
+      OkHttpClient httpClient, HttpUrl url, TypeToken<T> typeToken, Executor executor) {
+    ResponseHandler<T> responseHandler = new ResponseHandler<>(typeToken);
+
+    Request request = new Request.Builder().get().url(url).build();
+    return responseHandler.enqueue(httpClient.newCall(request), false, executor);
+  }
+
+  // Like executeGetRequest, with the client and the cache of this builder, and shared with the
+  // identical requests in flight if a coalescer is set.
+  <T> T executeGetRequest(HttpUrl url, TypeToken<T> typeToken) {
+    RequestCoalescer coalescer = requestCoalescer;
+    ResponseCache cache = responseCache;
+    if (coalescer == null) {
+      return executeGetRequest(httpClient, url, typeToken, cache);
+    }
+    return coalescer.execute(
+        coalescingKey(url, typeToken), () -> executeGetRequest(httpClient, url, typeToken, cache));
+  }
+
+  // Like enqueueGetRequest, with the client of this builder, and shared with the identical requests
+  // in flight if a coalescer is set.
+  <T> CompletableFuture<T> enqueueGetRequest(
+      HttpUrl url, TypeToken<T> typeToken, Executor executor) {
+    RequestCoalescer coalescer = requestCoalescer;
+    if (coalescer == null) {
+      return enqueueGetRequest(httpClient, url, typeToken, executor);
+    }
+    return coalescer.enqueue(
+        coalescingKey(url, typeToken),
+        () -> enqueueGetRequest(httpClient, url, typeToken, executor),
+        executor);
+  }
+
+  private static List<Object> coalescingKey(HttpUrl url, TypeToken<?> typeToken) {
+    return Arrays.asList("GET", url, typeToken);
+  }
+
+  <T> PageIterator<T> pageIterator(TypeToken<Page<T>> type, PageFetchOptions options) {
+    return new PageIterator<>(httpClient, this.buildUri(), type, options);
+  }
+
+  <T extends Pageable> BackfillIterator<T> backfillIterator(
+      TypeToken<Page<T>> type, int fromLedger, int toLedger, BackfillOptions options) {
+    return new BackfillIterator<>(httpClient, this.buildUri(), type, fromLedger, toLedger, options);
+  }
+
   static String getAssetType(Asset asset) {
     String assetType;
     switch (asset.getType()) {
@@ -0,0 +1,112 @@
+package org.stellar.sdk.requests;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical requests which are in flight at the same time, so that they share one network
+ * call and one parsed result.
+ *
+ * <p>A request is identified by a key, such as its method, URL and response type. The first caller
+ * of a key makes the call, and the callers which ask for the same key before the call completes
+ * wait for it and receive the same result object, or the same exception. Once the call completes,
+ * the next request for the key makes a new call, so results are never reused after the fact.
+ *
+ * <p>As results are shared between callers, they must not be modified. Cancelling a future returned
+ * by {@link #enqueue(Object, Supplier, Executor)} only cancels the future of that caller, the call
+ * itself completes for the other callers.
+ *
+ * <p>An instance is thread-safe, and is usually shared by all the requests of a {@link
+ * org.stellar.sdk.Server} or a {@link org.stellar.sdk.SorobanServer}, with {@code
+ * setRequestCoalescer}.
+ */
+public class RequestCoalescer {
+  private final ConcurrentHashMap<Object, CompletableFuture<?>> inFlight =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Makes a blocking call, or waits for the identical call in flight.
+   *
+   * @param key the key of the request, which must implement equals and hashCode
+   * @param call makes the call and returns its result
+   * @param <T> the type of the result
+   * @return the result of the call
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Object key, Supplier<T> call) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    CompletableFuture<?> existing = inFlight.putIfAbsent(key, future);
+    if (existing != null) {
+      return (T) join(existing);
+    }
+    try {
+      T result = call.get();
+      inFlight.remove(key, future);
+      future.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(key, future);
+      future.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Starts an asynchronous call, or returns a future of the identical call in flight.
+   *
+   * <p>The call is expected to complete its future on the executor. A caller which joins a call in
+   * flight has its future completed on its own executor, rather than on the one of the caller which
+   * started the call.
+   *
+   * @param key the key of the request, which must implement equals and hashCode
+   * @param call starts the call and returns a future of its result
+   * @param executor the executor to complete the future of this caller on
+   * @param <T> the type of the result
+   * @return a future of the result of the call, owned by the caller
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> enqueue(
+      Object key, Supplier<CompletableFuture<T>> call, Executor executor) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    CompletableFuture<?> existing = inFlight.putIfAbsent(key, future);
+    if (existing != null) {
+      return ((CompletableFuture<T>) existing).thenApplyAsync(Function.identity(), executor);
+    }
+    try {
+      call.get()
+          .whenComplete(
+              (result, failure) -> {
+                inFlight.remove(key, future);
+                if (failure == null) {
+                  future.complete(result);
+                } else {
+                  future.completeExceptionally(failure);
+                }
+              });
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(key, future);
+      future.completeExceptionally(e);
+      throw e;
+    }
+    return future.thenApply(Function.identity());
+  }
+
+  private static Object join(CompletableFuture<?> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      // Rethrows the exception of the call, as the blocking methods would have thrown it.
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
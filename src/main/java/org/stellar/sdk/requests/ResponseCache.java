@@ -0,0 +1,60 @@
+package org.stellar.sdk.requests;
+
+import okhttp3.HttpUrl;
+
+/**
+ * A cache of Horizon responses, used by the blocking GET requests of the request builders once it
+ * is set with {@link org.stellar.sdk.Server#setResponseCache(ResponseCache)}, or on a single
+ * builder with {@link RequestBuilder#setResponseCache(ResponseCache)}.
+ *
+ * <p>Responses of the routes that {@link #isImmutable(HttpUrl)} are cached and returned without
+ * contacting Horizon. Responses of other routes are only cached if Horizon sent an <code>ETag
+ * </code>, and are revalidated with an <code>If-None-Match</code> request, which Horizon can answer
+ * with <code>304 Not Modified</code> instead of the whole resource. Only successful responses are
+ * cached.
+ *
+ * <p>The cache has limits callers should know about:
+ *
+ * <ul>
+ *   <li>Only the blocking GET requests go through it. The {@code CompletableFuture} variants, the
+ *       prefetching iterators and the backfill iterators always contact Horizon, and neither read
+ *       nor fill the cache.
+ *   <li>The body of a response that is cached is read into a string before it is parsed, instead of
+ *       being parsed from the body stream like the responses that are not cached, so the cache
+ *       suits single resources and small pages rather than large pages.
+ *   <li>The object parsed from a cached response is returned to every request of the same response
+ *       type that the cache answers. It is shared by all these callers, so it must not be modified.
+ * </ul>
+ *
+ * <p>Implementations must be thread-safe, as they may be shared by several servers. {@link
+ * LruResponseCache} is a size-bounded implementation which can spill to disk.
+ */
+public interface ResponseCache {
+  /**
+   * Returns the cached response of a URL.
+   *
+   * @param url the URL of the request
+   * @return the cached response, or null if there is none
+   */
+  CachedResponse get(HttpUrl url);
+
+  /**
+   * Caches the response of a URL, replacing any response cached for it.
+   *
+   * @param url the URL of the request
+   * @param response the response to cache
+   */
+  void put(HttpUrl url, CachedResponse response);
+
+  /**
+   * Returns true if the response of a URL never changes once it has been successfully returned.
+   * These are single ledgers, transactions and operations. Their sub-collections, such as the
+   * transactions of a ledger, are not immutable, as they are an empty page until the ledger closes.
+   *
+   * @param url the URL of the request
+   * @return true if the response of the URL is immutable
+   */
+  static boolean isImmutable(HttpUrl url) {
+    return ImmutableRoutes.matches(url.pathSegments());
+  }
+}
@@ -1,10 +1,21 @@
 package org.stellar.sdk.requests;
 
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
+import java.io.FilterReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.Response;
 import org.stellar.sdk.exception.BadRequestException;
 import org.stellar.sdk.exception.BadResponseException;
+import org.stellar.sdk.exception.ConnectionErrorException;
+import org.stellar.sdk.exception.NetworkException;
 import org.stellar.sdk.exception.RequestTimeoutException;
 import org.stellar.sdk.exception.TooManyRequestsException;
 import org.stellar.sdk.exception.UnexpectedException;
@@ -82,20 +93,18 @@ public class ResponseHandler<T> {
         throw new UnexpectedException("Unexpected empty response body");
       }
 
+      if (response.code() >= 200 && response.code() < 300) {
+        // Parses the body while it is downloaded, pages can be megabytes long.
+        return parse(response.body().charStream(), type);
+      }
+
+      // Only error bodies are read whole, as they are kept by the exceptions.
       try {
         content = response.body().string();
       } catch (IOException e) {
         throw new UnexpectedException("Unexpected error reading response", e);
       }
 
-      if (response.code() >= 200 && response.code() < 300) {
-        T object = GsonSingleton.getInstance().fromJson(content, type.getType());
-        if (object instanceof TypedResponse) {
-          ((TypedResponse<T>) object).setType(type);
-        }
-        return object;
-      }
-
       // Other errors
       if (response.code() >= 400 && response.code() < 600) {
         Problem problem = null;
@@ -133,4 +142,114 @@ public class ResponseHandler<T> {
       response.close();
     }
   }
+
+  // Parses the body of a successful response.
+  static <T> T parse(String content, TypeToken<T> type) {
+    return setType(GsonSingleton.getInstance().fromJson(content, type.getType()), type);
+  }
+
+  // Parses the body of a successful response from a stream.
+  static <T> T parse(Reader content, TypeToken<T> type) {
+    FailureRecordingReader reader = new FailureRecordingReader(content);
+    T object;
+    try {
+      object = GsonSingleton.getInstance().fromJson(reader, type.getType());
+    } catch (JsonParseException e) {
+      // Gson reports the errors of the stream as syntax errors.
+      if (reader.failure != null) {
+        throw new UnexpectedException("Unexpected error reading response", reader.failure);
+      }
+      throw e;
+    }
+    return setType(object, type);
+  }
+
+  private static <T> T setType(T object, TypeToken<T> type) {
+    if (object instanceof TypedResponse) {
+      ((TypedResponse<T>) object).setType(type);
+    }
+    return object;
+  }
+
+  /**
+   * Enqueues the call without blocking the calling thread, and handles its response like {@link
+   * #handleResponse(Response, boolean)}.
+   *
+   * <p>The response is handled, and the returned future is completed, on the specified executor.
+   * The future is completed exceptionally with the {@link NetworkException} that a blocking call
+   * would throw: {@link RequestTimeoutException} if the call times out, and {@link
+   * ConnectionErrorException} if it fails for any other I/O reason. Cancelling the future cancels
+   * the call.
+   *
+   * @param call The HTTP call to enqueue, it must not have been executed yet
+   * @param submitTransactionAsync Only set it to true when submitting a transaction to <code>
+   *     /transactions_async</code>.
+   * @param executor The executor to handle the response and complete the future on, use <code>
+   *     Runnable::run</code> to do so on the HTTP client's dispatcher thread
+   * @return A future completed with the parsed object of type T
+   */
+  public CompletableFuture<T> enqueue(
+      final Call call, final boolean submitTransactionAsync, final Executor executor) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    future.whenComplete(
+        (result, e) -> {
+          if (e instanceof CancellationException) {
+            call.cancel();
+          }
+        });
+    call.enqueue(
+        new Callback() {
+          @Override
+          public void onResponse(Call call, Response response) {
+            try {
+              executor.execute(
+                  () -> {
+                    try {
+                      future.complete(handleResponse(response, submitTransactionAsync));
+                    } catch (RuntimeException e) {
+                      future.completeExceptionally(e);
+                    }
+                  });
+            } catch (RuntimeException e) {
+              response.close();
+              future.completeExceptionally(e);
+            }
+          }
+
+          @Override
+          public void onFailure(Call call, IOException e) {
+            NetworkException exception =
+                e instanceof SocketTimeoutException
+                    ? new RequestTimeoutException(e)
+                    : new ConnectionErrorException(e);
+            try {
+              executor.execute(() -> future.completeExceptionally(exception));
+            } catch (RuntimeException rejected) {
+              future.completeExceptionally(exception);
+            }
+          }
+        });
+    return future;
+  }
+
+  // Remembers the first error of the underlying reader.
+  private static final class FailureRecordingReader extends FilterReader {
+    private IOException failure;
+
+    FailureRecordingReader(Reader in) {
+      super(in);
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+      try {
+        return super.read(buffer, offset, length);
+      } catch (IOException e) {
+        if (failure == null) {
+          failure = e;
+        }
+        throw e;
+      }
+    }
+  }
 }
@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.exception.TooManyRequestsException;
@@ -33,6 +35,18 @@ public class RootRequestBuilder extends RequestBuilder {
    */
   public RootResponse execute() {
     TypeToken<RootResponse> type = new TypeToken<RootResponse>() {};
-    return executeGetRequest(httpClient, this.buildUri(), type);
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<RootResponse> executeFuture(Executor executor) {
+    TypeToken<RootResponse> type = new TypeToken<RootResponse>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
   }
 }
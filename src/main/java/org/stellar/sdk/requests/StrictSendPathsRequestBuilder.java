@@ -2,6 +2,8 @@ package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.Asset;
@@ -95,6 +97,19 @@ public class StrictSendPathsRequestBuilder extends RequestBuilder {
    *     due to cancellation or connectivity problems, etc.
    */
   public Page<PathResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<PathResponse>> type = new TypeToken<Page<PathResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<PathResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<PathResponse>> type = new TypeToken<Page<PathResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
   }
 }
@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.Asset;
@@ -96,6 +98,39 @@ public class TradeAggregationsRequestBuilder extends RequestBuilder {
    *     due to cancellation or connectivity problems, etc.
    */
   public Page<TradeAggregationResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<TradeAggregationResponse>> type =
+        new TypeToken<Page<TradeAggregationResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<TradeAggregationResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<TradeAggregationResponse>> type =
+        new TypeToken<Page<TradeAggregationResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<TradeAggregationResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<TradeAggregationResponse>> type =
+        new TypeToken<Page<TradeAggregationResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<TradeAggregationResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
   }
 }
@@ -1,6 +1,8 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.NonNull;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -36,7 +38,20 @@ public class TransactionsRequestBuilder extends RequestBuilder {
    */
   public TransactionResponse transaction(HttpUrl uri) {
     TypeToken<TransactionResponse> type = new TypeToken<TransactionResponse>() {};
-    return executeGetRequest(httpClient, uri, type);
+    return executeGetRequest(uri, type);
+  }
+
+  /**
+   * Like {@link #transaction(HttpUrl)}, but without blocking the calling thread.
+   *
+   * @param uri the URI to request
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #transaction(HttpUrl)}, or exceptionally
+   *     with the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<TransactionResponse> transactionFuture(HttpUrl uri, Executor executor) {
+    TypeToken<TransactionResponse> type = new TypeToken<TransactionResponse>() {};
+    return enqueueGetRequest(uri, type, executor);
   }
 
   /**
@@ -66,6 +81,20 @@ public class TransactionsRequestBuilder extends RequestBuilder {
     return this.transaction(this.buildUri());
   }
 
+  /**
+   * Like {@link #transaction(String)}, but without blocking the calling thread.
+   *
+   * @param transactionId Transaction to fetch
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #transaction(String)}, or exceptionally
+   *     with the {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<TransactionResponse> transactionFuture(
+      String transactionId, Executor executor) {
+    this.setSegments("transactions", transactionId);
+    return this.transactionFuture(this.buildUri(), executor);
+  }
+
   /**
    * Builds request to <code>GET /accounts/{account}/transactions</code>
    *
@@ -198,7 +227,63 @@ public class TransactionsRequestBuilder extends RequestBuilder {
    *     due to cancellation or connectivity problems, etc.
    */
   public Page<TransactionResponse> execute() {
-    return execute(this.httpClient, this.buildUri());
+    TypeToken<Page<TransactionResponse>> type = new TypeToken<Page<TransactionResponse>>() {};
+    return executeGetRequest(this.buildUri(), type);
+  }
+
+  /**
+   * Build and execute request without blocking the calling thread.
+   *
+   * @param executor the executor to handle the response and complete the future on
+   * @return a future completed with the result of {@link #execute()}, or exceptionally with the
+   *     {@link org.stellar.sdk.exception.NetworkException} it would throw
+   */
+  public CompletableFuture<Page<TransactionResponse>> executeFuture(Executor executor) {
+    TypeToken<Page<TransactionResponse>> type = new TypeToken<Page<TransactionResponse>>() {};
+    return enqueueGetRequest(this.buildUri(), type, executor);
+  }
+
+  /**
+   * Build the request and iterate over the records of all its pages, which are downloaded in the
+   * background ahead of the iteration.
+   *
+   * @param options the prefetch and page size options
+   * @return an iterator over the records, which should be closed if it isn't iterated to its end
+   */
+  public PageIterator<TransactionResponse> iterator(PageFetchOptions options) {
+    TypeToken<Page<TransactionResponse>> type = new TypeToken<Page<TransactionResponse>>() {};
+    return pageIterator(type, options);
+  }
+
+  /** An overloaded version of {@link #iterator(PageFetchOptions)} with the default options. */
+  public PageIterator<TransactionResponse> iterator() {
+    return iterator(PageFetchOptions.DEFAULT);
+  }
+
+  /**
+   * Build the request and iterate over the transactions of a range of ledgers in ascending order.
+   * The range is split into windows of TOID cursors, which are paged concurrently, and the
+   * transactions are returned in TOID order. The cursor, order and limit of this request are
+   * ignored.
+   *
+   * @param fromLedger the first ledger of the range
+   * @param toLedger the last ledger of the range, inclusive
+   * @param options the window and parallelism options
+   * @return an iterator over the transactions, which should be closed if it isn't iterated to its
+   *     end
+   * @see org.stellar.sdk.TOID#ledgerRangeInclusive(int, int)
+   */
+  public BackfillIterator<TransactionResponse> backfill(
+      int fromLedger, int toLedger, BackfillOptions options) {
+    TypeToken<Page<TransactionResponse>> type = new TypeToken<Page<TransactionResponse>>() {};
+    return backfillIterator(type, fromLedger, toLedger, options);
+  }
+
+  /**
+   * An overloaded version of {@link #backfill(int, int, BackfillOptions)} with the default options.
+   */
+  public BackfillIterator<TransactionResponse> backfill(int fromLedger, int toLedger) {
+    return backfill(fromLedger, toLedger, BackfillOptions.DEFAULT);
   }
 
   @Override
@@ -0,0 +1,145 @@
+package org.stellar.sdk.responses.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigInteger;
+import org.stellar.sdk.responses.LedgerResponse;
+
+/**
+ * Reads a {@link LedgerResponse} field by field from the JSON stream, instead of setting its fields
+ * by reflection. Writing is left to the reflective adapter.
+ */
+final class LedgerResponseAdapter extends TypeAdapter<LedgerResponse> {
+  private final TypeAdapter<LedgerResponse> delegate;
+  private final TypeAdapter<String> strings;
+  private final TypeAdapter<Long> longs;
+  private final TypeAdapter<Integer> integers;
+  private final TypeAdapter<BigInteger> bigIntegers;
+  private final TypeAdapter<LedgerResponse.Links> links;
+
+  LedgerResponseAdapter(Gson gson, TypeAdapter<LedgerResponse> delegate) {
+    this.delegate = delegate;
+    this.strings = gson.getAdapter(String.class);
+    this.longs = gson.getAdapter(Long.class);
+    this.integers = gson.getAdapter(Integer.class);
+    this.bigIntegers = gson.getAdapter(BigInteger.class);
+    this.links = gson.getAdapter(LedgerResponse.Links.class);
+  }
+
+  @Override
+  public LedgerResponse read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    String id = null;
+    String pagingToken = null;
+    String hash = null;
+    String prevHash = null;
+    Long sequence = null;
+    Integer successfulTransactionCount = null;
+    Integer failedTransactionCount = null;
+    Integer operationCount = null;
+    Integer txSetOperationCount = null;
+    String closedAt = null;
+    String totalCoins = null;
+    String feePool = null;
+    BigInteger baseFeeInStroops = null;
+    BigInteger baseReserveInStroops = null;
+    Integer maxTxSetSize = null;
+    Integer protocolVersion = null;
+    String headerXdr = null;
+    LedgerResponse.Links ledgerLinks = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "id":
+          id = strings.read(in);
+          break;
+        case "paging_token":
+          pagingToken = strings.read(in);
+          break;
+        case "hash":
+          hash = strings.read(in);
+          break;
+        case "prev_hash":
+          prevHash = strings.read(in);
+          break;
+        case "sequence":
+          sequence = longs.read(in);
+          break;
+        case "successful_transaction_count":
+          successfulTransactionCount = integers.read(in);
+          break;
+        case "failed_transaction_count":
+          failedTransactionCount = integers.read(in);
+          break;
+        case "operation_count":
+          operationCount = integers.read(in);
+          break;
+        case "tx_set_operation_count":
+          txSetOperationCount = integers.read(in);
+          break;
+        case "closed_at":
+          closedAt = strings.read(in);
+          break;
+        case "total_coins":
+          totalCoins = strings.read(in);
+          break;
+        case "fee_pool":
+          feePool = strings.read(in);
+          break;
+        case "base_fee_in_stroops":
+          baseFeeInStroops = bigIntegers.read(in);
+          break;
+        case "base_reserve_in_stroops":
+          baseReserveInStroops = bigIntegers.read(in);
+          break;
+        case "max_tx_set_size":
+          maxTxSetSize = integers.read(in);
+          break;
+        case "protocol_version":
+          protocolVersion = integers.read(in);
+          break;
+        case "header_xdr":
+          headerXdr = strings.read(in);
+          break;
+        case "_links":
+          ledgerLinks = links.read(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new LedgerResponse(
+        id,
+        pagingToken,
+        hash,
+        prevHash,
+        sequence,
+        successfulTransactionCount,
+        failedTransactionCount,
+        operationCount,
+        txSetOperationCount,
+        closedAt,
+        totalCoins,
+        feePool,
+        baseFeeInStroops,
+        baseReserveInStroops,
+        maxTxSetSize,
+        protocolVersion,
+        headerXdr,
+        ledgerLinks);
+  }
+
+  @Override
+  public void write(JsonWriter out, LedgerResponse value) throws IOException {
+    delegate.write(out, value);
+  }
+}
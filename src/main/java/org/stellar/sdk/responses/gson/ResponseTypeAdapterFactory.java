@@ -0,0 +1,352 @@
+package org.stellar.sdk.responses.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import org.stellar.sdk.responses.LedgerResponse;
+import org.stellar.sdk.responses.Page;
+import org.stellar.sdk.responses.TransactionResponse;
+import org.stellar.sdk.responses.effects.*;
+import org.stellar.sdk.responses.operations.*;
+import org.stellar.sdk.xdr.OperationType;
+
+/**
+ * Creates the type adapters of the Horizon responses which cannot be deserialized by reflection
+ * alone: pages, whose records are nested in an <code>_embedded</code> object, and operations and
+ * effects, whose class depends on their <code>type_i</code> field.
+ *
+ * <p>The adapters are created once per {@link Gson} instance, instead of creating a new {@link
+ * Gson} instance for every page and record. Operations and effects are dispatched through a table
+ * of their classes indexed by <code>type_i</code>, and the adapter of each class is kept once it
+ * has been used.
+ *
+ * <p>Ledgers and transactions, the records read most often, are read field by field from the JSON
+ * stream by {@link LedgerResponseAdapter} and {@link TransactionResponseAdapter}. Operations and
+ * effects are still read as a tree before their class is known, since <code>type_i</code> is not
+ * their first field, and pages are read as a tree to move their records out of their embedded
+ * object.
+ */
+final class ResponseTypeAdapterFactory implements TypeAdapterFactory {
+  // The highest type_i of the effects.
+  private static final int MAX_EFFECT_TYPE = 97;
+
+  // The classes of the operations and effects, indexed by type_i.
+  private static final Class<?>[] OPERATION_CLASSES = new Class<?>[OperationType.values().length];
+  private static final Class<?>[] EFFECT_CLASSES = new Class<?>[MAX_EFFECT_TYPE + 1];
+
+  static {
+    for (OperationType type : OperationType.values()) {
+      OPERATION_CLASSES[type.getValue()] = operationClass(type);
+    }
+    for (int type = 0; type <= MAX_EFFECT_TYPE; type++) {
+      EFFECT_CLASSES[type] = effectClass(type);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    Class<? super T> rawType = type.getRawType();
+    if (rawType == Page.class && type.getType() instanceof ParameterizedType) {
+      TypeToken<Page<Object>> pageType = (TypeToken<Page<Object>>) type;
+      return (TypeAdapter<T>) new PageAdapter<>(gson, gson.getDelegateAdapter(this, pageType));
+    }
+    if (rawType == LedgerResponse.class) {
+      return (TypeAdapter<T>)
+          new LedgerResponseAdapter(
+              gson, gson.getDelegateAdapter(this, (TypeToken<LedgerResponse>) type));
+    }
+    if (rawType == TransactionResponse.class) {
+      return (TypeAdapter<T>)
+          new TransactionResponseAdapter(
+              gson, gson.getDelegateAdapter(this, (TypeToken<TransactionResponse>) type));
+    }
+    if (rawType == OperationResponse.class) {
+      return new TypeDispatchAdapter<>(
+          gson, OPERATION_CLASSES, () -> new IllegalArgumentException("Invalid operation type"));
+    }
+    if (rawType == EffectResponse.class) {
+      return new TypeDispatchAdapter<>(
+          gson, EFFECT_CLASSES, () -> new UnsupportedOperationException("Invalid effect type"));
+    }
+    return null;
+  }
+
+  /** Returns the class of the operations of a type, or null if there are none. */
+  @SuppressWarnings("deprecation")
+  private static Class<? extends OperationResponse> operationClass(OperationType type) {
+    switch (type) {
+      case CREATE_ACCOUNT:
+        return CreateAccountOperationResponse.class;
+      case PAYMENT:
+        return PaymentOperationResponse.class;
+      case PATH_PAYMENT_STRICT_RECEIVE:
+        return PathPaymentStrictReceiveOperationResponse.class;
+      case MANAGE_SELL_OFFER:
+        return ManageSellOfferOperationResponse.class;
+      case CREATE_PASSIVE_SELL_OFFER:
+        return CreatePassiveSellOfferOperationResponse.class;
+      case SET_OPTIONS:
+        return SetOptionsOperationResponse.class;
+      case CHANGE_TRUST:
+        return ChangeTrustOperationResponse.class;
+      case ALLOW_TRUST:
+        return AllowTrustOperationResponse.class;
+      case ACCOUNT_MERGE:
+        return AccountMergeOperationResponse.class;
+      case INFLATION:
+        return InflationOperationResponse.class;
+      case MANAGE_DATA:
+        return ManageDataOperationResponse.class;
+      case BUMP_SEQUENCE:
+        return BumpSequenceOperationResponse.class;
+      case MANAGE_BUY_OFFER:
+        return ManageBuyOfferOperationResponse.class;
+      case PATH_PAYMENT_STRICT_SEND:
+        return PathPaymentStrictSendOperationResponse.class;
+      case CREATE_CLAIMABLE_BALANCE:
+        return CreateClaimableBalanceOperationResponse.class;
+      case CLAIM_CLAIMABLE_BALANCE:
+        return ClaimClaimableBalanceOperationResponse.class;
+      case BEGIN_SPONSORING_FUTURE_RESERVES:
+        return BeginSponsoringFutureReservesOperationResponse.class;
+      case END_SPONSORING_FUTURE_RESERVES:
+        return EndSponsoringFutureReservesOperationResponse.class;
+      case REVOKE_SPONSORSHIP:
+        return RevokeSponsorshipOperationResponse.class;
+      case CLAWBACK:
+        return ClawbackOperationResponse.class;
+      case CLAWBACK_CLAIMABLE_BALANCE:
+        return ClawbackClaimableBalanceOperationResponse.class;
+      case SET_TRUST_LINE_FLAGS:
+        return SetTrustLineFlagsOperationResponse.class;
+      case LIQUIDITY_POOL_DEPOSIT:
+        return LiquidityPoolDepositOperationResponse.class;
+      case LIQUIDITY_POOL_WITHDRAW:
+        return LiquidityPoolWithdrawOperationResponse.class;
+      case INVOKE_HOST_FUNCTION:
+        return InvokeHostFunctionOperationResponse.class;
+      case EXTEND_FOOTPRINT_TTL:
+        return ExtendFootprintTTLOperationResponse.class;
+      case RESTORE_FOOTPRINT:
+        return RestoreFootprintOperationResponse.class;
+      default:
+        return null;
+    }
+  }
+
+  /** Returns the class of the effects of a type, or null if there are none. */
+  @SuppressWarnings("deprecation")
+  private static Class<? extends EffectResponse> effectClass(int type) {
+    switch (type) {
+      // Account effects
+      case 0:
+        return AccountCreatedEffectResponse.class;
+      case 1:
+        return AccountRemovedEffectResponse.class;
+      case 2:
+        return AccountCreditedEffectResponse.class;
+      case 3:
+        return AccountDebitedEffectResponse.class;
+      case 4:
+        return AccountThresholdsUpdatedEffectResponse.class;
+      case 5:
+        return AccountHomeDomainUpdatedEffectResponse.class;
+      case 6:
+        return AccountFlagsUpdatedEffectResponse.class;
+      case 7:
+        return AccountInflationDestinationUpdatedEffectResponse.class;
+      // Signer effects
+      case 10:
+        return SignerCreatedEffectResponse.class;
+      case 11:
+        return SignerRemovedEffectResponse.class;
+      case 12:
+        return SignerUpdatedEffectResponse.class;
+      // Trustline effects
+      case 20:
+        return TrustlineCreatedEffectResponse.class;
+      case 21:
+        return TrustlineRemovedEffectResponse.class;
+      case 22:
+        return TrustlineUpdatedEffectResponse.class;
+      case 23:
+        return TrustlineAuthorizedEffectResponse.class;
+      case 24:
+        return TrustlineDeauthorizedEffectResponse.class;
+      case 25:
+        return TrustlineAuthorizedToMaintainLiabilitiesEffectResponse.class;
+      case 26:
+        return TrustlineFlagsUpdatedEffectResponse.class;
+      // Trading effects
+      case 30:
+        return OfferCreatedEffectResponse.class;
+      case 31:
+        return OfferRemovedEffectResponse.class;
+      case 32:
+        return OfferUpdatedEffectResponse.class;
+      case 33:
+        return TradeEffectResponse.class;
+      // Data effects
+      case 40:
+        return DataCreatedEffectResponse.class;
+      case 41:
+        return DataRemovedEffectResponse.class;
+      case 42:
+        return DataUpdatedEffectResponse.class;
+      // Bump Sequence effects
+      case 43:
+        return SequenceBumpedEffectResponse.class;
+      // claimable balance effects
+      case 50:
+        return ClaimableBalanceCreatedEffectResponse.class;
+      case 51:
+        return ClaimableBalanceClaimantCreatedEffectResponse.class;
+      case 52:
+        return ClaimableBalanceClaimedEffectResponse.class;
+      // sponsorship effects
+      case 60:
+        return AccountSponsorshipCreatedEffectResponse.class;
+      case 61:
+        return AccountSponsorshipUpdatedEffectResponse.class;
+      case 62:
+        return AccountSponsorshipRemovedEffectResponse.class;
+      case 63:
+        return TrustlineSponsorshipCreatedEffectResponse.class;
+      case 64:
+        return TrustlineSponsorshipUpdatedEffectResponse.class;
+      case 65:
+        return TrustlineSponsorshipRemovedEffectResponse.class;
+      case 66:
+        return DataSponsorshipCreatedEffectResponse.class;
+      case 67:
+        return DataSponsorshipUpdatedEffectResponse.class;
+      case 68:
+        return DataSponsorshipRemovedEffectResponse.class;
+      case 69:
+        return ClaimableBalanceSponsorshipCreatedEffectResponse.class;
+      case 70:
+        return ClaimableBalanceSponsorshipUpdatedEffectResponse.class;
+      case 71:
+        return ClaimableBalanceSponsorshipRemovedEffectResponse.class;
+      case 72:
+        return SignerSponsorshipCreatedEffectResponse.class;
+      case 73:
+        return SignerSponsorshipUpdatedEffectResponse.class;
+      case 74:
+        return SignerSponsorshipRemovedEffectResponse.class;
+      case 80:
+        return ClaimableBalanceClawedBackEffectResponse.class;
+      case 90:
+        return LiquidityPoolDepositedEffectResponse.class;
+      case 91:
+        return LiquidityPoolWithdrewEffectResponse.class;
+      case 92:
+        return LiquidityPoolTradeEffectResponse.class;
+      case 93:
+        return LiquidityPoolCreatedEffectResponse.class;
+      case 94:
+        return LiquidityPoolRemovedEffectResponse.class;
+      case 95:
+        return LiquidityPoolRevokedEffectResponse.class;
+      case 96:
+        return ContractCreditedEffectResponse.class;
+      case 97:
+        return ContractDebitedEffectResponse.class;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Reads a page by moving the records out of its <code>_embedded</code> object, and renaming its
+   * <code>_links</code>.
+   */
+  private static final class PageAdapter<E> extends TypeAdapter<Page<E>> {
+    private final TypeAdapter<JsonElement> elementAdapter;
+    private final TypeAdapter<Page<E>> delegate;
+
+    PageAdapter(Gson gson, TypeAdapter<Page<E>> delegate) {
+      this.elementAdapter = gson.getAdapter(JsonElement.class);
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Page<E> read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      JsonObject json = elementAdapter.read(in).getAsJsonObject();
+      JsonObject page = new JsonObject();
+      page.add("records", json.get("_embedded").getAsJsonObject().get("records"));
+      page.add("links", json.get("_links"));
+      return delegate.fromJsonTree(page);
+    }
+
+    @Override
+    public void write(JsonWriter out, Page<E> value) throws IOException {
+      delegate.write(out, value);
+    }
+  }
+
+  /** Reads a record with the adapter of the class of its <code>type_i</code>. */
+  private static final class TypeDispatchAdapter<T> extends TypeAdapter<T> {
+    private final Gson gson;
+    private final TypeAdapter<JsonElement> elementAdapter;
+    private final Class<?>[] classes;
+    // The adapters of the classes, looked up on first use so that only the types which are read
+    // need an adapter.
+    private final AtomicReferenceArray<TypeAdapter<?>> adapters;
+    private final Supplier<RuntimeException> invalidType;
+
+    TypeDispatchAdapter(Gson gson, Class<?>[] classes, Supplier<RuntimeException> invalidType) {
+      this.gson = gson;
+      this.elementAdapter = gson.getAdapter(JsonElement.class);
+      this.classes = classes;
+      this.adapters = new AtomicReferenceArray<>(classes.length);
+      this.invalidType = invalidType;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      // type_i is not the first field of the records, so they are read as a tree first.
+      JsonElement json = elementAdapter.read(in);
+      int type = json.getAsJsonObject().get("type_i").getAsInt();
+      if (type < 0 || type >= classes.length || classes[type] == null) {
+        throw invalidType.get();
+      }
+      TypeAdapter<?> adapter = adapters.get(type);
+      if (adapter == null) {
+        adapter = gson.getAdapter(classes[type]);
+        adapters.set(type, adapter);
+      }
+      return (T) adapter.fromJsonTree(json);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(JsonWriter out, T value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      ((TypeAdapter<T>) gson.getAdapter(value.getClass())).write(out, value);
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package org.stellar.sdk.responses.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import org.stellar.sdk.responses.TransactionResponse;
+
+/**
+ * Reads a {@link TransactionResponse} field by field from the JSON stream, instead of setting its
+ * fields by reflection. Writing is left to the reflective adapter.
+ */
+final class TransactionResponseAdapter extends TypeAdapter<TransactionResponse> {
+  private final TypeAdapter<TransactionResponse> delegate;
+  private final TypeAdapter<String> strings;
+  private final TypeAdapter<Boolean> booleans;
+  private final TypeAdapter<Long> longs;
+  private final TypeAdapter<Integer> integers;
+  private final TypeAdapter<BigInteger> bigIntegers;
+  private final TypeAdapter<List<String>> stringLists;
+  private final TypeAdapter<TransactionResponse.Preconditions> preconditions;
+  private final TypeAdapter<TransactionResponse.FeeBumpTransaction> feeBumpTransactions;
+  private final TypeAdapter<TransactionResponse.InnerTransaction> innerTransactions;
+  private final TypeAdapter<TransactionResponse.Links> links;
+
+  TransactionResponseAdapter(Gson gson, TypeAdapter<TransactionResponse> delegate) {
+    this.delegate = delegate;
+    this.strings = gson.getAdapter(String.class);
+    this.booleans = gson.getAdapter(Boolean.class);
+    this.longs = gson.getAdapter(Long.class);
+    this.integers = gson.getAdapter(Integer.class);
+    this.bigIntegers = gson.getAdapter(BigInteger.class);
+    this.stringLists = gson.getAdapter(new TypeToken<List<String>>() {});
+    this.preconditions = gson.getAdapter(TransactionResponse.Preconditions.class);
+    this.feeBumpTransactions = gson.getAdapter(TransactionResponse.FeeBumpTransaction.class);
+    this.innerTransactions = gson.getAdapter(TransactionResponse.InnerTransaction.class);
+    this.links = gson.getAdapter(TransactionResponse.Links.class);
+  }
+
+  @Override
+  public TransactionResponse read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    String id = null;
+    String pagingToken = null;
+    Boolean successful = null;
+    String hash = null;
+    Long ledger = null;
+    String createdAt = null;
+    String sourceAccount = null;
+    String accountMuxed = null;
+    BigInteger accountMuxedId = null;
+    Long sourceAccountSequence = null;
+    String feeAccount = null;
+    String feeAccountMuxed = null;
+    BigInteger feeAccountMuxedId = null;
+    Long feeCharged = null;
+    Long maxFee = null;
+    Integer operationCount = null;
+    String envelopeXdr = null;
+    String resultXdr = null;
+    String resultMetaXdr = null;
+    String feeMetaXdr = null;
+    List<String> signatures = null;
+    TransactionResponse.Preconditions transactionPreconditions = null;
+    TransactionResponse.FeeBumpTransaction feeBumpTransaction = null;
+    TransactionResponse.InnerTransaction innerTransaction = null;
+    String memoType = null;
+    String memoBytes = null;
+    String memoValue = null;
+    TransactionResponse.Links transactionLinks = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "id":
+          id = strings.read(in);
+          break;
+        case "paging_token":
+          pagingToken = strings.read(in);
+          break;
+        case "successful":
+          successful = booleans.read(in);
+          break;
+        case "hash":
+          hash = strings.read(in);
+          break;
+        case "ledger":
+          ledger = longs.read(in);
+          break;
+        case "created_at":
+          createdAt = strings.read(in);
+          break;
+        case "source_account":
+          sourceAccount = strings.read(in);
+          break;
+        case "account_muxed":
+          accountMuxed = strings.read(in);
+          break;
+        case "account_muxed_id":
+          accountMuxedId = bigIntegers.read(in);
+          break;
+        case "source_account_sequence":
+          sourceAccountSequence = longs.read(in);
+          break;
+        case "fee_account":
+          feeAccount = strings.read(in);
+          break;
+        case "fee_account_muxed":
+          feeAccountMuxed = strings.read(in);
+          break;
+        case "fee_account_muxed_id":
+          feeAccountMuxedId = bigIntegers.read(in);
+          break;
+        case "fee_charged":
+          feeCharged = longs.read(in);
+          break;
+        case "max_fee":
+          maxFee = longs.read(in);
+          break;
+        case "operation_count":
+          operationCount = integers.read(in);
+          break;
+        case "envelope_xdr":
+          envelopeXdr = strings.read(in);
+          break;
+        case "result_xdr":
+          resultXdr = strings.read(in);
+          break;
+        case "result_meta_xdr":
+          resultMetaXdr = strings.read(in);
+          break;
+        case "fee_meta_xdr":
+          feeMetaXdr = strings.read(in);
+          break;
+        case "signatures":
+          signatures = stringLists.read(in);
+          break;
+        case "preconditions":
+          transactionPreconditions = preconditions.read(in);
+          break;
+        case "fee_bump_transaction":
+          feeBumpTransaction = feeBumpTransactions.read(in);
+          break;
+        case "inner_transaction":
+          innerTransaction = innerTransactions.read(in);
+          break;
+        case "memo_type":
+          memoType = strings.read(in);
+          break;
+        case "memo_bytes":
+          memoBytes = strings.read(in);
+          break;
+        case "memo":
+          memoValue = strings.read(in);
+          break;
+        case "_links":
+          transactionLinks = links.read(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new TransactionResponse(
+        id,
+        pagingToken,
+        successful,
+        hash,
+        ledger,
+        createdAt,
+        sourceAccount,
+        accountMuxed,
+        accountMuxedId,
+        sourceAccountSequence,
+        feeAccount,
+        feeAccountMuxed,
+        feeAccountMuxedId,
+        feeCharged,
+        maxFee,
+        operationCount,
+        envelopeXdr,
+        resultXdr,
+        resultMetaXdr,
+        feeMetaXdr,
+        signatures,
+        transactionPreconditions,
+        feeBumpTransaction,
+        innerTransaction,
+        memoType,
+        memoBytes,
+        memoValue,
+        transactionLinks);
+  }
+
+  @Override
+  public void write(JsonWriter out, TransactionResponse value) throws IOException {
+    delegate.write(out, value);
+  }
+}
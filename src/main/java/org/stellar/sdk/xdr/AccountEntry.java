@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AccountEntry's original definition in the XDR file is:
@@ -83,6 +84,30 @@ public class AccountEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += accountID.encodedSize();
+    size += balance.encodedSize();
+    size += seqNum.encodedSize();
+    size += numSubEntries.encodedSize();
+    if (inflationDest != null) {
+      size += 4;
+      size += inflationDest.encodedSize();
+    } else {
+      size += 4;
+    }
+    size += flags.encodedSize();
+    size += homeDomain.encodedSize();
+    size += thresholds.encodedSize();
+    int signersSize = getSigners().length;
+    size += 4;
+    for (int i = 0; i < signersSize; i++) {
+      size += signers[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static AccountEntry decode(XdrDataInputStream stream) throws IOException {
     AccountEntry decodedAccountEntry = new AccountEntry();
     decodedAccountEntry.accountID = AccountID.decode(stream);
@@ -96,7 +121,7 @@ public class AccountEntry implements XdrElement {
     decodedAccountEntry.flags = Uint32.decode(stream);
     decodedAccountEntry.homeDomain = String32.decode(stream);
     decodedAccountEntry.thresholds = Thresholds.decode(stream);
-    int signersSize = stream.readInt();
+    int signersSize = stream.readLength(4);
     decodedAccountEntry.signers = new Signer[signersSize];
     for (int i = 0; i < signersSize; i++) {
       decodedAccountEntry.signers[i] = Signer.decode(stream);
@@ -105,17 +130,136 @@ public class AccountEntry implements XdrElement {
     return decodedAccountEntry;
   }
 
+  public static AccountEntry decodeInto(AccountEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    AccountEntry decodedAccountEntry = existing != null ? existing : new AccountEntry();
+    decodedAccountEntry.accountID = AccountID.decodeInto(decodedAccountEntry.accountID, stream);
+    decodedAccountEntry.balance = Int64.decodeInto(decodedAccountEntry.balance, stream);
+    decodedAccountEntry.seqNum = SequenceNumber.decodeInto(decodedAccountEntry.seqNum, stream);
+    decodedAccountEntry.numSubEntries =
+        Uint32.decodeInto(decodedAccountEntry.numSubEntries, stream);
+    int inflationDestPresent = stream.readInt();
+    if (inflationDestPresent != 0) {
+      decodedAccountEntry.inflationDest =
+          AccountID.decodeInto(decodedAccountEntry.inflationDest, stream);
+    } else {
+      decodedAccountEntry.inflationDest = null;
+    }
+    decodedAccountEntry.flags = Uint32.decodeInto(decodedAccountEntry.flags, stream);
+    decodedAccountEntry.homeDomain = String32.decodeInto(decodedAccountEntry.homeDomain, stream);
+    decodedAccountEntry.thresholds = Thresholds.decodeInto(decodedAccountEntry.thresholds, stream);
+    int signersSize = stream.readLength(4);
+    decodedAccountEntry.signers =
+        XdrRecycler.resize(decodedAccountEntry.signers, signersSize, Signer[]::new);
+    for (int i = 0; i < signersSize; i++) {
+      decodedAccountEntry.signers[i] = Signer.decodeInto(decodedAccountEntry.signers[i], stream);
+    }
+    decodedAccountEntry.ext = AccountEntryExt.decodeInto(decodedAccountEntry.ext, stream);
+    return decodedAccountEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+    Int64.skip(stream);
+    SequenceNumber.skip(stream);
+    Uint32.skip(stream);
+    if (stream.readXdrBoolean()) {
+      AccountID.skip(stream);
+    }
+    Uint32.skip(stream);
+    String32.skip(stream);
+    Thresholds.skip(stream);
+    int signersSize = stream.readLength(20, 4);
+    for (int i = 0; i < signersSize; i++) {
+      Signer.skip(stream);
+    }
+    AccountEntryExt.skip(stream);
+  }
+
   public static AccountEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AccountEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("account_id");
+    accountID.toJson(writer);
+    writer.name("balance");
+    balance.toJson(writer);
+    writer.name("seq_num");
+    seqNum.toJson(writer);
+    writer.name("num_sub_entries");
+    numSubEntries.toJson(writer);
+    writer.name("inflation_dest");
+    XdrJson.writeOptional(writer, inflationDest);
+    writer.name("flags");
+    flags.toJson(writer);
+    writer.name("home_domain");
+    homeDomain.toJson(writer);
+    writer.name("thresholds");
+    thresholds.toJson(writer);
+    writer.name("signers");
+    XdrJson.writeArray(writer, signers);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static AccountEntry fromJson(JsonReader reader) throws IOException {
+    AccountEntry decodedAccountEntry = new AccountEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "account_id":
+          decodedAccountEntry.accountID = AccountID.fromJson(reader);
+          break;
+        case "balance":
+          decodedAccountEntry.balance = Int64.fromJson(reader);
+          break;
+        case "seq_num":
+          decodedAccountEntry.seqNum = SequenceNumber.fromJson(reader);
+          break;
+        case "num_sub_entries":
+          decodedAccountEntry.numSubEntries = Uint32.fromJson(reader);
+          break;
+        case "inflation_dest":
+          decodedAccountEntry.inflationDest = XdrJson.readOptional(reader, AccountID::fromJson);
+          break;
+        case "flags":
+          decodedAccountEntry.flags = Uint32.fromJson(reader);
+          break;
+        case "home_domain":
+          decodedAccountEntry.homeDomain = String32.fromJson(reader);
+          break;
+        case "thresholds":
+          decodedAccountEntry.thresholds = Thresholds.fromJson(reader);
+          break;
+        case "signers":
+          decodedAccountEntry.signers = XdrJson.readArray(reader, Signer[]::new, Signer::fromJson);
+          break;
+        case "ext":
+          decodedAccountEntry.ext = AccountEntryExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AccountEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedAccountEntry;
+  }
+
+  public static AccountEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * AccountEntryExt's original definition in the XDR file is:
    *
@@ -148,6 +292,19 @@ public class AccountEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static AccountEntryExt decode(XdrDataInputStream stream) throws IOException {
       AccountEntryExt decodedAccountEntryExt = new AccountEntryExt();
       Integer discriminant = stream.readInt();
@@ -162,15 +319,92 @@ public class AccountEntry implements XdrElement {
       return decodedAccountEntryExt;
     }
 
+    public static AccountEntryExt decodeInto(AccountEntryExt existing, XdrDataInputStream stream)
+        throws IOException {
+      Integer discriminant = stream.readInt();
+      AccountEntryExt decodedAccountEntryExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new AccountEntryExt();
+      decodedAccountEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          decodedAccountEntryExt.v1 =
+              AccountEntryExtensionV1.decodeInto(decodedAccountEntryExt.v1, stream);
+          break;
+      }
+      return decodedAccountEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          AccountEntryExtensionV1.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown AccountEntryExt discriminant: " + discriminant);
+      }
+    }
+
     public static AccountEntryExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static AccountEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 1:
+          writer.beginObject();
+          writer.name("v1");
+          v1.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static AccountEntryExt fromJson(JsonReader reader) throws IOException {
+      AccountEntryExt decodedAccountEntryExt = new AccountEntryExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedAccountEntryExt.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown AccountEntryExt arm: " + key);
+        }
+        return decodedAccountEntryExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v1":
+          decodedAccountEntryExt.setDiscriminant(1);
+          decodedAccountEntryExt.v1 = AccountEntryExtensionV1.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AccountEntryExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedAccountEntryExt;
+    }
+
+    public static AccountEntryExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AccountEntryExtensionV1's original definition in the XDR file is:
@@ -43,6 +44,13 @@ public class AccountEntryExtensionV1 implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += liabilities.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static AccountEntryExtensionV1 decode(XdrDataInputStream stream) throws IOException {
     AccountEntryExtensionV1 decodedAccountEntryExtensionV1 = new AccountEntryExtensionV1();
     decodedAccountEntryExtensionV1.liabilities = Liabilities.decode(stream);
@@ -50,17 +58,66 @@ public class AccountEntryExtensionV1 implements XdrElement {
     return decodedAccountEntryExtensionV1;
   }
 
+  public static AccountEntryExtensionV1 decodeInto(
+      AccountEntryExtensionV1 existing, XdrDataInputStream stream) throws IOException {
+    AccountEntryExtensionV1 decodedAccountEntryExtensionV1 =
+        existing != null ? existing : new AccountEntryExtensionV1();
+    decodedAccountEntryExtensionV1.liabilities =
+        Liabilities.decodeInto(decodedAccountEntryExtensionV1.liabilities, stream);
+    decodedAccountEntryExtensionV1.ext =
+        AccountEntryExtensionV1Ext.decodeInto(decodedAccountEntryExtensionV1.ext, stream);
+    return decodedAccountEntryExtensionV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Liabilities.skip(stream);
+    AccountEntryExtensionV1Ext.skip(stream);
+  }
+
   public static AccountEntryExtensionV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AccountEntryExtensionV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("liabilities");
+    liabilities.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static AccountEntryExtensionV1 fromJson(JsonReader reader) throws IOException {
+    AccountEntryExtensionV1 decodedAccountEntryExtensionV1 = new AccountEntryExtensionV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "liabilities":
+          decodedAccountEntryExtensionV1.liabilities = Liabilities.fromJson(reader);
+          break;
+        case "ext":
+          decodedAccountEntryExtensionV1.ext = AccountEntryExtensionV1Ext.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AccountEntryExtensionV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedAccountEntryExtensionV1;
+  }
+
+  public static AccountEntryExtensionV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * AccountEntryExtensionV1Ext's original definition in the XDR file is:
    *
@@ -93,6 +150,19 @@ public class AccountEntryExtensionV1 implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 2:
+          size += v2.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static AccountEntryExtensionV1Ext decode(XdrDataInputStream stream) throws IOException {
       AccountEntryExtensionV1Ext decodedAccountEntryExtensionV1Ext =
           new AccountEntryExtensionV1Ext();
@@ -108,15 +178,93 @@ public class AccountEntryExtensionV1 implements XdrElement {
       return decodedAccountEntryExtensionV1Ext;
     }
 
+    public static AccountEntryExtensionV1Ext decodeInto(
+        AccountEntryExtensionV1Ext existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      AccountEntryExtensionV1Ext decodedAccountEntryExtensionV1Ext =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new AccountEntryExtensionV1Ext();
+      decodedAccountEntryExtensionV1Ext.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 2:
+          decodedAccountEntryExtensionV1Ext.v2 =
+              AccountEntryExtensionV2.decodeInto(decodedAccountEntryExtensionV1Ext.v2, stream);
+          break;
+      }
+      return decodedAccountEntryExtensionV1Ext;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 2:
+          AccountEntryExtensionV2.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown AccountEntryExtensionV1Ext discriminant: " + discriminant);
+      }
+    }
+
     public static AccountEntryExtensionV1Ext fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static AccountEntryExtensionV1Ext fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 2:
+          writer.beginObject();
+          writer.name("v2");
+          v2.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static AccountEntryExtensionV1Ext fromJson(JsonReader reader) throws IOException {
+      AccountEntryExtensionV1Ext decodedAccountEntryExtensionV1Ext =
+          new AccountEntryExtensionV1Ext();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedAccountEntryExtensionV1Ext.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown AccountEntryExtensionV1Ext arm: " + key);
+        }
+        return decodedAccountEntryExtensionV1Ext;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v2":
+          decodedAccountEntryExtensionV1Ext.setDiscriminant(2);
+          decodedAccountEntryExtensionV1Ext.v2 = AccountEntryExtensionV2.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AccountEntryExtensionV1Ext arm: " + key);
+      }
+      reader.endObject();
+      return decodedAccountEntryExtensionV1Ext;
+    }
+
+    public static AccountEntryExtensionV1Ext fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
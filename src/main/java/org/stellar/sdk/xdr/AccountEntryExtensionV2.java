@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AccountEntryExtensionV2's original definition in the XDR file is:
@@ -53,11 +54,24 @@ public class AccountEntryExtensionV2 implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += numSponsored.encodedSize();
+    size += numSponsoring.encodedSize();
+    int signerSponsoringIDsSize = getSignerSponsoringIDs().length;
+    size += 4;
+    for (int i = 0; i < signerSponsoringIDsSize; i++) {
+      size += signerSponsoringIDs[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static AccountEntryExtensionV2 decode(XdrDataInputStream stream) throws IOException {
     AccountEntryExtensionV2 decodedAccountEntryExtensionV2 = new AccountEntryExtensionV2();
     decodedAccountEntryExtensionV2.numSponsored = Uint32.decode(stream);
     decodedAccountEntryExtensionV2.numSponsoring = Uint32.decode(stream);
-    int signerSponsoringIDsSize = stream.readInt();
+    int signerSponsoringIDsSize = stream.readLength(4);
     decodedAccountEntryExtensionV2.signerSponsoringIDs =
         new SponsorshipDescriptor[signerSponsoringIDsSize];
     for (int i = 0; i < signerSponsoringIDsSize; i++) {
@@ -67,17 +81,96 @@ public class AccountEntryExtensionV2 implements XdrElement {
     return decodedAccountEntryExtensionV2;
   }
 
+  public static AccountEntryExtensionV2 decodeInto(
+      AccountEntryExtensionV2 existing, XdrDataInputStream stream) throws IOException {
+    AccountEntryExtensionV2 decodedAccountEntryExtensionV2 =
+        existing != null ? existing : new AccountEntryExtensionV2();
+    decodedAccountEntryExtensionV2.numSponsored =
+        Uint32.decodeInto(decodedAccountEntryExtensionV2.numSponsored, stream);
+    decodedAccountEntryExtensionV2.numSponsoring =
+        Uint32.decodeInto(decodedAccountEntryExtensionV2.numSponsoring, stream);
+    int signerSponsoringIDsSize = stream.readLength(4);
+    decodedAccountEntryExtensionV2.signerSponsoringIDs =
+        XdrRecycler.resize(
+            decodedAccountEntryExtensionV2.signerSponsoringIDs,
+            signerSponsoringIDsSize,
+            SponsorshipDescriptor[]::new);
+    for (int i = 0; i < signerSponsoringIDsSize; i++) {
+      decodedAccountEntryExtensionV2.signerSponsoringIDs[i] =
+          SponsorshipDescriptor.decodeInto(
+              decodedAccountEntryExtensionV2.signerSponsoringIDs[i], stream);
+    }
+    decodedAccountEntryExtensionV2.ext =
+        AccountEntryExtensionV2Ext.decodeInto(decodedAccountEntryExtensionV2.ext, stream);
+    return decodedAccountEntryExtensionV2;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    int signerSponsoringIDsSize = stream.readLength(20, 4);
+    for (int i = 0; i < signerSponsoringIDsSize; i++) {
+      SponsorshipDescriptor.skip(stream);
+    }
+    AccountEntryExtensionV2Ext.skip(stream);
+  }
+
   public static AccountEntryExtensionV2 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AccountEntryExtensionV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("num_sponsored");
+    numSponsored.toJson(writer);
+    writer.name("num_sponsoring");
+    numSponsoring.toJson(writer);
+    writer.name("signer_sponsoring_i_ds");
+    XdrJson.writeArray(writer, signerSponsoringIDs);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static AccountEntryExtensionV2 fromJson(JsonReader reader) throws IOException {
+    AccountEntryExtensionV2 decodedAccountEntryExtensionV2 = new AccountEntryExtensionV2();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "num_sponsored":
+          decodedAccountEntryExtensionV2.numSponsored = Uint32.fromJson(reader);
+          break;
+        case "num_sponsoring":
+          decodedAccountEntryExtensionV2.numSponsoring = Uint32.fromJson(reader);
+          break;
+        case "signer_sponsoring_i_ds":
+          decodedAccountEntryExtensionV2.signerSponsoringIDs =
+              XdrJson.readArray(
+                  reader, SponsorshipDescriptor[]::new, SponsorshipDescriptor::fromJson);
+          break;
+        case "ext":
+          decodedAccountEntryExtensionV2.ext = AccountEntryExtensionV2Ext.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AccountEntryExtensionV2 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedAccountEntryExtensionV2;
+  }
+
+  public static AccountEntryExtensionV2 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * AccountEntryExtensionV2Ext's original definition in the XDR file is:
    *
@@ -110,6 +203,19 @@ public class AccountEntryExtensionV2 implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 3:
+          size += v3.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static AccountEntryExtensionV2Ext decode(XdrDataInputStream stream) throws IOException {
       AccountEntryExtensionV2Ext decodedAccountEntryExtensionV2Ext =
           new AccountEntryExtensionV2Ext();
@@ -125,15 +231,93 @@ public class AccountEntryExtensionV2 implements XdrElement {
       return decodedAccountEntryExtensionV2Ext;
     }
 
+    public static AccountEntryExtensionV2Ext decodeInto(
+        AccountEntryExtensionV2Ext existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      AccountEntryExtensionV2Ext decodedAccountEntryExtensionV2Ext =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new AccountEntryExtensionV2Ext();
+      decodedAccountEntryExtensionV2Ext.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 3:
+          decodedAccountEntryExtensionV2Ext.v3 =
+              AccountEntryExtensionV3.decodeInto(decodedAccountEntryExtensionV2Ext.v3, stream);
+          break;
+      }
+      return decodedAccountEntryExtensionV2Ext;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 3:
+          AccountEntryExtensionV3.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown AccountEntryExtensionV2Ext discriminant: " + discriminant);
+      }
+    }
+
     public static AccountEntryExtensionV2Ext fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static AccountEntryExtensionV2Ext fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 3:
+          writer.beginObject();
+          writer.name("v3");
+          v3.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static AccountEntryExtensionV2Ext fromJson(JsonReader reader) throws IOException {
+      AccountEntryExtensionV2Ext decodedAccountEntryExtensionV2Ext =
+          new AccountEntryExtensionV2Ext();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedAccountEntryExtensionV2Ext.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown AccountEntryExtensionV2Ext arm: " + key);
+        }
+        return decodedAccountEntryExtensionV2Ext;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v3":
+          decodedAccountEntryExtensionV2Ext.setDiscriminant(3);
+          decodedAccountEntryExtensionV2Ext.v3 = AccountEntryExtensionV3.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AccountEntryExtensionV2Ext arm: " + key);
+      }
+      reader.endObject();
+      return decodedAccountEntryExtensionV2Ext;
+    }
+
+    public static AccountEntryExtensionV2Ext fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AccountEntryExtensionV3's original definition in the XDR file is:
@@ -44,6 +44,14 @@ public class AccountEntryExtensionV3 implements XdrElement {
     seqTime.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += seqLedger.encodedSize();
+    size += seqTime.encodedSize();
+    return size;
+  }
+
   public static AccountEntryExtensionV3 decode(XdrDataInputStream stream) throws IOException {
     AccountEntryExtensionV3 decodedAccountEntryExtensionV3 = new AccountEntryExtensionV3();
     decodedAccountEntryExtensionV3.ext = ExtensionPoint.decode(stream);
@@ -52,14 +60,71 @@ public class AccountEntryExtensionV3 implements XdrElement {
     return decodedAccountEntryExtensionV3;
   }
 
+  public static AccountEntryExtensionV3 decodeInto(
+      AccountEntryExtensionV3 existing, XdrDataInputStream stream) throws IOException {
+    AccountEntryExtensionV3 decodedAccountEntryExtensionV3 =
+        existing != null ? existing : new AccountEntryExtensionV3();
+    decodedAccountEntryExtensionV3.ext =
+        ExtensionPoint.decodeInto(decodedAccountEntryExtensionV3.ext, stream);
+    decodedAccountEntryExtensionV3.seqLedger =
+        Uint32.decodeInto(decodedAccountEntryExtensionV3.seqLedger, stream);
+    decodedAccountEntryExtensionV3.seqTime =
+        TimePoint.decodeInto(decodedAccountEntryExtensionV3.seqTime, stream);
+    return decodedAccountEntryExtensionV3;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    Uint32.skip(stream);
+    TimePoint.skip(stream);
+  }
+
   public static AccountEntryExtensionV3 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AccountEntryExtensionV3 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("seq_ledger");
+    seqLedger.toJson(writer);
+    writer.name("seq_time");
+    seqTime.toJson(writer);
+    writer.endObject();
+  }
+
+  public static AccountEntryExtensionV3 fromJson(JsonReader reader) throws IOException {
+    AccountEntryExtensionV3 decodedAccountEntryExtensionV3 = new AccountEntryExtensionV3();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedAccountEntryExtensionV3.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "seq_ledger":
+          decodedAccountEntryExtensionV3.seqLedger = Uint32.fromJson(reader);
+          break;
+        case "seq_time":
+          decodedAccountEntryExtensionV3.seqTime = TimePoint.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AccountEntryExtensionV3 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedAccountEntryExtensionV3;
+  }
+
+  public static AccountEntryExtensionV3 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
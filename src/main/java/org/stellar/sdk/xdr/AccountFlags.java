@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AccountFlags's original definition in the XDR file is:
@@ -62,18 +62,63 @@ public enum AccountFlags implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static AccountFlags fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AccountFlags fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case AUTH_REQUIRED_FLAG:
+        writer.value("required_flag");
+        break;
+      case AUTH_REVOCABLE_FLAG:
+        writer.value("revocable_flag");
+        break;
+      case AUTH_IMMUTABLE_FLAG:
+        writer.value("immutable_flag");
+        break;
+      case AUTH_CLAWBACK_ENABLED_FLAG:
+        writer.value("clawback_enabled_flag");
+        break;
+    }
+  }
+
+  public static AccountFlags fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "required_flag":
+        return AUTH_REQUIRED_FLAG;
+      case "revocable_flag":
+        return AUTH_REVOCABLE_FLAG;
+      case "immutable_flag":
+        return AUTH_IMMUTABLE_FLAG;
+      case "clawback_enabled_flag":
+        return AUTH_CLAWBACK_ENABLED_FLAG;
+      default:
+        throw new IOException("Unknown AccountFlags value: " + value);
+    }
+  }
+
+  public static AccountFlags fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
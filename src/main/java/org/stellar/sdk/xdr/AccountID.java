@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AccountID's original definition in the XDR file is:
@@ -27,20 +27,53 @@ public class AccountID implements XdrElement {
     AccountID.encode(stream);
   }
 
+  public int encodedSize() {
+    return AccountID.encodedSize();
+  }
+
   public static AccountID decode(XdrDataInputStream stream) throws IOException {
+    int start = stream.getPosition();
     AccountID decodedAccountID = new AccountID();
     decodedAccountID.AccountID = PublicKey.decode(stream);
+    return stream.intern(start, decodedAccountID);
+  }
+
+  public static AccountID decodeInto(AccountID existing, XdrDataInputStream stream)
+      throws IOException {
+    if (stream.getInterner() != null) {
+      return decode(stream);
+    }
+    AccountID decodedAccountID = existing != null ? existing : new AccountID();
+    decodedAccountID.AccountID = PublicKey.decodeInto(decodedAccountID.AccountID, stream);
     return decodedAccountID;
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PublicKey.skip(stream);
+  }
+
   public static AccountID fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AccountID fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    AccountID.toJson(writer);
+  }
+
+  public static AccountID fromJson(JsonReader reader) throws IOException {
+    AccountID decodedAccountID = new AccountID();
+    decodedAccountID.AccountID = PublicKey.fromJson(reader);
+    return decodedAccountID;
+  }
+
+  public static AccountID fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
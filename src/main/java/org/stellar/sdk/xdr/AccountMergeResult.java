@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AccountMergeResult's original definition in the XDR file is:
@@ -55,6 +56,25 @@ public class AccountMergeResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case ACCOUNT_MERGE_SUCCESS:
+        size += sourceAccountBalance.encodedSize();
+        break;
+      case ACCOUNT_MERGE_MALFORMED:
+      case ACCOUNT_MERGE_NO_ACCOUNT:
+      case ACCOUNT_MERGE_IMMUTABLE_SET:
+      case ACCOUNT_MERGE_HAS_SUB_ENTRIES:
+      case ACCOUNT_MERGE_SEQNUM_TOO_FAR:
+      case ACCOUNT_MERGE_DEST_FULL:
+      case ACCOUNT_MERGE_IS_SPONSOR:
+        break;
+    }
+    return size;
+  }
+
   public static AccountMergeResult decode(XdrDataInputStream stream) throws IOException {
     AccountMergeResult decodedAccountMergeResult = new AccountMergeResult();
     AccountMergeResultCode discriminant = AccountMergeResultCode.decode(stream);
@@ -75,14 +95,144 @@ public class AccountMergeResult implements XdrElement {
     return decodedAccountMergeResult;
   }
 
+  public static AccountMergeResult decodeInto(
+      AccountMergeResult existing, XdrDataInputStream stream) throws IOException {
+    AccountMergeResultCode discriminant = AccountMergeResultCode.decode(stream);
+    AccountMergeResult decodedAccountMergeResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new AccountMergeResult();
+    decodedAccountMergeResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case ACCOUNT_MERGE_SUCCESS:
+        decodedAccountMergeResult.sourceAccountBalance =
+            Int64.decodeInto(decodedAccountMergeResult.sourceAccountBalance, stream);
+        break;
+      case ACCOUNT_MERGE_MALFORMED:
+      case ACCOUNT_MERGE_NO_ACCOUNT:
+      case ACCOUNT_MERGE_IMMUTABLE_SET:
+      case ACCOUNT_MERGE_HAS_SUB_ENTRIES:
+      case ACCOUNT_MERGE_SEQNUM_TOO_FAR:
+      case ACCOUNT_MERGE_DEST_FULL:
+      case ACCOUNT_MERGE_IS_SPONSOR:
+        break;
+    }
+    return decodedAccountMergeResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountMergeResultCode discriminant = AccountMergeResultCode.decode(stream);
+    switch (discriminant) {
+      case ACCOUNT_MERGE_SUCCESS:
+        Int64.skip(stream);
+        break;
+      case ACCOUNT_MERGE_MALFORMED:
+      case ACCOUNT_MERGE_NO_ACCOUNT:
+      case ACCOUNT_MERGE_IMMUTABLE_SET:
+      case ACCOUNT_MERGE_HAS_SUB_ENTRIES:
+      case ACCOUNT_MERGE_SEQNUM_TOO_FAR:
+      case ACCOUNT_MERGE_DEST_FULL:
+      case ACCOUNT_MERGE_IS_SPONSOR:
+        break;
+      default:
+        throw new IOException("Unknown AccountMergeResult discriminant: " + discriminant);
+    }
+  }
+
   public static AccountMergeResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AccountMergeResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case ACCOUNT_MERGE_SUCCESS:
+        writer.beginObject();
+        writer.name("success");
+        sourceAccountBalance.toJson(writer);
+        writer.endObject();
+        break;
+      case ACCOUNT_MERGE_MALFORMED:
+        writer.value("malformed");
+        break;
+      case ACCOUNT_MERGE_NO_ACCOUNT:
+        writer.value("no_account");
+        break;
+      case ACCOUNT_MERGE_IMMUTABLE_SET:
+        writer.value("immutable_set");
+        break;
+      case ACCOUNT_MERGE_HAS_SUB_ENTRIES:
+        writer.value("has_sub_entries");
+        break;
+      case ACCOUNT_MERGE_SEQNUM_TOO_FAR:
+        writer.value("seqnum_too_far");
+        break;
+      case ACCOUNT_MERGE_DEST_FULL:
+        writer.value("dest_full");
+        break;
+      case ACCOUNT_MERGE_IS_SPONSOR:
+        writer.value("is_sponsor");
+        break;
+    }
+  }
+
+  public static AccountMergeResult fromJson(JsonReader reader) throws IOException {
+    AccountMergeResult decodedAccountMergeResult = new AccountMergeResult();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "malformed":
+          decodedAccountMergeResult.setDiscriminant(AccountMergeResultCode.ACCOUNT_MERGE_MALFORMED);
+          break;
+        case "no_account":
+          decodedAccountMergeResult.setDiscriminant(
+              AccountMergeResultCode.ACCOUNT_MERGE_NO_ACCOUNT);
+          break;
+        case "immutable_set":
+          decodedAccountMergeResult.setDiscriminant(
+              AccountMergeResultCode.ACCOUNT_MERGE_IMMUTABLE_SET);
+          break;
+        case "has_sub_entries":
+          decodedAccountMergeResult.setDiscriminant(
+              AccountMergeResultCode.ACCOUNT_MERGE_HAS_SUB_ENTRIES);
+          break;
+        case "seqnum_too_far":
+          decodedAccountMergeResult.setDiscriminant(
+              AccountMergeResultCode.ACCOUNT_MERGE_SEQNUM_TOO_FAR);
+          break;
+        case "dest_full":
+          decodedAccountMergeResult.setDiscriminant(AccountMergeResultCode.ACCOUNT_MERGE_DEST_FULL);
+          break;
+        case "is_sponsor":
+          decodedAccountMergeResult.setDiscriminant(
+              AccountMergeResultCode.ACCOUNT_MERGE_IS_SPONSOR);
+          break;
+        default:
+          throw new IOException("Unknown AccountMergeResult arm: " + key);
+      }
+      return decodedAccountMergeResult;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "success":
+        decodedAccountMergeResult.setDiscriminant(AccountMergeResultCode.ACCOUNT_MERGE_SUCCESS);
+        decodedAccountMergeResult.sourceAccountBalance = Int64.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown AccountMergeResult arm: " + key);
+    }
+    reader.endObject();
+    return decodedAccountMergeResult;
+  }
+
+  public static AccountMergeResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
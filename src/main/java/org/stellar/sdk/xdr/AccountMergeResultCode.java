@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AccountMergeResultCode's original definition in the XDR file is:
@@ -71,18 +71,83 @@ public enum AccountMergeResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static AccountMergeResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AccountMergeResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case ACCOUNT_MERGE_SUCCESS:
+        writer.value("success");
+        break;
+      case ACCOUNT_MERGE_MALFORMED:
+        writer.value("malformed");
+        break;
+      case ACCOUNT_MERGE_NO_ACCOUNT:
+        writer.value("no_account");
+        break;
+      case ACCOUNT_MERGE_IMMUTABLE_SET:
+        writer.value("immutable_set");
+        break;
+      case ACCOUNT_MERGE_HAS_SUB_ENTRIES:
+        writer.value("has_sub_entries");
+        break;
+      case ACCOUNT_MERGE_SEQNUM_TOO_FAR:
+        writer.value("seqnum_too_far");
+        break;
+      case ACCOUNT_MERGE_DEST_FULL:
+        writer.value("dest_full");
+        break;
+      case ACCOUNT_MERGE_IS_SPONSOR:
+        writer.value("is_sponsor");
+        break;
+    }
+  }
+
+  public static AccountMergeResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return ACCOUNT_MERGE_SUCCESS;
+      case "malformed":
+        return ACCOUNT_MERGE_MALFORMED;
+      case "no_account":
+        return ACCOUNT_MERGE_NO_ACCOUNT;
+      case "immutable_set":
+        return ACCOUNT_MERGE_IMMUTABLE_SET;
+      case "has_sub_entries":
+        return ACCOUNT_MERGE_HAS_SUB_ENTRIES;
+      case "seqnum_too_far":
+        return ACCOUNT_MERGE_SEQNUM_TOO_FAR;
+      case "dest_full":
+        return ACCOUNT_MERGE_DEST_FULL;
+      case "is_sponsor":
+        return ACCOUNT_MERGE_IS_SPONSOR;
+      default:
+        throw new IOException("Unknown AccountMergeResultCode value: " + value);
+    }
+  }
+
+  public static AccountMergeResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
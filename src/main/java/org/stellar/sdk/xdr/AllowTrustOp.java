@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AllowTrustOp's original definition in the XDR file is:
@@ -40,6 +40,14 @@ public class AllowTrustOp implements XdrElement {
     authorize.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += trustor.encodedSize();
+    size += asset.encodedSize();
+    size += authorize.encodedSize();
+    return size;
+  }
+
   public static AllowTrustOp decode(XdrDataInputStream stream) throws IOException {
     AllowTrustOp decodedAllowTrustOp = new AllowTrustOp();
     decodedAllowTrustOp.trustor = AccountID.decode(stream);
@@ -48,14 +56,67 @@ public class AllowTrustOp implements XdrElement {
     return decodedAllowTrustOp;
   }
 
+  public static AllowTrustOp decodeInto(AllowTrustOp existing, XdrDataInputStream stream)
+      throws IOException {
+    AllowTrustOp decodedAllowTrustOp = existing != null ? existing : new AllowTrustOp();
+    decodedAllowTrustOp.trustor = AccountID.decodeInto(decodedAllowTrustOp.trustor, stream);
+    decodedAllowTrustOp.asset = AssetCode.decodeInto(decodedAllowTrustOp.asset, stream);
+    decodedAllowTrustOp.authorize = Uint32.decodeInto(decodedAllowTrustOp.authorize, stream);
+    return decodedAllowTrustOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+    AssetCode.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static AllowTrustOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AllowTrustOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("trustor");
+    trustor.toJson(writer);
+    writer.name("asset");
+    asset.toJson(writer);
+    writer.name("authorize");
+    authorize.toJson(writer);
+    writer.endObject();
+  }
+
+  public static AllowTrustOp fromJson(JsonReader reader) throws IOException {
+    AllowTrustOp decodedAllowTrustOp = new AllowTrustOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "trustor":
+          decodedAllowTrustOp.trustor = AccountID.fromJson(reader);
+          break;
+        case "asset":
+          decodedAllowTrustOp.asset = AssetCode.fromJson(reader);
+          break;
+        case "authorize":
+          decodedAllowTrustOp.authorize = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AllowTrustOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedAllowTrustOp;
+  }
+
+  public static AllowTrustOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
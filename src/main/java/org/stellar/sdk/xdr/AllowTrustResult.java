@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AllowTrustResult's original definition in the XDR file is:
@@ -51,6 +51,23 @@ public class AllowTrustResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case ALLOW_TRUST_SUCCESS:
+        break;
+      case ALLOW_TRUST_MALFORMED:
+      case ALLOW_TRUST_NO_TRUST_LINE:
+      case ALLOW_TRUST_TRUST_NOT_REQUIRED:
+      case ALLOW_TRUST_CANT_REVOKE:
+      case ALLOW_TRUST_SELF_NOT_ALLOWED:
+      case ALLOW_TRUST_LOW_RESERVE:
+        break;
+    }
+    return size;
+  }
+
   public static AllowTrustResult decode(XdrDataInputStream stream) throws IOException {
     AllowTrustResult decodedAllowTrustResult = new AllowTrustResult();
     AllowTrustResultCode discriminant = AllowTrustResultCode.decode(stream);
@@ -69,14 +86,115 @@ public class AllowTrustResult implements XdrElement {
     return decodedAllowTrustResult;
   }
 
+  public static AllowTrustResult decodeInto(AllowTrustResult existing, XdrDataInputStream stream)
+      throws IOException {
+    AllowTrustResultCode discriminant = AllowTrustResultCode.decode(stream);
+    AllowTrustResult decodedAllowTrustResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new AllowTrustResult();
+    decodedAllowTrustResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case ALLOW_TRUST_SUCCESS:
+        break;
+      case ALLOW_TRUST_MALFORMED:
+      case ALLOW_TRUST_NO_TRUST_LINE:
+      case ALLOW_TRUST_TRUST_NOT_REQUIRED:
+      case ALLOW_TRUST_CANT_REVOKE:
+      case ALLOW_TRUST_SELF_NOT_ALLOWED:
+      case ALLOW_TRUST_LOW_RESERVE:
+        break;
+    }
+    return decodedAllowTrustResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AllowTrustResultCode discriminant = AllowTrustResultCode.decode(stream);
+    switch (discriminant) {
+      case ALLOW_TRUST_SUCCESS:
+        break;
+      case ALLOW_TRUST_MALFORMED:
+      case ALLOW_TRUST_NO_TRUST_LINE:
+      case ALLOW_TRUST_TRUST_NOT_REQUIRED:
+      case ALLOW_TRUST_CANT_REVOKE:
+      case ALLOW_TRUST_SELF_NOT_ALLOWED:
+      case ALLOW_TRUST_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown AllowTrustResult discriminant: " + discriminant);
+    }
+  }
+
   public static AllowTrustResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AllowTrustResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case ALLOW_TRUST_SUCCESS:
+        writer.value("success");
+        break;
+      case ALLOW_TRUST_MALFORMED:
+        writer.value("malformed");
+        break;
+      case ALLOW_TRUST_NO_TRUST_LINE:
+        writer.value("no_trust_line");
+        break;
+      case ALLOW_TRUST_TRUST_NOT_REQUIRED:
+        writer.value("trust_not_required");
+        break;
+      case ALLOW_TRUST_CANT_REVOKE:
+        writer.value("cant_revoke");
+        break;
+      case ALLOW_TRUST_SELF_NOT_ALLOWED:
+        writer.value("self_not_allowed");
+        break;
+      case ALLOW_TRUST_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+    }
+  }
+
+  public static AllowTrustResult fromJson(JsonReader reader) throws IOException {
+    AllowTrustResult decodedAllowTrustResult = new AllowTrustResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedAllowTrustResult.setDiscriminant(AllowTrustResultCode.ALLOW_TRUST_SUCCESS);
+        break;
+      case "malformed":
+        decodedAllowTrustResult.setDiscriminant(AllowTrustResultCode.ALLOW_TRUST_MALFORMED);
+        break;
+      case "no_trust_line":
+        decodedAllowTrustResult.setDiscriminant(AllowTrustResultCode.ALLOW_TRUST_NO_TRUST_LINE);
+        break;
+      case "trust_not_required":
+        decodedAllowTrustResult.setDiscriminant(
+            AllowTrustResultCode.ALLOW_TRUST_TRUST_NOT_REQUIRED);
+        break;
+      case "cant_revoke":
+        decodedAllowTrustResult.setDiscriminant(AllowTrustResultCode.ALLOW_TRUST_CANT_REVOKE);
+        break;
+      case "self_not_allowed":
+        decodedAllowTrustResult.setDiscriminant(AllowTrustResultCode.ALLOW_TRUST_SELF_NOT_ALLOWED);
+        break;
+      case "low_reserve":
+        decodedAllowTrustResult.setDiscriminant(AllowTrustResultCode.ALLOW_TRUST_LOW_RESERVE);
+        break;
+      default:
+        throw new IOException("Unknown AllowTrustResult arm: " + key);
+    }
+    return decodedAllowTrustResult;
+  }
+
+  public static AllowTrustResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
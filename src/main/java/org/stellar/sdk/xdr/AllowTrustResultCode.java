@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AllowTrustResultCode's original definition in the XDR file is:
@@ -68,18 +68,78 @@ public enum AllowTrustResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static AllowTrustResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AllowTrustResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case ALLOW_TRUST_SUCCESS:
+        writer.value("success");
+        break;
+      case ALLOW_TRUST_MALFORMED:
+        writer.value("malformed");
+        break;
+      case ALLOW_TRUST_NO_TRUST_LINE:
+        writer.value("no_trust_line");
+        break;
+      case ALLOW_TRUST_TRUST_NOT_REQUIRED:
+        writer.value("trust_not_required");
+        break;
+      case ALLOW_TRUST_CANT_REVOKE:
+        writer.value("cant_revoke");
+        break;
+      case ALLOW_TRUST_SELF_NOT_ALLOWED:
+        writer.value("self_not_allowed");
+        break;
+      case ALLOW_TRUST_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+    }
+  }
+
+  public static AllowTrustResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return ALLOW_TRUST_SUCCESS;
+      case "malformed":
+        return ALLOW_TRUST_MALFORMED;
+      case "no_trust_line":
+        return ALLOW_TRUST_NO_TRUST_LINE;
+      case "trust_not_required":
+        return ALLOW_TRUST_TRUST_NOT_REQUIRED;
+      case "cant_revoke":
+        return ALLOW_TRUST_CANT_REVOKE;
+      case "self_not_allowed":
+        return ALLOW_TRUST_SELF_NOT_ALLOWED;
+      case "low_reserve":
+        return ALLOW_TRUST_LOW_RESERVE;
+      default:
+        throw new IOException("Unknown AllowTrustResultCode value: " + value);
+    }
+  }
+
+  public static AllowTrustResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AlphaNum12's original definition in the XDR file is:
@@ -35,21 +35,78 @@ public class AlphaNum12 implements XdrElement {
     issuer.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += assetCode.encodedSize();
+    size += issuer.encodedSize();
+    return size;
+  }
+
   public static AlphaNum12 decode(XdrDataInputStream stream) throws IOException {
+    int start = stream.getPosition();
     AlphaNum12 decodedAlphaNum12 = new AlphaNum12();
     decodedAlphaNum12.assetCode = AssetCode12.decode(stream);
     decodedAlphaNum12.issuer = AccountID.decode(stream);
+    return stream.intern(start, decodedAlphaNum12);
+  }
+
+  public static AlphaNum12 decodeInto(AlphaNum12 existing, XdrDataInputStream stream)
+      throws IOException {
+    if (stream.getInterner() != null) {
+      return decode(stream);
+    }
+    AlphaNum12 decodedAlphaNum12 = existing != null ? existing : new AlphaNum12();
+    decodedAlphaNum12.assetCode = AssetCode12.decodeInto(decodedAlphaNum12.assetCode, stream);
+    decodedAlphaNum12.issuer = AccountID.decodeInto(decodedAlphaNum12.issuer, stream);
     return decodedAlphaNum12;
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AssetCode12.skip(stream);
+    AccountID.skip(stream);
+  }
+
   public static AlphaNum12 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AlphaNum12 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("asset_code");
+    assetCode.toJson(writer);
+    writer.name("issuer");
+    issuer.toJson(writer);
+    writer.endObject();
+  }
+
+  public static AlphaNum12 fromJson(JsonReader reader) throws IOException {
+    AlphaNum12 decodedAlphaNum12 = new AlphaNum12();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "asset_code":
+          decodedAlphaNum12.assetCode = AssetCode12.fromJson(reader);
+          break;
+        case "issuer":
+          decodedAlphaNum12.issuer = AccountID.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AlphaNum12 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedAlphaNum12;
+  }
+
+  public static AlphaNum12 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AlphaNum4's original definition in the XDR file is:
@@ -35,21 +35,78 @@ public class AlphaNum4 implements XdrElement {
     issuer.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += assetCode.encodedSize();
+    size += issuer.encodedSize();
+    return size;
+  }
+
   public static AlphaNum4 decode(XdrDataInputStream stream) throws IOException {
+    int start = stream.getPosition();
     AlphaNum4 decodedAlphaNum4 = new AlphaNum4();
     decodedAlphaNum4.assetCode = AssetCode4.decode(stream);
     decodedAlphaNum4.issuer = AccountID.decode(stream);
+    return stream.intern(start, decodedAlphaNum4);
+  }
+
+  public static AlphaNum4 decodeInto(AlphaNum4 existing, XdrDataInputStream stream)
+      throws IOException {
+    if (stream.getInterner() != null) {
+      return decode(stream);
+    }
+    AlphaNum4 decodedAlphaNum4 = existing != null ? existing : new AlphaNum4();
+    decodedAlphaNum4.assetCode = AssetCode4.decodeInto(decodedAlphaNum4.assetCode, stream);
+    decodedAlphaNum4.issuer = AccountID.decodeInto(decodedAlphaNum4.issuer, stream);
     return decodedAlphaNum4;
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AssetCode4.skip(stream);
+    AccountID.skip(stream);
+  }
+
   public static AlphaNum4 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AlphaNum4 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("asset_code");
+    assetCode.toJson(writer);
+    writer.name("issuer");
+    issuer.toJson(writer);
+    writer.endObject();
+  }
+
+  public static AlphaNum4 fromJson(JsonReader reader) throws IOException {
+    AlphaNum4 decodedAlphaNum4 = new AlphaNum4();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "asset_code":
+          decodedAlphaNum4.assetCode = AssetCode4.fromJson(reader);
+          break;
+        case "issuer":
+          decodedAlphaNum4.issuer = AccountID.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AlphaNum4 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedAlphaNum4;
+  }
+
+  public static AlphaNum4 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Asset's original definition in the XDR file is:
@@ -53,7 +54,24 @@ public class Asset implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        size += alphaNum4.encodedSize();
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        size += alphaNum12.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static Asset decode(XdrDataInputStream stream) throws IOException {
+    int start = stream.getPosition();
     Asset decodedAsset = new Asset();
     AssetType discriminant = AssetType.decode(stream);
     decodedAsset.setDiscriminant(discriminant);
@@ -67,17 +85,109 @@ public class Asset implements XdrElement {
         decodedAsset.alphaNum12 = AlphaNum12.decode(stream);
         break;
     }
+    return stream.intern(start, decodedAsset);
+  }
+
+  public static Asset decodeInto(Asset existing, XdrDataInputStream stream) throws IOException {
+    if (stream.getInterner() != null) {
+      return decode(stream);
+    }
+    AssetType discriminant = AssetType.decode(stream);
+    Asset decodedAsset =
+        existing != null && discriminant.equals(existing.discriminant) ? existing : new Asset();
+    decodedAsset.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        decodedAsset.alphaNum4 = AlphaNum4.decodeInto(decodedAsset.alphaNum4, stream);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        decodedAsset.alphaNum12 = AlphaNum12.decodeInto(decodedAsset.alphaNum12, stream);
+        break;
+    }
     return decodedAsset;
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AssetType discriminant = AssetType.decode(stream);
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        AlphaNum4.skip(stream);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        AlphaNum12.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown Asset discriminant: " + discriminant);
+    }
+  }
+
   public static Asset fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Asset fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        writer.value("native");
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        writer.beginObject();
+        writer.name("credit_alphanum4");
+        alphaNum4.toJson(writer);
+        writer.endObject();
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        writer.beginObject();
+        writer.name("credit_alphanum12");
+        alphaNum12.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static Asset fromJson(JsonReader reader) throws IOException {
+    Asset decodedAsset = new Asset();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "native":
+          decodedAsset.setDiscriminant(AssetType.ASSET_TYPE_NATIVE);
+          break;
+        default:
+          throw new IOException("Unknown Asset arm: " + key);
+      }
+      return decodedAsset;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "credit_alphanum4":
+        decodedAsset.setDiscriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM4);
+        decodedAsset.alphaNum4 = AlphaNum4.fromJson(reader);
+        break;
+      case "credit_alphanum12":
+        decodedAsset.setDiscriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM12);
+        decodedAsset.alphaNum12 = AlphaNum12.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown Asset arm: " + key);
+    }
+    reader.endObject();
+    return decodedAsset;
+  }
+
+  public static Asset fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
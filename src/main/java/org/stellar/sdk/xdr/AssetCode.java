@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AssetCode's original definition in the XDR file is:
@@ -48,6 +48,20 @@ public class AssetCode implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        size += assetCode4.encodedSize();
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        size += assetCode12.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static AssetCode decode(XdrDataInputStream stream) throws IOException {
     AssetCode decodedAssetCode = new AssetCode();
     AssetType discriminant = AssetType.decode(stream);
@@ -63,14 +77,86 @@ public class AssetCode implements XdrElement {
     return decodedAssetCode;
   }
 
+  public static AssetCode decodeInto(AssetCode existing, XdrDataInputStream stream)
+      throws IOException {
+    AssetType discriminant = AssetType.decode(stream);
+    AssetCode decodedAssetCode =
+        existing != null && discriminant.equals(existing.discriminant) ? existing : new AssetCode();
+    decodedAssetCode.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        decodedAssetCode.assetCode4 = AssetCode4.decodeInto(decodedAssetCode.assetCode4, stream);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        decodedAssetCode.assetCode12 = AssetCode12.decodeInto(decodedAssetCode.assetCode12, stream);
+        break;
+    }
+    return decodedAssetCode;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AssetType discriminant = AssetType.decode(stream);
+    switch (discriminant) {
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        AssetCode4.skip(stream);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        AssetCode12.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown AssetCode discriminant: " + discriminant);
+    }
+  }
+
   public static AssetCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AssetCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        writer.beginObject();
+        writer.name("credit_alphanum4");
+        assetCode4.toJson(writer);
+        writer.endObject();
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        writer.beginObject();
+        writer.name("credit_alphanum12");
+        assetCode12.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static AssetCode fromJson(JsonReader reader) throws IOException {
+    AssetCode decodedAssetCode = new AssetCode();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "credit_alphanum4":
+        decodedAssetCode.setDiscriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM4);
+        decodedAssetCode.assetCode4 = AssetCode4.fromJson(reader);
+        break;
+      case "credit_alphanum12":
+        decodedAssetCode.setDiscriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM12);
+        decodedAssetCode.assetCode12 = AssetCode12.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown AssetCode arm: " + key);
+    }
+    reader.endObject();
+    return decodedAssetCode;
+  }
+
+  public static AssetCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
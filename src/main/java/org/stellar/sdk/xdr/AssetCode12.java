@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AssetCode12's original definition in the XDR file is:
@@ -28,6 +28,13 @@ public class AssetCode12 implements XdrElement {
     stream.write(getAssetCode12(), 0, AssetCode12Size);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int AssetCode12Size = AssetCode12.length;
+    size += XdrDataOutputStream.paddedSize(AssetCode12Size);
+    return size;
+  }
+
   public static AssetCode12 decode(XdrDataInputStream stream) throws IOException {
     AssetCode12 decodedAssetCode12 = new AssetCode12();
     int AssetCode12Size = 12;
@@ -36,14 +43,43 @@ public class AssetCode12 implements XdrElement {
     return decodedAssetCode12;
   }
 
+  public static AssetCode12 decodeInto(AssetCode12 existing, XdrDataInputStream stream)
+      throws IOException {
+    AssetCode12 decodedAssetCode12 = existing != null ? existing : new AssetCode12();
+    int AssetCode12Size = 12;
+    decodedAssetCode12.AssetCode12 =
+        XdrRecycler.resize(decodedAssetCode12.AssetCode12, AssetCode12Size);
+    stream.read(decodedAssetCode12.AssetCode12, 0, AssetCode12Size);
+    return decodedAssetCode12;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int AssetCode12Size = 12;
+    stream.skipOpaque(AssetCode12Size);
+  }
+
   public static AssetCode12 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AssetCode12 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeAssetCode(writer, AssetCode12);
+  }
+
+  public static AssetCode12 fromJson(JsonReader reader) throws IOException {
+    AssetCode12 decodedAssetCode12 = new AssetCode12();
+    decodedAssetCode12.AssetCode12 = XdrJson.readAssetCode(reader, 12);
+    return decodedAssetCode12;
+  }
+
+  public static AssetCode12 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
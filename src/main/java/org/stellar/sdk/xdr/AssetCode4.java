@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AssetCode4's original definition in the XDR file is:
@@ -28,6 +28,13 @@ public class AssetCode4 implements XdrElement {
     stream.write(getAssetCode4(), 0, AssetCode4Size);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int AssetCode4Size = AssetCode4.length;
+    size += XdrDataOutputStream.paddedSize(AssetCode4Size);
+    return size;
+  }
+
   public static AssetCode4 decode(XdrDataInputStream stream) throws IOException {
     AssetCode4 decodedAssetCode4 = new AssetCode4();
     int AssetCode4Size = 4;
@@ -36,14 +43,42 @@ public class AssetCode4 implements XdrElement {
     return decodedAssetCode4;
   }
 
+  public static AssetCode4 decodeInto(AssetCode4 existing, XdrDataInputStream stream)
+      throws IOException {
+    AssetCode4 decodedAssetCode4 = existing != null ? existing : new AssetCode4();
+    int AssetCode4Size = 4;
+    decodedAssetCode4.AssetCode4 = XdrRecycler.resize(decodedAssetCode4.AssetCode4, AssetCode4Size);
+    stream.read(decodedAssetCode4.AssetCode4, 0, AssetCode4Size);
+    return decodedAssetCode4;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int AssetCode4Size = 4;
+    stream.skipOpaque(AssetCode4Size);
+  }
+
   public static AssetCode4 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AssetCode4 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeAssetCode(writer, AssetCode4);
+  }
+
+  public static AssetCode4 fromJson(JsonReader reader) throws IOException {
+    AssetCode4 decodedAssetCode4 = new AssetCode4();
+    decodedAssetCode4.AssetCode4 = XdrJson.readAssetCode(reader, 4);
+    return decodedAssetCode4;
+  }
+
+  public static AssetCode4 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AssetType's original definition in the XDR file is:
@@ -52,18 +52,63 @@ public enum AssetType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static AssetType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AssetType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case ASSET_TYPE_NATIVE:
+        writer.value("native");
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        writer.value("credit_alphanum4");
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        writer.value("credit_alphanum12");
+        break;
+      case ASSET_TYPE_POOL_SHARE:
+        writer.value("pool_share");
+        break;
+    }
+  }
+
+  public static AssetType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "native":
+        return ASSET_TYPE_NATIVE;
+      case "credit_alphanum4":
+        return ASSET_TYPE_CREDIT_ALPHANUM4;
+      case "credit_alphanum12":
+        return ASSET_TYPE_CREDIT_ALPHANUM12;
+      case "pool_share":
+        return ASSET_TYPE_POOL_SHARE;
+      default:
+        throw new IOException("Unknown AssetType value: " + value);
+    }
+  }
+
+  public static AssetType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Auth's original definition in the XDR file is:
@@ -32,20 +32,62 @@ public class Auth implements XdrElement {
     stream.writeInt(flags);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static Auth decode(XdrDataInputStream stream) throws IOException {
     Auth decodedAuth = new Auth();
     decodedAuth.flags = stream.readInt();
     return decodedAuth;
   }
 
+  public static Auth decodeInto(Auth existing, XdrDataInputStream stream) throws IOException {
+    Auth decodedAuth = existing != null ? existing : new Auth();
+    decodedAuth.flags = stream.readInt();
+    return decodedAuth;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.readInt();
+  }
+
   public static Auth fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Auth fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("flags");
+    writer.value(flags);
+    writer.endObject();
+  }
+
+  public static Auth fromJson(JsonReader reader) throws IOException {
+    Auth decodedAuth = new Auth();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "flags":
+          decodedAuth.flags = reader.nextInt();
+          break;
+        default:
+          throw new IOException("Unknown Auth field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedAuth;
+  }
+
+  public static Auth fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AuthCert's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class AuthCert implements XdrElement {
     sig.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += pubkey.encodedSize();
+    size += expiration.encodedSize();
+    size += sig.encodedSize();
+    return size;
+  }
+
   public static AuthCert decode(XdrDataInputStream stream) throws IOException {
     AuthCert decodedAuthCert = new AuthCert();
     decodedAuthCert.pubkey = Curve25519Public.decode(stream);
@@ -46,14 +54,67 @@ public class AuthCert implements XdrElement {
     return decodedAuthCert;
   }
 
+  public static AuthCert decodeInto(AuthCert existing, XdrDataInputStream stream)
+      throws IOException {
+    AuthCert decodedAuthCert = existing != null ? existing : new AuthCert();
+    decodedAuthCert.pubkey = Curve25519Public.decodeInto(decodedAuthCert.pubkey, stream);
+    decodedAuthCert.expiration = Uint64.decodeInto(decodedAuthCert.expiration, stream);
+    decodedAuthCert.sig = Signature.decodeInto(decodedAuthCert.sig, stream);
+    return decodedAuthCert;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Curve25519Public.skip(stream);
+    Uint64.skip(stream);
+    Signature.skip(stream);
+  }
+
   public static AuthCert fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AuthCert fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("pubkey");
+    pubkey.toJson(writer);
+    writer.name("expiration");
+    expiration.toJson(writer);
+    writer.name("sig");
+    sig.toJson(writer);
+    writer.endObject();
+  }
+
+  public static AuthCert fromJson(JsonReader reader) throws IOException {
+    AuthCert decodedAuthCert = new AuthCert();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "pubkey":
+          decodedAuthCert.pubkey = Curve25519Public.fromJson(reader);
+          break;
+        case "expiration":
+          decodedAuthCert.expiration = Uint64.fromJson(reader);
+          break;
+        case "sig":
+          decodedAuthCert.sig = Signature.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown AuthCert field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedAuthCert;
+  }
+
+  public static AuthCert fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
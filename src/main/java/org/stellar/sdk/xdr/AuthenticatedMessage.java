@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * AuthenticatedMessage's original definition in the XDR file is:
@@ -44,6 +44,17 @@ public class AuthenticatedMessage implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant.getUint32().getNumber().intValue()) {
+      case 0:
+        size += v0.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static AuthenticatedMessage decode(XdrDataInputStream stream) throws IOException {
     AuthenticatedMessage decodedAuthenticatedMessage = new AuthenticatedMessage();
     Uint32 discriminant = Uint32.decode(stream);
@@ -56,17 +67,76 @@ public class AuthenticatedMessage implements XdrElement {
     return decodedAuthenticatedMessage;
   }
 
+  public static AuthenticatedMessage decodeInto(
+      AuthenticatedMessage existing, XdrDataInputStream stream) throws IOException {
+    Uint32 discriminant = Uint32.decode(stream);
+    AuthenticatedMessage decodedAuthenticatedMessage =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new AuthenticatedMessage();
+    decodedAuthenticatedMessage.setDiscriminant(discriminant);
+    switch (discriminant.getUint32().getNumber().intValue()) {
+      case 0:
+        decodedAuthenticatedMessage.v0 =
+            AuthenticatedMessageV0.decodeInto(decodedAuthenticatedMessage.v0, stream);
+        break;
+    }
+    return decodedAuthenticatedMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32 discriminant = Uint32.decode(stream);
+    switch (discriminant.getUint32().getNumber().intValue()) {
+      case 0:
+        AuthenticatedMessageV0.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown AuthenticatedMessage discriminant: " + discriminant);
+    }
+  }
+
   public static AuthenticatedMessage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static AuthenticatedMessage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant.getUint32().getNumber().intValue()) {
+      case 0:
+        writer.beginObject();
+        writer.name("v0");
+        v0.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static AuthenticatedMessage fromJson(JsonReader reader) throws IOException {
+    AuthenticatedMessage decodedAuthenticatedMessage = new AuthenticatedMessage();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v0":
+        decodedAuthenticatedMessage.setDiscriminant(new Uint32(new XdrUnsignedInteger(0)));
+        decodedAuthenticatedMessage.v0 = AuthenticatedMessageV0.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown AuthenticatedMessage arm: " + key);
+    }
+    reader.endObject();
+    return decodedAuthenticatedMessage;
+  }
+
+  public static AuthenticatedMessage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * AuthenticatedMessageV0's original definition in the XDR file is:
    *
@@ -94,6 +164,14 @@ public class AuthenticatedMessage implements XdrElement {
       mac.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += sequence.encodedSize();
+      size += message.encodedSize();
+      size += mac.encodedSize();
+      return size;
+    }
+
     public static AuthenticatedMessageV0 decode(XdrDataInputStream stream) throws IOException {
       AuthenticatedMessageV0 decodedAuthenticatedMessageV0 = new AuthenticatedMessageV0();
       decodedAuthenticatedMessageV0.sequence = Uint64.decode(stream);
@@ -102,15 +180,72 @@ public class AuthenticatedMessage implements XdrElement {
       return decodedAuthenticatedMessageV0;
     }
 
+    public static AuthenticatedMessageV0 decodeInto(
+        AuthenticatedMessageV0 existing, XdrDataInputStream stream) throws IOException {
+      AuthenticatedMessageV0 decodedAuthenticatedMessageV0 =
+          existing != null ? existing : new AuthenticatedMessageV0();
+      decodedAuthenticatedMessageV0.sequence =
+          Uint64.decodeInto(decodedAuthenticatedMessageV0.sequence, stream);
+      decodedAuthenticatedMessageV0.message =
+          StellarMessage.decodeInto(decodedAuthenticatedMessageV0.message, stream);
+      decodedAuthenticatedMessageV0.mac =
+          HmacSha256Mac.decodeInto(decodedAuthenticatedMessageV0.mac, stream);
+      return decodedAuthenticatedMessageV0;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Uint64.skip(stream);
+      StellarMessage.skip(stream);
+      HmacSha256Mac.skip(stream);
+    }
+
     public static AuthenticatedMessageV0 fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static AuthenticatedMessageV0 fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("sequence");
+      sequence.toJson(writer);
+      writer.name("message");
+      message.toJson(writer);
+      writer.name("mac");
+      mac.toJson(writer);
+      writer.endObject();
+    }
+
+    public static AuthenticatedMessageV0 fromJson(JsonReader reader) throws IOException {
+      AuthenticatedMessageV0 decodedAuthenticatedMessageV0 = new AuthenticatedMessageV0();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "sequence":
+            decodedAuthenticatedMessageV0.sequence = Uint64.fromJson(reader);
+            break;
+          case "message":
+            decodedAuthenticatedMessageV0.message = StellarMessage.fromJson(reader);
+            break;
+          case "mac":
+            decodedAuthenticatedMessageV0.mac = HmacSha256Mac.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown AuthenticatedMessageV0 field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedAuthenticatedMessageV0;
+    }
+
+    public static AuthenticatedMessageV0 fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * BeginSponsoringFutureReservesOp's original definition in the XDR file is:
@@ -32,6 +32,10 @@ public class BeginSponsoringFutureReservesOp implements XdrElement {
     sponsoredID.encode(stream);
   }
 
+  public int encodedSize() {
+    return sponsoredID.encodedSize();
+  }
+
   public static BeginSponsoringFutureReservesOp decode(XdrDataInputStream stream)
       throws IOException {
     BeginSponsoringFutureReservesOp decodedBeginSponsoringFutureReservesOp =
@@ -40,14 +44,56 @@ public class BeginSponsoringFutureReservesOp implements XdrElement {
     return decodedBeginSponsoringFutureReservesOp;
   }
 
+  public static BeginSponsoringFutureReservesOp decodeInto(
+      BeginSponsoringFutureReservesOp existing, XdrDataInputStream stream) throws IOException {
+    BeginSponsoringFutureReservesOp decodedBeginSponsoringFutureReservesOp =
+        existing != null ? existing : new BeginSponsoringFutureReservesOp();
+    decodedBeginSponsoringFutureReservesOp.sponsoredID =
+        AccountID.decodeInto(decodedBeginSponsoringFutureReservesOp.sponsoredID, stream);
+    return decodedBeginSponsoringFutureReservesOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+  }
+
   public static BeginSponsoringFutureReservesOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static BeginSponsoringFutureReservesOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("sponsored_id");
+    sponsoredID.toJson(writer);
+    writer.endObject();
+  }
+
+  public static BeginSponsoringFutureReservesOp fromJson(JsonReader reader) throws IOException {
+    BeginSponsoringFutureReservesOp decodedBeginSponsoringFutureReservesOp =
+        new BeginSponsoringFutureReservesOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "sponsored_id":
+          decodedBeginSponsoringFutureReservesOp.sponsoredID = AccountID.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown BeginSponsoringFutureReservesOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedBeginSponsoringFutureReservesOp;
+  }
+
+  public static BeginSponsoringFutureReservesOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
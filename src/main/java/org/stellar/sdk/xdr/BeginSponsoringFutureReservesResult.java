@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * BeginSponsoringFutureReservesResult's original definition in the XDR file is:
@@ -46,6 +46,20 @@ public class BeginSponsoringFutureReservesResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE:
+        break;
+    }
+    return size;
+  }
+
   public static BeginSponsoringFutureReservesResult decode(XdrDataInputStream stream)
       throws IOException {
     BeginSponsoringFutureReservesResult decodedBeginSponsoringFutureReservesResult =
@@ -64,15 +78,100 @@ public class BeginSponsoringFutureReservesResult implements XdrElement {
     return decodedBeginSponsoringFutureReservesResult;
   }
 
+  public static BeginSponsoringFutureReservesResult decodeInto(
+      BeginSponsoringFutureReservesResult existing, XdrDataInputStream stream) throws IOException {
+    BeginSponsoringFutureReservesResultCode discriminant =
+        BeginSponsoringFutureReservesResultCode.decode(stream);
+    BeginSponsoringFutureReservesResult decodedBeginSponsoringFutureReservesResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new BeginSponsoringFutureReservesResult();
+    decodedBeginSponsoringFutureReservesResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE:
+        break;
+    }
+    return decodedBeginSponsoringFutureReservesResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    BeginSponsoringFutureReservesResultCode discriminant =
+        BeginSponsoringFutureReservesResultCode.decode(stream);
+    switch (discriminant) {
+      case BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE:
+        break;
+      default:
+        throw new IOException(
+            "Unknown BeginSponsoringFutureReservesResult discriminant: " + discriminant);
+    }
+  }
+
   public static BeginSponsoringFutureReservesResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static BeginSponsoringFutureReservesResult fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        writer.value("success");
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED:
+        writer.value("malformed");
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED:
+        writer.value("already_sponsored");
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE:
+        writer.value("recursive");
+        break;
+    }
+  }
+
+  public static BeginSponsoringFutureReservesResult fromJson(JsonReader reader) throws IOException {
+    BeginSponsoringFutureReservesResult decodedBeginSponsoringFutureReservesResult =
+        new BeginSponsoringFutureReservesResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedBeginSponsoringFutureReservesResult.setDiscriminant(
+            BeginSponsoringFutureReservesResultCode.BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS);
+        break;
+      case "malformed":
+        decodedBeginSponsoringFutureReservesResult.setDiscriminant(
+            BeginSponsoringFutureReservesResultCode.BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED);
+        break;
+      case "already_sponsored":
+        decodedBeginSponsoringFutureReservesResult.setDiscriminant(
+            BeginSponsoringFutureReservesResultCode
+                .BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED);
+        break;
+      case "recursive":
+        decodedBeginSponsoringFutureReservesResult.setDiscriminant(
+            BeginSponsoringFutureReservesResultCode.BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE);
+        break;
+      default:
+        throw new IOException("Unknown BeginSponsoringFutureReservesResult arm: " + key);
+    }
+    return decodedBeginSponsoringFutureReservesResult;
+  }
+
+  public static BeginSponsoringFutureReservesResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
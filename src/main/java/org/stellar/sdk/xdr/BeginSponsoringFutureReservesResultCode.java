@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * BeginSponsoringFutureReservesResultCode's original definition in the XDR file is:
@@ -56,20 +56,66 @@ public enum BeginSponsoringFutureReservesResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static BeginSponsoringFutureReservesResultCode fromXdrBase64(String xdr)
       throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static BeginSponsoringFutureReservesResultCode fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        writer.value("success");
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED:
+        writer.value("malformed");
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED:
+        writer.value("already_sponsored");
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE:
+        writer.value("recursive");
+        break;
+    }
+  }
+
+  public static BeginSponsoringFutureReservesResultCode fromJson(JsonReader reader)
+      throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS;
+      case "malformed":
+        return BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED;
+      case "already_sponsored":
+        return BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED;
+      case "recursive":
+        return BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE;
+      default:
+        throw new IOException("Unknown BeginSponsoringFutureReservesResultCode value: " + value);
+    }
+  }
+
+  public static BeginSponsoringFutureReservesResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * BinaryFuseFilterType's original definition in the XDR file is:
@@ -48,18 +48,58 @@ public enum BinaryFuseFilterType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static BinaryFuseFilterType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static BinaryFuseFilterType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case BINARY_FUSE_FILTER_8_BIT:
+        writer.value("8_bit");
+        break;
+      case BINARY_FUSE_FILTER_16_BIT:
+        writer.value("16_bit");
+        break;
+      case BINARY_FUSE_FILTER_32_BIT:
+        writer.value("32_bit");
+        break;
+    }
+  }
+
+  public static BinaryFuseFilterType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "8_bit":
+        return BINARY_FUSE_FILTER_8_BIT;
+      case "16_bit":
+        return BINARY_FUSE_FILTER_16_BIT;
+      case "32_bit":
+        return BINARY_FUSE_FILTER_32_BIT;
+      default:
+        throw new IOException("Unknown BinaryFuseFilterType value: " + value);
+    }
+  }
+
+  public static BinaryFuseFilterType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * BucketEntry's original definition in the XDR file is:
@@ -54,6 +54,24 @@ public class BucketEntry implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case LIVEENTRY:
+      case INITENTRY:
+        size += liveEntry.encodedSize();
+        break;
+      case DEADENTRY:
+        size += deadEntry.encodedSize();
+        break;
+      case METAENTRY:
+        size += metaEntry.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static BucketEntry decode(XdrDataInputStream stream) throws IOException {
     BucketEntry decodedBucketEntry = new BucketEntry();
     BucketEntryType discriminant = BucketEntryType.decode(stream);
@@ -73,14 +91,117 @@ public class BucketEntry implements XdrElement {
     return decodedBucketEntry;
   }
 
+  public static BucketEntry decodeInto(BucketEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    BucketEntryType discriminant = BucketEntryType.decode(stream);
+    BucketEntry decodedBucketEntry =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new BucketEntry();
+    decodedBucketEntry.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case LIVEENTRY:
+      case INITENTRY:
+        decodedBucketEntry.liveEntry = LedgerEntry.decodeInto(decodedBucketEntry.liveEntry, stream);
+        break;
+      case DEADENTRY:
+        decodedBucketEntry.deadEntry = LedgerKey.decodeInto(decodedBucketEntry.deadEntry, stream);
+        break;
+      case METAENTRY:
+        decodedBucketEntry.metaEntry =
+            BucketMetadata.decodeInto(decodedBucketEntry.metaEntry, stream);
+        break;
+    }
+    return decodedBucketEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    BucketEntryType discriminant = BucketEntryType.decode(stream);
+    switch (discriminant) {
+      case LIVEENTRY:
+      case INITENTRY:
+        LedgerEntry.skip(stream);
+        break;
+      case DEADENTRY:
+        LedgerKey.skip(stream);
+        break;
+      case METAENTRY:
+        BucketMetadata.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown BucketEntry discriminant: " + discriminant);
+    }
+  }
+
   public static BucketEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static BucketEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case LIVEENTRY:
+        writer.beginObject();
+        writer.name("liveentry");
+        liveEntry.toJson(writer);
+        writer.endObject();
+        break;
+      case INITENTRY:
+        writer.beginObject();
+        writer.name("initentry");
+        liveEntry.toJson(writer);
+        writer.endObject();
+        break;
+      case DEADENTRY:
+        writer.beginObject();
+        writer.name("deadentry");
+        deadEntry.toJson(writer);
+        writer.endObject();
+        break;
+      case METAENTRY:
+        writer.beginObject();
+        writer.name("metaentry");
+        metaEntry.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static BucketEntry fromJson(JsonReader reader) throws IOException {
+    BucketEntry decodedBucketEntry = new BucketEntry();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "liveentry":
+        decodedBucketEntry.setDiscriminant(BucketEntryType.LIVEENTRY);
+        decodedBucketEntry.liveEntry = LedgerEntry.fromJson(reader);
+        break;
+      case "initentry":
+        decodedBucketEntry.setDiscriminant(BucketEntryType.INITENTRY);
+        decodedBucketEntry.liveEntry = LedgerEntry.fromJson(reader);
+        break;
+      case "deadentry":
+        decodedBucketEntry.setDiscriminant(BucketEntryType.DEADENTRY);
+        decodedBucketEntry.deadEntry = LedgerKey.fromJson(reader);
+        break;
+      case "metaentry":
+        decodedBucketEntry.setDiscriminant(BucketEntryType.METAENTRY);
+        decodedBucketEntry.metaEntry = BucketMetadata.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown BucketEntry arm: " + key);
+    }
+    reader.endObject();
+    return decodedBucketEntry;
+  }
+
+  public static BucketEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * BucketEntryType's original definition in the XDR file is:
@@ -54,18 +54,63 @@ public enum BucketEntryType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static BucketEntryType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static BucketEntryType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case METAENTRY:
+        writer.value("metaentry");
+        break;
+      case LIVEENTRY:
+        writer.value("liveentry");
+        break;
+      case DEADENTRY:
+        writer.value("deadentry");
+        break;
+      case INITENTRY:
+        writer.value("initentry");
+        break;
+    }
+  }
+
+  public static BucketEntryType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "metaentry":
+        return METAENTRY;
+      case "liveentry":
+        return LIVEENTRY;
+      case "deadentry":
+        return DEADENTRY;
+      case "initentry":
+        return INITENTRY;
+      default:
+        throw new IOException("Unknown BucketEntryType value: " + value);
+    }
+  }
+
+  public static BucketEntryType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
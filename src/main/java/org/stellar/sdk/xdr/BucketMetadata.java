@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * BucketMetadata's original definition in the XDR file is:
@@ -45,6 +46,13 @@ public class BucketMetadata implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerVersion.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static BucketMetadata decode(XdrDataInputStream stream) throws IOException {
     BucketMetadata decodedBucketMetadata = new BucketMetadata();
     decodedBucketMetadata.ledgerVersion = Uint32.decode(stream);
@@ -52,17 +60,64 @@ public class BucketMetadata implements XdrElement {
     return decodedBucketMetadata;
   }
 
+  public static BucketMetadata decodeInto(BucketMetadata existing, XdrDataInputStream stream)
+      throws IOException {
+    BucketMetadata decodedBucketMetadata = existing != null ? existing : new BucketMetadata();
+    decodedBucketMetadata.ledgerVersion =
+        Uint32.decodeInto(decodedBucketMetadata.ledgerVersion, stream);
+    decodedBucketMetadata.ext = BucketMetadataExt.decodeInto(decodedBucketMetadata.ext, stream);
+    return decodedBucketMetadata;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    BucketMetadataExt.skip(stream);
+  }
+
   public static BucketMetadata fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static BucketMetadata fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_version");
+    ledgerVersion.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static BucketMetadata fromJson(JsonReader reader) throws IOException {
+    BucketMetadata decodedBucketMetadata = new BucketMetadata();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_version":
+          decodedBucketMetadata.ledgerVersion = Uint32.fromJson(reader);
+          break;
+        case "ext":
+          decodedBucketMetadata.ext = BucketMetadataExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown BucketMetadata field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedBucketMetadata;
+  }
+
+  public static BucketMetadata fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * BucketMetadataExt's original definition in the XDR file is:
    *
@@ -95,6 +150,19 @@ public class BucketMetadata implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += bucketListType.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static BucketMetadataExt decode(XdrDataInputStream stream) throws IOException {
       BucketMetadataExt decodedBucketMetadataExt = new BucketMetadataExt();
       Integer discriminant = stream.readInt();
@@ -109,15 +177,91 @@ public class BucketMetadata implements XdrElement {
       return decodedBucketMetadataExt;
     }
 
+    public static BucketMetadataExt decodeInto(
+        BucketMetadataExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      BucketMetadataExt decodedBucketMetadataExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new BucketMetadataExt();
+      decodedBucketMetadataExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          decodedBucketMetadataExt.bucketListType = BucketListType.decode(stream);
+          break;
+      }
+      return decodedBucketMetadataExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          BucketListType.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown BucketMetadataExt discriminant: " + discriminant);
+      }
+    }
+
     public static BucketMetadataExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static BucketMetadataExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 1:
+          writer.beginObject();
+          writer.name("v1");
+          bucketListType.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static BucketMetadataExt fromJson(JsonReader reader) throws IOException {
+      BucketMetadataExt decodedBucketMetadataExt = new BucketMetadataExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedBucketMetadataExt.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown BucketMetadataExt arm: " + key);
+        }
+        return decodedBucketMetadataExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v1":
+          decodedBucketMetadataExt.setDiscriminant(1);
+          decodedBucketMetadataExt.bucketListType = BucketListType.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown BucketMetadataExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedBucketMetadataExt;
+    }
+
+    public static BucketMetadataExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * BumpSequenceOp's original definition in the XDR file is:
@@ -32,20 +32,63 @@ public class BumpSequenceOp implements XdrElement {
     bumpTo.encode(stream);
   }
 
+  public int encodedSize() {
+    return bumpTo.encodedSize();
+  }
+
   public static BumpSequenceOp decode(XdrDataInputStream stream) throws IOException {
     BumpSequenceOp decodedBumpSequenceOp = new BumpSequenceOp();
     decodedBumpSequenceOp.bumpTo = SequenceNumber.decode(stream);
     return decodedBumpSequenceOp;
   }
 
+  public static BumpSequenceOp decodeInto(BumpSequenceOp existing, XdrDataInputStream stream)
+      throws IOException {
+    BumpSequenceOp decodedBumpSequenceOp = existing != null ? existing : new BumpSequenceOp();
+    decodedBumpSequenceOp.bumpTo = SequenceNumber.decodeInto(decodedBumpSequenceOp.bumpTo, stream);
+    return decodedBumpSequenceOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SequenceNumber.skip(stream);
+  }
+
   public static BumpSequenceOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static BumpSequenceOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("bump_to");
+    bumpTo.toJson(writer);
+    writer.endObject();
+  }
+
+  public static BumpSequenceOp fromJson(JsonReader reader) throws IOException {
+    BumpSequenceOp decodedBumpSequenceOp = new BumpSequenceOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "bump_to":
+          decodedBumpSequenceOp.bumpTo = SequenceNumber.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown BumpSequenceOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedBumpSequenceOp;
+  }
+
+  public static BumpSequenceOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * BumpSequenceResult's original definition in the XDR file is:
@@ -41,6 +41,18 @@ public class BumpSequenceResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case BUMP_SEQUENCE_SUCCESS:
+        break;
+      case BUMP_SEQUENCE_BAD_SEQ:
+        break;
+    }
+    return size;
+  }
+
   public static BumpSequenceResult decode(XdrDataInputStream stream) throws IOException {
     BumpSequenceResult decodedBumpSequenceResult = new BumpSequenceResult();
     BumpSequenceResultCode discriminant = BumpSequenceResultCode.decode(stream);
@@ -54,14 +66,74 @@ public class BumpSequenceResult implements XdrElement {
     return decodedBumpSequenceResult;
   }
 
+  public static BumpSequenceResult decodeInto(
+      BumpSequenceResult existing, XdrDataInputStream stream) throws IOException {
+    BumpSequenceResultCode discriminant = BumpSequenceResultCode.decode(stream);
+    BumpSequenceResult decodedBumpSequenceResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new BumpSequenceResult();
+    decodedBumpSequenceResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case BUMP_SEQUENCE_SUCCESS:
+        break;
+      case BUMP_SEQUENCE_BAD_SEQ:
+        break;
+    }
+    return decodedBumpSequenceResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    BumpSequenceResultCode discriminant = BumpSequenceResultCode.decode(stream);
+    switch (discriminant) {
+      case BUMP_SEQUENCE_SUCCESS:
+        break;
+      case BUMP_SEQUENCE_BAD_SEQ:
+        break;
+      default:
+        throw new IOException("Unknown BumpSequenceResult discriminant: " + discriminant);
+    }
+  }
+
   public static BumpSequenceResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static BumpSequenceResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case BUMP_SEQUENCE_SUCCESS:
+        writer.value("success");
+        break;
+      case BUMP_SEQUENCE_BAD_SEQ:
+        writer.value("bad_seq");
+        break;
+    }
+  }
+
+  public static BumpSequenceResult fromJson(JsonReader reader) throws IOException {
+    BumpSequenceResult decodedBumpSequenceResult = new BumpSequenceResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedBumpSequenceResult.setDiscriminant(BumpSequenceResultCode.BUMP_SEQUENCE_SUCCESS);
+        break;
+      case "bad_seq":
+        decodedBumpSequenceResult.setDiscriminant(BumpSequenceResultCode.BUMP_SEQUENCE_BAD_SEQ);
+        break;
+      default:
+        throw new IOException("Unknown BumpSequenceResult arm: " + key);
+    }
+    return decodedBumpSequenceResult;
+  }
+
+  public static BumpSequenceResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
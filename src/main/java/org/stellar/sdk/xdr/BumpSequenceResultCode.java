@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * BumpSequenceResultCode's original definition in the XDR file is:
@@ -46,18 +46,53 @@ public enum BumpSequenceResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static BumpSequenceResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static BumpSequenceResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case BUMP_SEQUENCE_SUCCESS:
+        writer.value("success");
+        break;
+      case BUMP_SEQUENCE_BAD_SEQ:
+        writer.value("bad_seq");
+        break;
+    }
+  }
+
+  public static BumpSequenceResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return BUMP_SEQUENCE_SUCCESS;
+      case "bad_seq":
+        return BUMP_SEQUENCE_BAD_SEQ;
+      default:
+        throw new IOException("Unknown BumpSequenceResultCode value: " + value);
+    }
+  }
+
+  public static BumpSequenceResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ChangeTrustOp's original definition in the XDR file is:
@@ -37,6 +37,13 @@ public class ChangeTrustOp implements XdrElement {
     limit.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += line.encodedSize();
+    size += limit.encodedSize();
+    return size;
+  }
+
   public static ChangeTrustOp decode(XdrDataInputStream stream) throws IOException {
     ChangeTrustOp decodedChangeTrustOp = new ChangeTrustOp();
     decodedChangeTrustOp.line = ChangeTrustAsset.decode(stream);
@@ -44,14 +51,60 @@ public class ChangeTrustOp implements XdrElement {
     return decodedChangeTrustOp;
   }
 
+  public static ChangeTrustOp decodeInto(ChangeTrustOp existing, XdrDataInputStream stream)
+      throws IOException {
+    ChangeTrustOp decodedChangeTrustOp = existing != null ? existing : new ChangeTrustOp();
+    decodedChangeTrustOp.line = ChangeTrustAsset.decodeInto(decodedChangeTrustOp.line, stream);
+    decodedChangeTrustOp.limit = Int64.decodeInto(decodedChangeTrustOp.limit, stream);
+    return decodedChangeTrustOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ChangeTrustAsset.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ChangeTrustOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ChangeTrustOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("line");
+    line.toJson(writer);
+    writer.name("limit");
+    limit.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ChangeTrustOp fromJson(JsonReader reader) throws IOException {
+    ChangeTrustOp decodedChangeTrustOp = new ChangeTrustOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "line":
+          decodedChangeTrustOp.line = ChangeTrustAsset.fromJson(reader);
+          break;
+        case "limit":
+          decodedChangeTrustOp.limit = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ChangeTrustOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedChangeTrustOp;
+  }
+
+  public static ChangeTrustOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ChangeTrustResult's original definition in the XDR file is:
@@ -55,6 +55,25 @@ public class ChangeTrustResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CHANGE_TRUST_SUCCESS:
+        break;
+      case CHANGE_TRUST_MALFORMED:
+      case CHANGE_TRUST_NO_ISSUER:
+      case CHANGE_TRUST_INVALID_LIMIT:
+      case CHANGE_TRUST_LOW_RESERVE:
+      case CHANGE_TRUST_SELF_NOT_ALLOWED:
+      case CHANGE_TRUST_TRUST_LINE_MISSING:
+      case CHANGE_TRUST_CANNOT_DELETE:
+      case CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES:
+        break;
+    }
+    return size;
+  }
+
   public static ChangeTrustResult decode(XdrDataInputStream stream) throws IOException {
     ChangeTrustResult decodedChangeTrustResult = new ChangeTrustResult();
     ChangeTrustResultCode discriminant = ChangeTrustResultCode.decode(stream);
@@ -75,14 +94,133 @@ public class ChangeTrustResult implements XdrElement {
     return decodedChangeTrustResult;
   }
 
+  public static ChangeTrustResult decodeInto(ChangeTrustResult existing, XdrDataInputStream stream)
+      throws IOException {
+    ChangeTrustResultCode discriminant = ChangeTrustResultCode.decode(stream);
+    ChangeTrustResult decodedChangeTrustResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ChangeTrustResult();
+    decodedChangeTrustResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CHANGE_TRUST_SUCCESS:
+        break;
+      case CHANGE_TRUST_MALFORMED:
+      case CHANGE_TRUST_NO_ISSUER:
+      case CHANGE_TRUST_INVALID_LIMIT:
+      case CHANGE_TRUST_LOW_RESERVE:
+      case CHANGE_TRUST_SELF_NOT_ALLOWED:
+      case CHANGE_TRUST_TRUST_LINE_MISSING:
+      case CHANGE_TRUST_CANNOT_DELETE:
+      case CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES:
+        break;
+    }
+    return decodedChangeTrustResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ChangeTrustResultCode discriminant = ChangeTrustResultCode.decode(stream);
+    switch (discriminant) {
+      case CHANGE_TRUST_SUCCESS:
+        break;
+      case CHANGE_TRUST_MALFORMED:
+      case CHANGE_TRUST_NO_ISSUER:
+      case CHANGE_TRUST_INVALID_LIMIT:
+      case CHANGE_TRUST_LOW_RESERVE:
+      case CHANGE_TRUST_SELF_NOT_ALLOWED:
+      case CHANGE_TRUST_TRUST_LINE_MISSING:
+      case CHANGE_TRUST_CANNOT_DELETE:
+      case CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES:
+        break;
+      default:
+        throw new IOException("Unknown ChangeTrustResult discriminant: " + discriminant);
+    }
+  }
+
   public static ChangeTrustResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ChangeTrustResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CHANGE_TRUST_SUCCESS:
+        writer.value("success");
+        break;
+      case CHANGE_TRUST_MALFORMED:
+        writer.value("malformed");
+        break;
+      case CHANGE_TRUST_NO_ISSUER:
+        writer.value("no_issuer");
+        break;
+      case CHANGE_TRUST_INVALID_LIMIT:
+        writer.value("invalid_limit");
+        break;
+      case CHANGE_TRUST_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case CHANGE_TRUST_SELF_NOT_ALLOWED:
+        writer.value("self_not_allowed");
+        break;
+      case CHANGE_TRUST_TRUST_LINE_MISSING:
+        writer.value("trust_line_missing");
+        break;
+      case CHANGE_TRUST_CANNOT_DELETE:
+        writer.value("cannot_delete");
+        break;
+      case CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES:
+        writer.value("not_auth_maintain_liabilities");
+        break;
+    }
+  }
+
+  public static ChangeTrustResult fromJson(JsonReader reader) throws IOException {
+    ChangeTrustResult decodedChangeTrustResult = new ChangeTrustResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedChangeTrustResult.setDiscriminant(ChangeTrustResultCode.CHANGE_TRUST_SUCCESS);
+        break;
+      case "malformed":
+        decodedChangeTrustResult.setDiscriminant(ChangeTrustResultCode.CHANGE_TRUST_MALFORMED);
+        break;
+      case "no_issuer":
+        decodedChangeTrustResult.setDiscriminant(ChangeTrustResultCode.CHANGE_TRUST_NO_ISSUER);
+        break;
+      case "invalid_limit":
+        decodedChangeTrustResult.setDiscriminant(ChangeTrustResultCode.CHANGE_TRUST_INVALID_LIMIT);
+        break;
+      case "low_reserve":
+        decodedChangeTrustResult.setDiscriminant(ChangeTrustResultCode.CHANGE_TRUST_LOW_RESERVE);
+        break;
+      case "self_not_allowed":
+        decodedChangeTrustResult.setDiscriminant(
+            ChangeTrustResultCode.CHANGE_TRUST_SELF_NOT_ALLOWED);
+        break;
+      case "trust_line_missing":
+        decodedChangeTrustResult.setDiscriminant(
+            ChangeTrustResultCode.CHANGE_TRUST_TRUST_LINE_MISSING);
+        break;
+      case "cannot_delete":
+        decodedChangeTrustResult.setDiscriminant(ChangeTrustResultCode.CHANGE_TRUST_CANNOT_DELETE);
+        break;
+      case "not_auth_maintain_liabilities":
+        decodedChangeTrustResult.setDiscriminant(
+            ChangeTrustResultCode.CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES);
+        break;
+      default:
+        throw new IOException("Unknown ChangeTrustResult arm: " + key);
+    }
+    return decodedChangeTrustResult;
+  }
+
+  public static ChangeTrustResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
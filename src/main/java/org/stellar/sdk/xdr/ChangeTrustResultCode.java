@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ChangeTrustResultCode's original definition in the XDR file is:
@@ -78,18 +78,88 @@ public enum ChangeTrustResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ChangeTrustResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ChangeTrustResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CHANGE_TRUST_SUCCESS:
+        writer.value("success");
+        break;
+      case CHANGE_TRUST_MALFORMED:
+        writer.value("malformed");
+        break;
+      case CHANGE_TRUST_NO_ISSUER:
+        writer.value("no_issuer");
+        break;
+      case CHANGE_TRUST_INVALID_LIMIT:
+        writer.value("invalid_limit");
+        break;
+      case CHANGE_TRUST_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case CHANGE_TRUST_SELF_NOT_ALLOWED:
+        writer.value("self_not_allowed");
+        break;
+      case CHANGE_TRUST_TRUST_LINE_MISSING:
+        writer.value("trust_line_missing");
+        break;
+      case CHANGE_TRUST_CANNOT_DELETE:
+        writer.value("cannot_delete");
+        break;
+      case CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES:
+        writer.value("not_auth_maintain_liabilities");
+        break;
+    }
+  }
+
+  public static ChangeTrustResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return CHANGE_TRUST_SUCCESS;
+      case "malformed":
+        return CHANGE_TRUST_MALFORMED;
+      case "no_issuer":
+        return CHANGE_TRUST_NO_ISSUER;
+      case "invalid_limit":
+        return CHANGE_TRUST_INVALID_LIMIT;
+      case "low_reserve":
+        return CHANGE_TRUST_LOW_RESERVE;
+      case "self_not_allowed":
+        return CHANGE_TRUST_SELF_NOT_ALLOWED;
+      case "trust_line_missing":
+        return CHANGE_TRUST_TRUST_LINE_MISSING;
+      case "cannot_delete":
+        return CHANGE_TRUST_CANNOT_DELETE;
+      case "not_auth_maintain_liabilities":
+        return CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES;
+      default:
+        throw new IOException("Unknown ChangeTrustResultCode value: " + value);
+    }
+  }
+
+  public static ChangeTrustResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
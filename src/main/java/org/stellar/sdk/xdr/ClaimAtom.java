@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimAtom's original definition in the XDR file is:
@@ -51,6 +51,23 @@ public class ClaimAtom implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CLAIM_ATOM_TYPE_V0:
+        size += v0.encodedSize();
+        break;
+      case CLAIM_ATOM_TYPE_ORDER_BOOK:
+        size += orderBook.encodedSize();
+        break;
+      case CLAIM_ATOM_TYPE_LIQUIDITY_POOL:
+        size += liquidityPool.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static ClaimAtom decode(XdrDataInputStream stream) throws IOException {
     ClaimAtom decodedClaimAtom = new ClaimAtom();
     ClaimAtomType discriminant = ClaimAtomType.decode(stream);
@@ -69,14 +86,103 @@ public class ClaimAtom implements XdrElement {
     return decodedClaimAtom;
   }
 
+  public static ClaimAtom decodeInto(ClaimAtom existing, XdrDataInputStream stream)
+      throws IOException {
+    ClaimAtomType discriminant = ClaimAtomType.decode(stream);
+    ClaimAtom decodedClaimAtom =
+        existing != null && discriminant.equals(existing.discriminant) ? existing : new ClaimAtom();
+    decodedClaimAtom.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CLAIM_ATOM_TYPE_V0:
+        decodedClaimAtom.v0 = ClaimOfferAtomV0.decodeInto(decodedClaimAtom.v0, stream);
+        break;
+      case CLAIM_ATOM_TYPE_ORDER_BOOK:
+        decodedClaimAtom.orderBook = ClaimOfferAtom.decodeInto(decodedClaimAtom.orderBook, stream);
+        break;
+      case CLAIM_ATOM_TYPE_LIQUIDITY_POOL:
+        decodedClaimAtom.liquidityPool =
+            ClaimLiquidityAtom.decodeInto(decodedClaimAtom.liquidityPool, stream);
+        break;
+    }
+    return decodedClaimAtom;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ClaimAtomType discriminant = ClaimAtomType.decode(stream);
+    switch (discriminant) {
+      case CLAIM_ATOM_TYPE_V0:
+        ClaimOfferAtomV0.skip(stream);
+        break;
+      case CLAIM_ATOM_TYPE_ORDER_BOOK:
+        ClaimOfferAtom.skip(stream);
+        break;
+      case CLAIM_ATOM_TYPE_LIQUIDITY_POOL:
+        ClaimLiquidityAtom.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown ClaimAtom discriminant: " + discriminant);
+    }
+  }
+
   public static ClaimAtom fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimAtom fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CLAIM_ATOM_TYPE_V0:
+        writer.beginObject();
+        writer.name("v0");
+        v0.toJson(writer);
+        writer.endObject();
+        break;
+      case CLAIM_ATOM_TYPE_ORDER_BOOK:
+        writer.beginObject();
+        writer.name("order_book");
+        orderBook.toJson(writer);
+        writer.endObject();
+        break;
+      case CLAIM_ATOM_TYPE_LIQUIDITY_POOL:
+        writer.beginObject();
+        writer.name("liquidity_pool");
+        liquidityPool.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static ClaimAtom fromJson(JsonReader reader) throws IOException {
+    ClaimAtom decodedClaimAtom = new ClaimAtom();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v0":
+        decodedClaimAtom.setDiscriminant(ClaimAtomType.CLAIM_ATOM_TYPE_V0);
+        decodedClaimAtom.v0 = ClaimOfferAtomV0.fromJson(reader);
+        break;
+      case "order_book":
+        decodedClaimAtom.setDiscriminant(ClaimAtomType.CLAIM_ATOM_TYPE_ORDER_BOOK);
+        decodedClaimAtom.orderBook = ClaimOfferAtom.fromJson(reader);
+        break;
+      case "liquidity_pool":
+        decodedClaimAtom.setDiscriminant(ClaimAtomType.CLAIM_ATOM_TYPE_LIQUIDITY_POOL);
+        decodedClaimAtom.liquidityPool = ClaimLiquidityAtom.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown ClaimAtom arm: " + key);
+    }
+    reader.endObject();
+    return decodedClaimAtom;
+  }
+
+  public static ClaimAtom fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
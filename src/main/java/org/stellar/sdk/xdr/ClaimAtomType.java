@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimAtomType's original definition in the XDR file is:
@@ -48,18 +48,58 @@ public enum ClaimAtomType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ClaimAtomType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimAtomType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CLAIM_ATOM_TYPE_V0:
+        writer.value("v0");
+        break;
+      case CLAIM_ATOM_TYPE_ORDER_BOOK:
+        writer.value("order_book");
+        break;
+      case CLAIM_ATOM_TYPE_LIQUIDITY_POOL:
+        writer.value("liquidity_pool");
+        break;
+    }
+  }
+
+  public static ClaimAtomType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "v0":
+        return CLAIM_ATOM_TYPE_V0;
+      case "order_book":
+        return CLAIM_ATOM_TYPE_ORDER_BOOK;
+      case "liquidity_pool":
+        return CLAIM_ATOM_TYPE_LIQUIDITY_POOL;
+      default:
+        throw new IOException("Unknown ClaimAtomType value: " + value);
+    }
+  }
+
+  public static ClaimAtomType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimClaimableBalanceOp's original definition in the XDR file is:
@@ -32,20 +32,65 @@ public class ClaimClaimableBalanceOp implements XdrElement {
     balanceID.encode(stream);
   }
 
+  public int encodedSize() {
+    return balanceID.encodedSize();
+  }
+
   public static ClaimClaimableBalanceOp decode(XdrDataInputStream stream) throws IOException {
     ClaimClaimableBalanceOp decodedClaimClaimableBalanceOp = new ClaimClaimableBalanceOp();
     decodedClaimClaimableBalanceOp.balanceID = ClaimableBalanceID.decode(stream);
     return decodedClaimClaimableBalanceOp;
   }
 
+  public static ClaimClaimableBalanceOp decodeInto(
+      ClaimClaimableBalanceOp existing, XdrDataInputStream stream) throws IOException {
+    ClaimClaimableBalanceOp decodedClaimClaimableBalanceOp =
+        existing != null ? existing : new ClaimClaimableBalanceOp();
+    decodedClaimClaimableBalanceOp.balanceID =
+        ClaimableBalanceID.decodeInto(decodedClaimClaimableBalanceOp.balanceID, stream);
+    return decodedClaimClaimableBalanceOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ClaimableBalanceID.skip(stream);
+  }
+
   public static ClaimClaimableBalanceOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimClaimableBalanceOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("balance_id");
+    balanceID.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ClaimClaimableBalanceOp fromJson(JsonReader reader) throws IOException {
+    ClaimClaimableBalanceOp decodedClaimClaimableBalanceOp = new ClaimClaimableBalanceOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "balance_id":
+          decodedClaimClaimableBalanceOp.balanceID = ClaimableBalanceID.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ClaimClaimableBalanceOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedClaimClaimableBalanceOp;
+  }
+
+  public static ClaimClaimableBalanceOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimClaimableBalanceResult's original definition in the XDR file is:
@@ -49,6 +49,22 @@ public class ClaimClaimableBalanceResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CLAIM_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM:
+      case CLAIM_CLAIMABLE_BALANCE_LINE_FULL:
+      case CLAIM_CLAIMABLE_BALANCE_NO_TRUST:
+      case CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+        break;
+    }
+    return size;
+  }
+
   public static ClaimClaimableBalanceResult decode(XdrDataInputStream stream) throws IOException {
     ClaimClaimableBalanceResult decodedClaimClaimableBalanceResult =
         new ClaimClaimableBalanceResult();
@@ -67,14 +83,113 @@ public class ClaimClaimableBalanceResult implements XdrElement {
     return decodedClaimClaimableBalanceResult;
   }
 
+  public static ClaimClaimableBalanceResult decodeInto(
+      ClaimClaimableBalanceResult existing, XdrDataInputStream stream) throws IOException {
+    ClaimClaimableBalanceResultCode discriminant = ClaimClaimableBalanceResultCode.decode(stream);
+    ClaimClaimableBalanceResult decodedClaimClaimableBalanceResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ClaimClaimableBalanceResult();
+    decodedClaimClaimableBalanceResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CLAIM_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM:
+      case CLAIM_CLAIMABLE_BALANCE_LINE_FULL:
+      case CLAIM_CLAIMABLE_BALANCE_NO_TRUST:
+      case CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+        break;
+    }
+    return decodedClaimClaimableBalanceResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ClaimClaimableBalanceResultCode discriminant = ClaimClaimableBalanceResultCode.decode(stream);
+    switch (discriminant) {
+      case CLAIM_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM:
+      case CLAIM_CLAIMABLE_BALANCE_LINE_FULL:
+      case CLAIM_CLAIMABLE_BALANCE_NO_TRUST:
+      case CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+        break;
+      default:
+        throw new IOException("Unknown ClaimClaimableBalanceResult discriminant: " + discriminant);
+    }
+  }
+
   public static ClaimClaimableBalanceResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimClaimableBalanceResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CLAIM_CLAIMABLE_BALANCE_SUCCESS:
+        writer.value("success");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+        writer.value("does_not_exist");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM:
+        writer.value("cannot_claim");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+    }
+  }
+
+  public static ClaimClaimableBalanceResult fromJson(JsonReader reader) throws IOException {
+    ClaimClaimableBalanceResult decodedClaimClaimableBalanceResult =
+        new ClaimClaimableBalanceResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedClaimClaimableBalanceResult.setDiscriminant(
+            ClaimClaimableBalanceResultCode.CLAIM_CLAIMABLE_BALANCE_SUCCESS);
+        break;
+      case "does_not_exist":
+        decodedClaimClaimableBalanceResult.setDiscriminant(
+            ClaimClaimableBalanceResultCode.CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST);
+        break;
+      case "cannot_claim":
+        decodedClaimClaimableBalanceResult.setDiscriminant(
+            ClaimClaimableBalanceResultCode.CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM);
+        break;
+      case "line_full":
+        decodedClaimClaimableBalanceResult.setDiscriminant(
+            ClaimClaimableBalanceResultCode.CLAIM_CLAIMABLE_BALANCE_LINE_FULL);
+        break;
+      case "no_trust":
+        decodedClaimClaimableBalanceResult.setDiscriminant(
+            ClaimClaimableBalanceResultCode.CLAIM_CLAIMABLE_BALANCE_NO_TRUST);
+        break;
+      case "not_authorized":
+        decodedClaimClaimableBalanceResult.setDiscriminant(
+            ClaimClaimableBalanceResultCode.CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED);
+        break;
+      default:
+        throw new IOException("Unknown ClaimClaimableBalanceResult arm: " + key);
+    }
+    return decodedClaimClaimableBalanceResult;
+  }
+
+  public static ClaimClaimableBalanceResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
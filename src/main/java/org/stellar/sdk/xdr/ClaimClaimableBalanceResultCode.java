@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimClaimableBalanceResultCode's original definition in the XDR file is:
@@ -61,18 +61,73 @@ public enum ClaimClaimableBalanceResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ClaimClaimableBalanceResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimClaimableBalanceResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CLAIM_CLAIMABLE_BALANCE_SUCCESS:
+        writer.value("success");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+        writer.value("does_not_exist");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM:
+        writer.value("cannot_claim");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+    }
+  }
+
+  public static ClaimClaimableBalanceResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return CLAIM_CLAIMABLE_BALANCE_SUCCESS;
+      case "does_not_exist":
+        return CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST;
+      case "cannot_claim":
+        return CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM;
+      case "line_full":
+        return CLAIM_CLAIMABLE_BALANCE_LINE_FULL;
+      case "no_trust":
+        return CLAIM_CLAIMABLE_BALANCE_NO_TRUST;
+      case "not_authorized":
+        return CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED;
+      default:
+        throw new IOException("Unknown ClaimClaimableBalanceResultCode value: " + value);
+    }
+  }
+
+  public static ClaimClaimableBalanceResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimLiquidityAtom's original definition in the XDR file is:
@@ -48,6 +48,16 @@ public class ClaimLiquidityAtom implements XdrElement {
     amountBought.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += liquidityPoolID.encodedSize();
+    size += assetSold.encodedSize();
+    size += amountSold.encodedSize();
+    size += assetBought.encodedSize();
+    size += amountBought.encodedSize();
+    return size;
+  }
+
   public static ClaimLiquidityAtom decode(XdrDataInputStream stream) throws IOException {
     ClaimLiquidityAtom decodedClaimLiquidityAtom = new ClaimLiquidityAtom();
     decodedClaimLiquidityAtom.liquidityPoolID = PoolID.decode(stream);
@@ -58,14 +68,87 @@ public class ClaimLiquidityAtom implements XdrElement {
     return decodedClaimLiquidityAtom;
   }
 
+  public static ClaimLiquidityAtom decodeInto(
+      ClaimLiquidityAtom existing, XdrDataInputStream stream) throws IOException {
+    ClaimLiquidityAtom decodedClaimLiquidityAtom =
+        existing != null ? existing : new ClaimLiquidityAtom();
+    decodedClaimLiquidityAtom.liquidityPoolID =
+        PoolID.decodeInto(decodedClaimLiquidityAtom.liquidityPoolID, stream);
+    decodedClaimLiquidityAtom.assetSold =
+        Asset.decodeInto(decodedClaimLiquidityAtom.assetSold, stream);
+    decodedClaimLiquidityAtom.amountSold =
+        Int64.decodeInto(decodedClaimLiquidityAtom.amountSold, stream);
+    decodedClaimLiquidityAtom.assetBought =
+        Asset.decodeInto(decodedClaimLiquidityAtom.assetBought, stream);
+    decodedClaimLiquidityAtom.amountBought =
+        Int64.decodeInto(decodedClaimLiquidityAtom.amountBought, stream);
+    return decodedClaimLiquidityAtom;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PoolID.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ClaimLiquidityAtom fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimLiquidityAtom fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("liquidity_pool_id");
+    liquidityPoolID.toJson(writer);
+    writer.name("asset_sold");
+    assetSold.toJson(writer);
+    writer.name("amount_sold");
+    amountSold.toJson(writer);
+    writer.name("asset_bought");
+    assetBought.toJson(writer);
+    writer.name("amount_bought");
+    amountBought.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ClaimLiquidityAtom fromJson(JsonReader reader) throws IOException {
+    ClaimLiquidityAtom decodedClaimLiquidityAtom = new ClaimLiquidityAtom();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "liquidity_pool_id":
+          decodedClaimLiquidityAtom.liquidityPoolID = PoolID.fromJson(reader);
+          break;
+        case "asset_sold":
+          decodedClaimLiquidityAtom.assetSold = Asset.fromJson(reader);
+          break;
+        case "amount_sold":
+          decodedClaimLiquidityAtom.amountSold = Int64.fromJson(reader);
+          break;
+        case "asset_bought":
+          decodedClaimLiquidityAtom.assetBought = Asset.fromJson(reader);
+          break;
+        case "amount_bought":
+          decodedClaimLiquidityAtom.amountBought = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ClaimLiquidityAtom field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedClaimLiquidityAtom;
+  }
+
+  public static ClaimLiquidityAtom fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
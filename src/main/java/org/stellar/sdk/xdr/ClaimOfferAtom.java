@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimOfferAtom's original definition in the XDR file is:
@@ -52,6 +52,17 @@ public class ClaimOfferAtom implements XdrElement {
     amountBought.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += sellerID.encodedSize();
+    size += offerID.encodedSize();
+    size += assetSold.encodedSize();
+    size += amountSold.encodedSize();
+    size += assetBought.encodedSize();
+    size += amountBought.encodedSize();
+    return size;
+  }
+
   public static ClaimOfferAtom decode(XdrDataInputStream stream) throws IOException {
     ClaimOfferAtom decodedClaimOfferAtom = new ClaimOfferAtom();
     decodedClaimOfferAtom.sellerID = AccountID.decode(stream);
@@ -63,14 +74,89 @@ public class ClaimOfferAtom implements XdrElement {
     return decodedClaimOfferAtom;
   }
 
+  public static ClaimOfferAtom decodeInto(ClaimOfferAtom existing, XdrDataInputStream stream)
+      throws IOException {
+    ClaimOfferAtom decodedClaimOfferAtom = existing != null ? existing : new ClaimOfferAtom();
+    decodedClaimOfferAtom.sellerID = AccountID.decodeInto(decodedClaimOfferAtom.sellerID, stream);
+    decodedClaimOfferAtom.offerID = Int64.decodeInto(decodedClaimOfferAtom.offerID, stream);
+    decodedClaimOfferAtom.assetSold = Asset.decodeInto(decodedClaimOfferAtom.assetSold, stream);
+    decodedClaimOfferAtom.amountSold = Int64.decodeInto(decodedClaimOfferAtom.amountSold, stream);
+    decodedClaimOfferAtom.assetBought = Asset.decodeInto(decodedClaimOfferAtom.assetBought, stream);
+    decodedClaimOfferAtom.amountBought =
+        Int64.decodeInto(decodedClaimOfferAtom.amountBought, stream);
+    return decodedClaimOfferAtom;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+    Int64.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ClaimOfferAtom fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimOfferAtom fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("seller_id");
+    sellerID.toJson(writer);
+    writer.name("offer_id");
+    offerID.toJson(writer);
+    writer.name("asset_sold");
+    assetSold.toJson(writer);
+    writer.name("amount_sold");
+    amountSold.toJson(writer);
+    writer.name("asset_bought");
+    assetBought.toJson(writer);
+    writer.name("amount_bought");
+    amountBought.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ClaimOfferAtom fromJson(JsonReader reader) throws IOException {
+    ClaimOfferAtom decodedClaimOfferAtom = new ClaimOfferAtom();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "seller_id":
+          decodedClaimOfferAtom.sellerID = AccountID.fromJson(reader);
+          break;
+        case "offer_id":
+          decodedClaimOfferAtom.offerID = Int64.fromJson(reader);
+          break;
+        case "asset_sold":
+          decodedClaimOfferAtom.assetSold = Asset.fromJson(reader);
+          break;
+        case "amount_sold":
+          decodedClaimOfferAtom.amountSold = Int64.fromJson(reader);
+          break;
+        case "asset_bought":
+          decodedClaimOfferAtom.assetBought = Asset.fromJson(reader);
+          break;
+        case "amount_bought":
+          decodedClaimOfferAtom.amountBought = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ClaimOfferAtom field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedClaimOfferAtom;
+  }
+
+  public static ClaimOfferAtom fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimOfferAtomV0's original definition in the XDR file is:
@@ -52,6 +52,17 @@ public class ClaimOfferAtomV0 implements XdrElement {
     amountBought.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += sellerEd25519.encodedSize();
+    size += offerID.encodedSize();
+    size += assetSold.encodedSize();
+    size += amountSold.encodedSize();
+    size += assetBought.encodedSize();
+    size += amountBought.encodedSize();
+    return size;
+  }
+
   public static ClaimOfferAtomV0 decode(XdrDataInputStream stream) throws IOException {
     ClaimOfferAtomV0 decodedClaimOfferAtomV0 = new ClaimOfferAtomV0();
     decodedClaimOfferAtomV0.sellerEd25519 = Uint256.decode(stream);
@@ -63,14 +74,92 @@ public class ClaimOfferAtomV0 implements XdrElement {
     return decodedClaimOfferAtomV0;
   }
 
+  public static ClaimOfferAtomV0 decodeInto(ClaimOfferAtomV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    ClaimOfferAtomV0 decodedClaimOfferAtomV0 = existing != null ? existing : new ClaimOfferAtomV0();
+    decodedClaimOfferAtomV0.sellerEd25519 =
+        Uint256.decodeInto(decodedClaimOfferAtomV0.sellerEd25519, stream);
+    decodedClaimOfferAtomV0.offerID = Int64.decodeInto(decodedClaimOfferAtomV0.offerID, stream);
+    decodedClaimOfferAtomV0.assetSold = Asset.decodeInto(decodedClaimOfferAtomV0.assetSold, stream);
+    decodedClaimOfferAtomV0.amountSold =
+        Int64.decodeInto(decodedClaimOfferAtomV0.amountSold, stream);
+    decodedClaimOfferAtomV0.assetBought =
+        Asset.decodeInto(decodedClaimOfferAtomV0.assetBought, stream);
+    decodedClaimOfferAtomV0.amountBought =
+        Int64.decodeInto(decodedClaimOfferAtomV0.amountBought, stream);
+    return decodedClaimOfferAtomV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint256.skip(stream);
+    Int64.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ClaimOfferAtomV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimOfferAtomV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("seller_ed25519");
+    sellerEd25519.toJson(writer);
+    writer.name("offer_id");
+    offerID.toJson(writer);
+    writer.name("asset_sold");
+    assetSold.toJson(writer);
+    writer.name("amount_sold");
+    amountSold.toJson(writer);
+    writer.name("asset_bought");
+    assetBought.toJson(writer);
+    writer.name("amount_bought");
+    amountBought.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ClaimOfferAtomV0 fromJson(JsonReader reader) throws IOException {
+    ClaimOfferAtomV0 decodedClaimOfferAtomV0 = new ClaimOfferAtomV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "seller_ed25519":
+          decodedClaimOfferAtomV0.sellerEd25519 = Uint256.fromJson(reader);
+          break;
+        case "offer_id":
+          decodedClaimOfferAtomV0.offerID = Int64.fromJson(reader);
+          break;
+        case "asset_sold":
+          decodedClaimOfferAtomV0.assetSold = Asset.fromJson(reader);
+          break;
+        case "amount_sold":
+          decodedClaimOfferAtomV0.amountSold = Int64.fromJson(reader);
+          break;
+        case "asset_bought":
+          decodedClaimOfferAtomV0.assetBought = Asset.fromJson(reader);
+          break;
+        case "amount_bought":
+          decodedClaimOfferAtomV0.amountBought = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ClaimOfferAtomV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedClaimOfferAtomV0;
+  }
+
+  public static ClaimOfferAtomV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
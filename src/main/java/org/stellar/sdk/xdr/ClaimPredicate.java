@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimPredicate's original definition in the XDR file is:
@@ -81,51 +82,278 @@ public class ClaimPredicate implements XdrElement {
     }
   }
 
-  public static ClaimPredicate decode(XdrDataInputStream stream) throws IOException {
-    ClaimPredicate decodedClaimPredicate = new ClaimPredicate();
-    ClaimPredicateType discriminant = ClaimPredicateType.decode(stream);
-    decodedClaimPredicate.setDiscriminant(discriminant);
-    switch (decodedClaimPredicate.getDiscriminant()) {
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
       case CLAIM_PREDICATE_UNCONDITIONAL:
         break;
       case CLAIM_PREDICATE_AND:
-        int andPredicatesSize = stream.readInt();
-        decodedClaimPredicate.andPredicates = new ClaimPredicate[andPredicatesSize];
+        int andPredicatesSize = getAndPredicates().length;
+        size += 4;
         for (int i = 0; i < andPredicatesSize; i++) {
-          decodedClaimPredicate.andPredicates[i] = ClaimPredicate.decode(stream);
+          size += andPredicates[i].encodedSize();
         }
         break;
       case CLAIM_PREDICATE_OR:
-        int orPredicatesSize = stream.readInt();
-        decodedClaimPredicate.orPredicates = new ClaimPredicate[orPredicatesSize];
+        int orPredicatesSize = getOrPredicates().length;
+        size += 4;
         for (int i = 0; i < orPredicatesSize; i++) {
-          decodedClaimPredicate.orPredicates[i] = ClaimPredicate.decode(stream);
+          size += orPredicates[i].encodedSize();
         }
         break;
       case CLAIM_PREDICATE_NOT:
-        int notPredicatePresent = stream.readInt();
-        if (notPredicatePresent != 0) {
-          decodedClaimPredicate.notPredicate = ClaimPredicate.decode(stream);
+        if (notPredicate != null) {
+          size += 4;
+          size += notPredicate.encodedSize();
+        } else {
+          size += 4;
         }
         break;
       case CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME:
-        decodedClaimPredicate.absBefore = Int64.decode(stream);
+        size += absBefore.encodedSize();
         break;
       case CLAIM_PREDICATE_BEFORE_RELATIVE_TIME:
-        decodedClaimPredicate.relBefore = Int64.decode(stream);
+        size += relBefore.encodedSize();
         break;
     }
-    return decodedClaimPredicate;
+    return size;
+  }
+
+  public static ClaimPredicate decode(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      ClaimPredicate decodedClaimPredicate = new ClaimPredicate();
+      ClaimPredicateType discriminant = ClaimPredicateType.decode(stream);
+      decodedClaimPredicate.setDiscriminant(discriminant);
+      switch (decodedClaimPredicate.getDiscriminant()) {
+        case CLAIM_PREDICATE_UNCONDITIONAL:
+          break;
+        case CLAIM_PREDICATE_AND:
+          int andPredicatesSize = stream.readLength(4);
+          decodedClaimPredicate.andPredicates = new ClaimPredicate[andPredicatesSize];
+          for (int i = 0; i < andPredicatesSize; i++) {
+            decodedClaimPredicate.andPredicates[i] = ClaimPredicate.decode(stream);
+          }
+          break;
+        case CLAIM_PREDICATE_OR:
+          int orPredicatesSize = stream.readLength(4);
+          decodedClaimPredicate.orPredicates = new ClaimPredicate[orPredicatesSize];
+          for (int i = 0; i < orPredicatesSize; i++) {
+            decodedClaimPredicate.orPredicates[i] = ClaimPredicate.decode(stream);
+          }
+          break;
+        case CLAIM_PREDICATE_NOT:
+          int notPredicatePresent = stream.readInt();
+          if (notPredicatePresent != 0) {
+            decodedClaimPredicate.notPredicate = ClaimPredicate.decode(stream);
+          }
+          break;
+        case CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME:
+          decodedClaimPredicate.absBefore = Int64.decode(stream);
+          break;
+        case CLAIM_PREDICATE_BEFORE_RELATIVE_TIME:
+          decodedClaimPredicate.relBefore = Int64.decode(stream);
+          break;
+      }
+      return decodedClaimPredicate;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static ClaimPredicate decodeInto(ClaimPredicate existing, XdrDataInputStream stream)
+      throws IOException {
+    stream.increaseDepth();
+    try {
+      ClaimPredicateType discriminant = ClaimPredicateType.decode(stream);
+      ClaimPredicate decodedClaimPredicate =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new ClaimPredicate();
+      decodedClaimPredicate.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case CLAIM_PREDICATE_UNCONDITIONAL:
+          break;
+        case CLAIM_PREDICATE_AND:
+          int andPredicatesSize = stream.readLength(4);
+          decodedClaimPredicate.andPredicates =
+              XdrRecycler.resize(
+                  decodedClaimPredicate.andPredicates, andPredicatesSize, ClaimPredicate[]::new);
+          for (int i = 0; i < andPredicatesSize; i++) {
+            decodedClaimPredicate.andPredicates[i] =
+                ClaimPredicate.decodeInto(decodedClaimPredicate.andPredicates[i], stream);
+          }
+          break;
+        case CLAIM_PREDICATE_OR:
+          int orPredicatesSize = stream.readLength(4);
+          decodedClaimPredicate.orPredicates =
+              XdrRecycler.resize(
+                  decodedClaimPredicate.orPredicates, orPredicatesSize, ClaimPredicate[]::new);
+          for (int i = 0; i < orPredicatesSize; i++) {
+            decodedClaimPredicate.orPredicates[i] =
+                ClaimPredicate.decodeInto(decodedClaimPredicate.orPredicates[i], stream);
+          }
+          break;
+        case CLAIM_PREDICATE_NOT:
+          int notPredicatePresent = stream.readInt();
+          if (notPredicatePresent != 0) {
+            decodedClaimPredicate.notPredicate =
+                ClaimPredicate.decodeInto(decodedClaimPredicate.notPredicate, stream);
+          } else {
+            decodedClaimPredicate.notPredicate = null;
+          }
+          break;
+        case CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME:
+          decodedClaimPredicate.absBefore =
+              Int64.decodeInto(decodedClaimPredicate.absBefore, stream);
+          break;
+        case CLAIM_PREDICATE_BEFORE_RELATIVE_TIME:
+          decodedClaimPredicate.relBefore =
+              Int64.decodeInto(decodedClaimPredicate.relBefore, stream);
+          break;
+      }
+      return decodedClaimPredicate;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      ClaimPredicateType discriminant = ClaimPredicateType.decode(stream);
+      switch (discriminant) {
+        case CLAIM_PREDICATE_UNCONDITIONAL:
+          break;
+        case CLAIM_PREDICATE_AND:
+          int andPredicatesSize = stream.readLength(2, 4);
+          for (int i = 0; i < andPredicatesSize; i++) {
+            ClaimPredicate.skip(stream);
+          }
+          break;
+        case CLAIM_PREDICATE_OR:
+          int orPredicatesSize = stream.readLength(2, 4);
+          for (int i = 0; i < orPredicatesSize; i++) {
+            ClaimPredicate.skip(stream);
+          }
+          break;
+        case CLAIM_PREDICATE_NOT:
+          if (stream.readXdrBoolean()) {
+            ClaimPredicate.skip(stream);
+          }
+          break;
+        case CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME:
+          Int64.skip(stream);
+          break;
+        case CLAIM_PREDICATE_BEFORE_RELATIVE_TIME:
+          Int64.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown ClaimPredicate discriminant: " + discriminant);
+      }
+    } finally {
+      stream.decreaseDepth();
+    }
   }
 
   public static ClaimPredicate fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimPredicate fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CLAIM_PREDICATE_UNCONDITIONAL:
+        writer.value("unconditional");
+        break;
+      case CLAIM_PREDICATE_AND:
+        writer.beginObject();
+        writer.name("and");
+        XdrJson.writeArray(writer, andPredicates);
+        writer.endObject();
+        break;
+      case CLAIM_PREDICATE_OR:
+        writer.beginObject();
+        writer.name("or");
+        XdrJson.writeArray(writer, orPredicates);
+        writer.endObject();
+        break;
+      case CLAIM_PREDICATE_NOT:
+        writer.beginObject();
+        writer.name("not");
+        XdrJson.writeOptional(writer, notPredicate);
+        writer.endObject();
+        break;
+      case CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME:
+        writer.beginObject();
+        writer.name("before_absolute_time");
+        absBefore.toJson(writer);
+        writer.endObject();
+        break;
+      case CLAIM_PREDICATE_BEFORE_RELATIVE_TIME:
+        writer.beginObject();
+        writer.name("before_relative_time");
+        relBefore.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static ClaimPredicate fromJson(JsonReader reader) throws IOException {
+    ClaimPredicate decodedClaimPredicate = new ClaimPredicate();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "unconditional":
+          decodedClaimPredicate.setDiscriminant(ClaimPredicateType.CLAIM_PREDICATE_UNCONDITIONAL);
+          break;
+        default:
+          throw new IOException("Unknown ClaimPredicate arm: " + key);
+      }
+      return decodedClaimPredicate;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "and":
+        decodedClaimPredicate.setDiscriminant(ClaimPredicateType.CLAIM_PREDICATE_AND);
+        decodedClaimPredicate.andPredicates =
+            XdrJson.readArray(reader, ClaimPredicate[]::new, ClaimPredicate::fromJson);
+        break;
+      case "or":
+        decodedClaimPredicate.setDiscriminant(ClaimPredicateType.CLAIM_PREDICATE_OR);
+        decodedClaimPredicate.orPredicates =
+            XdrJson.readArray(reader, ClaimPredicate[]::new, ClaimPredicate::fromJson);
+        break;
+      case "not":
+        decodedClaimPredicate.setDiscriminant(ClaimPredicateType.CLAIM_PREDICATE_NOT);
+        decodedClaimPredicate.notPredicate = XdrJson.readOptional(reader, ClaimPredicate::fromJson);
+        break;
+      case "before_absolute_time":
+        decodedClaimPredicate.setDiscriminant(
+            ClaimPredicateType.CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME);
+        decodedClaimPredicate.absBefore = Int64.fromJson(reader);
+        break;
+      case "before_relative_time":
+        decodedClaimPredicate.setDiscriminant(
+            ClaimPredicateType.CLAIM_PREDICATE_BEFORE_RELATIVE_TIME);
+        decodedClaimPredicate.relBefore = Int64.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown ClaimPredicate arm: " + key);
+    }
+    reader.endObject();
+    return decodedClaimPredicate;
+  }
+
+  public static ClaimPredicate fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
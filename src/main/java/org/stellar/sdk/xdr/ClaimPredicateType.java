@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimPredicateType's original definition in the XDR file is:
@@ -60,18 +60,73 @@ public enum ClaimPredicateType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ClaimPredicateType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimPredicateType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CLAIM_PREDICATE_UNCONDITIONAL:
+        writer.value("unconditional");
+        break;
+      case CLAIM_PREDICATE_AND:
+        writer.value("and");
+        break;
+      case CLAIM_PREDICATE_OR:
+        writer.value("or");
+        break;
+      case CLAIM_PREDICATE_NOT:
+        writer.value("not");
+        break;
+      case CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME:
+        writer.value("before_absolute_time");
+        break;
+      case CLAIM_PREDICATE_BEFORE_RELATIVE_TIME:
+        writer.value("before_relative_time");
+        break;
+    }
+  }
+
+  public static ClaimPredicateType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "unconditional":
+        return CLAIM_PREDICATE_UNCONDITIONAL;
+      case "and":
+        return CLAIM_PREDICATE_AND;
+      case "or":
+        return CLAIM_PREDICATE_OR;
+      case "not":
+        return CLAIM_PREDICATE_NOT;
+      case "before_absolute_time":
+        return CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME;
+      case "before_relative_time":
+        return CLAIM_PREDICATE_BEFORE_RELATIVE_TIME;
+      default:
+        throw new IOException("Unknown ClaimPredicateType value: " + value);
+    }
+  }
+
+  public static ClaimPredicateType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimableBalanceEntry's original definition in the XDR file is:
@@ -64,10 +65,24 @@ public class ClaimableBalanceEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += balanceID.encodedSize();
+    int claimantsSize = getClaimants().length;
+    size += 4;
+    for (int i = 0; i < claimantsSize; i++) {
+      size += claimants[i].encodedSize();
+    }
+    size += asset.encodedSize();
+    size += amount.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static ClaimableBalanceEntry decode(XdrDataInputStream stream) throws IOException {
     ClaimableBalanceEntry decodedClaimableBalanceEntry = new ClaimableBalanceEntry();
     decodedClaimableBalanceEntry.balanceID = ClaimableBalanceID.decode(stream);
-    int claimantsSize = stream.readInt();
+    int claimantsSize = stream.readLength(4);
     decodedClaimableBalanceEntry.claimants = new Claimant[claimantsSize];
     for (int i = 0; i < claimantsSize; i++) {
       decodedClaimableBalanceEntry.claimants[i] = Claimant.decode(stream);
@@ -78,17 +93,99 @@ public class ClaimableBalanceEntry implements XdrElement {
     return decodedClaimableBalanceEntry;
   }
 
+  public static ClaimableBalanceEntry decodeInto(
+      ClaimableBalanceEntry existing, XdrDataInputStream stream) throws IOException {
+    ClaimableBalanceEntry decodedClaimableBalanceEntry =
+        existing != null ? existing : new ClaimableBalanceEntry();
+    decodedClaimableBalanceEntry.balanceID =
+        ClaimableBalanceID.decodeInto(decodedClaimableBalanceEntry.balanceID, stream);
+    int claimantsSize = stream.readLength(4);
+    decodedClaimableBalanceEntry.claimants =
+        XdrRecycler.resize(decodedClaimableBalanceEntry.claimants, claimantsSize, Claimant[]::new);
+    for (int i = 0; i < claimantsSize; i++) {
+      decodedClaimableBalanceEntry.claimants[i] =
+          Claimant.decodeInto(decodedClaimableBalanceEntry.claimants[i], stream);
+    }
+    decodedClaimableBalanceEntry.asset =
+        Asset.decodeInto(decodedClaimableBalanceEntry.asset, stream);
+    decodedClaimableBalanceEntry.amount =
+        Int64.decodeInto(decodedClaimableBalanceEntry.amount, stream);
+    decodedClaimableBalanceEntry.ext =
+        ClaimableBalanceEntryExt.decodeInto(decodedClaimableBalanceEntry.ext, stream);
+    return decodedClaimableBalanceEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ClaimableBalanceID.skip(stream);
+    int claimantsSize = stream.readLength(10, 4);
+    for (int i = 0; i < claimantsSize; i++) {
+      Claimant.skip(stream);
+    }
+    Asset.skip(stream);
+    Int64.skip(stream);
+    ClaimableBalanceEntryExt.skip(stream);
+  }
+
   public static ClaimableBalanceEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimableBalanceEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("balance_id");
+    balanceID.toJson(writer);
+    writer.name("claimants");
+    XdrJson.writeArray(writer, claimants);
+    writer.name("asset");
+    asset.toJson(writer);
+    writer.name("amount");
+    amount.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ClaimableBalanceEntry fromJson(JsonReader reader) throws IOException {
+    ClaimableBalanceEntry decodedClaimableBalanceEntry = new ClaimableBalanceEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "balance_id":
+          decodedClaimableBalanceEntry.balanceID = ClaimableBalanceID.fromJson(reader);
+          break;
+        case "claimants":
+          decodedClaimableBalanceEntry.claimants =
+              XdrJson.readArray(reader, Claimant[]::new, Claimant::fromJson);
+          break;
+        case "asset":
+          decodedClaimableBalanceEntry.asset = Asset.fromJson(reader);
+          break;
+        case "amount":
+          decodedClaimableBalanceEntry.amount = Int64.fromJson(reader);
+          break;
+        case "ext":
+          decodedClaimableBalanceEntry.ext = ClaimableBalanceEntryExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ClaimableBalanceEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedClaimableBalanceEntry;
+  }
+
+  public static ClaimableBalanceEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * ClaimableBalanceEntryExt's original definition in the XDR file is:
    *
@@ -121,6 +218,19 @@ public class ClaimableBalanceEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static ClaimableBalanceEntryExt decode(XdrDataInputStream stream) throws IOException {
       ClaimableBalanceEntryExt decodedClaimableBalanceEntryExt = new ClaimableBalanceEntryExt();
       Integer discriminant = stream.readInt();
@@ -135,15 +245,93 @@ public class ClaimableBalanceEntry implements XdrElement {
       return decodedClaimableBalanceEntryExt;
     }
 
+    public static ClaimableBalanceEntryExt decodeInto(
+        ClaimableBalanceEntryExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      ClaimableBalanceEntryExt decodedClaimableBalanceEntryExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new ClaimableBalanceEntryExt();
+      decodedClaimableBalanceEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          decodedClaimableBalanceEntryExt.v1 =
+              ClaimableBalanceEntryExtensionV1.decodeInto(
+                  decodedClaimableBalanceEntryExt.v1, stream);
+          break;
+      }
+      return decodedClaimableBalanceEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          ClaimableBalanceEntryExtensionV1.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown ClaimableBalanceEntryExt discriminant: " + discriminant);
+      }
+    }
+
     public static ClaimableBalanceEntryExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static ClaimableBalanceEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 1:
+          writer.beginObject();
+          writer.name("v1");
+          v1.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static ClaimableBalanceEntryExt fromJson(JsonReader reader) throws IOException {
+      ClaimableBalanceEntryExt decodedClaimableBalanceEntryExt = new ClaimableBalanceEntryExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedClaimableBalanceEntryExt.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown ClaimableBalanceEntryExt arm: " + key);
+        }
+        return decodedClaimableBalanceEntryExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v1":
+          decodedClaimableBalanceEntryExt.setDiscriminant(1);
+          decodedClaimableBalanceEntryExt.v1 = ClaimableBalanceEntryExtensionV1.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ClaimableBalanceEntryExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedClaimableBalanceEntryExt;
+    }
+
+    public static ClaimableBalanceEntryExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
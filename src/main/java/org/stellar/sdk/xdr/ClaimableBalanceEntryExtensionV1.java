@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimableBalanceEntryExtensionV1's original definition in the XDR file is:
@@ -41,6 +41,13 @@ public class ClaimableBalanceEntryExtensionV1 implements XdrElement {
     flags.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += flags.encodedSize();
+    return size;
+  }
+
   public static ClaimableBalanceEntryExtensionV1 decode(XdrDataInputStream stream)
       throws IOException {
     ClaimableBalanceEntryExtensionV1 decodedClaimableBalanceEntryExtensionV1 =
@@ -51,17 +58,69 @@ public class ClaimableBalanceEntryExtensionV1 implements XdrElement {
     return decodedClaimableBalanceEntryExtensionV1;
   }
 
+  public static ClaimableBalanceEntryExtensionV1 decodeInto(
+      ClaimableBalanceEntryExtensionV1 existing, XdrDataInputStream stream) throws IOException {
+    ClaimableBalanceEntryExtensionV1 decodedClaimableBalanceEntryExtensionV1 =
+        existing != null ? existing : new ClaimableBalanceEntryExtensionV1();
+    decodedClaimableBalanceEntryExtensionV1.ext =
+        ClaimableBalanceEntryExtensionV1Ext.decodeInto(
+            decodedClaimableBalanceEntryExtensionV1.ext, stream);
+    decodedClaimableBalanceEntryExtensionV1.flags =
+        Uint32.decodeInto(decodedClaimableBalanceEntryExtensionV1.flags, stream);
+    return decodedClaimableBalanceEntryExtensionV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ClaimableBalanceEntryExtensionV1Ext.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static ClaimableBalanceEntryExtensionV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimableBalanceEntryExtensionV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("flags");
+    flags.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ClaimableBalanceEntryExtensionV1 fromJson(JsonReader reader) throws IOException {
+    ClaimableBalanceEntryExtensionV1 decodedClaimableBalanceEntryExtensionV1 =
+        new ClaimableBalanceEntryExtensionV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedClaimableBalanceEntryExtensionV1.ext =
+              ClaimableBalanceEntryExtensionV1Ext.fromJson(reader);
+          break;
+        case "flags":
+          decodedClaimableBalanceEntryExtensionV1.flags = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ClaimableBalanceEntryExtensionV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedClaimableBalanceEntryExtensionV1;
+  }
+
+  public static ClaimableBalanceEntryExtensionV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * ClaimableBalanceEntryExtensionV1Ext's original definition in the XDR file is:
    *
@@ -88,6 +147,16 @@ public class ClaimableBalanceEntryExtensionV1 implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static ClaimableBalanceEntryExtensionV1Ext decode(XdrDataInputStream stream)
         throws IOException {
       ClaimableBalanceEntryExtensionV1Ext decodedClaimableBalanceEntryExtensionV1Ext =
@@ -101,16 +170,70 @@ public class ClaimableBalanceEntryExtensionV1 implements XdrElement {
       return decodedClaimableBalanceEntryExtensionV1Ext;
     }
 
+    public static ClaimableBalanceEntryExtensionV1Ext decodeInto(
+        ClaimableBalanceEntryExtensionV1Ext existing, XdrDataInputStream stream)
+        throws IOException {
+      Integer discriminant = stream.readInt();
+      ClaimableBalanceEntryExtensionV1Ext decodedClaimableBalanceEntryExtensionV1Ext =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new ClaimableBalanceEntryExtensionV1Ext();
+      decodedClaimableBalanceEntryExtensionV1Ext.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedClaimableBalanceEntryExtensionV1Ext;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException(
+              "Unknown ClaimableBalanceEntryExtensionV1Ext discriminant: " + discriminant);
+      }
+    }
+
     public static ClaimableBalanceEntryExtensionV1Ext fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static ClaimableBalanceEntryExtensionV1Ext fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static ClaimableBalanceEntryExtensionV1Ext fromJson(JsonReader reader)
+        throws IOException {
+      ClaimableBalanceEntryExtensionV1Ext decodedClaimableBalanceEntryExtensionV1Ext =
+          new ClaimableBalanceEntryExtensionV1Ext();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedClaimableBalanceEntryExtensionV1Ext.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown ClaimableBalanceEntryExtensionV1Ext arm: " + key);
+      }
+      return decodedClaimableBalanceEntryExtensionV1Ext;
+    }
+
+    public static ClaimableBalanceEntryExtensionV1Ext fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClaimableBalanceID's original definition in the XDR file is:
@@ -39,6 +39,17 @@ public class ClaimableBalanceID implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CLAIMABLE_BALANCE_ID_TYPE_V0:
+        size += v0.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static ClaimableBalanceID decode(XdrDataInputStream stream) throws IOException {
     ClaimableBalanceID decodedClaimableBalanceID = new ClaimableBalanceID();
     ClaimableBalanceIDType discriminant = ClaimableBalanceIDType.decode(stream);
@@ -51,14 +62,53 @@ public class ClaimableBalanceID implements XdrElement {
     return decodedClaimableBalanceID;
   }
 
+  public static ClaimableBalanceID decodeInto(
+      ClaimableBalanceID existing, XdrDataInputStream stream) throws IOException {
+    ClaimableBalanceIDType discriminant = ClaimableBalanceIDType.decode(stream);
+    ClaimableBalanceID decodedClaimableBalanceID =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ClaimableBalanceID();
+    decodedClaimableBalanceID.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CLAIMABLE_BALANCE_ID_TYPE_V0:
+        decodedClaimableBalanceID.v0 = Hash.decodeInto(decodedClaimableBalanceID.v0, stream);
+        break;
+    }
+    return decodedClaimableBalanceID;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ClaimableBalanceIDType discriminant = ClaimableBalanceIDType.decode(stream);
+    switch (discriminant) {
+      case CLAIMABLE_BALANCE_ID_TYPE_V0:
+        Hash.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown ClaimableBalanceID discriminant: " + discriminant);
+    }
+  }
+
   public static ClaimableBalanceID fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClaimableBalanceID fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.value(XdrJson.encodeClaimableBalanceId(this));
+  }
+
+  public static ClaimableBalanceID fromJson(JsonReader reader) throws IOException {
+    return XdrJson.decodeClaimableBalanceId(reader.nextString());
+  }
+
+  public static ClaimableBalanceID fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
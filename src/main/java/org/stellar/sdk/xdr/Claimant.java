@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Claimant's original definition in the XDR file is:
@@ -43,6 +43,17 @@ public class Claimant implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CLAIMANT_TYPE_V0:
+        size += v0.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static Claimant decode(XdrDataInputStream stream) throws IOException {
     Claimant decodedClaimant = new Claimant();
     ClaimantType discriminant = ClaimantType.decode(stream);
@@ -55,17 +66,73 @@ public class Claimant implements XdrElement {
     return decodedClaimant;
   }
 
+  public static Claimant decodeInto(Claimant existing, XdrDataInputStream stream)
+      throws IOException {
+    ClaimantType discriminant = ClaimantType.decode(stream);
+    Claimant decodedClaimant =
+        existing != null && discriminant.equals(existing.discriminant) ? existing : new Claimant();
+    decodedClaimant.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CLAIMANT_TYPE_V0:
+        decodedClaimant.v0 = ClaimantV0.decodeInto(decodedClaimant.v0, stream);
+        break;
+    }
+    return decodedClaimant;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ClaimantType discriminant = ClaimantType.decode(stream);
+    switch (discriminant) {
+      case CLAIMANT_TYPE_V0:
+        ClaimantV0.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown Claimant discriminant: " + discriminant);
+    }
+  }
+
   public static Claimant fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Claimant fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CLAIMANT_TYPE_V0:
+        writer.beginObject();
+        writer.name("v0");
+        v0.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static Claimant fromJson(JsonReader reader) throws IOException {
+    Claimant decodedClaimant = new Claimant();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v0":
+        decodedClaimant.setDiscriminant(ClaimantType.CLAIMANT_TYPE_V0);
+        decodedClaimant.v0 = ClaimantV0.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown Claimant arm: " + key);
+    }
+    reader.endObject();
+    return decodedClaimant;
+  }
+
+  public static Claimant fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * ClaimantV0's original definition in the XDR file is:
    *
@@ -90,6 +157,13 @@ public class Claimant implements XdrElement {
       predicate.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += destination.encodedSize();
+      size += predicate.encodedSize();
+      return size;
+    }
+
     public static ClaimantV0 decode(XdrDataInputStream stream) throws IOException {
       ClaimantV0 decodedClaimantV0 = new ClaimantV0();
       decodedClaimantV0.destination = AccountID.decode(stream);
@@ -97,15 +171,61 @@ public class Claimant implements XdrElement {
       return decodedClaimantV0;
     }
 
+    public static ClaimantV0 decodeInto(ClaimantV0 existing, XdrDataInputStream stream)
+        throws IOException {
+      ClaimantV0 decodedClaimantV0 = existing != null ? existing : new ClaimantV0();
+      decodedClaimantV0.destination = AccountID.decodeInto(decodedClaimantV0.destination, stream);
+      decodedClaimantV0.predicate = ClaimPredicate.decodeInto(decodedClaimantV0.predicate, stream);
+      return decodedClaimantV0;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      AccountID.skip(stream);
+      ClaimPredicate.skip(stream);
+    }
+
     public static ClaimantV0 fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static ClaimantV0 fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("destination");
+      destination.toJson(writer);
+      writer.name("predicate");
+      predicate.toJson(writer);
+      writer.endObject();
+    }
+
+    public static ClaimantV0 fromJson(JsonReader reader) throws IOException {
+      ClaimantV0 decodedClaimantV0 = new ClaimantV0();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "destination":
+            decodedClaimantV0.destination = AccountID.fromJson(reader);
+            break;
+          case "predicate":
+            decodedClaimantV0.predicate = ClaimPredicate.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown ClaimantV0 field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedClaimantV0;
+    }
+
+    public static ClaimantV0 fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
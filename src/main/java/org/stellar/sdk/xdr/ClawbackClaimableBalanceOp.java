@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClawbackClaimableBalanceOp's original definition in the XDR file is:
@@ -32,20 +32,65 @@ public class ClawbackClaimableBalanceOp implements XdrElement {
     balanceID.encode(stream);
   }
 
+  public int encodedSize() {
+    return balanceID.encodedSize();
+  }
+
   public static ClawbackClaimableBalanceOp decode(XdrDataInputStream stream) throws IOException {
     ClawbackClaimableBalanceOp decodedClawbackClaimableBalanceOp = new ClawbackClaimableBalanceOp();
     decodedClawbackClaimableBalanceOp.balanceID = ClaimableBalanceID.decode(stream);
     return decodedClawbackClaimableBalanceOp;
   }
 
+  public static ClawbackClaimableBalanceOp decodeInto(
+      ClawbackClaimableBalanceOp existing, XdrDataInputStream stream) throws IOException {
+    ClawbackClaimableBalanceOp decodedClawbackClaimableBalanceOp =
+        existing != null ? existing : new ClawbackClaimableBalanceOp();
+    decodedClawbackClaimableBalanceOp.balanceID =
+        ClaimableBalanceID.decodeInto(decodedClawbackClaimableBalanceOp.balanceID, stream);
+    return decodedClawbackClaimableBalanceOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ClaimableBalanceID.skip(stream);
+  }
+
   public static ClawbackClaimableBalanceOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClawbackClaimableBalanceOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("balance_id");
+    balanceID.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ClawbackClaimableBalanceOp fromJson(JsonReader reader) throws IOException {
+    ClawbackClaimableBalanceOp decodedClawbackClaimableBalanceOp = new ClawbackClaimableBalanceOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "balance_id":
+          decodedClawbackClaimableBalanceOp.balanceID = ClaimableBalanceID.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ClawbackClaimableBalanceOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedClawbackClaimableBalanceOp;
+  }
+
+  public static ClawbackClaimableBalanceOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
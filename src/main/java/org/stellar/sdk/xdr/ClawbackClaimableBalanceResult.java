@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClawbackClaimableBalanceResult's original definition in the XDR file is:
@@ -46,6 +46,20 @@ public class ClawbackClaimableBalanceResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CLAWBACK_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED:
+        break;
+    }
+    return size;
+  }
+
   public static ClawbackClaimableBalanceResult decode(XdrDataInputStream stream)
       throws IOException {
     ClawbackClaimableBalanceResult decodedClawbackClaimableBalanceResult =
@@ -64,14 +78,98 @@ public class ClawbackClaimableBalanceResult implements XdrElement {
     return decodedClawbackClaimableBalanceResult;
   }
 
+  public static ClawbackClaimableBalanceResult decodeInto(
+      ClawbackClaimableBalanceResult existing, XdrDataInputStream stream) throws IOException {
+    ClawbackClaimableBalanceResultCode discriminant =
+        ClawbackClaimableBalanceResultCode.decode(stream);
+    ClawbackClaimableBalanceResult decodedClawbackClaimableBalanceResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ClawbackClaimableBalanceResult();
+    decodedClawbackClaimableBalanceResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CLAWBACK_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED:
+        break;
+    }
+    return decodedClawbackClaimableBalanceResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ClawbackClaimableBalanceResultCode discriminant =
+        ClawbackClaimableBalanceResultCode.decode(stream);
+    switch (discriminant) {
+      case CLAWBACK_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED:
+        break;
+      default:
+        throw new IOException(
+            "Unknown ClawbackClaimableBalanceResult discriminant: " + discriminant);
+    }
+  }
+
   public static ClawbackClaimableBalanceResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClawbackClaimableBalanceResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CLAWBACK_CLAIMABLE_BALANCE_SUCCESS:
+        writer.value("success");
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+        writer.value("does_not_exist");
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER:
+        writer.value("not_issuer");
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED:
+        writer.value("not_clawback_enabled");
+        break;
+    }
+  }
+
+  public static ClawbackClaimableBalanceResult fromJson(JsonReader reader) throws IOException {
+    ClawbackClaimableBalanceResult decodedClawbackClaimableBalanceResult =
+        new ClawbackClaimableBalanceResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedClawbackClaimableBalanceResult.setDiscriminant(
+            ClawbackClaimableBalanceResultCode.CLAWBACK_CLAIMABLE_BALANCE_SUCCESS);
+        break;
+      case "does_not_exist":
+        decodedClawbackClaimableBalanceResult.setDiscriminant(
+            ClawbackClaimableBalanceResultCode.CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST);
+        break;
+      case "not_issuer":
+        decodedClawbackClaimableBalanceResult.setDiscriminant(
+            ClawbackClaimableBalanceResultCode.CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER);
+        break;
+      case "not_clawback_enabled":
+        decodedClawbackClaimableBalanceResult.setDiscriminant(
+            ClawbackClaimableBalanceResultCode.CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED);
+        break;
+      default:
+        throw new IOException("Unknown ClawbackClaimableBalanceResult arm: " + key);
+    }
+    return decodedClawbackClaimableBalanceResult;
+  }
+
+  public static ClawbackClaimableBalanceResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
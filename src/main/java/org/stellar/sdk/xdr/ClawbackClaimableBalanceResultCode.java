@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClawbackClaimableBalanceResultCode's original definition in the XDR file is:
@@ -56,18 +56,63 @@ public enum ClawbackClaimableBalanceResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ClawbackClaimableBalanceResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClawbackClaimableBalanceResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CLAWBACK_CLAIMABLE_BALANCE_SUCCESS:
+        writer.value("success");
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+        writer.value("does_not_exist");
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER:
+        writer.value("not_issuer");
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED:
+        writer.value("not_clawback_enabled");
+        break;
+    }
+  }
+
+  public static ClawbackClaimableBalanceResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return CLAWBACK_CLAIMABLE_BALANCE_SUCCESS;
+      case "does_not_exist":
+        return CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST;
+      case "not_issuer":
+        return CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER;
+      case "not_clawback_enabled":
+        return CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED;
+      default:
+        throw new IOException("Unknown ClawbackClaimableBalanceResultCode value: " + value);
+    }
+  }
+
+  public static ClawbackClaimableBalanceResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
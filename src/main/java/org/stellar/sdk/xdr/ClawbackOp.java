@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClawbackOp's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class ClawbackOp implements XdrElement {
     amount.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += asset.encodedSize();
+    size += from.encodedSize();
+    size += amount.encodedSize();
+    return size;
+  }
+
   public static ClawbackOp decode(XdrDataInputStream stream) throws IOException {
     ClawbackOp decodedClawbackOp = new ClawbackOp();
     decodedClawbackOp.asset = Asset.decode(stream);
@@ -46,14 +54,67 @@ public class ClawbackOp implements XdrElement {
     return decodedClawbackOp;
   }
 
+  public static ClawbackOp decodeInto(ClawbackOp existing, XdrDataInputStream stream)
+      throws IOException {
+    ClawbackOp decodedClawbackOp = existing != null ? existing : new ClawbackOp();
+    decodedClawbackOp.asset = Asset.decodeInto(decodedClawbackOp.asset, stream);
+    decodedClawbackOp.from = MuxedAccount.decodeInto(decodedClawbackOp.from, stream);
+    decodedClawbackOp.amount = Int64.decodeInto(decodedClawbackOp.amount, stream);
+    return decodedClawbackOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Asset.skip(stream);
+    MuxedAccount.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ClawbackOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClawbackOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("asset");
+    asset.toJson(writer);
+    writer.name("from");
+    from.toJson(writer);
+    writer.name("amount");
+    amount.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ClawbackOp fromJson(JsonReader reader) throws IOException {
+    ClawbackOp decodedClawbackOp = new ClawbackOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "asset":
+          decodedClawbackOp.asset = Asset.fromJson(reader);
+          break;
+        case "from":
+          decodedClawbackOp.from = MuxedAccount.fromJson(reader);
+          break;
+        case "amount":
+          decodedClawbackOp.amount = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ClawbackOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedClawbackOp;
+  }
+
+  public static ClawbackOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
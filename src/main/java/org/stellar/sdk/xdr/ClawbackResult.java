@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClawbackResult's original definition in the XDR file is:
@@ -47,6 +47,21 @@ public class ClawbackResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CLAWBACK_SUCCESS:
+        break;
+      case CLAWBACK_MALFORMED:
+      case CLAWBACK_NOT_CLAWBACK_ENABLED:
+      case CLAWBACK_NO_TRUST:
+      case CLAWBACK_UNDERFUNDED:
+        break;
+    }
+    return size;
+  }
+
   public static ClawbackResult decode(XdrDataInputStream stream) throws IOException {
     ClawbackResult decodedClawbackResult = new ClawbackResult();
     ClawbackResultCode discriminant = ClawbackResultCode.decode(stream);
@@ -63,14 +78,98 @@ public class ClawbackResult implements XdrElement {
     return decodedClawbackResult;
   }
 
+  public static ClawbackResult decodeInto(ClawbackResult existing, XdrDataInputStream stream)
+      throws IOException {
+    ClawbackResultCode discriminant = ClawbackResultCode.decode(stream);
+    ClawbackResult decodedClawbackResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ClawbackResult();
+    decodedClawbackResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CLAWBACK_SUCCESS:
+        break;
+      case CLAWBACK_MALFORMED:
+      case CLAWBACK_NOT_CLAWBACK_ENABLED:
+      case CLAWBACK_NO_TRUST:
+      case CLAWBACK_UNDERFUNDED:
+        break;
+    }
+    return decodedClawbackResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ClawbackResultCode discriminant = ClawbackResultCode.decode(stream);
+    switch (discriminant) {
+      case CLAWBACK_SUCCESS:
+        break;
+      case CLAWBACK_MALFORMED:
+      case CLAWBACK_NOT_CLAWBACK_ENABLED:
+      case CLAWBACK_NO_TRUST:
+      case CLAWBACK_UNDERFUNDED:
+        break;
+      default:
+        throw new IOException("Unknown ClawbackResult discriminant: " + discriminant);
+    }
+  }
+
   public static ClawbackResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClawbackResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CLAWBACK_SUCCESS:
+        writer.value("success");
+        break;
+      case CLAWBACK_MALFORMED:
+        writer.value("malformed");
+        break;
+      case CLAWBACK_NOT_CLAWBACK_ENABLED:
+        writer.value("not_clawback_enabled");
+        break;
+      case CLAWBACK_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case CLAWBACK_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+    }
+  }
+
+  public static ClawbackResult fromJson(JsonReader reader) throws IOException {
+    ClawbackResult decodedClawbackResult = new ClawbackResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedClawbackResult.setDiscriminant(ClawbackResultCode.CLAWBACK_SUCCESS);
+        break;
+      case "malformed":
+        decodedClawbackResult.setDiscriminant(ClawbackResultCode.CLAWBACK_MALFORMED);
+        break;
+      case "not_clawback_enabled":
+        decodedClawbackResult.setDiscriminant(ClawbackResultCode.CLAWBACK_NOT_CLAWBACK_ENABLED);
+        break;
+      case "no_trust":
+        decodedClawbackResult.setDiscriminant(ClawbackResultCode.CLAWBACK_NO_TRUST);
+        break;
+      case "underfunded":
+        decodedClawbackResult.setDiscriminant(ClawbackResultCode.CLAWBACK_UNDERFUNDED);
+        break;
+      default:
+        throw new IOException("Unknown ClawbackResult arm: " + key);
+    }
+    return decodedClawbackResult;
+  }
+
+  public static ClawbackResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
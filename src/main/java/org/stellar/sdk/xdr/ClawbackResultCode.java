@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ClawbackResultCode's original definition in the XDR file is:
@@ -59,18 +59,68 @@ public enum ClawbackResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ClawbackResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ClawbackResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CLAWBACK_SUCCESS:
+        writer.value("success");
+        break;
+      case CLAWBACK_MALFORMED:
+        writer.value("malformed");
+        break;
+      case CLAWBACK_NOT_CLAWBACK_ENABLED:
+        writer.value("not_clawback_enabled");
+        break;
+      case CLAWBACK_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case CLAWBACK_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+    }
+  }
+
+  public static ClawbackResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return CLAWBACK_SUCCESS;
+      case "malformed":
+        return CLAWBACK_MALFORMED;
+      case "not_clawback_enabled":
+        return CLAWBACK_NOT_CLAWBACK_ENABLED;
+      case "no_trust":
+        return CLAWBACK_NO_TRUST;
+      case "underfunded":
+        return CLAWBACK_UNDERFUNDED;
+      default:
+        throw new IOException("Unknown ClawbackResultCode value: " + value);
+    }
+  }
+
+  public static ClawbackResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
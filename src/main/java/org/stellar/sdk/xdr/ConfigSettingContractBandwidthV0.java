@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingContractBandwidthV0's original definition in the XDR file is:
@@ -42,6 +42,14 @@ public class ConfigSettingContractBandwidthV0 implements XdrElement {
     feeTxSize1KB.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerMaxTxsSizeBytes.encodedSize();
+    size += txMaxSizeBytes.encodedSize();
+    size += feeTxSize1KB.encodedSize();
+    return size;
+  }
+
   public static ConfigSettingContractBandwidthV0 decode(XdrDataInputStream stream)
       throws IOException {
     ConfigSettingContractBandwidthV0 decodedConfigSettingContractBandwidthV0 =
@@ -52,14 +60,72 @@ public class ConfigSettingContractBandwidthV0 implements XdrElement {
     return decodedConfigSettingContractBandwidthV0;
   }
 
+  public static ConfigSettingContractBandwidthV0 decodeInto(
+      ConfigSettingContractBandwidthV0 existing, XdrDataInputStream stream) throws IOException {
+    ConfigSettingContractBandwidthV0 decodedConfigSettingContractBandwidthV0 =
+        existing != null ? existing : new ConfigSettingContractBandwidthV0();
+    decodedConfigSettingContractBandwidthV0.ledgerMaxTxsSizeBytes =
+        Uint32.decodeInto(decodedConfigSettingContractBandwidthV0.ledgerMaxTxsSizeBytes, stream);
+    decodedConfigSettingContractBandwidthV0.txMaxSizeBytes =
+        Uint32.decodeInto(decodedConfigSettingContractBandwidthV0.txMaxSizeBytes, stream);
+    decodedConfigSettingContractBandwidthV0.feeTxSize1KB =
+        Int64.decodeInto(decodedConfigSettingContractBandwidthV0.feeTxSize1KB, stream);
+    return decodedConfigSettingContractBandwidthV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ConfigSettingContractBandwidthV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingContractBandwidthV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_max_txs_size_bytes");
+    ledgerMaxTxsSizeBytes.toJson(writer);
+    writer.name("tx_max_size_bytes");
+    txMaxSizeBytes.toJson(writer);
+    writer.name("fee_tx_size1_kb");
+    feeTxSize1KB.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ConfigSettingContractBandwidthV0 fromJson(JsonReader reader) throws IOException {
+    ConfigSettingContractBandwidthV0 decodedConfigSettingContractBandwidthV0 =
+        new ConfigSettingContractBandwidthV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_max_txs_size_bytes":
+          decodedConfigSettingContractBandwidthV0.ledgerMaxTxsSizeBytes = Uint32.fromJson(reader);
+          break;
+        case "tx_max_size_bytes":
+          decodedConfigSettingContractBandwidthV0.txMaxSizeBytes = Uint32.fromJson(reader);
+          break;
+        case "fee_tx_size1_kb":
+          decodedConfigSettingContractBandwidthV0.feeTxSize1KB = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ConfigSettingContractBandwidthV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigSettingContractBandwidthV0;
+  }
+
+  public static ConfigSettingContractBandwidthV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
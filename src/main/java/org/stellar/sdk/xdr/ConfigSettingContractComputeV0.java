@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingContractComputeV0's original definition in the XDR file is:
@@ -47,6 +47,15 @@ public class ConfigSettingContractComputeV0 implements XdrElement {
     txMemoryLimit.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerMaxInstructions.encodedSize();
+    size += txMaxInstructions.encodedSize();
+    size += feeRatePerInstructionsIncrement.encodedSize();
+    size += txMemoryLimit.encodedSize();
+    return size;
+  }
+
   public static ConfigSettingContractComputeV0 decode(XdrDataInputStream stream)
       throws IOException {
     ConfigSettingContractComputeV0 decodedConfigSettingContractComputeV0 =
@@ -58,14 +67,82 @@ public class ConfigSettingContractComputeV0 implements XdrElement {
     return decodedConfigSettingContractComputeV0;
   }
 
+  public static ConfigSettingContractComputeV0 decodeInto(
+      ConfigSettingContractComputeV0 existing, XdrDataInputStream stream) throws IOException {
+    ConfigSettingContractComputeV0 decodedConfigSettingContractComputeV0 =
+        existing != null ? existing : new ConfigSettingContractComputeV0();
+    decodedConfigSettingContractComputeV0.ledgerMaxInstructions =
+        Int64.decodeInto(decodedConfigSettingContractComputeV0.ledgerMaxInstructions, stream);
+    decodedConfigSettingContractComputeV0.txMaxInstructions =
+        Int64.decodeInto(decodedConfigSettingContractComputeV0.txMaxInstructions, stream);
+    decodedConfigSettingContractComputeV0.feeRatePerInstructionsIncrement =
+        Int64.decodeInto(
+            decodedConfigSettingContractComputeV0.feeRatePerInstructionsIncrement, stream);
+    decodedConfigSettingContractComputeV0.txMemoryLimit =
+        Uint32.decodeInto(decodedConfigSettingContractComputeV0.txMemoryLimit, stream);
+    return decodedConfigSettingContractComputeV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static ConfigSettingContractComputeV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingContractComputeV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_max_instructions");
+    ledgerMaxInstructions.toJson(writer);
+    writer.name("tx_max_instructions");
+    txMaxInstructions.toJson(writer);
+    writer.name("fee_rate_per_instructions_increment");
+    feeRatePerInstructionsIncrement.toJson(writer);
+    writer.name("tx_memory_limit");
+    txMemoryLimit.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ConfigSettingContractComputeV0 fromJson(JsonReader reader) throws IOException {
+    ConfigSettingContractComputeV0 decodedConfigSettingContractComputeV0 =
+        new ConfigSettingContractComputeV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_max_instructions":
+          decodedConfigSettingContractComputeV0.ledgerMaxInstructions = Int64.fromJson(reader);
+          break;
+        case "tx_max_instructions":
+          decodedConfigSettingContractComputeV0.txMaxInstructions = Int64.fromJson(reader);
+          break;
+        case "fee_rate_per_instructions_increment":
+          decodedConfigSettingContractComputeV0.feeRatePerInstructionsIncrement =
+              Int64.fromJson(reader);
+          break;
+        case "tx_memory_limit":
+          decodedConfigSettingContractComputeV0.txMemoryLimit = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ConfigSettingContractComputeV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigSettingContractComputeV0;
+  }
+
+  public static ConfigSettingContractComputeV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingContractEventsV0's original definition in the XDR file is:
@@ -37,6 +37,13 @@ public class ConfigSettingContractEventsV0 implements XdrElement {
     feeContractEvents1KB.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += txMaxContractEventsSizeBytes.encodedSize();
+    size += feeContractEvents1KB.encodedSize();
+    return size;
+  }
+
   public static ConfigSettingContractEventsV0 decode(XdrDataInputStream stream) throws IOException {
     ConfigSettingContractEventsV0 decodedConfigSettingContractEventsV0 =
         new ConfigSettingContractEventsV0();
@@ -45,14 +52,66 @@ public class ConfigSettingContractEventsV0 implements XdrElement {
     return decodedConfigSettingContractEventsV0;
   }
 
+  public static ConfigSettingContractEventsV0 decodeInto(
+      ConfigSettingContractEventsV0 existing, XdrDataInputStream stream) throws IOException {
+    ConfigSettingContractEventsV0 decodedConfigSettingContractEventsV0 =
+        existing != null ? existing : new ConfigSettingContractEventsV0();
+    decodedConfigSettingContractEventsV0.txMaxContractEventsSizeBytes =
+        Uint32.decodeInto(
+            decodedConfigSettingContractEventsV0.txMaxContractEventsSizeBytes, stream);
+    decodedConfigSettingContractEventsV0.feeContractEvents1KB =
+        Int64.decodeInto(decodedConfigSettingContractEventsV0.feeContractEvents1KB, stream);
+    return decodedConfigSettingContractEventsV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ConfigSettingContractEventsV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingContractEventsV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx_max_contract_events_size_bytes");
+    txMaxContractEventsSizeBytes.toJson(writer);
+    writer.name("fee_contract_events1_kb");
+    feeContractEvents1KB.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ConfigSettingContractEventsV0 fromJson(JsonReader reader) throws IOException {
+    ConfigSettingContractEventsV0 decodedConfigSettingContractEventsV0 =
+        new ConfigSettingContractEventsV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx_max_contract_events_size_bytes":
+          decodedConfigSettingContractEventsV0.txMaxContractEventsSizeBytes =
+              Uint32.fromJson(reader);
+          break;
+        case "fee_contract_events1_kb":
+          decodedConfigSettingContractEventsV0.feeContractEvents1KB = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ConfigSettingContractEventsV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigSettingContractEventsV0;
+  }
+
+  public static ConfigSettingContractEventsV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
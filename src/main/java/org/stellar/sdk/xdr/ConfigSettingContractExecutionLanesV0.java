@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingContractExecutionLanesV0's original definition in the XDR file is:
@@ -33,6 +33,10 @@ public class ConfigSettingContractExecutionLanesV0 implements XdrElement {
     ledgerMaxTxCount.encode(stream);
   }
 
+  public int encodedSize() {
+    return ledgerMaxTxCount.encodedSize();
+  }
+
   public static ConfigSettingContractExecutionLanesV0 decode(XdrDataInputStream stream)
       throws IOException {
     ConfigSettingContractExecutionLanesV0 decodedConfigSettingContractExecutionLanesV0 =
@@ -41,15 +45,59 @@ public class ConfigSettingContractExecutionLanesV0 implements XdrElement {
     return decodedConfigSettingContractExecutionLanesV0;
   }
 
+  public static ConfigSettingContractExecutionLanesV0 decodeInto(
+      ConfigSettingContractExecutionLanesV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    ConfigSettingContractExecutionLanesV0 decodedConfigSettingContractExecutionLanesV0 =
+        existing != null ? existing : new ConfigSettingContractExecutionLanesV0();
+    decodedConfigSettingContractExecutionLanesV0.ledgerMaxTxCount =
+        Uint32.decodeInto(decodedConfigSettingContractExecutionLanesV0.ledgerMaxTxCount, stream);
+    return decodedConfigSettingContractExecutionLanesV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+  }
+
   public static ConfigSettingContractExecutionLanesV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingContractExecutionLanesV0 fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_max_tx_count");
+    ledgerMaxTxCount.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ConfigSettingContractExecutionLanesV0 fromJson(JsonReader reader)
+      throws IOException {
+    ConfigSettingContractExecutionLanesV0 decodedConfigSettingContractExecutionLanesV0 =
+        new ConfigSettingContractExecutionLanesV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_max_tx_count":
+          decodedConfigSettingContractExecutionLanesV0.ledgerMaxTxCount = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ConfigSettingContractExecutionLanesV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigSettingContractExecutionLanesV0;
+  }
+
+  public static ConfigSettingContractExecutionLanesV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
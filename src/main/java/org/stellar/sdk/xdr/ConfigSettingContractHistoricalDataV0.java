@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingContractHistoricalDataV0's original definition in the XDR file is:
@@ -32,6 +32,10 @@ public class ConfigSettingContractHistoricalDataV0 implements XdrElement {
     feeHistorical1KB.encode(stream);
   }
 
+  public int encodedSize() {
+    return feeHistorical1KB.encodedSize();
+  }
+
   public static ConfigSettingContractHistoricalDataV0 decode(XdrDataInputStream stream)
       throws IOException {
     ConfigSettingContractHistoricalDataV0 decodedConfigSettingContractHistoricalDataV0 =
@@ -40,15 +44,59 @@ public class ConfigSettingContractHistoricalDataV0 implements XdrElement {
     return decodedConfigSettingContractHistoricalDataV0;
   }
 
+  public static ConfigSettingContractHistoricalDataV0 decodeInto(
+      ConfigSettingContractHistoricalDataV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    ConfigSettingContractHistoricalDataV0 decodedConfigSettingContractHistoricalDataV0 =
+        existing != null ? existing : new ConfigSettingContractHistoricalDataV0();
+    decodedConfigSettingContractHistoricalDataV0.feeHistorical1KB =
+        Int64.decodeInto(decodedConfigSettingContractHistoricalDataV0.feeHistorical1KB, stream);
+    return decodedConfigSettingContractHistoricalDataV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int64.skip(stream);
+  }
+
   public static ConfigSettingContractHistoricalDataV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingContractHistoricalDataV0 fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("fee_historical1_kb");
+    feeHistorical1KB.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ConfigSettingContractHistoricalDataV0 fromJson(JsonReader reader)
+      throws IOException {
+    ConfigSettingContractHistoricalDataV0 decodedConfigSettingContractHistoricalDataV0 =
+        new ConfigSettingContractHistoricalDataV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "fee_historical1_kb":
+          decodedConfigSettingContractHistoricalDataV0.feeHistorical1KB = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ConfigSettingContractHistoricalDataV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigSettingContractHistoricalDataV0;
+  }
+
+  public static ConfigSettingContractHistoricalDataV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
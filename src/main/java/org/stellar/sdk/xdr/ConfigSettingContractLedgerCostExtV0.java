@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingContractLedgerCostExtV0's original definition in the XDR file is:
@@ -39,6 +39,13 @@ public class ConfigSettingContractLedgerCostExtV0 implements XdrElement {
     feeWrite1KB.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += txMaxFootprintEntries.encodedSize();
+    size += feeWrite1KB.encodedSize();
+    return size;
+  }
+
   public static ConfigSettingContractLedgerCostExtV0 decode(XdrDataInputStream stream)
       throws IOException {
     ConfigSettingContractLedgerCostExtV0 decodedConfigSettingContractLedgerCostExtV0 =
@@ -48,15 +55,68 @@ public class ConfigSettingContractLedgerCostExtV0 implements XdrElement {
     return decodedConfigSettingContractLedgerCostExtV0;
   }
 
+  public static ConfigSettingContractLedgerCostExtV0 decodeInto(
+      ConfigSettingContractLedgerCostExtV0 existing, XdrDataInputStream stream) throws IOException {
+    ConfigSettingContractLedgerCostExtV0 decodedConfigSettingContractLedgerCostExtV0 =
+        existing != null ? existing : new ConfigSettingContractLedgerCostExtV0();
+    decodedConfigSettingContractLedgerCostExtV0.txMaxFootprintEntries =
+        Uint32.decodeInto(
+            decodedConfigSettingContractLedgerCostExtV0.txMaxFootprintEntries, stream);
+    decodedConfigSettingContractLedgerCostExtV0.feeWrite1KB =
+        Int64.decodeInto(decodedConfigSettingContractLedgerCostExtV0.feeWrite1KB, stream);
+    return decodedConfigSettingContractLedgerCostExtV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ConfigSettingContractLedgerCostExtV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingContractLedgerCostExtV0 fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx_max_footprint_entries");
+    txMaxFootprintEntries.toJson(writer);
+    writer.name("fee_write1_kb");
+    feeWrite1KB.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ConfigSettingContractLedgerCostExtV0 fromJson(JsonReader reader)
+      throws IOException {
+    ConfigSettingContractLedgerCostExtV0 decodedConfigSettingContractLedgerCostExtV0 =
+        new ConfigSettingContractLedgerCostExtV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx_max_footprint_entries":
+          decodedConfigSettingContractLedgerCostExtV0.txMaxFootprintEntries =
+              Uint32.fromJson(reader);
+          break;
+        case "fee_write1_kb":
+          decodedConfigSettingContractLedgerCostExtV0.feeWrite1KB = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ConfigSettingContractLedgerCostExtV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigSettingContractLedgerCostExtV0;
+  }
+
+  public static ConfigSettingContractLedgerCostExtV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
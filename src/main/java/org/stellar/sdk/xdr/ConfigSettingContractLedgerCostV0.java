@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingContractLedgerCostV0's original definition in the XDR file is:
@@ -91,6 +91,26 @@ public class ConfigSettingContractLedgerCostV0 implements XdrElement {
     sorobanStateRentFeeGrowthFactor.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerMaxDiskReadEntries.encodedSize();
+    size += ledgerMaxDiskReadBytes.encodedSize();
+    size += ledgerMaxWriteLedgerEntries.encodedSize();
+    size += ledgerMaxWriteBytes.encodedSize();
+    size += txMaxDiskReadEntries.encodedSize();
+    size += txMaxDiskReadBytes.encodedSize();
+    size += txMaxWriteLedgerEntries.encodedSize();
+    size += txMaxWriteBytes.encodedSize();
+    size += feeDiskReadLedgerEntry.encodedSize();
+    size += feeWriteLedgerEntry.encodedSize();
+    size += feeDiskRead1KB.encodedSize();
+    size += sorobanStateTargetSizeBytes.encodedSize();
+    size += rentFee1KBSorobanStateSizeLow.encodedSize();
+    size += rentFee1KBSorobanStateSizeHigh.encodedSize();
+    size += sorobanStateRentFeeGrowthFactor.encodedSize();
+    return size;
+  }
+
   public static ConfigSettingContractLedgerCostV0 decode(XdrDataInputStream stream)
       throws IOException {
     ConfigSettingContractLedgerCostV0 decodedConfigSettingContractLedgerCostV0 =
@@ -114,14 +134,181 @@ public class ConfigSettingContractLedgerCostV0 implements XdrElement {
     return decodedConfigSettingContractLedgerCostV0;
   }
 
+  public static ConfigSettingContractLedgerCostV0 decodeInto(
+      ConfigSettingContractLedgerCostV0 existing, XdrDataInputStream stream) throws IOException {
+    ConfigSettingContractLedgerCostV0 decodedConfigSettingContractLedgerCostV0 =
+        existing != null ? existing : new ConfigSettingContractLedgerCostV0();
+    decodedConfigSettingContractLedgerCostV0.ledgerMaxDiskReadEntries =
+        Uint32.decodeInto(
+            decodedConfigSettingContractLedgerCostV0.ledgerMaxDiskReadEntries, stream);
+    decodedConfigSettingContractLedgerCostV0.ledgerMaxDiskReadBytes =
+        Uint32.decodeInto(decodedConfigSettingContractLedgerCostV0.ledgerMaxDiskReadBytes, stream);
+    decodedConfigSettingContractLedgerCostV0.ledgerMaxWriteLedgerEntries =
+        Uint32.decodeInto(
+            decodedConfigSettingContractLedgerCostV0.ledgerMaxWriteLedgerEntries, stream);
+    decodedConfigSettingContractLedgerCostV0.ledgerMaxWriteBytes =
+        Uint32.decodeInto(decodedConfigSettingContractLedgerCostV0.ledgerMaxWriteBytes, stream);
+    decodedConfigSettingContractLedgerCostV0.txMaxDiskReadEntries =
+        Uint32.decodeInto(decodedConfigSettingContractLedgerCostV0.txMaxDiskReadEntries, stream);
+    decodedConfigSettingContractLedgerCostV0.txMaxDiskReadBytes =
+        Uint32.decodeInto(decodedConfigSettingContractLedgerCostV0.txMaxDiskReadBytes, stream);
+    decodedConfigSettingContractLedgerCostV0.txMaxWriteLedgerEntries =
+        Uint32.decodeInto(decodedConfigSettingContractLedgerCostV0.txMaxWriteLedgerEntries, stream);
+    decodedConfigSettingContractLedgerCostV0.txMaxWriteBytes =
+        Uint32.decodeInto(decodedConfigSettingContractLedgerCostV0.txMaxWriteBytes, stream);
+    decodedConfigSettingContractLedgerCostV0.feeDiskReadLedgerEntry =
+        Int64.decodeInto(decodedConfigSettingContractLedgerCostV0.feeDiskReadLedgerEntry, stream);
+    decodedConfigSettingContractLedgerCostV0.feeWriteLedgerEntry =
+        Int64.decodeInto(decodedConfigSettingContractLedgerCostV0.feeWriteLedgerEntry, stream);
+    decodedConfigSettingContractLedgerCostV0.feeDiskRead1KB =
+        Int64.decodeInto(decodedConfigSettingContractLedgerCostV0.feeDiskRead1KB, stream);
+    decodedConfigSettingContractLedgerCostV0.sorobanStateTargetSizeBytes =
+        Int64.decodeInto(
+            decodedConfigSettingContractLedgerCostV0.sorobanStateTargetSizeBytes, stream);
+    decodedConfigSettingContractLedgerCostV0.rentFee1KBSorobanStateSizeLow =
+        Int64.decodeInto(
+            decodedConfigSettingContractLedgerCostV0.rentFee1KBSorobanStateSizeLow, stream);
+    decodedConfigSettingContractLedgerCostV0.rentFee1KBSorobanStateSizeHigh =
+        Int64.decodeInto(
+            decodedConfigSettingContractLedgerCostV0.rentFee1KBSorobanStateSizeHigh, stream);
+    decodedConfigSettingContractLedgerCostV0.sorobanStateRentFeeGrowthFactor =
+        Uint32.decodeInto(
+            decodedConfigSettingContractLedgerCostV0.sorobanStateRentFeeGrowthFactor, stream);
+    return decodedConfigSettingContractLedgerCostV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static ConfigSettingContractLedgerCostV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingContractLedgerCostV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_max_disk_read_entries");
+    ledgerMaxDiskReadEntries.toJson(writer);
+    writer.name("ledger_max_disk_read_bytes");
+    ledgerMaxDiskReadBytes.toJson(writer);
+    writer.name("ledger_max_write_ledger_entries");
+    ledgerMaxWriteLedgerEntries.toJson(writer);
+    writer.name("ledger_max_write_bytes");
+    ledgerMaxWriteBytes.toJson(writer);
+    writer.name("tx_max_disk_read_entries");
+    txMaxDiskReadEntries.toJson(writer);
+    writer.name("tx_max_disk_read_bytes");
+    txMaxDiskReadBytes.toJson(writer);
+    writer.name("tx_max_write_ledger_entries");
+    txMaxWriteLedgerEntries.toJson(writer);
+    writer.name("tx_max_write_bytes");
+    txMaxWriteBytes.toJson(writer);
+    writer.name("fee_disk_read_ledger_entry");
+    feeDiskReadLedgerEntry.toJson(writer);
+    writer.name("fee_write_ledger_entry");
+    feeWriteLedgerEntry.toJson(writer);
+    writer.name("fee_disk_read1_kb");
+    feeDiskRead1KB.toJson(writer);
+    writer.name("soroban_state_target_size_bytes");
+    sorobanStateTargetSizeBytes.toJson(writer);
+    writer.name("rent_fee1_kb_soroban_state_size_low");
+    rentFee1KBSorobanStateSizeLow.toJson(writer);
+    writer.name("rent_fee1_kb_soroban_state_size_high");
+    rentFee1KBSorobanStateSizeHigh.toJson(writer);
+    writer.name("soroban_state_rent_fee_growth_factor");
+    sorobanStateRentFeeGrowthFactor.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ConfigSettingContractLedgerCostV0 fromJson(JsonReader reader) throws IOException {
+    ConfigSettingContractLedgerCostV0 decodedConfigSettingContractLedgerCostV0 =
+        new ConfigSettingContractLedgerCostV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_max_disk_read_entries":
+          decodedConfigSettingContractLedgerCostV0.ledgerMaxDiskReadEntries =
+              Uint32.fromJson(reader);
+          break;
+        case "ledger_max_disk_read_bytes":
+          decodedConfigSettingContractLedgerCostV0.ledgerMaxDiskReadBytes = Uint32.fromJson(reader);
+          break;
+        case "ledger_max_write_ledger_entries":
+          decodedConfigSettingContractLedgerCostV0.ledgerMaxWriteLedgerEntries =
+              Uint32.fromJson(reader);
+          break;
+        case "ledger_max_write_bytes":
+          decodedConfigSettingContractLedgerCostV0.ledgerMaxWriteBytes = Uint32.fromJson(reader);
+          break;
+        case "tx_max_disk_read_entries":
+          decodedConfigSettingContractLedgerCostV0.txMaxDiskReadEntries = Uint32.fromJson(reader);
+          break;
+        case "tx_max_disk_read_bytes":
+          decodedConfigSettingContractLedgerCostV0.txMaxDiskReadBytes = Uint32.fromJson(reader);
+          break;
+        case "tx_max_write_ledger_entries":
+          decodedConfigSettingContractLedgerCostV0.txMaxWriteLedgerEntries =
+              Uint32.fromJson(reader);
+          break;
+        case "tx_max_write_bytes":
+          decodedConfigSettingContractLedgerCostV0.txMaxWriteBytes = Uint32.fromJson(reader);
+          break;
+        case "fee_disk_read_ledger_entry":
+          decodedConfigSettingContractLedgerCostV0.feeDiskReadLedgerEntry = Int64.fromJson(reader);
+          break;
+        case "fee_write_ledger_entry":
+          decodedConfigSettingContractLedgerCostV0.feeWriteLedgerEntry = Int64.fromJson(reader);
+          break;
+        case "fee_disk_read1_kb":
+          decodedConfigSettingContractLedgerCostV0.feeDiskRead1KB = Int64.fromJson(reader);
+          break;
+        case "soroban_state_target_size_bytes":
+          decodedConfigSettingContractLedgerCostV0.sorobanStateTargetSizeBytes =
+              Int64.fromJson(reader);
+          break;
+        case "rent_fee1_kb_soroban_state_size_low":
+          decodedConfigSettingContractLedgerCostV0.rentFee1KBSorobanStateSizeLow =
+              Int64.fromJson(reader);
+          break;
+        case "rent_fee1_kb_soroban_state_size_high":
+          decodedConfigSettingContractLedgerCostV0.rentFee1KBSorobanStateSizeHigh =
+              Int64.fromJson(reader);
+          break;
+        case "soroban_state_rent_fee_growth_factor":
+          decodedConfigSettingContractLedgerCostV0.sorobanStateRentFeeGrowthFactor =
+              Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ConfigSettingContractLedgerCostV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigSettingContractLedgerCostV0;
+  }
+
+  public static ConfigSettingContractLedgerCostV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingContractParallelComputeV0's original definition in the XDR file is:
@@ -36,6 +36,10 @@ public class ConfigSettingContractParallelComputeV0 implements XdrElement {
     ledgerMaxDependentTxClusters.encode(stream);
   }
 
+  public int encodedSize() {
+    return ledgerMaxDependentTxClusters.encodedSize();
+  }
+
   public static ConfigSettingContractParallelComputeV0 decode(XdrDataInputStream stream)
       throws IOException {
     ConfigSettingContractParallelComputeV0 decodedConfigSettingContractParallelComputeV0 =
@@ -45,16 +49,62 @@ public class ConfigSettingContractParallelComputeV0 implements XdrElement {
     return decodedConfigSettingContractParallelComputeV0;
   }
 
+  public static ConfigSettingContractParallelComputeV0 decodeInto(
+      ConfigSettingContractParallelComputeV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    ConfigSettingContractParallelComputeV0 decodedConfigSettingContractParallelComputeV0 =
+        existing != null ? existing : new ConfigSettingContractParallelComputeV0();
+    decodedConfigSettingContractParallelComputeV0.ledgerMaxDependentTxClusters =
+        Uint32.decodeInto(
+            decodedConfigSettingContractParallelComputeV0.ledgerMaxDependentTxClusters, stream);
+    return decodedConfigSettingContractParallelComputeV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+  }
+
   public static ConfigSettingContractParallelComputeV0 fromXdrBase64(String xdr)
       throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingContractParallelComputeV0 fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_max_dependent_tx_clusters");
+    ledgerMaxDependentTxClusters.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ConfigSettingContractParallelComputeV0 fromJson(JsonReader reader)
+      throws IOException {
+    ConfigSettingContractParallelComputeV0 decodedConfigSettingContractParallelComputeV0 =
+        new ConfigSettingContractParallelComputeV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_max_dependent_tx_clusters":
+          decodedConfigSettingContractParallelComputeV0.ledgerMaxDependentTxClusters =
+              Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ConfigSettingContractParallelComputeV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigSettingContractParallelComputeV0;
+  }
+
+  public static ConfigSettingContractParallelComputeV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingEntry's original definition in the XDR file is:
@@ -139,6 +139,69 @@ public class ConfigSettingEntry implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES:
+        size += contractMaxSizeBytes.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_COMPUTE_V0:
+        size += contractCompute.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_V0:
+        size += contractLedgerCost.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0:
+        size += contractHistoricalData.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_EVENTS_V0:
+        size += contractEvents.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_BANDWIDTH_V0:
+        size += contractBandwidth.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS:
+        size += contractCostParamsCpuInsns.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES:
+        size += contractCostParamsMemBytes.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES:
+        size += contractDataKeySizeBytes.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES:
+        size += contractDataEntrySizeBytes.encodedSize();
+        break;
+      case CONFIG_SETTING_STATE_ARCHIVAL:
+        size += stateArchivalSettings.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_EXECUTION_LANES:
+        size += contractExecutionLanes.encodedSize();
+        break;
+      case CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW:
+        int liveSorobanStateSizeWindowSize = getLiveSorobanStateSizeWindow().length;
+        size += 4;
+        for (int i = 0; i < liveSorobanStateSizeWindowSize; i++) {
+          size += liveSorobanStateSizeWindow[i].encodedSize();
+        }
+        break;
+      case CONFIG_SETTING_EVICTION_ITERATOR:
+        size += evictionIterator.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0:
+        size += contractParallelCompute.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0:
+        size += contractLedgerCostExt.encodedSize();
+        break;
+      case CONFIG_SETTING_SCP_TIMING:
+        size += contractSCPTiming.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static ConfigSettingEntry decode(XdrDataInputStream stream) throws IOException {
     ConfigSettingEntry decodedConfigSettingEntry = new ConfigSettingEntry();
     ConfigSettingID discriminant = ConfigSettingID.decode(stream);
@@ -185,7 +248,7 @@ public class ConfigSettingEntry implements XdrElement {
             ConfigSettingContractExecutionLanesV0.decode(stream);
         break;
       case CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW:
-        int liveSorobanStateSizeWindowSize = stream.readInt();
+        int liveSorobanStateSizeWindowSize = stream.readLength(4);
         decodedConfigSettingEntry.liveSorobanStateSizeWindow =
             new Uint64[liveSorobanStateSizeWindowSize];
         for (int i = 0; i < liveSorobanStateSizeWindowSize; i++) {
@@ -210,14 +273,388 @@ public class ConfigSettingEntry implements XdrElement {
     return decodedConfigSettingEntry;
   }
 
+  public static ConfigSettingEntry decodeInto(
+      ConfigSettingEntry existing, XdrDataInputStream stream) throws IOException {
+    ConfigSettingID discriminant = ConfigSettingID.decode(stream);
+    ConfigSettingEntry decodedConfigSettingEntry =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ConfigSettingEntry();
+    decodedConfigSettingEntry.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES:
+        decodedConfigSettingEntry.contractMaxSizeBytes =
+            Uint32.decodeInto(decodedConfigSettingEntry.contractMaxSizeBytes, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_COMPUTE_V0:
+        decodedConfigSettingEntry.contractCompute =
+            ConfigSettingContractComputeV0.decodeInto(
+                decodedConfigSettingEntry.contractCompute, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_V0:
+        decodedConfigSettingEntry.contractLedgerCost =
+            ConfigSettingContractLedgerCostV0.decodeInto(
+                decodedConfigSettingEntry.contractLedgerCost, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0:
+        decodedConfigSettingEntry.contractHistoricalData =
+            ConfigSettingContractHistoricalDataV0.decodeInto(
+                decodedConfigSettingEntry.contractHistoricalData, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_EVENTS_V0:
+        decodedConfigSettingEntry.contractEvents =
+            ConfigSettingContractEventsV0.decodeInto(
+                decodedConfigSettingEntry.contractEvents, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_BANDWIDTH_V0:
+        decodedConfigSettingEntry.contractBandwidth =
+            ConfigSettingContractBandwidthV0.decodeInto(
+                decodedConfigSettingEntry.contractBandwidth, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS:
+        decodedConfigSettingEntry.contractCostParamsCpuInsns =
+            ContractCostParams.decodeInto(
+                decodedConfigSettingEntry.contractCostParamsCpuInsns, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES:
+        decodedConfigSettingEntry.contractCostParamsMemBytes =
+            ContractCostParams.decodeInto(
+                decodedConfigSettingEntry.contractCostParamsMemBytes, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES:
+        decodedConfigSettingEntry.contractDataKeySizeBytes =
+            Uint32.decodeInto(decodedConfigSettingEntry.contractDataKeySizeBytes, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES:
+        decodedConfigSettingEntry.contractDataEntrySizeBytes =
+            Uint32.decodeInto(decodedConfigSettingEntry.contractDataEntrySizeBytes, stream);
+        break;
+      case CONFIG_SETTING_STATE_ARCHIVAL:
+        decodedConfigSettingEntry.stateArchivalSettings =
+            StateArchivalSettings.decodeInto(
+                decodedConfigSettingEntry.stateArchivalSettings, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_EXECUTION_LANES:
+        decodedConfigSettingEntry.contractExecutionLanes =
+            ConfigSettingContractExecutionLanesV0.decodeInto(
+                decodedConfigSettingEntry.contractExecutionLanes, stream);
+        break;
+      case CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW:
+        int liveSorobanStateSizeWindowSize = stream.readLength(4);
+        decodedConfigSettingEntry.liveSorobanStateSizeWindow =
+            XdrRecycler.resize(
+                decodedConfigSettingEntry.liveSorobanStateSizeWindow,
+                liveSorobanStateSizeWindowSize,
+                Uint64[]::new);
+        for (int i = 0; i < liveSorobanStateSizeWindowSize; i++) {
+          decodedConfigSettingEntry.liveSorobanStateSizeWindow[i] =
+              Uint64.decodeInto(decodedConfigSettingEntry.liveSorobanStateSizeWindow[i], stream);
+        }
+        break;
+      case CONFIG_SETTING_EVICTION_ITERATOR:
+        decodedConfigSettingEntry.evictionIterator =
+            EvictionIterator.decodeInto(decodedConfigSettingEntry.evictionIterator, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0:
+        decodedConfigSettingEntry.contractParallelCompute =
+            ConfigSettingContractParallelComputeV0.decodeInto(
+                decodedConfigSettingEntry.contractParallelCompute, stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0:
+        decodedConfigSettingEntry.contractLedgerCostExt =
+            ConfigSettingContractLedgerCostExtV0.decodeInto(
+                decodedConfigSettingEntry.contractLedgerCostExt, stream);
+        break;
+      case CONFIG_SETTING_SCP_TIMING:
+        decodedConfigSettingEntry.contractSCPTiming =
+            ConfigSettingSCPTiming.decodeInto(decodedConfigSettingEntry.contractSCPTiming, stream);
+        break;
+    }
+    return decodedConfigSettingEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ConfigSettingID discriminant = ConfigSettingID.decode(stream);
+    switch (discriminant) {
+      case CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES:
+        Uint32.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_COMPUTE_V0:
+        ConfigSettingContractComputeV0.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_V0:
+        ConfigSettingContractLedgerCostV0.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0:
+        ConfigSettingContractHistoricalDataV0.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_EVENTS_V0:
+        ConfigSettingContractEventsV0.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_BANDWIDTH_V0:
+        ConfigSettingContractBandwidthV0.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS:
+        ContractCostParams.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES:
+        ContractCostParams.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES:
+        Uint32.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES:
+        Uint32.skip(stream);
+        break;
+      case CONFIG_SETTING_STATE_ARCHIVAL:
+        StateArchivalSettings.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_EXECUTION_LANES:
+        ConfigSettingContractExecutionLanesV0.skip(stream);
+        break;
+      case CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW:
+        int liveSorobanStateSizeWindowSize = stream.readLength(Integer.MAX_VALUE, 4);
+        for (int i = 0; i < liveSorobanStateSizeWindowSize; i++) {
+          Uint64.skip(stream);
+        }
+        break;
+      case CONFIG_SETTING_EVICTION_ITERATOR:
+        EvictionIterator.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0:
+        ConfigSettingContractParallelComputeV0.skip(stream);
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0:
+        ConfigSettingContractLedgerCostExtV0.skip(stream);
+        break;
+      case CONFIG_SETTING_SCP_TIMING:
+        ConfigSettingSCPTiming.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown ConfigSettingEntry discriminant: " + discriminant);
+    }
+  }
+
   public static ConfigSettingEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES:
+        writer.beginObject();
+        writer.name("contract_max_size_bytes");
+        contractMaxSizeBytes.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_COMPUTE_V0:
+        writer.beginObject();
+        writer.name("contract_compute_v0");
+        contractCompute.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_V0:
+        writer.beginObject();
+        writer.name("contract_ledger_cost_v0");
+        contractLedgerCost.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0:
+        writer.beginObject();
+        writer.name("contract_historical_data_v0");
+        contractHistoricalData.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_EVENTS_V0:
+        writer.beginObject();
+        writer.name("contract_events_v0");
+        contractEvents.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_BANDWIDTH_V0:
+        writer.beginObject();
+        writer.name("contract_bandwidth_v0");
+        contractBandwidth.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS:
+        writer.beginObject();
+        writer.name("contract_cost_params_cpu_instructions");
+        contractCostParamsCpuInsns.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES:
+        writer.beginObject();
+        writer.name("contract_cost_params_memory_bytes");
+        contractCostParamsMemBytes.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES:
+        writer.beginObject();
+        writer.name("contract_data_key_size_bytes");
+        contractDataKeySizeBytes.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES:
+        writer.beginObject();
+        writer.name("contract_data_entry_size_bytes");
+        contractDataEntrySizeBytes.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_STATE_ARCHIVAL:
+        writer.beginObject();
+        writer.name("state_archival");
+        stateArchivalSettings.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_EXECUTION_LANES:
+        writer.beginObject();
+        writer.name("contract_execution_lanes");
+        contractExecutionLanes.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW:
+        writer.beginObject();
+        writer.name("live_soroban_state_size_window");
+        XdrJson.writeArray(writer, liveSorobanStateSizeWindow);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_EVICTION_ITERATOR:
+        writer.beginObject();
+        writer.name("eviction_iterator");
+        evictionIterator.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0:
+        writer.beginObject();
+        writer.name("contract_parallel_compute_v0");
+        contractParallelCompute.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0:
+        writer.beginObject();
+        writer.name("contract_ledger_cost_ext_v0");
+        contractLedgerCostExt.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING_SCP_TIMING:
+        writer.beginObject();
+        writer.name("scp_timing");
+        contractSCPTiming.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static ConfigSettingEntry fromJson(JsonReader reader) throws IOException {
+    ConfigSettingEntry decodedConfigSettingEntry = new ConfigSettingEntry();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "contract_max_size_bytes":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES);
+        decodedConfigSettingEntry.contractMaxSizeBytes = Uint32.fromJson(reader);
+        break;
+      case "contract_compute_v0":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_COMPUTE_V0);
+        decodedConfigSettingEntry.contractCompute = ConfigSettingContractComputeV0.fromJson(reader);
+        break;
+      case "contract_ledger_cost_v0":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_LEDGER_COST_V0);
+        decodedConfigSettingEntry.contractLedgerCost =
+            ConfigSettingContractLedgerCostV0.fromJson(reader);
+        break;
+      case "contract_historical_data_v0":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0);
+        decodedConfigSettingEntry.contractHistoricalData =
+            ConfigSettingContractHistoricalDataV0.fromJson(reader);
+        break;
+      case "contract_events_v0":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_EVENTS_V0);
+        decodedConfigSettingEntry.contractEvents = ConfigSettingContractEventsV0.fromJson(reader);
+        break;
+      case "contract_bandwidth_v0":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_BANDWIDTH_V0);
+        decodedConfigSettingEntry.contractBandwidth =
+            ConfigSettingContractBandwidthV0.fromJson(reader);
+        break;
+      case "contract_cost_params_cpu_instructions":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS);
+        decodedConfigSettingEntry.contractCostParamsCpuInsns = ContractCostParams.fromJson(reader);
+        break;
+      case "contract_cost_params_memory_bytes":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES);
+        decodedConfigSettingEntry.contractCostParamsMemBytes = ContractCostParams.fromJson(reader);
+        break;
+      case "contract_data_key_size_bytes":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES);
+        decodedConfigSettingEntry.contractDataKeySizeBytes = Uint32.fromJson(reader);
+        break;
+      case "contract_data_entry_size_bytes":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES);
+        decodedConfigSettingEntry.contractDataEntrySizeBytes = Uint32.fromJson(reader);
+        break;
+      case "state_archival":
+        decodedConfigSettingEntry.setDiscriminant(ConfigSettingID.CONFIG_SETTING_STATE_ARCHIVAL);
+        decodedConfigSettingEntry.stateArchivalSettings = StateArchivalSettings.fromJson(reader);
+        break;
+      case "contract_execution_lanes":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_EXECUTION_LANES);
+        decodedConfigSettingEntry.contractExecutionLanes =
+            ConfigSettingContractExecutionLanesV0.fromJson(reader);
+        break;
+      case "live_soroban_state_size_window":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW);
+        decodedConfigSettingEntry.liveSorobanStateSizeWindow =
+            XdrJson.readArray(reader, Uint64[]::new, Uint64::fromJson);
+        break;
+      case "eviction_iterator":
+        decodedConfigSettingEntry.setDiscriminant(ConfigSettingID.CONFIG_SETTING_EVICTION_ITERATOR);
+        decodedConfigSettingEntry.evictionIterator = EvictionIterator.fromJson(reader);
+        break;
+      case "contract_parallel_compute_v0":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0);
+        decodedConfigSettingEntry.contractParallelCompute =
+            ConfigSettingContractParallelComputeV0.fromJson(reader);
+        break;
+      case "contract_ledger_cost_ext_v0":
+        decodedConfigSettingEntry.setDiscriminant(
+            ConfigSettingID.CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0);
+        decodedConfigSettingEntry.contractLedgerCostExt =
+            ConfigSettingContractLedgerCostExtV0.fromJson(reader);
+        break;
+      case "scp_timing":
+        decodedConfigSettingEntry.setDiscriminant(ConfigSettingID.CONFIG_SETTING_SCP_TIMING);
+        decodedConfigSettingEntry.contractSCPTiming = ConfigSettingSCPTiming.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown ConfigSettingEntry arm: " + key);
+    }
+    reader.endObject();
+    return decodedConfigSettingEntry;
+  }
+
+  public static ConfigSettingEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
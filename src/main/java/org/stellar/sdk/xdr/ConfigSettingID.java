@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingID's original definition in the XDR file is:
@@ -104,18 +104,128 @@ public enum ConfigSettingID implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ConfigSettingID fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingID fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES:
+        writer.value("contract_max_size_bytes");
+        break;
+      case CONFIG_SETTING_CONTRACT_COMPUTE_V0:
+        writer.value("contract_compute_v0");
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_V0:
+        writer.value("contract_ledger_cost_v0");
+        break;
+      case CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0:
+        writer.value("contract_historical_data_v0");
+        break;
+      case CONFIG_SETTING_CONTRACT_EVENTS_V0:
+        writer.value("contract_events_v0");
+        break;
+      case CONFIG_SETTING_CONTRACT_BANDWIDTH_V0:
+        writer.value("contract_bandwidth_v0");
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS:
+        writer.value("contract_cost_params_cpu_instructions");
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES:
+        writer.value("contract_cost_params_memory_bytes");
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES:
+        writer.value("contract_data_key_size_bytes");
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES:
+        writer.value("contract_data_entry_size_bytes");
+        break;
+      case CONFIG_SETTING_STATE_ARCHIVAL:
+        writer.value("state_archival");
+        break;
+      case CONFIG_SETTING_CONTRACT_EXECUTION_LANES:
+        writer.value("contract_execution_lanes");
+        break;
+      case CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW:
+        writer.value("live_soroban_state_size_window");
+        break;
+      case CONFIG_SETTING_EVICTION_ITERATOR:
+        writer.value("eviction_iterator");
+        break;
+      case CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0:
+        writer.value("contract_parallel_compute_v0");
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0:
+        writer.value("contract_ledger_cost_ext_v0");
+        break;
+      case CONFIG_SETTING_SCP_TIMING:
+        writer.value("scp_timing");
+        break;
+    }
+  }
+
+  public static ConfigSettingID fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "contract_max_size_bytes":
+        return CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES;
+      case "contract_compute_v0":
+        return CONFIG_SETTING_CONTRACT_COMPUTE_V0;
+      case "contract_ledger_cost_v0":
+        return CONFIG_SETTING_CONTRACT_LEDGER_COST_V0;
+      case "contract_historical_data_v0":
+        return CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0;
+      case "contract_events_v0":
+        return CONFIG_SETTING_CONTRACT_EVENTS_V0;
+      case "contract_bandwidth_v0":
+        return CONFIG_SETTING_CONTRACT_BANDWIDTH_V0;
+      case "contract_cost_params_cpu_instructions":
+        return CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS;
+      case "contract_cost_params_memory_bytes":
+        return CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES;
+      case "contract_data_key_size_bytes":
+        return CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES;
+      case "contract_data_entry_size_bytes":
+        return CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES;
+      case "state_archival":
+        return CONFIG_SETTING_STATE_ARCHIVAL;
+      case "contract_execution_lanes":
+        return CONFIG_SETTING_CONTRACT_EXECUTION_LANES;
+      case "live_soroban_state_size_window":
+        return CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW;
+      case "eviction_iterator":
+        return CONFIG_SETTING_EVICTION_ITERATOR;
+      case "contract_parallel_compute_v0":
+        return CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0;
+      case "contract_ledger_cost_ext_v0":
+        return CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0;
+      case "scp_timing":
+        return CONFIG_SETTING_SCP_TIMING;
+      default:
+        throw new IOException("Unknown ConfigSettingID value: " + value);
+    }
+  }
+
+  public static ConfigSettingID fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigSettingSCPTiming's original definition in the XDR file is:
@@ -43,6 +43,16 @@ public class ConfigSettingSCPTiming implements XdrElement {
     ballotTimeoutIncrementMilliseconds.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerTargetCloseTimeMilliseconds.encodedSize();
+    size += nominationTimeoutInitialMilliseconds.encodedSize();
+    size += nominationTimeoutIncrementMilliseconds.encodedSize();
+    size += ballotTimeoutInitialMilliseconds.encodedSize();
+    size += ballotTimeoutIncrementMilliseconds.encodedSize();
+    return size;
+  }
+
   public static ConfigSettingSCPTiming decode(XdrDataInputStream stream) throws IOException {
     ConfigSettingSCPTiming decodedConfigSettingSCPTiming = new ConfigSettingSCPTiming();
     decodedConfigSettingSCPTiming.ledgerTargetCloseTimeMilliseconds = Uint32.decode(stream);
@@ -53,14 +63,92 @@ public class ConfigSettingSCPTiming implements XdrElement {
     return decodedConfigSettingSCPTiming;
   }
 
+  public static ConfigSettingSCPTiming decodeInto(
+      ConfigSettingSCPTiming existing, XdrDataInputStream stream) throws IOException {
+    ConfigSettingSCPTiming decodedConfigSettingSCPTiming =
+        existing != null ? existing : new ConfigSettingSCPTiming();
+    decodedConfigSettingSCPTiming.ledgerTargetCloseTimeMilliseconds =
+        Uint32.decodeInto(decodedConfigSettingSCPTiming.ledgerTargetCloseTimeMilliseconds, stream);
+    decodedConfigSettingSCPTiming.nominationTimeoutInitialMilliseconds =
+        Uint32.decodeInto(
+            decodedConfigSettingSCPTiming.nominationTimeoutInitialMilliseconds, stream);
+    decodedConfigSettingSCPTiming.nominationTimeoutIncrementMilliseconds =
+        Uint32.decodeInto(
+            decodedConfigSettingSCPTiming.nominationTimeoutIncrementMilliseconds, stream);
+    decodedConfigSettingSCPTiming.ballotTimeoutInitialMilliseconds =
+        Uint32.decodeInto(decodedConfigSettingSCPTiming.ballotTimeoutInitialMilliseconds, stream);
+    decodedConfigSettingSCPTiming.ballotTimeoutIncrementMilliseconds =
+        Uint32.decodeInto(decodedConfigSettingSCPTiming.ballotTimeoutIncrementMilliseconds, stream);
+    return decodedConfigSettingSCPTiming;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static ConfigSettingSCPTiming fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigSettingSCPTiming fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_target_close_time_milliseconds");
+    ledgerTargetCloseTimeMilliseconds.toJson(writer);
+    writer.name("nomination_timeout_initial_milliseconds");
+    nominationTimeoutInitialMilliseconds.toJson(writer);
+    writer.name("nomination_timeout_increment_milliseconds");
+    nominationTimeoutIncrementMilliseconds.toJson(writer);
+    writer.name("ballot_timeout_initial_milliseconds");
+    ballotTimeoutInitialMilliseconds.toJson(writer);
+    writer.name("ballot_timeout_increment_milliseconds");
+    ballotTimeoutIncrementMilliseconds.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ConfigSettingSCPTiming fromJson(JsonReader reader) throws IOException {
+    ConfigSettingSCPTiming decodedConfigSettingSCPTiming = new ConfigSettingSCPTiming();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_target_close_time_milliseconds":
+          decodedConfigSettingSCPTiming.ledgerTargetCloseTimeMilliseconds = Uint32.fromJson(reader);
+          break;
+        case "nomination_timeout_initial_milliseconds":
+          decodedConfigSettingSCPTiming.nominationTimeoutInitialMilliseconds =
+              Uint32.fromJson(reader);
+          break;
+        case "nomination_timeout_increment_milliseconds":
+          decodedConfigSettingSCPTiming.nominationTimeoutIncrementMilliseconds =
+              Uint32.fromJson(reader);
+          break;
+        case "ballot_timeout_initial_milliseconds":
+          decodedConfigSettingSCPTiming.ballotTimeoutInitialMilliseconds = Uint32.fromJson(reader);
+          break;
+        case "ballot_timeout_increment_milliseconds":
+          decodedConfigSettingSCPTiming.ballotTimeoutIncrementMilliseconds =
+              Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ConfigSettingSCPTiming field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigSettingSCPTiming;
+  }
+
+  public static ConfigSettingSCPTiming fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
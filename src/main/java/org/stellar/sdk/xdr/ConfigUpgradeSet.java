@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigUpgradeSet's original definition in the XDR file is:
@@ -35,9 +35,19 @@ public class ConfigUpgradeSet implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int updatedEntrySize = getUpdatedEntry().length;
+    size += 4;
+    for (int i = 0; i < updatedEntrySize; i++) {
+      size += updatedEntry[i].encodedSize();
+    }
+    return size;
+  }
+
   public static ConfigUpgradeSet decode(XdrDataInputStream stream) throws IOException {
     ConfigUpgradeSet decodedConfigUpgradeSet = new ConfigUpgradeSet();
-    int updatedEntrySize = stream.readInt();
+    int updatedEntrySize = stream.readLength(4);
     decodedConfigUpgradeSet.updatedEntry = new ConfigSettingEntry[updatedEntrySize];
     for (int i = 0; i < updatedEntrySize; i++) {
       decodedConfigUpgradeSet.updatedEntry[i] = ConfigSettingEntry.decode(stream);
@@ -45,14 +55,64 @@ public class ConfigUpgradeSet implements XdrElement {
     return decodedConfigUpgradeSet;
   }
 
+  public static ConfigUpgradeSet decodeInto(ConfigUpgradeSet existing, XdrDataInputStream stream)
+      throws IOException {
+    ConfigUpgradeSet decodedConfigUpgradeSet = existing != null ? existing : new ConfigUpgradeSet();
+    int updatedEntrySize = stream.readLength(4);
+    decodedConfigUpgradeSet.updatedEntry =
+        XdrRecycler.resize(
+            decodedConfigUpgradeSet.updatedEntry, updatedEntrySize, ConfigSettingEntry[]::new);
+    for (int i = 0; i < updatedEntrySize; i++) {
+      decodedConfigUpgradeSet.updatedEntry[i] =
+          ConfigSettingEntry.decodeInto(decodedConfigUpgradeSet.updatedEntry[i], stream);
+    }
+    return decodedConfigUpgradeSet;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int updatedEntrySize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < updatedEntrySize; i++) {
+      ConfigSettingEntry.skip(stream);
+    }
+  }
+
   public static ConfigUpgradeSet fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigUpgradeSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("updated_entry");
+    XdrJson.writeArray(writer, updatedEntry);
+    writer.endObject();
+  }
+
+  public static ConfigUpgradeSet fromJson(JsonReader reader) throws IOException {
+    ConfigUpgradeSet decodedConfigUpgradeSet = new ConfigUpgradeSet();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "updated_entry":
+          decodedConfigUpgradeSet.updatedEntry =
+              XdrJson.readArray(reader, ConfigSettingEntry[]::new, ConfigSettingEntry::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown ConfigUpgradeSet field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigUpgradeSet;
+  }
+
+  public static ConfigUpgradeSet fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
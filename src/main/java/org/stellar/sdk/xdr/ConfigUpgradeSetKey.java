@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ConfigUpgradeSetKey's original definition in the XDR file is:
@@ -34,6 +34,13 @@ public class ConfigUpgradeSetKey implements XdrElement {
     contentHash.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += contractID.encodedSize();
+    size += contentHash.encodedSize();
+    return size;
+  }
+
   public static ConfigUpgradeSetKey decode(XdrDataInputStream stream) throws IOException {
     ConfigUpgradeSetKey decodedConfigUpgradeSetKey = new ConfigUpgradeSetKey();
     decodedConfigUpgradeSetKey.contractID = ContractID.decode(stream);
@@ -41,14 +48,63 @@ public class ConfigUpgradeSetKey implements XdrElement {
     return decodedConfigUpgradeSetKey;
   }
 
+  public static ConfigUpgradeSetKey decodeInto(
+      ConfigUpgradeSetKey existing, XdrDataInputStream stream) throws IOException {
+    ConfigUpgradeSetKey decodedConfigUpgradeSetKey =
+        existing != null ? existing : new ConfigUpgradeSetKey();
+    decodedConfigUpgradeSetKey.contractID =
+        ContractID.decodeInto(decodedConfigUpgradeSetKey.contractID, stream);
+    decodedConfigUpgradeSetKey.contentHash =
+        Hash.decodeInto(decodedConfigUpgradeSetKey.contentHash, stream);
+    return decodedConfigUpgradeSetKey;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ContractID.skip(stream);
+    Hash.skip(stream);
+  }
+
   public static ConfigUpgradeSetKey fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ConfigUpgradeSetKey fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("contract_id");
+    contractID.toJson(writer);
+    writer.name("content_hash");
+    contentHash.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ConfigUpgradeSetKey fromJson(JsonReader reader) throws IOException {
+    ConfigUpgradeSetKey decodedConfigUpgradeSetKey = new ConfigUpgradeSetKey();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "contract_id":
+          decodedConfigUpgradeSetKey.contractID = ContractID.fromJson(reader);
+          break;
+        case "content_hash":
+          decodedConfigUpgradeSetKey.contentHash = Hash.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ConfigUpgradeSetKey field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedConfigUpgradeSetKey;
+  }
+
+  public static ConfigUpgradeSetKey fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
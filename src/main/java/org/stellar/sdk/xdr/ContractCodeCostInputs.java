@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractCodeCostInputs's original definition in the XDR file is:
@@ -61,6 +61,22 @@ public class ContractCodeCostInputs implements XdrElement {
     nDataSegmentBytes.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += nInstructions.encodedSize();
+    size += nFunctions.encodedSize();
+    size += nGlobals.encodedSize();
+    size += nTableEntries.encodedSize();
+    size += nTypes.encodedSize();
+    size += nDataSegments.encodedSize();
+    size += nElemSegments.encodedSize();
+    size += nImports.encodedSize();
+    size += nExports.encodedSize();
+    size += nDataSegmentBytes.encodedSize();
+    return size;
+  }
+
   public static ContractCodeCostInputs decode(XdrDataInputStream stream) throws IOException {
     ContractCodeCostInputs decodedContractCodeCostInputs = new ContractCodeCostInputs();
     decodedContractCodeCostInputs.ext = ExtensionPoint.decode(stream);
@@ -77,14 +93,135 @@ public class ContractCodeCostInputs implements XdrElement {
     return decodedContractCodeCostInputs;
   }
 
+  public static ContractCodeCostInputs decodeInto(
+      ContractCodeCostInputs existing, XdrDataInputStream stream) throws IOException {
+    ContractCodeCostInputs decodedContractCodeCostInputs =
+        existing != null ? existing : new ContractCodeCostInputs();
+    decodedContractCodeCostInputs.ext =
+        ExtensionPoint.decodeInto(decodedContractCodeCostInputs.ext, stream);
+    decodedContractCodeCostInputs.nInstructions =
+        Uint32.decodeInto(decodedContractCodeCostInputs.nInstructions, stream);
+    decodedContractCodeCostInputs.nFunctions =
+        Uint32.decodeInto(decodedContractCodeCostInputs.nFunctions, stream);
+    decodedContractCodeCostInputs.nGlobals =
+        Uint32.decodeInto(decodedContractCodeCostInputs.nGlobals, stream);
+    decodedContractCodeCostInputs.nTableEntries =
+        Uint32.decodeInto(decodedContractCodeCostInputs.nTableEntries, stream);
+    decodedContractCodeCostInputs.nTypes =
+        Uint32.decodeInto(decodedContractCodeCostInputs.nTypes, stream);
+    decodedContractCodeCostInputs.nDataSegments =
+        Uint32.decodeInto(decodedContractCodeCostInputs.nDataSegments, stream);
+    decodedContractCodeCostInputs.nElemSegments =
+        Uint32.decodeInto(decodedContractCodeCostInputs.nElemSegments, stream);
+    decodedContractCodeCostInputs.nImports =
+        Uint32.decodeInto(decodedContractCodeCostInputs.nImports, stream);
+    decodedContractCodeCostInputs.nExports =
+        Uint32.decodeInto(decodedContractCodeCostInputs.nExports, stream);
+    decodedContractCodeCostInputs.nDataSegmentBytes =
+        Uint32.decodeInto(decodedContractCodeCostInputs.nDataSegmentBytes, stream);
+    return decodedContractCodeCostInputs;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static ContractCodeCostInputs fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractCodeCostInputs fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("n_instructions");
+    nInstructions.toJson(writer);
+    writer.name("n_functions");
+    nFunctions.toJson(writer);
+    writer.name("n_globals");
+    nGlobals.toJson(writer);
+    writer.name("n_table_entries");
+    nTableEntries.toJson(writer);
+    writer.name("n_types");
+    nTypes.toJson(writer);
+    writer.name("n_data_segments");
+    nDataSegments.toJson(writer);
+    writer.name("n_elem_segments");
+    nElemSegments.toJson(writer);
+    writer.name("n_imports");
+    nImports.toJson(writer);
+    writer.name("n_exports");
+    nExports.toJson(writer);
+    writer.name("n_data_segment_bytes");
+    nDataSegmentBytes.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ContractCodeCostInputs fromJson(JsonReader reader) throws IOException {
+    ContractCodeCostInputs decodedContractCodeCostInputs = new ContractCodeCostInputs();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedContractCodeCostInputs.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "n_instructions":
+          decodedContractCodeCostInputs.nInstructions = Uint32.fromJson(reader);
+          break;
+        case "n_functions":
+          decodedContractCodeCostInputs.nFunctions = Uint32.fromJson(reader);
+          break;
+        case "n_globals":
+          decodedContractCodeCostInputs.nGlobals = Uint32.fromJson(reader);
+          break;
+        case "n_table_entries":
+          decodedContractCodeCostInputs.nTableEntries = Uint32.fromJson(reader);
+          break;
+        case "n_types":
+          decodedContractCodeCostInputs.nTypes = Uint32.fromJson(reader);
+          break;
+        case "n_data_segments":
+          decodedContractCodeCostInputs.nDataSegments = Uint32.fromJson(reader);
+          break;
+        case "n_elem_segments":
+          decodedContractCodeCostInputs.nElemSegments = Uint32.fromJson(reader);
+          break;
+        case "n_imports":
+          decodedContractCodeCostInputs.nImports = Uint32.fromJson(reader);
+          break;
+        case "n_exports":
+          decodedContractCodeCostInputs.nExports = Uint32.fromJson(reader);
+          break;
+        case "n_data_segment_bytes":
+          decodedContractCodeCostInputs.nDataSegmentBytes = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ContractCodeCostInputs field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedContractCodeCostInputs;
+  }
+
+  public static ContractCodeCostInputs fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractCodeEntry's original definition in the XDR file is:
@@ -50,27 +51,95 @@ public class ContractCodeEntry implements XdrElement {
     stream.write(getCode(), 0, codeSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += hash.encodedSize();
+    int codeSize = code.length;
+    size += 4;
+    size += XdrDataOutputStream.paddedSize(codeSize);
+    return size;
+  }
+
   public static ContractCodeEntry decode(XdrDataInputStream stream) throws IOException {
     ContractCodeEntry decodedContractCodeEntry = new ContractCodeEntry();
     decodedContractCodeEntry.ext = ContractCodeEntryExt.decode(stream);
     decodedContractCodeEntry.hash = Hash.decode(stream);
-    int codeSize = stream.readInt();
+    int codeSize = stream.readLength(1);
     decodedContractCodeEntry.code = new byte[codeSize];
     stream.read(decodedContractCodeEntry.code, 0, codeSize);
     return decodedContractCodeEntry;
   }
 
+  public static ContractCodeEntry decodeInto(ContractCodeEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    ContractCodeEntry decodedContractCodeEntry =
+        existing != null ? existing : new ContractCodeEntry();
+    decodedContractCodeEntry.ext =
+        ContractCodeEntryExt.decodeInto(decodedContractCodeEntry.ext, stream);
+    decodedContractCodeEntry.hash = Hash.decodeInto(decodedContractCodeEntry.hash, stream);
+    int codeSize = stream.readLength(1);
+    decodedContractCodeEntry.code = XdrRecycler.resize(decodedContractCodeEntry.code, codeSize);
+    stream.read(decodedContractCodeEntry.code, 0, codeSize);
+    return decodedContractCodeEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ContractCodeEntryExt.skip(stream);
+    Hash.skip(stream);
+    int codeSize = stream.readLength(Integer.MAX_VALUE, 1);
+    stream.skipOpaque(codeSize);
+  }
+
   public static ContractCodeEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractCodeEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("hash");
+    hash.toJson(writer);
+    writer.name("code");
+    XdrJson.writeHex(writer, code);
+    writer.endObject();
+  }
+
+  public static ContractCodeEntry fromJson(JsonReader reader) throws IOException {
+    ContractCodeEntry decodedContractCodeEntry = new ContractCodeEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedContractCodeEntry.ext = ContractCodeEntryExt.fromJson(reader);
+          break;
+        case "hash":
+          decodedContractCodeEntry.hash = Hash.fromJson(reader);
+          break;
+        case "code":
+          decodedContractCodeEntry.code = XdrJson.readHex(reader);
+          break;
+        default:
+          throw new IOException("Unknown ContractCodeEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedContractCodeEntry;
+  }
+
+  public static ContractCodeEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * ContractCodeEntryExt's original definition in the XDR file is:
    *
@@ -107,6 +176,19 @@ public class ContractCodeEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static ContractCodeEntryExt decode(XdrDataInputStream stream) throws IOException {
       ContractCodeEntryExt decodedContractCodeEntryExt = new ContractCodeEntryExt();
       Integer discriminant = stream.readInt();
@@ -121,17 +203,94 @@ public class ContractCodeEntry implements XdrElement {
       return decodedContractCodeEntryExt;
     }
 
+    public static ContractCodeEntryExt decodeInto(
+        ContractCodeEntryExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      ContractCodeEntryExt decodedContractCodeEntryExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new ContractCodeEntryExt();
+      decodedContractCodeEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          decodedContractCodeEntryExt.v1 =
+              ContractCodeEntryV1.decodeInto(decodedContractCodeEntryExt.v1, stream);
+          break;
+      }
+      return decodedContractCodeEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          ContractCodeEntryV1.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown ContractCodeEntryExt discriminant: " + discriminant);
+      }
+    }
+
     public static ContractCodeEntryExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static ContractCodeEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
 
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 1:
+          writer.beginObject();
+          writer.name("v1");
+          v1.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static ContractCodeEntryExt fromJson(JsonReader reader) throws IOException {
+      ContractCodeEntryExt decodedContractCodeEntryExt = new ContractCodeEntryExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedContractCodeEntryExt.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown ContractCodeEntryExt arm: " + key);
+        }
+        return decodedContractCodeEntryExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v1":
+          decodedContractCodeEntryExt.setDiscriminant(1);
+          decodedContractCodeEntryExt.v1 = ContractCodeEntryV1.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ContractCodeEntryExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedContractCodeEntryExt;
+    }
+
+    public static ContractCodeEntryExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
+
     /**
      * ContractCodeEntryV1's original definition in the XDR file is:
      *
@@ -156,6 +315,13 @@ public class ContractCodeEntry implements XdrElement {
         costInputs.encode(stream);
       }
 
+      public int encodedSize() {
+        int size = 0;
+        size += ext.encodedSize();
+        size += costInputs.encodedSize();
+        return size;
+      }
+
       public static ContractCodeEntryV1 decode(XdrDataInputStream stream) throws IOException {
         ContractCodeEntryV1 decodedContractCodeEntryV1 = new ContractCodeEntryV1();
         decodedContractCodeEntryV1.ext = ExtensionPoint.decode(stream);
@@ -163,16 +329,65 @@ public class ContractCodeEntry implements XdrElement {
         return decodedContractCodeEntryV1;
       }
 
+      public static ContractCodeEntryV1 decodeInto(
+          ContractCodeEntryV1 existing, XdrDataInputStream stream) throws IOException {
+        ContractCodeEntryV1 decodedContractCodeEntryV1 =
+            existing != null ? existing : new ContractCodeEntryV1();
+        decodedContractCodeEntryV1.ext =
+            ExtensionPoint.decodeInto(decodedContractCodeEntryV1.ext, stream);
+        decodedContractCodeEntryV1.costInputs =
+            ContractCodeCostInputs.decodeInto(decodedContractCodeEntryV1.costInputs, stream);
+        return decodedContractCodeEntryV1;
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        ExtensionPoint.skip(stream);
+        ContractCodeCostInputs.skip(stream);
+      }
+
       public static ContractCodeEntryV1 fromXdrBase64(String xdr) throws IOException {
-        byte[] bytes = Base64Factory.getInstance().decode(xdr);
-        return fromXdrByteArray(bytes);
+        XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+        return decode(xdrDataInputStream);
       }
 
       public static ContractCodeEntryV1 fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
         return decode(xdrDataInputStream);
       }
+
+      @Override
+      public void toJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("ext");
+        ext.toJson(writer);
+        writer.name("cost_inputs");
+        costInputs.toJson(writer);
+        writer.endObject();
+      }
+
+      public static ContractCodeEntryV1 fromJson(JsonReader reader) throws IOException {
+        ContractCodeEntryV1 decodedContractCodeEntryV1 = new ContractCodeEntryV1();
+        reader.beginObject();
+        while (reader.hasNext()) {
+          String key = reader.nextName();
+          switch (key) {
+            case "ext":
+              decodedContractCodeEntryV1.ext = ExtensionPoint.fromJson(reader);
+              break;
+            case "cost_inputs":
+              decodedContractCodeEntryV1.costInputs = ContractCodeCostInputs.fromJson(reader);
+              break;
+            default:
+              throw new IOException("Unknown ContractCodeEntryV1 field: " + key);
+          }
+        }
+        reader.endObject();
+        return decodedContractCodeEntryV1;
+      }
+
+      public static ContractCodeEntryV1 fromJson(String json) throws IOException {
+        return XdrJson.fromJson(json, reader -> fromJson(reader));
+      }
     }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractCostParamEntry's original definition in the XDR file is:
@@ -39,6 +39,14 @@ public class ContractCostParamEntry implements XdrElement {
     linearTerm.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += constTerm.encodedSize();
+    size += linearTerm.encodedSize();
+    return size;
+  }
+
   public static ContractCostParamEntry decode(XdrDataInputStream stream) throws IOException {
     ContractCostParamEntry decodedContractCostParamEntry = new ContractCostParamEntry();
     decodedContractCostParamEntry.ext = ExtensionPoint.decode(stream);
@@ -47,14 +55,71 @@ public class ContractCostParamEntry implements XdrElement {
     return decodedContractCostParamEntry;
   }
 
+  public static ContractCostParamEntry decodeInto(
+      ContractCostParamEntry existing, XdrDataInputStream stream) throws IOException {
+    ContractCostParamEntry decodedContractCostParamEntry =
+        existing != null ? existing : new ContractCostParamEntry();
+    decodedContractCostParamEntry.ext =
+        ExtensionPoint.decodeInto(decodedContractCostParamEntry.ext, stream);
+    decodedContractCostParamEntry.constTerm =
+        Int64.decodeInto(decodedContractCostParamEntry.constTerm, stream);
+    decodedContractCostParamEntry.linearTerm =
+        Int64.decodeInto(decodedContractCostParamEntry.linearTerm, stream);
+    return decodedContractCostParamEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ContractCostParamEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractCostParamEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("const_term");
+    constTerm.toJson(writer);
+    writer.name("linear_term");
+    linearTerm.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ContractCostParamEntry fromJson(JsonReader reader) throws IOException {
+    ContractCostParamEntry decodedContractCostParamEntry = new ContractCostParamEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedContractCostParamEntry.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "const_term":
+          decodedContractCostParamEntry.constTerm = Int64.fromJson(reader);
+          break;
+        case "linear_term":
+          decodedContractCostParamEntry.linearTerm = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ContractCostParamEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedContractCostParamEntry;
+  }
+
+  public static ContractCostParamEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
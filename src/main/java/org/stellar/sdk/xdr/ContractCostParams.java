@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractCostParams's original definition in the XDR file is:
@@ -31,9 +31,19 @@ public class ContractCostParams implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int ContractCostParamsSize = getContractCostParams().length;
+    size += 4;
+    for (int i = 0; i < ContractCostParamsSize; i++) {
+      size += ContractCostParams[i].encodedSize();
+    }
+    return size;
+  }
+
   public static ContractCostParams decode(XdrDataInputStream stream) throws IOException {
     ContractCostParams decodedContractCostParams = new ContractCostParams();
-    int ContractCostParamsSize = stream.readInt();
+    int ContractCostParamsSize = stream.readLength(4);
     decodedContractCostParams.ContractCostParams =
         new ContractCostParamEntry[ContractCostParamsSize];
     for (int i = 0; i < ContractCostParamsSize; i++) {
@@ -42,14 +52,54 @@ public class ContractCostParams implements XdrElement {
     return decodedContractCostParams;
   }
 
+  public static ContractCostParams decodeInto(
+      ContractCostParams existing, XdrDataInputStream stream) throws IOException {
+    ContractCostParams decodedContractCostParams =
+        existing != null ? existing : new ContractCostParams();
+    int ContractCostParamsSize = stream.readLength(4);
+    decodedContractCostParams.ContractCostParams =
+        XdrRecycler.resize(
+            decodedContractCostParams.ContractCostParams,
+            ContractCostParamsSize,
+            ContractCostParamEntry[]::new);
+    for (int i = 0; i < ContractCostParamsSize; i++) {
+      decodedContractCostParams.ContractCostParams[i] =
+          ContractCostParamEntry.decodeInto(
+              decodedContractCostParams.ContractCostParams[i], stream);
+    }
+    return decodedContractCostParams;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int ContractCostParamsSize = stream.readLength(1024, 4);
+    for (int i = 0; i < ContractCostParamsSize; i++) {
+      ContractCostParamEntry.skip(stream);
+    }
+  }
+
   public static ContractCostParams fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractCostParams fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeArray(writer, ContractCostParams);
+  }
+
+  public static ContractCostParams fromJson(JsonReader reader) throws IOException {
+    ContractCostParams decodedContractCostParams = new ContractCostParams();
+    decodedContractCostParams.ContractCostParams =
+        XdrJson.readArray(reader, ContractCostParamEntry[]::new, ContractCostParamEntry::fromJson);
+    return decodedContractCostParams;
+  }
+
+  public static ContractCostParams fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
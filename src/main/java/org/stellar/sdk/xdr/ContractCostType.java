@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractCostType's original definition in the XDR file is:
@@ -395,18 +395,393 @@ public enum ContractCostType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ContractCostType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractCostType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case WasmInsnExec:
+        writer.value("wasm_insn_exec");
+        break;
+      case MemAlloc:
+        writer.value("mem_alloc");
+        break;
+      case MemCpy:
+        writer.value("mem_cpy");
+        break;
+      case MemCmp:
+        writer.value("mem_cmp");
+        break;
+      case DispatchHostFunction:
+        writer.value("dispatch_host_function");
+        break;
+      case VisitObject:
+        writer.value("visit_object");
+        break;
+      case ValSer:
+        writer.value("val_ser");
+        break;
+      case ValDeser:
+        writer.value("val_deser");
+        break;
+      case ComputeSha256Hash:
+        writer.value("compute_sha256_hash");
+        break;
+      case ComputeEd25519PubKey:
+        writer.value("compute_ed25519_pub_key");
+        break;
+      case VerifyEd25519Sig:
+        writer.value("verify_ed25519_sig");
+        break;
+      case VmInstantiation:
+        writer.value("vm_instantiation");
+        break;
+      case VmCachedInstantiation:
+        writer.value("vm_cached_instantiation");
+        break;
+      case InvokeVmFunction:
+        writer.value("invoke_vm_function");
+        break;
+      case ComputeKeccak256Hash:
+        writer.value("compute_keccak256_hash");
+        break;
+      case DecodeEcdsaCurve256Sig:
+        writer.value("decode_ecdsa_curve256_sig");
+        break;
+      case RecoverEcdsaSecp256k1Key:
+        writer.value("recover_ecdsa_secp256_k1_key");
+        break;
+      case Int256AddSub:
+        writer.value("int256_add_sub");
+        break;
+      case Int256Mul:
+        writer.value("int256_mul");
+        break;
+      case Int256Div:
+        writer.value("int256_div");
+        break;
+      case Int256Pow:
+        writer.value("int256_pow");
+        break;
+      case Int256Shift:
+        writer.value("int256_shift");
+        break;
+      case ChaCha20DrawBytes:
+        writer.value("cha_cha20_draw_bytes");
+        break;
+      case ParseWasmInstructions:
+        writer.value("parse_wasm_instructions");
+        break;
+      case ParseWasmFunctions:
+        writer.value("parse_wasm_functions");
+        break;
+      case ParseWasmGlobals:
+        writer.value("parse_wasm_globals");
+        break;
+      case ParseWasmTableEntries:
+        writer.value("parse_wasm_table_entries");
+        break;
+      case ParseWasmTypes:
+        writer.value("parse_wasm_types");
+        break;
+      case ParseWasmDataSegments:
+        writer.value("parse_wasm_data_segments");
+        break;
+      case ParseWasmElemSegments:
+        writer.value("parse_wasm_elem_segments");
+        break;
+      case ParseWasmImports:
+        writer.value("parse_wasm_imports");
+        break;
+      case ParseWasmExports:
+        writer.value("parse_wasm_exports");
+        break;
+      case ParseWasmDataSegmentBytes:
+        writer.value("parse_wasm_data_segment_bytes");
+        break;
+      case InstantiateWasmInstructions:
+        writer.value("instantiate_wasm_instructions");
+        break;
+      case InstantiateWasmFunctions:
+        writer.value("instantiate_wasm_functions");
+        break;
+      case InstantiateWasmGlobals:
+        writer.value("instantiate_wasm_globals");
+        break;
+      case InstantiateWasmTableEntries:
+        writer.value("instantiate_wasm_table_entries");
+        break;
+      case InstantiateWasmTypes:
+        writer.value("instantiate_wasm_types");
+        break;
+      case InstantiateWasmDataSegments:
+        writer.value("instantiate_wasm_data_segments");
+        break;
+      case InstantiateWasmElemSegments:
+        writer.value("instantiate_wasm_elem_segments");
+        break;
+      case InstantiateWasmImports:
+        writer.value("instantiate_wasm_imports");
+        break;
+      case InstantiateWasmExports:
+        writer.value("instantiate_wasm_exports");
+        break;
+      case InstantiateWasmDataSegmentBytes:
+        writer.value("instantiate_wasm_data_segment_bytes");
+        break;
+      case Sec1DecodePointUncompressed:
+        writer.value("sec1_decode_point_uncompressed");
+        break;
+      case VerifyEcdsaSecp256r1Sig:
+        writer.value("verify_ecdsa_secp256_r1_sig");
+        break;
+      case Bls12381EncodeFp:
+        writer.value("bls12381_encode_fp");
+        break;
+      case Bls12381DecodeFp:
+        writer.value("bls12381_decode_fp");
+        break;
+      case Bls12381G1CheckPointOnCurve:
+        writer.value("bls12381_g1_check_point_on_curve");
+        break;
+      case Bls12381G1CheckPointInSubgroup:
+        writer.value("bls12381_g1_check_point_in_subgroup");
+        break;
+      case Bls12381G2CheckPointOnCurve:
+        writer.value("bls12381_g2_check_point_on_curve");
+        break;
+      case Bls12381G2CheckPointInSubgroup:
+        writer.value("bls12381_g2_check_point_in_subgroup");
+        break;
+      case Bls12381G1ProjectiveToAffine:
+        writer.value("bls12381_g1_projective_to_affine");
+        break;
+      case Bls12381G2ProjectiveToAffine:
+        writer.value("bls12381_g2_projective_to_affine");
+        break;
+      case Bls12381G1Add:
+        writer.value("bls12381_g1_add");
+        break;
+      case Bls12381G1Mul:
+        writer.value("bls12381_g1_mul");
+        break;
+      case Bls12381G1Msm:
+        writer.value("bls12381_g1_msm");
+        break;
+      case Bls12381MapFpToG1:
+        writer.value("bls12381_map_fp_to_g1");
+        break;
+      case Bls12381HashToG1:
+        writer.value("bls12381_hash_to_g1");
+        break;
+      case Bls12381G2Add:
+        writer.value("bls12381_g2_add");
+        break;
+      case Bls12381G2Mul:
+        writer.value("bls12381_g2_mul");
+        break;
+      case Bls12381G2Msm:
+        writer.value("bls12381_g2_msm");
+        break;
+      case Bls12381MapFp2ToG2:
+        writer.value("bls12381_map_fp2_to_g2");
+        break;
+      case Bls12381HashToG2:
+        writer.value("bls12381_hash_to_g2");
+        break;
+      case Bls12381Pairing:
+        writer.value("bls12381_pairing");
+        break;
+      case Bls12381FrFromU256:
+        writer.value("bls12381_fr_from_u256");
+        break;
+      case Bls12381FrToU256:
+        writer.value("bls12381_fr_to_u256");
+        break;
+      case Bls12381FrAddSub:
+        writer.value("bls12381_fr_add_sub");
+        break;
+      case Bls12381FrMul:
+        writer.value("bls12381_fr_mul");
+        break;
+      case Bls12381FrPow:
+        writer.value("bls12381_fr_pow");
+        break;
+      case Bls12381FrInv:
+        writer.value("bls12381_fr_inv");
+        break;
+    }
+  }
+
+  public static ContractCostType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "wasm_insn_exec":
+        return WasmInsnExec;
+      case "mem_alloc":
+        return MemAlloc;
+      case "mem_cpy":
+        return MemCpy;
+      case "mem_cmp":
+        return MemCmp;
+      case "dispatch_host_function":
+        return DispatchHostFunction;
+      case "visit_object":
+        return VisitObject;
+      case "val_ser":
+        return ValSer;
+      case "val_deser":
+        return ValDeser;
+      case "compute_sha256_hash":
+        return ComputeSha256Hash;
+      case "compute_ed25519_pub_key":
+        return ComputeEd25519PubKey;
+      case "verify_ed25519_sig":
+        return VerifyEd25519Sig;
+      case "vm_instantiation":
+        return VmInstantiation;
+      case "vm_cached_instantiation":
+        return VmCachedInstantiation;
+      case "invoke_vm_function":
+        return InvokeVmFunction;
+      case "compute_keccak256_hash":
+        return ComputeKeccak256Hash;
+      case "decode_ecdsa_curve256_sig":
+        return DecodeEcdsaCurve256Sig;
+      case "recover_ecdsa_secp256_k1_key":
+        return RecoverEcdsaSecp256k1Key;
+      case "int256_add_sub":
+        return Int256AddSub;
+      case "int256_mul":
+        return Int256Mul;
+      case "int256_div":
+        return Int256Div;
+      case "int256_pow":
+        return Int256Pow;
+      case "int256_shift":
+        return Int256Shift;
+      case "cha_cha20_draw_bytes":
+        return ChaCha20DrawBytes;
+      case "parse_wasm_instructions":
+        return ParseWasmInstructions;
+      case "parse_wasm_functions":
+        return ParseWasmFunctions;
+      case "parse_wasm_globals":
+        return ParseWasmGlobals;
+      case "parse_wasm_table_entries":
+        return ParseWasmTableEntries;
+      case "parse_wasm_types":
+        return ParseWasmTypes;
+      case "parse_wasm_data_segments":
+        return ParseWasmDataSegments;
+      case "parse_wasm_elem_segments":
+        return ParseWasmElemSegments;
+      case "parse_wasm_imports":
+        return ParseWasmImports;
+      case "parse_wasm_exports":
+        return ParseWasmExports;
+      case "parse_wasm_data_segment_bytes":
+        return ParseWasmDataSegmentBytes;
+      case "instantiate_wasm_instructions":
+        return InstantiateWasmInstructions;
+      case "instantiate_wasm_functions":
+        return InstantiateWasmFunctions;
+      case "instantiate_wasm_globals":
+        return InstantiateWasmGlobals;
+      case "instantiate_wasm_table_entries":
+        return InstantiateWasmTableEntries;
+      case "instantiate_wasm_types":
+        return InstantiateWasmTypes;
+      case "instantiate_wasm_data_segments":
+        return InstantiateWasmDataSegments;
+      case "instantiate_wasm_elem_segments":
+        return InstantiateWasmElemSegments;
+      case "instantiate_wasm_imports":
+        return InstantiateWasmImports;
+      case "instantiate_wasm_exports":
+        return InstantiateWasmExports;
+      case "instantiate_wasm_data_segment_bytes":
+        return InstantiateWasmDataSegmentBytes;
+      case "sec1_decode_point_uncompressed":
+        return Sec1DecodePointUncompressed;
+      case "verify_ecdsa_secp256_r1_sig":
+        return VerifyEcdsaSecp256r1Sig;
+      case "bls12381_encode_fp":
+        return Bls12381EncodeFp;
+      case "bls12381_decode_fp":
+        return Bls12381DecodeFp;
+      case "bls12381_g1_check_point_on_curve":
+        return Bls12381G1CheckPointOnCurve;
+      case "bls12381_g1_check_point_in_subgroup":
+        return Bls12381G1CheckPointInSubgroup;
+      case "bls12381_g2_check_point_on_curve":
+        return Bls12381G2CheckPointOnCurve;
+      case "bls12381_g2_check_point_in_subgroup":
+        return Bls12381G2CheckPointInSubgroup;
+      case "bls12381_g1_projective_to_affine":
+        return Bls12381G1ProjectiveToAffine;
+      case "bls12381_g2_projective_to_affine":
+        return Bls12381G2ProjectiveToAffine;
+      case "bls12381_g1_add":
+        return Bls12381G1Add;
+      case "bls12381_g1_mul":
+        return Bls12381G1Mul;
+      case "bls12381_g1_msm":
+        return Bls12381G1Msm;
+      case "bls12381_map_fp_to_g1":
+        return Bls12381MapFpToG1;
+      case "bls12381_hash_to_g1":
+        return Bls12381HashToG1;
+      case "bls12381_g2_add":
+        return Bls12381G2Add;
+      case "bls12381_g2_mul":
+        return Bls12381G2Mul;
+      case "bls12381_g2_msm":
+        return Bls12381G2Msm;
+      case "bls12381_map_fp2_to_g2":
+        return Bls12381MapFp2ToG2;
+      case "bls12381_hash_to_g2":
+        return Bls12381HashToG2;
+      case "bls12381_pairing":
+        return Bls12381Pairing;
+      case "bls12381_fr_from_u256":
+        return Bls12381FrFromU256;
+      case "bls12381_fr_to_u256":
+        return Bls12381FrToU256;
+      case "bls12381_fr_add_sub":
+        return Bls12381FrAddSub;
+      case "bls12381_fr_mul":
+        return Bls12381FrMul;
+      case "bls12381_fr_pow":
+        return Bls12381FrPow;
+      case "bls12381_fr_inv":
+        return Bls12381FrInv;
+      default:
+        throw new IOException("Unknown ContractCostType value: " + value);
+    }
+  }
+
+  public static ContractCostType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
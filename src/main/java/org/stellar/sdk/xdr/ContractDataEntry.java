@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractDataEntry's original definition in the XDR file is:
@@ -44,6 +44,16 @@ public class ContractDataEntry implements XdrElement {
     val.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += contract.encodedSize();
+    size += key.encodedSize();
+    size += durability.encodedSize();
+    size += val.encodedSize();
+    return size;
+  }
+
   public static ContractDataEntry decode(XdrDataInputStream stream) throws IOException {
     ContractDataEntry decodedContractDataEntry = new ContractDataEntry();
     decodedContractDataEntry.ext = ExtensionPoint.decode(stream);
@@ -54,14 +64,83 @@ public class ContractDataEntry implements XdrElement {
     return decodedContractDataEntry;
   }
 
+  public static ContractDataEntry decodeInto(ContractDataEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    ContractDataEntry decodedContractDataEntry =
+        existing != null ? existing : new ContractDataEntry();
+    decodedContractDataEntry.ext = ExtensionPoint.decodeInto(decodedContractDataEntry.ext, stream);
+    decodedContractDataEntry.contract =
+        SCAddress.decodeInto(decodedContractDataEntry.contract, stream);
+    decodedContractDataEntry.key = SCVal.decodeInto(decodedContractDataEntry.key, stream);
+    decodedContractDataEntry.durability = ContractDataDurability.decode(stream);
+    decodedContractDataEntry.val = SCVal.decodeInto(decodedContractDataEntry.val, stream);
+    return decodedContractDataEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    SCAddress.skip(stream);
+    SCVal.skip(stream);
+    ContractDataDurability.skip(stream);
+    SCVal.skip(stream);
+  }
+
   public static ContractDataEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractDataEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("contract");
+    contract.toJson(writer);
+    writer.name("key");
+    key.toJson(writer);
+    writer.name("durability");
+    durability.toJson(writer);
+    writer.name("val");
+    val.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ContractDataEntry fromJson(JsonReader reader) throws IOException {
+    ContractDataEntry decodedContractDataEntry = new ContractDataEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedContractDataEntry.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "contract":
+          decodedContractDataEntry.contract = SCAddress.fromJson(reader);
+          break;
+        case "key":
+          decodedContractDataEntry.key = SCVal.fromJson(reader);
+          break;
+        case "durability":
+          decodedContractDataEntry.durability = ContractDataDurability.fromJson(reader);
+          break;
+        case "val":
+          decodedContractDataEntry.val = SCVal.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ContractDataEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedContractDataEntry;
+  }
+
+  public static ContractDataEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractEvent's original definition in the XDR file is:
@@ -59,6 +59,20 @@ public class ContractEvent implements XdrElement {
     body.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    if (contractID != null) {
+      size += 4;
+      size += contractID.encodedSize();
+    } else {
+      size += 4;
+    }
+    size += type.encodedSize();
+    size += body.encodedSize();
+    return size;
+  }
+
   public static ContractEvent decode(XdrDataInputStream stream) throws IOException {
     ContractEvent decodedContractEvent = new ContractEvent();
     decodedContractEvent.ext = ExtensionPoint.decode(stream);
@@ -71,17 +85,85 @@ public class ContractEvent implements XdrElement {
     return decodedContractEvent;
   }
 
+  public static ContractEvent decodeInto(ContractEvent existing, XdrDataInputStream stream)
+      throws IOException {
+    ContractEvent decodedContractEvent = existing != null ? existing : new ContractEvent();
+    decodedContractEvent.ext = ExtensionPoint.decodeInto(decodedContractEvent.ext, stream);
+    int contractIDPresent = stream.readInt();
+    if (contractIDPresent != 0) {
+      decodedContractEvent.contractID =
+          ContractID.decodeInto(decodedContractEvent.contractID, stream);
+    } else {
+      decodedContractEvent.contractID = null;
+    }
+    decodedContractEvent.type = ContractEventType.decode(stream);
+    decodedContractEvent.body = ContractEventBody.decodeInto(decodedContractEvent.body, stream);
+    return decodedContractEvent;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    if (stream.readXdrBoolean()) {
+      ContractID.skip(stream);
+    }
+    ContractEventType.skip(stream);
+    ContractEventBody.skip(stream);
+  }
+
   public static ContractEvent fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractEvent fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("contract_id");
+    XdrJson.writeOptional(writer, contractID);
+    writer.name("type");
+    type.toJson(writer);
+    writer.name("body");
+    body.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ContractEvent fromJson(JsonReader reader) throws IOException {
+    ContractEvent decodedContractEvent = new ContractEvent();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedContractEvent.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "contract_id":
+          decodedContractEvent.contractID = XdrJson.readOptional(reader, ContractID::fromJson);
+          break;
+        case "type":
+          decodedContractEvent.type = ContractEventType.fromJson(reader);
+          break;
+        case "body":
+          decodedContractEvent.body = ContractEventBody.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ContractEvent field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedContractEvent;
+  }
+
+  public static ContractEvent fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * ContractEventBody's original definition in the XDR file is:
    *
@@ -114,6 +196,17 @@ public class ContractEvent implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          size += v0.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static ContractEventBody decode(XdrDataInputStream stream) throws IOException {
       ContractEventBody decodedContractEventBody = new ContractEventBody();
       Integer discriminant = stream.readInt();
@@ -126,17 +219,76 @@ public class ContractEvent implements XdrElement {
       return decodedContractEventBody;
     }
 
+    public static ContractEventBody decodeInto(
+        ContractEventBody existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      ContractEventBody decodedContractEventBody =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new ContractEventBody();
+      decodedContractEventBody.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          decodedContractEventBody.v0 =
+              ContractEventV0.decodeInto(decodedContractEventBody.v0, stream);
+          break;
+      }
+      return decodedContractEventBody;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          ContractEventV0.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown ContractEventBody discriminant: " + discriminant);
+      }
+    }
+
     public static ContractEventBody fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static ContractEventBody fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
 
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.beginObject();
+          writer.name("v0");
+          v0.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static ContractEventBody fromJson(JsonReader reader) throws IOException {
+      ContractEventBody decodedContractEventBody = new ContractEventBody();
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v0":
+          decodedContractEventBody.setDiscriminant(0);
+          decodedContractEventBody.v0 = ContractEventV0.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ContractEventBody arm: " + key);
+      }
+      reader.endObject();
+      return decodedContractEventBody;
+    }
+
+    public static ContractEventBody fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
+
     /**
      * ContractEventV0's original definition in the XDR file is:
      *
@@ -165,9 +317,20 @@ public class ContractEvent implements XdrElement {
         data.encode(stream);
       }
 
+      public int encodedSize() {
+        int size = 0;
+        int topicsSize = getTopics().length;
+        size += 4;
+        for (int i = 0; i < topicsSize; i++) {
+          size += topics[i].encodedSize();
+        }
+        size += data.encodedSize();
+        return size;
+      }
+
       public static ContractEventV0 decode(XdrDataInputStream stream) throws IOException {
         ContractEventV0 decodedContractEventV0 = new ContractEventV0();
-        int topicsSize = stream.readInt();
+        int topicsSize = stream.readLength(4);
         decodedContractEventV0.topics = new SCVal[topicsSize];
         for (int i = 0; i < topicsSize; i++) {
           decodedContractEventV0.topics[i] = SCVal.decode(stream);
@@ -176,16 +339,73 @@ public class ContractEvent implements XdrElement {
         return decodedContractEventV0;
       }
 
+      public static ContractEventV0 decodeInto(ContractEventV0 existing, XdrDataInputStream stream)
+          throws IOException {
+        ContractEventV0 decodedContractEventV0 =
+            existing != null ? existing : new ContractEventV0();
+        int topicsSize = stream.readLength(4);
+        decodedContractEventV0.topics =
+            XdrRecycler.resize(decodedContractEventV0.topics, topicsSize, SCVal[]::new);
+        for (int i = 0; i < topicsSize; i++) {
+          decodedContractEventV0.topics[i] =
+              SCVal.decodeInto(decodedContractEventV0.topics[i], stream);
+        }
+        decodedContractEventV0.data = SCVal.decodeInto(decodedContractEventV0.data, stream);
+        return decodedContractEventV0;
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        int topicsSize = stream.readLength(Integer.MAX_VALUE, 4);
+        for (int i = 0; i < topicsSize; i++) {
+          SCVal.skip(stream);
+        }
+        SCVal.skip(stream);
+      }
+
       public static ContractEventV0 fromXdrBase64(String xdr) throws IOException {
-        byte[] bytes = Base64Factory.getInstance().decode(xdr);
-        return fromXdrByteArray(bytes);
+        XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+        return decode(xdrDataInputStream);
       }
 
       public static ContractEventV0 fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
         return decode(xdrDataInputStream);
       }
+
+      @Override
+      public void toJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("topics");
+        XdrJson.writeArray(writer, topics);
+        writer.name("data");
+        data.toJson(writer);
+        writer.endObject();
+      }
+
+      public static ContractEventV0 fromJson(JsonReader reader) throws IOException {
+        ContractEventV0 decodedContractEventV0 = new ContractEventV0();
+        reader.beginObject();
+        while (reader.hasNext()) {
+          String key = reader.nextName();
+          switch (key) {
+            case "topics":
+              decodedContractEventV0.topics =
+                  XdrJson.readArray(reader, SCVal[]::new, SCVal::fromJson);
+              break;
+            case "data":
+              decodedContractEventV0.data = SCVal.fromJson(reader);
+              break;
+            default:
+              throw new IOException("Unknown ContractEventV0 field: " + key);
+          }
+        }
+        reader.endObject();
+        return decodedContractEventV0;
+      }
+
+      public static ContractEventV0 fromJson(String json) throws IOException {
+        return XdrJson.fromJson(json, reader -> fromJson(reader));
+      }
     }
   }
 }
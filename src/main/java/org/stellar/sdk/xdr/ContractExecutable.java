@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractExecutable's original definition in the XDR file is:
@@ -43,6 +44,19 @@ public class ContractExecutable implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CONTRACT_EXECUTABLE_WASM:
+        size += wasm_hash.encodedSize();
+        break;
+      case CONTRACT_EXECUTABLE_STELLAR_ASSET:
+        break;
+    }
+    return size;
+  }
+
   public static ContractExecutable decode(XdrDataInputStream stream) throws IOException {
     ContractExecutable decodedContractExecutable = new ContractExecutable();
     ContractExecutableType discriminant = ContractExecutableType.decode(stream);
@@ -57,14 +71,92 @@ public class ContractExecutable implements XdrElement {
     return decodedContractExecutable;
   }
 
+  public static ContractExecutable decodeInto(
+      ContractExecutable existing, XdrDataInputStream stream) throws IOException {
+    ContractExecutableType discriminant = ContractExecutableType.decode(stream);
+    ContractExecutable decodedContractExecutable =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ContractExecutable();
+    decodedContractExecutable.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CONTRACT_EXECUTABLE_WASM:
+        decodedContractExecutable.wasm_hash =
+            Hash.decodeInto(decodedContractExecutable.wasm_hash, stream);
+        break;
+      case CONTRACT_EXECUTABLE_STELLAR_ASSET:
+        break;
+    }
+    return decodedContractExecutable;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ContractExecutableType discriminant = ContractExecutableType.decode(stream);
+    switch (discriminant) {
+      case CONTRACT_EXECUTABLE_WASM:
+        Hash.skip(stream);
+        break;
+      case CONTRACT_EXECUTABLE_STELLAR_ASSET:
+        break;
+      default:
+        throw new IOException("Unknown ContractExecutable discriminant: " + discriminant);
+    }
+  }
+
   public static ContractExecutable fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractExecutable fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CONTRACT_EXECUTABLE_WASM:
+        writer.beginObject();
+        writer.name("wasm");
+        wasm_hash.toJson(writer);
+        writer.endObject();
+        break;
+      case CONTRACT_EXECUTABLE_STELLAR_ASSET:
+        writer.value("stellar_asset");
+        break;
+    }
+  }
+
+  public static ContractExecutable fromJson(JsonReader reader) throws IOException {
+    ContractExecutable decodedContractExecutable = new ContractExecutable();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "stellar_asset":
+          decodedContractExecutable.setDiscriminant(
+              ContractExecutableType.CONTRACT_EXECUTABLE_STELLAR_ASSET);
+          break;
+        default:
+          throw new IOException("Unknown ContractExecutable arm: " + key);
+      }
+      return decodedContractExecutable;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "wasm":
+        decodedContractExecutable.setDiscriminant(ContractExecutableType.CONTRACT_EXECUTABLE_WASM);
+        decodedContractExecutable.wasm_hash = Hash.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown ContractExecutable arm: " + key);
+    }
+    reader.endObject();
+    return decodedContractExecutable;
+  }
+
+  public static ContractExecutable fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractID's original definition in the XDR file is:
@@ -27,20 +27,47 @@ public class ContractID implements XdrElement {
     ContractID.encode(stream);
   }
 
+  public int encodedSize() {
+    return ContractID.encodedSize();
+  }
+
   public static ContractID decode(XdrDataInputStream stream) throws IOException {
     ContractID decodedContractID = new ContractID();
     decodedContractID.ContractID = Hash.decode(stream);
     return decodedContractID;
   }
 
+  public static ContractID decodeInto(ContractID existing, XdrDataInputStream stream)
+      throws IOException {
+    ContractID decodedContractID = existing != null ? existing : new ContractID();
+    decodedContractID.ContractID = Hash.decodeInto(decodedContractID.ContractID, stream);
+    return decodedContractID;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+  }
+
   public static ContractID fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractID fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.value(XdrJson.encodeContractId(this));
+  }
+
+  public static ContractID fromJson(JsonReader reader) throws IOException {
+    return XdrJson.decodeContractId(reader.nextString());
+  }
+
+  public static ContractID fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
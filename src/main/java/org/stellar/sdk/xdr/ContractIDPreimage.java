@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractIDPreimage's original definition in the XDR file is:
@@ -49,6 +49,20 @@ public class ContractIDPreimage implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CONTRACT_ID_PREIMAGE_FROM_ADDRESS:
+        size += fromAddress.encodedSize();
+        break;
+      case CONTRACT_ID_PREIMAGE_FROM_ASSET:
+        size += fromAsset.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static ContractIDPreimage decode(XdrDataInputStream stream) throws IOException {
     ContractIDPreimage decodedContractIDPreimage = new ContractIDPreimage();
     ContractIDPreimageType discriminant = ContractIDPreimageType.decode(stream);
@@ -64,17 +78,95 @@ public class ContractIDPreimage implements XdrElement {
     return decodedContractIDPreimage;
   }
 
+  public static ContractIDPreimage decodeInto(
+      ContractIDPreimage existing, XdrDataInputStream stream) throws IOException {
+    ContractIDPreimageType discriminant = ContractIDPreimageType.decode(stream);
+    ContractIDPreimage decodedContractIDPreimage =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ContractIDPreimage();
+    decodedContractIDPreimage.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CONTRACT_ID_PREIMAGE_FROM_ADDRESS:
+        decodedContractIDPreimage.fromAddress =
+            ContractIDPreimageFromAddress.decodeInto(decodedContractIDPreimage.fromAddress, stream);
+        break;
+      case CONTRACT_ID_PREIMAGE_FROM_ASSET:
+        decodedContractIDPreimage.fromAsset =
+            Asset.decodeInto(decodedContractIDPreimage.fromAsset, stream);
+        break;
+    }
+    return decodedContractIDPreimage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ContractIDPreimageType discriminant = ContractIDPreimageType.decode(stream);
+    switch (discriminant) {
+      case CONTRACT_ID_PREIMAGE_FROM_ADDRESS:
+        ContractIDPreimageFromAddress.skip(stream);
+        break;
+      case CONTRACT_ID_PREIMAGE_FROM_ASSET:
+        Asset.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown ContractIDPreimage discriminant: " + discriminant);
+    }
+  }
+
   public static ContractIDPreimage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractIDPreimage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CONTRACT_ID_PREIMAGE_FROM_ADDRESS:
+        writer.beginObject();
+        writer.name("address");
+        fromAddress.toJson(writer);
+        writer.endObject();
+        break;
+      case CONTRACT_ID_PREIMAGE_FROM_ASSET:
+        writer.beginObject();
+        writer.name("asset");
+        fromAsset.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static ContractIDPreimage fromJson(JsonReader reader) throws IOException {
+    ContractIDPreimage decodedContractIDPreimage = new ContractIDPreimage();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "address":
+        decodedContractIDPreimage.setDiscriminant(
+            ContractIDPreimageType.CONTRACT_ID_PREIMAGE_FROM_ADDRESS);
+        decodedContractIDPreimage.fromAddress = ContractIDPreimageFromAddress.fromJson(reader);
+        break;
+      case "asset":
+        decodedContractIDPreimage.setDiscriminant(
+            ContractIDPreimageType.CONTRACT_ID_PREIMAGE_FROM_ASSET);
+        decodedContractIDPreimage.fromAsset = Asset.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown ContractIDPreimage arm: " + key);
+    }
+    reader.endObject();
+    return decodedContractIDPreimage;
+  }
+
+  public static ContractIDPreimage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * ContractIDPreimageFromAddress's original definition in the XDR file is:
    *
@@ -99,6 +191,13 @@ public class ContractIDPreimage implements XdrElement {
       salt.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += address.encodedSize();
+      size += salt.encodedSize();
+      return size;
+    }
+
     public static ContractIDPreimageFromAddress decode(XdrDataInputStream stream)
         throws IOException {
       ContractIDPreimageFromAddress decodedContractIDPreimageFromAddress =
@@ -108,15 +207,65 @@ public class ContractIDPreimage implements XdrElement {
       return decodedContractIDPreimageFromAddress;
     }
 
+    public static ContractIDPreimageFromAddress decodeInto(
+        ContractIDPreimageFromAddress existing, XdrDataInputStream stream) throws IOException {
+      ContractIDPreimageFromAddress decodedContractIDPreimageFromAddress =
+          existing != null ? existing : new ContractIDPreimageFromAddress();
+      decodedContractIDPreimageFromAddress.address =
+          SCAddress.decodeInto(decodedContractIDPreimageFromAddress.address, stream);
+      decodedContractIDPreimageFromAddress.salt =
+          Uint256.decodeInto(decodedContractIDPreimageFromAddress.salt, stream);
+      return decodedContractIDPreimageFromAddress;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      SCAddress.skip(stream);
+      Uint256.skip(stream);
+    }
+
     public static ContractIDPreimageFromAddress fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static ContractIDPreimageFromAddress fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("address");
+      address.toJson(writer);
+      writer.name("salt");
+      salt.toJson(writer);
+      writer.endObject();
+    }
+
+    public static ContractIDPreimageFromAddress fromJson(JsonReader reader) throws IOException {
+      ContractIDPreimageFromAddress decodedContractIDPreimageFromAddress =
+          new ContractIDPreimageFromAddress();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "address":
+            decodedContractIDPreimageFromAddress.address = SCAddress.fromJson(reader);
+            break;
+          case "salt":
+            decodedContractIDPreimageFromAddress.salt = Uint256.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown ContractIDPreimageFromAddress field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedContractIDPreimageFromAddress;
+    }
+
+    public static ContractIDPreimageFromAddress fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
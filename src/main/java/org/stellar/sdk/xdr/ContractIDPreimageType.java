@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ContractIDPreimageType's original definition in the XDR file is:
@@ -44,18 +44,53 @@ public enum ContractIDPreimageType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ContractIDPreimageType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ContractIDPreimageType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CONTRACT_ID_PREIMAGE_FROM_ADDRESS:
+        writer.value("address");
+        break;
+      case CONTRACT_ID_PREIMAGE_FROM_ASSET:
+        writer.value("asset");
+        break;
+    }
+  }
+
+  public static ContractIDPreimageType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "address":
+        return CONTRACT_ID_PREIMAGE_FROM_ADDRESS;
+      case "asset":
+        return CONTRACT_ID_PREIMAGE_FROM_ASSET;
+      default:
+        throw new IOException("Unknown ContractIDPreimageType value: " + value);
+    }
+  }
+
+  public static ContractIDPreimageType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * CreateAccountOp's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class CreateAccountOp implements XdrElement {
     startingBalance.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += destination.encodedSize();
+    size += startingBalance.encodedSize();
+    return size;
+  }
+
   public static CreateAccountOp decode(XdrDataInputStream stream) throws IOException {
     CreateAccountOp decodedCreateAccountOp = new CreateAccountOp();
     decodedCreateAccountOp.destination = AccountID.decode(stream);
@@ -42,14 +49,62 @@ public class CreateAccountOp implements XdrElement {
     return decodedCreateAccountOp;
   }
 
+  public static CreateAccountOp decodeInto(CreateAccountOp existing, XdrDataInputStream stream)
+      throws IOException {
+    CreateAccountOp decodedCreateAccountOp = existing != null ? existing : new CreateAccountOp();
+    decodedCreateAccountOp.destination =
+        AccountID.decodeInto(decodedCreateAccountOp.destination, stream);
+    decodedCreateAccountOp.startingBalance =
+        Int64.decodeInto(decodedCreateAccountOp.startingBalance, stream);
+    return decodedCreateAccountOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static CreateAccountOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static CreateAccountOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("destination");
+    destination.toJson(writer);
+    writer.name("starting_balance");
+    startingBalance.toJson(writer);
+    writer.endObject();
+  }
+
+  public static CreateAccountOp fromJson(JsonReader reader) throws IOException {
+    CreateAccountOp decodedCreateAccountOp = new CreateAccountOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "destination":
+          decodedCreateAccountOp.destination = AccountID.fromJson(reader);
+          break;
+        case "starting_balance":
+          decodedCreateAccountOp.startingBalance = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown CreateAccountOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedCreateAccountOp;
+  }
+
+  public static CreateAccountOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
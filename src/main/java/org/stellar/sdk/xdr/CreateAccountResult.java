@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * CreateAccountResult's original definition in the XDR file is:
@@ -47,6 +47,21 @@ public class CreateAccountResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CREATE_ACCOUNT_SUCCESS:
+        break;
+      case CREATE_ACCOUNT_MALFORMED:
+      case CREATE_ACCOUNT_UNDERFUNDED:
+      case CREATE_ACCOUNT_LOW_RESERVE:
+      case CREATE_ACCOUNT_ALREADY_EXIST:
+        break;
+    }
+    return size;
+  }
+
   public static CreateAccountResult decode(XdrDataInputStream stream) throws IOException {
     CreateAccountResult decodedCreateAccountResult = new CreateAccountResult();
     CreateAccountResultCode discriminant = CreateAccountResultCode.decode(stream);
@@ -63,14 +78,102 @@ public class CreateAccountResult implements XdrElement {
     return decodedCreateAccountResult;
   }
 
+  public static CreateAccountResult decodeInto(
+      CreateAccountResult existing, XdrDataInputStream stream) throws IOException {
+    CreateAccountResultCode discriminant = CreateAccountResultCode.decode(stream);
+    CreateAccountResult decodedCreateAccountResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new CreateAccountResult();
+    decodedCreateAccountResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CREATE_ACCOUNT_SUCCESS:
+        break;
+      case CREATE_ACCOUNT_MALFORMED:
+      case CREATE_ACCOUNT_UNDERFUNDED:
+      case CREATE_ACCOUNT_LOW_RESERVE:
+      case CREATE_ACCOUNT_ALREADY_EXIST:
+        break;
+    }
+    return decodedCreateAccountResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    CreateAccountResultCode discriminant = CreateAccountResultCode.decode(stream);
+    switch (discriminant) {
+      case CREATE_ACCOUNT_SUCCESS:
+        break;
+      case CREATE_ACCOUNT_MALFORMED:
+      case CREATE_ACCOUNT_UNDERFUNDED:
+      case CREATE_ACCOUNT_LOW_RESERVE:
+      case CREATE_ACCOUNT_ALREADY_EXIST:
+        break;
+      default:
+        throw new IOException("Unknown CreateAccountResult discriminant: " + discriminant);
+    }
+  }
+
   public static CreateAccountResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static CreateAccountResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CREATE_ACCOUNT_SUCCESS:
+        writer.value("success");
+        break;
+      case CREATE_ACCOUNT_MALFORMED:
+        writer.value("malformed");
+        break;
+      case CREATE_ACCOUNT_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case CREATE_ACCOUNT_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case CREATE_ACCOUNT_ALREADY_EXIST:
+        writer.value("already_exist");
+        break;
+    }
+  }
+
+  public static CreateAccountResult fromJson(JsonReader reader) throws IOException {
+    CreateAccountResult decodedCreateAccountResult = new CreateAccountResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedCreateAccountResult.setDiscriminant(CreateAccountResultCode.CREATE_ACCOUNT_SUCCESS);
+        break;
+      case "malformed":
+        decodedCreateAccountResult.setDiscriminant(
+            CreateAccountResultCode.CREATE_ACCOUNT_MALFORMED);
+        break;
+      case "underfunded":
+        decodedCreateAccountResult.setDiscriminant(
+            CreateAccountResultCode.CREATE_ACCOUNT_UNDERFUNDED);
+        break;
+      case "low_reserve":
+        decodedCreateAccountResult.setDiscriminant(
+            CreateAccountResultCode.CREATE_ACCOUNT_LOW_RESERVE);
+        break;
+      case "already_exist":
+        decodedCreateAccountResult.setDiscriminant(
+            CreateAccountResultCode.CREATE_ACCOUNT_ALREADY_EXIST);
+        break;
+      default:
+        throw new IOException("Unknown CreateAccountResult arm: " + key);
+    }
+    return decodedCreateAccountResult;
+  }
+
+  public static CreateAccountResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * CreateAccountResultCode's original definition in the XDR file is:
@@ -60,18 +60,68 @@ public enum CreateAccountResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static CreateAccountResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static CreateAccountResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CREATE_ACCOUNT_SUCCESS:
+        writer.value("success");
+        break;
+      case CREATE_ACCOUNT_MALFORMED:
+        writer.value("malformed");
+        break;
+      case CREATE_ACCOUNT_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case CREATE_ACCOUNT_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case CREATE_ACCOUNT_ALREADY_EXIST:
+        writer.value("already_exist");
+        break;
+    }
+  }
+
+  public static CreateAccountResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return CREATE_ACCOUNT_SUCCESS;
+      case "malformed":
+        return CREATE_ACCOUNT_MALFORMED;
+      case "underfunded":
+        return CREATE_ACCOUNT_UNDERFUNDED;
+      case "low_reserve":
+        return CREATE_ACCOUNT_LOW_RESERVE;
+      case "already_exist":
+        return CREATE_ACCOUNT_ALREADY_EXIST;
+      default:
+        throw new IOException("Unknown CreateAccountResultCode value: " + value);
+    }
+  }
+
+  public static CreateAccountResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * CreateClaimableBalanceOp's original definition in the XDR file is:
@@ -42,11 +42,23 @@ public class CreateClaimableBalanceOp implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += asset.encodedSize();
+    size += amount.encodedSize();
+    int claimantsSize = getClaimants().length;
+    size += 4;
+    for (int i = 0; i < claimantsSize; i++) {
+      size += claimants[i].encodedSize();
+    }
+    return size;
+  }
+
   public static CreateClaimableBalanceOp decode(XdrDataInputStream stream) throws IOException {
     CreateClaimableBalanceOp decodedCreateClaimableBalanceOp = new CreateClaimableBalanceOp();
     decodedCreateClaimableBalanceOp.asset = Asset.decode(stream);
     decodedCreateClaimableBalanceOp.amount = Int64.decode(stream);
-    int claimantsSize = stream.readInt();
+    int claimantsSize = stream.readLength(4);
     decodedCreateClaimableBalanceOp.claimants = new Claimant[claimantsSize];
     for (int i = 0; i < claimantsSize; i++) {
       decodedCreateClaimableBalanceOp.claimants[i] = Claimant.decode(stream);
@@ -54,14 +66,81 @@ public class CreateClaimableBalanceOp implements XdrElement {
     return decodedCreateClaimableBalanceOp;
   }
 
+  public static CreateClaimableBalanceOp decodeInto(
+      CreateClaimableBalanceOp existing, XdrDataInputStream stream) throws IOException {
+    CreateClaimableBalanceOp decodedCreateClaimableBalanceOp =
+        existing != null ? existing : new CreateClaimableBalanceOp();
+    decodedCreateClaimableBalanceOp.asset =
+        Asset.decodeInto(decodedCreateClaimableBalanceOp.asset, stream);
+    decodedCreateClaimableBalanceOp.amount =
+        Int64.decodeInto(decodedCreateClaimableBalanceOp.amount, stream);
+    int claimantsSize = stream.readLength(4);
+    decodedCreateClaimableBalanceOp.claimants =
+        XdrRecycler.resize(
+            decodedCreateClaimableBalanceOp.claimants, claimantsSize, Claimant[]::new);
+    for (int i = 0; i < claimantsSize; i++) {
+      decodedCreateClaimableBalanceOp.claimants[i] =
+          Claimant.decodeInto(decodedCreateClaimableBalanceOp.claimants[i], stream);
+    }
+    return decodedCreateClaimableBalanceOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Asset.skip(stream);
+    Int64.skip(stream);
+    int claimantsSize = stream.readLength(10, 4);
+    for (int i = 0; i < claimantsSize; i++) {
+      Claimant.skip(stream);
+    }
+  }
+
   public static CreateClaimableBalanceOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static CreateClaimableBalanceOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("asset");
+    asset.toJson(writer);
+    writer.name("amount");
+    amount.toJson(writer);
+    writer.name("claimants");
+    XdrJson.writeArray(writer, claimants);
+    writer.endObject();
+  }
+
+  public static CreateClaimableBalanceOp fromJson(JsonReader reader) throws IOException {
+    CreateClaimableBalanceOp decodedCreateClaimableBalanceOp = new CreateClaimableBalanceOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "asset":
+          decodedCreateClaimableBalanceOp.asset = Asset.fromJson(reader);
+          break;
+        case "amount":
+          decodedCreateClaimableBalanceOp.amount = Int64.fromJson(reader);
+          break;
+        case "claimants":
+          decodedCreateClaimableBalanceOp.claimants =
+              XdrJson.readArray(reader, Claimant[]::new, Claimant::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown CreateClaimableBalanceOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedCreateClaimableBalanceOp;
+  }
+
+  public static CreateClaimableBalanceOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * CreateClaimableBalanceResult's original definition in the XDR file is:
@@ -52,6 +53,23 @@ public class CreateClaimableBalanceResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case CREATE_CLAIMABLE_BALANCE_SUCCESS:
+        size += balanceID.encodedSize();
+        break;
+      case CREATE_CLAIMABLE_BALANCE_MALFORMED:
+      case CREATE_CLAIMABLE_BALANCE_LOW_RESERVE:
+      case CREATE_CLAIMABLE_BALANCE_NO_TRUST:
+      case CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CREATE_CLAIMABLE_BALANCE_UNDERFUNDED:
+        break;
+    }
+    return size;
+  }
+
   public static CreateClaimableBalanceResult decode(XdrDataInputStream stream) throws IOException {
     CreateClaimableBalanceResult decodedCreateClaimableBalanceResult =
         new CreateClaimableBalanceResult();
@@ -71,14 +89,130 @@ public class CreateClaimableBalanceResult implements XdrElement {
     return decodedCreateClaimableBalanceResult;
   }
 
+  public static CreateClaimableBalanceResult decodeInto(
+      CreateClaimableBalanceResult existing, XdrDataInputStream stream) throws IOException {
+    CreateClaimableBalanceResultCode discriminant = CreateClaimableBalanceResultCode.decode(stream);
+    CreateClaimableBalanceResult decodedCreateClaimableBalanceResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new CreateClaimableBalanceResult();
+    decodedCreateClaimableBalanceResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case CREATE_CLAIMABLE_BALANCE_SUCCESS:
+        decodedCreateClaimableBalanceResult.balanceID =
+            ClaimableBalanceID.decodeInto(decodedCreateClaimableBalanceResult.balanceID, stream);
+        break;
+      case CREATE_CLAIMABLE_BALANCE_MALFORMED:
+      case CREATE_CLAIMABLE_BALANCE_LOW_RESERVE:
+      case CREATE_CLAIMABLE_BALANCE_NO_TRUST:
+      case CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CREATE_CLAIMABLE_BALANCE_UNDERFUNDED:
+        break;
+    }
+    return decodedCreateClaimableBalanceResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    CreateClaimableBalanceResultCode discriminant = CreateClaimableBalanceResultCode.decode(stream);
+    switch (discriminant) {
+      case CREATE_CLAIMABLE_BALANCE_SUCCESS:
+        ClaimableBalanceID.skip(stream);
+        break;
+      case CREATE_CLAIMABLE_BALANCE_MALFORMED:
+      case CREATE_CLAIMABLE_BALANCE_LOW_RESERVE:
+      case CREATE_CLAIMABLE_BALANCE_NO_TRUST:
+      case CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CREATE_CLAIMABLE_BALANCE_UNDERFUNDED:
+        break;
+      default:
+        throw new IOException("Unknown CreateClaimableBalanceResult discriminant: " + discriminant);
+    }
+  }
+
   public static CreateClaimableBalanceResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static CreateClaimableBalanceResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case CREATE_CLAIMABLE_BALANCE_SUCCESS:
+        writer.beginObject();
+        writer.name("success");
+        balanceID.toJson(writer);
+        writer.endObject();
+        break;
+      case CREATE_CLAIMABLE_BALANCE_MALFORMED:
+        writer.value("malformed");
+        break;
+      case CREATE_CLAIMABLE_BALANCE_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case CREATE_CLAIMABLE_BALANCE_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+      case CREATE_CLAIMABLE_BALANCE_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+    }
+  }
+
+  public static CreateClaimableBalanceResult fromJson(JsonReader reader) throws IOException {
+    CreateClaimableBalanceResult decodedCreateClaimableBalanceResult =
+        new CreateClaimableBalanceResult();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "malformed":
+          decodedCreateClaimableBalanceResult.setDiscriminant(
+              CreateClaimableBalanceResultCode.CREATE_CLAIMABLE_BALANCE_MALFORMED);
+          break;
+        case "low_reserve":
+          decodedCreateClaimableBalanceResult.setDiscriminant(
+              CreateClaimableBalanceResultCode.CREATE_CLAIMABLE_BALANCE_LOW_RESERVE);
+          break;
+        case "no_trust":
+          decodedCreateClaimableBalanceResult.setDiscriminant(
+              CreateClaimableBalanceResultCode.CREATE_CLAIMABLE_BALANCE_NO_TRUST);
+          break;
+        case "not_authorized":
+          decodedCreateClaimableBalanceResult.setDiscriminant(
+              CreateClaimableBalanceResultCode.CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED);
+          break;
+        case "underfunded":
+          decodedCreateClaimableBalanceResult.setDiscriminant(
+              CreateClaimableBalanceResultCode.CREATE_CLAIMABLE_BALANCE_UNDERFUNDED);
+          break;
+        default:
+          throw new IOException("Unknown CreateClaimableBalanceResult arm: " + key);
+      }
+      return decodedCreateClaimableBalanceResult;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "success":
+        decodedCreateClaimableBalanceResult.setDiscriminant(
+            CreateClaimableBalanceResultCode.CREATE_CLAIMABLE_BALANCE_SUCCESS);
+        decodedCreateClaimableBalanceResult.balanceID = ClaimableBalanceID.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown CreateClaimableBalanceResult arm: " + key);
+    }
+    reader.endObject();
+    return decodedCreateClaimableBalanceResult;
+  }
+
+  public static CreateClaimableBalanceResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
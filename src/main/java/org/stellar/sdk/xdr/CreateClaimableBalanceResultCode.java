@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * CreateClaimableBalanceResultCode's original definition in the XDR file is:
@@ -61,18 +61,73 @@ public enum CreateClaimableBalanceResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static CreateClaimableBalanceResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static CreateClaimableBalanceResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CREATE_CLAIMABLE_BALANCE_SUCCESS:
+        writer.value("success");
+        break;
+      case CREATE_CLAIMABLE_BALANCE_MALFORMED:
+        writer.value("malformed");
+        break;
+      case CREATE_CLAIMABLE_BALANCE_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case CREATE_CLAIMABLE_BALANCE_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+      case CREATE_CLAIMABLE_BALANCE_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+    }
+  }
+
+  public static CreateClaimableBalanceResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return CREATE_CLAIMABLE_BALANCE_SUCCESS;
+      case "malformed":
+        return CREATE_CLAIMABLE_BALANCE_MALFORMED;
+      case "low_reserve":
+        return CREATE_CLAIMABLE_BALANCE_LOW_RESERVE;
+      case "no_trust":
+        return CREATE_CLAIMABLE_BALANCE_NO_TRUST;
+      case "not_authorized":
+        return CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED;
+      case "underfunded":
+        return CREATE_CLAIMABLE_BALANCE_UNDERFUNDED;
+      default:
+        throw new IOException("Unknown CreateClaimableBalanceResultCode value: " + value);
+    }
+  }
+
+  public static CreateClaimableBalanceResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * CreateContractArgs's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class CreateContractArgs implements XdrElement {
     executable.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += contractIDPreimage.encodedSize();
+    size += executable.encodedSize();
+    return size;
+  }
+
   public static CreateContractArgs decode(XdrDataInputStream stream) throws IOException {
     CreateContractArgs decodedCreateContractArgs = new CreateContractArgs();
     decodedCreateContractArgs.contractIDPreimage = ContractIDPreimage.decode(stream);
@@ -42,14 +49,63 @@ public class CreateContractArgs implements XdrElement {
     return decodedCreateContractArgs;
   }
 
+  public static CreateContractArgs decodeInto(
+      CreateContractArgs existing, XdrDataInputStream stream) throws IOException {
+    CreateContractArgs decodedCreateContractArgs =
+        existing != null ? existing : new CreateContractArgs();
+    decodedCreateContractArgs.contractIDPreimage =
+        ContractIDPreimage.decodeInto(decodedCreateContractArgs.contractIDPreimage, stream);
+    decodedCreateContractArgs.executable =
+        ContractExecutable.decodeInto(decodedCreateContractArgs.executable, stream);
+    return decodedCreateContractArgs;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ContractIDPreimage.skip(stream);
+    ContractExecutable.skip(stream);
+  }
+
   public static CreateContractArgs fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static CreateContractArgs fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("contract_id_preimage");
+    contractIDPreimage.toJson(writer);
+    writer.name("executable");
+    executable.toJson(writer);
+    writer.endObject();
+  }
+
+  public static CreateContractArgs fromJson(JsonReader reader) throws IOException {
+    CreateContractArgs decodedCreateContractArgs = new CreateContractArgs();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "contract_id_preimage":
+          decodedCreateContractArgs.contractIDPreimage = ContractIDPreimage.fromJson(reader);
+          break;
+        case "executable":
+          decodedCreateContractArgs.executable = ContractExecutable.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown CreateContractArgs field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedCreateContractArgs;
+  }
+
+  public static CreateContractArgs fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
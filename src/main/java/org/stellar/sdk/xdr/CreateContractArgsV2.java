@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * CreateContractArgsV2's original definition in the XDR file is:
@@ -43,11 +43,23 @@ public class CreateContractArgsV2 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += contractIDPreimage.encodedSize();
+    size += executable.encodedSize();
+    int constructorArgsSize = getConstructorArgs().length;
+    size += 4;
+    for (int i = 0; i < constructorArgsSize; i++) {
+      size += constructorArgs[i].encodedSize();
+    }
+    return size;
+  }
+
   public static CreateContractArgsV2 decode(XdrDataInputStream stream) throws IOException {
     CreateContractArgsV2 decodedCreateContractArgsV2 = new CreateContractArgsV2();
     decodedCreateContractArgsV2.contractIDPreimage = ContractIDPreimage.decode(stream);
     decodedCreateContractArgsV2.executable = ContractExecutable.decode(stream);
-    int constructorArgsSize = stream.readInt();
+    int constructorArgsSize = stream.readLength(4);
     decodedCreateContractArgsV2.constructorArgs = new SCVal[constructorArgsSize];
     for (int i = 0; i < constructorArgsSize; i++) {
       decodedCreateContractArgsV2.constructorArgs[i] = SCVal.decode(stream);
@@ -55,14 +67,81 @@ public class CreateContractArgsV2 implements XdrElement {
     return decodedCreateContractArgsV2;
   }
 
+  public static CreateContractArgsV2 decodeInto(
+      CreateContractArgsV2 existing, XdrDataInputStream stream) throws IOException {
+    CreateContractArgsV2 decodedCreateContractArgsV2 =
+        existing != null ? existing : new CreateContractArgsV2();
+    decodedCreateContractArgsV2.contractIDPreimage =
+        ContractIDPreimage.decodeInto(decodedCreateContractArgsV2.contractIDPreimage, stream);
+    decodedCreateContractArgsV2.executable =
+        ContractExecutable.decodeInto(decodedCreateContractArgsV2.executable, stream);
+    int constructorArgsSize = stream.readLength(4);
+    decodedCreateContractArgsV2.constructorArgs =
+        XdrRecycler.resize(
+            decodedCreateContractArgsV2.constructorArgs, constructorArgsSize, SCVal[]::new);
+    for (int i = 0; i < constructorArgsSize; i++) {
+      decodedCreateContractArgsV2.constructorArgs[i] =
+          SCVal.decodeInto(decodedCreateContractArgsV2.constructorArgs[i], stream);
+    }
+    return decodedCreateContractArgsV2;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ContractIDPreimage.skip(stream);
+    ContractExecutable.skip(stream);
+    int constructorArgsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < constructorArgsSize; i++) {
+      SCVal.skip(stream);
+    }
+  }
+
   public static CreateContractArgsV2 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static CreateContractArgsV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("contract_id_preimage");
+    contractIDPreimage.toJson(writer);
+    writer.name("executable");
+    executable.toJson(writer);
+    writer.name("constructor_args");
+    XdrJson.writeArray(writer, constructorArgs);
+    writer.endObject();
+  }
+
+  public static CreateContractArgsV2 fromJson(JsonReader reader) throws IOException {
+    CreateContractArgsV2 decodedCreateContractArgsV2 = new CreateContractArgsV2();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "contract_id_preimage":
+          decodedCreateContractArgsV2.contractIDPreimage = ContractIDPreimage.fromJson(reader);
+          break;
+        case "executable":
+          decodedCreateContractArgsV2.executable = ContractExecutable.fromJson(reader);
+          break;
+        case "constructor_args":
+          decodedCreateContractArgsV2.constructorArgs =
+              XdrJson.readArray(reader, SCVal[]::new, SCVal::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown CreateContractArgsV2 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedCreateContractArgsV2;
+  }
+
+  public static CreateContractArgsV2 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
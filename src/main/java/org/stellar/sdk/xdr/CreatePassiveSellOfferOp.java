@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * CreatePassiveSellOfferOp's original definition in the XDR file is:
@@ -41,6 +41,15 @@ public class CreatePassiveSellOfferOp implements XdrElement {
     price.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += selling.encodedSize();
+    size += buying.encodedSize();
+    size += amount.encodedSize();
+    size += price.encodedSize();
+    return size;
+  }
+
   public static CreatePassiveSellOfferOp decode(XdrDataInputStream stream) throws IOException {
     CreatePassiveSellOfferOp decodedCreatePassiveSellOfferOp = new CreatePassiveSellOfferOp();
     decodedCreatePassiveSellOfferOp.selling = Asset.decode(stream);
@@ -50,14 +59,79 @@ public class CreatePassiveSellOfferOp implements XdrElement {
     return decodedCreatePassiveSellOfferOp;
   }
 
+  public static CreatePassiveSellOfferOp decodeInto(
+      CreatePassiveSellOfferOp existing, XdrDataInputStream stream) throws IOException {
+    CreatePassiveSellOfferOp decodedCreatePassiveSellOfferOp =
+        existing != null ? existing : new CreatePassiveSellOfferOp();
+    decodedCreatePassiveSellOfferOp.selling =
+        Asset.decodeInto(decodedCreatePassiveSellOfferOp.selling, stream);
+    decodedCreatePassiveSellOfferOp.buying =
+        Asset.decodeInto(decodedCreatePassiveSellOfferOp.buying, stream);
+    decodedCreatePassiveSellOfferOp.amount =
+        Int64.decodeInto(decodedCreatePassiveSellOfferOp.amount, stream);
+    decodedCreatePassiveSellOfferOp.price =
+        Price.decodeInto(decodedCreatePassiveSellOfferOp.price, stream);
+    return decodedCreatePassiveSellOfferOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Asset.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Price.skip(stream);
+  }
+
   public static CreatePassiveSellOfferOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static CreatePassiveSellOfferOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("selling");
+    selling.toJson(writer);
+    writer.name("buying");
+    buying.toJson(writer);
+    writer.name("amount");
+    amount.toJson(writer);
+    writer.name("price");
+    price.toJson(writer);
+    writer.endObject();
+  }
+
+  public static CreatePassiveSellOfferOp fromJson(JsonReader reader) throws IOException {
+    CreatePassiveSellOfferOp decodedCreatePassiveSellOfferOp = new CreatePassiveSellOfferOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "selling":
+          decodedCreatePassiveSellOfferOp.selling = Asset.fromJson(reader);
+          break;
+        case "buying":
+          decodedCreatePassiveSellOfferOp.buying = Asset.fromJson(reader);
+          break;
+        case "amount":
+          decodedCreatePassiveSellOfferOp.amount = Int64.fromJson(reader);
+          break;
+        case "price":
+          decodedCreatePassiveSellOfferOp.price = Price.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown CreatePassiveSellOfferOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedCreatePassiveSellOfferOp;
+  }
+
+  public static CreatePassiveSellOfferOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
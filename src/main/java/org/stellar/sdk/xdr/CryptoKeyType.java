@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * CryptoKeyType's original definition in the XDR file is:
@@ -58,18 +58,68 @@ public enum CryptoKeyType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static CryptoKeyType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static CryptoKeyType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case KEY_TYPE_ED25519:
+        writer.value("ed25519");
+        break;
+      case KEY_TYPE_PRE_AUTH_TX:
+        writer.value("pre_auth_tx");
+        break;
+      case KEY_TYPE_HASH_X:
+        writer.value("hash_x");
+        break;
+      case KEY_TYPE_ED25519_SIGNED_PAYLOAD:
+        writer.value("ed25519_signed_payload");
+        break;
+      case KEY_TYPE_MUXED_ED25519:
+        writer.value("muxed_ed25519");
+        break;
+    }
+  }
+
+  public static CryptoKeyType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "ed25519":
+        return KEY_TYPE_ED25519;
+      case "pre_auth_tx":
+        return KEY_TYPE_PRE_AUTH_TX;
+      case "hash_x":
+        return KEY_TYPE_HASH_X;
+      case "ed25519_signed_payload":
+        return KEY_TYPE_ED25519_SIGNED_PAYLOAD;
+      case "muxed_ed25519":
+        return KEY_TYPE_MUXED_ED25519;
+      default:
+        throw new IOException("Unknown CryptoKeyType value: " + value);
+    }
+  }
+
+  public static CryptoKeyType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Curve25519Secret's original definition in the XDR file is:
@@ -33,6 +33,13 @@ public class Curve25519Secret implements XdrElement {
     stream.write(getKey(), 0, keySize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int keySize = key.length;
+    size += XdrDataOutputStream.paddedSize(keySize);
+    return size;
+  }
+
   public static Curve25519Secret decode(XdrDataInputStream stream) throws IOException {
     Curve25519Secret decodedCurve25519Secret = new Curve25519Secret();
     int keySize = 32;
@@ -41,14 +48,56 @@ public class Curve25519Secret implements XdrElement {
     return decodedCurve25519Secret;
   }
 
+  public static Curve25519Secret decodeInto(Curve25519Secret existing, XdrDataInputStream stream)
+      throws IOException {
+    Curve25519Secret decodedCurve25519Secret = existing != null ? existing : new Curve25519Secret();
+    int keySize = 32;
+    decodedCurve25519Secret.key = XdrRecycler.resize(decodedCurve25519Secret.key, keySize);
+    stream.read(decodedCurve25519Secret.key, 0, keySize);
+    return decodedCurve25519Secret;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int keySize = 32;
+    stream.skipOpaque(keySize);
+  }
+
   public static Curve25519Secret fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Curve25519Secret fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("key");
+    XdrJson.writeHex(writer, key);
+    writer.endObject();
+  }
+
+  public static Curve25519Secret fromJson(JsonReader reader) throws IOException {
+    Curve25519Secret decodedCurve25519Secret = new Curve25519Secret();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "key":
+          decodedCurve25519Secret.key = XdrJson.readHex(reader, 32);
+          break;
+        default:
+          throw new IOException("Unknown Curve25519Secret field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedCurve25519Secret;
+  }
+
+  public static Curve25519Secret fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * DataEntry's original definition in the XDR file is:
@@ -48,6 +48,15 @@ public class DataEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += accountID.encodedSize();
+    size += dataName.encodedSize();
+    size += dataValue.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static DataEntry decode(XdrDataInputStream stream) throws IOException {
     DataEntry decodedDataEntry = new DataEntry();
     decodedDataEntry.accountID = AccountID.decode(stream);
@@ -57,17 +66,77 @@ public class DataEntry implements XdrElement {
     return decodedDataEntry;
   }
 
+  public static DataEntry decodeInto(DataEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    DataEntry decodedDataEntry = existing != null ? existing : new DataEntry();
+    decodedDataEntry.accountID = AccountID.decodeInto(decodedDataEntry.accountID, stream);
+    decodedDataEntry.dataName = String64.decodeInto(decodedDataEntry.dataName, stream);
+    decodedDataEntry.dataValue = DataValue.decodeInto(decodedDataEntry.dataValue, stream);
+    decodedDataEntry.ext = DataEntryExt.decodeInto(decodedDataEntry.ext, stream);
+    return decodedDataEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+    String64.skip(stream);
+    DataValue.skip(stream);
+    DataEntryExt.skip(stream);
+  }
+
   public static DataEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static DataEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("account_id");
+    accountID.toJson(writer);
+    writer.name("data_name");
+    dataName.toJson(writer);
+    writer.name("data_value");
+    dataValue.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static DataEntry fromJson(JsonReader reader) throws IOException {
+    DataEntry decodedDataEntry = new DataEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "account_id":
+          decodedDataEntry.accountID = AccountID.fromJson(reader);
+          break;
+        case "data_name":
+          decodedDataEntry.dataName = String64.fromJson(reader);
+          break;
+        case "data_value":
+          decodedDataEntry.dataValue = DataValue.fromJson(reader);
+          break;
+        case "ext":
+          decodedDataEntry.ext = DataEntryExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown DataEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedDataEntry;
+  }
+
+  public static DataEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * DataEntryExt's original definition in the XDR file is:
    *
@@ -94,6 +163,16 @@ public class DataEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static DataEntryExt decode(XdrDataInputStream stream) throws IOException {
       DataEntryExt decodedDataEntryExt = new DataEntryExt();
       Integer discriminant = stream.readInt();
@@ -105,15 +184,65 @@ public class DataEntry implements XdrElement {
       return decodedDataEntryExt;
     }
 
+    public static DataEntryExt decodeInto(DataEntryExt existing, XdrDataInputStream stream)
+        throws IOException {
+      Integer discriminant = stream.readInt();
+      DataEntryExt decodedDataEntryExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new DataEntryExt();
+      decodedDataEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedDataEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown DataEntryExt discriminant: " + discriminant);
+      }
+    }
+
     public static DataEntryExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static DataEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static DataEntryExt fromJson(JsonReader reader) throws IOException {
+      DataEntryExt decodedDataEntryExt = new DataEntryExt();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedDataEntryExt.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown DataEntryExt arm: " + key);
+      }
+      return decodedDataEntryExt;
+    }
+
+    public static DataEntryExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * DataValue's original definition in the XDR file is:
@@ -29,22 +29,58 @@ public class DataValue implements XdrElement {
     stream.write(getDataValue(), 0, DataValueSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int DataValueSize = DataValue.length;
+    size += 4;
+    size += XdrDataOutputStream.paddedSize(DataValueSize);
+    return size;
+  }
+
   public static DataValue decode(XdrDataInputStream stream) throws IOException {
     DataValue decodedDataValue = new DataValue();
-    int DataValueSize = stream.readInt();
+    int DataValueSize = stream.readLength(1);
     decodedDataValue.DataValue = new byte[DataValueSize];
     stream.read(decodedDataValue.DataValue, 0, DataValueSize);
     return decodedDataValue;
   }
 
+  public static DataValue decodeInto(DataValue existing, XdrDataInputStream stream)
+      throws IOException {
+    DataValue decodedDataValue = existing != null ? existing : new DataValue();
+    int DataValueSize = stream.readLength(1);
+    decodedDataValue.DataValue = XdrRecycler.resize(decodedDataValue.DataValue, DataValueSize);
+    stream.read(decodedDataValue.DataValue, 0, DataValueSize);
+    return decodedDataValue;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int DataValueSize = stream.readLength(64, 1);
+    stream.skipOpaque(DataValueSize);
+  }
+
   public static DataValue fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static DataValue fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeHex(writer, DataValue);
+  }
+
+  public static DataValue fromJson(JsonReader reader) throws IOException {
+    DataValue decodedDataValue = new DataValue();
+    decodedDataValue.DataValue = XdrJson.readHex(reader);
+    return decodedDataValue;
+  }
+
+  public static DataValue fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
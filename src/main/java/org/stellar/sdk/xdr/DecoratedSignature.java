@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * DecoratedSignature's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class DecoratedSignature implements XdrElement {
     signature.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += hint.encodedSize();
+    size += signature.encodedSize();
+    return size;
+  }
+
   public static DecoratedSignature decode(XdrDataInputStream stream) throws IOException {
     DecoratedSignature decodedDecoratedSignature = new DecoratedSignature();
     decodedDecoratedSignature.hint = SignatureHint.decode(stream);
@@ -42,14 +49,63 @@ public class DecoratedSignature implements XdrElement {
     return decodedDecoratedSignature;
   }
 
+  public static DecoratedSignature decodeInto(
+      DecoratedSignature existing, XdrDataInputStream stream) throws IOException {
+    DecoratedSignature decodedDecoratedSignature =
+        existing != null ? existing : new DecoratedSignature();
+    decodedDecoratedSignature.hint =
+        SignatureHint.decodeInto(decodedDecoratedSignature.hint, stream);
+    decodedDecoratedSignature.signature =
+        Signature.decodeInto(decodedDecoratedSignature.signature, stream);
+    return decodedDecoratedSignature;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SignatureHint.skip(stream);
+    Signature.skip(stream);
+  }
+
   public static DecoratedSignature fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static DecoratedSignature fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("hint");
+    hint.toJson(writer);
+    writer.name("signature");
+    signature.toJson(writer);
+    writer.endObject();
+  }
+
+  public static DecoratedSignature fromJson(JsonReader reader) throws IOException {
+    DecoratedSignature decodedDecoratedSignature = new DecoratedSignature();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "hint":
+          decodedDecoratedSignature.hint = SignatureHint.fromJson(reader);
+          break;
+        case "signature":
+          decodedDecoratedSignature.signature = Signature.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown DecoratedSignature field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedDecoratedSignature;
+  }
+
+  public static DecoratedSignature fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * DependentTxCluster's original definition in the XDR file is:
@@ -31,9 +31,19 @@ public class DependentTxCluster implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int DependentTxClusterSize = getDependentTxCluster().length;
+    size += 4;
+    for (int i = 0; i < DependentTxClusterSize; i++) {
+      size += DependentTxCluster[i].encodedSize();
+    }
+    return size;
+  }
+
   public static DependentTxCluster decode(XdrDataInputStream stream) throws IOException {
     DependentTxCluster decodedDependentTxCluster = new DependentTxCluster();
-    int DependentTxClusterSize = stream.readInt();
+    int DependentTxClusterSize = stream.readLength(4);
     decodedDependentTxCluster.DependentTxCluster = new TransactionEnvelope[DependentTxClusterSize];
     for (int i = 0; i < DependentTxClusterSize; i++) {
       decodedDependentTxCluster.DependentTxCluster[i] = TransactionEnvelope.decode(stream);
@@ -41,14 +51,53 @@ public class DependentTxCluster implements XdrElement {
     return decodedDependentTxCluster;
   }
 
+  public static DependentTxCluster decodeInto(
+      DependentTxCluster existing, XdrDataInputStream stream) throws IOException {
+    DependentTxCluster decodedDependentTxCluster =
+        existing != null ? existing : new DependentTxCluster();
+    int DependentTxClusterSize = stream.readLength(4);
+    decodedDependentTxCluster.DependentTxCluster =
+        XdrRecycler.resize(
+            decodedDependentTxCluster.DependentTxCluster,
+            DependentTxClusterSize,
+            TransactionEnvelope[]::new);
+    for (int i = 0; i < DependentTxClusterSize; i++) {
+      decodedDependentTxCluster.DependentTxCluster[i] =
+          TransactionEnvelope.decodeInto(decodedDependentTxCluster.DependentTxCluster[i], stream);
+    }
+    return decodedDependentTxCluster;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int DependentTxClusterSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < DependentTxClusterSize; i++) {
+      TransactionEnvelope.skip(stream);
+    }
+  }
+
   public static DependentTxCluster fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static DependentTxCluster fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeArray(writer, DependentTxCluster);
+  }
+
+  public static DependentTxCluster fromJson(JsonReader reader) throws IOException {
+    DependentTxCluster decodedDependentTxCluster = new DependentTxCluster();
+    decodedDependentTxCluster.DependentTxCluster =
+        XdrJson.readArray(reader, TransactionEnvelope[]::new, TransactionEnvelope::fromJson);
+    return decodedDependentTxCluster;
+  }
+
+  public static DependentTxCluster fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
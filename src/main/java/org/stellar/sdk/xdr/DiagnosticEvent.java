@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * DiagnosticEvent's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class DiagnosticEvent implements XdrElement {
     event.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    size += event.encodedSize();
+    return size;
+  }
+
   public static DiagnosticEvent decode(XdrDataInputStream stream) throws IOException {
     DiagnosticEvent decodedDiagnosticEvent = new DiagnosticEvent();
     decodedDiagnosticEvent.inSuccessfulContractCall = stream.readInt() == 1 ? true : false;
@@ -42,14 +49,60 @@ public class DiagnosticEvent implements XdrElement {
     return decodedDiagnosticEvent;
   }
 
+  public static DiagnosticEvent decodeInto(DiagnosticEvent existing, XdrDataInputStream stream)
+      throws IOException {
+    DiagnosticEvent decodedDiagnosticEvent = existing != null ? existing : new DiagnosticEvent();
+    decodedDiagnosticEvent.inSuccessfulContractCall = stream.readInt() == 1 ? true : false;
+    decodedDiagnosticEvent.event = ContractEvent.decodeInto(decodedDiagnosticEvent.event, stream);
+    return decodedDiagnosticEvent;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.readXdrBoolean();
+    ContractEvent.skip(stream);
+  }
+
   public static DiagnosticEvent fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static DiagnosticEvent fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("in_successful_contract_call");
+    writer.value(inSuccessfulContractCall);
+    writer.name("event");
+    event.toJson(writer);
+    writer.endObject();
+  }
+
+  public static DiagnosticEvent fromJson(JsonReader reader) throws IOException {
+    DiagnosticEvent decodedDiagnosticEvent = new DiagnosticEvent();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "in_successful_contract_call":
+          decodedDiagnosticEvent.inSuccessfulContractCall = reader.nextBoolean();
+          break;
+        case "event":
+          decodedDiagnosticEvent.event = ContractEvent.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown DiagnosticEvent field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedDiagnosticEvent;
+  }
+
+  public static DiagnosticEvent fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * DontHave's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class DontHave implements XdrElement {
     reqHash.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += type.encodedSize();
+    size += reqHash.encodedSize();
+    return size;
+  }
+
   public static DontHave decode(XdrDataInputStream stream) throws IOException {
     DontHave decodedDontHave = new DontHave();
     decodedDontHave.type = MessageType.decode(stream);
@@ -42,14 +49,60 @@ public class DontHave implements XdrElement {
     return decodedDontHave;
   }
 
+  public static DontHave decodeInto(DontHave existing, XdrDataInputStream stream)
+      throws IOException {
+    DontHave decodedDontHave = existing != null ? existing : new DontHave();
+    decodedDontHave.type = MessageType.decode(stream);
+    decodedDontHave.reqHash = Uint256.decodeInto(decodedDontHave.reqHash, stream);
+    return decodedDontHave;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    MessageType.skip(stream);
+    Uint256.skip(stream);
+  }
+
   public static DontHave fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static DontHave fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("type");
+    type.toJson(writer);
+    writer.name("req_hash");
+    reqHash.toJson(writer);
+    writer.endObject();
+  }
+
+  public static DontHave fromJson(JsonReader reader) throws IOException {
+    DontHave decodedDontHave = new DontHave();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "type":
+          decodedDontHave.type = MessageType.fromJson(reader);
+          break;
+        case "req_hash":
+          decodedDontHave.reqHash = Uint256.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown DontHave field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedDontHave;
+  }
+
+  public static DontHave fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Duration's original definition in the XDR file is:
@@ -27,20 +27,49 @@ public class Duration implements XdrElement {
     Duration.encode(stream);
   }
 
+  public int encodedSize() {
+    return Duration.encodedSize();
+  }
+
   public static Duration decode(XdrDataInputStream stream) throws IOException {
     Duration decodedDuration = new Duration();
     decodedDuration.Duration = Uint64.decode(stream);
     return decodedDuration;
   }
 
+  public static Duration decodeInto(Duration existing, XdrDataInputStream stream)
+      throws IOException {
+    Duration decodedDuration = existing != null ? existing : new Duration();
+    decodedDuration.Duration = Uint64.decodeInto(decodedDuration.Duration, stream);
+    return decodedDuration;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint64.skip(stream);
+  }
+
   public static Duration fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Duration fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    Duration.toJson(writer);
+  }
+
+  public static Duration fromJson(JsonReader reader) throws IOException {
+    Duration decodedDuration = new Duration();
+    decodedDuration.Duration = Uint64.fromJson(reader);
+    return decodedDuration;
+  }
+
+  public static Duration fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * EncryptedBody's original definition in the XDR file is:
@@ -29,22 +29,59 @@ public class EncryptedBody implements XdrElement {
     stream.write(getEncryptedBody(), 0, EncryptedBodySize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int EncryptedBodySize = EncryptedBody.length;
+    size += 4;
+    size += XdrDataOutputStream.paddedSize(EncryptedBodySize);
+    return size;
+  }
+
   public static EncryptedBody decode(XdrDataInputStream stream) throws IOException {
     EncryptedBody decodedEncryptedBody = new EncryptedBody();
-    int EncryptedBodySize = stream.readInt();
+    int EncryptedBodySize = stream.readLength(1);
     decodedEncryptedBody.EncryptedBody = new byte[EncryptedBodySize];
     stream.read(decodedEncryptedBody.EncryptedBody, 0, EncryptedBodySize);
     return decodedEncryptedBody;
   }
 
+  public static EncryptedBody decodeInto(EncryptedBody existing, XdrDataInputStream stream)
+      throws IOException {
+    EncryptedBody decodedEncryptedBody = existing != null ? existing : new EncryptedBody();
+    int EncryptedBodySize = stream.readLength(1);
+    decodedEncryptedBody.EncryptedBody =
+        XdrRecycler.resize(decodedEncryptedBody.EncryptedBody, EncryptedBodySize);
+    stream.read(decodedEncryptedBody.EncryptedBody, 0, EncryptedBodySize);
+    return decodedEncryptedBody;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int EncryptedBodySize = stream.readLength(64000, 1);
+    stream.skipOpaque(EncryptedBodySize);
+  }
+
   public static EncryptedBody fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static EncryptedBody fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeHex(writer, EncryptedBody);
+  }
+
+  public static EncryptedBody fromJson(JsonReader reader) throws IOException {
+    EncryptedBody decodedEncryptedBody = new EncryptedBody();
+    decodedEncryptedBody.EncryptedBody = XdrJson.readHex(reader);
+    return decodedEncryptedBody;
+  }
+
+  public static EncryptedBody fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * EndSponsoringFutureReservesResult's original definition in the XDR file is:
@@ -42,6 +42,18 @@ public class EndSponsoringFutureReservesResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case END_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED:
+        break;
+    }
+    return size;
+  }
+
   public static EndSponsoringFutureReservesResult decode(XdrDataInputStream stream)
       throws IOException {
     EndSponsoringFutureReservesResult decodedEndSponsoringFutureReservesResult =
@@ -58,14 +70,80 @@ public class EndSponsoringFutureReservesResult implements XdrElement {
     return decodedEndSponsoringFutureReservesResult;
   }
 
+  public static EndSponsoringFutureReservesResult decodeInto(
+      EndSponsoringFutureReservesResult existing, XdrDataInputStream stream) throws IOException {
+    EndSponsoringFutureReservesResultCode discriminant =
+        EndSponsoringFutureReservesResultCode.decode(stream);
+    EndSponsoringFutureReservesResult decodedEndSponsoringFutureReservesResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new EndSponsoringFutureReservesResult();
+    decodedEndSponsoringFutureReservesResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case END_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED:
+        break;
+    }
+    return decodedEndSponsoringFutureReservesResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    EndSponsoringFutureReservesResultCode discriminant =
+        EndSponsoringFutureReservesResultCode.decode(stream);
+    switch (discriminant) {
+      case END_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED:
+        break;
+      default:
+        throw new IOException(
+            "Unknown EndSponsoringFutureReservesResult discriminant: " + discriminant);
+    }
+  }
+
   public static EndSponsoringFutureReservesResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static EndSponsoringFutureReservesResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case END_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        writer.value("success");
+        break;
+      case END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED:
+        writer.value("not_sponsored");
+        break;
+    }
+  }
+
+  public static EndSponsoringFutureReservesResult fromJson(JsonReader reader) throws IOException {
+    EndSponsoringFutureReservesResult decodedEndSponsoringFutureReservesResult =
+        new EndSponsoringFutureReservesResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedEndSponsoringFutureReservesResult.setDiscriminant(
+            EndSponsoringFutureReservesResultCode.END_SPONSORING_FUTURE_RESERVES_SUCCESS);
+        break;
+      case "not_sponsored":
+        decodedEndSponsoringFutureReservesResult.setDiscriminant(
+            EndSponsoringFutureReservesResultCode.END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED);
+        break;
+      default:
+        throw new IOException("Unknown EndSponsoringFutureReservesResult arm: " + key);
+    }
+    return decodedEndSponsoringFutureReservesResult;
+  }
+
+  public static EndSponsoringFutureReservesResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * EndSponsoringFutureReservesResultCode's original definition in the XDR file is:
@@ -48,19 +48,55 @@ public enum EndSponsoringFutureReservesResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static EndSponsoringFutureReservesResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static EndSponsoringFutureReservesResultCode fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case END_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        writer.value("success");
+        break;
+      case END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED:
+        writer.value("not_sponsored");
+        break;
+    }
+  }
+
+  public static EndSponsoringFutureReservesResultCode fromJson(JsonReader reader)
+      throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return END_SPONSORING_FUTURE_RESERVES_SUCCESS;
+      case "not_sponsored":
+        return END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED;
+      default:
+        throw new IOException("Unknown EndSponsoringFutureReservesResultCode value: " + value);
+    }
+  }
+
+  public static EndSponsoringFutureReservesResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * EnvelopeType's original definition in the XDR file is:
@@ -76,18 +76,93 @@ public enum EnvelopeType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static EnvelopeType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static EnvelopeType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case ENVELOPE_TYPE_TX_V0:
+        writer.value("tx_v0");
+        break;
+      case ENVELOPE_TYPE_SCP:
+        writer.value("scp");
+        break;
+      case ENVELOPE_TYPE_TX:
+        writer.value("tx");
+        break;
+      case ENVELOPE_TYPE_AUTH:
+        writer.value("auth");
+        break;
+      case ENVELOPE_TYPE_SCPVALUE:
+        writer.value("scpvalue");
+        break;
+      case ENVELOPE_TYPE_TX_FEE_BUMP:
+        writer.value("tx_fee_bump");
+        break;
+      case ENVELOPE_TYPE_OP_ID:
+        writer.value("op_id");
+        break;
+      case ENVELOPE_TYPE_POOL_REVOKE_OP_ID:
+        writer.value("pool_revoke_op_id");
+        break;
+      case ENVELOPE_TYPE_CONTRACT_ID:
+        writer.value("contract_id");
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION:
+        writer.value("soroban_authorization");
+        break;
+    }
+  }
+
+  public static EnvelopeType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "tx_v0":
+        return ENVELOPE_TYPE_TX_V0;
+      case "scp":
+        return ENVELOPE_TYPE_SCP;
+      case "tx":
+        return ENVELOPE_TYPE_TX;
+      case "auth":
+        return ENVELOPE_TYPE_AUTH;
+      case "scpvalue":
+        return ENVELOPE_TYPE_SCPVALUE;
+      case "tx_fee_bump":
+        return ENVELOPE_TYPE_TX_FEE_BUMP;
+      case "op_id":
+        return ENVELOPE_TYPE_OP_ID;
+      case "pool_revoke_op_id":
+        return ENVELOPE_TYPE_POOL_REVOKE_OP_ID;
+      case "contract_id":
+        return ENVELOPE_TYPE_CONTRACT_ID;
+      case "soroban_authorization":
+        return ENVELOPE_TYPE_SOROBAN_AUTHORIZATION;
+      default:
+        throw new IOException("Unknown EnvelopeType value: " + value);
+    }
+  }
+
+  public static EnvelopeType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Error's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class Error implements XdrElement {
     msg.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += code.encodedSize();
+    size += msg.encodedSize();
+    return size;
+  }
+
   public static Error decode(XdrDataInputStream stream) throws IOException {
     Error decodedError = new Error();
     decodedError.code = ErrorCode.decode(stream);
@@ -42,14 +49,59 @@ public class Error implements XdrElement {
     return decodedError;
   }
 
+  public static Error decodeInto(Error existing, XdrDataInputStream stream) throws IOException {
+    Error decodedError = existing != null ? existing : new Error();
+    decodedError.code = ErrorCode.decode(stream);
+    decodedError.msg = XdrString.decode(stream, 100);
+    return decodedError;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ErrorCode.skip(stream);
+    XdrString.skip(stream, 100);
+  }
+
   public static Error fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Error fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("code");
+    code.toJson(writer);
+    writer.name("msg");
+    msg.toJson(writer);
+    writer.endObject();
+  }
+
+  public static Error fromJson(JsonReader reader) throws IOException {
+    Error decodedError = new Error();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "code":
+          decodedError.code = ErrorCode.fromJson(reader);
+          break;
+        case "msg":
+          decodedError.msg = XdrString.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown Error field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedError;
+  }
+
+  public static Error fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
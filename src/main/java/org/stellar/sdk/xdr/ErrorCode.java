@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ErrorCode's original definition in the XDR file is:
@@ -56,18 +56,68 @@ public enum ErrorCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ErrorCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ErrorCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case ERR_MISC:
+        writer.value("misc");
+        break;
+      case ERR_DATA:
+        writer.value("data");
+        break;
+      case ERR_CONF:
+        writer.value("conf");
+        break;
+      case ERR_AUTH:
+        writer.value("auth");
+        break;
+      case ERR_LOAD:
+        writer.value("load");
+        break;
+    }
+  }
+
+  public static ErrorCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "misc":
+        return ERR_MISC;
+      case "data":
+        return ERR_DATA;
+      case "conf":
+        return ERR_CONF;
+      case "auth":
+        return ERR_AUTH;
+      case "load":
+        return ERR_LOAD;
+      default:
+        throw new IOException("Unknown ErrorCode value: " + value);
+    }
+  }
+
+  public static ErrorCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
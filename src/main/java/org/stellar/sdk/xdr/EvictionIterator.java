@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * EvictionIterator's original definition in the XDR file is:
@@ -37,6 +37,14 @@ public class EvictionIterator implements XdrElement {
     bucketFileOffset.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += bucketListLevel.encodedSize();
+    size += 4;
+    size += bucketFileOffset.encodedSize();
+    return size;
+  }
+
   public static EvictionIterator decode(XdrDataInputStream stream) throws IOException {
     EvictionIterator decodedEvictionIterator = new EvictionIterator();
     decodedEvictionIterator.bucketListLevel = Uint32.decode(stream);
@@ -45,14 +53,69 @@ public class EvictionIterator implements XdrElement {
     return decodedEvictionIterator;
   }
 
+  public static EvictionIterator decodeInto(EvictionIterator existing, XdrDataInputStream stream)
+      throws IOException {
+    EvictionIterator decodedEvictionIterator = existing != null ? existing : new EvictionIterator();
+    decodedEvictionIterator.bucketListLevel =
+        Uint32.decodeInto(decodedEvictionIterator.bucketListLevel, stream);
+    decodedEvictionIterator.isCurrBucket = stream.readInt() == 1 ? true : false;
+    decodedEvictionIterator.bucketFileOffset =
+        Uint64.decodeInto(decodedEvictionIterator.bucketFileOffset, stream);
+    return decodedEvictionIterator;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    stream.readXdrBoolean();
+    Uint64.skip(stream);
+  }
+
   public static EvictionIterator fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static EvictionIterator fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("bucket_list_level");
+    bucketListLevel.toJson(writer);
+    writer.name("is_curr_bucket");
+    writer.value(isCurrBucket);
+    writer.name("bucket_file_offset");
+    bucketFileOffset.toJson(writer);
+    writer.endObject();
+  }
+
+  public static EvictionIterator fromJson(JsonReader reader) throws IOException {
+    EvictionIterator decodedEvictionIterator = new EvictionIterator();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "bucket_list_level":
+          decodedEvictionIterator.bucketListLevel = Uint32.fromJson(reader);
+          break;
+        case "is_curr_bucket":
+          decodedEvictionIterator.isCurrBucket = reader.nextBoolean();
+          break;
+        case "bucket_file_offset":
+          decodedEvictionIterator.bucketFileOffset = Uint64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown EvictionIterator field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedEvictionIterator;
+  }
+
+  public static EvictionIterator fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
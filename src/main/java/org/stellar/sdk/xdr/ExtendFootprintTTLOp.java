@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ExtendFootprintTTLOp's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class ExtendFootprintTTLOp implements XdrElement {
     extendTo.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += extendTo.encodedSize();
+    return size;
+  }
+
   public static ExtendFootprintTTLOp decode(XdrDataInputStream stream) throws IOException {
     ExtendFootprintTTLOp decodedExtendFootprintTTLOp = new ExtendFootprintTTLOp();
     decodedExtendFootprintTTLOp.ext = ExtensionPoint.decode(stream);
@@ -42,14 +49,63 @@ public class ExtendFootprintTTLOp implements XdrElement {
     return decodedExtendFootprintTTLOp;
   }
 
+  public static ExtendFootprintTTLOp decodeInto(
+      ExtendFootprintTTLOp existing, XdrDataInputStream stream) throws IOException {
+    ExtendFootprintTTLOp decodedExtendFootprintTTLOp =
+        existing != null ? existing : new ExtendFootprintTTLOp();
+    decodedExtendFootprintTTLOp.ext =
+        ExtensionPoint.decodeInto(decodedExtendFootprintTTLOp.ext, stream);
+    decodedExtendFootprintTTLOp.extendTo =
+        Uint32.decodeInto(decodedExtendFootprintTTLOp.extendTo, stream);
+    return decodedExtendFootprintTTLOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static ExtendFootprintTTLOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ExtendFootprintTTLOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("extend_to");
+    extendTo.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ExtendFootprintTTLOp fromJson(JsonReader reader) throws IOException {
+    ExtendFootprintTTLOp decodedExtendFootprintTTLOp = new ExtendFootprintTTLOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedExtendFootprintTTLOp.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "extend_to":
+          decodedExtendFootprintTTLOp.extendTo = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ExtendFootprintTTLOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedExtendFootprintTTLOp;
+  }
+
+  public static ExtendFootprintTTLOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
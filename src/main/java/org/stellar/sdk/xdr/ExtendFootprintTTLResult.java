@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ExtendFootprintTTLResult's original definition in the XDR file is:
@@ -45,6 +45,20 @@ public class ExtendFootprintTTLResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case EXTEND_FOOTPRINT_TTL_SUCCESS:
+        break;
+      case EXTEND_FOOTPRINT_TTL_MALFORMED:
+      case EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED:
+      case EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+    }
+    return size;
+  }
+
   public static ExtendFootprintTTLResult decode(XdrDataInputStream stream) throws IOException {
     ExtendFootprintTTLResult decodedExtendFootprintTTLResult = new ExtendFootprintTTLResult();
     ExtendFootprintTTLResultCode discriminant = ExtendFootprintTTLResultCode.decode(stream);
@@ -60,14 +74,94 @@ public class ExtendFootprintTTLResult implements XdrElement {
     return decodedExtendFootprintTTLResult;
   }
 
+  public static ExtendFootprintTTLResult decodeInto(
+      ExtendFootprintTTLResult existing, XdrDataInputStream stream) throws IOException {
+    ExtendFootprintTTLResultCode discriminant = ExtendFootprintTTLResultCode.decode(stream);
+    ExtendFootprintTTLResult decodedExtendFootprintTTLResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ExtendFootprintTTLResult();
+    decodedExtendFootprintTTLResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case EXTEND_FOOTPRINT_TTL_SUCCESS:
+        break;
+      case EXTEND_FOOTPRINT_TTL_MALFORMED:
+      case EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED:
+      case EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+    }
+    return decodedExtendFootprintTTLResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtendFootprintTTLResultCode discriminant = ExtendFootprintTTLResultCode.decode(stream);
+    switch (discriminant) {
+      case EXTEND_FOOTPRINT_TTL_SUCCESS:
+        break;
+      case EXTEND_FOOTPRINT_TTL_MALFORMED:
+      case EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED:
+      case EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown ExtendFootprintTTLResult discriminant: " + discriminant);
+    }
+  }
+
   public static ExtendFootprintTTLResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ExtendFootprintTTLResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case EXTEND_FOOTPRINT_TTL_SUCCESS:
+        writer.value("success");
+        break;
+      case EXTEND_FOOTPRINT_TTL_MALFORMED:
+        writer.value("malformed");
+        break;
+      case EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED:
+        writer.value("resource_limit_exceeded");
+        break;
+      case EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE:
+        writer.value("insufficient_refundable_fee");
+        break;
+    }
+  }
+
+  public static ExtendFootprintTTLResult fromJson(JsonReader reader) throws IOException {
+    ExtendFootprintTTLResult decodedExtendFootprintTTLResult = new ExtendFootprintTTLResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedExtendFootprintTTLResult.setDiscriminant(
+            ExtendFootprintTTLResultCode.EXTEND_FOOTPRINT_TTL_SUCCESS);
+        break;
+      case "malformed":
+        decodedExtendFootprintTTLResult.setDiscriminant(
+            ExtendFootprintTTLResultCode.EXTEND_FOOTPRINT_TTL_MALFORMED);
+        break;
+      case "resource_limit_exceeded":
+        decodedExtendFootprintTTLResult.setDiscriminant(
+            ExtendFootprintTTLResultCode.EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED);
+        break;
+      case "insufficient_refundable_fee":
+        decodedExtendFootprintTTLResult.setDiscriminant(
+            ExtendFootprintTTLResultCode.EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE);
+        break;
+      default:
+        throw new IOException("Unknown ExtendFootprintTTLResult arm: " + key);
+    }
+    return decodedExtendFootprintTTLResult;
+  }
+
+  public static ExtendFootprintTTLResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ExtendFootprintTTLResultCode's original definition in the XDR file is:
@@ -55,18 +55,63 @@ public enum ExtendFootprintTTLResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ExtendFootprintTTLResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ExtendFootprintTTLResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case EXTEND_FOOTPRINT_TTL_SUCCESS:
+        writer.value("success");
+        break;
+      case EXTEND_FOOTPRINT_TTL_MALFORMED:
+        writer.value("malformed");
+        break;
+      case EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED:
+        writer.value("resource_limit_exceeded");
+        break;
+      case EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE:
+        writer.value("insufficient_refundable_fee");
+        break;
+    }
+  }
+
+  public static ExtendFootprintTTLResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return EXTEND_FOOTPRINT_TTL_SUCCESS;
+      case "malformed":
+        return EXTEND_FOOTPRINT_TTL_MALFORMED;
+      case "resource_limit_exceeded":
+        return EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED;
+      case "insufficient_refundable_fee":
+        return EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE;
+      default:
+        throw new IOException("Unknown ExtendFootprintTTLResultCode value: " + value);
+    }
+  }
+
+  public static ExtendFootprintTTLResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ExtensionPoint's original definition in the XDR file is:
@@ -37,6 +37,16 @@ public class ExtensionPoint implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case 0:
+        break;
+    }
+    return size;
+  }
+
   public static ExtensionPoint decode(XdrDataInputStream stream) throws IOException {
     ExtensionPoint decodedExtensionPoint = new ExtensionPoint();
     Integer discriminant = stream.readInt();
@@ -48,14 +58,64 @@ public class ExtensionPoint implements XdrElement {
     return decodedExtensionPoint;
   }
 
+  public static ExtensionPoint decodeInto(ExtensionPoint existing, XdrDataInputStream stream)
+      throws IOException {
+    Integer discriminant = stream.readInt();
+    ExtensionPoint decodedExtensionPoint =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ExtensionPoint();
+    decodedExtensionPoint.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        break;
+    }
+    return decodedExtensionPoint;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        break;
+      default:
+        throw new IOException("Unknown ExtensionPoint discriminant: " + discriminant);
+    }
+  }
+
   public static ExtensionPoint fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ExtensionPoint fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case 0:
+        writer.value("v0");
+        break;
+    }
+  }
+
+  public static ExtensionPoint fromJson(JsonReader reader) throws IOException {
+    ExtensionPoint decodedExtensionPoint = new ExtensionPoint();
+    String key = reader.nextString();
+    switch (key) {
+      case "v0":
+        decodedExtensionPoint.setDiscriminant(0);
+        break;
+      default:
+        throw new IOException("Unknown ExtensionPoint arm: " + key);
+    }
+    return decodedExtensionPoint;
+  }
+
+  public static ExtensionPoint fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * FeeBumpTransaction's original definition in the XDR file is:
@@ -51,6 +51,15 @@ public class FeeBumpTransaction implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += feeSource.encodedSize();
+    size += fee.encodedSize();
+    size += innerTx.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static FeeBumpTransaction decode(XdrDataInputStream stream) throws IOException {
     FeeBumpTransaction decodedFeeBumpTransaction = new FeeBumpTransaction();
     decodedFeeBumpTransaction.feeSource = MuxedAccount.decode(stream);
@@ -60,17 +69,81 @@ public class FeeBumpTransaction implements XdrElement {
     return decodedFeeBumpTransaction;
   }
 
+  public static FeeBumpTransaction decodeInto(
+      FeeBumpTransaction existing, XdrDataInputStream stream) throws IOException {
+    FeeBumpTransaction decodedFeeBumpTransaction =
+        existing != null ? existing : new FeeBumpTransaction();
+    decodedFeeBumpTransaction.feeSource =
+        MuxedAccount.decodeInto(decodedFeeBumpTransaction.feeSource, stream);
+    decodedFeeBumpTransaction.fee = Int64.decodeInto(decodedFeeBumpTransaction.fee, stream);
+    decodedFeeBumpTransaction.innerTx =
+        FeeBumpTransactionInnerTx.decodeInto(decodedFeeBumpTransaction.innerTx, stream);
+    decodedFeeBumpTransaction.ext =
+        FeeBumpTransactionExt.decodeInto(decodedFeeBumpTransaction.ext, stream);
+    return decodedFeeBumpTransaction;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    MuxedAccount.skip(stream);
+    Int64.skip(stream);
+    FeeBumpTransactionInnerTx.skip(stream);
+    FeeBumpTransactionExt.skip(stream);
+  }
+
   public static FeeBumpTransaction fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static FeeBumpTransaction fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("fee_source");
+    feeSource.toJson(writer);
+    writer.name("fee");
+    fee.toJson(writer);
+    writer.name("inner_tx");
+    innerTx.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static FeeBumpTransaction fromJson(JsonReader reader) throws IOException {
+    FeeBumpTransaction decodedFeeBumpTransaction = new FeeBumpTransaction();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "fee_source":
+          decodedFeeBumpTransaction.feeSource = MuxedAccount.fromJson(reader);
+          break;
+        case "fee":
+          decodedFeeBumpTransaction.fee = Int64.fromJson(reader);
+          break;
+        case "inner_tx":
+          decodedFeeBumpTransaction.innerTx = FeeBumpTransactionInnerTx.fromJson(reader);
+          break;
+        case "ext":
+          decodedFeeBumpTransaction.ext = FeeBumpTransactionExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown FeeBumpTransaction field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedFeeBumpTransaction;
+  }
+
+  public static FeeBumpTransaction fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * FeeBumpTransactionInnerTx's original definition in the XDR file is:
    *
@@ -99,6 +172,17 @@ public class FeeBumpTransaction implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static FeeBumpTransactionInnerTx decode(XdrDataInputStream stream) throws IOException {
       FeeBumpTransactionInnerTx decodedFeeBumpTransactionInnerTx = new FeeBumpTransactionInnerTx();
       EnvelopeType discriminant = EnvelopeType.decode(stream);
@@ -111,16 +195,75 @@ public class FeeBumpTransaction implements XdrElement {
       return decodedFeeBumpTransactionInnerTx;
     }
 
+    public static FeeBumpTransactionInnerTx decodeInto(
+        FeeBumpTransactionInnerTx existing, XdrDataInputStream stream) throws IOException {
+      EnvelopeType discriminant = EnvelopeType.decode(stream);
+      FeeBumpTransactionInnerTx decodedFeeBumpTransactionInnerTx =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new FeeBumpTransactionInnerTx();
+      decodedFeeBumpTransactionInnerTx.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          decodedFeeBumpTransactionInnerTx.v1 =
+              TransactionV1Envelope.decodeInto(decodedFeeBumpTransactionInnerTx.v1, stream);
+          break;
+      }
+      return decodedFeeBumpTransactionInnerTx;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      EnvelopeType discriminant = EnvelopeType.decode(stream);
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          TransactionV1Envelope.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown FeeBumpTransactionInnerTx discriminant: " + discriminant);
+      }
+    }
+
     public static FeeBumpTransactionInnerTx fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static FeeBumpTransactionInnerTx fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          writer.beginObject();
+          writer.name("tx");
+          v1.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static FeeBumpTransactionInnerTx fromJson(JsonReader reader) throws IOException {
+      FeeBumpTransactionInnerTx decodedFeeBumpTransactionInnerTx = new FeeBumpTransactionInnerTx();
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "tx":
+          decodedFeeBumpTransactionInnerTx.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_TX);
+          decodedFeeBumpTransactionInnerTx.v1 = TransactionV1Envelope.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown FeeBumpTransactionInnerTx arm: " + key);
+      }
+      reader.endObject();
+      return decodedFeeBumpTransactionInnerTx;
+    }
+
+    public static FeeBumpTransactionInnerTx fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -149,6 +292,16 @@ public class FeeBumpTransaction implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static FeeBumpTransactionExt decode(XdrDataInputStream stream) throws IOException {
       FeeBumpTransactionExt decodedFeeBumpTransactionExt = new FeeBumpTransactionExt();
       Integer discriminant = stream.readInt();
@@ -160,15 +313,65 @@ public class FeeBumpTransaction implements XdrElement {
       return decodedFeeBumpTransactionExt;
     }
 
+    public static FeeBumpTransactionExt decodeInto(
+        FeeBumpTransactionExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      FeeBumpTransactionExt decodedFeeBumpTransactionExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new FeeBumpTransactionExt();
+      decodedFeeBumpTransactionExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedFeeBumpTransactionExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown FeeBumpTransactionExt discriminant: " + discriminant);
+      }
+    }
+
     public static FeeBumpTransactionExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static FeeBumpTransactionExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static FeeBumpTransactionExt fromJson(JsonReader reader) throws IOException {
+      FeeBumpTransactionExt decodedFeeBumpTransactionExt = new FeeBumpTransactionExt();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedFeeBumpTransactionExt.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown FeeBumpTransactionExt arm: " + key);
+      }
+      return decodedFeeBumpTransactionExt;
+    }
+
+    public static FeeBumpTransactionExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
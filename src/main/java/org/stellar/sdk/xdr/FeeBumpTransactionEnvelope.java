@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * FeeBumpTransactionEnvelope's original definition in the XDR file is:
@@ -41,10 +41,21 @@ public class FeeBumpTransactionEnvelope implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += tx.encodedSize();
+    int signaturesSize = getSignatures().length;
+    size += 4;
+    for (int i = 0; i < signaturesSize; i++) {
+      size += signatures[i].encodedSize();
+    }
+    return size;
+  }
+
   public static FeeBumpTransactionEnvelope decode(XdrDataInputStream stream) throws IOException {
     FeeBumpTransactionEnvelope decodedFeeBumpTransactionEnvelope = new FeeBumpTransactionEnvelope();
     decodedFeeBumpTransactionEnvelope.tx = FeeBumpTransaction.decode(stream);
-    int signaturesSize = stream.readInt();
+    int signaturesSize = stream.readLength(4);
     decodedFeeBumpTransactionEnvelope.signatures = new DecoratedSignature[signaturesSize];
     for (int i = 0; i < signaturesSize; i++) {
       decodedFeeBumpTransactionEnvelope.signatures[i] = DecoratedSignature.decode(stream);
@@ -52,14 +63,75 @@ public class FeeBumpTransactionEnvelope implements XdrElement {
     return decodedFeeBumpTransactionEnvelope;
   }
 
+  public static FeeBumpTransactionEnvelope decodeInto(
+      FeeBumpTransactionEnvelope existing, XdrDataInputStream stream) throws IOException {
+    FeeBumpTransactionEnvelope decodedFeeBumpTransactionEnvelope =
+        existing != null ? existing : new FeeBumpTransactionEnvelope();
+    decodedFeeBumpTransactionEnvelope.tx =
+        FeeBumpTransaction.decodeInto(decodedFeeBumpTransactionEnvelope.tx, stream);
+    int signaturesSize = stream.readLength(4);
+    decodedFeeBumpTransactionEnvelope.signatures =
+        XdrRecycler.resize(
+            decodedFeeBumpTransactionEnvelope.signatures,
+            signaturesSize,
+            DecoratedSignature[]::new);
+    for (int i = 0; i < signaturesSize; i++) {
+      decodedFeeBumpTransactionEnvelope.signatures[i] =
+          DecoratedSignature.decodeInto(decodedFeeBumpTransactionEnvelope.signatures[i], stream);
+    }
+    return decodedFeeBumpTransactionEnvelope;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    FeeBumpTransaction.skip(stream);
+    int signaturesSize = stream.readLength(20, 4);
+    for (int i = 0; i < signaturesSize; i++) {
+      DecoratedSignature.skip(stream);
+    }
+  }
+
   public static FeeBumpTransactionEnvelope fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static FeeBumpTransactionEnvelope fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx");
+    tx.toJson(writer);
+    writer.name("signatures");
+    XdrJson.writeArray(writer, signatures);
+    writer.endObject();
+  }
+
+  public static FeeBumpTransactionEnvelope fromJson(JsonReader reader) throws IOException {
+    FeeBumpTransactionEnvelope decodedFeeBumpTransactionEnvelope = new FeeBumpTransactionEnvelope();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx":
+          decodedFeeBumpTransactionEnvelope.tx = FeeBumpTransaction.fromJson(reader);
+          break;
+        case "signatures":
+          decodedFeeBumpTransactionEnvelope.signatures =
+              XdrJson.readArray(reader, DecoratedSignature[]::new, DecoratedSignature::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown FeeBumpTransactionEnvelope field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedFeeBumpTransactionEnvelope;
+  }
+
+  public static FeeBumpTransactionEnvelope fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
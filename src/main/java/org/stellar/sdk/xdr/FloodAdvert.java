@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * FloodAdvert's original definition in the XDR file is:
@@ -32,20 +32,63 @@ public class FloodAdvert implements XdrElement {
     txHashes.encode(stream);
   }
 
+  public int encodedSize() {
+    return txHashes.encodedSize();
+  }
+
   public static FloodAdvert decode(XdrDataInputStream stream) throws IOException {
     FloodAdvert decodedFloodAdvert = new FloodAdvert();
     decodedFloodAdvert.txHashes = TxAdvertVector.decode(stream);
     return decodedFloodAdvert;
   }
 
+  public static FloodAdvert decodeInto(FloodAdvert existing, XdrDataInputStream stream)
+      throws IOException {
+    FloodAdvert decodedFloodAdvert = existing != null ? existing : new FloodAdvert();
+    decodedFloodAdvert.txHashes = TxAdvertVector.decodeInto(decodedFloodAdvert.txHashes, stream);
+    return decodedFloodAdvert;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    TxAdvertVector.skip(stream);
+  }
+
   public static FloodAdvert fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static FloodAdvert fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx_hashes");
+    txHashes.toJson(writer);
+    writer.endObject();
+  }
+
+  public static FloodAdvert fromJson(JsonReader reader) throws IOException {
+    FloodAdvert decodedFloodAdvert = new FloodAdvert();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx_hashes":
+          decodedFloodAdvert.txHashes = TxAdvertVector.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown FloodAdvert field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedFloodAdvert;
+  }
+
+  public static FloodAdvert fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
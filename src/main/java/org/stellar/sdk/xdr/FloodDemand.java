@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * FloodDemand's original definition in the XDR file is:
@@ -32,20 +32,63 @@ public class FloodDemand implements XdrElement {
     txHashes.encode(stream);
   }
 
+  public int encodedSize() {
+    return txHashes.encodedSize();
+  }
+
   public static FloodDemand decode(XdrDataInputStream stream) throws IOException {
     FloodDemand decodedFloodDemand = new FloodDemand();
     decodedFloodDemand.txHashes = TxDemandVector.decode(stream);
     return decodedFloodDemand;
   }
 
+  public static FloodDemand decodeInto(FloodDemand existing, XdrDataInputStream stream)
+      throws IOException {
+    FloodDemand decodedFloodDemand = existing != null ? existing : new FloodDemand();
+    decodedFloodDemand.txHashes = TxDemandVector.decodeInto(decodedFloodDemand.txHashes, stream);
+    return decodedFloodDemand;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    TxDemandVector.skip(stream);
+  }
+
   public static FloodDemand fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static FloodDemand fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx_hashes");
+    txHashes.toJson(writer);
+    writer.endObject();
+  }
+
+  public static FloodDemand fromJson(JsonReader reader) throws IOException {
+    FloodDemand decodedFloodDemand = new FloodDemand();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx_hashes":
+          decodedFloodDemand.txHashes = TxDemandVector.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown FloodDemand field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedFloodDemand;
+  }
+
+  public static FloodDemand fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
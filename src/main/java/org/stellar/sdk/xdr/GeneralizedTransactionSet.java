@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * GeneralizedTransactionSet's original definition in the XDR file is:
@@ -40,6 +40,17 @@ public class GeneralizedTransactionSet implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case 1:
+        size += v1TxSet.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static GeneralizedTransactionSet decode(XdrDataInputStream stream) throws IOException {
     GeneralizedTransactionSet decodedGeneralizedTransactionSet = new GeneralizedTransactionSet();
     Integer discriminant = stream.readInt();
@@ -52,14 +63,73 @@ public class GeneralizedTransactionSet implements XdrElement {
     return decodedGeneralizedTransactionSet;
   }
 
+  public static GeneralizedTransactionSet decodeInto(
+      GeneralizedTransactionSet existing, XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    GeneralizedTransactionSet decodedGeneralizedTransactionSet =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new GeneralizedTransactionSet();
+    decodedGeneralizedTransactionSet.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 1:
+        decodedGeneralizedTransactionSet.v1TxSet =
+            TransactionSetV1.decodeInto(decodedGeneralizedTransactionSet.v1TxSet, stream);
+        break;
+    }
+    return decodedGeneralizedTransactionSet;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    switch (discriminant) {
+      case 1:
+        TransactionSetV1.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown GeneralizedTransactionSet discriminant: " + discriminant);
+    }
+  }
+
   public static GeneralizedTransactionSet fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static GeneralizedTransactionSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case 1:
+        writer.beginObject();
+        writer.name("v1");
+        v1TxSet.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static GeneralizedTransactionSet fromJson(JsonReader reader) throws IOException {
+    GeneralizedTransactionSet decodedGeneralizedTransactionSet = new GeneralizedTransactionSet();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v1":
+        decodedGeneralizedTransactionSet.setDiscriminant(1);
+        decodedGeneralizedTransactionSet.v1TxSet = TransactionSetV1.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown GeneralizedTransactionSet arm: " + key);
+    }
+    reader.endObject();
+    return decodedGeneralizedTransactionSet;
+  }
+
+  public static GeneralizedTransactionSet fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
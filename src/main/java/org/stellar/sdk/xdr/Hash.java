@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Hash's original definition in the XDR file is:
@@ -28,6 +28,13 @@ public class Hash implements XdrElement {
     stream.write(getHash(), 0, HashSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int HashSize = Hash.length;
+    size += XdrDataOutputStream.paddedSize(HashSize);
+    return size;
+  }
+
   public static Hash decode(XdrDataInputStream stream) throws IOException {
     Hash decodedHash = new Hash();
     int HashSize = 32;
@@ -36,14 +43,41 @@ public class Hash implements XdrElement {
     return decodedHash;
   }
 
+  public static Hash decodeInto(Hash existing, XdrDataInputStream stream) throws IOException {
+    Hash decodedHash = existing != null ? existing : new Hash();
+    int HashSize = 32;
+    decodedHash.Hash = XdrRecycler.resize(decodedHash.Hash, HashSize);
+    stream.read(decodedHash.Hash, 0, HashSize);
+    return decodedHash;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int HashSize = 32;
+    stream.skipOpaque(HashSize);
+  }
+
   public static Hash fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Hash fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeHex(writer, Hash);
+  }
+
+  public static Hash fromJson(JsonReader reader) throws IOException {
+    Hash decodedHash = new Hash();
+    decodedHash.Hash = XdrJson.readHex(reader, 32);
+    return decodedHash;
+  }
+
+  public static Hash fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
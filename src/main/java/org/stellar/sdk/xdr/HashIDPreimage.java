@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * HashIDPreimage's original definition in the XDR file is:
@@ -79,6 +79,26 @@ public class HashIDPreimage implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case ENVELOPE_TYPE_OP_ID:
+        size += operationID.encodedSize();
+        break;
+      case ENVELOPE_TYPE_POOL_REVOKE_OP_ID:
+        size += revokeID.encodedSize();
+        break;
+      case ENVELOPE_TYPE_CONTRACT_ID:
+        size += contractID.encodedSize();
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION:
+        size += sorobanAuthorization.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static HashIDPreimage decode(XdrDataInputStream stream) throws IOException {
     HashIDPreimage decodedHashIDPreimage = new HashIDPreimage();
     EnvelopeType discriminant = EnvelopeType.decode(stream);
@@ -101,17 +121,129 @@ public class HashIDPreimage implements XdrElement {
     return decodedHashIDPreimage;
   }
 
+  public static HashIDPreimage decodeInto(HashIDPreimage existing, XdrDataInputStream stream)
+      throws IOException {
+    EnvelopeType discriminant = EnvelopeType.decode(stream);
+    HashIDPreimage decodedHashIDPreimage =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new HashIDPreimage();
+    decodedHashIDPreimage.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case ENVELOPE_TYPE_OP_ID:
+        decodedHashIDPreimage.operationID =
+            HashIDPreimageOperationID.decodeInto(decodedHashIDPreimage.operationID, stream);
+        break;
+      case ENVELOPE_TYPE_POOL_REVOKE_OP_ID:
+        decodedHashIDPreimage.revokeID =
+            HashIDPreimageRevokeID.decodeInto(decodedHashIDPreimage.revokeID, stream);
+        break;
+      case ENVELOPE_TYPE_CONTRACT_ID:
+        decodedHashIDPreimage.contractID =
+            HashIDPreimageContractID.decodeInto(decodedHashIDPreimage.contractID, stream);
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION:
+        decodedHashIDPreimage.sorobanAuthorization =
+            HashIDPreimageSorobanAuthorization.decodeInto(
+                decodedHashIDPreimage.sorobanAuthorization, stream);
+        break;
+    }
+    return decodedHashIDPreimage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    EnvelopeType discriminant = EnvelopeType.decode(stream);
+    switch (discriminant) {
+      case ENVELOPE_TYPE_OP_ID:
+        HashIDPreimageOperationID.skip(stream);
+        break;
+      case ENVELOPE_TYPE_POOL_REVOKE_OP_ID:
+        HashIDPreimageRevokeID.skip(stream);
+        break;
+      case ENVELOPE_TYPE_CONTRACT_ID:
+        HashIDPreimageContractID.skip(stream);
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION:
+        HashIDPreimageSorobanAuthorization.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown HashIDPreimage discriminant: " + discriminant);
+    }
+  }
+
   public static HashIDPreimage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static HashIDPreimage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case ENVELOPE_TYPE_OP_ID:
+        writer.beginObject();
+        writer.name("op_id");
+        operationID.toJson(writer);
+        writer.endObject();
+        break;
+      case ENVELOPE_TYPE_POOL_REVOKE_OP_ID:
+        writer.beginObject();
+        writer.name("pool_revoke_op_id");
+        revokeID.toJson(writer);
+        writer.endObject();
+        break;
+      case ENVELOPE_TYPE_CONTRACT_ID:
+        writer.beginObject();
+        writer.name("contract_id");
+        contractID.toJson(writer);
+        writer.endObject();
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION:
+        writer.beginObject();
+        writer.name("soroban_authorization");
+        sorobanAuthorization.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static HashIDPreimage fromJson(JsonReader reader) throws IOException {
+    HashIDPreimage decodedHashIDPreimage = new HashIDPreimage();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "op_id":
+        decodedHashIDPreimage.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_OP_ID);
+        decodedHashIDPreimage.operationID = HashIDPreimageOperationID.fromJson(reader);
+        break;
+      case "pool_revoke_op_id":
+        decodedHashIDPreimage.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_POOL_REVOKE_OP_ID);
+        decodedHashIDPreimage.revokeID = HashIDPreimageRevokeID.fromJson(reader);
+        break;
+      case "contract_id":
+        decodedHashIDPreimage.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_CONTRACT_ID);
+        decodedHashIDPreimage.contractID = HashIDPreimageContractID.fromJson(reader);
+        break;
+      case "soroban_authorization":
+        decodedHashIDPreimage.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_SOROBAN_AUTHORIZATION);
+        decodedHashIDPreimage.sorobanAuthorization =
+            HashIDPreimageSorobanAuthorization.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown HashIDPreimage arm: " + key);
+    }
+    reader.endObject();
+    return decodedHashIDPreimage;
+  }
+
+  public static HashIDPreimage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * HashIDPreimageOperationID's original definition in the XDR file is:
    *
@@ -139,6 +271,14 @@ public class HashIDPreimage implements XdrElement {
       opNum.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += sourceAccount.encodedSize();
+      size += seqNum.encodedSize();
+      size += opNum.encodedSize();
+      return size;
+    }
+
     public static HashIDPreimageOperationID decode(XdrDataInputStream stream) throws IOException {
       HashIDPreimageOperationID decodedHashIDPreimageOperationID = new HashIDPreimageOperationID();
       decodedHashIDPreimageOperationID.sourceAccount = AccountID.decode(stream);
@@ -147,16 +287,73 @@ public class HashIDPreimage implements XdrElement {
       return decodedHashIDPreimageOperationID;
     }
 
+    public static HashIDPreimageOperationID decodeInto(
+        HashIDPreimageOperationID existing, XdrDataInputStream stream) throws IOException {
+      HashIDPreimageOperationID decodedHashIDPreimageOperationID =
+          existing != null ? existing : new HashIDPreimageOperationID();
+      decodedHashIDPreimageOperationID.sourceAccount =
+          AccountID.decodeInto(decodedHashIDPreimageOperationID.sourceAccount, stream);
+      decodedHashIDPreimageOperationID.seqNum =
+          SequenceNumber.decodeInto(decodedHashIDPreimageOperationID.seqNum, stream);
+      decodedHashIDPreimageOperationID.opNum =
+          Uint32.decodeInto(decodedHashIDPreimageOperationID.opNum, stream);
+      return decodedHashIDPreimageOperationID;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      AccountID.skip(stream);
+      SequenceNumber.skip(stream);
+      Uint32.skip(stream);
+    }
+
     public static HashIDPreimageOperationID fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static HashIDPreimageOperationID fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("source_account");
+      sourceAccount.toJson(writer);
+      writer.name("seq_num");
+      seqNum.toJson(writer);
+      writer.name("op_num");
+      opNum.toJson(writer);
+      writer.endObject();
+    }
+
+    public static HashIDPreimageOperationID fromJson(JsonReader reader) throws IOException {
+      HashIDPreimageOperationID decodedHashIDPreimageOperationID = new HashIDPreimageOperationID();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "source_account":
+            decodedHashIDPreimageOperationID.sourceAccount = AccountID.fromJson(reader);
+            break;
+          case "seq_num":
+            decodedHashIDPreimageOperationID.seqNum = SequenceNumber.fromJson(reader);
+            break;
+          case "op_num":
+            decodedHashIDPreimageOperationID.opNum = Uint32.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown HashIDPreimageOperationID field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedHashIDPreimageOperationID;
+    }
+
+    public static HashIDPreimageOperationID fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -192,6 +389,16 @@ public class HashIDPreimage implements XdrElement {
       asset.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += sourceAccount.encodedSize();
+      size += seqNum.encodedSize();
+      size += opNum.encodedSize();
+      size += liquidityPoolID.encodedSize();
+      size += asset.encodedSize();
+      return size;
+    }
+
     public static HashIDPreimageRevokeID decode(XdrDataInputStream stream) throws IOException {
       HashIDPreimageRevokeID decodedHashIDPreimageRevokeID = new HashIDPreimageRevokeID();
       decodedHashIDPreimageRevokeID.sourceAccount = AccountID.decode(stream);
@@ -202,16 +409,89 @@ public class HashIDPreimage implements XdrElement {
       return decodedHashIDPreimageRevokeID;
     }
 
+    public static HashIDPreimageRevokeID decodeInto(
+        HashIDPreimageRevokeID existing, XdrDataInputStream stream) throws IOException {
+      HashIDPreimageRevokeID decodedHashIDPreimageRevokeID =
+          existing != null ? existing : new HashIDPreimageRevokeID();
+      decodedHashIDPreimageRevokeID.sourceAccount =
+          AccountID.decodeInto(decodedHashIDPreimageRevokeID.sourceAccount, stream);
+      decodedHashIDPreimageRevokeID.seqNum =
+          SequenceNumber.decodeInto(decodedHashIDPreimageRevokeID.seqNum, stream);
+      decodedHashIDPreimageRevokeID.opNum =
+          Uint32.decodeInto(decodedHashIDPreimageRevokeID.opNum, stream);
+      decodedHashIDPreimageRevokeID.liquidityPoolID =
+          PoolID.decodeInto(decodedHashIDPreimageRevokeID.liquidityPoolID, stream);
+      decodedHashIDPreimageRevokeID.asset =
+          Asset.decodeInto(decodedHashIDPreimageRevokeID.asset, stream);
+      return decodedHashIDPreimageRevokeID;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      AccountID.skip(stream);
+      SequenceNumber.skip(stream);
+      Uint32.skip(stream);
+      PoolID.skip(stream);
+      Asset.skip(stream);
+    }
+
     public static HashIDPreimageRevokeID fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static HashIDPreimageRevokeID fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("source_account");
+      sourceAccount.toJson(writer);
+      writer.name("seq_num");
+      seqNum.toJson(writer);
+      writer.name("op_num");
+      opNum.toJson(writer);
+      writer.name("liquidity_pool_id");
+      liquidityPoolID.toJson(writer);
+      writer.name("asset");
+      asset.toJson(writer);
+      writer.endObject();
+    }
+
+    public static HashIDPreimageRevokeID fromJson(JsonReader reader) throws IOException {
+      HashIDPreimageRevokeID decodedHashIDPreimageRevokeID = new HashIDPreimageRevokeID();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "source_account":
+            decodedHashIDPreimageRevokeID.sourceAccount = AccountID.fromJson(reader);
+            break;
+          case "seq_num":
+            decodedHashIDPreimageRevokeID.seqNum = SequenceNumber.fromJson(reader);
+            break;
+          case "op_num":
+            decodedHashIDPreimageRevokeID.opNum = Uint32.fromJson(reader);
+            break;
+          case "liquidity_pool_id":
+            decodedHashIDPreimageRevokeID.liquidityPoolID = PoolID.fromJson(reader);
+            break;
+          case "asset":
+            decodedHashIDPreimageRevokeID.asset = Asset.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown HashIDPreimageRevokeID field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedHashIDPreimageRevokeID;
+    }
+
+    public static HashIDPreimageRevokeID fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -238,6 +518,13 @@ public class HashIDPreimage implements XdrElement {
       contractIDPreimage.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += networkID.encodedSize();
+      size += contractIDPreimage.encodedSize();
+      return size;
+    }
+
     public static HashIDPreimageContractID decode(XdrDataInputStream stream) throws IOException {
       HashIDPreimageContractID decodedHashIDPreimageContractID = new HashIDPreimageContractID();
       decodedHashIDPreimageContractID.networkID = Hash.decode(stream);
@@ -245,16 +532,66 @@ public class HashIDPreimage implements XdrElement {
       return decodedHashIDPreimageContractID;
     }
 
+    public static HashIDPreimageContractID decodeInto(
+        HashIDPreimageContractID existing, XdrDataInputStream stream) throws IOException {
+      HashIDPreimageContractID decodedHashIDPreimageContractID =
+          existing != null ? existing : new HashIDPreimageContractID();
+      decodedHashIDPreimageContractID.networkID =
+          Hash.decodeInto(decodedHashIDPreimageContractID.networkID, stream);
+      decodedHashIDPreimageContractID.contractIDPreimage =
+          ContractIDPreimage.decodeInto(decodedHashIDPreimageContractID.contractIDPreimage, stream);
+      return decodedHashIDPreimageContractID;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Hash.skip(stream);
+      ContractIDPreimage.skip(stream);
+    }
+
     public static HashIDPreimageContractID fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static HashIDPreimageContractID fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("network_id");
+      networkID.toJson(writer);
+      writer.name("contract_id_preimage");
+      contractIDPreimage.toJson(writer);
+      writer.endObject();
+    }
+
+    public static HashIDPreimageContractID fromJson(JsonReader reader) throws IOException {
+      HashIDPreimageContractID decodedHashIDPreimageContractID = new HashIDPreimageContractID();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "network_id":
+            decodedHashIDPreimageContractID.networkID = Hash.fromJson(reader);
+            break;
+          case "contract_id_preimage":
+            decodedHashIDPreimageContractID.contractIDPreimage =
+                ContractIDPreimage.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown HashIDPreimageContractID field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedHashIDPreimageContractID;
+    }
+
+    public static HashIDPreimageContractID fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -287,6 +624,15 @@ public class HashIDPreimage implements XdrElement {
       invocation.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += networkID.encodedSize();
+      size += nonce.encodedSize();
+      size += signatureExpirationLedger.encodedSize();
+      size += invocation.encodedSize();
+      return size;
+    }
+
     public static HashIDPreimageSorobanAuthorization decode(XdrDataInputStream stream)
         throws IOException {
       HashIDPreimageSorobanAuthorization decodedHashIDPreimageSorobanAuthorization =
@@ -299,16 +645,87 @@ public class HashIDPreimage implements XdrElement {
       return decodedHashIDPreimageSorobanAuthorization;
     }
 
+    public static HashIDPreimageSorobanAuthorization decodeInto(
+        HashIDPreimageSorobanAuthorization existing, XdrDataInputStream stream) throws IOException {
+      HashIDPreimageSorobanAuthorization decodedHashIDPreimageSorobanAuthorization =
+          existing != null ? existing : new HashIDPreimageSorobanAuthorization();
+      decodedHashIDPreimageSorobanAuthorization.networkID =
+          Hash.decodeInto(decodedHashIDPreimageSorobanAuthorization.networkID, stream);
+      decodedHashIDPreimageSorobanAuthorization.nonce =
+          Int64.decodeInto(decodedHashIDPreimageSorobanAuthorization.nonce, stream);
+      decodedHashIDPreimageSorobanAuthorization.signatureExpirationLedger =
+          Uint32.decodeInto(
+              decodedHashIDPreimageSorobanAuthorization.signatureExpirationLedger, stream);
+      decodedHashIDPreimageSorobanAuthorization.invocation =
+          SorobanAuthorizedInvocation.decodeInto(
+              decodedHashIDPreimageSorobanAuthorization.invocation, stream);
+      return decodedHashIDPreimageSorobanAuthorization;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Hash.skip(stream);
+      Int64.skip(stream);
+      Uint32.skip(stream);
+      SorobanAuthorizedInvocation.skip(stream);
+    }
+
     public static HashIDPreimageSorobanAuthorization fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static HashIDPreimageSorobanAuthorization fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("network_id");
+      networkID.toJson(writer);
+      writer.name("nonce");
+      nonce.toJson(writer);
+      writer.name("signature_expiration_ledger");
+      signatureExpirationLedger.toJson(writer);
+      writer.name("invocation");
+      invocation.toJson(writer);
+      writer.endObject();
+    }
+
+    public static HashIDPreimageSorobanAuthorization fromJson(JsonReader reader)
+        throws IOException {
+      HashIDPreimageSorobanAuthorization decodedHashIDPreimageSorobanAuthorization =
+          new HashIDPreimageSorobanAuthorization();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "network_id":
+            decodedHashIDPreimageSorobanAuthorization.networkID = Hash.fromJson(reader);
+            break;
+          case "nonce":
+            decodedHashIDPreimageSorobanAuthorization.nonce = Int64.fromJson(reader);
+            break;
+          case "signature_expiration_ledger":
+            decodedHashIDPreimageSorobanAuthorization.signatureExpirationLedger =
+                Uint32.fromJson(reader);
+            break;
+          case "invocation":
+            decodedHashIDPreimageSorobanAuthorization.invocation =
+                SorobanAuthorizedInvocation.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown HashIDPreimageSorobanAuthorization field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedHashIDPreimageSorobanAuthorization;
+    }
+
+    public static HashIDPreimageSorobanAuthorization fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
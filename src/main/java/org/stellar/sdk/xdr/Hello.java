@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Hello's original definition in the XDR file is:
@@ -56,6 +56,20 @@ public class Hello implements XdrElement {
     nonce.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerVersion.encodedSize();
+    size += overlayVersion.encodedSize();
+    size += overlayMinVersion.encodedSize();
+    size += networkID.encodedSize();
+    size += versionStr.encodedSize();
+    size += 4;
+    size += peerID.encodedSize();
+    size += cert.encodedSize();
+    size += nonce.encodedSize();
+    return size;
+  }
+
   public static Hello decode(XdrDataInputStream stream) throws IOException {
     Hello decodedHello = new Hello();
     decodedHello.ledgerVersion = Uint32.decode(stream);
@@ -70,14 +84,108 @@ public class Hello implements XdrElement {
     return decodedHello;
   }
 
+  public static Hello decodeInto(Hello existing, XdrDataInputStream stream) throws IOException {
+    Hello decodedHello = existing != null ? existing : new Hello();
+    decodedHello.ledgerVersion = Uint32.decodeInto(decodedHello.ledgerVersion, stream);
+    decodedHello.overlayVersion = Uint32.decodeInto(decodedHello.overlayVersion, stream);
+    decodedHello.overlayMinVersion = Uint32.decodeInto(decodedHello.overlayMinVersion, stream);
+    decodedHello.networkID = Hash.decodeInto(decodedHello.networkID, stream);
+    decodedHello.versionStr = XdrString.decode(stream, 100);
+    decodedHello.listeningPort = stream.readInt();
+    decodedHello.peerID = NodeID.decodeInto(decodedHello.peerID, stream);
+    decodedHello.cert = AuthCert.decodeInto(decodedHello.cert, stream);
+    decodedHello.nonce = Uint256.decodeInto(decodedHello.nonce, stream);
+    return decodedHello;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Hash.skip(stream);
+    XdrString.skip(stream, 100);
+    stream.readInt();
+    NodeID.skip(stream);
+    AuthCert.skip(stream);
+    Uint256.skip(stream);
+  }
+
   public static Hello fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Hello fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_version");
+    ledgerVersion.toJson(writer);
+    writer.name("overlay_version");
+    overlayVersion.toJson(writer);
+    writer.name("overlay_min_version");
+    overlayMinVersion.toJson(writer);
+    writer.name("network_id");
+    networkID.toJson(writer);
+    writer.name("version_str");
+    versionStr.toJson(writer);
+    writer.name("listening_port");
+    writer.value(listeningPort);
+    writer.name("peer_id");
+    peerID.toJson(writer);
+    writer.name("cert");
+    cert.toJson(writer);
+    writer.name("nonce");
+    nonce.toJson(writer);
+    writer.endObject();
+  }
+
+  public static Hello fromJson(JsonReader reader) throws IOException {
+    Hello decodedHello = new Hello();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_version":
+          decodedHello.ledgerVersion = Uint32.fromJson(reader);
+          break;
+        case "overlay_version":
+          decodedHello.overlayVersion = Uint32.fromJson(reader);
+          break;
+        case "overlay_min_version":
+          decodedHello.overlayMinVersion = Uint32.fromJson(reader);
+          break;
+        case "network_id":
+          decodedHello.networkID = Hash.fromJson(reader);
+          break;
+        case "version_str":
+          decodedHello.versionStr = XdrString.fromJson(reader);
+          break;
+        case "listening_port":
+          decodedHello.listeningPort = reader.nextInt();
+          break;
+        case "peer_id":
+          decodedHello.peerID = NodeID.fromJson(reader);
+          break;
+        case "cert":
+          decodedHello.cert = AuthCert.fromJson(reader);
+          break;
+        case "nonce":
+          decodedHello.nonce = Uint256.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown Hello field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedHello;
+  }
+
+  public static Hello fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
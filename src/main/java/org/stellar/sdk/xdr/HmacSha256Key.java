@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * HmacSha256Key's original definition in the XDR file is:
@@ -33,6 +33,13 @@ public class HmacSha256Key implements XdrElement {
     stream.write(getKey(), 0, keySize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int keySize = key.length;
+    size += XdrDataOutputStream.paddedSize(keySize);
+    return size;
+  }
+
   public static HmacSha256Key decode(XdrDataInputStream stream) throws IOException {
     HmacSha256Key decodedHmacSha256Key = new HmacSha256Key();
     int keySize = 32;
@@ -41,14 +48,56 @@ public class HmacSha256Key implements XdrElement {
     return decodedHmacSha256Key;
   }
 
+  public static HmacSha256Key decodeInto(HmacSha256Key existing, XdrDataInputStream stream)
+      throws IOException {
+    HmacSha256Key decodedHmacSha256Key = existing != null ? existing : new HmacSha256Key();
+    int keySize = 32;
+    decodedHmacSha256Key.key = XdrRecycler.resize(decodedHmacSha256Key.key, keySize);
+    stream.read(decodedHmacSha256Key.key, 0, keySize);
+    return decodedHmacSha256Key;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int keySize = 32;
+    stream.skipOpaque(keySize);
+  }
+
   public static HmacSha256Key fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static HmacSha256Key fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("key");
+    XdrJson.writeHex(writer, key);
+    writer.endObject();
+  }
+
+  public static HmacSha256Key fromJson(JsonReader reader) throws IOException {
+    HmacSha256Key decodedHmacSha256Key = new HmacSha256Key();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "key":
+          decodedHmacSha256Key.key = XdrJson.readHex(reader, 32);
+          break;
+        default:
+          throw new IOException("Unknown HmacSha256Key field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedHmacSha256Key;
+  }
+
+  public static HmacSha256Key fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
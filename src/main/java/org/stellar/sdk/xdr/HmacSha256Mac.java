@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * HmacSha256Mac's original definition in the XDR file is:
@@ -33,6 +33,13 @@ public class HmacSha256Mac implements XdrElement {
     stream.write(getMac(), 0, macSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int macSize = mac.length;
+    size += XdrDataOutputStream.paddedSize(macSize);
+    return size;
+  }
+
   public static HmacSha256Mac decode(XdrDataInputStream stream) throws IOException {
     HmacSha256Mac decodedHmacSha256Mac = new HmacSha256Mac();
     int macSize = 32;
@@ -41,14 +48,56 @@ public class HmacSha256Mac implements XdrElement {
     return decodedHmacSha256Mac;
   }
 
+  public static HmacSha256Mac decodeInto(HmacSha256Mac existing, XdrDataInputStream stream)
+      throws IOException {
+    HmacSha256Mac decodedHmacSha256Mac = existing != null ? existing : new HmacSha256Mac();
+    int macSize = 32;
+    decodedHmacSha256Mac.mac = XdrRecycler.resize(decodedHmacSha256Mac.mac, macSize);
+    stream.read(decodedHmacSha256Mac.mac, 0, macSize);
+    return decodedHmacSha256Mac;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int macSize = 32;
+    stream.skipOpaque(macSize);
+  }
+
   public static HmacSha256Mac fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static HmacSha256Mac fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("mac");
+    XdrJson.writeHex(writer, mac);
+    writer.endObject();
+  }
+
+  public static HmacSha256Mac fromJson(JsonReader reader) throws IOException {
+    HmacSha256Mac decodedHmacSha256Mac = new HmacSha256Mac();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "mac":
+          decodedHmacSha256Mac.mac = XdrJson.readHex(reader, 32);
+          break;
+        default:
+          throw new IOException("Unknown HmacSha256Mac field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedHmacSha256Mac;
+  }
+
+  public static HmacSha256Mac fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
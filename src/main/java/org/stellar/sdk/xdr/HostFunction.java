@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * HostFunction's original definition in the XDR file is:
@@ -59,6 +59,28 @@ public class HostFunction implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case HOST_FUNCTION_TYPE_INVOKE_CONTRACT:
+        size += invokeContract.encodedSize();
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT:
+        size += createContract.encodedSize();
+        break;
+      case HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM:
+        int wasmSize = wasm.length;
+        size += 4;
+        size += XdrDataOutputStream.paddedSize(wasmSize);
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2:
+        size += createContractV2.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static HostFunction decode(XdrDataInputStream stream) throws IOException {
     HostFunction decodedHostFunction = new HostFunction();
     HostFunctionType discriminant = HostFunctionType.decode(stream);
@@ -71,7 +93,7 @@ public class HostFunction implements XdrElement {
         decodedHostFunction.createContract = CreateContractArgs.decode(stream);
         break;
       case HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM:
-        int wasmSize = stream.readInt();
+        int wasmSize = stream.readLength(1);
         decodedHostFunction.wasm = new byte[wasmSize];
         stream.read(decodedHostFunction.wasm, 0, wasmSize);
         break;
@@ -82,14 +104,127 @@ public class HostFunction implements XdrElement {
     return decodedHostFunction;
   }
 
+  public static HostFunction decodeInto(HostFunction existing, XdrDataInputStream stream)
+      throws IOException {
+    HostFunctionType discriminant = HostFunctionType.decode(stream);
+    HostFunction decodedHostFunction =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new HostFunction();
+    decodedHostFunction.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case HOST_FUNCTION_TYPE_INVOKE_CONTRACT:
+        decodedHostFunction.invokeContract =
+            InvokeContractArgs.decodeInto(decodedHostFunction.invokeContract, stream);
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT:
+        decodedHostFunction.createContract =
+            CreateContractArgs.decodeInto(decodedHostFunction.createContract, stream);
+        break;
+      case HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM:
+        int wasmSize = stream.readLength(1);
+        decodedHostFunction.wasm = XdrRecycler.resize(decodedHostFunction.wasm, wasmSize);
+        stream.read(decodedHostFunction.wasm, 0, wasmSize);
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2:
+        decodedHostFunction.createContractV2 =
+            CreateContractArgsV2.decodeInto(decodedHostFunction.createContractV2, stream);
+        break;
+    }
+    return decodedHostFunction;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    HostFunctionType discriminant = HostFunctionType.decode(stream);
+    switch (discriminant) {
+      case HOST_FUNCTION_TYPE_INVOKE_CONTRACT:
+        InvokeContractArgs.skip(stream);
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT:
+        CreateContractArgs.skip(stream);
+        break;
+      case HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM:
+        int wasmSize = stream.readLength(Integer.MAX_VALUE, 1);
+        stream.skipOpaque(wasmSize);
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2:
+        CreateContractArgsV2.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown HostFunction discriminant: " + discriminant);
+    }
+  }
+
   public static HostFunction fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static HostFunction fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case HOST_FUNCTION_TYPE_INVOKE_CONTRACT:
+        writer.beginObject();
+        writer.name("invoke_contract");
+        invokeContract.toJson(writer);
+        writer.endObject();
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT:
+        writer.beginObject();
+        writer.name("create_contract");
+        createContract.toJson(writer);
+        writer.endObject();
+        break;
+      case HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM:
+        writer.beginObject();
+        writer.name("upload_contract_wasm");
+        XdrJson.writeHex(writer, wasm);
+        writer.endObject();
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2:
+        writer.beginObject();
+        writer.name("create_contract_v2");
+        createContractV2.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static HostFunction fromJson(JsonReader reader) throws IOException {
+    HostFunction decodedHostFunction = new HostFunction();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "invoke_contract":
+        decodedHostFunction.setDiscriminant(HostFunctionType.HOST_FUNCTION_TYPE_INVOKE_CONTRACT);
+        decodedHostFunction.invokeContract = InvokeContractArgs.fromJson(reader);
+        break;
+      case "create_contract":
+        decodedHostFunction.setDiscriminant(HostFunctionType.HOST_FUNCTION_TYPE_CREATE_CONTRACT);
+        decodedHostFunction.createContract = CreateContractArgs.fromJson(reader);
+        break;
+      case "upload_contract_wasm":
+        decodedHostFunction.setDiscriminant(
+            HostFunctionType.HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM);
+        decodedHostFunction.wasm = XdrJson.readHex(reader);
+        break;
+      case "create_contract_v2":
+        decodedHostFunction.setDiscriminant(HostFunctionType.HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2);
+        decodedHostFunction.createContractV2 = CreateContractArgsV2.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown HostFunction arm: " + key);
+    }
+    reader.endObject();
+    return decodedHostFunction;
+  }
+
+  public static HostFunction fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * HostFunctionType's original definition in the XDR file is:
@@ -52,18 +52,63 @@ public enum HostFunctionType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static HostFunctionType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static HostFunctionType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case HOST_FUNCTION_TYPE_INVOKE_CONTRACT:
+        writer.value("invoke_contract");
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT:
+        writer.value("create_contract");
+        break;
+      case HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM:
+        writer.value("upload_contract_wasm");
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2:
+        writer.value("create_contract_v2");
+        break;
+    }
+  }
+
+  public static HostFunctionType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "invoke_contract":
+        return HOST_FUNCTION_TYPE_INVOKE_CONTRACT;
+      case "create_contract":
+        return HOST_FUNCTION_TYPE_CREATE_CONTRACT;
+      case "upload_contract_wasm":
+        return HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM;
+      case "create_contract_v2":
+        return HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2;
+      default:
+        throw new IOException("Unknown HostFunctionType value: " + value);
+    }
+  }
+
+  public static HostFunctionType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * HotArchiveBucketEntry's original definition in the XDR file is:
@@ -52,6 +52,23 @@ public class HotArchiveBucketEntry implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case HOT_ARCHIVE_ARCHIVED:
+        size += archivedEntry.encodedSize();
+        break;
+      case HOT_ARCHIVE_LIVE:
+        size += key.encodedSize();
+        break;
+      case HOT_ARCHIVE_METAENTRY:
+        size += metaEntry.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static HotArchiveBucketEntry decode(XdrDataInputStream stream) throws IOException {
     HotArchiveBucketEntry decodedHotArchiveBucketEntry = new HotArchiveBucketEntry();
     HotArchiveBucketEntryType discriminant = HotArchiveBucketEntryType.decode(stream);
@@ -70,14 +87,109 @@ public class HotArchiveBucketEntry implements XdrElement {
     return decodedHotArchiveBucketEntry;
   }
 
+  public static HotArchiveBucketEntry decodeInto(
+      HotArchiveBucketEntry existing, XdrDataInputStream stream) throws IOException {
+    HotArchiveBucketEntryType discriminant = HotArchiveBucketEntryType.decode(stream);
+    HotArchiveBucketEntry decodedHotArchiveBucketEntry =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new HotArchiveBucketEntry();
+    decodedHotArchiveBucketEntry.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case HOT_ARCHIVE_ARCHIVED:
+        decodedHotArchiveBucketEntry.archivedEntry =
+            LedgerEntry.decodeInto(decodedHotArchiveBucketEntry.archivedEntry, stream);
+        break;
+      case HOT_ARCHIVE_LIVE:
+        decodedHotArchiveBucketEntry.key =
+            LedgerKey.decodeInto(decodedHotArchiveBucketEntry.key, stream);
+        break;
+      case HOT_ARCHIVE_METAENTRY:
+        decodedHotArchiveBucketEntry.metaEntry =
+            BucketMetadata.decodeInto(decodedHotArchiveBucketEntry.metaEntry, stream);
+        break;
+    }
+    return decodedHotArchiveBucketEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    HotArchiveBucketEntryType discriminant = HotArchiveBucketEntryType.decode(stream);
+    switch (discriminant) {
+      case HOT_ARCHIVE_ARCHIVED:
+        LedgerEntry.skip(stream);
+        break;
+      case HOT_ARCHIVE_LIVE:
+        LedgerKey.skip(stream);
+        break;
+      case HOT_ARCHIVE_METAENTRY:
+        BucketMetadata.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown HotArchiveBucketEntry discriminant: " + discriminant);
+    }
+  }
+
   public static HotArchiveBucketEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static HotArchiveBucketEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case HOT_ARCHIVE_ARCHIVED:
+        writer.beginObject();
+        writer.name("archived");
+        archivedEntry.toJson(writer);
+        writer.endObject();
+        break;
+      case HOT_ARCHIVE_LIVE:
+        writer.beginObject();
+        writer.name("live");
+        key.toJson(writer);
+        writer.endObject();
+        break;
+      case HOT_ARCHIVE_METAENTRY:
+        writer.beginObject();
+        writer.name("metaentry");
+        metaEntry.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static HotArchiveBucketEntry fromJson(JsonReader reader) throws IOException {
+    HotArchiveBucketEntry decodedHotArchiveBucketEntry = new HotArchiveBucketEntry();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "archived":
+        decodedHotArchiveBucketEntry.setDiscriminant(
+            HotArchiveBucketEntryType.HOT_ARCHIVE_ARCHIVED);
+        decodedHotArchiveBucketEntry.archivedEntry = LedgerEntry.fromJson(reader);
+        break;
+      case "live":
+        decodedHotArchiveBucketEntry.setDiscriminant(HotArchiveBucketEntryType.HOT_ARCHIVE_LIVE);
+        decodedHotArchiveBucketEntry.key = LedgerKey.fromJson(reader);
+        break;
+      case "metaentry":
+        decodedHotArchiveBucketEntry.setDiscriminant(
+            HotArchiveBucketEntryType.HOT_ARCHIVE_METAENTRY);
+        decodedHotArchiveBucketEntry.metaEntry = BucketMetadata.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown HotArchiveBucketEntry arm: " + key);
+    }
+    reader.endObject();
+    return decodedHotArchiveBucketEntry;
+  }
+
+  public static HotArchiveBucketEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
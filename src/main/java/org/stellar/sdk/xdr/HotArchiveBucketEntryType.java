@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * HotArchiveBucketEntryType's original definition in the XDR file is:
@@ -50,18 +50,58 @@ public enum HotArchiveBucketEntryType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static HotArchiveBucketEntryType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static HotArchiveBucketEntryType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case HOT_ARCHIVE_METAENTRY:
+        writer.value("metaentry");
+        break;
+      case HOT_ARCHIVE_ARCHIVED:
+        writer.value("archived");
+        break;
+      case HOT_ARCHIVE_LIVE:
+        writer.value("live");
+        break;
+    }
+  }
+
+  public static HotArchiveBucketEntryType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "metaentry":
+        return HOT_ARCHIVE_METAENTRY;
+      case "archived":
+        return HOT_ARCHIVE_ARCHIVED;
+      case "live":
+        return HOT_ARCHIVE_LIVE;
+      default:
+        throw new IOException("Unknown HotArchiveBucketEntryType value: " + value);
+    }
+  }
+
+  public static HotArchiveBucketEntryType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
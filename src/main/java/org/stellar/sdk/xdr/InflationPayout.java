@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * InflationPayout's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class InflationPayout implements XdrElement {
     amount.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += destination.encodedSize();
+    size += amount.encodedSize();
+    return size;
+  }
+
   public static InflationPayout decode(XdrDataInputStream stream) throws IOException {
     InflationPayout decodedInflationPayout = new InflationPayout();
     decodedInflationPayout.destination = AccountID.decode(stream);
@@ -42,14 +49,61 @@ public class InflationPayout implements XdrElement {
     return decodedInflationPayout;
   }
 
+  public static InflationPayout decodeInto(InflationPayout existing, XdrDataInputStream stream)
+      throws IOException {
+    InflationPayout decodedInflationPayout = existing != null ? existing : new InflationPayout();
+    decodedInflationPayout.destination =
+        AccountID.decodeInto(decodedInflationPayout.destination, stream);
+    decodedInflationPayout.amount = Int64.decodeInto(decodedInflationPayout.amount, stream);
+    return decodedInflationPayout;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static InflationPayout fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static InflationPayout fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("destination");
+    destination.toJson(writer);
+    writer.name("amount");
+    amount.toJson(writer);
+    writer.endObject();
+  }
+
+  public static InflationPayout fromJson(JsonReader reader) throws IOException {
+    InflationPayout decodedInflationPayout = new InflationPayout();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "destination":
+          decodedInflationPayout.destination = AccountID.fromJson(reader);
+          break;
+        case "amount":
+          decodedInflationPayout.amount = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown InflationPayout field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedInflationPayout;
+  }
+
+  public static InflationPayout fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
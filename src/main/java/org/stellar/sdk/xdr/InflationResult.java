@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * InflationResult's original definition in the XDR file is:
@@ -47,13 +48,30 @@ public class InflationResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case INFLATION_SUCCESS:
+        int payoutsSize = getPayouts().length;
+        size += 4;
+        for (int i = 0; i < payoutsSize; i++) {
+          size += payouts[i].encodedSize();
+        }
+        break;
+      case INFLATION_NOT_TIME:
+        break;
+    }
+    return size;
+  }
+
   public static InflationResult decode(XdrDataInputStream stream) throws IOException {
     InflationResult decodedInflationResult = new InflationResult();
     InflationResultCode discriminant = InflationResultCode.decode(stream);
     decodedInflationResult.setDiscriminant(discriminant);
     switch (decodedInflationResult.getDiscriminant()) {
       case INFLATION_SUCCESS:
-        int payoutsSize = stream.readInt();
+        int payoutsSize = stream.readLength(4);
         decodedInflationResult.payouts = new InflationPayout[payoutsSize];
         for (int i = 0; i < payoutsSize; i++) {
           decodedInflationResult.payouts[i] = InflationPayout.decode(stream);
@@ -65,14 +83,100 @@ public class InflationResult implements XdrElement {
     return decodedInflationResult;
   }
 
+  public static InflationResult decodeInto(InflationResult existing, XdrDataInputStream stream)
+      throws IOException {
+    InflationResultCode discriminant = InflationResultCode.decode(stream);
+    InflationResult decodedInflationResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new InflationResult();
+    decodedInflationResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case INFLATION_SUCCESS:
+        int payoutsSize = stream.readLength(4);
+        decodedInflationResult.payouts =
+            XdrRecycler.resize(decodedInflationResult.payouts, payoutsSize, InflationPayout[]::new);
+        for (int i = 0; i < payoutsSize; i++) {
+          decodedInflationResult.payouts[i] =
+              InflationPayout.decodeInto(decodedInflationResult.payouts[i], stream);
+        }
+        break;
+      case INFLATION_NOT_TIME:
+        break;
+    }
+    return decodedInflationResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    InflationResultCode discriminant = InflationResultCode.decode(stream);
+    switch (discriminant) {
+      case INFLATION_SUCCESS:
+        int payoutsSize = stream.readLength(Integer.MAX_VALUE, 4);
+        for (int i = 0; i < payoutsSize; i++) {
+          InflationPayout.skip(stream);
+        }
+        break;
+      case INFLATION_NOT_TIME:
+        break;
+      default:
+        throw new IOException("Unknown InflationResult discriminant: " + discriminant);
+    }
+  }
+
   public static InflationResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static InflationResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case INFLATION_SUCCESS:
+        writer.beginObject();
+        writer.name("success");
+        XdrJson.writeArray(writer, payouts);
+        writer.endObject();
+        break;
+      case INFLATION_NOT_TIME:
+        writer.value("not_time");
+        break;
+    }
+  }
+
+  public static InflationResult fromJson(JsonReader reader) throws IOException {
+    InflationResult decodedInflationResult = new InflationResult();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "not_time":
+          decodedInflationResult.setDiscriminant(InflationResultCode.INFLATION_NOT_TIME);
+          break;
+        default:
+          throw new IOException("Unknown InflationResult arm: " + key);
+      }
+      return decodedInflationResult;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "success":
+        decodedInflationResult.setDiscriminant(InflationResultCode.INFLATION_SUCCESS);
+        decodedInflationResult.payouts =
+            XdrJson.readArray(reader, InflationPayout[]::new, InflationPayout::fromJson);
+        break;
+      default:
+        throw new IOException("Unknown InflationResult arm: " + key);
+    }
+    reader.endObject();
+    return decodedInflationResult;
+  }
+
+  public static InflationResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
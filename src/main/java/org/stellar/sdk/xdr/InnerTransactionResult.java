@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * InnerTransactionResult's original definition in the XDR file is:
@@ -71,6 +72,14 @@ public class InnerTransactionResult implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += feeCharged.encodedSize();
+    size += result.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static InnerTransactionResult decode(XdrDataInputStream stream) throws IOException {
     InnerTransactionResult decodedInnerTransactionResult = new InnerTransactionResult();
     decodedInnerTransactionResult.feeCharged = Int64.decode(stream);
@@ -79,17 +88,74 @@ public class InnerTransactionResult implements XdrElement {
     return decodedInnerTransactionResult;
   }
 
+  public static InnerTransactionResult decodeInto(
+      InnerTransactionResult existing, XdrDataInputStream stream) throws IOException {
+    InnerTransactionResult decodedInnerTransactionResult =
+        existing != null ? existing : new InnerTransactionResult();
+    decodedInnerTransactionResult.feeCharged =
+        Int64.decodeInto(decodedInnerTransactionResult.feeCharged, stream);
+    decodedInnerTransactionResult.result =
+        InnerTransactionResultResult.decodeInto(decodedInnerTransactionResult.result, stream);
+    decodedInnerTransactionResult.ext =
+        InnerTransactionResultExt.decodeInto(decodedInnerTransactionResult.ext, stream);
+    return decodedInnerTransactionResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int64.skip(stream);
+    InnerTransactionResultResult.skip(stream);
+    InnerTransactionResultExt.skip(stream);
+  }
+
   public static InnerTransactionResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static InnerTransactionResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("fee_charged");
+    feeCharged.toJson(writer);
+    writer.name("result");
+    result.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static InnerTransactionResult fromJson(JsonReader reader) throws IOException {
+    InnerTransactionResult decodedInnerTransactionResult = new InnerTransactionResult();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "fee_charged":
+          decodedInnerTransactionResult.feeCharged = Int64.fromJson(reader);
+          break;
+        case "result":
+          decodedInnerTransactionResult.result = InnerTransactionResultResult.fromJson(reader);
+          break;
+        case "ext":
+          decodedInnerTransactionResult.ext = InnerTransactionResultExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown InnerTransactionResult field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedInnerTransactionResult;
+  }
+
+  public static InnerTransactionResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * InnerTransactionResultResult's original definition in the XDR file is:
    *
@@ -158,6 +224,38 @@ public class InnerTransactionResult implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case txSUCCESS:
+        case txFAILED:
+          int resultsSize = getResults().length;
+          size += 4;
+          for (int i = 0; i < resultsSize; i++) {
+            size += results[i].encodedSize();
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+          break;
+      }
+      return size;
+    }
+
     public static InnerTransactionResultResult decode(XdrDataInputStream stream)
         throws IOException {
       InnerTransactionResultResult decodedInnerTransactionResultResult =
@@ -167,7 +265,7 @@ public class InnerTransactionResult implements XdrElement {
       switch (decodedInnerTransactionResultResult.getDiscriminant()) {
         case txSUCCESS:
         case txFAILED:
-          int resultsSize = stream.readInt();
+          int resultsSize = stream.readLength(4);
           decodedInnerTransactionResultResult.results = new OperationResult[resultsSize];
           for (int i = 0; i < resultsSize; i++) {
             decodedInnerTransactionResultResult.results[i] = OperationResult.decode(stream);
@@ -193,16 +291,239 @@ public class InnerTransactionResult implements XdrElement {
       return decodedInnerTransactionResultResult;
     }
 
+    public static InnerTransactionResultResult decodeInto(
+        InnerTransactionResultResult existing, XdrDataInputStream stream) throws IOException {
+      TransactionResultCode discriminant = TransactionResultCode.decode(stream);
+      InnerTransactionResultResult decodedInnerTransactionResultResult =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new InnerTransactionResultResult();
+      decodedInnerTransactionResultResult.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case txSUCCESS:
+        case txFAILED:
+          int resultsSize = stream.readLength(4);
+          decodedInnerTransactionResultResult.results =
+              XdrRecycler.resize(
+                  decodedInnerTransactionResultResult.results, resultsSize, OperationResult[]::new);
+          for (int i = 0; i < resultsSize; i++) {
+            decodedInnerTransactionResultResult.results[i] =
+                OperationResult.decodeInto(decodedInnerTransactionResultResult.results[i], stream);
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+          break;
+      }
+      return decodedInnerTransactionResultResult;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      TransactionResultCode discriminant = TransactionResultCode.decode(stream);
+      switch (discriminant) {
+        case txSUCCESS:
+        case txFAILED:
+          int resultsSize = stream.readLength(Integer.MAX_VALUE, 4);
+          for (int i = 0; i < resultsSize; i++) {
+            OperationResult.skip(stream);
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+          break;
+        default:
+          throw new IOException(
+              "Unknown InnerTransactionResultResult discriminant: " + discriminant);
+      }
+    }
+
     public static InnerTransactionResultResult fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static InnerTransactionResultResult fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case txSUCCESS:
+          writer.beginObject();
+          writer.name("tx_success");
+          XdrJson.writeArray(writer, results);
+          writer.endObject();
+          break;
+        case txFAILED:
+          writer.beginObject();
+          writer.name("tx_failed");
+          XdrJson.writeArray(writer, results);
+          writer.endObject();
+          break;
+        case txTOO_EARLY:
+          writer.value("tx_too_early");
+          break;
+        case txTOO_LATE:
+          writer.value("tx_too_late");
+          break;
+        case txMISSING_OPERATION:
+          writer.value("tx_missing_operation");
+          break;
+        case txBAD_SEQ:
+          writer.value("tx_bad_seq");
+          break;
+        case txBAD_AUTH:
+          writer.value("tx_bad_auth");
+          break;
+        case txINSUFFICIENT_BALANCE:
+          writer.value("tx_insufficient_balance");
+          break;
+        case txNO_ACCOUNT:
+          writer.value("tx_no_account");
+          break;
+        case txINSUFFICIENT_FEE:
+          writer.value("tx_insufficient_fee");
+          break;
+        case txBAD_AUTH_EXTRA:
+          writer.value("tx_bad_auth_extra");
+          break;
+        case txINTERNAL_ERROR:
+          writer.value("tx_internal_error");
+          break;
+        case txNOT_SUPPORTED:
+          writer.value("tx_not_supported");
+          break;
+        case txBAD_SPONSORSHIP:
+          writer.value("tx_bad_sponsorship");
+          break;
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+          writer.value("tx_bad_min_seq_age_or_gap");
+          break;
+        case txMALFORMED:
+          writer.value("tx_malformed");
+          break;
+        case txSOROBAN_INVALID:
+          writer.value("tx_soroban_invalid");
+          break;
+      }
+    }
+
+    public static InnerTransactionResultResult fromJson(JsonReader reader) throws IOException {
+      InnerTransactionResultResult decodedInnerTransactionResultResult =
+          new InnerTransactionResultResult();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "tx_too_early":
+            decodedInnerTransactionResultResult.setDiscriminant(TransactionResultCode.txTOO_EARLY);
+            break;
+          case "tx_too_late":
+            decodedInnerTransactionResultResult.setDiscriminant(TransactionResultCode.txTOO_LATE);
+            break;
+          case "tx_missing_operation":
+            decodedInnerTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txMISSING_OPERATION);
+            break;
+          case "tx_bad_seq":
+            decodedInnerTransactionResultResult.setDiscriminant(TransactionResultCode.txBAD_SEQ);
+            break;
+          case "tx_bad_auth":
+            decodedInnerTransactionResultResult.setDiscriminant(TransactionResultCode.txBAD_AUTH);
+            break;
+          case "tx_insufficient_balance":
+            decodedInnerTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txINSUFFICIENT_BALANCE);
+            break;
+          case "tx_no_account":
+            decodedInnerTransactionResultResult.setDiscriminant(TransactionResultCode.txNO_ACCOUNT);
+            break;
+          case "tx_insufficient_fee":
+            decodedInnerTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txINSUFFICIENT_FEE);
+            break;
+          case "tx_bad_auth_extra":
+            decodedInnerTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txBAD_AUTH_EXTRA);
+            break;
+          case "tx_internal_error":
+            decodedInnerTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txINTERNAL_ERROR);
+            break;
+          case "tx_not_supported":
+            decodedInnerTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txNOT_SUPPORTED);
+            break;
+          case "tx_bad_sponsorship":
+            decodedInnerTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txBAD_SPONSORSHIP);
+            break;
+          case "tx_bad_min_seq_age_or_gap":
+            decodedInnerTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txBAD_MIN_SEQ_AGE_OR_GAP);
+            break;
+          case "tx_malformed":
+            decodedInnerTransactionResultResult.setDiscriminant(TransactionResultCode.txMALFORMED);
+            break;
+          case "tx_soroban_invalid":
+            decodedInnerTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txSOROBAN_INVALID);
+            break;
+          default:
+            throw new IOException("Unknown InnerTransactionResultResult arm: " + key);
+        }
+        return decodedInnerTransactionResultResult;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "tx_success":
+          decodedInnerTransactionResultResult.setDiscriminant(TransactionResultCode.txSUCCESS);
+          decodedInnerTransactionResultResult.results =
+              XdrJson.readArray(reader, OperationResult[]::new, OperationResult::fromJson);
+          break;
+        case "tx_failed":
+          decodedInnerTransactionResultResult.setDiscriminant(TransactionResultCode.txFAILED);
+          decodedInnerTransactionResultResult.results =
+              XdrJson.readArray(reader, OperationResult[]::new, OperationResult::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown InnerTransactionResultResult arm: " + key);
+      }
+      reader.endObject();
+      return decodedInnerTransactionResultResult;
+    }
+
+    public static InnerTransactionResultResult fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -231,6 +552,16 @@ public class InnerTransactionResult implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static InnerTransactionResultExt decode(XdrDataInputStream stream) throws IOException {
       InnerTransactionResultExt decodedInnerTransactionResultExt = new InnerTransactionResultExt();
       Integer discriminant = stream.readInt();
@@ -242,15 +573,65 @@ public class InnerTransactionResult implements XdrElement {
       return decodedInnerTransactionResultExt;
     }
 
+    public static InnerTransactionResultExt decodeInto(
+        InnerTransactionResultExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      InnerTransactionResultExt decodedInnerTransactionResultExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new InnerTransactionResultExt();
+      decodedInnerTransactionResultExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedInnerTransactionResultExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown InnerTransactionResultExt discriminant: " + discriminant);
+      }
+    }
+
     public static InnerTransactionResultExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static InnerTransactionResultExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static InnerTransactionResultExt fromJson(JsonReader reader) throws IOException {
+      InnerTransactionResultExt decodedInnerTransactionResultExt = new InnerTransactionResultExt();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedInnerTransactionResultExt.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown InnerTransactionResultExt arm: " + key);
+      }
+      return decodedInnerTransactionResultExt;
+    }
+
+    public static InnerTransactionResultExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * InnerTransactionResultPair's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class InnerTransactionResultPair implements XdrElement {
     result.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += transactionHash.encodedSize();
+    size += result.encodedSize();
+    return size;
+  }
+
   public static InnerTransactionResultPair decode(XdrDataInputStream stream) throws IOException {
     InnerTransactionResultPair decodedInnerTransactionResultPair = new InnerTransactionResultPair();
     decodedInnerTransactionResultPair.transactionHash = Hash.decode(stream);
@@ -42,14 +49,63 @@ public class InnerTransactionResultPair implements XdrElement {
     return decodedInnerTransactionResultPair;
   }
 
+  public static InnerTransactionResultPair decodeInto(
+      InnerTransactionResultPair existing, XdrDataInputStream stream) throws IOException {
+    InnerTransactionResultPair decodedInnerTransactionResultPair =
+        existing != null ? existing : new InnerTransactionResultPair();
+    decodedInnerTransactionResultPair.transactionHash =
+        Hash.decodeInto(decodedInnerTransactionResultPair.transactionHash, stream);
+    decodedInnerTransactionResultPair.result =
+        InnerTransactionResult.decodeInto(decodedInnerTransactionResultPair.result, stream);
+    return decodedInnerTransactionResultPair;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+    InnerTransactionResult.skip(stream);
+  }
+
   public static InnerTransactionResultPair fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static InnerTransactionResultPair fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("transaction_hash");
+    transactionHash.toJson(writer);
+    writer.name("result");
+    result.toJson(writer);
+    writer.endObject();
+  }
+
+  public static InnerTransactionResultPair fromJson(JsonReader reader) throws IOException {
+    InnerTransactionResultPair decodedInnerTransactionResultPair = new InnerTransactionResultPair();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "transaction_hash":
+          decodedInnerTransactionResultPair.transactionHash = Hash.fromJson(reader);
+          break;
+        case "result":
+          decodedInnerTransactionResultPair.result = InnerTransactionResult.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown InnerTransactionResultPair field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedInnerTransactionResultPair;
+  }
+
+  public static InnerTransactionResultPair fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
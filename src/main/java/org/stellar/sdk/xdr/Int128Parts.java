@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Int128Parts's original definition in the XDR file is:
@@ -34,6 +34,13 @@ public class Int128Parts implements XdrElement {
     lo.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += hi.encodedSize();
+    size += lo.encodedSize();
+    return size;
+  }
+
   public static Int128Parts decode(XdrDataInputStream stream) throws IOException {
     Int128Parts decodedInt128Parts = new Int128Parts();
     decodedInt128Parts.hi = Int64.decode(stream);
@@ -41,14 +48,44 @@ public class Int128Parts implements XdrElement {
     return decodedInt128Parts;
   }
 
+  public static Int128Parts decodeInto(Int128Parts existing, XdrDataInputStream stream)
+      throws IOException {
+    Int128Parts decodedInt128Parts = existing != null ? existing : new Int128Parts();
+    decodedInt128Parts.hi = Int64.decodeInto(decodedInt128Parts.hi, stream);
+    decodedInt128Parts.lo = Uint64.decodeInto(decodedInt128Parts.lo, stream);
+    return decodedInt128Parts;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int64.skip(stream);
+    Uint64.skip(stream);
+  }
+
   public static Int128Parts fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Int128Parts fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    long[] parts = {hi.getInt64(), XdrJson.bits(lo)};
+    writer.value(XdrJson.joinParts(parts, true).toString());
+  }
+
+  public static Int128Parts fromJson(JsonReader reader) throws IOException {
+    long[] parts = XdrJson.splitParts(XdrJson.readInteger(reader), 2, true);
+    Int128Parts decodedInt128Parts = new Int128Parts();
+    decodedInt128Parts.hi = new Int64(parts[0]);
+    decodedInt128Parts.lo = XdrJson.uint64(parts[1]);
+    return decodedInt128Parts;
+  }
+
+  public static Int128Parts fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Int256Parts's original definition in the XDR file is:
@@ -40,6 +40,15 @@ public class Int256Parts implements XdrElement {
     lo_lo.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += hi_hi.encodedSize();
+    size += hi_lo.encodedSize();
+    size += lo_hi.encodedSize();
+    size += lo_lo.encodedSize();
+    return size;
+  }
+
   public static Int256Parts decode(XdrDataInputStream stream) throws IOException {
     Int256Parts decodedInt256Parts = new Int256Parts();
     decodedInt256Parts.hi_hi = Int64.decode(stream);
@@ -49,14 +58,52 @@ public class Int256Parts implements XdrElement {
     return decodedInt256Parts;
   }
 
+  public static Int256Parts decodeInto(Int256Parts existing, XdrDataInputStream stream)
+      throws IOException {
+    Int256Parts decodedInt256Parts = existing != null ? existing : new Int256Parts();
+    decodedInt256Parts.hi_hi = Int64.decodeInto(decodedInt256Parts.hi_hi, stream);
+    decodedInt256Parts.hi_lo = Uint64.decodeInto(decodedInt256Parts.hi_lo, stream);
+    decodedInt256Parts.lo_hi = Uint64.decodeInto(decodedInt256Parts.lo_hi, stream);
+    decodedInt256Parts.lo_lo = Uint64.decodeInto(decodedInt256Parts.lo_lo, stream);
+    return decodedInt256Parts;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+  }
+
   public static Int256Parts fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Int256Parts fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    long[] parts = {
+      hi_hi.getInt64(), XdrJson.bits(hi_lo), XdrJson.bits(lo_hi), XdrJson.bits(lo_lo)
+    };
+    writer.value(XdrJson.joinParts(parts, true).toString());
+  }
+
+  public static Int256Parts fromJson(JsonReader reader) throws IOException {
+    long[] parts = XdrJson.splitParts(XdrJson.readInteger(reader), 4, true);
+    Int256Parts decodedInt256Parts = new Int256Parts();
+    decodedInt256Parts.hi_hi = new Int64(parts[0]);
+    decodedInt256Parts.hi_lo = XdrJson.uint64(parts[1]);
+    decodedInt256Parts.lo_hi = XdrJson.uint64(parts[2]);
+    decodedInt256Parts.lo_lo = XdrJson.uint64(parts[3]);
+    return decodedInt256Parts;
+  }
+
+  public static Int256Parts fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Int32's original definition in the XDR file is:
@@ -27,20 +27,48 @@ public class Int32 implements XdrElement {
     stream.writeInt(int32);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static Int32 decode(XdrDataInputStream stream) throws IOException {
     Int32 decodedInt32 = new Int32();
     decodedInt32.int32 = stream.readInt();
     return decodedInt32;
   }
 
+  public static Int32 decodeInto(Int32 existing, XdrDataInputStream stream) throws IOException {
+    Int32 decodedInt32 = existing != null ? existing : new Int32();
+    decodedInt32.int32 = stream.readInt();
+    return decodedInt32;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.readInt();
+  }
+
   public static Int32 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Int32 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.value(int32);
+  }
+
+  public static Int32 fromJson(JsonReader reader) throws IOException {
+    Int32 decodedInt32 = new Int32();
+    decodedInt32.int32 = reader.nextInt();
+    return decodedInt32;
+  }
+
+  public static Int32 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Int64's original definition in the XDR file is:
@@ -27,20 +27,48 @@ public class Int64 implements XdrElement {
     stream.writeLong(int64);
   }
 
+  public int encodedSize() {
+    return 8;
+  }
+
   public static Int64 decode(XdrDataInputStream stream) throws IOException {
     Int64 decodedInt64 = new Int64();
     decodedInt64.int64 = stream.readLong();
     return decodedInt64;
   }
 
+  public static Int64 decodeInto(Int64 existing, XdrDataInputStream stream) throws IOException {
+    Int64 decodedInt64 = existing != null ? existing : new Int64();
+    decodedInt64.int64 = stream.readLong();
+    return decodedInt64;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.readLong();
+  }
+
   public static Int64 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Int64 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.value(int64.toString());
+  }
+
+  public static Int64 fromJson(JsonReader reader) throws IOException {
+    Int64 decodedInt64 = new Int64();
+    decodedInt64.int64 = reader.nextLong();
+    return decodedInt64;
+  }
+
+  public static Int64 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * InvokeContractArgs's original definition in the XDR file is:
@@ -41,11 +41,23 @@ public class InvokeContractArgs implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += contractAddress.encodedSize();
+    size += functionName.encodedSize();
+    int argsSize = getArgs().length;
+    size += 4;
+    for (int i = 0; i < argsSize; i++) {
+      size += args[i].encodedSize();
+    }
+    return size;
+  }
+
   public static InvokeContractArgs decode(XdrDataInputStream stream) throws IOException {
     InvokeContractArgs decodedInvokeContractArgs = new InvokeContractArgs();
     decodedInvokeContractArgs.contractAddress = SCAddress.decode(stream);
     decodedInvokeContractArgs.functionName = SCSymbol.decode(stream);
-    int argsSize = stream.readInt();
+    int argsSize = stream.readLength(4);
     decodedInvokeContractArgs.args = new SCVal[argsSize];
     for (int i = 0; i < argsSize; i++) {
       decodedInvokeContractArgs.args[i] = SCVal.decode(stream);
@@ -53,14 +65,79 @@ public class InvokeContractArgs implements XdrElement {
     return decodedInvokeContractArgs;
   }
 
+  public static InvokeContractArgs decodeInto(
+      InvokeContractArgs existing, XdrDataInputStream stream) throws IOException {
+    InvokeContractArgs decodedInvokeContractArgs =
+        existing != null ? existing : new InvokeContractArgs();
+    decodedInvokeContractArgs.contractAddress =
+        SCAddress.decodeInto(decodedInvokeContractArgs.contractAddress, stream);
+    decodedInvokeContractArgs.functionName =
+        SCSymbol.decodeInto(decodedInvokeContractArgs.functionName, stream);
+    int argsSize = stream.readLength(4);
+    decodedInvokeContractArgs.args =
+        XdrRecycler.resize(decodedInvokeContractArgs.args, argsSize, SCVal[]::new);
+    for (int i = 0; i < argsSize; i++) {
+      decodedInvokeContractArgs.args[i] =
+          SCVal.decodeInto(decodedInvokeContractArgs.args[i], stream);
+    }
+    return decodedInvokeContractArgs;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SCAddress.skip(stream);
+    SCSymbol.skip(stream);
+    int argsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < argsSize; i++) {
+      SCVal.skip(stream);
+    }
+  }
+
   public static InvokeContractArgs fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static InvokeContractArgs fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("contract_address");
+    contractAddress.toJson(writer);
+    writer.name("function_name");
+    functionName.toJson(writer);
+    writer.name("args");
+    XdrJson.writeArray(writer, args);
+    writer.endObject();
+  }
+
+  public static InvokeContractArgs fromJson(JsonReader reader) throws IOException {
+    InvokeContractArgs decodedInvokeContractArgs = new InvokeContractArgs();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "contract_address":
+          decodedInvokeContractArgs.contractAddress = SCAddress.fromJson(reader);
+          break;
+        case "function_name":
+          decodedInvokeContractArgs.functionName = SCSymbol.fromJson(reader);
+          break;
+        case "args":
+          decodedInvokeContractArgs.args = XdrJson.readArray(reader, SCVal[]::new, SCVal::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown InvokeContractArgs field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedInvokeContractArgs;
+  }
+
+  public static InvokeContractArgs fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
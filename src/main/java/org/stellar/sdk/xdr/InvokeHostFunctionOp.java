@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * InvokeHostFunctionOp's original definition in the XDR file is:
@@ -41,10 +41,21 @@ public class InvokeHostFunctionOp implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += hostFunction.encodedSize();
+    int authSize = getAuth().length;
+    size += 4;
+    for (int i = 0; i < authSize; i++) {
+      size += auth[i].encodedSize();
+    }
+    return size;
+  }
+
   public static InvokeHostFunctionOp decode(XdrDataInputStream stream) throws IOException {
     InvokeHostFunctionOp decodedInvokeHostFunctionOp = new InvokeHostFunctionOp();
     decodedInvokeHostFunctionOp.hostFunction = HostFunction.decode(stream);
-    int authSize = stream.readInt();
+    int authSize = stream.readLength(4);
     decodedInvokeHostFunctionOp.auth = new SorobanAuthorizationEntry[authSize];
     for (int i = 0; i < authSize; i++) {
       decodedInvokeHostFunctionOp.auth[i] = SorobanAuthorizationEntry.decode(stream);
@@ -52,14 +63,74 @@ public class InvokeHostFunctionOp implements XdrElement {
     return decodedInvokeHostFunctionOp;
   }
 
+  public static InvokeHostFunctionOp decodeInto(
+      InvokeHostFunctionOp existing, XdrDataInputStream stream) throws IOException {
+    InvokeHostFunctionOp decodedInvokeHostFunctionOp =
+        existing != null ? existing : new InvokeHostFunctionOp();
+    decodedInvokeHostFunctionOp.hostFunction =
+        HostFunction.decodeInto(decodedInvokeHostFunctionOp.hostFunction, stream);
+    int authSize = stream.readLength(4);
+    decodedInvokeHostFunctionOp.auth =
+        XdrRecycler.resize(
+            decodedInvokeHostFunctionOp.auth, authSize, SorobanAuthorizationEntry[]::new);
+    for (int i = 0; i < authSize; i++) {
+      decodedInvokeHostFunctionOp.auth[i] =
+          SorobanAuthorizationEntry.decodeInto(decodedInvokeHostFunctionOp.auth[i], stream);
+    }
+    return decodedInvokeHostFunctionOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    HostFunction.skip(stream);
+    int authSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < authSize; i++) {
+      SorobanAuthorizationEntry.skip(stream);
+    }
+  }
+
   public static InvokeHostFunctionOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static InvokeHostFunctionOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("host_function");
+    hostFunction.toJson(writer);
+    writer.name("auth");
+    XdrJson.writeArray(writer, auth);
+    writer.endObject();
+  }
+
+  public static InvokeHostFunctionOp fromJson(JsonReader reader) throws IOException {
+    InvokeHostFunctionOp decodedInvokeHostFunctionOp = new InvokeHostFunctionOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "host_function":
+          decodedInvokeHostFunctionOp.hostFunction = HostFunction.fromJson(reader);
+          break;
+        case "auth":
+          decodedInvokeHostFunctionOp.auth =
+              XdrJson.readArray(
+                  reader, SorobanAuthorizationEntry[]::new, SorobanAuthorizationEntry::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown InvokeHostFunctionOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedInvokeHostFunctionOp;
+  }
+
+  public static InvokeHostFunctionOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * InvokeHostFunctionResult's original definition in the XDR file is:
@@ -51,6 +52,23 @@ public class InvokeHostFunctionResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case INVOKE_HOST_FUNCTION_SUCCESS:
+        size += success.encodedSize();
+        break;
+      case INVOKE_HOST_FUNCTION_MALFORMED:
+      case INVOKE_HOST_FUNCTION_TRAPPED:
+      case INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED:
+      case INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED:
+      case INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+    }
+    return size;
+  }
+
   public static InvokeHostFunctionResult decode(XdrDataInputStream stream) throws IOException {
     InvokeHostFunctionResult decodedInvokeHostFunctionResult = new InvokeHostFunctionResult();
     InvokeHostFunctionResultCode discriminant = InvokeHostFunctionResultCode.decode(stream);
@@ -69,14 +87,129 @@ public class InvokeHostFunctionResult implements XdrElement {
     return decodedInvokeHostFunctionResult;
   }
 
+  public static InvokeHostFunctionResult decodeInto(
+      InvokeHostFunctionResult existing, XdrDataInputStream stream) throws IOException {
+    InvokeHostFunctionResultCode discriminant = InvokeHostFunctionResultCode.decode(stream);
+    InvokeHostFunctionResult decodedInvokeHostFunctionResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new InvokeHostFunctionResult();
+    decodedInvokeHostFunctionResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case INVOKE_HOST_FUNCTION_SUCCESS:
+        decodedInvokeHostFunctionResult.success =
+            Hash.decodeInto(decodedInvokeHostFunctionResult.success, stream);
+        break;
+      case INVOKE_HOST_FUNCTION_MALFORMED:
+      case INVOKE_HOST_FUNCTION_TRAPPED:
+      case INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED:
+      case INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED:
+      case INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+    }
+    return decodedInvokeHostFunctionResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    InvokeHostFunctionResultCode discriminant = InvokeHostFunctionResultCode.decode(stream);
+    switch (discriminant) {
+      case INVOKE_HOST_FUNCTION_SUCCESS:
+        Hash.skip(stream);
+        break;
+      case INVOKE_HOST_FUNCTION_MALFORMED:
+      case INVOKE_HOST_FUNCTION_TRAPPED:
+      case INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED:
+      case INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED:
+      case INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown InvokeHostFunctionResult discriminant: " + discriminant);
+    }
+  }
+
   public static InvokeHostFunctionResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static InvokeHostFunctionResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case INVOKE_HOST_FUNCTION_SUCCESS:
+        writer.beginObject();
+        writer.name("success");
+        success.toJson(writer);
+        writer.endObject();
+        break;
+      case INVOKE_HOST_FUNCTION_MALFORMED:
+        writer.value("malformed");
+        break;
+      case INVOKE_HOST_FUNCTION_TRAPPED:
+        writer.value("trapped");
+        break;
+      case INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED:
+        writer.value("resource_limit_exceeded");
+        break;
+      case INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED:
+        writer.value("entry_archived");
+        break;
+      case INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE:
+        writer.value("insufficient_refundable_fee");
+        break;
+    }
+  }
+
+  public static InvokeHostFunctionResult fromJson(JsonReader reader) throws IOException {
+    InvokeHostFunctionResult decodedInvokeHostFunctionResult = new InvokeHostFunctionResult();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "malformed":
+          decodedInvokeHostFunctionResult.setDiscriminant(
+              InvokeHostFunctionResultCode.INVOKE_HOST_FUNCTION_MALFORMED);
+          break;
+        case "trapped":
+          decodedInvokeHostFunctionResult.setDiscriminant(
+              InvokeHostFunctionResultCode.INVOKE_HOST_FUNCTION_TRAPPED);
+          break;
+        case "resource_limit_exceeded":
+          decodedInvokeHostFunctionResult.setDiscriminant(
+              InvokeHostFunctionResultCode.INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED);
+          break;
+        case "entry_archived":
+          decodedInvokeHostFunctionResult.setDiscriminant(
+              InvokeHostFunctionResultCode.INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED);
+          break;
+        case "insufficient_refundable_fee":
+          decodedInvokeHostFunctionResult.setDiscriminant(
+              InvokeHostFunctionResultCode.INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE);
+          break;
+        default:
+          throw new IOException("Unknown InvokeHostFunctionResult arm: " + key);
+      }
+      return decodedInvokeHostFunctionResult;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "success":
+        decodedInvokeHostFunctionResult.setDiscriminant(
+            InvokeHostFunctionResultCode.INVOKE_HOST_FUNCTION_SUCCESS);
+        decodedInvokeHostFunctionResult.success = Hash.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown InvokeHostFunctionResult arm: " + key);
+    }
+    reader.endObject();
+    return decodedInvokeHostFunctionResult;
+  }
+
+  public static InvokeHostFunctionResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * InvokeHostFunctionResultCode's original definition in the XDR file is:
@@ -63,18 +63,73 @@ public enum InvokeHostFunctionResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static InvokeHostFunctionResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static InvokeHostFunctionResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case INVOKE_HOST_FUNCTION_SUCCESS:
+        writer.value("success");
+        break;
+      case INVOKE_HOST_FUNCTION_MALFORMED:
+        writer.value("malformed");
+        break;
+      case INVOKE_HOST_FUNCTION_TRAPPED:
+        writer.value("trapped");
+        break;
+      case INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED:
+        writer.value("resource_limit_exceeded");
+        break;
+      case INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED:
+        writer.value("entry_archived");
+        break;
+      case INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE:
+        writer.value("insufficient_refundable_fee");
+        break;
+    }
+  }
+
+  public static InvokeHostFunctionResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return INVOKE_HOST_FUNCTION_SUCCESS;
+      case "malformed":
+        return INVOKE_HOST_FUNCTION_MALFORMED;
+      case "trapped":
+        return INVOKE_HOST_FUNCTION_TRAPPED;
+      case "resource_limit_exceeded":
+        return INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED;
+      case "entry_archived":
+        return INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED;
+      case "insufficient_refundable_fee":
+        return INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE;
+      default:
+        throw new IOException("Unknown InvokeHostFunctionResultCode value: " + value);
+    }
+  }
+
+  public static InvokeHostFunctionResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * InvokeHostFunctionSuccessPreImage's original definition in the XDR file is:
@@ -39,12 +39,23 @@ public class InvokeHostFunctionSuccessPreImage implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += returnValue.encodedSize();
+    int eventsSize = getEvents().length;
+    size += 4;
+    for (int i = 0; i < eventsSize; i++) {
+      size += events[i].encodedSize();
+    }
+    return size;
+  }
+
   public static InvokeHostFunctionSuccessPreImage decode(XdrDataInputStream stream)
       throws IOException {
     InvokeHostFunctionSuccessPreImage decodedInvokeHostFunctionSuccessPreImage =
         new InvokeHostFunctionSuccessPreImage();
     decodedInvokeHostFunctionSuccessPreImage.returnValue = SCVal.decode(stream);
-    int eventsSize = stream.readInt();
+    int eventsSize = stream.readLength(4);
     decodedInvokeHostFunctionSuccessPreImage.events = new ContractEvent[eventsSize];
     for (int i = 0; i < eventsSize; i++) {
       decodedInvokeHostFunctionSuccessPreImage.events[i] = ContractEvent.decode(stream);
@@ -52,14 +63,74 @@ public class InvokeHostFunctionSuccessPreImage implements XdrElement {
     return decodedInvokeHostFunctionSuccessPreImage;
   }
 
+  public static InvokeHostFunctionSuccessPreImage decodeInto(
+      InvokeHostFunctionSuccessPreImage existing, XdrDataInputStream stream) throws IOException {
+    InvokeHostFunctionSuccessPreImage decodedInvokeHostFunctionSuccessPreImage =
+        existing != null ? existing : new InvokeHostFunctionSuccessPreImage();
+    decodedInvokeHostFunctionSuccessPreImage.returnValue =
+        SCVal.decodeInto(decodedInvokeHostFunctionSuccessPreImage.returnValue, stream);
+    int eventsSize = stream.readLength(4);
+    decodedInvokeHostFunctionSuccessPreImage.events =
+        XdrRecycler.resize(
+            decodedInvokeHostFunctionSuccessPreImage.events, eventsSize, ContractEvent[]::new);
+    for (int i = 0; i < eventsSize; i++) {
+      decodedInvokeHostFunctionSuccessPreImage.events[i] =
+          ContractEvent.decodeInto(decodedInvokeHostFunctionSuccessPreImage.events[i], stream);
+    }
+    return decodedInvokeHostFunctionSuccessPreImage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SCVal.skip(stream);
+    int eventsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < eventsSize; i++) {
+      ContractEvent.skip(stream);
+    }
+  }
+
   public static InvokeHostFunctionSuccessPreImage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static InvokeHostFunctionSuccessPreImage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("return_value");
+    returnValue.toJson(writer);
+    writer.name("events");
+    XdrJson.writeArray(writer, events);
+    writer.endObject();
+  }
+
+  public static InvokeHostFunctionSuccessPreImage fromJson(JsonReader reader) throws IOException {
+    InvokeHostFunctionSuccessPreImage decodedInvokeHostFunctionSuccessPreImage =
+        new InvokeHostFunctionSuccessPreImage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "return_value":
+          decodedInvokeHostFunctionSuccessPreImage.returnValue = SCVal.fromJson(reader);
+          break;
+        case "events":
+          decodedInvokeHostFunctionSuccessPreImage.events =
+              XdrJson.readArray(reader, ContractEvent[]::new, ContractEvent::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown InvokeHostFunctionSuccessPreImage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedInvokeHostFunctionSuccessPreImage;
+  }
+
+  public static InvokeHostFunctionSuccessPreImage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerBounds's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class LedgerBounds implements XdrElement {
     maxLedger.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += minLedger.encodedSize();
+    size += maxLedger.encodedSize();
+    return size;
+  }
+
   public static LedgerBounds decode(XdrDataInputStream stream) throws IOException {
     LedgerBounds decodedLedgerBounds = new LedgerBounds();
     decodedLedgerBounds.minLedger = Uint32.decode(stream);
@@ -42,14 +49,60 @@ public class LedgerBounds implements XdrElement {
     return decodedLedgerBounds;
   }
 
+  public static LedgerBounds decodeInto(LedgerBounds existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerBounds decodedLedgerBounds = existing != null ? existing : new LedgerBounds();
+    decodedLedgerBounds.minLedger = Uint32.decodeInto(decodedLedgerBounds.minLedger, stream);
+    decodedLedgerBounds.maxLedger = Uint32.decodeInto(decodedLedgerBounds.maxLedger, stream);
+    return decodedLedgerBounds;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static LedgerBounds fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerBounds fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("min_ledger");
+    minLedger.toJson(writer);
+    writer.name("max_ledger");
+    maxLedger.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LedgerBounds fromJson(JsonReader reader) throws IOException {
+    LedgerBounds decodedLedgerBounds = new LedgerBounds();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "min_ledger":
+          decodedLedgerBounds.minLedger = Uint32.fromJson(reader);
+          break;
+        case "max_ledger":
+          decodedLedgerBounds.maxLedger = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerBounds field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerBounds;
+  }
+
+  public static LedgerBounds fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerCloseMeta's original definition in the XDR file is:
@@ -51,6 +51,23 @@ public class LedgerCloseMeta implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case 0:
+        size += v0.encodedSize();
+        break;
+      case 1:
+        size += v1.encodedSize();
+        break;
+      case 2:
+        size += v2.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LedgerCloseMeta decode(XdrDataInputStream stream) throws IOException {
     LedgerCloseMeta decodedLedgerCloseMeta = new LedgerCloseMeta();
     Integer discriminant = stream.readInt();
@@ -69,14 +86,104 @@ public class LedgerCloseMeta implements XdrElement {
     return decodedLedgerCloseMeta;
   }
 
+  public static LedgerCloseMeta decodeInto(LedgerCloseMeta existing, XdrDataInputStream stream)
+      throws IOException {
+    Integer discriminant = stream.readInt();
+    LedgerCloseMeta decodedLedgerCloseMeta =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new LedgerCloseMeta();
+    decodedLedgerCloseMeta.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        decodedLedgerCloseMeta.v0 = LedgerCloseMetaV0.decodeInto(decodedLedgerCloseMeta.v0, stream);
+        break;
+      case 1:
+        decodedLedgerCloseMeta.v1 = LedgerCloseMetaV1.decodeInto(decodedLedgerCloseMeta.v1, stream);
+        break;
+      case 2:
+        decodedLedgerCloseMeta.v2 = LedgerCloseMetaV2.decodeInto(decodedLedgerCloseMeta.v2, stream);
+        break;
+    }
+    return decodedLedgerCloseMeta;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        LedgerCloseMetaV0.skip(stream);
+        break;
+      case 1:
+        LedgerCloseMetaV1.skip(stream);
+        break;
+      case 2:
+        LedgerCloseMetaV2.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown LedgerCloseMeta discriminant: " + discriminant);
+    }
+  }
+
   public static LedgerCloseMeta fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerCloseMeta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case 0:
+        writer.beginObject();
+        writer.name("v0");
+        v0.toJson(writer);
+        writer.endObject();
+        break;
+      case 1:
+        writer.beginObject();
+        writer.name("v1");
+        v1.toJson(writer);
+        writer.endObject();
+        break;
+      case 2:
+        writer.beginObject();
+        writer.name("v2");
+        v2.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static LedgerCloseMeta fromJson(JsonReader reader) throws IOException {
+    LedgerCloseMeta decodedLedgerCloseMeta = new LedgerCloseMeta();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v0":
+        decodedLedgerCloseMeta.setDiscriminant(0);
+        decodedLedgerCloseMeta.v0 = LedgerCloseMetaV0.fromJson(reader);
+        break;
+      case "v1":
+        decodedLedgerCloseMeta.setDiscriminant(1);
+        decodedLedgerCloseMeta.v1 = LedgerCloseMetaV1.fromJson(reader);
+        break;
+      case "v2":
+        decodedLedgerCloseMeta.setDiscriminant(2);
+        decodedLedgerCloseMeta.v2 = LedgerCloseMetaV2.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown LedgerCloseMeta arm: " + key);
+    }
+    reader.endObject();
+    return decodedLedgerCloseMeta;
+  }
+
+  public static LedgerCloseMeta fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
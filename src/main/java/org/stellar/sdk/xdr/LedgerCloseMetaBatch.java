@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerCloseMetaBatch's original definition in the XDR file is:
@@ -47,11 +47,23 @@ public class LedgerCloseMetaBatch implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += startSequence.encodedSize();
+    size += endSequence.encodedSize();
+    int ledgerCloseMetasSize = getLedgerCloseMetas().length;
+    size += 4;
+    for (int i = 0; i < ledgerCloseMetasSize; i++) {
+      size += ledgerCloseMetas[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerCloseMetaBatch decode(XdrDataInputStream stream) throws IOException {
     LedgerCloseMetaBatch decodedLedgerCloseMetaBatch = new LedgerCloseMetaBatch();
     decodedLedgerCloseMetaBatch.startSequence = Uint32.decode(stream);
     decodedLedgerCloseMetaBatch.endSequence = Uint32.decode(stream);
-    int ledgerCloseMetasSize = stream.readInt();
+    int ledgerCloseMetasSize = stream.readLength(4);
     decodedLedgerCloseMetaBatch.ledgerCloseMetas = new LedgerCloseMeta[ledgerCloseMetasSize];
     for (int i = 0; i < ledgerCloseMetasSize; i++) {
       decodedLedgerCloseMetaBatch.ledgerCloseMetas[i] = LedgerCloseMeta.decode(stream);
@@ -59,14 +71,83 @@ public class LedgerCloseMetaBatch implements XdrElement {
     return decodedLedgerCloseMetaBatch;
   }
 
+  public static LedgerCloseMetaBatch decodeInto(
+      LedgerCloseMetaBatch existing, XdrDataInputStream stream) throws IOException {
+    LedgerCloseMetaBatch decodedLedgerCloseMetaBatch =
+        existing != null ? existing : new LedgerCloseMetaBatch();
+    decodedLedgerCloseMetaBatch.startSequence =
+        Uint32.decodeInto(decodedLedgerCloseMetaBatch.startSequence, stream);
+    decodedLedgerCloseMetaBatch.endSequence =
+        Uint32.decodeInto(decodedLedgerCloseMetaBatch.endSequence, stream);
+    int ledgerCloseMetasSize = stream.readLength(4);
+    decodedLedgerCloseMetaBatch.ledgerCloseMetas =
+        XdrRecycler.resize(
+            decodedLedgerCloseMetaBatch.ledgerCloseMetas,
+            ledgerCloseMetasSize,
+            LedgerCloseMeta[]::new);
+    for (int i = 0; i < ledgerCloseMetasSize; i++) {
+      decodedLedgerCloseMetaBatch.ledgerCloseMetas[i] =
+          LedgerCloseMeta.decodeInto(decodedLedgerCloseMetaBatch.ledgerCloseMetas[i], stream);
+    }
+    return decodedLedgerCloseMetaBatch;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    int ledgerCloseMetasSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < ledgerCloseMetasSize; i++) {
+      LedgerCloseMeta.skip(stream);
+    }
+  }
+
   public static LedgerCloseMetaBatch fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerCloseMetaBatch fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("start_sequence");
+    startSequence.toJson(writer);
+    writer.name("end_sequence");
+    endSequence.toJson(writer);
+    writer.name("ledger_close_metas");
+    XdrJson.writeArray(writer, ledgerCloseMetas);
+    writer.endObject();
+  }
+
+  public static LedgerCloseMetaBatch fromJson(JsonReader reader) throws IOException {
+    LedgerCloseMetaBatch decodedLedgerCloseMetaBatch = new LedgerCloseMetaBatch();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "start_sequence":
+          decodedLedgerCloseMetaBatch.startSequence = Uint32.fromJson(reader);
+          break;
+        case "end_sequence":
+          decodedLedgerCloseMetaBatch.endSequence = Uint32.fromJson(reader);
+          break;
+        case "ledger_close_metas":
+          decodedLedgerCloseMetaBatch.ledgerCloseMetas =
+              XdrJson.readArray(reader, LedgerCloseMeta[]::new, LedgerCloseMeta::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown LedgerCloseMetaBatch field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerCloseMetaBatch;
+  }
+
+  public static LedgerCloseMetaBatch fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
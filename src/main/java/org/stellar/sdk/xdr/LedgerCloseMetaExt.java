@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerCloseMetaExt's original definition in the XDR file is:
@@ -43,6 +44,19 @@ public class LedgerCloseMetaExt implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case 0:
+        break;
+      case 1:
+        size += v1.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LedgerCloseMetaExt decode(XdrDataInputStream stream) throws IOException {
     LedgerCloseMetaExt decodedLedgerCloseMetaExt = new LedgerCloseMetaExt();
     Integer discriminant = stream.readInt();
@@ -57,14 +71,91 @@ public class LedgerCloseMetaExt implements XdrElement {
     return decodedLedgerCloseMetaExt;
   }
 
+  public static LedgerCloseMetaExt decodeInto(
+      LedgerCloseMetaExt existing, XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    LedgerCloseMetaExt decodedLedgerCloseMetaExt =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new LedgerCloseMetaExt();
+    decodedLedgerCloseMetaExt.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        break;
+      case 1:
+        decodedLedgerCloseMetaExt.v1 =
+            LedgerCloseMetaExtV1.decodeInto(decodedLedgerCloseMetaExt.v1, stream);
+        break;
+    }
+    return decodedLedgerCloseMetaExt;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        break;
+      case 1:
+        LedgerCloseMetaExtV1.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown LedgerCloseMetaExt discriminant: " + discriminant);
+    }
+  }
+
   public static LedgerCloseMetaExt fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerCloseMetaExt fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case 0:
+        writer.value("v0");
+        break;
+      case 1:
+        writer.beginObject();
+        writer.name("v1");
+        v1.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static LedgerCloseMetaExt fromJson(JsonReader reader) throws IOException {
+    LedgerCloseMetaExt decodedLedgerCloseMetaExt = new LedgerCloseMetaExt();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedLedgerCloseMetaExt.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown LedgerCloseMetaExt arm: " + key);
+      }
+      return decodedLedgerCloseMetaExt;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v1":
+        decodedLedgerCloseMetaExt.setDiscriminant(1);
+        decodedLedgerCloseMetaExt.v1 = LedgerCloseMetaExtV1.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown LedgerCloseMetaExt arm: " + key);
+    }
+    reader.endObject();
+    return decodedLedgerCloseMetaExt;
+  }
+
+  public static LedgerCloseMetaExt fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerCloseMetaExtV1's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class LedgerCloseMetaExtV1 implements XdrElement {
     sorobanFeeWrite1KB.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += sorobanFeeWrite1KB.encodedSize();
+    return size;
+  }
+
   public static LedgerCloseMetaExtV1 decode(XdrDataInputStream stream) throws IOException {
     LedgerCloseMetaExtV1 decodedLedgerCloseMetaExtV1 = new LedgerCloseMetaExtV1();
     decodedLedgerCloseMetaExtV1.ext = ExtensionPoint.decode(stream);
@@ -42,14 +49,63 @@ public class LedgerCloseMetaExtV1 implements XdrElement {
     return decodedLedgerCloseMetaExtV1;
   }
 
+  public static LedgerCloseMetaExtV1 decodeInto(
+      LedgerCloseMetaExtV1 existing, XdrDataInputStream stream) throws IOException {
+    LedgerCloseMetaExtV1 decodedLedgerCloseMetaExtV1 =
+        existing != null ? existing : new LedgerCloseMetaExtV1();
+    decodedLedgerCloseMetaExtV1.ext =
+        ExtensionPoint.decodeInto(decodedLedgerCloseMetaExtV1.ext, stream);
+    decodedLedgerCloseMetaExtV1.sorobanFeeWrite1KB =
+        Int64.decodeInto(decodedLedgerCloseMetaExtV1.sorobanFeeWrite1KB, stream);
+    return decodedLedgerCloseMetaExtV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static LedgerCloseMetaExtV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerCloseMetaExtV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("soroban_fee_write1_kb");
+    sorobanFeeWrite1KB.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LedgerCloseMetaExtV1 fromJson(JsonReader reader) throws IOException {
+    LedgerCloseMetaExtV1 decodedLedgerCloseMetaExtV1 = new LedgerCloseMetaExtV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedLedgerCloseMetaExtV1.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "soroban_fee_write1_kb":
+          decodedLedgerCloseMetaExtV1.sorobanFeeWrite1KB = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerCloseMetaExtV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerCloseMetaExtV1;
+  }
+
+  public static LedgerCloseMetaExtV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerCloseMetaV0's original definition in the XDR file is:
@@ -65,21 +65,43 @@ public class LedgerCloseMetaV0 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerHeader.encodedSize();
+    size += txSet.encodedSize();
+    int txProcessingSize = getTxProcessing().length;
+    size += 4;
+    for (int i = 0; i < txProcessingSize; i++) {
+      size += txProcessing[i].encodedSize();
+    }
+    int upgradesProcessingSize = getUpgradesProcessing().length;
+    size += 4;
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      size += upgradesProcessing[i].encodedSize();
+    }
+    int scpInfoSize = getScpInfo().length;
+    size += 4;
+    for (int i = 0; i < scpInfoSize; i++) {
+      size += scpInfo[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerCloseMetaV0 decode(XdrDataInputStream stream) throws IOException {
     LedgerCloseMetaV0 decodedLedgerCloseMetaV0 = new LedgerCloseMetaV0();
     decodedLedgerCloseMetaV0.ledgerHeader = LedgerHeaderHistoryEntry.decode(stream);
     decodedLedgerCloseMetaV0.txSet = TransactionSet.decode(stream);
-    int txProcessingSize = stream.readInt();
+    int txProcessingSize = stream.readLength(4);
     decodedLedgerCloseMetaV0.txProcessing = new TransactionResultMeta[txProcessingSize];
     for (int i = 0; i < txProcessingSize; i++) {
       decodedLedgerCloseMetaV0.txProcessing[i] = TransactionResultMeta.decode(stream);
     }
-    int upgradesProcessingSize = stream.readInt();
+    int upgradesProcessingSize = stream.readLength(4);
     decodedLedgerCloseMetaV0.upgradesProcessing = new UpgradeEntryMeta[upgradesProcessingSize];
     for (int i = 0; i < upgradesProcessingSize; i++) {
       decodedLedgerCloseMetaV0.upgradesProcessing[i] = UpgradeEntryMeta.decode(stream);
     }
-    int scpInfoSize = stream.readInt();
+    int scpInfoSize = stream.readLength(4);
     decodedLedgerCloseMetaV0.scpInfo = new SCPHistoryEntry[scpInfoSize];
     for (int i = 0; i < scpInfoSize; i++) {
       decodedLedgerCloseMetaV0.scpInfo[i] = SCPHistoryEntry.decode(stream);
@@ -87,14 +109,119 @@ public class LedgerCloseMetaV0 implements XdrElement {
     return decodedLedgerCloseMetaV0;
   }
 
+  public static LedgerCloseMetaV0 decodeInto(LedgerCloseMetaV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerCloseMetaV0 decodedLedgerCloseMetaV0 =
+        existing != null ? existing : new LedgerCloseMetaV0();
+    decodedLedgerCloseMetaV0.ledgerHeader =
+        LedgerHeaderHistoryEntry.decodeInto(decodedLedgerCloseMetaV0.ledgerHeader, stream);
+    decodedLedgerCloseMetaV0.txSet =
+        TransactionSet.decodeInto(decodedLedgerCloseMetaV0.txSet, stream);
+    int txProcessingSize = stream.readLength(4);
+    decodedLedgerCloseMetaV0.txProcessing =
+        XdrRecycler.resize(
+            decodedLedgerCloseMetaV0.txProcessing, txProcessingSize, TransactionResultMeta[]::new);
+    for (int i = 0; i < txProcessingSize; i++) {
+      decodedLedgerCloseMetaV0.txProcessing[i] =
+          TransactionResultMeta.decodeInto(decodedLedgerCloseMetaV0.txProcessing[i], stream);
+    }
+    int upgradesProcessingSize = stream.readLength(4);
+    decodedLedgerCloseMetaV0.upgradesProcessing =
+        XdrRecycler.resize(
+            decodedLedgerCloseMetaV0.upgradesProcessing,
+            upgradesProcessingSize,
+            UpgradeEntryMeta[]::new);
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      decodedLedgerCloseMetaV0.upgradesProcessing[i] =
+          UpgradeEntryMeta.decodeInto(decodedLedgerCloseMetaV0.upgradesProcessing[i], stream);
+    }
+    int scpInfoSize = stream.readLength(4);
+    decodedLedgerCloseMetaV0.scpInfo =
+        XdrRecycler.resize(decodedLedgerCloseMetaV0.scpInfo, scpInfoSize, SCPHistoryEntry[]::new);
+    for (int i = 0; i < scpInfoSize; i++) {
+      decodedLedgerCloseMetaV0.scpInfo[i] =
+          SCPHistoryEntry.decodeInto(decodedLedgerCloseMetaV0.scpInfo[i], stream);
+    }
+    return decodedLedgerCloseMetaV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerHeaderHistoryEntry.skip(stream);
+    TransactionSet.skip(stream);
+    int txProcessingSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < txProcessingSize; i++) {
+      TransactionResultMeta.skip(stream);
+    }
+    int upgradesProcessingSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      UpgradeEntryMeta.skip(stream);
+    }
+    int scpInfoSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < scpInfoSize; i++) {
+      SCPHistoryEntry.skip(stream);
+    }
+  }
+
   public static LedgerCloseMetaV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerCloseMetaV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_header");
+    ledgerHeader.toJson(writer);
+    writer.name("tx_set");
+    txSet.toJson(writer);
+    writer.name("tx_processing");
+    XdrJson.writeArray(writer, txProcessing);
+    writer.name("upgrades_processing");
+    XdrJson.writeArray(writer, upgradesProcessing);
+    writer.name("scp_info");
+    XdrJson.writeArray(writer, scpInfo);
+    writer.endObject();
+  }
+
+  public static LedgerCloseMetaV0 fromJson(JsonReader reader) throws IOException {
+    LedgerCloseMetaV0 decodedLedgerCloseMetaV0 = new LedgerCloseMetaV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_header":
+          decodedLedgerCloseMetaV0.ledgerHeader = LedgerHeaderHistoryEntry.fromJson(reader);
+          break;
+        case "tx_set":
+          decodedLedgerCloseMetaV0.txSet = TransactionSet.fromJson(reader);
+          break;
+        case "tx_processing":
+          decodedLedgerCloseMetaV0.txProcessing =
+              XdrJson.readArray(
+                  reader, TransactionResultMeta[]::new, TransactionResultMeta::fromJson);
+          break;
+        case "upgrades_processing":
+          decodedLedgerCloseMetaV0.upgradesProcessing =
+              XdrJson.readArray(reader, UpgradeEntryMeta[]::new, UpgradeEntryMeta::fromJson);
+          break;
+        case "scp_info":
+          decodedLedgerCloseMetaV0.scpInfo =
+              XdrJson.readArray(reader, SCPHistoryEntry[]::new, SCPHistoryEntry::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown LedgerCloseMetaV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerCloseMetaV0;
+  }
+
+  public static LedgerCloseMetaV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerCloseMetaV1's original definition in the XDR file is:
@@ -93,33 +93,67 @@ public class LedgerCloseMetaV1 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += ledgerHeader.encodedSize();
+    size += txSet.encodedSize();
+    int txProcessingSize = getTxProcessing().length;
+    size += 4;
+    for (int i = 0; i < txProcessingSize; i++) {
+      size += txProcessing[i].encodedSize();
+    }
+    int upgradesProcessingSize = getUpgradesProcessing().length;
+    size += 4;
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      size += upgradesProcessing[i].encodedSize();
+    }
+    int scpInfoSize = getScpInfo().length;
+    size += 4;
+    for (int i = 0; i < scpInfoSize; i++) {
+      size += scpInfo[i].encodedSize();
+    }
+    size += totalByteSizeOfLiveSorobanState.encodedSize();
+    int evictedKeysSize = getEvictedKeys().length;
+    size += 4;
+    for (int i = 0; i < evictedKeysSize; i++) {
+      size += evictedKeys[i].encodedSize();
+    }
+    int unusedSize = getUnused().length;
+    size += 4;
+    for (int i = 0; i < unusedSize; i++) {
+      size += unused[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerCloseMetaV1 decode(XdrDataInputStream stream) throws IOException {
     LedgerCloseMetaV1 decodedLedgerCloseMetaV1 = new LedgerCloseMetaV1();
     decodedLedgerCloseMetaV1.ext = LedgerCloseMetaExt.decode(stream);
     decodedLedgerCloseMetaV1.ledgerHeader = LedgerHeaderHistoryEntry.decode(stream);
     decodedLedgerCloseMetaV1.txSet = GeneralizedTransactionSet.decode(stream);
-    int txProcessingSize = stream.readInt();
+    int txProcessingSize = stream.readLength(4);
     decodedLedgerCloseMetaV1.txProcessing = new TransactionResultMeta[txProcessingSize];
     for (int i = 0; i < txProcessingSize; i++) {
       decodedLedgerCloseMetaV1.txProcessing[i] = TransactionResultMeta.decode(stream);
     }
-    int upgradesProcessingSize = stream.readInt();
+    int upgradesProcessingSize = stream.readLength(4);
     decodedLedgerCloseMetaV1.upgradesProcessing = new UpgradeEntryMeta[upgradesProcessingSize];
     for (int i = 0; i < upgradesProcessingSize; i++) {
       decodedLedgerCloseMetaV1.upgradesProcessing[i] = UpgradeEntryMeta.decode(stream);
     }
-    int scpInfoSize = stream.readInt();
+    int scpInfoSize = stream.readLength(4);
     decodedLedgerCloseMetaV1.scpInfo = new SCPHistoryEntry[scpInfoSize];
     for (int i = 0; i < scpInfoSize; i++) {
       decodedLedgerCloseMetaV1.scpInfo[i] = SCPHistoryEntry.decode(stream);
     }
     decodedLedgerCloseMetaV1.totalByteSizeOfLiveSorobanState = Uint64.decode(stream);
-    int evictedKeysSize = stream.readInt();
+    int evictedKeysSize = stream.readLength(4);
     decodedLedgerCloseMetaV1.evictedKeys = new LedgerKey[evictedKeysSize];
     for (int i = 0; i < evictedKeysSize; i++) {
       decodedLedgerCloseMetaV1.evictedKeys[i] = LedgerKey.decode(stream);
     }
-    int unusedSize = stream.readInt();
+    int unusedSize = stream.readLength(4);
     decodedLedgerCloseMetaV1.unused = new LedgerEntry[unusedSize];
     for (int i = 0; i < unusedSize; i++) {
       decodedLedgerCloseMetaV1.unused[i] = LedgerEntry.decode(stream);
@@ -127,14 +161,169 @@ public class LedgerCloseMetaV1 implements XdrElement {
     return decodedLedgerCloseMetaV1;
   }
 
+  public static LedgerCloseMetaV1 decodeInto(LedgerCloseMetaV1 existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerCloseMetaV1 decodedLedgerCloseMetaV1 =
+        existing != null ? existing : new LedgerCloseMetaV1();
+    decodedLedgerCloseMetaV1.ext =
+        LedgerCloseMetaExt.decodeInto(decodedLedgerCloseMetaV1.ext, stream);
+    decodedLedgerCloseMetaV1.ledgerHeader =
+        LedgerHeaderHistoryEntry.decodeInto(decodedLedgerCloseMetaV1.ledgerHeader, stream);
+    decodedLedgerCloseMetaV1.txSet =
+        GeneralizedTransactionSet.decodeInto(decodedLedgerCloseMetaV1.txSet, stream);
+    int txProcessingSize = stream.readLength(4);
+    decodedLedgerCloseMetaV1.txProcessing =
+        XdrRecycler.resize(
+            decodedLedgerCloseMetaV1.txProcessing, txProcessingSize, TransactionResultMeta[]::new);
+    for (int i = 0; i < txProcessingSize; i++) {
+      decodedLedgerCloseMetaV1.txProcessing[i] =
+          TransactionResultMeta.decodeInto(decodedLedgerCloseMetaV1.txProcessing[i], stream);
+    }
+    int upgradesProcessingSize = stream.readLength(4);
+    decodedLedgerCloseMetaV1.upgradesProcessing =
+        XdrRecycler.resize(
+            decodedLedgerCloseMetaV1.upgradesProcessing,
+            upgradesProcessingSize,
+            UpgradeEntryMeta[]::new);
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      decodedLedgerCloseMetaV1.upgradesProcessing[i] =
+          UpgradeEntryMeta.decodeInto(decodedLedgerCloseMetaV1.upgradesProcessing[i], stream);
+    }
+    int scpInfoSize = stream.readLength(4);
+    decodedLedgerCloseMetaV1.scpInfo =
+        XdrRecycler.resize(decodedLedgerCloseMetaV1.scpInfo, scpInfoSize, SCPHistoryEntry[]::new);
+    for (int i = 0; i < scpInfoSize; i++) {
+      decodedLedgerCloseMetaV1.scpInfo[i] =
+          SCPHistoryEntry.decodeInto(decodedLedgerCloseMetaV1.scpInfo[i], stream);
+    }
+    decodedLedgerCloseMetaV1.totalByteSizeOfLiveSorobanState =
+        Uint64.decodeInto(decodedLedgerCloseMetaV1.totalByteSizeOfLiveSorobanState, stream);
+    int evictedKeysSize = stream.readLength(4);
+    decodedLedgerCloseMetaV1.evictedKeys =
+        XdrRecycler.resize(decodedLedgerCloseMetaV1.evictedKeys, evictedKeysSize, LedgerKey[]::new);
+    for (int i = 0; i < evictedKeysSize; i++) {
+      decodedLedgerCloseMetaV1.evictedKeys[i] =
+          LedgerKey.decodeInto(decodedLedgerCloseMetaV1.evictedKeys[i], stream);
+    }
+    int unusedSize = stream.readLength(4);
+    decodedLedgerCloseMetaV1.unused =
+        XdrRecycler.resize(decodedLedgerCloseMetaV1.unused, unusedSize, LedgerEntry[]::new);
+    for (int i = 0; i < unusedSize; i++) {
+      decodedLedgerCloseMetaV1.unused[i] =
+          LedgerEntry.decodeInto(decodedLedgerCloseMetaV1.unused[i], stream);
+    }
+    return decodedLedgerCloseMetaV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerCloseMetaExt.skip(stream);
+    LedgerHeaderHistoryEntry.skip(stream);
+    GeneralizedTransactionSet.skip(stream);
+    int txProcessingSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < txProcessingSize; i++) {
+      TransactionResultMeta.skip(stream);
+    }
+    int upgradesProcessingSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      UpgradeEntryMeta.skip(stream);
+    }
+    int scpInfoSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < scpInfoSize; i++) {
+      SCPHistoryEntry.skip(stream);
+    }
+    Uint64.skip(stream);
+    int evictedKeysSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < evictedKeysSize; i++) {
+      LedgerKey.skip(stream);
+    }
+    int unusedSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < unusedSize; i++) {
+      LedgerEntry.skip(stream);
+    }
+  }
+
   public static LedgerCloseMetaV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerCloseMetaV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("ledger_header");
+    ledgerHeader.toJson(writer);
+    writer.name("tx_set");
+    txSet.toJson(writer);
+    writer.name("tx_processing");
+    XdrJson.writeArray(writer, txProcessing);
+    writer.name("upgrades_processing");
+    XdrJson.writeArray(writer, upgradesProcessing);
+    writer.name("scp_info");
+    XdrJson.writeArray(writer, scpInfo);
+    writer.name("total_byte_size_of_live_soroban_state");
+    totalByteSizeOfLiveSorobanState.toJson(writer);
+    writer.name("evicted_keys");
+    XdrJson.writeArray(writer, evictedKeys);
+    writer.name("unused");
+    XdrJson.writeArray(writer, unused);
+    writer.endObject();
+  }
+
+  public static LedgerCloseMetaV1 fromJson(JsonReader reader) throws IOException {
+    LedgerCloseMetaV1 decodedLedgerCloseMetaV1 = new LedgerCloseMetaV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedLedgerCloseMetaV1.ext = LedgerCloseMetaExt.fromJson(reader);
+          break;
+        case "ledger_header":
+          decodedLedgerCloseMetaV1.ledgerHeader = LedgerHeaderHistoryEntry.fromJson(reader);
+          break;
+        case "tx_set":
+          decodedLedgerCloseMetaV1.txSet = GeneralizedTransactionSet.fromJson(reader);
+          break;
+        case "tx_processing":
+          decodedLedgerCloseMetaV1.txProcessing =
+              XdrJson.readArray(
+                  reader, TransactionResultMeta[]::new, TransactionResultMeta::fromJson);
+          break;
+        case "upgrades_processing":
+          decodedLedgerCloseMetaV1.upgradesProcessing =
+              XdrJson.readArray(reader, UpgradeEntryMeta[]::new, UpgradeEntryMeta::fromJson);
+          break;
+        case "scp_info":
+          decodedLedgerCloseMetaV1.scpInfo =
+              XdrJson.readArray(reader, SCPHistoryEntry[]::new, SCPHistoryEntry::fromJson);
+          break;
+        case "total_byte_size_of_live_soroban_state":
+          decodedLedgerCloseMetaV1.totalByteSizeOfLiveSorobanState = Uint64.fromJson(reader);
+          break;
+        case "evicted_keys":
+          decodedLedgerCloseMetaV1.evictedKeys =
+              XdrJson.readArray(reader, LedgerKey[]::new, LedgerKey::fromJson);
+          break;
+        case "unused":
+          decodedLedgerCloseMetaV1.unused =
+              XdrJson.readArray(reader, LedgerEntry[]::new, LedgerEntry::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown LedgerCloseMetaV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerCloseMetaV1;
+  }
+
+  public static LedgerCloseMetaV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
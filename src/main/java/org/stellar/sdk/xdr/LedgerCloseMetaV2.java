@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerCloseMetaV2's original definition in the XDR file is:
@@ -84,28 +84,57 @@ public class LedgerCloseMetaV2 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += ledgerHeader.encodedSize();
+    size += txSet.encodedSize();
+    int txProcessingSize = getTxProcessing().length;
+    size += 4;
+    for (int i = 0; i < txProcessingSize; i++) {
+      size += txProcessing[i].encodedSize();
+    }
+    int upgradesProcessingSize = getUpgradesProcessing().length;
+    size += 4;
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      size += upgradesProcessing[i].encodedSize();
+    }
+    int scpInfoSize = getScpInfo().length;
+    size += 4;
+    for (int i = 0; i < scpInfoSize; i++) {
+      size += scpInfo[i].encodedSize();
+    }
+    size += totalByteSizeOfLiveSorobanState.encodedSize();
+    int evictedKeysSize = getEvictedKeys().length;
+    size += 4;
+    for (int i = 0; i < evictedKeysSize; i++) {
+      size += evictedKeys[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerCloseMetaV2 decode(XdrDataInputStream stream) throws IOException {
     LedgerCloseMetaV2 decodedLedgerCloseMetaV2 = new LedgerCloseMetaV2();
     decodedLedgerCloseMetaV2.ext = LedgerCloseMetaExt.decode(stream);
     decodedLedgerCloseMetaV2.ledgerHeader = LedgerHeaderHistoryEntry.decode(stream);
     decodedLedgerCloseMetaV2.txSet = GeneralizedTransactionSet.decode(stream);
-    int txProcessingSize = stream.readInt();
+    int txProcessingSize = stream.readLength(4);
     decodedLedgerCloseMetaV2.txProcessing = new TransactionResultMetaV1[txProcessingSize];
     for (int i = 0; i < txProcessingSize; i++) {
       decodedLedgerCloseMetaV2.txProcessing[i] = TransactionResultMetaV1.decode(stream);
     }
-    int upgradesProcessingSize = stream.readInt();
+    int upgradesProcessingSize = stream.readLength(4);
     decodedLedgerCloseMetaV2.upgradesProcessing = new UpgradeEntryMeta[upgradesProcessingSize];
     for (int i = 0; i < upgradesProcessingSize; i++) {
       decodedLedgerCloseMetaV2.upgradesProcessing[i] = UpgradeEntryMeta.decode(stream);
     }
-    int scpInfoSize = stream.readInt();
+    int scpInfoSize = stream.readLength(4);
     decodedLedgerCloseMetaV2.scpInfo = new SCPHistoryEntry[scpInfoSize];
     for (int i = 0; i < scpInfoSize; i++) {
       decodedLedgerCloseMetaV2.scpInfo[i] = SCPHistoryEntry.decode(stream);
     }
     decodedLedgerCloseMetaV2.totalByteSizeOfLiveSorobanState = Uint64.decode(stream);
-    int evictedKeysSize = stream.readInt();
+    int evictedKeysSize = stream.readLength(4);
     decodedLedgerCloseMetaV2.evictedKeys = new LedgerKey[evictedKeysSize];
     for (int i = 0; i < evictedKeysSize; i++) {
       decodedLedgerCloseMetaV2.evictedKeys[i] = LedgerKey.decode(stream);
@@ -113,14 +142,154 @@ public class LedgerCloseMetaV2 implements XdrElement {
     return decodedLedgerCloseMetaV2;
   }
 
+  public static LedgerCloseMetaV2 decodeInto(LedgerCloseMetaV2 existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerCloseMetaV2 decodedLedgerCloseMetaV2 =
+        existing != null ? existing : new LedgerCloseMetaV2();
+    decodedLedgerCloseMetaV2.ext =
+        LedgerCloseMetaExt.decodeInto(decodedLedgerCloseMetaV2.ext, stream);
+    decodedLedgerCloseMetaV2.ledgerHeader =
+        LedgerHeaderHistoryEntry.decodeInto(decodedLedgerCloseMetaV2.ledgerHeader, stream);
+    decodedLedgerCloseMetaV2.txSet =
+        GeneralizedTransactionSet.decodeInto(decodedLedgerCloseMetaV2.txSet, stream);
+    int txProcessingSize = stream.readLength(4);
+    decodedLedgerCloseMetaV2.txProcessing =
+        XdrRecycler.resize(
+            decodedLedgerCloseMetaV2.txProcessing,
+            txProcessingSize,
+            TransactionResultMetaV1[]::new);
+    for (int i = 0; i < txProcessingSize; i++) {
+      decodedLedgerCloseMetaV2.txProcessing[i] =
+          TransactionResultMetaV1.decodeInto(decodedLedgerCloseMetaV2.txProcessing[i], stream);
+    }
+    int upgradesProcessingSize = stream.readLength(4);
+    decodedLedgerCloseMetaV2.upgradesProcessing =
+        XdrRecycler.resize(
+            decodedLedgerCloseMetaV2.upgradesProcessing,
+            upgradesProcessingSize,
+            UpgradeEntryMeta[]::new);
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      decodedLedgerCloseMetaV2.upgradesProcessing[i] =
+          UpgradeEntryMeta.decodeInto(decodedLedgerCloseMetaV2.upgradesProcessing[i], stream);
+    }
+    int scpInfoSize = stream.readLength(4);
+    decodedLedgerCloseMetaV2.scpInfo =
+        XdrRecycler.resize(decodedLedgerCloseMetaV2.scpInfo, scpInfoSize, SCPHistoryEntry[]::new);
+    for (int i = 0; i < scpInfoSize; i++) {
+      decodedLedgerCloseMetaV2.scpInfo[i] =
+          SCPHistoryEntry.decodeInto(decodedLedgerCloseMetaV2.scpInfo[i], stream);
+    }
+    decodedLedgerCloseMetaV2.totalByteSizeOfLiveSorobanState =
+        Uint64.decodeInto(decodedLedgerCloseMetaV2.totalByteSizeOfLiveSorobanState, stream);
+    int evictedKeysSize = stream.readLength(4);
+    decodedLedgerCloseMetaV2.evictedKeys =
+        XdrRecycler.resize(decodedLedgerCloseMetaV2.evictedKeys, evictedKeysSize, LedgerKey[]::new);
+    for (int i = 0; i < evictedKeysSize; i++) {
+      decodedLedgerCloseMetaV2.evictedKeys[i] =
+          LedgerKey.decodeInto(decodedLedgerCloseMetaV2.evictedKeys[i], stream);
+    }
+    return decodedLedgerCloseMetaV2;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerCloseMetaExt.skip(stream);
+    LedgerHeaderHistoryEntry.skip(stream);
+    GeneralizedTransactionSet.skip(stream);
+    int txProcessingSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < txProcessingSize; i++) {
+      TransactionResultMetaV1.skip(stream);
+    }
+    int upgradesProcessingSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      UpgradeEntryMeta.skip(stream);
+    }
+    int scpInfoSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < scpInfoSize; i++) {
+      SCPHistoryEntry.skip(stream);
+    }
+    Uint64.skip(stream);
+    int evictedKeysSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < evictedKeysSize; i++) {
+      LedgerKey.skip(stream);
+    }
+  }
+
   public static LedgerCloseMetaV2 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerCloseMetaV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("ledger_header");
+    ledgerHeader.toJson(writer);
+    writer.name("tx_set");
+    txSet.toJson(writer);
+    writer.name("tx_processing");
+    XdrJson.writeArray(writer, txProcessing);
+    writer.name("upgrades_processing");
+    XdrJson.writeArray(writer, upgradesProcessing);
+    writer.name("scp_info");
+    XdrJson.writeArray(writer, scpInfo);
+    writer.name("total_byte_size_of_live_soroban_state");
+    totalByteSizeOfLiveSorobanState.toJson(writer);
+    writer.name("evicted_keys");
+    XdrJson.writeArray(writer, evictedKeys);
+    writer.endObject();
+  }
+
+  public static LedgerCloseMetaV2 fromJson(JsonReader reader) throws IOException {
+    LedgerCloseMetaV2 decodedLedgerCloseMetaV2 = new LedgerCloseMetaV2();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedLedgerCloseMetaV2.ext = LedgerCloseMetaExt.fromJson(reader);
+          break;
+        case "ledger_header":
+          decodedLedgerCloseMetaV2.ledgerHeader = LedgerHeaderHistoryEntry.fromJson(reader);
+          break;
+        case "tx_set":
+          decodedLedgerCloseMetaV2.txSet = GeneralizedTransactionSet.fromJson(reader);
+          break;
+        case "tx_processing":
+          decodedLedgerCloseMetaV2.txProcessing =
+              XdrJson.readArray(
+                  reader, TransactionResultMetaV1[]::new, TransactionResultMetaV1::fromJson);
+          break;
+        case "upgrades_processing":
+          decodedLedgerCloseMetaV2.upgradesProcessing =
+              XdrJson.readArray(reader, UpgradeEntryMeta[]::new, UpgradeEntryMeta::fromJson);
+          break;
+        case "scp_info":
+          decodedLedgerCloseMetaV2.scpInfo =
+              XdrJson.readArray(reader, SCPHistoryEntry[]::new, SCPHistoryEntry::fromJson);
+          break;
+        case "total_byte_size_of_live_soroban_state":
+          decodedLedgerCloseMetaV2.totalByteSizeOfLiveSorobanState = Uint64.fromJson(reader);
+          break;
+        case "evicted_keys":
+          decodedLedgerCloseMetaV2.evictedKeys =
+              XdrJson.readArray(reader, LedgerKey[]::new, LedgerKey::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown LedgerCloseMetaV2 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerCloseMetaV2;
+  }
+
+  public static LedgerCloseMetaV2 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
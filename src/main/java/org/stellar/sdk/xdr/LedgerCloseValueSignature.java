@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerCloseValueSignature's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class LedgerCloseValueSignature implements XdrElement {
     signature.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += nodeID.encodedSize();
+    size += signature.encodedSize();
+    return size;
+  }
+
   public static LedgerCloseValueSignature decode(XdrDataInputStream stream) throws IOException {
     LedgerCloseValueSignature decodedLedgerCloseValueSignature = new LedgerCloseValueSignature();
     decodedLedgerCloseValueSignature.nodeID = NodeID.decode(stream);
@@ -42,14 +49,63 @@ public class LedgerCloseValueSignature implements XdrElement {
     return decodedLedgerCloseValueSignature;
   }
 
+  public static LedgerCloseValueSignature decodeInto(
+      LedgerCloseValueSignature existing, XdrDataInputStream stream) throws IOException {
+    LedgerCloseValueSignature decodedLedgerCloseValueSignature =
+        existing != null ? existing : new LedgerCloseValueSignature();
+    decodedLedgerCloseValueSignature.nodeID =
+        NodeID.decodeInto(decodedLedgerCloseValueSignature.nodeID, stream);
+    decodedLedgerCloseValueSignature.signature =
+        Signature.decodeInto(decodedLedgerCloseValueSignature.signature, stream);
+    return decodedLedgerCloseValueSignature;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    NodeID.skip(stream);
+    Signature.skip(stream);
+  }
+
   public static LedgerCloseValueSignature fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerCloseValueSignature fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("node_id");
+    nodeID.toJson(writer);
+    writer.name("signature");
+    signature.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LedgerCloseValueSignature fromJson(JsonReader reader) throws IOException {
+    LedgerCloseValueSignature decodedLedgerCloseValueSignature = new LedgerCloseValueSignature();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "node_id":
+          decodedLedgerCloseValueSignature.nodeID = NodeID.fromJson(reader);
+          break;
+        case "signature":
+          decodedLedgerCloseValueSignature.signature = Signature.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerCloseValueSignature field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerCloseValueSignature;
+  }
+
+  public static LedgerCloseValueSignature fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
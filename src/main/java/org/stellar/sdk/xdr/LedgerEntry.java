@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerEntry's original definition in the XDR file is:
@@ -71,6 +72,14 @@ public class LedgerEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += lastModifiedLedgerSeq.encodedSize();
+    size += data.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static LedgerEntry decode(XdrDataInputStream stream) throws IOException {
     LedgerEntry decodedLedgerEntry = new LedgerEntry();
     decodedLedgerEntry.lastModifiedLedgerSeq = Uint32.decode(stream);
@@ -79,17 +88,71 @@ public class LedgerEntry implements XdrElement {
     return decodedLedgerEntry;
   }
 
+  public static LedgerEntry decodeInto(LedgerEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerEntry decodedLedgerEntry = existing != null ? existing : new LedgerEntry();
+    decodedLedgerEntry.lastModifiedLedgerSeq =
+        Uint32.decodeInto(decodedLedgerEntry.lastModifiedLedgerSeq, stream);
+    decodedLedgerEntry.data = LedgerEntryData.decodeInto(decodedLedgerEntry.data, stream);
+    decodedLedgerEntry.ext = LedgerEntryExt.decodeInto(decodedLedgerEntry.ext, stream);
+    return decodedLedgerEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    LedgerEntryData.skip(stream);
+    LedgerEntryExt.skip(stream);
+  }
+
   public static LedgerEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("last_modified_ledger_seq");
+    lastModifiedLedgerSeq.toJson(writer);
+    writer.name("data");
+    data.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LedgerEntry fromJson(JsonReader reader) throws IOException {
+    LedgerEntry decodedLedgerEntry = new LedgerEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "last_modified_ledger_seq":
+          decodedLedgerEntry.lastModifiedLedgerSeq = Uint32.fromJson(reader);
+          break;
+        case "data":
+          decodedLedgerEntry.data = LedgerEntryData.fromJson(reader);
+          break;
+        case "ext":
+          decodedLedgerEntry.ext = LedgerEntryExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerEntry;
+  }
+
+  public static LedgerEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * LedgerEntryData's original definition in the XDR file is:
    *
@@ -172,6 +235,44 @@ public class LedgerEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case ACCOUNT:
+          size += account.encodedSize();
+          break;
+        case TRUSTLINE:
+          size += trustLine.encodedSize();
+          break;
+        case OFFER:
+          size += offer.encodedSize();
+          break;
+        case DATA:
+          size += data.encodedSize();
+          break;
+        case CLAIMABLE_BALANCE:
+          size += claimableBalance.encodedSize();
+          break;
+        case LIQUIDITY_POOL:
+          size += liquidityPool.encodedSize();
+          break;
+        case CONTRACT_DATA:
+          size += contractData.encodedSize();
+          break;
+        case CONTRACT_CODE:
+          size += contractCode.encodedSize();
+          break;
+        case CONFIG_SETTING:
+          size += configSetting.encodedSize();
+          break;
+        case TTL:
+          size += ttl.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static LedgerEntryData decode(XdrDataInputStream stream) throws IOException {
       LedgerEntryData decodedLedgerEntryData = new LedgerEntryData();
       LedgerEntryType discriminant = LedgerEntryType.decode(stream);
@@ -211,16 +312,226 @@ public class LedgerEntry implements XdrElement {
       return decodedLedgerEntryData;
     }
 
+    public static LedgerEntryData decodeInto(LedgerEntryData existing, XdrDataInputStream stream)
+        throws IOException {
+      LedgerEntryType discriminant = LedgerEntryType.decode(stream);
+      LedgerEntryData decodedLedgerEntryData =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new LedgerEntryData();
+      decodedLedgerEntryData.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case ACCOUNT:
+          decodedLedgerEntryData.account =
+              AccountEntry.decodeInto(decodedLedgerEntryData.account, stream);
+          break;
+        case TRUSTLINE:
+          decodedLedgerEntryData.trustLine =
+              TrustLineEntry.decodeInto(decodedLedgerEntryData.trustLine, stream);
+          break;
+        case OFFER:
+          decodedLedgerEntryData.offer =
+              OfferEntry.decodeInto(decodedLedgerEntryData.offer, stream);
+          break;
+        case DATA:
+          decodedLedgerEntryData.data = DataEntry.decodeInto(decodedLedgerEntryData.data, stream);
+          break;
+        case CLAIMABLE_BALANCE:
+          decodedLedgerEntryData.claimableBalance =
+              ClaimableBalanceEntry.decodeInto(decodedLedgerEntryData.claimableBalance, stream);
+          break;
+        case LIQUIDITY_POOL:
+          decodedLedgerEntryData.liquidityPool =
+              LiquidityPoolEntry.decodeInto(decodedLedgerEntryData.liquidityPool, stream);
+          break;
+        case CONTRACT_DATA:
+          decodedLedgerEntryData.contractData =
+              ContractDataEntry.decodeInto(decodedLedgerEntryData.contractData, stream);
+          break;
+        case CONTRACT_CODE:
+          decodedLedgerEntryData.contractCode =
+              ContractCodeEntry.decodeInto(decodedLedgerEntryData.contractCode, stream);
+          break;
+        case CONFIG_SETTING:
+          decodedLedgerEntryData.configSetting =
+              ConfigSettingEntry.decodeInto(decodedLedgerEntryData.configSetting, stream);
+          break;
+        case TTL:
+          decodedLedgerEntryData.ttl = TTLEntry.decodeInto(decodedLedgerEntryData.ttl, stream);
+          break;
+      }
+      return decodedLedgerEntryData;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      LedgerEntryType discriminant = LedgerEntryType.decode(stream);
+      switch (discriminant) {
+        case ACCOUNT:
+          AccountEntry.skip(stream);
+          break;
+        case TRUSTLINE:
+          TrustLineEntry.skip(stream);
+          break;
+        case OFFER:
+          OfferEntry.skip(stream);
+          break;
+        case DATA:
+          DataEntry.skip(stream);
+          break;
+        case CLAIMABLE_BALANCE:
+          ClaimableBalanceEntry.skip(stream);
+          break;
+        case LIQUIDITY_POOL:
+          LiquidityPoolEntry.skip(stream);
+          break;
+        case CONTRACT_DATA:
+          ContractDataEntry.skip(stream);
+          break;
+        case CONTRACT_CODE:
+          ContractCodeEntry.skip(stream);
+          break;
+        case CONFIG_SETTING:
+          ConfigSettingEntry.skip(stream);
+          break;
+        case TTL:
+          TTLEntry.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown LedgerEntryData discriminant: " + discriminant);
+      }
+    }
+
     public static LedgerEntryData fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerEntryData fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case ACCOUNT:
+          writer.beginObject();
+          writer.name("account");
+          account.toJson(writer);
+          writer.endObject();
+          break;
+        case TRUSTLINE:
+          writer.beginObject();
+          writer.name("trustline");
+          trustLine.toJson(writer);
+          writer.endObject();
+          break;
+        case OFFER:
+          writer.beginObject();
+          writer.name("offer");
+          offer.toJson(writer);
+          writer.endObject();
+          break;
+        case DATA:
+          writer.beginObject();
+          writer.name("data");
+          data.toJson(writer);
+          writer.endObject();
+          break;
+        case CLAIMABLE_BALANCE:
+          writer.beginObject();
+          writer.name("claimable_balance");
+          claimableBalance.toJson(writer);
+          writer.endObject();
+          break;
+        case LIQUIDITY_POOL:
+          writer.beginObject();
+          writer.name("liquidity_pool");
+          liquidityPool.toJson(writer);
+          writer.endObject();
+          break;
+        case CONTRACT_DATA:
+          writer.beginObject();
+          writer.name("contract_data");
+          contractData.toJson(writer);
+          writer.endObject();
+          break;
+        case CONTRACT_CODE:
+          writer.beginObject();
+          writer.name("contract_code");
+          contractCode.toJson(writer);
+          writer.endObject();
+          break;
+        case CONFIG_SETTING:
+          writer.beginObject();
+          writer.name("config_setting");
+          configSetting.toJson(writer);
+          writer.endObject();
+          break;
+        case TTL:
+          writer.beginObject();
+          writer.name("ttl");
+          ttl.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static LedgerEntryData fromJson(JsonReader reader) throws IOException {
+      LedgerEntryData decodedLedgerEntryData = new LedgerEntryData();
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "account":
+          decodedLedgerEntryData.setDiscriminant(LedgerEntryType.ACCOUNT);
+          decodedLedgerEntryData.account = AccountEntry.fromJson(reader);
+          break;
+        case "trustline":
+          decodedLedgerEntryData.setDiscriminant(LedgerEntryType.TRUSTLINE);
+          decodedLedgerEntryData.trustLine = TrustLineEntry.fromJson(reader);
+          break;
+        case "offer":
+          decodedLedgerEntryData.setDiscriminant(LedgerEntryType.OFFER);
+          decodedLedgerEntryData.offer = OfferEntry.fromJson(reader);
+          break;
+        case "data":
+          decodedLedgerEntryData.setDiscriminant(LedgerEntryType.DATA);
+          decodedLedgerEntryData.data = DataEntry.fromJson(reader);
+          break;
+        case "claimable_balance":
+          decodedLedgerEntryData.setDiscriminant(LedgerEntryType.CLAIMABLE_BALANCE);
+          decodedLedgerEntryData.claimableBalance = ClaimableBalanceEntry.fromJson(reader);
+          break;
+        case "liquidity_pool":
+          decodedLedgerEntryData.setDiscriminant(LedgerEntryType.LIQUIDITY_POOL);
+          decodedLedgerEntryData.liquidityPool = LiquidityPoolEntry.fromJson(reader);
+          break;
+        case "contract_data":
+          decodedLedgerEntryData.setDiscriminant(LedgerEntryType.CONTRACT_DATA);
+          decodedLedgerEntryData.contractData = ContractDataEntry.fromJson(reader);
+          break;
+        case "contract_code":
+          decodedLedgerEntryData.setDiscriminant(LedgerEntryType.CONTRACT_CODE);
+          decodedLedgerEntryData.contractCode = ContractCodeEntry.fromJson(reader);
+          break;
+        case "config_setting":
+          decodedLedgerEntryData.setDiscriminant(LedgerEntryType.CONFIG_SETTING);
+          decodedLedgerEntryData.configSetting = ConfigSettingEntry.fromJson(reader);
+          break;
+        case "ttl":
+          decodedLedgerEntryData.setDiscriminant(LedgerEntryType.TTL);
+          decodedLedgerEntryData.ttl = TTLEntry.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerEntryData arm: " + key);
+      }
+      reader.endObject();
+      return decodedLedgerEntryData;
+    }
+
+    public static LedgerEntryData fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -255,6 +566,19 @@ public class LedgerEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static LedgerEntryExt decode(XdrDataInputStream stream) throws IOException {
       LedgerEntryExt decodedLedgerEntryExt = new LedgerEntryExt();
       Integer discriminant = stream.readInt();
@@ -269,15 +593,92 @@ public class LedgerEntry implements XdrElement {
       return decodedLedgerEntryExt;
     }
 
+    public static LedgerEntryExt decodeInto(LedgerEntryExt existing, XdrDataInputStream stream)
+        throws IOException {
+      Integer discriminant = stream.readInt();
+      LedgerEntryExt decodedLedgerEntryExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new LedgerEntryExt();
+      decodedLedgerEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          decodedLedgerEntryExt.v1 =
+              LedgerEntryExtensionV1.decodeInto(decodedLedgerEntryExt.v1, stream);
+          break;
+      }
+      return decodedLedgerEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          LedgerEntryExtensionV1.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown LedgerEntryExt discriminant: " + discriminant);
+      }
+    }
+
     public static LedgerEntryExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 1:
+          writer.beginObject();
+          writer.name("v1");
+          v1.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static LedgerEntryExt fromJson(JsonReader reader) throws IOException {
+      LedgerEntryExt decodedLedgerEntryExt = new LedgerEntryExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedLedgerEntryExt.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown LedgerEntryExt arm: " + key);
+        }
+        return decodedLedgerEntryExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v1":
+          decodedLedgerEntryExt.setDiscriminant(1);
+          decodedLedgerEntryExt.v1 = LedgerEntryExtensionV1.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerEntryExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedLedgerEntryExt;
+    }
+
+    public static LedgerEntryExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
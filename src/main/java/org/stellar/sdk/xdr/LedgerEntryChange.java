@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerEntryChange's original definition in the XDR file is:
@@ -63,6 +63,29 @@ public class LedgerEntryChange implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case LEDGER_ENTRY_CREATED:
+        size += created.encodedSize();
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        size += updated.encodedSize();
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        size += removed.encodedSize();
+        break;
+      case LEDGER_ENTRY_STATE:
+        size += state.encodedSize();
+        break;
+      case LEDGER_ENTRY_RESTORED:
+        size += restored.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LedgerEntryChange decode(XdrDataInputStream stream) throws IOException {
     LedgerEntryChange decodedLedgerEntryChange = new LedgerEntryChange();
     LedgerEntryChangeType discriminant = LedgerEntryChangeType.decode(stream);
@@ -87,14 +110,141 @@ public class LedgerEntryChange implements XdrElement {
     return decodedLedgerEntryChange;
   }
 
+  public static LedgerEntryChange decodeInto(LedgerEntryChange existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerEntryChangeType discriminant = LedgerEntryChangeType.decode(stream);
+    LedgerEntryChange decodedLedgerEntryChange =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new LedgerEntryChange();
+    decodedLedgerEntryChange.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case LEDGER_ENTRY_CREATED:
+        decodedLedgerEntryChange.created =
+            LedgerEntry.decodeInto(decodedLedgerEntryChange.created, stream);
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        decodedLedgerEntryChange.updated =
+            LedgerEntry.decodeInto(decodedLedgerEntryChange.updated, stream);
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        decodedLedgerEntryChange.removed =
+            LedgerKey.decodeInto(decodedLedgerEntryChange.removed, stream);
+        break;
+      case LEDGER_ENTRY_STATE:
+        decodedLedgerEntryChange.state =
+            LedgerEntry.decodeInto(decodedLedgerEntryChange.state, stream);
+        break;
+      case LEDGER_ENTRY_RESTORED:
+        decodedLedgerEntryChange.restored =
+            LedgerEntry.decodeInto(decodedLedgerEntryChange.restored, stream);
+        break;
+    }
+    return decodedLedgerEntryChange;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerEntryChangeType discriminant = LedgerEntryChangeType.decode(stream);
+    switch (discriminant) {
+      case LEDGER_ENTRY_CREATED:
+        LedgerEntry.skip(stream);
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        LedgerEntry.skip(stream);
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        LedgerKey.skip(stream);
+        break;
+      case LEDGER_ENTRY_STATE:
+        LedgerEntry.skip(stream);
+        break;
+      case LEDGER_ENTRY_RESTORED:
+        LedgerEntry.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown LedgerEntryChange discriminant: " + discriminant);
+    }
+  }
+
   public static LedgerEntryChange fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerEntryChange fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case LEDGER_ENTRY_CREATED:
+        writer.beginObject();
+        writer.name("created");
+        created.toJson(writer);
+        writer.endObject();
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        writer.beginObject();
+        writer.name("updated");
+        updated.toJson(writer);
+        writer.endObject();
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        writer.beginObject();
+        writer.name("removed");
+        removed.toJson(writer);
+        writer.endObject();
+        break;
+      case LEDGER_ENTRY_STATE:
+        writer.beginObject();
+        writer.name("state");
+        state.toJson(writer);
+        writer.endObject();
+        break;
+      case LEDGER_ENTRY_RESTORED:
+        writer.beginObject();
+        writer.name("restored");
+        restored.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static LedgerEntryChange fromJson(JsonReader reader) throws IOException {
+    LedgerEntryChange decodedLedgerEntryChange = new LedgerEntryChange();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "created":
+        decodedLedgerEntryChange.setDiscriminant(LedgerEntryChangeType.LEDGER_ENTRY_CREATED);
+        decodedLedgerEntryChange.created = LedgerEntry.fromJson(reader);
+        break;
+      case "updated":
+        decodedLedgerEntryChange.setDiscriminant(LedgerEntryChangeType.LEDGER_ENTRY_UPDATED);
+        decodedLedgerEntryChange.updated = LedgerEntry.fromJson(reader);
+        break;
+      case "removed":
+        decodedLedgerEntryChange.setDiscriminant(LedgerEntryChangeType.LEDGER_ENTRY_REMOVED);
+        decodedLedgerEntryChange.removed = LedgerKey.fromJson(reader);
+        break;
+      case "state":
+        decodedLedgerEntryChange.setDiscriminant(LedgerEntryChangeType.LEDGER_ENTRY_STATE);
+        decodedLedgerEntryChange.state = LedgerEntry.fromJson(reader);
+        break;
+      case "restored":
+        decodedLedgerEntryChange.setDiscriminant(LedgerEntryChangeType.LEDGER_ENTRY_RESTORED);
+        decodedLedgerEntryChange.restored = LedgerEntry.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown LedgerEntryChange arm: " + key);
+    }
+    reader.endObject();
+    return decodedLedgerEntryChange;
+  }
+
+  public static LedgerEntryChange fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
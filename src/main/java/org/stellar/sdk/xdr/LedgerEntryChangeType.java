@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerEntryChangeType's original definition in the XDR file is:
@@ -56,18 +56,68 @@ public enum LedgerEntryChangeType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static LedgerEntryChangeType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerEntryChangeType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case LEDGER_ENTRY_CREATED:
+        writer.value("created");
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        writer.value("updated");
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        writer.value("removed");
+        break;
+      case LEDGER_ENTRY_STATE:
+        writer.value("state");
+        break;
+      case LEDGER_ENTRY_RESTORED:
+        writer.value("restored");
+        break;
+    }
+  }
+
+  public static LedgerEntryChangeType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "created":
+        return LEDGER_ENTRY_CREATED;
+      case "updated":
+        return LEDGER_ENTRY_UPDATED;
+      case "removed":
+        return LEDGER_ENTRY_REMOVED;
+      case "state":
+        return LEDGER_ENTRY_STATE;
+      case "restored":
+        return LEDGER_ENTRY_RESTORED;
+      default:
+        throw new IOException("Unknown LedgerEntryChangeType value: " + value);
+    }
+  }
+
+  public static LedgerEntryChangeType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
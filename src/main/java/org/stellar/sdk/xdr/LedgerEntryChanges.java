@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerEntryChanges's original definition in the XDR file is:
@@ -31,9 +31,19 @@ public class LedgerEntryChanges implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int LedgerEntryChangesSize = getLedgerEntryChanges().length;
+    size += 4;
+    for (int i = 0; i < LedgerEntryChangesSize; i++) {
+      size += LedgerEntryChanges[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerEntryChanges decode(XdrDataInputStream stream) throws IOException {
     LedgerEntryChanges decodedLedgerEntryChanges = new LedgerEntryChanges();
-    int LedgerEntryChangesSize = stream.readInt();
+    int LedgerEntryChangesSize = stream.readLength(4);
     decodedLedgerEntryChanges.LedgerEntryChanges = new LedgerEntryChange[LedgerEntryChangesSize];
     for (int i = 0; i < LedgerEntryChangesSize; i++) {
       decodedLedgerEntryChanges.LedgerEntryChanges[i] = LedgerEntryChange.decode(stream);
@@ -41,14 +51,53 @@ public class LedgerEntryChanges implements XdrElement {
     return decodedLedgerEntryChanges;
   }
 
+  public static LedgerEntryChanges decodeInto(
+      LedgerEntryChanges existing, XdrDataInputStream stream) throws IOException {
+    LedgerEntryChanges decodedLedgerEntryChanges =
+        existing != null ? existing : new LedgerEntryChanges();
+    int LedgerEntryChangesSize = stream.readLength(4);
+    decodedLedgerEntryChanges.LedgerEntryChanges =
+        XdrRecycler.resize(
+            decodedLedgerEntryChanges.LedgerEntryChanges,
+            LedgerEntryChangesSize,
+            LedgerEntryChange[]::new);
+    for (int i = 0; i < LedgerEntryChangesSize; i++) {
+      decodedLedgerEntryChanges.LedgerEntryChanges[i] =
+          LedgerEntryChange.decodeInto(decodedLedgerEntryChanges.LedgerEntryChanges[i], stream);
+    }
+    return decodedLedgerEntryChanges;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int LedgerEntryChangesSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < LedgerEntryChangesSize; i++) {
+      LedgerEntryChange.skip(stream);
+    }
+  }
+
   public static LedgerEntryChanges fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerEntryChanges fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeArray(writer, LedgerEntryChanges);
+  }
+
+  public static LedgerEntryChanges fromJson(JsonReader reader) throws IOException {
+    LedgerEntryChanges decodedLedgerEntryChanges = new LedgerEntryChanges();
+    decodedLedgerEntryChanges.LedgerEntryChanges =
+        XdrJson.readArray(reader, LedgerEntryChange[]::new, LedgerEntryChange::fromJson);
+    return decodedLedgerEntryChanges;
+  }
+
+  public static LedgerEntryChanges fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerEntryExtensionV1's original definition in the XDR file is:
@@ -41,6 +41,13 @@ public class LedgerEntryExtensionV1 implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += sponsoringID.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static LedgerEntryExtensionV1 decode(XdrDataInputStream stream) throws IOException {
     LedgerEntryExtensionV1 decodedLedgerEntryExtensionV1 = new LedgerEntryExtensionV1();
     decodedLedgerEntryExtensionV1.sponsoringID = SponsorshipDescriptor.decode(stream);
@@ -48,17 +55,66 @@ public class LedgerEntryExtensionV1 implements XdrElement {
     return decodedLedgerEntryExtensionV1;
   }
 
+  public static LedgerEntryExtensionV1 decodeInto(
+      LedgerEntryExtensionV1 existing, XdrDataInputStream stream) throws IOException {
+    LedgerEntryExtensionV1 decodedLedgerEntryExtensionV1 =
+        existing != null ? existing : new LedgerEntryExtensionV1();
+    decodedLedgerEntryExtensionV1.sponsoringID =
+        SponsorshipDescriptor.decodeInto(decodedLedgerEntryExtensionV1.sponsoringID, stream);
+    decodedLedgerEntryExtensionV1.ext =
+        LedgerEntryExtensionV1Ext.decodeInto(decodedLedgerEntryExtensionV1.ext, stream);
+    return decodedLedgerEntryExtensionV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SponsorshipDescriptor.skip(stream);
+    LedgerEntryExtensionV1Ext.skip(stream);
+  }
+
   public static LedgerEntryExtensionV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerEntryExtensionV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("sponsoring_id");
+    sponsoringID.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LedgerEntryExtensionV1 fromJson(JsonReader reader) throws IOException {
+    LedgerEntryExtensionV1 decodedLedgerEntryExtensionV1 = new LedgerEntryExtensionV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "sponsoring_id":
+          decodedLedgerEntryExtensionV1.sponsoringID = SponsorshipDescriptor.fromJson(reader);
+          break;
+        case "ext":
+          decodedLedgerEntryExtensionV1.ext = LedgerEntryExtensionV1Ext.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerEntryExtensionV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerEntryExtensionV1;
+  }
+
+  public static LedgerEntryExtensionV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * LedgerEntryExtensionV1Ext's original definition in the XDR file is:
    *
@@ -85,6 +141,16 @@ public class LedgerEntryExtensionV1 implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static LedgerEntryExtensionV1Ext decode(XdrDataInputStream stream) throws IOException {
       LedgerEntryExtensionV1Ext decodedLedgerEntryExtensionV1Ext = new LedgerEntryExtensionV1Ext();
       Integer discriminant = stream.readInt();
@@ -96,15 +162,65 @@ public class LedgerEntryExtensionV1 implements XdrElement {
       return decodedLedgerEntryExtensionV1Ext;
     }
 
+    public static LedgerEntryExtensionV1Ext decodeInto(
+        LedgerEntryExtensionV1Ext existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      LedgerEntryExtensionV1Ext decodedLedgerEntryExtensionV1Ext =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new LedgerEntryExtensionV1Ext();
+      decodedLedgerEntryExtensionV1Ext.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedLedgerEntryExtensionV1Ext;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown LedgerEntryExtensionV1Ext discriminant: " + discriminant);
+      }
+    }
+
     public static LedgerEntryExtensionV1Ext fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerEntryExtensionV1Ext fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static LedgerEntryExtensionV1Ext fromJson(JsonReader reader) throws IOException {
+      LedgerEntryExtensionV1Ext decodedLedgerEntryExtensionV1Ext = new LedgerEntryExtensionV1Ext();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedLedgerEntryExtensionV1Ext.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown LedgerEntryExtensionV1Ext arm: " + key);
+      }
+      return decodedLedgerEntryExtensionV1Ext;
+    }
+
+    public static LedgerEntryExtensionV1Ext fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
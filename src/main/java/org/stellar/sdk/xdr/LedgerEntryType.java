@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerEntryType's original definition in the XDR file is:
@@ -76,18 +76,93 @@ public enum LedgerEntryType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static LedgerEntryType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerEntryType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case ACCOUNT:
+        writer.value("account");
+        break;
+      case TRUSTLINE:
+        writer.value("trustline");
+        break;
+      case OFFER:
+        writer.value("offer");
+        break;
+      case DATA:
+        writer.value("data");
+        break;
+      case CLAIMABLE_BALANCE:
+        writer.value("claimable_balance");
+        break;
+      case LIQUIDITY_POOL:
+        writer.value("liquidity_pool");
+        break;
+      case CONTRACT_DATA:
+        writer.value("contract_data");
+        break;
+      case CONTRACT_CODE:
+        writer.value("contract_code");
+        break;
+      case CONFIG_SETTING:
+        writer.value("config_setting");
+        break;
+      case TTL:
+        writer.value("ttl");
+        break;
+    }
+  }
+
+  public static LedgerEntryType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "account":
+        return ACCOUNT;
+      case "trustline":
+        return TRUSTLINE;
+      case "offer":
+        return OFFER;
+      case "data":
+        return DATA;
+      case "claimable_balance":
+        return CLAIMABLE_BALANCE;
+      case "liquidity_pool":
+        return LIQUIDITY_POOL;
+      case "contract_data":
+        return CONTRACT_DATA;
+      case "contract_code":
+        return CONTRACT_CODE;
+      case "config_setting":
+        return CONFIG_SETTING;
+      case "ttl":
+        return TTL;
+      default:
+        throw new IOException("Unknown LedgerEntryType value: " + value);
+    }
+  }
+
+  public static LedgerEntryType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerFootprint's original definition in the XDR file is:
@@ -43,14 +43,29 @@ public class LedgerFootprint implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int readOnlySize = getReadOnly().length;
+    size += 4;
+    for (int i = 0; i < readOnlySize; i++) {
+      size += readOnly[i].encodedSize();
+    }
+    int readWriteSize = getReadWrite().length;
+    size += 4;
+    for (int i = 0; i < readWriteSize; i++) {
+      size += readWrite[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerFootprint decode(XdrDataInputStream stream) throws IOException {
     LedgerFootprint decodedLedgerFootprint = new LedgerFootprint();
-    int readOnlySize = stream.readInt();
+    int readOnlySize = stream.readLength(4);
     decodedLedgerFootprint.readOnly = new LedgerKey[readOnlySize];
     for (int i = 0; i < readOnlySize; i++) {
       decodedLedgerFootprint.readOnly[i] = LedgerKey.decode(stream);
     }
-    int readWriteSize = stream.readInt();
+    int readWriteSize = stream.readLength(4);
     decodedLedgerFootprint.readWrite = new LedgerKey[readWriteSize];
     for (int i = 0; i < readWriteSize; i++) {
       decodedLedgerFootprint.readWrite[i] = LedgerKey.decode(stream);
@@ -58,14 +73,80 @@ public class LedgerFootprint implements XdrElement {
     return decodedLedgerFootprint;
   }
 
+  public static LedgerFootprint decodeInto(LedgerFootprint existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerFootprint decodedLedgerFootprint = existing != null ? existing : new LedgerFootprint();
+    int readOnlySize = stream.readLength(4);
+    decodedLedgerFootprint.readOnly =
+        XdrRecycler.resize(decodedLedgerFootprint.readOnly, readOnlySize, LedgerKey[]::new);
+    for (int i = 0; i < readOnlySize; i++) {
+      decodedLedgerFootprint.readOnly[i] =
+          LedgerKey.decodeInto(decodedLedgerFootprint.readOnly[i], stream);
+    }
+    int readWriteSize = stream.readLength(4);
+    decodedLedgerFootprint.readWrite =
+        XdrRecycler.resize(decodedLedgerFootprint.readWrite, readWriteSize, LedgerKey[]::new);
+    for (int i = 0; i < readWriteSize; i++) {
+      decodedLedgerFootprint.readWrite[i] =
+          LedgerKey.decodeInto(decodedLedgerFootprint.readWrite[i], stream);
+    }
+    return decodedLedgerFootprint;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int readOnlySize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < readOnlySize; i++) {
+      LedgerKey.skip(stream);
+    }
+    int readWriteSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < readWriteSize; i++) {
+      LedgerKey.skip(stream);
+    }
+  }
+
   public static LedgerFootprint fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerFootprint fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("read_only");
+    XdrJson.writeArray(writer, readOnly);
+    writer.name("read_write");
+    XdrJson.writeArray(writer, readWrite);
+    writer.endObject();
+  }
+
+  public static LedgerFootprint fromJson(JsonReader reader) throws IOException {
+    LedgerFootprint decodedLedgerFootprint = new LedgerFootprint();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "read_only":
+          decodedLedgerFootprint.readOnly =
+              XdrJson.readArray(reader, LedgerKey[]::new, LedgerKey::fromJson);
+          break;
+        case "read_write":
+          decodedLedgerFootprint.readWrite =
+              XdrJson.readArray(reader, LedgerKey[]::new, LedgerKey::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown LedgerFootprint field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerFootprint;
+  }
+
+  public static LedgerFootprint fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
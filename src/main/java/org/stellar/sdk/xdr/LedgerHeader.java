@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerHeader's original definition in the XDR file is:
@@ -98,6 +99,29 @@ public class LedgerHeader implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerVersion.encodedSize();
+    size += previousLedgerHash.encodedSize();
+    size += scpValue.encodedSize();
+    size += txSetResultHash.encodedSize();
+    size += bucketListHash.encodedSize();
+    size += ledgerSeq.encodedSize();
+    size += totalCoins.encodedSize();
+    size += feePool.encodedSize();
+    size += inflationSeq.encodedSize();
+    size += idPool.encodedSize();
+    size += baseFee.encodedSize();
+    size += baseReserve.encodedSize();
+    size += maxTxSetSize.encodedSize();
+    int skipListSize = getSkipList().length;
+    for (int i = 0; i < skipListSize; i++) {
+      size += skipList[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static LedgerHeader decode(XdrDataInputStream stream) throws IOException {
     LedgerHeader decodedLedgerHeader = new LedgerHeader();
     decodedLedgerHeader.ledgerVersion = Uint32.decode(stream);
@@ -122,17 +146,166 @@ public class LedgerHeader implements XdrElement {
     return decodedLedgerHeader;
   }
 
+  public static LedgerHeader decodeInto(LedgerHeader existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerHeader decodedLedgerHeader = existing != null ? existing : new LedgerHeader();
+    decodedLedgerHeader.ledgerVersion =
+        Uint32.decodeInto(decodedLedgerHeader.ledgerVersion, stream);
+    decodedLedgerHeader.previousLedgerHash =
+        Hash.decodeInto(decodedLedgerHeader.previousLedgerHash, stream);
+    decodedLedgerHeader.scpValue = StellarValue.decodeInto(decodedLedgerHeader.scpValue, stream);
+    decodedLedgerHeader.txSetResultHash =
+        Hash.decodeInto(decodedLedgerHeader.txSetResultHash, stream);
+    decodedLedgerHeader.bucketListHash =
+        Hash.decodeInto(decodedLedgerHeader.bucketListHash, stream);
+    decodedLedgerHeader.ledgerSeq = Uint32.decodeInto(decodedLedgerHeader.ledgerSeq, stream);
+    decodedLedgerHeader.totalCoins = Int64.decodeInto(decodedLedgerHeader.totalCoins, stream);
+    decodedLedgerHeader.feePool = Int64.decodeInto(decodedLedgerHeader.feePool, stream);
+    decodedLedgerHeader.inflationSeq = Uint32.decodeInto(decodedLedgerHeader.inflationSeq, stream);
+    decodedLedgerHeader.idPool = Uint64.decodeInto(decodedLedgerHeader.idPool, stream);
+    decodedLedgerHeader.baseFee = Uint32.decodeInto(decodedLedgerHeader.baseFee, stream);
+    decodedLedgerHeader.baseReserve = Uint32.decodeInto(decodedLedgerHeader.baseReserve, stream);
+    decodedLedgerHeader.maxTxSetSize = Uint32.decodeInto(decodedLedgerHeader.maxTxSetSize, stream);
+    int skipListSize = 4;
+    decodedLedgerHeader.skipList =
+        XdrRecycler.resize(decodedLedgerHeader.skipList, skipListSize, Hash[]::new);
+    for (int i = 0; i < skipListSize; i++) {
+      decodedLedgerHeader.skipList[i] = Hash.decodeInto(decodedLedgerHeader.skipList[i], stream);
+    }
+    decodedLedgerHeader.ext = LedgerHeaderExt.decodeInto(decodedLedgerHeader.ext, stream);
+    return decodedLedgerHeader;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Hash.skip(stream);
+    StellarValue.skip(stream);
+    Hash.skip(stream);
+    Hash.skip(stream);
+    Uint32.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Uint32.skip(stream);
+    Uint64.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    int skipListSize = 4;
+    for (int i = 0; i < skipListSize; i++) {
+      Hash.skip(stream);
+    }
+    LedgerHeaderExt.skip(stream);
+  }
+
   public static LedgerHeader fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerHeader fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_version");
+    ledgerVersion.toJson(writer);
+    writer.name("previous_ledger_hash");
+    previousLedgerHash.toJson(writer);
+    writer.name("scp_value");
+    scpValue.toJson(writer);
+    writer.name("tx_set_result_hash");
+    txSetResultHash.toJson(writer);
+    writer.name("bucket_list_hash");
+    bucketListHash.toJson(writer);
+    writer.name("ledger_seq");
+    ledgerSeq.toJson(writer);
+    writer.name("total_coins");
+    totalCoins.toJson(writer);
+    writer.name("fee_pool");
+    feePool.toJson(writer);
+    writer.name("inflation_seq");
+    inflationSeq.toJson(writer);
+    writer.name("id_pool");
+    idPool.toJson(writer);
+    writer.name("base_fee");
+    baseFee.toJson(writer);
+    writer.name("base_reserve");
+    baseReserve.toJson(writer);
+    writer.name("max_tx_set_size");
+    maxTxSetSize.toJson(writer);
+    writer.name("skip_list");
+    XdrJson.writeArray(writer, skipList);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LedgerHeader fromJson(JsonReader reader) throws IOException {
+    LedgerHeader decodedLedgerHeader = new LedgerHeader();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_version":
+          decodedLedgerHeader.ledgerVersion = Uint32.fromJson(reader);
+          break;
+        case "previous_ledger_hash":
+          decodedLedgerHeader.previousLedgerHash = Hash.fromJson(reader);
+          break;
+        case "scp_value":
+          decodedLedgerHeader.scpValue = StellarValue.fromJson(reader);
+          break;
+        case "tx_set_result_hash":
+          decodedLedgerHeader.txSetResultHash = Hash.fromJson(reader);
+          break;
+        case "bucket_list_hash":
+          decodedLedgerHeader.bucketListHash = Hash.fromJson(reader);
+          break;
+        case "ledger_seq":
+          decodedLedgerHeader.ledgerSeq = Uint32.fromJson(reader);
+          break;
+        case "total_coins":
+          decodedLedgerHeader.totalCoins = Int64.fromJson(reader);
+          break;
+        case "fee_pool":
+          decodedLedgerHeader.feePool = Int64.fromJson(reader);
+          break;
+        case "inflation_seq":
+          decodedLedgerHeader.inflationSeq = Uint32.fromJson(reader);
+          break;
+        case "id_pool":
+          decodedLedgerHeader.idPool = Uint64.fromJson(reader);
+          break;
+        case "base_fee":
+          decodedLedgerHeader.baseFee = Uint32.fromJson(reader);
+          break;
+        case "base_reserve":
+          decodedLedgerHeader.baseReserve = Uint32.fromJson(reader);
+          break;
+        case "max_tx_set_size":
+          decodedLedgerHeader.maxTxSetSize = Uint32.fromJson(reader);
+          break;
+        case "skip_list":
+          decodedLedgerHeader.skipList = XdrJson.readArray(reader, 4, Hash[]::new, Hash::fromJson);
+          break;
+        case "ext":
+          decodedLedgerHeader.ext = LedgerHeaderExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerHeader field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerHeader;
+  }
+
+  public static LedgerHeader fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * LedgerHeaderExt's original definition in the XDR file is:
    *
@@ -165,6 +338,19 @@ public class LedgerHeader implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static LedgerHeaderExt decode(XdrDataInputStream stream) throws IOException {
       LedgerHeaderExt decodedLedgerHeaderExt = new LedgerHeaderExt();
       Integer discriminant = stream.readInt();
@@ -179,15 +365,92 @@ public class LedgerHeader implements XdrElement {
       return decodedLedgerHeaderExt;
     }
 
+    public static LedgerHeaderExt decodeInto(LedgerHeaderExt existing, XdrDataInputStream stream)
+        throws IOException {
+      Integer discriminant = stream.readInt();
+      LedgerHeaderExt decodedLedgerHeaderExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new LedgerHeaderExt();
+      decodedLedgerHeaderExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          decodedLedgerHeaderExt.v1 =
+              LedgerHeaderExtensionV1.decodeInto(decodedLedgerHeaderExt.v1, stream);
+          break;
+      }
+      return decodedLedgerHeaderExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          LedgerHeaderExtensionV1.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown LedgerHeaderExt discriminant: " + discriminant);
+      }
+    }
+
     public static LedgerHeaderExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerHeaderExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 1:
+          writer.beginObject();
+          writer.name("v1");
+          v1.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static LedgerHeaderExt fromJson(JsonReader reader) throws IOException {
+      LedgerHeaderExt decodedLedgerHeaderExt = new LedgerHeaderExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedLedgerHeaderExt.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown LedgerHeaderExt arm: " + key);
+        }
+        return decodedLedgerHeaderExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v1":
+          decodedLedgerHeaderExt.setDiscriminant(1);
+          decodedLedgerHeaderExt.v1 = LedgerHeaderExtensionV1.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerHeaderExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedLedgerHeaderExt;
+    }
+
+    public static LedgerHeaderExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
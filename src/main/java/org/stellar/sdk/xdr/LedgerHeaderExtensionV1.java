@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerHeaderExtensionV1's original definition in the XDR file is:
@@ -41,6 +41,13 @@ public class LedgerHeaderExtensionV1 implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += flags.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static LedgerHeaderExtensionV1 decode(XdrDataInputStream stream) throws IOException {
     LedgerHeaderExtensionV1 decodedLedgerHeaderExtensionV1 = new LedgerHeaderExtensionV1();
     decodedLedgerHeaderExtensionV1.flags = Uint32.decode(stream);
@@ -48,17 +55,66 @@ public class LedgerHeaderExtensionV1 implements XdrElement {
     return decodedLedgerHeaderExtensionV1;
   }
 
+  public static LedgerHeaderExtensionV1 decodeInto(
+      LedgerHeaderExtensionV1 existing, XdrDataInputStream stream) throws IOException {
+    LedgerHeaderExtensionV1 decodedLedgerHeaderExtensionV1 =
+        existing != null ? existing : new LedgerHeaderExtensionV1();
+    decodedLedgerHeaderExtensionV1.flags =
+        Uint32.decodeInto(decodedLedgerHeaderExtensionV1.flags, stream);
+    decodedLedgerHeaderExtensionV1.ext =
+        LedgerHeaderExtensionV1Ext.decodeInto(decodedLedgerHeaderExtensionV1.ext, stream);
+    return decodedLedgerHeaderExtensionV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    LedgerHeaderExtensionV1Ext.skip(stream);
+  }
+
   public static LedgerHeaderExtensionV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerHeaderExtensionV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("flags");
+    flags.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LedgerHeaderExtensionV1 fromJson(JsonReader reader) throws IOException {
+    LedgerHeaderExtensionV1 decodedLedgerHeaderExtensionV1 = new LedgerHeaderExtensionV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "flags":
+          decodedLedgerHeaderExtensionV1.flags = Uint32.fromJson(reader);
+          break;
+        case "ext":
+          decodedLedgerHeaderExtensionV1.ext = LedgerHeaderExtensionV1Ext.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerHeaderExtensionV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerHeaderExtensionV1;
+  }
+
+  public static LedgerHeaderExtensionV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * LedgerHeaderExtensionV1Ext's original definition in the XDR file is:
    *
@@ -85,6 +141,16 @@ public class LedgerHeaderExtensionV1 implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static LedgerHeaderExtensionV1Ext decode(XdrDataInputStream stream) throws IOException {
       LedgerHeaderExtensionV1Ext decodedLedgerHeaderExtensionV1Ext =
           new LedgerHeaderExtensionV1Ext();
@@ -97,15 +163,66 @@ public class LedgerHeaderExtensionV1 implements XdrElement {
       return decodedLedgerHeaderExtensionV1Ext;
     }
 
+    public static LedgerHeaderExtensionV1Ext decodeInto(
+        LedgerHeaderExtensionV1Ext existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      LedgerHeaderExtensionV1Ext decodedLedgerHeaderExtensionV1Ext =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new LedgerHeaderExtensionV1Ext();
+      decodedLedgerHeaderExtensionV1Ext.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedLedgerHeaderExtensionV1Ext;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown LedgerHeaderExtensionV1Ext discriminant: " + discriminant);
+      }
+    }
+
     public static LedgerHeaderExtensionV1Ext fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerHeaderExtensionV1Ext fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static LedgerHeaderExtensionV1Ext fromJson(JsonReader reader) throws IOException {
+      LedgerHeaderExtensionV1Ext decodedLedgerHeaderExtensionV1Ext =
+          new LedgerHeaderExtensionV1Ext();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedLedgerHeaderExtensionV1Ext.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown LedgerHeaderExtensionV1Ext arm: " + key);
+      }
+      return decodedLedgerHeaderExtensionV1Ext;
+    }
+
+    public static LedgerHeaderExtensionV1Ext fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerHeaderFlags's original definition in the XDR file is:
@@ -48,18 +48,58 @@ public enum LedgerHeaderFlags implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static LedgerHeaderFlags fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerHeaderFlags fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case DISABLE_LIQUIDITY_POOL_TRADING_FLAG:
+        writer.value("trading_flag");
+        break;
+      case DISABLE_LIQUIDITY_POOL_DEPOSIT_FLAG:
+        writer.value("deposit_flag");
+        break;
+      case DISABLE_LIQUIDITY_POOL_WITHDRAWAL_FLAG:
+        writer.value("withdrawal_flag");
+        break;
+    }
+  }
+
+  public static LedgerHeaderFlags fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "trading_flag":
+        return DISABLE_LIQUIDITY_POOL_TRADING_FLAG;
+      case "deposit_flag":
+        return DISABLE_LIQUIDITY_POOL_DEPOSIT_FLAG;
+      case "withdrawal_flag":
+        return DISABLE_LIQUIDITY_POOL_WITHDRAWAL_FLAG;
+      default:
+        throw new IOException("Unknown LedgerHeaderFlags value: " + value);
+    }
+  }
+
+  public static LedgerHeaderFlags fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
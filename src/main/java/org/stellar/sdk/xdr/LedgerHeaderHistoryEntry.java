@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerHeaderHistoryEntry's original definition in the XDR file is:
@@ -45,6 +45,14 @@ public class LedgerHeaderHistoryEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += hash.encodedSize();
+    size += header.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static LedgerHeaderHistoryEntry decode(XdrDataInputStream stream) throws IOException {
     LedgerHeaderHistoryEntry decodedLedgerHeaderHistoryEntry = new LedgerHeaderHistoryEntry();
     decodedLedgerHeaderHistoryEntry.hash = Hash.decode(stream);
@@ -53,17 +61,74 @@ public class LedgerHeaderHistoryEntry implements XdrElement {
     return decodedLedgerHeaderHistoryEntry;
   }
 
+  public static LedgerHeaderHistoryEntry decodeInto(
+      LedgerHeaderHistoryEntry existing, XdrDataInputStream stream) throws IOException {
+    LedgerHeaderHistoryEntry decodedLedgerHeaderHistoryEntry =
+        existing != null ? existing : new LedgerHeaderHistoryEntry();
+    decodedLedgerHeaderHistoryEntry.hash =
+        Hash.decodeInto(decodedLedgerHeaderHistoryEntry.hash, stream);
+    decodedLedgerHeaderHistoryEntry.header =
+        LedgerHeader.decodeInto(decodedLedgerHeaderHistoryEntry.header, stream);
+    decodedLedgerHeaderHistoryEntry.ext =
+        LedgerHeaderHistoryEntryExt.decodeInto(decodedLedgerHeaderHistoryEntry.ext, stream);
+    return decodedLedgerHeaderHistoryEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+    LedgerHeader.skip(stream);
+    LedgerHeaderHistoryEntryExt.skip(stream);
+  }
+
   public static LedgerHeaderHistoryEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerHeaderHistoryEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("hash");
+    hash.toJson(writer);
+    writer.name("header");
+    header.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LedgerHeaderHistoryEntry fromJson(JsonReader reader) throws IOException {
+    LedgerHeaderHistoryEntry decodedLedgerHeaderHistoryEntry = new LedgerHeaderHistoryEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "hash":
+          decodedLedgerHeaderHistoryEntry.hash = Hash.fromJson(reader);
+          break;
+        case "header":
+          decodedLedgerHeaderHistoryEntry.header = LedgerHeader.fromJson(reader);
+          break;
+        case "ext":
+          decodedLedgerHeaderHistoryEntry.ext = LedgerHeaderHistoryEntryExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LedgerHeaderHistoryEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerHeaderHistoryEntry;
+  }
+
+  public static LedgerHeaderHistoryEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * LedgerHeaderHistoryEntryExt's original definition in the XDR file is:
    *
@@ -90,6 +155,16 @@ public class LedgerHeaderHistoryEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static LedgerHeaderHistoryEntryExt decode(XdrDataInputStream stream) throws IOException {
       LedgerHeaderHistoryEntryExt decodedLedgerHeaderHistoryEntryExt =
           new LedgerHeaderHistoryEntryExt();
@@ -102,15 +177,67 @@ public class LedgerHeaderHistoryEntry implements XdrElement {
       return decodedLedgerHeaderHistoryEntryExt;
     }
 
+    public static LedgerHeaderHistoryEntryExt decodeInto(
+        LedgerHeaderHistoryEntryExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      LedgerHeaderHistoryEntryExt decodedLedgerHeaderHistoryEntryExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new LedgerHeaderHistoryEntryExt();
+      decodedLedgerHeaderHistoryEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedLedgerHeaderHistoryEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException(
+              "Unknown LedgerHeaderHistoryEntryExt discriminant: " + discriminant);
+      }
+    }
+
     public static LedgerHeaderHistoryEntryExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerHeaderHistoryEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static LedgerHeaderHistoryEntryExt fromJson(JsonReader reader) throws IOException {
+      LedgerHeaderHistoryEntryExt decodedLedgerHeaderHistoryEntryExt =
+          new LedgerHeaderHistoryEntryExt();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedLedgerHeaderHistoryEntryExt.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown LedgerHeaderHistoryEntryExt arm: " + key);
+      }
+      return decodedLedgerHeaderHistoryEntryExt;
+    }
+
+    public static LedgerHeaderHistoryEntryExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerKey's original definition in the XDR file is:
@@ -134,6 +134,44 @@ public class LedgerKey implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case ACCOUNT:
+        size += account.encodedSize();
+        break;
+      case TRUSTLINE:
+        size += trustLine.encodedSize();
+        break;
+      case OFFER:
+        size += offer.encodedSize();
+        break;
+      case DATA:
+        size += data.encodedSize();
+        break;
+      case CLAIMABLE_BALANCE:
+        size += claimableBalance.encodedSize();
+        break;
+      case LIQUIDITY_POOL:
+        size += liquidityPool.encodedSize();
+        break;
+      case CONTRACT_DATA:
+        size += contractData.encodedSize();
+        break;
+      case CONTRACT_CODE:
+        size += contractCode.encodedSize();
+        break;
+      case CONFIG_SETTING:
+        size += configSetting.encodedSize();
+        break;
+      case TTL:
+        size += ttl.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LedgerKey decode(XdrDataInputStream stream) throws IOException {
     LedgerKey decodedLedgerKey = new LedgerKey();
     LedgerEntryType discriminant = LedgerEntryType.decode(stream);
@@ -173,17 +211,223 @@ public class LedgerKey implements XdrElement {
     return decodedLedgerKey;
   }
 
+  public static LedgerKey decodeInto(LedgerKey existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerEntryType discriminant = LedgerEntryType.decode(stream);
+    LedgerKey decodedLedgerKey =
+        existing != null && discriminant.equals(existing.discriminant) ? existing : new LedgerKey();
+    decodedLedgerKey.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case ACCOUNT:
+        decodedLedgerKey.account = LedgerKeyAccount.decodeInto(decodedLedgerKey.account, stream);
+        break;
+      case TRUSTLINE:
+        decodedLedgerKey.trustLine =
+            LedgerKeyTrustLine.decodeInto(decodedLedgerKey.trustLine, stream);
+        break;
+      case OFFER:
+        decodedLedgerKey.offer = LedgerKeyOffer.decodeInto(decodedLedgerKey.offer, stream);
+        break;
+      case DATA:
+        decodedLedgerKey.data = LedgerKeyData.decodeInto(decodedLedgerKey.data, stream);
+        break;
+      case CLAIMABLE_BALANCE:
+        decodedLedgerKey.claimableBalance =
+            LedgerKeyClaimableBalance.decodeInto(decodedLedgerKey.claimableBalance, stream);
+        break;
+      case LIQUIDITY_POOL:
+        decodedLedgerKey.liquidityPool =
+            LedgerKeyLiquidityPool.decodeInto(decodedLedgerKey.liquidityPool, stream);
+        break;
+      case CONTRACT_DATA:
+        decodedLedgerKey.contractData =
+            LedgerKeyContractData.decodeInto(decodedLedgerKey.contractData, stream);
+        break;
+      case CONTRACT_CODE:
+        decodedLedgerKey.contractCode =
+            LedgerKeyContractCode.decodeInto(decodedLedgerKey.contractCode, stream);
+        break;
+      case CONFIG_SETTING:
+        decodedLedgerKey.configSetting =
+            LedgerKeyConfigSetting.decodeInto(decodedLedgerKey.configSetting, stream);
+        break;
+      case TTL:
+        decodedLedgerKey.ttl = LedgerKeyTtl.decodeInto(decodedLedgerKey.ttl, stream);
+        break;
+    }
+    return decodedLedgerKey;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerEntryType discriminant = LedgerEntryType.decode(stream);
+    switch (discriminant) {
+      case ACCOUNT:
+        LedgerKeyAccount.skip(stream);
+        break;
+      case TRUSTLINE:
+        LedgerKeyTrustLine.skip(stream);
+        break;
+      case OFFER:
+        LedgerKeyOffer.skip(stream);
+        break;
+      case DATA:
+        LedgerKeyData.skip(stream);
+        break;
+      case CLAIMABLE_BALANCE:
+        LedgerKeyClaimableBalance.skip(stream);
+        break;
+      case LIQUIDITY_POOL:
+        LedgerKeyLiquidityPool.skip(stream);
+        break;
+      case CONTRACT_DATA:
+        LedgerKeyContractData.skip(stream);
+        break;
+      case CONTRACT_CODE:
+        LedgerKeyContractCode.skip(stream);
+        break;
+      case CONFIG_SETTING:
+        LedgerKeyConfigSetting.skip(stream);
+        break;
+      case TTL:
+        LedgerKeyTtl.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown LedgerKey discriminant: " + discriminant);
+    }
+  }
+
   public static LedgerKey fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerKey fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case ACCOUNT:
+        writer.beginObject();
+        writer.name("account");
+        account.toJson(writer);
+        writer.endObject();
+        break;
+      case TRUSTLINE:
+        writer.beginObject();
+        writer.name("trustline");
+        trustLine.toJson(writer);
+        writer.endObject();
+        break;
+      case OFFER:
+        writer.beginObject();
+        writer.name("offer");
+        offer.toJson(writer);
+        writer.endObject();
+        break;
+      case DATA:
+        writer.beginObject();
+        writer.name("data");
+        data.toJson(writer);
+        writer.endObject();
+        break;
+      case CLAIMABLE_BALANCE:
+        writer.beginObject();
+        writer.name("claimable_balance");
+        claimableBalance.toJson(writer);
+        writer.endObject();
+        break;
+      case LIQUIDITY_POOL:
+        writer.beginObject();
+        writer.name("liquidity_pool");
+        liquidityPool.toJson(writer);
+        writer.endObject();
+        break;
+      case CONTRACT_DATA:
+        writer.beginObject();
+        writer.name("contract_data");
+        contractData.toJson(writer);
+        writer.endObject();
+        break;
+      case CONTRACT_CODE:
+        writer.beginObject();
+        writer.name("contract_code");
+        contractCode.toJson(writer);
+        writer.endObject();
+        break;
+      case CONFIG_SETTING:
+        writer.beginObject();
+        writer.name("config_setting");
+        configSetting.toJson(writer);
+        writer.endObject();
+        break;
+      case TTL:
+        writer.beginObject();
+        writer.name("ttl");
+        ttl.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static LedgerKey fromJson(JsonReader reader) throws IOException {
+    LedgerKey decodedLedgerKey = new LedgerKey();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "account":
+        decodedLedgerKey.setDiscriminant(LedgerEntryType.ACCOUNT);
+        decodedLedgerKey.account = LedgerKeyAccount.fromJson(reader);
+        break;
+      case "trustline":
+        decodedLedgerKey.setDiscriminant(LedgerEntryType.TRUSTLINE);
+        decodedLedgerKey.trustLine = LedgerKeyTrustLine.fromJson(reader);
+        break;
+      case "offer":
+        decodedLedgerKey.setDiscriminant(LedgerEntryType.OFFER);
+        decodedLedgerKey.offer = LedgerKeyOffer.fromJson(reader);
+        break;
+      case "data":
+        decodedLedgerKey.setDiscriminant(LedgerEntryType.DATA);
+        decodedLedgerKey.data = LedgerKeyData.fromJson(reader);
+        break;
+      case "claimable_balance":
+        decodedLedgerKey.setDiscriminant(LedgerEntryType.CLAIMABLE_BALANCE);
+        decodedLedgerKey.claimableBalance = LedgerKeyClaimableBalance.fromJson(reader);
+        break;
+      case "liquidity_pool":
+        decodedLedgerKey.setDiscriminant(LedgerEntryType.LIQUIDITY_POOL);
+        decodedLedgerKey.liquidityPool = LedgerKeyLiquidityPool.fromJson(reader);
+        break;
+      case "contract_data":
+        decodedLedgerKey.setDiscriminant(LedgerEntryType.CONTRACT_DATA);
+        decodedLedgerKey.contractData = LedgerKeyContractData.fromJson(reader);
+        break;
+      case "contract_code":
+        decodedLedgerKey.setDiscriminant(LedgerEntryType.CONTRACT_CODE);
+        decodedLedgerKey.contractCode = LedgerKeyContractCode.fromJson(reader);
+        break;
+      case "config_setting":
+        decodedLedgerKey.setDiscriminant(LedgerEntryType.CONFIG_SETTING);
+        decodedLedgerKey.configSetting = LedgerKeyConfigSetting.fromJson(reader);
+        break;
+      case "ttl":
+        decodedLedgerKey.setDiscriminant(LedgerEntryType.TTL);
+        decodedLedgerKey.ttl = LedgerKeyTtl.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown LedgerKey arm: " + key);
+    }
+    reader.endObject();
+    return decodedLedgerKey;
+  }
+
+  public static LedgerKey fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * LedgerKeyAccount's original definition in the XDR file is:
    *
@@ -205,22 +449,67 @@ public class LedgerKey implements XdrElement {
       accountID.encode(stream);
     }
 
+    public int encodedSize() {
+      return accountID.encodedSize();
+    }
+
     public static LedgerKeyAccount decode(XdrDataInputStream stream) throws IOException {
       LedgerKeyAccount decodedLedgerKeyAccount = new LedgerKeyAccount();
       decodedLedgerKeyAccount.accountID = AccountID.decode(stream);
       return decodedLedgerKeyAccount;
     }
 
+    public static LedgerKeyAccount decodeInto(LedgerKeyAccount existing, XdrDataInputStream stream)
+        throws IOException {
+      LedgerKeyAccount decodedLedgerKeyAccount =
+          existing != null ? existing : new LedgerKeyAccount();
+      decodedLedgerKeyAccount.accountID =
+          AccountID.decodeInto(decodedLedgerKeyAccount.accountID, stream);
+      return decodedLedgerKeyAccount;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      AccountID.skip(stream);
+    }
+
     public static LedgerKeyAccount fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerKeyAccount fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("account_id");
+      accountID.toJson(writer);
+      writer.endObject();
+    }
+
+    public static LedgerKeyAccount fromJson(JsonReader reader) throws IOException {
+      LedgerKeyAccount decodedLedgerKeyAccount = new LedgerKeyAccount();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "account_id":
+            decodedLedgerKeyAccount.accountID = AccountID.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown LedgerKeyAccount field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedLedgerKeyAccount;
+    }
+
+    public static LedgerKeyAccount fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -247,6 +536,13 @@ public class LedgerKey implements XdrElement {
       asset.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += accountID.encodedSize();
+      size += asset.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyTrustLine decode(XdrDataInputStream stream) throws IOException {
       LedgerKeyTrustLine decodedLedgerKeyTrustLine = new LedgerKeyTrustLine();
       decodedLedgerKeyTrustLine.accountID = AccountID.decode(stream);
@@ -254,16 +550,65 @@ public class LedgerKey implements XdrElement {
       return decodedLedgerKeyTrustLine;
     }
 
+    public static LedgerKeyTrustLine decodeInto(
+        LedgerKeyTrustLine existing, XdrDataInputStream stream) throws IOException {
+      LedgerKeyTrustLine decodedLedgerKeyTrustLine =
+          existing != null ? existing : new LedgerKeyTrustLine();
+      decodedLedgerKeyTrustLine.accountID =
+          AccountID.decodeInto(decodedLedgerKeyTrustLine.accountID, stream);
+      decodedLedgerKeyTrustLine.asset =
+          TrustLineAsset.decodeInto(decodedLedgerKeyTrustLine.asset, stream);
+      return decodedLedgerKeyTrustLine;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      AccountID.skip(stream);
+      TrustLineAsset.skip(stream);
+    }
+
     public static LedgerKeyTrustLine fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerKeyTrustLine fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("account_id");
+      accountID.toJson(writer);
+      writer.name("asset");
+      asset.toJson(writer);
+      writer.endObject();
+    }
+
+    public static LedgerKeyTrustLine fromJson(JsonReader reader) throws IOException {
+      LedgerKeyTrustLine decodedLedgerKeyTrustLine = new LedgerKeyTrustLine();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "account_id":
+            decodedLedgerKeyTrustLine.accountID = AccountID.fromJson(reader);
+            break;
+          case "asset":
+            decodedLedgerKeyTrustLine.asset = TrustLineAsset.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown LedgerKeyTrustLine field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedLedgerKeyTrustLine;
+    }
+
+    public static LedgerKeyTrustLine fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -290,6 +635,13 @@ public class LedgerKey implements XdrElement {
       offerID.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += sellerID.encodedSize();
+      size += offerID.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyOffer decode(XdrDataInputStream stream) throws IOException {
       LedgerKeyOffer decodedLedgerKeyOffer = new LedgerKeyOffer();
       decodedLedgerKeyOffer.sellerID = AccountID.decode(stream);
@@ -297,16 +649,62 @@ public class LedgerKey implements XdrElement {
       return decodedLedgerKeyOffer;
     }
 
+    public static LedgerKeyOffer decodeInto(LedgerKeyOffer existing, XdrDataInputStream stream)
+        throws IOException {
+      LedgerKeyOffer decodedLedgerKeyOffer = existing != null ? existing : new LedgerKeyOffer();
+      decodedLedgerKeyOffer.sellerID = AccountID.decodeInto(decodedLedgerKeyOffer.sellerID, stream);
+      decodedLedgerKeyOffer.offerID = Int64.decodeInto(decodedLedgerKeyOffer.offerID, stream);
+      return decodedLedgerKeyOffer;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      AccountID.skip(stream);
+      Int64.skip(stream);
+    }
+
     public static LedgerKeyOffer fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerKeyOffer fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("seller_id");
+      sellerID.toJson(writer);
+      writer.name("offer_id");
+      offerID.toJson(writer);
+      writer.endObject();
+    }
+
+    public static LedgerKeyOffer fromJson(JsonReader reader) throws IOException {
+      LedgerKeyOffer decodedLedgerKeyOffer = new LedgerKeyOffer();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "seller_id":
+            decodedLedgerKeyOffer.sellerID = AccountID.fromJson(reader);
+            break;
+          case "offer_id":
+            decodedLedgerKeyOffer.offerID = Int64.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown LedgerKeyOffer field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedLedgerKeyOffer;
+    }
+
+    public static LedgerKeyOffer fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -333,6 +731,13 @@ public class LedgerKey implements XdrElement {
       dataName.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += accountID.encodedSize();
+      size += dataName.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyData decode(XdrDataInputStream stream) throws IOException {
       LedgerKeyData decodedLedgerKeyData = new LedgerKeyData();
       decodedLedgerKeyData.accountID = AccountID.decode(stream);
@@ -340,16 +745,62 @@ public class LedgerKey implements XdrElement {
       return decodedLedgerKeyData;
     }
 
+    public static LedgerKeyData decodeInto(LedgerKeyData existing, XdrDataInputStream stream)
+        throws IOException {
+      LedgerKeyData decodedLedgerKeyData = existing != null ? existing : new LedgerKeyData();
+      decodedLedgerKeyData.accountID = AccountID.decodeInto(decodedLedgerKeyData.accountID, stream);
+      decodedLedgerKeyData.dataName = String64.decodeInto(decodedLedgerKeyData.dataName, stream);
+      return decodedLedgerKeyData;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      AccountID.skip(stream);
+      String64.skip(stream);
+    }
+
     public static LedgerKeyData fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerKeyData fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("account_id");
+      accountID.toJson(writer);
+      writer.name("data_name");
+      dataName.toJson(writer);
+      writer.endObject();
+    }
+
+    public static LedgerKeyData fromJson(JsonReader reader) throws IOException {
+      LedgerKeyData decodedLedgerKeyData = new LedgerKeyData();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "account_id":
+            decodedLedgerKeyData.accountID = AccountID.fromJson(reader);
+            break;
+          case "data_name":
+            decodedLedgerKeyData.dataName = String64.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown LedgerKeyData field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedLedgerKeyData;
+    }
+
+    public static LedgerKeyData fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -373,22 +824,67 @@ public class LedgerKey implements XdrElement {
       balanceID.encode(stream);
     }
 
+    public int encodedSize() {
+      return balanceID.encodedSize();
+    }
+
     public static LedgerKeyClaimableBalance decode(XdrDataInputStream stream) throws IOException {
       LedgerKeyClaimableBalance decodedLedgerKeyClaimableBalance = new LedgerKeyClaimableBalance();
       decodedLedgerKeyClaimableBalance.balanceID = ClaimableBalanceID.decode(stream);
       return decodedLedgerKeyClaimableBalance;
     }
 
+    public static LedgerKeyClaimableBalance decodeInto(
+        LedgerKeyClaimableBalance existing, XdrDataInputStream stream) throws IOException {
+      LedgerKeyClaimableBalance decodedLedgerKeyClaimableBalance =
+          existing != null ? existing : new LedgerKeyClaimableBalance();
+      decodedLedgerKeyClaimableBalance.balanceID =
+          ClaimableBalanceID.decodeInto(decodedLedgerKeyClaimableBalance.balanceID, stream);
+      return decodedLedgerKeyClaimableBalance;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      ClaimableBalanceID.skip(stream);
+    }
+
     public static LedgerKeyClaimableBalance fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerKeyClaimableBalance fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("balance_id");
+      balanceID.toJson(writer);
+      writer.endObject();
+    }
+
+    public static LedgerKeyClaimableBalance fromJson(JsonReader reader) throws IOException {
+      LedgerKeyClaimableBalance decodedLedgerKeyClaimableBalance = new LedgerKeyClaimableBalance();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "balance_id":
+            decodedLedgerKeyClaimableBalance.balanceID = ClaimableBalanceID.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown LedgerKeyClaimableBalance field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedLedgerKeyClaimableBalance;
+    }
+
+    public static LedgerKeyClaimableBalance fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -412,22 +908,67 @@ public class LedgerKey implements XdrElement {
       liquidityPoolID.encode(stream);
     }
 
+    public int encodedSize() {
+      return liquidityPoolID.encodedSize();
+    }
+
     public static LedgerKeyLiquidityPool decode(XdrDataInputStream stream) throws IOException {
       LedgerKeyLiquidityPool decodedLedgerKeyLiquidityPool = new LedgerKeyLiquidityPool();
       decodedLedgerKeyLiquidityPool.liquidityPoolID = PoolID.decode(stream);
       return decodedLedgerKeyLiquidityPool;
     }
 
+    public static LedgerKeyLiquidityPool decodeInto(
+        LedgerKeyLiquidityPool existing, XdrDataInputStream stream) throws IOException {
+      LedgerKeyLiquidityPool decodedLedgerKeyLiquidityPool =
+          existing != null ? existing : new LedgerKeyLiquidityPool();
+      decodedLedgerKeyLiquidityPool.liquidityPoolID =
+          PoolID.decodeInto(decodedLedgerKeyLiquidityPool.liquidityPoolID, stream);
+      return decodedLedgerKeyLiquidityPool;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      PoolID.skip(stream);
+    }
+
     public static LedgerKeyLiquidityPool fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerKeyLiquidityPool fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("liquidity_pool_id");
+      liquidityPoolID.toJson(writer);
+      writer.endObject();
+    }
+
+    public static LedgerKeyLiquidityPool fromJson(JsonReader reader) throws IOException {
+      LedgerKeyLiquidityPool decodedLedgerKeyLiquidityPool = new LedgerKeyLiquidityPool();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "liquidity_pool_id":
+            decodedLedgerKeyLiquidityPool.liquidityPoolID = PoolID.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown LedgerKeyLiquidityPool field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedLedgerKeyLiquidityPool;
+    }
+
+    public static LedgerKeyLiquidityPool fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -457,6 +998,14 @@ public class LedgerKey implements XdrElement {
       durability.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += contract.encodedSize();
+      size += key.encodedSize();
+      size += durability.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyContractData decode(XdrDataInputStream stream) throws IOException {
       LedgerKeyContractData decodedLedgerKeyContractData = new LedgerKeyContractData();
       decodedLedgerKeyContractData.contract = SCAddress.decode(stream);
@@ -465,16 +1014,71 @@ public class LedgerKey implements XdrElement {
       return decodedLedgerKeyContractData;
     }
 
+    public static LedgerKeyContractData decodeInto(
+        LedgerKeyContractData existing, XdrDataInputStream stream) throws IOException {
+      LedgerKeyContractData decodedLedgerKeyContractData =
+          existing != null ? existing : new LedgerKeyContractData();
+      decodedLedgerKeyContractData.contract =
+          SCAddress.decodeInto(decodedLedgerKeyContractData.contract, stream);
+      decodedLedgerKeyContractData.key = SCVal.decodeInto(decodedLedgerKeyContractData.key, stream);
+      decodedLedgerKeyContractData.durability = ContractDataDurability.decode(stream);
+      return decodedLedgerKeyContractData;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      SCAddress.skip(stream);
+      SCVal.skip(stream);
+      ContractDataDurability.skip(stream);
+    }
+
     public static LedgerKeyContractData fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerKeyContractData fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("contract");
+      contract.toJson(writer);
+      writer.name("key");
+      key.toJson(writer);
+      writer.name("durability");
+      durability.toJson(writer);
+      writer.endObject();
+    }
+
+    public static LedgerKeyContractData fromJson(JsonReader reader) throws IOException {
+      LedgerKeyContractData decodedLedgerKeyContractData = new LedgerKeyContractData();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "contract":
+            decodedLedgerKeyContractData.contract = SCAddress.fromJson(reader);
+            break;
+          case "key":
+            decodedLedgerKeyContractData.key = SCVal.fromJson(reader);
+            break;
+          case "durability":
+            decodedLedgerKeyContractData.durability = ContractDataDurability.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown LedgerKeyContractData field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedLedgerKeyContractData;
+    }
+
+    public static LedgerKeyContractData fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -498,22 +1102,67 @@ public class LedgerKey implements XdrElement {
       hash.encode(stream);
     }
 
+    public int encodedSize() {
+      return hash.encodedSize();
+    }
+
     public static LedgerKeyContractCode decode(XdrDataInputStream stream) throws IOException {
       LedgerKeyContractCode decodedLedgerKeyContractCode = new LedgerKeyContractCode();
       decodedLedgerKeyContractCode.hash = Hash.decode(stream);
       return decodedLedgerKeyContractCode;
     }
 
+    public static LedgerKeyContractCode decodeInto(
+        LedgerKeyContractCode existing, XdrDataInputStream stream) throws IOException {
+      LedgerKeyContractCode decodedLedgerKeyContractCode =
+          existing != null ? existing : new LedgerKeyContractCode();
+      decodedLedgerKeyContractCode.hash =
+          Hash.decodeInto(decodedLedgerKeyContractCode.hash, stream);
+      return decodedLedgerKeyContractCode;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Hash.skip(stream);
+    }
+
     public static LedgerKeyContractCode fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerKeyContractCode fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("hash");
+      hash.toJson(writer);
+      writer.endObject();
+    }
+
+    public static LedgerKeyContractCode fromJson(JsonReader reader) throws IOException {
+      LedgerKeyContractCode decodedLedgerKeyContractCode = new LedgerKeyContractCode();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "hash":
+            decodedLedgerKeyContractCode.hash = Hash.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown LedgerKeyContractCode field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedLedgerKeyContractCode;
+    }
+
+    public static LedgerKeyContractCode fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -537,22 +1186,66 @@ public class LedgerKey implements XdrElement {
       configSettingID.encode(stream);
     }
 
+    public int encodedSize() {
+      return configSettingID.encodedSize();
+    }
+
     public static LedgerKeyConfigSetting decode(XdrDataInputStream stream) throws IOException {
       LedgerKeyConfigSetting decodedLedgerKeyConfigSetting = new LedgerKeyConfigSetting();
       decodedLedgerKeyConfigSetting.configSettingID = ConfigSettingID.decode(stream);
       return decodedLedgerKeyConfigSetting;
     }
 
+    public static LedgerKeyConfigSetting decodeInto(
+        LedgerKeyConfigSetting existing, XdrDataInputStream stream) throws IOException {
+      LedgerKeyConfigSetting decodedLedgerKeyConfigSetting =
+          existing != null ? existing : new LedgerKeyConfigSetting();
+      decodedLedgerKeyConfigSetting.configSettingID = ConfigSettingID.decode(stream);
+      return decodedLedgerKeyConfigSetting;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      ConfigSettingID.skip(stream);
+    }
+
     public static LedgerKeyConfigSetting fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerKeyConfigSetting fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("config_setting_id");
+      configSettingID.toJson(writer);
+      writer.endObject();
+    }
+
+    public static LedgerKeyConfigSetting fromJson(JsonReader reader) throws IOException {
+      LedgerKeyConfigSetting decodedLedgerKeyConfigSetting = new LedgerKeyConfigSetting();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "config_setting_id":
+            decodedLedgerKeyConfigSetting.configSettingID = ConfigSettingID.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown LedgerKeyConfigSetting field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedLedgerKeyConfigSetting;
+    }
+
+    public static LedgerKeyConfigSetting fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -577,21 +1270,64 @@ public class LedgerKey implements XdrElement {
       keyHash.encode(stream);
     }
 
+    public int encodedSize() {
+      return keyHash.encodedSize();
+    }
+
     public static LedgerKeyTtl decode(XdrDataInputStream stream) throws IOException {
       LedgerKeyTtl decodedLedgerKeyTtl = new LedgerKeyTtl();
       decodedLedgerKeyTtl.keyHash = Hash.decode(stream);
       return decodedLedgerKeyTtl;
     }
 
+    public static LedgerKeyTtl decodeInto(LedgerKeyTtl existing, XdrDataInputStream stream)
+        throws IOException {
+      LedgerKeyTtl decodedLedgerKeyTtl = existing != null ? existing : new LedgerKeyTtl();
+      decodedLedgerKeyTtl.keyHash = Hash.decodeInto(decodedLedgerKeyTtl.keyHash, stream);
+      return decodedLedgerKeyTtl;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Hash.skip(stream);
+    }
+
     public static LedgerKeyTtl fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LedgerKeyTtl fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("key_hash");
+      keyHash.toJson(writer);
+      writer.endObject();
+    }
+
+    public static LedgerKeyTtl fromJson(JsonReader reader) throws IOException {
+      LedgerKeyTtl decodedLedgerKeyTtl = new LedgerKeyTtl();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "key_hash":
+            decodedLedgerKeyTtl.keyHash = Hash.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown LedgerKeyTtl field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedLedgerKeyTtl;
+    }
+
+    public static LedgerKeyTtl fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
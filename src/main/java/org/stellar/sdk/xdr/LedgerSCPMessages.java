@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerSCPMessages's original definition in the XDR file is:
@@ -39,10 +39,21 @@ public class LedgerSCPMessages implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerSeq.encodedSize();
+    int messagesSize = getMessages().length;
+    size += 4;
+    for (int i = 0; i < messagesSize; i++) {
+      size += messages[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerSCPMessages decode(XdrDataInputStream stream) throws IOException {
     LedgerSCPMessages decodedLedgerSCPMessages = new LedgerSCPMessages();
     decodedLedgerSCPMessages.ledgerSeq = Uint32.decode(stream);
-    int messagesSize = stream.readInt();
+    int messagesSize = stream.readLength(4);
     decodedLedgerSCPMessages.messages = new SCPEnvelope[messagesSize];
     for (int i = 0; i < messagesSize; i++) {
       decodedLedgerSCPMessages.messages[i] = SCPEnvelope.decode(stream);
@@ -50,14 +61,72 @@ public class LedgerSCPMessages implements XdrElement {
     return decodedLedgerSCPMessages;
   }
 
+  public static LedgerSCPMessages decodeInto(LedgerSCPMessages existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerSCPMessages decodedLedgerSCPMessages =
+        existing != null ? existing : new LedgerSCPMessages();
+    decodedLedgerSCPMessages.ledgerSeq =
+        Uint32.decodeInto(decodedLedgerSCPMessages.ledgerSeq, stream);
+    int messagesSize = stream.readLength(4);
+    decodedLedgerSCPMessages.messages =
+        XdrRecycler.resize(decodedLedgerSCPMessages.messages, messagesSize, SCPEnvelope[]::new);
+    for (int i = 0; i < messagesSize; i++) {
+      decodedLedgerSCPMessages.messages[i] =
+          SCPEnvelope.decodeInto(decodedLedgerSCPMessages.messages[i], stream);
+    }
+    return decodedLedgerSCPMessages;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    int messagesSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < messagesSize; i++) {
+      SCPEnvelope.skip(stream);
+    }
+  }
+
   public static LedgerSCPMessages fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerSCPMessages fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_seq");
+    ledgerSeq.toJson(writer);
+    writer.name("messages");
+    XdrJson.writeArray(writer, messages);
+    writer.endObject();
+  }
+
+  public static LedgerSCPMessages fromJson(JsonReader reader) throws IOException {
+    LedgerSCPMessages decodedLedgerSCPMessages = new LedgerSCPMessages();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_seq":
+          decodedLedgerSCPMessages.ledgerSeq = Uint32.fromJson(reader);
+          break;
+        case "messages":
+          decodedLedgerSCPMessages.messages =
+              XdrJson.readArray(reader, SCPEnvelope[]::new, SCPEnvelope::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown LedgerSCPMessages field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLedgerSCPMessages;
+  }
+
+  public static LedgerSCPMessages fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerUpgrade's original definition in the XDR file is:
@@ -78,6 +78,35 @@ public class LedgerUpgrade implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case LEDGER_UPGRADE_VERSION:
+        size += newLedgerVersion.encodedSize();
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        size += newBaseFee.encodedSize();
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        size += newMaxTxSetSize.encodedSize();
+        break;
+      case LEDGER_UPGRADE_BASE_RESERVE:
+        size += newBaseReserve.encodedSize();
+        break;
+      case LEDGER_UPGRADE_FLAGS:
+        size += newFlags.encodedSize();
+        break;
+      case LEDGER_UPGRADE_CONFIG:
+        size += newConfig.encodedSize();
+        break;
+      case LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE:
+        size += newMaxSorobanTxSetSize.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LedgerUpgrade decode(XdrDataInputStream stream) throws IOException {
     LedgerUpgrade decodedLedgerUpgrade = new LedgerUpgrade();
     LedgerUpgradeType discriminant = LedgerUpgradeType.decode(stream);
@@ -108,14 +137,175 @@ public class LedgerUpgrade implements XdrElement {
     return decodedLedgerUpgrade;
   }
 
+  public static LedgerUpgrade decodeInto(LedgerUpgrade existing, XdrDataInputStream stream)
+      throws IOException {
+    LedgerUpgradeType discriminant = LedgerUpgradeType.decode(stream);
+    LedgerUpgrade decodedLedgerUpgrade =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new LedgerUpgrade();
+    decodedLedgerUpgrade.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case LEDGER_UPGRADE_VERSION:
+        decodedLedgerUpgrade.newLedgerVersion =
+            Uint32.decodeInto(decodedLedgerUpgrade.newLedgerVersion, stream);
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        decodedLedgerUpgrade.newBaseFee =
+            Uint32.decodeInto(decodedLedgerUpgrade.newBaseFee, stream);
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        decodedLedgerUpgrade.newMaxTxSetSize =
+            Uint32.decodeInto(decodedLedgerUpgrade.newMaxTxSetSize, stream);
+        break;
+      case LEDGER_UPGRADE_BASE_RESERVE:
+        decodedLedgerUpgrade.newBaseReserve =
+            Uint32.decodeInto(decodedLedgerUpgrade.newBaseReserve, stream);
+        break;
+      case LEDGER_UPGRADE_FLAGS:
+        decodedLedgerUpgrade.newFlags = Uint32.decodeInto(decodedLedgerUpgrade.newFlags, stream);
+        break;
+      case LEDGER_UPGRADE_CONFIG:
+        decodedLedgerUpgrade.newConfig =
+            ConfigUpgradeSetKey.decodeInto(decodedLedgerUpgrade.newConfig, stream);
+        break;
+      case LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE:
+        decodedLedgerUpgrade.newMaxSorobanTxSetSize =
+            Uint32.decodeInto(decodedLedgerUpgrade.newMaxSorobanTxSetSize, stream);
+        break;
+    }
+    return decodedLedgerUpgrade;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerUpgradeType discriminant = LedgerUpgradeType.decode(stream);
+    switch (discriminant) {
+      case LEDGER_UPGRADE_VERSION:
+        Uint32.skip(stream);
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        Uint32.skip(stream);
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        Uint32.skip(stream);
+        break;
+      case LEDGER_UPGRADE_BASE_RESERVE:
+        Uint32.skip(stream);
+        break;
+      case LEDGER_UPGRADE_FLAGS:
+        Uint32.skip(stream);
+        break;
+      case LEDGER_UPGRADE_CONFIG:
+        ConfigUpgradeSetKey.skip(stream);
+        break;
+      case LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE:
+        Uint32.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown LedgerUpgrade discriminant: " + discriminant);
+    }
+  }
+
   public static LedgerUpgrade fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerUpgrade fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case LEDGER_UPGRADE_VERSION:
+        writer.beginObject();
+        writer.name("version");
+        newLedgerVersion.toJson(writer);
+        writer.endObject();
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        writer.beginObject();
+        writer.name("base_fee");
+        newBaseFee.toJson(writer);
+        writer.endObject();
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        writer.beginObject();
+        writer.name("max_tx_set_size");
+        newMaxTxSetSize.toJson(writer);
+        writer.endObject();
+        break;
+      case LEDGER_UPGRADE_BASE_RESERVE:
+        writer.beginObject();
+        writer.name("base_reserve");
+        newBaseReserve.toJson(writer);
+        writer.endObject();
+        break;
+      case LEDGER_UPGRADE_FLAGS:
+        writer.beginObject();
+        writer.name("flags");
+        newFlags.toJson(writer);
+        writer.endObject();
+        break;
+      case LEDGER_UPGRADE_CONFIG:
+        writer.beginObject();
+        writer.name("config");
+        newConfig.toJson(writer);
+        writer.endObject();
+        break;
+      case LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE:
+        writer.beginObject();
+        writer.name("max_soroban_tx_set_size");
+        newMaxSorobanTxSetSize.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static LedgerUpgrade fromJson(JsonReader reader) throws IOException {
+    LedgerUpgrade decodedLedgerUpgrade = new LedgerUpgrade();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "version":
+        decodedLedgerUpgrade.setDiscriminant(LedgerUpgradeType.LEDGER_UPGRADE_VERSION);
+        decodedLedgerUpgrade.newLedgerVersion = Uint32.fromJson(reader);
+        break;
+      case "base_fee":
+        decodedLedgerUpgrade.setDiscriminant(LedgerUpgradeType.LEDGER_UPGRADE_BASE_FEE);
+        decodedLedgerUpgrade.newBaseFee = Uint32.fromJson(reader);
+        break;
+      case "max_tx_set_size":
+        decodedLedgerUpgrade.setDiscriminant(LedgerUpgradeType.LEDGER_UPGRADE_MAX_TX_SET_SIZE);
+        decodedLedgerUpgrade.newMaxTxSetSize = Uint32.fromJson(reader);
+        break;
+      case "base_reserve":
+        decodedLedgerUpgrade.setDiscriminant(LedgerUpgradeType.LEDGER_UPGRADE_BASE_RESERVE);
+        decodedLedgerUpgrade.newBaseReserve = Uint32.fromJson(reader);
+        break;
+      case "flags":
+        decodedLedgerUpgrade.setDiscriminant(LedgerUpgradeType.LEDGER_UPGRADE_FLAGS);
+        decodedLedgerUpgrade.newFlags = Uint32.fromJson(reader);
+        break;
+      case "config":
+        decodedLedgerUpgrade.setDiscriminant(LedgerUpgradeType.LEDGER_UPGRADE_CONFIG);
+        decodedLedgerUpgrade.newConfig = ConfigUpgradeSetKey.fromJson(reader);
+        break;
+      case "max_soroban_tx_set_size":
+        decodedLedgerUpgrade.setDiscriminant(
+            LedgerUpgradeType.LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE);
+        decodedLedgerUpgrade.newMaxSorobanTxSetSize = Uint32.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown LedgerUpgrade arm: " + key);
+    }
+    reader.endObject();
+    return decodedLedgerUpgrade;
+  }
+
+  public static LedgerUpgrade fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
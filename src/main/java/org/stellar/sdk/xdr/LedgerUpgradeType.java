@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LedgerUpgradeType's original definition in the XDR file is:
@@ -64,18 +64,78 @@ public enum LedgerUpgradeType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static LedgerUpgradeType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LedgerUpgradeType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case LEDGER_UPGRADE_VERSION:
+        writer.value("version");
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        writer.value("base_fee");
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        writer.value("max_tx_set_size");
+        break;
+      case LEDGER_UPGRADE_BASE_RESERVE:
+        writer.value("base_reserve");
+        break;
+      case LEDGER_UPGRADE_FLAGS:
+        writer.value("flags");
+        break;
+      case LEDGER_UPGRADE_CONFIG:
+        writer.value("config");
+        break;
+      case LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE:
+        writer.value("max_soroban_tx_set_size");
+        break;
+    }
+  }
+
+  public static LedgerUpgradeType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "version":
+        return LEDGER_UPGRADE_VERSION;
+      case "base_fee":
+        return LEDGER_UPGRADE_BASE_FEE;
+      case "max_tx_set_size":
+        return LEDGER_UPGRADE_MAX_TX_SET_SIZE;
+      case "base_reserve":
+        return LEDGER_UPGRADE_BASE_RESERVE;
+      case "flags":
+        return LEDGER_UPGRADE_FLAGS;
+      case "config":
+        return LEDGER_UPGRADE_CONFIG;
+      case "max_soroban_tx_set_size":
+        return LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE;
+      default:
+        throw new IOException("Unknown LedgerUpgradeType value: " + value);
+    }
+  }
+
+  public static LedgerUpgradeType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Liabilities's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class Liabilities implements XdrElement {
     selling.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += buying.encodedSize();
+    size += selling.encodedSize();
+    return size;
+  }
+
   public static Liabilities decode(XdrDataInputStream stream) throws IOException {
     Liabilities decodedLiabilities = new Liabilities();
     decodedLiabilities.buying = Int64.decode(stream);
@@ -42,14 +49,60 @@ public class Liabilities implements XdrElement {
     return decodedLiabilities;
   }
 
+  public static Liabilities decodeInto(Liabilities existing, XdrDataInputStream stream)
+      throws IOException {
+    Liabilities decodedLiabilities = existing != null ? existing : new Liabilities();
+    decodedLiabilities.buying = Int64.decodeInto(decodedLiabilities.buying, stream);
+    decodedLiabilities.selling = Int64.decodeInto(decodedLiabilities.selling, stream);
+    return decodedLiabilities;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int64.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static Liabilities fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Liabilities fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("buying");
+    buying.toJson(writer);
+    writer.name("selling");
+    selling.toJson(writer);
+    writer.endObject();
+  }
+
+  public static Liabilities fromJson(JsonReader reader) throws IOException {
+    Liabilities decodedLiabilities = new Liabilities();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "buying":
+          decodedLiabilities.buying = Int64.fromJson(reader);
+          break;
+        case "selling":
+          decodedLiabilities.selling = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown Liabilities field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLiabilities;
+  }
+
+  public static Liabilities fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
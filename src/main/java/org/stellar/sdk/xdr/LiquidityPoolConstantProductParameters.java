@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LiquidityPoolConstantProductParameters's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class LiquidityPoolConstantProductParameters implements XdrElement {
     fee.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += assetA.encodedSize();
+    size += assetB.encodedSize();
+    size += fee.encodedSize();
+    return size;
+  }
+
   public static LiquidityPoolConstantProductParameters decode(XdrDataInputStream stream)
       throws IOException {
     LiquidityPoolConstantProductParameters decodedLiquidityPoolConstantProductParameters =
@@ -48,16 +56,76 @@ public class LiquidityPoolConstantProductParameters implements XdrElement {
     return decodedLiquidityPoolConstantProductParameters;
   }
 
+  public static LiquidityPoolConstantProductParameters decodeInto(
+      LiquidityPoolConstantProductParameters existing, XdrDataInputStream stream)
+      throws IOException {
+    LiquidityPoolConstantProductParameters decodedLiquidityPoolConstantProductParameters =
+        existing != null ? existing : new LiquidityPoolConstantProductParameters();
+    decodedLiquidityPoolConstantProductParameters.assetA =
+        Asset.decodeInto(decodedLiquidityPoolConstantProductParameters.assetA, stream);
+    decodedLiquidityPoolConstantProductParameters.assetB =
+        Asset.decodeInto(decodedLiquidityPoolConstantProductParameters.assetB, stream);
+    decodedLiquidityPoolConstantProductParameters.fee =
+        Int32.decodeInto(decodedLiquidityPoolConstantProductParameters.fee, stream);
+    return decodedLiquidityPoolConstantProductParameters;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Asset.skip(stream);
+    Asset.skip(stream);
+    Int32.skip(stream);
+  }
+
   public static LiquidityPoolConstantProductParameters fromXdrBase64(String xdr)
       throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LiquidityPoolConstantProductParameters fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("asset_a");
+    assetA.toJson(writer);
+    writer.name("asset_b");
+    assetB.toJson(writer);
+    writer.name("fee");
+    fee.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LiquidityPoolConstantProductParameters fromJson(JsonReader reader)
+      throws IOException {
+    LiquidityPoolConstantProductParameters decodedLiquidityPoolConstantProductParameters =
+        new LiquidityPoolConstantProductParameters();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "asset_a":
+          decodedLiquidityPoolConstantProductParameters.assetA = Asset.fromJson(reader);
+          break;
+        case "asset_b":
+          decodedLiquidityPoolConstantProductParameters.assetB = Asset.fromJson(reader);
+          break;
+        case "fee":
+          decodedLiquidityPoolConstantProductParameters.fee = Int32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LiquidityPoolConstantProductParameters field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLiquidityPoolConstantProductParameters;
+  }
+
+  public static LiquidityPoolConstantProductParameters fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LiquidityPoolDepositOp's original definition in the XDR file is:
@@ -44,6 +44,16 @@ public class LiquidityPoolDepositOp implements XdrElement {
     maxPrice.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += liquidityPoolID.encodedSize();
+    size += maxAmountA.encodedSize();
+    size += maxAmountB.encodedSize();
+    size += minPrice.encodedSize();
+    size += maxPrice.encodedSize();
+    return size;
+  }
+
   public static LiquidityPoolDepositOp decode(XdrDataInputStream stream) throws IOException {
     LiquidityPoolDepositOp decodedLiquidityPoolDepositOp = new LiquidityPoolDepositOp();
     decodedLiquidityPoolDepositOp.liquidityPoolID = PoolID.decode(stream);
@@ -54,14 +64,87 @@ public class LiquidityPoolDepositOp implements XdrElement {
     return decodedLiquidityPoolDepositOp;
   }
 
+  public static LiquidityPoolDepositOp decodeInto(
+      LiquidityPoolDepositOp existing, XdrDataInputStream stream) throws IOException {
+    LiquidityPoolDepositOp decodedLiquidityPoolDepositOp =
+        existing != null ? existing : new LiquidityPoolDepositOp();
+    decodedLiquidityPoolDepositOp.liquidityPoolID =
+        PoolID.decodeInto(decodedLiquidityPoolDepositOp.liquidityPoolID, stream);
+    decodedLiquidityPoolDepositOp.maxAmountA =
+        Int64.decodeInto(decodedLiquidityPoolDepositOp.maxAmountA, stream);
+    decodedLiquidityPoolDepositOp.maxAmountB =
+        Int64.decodeInto(decodedLiquidityPoolDepositOp.maxAmountB, stream);
+    decodedLiquidityPoolDepositOp.minPrice =
+        Price.decodeInto(decodedLiquidityPoolDepositOp.minPrice, stream);
+    decodedLiquidityPoolDepositOp.maxPrice =
+        Price.decodeInto(decodedLiquidityPoolDepositOp.maxPrice, stream);
+    return decodedLiquidityPoolDepositOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PoolID.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Price.skip(stream);
+    Price.skip(stream);
+  }
+
   public static LiquidityPoolDepositOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LiquidityPoolDepositOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("liquidity_pool_id");
+    liquidityPoolID.toJson(writer);
+    writer.name("max_amount_a");
+    maxAmountA.toJson(writer);
+    writer.name("max_amount_b");
+    maxAmountB.toJson(writer);
+    writer.name("min_price");
+    minPrice.toJson(writer);
+    writer.name("max_price");
+    maxPrice.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LiquidityPoolDepositOp fromJson(JsonReader reader) throws IOException {
+    LiquidityPoolDepositOp decodedLiquidityPoolDepositOp = new LiquidityPoolDepositOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "liquidity_pool_id":
+          decodedLiquidityPoolDepositOp.liquidityPoolID = PoolID.fromJson(reader);
+          break;
+        case "max_amount_a":
+          decodedLiquidityPoolDepositOp.maxAmountA = Int64.fromJson(reader);
+          break;
+        case "max_amount_b":
+          decodedLiquidityPoolDepositOp.maxAmountB = Int64.fromJson(reader);
+          break;
+        case "min_price":
+          decodedLiquidityPoolDepositOp.minPrice = Price.fromJson(reader);
+          break;
+        case "max_price":
+          decodedLiquidityPoolDepositOp.maxPrice = Price.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LiquidityPoolDepositOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLiquidityPoolDepositOp;
+  }
+
+  public static LiquidityPoolDepositOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
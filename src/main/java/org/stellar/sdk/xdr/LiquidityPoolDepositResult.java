@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LiquidityPoolDepositResult's original definition in the XDR file is:
@@ -53,6 +53,24 @@ public class LiquidityPoolDepositResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case LIQUIDITY_POOL_DEPOSIT_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_MALFORMED:
+      case LIQUIDITY_POOL_DEPOSIT_NO_TRUST:
+      case LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED:
+      case LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED:
+      case LIQUIDITY_POOL_DEPOSIT_LINE_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_BAD_PRICE:
+      case LIQUIDITY_POOL_DEPOSIT_POOL_FULL:
+        break;
+    }
+    return size;
+  }
+
   public static LiquidityPoolDepositResult decode(XdrDataInputStream stream) throws IOException {
     LiquidityPoolDepositResult decodedLiquidityPoolDepositResult = new LiquidityPoolDepositResult();
     LiquidityPoolDepositResultCode discriminant = LiquidityPoolDepositResultCode.decode(stream);
@@ -72,14 +90,130 @@ public class LiquidityPoolDepositResult implements XdrElement {
     return decodedLiquidityPoolDepositResult;
   }
 
+  public static LiquidityPoolDepositResult decodeInto(
+      LiquidityPoolDepositResult existing, XdrDataInputStream stream) throws IOException {
+    LiquidityPoolDepositResultCode discriminant = LiquidityPoolDepositResultCode.decode(stream);
+    LiquidityPoolDepositResult decodedLiquidityPoolDepositResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new LiquidityPoolDepositResult();
+    decodedLiquidityPoolDepositResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_DEPOSIT_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_MALFORMED:
+      case LIQUIDITY_POOL_DEPOSIT_NO_TRUST:
+      case LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED:
+      case LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED:
+      case LIQUIDITY_POOL_DEPOSIT_LINE_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_BAD_PRICE:
+      case LIQUIDITY_POOL_DEPOSIT_POOL_FULL:
+        break;
+    }
+    return decodedLiquidityPoolDepositResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LiquidityPoolDepositResultCode discriminant = LiquidityPoolDepositResultCode.decode(stream);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_DEPOSIT_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_MALFORMED:
+      case LIQUIDITY_POOL_DEPOSIT_NO_TRUST:
+      case LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED:
+      case LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED:
+      case LIQUIDITY_POOL_DEPOSIT_LINE_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_BAD_PRICE:
+      case LIQUIDITY_POOL_DEPOSIT_POOL_FULL:
+        break;
+      default:
+        throw new IOException("Unknown LiquidityPoolDepositResult discriminant: " + discriminant);
+    }
+  }
+
   public static LiquidityPoolDepositResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LiquidityPoolDepositResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case LIQUIDITY_POOL_DEPOSIT_SUCCESS:
+        writer.value("success");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_MALFORMED:
+        writer.value("malformed");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_BAD_PRICE:
+        writer.value("bad_price");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_POOL_FULL:
+        writer.value("pool_full");
+        break;
+    }
+  }
+
+  public static LiquidityPoolDepositResult fromJson(JsonReader reader) throws IOException {
+    LiquidityPoolDepositResult decodedLiquidityPoolDepositResult = new LiquidityPoolDepositResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedLiquidityPoolDepositResult.setDiscriminant(
+            LiquidityPoolDepositResultCode.LIQUIDITY_POOL_DEPOSIT_SUCCESS);
+        break;
+      case "malformed":
+        decodedLiquidityPoolDepositResult.setDiscriminant(
+            LiquidityPoolDepositResultCode.LIQUIDITY_POOL_DEPOSIT_MALFORMED);
+        break;
+      case "no_trust":
+        decodedLiquidityPoolDepositResult.setDiscriminant(
+            LiquidityPoolDepositResultCode.LIQUIDITY_POOL_DEPOSIT_NO_TRUST);
+        break;
+      case "not_authorized":
+        decodedLiquidityPoolDepositResult.setDiscriminant(
+            LiquidityPoolDepositResultCode.LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED);
+        break;
+      case "underfunded":
+        decodedLiquidityPoolDepositResult.setDiscriminant(
+            LiquidityPoolDepositResultCode.LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED);
+        break;
+      case "line_full":
+        decodedLiquidityPoolDepositResult.setDiscriminant(
+            LiquidityPoolDepositResultCode.LIQUIDITY_POOL_DEPOSIT_LINE_FULL);
+        break;
+      case "bad_price":
+        decodedLiquidityPoolDepositResult.setDiscriminant(
+            LiquidityPoolDepositResultCode.LIQUIDITY_POOL_DEPOSIT_BAD_PRICE);
+        break;
+      case "pool_full":
+        decodedLiquidityPoolDepositResult.setDiscriminant(
+            LiquidityPoolDepositResultCode.LIQUIDITY_POOL_DEPOSIT_POOL_FULL);
+        break;
+      default:
+        throw new IOException("Unknown LiquidityPoolDepositResult arm: " + key);
+    }
+    return decodedLiquidityPoolDepositResult;
+  }
+
+  public static LiquidityPoolDepositResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LiquidityPoolDepositResultCode's original definition in the XDR file is:
@@ -76,18 +76,83 @@ public enum LiquidityPoolDepositResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static LiquidityPoolDepositResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LiquidityPoolDepositResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case LIQUIDITY_POOL_DEPOSIT_SUCCESS:
+        writer.value("success");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_MALFORMED:
+        writer.value("malformed");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_BAD_PRICE:
+        writer.value("bad_price");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_POOL_FULL:
+        writer.value("pool_full");
+        break;
+    }
+  }
+
+  public static LiquidityPoolDepositResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return LIQUIDITY_POOL_DEPOSIT_SUCCESS;
+      case "malformed":
+        return LIQUIDITY_POOL_DEPOSIT_MALFORMED;
+      case "no_trust":
+        return LIQUIDITY_POOL_DEPOSIT_NO_TRUST;
+      case "not_authorized":
+        return LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED;
+      case "underfunded":
+        return LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED;
+      case "line_full":
+        return LIQUIDITY_POOL_DEPOSIT_LINE_FULL;
+      case "bad_price":
+        return LIQUIDITY_POOL_DEPOSIT_BAD_PRICE;
+      case "pool_full":
+        return LIQUIDITY_POOL_DEPOSIT_POOL_FULL;
+      default:
+        throw new IOException("Unknown LiquidityPoolDepositResultCode value: " + value);
+    }
+  }
+
+  public static LiquidityPoolDepositResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
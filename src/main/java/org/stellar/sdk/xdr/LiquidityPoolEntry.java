@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LiquidityPoolEntry's original definition in the XDR file is:
@@ -50,6 +50,13 @@ public class LiquidityPoolEntry implements XdrElement {
     body.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += liquidityPoolID.encodedSize();
+    size += body.encodedSize();
+    return size;
+  }
+
   public static LiquidityPoolEntry decode(XdrDataInputStream stream) throws IOException {
     LiquidityPoolEntry decodedLiquidityPoolEntry = new LiquidityPoolEntry();
     decodedLiquidityPoolEntry.liquidityPoolID = PoolID.decode(stream);
@@ -57,17 +64,66 @@ public class LiquidityPoolEntry implements XdrElement {
     return decodedLiquidityPoolEntry;
   }
 
+  public static LiquidityPoolEntry decodeInto(
+      LiquidityPoolEntry existing, XdrDataInputStream stream) throws IOException {
+    LiquidityPoolEntry decodedLiquidityPoolEntry =
+        existing != null ? existing : new LiquidityPoolEntry();
+    decodedLiquidityPoolEntry.liquidityPoolID =
+        PoolID.decodeInto(decodedLiquidityPoolEntry.liquidityPoolID, stream);
+    decodedLiquidityPoolEntry.body =
+        LiquidityPoolEntryBody.decodeInto(decodedLiquidityPoolEntry.body, stream);
+    return decodedLiquidityPoolEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PoolID.skip(stream);
+    LiquidityPoolEntryBody.skip(stream);
+  }
+
   public static LiquidityPoolEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LiquidityPoolEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("liquidity_pool_id");
+    liquidityPoolID.toJson(writer);
+    writer.name("body");
+    body.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LiquidityPoolEntry fromJson(JsonReader reader) throws IOException {
+    LiquidityPoolEntry decodedLiquidityPoolEntry = new LiquidityPoolEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "liquidity_pool_id":
+          decodedLiquidityPoolEntry.liquidityPoolID = PoolID.fromJson(reader);
+          break;
+        case "body":
+          decodedLiquidityPoolEntry.body = LiquidityPoolEntryBody.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LiquidityPoolEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLiquidityPoolEntry;
+  }
+
+  public static LiquidityPoolEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * LiquidityPoolEntryBody's original definition in the XDR file is:
    *
@@ -105,6 +161,17 @@ public class LiquidityPoolEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+          size += constantProduct.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static LiquidityPoolEntryBody decode(XdrDataInputStream stream) throws IOException {
       LiquidityPoolEntryBody decodedLiquidityPoolEntryBody = new LiquidityPoolEntryBody();
       LiquidityPoolType discriminant = LiquidityPoolType.decode(stream);
@@ -118,17 +185,79 @@ public class LiquidityPoolEntry implements XdrElement {
       return decodedLiquidityPoolEntryBody;
     }
 
+    public static LiquidityPoolEntryBody decodeInto(
+        LiquidityPoolEntryBody existing, XdrDataInputStream stream) throws IOException {
+      LiquidityPoolType discriminant = LiquidityPoolType.decode(stream);
+      LiquidityPoolEntryBody decodedLiquidityPoolEntryBody =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new LiquidityPoolEntryBody();
+      decodedLiquidityPoolEntryBody.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+          decodedLiquidityPoolEntryBody.constantProduct =
+              LiquidityPoolEntryConstantProduct.decodeInto(
+                  decodedLiquidityPoolEntryBody.constantProduct, stream);
+          break;
+      }
+      return decodedLiquidityPoolEntryBody;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      LiquidityPoolType discriminant = LiquidityPoolType.decode(stream);
+      switch (discriminant) {
+        case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+          LiquidityPoolEntryConstantProduct.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown LiquidityPoolEntryBody discriminant: " + discriminant);
+      }
+    }
+
     public static LiquidityPoolEntryBody fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static LiquidityPoolEntryBody fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
 
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+          writer.beginObject();
+          writer.name("product");
+          constantProduct.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static LiquidityPoolEntryBody fromJson(JsonReader reader) throws IOException {
+      LiquidityPoolEntryBody decodedLiquidityPoolEntryBody = new LiquidityPoolEntryBody();
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "product":
+          decodedLiquidityPoolEntryBody.setDiscriminant(
+              LiquidityPoolType.LIQUIDITY_POOL_CONSTANT_PRODUCT);
+          decodedLiquidityPoolEntryBody.constantProduct =
+              LiquidityPoolEntryConstantProduct.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LiquidityPoolEntryBody arm: " + key);
+      }
+      reader.endObject();
+      return decodedLiquidityPoolEntryBody;
+    }
+
+    public static LiquidityPoolEntryBody fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
+
     /**
      * LiquidityPoolEntryConstantProduct's original definition in the XDR file is:
      *
@@ -164,6 +293,16 @@ public class LiquidityPoolEntry implements XdrElement {
         poolSharesTrustLineCount.encode(stream);
       }
 
+      public int encodedSize() {
+        int size = 0;
+        size += params.encodedSize();
+        size += reserveA.encodedSize();
+        size += reserveB.encodedSize();
+        size += totalPoolShares.encodedSize();
+        size += poolSharesTrustLineCount.encodedSize();
+        return size;
+      }
+
       public static LiquidityPoolEntryConstantProduct decode(XdrDataInputStream stream)
           throws IOException {
         LiquidityPoolEntryConstantProduct decodedLiquidityPoolEntryConstantProduct =
@@ -177,17 +316,97 @@ public class LiquidityPoolEntry implements XdrElement {
         return decodedLiquidityPoolEntryConstantProduct;
       }
 
+      public static LiquidityPoolEntryConstantProduct decodeInto(
+          LiquidityPoolEntryConstantProduct existing, XdrDataInputStream stream)
+          throws IOException {
+        LiquidityPoolEntryConstantProduct decodedLiquidityPoolEntryConstantProduct =
+            existing != null ? existing : new LiquidityPoolEntryConstantProduct();
+        decodedLiquidityPoolEntryConstantProduct.params =
+            LiquidityPoolConstantProductParameters.decodeInto(
+                decodedLiquidityPoolEntryConstantProduct.params, stream);
+        decodedLiquidityPoolEntryConstantProduct.reserveA =
+            Int64.decodeInto(decodedLiquidityPoolEntryConstantProduct.reserveA, stream);
+        decodedLiquidityPoolEntryConstantProduct.reserveB =
+            Int64.decodeInto(decodedLiquidityPoolEntryConstantProduct.reserveB, stream);
+        decodedLiquidityPoolEntryConstantProduct.totalPoolShares =
+            Int64.decodeInto(decodedLiquidityPoolEntryConstantProduct.totalPoolShares, stream);
+        decodedLiquidityPoolEntryConstantProduct.poolSharesTrustLineCount =
+            Int64.decodeInto(
+                decodedLiquidityPoolEntryConstantProduct.poolSharesTrustLineCount, stream);
+        return decodedLiquidityPoolEntryConstantProduct;
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        LiquidityPoolConstantProductParameters.skip(stream);
+        Int64.skip(stream);
+        Int64.skip(stream);
+        Int64.skip(stream);
+        Int64.skip(stream);
+      }
+
       public static LiquidityPoolEntryConstantProduct fromXdrBase64(String xdr) throws IOException {
-        byte[] bytes = Base64Factory.getInstance().decode(xdr);
-        return fromXdrByteArray(bytes);
+        XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+        return decode(xdrDataInputStream);
       }
 
       public static LiquidityPoolEntryConstantProduct fromXdrByteArray(byte[] xdr)
           throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
         return decode(xdrDataInputStream);
       }
+
+      @Override
+      public void toJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("params");
+        params.toJson(writer);
+        writer.name("reserve_a");
+        reserveA.toJson(writer);
+        writer.name("reserve_b");
+        reserveB.toJson(writer);
+        writer.name("total_pool_shares");
+        totalPoolShares.toJson(writer);
+        writer.name("pool_shares_trust_line_count");
+        poolSharesTrustLineCount.toJson(writer);
+        writer.endObject();
+      }
+
+      public static LiquidityPoolEntryConstantProduct fromJson(JsonReader reader)
+          throws IOException {
+        LiquidityPoolEntryConstantProduct decodedLiquidityPoolEntryConstantProduct =
+            new LiquidityPoolEntryConstantProduct();
+        reader.beginObject();
+        while (reader.hasNext()) {
+          String key = reader.nextName();
+          switch (key) {
+            case "params":
+              decodedLiquidityPoolEntryConstantProduct.params =
+                  LiquidityPoolConstantProductParameters.fromJson(reader);
+              break;
+            case "reserve_a":
+              decodedLiquidityPoolEntryConstantProduct.reserveA = Int64.fromJson(reader);
+              break;
+            case "reserve_b":
+              decodedLiquidityPoolEntryConstantProduct.reserveB = Int64.fromJson(reader);
+              break;
+            case "total_pool_shares":
+              decodedLiquidityPoolEntryConstantProduct.totalPoolShares = Int64.fromJson(reader);
+              break;
+            case "pool_shares_trust_line_count":
+              decodedLiquidityPoolEntryConstantProduct.poolSharesTrustLineCount =
+                  Int64.fromJson(reader);
+              break;
+            default:
+              throw new IOException("Unknown LiquidityPoolEntryConstantProduct field: " + key);
+          }
+        }
+        reader.endObject();
+        return decodedLiquidityPoolEntryConstantProduct;
+      }
+
+      public static LiquidityPoolEntryConstantProduct fromJson(String json) throws IOException {
+        return XdrJson.fromJson(json, reader -> fromJson(reader));
+      }
     }
   }
 }
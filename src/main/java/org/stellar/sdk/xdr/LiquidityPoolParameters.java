@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LiquidityPoolParameters's original definition in the XDR file is:
@@ -39,6 +39,17 @@ public class LiquidityPoolParameters implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+        size += constantProduct.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LiquidityPoolParameters decode(XdrDataInputStream stream) throws IOException {
     LiquidityPoolParameters decodedLiquidityPoolParameters = new LiquidityPoolParameters();
     LiquidityPoolType discriminant = LiquidityPoolType.decode(stream);
@@ -52,14 +63,76 @@ public class LiquidityPoolParameters implements XdrElement {
     return decodedLiquidityPoolParameters;
   }
 
+  public static LiquidityPoolParameters decodeInto(
+      LiquidityPoolParameters existing, XdrDataInputStream stream) throws IOException {
+    LiquidityPoolType discriminant = LiquidityPoolType.decode(stream);
+    LiquidityPoolParameters decodedLiquidityPoolParameters =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new LiquidityPoolParameters();
+    decodedLiquidityPoolParameters.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+        decodedLiquidityPoolParameters.constantProduct =
+            LiquidityPoolConstantProductParameters.decodeInto(
+                decodedLiquidityPoolParameters.constantProduct, stream);
+        break;
+    }
+    return decodedLiquidityPoolParameters;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LiquidityPoolType discriminant = LiquidityPoolType.decode(stream);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+        LiquidityPoolConstantProductParameters.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown LiquidityPoolParameters discriminant: " + discriminant);
+    }
+  }
+
   public static LiquidityPoolParameters fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LiquidityPoolParameters fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+        writer.beginObject();
+        writer.name("product");
+        constantProduct.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static LiquidityPoolParameters fromJson(JsonReader reader) throws IOException {
+    LiquidityPoolParameters decodedLiquidityPoolParameters = new LiquidityPoolParameters();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "product":
+        decodedLiquidityPoolParameters.setDiscriminant(
+            LiquidityPoolType.LIQUIDITY_POOL_CONSTANT_PRODUCT);
+        decodedLiquidityPoolParameters.constantProduct =
+            LiquidityPoolConstantProductParameters.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown LiquidityPoolParameters arm: " + key);
+    }
+    reader.endObject();
+    return decodedLiquidityPoolParameters;
+  }
+
+  public static LiquidityPoolParameters fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
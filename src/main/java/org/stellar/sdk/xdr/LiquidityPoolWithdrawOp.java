@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LiquidityPoolWithdrawOp's original definition in the XDR file is:
@@ -41,6 +41,15 @@ public class LiquidityPoolWithdrawOp implements XdrElement {
     minAmountB.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += liquidityPoolID.encodedSize();
+    size += amount.encodedSize();
+    size += minAmountA.encodedSize();
+    size += minAmountB.encodedSize();
+    return size;
+  }
+
   public static LiquidityPoolWithdrawOp decode(XdrDataInputStream stream) throws IOException {
     LiquidityPoolWithdrawOp decodedLiquidityPoolWithdrawOp = new LiquidityPoolWithdrawOp();
     decodedLiquidityPoolWithdrawOp.liquidityPoolID = PoolID.decode(stream);
@@ -50,14 +59,79 @@ public class LiquidityPoolWithdrawOp implements XdrElement {
     return decodedLiquidityPoolWithdrawOp;
   }
 
+  public static LiquidityPoolWithdrawOp decodeInto(
+      LiquidityPoolWithdrawOp existing, XdrDataInputStream stream) throws IOException {
+    LiquidityPoolWithdrawOp decodedLiquidityPoolWithdrawOp =
+        existing != null ? existing : new LiquidityPoolWithdrawOp();
+    decodedLiquidityPoolWithdrawOp.liquidityPoolID =
+        PoolID.decodeInto(decodedLiquidityPoolWithdrawOp.liquidityPoolID, stream);
+    decodedLiquidityPoolWithdrawOp.amount =
+        Int64.decodeInto(decodedLiquidityPoolWithdrawOp.amount, stream);
+    decodedLiquidityPoolWithdrawOp.minAmountA =
+        Int64.decodeInto(decodedLiquidityPoolWithdrawOp.minAmountA, stream);
+    decodedLiquidityPoolWithdrawOp.minAmountB =
+        Int64.decodeInto(decodedLiquidityPoolWithdrawOp.minAmountB, stream);
+    return decodedLiquidityPoolWithdrawOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PoolID.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static LiquidityPoolWithdrawOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LiquidityPoolWithdrawOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("liquidity_pool_id");
+    liquidityPoolID.toJson(writer);
+    writer.name("amount");
+    amount.toJson(writer);
+    writer.name("min_amount_a");
+    minAmountA.toJson(writer);
+    writer.name("min_amount_b");
+    minAmountB.toJson(writer);
+    writer.endObject();
+  }
+
+  public static LiquidityPoolWithdrawOp fromJson(JsonReader reader) throws IOException {
+    LiquidityPoolWithdrawOp decodedLiquidityPoolWithdrawOp = new LiquidityPoolWithdrawOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "liquidity_pool_id":
+          decodedLiquidityPoolWithdrawOp.liquidityPoolID = PoolID.fromJson(reader);
+          break;
+        case "amount":
+          decodedLiquidityPoolWithdrawOp.amount = Int64.fromJson(reader);
+          break;
+        case "min_amount_a":
+          decodedLiquidityPoolWithdrawOp.minAmountA = Int64.fromJson(reader);
+          break;
+        case "min_amount_b":
+          decodedLiquidityPoolWithdrawOp.minAmountB = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown LiquidityPoolWithdrawOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedLiquidityPoolWithdrawOp;
+  }
+
+  public static LiquidityPoolWithdrawOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LiquidityPoolWithdrawResult's original definition in the XDR file is:
@@ -49,6 +49,22 @@ public class LiquidityPoolWithdrawResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case LIQUIDITY_POOL_WITHDRAW_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_MALFORMED:
+      case LIQUIDITY_POOL_WITHDRAW_NO_TRUST:
+      case LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED:
+      case LIQUIDITY_POOL_WITHDRAW_LINE_FULL:
+      case LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM:
+        break;
+    }
+    return size;
+  }
+
   public static LiquidityPoolWithdrawResult decode(XdrDataInputStream stream) throws IOException {
     LiquidityPoolWithdrawResult decodedLiquidityPoolWithdrawResult =
         new LiquidityPoolWithdrawResult();
@@ -67,14 +83,113 @@ public class LiquidityPoolWithdrawResult implements XdrElement {
     return decodedLiquidityPoolWithdrawResult;
   }
 
+  public static LiquidityPoolWithdrawResult decodeInto(
+      LiquidityPoolWithdrawResult existing, XdrDataInputStream stream) throws IOException {
+    LiquidityPoolWithdrawResultCode discriminant = LiquidityPoolWithdrawResultCode.decode(stream);
+    LiquidityPoolWithdrawResult decodedLiquidityPoolWithdrawResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new LiquidityPoolWithdrawResult();
+    decodedLiquidityPoolWithdrawResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_WITHDRAW_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_MALFORMED:
+      case LIQUIDITY_POOL_WITHDRAW_NO_TRUST:
+      case LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED:
+      case LIQUIDITY_POOL_WITHDRAW_LINE_FULL:
+      case LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM:
+        break;
+    }
+    return decodedLiquidityPoolWithdrawResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LiquidityPoolWithdrawResultCode discriminant = LiquidityPoolWithdrawResultCode.decode(stream);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_WITHDRAW_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_MALFORMED:
+      case LIQUIDITY_POOL_WITHDRAW_NO_TRUST:
+      case LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED:
+      case LIQUIDITY_POOL_WITHDRAW_LINE_FULL:
+      case LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM:
+        break;
+      default:
+        throw new IOException("Unknown LiquidityPoolWithdrawResult discriminant: " + discriminant);
+    }
+  }
+
   public static LiquidityPoolWithdrawResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LiquidityPoolWithdrawResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case LIQUIDITY_POOL_WITHDRAW_SUCCESS:
+        writer.value("success");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_MALFORMED:
+        writer.value("malformed");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM:
+        writer.value("under_minimum");
+        break;
+    }
+  }
+
+  public static LiquidityPoolWithdrawResult fromJson(JsonReader reader) throws IOException {
+    LiquidityPoolWithdrawResult decodedLiquidityPoolWithdrawResult =
+        new LiquidityPoolWithdrawResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedLiquidityPoolWithdrawResult.setDiscriminant(
+            LiquidityPoolWithdrawResultCode.LIQUIDITY_POOL_WITHDRAW_SUCCESS);
+        break;
+      case "malformed":
+        decodedLiquidityPoolWithdrawResult.setDiscriminant(
+            LiquidityPoolWithdrawResultCode.LIQUIDITY_POOL_WITHDRAW_MALFORMED);
+        break;
+      case "no_trust":
+        decodedLiquidityPoolWithdrawResult.setDiscriminant(
+            LiquidityPoolWithdrawResultCode.LIQUIDITY_POOL_WITHDRAW_NO_TRUST);
+        break;
+      case "underfunded":
+        decodedLiquidityPoolWithdrawResult.setDiscriminant(
+            LiquidityPoolWithdrawResultCode.LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED);
+        break;
+      case "line_full":
+        decodedLiquidityPoolWithdrawResult.setDiscriminant(
+            LiquidityPoolWithdrawResultCode.LIQUIDITY_POOL_WITHDRAW_LINE_FULL);
+        break;
+      case "under_minimum":
+        decodedLiquidityPoolWithdrawResult.setDiscriminant(
+            LiquidityPoolWithdrawResultCode.LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM);
+        break;
+      default:
+        throw new IOException("Unknown LiquidityPoolWithdrawResult arm: " + key);
+    }
+    return decodedLiquidityPoolWithdrawResult;
+  }
+
+  public static LiquidityPoolWithdrawResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * LiquidityPoolWithdrawResultCode's original definition in the XDR file is:
@@ -67,18 +67,73 @@ public enum LiquidityPoolWithdrawResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static LiquidityPoolWithdrawResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static LiquidityPoolWithdrawResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case LIQUIDITY_POOL_WITHDRAW_SUCCESS:
+        writer.value("success");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_MALFORMED:
+        writer.value("malformed");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM:
+        writer.value("under_minimum");
+        break;
+    }
+  }
+
+  public static LiquidityPoolWithdrawResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return LIQUIDITY_POOL_WITHDRAW_SUCCESS;
+      case "malformed":
+        return LIQUIDITY_POOL_WITHDRAW_MALFORMED;
+      case "no_trust":
+        return LIQUIDITY_POOL_WITHDRAW_NO_TRUST;
+      case "underfunded":
+        return LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED;
+      case "line_full":
+        return LIQUIDITY_POOL_WITHDRAW_LINE_FULL;
+      case "under_minimum":
+        return LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM;
+      default:
+        throw new IOException("Unknown LiquidityPoolWithdrawResultCode value: " + value);
+    }
+  }
+
+  public static LiquidityPoolWithdrawResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ManageBuyOfferOp's original definition in the XDR file is:
@@ -47,6 +47,16 @@ public class ManageBuyOfferOp implements XdrElement {
     offerID.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += selling.encodedSize();
+    size += buying.encodedSize();
+    size += buyAmount.encodedSize();
+    size += price.encodedSize();
+    size += offerID.encodedSize();
+    return size;
+  }
+
   public static ManageBuyOfferOp decode(XdrDataInputStream stream) throws IOException {
     ManageBuyOfferOp decodedManageBuyOfferOp = new ManageBuyOfferOp();
     decodedManageBuyOfferOp.selling = Asset.decode(stream);
@@ -57,14 +67,81 @@ public class ManageBuyOfferOp implements XdrElement {
     return decodedManageBuyOfferOp;
   }
 
+  public static ManageBuyOfferOp decodeInto(ManageBuyOfferOp existing, XdrDataInputStream stream)
+      throws IOException {
+    ManageBuyOfferOp decodedManageBuyOfferOp = existing != null ? existing : new ManageBuyOfferOp();
+    decodedManageBuyOfferOp.selling = Asset.decodeInto(decodedManageBuyOfferOp.selling, stream);
+    decodedManageBuyOfferOp.buying = Asset.decodeInto(decodedManageBuyOfferOp.buying, stream);
+    decodedManageBuyOfferOp.buyAmount = Int64.decodeInto(decodedManageBuyOfferOp.buyAmount, stream);
+    decodedManageBuyOfferOp.price = Price.decodeInto(decodedManageBuyOfferOp.price, stream);
+    decodedManageBuyOfferOp.offerID = Int64.decodeInto(decodedManageBuyOfferOp.offerID, stream);
+    return decodedManageBuyOfferOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Asset.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Price.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ManageBuyOfferOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ManageBuyOfferOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("selling");
+    selling.toJson(writer);
+    writer.name("buying");
+    buying.toJson(writer);
+    writer.name("buy_amount");
+    buyAmount.toJson(writer);
+    writer.name("price");
+    price.toJson(writer);
+    writer.name("offer_id");
+    offerID.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ManageBuyOfferOp fromJson(JsonReader reader) throws IOException {
+    ManageBuyOfferOp decodedManageBuyOfferOp = new ManageBuyOfferOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "selling":
+          decodedManageBuyOfferOp.selling = Asset.fromJson(reader);
+          break;
+        case "buying":
+          decodedManageBuyOfferOp.buying = Asset.fromJson(reader);
+          break;
+        case "buy_amount":
+          decodedManageBuyOfferOp.buyAmount = Int64.fromJson(reader);
+          break;
+        case "price":
+          decodedManageBuyOfferOp.price = Price.fromJson(reader);
+          break;
+        case "offer_id":
+          decodedManageBuyOfferOp.offerID = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ManageBuyOfferOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedManageBuyOfferOp;
+  }
+
+  public static ManageBuyOfferOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ManageBuyOfferResultCode's original definition in the XDR file is:
@@ -95,18 +95,108 @@ public enum ManageBuyOfferResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ManageBuyOfferResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ManageBuyOfferResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case MANAGE_BUY_OFFER_SUCCESS:
+        writer.value("success");
+        break;
+      case MANAGE_BUY_OFFER_MALFORMED:
+        writer.value("malformed");
+        break;
+      case MANAGE_BUY_OFFER_SELL_NO_TRUST:
+        writer.value("sell_no_trust");
+        break;
+      case MANAGE_BUY_OFFER_BUY_NO_TRUST:
+        writer.value("buy_no_trust");
+        break;
+      case MANAGE_BUY_OFFER_SELL_NOT_AUTHORIZED:
+        writer.value("sell_not_authorized");
+        break;
+      case MANAGE_BUY_OFFER_BUY_NOT_AUTHORIZED:
+        writer.value("buy_not_authorized");
+        break;
+      case MANAGE_BUY_OFFER_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case MANAGE_BUY_OFFER_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case MANAGE_BUY_OFFER_CROSS_SELF:
+        writer.value("cross_self");
+        break;
+      case MANAGE_BUY_OFFER_SELL_NO_ISSUER:
+        writer.value("sell_no_issuer");
+        break;
+      case MANAGE_BUY_OFFER_BUY_NO_ISSUER:
+        writer.value("buy_no_issuer");
+        break;
+      case MANAGE_BUY_OFFER_NOT_FOUND:
+        writer.value("not_found");
+        break;
+      case MANAGE_BUY_OFFER_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+    }
+  }
+
+  public static ManageBuyOfferResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return MANAGE_BUY_OFFER_SUCCESS;
+      case "malformed":
+        return MANAGE_BUY_OFFER_MALFORMED;
+      case "sell_no_trust":
+        return MANAGE_BUY_OFFER_SELL_NO_TRUST;
+      case "buy_no_trust":
+        return MANAGE_BUY_OFFER_BUY_NO_TRUST;
+      case "sell_not_authorized":
+        return MANAGE_BUY_OFFER_SELL_NOT_AUTHORIZED;
+      case "buy_not_authorized":
+        return MANAGE_BUY_OFFER_BUY_NOT_AUTHORIZED;
+      case "line_full":
+        return MANAGE_BUY_OFFER_LINE_FULL;
+      case "underfunded":
+        return MANAGE_BUY_OFFER_UNDERFUNDED;
+      case "cross_self":
+        return MANAGE_BUY_OFFER_CROSS_SELF;
+      case "sell_no_issuer":
+        return MANAGE_BUY_OFFER_SELL_NO_ISSUER;
+      case "buy_no_issuer":
+        return MANAGE_BUY_OFFER_BUY_NO_ISSUER;
+      case "not_found":
+        return MANAGE_BUY_OFFER_NOT_FOUND;
+      case "low_reserve":
+        return MANAGE_BUY_OFFER_LOW_RESERVE;
+      default:
+        throw new IOException("Unknown ManageBuyOfferResultCode value: " + value);
+    }
+  }
+
+  public static ManageBuyOfferResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ManageDataOp's original definition in the XDR file is:
@@ -40,6 +40,18 @@ public class ManageDataOp implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += dataName.encodedSize();
+    if (dataValue != null) {
+      size += 4;
+      size += dataValue.encodedSize();
+    } else {
+      size += 4;
+    }
+    return size;
+  }
+
   public static ManageDataOp decode(XdrDataInputStream stream) throws IOException {
     ManageDataOp decodedManageDataOp = new ManageDataOp();
     decodedManageDataOp.dataName = String64.decode(stream);
@@ -50,14 +62,67 @@ public class ManageDataOp implements XdrElement {
     return decodedManageDataOp;
   }
 
+  public static ManageDataOp decodeInto(ManageDataOp existing, XdrDataInputStream stream)
+      throws IOException {
+    ManageDataOp decodedManageDataOp = existing != null ? existing : new ManageDataOp();
+    decodedManageDataOp.dataName = String64.decodeInto(decodedManageDataOp.dataName, stream);
+    int dataValuePresent = stream.readInt();
+    if (dataValuePresent != 0) {
+      decodedManageDataOp.dataValue = DataValue.decodeInto(decodedManageDataOp.dataValue, stream);
+    } else {
+      decodedManageDataOp.dataValue = null;
+    }
+    return decodedManageDataOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    String64.skip(stream);
+    if (stream.readXdrBoolean()) {
+      DataValue.skip(stream);
+    }
+  }
+
   public static ManageDataOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ManageDataOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("data_name");
+    dataName.toJson(writer);
+    writer.name("data_value");
+    XdrJson.writeOptional(writer, dataValue);
+    writer.endObject();
+  }
+
+  public static ManageDataOp fromJson(JsonReader reader) throws IOException {
+    ManageDataOp decodedManageDataOp = new ManageDataOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "data_name":
+          decodedManageDataOp.dataName = String64.fromJson(reader);
+          break;
+        case "data_value":
+          decodedManageDataOp.dataValue = XdrJson.readOptional(reader, DataValue::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown ManageDataOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedManageDataOp;
+  }
+
+  public static ManageDataOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
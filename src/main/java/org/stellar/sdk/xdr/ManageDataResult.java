@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ManageDataResult's original definition in the XDR file is:
@@ -47,6 +47,21 @@ public class ManageDataResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case MANAGE_DATA_SUCCESS:
+        break;
+      case MANAGE_DATA_NOT_SUPPORTED_YET:
+      case MANAGE_DATA_NAME_NOT_FOUND:
+      case MANAGE_DATA_LOW_RESERVE:
+      case MANAGE_DATA_INVALID_NAME:
+        break;
+    }
+    return size;
+  }
+
   public static ManageDataResult decode(XdrDataInputStream stream) throws IOException {
     ManageDataResult decodedManageDataResult = new ManageDataResult();
     ManageDataResultCode discriminant = ManageDataResultCode.decode(stream);
@@ -63,14 +78,98 @@ public class ManageDataResult implements XdrElement {
     return decodedManageDataResult;
   }
 
+  public static ManageDataResult decodeInto(ManageDataResult existing, XdrDataInputStream stream)
+      throws IOException {
+    ManageDataResultCode discriminant = ManageDataResultCode.decode(stream);
+    ManageDataResult decodedManageDataResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ManageDataResult();
+    decodedManageDataResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case MANAGE_DATA_SUCCESS:
+        break;
+      case MANAGE_DATA_NOT_SUPPORTED_YET:
+      case MANAGE_DATA_NAME_NOT_FOUND:
+      case MANAGE_DATA_LOW_RESERVE:
+      case MANAGE_DATA_INVALID_NAME:
+        break;
+    }
+    return decodedManageDataResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ManageDataResultCode discriminant = ManageDataResultCode.decode(stream);
+    switch (discriminant) {
+      case MANAGE_DATA_SUCCESS:
+        break;
+      case MANAGE_DATA_NOT_SUPPORTED_YET:
+      case MANAGE_DATA_NAME_NOT_FOUND:
+      case MANAGE_DATA_LOW_RESERVE:
+      case MANAGE_DATA_INVALID_NAME:
+        break;
+      default:
+        throw new IOException("Unknown ManageDataResult discriminant: " + discriminant);
+    }
+  }
+
   public static ManageDataResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ManageDataResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case MANAGE_DATA_SUCCESS:
+        writer.value("success");
+        break;
+      case MANAGE_DATA_NOT_SUPPORTED_YET:
+        writer.value("not_supported_yet");
+        break;
+      case MANAGE_DATA_NAME_NOT_FOUND:
+        writer.value("name_not_found");
+        break;
+      case MANAGE_DATA_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case MANAGE_DATA_INVALID_NAME:
+        writer.value("invalid_name");
+        break;
+    }
+  }
+
+  public static ManageDataResult fromJson(JsonReader reader) throws IOException {
+    ManageDataResult decodedManageDataResult = new ManageDataResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedManageDataResult.setDiscriminant(ManageDataResultCode.MANAGE_DATA_SUCCESS);
+        break;
+      case "not_supported_yet":
+        decodedManageDataResult.setDiscriminant(ManageDataResultCode.MANAGE_DATA_NOT_SUPPORTED_YET);
+        break;
+      case "name_not_found":
+        decodedManageDataResult.setDiscriminant(ManageDataResultCode.MANAGE_DATA_NAME_NOT_FOUND);
+        break;
+      case "low_reserve":
+        decodedManageDataResult.setDiscriminant(ManageDataResultCode.MANAGE_DATA_LOW_RESERVE);
+        break;
+      case "invalid_name":
+        decodedManageDataResult.setDiscriminant(ManageDataResultCode.MANAGE_DATA_INVALID_NAME);
+        break;
+      default:
+        throw new IOException("Unknown ManageDataResult arm: " + key);
+    }
+    return decodedManageDataResult;
+  }
+
+  public static ManageDataResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ManageDataResultCode's original definition in the XDR file is:
@@ -60,18 +60,68 @@ public enum ManageDataResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ManageDataResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ManageDataResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case MANAGE_DATA_SUCCESS:
+        writer.value("success");
+        break;
+      case MANAGE_DATA_NOT_SUPPORTED_YET:
+        writer.value("not_supported_yet");
+        break;
+      case MANAGE_DATA_NAME_NOT_FOUND:
+        writer.value("name_not_found");
+        break;
+      case MANAGE_DATA_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case MANAGE_DATA_INVALID_NAME:
+        writer.value("invalid_name");
+        break;
+    }
+  }
+
+  public static ManageDataResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return MANAGE_DATA_SUCCESS;
+      case "not_supported_yet":
+        return MANAGE_DATA_NOT_SUPPORTED_YET;
+      case "name_not_found":
+        return MANAGE_DATA_NAME_NOT_FOUND;
+      case "low_reserve":
+        return MANAGE_DATA_LOW_RESERVE;
+      case "invalid_name":
+        return MANAGE_DATA_INVALID_NAME;
+      default:
+        throw new IOException("Unknown ManageDataResultCode value: " + value);
+    }
+  }
+
+  public static ManageDataResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ManageOfferEffect's original definition in the XDR file is:
@@ -48,18 +48,58 @@ public enum ManageOfferEffect implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ManageOfferEffect fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ManageOfferEffect fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case MANAGE_OFFER_CREATED:
+        writer.value("created");
+        break;
+      case MANAGE_OFFER_UPDATED:
+        writer.value("updated");
+        break;
+      case MANAGE_OFFER_DELETED:
+        writer.value("deleted");
+        break;
+    }
+  }
+
+  public static ManageOfferEffect fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "created":
+        return MANAGE_OFFER_CREATED;
+      case "updated":
+        return MANAGE_OFFER_UPDATED;
+      case "deleted":
+        return MANAGE_OFFER_DELETED;
+      default:
+        throw new IOException("Unknown ManageOfferEffect value: " + value);
+    }
+  }
+
+  public static ManageOfferEffect fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ManageOfferSuccessResult's original definition in the XDR file is:
@@ -49,9 +50,20 @@ public class ManageOfferSuccessResult implements XdrElement {
     offer.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int offersClaimedSize = getOffersClaimed().length;
+    size += 4;
+    for (int i = 0; i < offersClaimedSize; i++) {
+      size += offersClaimed[i].encodedSize();
+    }
+    size += offer.encodedSize();
+    return size;
+  }
+
   public static ManageOfferSuccessResult decode(XdrDataInputStream stream) throws IOException {
     ManageOfferSuccessResult decodedManageOfferSuccessResult = new ManageOfferSuccessResult();
-    int offersClaimedSize = stream.readInt();
+    int offersClaimedSize = stream.readLength(4);
     decodedManageOfferSuccessResult.offersClaimed = new ClaimAtom[offersClaimedSize];
     for (int i = 0; i < offersClaimedSize; i++) {
       decodedManageOfferSuccessResult.offersClaimed[i] = ClaimAtom.decode(stream);
@@ -60,17 +72,76 @@ public class ManageOfferSuccessResult implements XdrElement {
     return decodedManageOfferSuccessResult;
   }
 
+  public static ManageOfferSuccessResult decodeInto(
+      ManageOfferSuccessResult existing, XdrDataInputStream stream) throws IOException {
+    ManageOfferSuccessResult decodedManageOfferSuccessResult =
+        existing != null ? existing : new ManageOfferSuccessResult();
+    int offersClaimedSize = stream.readLength(4);
+    decodedManageOfferSuccessResult.offersClaimed =
+        XdrRecycler.resize(
+            decodedManageOfferSuccessResult.offersClaimed, offersClaimedSize, ClaimAtom[]::new);
+    for (int i = 0; i < offersClaimedSize; i++) {
+      decodedManageOfferSuccessResult.offersClaimed[i] =
+          ClaimAtom.decodeInto(decodedManageOfferSuccessResult.offersClaimed[i], stream);
+    }
+    decodedManageOfferSuccessResult.offer =
+        ManageOfferSuccessResultOffer.decodeInto(decodedManageOfferSuccessResult.offer, stream);
+    return decodedManageOfferSuccessResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int offersClaimedSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < offersClaimedSize; i++) {
+      ClaimAtom.skip(stream);
+    }
+    ManageOfferSuccessResultOffer.skip(stream);
+  }
+
   public static ManageOfferSuccessResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ManageOfferSuccessResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("offers_claimed");
+    XdrJson.writeArray(writer, offersClaimed);
+    writer.name("offer");
+    offer.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ManageOfferSuccessResult fromJson(JsonReader reader) throws IOException {
+    ManageOfferSuccessResult decodedManageOfferSuccessResult = new ManageOfferSuccessResult();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "offers_claimed":
+          decodedManageOfferSuccessResult.offersClaimed =
+              XdrJson.readArray(reader, ClaimAtom[]::new, ClaimAtom::fromJson);
+          break;
+        case "offer":
+          decodedManageOfferSuccessResult.offer = ManageOfferSuccessResultOffer.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ManageOfferSuccessResult field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedManageOfferSuccessResult;
+  }
+
+  public static ManageOfferSuccessResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * ManageOfferSuccessResultOffer's original definition in the XDR file is:
    *
@@ -105,6 +176,20 @@ public class ManageOfferSuccessResult implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          size += offer.encodedSize();
+          break;
+        case MANAGE_OFFER_DELETED:
+          break;
+      }
+      return size;
+    }
+
     public static ManageOfferSuccessResultOffer decode(XdrDataInputStream stream)
         throws IOException {
       ManageOfferSuccessResultOffer decodedManageOfferSuccessResultOffer =
@@ -122,15 +207,109 @@ public class ManageOfferSuccessResult implements XdrElement {
       return decodedManageOfferSuccessResultOffer;
     }
 
+    public static ManageOfferSuccessResultOffer decodeInto(
+        ManageOfferSuccessResultOffer existing, XdrDataInputStream stream) throws IOException {
+      ManageOfferEffect discriminant = ManageOfferEffect.decode(stream);
+      ManageOfferSuccessResultOffer decodedManageOfferSuccessResultOffer =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new ManageOfferSuccessResultOffer();
+      decodedManageOfferSuccessResultOffer.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          decodedManageOfferSuccessResultOffer.offer =
+              OfferEntry.decodeInto(decodedManageOfferSuccessResultOffer.offer, stream);
+          break;
+        case MANAGE_OFFER_DELETED:
+          break;
+      }
+      return decodedManageOfferSuccessResultOffer;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      ManageOfferEffect discriminant = ManageOfferEffect.decode(stream);
+      switch (discriminant) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          OfferEntry.skip(stream);
+          break;
+        case MANAGE_OFFER_DELETED:
+          break;
+        default:
+          throw new IOException(
+              "Unknown ManageOfferSuccessResultOffer discriminant: " + discriminant);
+      }
+    }
+
     public static ManageOfferSuccessResultOffer fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static ManageOfferSuccessResultOffer fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case MANAGE_OFFER_CREATED:
+          writer.beginObject();
+          writer.name("created");
+          offer.toJson(writer);
+          writer.endObject();
+          break;
+        case MANAGE_OFFER_UPDATED:
+          writer.beginObject();
+          writer.name("updated");
+          offer.toJson(writer);
+          writer.endObject();
+          break;
+        case MANAGE_OFFER_DELETED:
+          writer.value("deleted");
+          break;
+      }
+    }
+
+    public static ManageOfferSuccessResultOffer fromJson(JsonReader reader) throws IOException {
+      ManageOfferSuccessResultOffer decodedManageOfferSuccessResultOffer =
+          new ManageOfferSuccessResultOffer();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "deleted":
+            decodedManageOfferSuccessResultOffer.setDiscriminant(
+                ManageOfferEffect.MANAGE_OFFER_DELETED);
+            break;
+          default:
+            throw new IOException("Unknown ManageOfferSuccessResultOffer arm: " + key);
+        }
+        return decodedManageOfferSuccessResultOffer;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "created":
+          decodedManageOfferSuccessResultOffer.setDiscriminant(
+              ManageOfferEffect.MANAGE_OFFER_CREATED);
+          decodedManageOfferSuccessResultOffer.offer = OfferEntry.fromJson(reader);
+          break;
+        case "updated":
+          decodedManageOfferSuccessResultOffer.setDiscriminant(
+              ManageOfferEffect.MANAGE_OFFER_UPDATED);
+          decodedManageOfferSuccessResultOffer.offer = OfferEntry.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ManageOfferSuccessResultOffer arm: " + key);
+      }
+      reader.endObject();
+      return decodedManageOfferSuccessResultOffer;
+    }
+
+    public static ManageOfferSuccessResultOffer fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ManageSellOfferOp's original definition in the XDR file is:
@@ -46,6 +46,16 @@ public class ManageSellOfferOp implements XdrElement {
     offerID.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += selling.encodedSize();
+    size += buying.encodedSize();
+    size += amount.encodedSize();
+    size += price.encodedSize();
+    size += offerID.encodedSize();
+    return size;
+  }
+
   public static ManageSellOfferOp decode(XdrDataInputStream stream) throws IOException {
     ManageSellOfferOp decodedManageSellOfferOp = new ManageSellOfferOp();
     decodedManageSellOfferOp.selling = Asset.decode(stream);
@@ -56,14 +66,82 @@ public class ManageSellOfferOp implements XdrElement {
     return decodedManageSellOfferOp;
   }
 
+  public static ManageSellOfferOp decodeInto(ManageSellOfferOp existing, XdrDataInputStream stream)
+      throws IOException {
+    ManageSellOfferOp decodedManageSellOfferOp =
+        existing != null ? existing : new ManageSellOfferOp();
+    decodedManageSellOfferOp.selling = Asset.decodeInto(decodedManageSellOfferOp.selling, stream);
+    decodedManageSellOfferOp.buying = Asset.decodeInto(decodedManageSellOfferOp.buying, stream);
+    decodedManageSellOfferOp.amount = Int64.decodeInto(decodedManageSellOfferOp.amount, stream);
+    decodedManageSellOfferOp.price = Price.decodeInto(decodedManageSellOfferOp.price, stream);
+    decodedManageSellOfferOp.offerID = Int64.decodeInto(decodedManageSellOfferOp.offerID, stream);
+    return decodedManageSellOfferOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Asset.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Price.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static ManageSellOfferOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ManageSellOfferOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("selling");
+    selling.toJson(writer);
+    writer.name("buying");
+    buying.toJson(writer);
+    writer.name("amount");
+    amount.toJson(writer);
+    writer.name("price");
+    price.toJson(writer);
+    writer.name("offer_id");
+    offerID.toJson(writer);
+    writer.endObject();
+  }
+
+  public static ManageSellOfferOp fromJson(JsonReader reader) throws IOException {
+    ManageSellOfferOp decodedManageSellOfferOp = new ManageSellOfferOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "selling":
+          decodedManageSellOfferOp.selling = Asset.fromJson(reader);
+          break;
+        case "buying":
+          decodedManageSellOfferOp.buying = Asset.fromJson(reader);
+          break;
+        case "amount":
+          decodedManageSellOfferOp.amount = Int64.fromJson(reader);
+          break;
+        case "price":
+          decodedManageSellOfferOp.price = Price.fromJson(reader);
+          break;
+        case "offer_id":
+          decodedManageSellOfferOp.offerID = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown ManageSellOfferOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedManageSellOfferOp;
+  }
+
+  public static ManageSellOfferOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ManageSellOfferResult's original definition in the XDR file is:
@@ -65,6 +66,30 @@ public class ManageSellOfferResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case MANAGE_SELL_OFFER_SUCCESS:
+        size += success.encodedSize();
+        break;
+      case MANAGE_SELL_OFFER_MALFORMED:
+      case MANAGE_SELL_OFFER_SELL_NO_TRUST:
+      case MANAGE_SELL_OFFER_BUY_NO_TRUST:
+      case MANAGE_SELL_OFFER_SELL_NOT_AUTHORIZED:
+      case MANAGE_SELL_OFFER_BUY_NOT_AUTHORIZED:
+      case MANAGE_SELL_OFFER_LINE_FULL:
+      case MANAGE_SELL_OFFER_UNDERFUNDED:
+      case MANAGE_SELL_OFFER_CROSS_SELF:
+      case MANAGE_SELL_OFFER_SELL_NO_ISSUER:
+      case MANAGE_SELL_OFFER_BUY_NO_ISSUER:
+      case MANAGE_SELL_OFFER_NOT_FOUND:
+      case MANAGE_SELL_OFFER_LOW_RESERVE:
+        break;
+    }
+    return size;
+  }
+
   public static ManageSellOfferResult decode(XdrDataInputStream stream) throws IOException {
     ManageSellOfferResult decodedManageSellOfferResult = new ManageSellOfferResult();
     ManageSellOfferResultCode discriminant = ManageSellOfferResultCode.decode(stream);
@@ -90,14 +115,192 @@ public class ManageSellOfferResult implements XdrElement {
     return decodedManageSellOfferResult;
   }
 
+  public static ManageSellOfferResult decodeInto(
+      ManageSellOfferResult existing, XdrDataInputStream stream) throws IOException {
+    ManageSellOfferResultCode discriminant = ManageSellOfferResultCode.decode(stream);
+    ManageSellOfferResult decodedManageSellOfferResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new ManageSellOfferResult();
+    decodedManageSellOfferResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case MANAGE_SELL_OFFER_SUCCESS:
+        decodedManageSellOfferResult.success =
+            ManageOfferSuccessResult.decodeInto(decodedManageSellOfferResult.success, stream);
+        break;
+      case MANAGE_SELL_OFFER_MALFORMED:
+      case MANAGE_SELL_OFFER_SELL_NO_TRUST:
+      case MANAGE_SELL_OFFER_BUY_NO_TRUST:
+      case MANAGE_SELL_OFFER_SELL_NOT_AUTHORIZED:
+      case MANAGE_SELL_OFFER_BUY_NOT_AUTHORIZED:
+      case MANAGE_SELL_OFFER_LINE_FULL:
+      case MANAGE_SELL_OFFER_UNDERFUNDED:
+      case MANAGE_SELL_OFFER_CROSS_SELF:
+      case MANAGE_SELL_OFFER_SELL_NO_ISSUER:
+      case MANAGE_SELL_OFFER_BUY_NO_ISSUER:
+      case MANAGE_SELL_OFFER_NOT_FOUND:
+      case MANAGE_SELL_OFFER_LOW_RESERVE:
+        break;
+    }
+    return decodedManageSellOfferResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ManageSellOfferResultCode discriminant = ManageSellOfferResultCode.decode(stream);
+    switch (discriminant) {
+      case MANAGE_SELL_OFFER_SUCCESS:
+        ManageOfferSuccessResult.skip(stream);
+        break;
+      case MANAGE_SELL_OFFER_MALFORMED:
+      case MANAGE_SELL_OFFER_SELL_NO_TRUST:
+      case MANAGE_SELL_OFFER_BUY_NO_TRUST:
+      case MANAGE_SELL_OFFER_SELL_NOT_AUTHORIZED:
+      case MANAGE_SELL_OFFER_BUY_NOT_AUTHORIZED:
+      case MANAGE_SELL_OFFER_LINE_FULL:
+      case MANAGE_SELL_OFFER_UNDERFUNDED:
+      case MANAGE_SELL_OFFER_CROSS_SELF:
+      case MANAGE_SELL_OFFER_SELL_NO_ISSUER:
+      case MANAGE_SELL_OFFER_BUY_NO_ISSUER:
+      case MANAGE_SELL_OFFER_NOT_FOUND:
+      case MANAGE_SELL_OFFER_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown ManageSellOfferResult discriminant: " + discriminant);
+    }
+  }
+
   public static ManageSellOfferResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ManageSellOfferResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case MANAGE_SELL_OFFER_SUCCESS:
+        writer.beginObject();
+        writer.name("success");
+        success.toJson(writer);
+        writer.endObject();
+        break;
+      case MANAGE_SELL_OFFER_MALFORMED:
+        writer.value("malformed");
+        break;
+      case MANAGE_SELL_OFFER_SELL_NO_TRUST:
+        writer.value("sell_no_trust");
+        break;
+      case MANAGE_SELL_OFFER_BUY_NO_TRUST:
+        writer.value("buy_no_trust");
+        break;
+      case MANAGE_SELL_OFFER_SELL_NOT_AUTHORIZED:
+        writer.value("sell_not_authorized");
+        break;
+      case MANAGE_SELL_OFFER_BUY_NOT_AUTHORIZED:
+        writer.value("buy_not_authorized");
+        break;
+      case MANAGE_SELL_OFFER_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case MANAGE_SELL_OFFER_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case MANAGE_SELL_OFFER_CROSS_SELF:
+        writer.value("cross_self");
+        break;
+      case MANAGE_SELL_OFFER_SELL_NO_ISSUER:
+        writer.value("sell_no_issuer");
+        break;
+      case MANAGE_SELL_OFFER_BUY_NO_ISSUER:
+        writer.value("buy_no_issuer");
+        break;
+      case MANAGE_SELL_OFFER_NOT_FOUND:
+        writer.value("not_found");
+        break;
+      case MANAGE_SELL_OFFER_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+    }
+  }
+
+  public static ManageSellOfferResult fromJson(JsonReader reader) throws IOException {
+    ManageSellOfferResult decodedManageSellOfferResult = new ManageSellOfferResult();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "malformed":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_MALFORMED);
+          break;
+        case "sell_no_trust":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_SELL_NO_TRUST);
+          break;
+        case "buy_no_trust":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_BUY_NO_TRUST);
+          break;
+        case "sell_not_authorized":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_SELL_NOT_AUTHORIZED);
+          break;
+        case "buy_not_authorized":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_BUY_NOT_AUTHORIZED);
+          break;
+        case "line_full":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_LINE_FULL);
+          break;
+        case "underfunded":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_UNDERFUNDED);
+          break;
+        case "cross_self":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_CROSS_SELF);
+          break;
+        case "sell_no_issuer":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_SELL_NO_ISSUER);
+          break;
+        case "buy_no_issuer":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_BUY_NO_ISSUER);
+          break;
+        case "not_found":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_NOT_FOUND);
+          break;
+        case "low_reserve":
+          decodedManageSellOfferResult.setDiscriminant(
+              ManageSellOfferResultCode.MANAGE_SELL_OFFER_LOW_RESERVE);
+          break;
+        default:
+          throw new IOException("Unknown ManageSellOfferResult arm: " + key);
+      }
+      return decodedManageSellOfferResult;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "success":
+        decodedManageSellOfferResult.setDiscriminant(
+            ManageSellOfferResultCode.MANAGE_SELL_OFFER_SUCCESS);
+        decodedManageSellOfferResult.success = ManageOfferSuccessResult.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown ManageSellOfferResult arm: " + key);
+    }
+    reader.endObject();
+    return decodedManageSellOfferResult;
+  }
+
+  public static ManageSellOfferResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
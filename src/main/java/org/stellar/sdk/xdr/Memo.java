@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Memo's original definition in the XDR file is:
@@ -61,6 +62,28 @@ public class Memo implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case MEMO_NONE:
+        break;
+      case MEMO_TEXT:
+        size += text.encodedSize();
+        break;
+      case MEMO_ID:
+        size += id.encodedSize();
+        break;
+      case MEMO_HASH:
+        size += hash.encodedSize();
+        break;
+      case MEMO_RETURN:
+        size += retHash.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static Memo decode(XdrDataInputStream stream) throws IOException {
     Memo decodedMemo = new Memo();
     MemoType discriminant = MemoType.decode(stream);
@@ -84,14 +107,135 @@ public class Memo implements XdrElement {
     return decodedMemo;
   }
 
+  public static Memo decodeInto(Memo existing, XdrDataInputStream stream) throws IOException {
+    MemoType discriminant = MemoType.decode(stream);
+    Memo decodedMemo =
+        existing != null && discriminant.equals(existing.discriminant) ? existing : new Memo();
+    decodedMemo.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case MEMO_NONE:
+        break;
+      case MEMO_TEXT:
+        decodedMemo.text = XdrString.decode(stream, 28);
+        break;
+      case MEMO_ID:
+        decodedMemo.id = Uint64.decodeInto(decodedMemo.id, stream);
+        break;
+      case MEMO_HASH:
+        decodedMemo.hash = Hash.decodeInto(decodedMemo.hash, stream);
+        break;
+      case MEMO_RETURN:
+        decodedMemo.retHash = Hash.decodeInto(decodedMemo.retHash, stream);
+        break;
+    }
+    return decodedMemo;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    MemoType discriminant = MemoType.decode(stream);
+    switch (discriminant) {
+      case MEMO_NONE:
+        break;
+      case MEMO_TEXT:
+        XdrString.skip(stream, 28);
+        break;
+      case MEMO_ID:
+        Uint64.skip(stream);
+        break;
+      case MEMO_HASH:
+        Hash.skip(stream);
+        break;
+      case MEMO_RETURN:
+        Hash.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown Memo discriminant: " + discriminant);
+    }
+  }
+
   public static Memo fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Memo fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case MEMO_NONE:
+        writer.value("none");
+        break;
+      case MEMO_TEXT:
+        writer.beginObject();
+        writer.name("text");
+        text.toJson(writer);
+        writer.endObject();
+        break;
+      case MEMO_ID:
+        writer.beginObject();
+        writer.name("id");
+        id.toJson(writer);
+        writer.endObject();
+        break;
+      case MEMO_HASH:
+        writer.beginObject();
+        writer.name("hash");
+        hash.toJson(writer);
+        writer.endObject();
+        break;
+      case MEMO_RETURN:
+        writer.beginObject();
+        writer.name("return");
+        retHash.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static Memo fromJson(JsonReader reader) throws IOException {
+    Memo decodedMemo = new Memo();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "none":
+          decodedMemo.setDiscriminant(MemoType.MEMO_NONE);
+          break;
+        default:
+          throw new IOException("Unknown Memo arm: " + key);
+      }
+      return decodedMemo;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "text":
+        decodedMemo.setDiscriminant(MemoType.MEMO_TEXT);
+        decodedMemo.text = XdrString.fromJson(reader);
+        break;
+      case "id":
+        decodedMemo.setDiscriminant(MemoType.MEMO_ID);
+        decodedMemo.id = Uint64.fromJson(reader);
+        break;
+      case "hash":
+        decodedMemo.setDiscriminant(MemoType.MEMO_HASH);
+        decodedMemo.hash = Hash.fromJson(reader);
+        break;
+      case "return":
+        decodedMemo.setDiscriminant(MemoType.MEMO_RETURN);
+        decodedMemo.retHash = Hash.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown Memo arm: " + key);
+    }
+    reader.endObject();
+    return decodedMemo;
+  }
+
+  public static Memo fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * MemoType's original definition in the XDR file is:
@@ -56,18 +56,68 @@ public enum MemoType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static MemoType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static MemoType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case MEMO_NONE:
+        writer.value("none");
+        break;
+      case MEMO_TEXT:
+        writer.value("text");
+        break;
+      case MEMO_ID:
+        writer.value("id");
+        break;
+      case MEMO_HASH:
+        writer.value("hash");
+        break;
+      case MEMO_RETURN:
+        writer.value("return");
+        break;
+    }
+  }
+
+  public static MemoType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "none":
+        return MEMO_NONE;
+      case "text":
+        return MEMO_TEXT;
+      case "id":
+        return MEMO_ID;
+      case "hash":
+        return MEMO_HASH;
+      case "return":
+        return MEMO_RETURN;
+      default:
+        throw new IOException("Unknown MemoType value: " + value);
+    }
+  }
+
+  public static MemoType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * MessageType's original definition in the XDR file is:
@@ -134,18 +134,148 @@ public enum MessageType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static MessageType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static MessageType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case ERROR_MSG:
+        writer.value("error_msg");
+        break;
+      case AUTH:
+        writer.value("auth");
+        break;
+      case DONT_HAVE:
+        writer.value("dont_have");
+        break;
+      case PEERS:
+        writer.value("peers");
+        break;
+      case GET_TX_SET:
+        writer.value("get_tx_set");
+        break;
+      case TX_SET:
+        writer.value("tx_set");
+        break;
+      case GENERALIZED_TX_SET:
+        writer.value("generalized_tx_set");
+        break;
+      case TRANSACTION:
+        writer.value("transaction");
+        break;
+      case GET_SCP_QUORUMSET:
+        writer.value("get_scp_quorumset");
+        break;
+      case SCP_QUORUMSET:
+        writer.value("scp_quorumset");
+        break;
+      case SCP_MESSAGE:
+        writer.value("scp_message");
+        break;
+      case GET_SCP_STATE:
+        writer.value("get_scp_state");
+        break;
+      case HELLO:
+        writer.value("hello");
+        break;
+      case SEND_MORE:
+        writer.value("send_more");
+        break;
+      case SEND_MORE_EXTENDED:
+        writer.value("send_more_extended");
+        break;
+      case FLOOD_ADVERT:
+        writer.value("flood_advert");
+        break;
+      case FLOOD_DEMAND:
+        writer.value("flood_demand");
+        break;
+      case TIME_SLICED_SURVEY_REQUEST:
+        writer.value("time_sliced_survey_request");
+        break;
+      case TIME_SLICED_SURVEY_RESPONSE:
+        writer.value("time_sliced_survey_response");
+        break;
+      case TIME_SLICED_SURVEY_START_COLLECTING:
+        writer.value("time_sliced_survey_start_collecting");
+        break;
+      case TIME_SLICED_SURVEY_STOP_COLLECTING:
+        writer.value("time_sliced_survey_stop_collecting");
+        break;
+    }
+  }
+
+  public static MessageType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "error_msg":
+        return ERROR_MSG;
+      case "auth":
+        return AUTH;
+      case "dont_have":
+        return DONT_HAVE;
+      case "peers":
+        return PEERS;
+      case "get_tx_set":
+        return GET_TX_SET;
+      case "tx_set":
+        return TX_SET;
+      case "generalized_tx_set":
+        return GENERALIZED_TX_SET;
+      case "transaction":
+        return TRANSACTION;
+      case "get_scp_quorumset":
+        return GET_SCP_QUORUMSET;
+      case "scp_quorumset":
+        return SCP_QUORUMSET;
+      case "scp_message":
+        return SCP_MESSAGE;
+      case "get_scp_state":
+        return GET_SCP_STATE;
+      case "hello":
+        return HELLO;
+      case "send_more":
+        return SEND_MORE;
+      case "send_more_extended":
+        return SEND_MORE_EXTENDED;
+      case "flood_advert":
+        return FLOOD_ADVERT;
+      case "flood_demand":
+        return FLOOD_DEMAND;
+      case "time_sliced_survey_request":
+        return TIME_SLICED_SURVEY_REQUEST;
+      case "time_sliced_survey_response":
+        return TIME_SLICED_SURVEY_RESPONSE;
+      case "time_sliced_survey_start_collecting":
+        return TIME_SLICED_SURVEY_START_COLLECTING;
+      case "time_sliced_survey_stop_collecting":
+        return TIME_SLICED_SURVEY_STOP_COLLECTING;
+      default:
+        throw new IOException("Unknown MessageType value: " + value);
+    }
+  }
+
+  public static MessageType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.StrKey;
 
 /**
  * MuxedAccount's original definition in the XDR file is:
@@ -49,6 +50,20 @@ public class MuxedAccount implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case KEY_TYPE_ED25519:
+        size += ed25519.encodedSize();
+        break;
+      case KEY_TYPE_MUXED_ED25519:
+        size += med25519.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static MuxedAccount decode(XdrDataInputStream stream) throws IOException {
     MuxedAccount decodedMuxedAccount = new MuxedAccount();
     CryptoKeyType discriminant = CryptoKeyType.decode(stream);
@@ -64,17 +79,81 @@ public class MuxedAccount implements XdrElement {
     return decodedMuxedAccount;
   }
 
+  public static MuxedAccount decodeInto(MuxedAccount existing, XdrDataInputStream stream)
+      throws IOException {
+    CryptoKeyType discriminant = CryptoKeyType.decode(stream);
+    MuxedAccount decodedMuxedAccount =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new MuxedAccount();
+    decodedMuxedAccount.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case KEY_TYPE_ED25519:
+        decodedMuxedAccount.ed25519 = Uint256.decodeInto(decodedMuxedAccount.ed25519, stream);
+        break;
+      case KEY_TYPE_MUXED_ED25519:
+        decodedMuxedAccount.med25519 =
+            MuxedAccountMed25519.decodeInto(decodedMuxedAccount.med25519, stream);
+        break;
+    }
+    return decodedMuxedAccount;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    CryptoKeyType discriminant = CryptoKeyType.decode(stream);
+    switch (discriminant) {
+      case KEY_TYPE_ED25519:
+        Uint256.skip(stream);
+        break;
+      case KEY_TYPE_MUXED_ED25519:
+        MuxedAccountMed25519.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown MuxedAccount discriminant: " + discriminant);
+    }
+  }
+
   public static MuxedAccount fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static MuxedAccount fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case KEY_TYPE_ED25519:
+        writer.value(StrKey.encodeEd25519PublicKey(ed25519.getUint256()));
+        break;
+      case KEY_TYPE_MUXED_ED25519:
+        med25519.toJson(writer);
+        break;
+    }
+  }
+
+  public static MuxedAccount fromJson(JsonReader reader) throws IOException {
+    String address = reader.nextString();
+    MuxedAccount decodedMuxedAccount = new MuxedAccount();
+    if (address.startsWith("M")) {
+      MuxedEd25519Account account = XdrJson.decodeMuxedAccount(address);
+      decodedMuxedAccount.setDiscriminant(CryptoKeyType.KEY_TYPE_MUXED_ED25519);
+      decodedMuxedAccount.med25519 =
+          new MuxedAccountMed25519(account.getId(), account.getEd25519());
+    } else {
+      decodedMuxedAccount.setDiscriminant(CryptoKeyType.KEY_TYPE_ED25519);
+      decodedMuxedAccount.ed25519 = new Uint256(StrKey.decodeEd25519PublicKey(address));
+    }
+    return decodedMuxedAccount;
+  }
+
+  public static MuxedAccount fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * MuxedAccountMed25519's original definition in the XDR file is:
    *
@@ -99,6 +178,13 @@ public class MuxedAccount implements XdrElement {
       ed25519.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += id.encodedSize();
+      size += ed25519.encodedSize();
+      return size;
+    }
+
     public static MuxedAccountMed25519 decode(XdrDataInputStream stream) throws IOException {
       MuxedAccountMed25519 decodedMuxedAccountMed25519 = new MuxedAccountMed25519();
       decodedMuxedAccountMed25519.id = Uint64.decode(stream);
@@ -106,15 +192,43 @@ public class MuxedAccount implements XdrElement {
       return decodedMuxedAccountMed25519;
     }
 
+    public static MuxedAccountMed25519 decodeInto(
+        MuxedAccountMed25519 existing, XdrDataInputStream stream) throws IOException {
+      MuxedAccountMed25519 decodedMuxedAccountMed25519 =
+          existing != null ? existing : new MuxedAccountMed25519();
+      decodedMuxedAccountMed25519.id = Uint64.decodeInto(decodedMuxedAccountMed25519.id, stream);
+      decodedMuxedAccountMed25519.ed25519 =
+          Uint256.decodeInto(decodedMuxedAccountMed25519.ed25519, stream);
+      return decodedMuxedAccountMed25519;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Uint64.skip(stream);
+      Uint256.skip(stream);
+    }
+
     public static MuxedAccountMed25519 fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static MuxedAccountMed25519 fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.value(XdrJson.encodeMuxedAccount(ed25519, id));
+    }
+
+    public static MuxedAccountMed25519 fromJson(JsonReader reader) throws IOException {
+      MuxedEd25519Account account = XdrJson.decodeMuxedAccount(reader.nextString());
+      return new MuxedAccountMed25519(account.getId(), account.getEd25519());
+    }
+
+    public static MuxedAccountMed25519 fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
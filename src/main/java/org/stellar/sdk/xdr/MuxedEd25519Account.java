@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * MuxedEd25519Account's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class MuxedEd25519Account implements XdrElement {
     ed25519.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += id.encodedSize();
+    size += ed25519.encodedSize();
+    return size;
+  }
+
   public static MuxedEd25519Account decode(XdrDataInputStream stream) throws IOException {
     MuxedEd25519Account decodedMuxedEd25519Account = new MuxedEd25519Account();
     decodedMuxedEd25519Account.id = Uint64.decode(stream);
@@ -42,14 +49,41 @@ public class MuxedEd25519Account implements XdrElement {
     return decodedMuxedEd25519Account;
   }
 
+  public static MuxedEd25519Account decodeInto(
+      MuxedEd25519Account existing, XdrDataInputStream stream) throws IOException {
+    MuxedEd25519Account decodedMuxedEd25519Account =
+        existing != null ? existing : new MuxedEd25519Account();
+    decodedMuxedEd25519Account.id = Uint64.decodeInto(decodedMuxedEd25519Account.id, stream);
+    decodedMuxedEd25519Account.ed25519 =
+        Uint256.decodeInto(decodedMuxedEd25519Account.ed25519, stream);
+    return decodedMuxedEd25519Account;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint64.skip(stream);
+    Uint256.skip(stream);
+  }
+
   public static MuxedEd25519Account fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static MuxedEd25519Account fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.value(XdrJson.encodeMuxedAccount(ed25519, id));
+  }
+
+  public static MuxedEd25519Account fromJson(JsonReader reader) throws IOException {
+    return XdrJson.decodeMuxedAccount(reader.nextString());
+  }
+
+  public static MuxedEd25519Account fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
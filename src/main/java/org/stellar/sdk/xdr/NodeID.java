@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * NodeID's original definition in the XDR file is:
@@ -27,20 +27,48 @@ public class NodeID implements XdrElement {
     NodeID.encode(stream);
   }
 
+  public int encodedSize() {
+    return NodeID.encodedSize();
+  }
+
   public static NodeID decode(XdrDataInputStream stream) throws IOException {
     NodeID decodedNodeID = new NodeID();
     decodedNodeID.NodeID = PublicKey.decode(stream);
     return decodedNodeID;
   }
 
+  public static NodeID decodeInto(NodeID existing, XdrDataInputStream stream) throws IOException {
+    NodeID decodedNodeID = existing != null ? existing : new NodeID();
+    decodedNodeID.NodeID = PublicKey.decodeInto(decodedNodeID.NodeID, stream);
+    return decodedNodeID;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PublicKey.skip(stream);
+  }
+
   public static NodeID fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static NodeID fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    NodeID.toJson(writer);
+  }
+
+  public static NodeID fromJson(JsonReader reader) throws IOException {
+    NodeID decodedNodeID = new NodeID();
+    decodedNodeID.NodeID = PublicKey.fromJson(reader);
+    return decodedNodeID;
+  }
+
+  public static NodeID fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * OfferEntry's original definition in the XDR file is:
@@ -66,6 +66,19 @@ public class OfferEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += sellerID.encodedSize();
+    size += offerID.encodedSize();
+    size += selling.encodedSize();
+    size += buying.encodedSize();
+    size += amount.encodedSize();
+    size += price.encodedSize();
+    size += flags.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static OfferEntry decode(XdrDataInputStream stream) throws IOException {
     OfferEntry decodedOfferEntry = new OfferEntry();
     decodedOfferEntry.sellerID = AccountID.decode(stream);
@@ -79,17 +92,105 @@ public class OfferEntry implements XdrElement {
     return decodedOfferEntry;
   }
 
+  public static OfferEntry decodeInto(OfferEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    OfferEntry decodedOfferEntry = existing != null ? existing : new OfferEntry();
+    decodedOfferEntry.sellerID = AccountID.decodeInto(decodedOfferEntry.sellerID, stream);
+    decodedOfferEntry.offerID = Int64.decodeInto(decodedOfferEntry.offerID, stream);
+    decodedOfferEntry.selling = Asset.decodeInto(decodedOfferEntry.selling, stream);
+    decodedOfferEntry.buying = Asset.decodeInto(decodedOfferEntry.buying, stream);
+    decodedOfferEntry.amount = Int64.decodeInto(decodedOfferEntry.amount, stream);
+    decodedOfferEntry.price = Price.decodeInto(decodedOfferEntry.price, stream);
+    decodedOfferEntry.flags = Uint32.decodeInto(decodedOfferEntry.flags, stream);
+    decodedOfferEntry.ext = OfferEntryExt.decodeInto(decodedOfferEntry.ext, stream);
+    return decodedOfferEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+    Int64.skip(stream);
+    Asset.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Price.skip(stream);
+    Uint32.skip(stream);
+    OfferEntryExt.skip(stream);
+  }
+
   public static OfferEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static OfferEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("seller_id");
+    sellerID.toJson(writer);
+    writer.name("offer_id");
+    offerID.toJson(writer);
+    writer.name("selling");
+    selling.toJson(writer);
+    writer.name("buying");
+    buying.toJson(writer);
+    writer.name("amount");
+    amount.toJson(writer);
+    writer.name("price");
+    price.toJson(writer);
+    writer.name("flags");
+    flags.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static OfferEntry fromJson(JsonReader reader) throws IOException {
+    OfferEntry decodedOfferEntry = new OfferEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "seller_id":
+          decodedOfferEntry.sellerID = AccountID.fromJson(reader);
+          break;
+        case "offer_id":
+          decodedOfferEntry.offerID = Int64.fromJson(reader);
+          break;
+        case "selling":
+          decodedOfferEntry.selling = Asset.fromJson(reader);
+          break;
+        case "buying":
+          decodedOfferEntry.buying = Asset.fromJson(reader);
+          break;
+        case "amount":
+          decodedOfferEntry.amount = Int64.fromJson(reader);
+          break;
+        case "price":
+          decodedOfferEntry.price = Price.fromJson(reader);
+          break;
+        case "flags":
+          decodedOfferEntry.flags = Uint32.fromJson(reader);
+          break;
+        case "ext":
+          decodedOfferEntry.ext = OfferEntryExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown OfferEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedOfferEntry;
+  }
+
+  public static OfferEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * OfferEntryExt's original definition in the XDR file is:
    *
@@ -116,6 +217,16 @@ public class OfferEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static OfferEntryExt decode(XdrDataInputStream stream) throws IOException {
       OfferEntryExt decodedOfferEntryExt = new OfferEntryExt();
       Integer discriminant = stream.readInt();
@@ -127,15 +238,65 @@ public class OfferEntry implements XdrElement {
       return decodedOfferEntryExt;
     }
 
+    public static OfferEntryExt decodeInto(OfferEntryExt existing, XdrDataInputStream stream)
+        throws IOException {
+      Integer discriminant = stream.readInt();
+      OfferEntryExt decodedOfferEntryExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new OfferEntryExt();
+      decodedOfferEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedOfferEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown OfferEntryExt discriminant: " + discriminant);
+      }
+    }
+
     public static OfferEntryExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static OfferEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static OfferEntryExt fromJson(JsonReader reader) throws IOException {
+      OfferEntryExt decodedOfferEntryExt = new OfferEntryExt();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedOfferEntryExt.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown OfferEntryExt arm: " + key);
+      }
+      return decodedOfferEntryExt;
+    }
+
+    public static OfferEntryExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Operation's original definition in the XDR file is:
@@ -101,6 +102,18 @@ public class Operation implements XdrElement {
     body.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    if (sourceAccount != null) {
+      size += 4;
+      size += sourceAccount.encodedSize();
+    } else {
+      size += 4;
+    }
+    size += body.encodedSize();
+    return size;
+  }
+
   public static Operation decode(XdrDataInputStream stream) throws IOException {
     Operation decodedOperation = new Operation();
     int sourceAccountPresent = stream.readInt();
@@ -111,17 +124,71 @@ public class Operation implements XdrElement {
     return decodedOperation;
   }
 
+  public static Operation decodeInto(Operation existing, XdrDataInputStream stream)
+      throws IOException {
+    Operation decodedOperation = existing != null ? existing : new Operation();
+    int sourceAccountPresent = stream.readInt();
+    if (sourceAccountPresent != 0) {
+      decodedOperation.sourceAccount =
+          MuxedAccount.decodeInto(decodedOperation.sourceAccount, stream);
+    } else {
+      decodedOperation.sourceAccount = null;
+    }
+    decodedOperation.body = OperationBody.decodeInto(decodedOperation.body, stream);
+    return decodedOperation;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    if (stream.readXdrBoolean()) {
+      MuxedAccount.skip(stream);
+    }
+    OperationBody.skip(stream);
+  }
+
   public static Operation fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Operation fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("source_account");
+    XdrJson.writeOptional(writer, sourceAccount);
+    writer.name("body");
+    body.toJson(writer);
+    writer.endObject();
+  }
+
+  public static Operation fromJson(JsonReader reader) throws IOException {
+    Operation decodedOperation = new Operation();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "source_account":
+          decodedOperation.sourceAccount = XdrJson.readOptional(reader, MuxedAccount::fromJson);
+          break;
+        case "body":
+          decodedOperation.body = OperationBody.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown Operation field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedOperation;
+  }
+
+  public static Operation fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * OperationBody's original definition in the XDR file is:
    *
@@ -302,6 +369,93 @@ public class Operation implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          size += createAccountOp.encodedSize();
+          break;
+        case PAYMENT:
+          size += paymentOp.encodedSize();
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          size += pathPaymentStrictReceiveOp.encodedSize();
+          break;
+        case MANAGE_SELL_OFFER:
+          size += manageSellOfferOp.encodedSize();
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          size += createPassiveSellOfferOp.encodedSize();
+          break;
+        case SET_OPTIONS:
+          size += setOptionsOp.encodedSize();
+          break;
+        case CHANGE_TRUST:
+          size += changeTrustOp.encodedSize();
+          break;
+        case ALLOW_TRUST:
+          size += allowTrustOp.encodedSize();
+          break;
+        case ACCOUNT_MERGE:
+          size += destination.encodedSize();
+          break;
+        case INFLATION:
+          break;
+        case MANAGE_DATA:
+          size += manageDataOp.encodedSize();
+          break;
+        case BUMP_SEQUENCE:
+          size += bumpSequenceOp.encodedSize();
+          break;
+        case MANAGE_BUY_OFFER:
+          size += manageBuyOfferOp.encodedSize();
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          size += pathPaymentStrictSendOp.encodedSize();
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          size += createClaimableBalanceOp.encodedSize();
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          size += claimClaimableBalanceOp.encodedSize();
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          size += beginSponsoringFutureReservesOp.encodedSize();
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          break;
+        case REVOKE_SPONSORSHIP:
+          size += revokeSponsorshipOp.encodedSize();
+          break;
+        case CLAWBACK:
+          size += clawbackOp.encodedSize();
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          size += clawbackClaimableBalanceOp.encodedSize();
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          size += setTrustLineFlagsOp.encodedSize();
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          size += liquidityPoolDepositOp.encodedSize();
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          size += liquidityPoolWithdrawOp.encodedSize();
+          break;
+        case INVOKE_HOST_FUNCTION:
+          size += invokeHostFunctionOp.encodedSize();
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          size += extendFootprintTTLOp.encodedSize();
+          break;
+        case RESTORE_FOOTPRINT:
+          size += restoreFootprintOp.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static OperationBody decode(XdrDataInputStream stream) throws IOException {
       OperationBody decodedOperationBody = new OperationBody();
       OperationType discriminant = OperationType.decode(stream);
@@ -393,15 +547,522 @@ public class Operation implements XdrElement {
       return decodedOperationBody;
     }
 
+    public static OperationBody decodeInto(OperationBody existing, XdrDataInputStream stream)
+        throws IOException {
+      OperationType discriminant = OperationType.decode(stream);
+      OperationBody decodedOperationBody =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new OperationBody();
+      decodedOperationBody.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          decodedOperationBody.createAccountOp =
+              CreateAccountOp.decodeInto(decodedOperationBody.createAccountOp, stream);
+          break;
+        case PAYMENT:
+          decodedOperationBody.paymentOp =
+              PaymentOp.decodeInto(decodedOperationBody.paymentOp, stream);
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          decodedOperationBody.pathPaymentStrictReceiveOp =
+              PathPaymentStrictReceiveOp.decodeInto(
+                  decodedOperationBody.pathPaymentStrictReceiveOp, stream);
+          break;
+        case MANAGE_SELL_OFFER:
+          decodedOperationBody.manageSellOfferOp =
+              ManageSellOfferOp.decodeInto(decodedOperationBody.manageSellOfferOp, stream);
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          decodedOperationBody.createPassiveSellOfferOp =
+              CreatePassiveSellOfferOp.decodeInto(
+                  decodedOperationBody.createPassiveSellOfferOp, stream);
+          break;
+        case SET_OPTIONS:
+          decodedOperationBody.setOptionsOp =
+              SetOptionsOp.decodeInto(decodedOperationBody.setOptionsOp, stream);
+          break;
+        case CHANGE_TRUST:
+          decodedOperationBody.changeTrustOp =
+              ChangeTrustOp.decodeInto(decodedOperationBody.changeTrustOp, stream);
+          break;
+        case ALLOW_TRUST:
+          decodedOperationBody.allowTrustOp =
+              AllowTrustOp.decodeInto(decodedOperationBody.allowTrustOp, stream);
+          break;
+        case ACCOUNT_MERGE:
+          decodedOperationBody.destination =
+              MuxedAccount.decodeInto(decodedOperationBody.destination, stream);
+          break;
+        case INFLATION:
+          break;
+        case MANAGE_DATA:
+          decodedOperationBody.manageDataOp =
+              ManageDataOp.decodeInto(decodedOperationBody.manageDataOp, stream);
+          break;
+        case BUMP_SEQUENCE:
+          decodedOperationBody.bumpSequenceOp =
+              BumpSequenceOp.decodeInto(decodedOperationBody.bumpSequenceOp, stream);
+          break;
+        case MANAGE_BUY_OFFER:
+          decodedOperationBody.manageBuyOfferOp =
+              ManageBuyOfferOp.decodeInto(decodedOperationBody.manageBuyOfferOp, stream);
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          decodedOperationBody.pathPaymentStrictSendOp =
+              PathPaymentStrictSendOp.decodeInto(
+                  decodedOperationBody.pathPaymentStrictSendOp, stream);
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          decodedOperationBody.createClaimableBalanceOp =
+              CreateClaimableBalanceOp.decodeInto(
+                  decodedOperationBody.createClaimableBalanceOp, stream);
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          decodedOperationBody.claimClaimableBalanceOp =
+              ClaimClaimableBalanceOp.decodeInto(
+                  decodedOperationBody.claimClaimableBalanceOp, stream);
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          decodedOperationBody.beginSponsoringFutureReservesOp =
+              BeginSponsoringFutureReservesOp.decodeInto(
+                  decodedOperationBody.beginSponsoringFutureReservesOp, stream);
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          break;
+        case REVOKE_SPONSORSHIP:
+          decodedOperationBody.revokeSponsorshipOp =
+              RevokeSponsorshipOp.decodeInto(decodedOperationBody.revokeSponsorshipOp, stream);
+          break;
+        case CLAWBACK:
+          decodedOperationBody.clawbackOp =
+              ClawbackOp.decodeInto(decodedOperationBody.clawbackOp, stream);
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          decodedOperationBody.clawbackClaimableBalanceOp =
+              ClawbackClaimableBalanceOp.decodeInto(
+                  decodedOperationBody.clawbackClaimableBalanceOp, stream);
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          decodedOperationBody.setTrustLineFlagsOp =
+              SetTrustLineFlagsOp.decodeInto(decodedOperationBody.setTrustLineFlagsOp, stream);
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          decodedOperationBody.liquidityPoolDepositOp =
+              LiquidityPoolDepositOp.decodeInto(
+                  decodedOperationBody.liquidityPoolDepositOp, stream);
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          decodedOperationBody.liquidityPoolWithdrawOp =
+              LiquidityPoolWithdrawOp.decodeInto(
+                  decodedOperationBody.liquidityPoolWithdrawOp, stream);
+          break;
+        case INVOKE_HOST_FUNCTION:
+          decodedOperationBody.invokeHostFunctionOp =
+              InvokeHostFunctionOp.decodeInto(decodedOperationBody.invokeHostFunctionOp, stream);
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          decodedOperationBody.extendFootprintTTLOp =
+              ExtendFootprintTTLOp.decodeInto(decodedOperationBody.extendFootprintTTLOp, stream);
+          break;
+        case RESTORE_FOOTPRINT:
+          decodedOperationBody.restoreFootprintOp =
+              RestoreFootprintOp.decodeInto(decodedOperationBody.restoreFootprintOp, stream);
+          break;
+      }
+      return decodedOperationBody;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      OperationType discriminant = OperationType.decode(stream);
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          CreateAccountOp.skip(stream);
+          break;
+        case PAYMENT:
+          PaymentOp.skip(stream);
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          PathPaymentStrictReceiveOp.skip(stream);
+          break;
+        case MANAGE_SELL_OFFER:
+          ManageSellOfferOp.skip(stream);
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          CreatePassiveSellOfferOp.skip(stream);
+          break;
+        case SET_OPTIONS:
+          SetOptionsOp.skip(stream);
+          break;
+        case CHANGE_TRUST:
+          ChangeTrustOp.skip(stream);
+          break;
+        case ALLOW_TRUST:
+          AllowTrustOp.skip(stream);
+          break;
+        case ACCOUNT_MERGE:
+          MuxedAccount.skip(stream);
+          break;
+        case INFLATION:
+          break;
+        case MANAGE_DATA:
+          ManageDataOp.skip(stream);
+          break;
+        case BUMP_SEQUENCE:
+          BumpSequenceOp.skip(stream);
+          break;
+        case MANAGE_BUY_OFFER:
+          ManageBuyOfferOp.skip(stream);
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          PathPaymentStrictSendOp.skip(stream);
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          CreateClaimableBalanceOp.skip(stream);
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          ClaimClaimableBalanceOp.skip(stream);
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          BeginSponsoringFutureReservesOp.skip(stream);
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          break;
+        case REVOKE_SPONSORSHIP:
+          RevokeSponsorshipOp.skip(stream);
+          break;
+        case CLAWBACK:
+          ClawbackOp.skip(stream);
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          ClawbackClaimableBalanceOp.skip(stream);
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          SetTrustLineFlagsOp.skip(stream);
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          LiquidityPoolDepositOp.skip(stream);
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          LiquidityPoolWithdrawOp.skip(stream);
+          break;
+        case INVOKE_HOST_FUNCTION:
+          InvokeHostFunctionOp.skip(stream);
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          ExtendFootprintTTLOp.skip(stream);
+          break;
+        case RESTORE_FOOTPRINT:
+          RestoreFootprintOp.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown OperationBody discriminant: " + discriminant);
+      }
+    }
+
     public static OperationBody fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static OperationBody fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          writer.beginObject();
+          writer.name("create_account");
+          createAccountOp.toJson(writer);
+          writer.endObject();
+          break;
+        case PAYMENT:
+          writer.beginObject();
+          writer.name("payment");
+          paymentOp.toJson(writer);
+          writer.endObject();
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          writer.beginObject();
+          writer.name("path_payment_strict_receive");
+          pathPaymentStrictReceiveOp.toJson(writer);
+          writer.endObject();
+          break;
+        case MANAGE_SELL_OFFER:
+          writer.beginObject();
+          writer.name("manage_sell_offer");
+          manageSellOfferOp.toJson(writer);
+          writer.endObject();
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          writer.beginObject();
+          writer.name("create_passive_sell_offer");
+          createPassiveSellOfferOp.toJson(writer);
+          writer.endObject();
+          break;
+        case SET_OPTIONS:
+          writer.beginObject();
+          writer.name("set_options");
+          setOptionsOp.toJson(writer);
+          writer.endObject();
+          break;
+        case CHANGE_TRUST:
+          writer.beginObject();
+          writer.name("change_trust");
+          changeTrustOp.toJson(writer);
+          writer.endObject();
+          break;
+        case ALLOW_TRUST:
+          writer.beginObject();
+          writer.name("allow_trust");
+          allowTrustOp.toJson(writer);
+          writer.endObject();
+          break;
+        case ACCOUNT_MERGE:
+          writer.beginObject();
+          writer.name("account_merge");
+          destination.toJson(writer);
+          writer.endObject();
+          break;
+        case INFLATION:
+          writer.value("inflation");
+          break;
+        case MANAGE_DATA:
+          writer.beginObject();
+          writer.name("manage_data");
+          manageDataOp.toJson(writer);
+          writer.endObject();
+          break;
+        case BUMP_SEQUENCE:
+          writer.beginObject();
+          writer.name("bump_sequence");
+          bumpSequenceOp.toJson(writer);
+          writer.endObject();
+          break;
+        case MANAGE_BUY_OFFER:
+          writer.beginObject();
+          writer.name("manage_buy_offer");
+          manageBuyOfferOp.toJson(writer);
+          writer.endObject();
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          writer.beginObject();
+          writer.name("path_payment_strict_send");
+          pathPaymentStrictSendOp.toJson(writer);
+          writer.endObject();
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          writer.beginObject();
+          writer.name("create_claimable_balance");
+          createClaimableBalanceOp.toJson(writer);
+          writer.endObject();
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          writer.beginObject();
+          writer.name("claim_claimable_balance");
+          claimClaimableBalanceOp.toJson(writer);
+          writer.endObject();
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          writer.beginObject();
+          writer.name("begin_sponsoring_future_reserves");
+          beginSponsoringFutureReservesOp.toJson(writer);
+          writer.endObject();
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          writer.value("end_sponsoring_future_reserves");
+          break;
+        case REVOKE_SPONSORSHIP:
+          writer.beginObject();
+          writer.name("revoke_sponsorship");
+          revokeSponsorshipOp.toJson(writer);
+          writer.endObject();
+          break;
+        case CLAWBACK:
+          writer.beginObject();
+          writer.name("clawback");
+          clawbackOp.toJson(writer);
+          writer.endObject();
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          writer.beginObject();
+          writer.name("clawback_claimable_balance");
+          clawbackClaimableBalanceOp.toJson(writer);
+          writer.endObject();
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          writer.beginObject();
+          writer.name("set_trust_line_flags");
+          setTrustLineFlagsOp.toJson(writer);
+          writer.endObject();
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          writer.beginObject();
+          writer.name("liquidity_pool_deposit");
+          liquidityPoolDepositOp.toJson(writer);
+          writer.endObject();
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          writer.beginObject();
+          writer.name("liquidity_pool_withdraw");
+          liquidityPoolWithdrawOp.toJson(writer);
+          writer.endObject();
+          break;
+        case INVOKE_HOST_FUNCTION:
+          writer.beginObject();
+          writer.name("invoke_host_function");
+          invokeHostFunctionOp.toJson(writer);
+          writer.endObject();
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          writer.beginObject();
+          writer.name("extend_footprint_ttl");
+          extendFootprintTTLOp.toJson(writer);
+          writer.endObject();
+          break;
+        case RESTORE_FOOTPRINT:
+          writer.beginObject();
+          writer.name("restore_footprint");
+          restoreFootprintOp.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static OperationBody fromJson(JsonReader reader) throws IOException {
+      OperationBody decodedOperationBody = new OperationBody();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "inflation":
+            decodedOperationBody.setDiscriminant(OperationType.INFLATION);
+            break;
+          case "end_sponsoring_future_reserves":
+            decodedOperationBody.setDiscriminant(OperationType.END_SPONSORING_FUTURE_RESERVES);
+            break;
+          default:
+            throw new IOException("Unknown OperationBody arm: " + key);
+        }
+        return decodedOperationBody;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "create_account":
+          decodedOperationBody.setDiscriminant(OperationType.CREATE_ACCOUNT);
+          decodedOperationBody.createAccountOp = CreateAccountOp.fromJson(reader);
+          break;
+        case "payment":
+          decodedOperationBody.setDiscriminant(OperationType.PAYMENT);
+          decodedOperationBody.paymentOp = PaymentOp.fromJson(reader);
+          break;
+        case "path_payment_strict_receive":
+          decodedOperationBody.setDiscriminant(OperationType.PATH_PAYMENT_STRICT_RECEIVE);
+          decodedOperationBody.pathPaymentStrictReceiveOp =
+              PathPaymentStrictReceiveOp.fromJson(reader);
+          break;
+        case "manage_sell_offer":
+          decodedOperationBody.setDiscriminant(OperationType.MANAGE_SELL_OFFER);
+          decodedOperationBody.manageSellOfferOp = ManageSellOfferOp.fromJson(reader);
+          break;
+        case "create_passive_sell_offer":
+          decodedOperationBody.setDiscriminant(OperationType.CREATE_PASSIVE_SELL_OFFER);
+          decodedOperationBody.createPassiveSellOfferOp = CreatePassiveSellOfferOp.fromJson(reader);
+          break;
+        case "set_options":
+          decodedOperationBody.setDiscriminant(OperationType.SET_OPTIONS);
+          decodedOperationBody.setOptionsOp = SetOptionsOp.fromJson(reader);
+          break;
+        case "change_trust":
+          decodedOperationBody.setDiscriminant(OperationType.CHANGE_TRUST);
+          decodedOperationBody.changeTrustOp = ChangeTrustOp.fromJson(reader);
+          break;
+        case "allow_trust":
+          decodedOperationBody.setDiscriminant(OperationType.ALLOW_TRUST);
+          decodedOperationBody.allowTrustOp = AllowTrustOp.fromJson(reader);
+          break;
+        case "account_merge":
+          decodedOperationBody.setDiscriminant(OperationType.ACCOUNT_MERGE);
+          decodedOperationBody.destination = MuxedAccount.fromJson(reader);
+          break;
+        case "manage_data":
+          decodedOperationBody.setDiscriminant(OperationType.MANAGE_DATA);
+          decodedOperationBody.manageDataOp = ManageDataOp.fromJson(reader);
+          break;
+        case "bump_sequence":
+          decodedOperationBody.setDiscriminant(OperationType.BUMP_SEQUENCE);
+          decodedOperationBody.bumpSequenceOp = BumpSequenceOp.fromJson(reader);
+          break;
+        case "manage_buy_offer":
+          decodedOperationBody.setDiscriminant(OperationType.MANAGE_BUY_OFFER);
+          decodedOperationBody.manageBuyOfferOp = ManageBuyOfferOp.fromJson(reader);
+          break;
+        case "path_payment_strict_send":
+          decodedOperationBody.setDiscriminant(OperationType.PATH_PAYMENT_STRICT_SEND);
+          decodedOperationBody.pathPaymentStrictSendOp = PathPaymentStrictSendOp.fromJson(reader);
+          break;
+        case "create_claimable_balance":
+          decodedOperationBody.setDiscriminant(OperationType.CREATE_CLAIMABLE_BALANCE);
+          decodedOperationBody.createClaimableBalanceOp = CreateClaimableBalanceOp.fromJson(reader);
+          break;
+        case "claim_claimable_balance":
+          decodedOperationBody.setDiscriminant(OperationType.CLAIM_CLAIMABLE_BALANCE);
+          decodedOperationBody.claimClaimableBalanceOp = ClaimClaimableBalanceOp.fromJson(reader);
+          break;
+        case "begin_sponsoring_future_reserves":
+          decodedOperationBody.setDiscriminant(OperationType.BEGIN_SPONSORING_FUTURE_RESERVES);
+          decodedOperationBody.beginSponsoringFutureReservesOp =
+              BeginSponsoringFutureReservesOp.fromJson(reader);
+          break;
+        case "revoke_sponsorship":
+          decodedOperationBody.setDiscriminant(OperationType.REVOKE_SPONSORSHIP);
+          decodedOperationBody.revokeSponsorshipOp = RevokeSponsorshipOp.fromJson(reader);
+          break;
+        case "clawback":
+          decodedOperationBody.setDiscriminant(OperationType.CLAWBACK);
+          decodedOperationBody.clawbackOp = ClawbackOp.fromJson(reader);
+          break;
+        case "clawback_claimable_balance":
+          decodedOperationBody.setDiscriminant(OperationType.CLAWBACK_CLAIMABLE_BALANCE);
+          decodedOperationBody.clawbackClaimableBalanceOp =
+              ClawbackClaimableBalanceOp.fromJson(reader);
+          break;
+        case "set_trust_line_flags":
+          decodedOperationBody.setDiscriminant(OperationType.SET_TRUST_LINE_FLAGS);
+          decodedOperationBody.setTrustLineFlagsOp = SetTrustLineFlagsOp.fromJson(reader);
+          break;
+        case "liquidity_pool_deposit":
+          decodedOperationBody.setDiscriminant(OperationType.LIQUIDITY_POOL_DEPOSIT);
+          decodedOperationBody.liquidityPoolDepositOp = LiquidityPoolDepositOp.fromJson(reader);
+          break;
+        case "liquidity_pool_withdraw":
+          decodedOperationBody.setDiscriminant(OperationType.LIQUIDITY_POOL_WITHDRAW);
+          decodedOperationBody.liquidityPoolWithdrawOp = LiquidityPoolWithdrawOp.fromJson(reader);
+          break;
+        case "invoke_host_function":
+          decodedOperationBody.setDiscriminant(OperationType.INVOKE_HOST_FUNCTION);
+          decodedOperationBody.invokeHostFunctionOp = InvokeHostFunctionOp.fromJson(reader);
+          break;
+        case "extend_footprint_ttl":
+          decodedOperationBody.setDiscriminant(OperationType.EXTEND_FOOTPRINT_TTL);
+          decodedOperationBody.extendFootprintTTLOp = ExtendFootprintTTLOp.fromJson(reader);
+          break;
+        case "restore_footprint":
+          decodedOperationBody.setDiscriminant(OperationType.RESTORE_FOOTPRINT);
+          decodedOperationBody.restoreFootprintOp = RestoreFootprintOp.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown OperationBody arm: " + key);
+      }
+      reader.endObject();
+      return decodedOperationBody;
+    }
+
+    public static OperationBody fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
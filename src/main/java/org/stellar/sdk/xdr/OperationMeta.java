@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * OperationMeta's original definition in the XDR file is:
@@ -32,20 +32,64 @@ public class OperationMeta implements XdrElement {
     changes.encode(stream);
   }
 
+  public int encodedSize() {
+    return changes.encodedSize();
+  }
+
   public static OperationMeta decode(XdrDataInputStream stream) throws IOException {
     OperationMeta decodedOperationMeta = new OperationMeta();
     decodedOperationMeta.changes = LedgerEntryChanges.decode(stream);
     return decodedOperationMeta;
   }
 
+  public static OperationMeta decodeInto(OperationMeta existing, XdrDataInputStream stream)
+      throws IOException {
+    OperationMeta decodedOperationMeta = existing != null ? existing : new OperationMeta();
+    decodedOperationMeta.changes =
+        LedgerEntryChanges.decodeInto(decodedOperationMeta.changes, stream);
+    return decodedOperationMeta;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerEntryChanges.skip(stream);
+  }
+
   public static OperationMeta fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static OperationMeta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("changes");
+    changes.toJson(writer);
+    writer.endObject();
+  }
+
+  public static OperationMeta fromJson(JsonReader reader) throws IOException {
+    OperationMeta decodedOperationMeta = new OperationMeta();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "changes":
+          decodedOperationMeta.changes = LedgerEntryChanges.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown OperationMeta field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedOperationMeta;
+  }
+
+  public static OperationMeta fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * OperationMetaV2's original definition in the XDR file is:
@@ -44,11 +44,23 @@ public class OperationMetaV2 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += changes.encodedSize();
+    int eventsSize = getEvents().length;
+    size += 4;
+    for (int i = 0; i < eventsSize; i++) {
+      size += events[i].encodedSize();
+    }
+    return size;
+  }
+
   public static OperationMetaV2 decode(XdrDataInputStream stream) throws IOException {
     OperationMetaV2 decodedOperationMetaV2 = new OperationMetaV2();
     decodedOperationMetaV2.ext = ExtensionPoint.decode(stream);
     decodedOperationMetaV2.changes = LedgerEntryChanges.decode(stream);
-    int eventsSize = stream.readInt();
+    int eventsSize = stream.readLength(4);
     decodedOperationMetaV2.events = new ContractEvent[eventsSize];
     for (int i = 0; i < eventsSize; i++) {
       decodedOperationMetaV2.events[i] = ContractEvent.decode(stream);
@@ -56,14 +68,78 @@ public class OperationMetaV2 implements XdrElement {
     return decodedOperationMetaV2;
   }
 
+  public static OperationMetaV2 decodeInto(OperationMetaV2 existing, XdrDataInputStream stream)
+      throws IOException {
+    OperationMetaV2 decodedOperationMetaV2 = existing != null ? existing : new OperationMetaV2();
+    decodedOperationMetaV2.ext = ExtensionPoint.decodeInto(decodedOperationMetaV2.ext, stream);
+    decodedOperationMetaV2.changes =
+        LedgerEntryChanges.decodeInto(decodedOperationMetaV2.changes, stream);
+    int eventsSize = stream.readLength(4);
+    decodedOperationMetaV2.events =
+        XdrRecycler.resize(decodedOperationMetaV2.events, eventsSize, ContractEvent[]::new);
+    for (int i = 0; i < eventsSize; i++) {
+      decodedOperationMetaV2.events[i] =
+          ContractEvent.decodeInto(decodedOperationMetaV2.events[i], stream);
+    }
+    return decodedOperationMetaV2;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    LedgerEntryChanges.skip(stream);
+    int eventsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < eventsSize; i++) {
+      ContractEvent.skip(stream);
+    }
+  }
+
   public static OperationMetaV2 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static OperationMetaV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("changes");
+    changes.toJson(writer);
+    writer.name("events");
+    XdrJson.writeArray(writer, events);
+    writer.endObject();
+  }
+
+  public static OperationMetaV2 fromJson(JsonReader reader) throws IOException {
+    OperationMetaV2 decodedOperationMetaV2 = new OperationMetaV2();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedOperationMetaV2.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "changes":
+          decodedOperationMetaV2.changes = LedgerEntryChanges.fromJson(reader);
+          break;
+        case "events":
+          decodedOperationMetaV2.events =
+              XdrJson.readArray(reader, ContractEvent[]::new, ContractEvent::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown OperationMetaV2 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedOperationMetaV2;
+  }
+
+  public static OperationMetaV2 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
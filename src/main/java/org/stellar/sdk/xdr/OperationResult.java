@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * OperationResult's original definition in the XDR file is:
@@ -110,6 +111,24 @@ public class OperationResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case opINNER:
+        size += tr.encodedSize();
+        break;
+      case opBAD_AUTH:
+      case opNO_ACCOUNT:
+      case opNOT_SUPPORTED:
+      case opTOO_MANY_SUBENTRIES:
+      case opEXCEEDED_WORK_LIMIT:
+      case opTOO_MANY_SPONSORING:
+        break;
+    }
+    return size;
+  }
+
   public static OperationResult decode(XdrDataInputStream stream) throws IOException {
     OperationResult decodedOperationResult = new OperationResult();
     OperationResultCode discriminant = OperationResultCode.decode(stream);
@@ -129,17 +148,133 @@ public class OperationResult implements XdrElement {
     return decodedOperationResult;
   }
 
+  public static OperationResult decodeInto(OperationResult existing, XdrDataInputStream stream)
+      throws IOException {
+    OperationResultCode discriminant = OperationResultCode.decode(stream);
+    OperationResult decodedOperationResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new OperationResult();
+    decodedOperationResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case opINNER:
+        decodedOperationResult.tr = OperationResultTr.decodeInto(decodedOperationResult.tr, stream);
+        break;
+      case opBAD_AUTH:
+      case opNO_ACCOUNT:
+      case opNOT_SUPPORTED:
+      case opTOO_MANY_SUBENTRIES:
+      case opEXCEEDED_WORK_LIMIT:
+      case opTOO_MANY_SPONSORING:
+        break;
+    }
+    return decodedOperationResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    OperationResultCode discriminant = OperationResultCode.decode(stream);
+    switch (discriminant) {
+      case opINNER:
+        OperationResultTr.skip(stream);
+        break;
+      case opBAD_AUTH:
+      case opNO_ACCOUNT:
+      case opNOT_SUPPORTED:
+      case opTOO_MANY_SUBENTRIES:
+      case opEXCEEDED_WORK_LIMIT:
+      case opTOO_MANY_SPONSORING:
+        break;
+      default:
+        throw new IOException("Unknown OperationResult discriminant: " + discriminant);
+    }
+  }
+
   public static OperationResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static OperationResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case opINNER:
+        writer.beginObject();
+        writer.name("op_inner");
+        tr.toJson(writer);
+        writer.endObject();
+        break;
+      case opBAD_AUTH:
+        writer.value("op_bad_auth");
+        break;
+      case opNO_ACCOUNT:
+        writer.value("op_no_account");
+        break;
+      case opNOT_SUPPORTED:
+        writer.value("op_not_supported");
+        break;
+      case opTOO_MANY_SUBENTRIES:
+        writer.value("op_too_many_subentries");
+        break;
+      case opEXCEEDED_WORK_LIMIT:
+        writer.value("op_exceeded_work_limit");
+        break;
+      case opTOO_MANY_SPONSORING:
+        writer.value("op_too_many_sponsoring");
+        break;
+    }
+  }
+
+  public static OperationResult fromJson(JsonReader reader) throws IOException {
+    OperationResult decodedOperationResult = new OperationResult();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "op_bad_auth":
+          decodedOperationResult.setDiscriminant(OperationResultCode.opBAD_AUTH);
+          break;
+        case "op_no_account":
+          decodedOperationResult.setDiscriminant(OperationResultCode.opNO_ACCOUNT);
+          break;
+        case "op_not_supported":
+          decodedOperationResult.setDiscriminant(OperationResultCode.opNOT_SUPPORTED);
+          break;
+        case "op_too_many_subentries":
+          decodedOperationResult.setDiscriminant(OperationResultCode.opTOO_MANY_SUBENTRIES);
+          break;
+        case "op_exceeded_work_limit":
+          decodedOperationResult.setDiscriminant(OperationResultCode.opEXCEEDED_WORK_LIMIT);
+          break;
+        case "op_too_many_sponsoring":
+          decodedOperationResult.setDiscriminant(OperationResultCode.opTOO_MANY_SPONSORING);
+          break;
+        default:
+          throw new IOException("Unknown OperationResult arm: " + key);
+      }
+      return decodedOperationResult;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "op_inner":
+        decodedOperationResult.setDiscriminant(OperationResultCode.opINNER);
+        decodedOperationResult.tr = OperationResultTr.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown OperationResult arm: " + key);
+    }
+    reader.endObject();
+    return decodedOperationResult;
+  }
+
+  public static OperationResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * OperationResultTr's original definition in the XDR file is:
    *
@@ -324,6 +459,95 @@ public class OperationResult implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          size += createAccountResult.encodedSize();
+          break;
+        case PAYMENT:
+          size += paymentResult.encodedSize();
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          size += pathPaymentStrictReceiveResult.encodedSize();
+          break;
+        case MANAGE_SELL_OFFER:
+          size += manageSellOfferResult.encodedSize();
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          size += createPassiveSellOfferResult.encodedSize();
+          break;
+        case SET_OPTIONS:
+          size += setOptionsResult.encodedSize();
+          break;
+        case CHANGE_TRUST:
+          size += changeTrustResult.encodedSize();
+          break;
+        case ALLOW_TRUST:
+          size += allowTrustResult.encodedSize();
+          break;
+        case ACCOUNT_MERGE:
+          size += accountMergeResult.encodedSize();
+          break;
+        case INFLATION:
+          size += inflationResult.encodedSize();
+          break;
+        case MANAGE_DATA:
+          size += manageDataResult.encodedSize();
+          break;
+        case BUMP_SEQUENCE:
+          size += bumpSeqResult.encodedSize();
+          break;
+        case MANAGE_BUY_OFFER:
+          size += manageBuyOfferResult.encodedSize();
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          size += pathPaymentStrictSendResult.encodedSize();
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          size += createClaimableBalanceResult.encodedSize();
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          size += claimClaimableBalanceResult.encodedSize();
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          size += beginSponsoringFutureReservesResult.encodedSize();
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          size += endSponsoringFutureReservesResult.encodedSize();
+          break;
+        case REVOKE_SPONSORSHIP:
+          size += revokeSponsorshipResult.encodedSize();
+          break;
+        case CLAWBACK:
+          size += clawbackResult.encodedSize();
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          size += clawbackClaimableBalanceResult.encodedSize();
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          size += setTrustLineFlagsResult.encodedSize();
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          size += liquidityPoolDepositResult.encodedSize();
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          size += liquidityPoolWithdrawResult.encodedSize();
+          break;
+        case INVOKE_HOST_FUNCTION:
+          size += invokeHostFunctionResult.encodedSize();
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          size += extendFootprintTTLResult.encodedSize();
+          break;
+        case RESTORE_FOOTPRINT:
+          size += restoreFootprintResult.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static OperationResultTr decode(XdrDataInputStream stream) throws IOException {
       OperationResultTr decodedOperationResultTr = new OperationResultTr();
       OperationType discriminant = OperationType.decode(stream);
@@ -426,15 +650,547 @@ public class OperationResult implements XdrElement {
       return decodedOperationResultTr;
     }
 
+    public static OperationResultTr decodeInto(
+        OperationResultTr existing, XdrDataInputStream stream) throws IOException {
+      OperationType discriminant = OperationType.decode(stream);
+      OperationResultTr decodedOperationResultTr =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new OperationResultTr();
+      decodedOperationResultTr.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          decodedOperationResultTr.createAccountResult =
+              CreateAccountResult.decodeInto(decodedOperationResultTr.createAccountResult, stream);
+          break;
+        case PAYMENT:
+          decodedOperationResultTr.paymentResult =
+              PaymentResult.decodeInto(decodedOperationResultTr.paymentResult, stream);
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          decodedOperationResultTr.pathPaymentStrictReceiveResult =
+              PathPaymentStrictReceiveResult.decodeInto(
+                  decodedOperationResultTr.pathPaymentStrictReceiveResult, stream);
+          break;
+        case MANAGE_SELL_OFFER:
+          decodedOperationResultTr.manageSellOfferResult =
+              ManageSellOfferResult.decodeInto(
+                  decodedOperationResultTr.manageSellOfferResult, stream);
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          decodedOperationResultTr.createPassiveSellOfferResult =
+              ManageSellOfferResult.decodeInto(
+                  decodedOperationResultTr.createPassiveSellOfferResult, stream);
+          break;
+        case SET_OPTIONS:
+          decodedOperationResultTr.setOptionsResult =
+              SetOptionsResult.decodeInto(decodedOperationResultTr.setOptionsResult, stream);
+          break;
+        case CHANGE_TRUST:
+          decodedOperationResultTr.changeTrustResult =
+              ChangeTrustResult.decodeInto(decodedOperationResultTr.changeTrustResult, stream);
+          break;
+        case ALLOW_TRUST:
+          decodedOperationResultTr.allowTrustResult =
+              AllowTrustResult.decodeInto(decodedOperationResultTr.allowTrustResult, stream);
+          break;
+        case ACCOUNT_MERGE:
+          decodedOperationResultTr.accountMergeResult =
+              AccountMergeResult.decodeInto(decodedOperationResultTr.accountMergeResult, stream);
+          break;
+        case INFLATION:
+          decodedOperationResultTr.inflationResult =
+              InflationResult.decodeInto(decodedOperationResultTr.inflationResult, stream);
+          break;
+        case MANAGE_DATA:
+          decodedOperationResultTr.manageDataResult =
+              ManageDataResult.decodeInto(decodedOperationResultTr.manageDataResult, stream);
+          break;
+        case BUMP_SEQUENCE:
+          decodedOperationResultTr.bumpSeqResult =
+              BumpSequenceResult.decodeInto(decodedOperationResultTr.bumpSeqResult, stream);
+          break;
+        case MANAGE_BUY_OFFER:
+          decodedOperationResultTr.manageBuyOfferResult =
+              ManageBuyOfferResult.decodeInto(
+                  decodedOperationResultTr.manageBuyOfferResult, stream);
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          decodedOperationResultTr.pathPaymentStrictSendResult =
+              PathPaymentStrictSendResult.decodeInto(
+                  decodedOperationResultTr.pathPaymentStrictSendResult, stream);
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          decodedOperationResultTr.createClaimableBalanceResult =
+              CreateClaimableBalanceResult.decodeInto(
+                  decodedOperationResultTr.createClaimableBalanceResult, stream);
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          decodedOperationResultTr.claimClaimableBalanceResult =
+              ClaimClaimableBalanceResult.decodeInto(
+                  decodedOperationResultTr.claimClaimableBalanceResult, stream);
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          decodedOperationResultTr.beginSponsoringFutureReservesResult =
+              BeginSponsoringFutureReservesResult.decodeInto(
+                  decodedOperationResultTr.beginSponsoringFutureReservesResult, stream);
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          decodedOperationResultTr.endSponsoringFutureReservesResult =
+              EndSponsoringFutureReservesResult.decodeInto(
+                  decodedOperationResultTr.endSponsoringFutureReservesResult, stream);
+          break;
+        case REVOKE_SPONSORSHIP:
+          decodedOperationResultTr.revokeSponsorshipResult =
+              RevokeSponsorshipResult.decodeInto(
+                  decodedOperationResultTr.revokeSponsorshipResult, stream);
+          break;
+        case CLAWBACK:
+          decodedOperationResultTr.clawbackResult =
+              ClawbackResult.decodeInto(decodedOperationResultTr.clawbackResult, stream);
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          decodedOperationResultTr.clawbackClaimableBalanceResult =
+              ClawbackClaimableBalanceResult.decodeInto(
+                  decodedOperationResultTr.clawbackClaimableBalanceResult, stream);
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          decodedOperationResultTr.setTrustLineFlagsResult =
+              SetTrustLineFlagsResult.decodeInto(
+                  decodedOperationResultTr.setTrustLineFlagsResult, stream);
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          decodedOperationResultTr.liquidityPoolDepositResult =
+              LiquidityPoolDepositResult.decodeInto(
+                  decodedOperationResultTr.liquidityPoolDepositResult, stream);
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          decodedOperationResultTr.liquidityPoolWithdrawResult =
+              LiquidityPoolWithdrawResult.decodeInto(
+                  decodedOperationResultTr.liquidityPoolWithdrawResult, stream);
+          break;
+        case INVOKE_HOST_FUNCTION:
+          decodedOperationResultTr.invokeHostFunctionResult =
+              InvokeHostFunctionResult.decodeInto(
+                  decodedOperationResultTr.invokeHostFunctionResult, stream);
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          decodedOperationResultTr.extendFootprintTTLResult =
+              ExtendFootprintTTLResult.decodeInto(
+                  decodedOperationResultTr.extendFootprintTTLResult, stream);
+          break;
+        case RESTORE_FOOTPRINT:
+          decodedOperationResultTr.restoreFootprintResult =
+              RestoreFootprintResult.decodeInto(
+                  decodedOperationResultTr.restoreFootprintResult, stream);
+          break;
+      }
+      return decodedOperationResultTr;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      OperationType discriminant = OperationType.decode(stream);
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          CreateAccountResult.skip(stream);
+          break;
+        case PAYMENT:
+          PaymentResult.skip(stream);
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          PathPaymentStrictReceiveResult.skip(stream);
+          break;
+        case MANAGE_SELL_OFFER:
+          ManageSellOfferResult.skip(stream);
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          ManageSellOfferResult.skip(stream);
+          break;
+        case SET_OPTIONS:
+          SetOptionsResult.skip(stream);
+          break;
+        case CHANGE_TRUST:
+          ChangeTrustResult.skip(stream);
+          break;
+        case ALLOW_TRUST:
+          AllowTrustResult.skip(stream);
+          break;
+        case ACCOUNT_MERGE:
+          AccountMergeResult.skip(stream);
+          break;
+        case INFLATION:
+          InflationResult.skip(stream);
+          break;
+        case MANAGE_DATA:
+          ManageDataResult.skip(stream);
+          break;
+        case BUMP_SEQUENCE:
+          BumpSequenceResult.skip(stream);
+          break;
+        case MANAGE_BUY_OFFER:
+          ManageBuyOfferResult.skip(stream);
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          PathPaymentStrictSendResult.skip(stream);
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          CreateClaimableBalanceResult.skip(stream);
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          ClaimClaimableBalanceResult.skip(stream);
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          BeginSponsoringFutureReservesResult.skip(stream);
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          EndSponsoringFutureReservesResult.skip(stream);
+          break;
+        case REVOKE_SPONSORSHIP:
+          RevokeSponsorshipResult.skip(stream);
+          break;
+        case CLAWBACK:
+          ClawbackResult.skip(stream);
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          ClawbackClaimableBalanceResult.skip(stream);
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          SetTrustLineFlagsResult.skip(stream);
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          LiquidityPoolDepositResult.skip(stream);
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          LiquidityPoolWithdrawResult.skip(stream);
+          break;
+        case INVOKE_HOST_FUNCTION:
+          InvokeHostFunctionResult.skip(stream);
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          ExtendFootprintTTLResult.skip(stream);
+          break;
+        case RESTORE_FOOTPRINT:
+          RestoreFootprintResult.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown OperationResultTr discriminant: " + discriminant);
+      }
+    }
+
     public static OperationResultTr fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static OperationResultTr fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          writer.beginObject();
+          writer.name("create_account");
+          createAccountResult.toJson(writer);
+          writer.endObject();
+          break;
+        case PAYMENT:
+          writer.beginObject();
+          writer.name("payment");
+          paymentResult.toJson(writer);
+          writer.endObject();
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          writer.beginObject();
+          writer.name("path_payment_strict_receive");
+          pathPaymentStrictReceiveResult.toJson(writer);
+          writer.endObject();
+          break;
+        case MANAGE_SELL_OFFER:
+          writer.beginObject();
+          writer.name("manage_sell_offer");
+          manageSellOfferResult.toJson(writer);
+          writer.endObject();
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          writer.beginObject();
+          writer.name("create_passive_sell_offer");
+          createPassiveSellOfferResult.toJson(writer);
+          writer.endObject();
+          break;
+        case SET_OPTIONS:
+          writer.beginObject();
+          writer.name("set_options");
+          setOptionsResult.toJson(writer);
+          writer.endObject();
+          break;
+        case CHANGE_TRUST:
+          writer.beginObject();
+          writer.name("change_trust");
+          changeTrustResult.toJson(writer);
+          writer.endObject();
+          break;
+        case ALLOW_TRUST:
+          writer.beginObject();
+          writer.name("allow_trust");
+          allowTrustResult.toJson(writer);
+          writer.endObject();
+          break;
+        case ACCOUNT_MERGE:
+          writer.beginObject();
+          writer.name("account_merge");
+          accountMergeResult.toJson(writer);
+          writer.endObject();
+          break;
+        case INFLATION:
+          writer.beginObject();
+          writer.name("inflation");
+          inflationResult.toJson(writer);
+          writer.endObject();
+          break;
+        case MANAGE_DATA:
+          writer.beginObject();
+          writer.name("manage_data");
+          manageDataResult.toJson(writer);
+          writer.endObject();
+          break;
+        case BUMP_SEQUENCE:
+          writer.beginObject();
+          writer.name("bump_sequence");
+          bumpSeqResult.toJson(writer);
+          writer.endObject();
+          break;
+        case MANAGE_BUY_OFFER:
+          writer.beginObject();
+          writer.name("manage_buy_offer");
+          manageBuyOfferResult.toJson(writer);
+          writer.endObject();
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          writer.beginObject();
+          writer.name("path_payment_strict_send");
+          pathPaymentStrictSendResult.toJson(writer);
+          writer.endObject();
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          writer.beginObject();
+          writer.name("create_claimable_balance");
+          createClaimableBalanceResult.toJson(writer);
+          writer.endObject();
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          writer.beginObject();
+          writer.name("claim_claimable_balance");
+          claimClaimableBalanceResult.toJson(writer);
+          writer.endObject();
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          writer.beginObject();
+          writer.name("begin_sponsoring_future_reserves");
+          beginSponsoringFutureReservesResult.toJson(writer);
+          writer.endObject();
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          writer.beginObject();
+          writer.name("end_sponsoring_future_reserves");
+          endSponsoringFutureReservesResult.toJson(writer);
+          writer.endObject();
+          break;
+        case REVOKE_SPONSORSHIP:
+          writer.beginObject();
+          writer.name("revoke_sponsorship");
+          revokeSponsorshipResult.toJson(writer);
+          writer.endObject();
+          break;
+        case CLAWBACK:
+          writer.beginObject();
+          writer.name("clawback");
+          clawbackResult.toJson(writer);
+          writer.endObject();
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          writer.beginObject();
+          writer.name("clawback_claimable_balance");
+          clawbackClaimableBalanceResult.toJson(writer);
+          writer.endObject();
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          writer.beginObject();
+          writer.name("set_trust_line_flags");
+          setTrustLineFlagsResult.toJson(writer);
+          writer.endObject();
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          writer.beginObject();
+          writer.name("liquidity_pool_deposit");
+          liquidityPoolDepositResult.toJson(writer);
+          writer.endObject();
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          writer.beginObject();
+          writer.name("liquidity_pool_withdraw");
+          liquidityPoolWithdrawResult.toJson(writer);
+          writer.endObject();
+          break;
+        case INVOKE_HOST_FUNCTION:
+          writer.beginObject();
+          writer.name("invoke_host_function");
+          invokeHostFunctionResult.toJson(writer);
+          writer.endObject();
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          writer.beginObject();
+          writer.name("extend_footprint_ttl");
+          extendFootprintTTLResult.toJson(writer);
+          writer.endObject();
+          break;
+        case RESTORE_FOOTPRINT:
+          writer.beginObject();
+          writer.name("restore_footprint");
+          restoreFootprintResult.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static OperationResultTr fromJson(JsonReader reader) throws IOException {
+      OperationResultTr decodedOperationResultTr = new OperationResultTr();
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "create_account":
+          decodedOperationResultTr.setDiscriminant(OperationType.CREATE_ACCOUNT);
+          decodedOperationResultTr.createAccountResult = CreateAccountResult.fromJson(reader);
+          break;
+        case "payment":
+          decodedOperationResultTr.setDiscriminant(OperationType.PAYMENT);
+          decodedOperationResultTr.paymentResult = PaymentResult.fromJson(reader);
+          break;
+        case "path_payment_strict_receive":
+          decodedOperationResultTr.setDiscriminant(OperationType.PATH_PAYMENT_STRICT_RECEIVE);
+          decodedOperationResultTr.pathPaymentStrictReceiveResult =
+              PathPaymentStrictReceiveResult.fromJson(reader);
+          break;
+        case "manage_sell_offer":
+          decodedOperationResultTr.setDiscriminant(OperationType.MANAGE_SELL_OFFER);
+          decodedOperationResultTr.manageSellOfferResult = ManageSellOfferResult.fromJson(reader);
+          break;
+        case "create_passive_sell_offer":
+          decodedOperationResultTr.setDiscriminant(OperationType.CREATE_PASSIVE_SELL_OFFER);
+          decodedOperationResultTr.createPassiveSellOfferResult =
+              ManageSellOfferResult.fromJson(reader);
+          break;
+        case "set_options":
+          decodedOperationResultTr.setDiscriminant(OperationType.SET_OPTIONS);
+          decodedOperationResultTr.setOptionsResult = SetOptionsResult.fromJson(reader);
+          break;
+        case "change_trust":
+          decodedOperationResultTr.setDiscriminant(OperationType.CHANGE_TRUST);
+          decodedOperationResultTr.changeTrustResult = ChangeTrustResult.fromJson(reader);
+          break;
+        case "allow_trust":
+          decodedOperationResultTr.setDiscriminant(OperationType.ALLOW_TRUST);
+          decodedOperationResultTr.allowTrustResult = AllowTrustResult.fromJson(reader);
+          break;
+        case "account_merge":
+          decodedOperationResultTr.setDiscriminant(OperationType.ACCOUNT_MERGE);
+          decodedOperationResultTr.accountMergeResult = AccountMergeResult.fromJson(reader);
+          break;
+        case "inflation":
+          decodedOperationResultTr.setDiscriminant(OperationType.INFLATION);
+          decodedOperationResultTr.inflationResult = InflationResult.fromJson(reader);
+          break;
+        case "manage_data":
+          decodedOperationResultTr.setDiscriminant(OperationType.MANAGE_DATA);
+          decodedOperationResultTr.manageDataResult = ManageDataResult.fromJson(reader);
+          break;
+        case "bump_sequence":
+          decodedOperationResultTr.setDiscriminant(OperationType.BUMP_SEQUENCE);
+          decodedOperationResultTr.bumpSeqResult = BumpSequenceResult.fromJson(reader);
+          break;
+        case "manage_buy_offer":
+          decodedOperationResultTr.setDiscriminant(OperationType.MANAGE_BUY_OFFER);
+          decodedOperationResultTr.manageBuyOfferResult = ManageBuyOfferResult.fromJson(reader);
+          break;
+        case "path_payment_strict_send":
+          decodedOperationResultTr.setDiscriminant(OperationType.PATH_PAYMENT_STRICT_SEND);
+          decodedOperationResultTr.pathPaymentStrictSendResult =
+              PathPaymentStrictSendResult.fromJson(reader);
+          break;
+        case "create_claimable_balance":
+          decodedOperationResultTr.setDiscriminant(OperationType.CREATE_CLAIMABLE_BALANCE);
+          decodedOperationResultTr.createClaimableBalanceResult =
+              CreateClaimableBalanceResult.fromJson(reader);
+          break;
+        case "claim_claimable_balance":
+          decodedOperationResultTr.setDiscriminant(OperationType.CLAIM_CLAIMABLE_BALANCE);
+          decodedOperationResultTr.claimClaimableBalanceResult =
+              ClaimClaimableBalanceResult.fromJson(reader);
+          break;
+        case "begin_sponsoring_future_reserves":
+          decodedOperationResultTr.setDiscriminant(OperationType.BEGIN_SPONSORING_FUTURE_RESERVES);
+          decodedOperationResultTr.beginSponsoringFutureReservesResult =
+              BeginSponsoringFutureReservesResult.fromJson(reader);
+          break;
+        case "end_sponsoring_future_reserves":
+          decodedOperationResultTr.setDiscriminant(OperationType.END_SPONSORING_FUTURE_RESERVES);
+          decodedOperationResultTr.endSponsoringFutureReservesResult =
+              EndSponsoringFutureReservesResult.fromJson(reader);
+          break;
+        case "revoke_sponsorship":
+          decodedOperationResultTr.setDiscriminant(OperationType.REVOKE_SPONSORSHIP);
+          decodedOperationResultTr.revokeSponsorshipResult =
+              RevokeSponsorshipResult.fromJson(reader);
+          break;
+        case "clawback":
+          decodedOperationResultTr.setDiscriminant(OperationType.CLAWBACK);
+          decodedOperationResultTr.clawbackResult = ClawbackResult.fromJson(reader);
+          break;
+        case "clawback_claimable_balance":
+          decodedOperationResultTr.setDiscriminant(OperationType.CLAWBACK_CLAIMABLE_BALANCE);
+          decodedOperationResultTr.clawbackClaimableBalanceResult =
+              ClawbackClaimableBalanceResult.fromJson(reader);
+          break;
+        case "set_trust_line_flags":
+          decodedOperationResultTr.setDiscriminant(OperationType.SET_TRUST_LINE_FLAGS);
+          decodedOperationResultTr.setTrustLineFlagsResult =
+              SetTrustLineFlagsResult.fromJson(reader);
+          break;
+        case "liquidity_pool_deposit":
+          decodedOperationResultTr.setDiscriminant(OperationType.LIQUIDITY_POOL_DEPOSIT);
+          decodedOperationResultTr.liquidityPoolDepositResult =
+              LiquidityPoolDepositResult.fromJson(reader);
+          break;
+        case "liquidity_pool_withdraw":
+          decodedOperationResultTr.setDiscriminant(OperationType.LIQUIDITY_POOL_WITHDRAW);
+          decodedOperationResultTr.liquidityPoolWithdrawResult =
+              LiquidityPoolWithdrawResult.fromJson(reader);
+          break;
+        case "invoke_host_function":
+          decodedOperationResultTr.setDiscriminant(OperationType.INVOKE_HOST_FUNCTION);
+          decodedOperationResultTr.invokeHostFunctionResult =
+              InvokeHostFunctionResult.fromJson(reader);
+          break;
+        case "extend_footprint_ttl":
+          decodedOperationResultTr.setDiscriminant(OperationType.EXTEND_FOOTPRINT_TTL);
+          decodedOperationResultTr.extendFootprintTTLResult =
+              ExtendFootprintTTLResult.fromJson(reader);
+          break;
+        case "restore_footprint":
+          decodedOperationResultTr.setDiscriminant(OperationType.RESTORE_FOOTPRINT);
+          decodedOperationResultTr.restoreFootprintResult = RestoreFootprintResult.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown OperationResultTr arm: " + key);
+      }
+      reader.endObject();
+      return decodedOperationResultTr;
+    }
+
+    public static OperationResultTr fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * OperationResultCode's original definition in the XDR file is:
@@ -65,18 +65,78 @@ public enum OperationResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static OperationResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static OperationResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case opINNER:
+        writer.value("op_inner");
+        break;
+      case opBAD_AUTH:
+        writer.value("op_bad_auth");
+        break;
+      case opNO_ACCOUNT:
+        writer.value("op_no_account");
+        break;
+      case opNOT_SUPPORTED:
+        writer.value("op_not_supported");
+        break;
+      case opTOO_MANY_SUBENTRIES:
+        writer.value("op_too_many_subentries");
+        break;
+      case opEXCEEDED_WORK_LIMIT:
+        writer.value("op_exceeded_work_limit");
+        break;
+      case opTOO_MANY_SPONSORING:
+        writer.value("op_too_many_sponsoring");
+        break;
+    }
+  }
+
+  public static OperationResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "op_inner":
+        return opINNER;
+      case "op_bad_auth":
+        return opBAD_AUTH;
+      case "op_no_account":
+        return opNO_ACCOUNT;
+      case "op_not_supported":
+        return opNOT_SUPPORTED;
+      case "op_too_many_subentries":
+        return opTOO_MANY_SUBENTRIES;
+      case "op_exceeded_work_limit":
+        return opEXCEEDED_WORK_LIMIT;
+      case "op_too_many_sponsoring":
+        return opTOO_MANY_SPONSORING;
+      default:
+        throw new IOException("Unknown OperationResultCode value: " + value);
+    }
+  }
+
+  public static OperationResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
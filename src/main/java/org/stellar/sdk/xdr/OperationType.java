@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * OperationType's original definition in the XDR file is:
@@ -144,18 +144,178 @@ public enum OperationType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static OperationType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static OperationType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case CREATE_ACCOUNT:
+        writer.value("create_account");
+        break;
+      case PAYMENT:
+        writer.value("payment");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE:
+        writer.value("path_payment_strict_receive");
+        break;
+      case MANAGE_SELL_OFFER:
+        writer.value("manage_sell_offer");
+        break;
+      case CREATE_PASSIVE_SELL_OFFER:
+        writer.value("create_passive_sell_offer");
+        break;
+      case SET_OPTIONS:
+        writer.value("set_options");
+        break;
+      case CHANGE_TRUST:
+        writer.value("change_trust");
+        break;
+      case ALLOW_TRUST:
+        writer.value("allow_trust");
+        break;
+      case ACCOUNT_MERGE:
+        writer.value("account_merge");
+        break;
+      case INFLATION:
+        writer.value("inflation");
+        break;
+      case MANAGE_DATA:
+        writer.value("manage_data");
+        break;
+      case BUMP_SEQUENCE:
+        writer.value("bump_sequence");
+        break;
+      case MANAGE_BUY_OFFER:
+        writer.value("manage_buy_offer");
+        break;
+      case PATH_PAYMENT_STRICT_SEND:
+        writer.value("path_payment_strict_send");
+        break;
+      case CREATE_CLAIMABLE_BALANCE:
+        writer.value("create_claimable_balance");
+        break;
+      case CLAIM_CLAIMABLE_BALANCE:
+        writer.value("claim_claimable_balance");
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES:
+        writer.value("begin_sponsoring_future_reserves");
+        break;
+      case END_SPONSORING_FUTURE_RESERVES:
+        writer.value("end_sponsoring_future_reserves");
+        break;
+      case REVOKE_SPONSORSHIP:
+        writer.value("revoke_sponsorship");
+        break;
+      case CLAWBACK:
+        writer.value("clawback");
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE:
+        writer.value("clawback_claimable_balance");
+        break;
+      case SET_TRUST_LINE_FLAGS:
+        writer.value("set_trust_line_flags");
+        break;
+      case LIQUIDITY_POOL_DEPOSIT:
+        writer.value("liquidity_pool_deposit");
+        break;
+      case LIQUIDITY_POOL_WITHDRAW:
+        writer.value("liquidity_pool_withdraw");
+        break;
+      case INVOKE_HOST_FUNCTION:
+        writer.value("invoke_host_function");
+        break;
+      case EXTEND_FOOTPRINT_TTL:
+        writer.value("extend_footprint_ttl");
+        break;
+      case RESTORE_FOOTPRINT:
+        writer.value("restore_footprint");
+        break;
+    }
+  }
+
+  public static OperationType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "create_account":
+        return CREATE_ACCOUNT;
+      case "payment":
+        return PAYMENT;
+      case "path_payment_strict_receive":
+        return PATH_PAYMENT_STRICT_RECEIVE;
+      case "manage_sell_offer":
+        return MANAGE_SELL_OFFER;
+      case "create_passive_sell_offer":
+        return CREATE_PASSIVE_SELL_OFFER;
+      case "set_options":
+        return SET_OPTIONS;
+      case "change_trust":
+        return CHANGE_TRUST;
+      case "allow_trust":
+        return ALLOW_TRUST;
+      case "account_merge":
+        return ACCOUNT_MERGE;
+      case "inflation":
+        return INFLATION;
+      case "manage_data":
+        return MANAGE_DATA;
+      case "bump_sequence":
+        return BUMP_SEQUENCE;
+      case "manage_buy_offer":
+        return MANAGE_BUY_OFFER;
+      case "path_payment_strict_send":
+        return PATH_PAYMENT_STRICT_SEND;
+      case "create_claimable_balance":
+        return CREATE_CLAIMABLE_BALANCE;
+      case "claim_claimable_balance":
+        return CLAIM_CLAIMABLE_BALANCE;
+      case "begin_sponsoring_future_reserves":
+        return BEGIN_SPONSORING_FUTURE_RESERVES;
+      case "end_sponsoring_future_reserves":
+        return END_SPONSORING_FUTURE_RESERVES;
+      case "revoke_sponsorship":
+        return REVOKE_SPONSORSHIP;
+      case "clawback":
+        return CLAWBACK;
+      case "clawback_claimable_balance":
+        return CLAWBACK_CLAIMABLE_BALANCE;
+      case "set_trust_line_flags":
+        return SET_TRUST_LINE_FLAGS;
+      case "liquidity_pool_deposit":
+        return LIQUIDITY_POOL_DEPOSIT;
+      case "liquidity_pool_withdraw":
+        return LIQUIDITY_POOL_WITHDRAW;
+      case "invoke_host_function":
+        return INVOKE_HOST_FUNCTION;
+      case "extend_footprint_ttl":
+        return EXTEND_FOOTPRINT_TTL;
+      case "restore_footprint":
+        return RESTORE_FOOTPRINT;
+      default:
+        throw new IOException("Unknown OperationType value: " + value);
+    }
+  }
+
+  public static OperationType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ParallelTxExecutionStage's original definition in the XDR file is:
@@ -31,9 +31,19 @@ public class ParallelTxExecutionStage implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int ParallelTxExecutionStageSize = getParallelTxExecutionStage().length;
+    size += 4;
+    for (int i = 0; i < ParallelTxExecutionStageSize; i++) {
+      size += ParallelTxExecutionStage[i].encodedSize();
+    }
+    return size;
+  }
+
   public static ParallelTxExecutionStage decode(XdrDataInputStream stream) throws IOException {
     ParallelTxExecutionStage decodedParallelTxExecutionStage = new ParallelTxExecutionStage();
-    int ParallelTxExecutionStageSize = stream.readInt();
+    int ParallelTxExecutionStageSize = stream.readLength(4);
     decodedParallelTxExecutionStage.ParallelTxExecutionStage =
         new DependentTxCluster[ParallelTxExecutionStageSize];
     for (int i = 0; i < ParallelTxExecutionStageSize; i++) {
@@ -43,14 +53,54 @@ public class ParallelTxExecutionStage implements XdrElement {
     return decodedParallelTxExecutionStage;
   }
 
+  public static ParallelTxExecutionStage decodeInto(
+      ParallelTxExecutionStage existing, XdrDataInputStream stream) throws IOException {
+    ParallelTxExecutionStage decodedParallelTxExecutionStage =
+        existing != null ? existing : new ParallelTxExecutionStage();
+    int ParallelTxExecutionStageSize = stream.readLength(4);
+    decodedParallelTxExecutionStage.ParallelTxExecutionStage =
+        XdrRecycler.resize(
+            decodedParallelTxExecutionStage.ParallelTxExecutionStage,
+            ParallelTxExecutionStageSize,
+            DependentTxCluster[]::new);
+    for (int i = 0; i < ParallelTxExecutionStageSize; i++) {
+      decodedParallelTxExecutionStage.ParallelTxExecutionStage[i] =
+          DependentTxCluster.decodeInto(
+              decodedParallelTxExecutionStage.ParallelTxExecutionStage[i], stream);
+    }
+    return decodedParallelTxExecutionStage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int ParallelTxExecutionStageSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < ParallelTxExecutionStageSize; i++) {
+      DependentTxCluster.skip(stream);
+    }
+  }
+
   public static ParallelTxExecutionStage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ParallelTxExecutionStage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeArray(writer, ParallelTxExecutionStage);
+  }
+
+  public static ParallelTxExecutionStage fromJson(JsonReader reader) throws IOException {
+    ParallelTxExecutionStage decodedParallelTxExecutionStage = new ParallelTxExecutionStage();
+    decodedParallelTxExecutionStage.ParallelTxExecutionStage =
+        XdrJson.readArray(reader, DependentTxCluster[]::new, DependentTxCluster::fromJson);
+    return decodedParallelTxExecutionStage;
+  }
+
+  public static ParallelTxExecutionStage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
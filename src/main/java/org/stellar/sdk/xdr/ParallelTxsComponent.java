@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ParallelTxsComponent's original definition in the XDR file is:
@@ -47,13 +47,29 @@ public class ParallelTxsComponent implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    if (baseFee != null) {
+      size += 4;
+      size += baseFee.encodedSize();
+    } else {
+      size += 4;
+    }
+    int executionStagesSize = getExecutionStages().length;
+    size += 4;
+    for (int i = 0; i < executionStagesSize; i++) {
+      size += executionStages[i].encodedSize();
+    }
+    return size;
+  }
+
   public static ParallelTxsComponent decode(XdrDataInputStream stream) throws IOException {
     ParallelTxsComponent decodedParallelTxsComponent = new ParallelTxsComponent();
     int baseFeePresent = stream.readInt();
     if (baseFeePresent != 0) {
       decodedParallelTxsComponent.baseFee = Int64.decode(stream);
     }
-    int executionStagesSize = stream.readInt();
+    int executionStagesSize = stream.readLength(4);
     decodedParallelTxsComponent.executionStages = new ParallelTxExecutionStage[executionStagesSize];
     for (int i = 0; i < executionStagesSize; i++) {
       decodedParallelTxsComponent.executionStages[i] = ParallelTxExecutionStage.decode(stream);
@@ -61,14 +77,84 @@ public class ParallelTxsComponent implements XdrElement {
     return decodedParallelTxsComponent;
   }
 
+  public static ParallelTxsComponent decodeInto(
+      ParallelTxsComponent existing, XdrDataInputStream stream) throws IOException {
+    ParallelTxsComponent decodedParallelTxsComponent =
+        existing != null ? existing : new ParallelTxsComponent();
+    int baseFeePresent = stream.readInt();
+    if (baseFeePresent != 0) {
+      decodedParallelTxsComponent.baseFee =
+          Int64.decodeInto(decodedParallelTxsComponent.baseFee, stream);
+    } else {
+      decodedParallelTxsComponent.baseFee = null;
+    }
+    int executionStagesSize = stream.readLength(4);
+    decodedParallelTxsComponent.executionStages =
+        XdrRecycler.resize(
+            decodedParallelTxsComponent.executionStages,
+            executionStagesSize,
+            ParallelTxExecutionStage[]::new);
+    for (int i = 0; i < executionStagesSize; i++) {
+      decodedParallelTxsComponent.executionStages[i] =
+          ParallelTxExecutionStage.decodeInto(
+              decodedParallelTxsComponent.executionStages[i], stream);
+    }
+    return decodedParallelTxsComponent;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    if (stream.readXdrBoolean()) {
+      Int64.skip(stream);
+    }
+    int executionStagesSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < executionStagesSize; i++) {
+      ParallelTxExecutionStage.skip(stream);
+    }
+  }
+
   public static ParallelTxsComponent fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ParallelTxsComponent fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("base_fee");
+    XdrJson.writeOptional(writer, baseFee);
+    writer.name("execution_stages");
+    XdrJson.writeArray(writer, executionStages);
+    writer.endObject();
+  }
+
+  public static ParallelTxsComponent fromJson(JsonReader reader) throws IOException {
+    ParallelTxsComponent decodedParallelTxsComponent = new ParallelTxsComponent();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "base_fee":
+          decodedParallelTxsComponent.baseFee = XdrJson.readOptional(reader, Int64::fromJson);
+          break;
+        case "execution_stages":
+          decodedParallelTxsComponent.executionStages =
+              XdrJson.readArray(
+                  reader, ParallelTxExecutionStage[]::new, ParallelTxExecutionStage::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown ParallelTxsComponent field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedParallelTxsComponent;
+  }
+
+  public static ParallelTxsComponent fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
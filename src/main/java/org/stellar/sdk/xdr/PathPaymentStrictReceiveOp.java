@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PathPaymentStrictReceiveOp's original definition in the XDR file is:
@@ -55,6 +55,21 @@ public class PathPaymentStrictReceiveOp implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += sendAsset.encodedSize();
+    size += sendMax.encodedSize();
+    size += destination.encodedSize();
+    size += destAsset.encodedSize();
+    size += destAmount.encodedSize();
+    int pathSize = getPath().length;
+    size += 4;
+    for (int i = 0; i < pathSize; i++) {
+      size += path[i].encodedSize();
+    }
+    return size;
+  }
+
   public static PathPaymentStrictReceiveOp decode(XdrDataInputStream stream) throws IOException {
     PathPaymentStrictReceiveOp decodedPathPaymentStrictReceiveOp = new PathPaymentStrictReceiveOp();
     decodedPathPaymentStrictReceiveOp.sendAsset = Asset.decode(stream);
@@ -62,7 +77,7 @@ public class PathPaymentStrictReceiveOp implements XdrElement {
     decodedPathPaymentStrictReceiveOp.destination = MuxedAccount.decode(stream);
     decodedPathPaymentStrictReceiveOp.destAsset = Asset.decode(stream);
     decodedPathPaymentStrictReceiveOp.destAmount = Int64.decode(stream);
-    int pathSize = stream.readInt();
+    int pathSize = stream.readLength(4);
     decodedPathPaymentStrictReceiveOp.path = new Asset[pathSize];
     for (int i = 0; i < pathSize; i++) {
       decodedPathPaymentStrictReceiveOp.path[i] = Asset.decode(stream);
@@ -70,14 +85,104 @@ public class PathPaymentStrictReceiveOp implements XdrElement {
     return decodedPathPaymentStrictReceiveOp;
   }
 
+  public static PathPaymentStrictReceiveOp decodeInto(
+      PathPaymentStrictReceiveOp existing, XdrDataInputStream stream) throws IOException {
+    PathPaymentStrictReceiveOp decodedPathPaymentStrictReceiveOp =
+        existing != null ? existing : new PathPaymentStrictReceiveOp();
+    decodedPathPaymentStrictReceiveOp.sendAsset =
+        Asset.decodeInto(decodedPathPaymentStrictReceiveOp.sendAsset, stream);
+    decodedPathPaymentStrictReceiveOp.sendMax =
+        Int64.decodeInto(decodedPathPaymentStrictReceiveOp.sendMax, stream);
+    decodedPathPaymentStrictReceiveOp.destination =
+        MuxedAccount.decodeInto(decodedPathPaymentStrictReceiveOp.destination, stream);
+    decodedPathPaymentStrictReceiveOp.destAsset =
+        Asset.decodeInto(decodedPathPaymentStrictReceiveOp.destAsset, stream);
+    decodedPathPaymentStrictReceiveOp.destAmount =
+        Int64.decodeInto(decodedPathPaymentStrictReceiveOp.destAmount, stream);
+    int pathSize = stream.readLength(4);
+    decodedPathPaymentStrictReceiveOp.path =
+        XdrRecycler.resize(decodedPathPaymentStrictReceiveOp.path, pathSize, Asset[]::new);
+    for (int i = 0; i < pathSize; i++) {
+      decodedPathPaymentStrictReceiveOp.path[i] =
+          Asset.decodeInto(decodedPathPaymentStrictReceiveOp.path[i], stream);
+    }
+    return decodedPathPaymentStrictReceiveOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Asset.skip(stream);
+    Int64.skip(stream);
+    MuxedAccount.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    int pathSize = stream.readLength(5, 4);
+    for (int i = 0; i < pathSize; i++) {
+      Asset.skip(stream);
+    }
+  }
+
   public static PathPaymentStrictReceiveOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PathPaymentStrictReceiveOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("send_asset");
+    sendAsset.toJson(writer);
+    writer.name("send_max");
+    sendMax.toJson(writer);
+    writer.name("destination");
+    destination.toJson(writer);
+    writer.name("dest_asset");
+    destAsset.toJson(writer);
+    writer.name("dest_amount");
+    destAmount.toJson(writer);
+    writer.name("path");
+    XdrJson.writeArray(writer, path);
+    writer.endObject();
+  }
+
+  public static PathPaymentStrictReceiveOp fromJson(JsonReader reader) throws IOException {
+    PathPaymentStrictReceiveOp decodedPathPaymentStrictReceiveOp = new PathPaymentStrictReceiveOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "send_asset":
+          decodedPathPaymentStrictReceiveOp.sendAsset = Asset.fromJson(reader);
+          break;
+        case "send_max":
+          decodedPathPaymentStrictReceiveOp.sendMax = Int64.fromJson(reader);
+          break;
+        case "destination":
+          decodedPathPaymentStrictReceiveOp.destination = MuxedAccount.fromJson(reader);
+          break;
+        case "dest_asset":
+          decodedPathPaymentStrictReceiveOp.destAsset = Asset.fromJson(reader);
+          break;
+        case "dest_amount":
+          decodedPathPaymentStrictReceiveOp.destAmount = Int64.fromJson(reader);
+          break;
+        case "path":
+          decodedPathPaymentStrictReceiveOp.path =
+              XdrJson.readArray(reader, Asset[]::new, Asset::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown PathPaymentStrictReceiveOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedPathPaymentStrictReceiveOp;
+  }
+
+  public static PathPaymentStrictReceiveOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
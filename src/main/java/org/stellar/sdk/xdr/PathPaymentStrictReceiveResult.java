@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PathPaymentStrictReceiveResult's original definition in the XDR file is:
@@ -76,6 +77,33 @@ public class PathPaymentStrictReceiveResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_RECEIVE_SUCCESS:
+        size += success.encodedSize();
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_MALFORMED:
+      case PATH_PAYMENT_STRICT_RECEIVE_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_ISSUER:
+        size += noIssuer.encodedSize();
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_RECEIVE_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_RECEIVE_OVER_SENDMAX:
+        break;
+    }
+    return size;
+  }
+
   public static PathPaymentStrictReceiveResult decode(XdrDataInputStream stream)
       throws IOException {
     PathPaymentStrictReceiveResult decodedPathPaymentStrictReceiveResult =
@@ -108,17 +136,212 @@ public class PathPaymentStrictReceiveResult implements XdrElement {
     return decodedPathPaymentStrictReceiveResult;
   }
 
+  public static PathPaymentStrictReceiveResult decodeInto(
+      PathPaymentStrictReceiveResult existing, XdrDataInputStream stream) throws IOException {
+    PathPaymentStrictReceiveResultCode discriminant =
+        PathPaymentStrictReceiveResultCode.decode(stream);
+    PathPaymentStrictReceiveResult decodedPathPaymentStrictReceiveResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new PathPaymentStrictReceiveResult();
+    decodedPathPaymentStrictReceiveResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_RECEIVE_SUCCESS:
+        decodedPathPaymentStrictReceiveResult.success =
+            PathPaymentStrictReceiveResultSuccess.decodeInto(
+                decodedPathPaymentStrictReceiveResult.success, stream);
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_MALFORMED:
+      case PATH_PAYMENT_STRICT_RECEIVE_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_ISSUER:
+        decodedPathPaymentStrictReceiveResult.noIssuer =
+            Asset.decodeInto(decodedPathPaymentStrictReceiveResult.noIssuer, stream);
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_RECEIVE_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_RECEIVE_OVER_SENDMAX:
+        break;
+    }
+    return decodedPathPaymentStrictReceiveResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PathPaymentStrictReceiveResultCode discriminant =
+        PathPaymentStrictReceiveResultCode.decode(stream);
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_RECEIVE_SUCCESS:
+        PathPaymentStrictReceiveResultSuccess.skip(stream);
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_MALFORMED:
+      case PATH_PAYMENT_STRICT_RECEIVE_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_ISSUER:
+        Asset.skip(stream);
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_RECEIVE_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_RECEIVE_OVER_SENDMAX:
+        break;
+      default:
+        throw new IOException(
+            "Unknown PathPaymentStrictReceiveResult discriminant: " + discriminant);
+    }
+  }
+
   public static PathPaymentStrictReceiveResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PathPaymentStrictReceiveResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_RECEIVE_SUCCESS:
+        writer.beginObject();
+        writer.name("success");
+        success.toJson(writer);
+        writer.endObject();
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_MALFORMED:
+        writer.value("malformed");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NO_TRUST:
+        writer.value("src_no_trust");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NOT_AUTHORIZED:
+        writer.value("src_not_authorized");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_DESTINATION:
+        writer.value("no_destination");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_ISSUER:
+        writer.beginObject();
+        writer.name("no_issuer");
+        noIssuer.toJson(writer);
+        writer.endObject();
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_TOO_FEW_OFFERS:
+        writer.value("too_few_offers");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_OFFER_CROSS_SELF:
+        writer.value("offer_cross_self");
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_OVER_SENDMAX:
+        writer.value("over_sendmax");
+        break;
+    }
+  }
+
+  public static PathPaymentStrictReceiveResult fromJson(JsonReader reader) throws IOException {
+    PathPaymentStrictReceiveResult decodedPathPaymentStrictReceiveResult =
+        new PathPaymentStrictReceiveResult();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "malformed":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_MALFORMED);
+          break;
+        case "underfunded":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_UNDERFUNDED);
+          break;
+        case "src_no_trust":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_SRC_NO_TRUST);
+          break;
+        case "src_not_authorized":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_SRC_NOT_AUTHORIZED);
+          break;
+        case "no_destination":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_NO_DESTINATION);
+          break;
+        case "no_trust":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_NO_TRUST);
+          break;
+        case "not_authorized":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_NOT_AUTHORIZED);
+          break;
+        case "line_full":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_LINE_FULL);
+          break;
+        case "too_few_offers":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_TOO_FEW_OFFERS);
+          break;
+        case "offer_cross_self":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_OFFER_CROSS_SELF);
+          break;
+        case "over_sendmax":
+          decodedPathPaymentStrictReceiveResult.setDiscriminant(
+              PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_OVER_SENDMAX);
+          break;
+        default:
+          throw new IOException("Unknown PathPaymentStrictReceiveResult arm: " + key);
+      }
+      return decodedPathPaymentStrictReceiveResult;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "success":
+        decodedPathPaymentStrictReceiveResult.setDiscriminant(
+            PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_SUCCESS);
+        decodedPathPaymentStrictReceiveResult.success =
+            PathPaymentStrictReceiveResultSuccess.fromJson(reader);
+        break;
+      case "no_issuer":
+        decodedPathPaymentStrictReceiveResult.setDiscriminant(
+            PathPaymentStrictReceiveResultCode.PATH_PAYMENT_STRICT_RECEIVE_NO_ISSUER);
+        decodedPathPaymentStrictReceiveResult.noIssuer = Asset.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown PathPaymentStrictReceiveResult arm: " + key);
+    }
+    reader.endObject();
+    return decodedPathPaymentStrictReceiveResult;
+  }
+
+  public static PathPaymentStrictReceiveResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * PathPaymentStrictReceiveResultSuccess's original definition in the XDR file is:
    *
@@ -147,11 +370,22 @@ public class PathPaymentStrictReceiveResult implements XdrElement {
       last.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      int offersSize = getOffers().length;
+      size += 4;
+      for (int i = 0; i < offersSize; i++) {
+        size += offers[i].encodedSize();
+      }
+      size += last.encodedSize();
+      return size;
+    }
+
     public static PathPaymentStrictReceiveResultSuccess decode(XdrDataInputStream stream)
         throws IOException {
       PathPaymentStrictReceiveResultSuccess decodedPathPaymentStrictReceiveResultSuccess =
           new PathPaymentStrictReceiveResultSuccess();
-      int offersSize = stream.readInt();
+      int offersSize = stream.readLength(4);
       decodedPathPaymentStrictReceiveResultSuccess.offers = new ClaimAtom[offersSize];
       for (int i = 0; i < offersSize; i++) {
         decodedPathPaymentStrictReceiveResultSuccess.offers[i] = ClaimAtom.decode(stream);
@@ -160,17 +394,80 @@ public class PathPaymentStrictReceiveResult implements XdrElement {
       return decodedPathPaymentStrictReceiveResultSuccess;
     }
 
+    public static PathPaymentStrictReceiveResultSuccess decodeInto(
+        PathPaymentStrictReceiveResultSuccess existing, XdrDataInputStream stream)
+        throws IOException {
+      PathPaymentStrictReceiveResultSuccess decodedPathPaymentStrictReceiveResultSuccess =
+          existing != null ? existing : new PathPaymentStrictReceiveResultSuccess();
+      int offersSize = stream.readLength(4);
+      decodedPathPaymentStrictReceiveResultSuccess.offers =
+          XdrRecycler.resize(
+              decodedPathPaymentStrictReceiveResultSuccess.offers, offersSize, ClaimAtom[]::new);
+      for (int i = 0; i < offersSize; i++) {
+        decodedPathPaymentStrictReceiveResultSuccess.offers[i] =
+            ClaimAtom.decodeInto(decodedPathPaymentStrictReceiveResultSuccess.offers[i], stream);
+      }
+      decodedPathPaymentStrictReceiveResultSuccess.last =
+          SimplePaymentResult.decodeInto(decodedPathPaymentStrictReceiveResultSuccess.last, stream);
+      return decodedPathPaymentStrictReceiveResultSuccess;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      int offersSize = stream.readLength(Integer.MAX_VALUE, 4);
+      for (int i = 0; i < offersSize; i++) {
+        ClaimAtom.skip(stream);
+      }
+      SimplePaymentResult.skip(stream);
+    }
+
     public static PathPaymentStrictReceiveResultSuccess fromXdrBase64(String xdr)
         throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static PathPaymentStrictReceiveResultSuccess fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("offers");
+      XdrJson.writeArray(writer, offers);
+      writer.name("last");
+      last.toJson(writer);
+      writer.endObject();
+    }
+
+    public static PathPaymentStrictReceiveResultSuccess fromJson(JsonReader reader)
+        throws IOException {
+      PathPaymentStrictReceiveResultSuccess decodedPathPaymentStrictReceiveResultSuccess =
+          new PathPaymentStrictReceiveResultSuccess();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "offers":
+            decodedPathPaymentStrictReceiveResultSuccess.offers =
+                XdrJson.readArray(reader, ClaimAtom[]::new, ClaimAtom::fromJson);
+            break;
+          case "last":
+            decodedPathPaymentStrictReceiveResultSuccess.last =
+                SimplePaymentResult.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown PathPaymentStrictReceiveResultSuccess field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedPathPaymentStrictReceiveResultSuccess;
+    }
+
+    public static PathPaymentStrictReceiveResultSuccess fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
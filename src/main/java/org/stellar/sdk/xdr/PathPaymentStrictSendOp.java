@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PathPaymentStrictSendOp's original definition in the XDR file is:
@@ -55,6 +55,21 @@ public class PathPaymentStrictSendOp implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += sendAsset.encodedSize();
+    size += sendAmount.encodedSize();
+    size += destination.encodedSize();
+    size += destAsset.encodedSize();
+    size += destMin.encodedSize();
+    int pathSize = getPath().length;
+    size += 4;
+    for (int i = 0; i < pathSize; i++) {
+      size += path[i].encodedSize();
+    }
+    return size;
+  }
+
   public static PathPaymentStrictSendOp decode(XdrDataInputStream stream) throws IOException {
     PathPaymentStrictSendOp decodedPathPaymentStrictSendOp = new PathPaymentStrictSendOp();
     decodedPathPaymentStrictSendOp.sendAsset = Asset.decode(stream);
@@ -62,7 +77,7 @@ public class PathPaymentStrictSendOp implements XdrElement {
     decodedPathPaymentStrictSendOp.destination = MuxedAccount.decode(stream);
     decodedPathPaymentStrictSendOp.destAsset = Asset.decode(stream);
     decodedPathPaymentStrictSendOp.destMin = Int64.decode(stream);
-    int pathSize = stream.readInt();
+    int pathSize = stream.readLength(4);
     decodedPathPaymentStrictSendOp.path = new Asset[pathSize];
     for (int i = 0; i < pathSize; i++) {
       decodedPathPaymentStrictSendOp.path[i] = Asset.decode(stream);
@@ -70,14 +85,104 @@ public class PathPaymentStrictSendOp implements XdrElement {
     return decodedPathPaymentStrictSendOp;
   }
 
+  public static PathPaymentStrictSendOp decodeInto(
+      PathPaymentStrictSendOp existing, XdrDataInputStream stream) throws IOException {
+    PathPaymentStrictSendOp decodedPathPaymentStrictSendOp =
+        existing != null ? existing : new PathPaymentStrictSendOp();
+    decodedPathPaymentStrictSendOp.sendAsset =
+        Asset.decodeInto(decodedPathPaymentStrictSendOp.sendAsset, stream);
+    decodedPathPaymentStrictSendOp.sendAmount =
+        Int64.decodeInto(decodedPathPaymentStrictSendOp.sendAmount, stream);
+    decodedPathPaymentStrictSendOp.destination =
+        MuxedAccount.decodeInto(decodedPathPaymentStrictSendOp.destination, stream);
+    decodedPathPaymentStrictSendOp.destAsset =
+        Asset.decodeInto(decodedPathPaymentStrictSendOp.destAsset, stream);
+    decodedPathPaymentStrictSendOp.destMin =
+        Int64.decodeInto(decodedPathPaymentStrictSendOp.destMin, stream);
+    int pathSize = stream.readLength(4);
+    decodedPathPaymentStrictSendOp.path =
+        XdrRecycler.resize(decodedPathPaymentStrictSendOp.path, pathSize, Asset[]::new);
+    for (int i = 0; i < pathSize; i++) {
+      decodedPathPaymentStrictSendOp.path[i] =
+          Asset.decodeInto(decodedPathPaymentStrictSendOp.path[i], stream);
+    }
+    return decodedPathPaymentStrictSendOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Asset.skip(stream);
+    Int64.skip(stream);
+    MuxedAccount.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    int pathSize = stream.readLength(5, 4);
+    for (int i = 0; i < pathSize; i++) {
+      Asset.skip(stream);
+    }
+  }
+
   public static PathPaymentStrictSendOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PathPaymentStrictSendOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("send_asset");
+    sendAsset.toJson(writer);
+    writer.name("send_amount");
+    sendAmount.toJson(writer);
+    writer.name("destination");
+    destination.toJson(writer);
+    writer.name("dest_asset");
+    destAsset.toJson(writer);
+    writer.name("dest_min");
+    destMin.toJson(writer);
+    writer.name("path");
+    XdrJson.writeArray(writer, path);
+    writer.endObject();
+  }
+
+  public static PathPaymentStrictSendOp fromJson(JsonReader reader) throws IOException {
+    PathPaymentStrictSendOp decodedPathPaymentStrictSendOp = new PathPaymentStrictSendOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "send_asset":
+          decodedPathPaymentStrictSendOp.sendAsset = Asset.fromJson(reader);
+          break;
+        case "send_amount":
+          decodedPathPaymentStrictSendOp.sendAmount = Int64.fromJson(reader);
+          break;
+        case "destination":
+          decodedPathPaymentStrictSendOp.destination = MuxedAccount.fromJson(reader);
+          break;
+        case "dest_asset":
+          decodedPathPaymentStrictSendOp.destAsset = Asset.fromJson(reader);
+          break;
+        case "dest_min":
+          decodedPathPaymentStrictSendOp.destMin = Int64.fromJson(reader);
+          break;
+        case "path":
+          decodedPathPaymentStrictSendOp.path =
+              XdrJson.readArray(reader, Asset[]::new, Asset::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown PathPaymentStrictSendOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedPathPaymentStrictSendOp;
+  }
+
+  public static PathPaymentStrictSendOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PathPaymentStrictSendResult's original definition in the XDR file is:
@@ -75,6 +76,33 @@ public class PathPaymentStrictSendResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_SEND_SUCCESS:
+        size += success.encodedSize();
+        break;
+      case PATH_PAYMENT_STRICT_SEND_MALFORMED:
+      case PATH_PAYMENT_STRICT_SEND_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_SEND_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_ISSUER:
+        size += noIssuer.encodedSize();
+        break;
+      case PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN:
+        break;
+    }
+    return size;
+  }
+
   public static PathPaymentStrictSendResult decode(XdrDataInputStream stream) throws IOException {
     PathPaymentStrictSendResult decodedPathPaymentStrictSendResult =
         new PathPaymentStrictSendResult();
@@ -105,17 +133,209 @@ public class PathPaymentStrictSendResult implements XdrElement {
     return decodedPathPaymentStrictSendResult;
   }
 
+  public static PathPaymentStrictSendResult decodeInto(
+      PathPaymentStrictSendResult existing, XdrDataInputStream stream) throws IOException {
+    PathPaymentStrictSendResultCode discriminant = PathPaymentStrictSendResultCode.decode(stream);
+    PathPaymentStrictSendResult decodedPathPaymentStrictSendResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new PathPaymentStrictSendResult();
+    decodedPathPaymentStrictSendResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_SEND_SUCCESS:
+        decodedPathPaymentStrictSendResult.success =
+            PathPaymentStrictSendResultSuccess.decodeInto(
+                decodedPathPaymentStrictSendResult.success, stream);
+        break;
+      case PATH_PAYMENT_STRICT_SEND_MALFORMED:
+      case PATH_PAYMENT_STRICT_SEND_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_SEND_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_ISSUER:
+        decodedPathPaymentStrictSendResult.noIssuer =
+            Asset.decodeInto(decodedPathPaymentStrictSendResult.noIssuer, stream);
+        break;
+      case PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN:
+        break;
+    }
+    return decodedPathPaymentStrictSendResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PathPaymentStrictSendResultCode discriminant = PathPaymentStrictSendResultCode.decode(stream);
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_SEND_SUCCESS:
+        PathPaymentStrictSendResultSuccess.skip(stream);
+        break;
+      case PATH_PAYMENT_STRICT_SEND_MALFORMED:
+      case PATH_PAYMENT_STRICT_SEND_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_SEND_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_ISSUER:
+        Asset.skip(stream);
+        break;
+      case PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN:
+        break;
+      default:
+        throw new IOException("Unknown PathPaymentStrictSendResult discriminant: " + discriminant);
+    }
+  }
+
   public static PathPaymentStrictSendResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PathPaymentStrictSendResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_SEND_SUCCESS:
+        writer.beginObject();
+        writer.name("success");
+        success.toJson(writer);
+        writer.endObject();
+        break;
+      case PATH_PAYMENT_STRICT_SEND_MALFORMED:
+        writer.value("malformed");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST:
+        writer.value("src_no_trust");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED:
+        writer.value("src_not_authorized");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_DESTINATION:
+        writer.value("no_destination");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_ISSUER:
+        writer.beginObject();
+        writer.name("no_issuer");
+        noIssuer.toJson(writer);
+        writer.endObject();
+        break;
+      case PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS:
+        writer.value("too_few_offers");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF:
+        writer.value("offer_cross_self");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN:
+        writer.value("under_destmin");
+        break;
+    }
+  }
+
+  public static PathPaymentStrictSendResult fromJson(JsonReader reader) throws IOException {
+    PathPaymentStrictSendResult decodedPathPaymentStrictSendResult =
+        new PathPaymentStrictSendResult();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "malformed":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_MALFORMED);
+          break;
+        case "underfunded":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_UNDERFUNDED);
+          break;
+        case "src_no_trust":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST);
+          break;
+        case "src_not_authorized":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED);
+          break;
+        case "no_destination":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_NO_DESTINATION);
+          break;
+        case "no_trust":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_NO_TRUST);
+          break;
+        case "not_authorized":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED);
+          break;
+        case "line_full":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_LINE_FULL);
+          break;
+        case "too_few_offers":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS);
+          break;
+        case "offer_cross_self":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF);
+          break;
+        case "under_destmin":
+          decodedPathPaymentStrictSendResult.setDiscriminant(
+              PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN);
+          break;
+        default:
+          throw new IOException("Unknown PathPaymentStrictSendResult arm: " + key);
+      }
+      return decodedPathPaymentStrictSendResult;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "success":
+        decodedPathPaymentStrictSendResult.setDiscriminant(
+            PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_SUCCESS);
+        decodedPathPaymentStrictSendResult.success =
+            PathPaymentStrictSendResultSuccess.fromJson(reader);
+        break;
+      case "no_issuer":
+        decodedPathPaymentStrictSendResult.setDiscriminant(
+            PathPaymentStrictSendResultCode.PATH_PAYMENT_STRICT_SEND_NO_ISSUER);
+        decodedPathPaymentStrictSendResult.noIssuer = Asset.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown PathPaymentStrictSendResult arm: " + key);
+    }
+    reader.endObject();
+    return decodedPathPaymentStrictSendResult;
+  }
+
+  public static PathPaymentStrictSendResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * PathPaymentStrictSendResultSuccess's original definition in the XDR file is:
    *
@@ -144,11 +364,22 @@ public class PathPaymentStrictSendResult implements XdrElement {
       last.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      int offersSize = getOffers().length;
+      size += 4;
+      for (int i = 0; i < offersSize; i++) {
+        size += offers[i].encodedSize();
+      }
+      size += last.encodedSize();
+      return size;
+    }
+
     public static PathPaymentStrictSendResultSuccess decode(XdrDataInputStream stream)
         throws IOException {
       PathPaymentStrictSendResultSuccess decodedPathPaymentStrictSendResultSuccess =
           new PathPaymentStrictSendResultSuccess();
-      int offersSize = stream.readInt();
+      int offersSize = stream.readLength(4);
       decodedPathPaymentStrictSendResultSuccess.offers = new ClaimAtom[offersSize];
       for (int i = 0; i < offersSize; i++) {
         decodedPathPaymentStrictSendResultSuccess.offers[i] = ClaimAtom.decode(stream);
@@ -157,16 +388,77 @@ public class PathPaymentStrictSendResult implements XdrElement {
       return decodedPathPaymentStrictSendResultSuccess;
     }
 
+    public static PathPaymentStrictSendResultSuccess decodeInto(
+        PathPaymentStrictSendResultSuccess existing, XdrDataInputStream stream) throws IOException {
+      PathPaymentStrictSendResultSuccess decodedPathPaymentStrictSendResultSuccess =
+          existing != null ? existing : new PathPaymentStrictSendResultSuccess();
+      int offersSize = stream.readLength(4);
+      decodedPathPaymentStrictSendResultSuccess.offers =
+          XdrRecycler.resize(
+              decodedPathPaymentStrictSendResultSuccess.offers, offersSize, ClaimAtom[]::new);
+      for (int i = 0; i < offersSize; i++) {
+        decodedPathPaymentStrictSendResultSuccess.offers[i] =
+            ClaimAtom.decodeInto(decodedPathPaymentStrictSendResultSuccess.offers[i], stream);
+      }
+      decodedPathPaymentStrictSendResultSuccess.last =
+          SimplePaymentResult.decodeInto(decodedPathPaymentStrictSendResultSuccess.last, stream);
+      return decodedPathPaymentStrictSendResultSuccess;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      int offersSize = stream.readLength(Integer.MAX_VALUE, 4);
+      for (int i = 0; i < offersSize; i++) {
+        ClaimAtom.skip(stream);
+      }
+      SimplePaymentResult.skip(stream);
+    }
+
     public static PathPaymentStrictSendResultSuccess fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static PathPaymentStrictSendResultSuccess fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("offers");
+      XdrJson.writeArray(writer, offers);
+      writer.name("last");
+      last.toJson(writer);
+      writer.endObject();
+    }
+
+    public static PathPaymentStrictSendResultSuccess fromJson(JsonReader reader)
+        throws IOException {
+      PathPaymentStrictSendResultSuccess decodedPathPaymentStrictSendResultSuccess =
+          new PathPaymentStrictSendResultSuccess();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "offers":
+            decodedPathPaymentStrictSendResultSuccess.offers =
+                XdrJson.readArray(reader, ClaimAtom[]::new, ClaimAtom::fromJson);
+            break;
+          case "last":
+            decodedPathPaymentStrictSendResultSuccess.last = SimplePaymentResult.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown PathPaymentStrictSendResultSuccess field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedPathPaymentStrictSendResultSuccess;
+    }
+
+    public static PathPaymentStrictSendResultSuccess fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
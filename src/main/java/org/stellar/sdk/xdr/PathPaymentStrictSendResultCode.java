@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PathPaymentStrictSendResultCode's original definition in the XDR file is:
@@ -100,18 +100,108 @@ public enum PathPaymentStrictSendResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static PathPaymentStrictSendResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PathPaymentStrictSendResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case PATH_PAYMENT_STRICT_SEND_SUCCESS:
+        writer.value("success");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_MALFORMED:
+        writer.value("malformed");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST:
+        writer.value("src_no_trust");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED:
+        writer.value("src_not_authorized");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_DESTINATION:
+        writer.value("no_destination");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_ISSUER:
+        writer.value("no_issuer");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS:
+        writer.value("too_few_offers");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF:
+        writer.value("offer_cross_self");
+        break;
+      case PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN:
+        writer.value("under_destmin");
+        break;
+    }
+  }
+
+  public static PathPaymentStrictSendResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return PATH_PAYMENT_STRICT_SEND_SUCCESS;
+      case "malformed":
+        return PATH_PAYMENT_STRICT_SEND_MALFORMED;
+      case "underfunded":
+        return PATH_PAYMENT_STRICT_SEND_UNDERFUNDED;
+      case "src_no_trust":
+        return PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST;
+      case "src_not_authorized":
+        return PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED;
+      case "no_destination":
+        return PATH_PAYMENT_STRICT_SEND_NO_DESTINATION;
+      case "no_trust":
+        return PATH_PAYMENT_STRICT_SEND_NO_TRUST;
+      case "not_authorized":
+        return PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED;
+      case "line_full":
+        return PATH_PAYMENT_STRICT_SEND_LINE_FULL;
+      case "no_issuer":
+        return PATH_PAYMENT_STRICT_SEND_NO_ISSUER;
+      case "too_few_offers":
+        return PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS;
+      case "offer_cross_self":
+        return PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF;
+      case "under_destmin":
+        return PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN;
+      default:
+        throw new IOException("Unknown PathPaymentStrictSendResultCode value: " + value);
+    }
+  }
+
+  public static PathPaymentStrictSendResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PaymentOp's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class PaymentOp implements XdrElement {
     amount.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += destination.encodedSize();
+    size += asset.encodedSize();
+    size += amount.encodedSize();
+    return size;
+  }
+
   public static PaymentOp decode(XdrDataInputStream stream) throws IOException {
     PaymentOp decodedPaymentOp = new PaymentOp();
     decodedPaymentOp.destination = MuxedAccount.decode(stream);
@@ -46,14 +54,67 @@ public class PaymentOp implements XdrElement {
     return decodedPaymentOp;
   }
 
+  public static PaymentOp decodeInto(PaymentOp existing, XdrDataInputStream stream)
+      throws IOException {
+    PaymentOp decodedPaymentOp = existing != null ? existing : new PaymentOp();
+    decodedPaymentOp.destination = MuxedAccount.decodeInto(decodedPaymentOp.destination, stream);
+    decodedPaymentOp.asset = Asset.decodeInto(decodedPaymentOp.asset, stream);
+    decodedPaymentOp.amount = Int64.decodeInto(decodedPaymentOp.amount, stream);
+    return decodedPaymentOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    MuxedAccount.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static PaymentOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PaymentOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("destination");
+    destination.toJson(writer);
+    writer.name("asset");
+    asset.toJson(writer);
+    writer.name("amount");
+    amount.toJson(writer);
+    writer.endObject();
+  }
+
+  public static PaymentOp fromJson(JsonReader reader) throws IOException {
+    PaymentOp decodedPaymentOp = new PaymentOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "destination":
+          decodedPaymentOp.destination = MuxedAccount.fromJson(reader);
+          break;
+        case "asset":
+          decodedPaymentOp.asset = Asset.fromJson(reader);
+          break;
+        case "amount":
+          decodedPaymentOp.amount = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown PaymentOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedPaymentOp;
+  }
+
+  public static PaymentOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PaymentResult's original definition in the XDR file is:
@@ -57,6 +57,26 @@ public class PaymentResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case PAYMENT_SUCCESS:
+        break;
+      case PAYMENT_MALFORMED:
+      case PAYMENT_UNDERFUNDED:
+      case PAYMENT_SRC_NO_TRUST:
+      case PAYMENT_SRC_NOT_AUTHORIZED:
+      case PAYMENT_NO_DESTINATION:
+      case PAYMENT_NO_TRUST:
+      case PAYMENT_NOT_AUTHORIZED:
+      case PAYMENT_LINE_FULL:
+      case PAYMENT_NO_ISSUER:
+        break;
+    }
+    return size;
+  }
+
   public static PaymentResult decode(XdrDataInputStream stream) throws IOException {
     PaymentResult decodedPaymentResult = new PaymentResult();
     PaymentResultCode discriminant = PaymentResultCode.decode(stream);
@@ -78,14 +98,138 @@ public class PaymentResult implements XdrElement {
     return decodedPaymentResult;
   }
 
+  public static PaymentResult decodeInto(PaymentResult existing, XdrDataInputStream stream)
+      throws IOException {
+    PaymentResultCode discriminant = PaymentResultCode.decode(stream);
+    PaymentResult decodedPaymentResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new PaymentResult();
+    decodedPaymentResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case PAYMENT_SUCCESS:
+        break;
+      case PAYMENT_MALFORMED:
+      case PAYMENT_UNDERFUNDED:
+      case PAYMENT_SRC_NO_TRUST:
+      case PAYMENT_SRC_NOT_AUTHORIZED:
+      case PAYMENT_NO_DESTINATION:
+      case PAYMENT_NO_TRUST:
+      case PAYMENT_NOT_AUTHORIZED:
+      case PAYMENT_LINE_FULL:
+      case PAYMENT_NO_ISSUER:
+        break;
+    }
+    return decodedPaymentResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PaymentResultCode discriminant = PaymentResultCode.decode(stream);
+    switch (discriminant) {
+      case PAYMENT_SUCCESS:
+        break;
+      case PAYMENT_MALFORMED:
+      case PAYMENT_UNDERFUNDED:
+      case PAYMENT_SRC_NO_TRUST:
+      case PAYMENT_SRC_NOT_AUTHORIZED:
+      case PAYMENT_NO_DESTINATION:
+      case PAYMENT_NO_TRUST:
+      case PAYMENT_NOT_AUTHORIZED:
+      case PAYMENT_LINE_FULL:
+      case PAYMENT_NO_ISSUER:
+        break;
+      default:
+        throw new IOException("Unknown PaymentResult discriminant: " + discriminant);
+    }
+  }
+
   public static PaymentResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PaymentResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case PAYMENT_SUCCESS:
+        writer.value("success");
+        break;
+      case PAYMENT_MALFORMED:
+        writer.value("malformed");
+        break;
+      case PAYMENT_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case PAYMENT_SRC_NO_TRUST:
+        writer.value("src_no_trust");
+        break;
+      case PAYMENT_SRC_NOT_AUTHORIZED:
+        writer.value("src_not_authorized");
+        break;
+      case PAYMENT_NO_DESTINATION:
+        writer.value("no_destination");
+        break;
+      case PAYMENT_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case PAYMENT_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+      case PAYMENT_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case PAYMENT_NO_ISSUER:
+        writer.value("no_issuer");
+        break;
+    }
+  }
+
+  public static PaymentResult fromJson(JsonReader reader) throws IOException {
+    PaymentResult decodedPaymentResult = new PaymentResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedPaymentResult.setDiscriminant(PaymentResultCode.PAYMENT_SUCCESS);
+        break;
+      case "malformed":
+        decodedPaymentResult.setDiscriminant(PaymentResultCode.PAYMENT_MALFORMED);
+        break;
+      case "underfunded":
+        decodedPaymentResult.setDiscriminant(PaymentResultCode.PAYMENT_UNDERFUNDED);
+        break;
+      case "src_no_trust":
+        decodedPaymentResult.setDiscriminant(PaymentResultCode.PAYMENT_SRC_NO_TRUST);
+        break;
+      case "src_not_authorized":
+        decodedPaymentResult.setDiscriminant(PaymentResultCode.PAYMENT_SRC_NOT_AUTHORIZED);
+        break;
+      case "no_destination":
+        decodedPaymentResult.setDiscriminant(PaymentResultCode.PAYMENT_NO_DESTINATION);
+        break;
+      case "no_trust":
+        decodedPaymentResult.setDiscriminant(PaymentResultCode.PAYMENT_NO_TRUST);
+        break;
+      case "not_authorized":
+        decodedPaymentResult.setDiscriminant(PaymentResultCode.PAYMENT_NOT_AUTHORIZED);
+        break;
+      case "line_full":
+        decodedPaymentResult.setDiscriminant(PaymentResultCode.PAYMENT_LINE_FULL);
+        break;
+      case "no_issuer":
+        decodedPaymentResult.setDiscriminant(PaymentResultCode.PAYMENT_NO_ISSUER);
+        break;
+      default:
+        throw new IOException("Unknown PaymentResult arm: " + key);
+    }
+    return decodedPaymentResult;
+  }
+
+  public static PaymentResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
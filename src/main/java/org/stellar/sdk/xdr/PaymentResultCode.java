@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PaymentResultCode's original definition in the XDR file is:
@@ -79,18 +79,93 @@ public enum PaymentResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static PaymentResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PaymentResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case PAYMENT_SUCCESS:
+        writer.value("success");
+        break;
+      case PAYMENT_MALFORMED:
+        writer.value("malformed");
+        break;
+      case PAYMENT_UNDERFUNDED:
+        writer.value("underfunded");
+        break;
+      case PAYMENT_SRC_NO_TRUST:
+        writer.value("src_no_trust");
+        break;
+      case PAYMENT_SRC_NOT_AUTHORIZED:
+        writer.value("src_not_authorized");
+        break;
+      case PAYMENT_NO_DESTINATION:
+        writer.value("no_destination");
+        break;
+      case PAYMENT_NO_TRUST:
+        writer.value("no_trust");
+        break;
+      case PAYMENT_NOT_AUTHORIZED:
+        writer.value("not_authorized");
+        break;
+      case PAYMENT_LINE_FULL:
+        writer.value("line_full");
+        break;
+      case PAYMENT_NO_ISSUER:
+        writer.value("no_issuer");
+        break;
+    }
+  }
+
+  public static PaymentResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return PAYMENT_SUCCESS;
+      case "malformed":
+        return PAYMENT_MALFORMED;
+      case "underfunded":
+        return PAYMENT_UNDERFUNDED;
+      case "src_no_trust":
+        return PAYMENT_SRC_NO_TRUST;
+      case "src_not_authorized":
+        return PAYMENT_SRC_NOT_AUTHORIZED;
+      case "no_destination":
+        return PAYMENT_NO_DESTINATION;
+      case "no_trust":
+        return PAYMENT_NO_TRUST;
+      case "not_authorized":
+        return PAYMENT_NOT_AUTHORIZED;
+      case "line_full":
+        return PAYMENT_LINE_FULL;
+      case "no_issuer":
+        return PAYMENT_NO_ISSUER;
+      default:
+        throw new IOException("Unknown PaymentResultCode value: " + value);
+    }
+  }
+
+  public static PaymentResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PeerAddress's original definition in the XDR file is:
@@ -45,6 +45,14 @@ public class PeerAddress implements XdrElement {
     numFailures.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ip.encodedSize();
+    size += port.encodedSize();
+    size += numFailures.encodedSize();
+    return size;
+  }
+
   public static PeerAddress decode(XdrDataInputStream stream) throws IOException {
     PeerAddress decodedPeerAddress = new PeerAddress();
     decodedPeerAddress.ip = PeerAddressIp.decode(stream);
@@ -53,17 +61,70 @@ public class PeerAddress implements XdrElement {
     return decodedPeerAddress;
   }
 
+  public static PeerAddress decodeInto(PeerAddress existing, XdrDataInputStream stream)
+      throws IOException {
+    PeerAddress decodedPeerAddress = existing != null ? existing : new PeerAddress();
+    decodedPeerAddress.ip = PeerAddressIp.decodeInto(decodedPeerAddress.ip, stream);
+    decodedPeerAddress.port = Uint32.decodeInto(decodedPeerAddress.port, stream);
+    decodedPeerAddress.numFailures = Uint32.decodeInto(decodedPeerAddress.numFailures, stream);
+    return decodedPeerAddress;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PeerAddressIp.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static PeerAddress fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PeerAddress fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ip");
+    ip.toJson(writer);
+    writer.name("port");
+    port.toJson(writer);
+    writer.name("num_failures");
+    numFailures.toJson(writer);
+    writer.endObject();
+  }
+
+  public static PeerAddress fromJson(JsonReader reader) throws IOException {
+    PeerAddress decodedPeerAddress = new PeerAddress();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ip":
+          decodedPeerAddress.ip = PeerAddressIp.fromJson(reader);
+          break;
+        case "port":
+          decodedPeerAddress.port = Uint32.fromJson(reader);
+          break;
+        case "num_failures":
+          decodedPeerAddress.numFailures = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown PeerAddress field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedPeerAddress;
+  }
+
+  public static PeerAddress fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * PeerAddressIp's original definition in the XDR file is:
    *
@@ -100,6 +161,22 @@ public class PeerAddress implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case IPv4:
+          int ipv4Size = ipv4.length;
+          size += XdrDataOutputStream.paddedSize(ipv4Size);
+          break;
+        case IPv6:
+          int ipv6Size = ipv6.length;
+          size += XdrDataOutputStream.paddedSize(ipv6Size);
+          break;
+      }
+      return size;
+    }
+
     public static PeerAddressIp decode(XdrDataInputStream stream) throws IOException {
       PeerAddressIp decodedPeerAddressIp = new PeerAddressIp();
       IPAddrType discriminant = IPAddrType.decode(stream);
@@ -119,15 +196,95 @@ public class PeerAddress implements XdrElement {
       return decodedPeerAddressIp;
     }
 
+    public static PeerAddressIp decodeInto(PeerAddressIp existing, XdrDataInputStream stream)
+        throws IOException {
+      IPAddrType discriminant = IPAddrType.decode(stream);
+      PeerAddressIp decodedPeerAddressIp =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new PeerAddressIp();
+      decodedPeerAddressIp.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case IPv4:
+          int ipv4Size = 4;
+          decodedPeerAddressIp.ipv4 = XdrRecycler.resize(decodedPeerAddressIp.ipv4, ipv4Size);
+          stream.read(decodedPeerAddressIp.ipv4, 0, ipv4Size);
+          break;
+        case IPv6:
+          int ipv6Size = 16;
+          decodedPeerAddressIp.ipv6 = XdrRecycler.resize(decodedPeerAddressIp.ipv6, ipv6Size);
+          stream.read(decodedPeerAddressIp.ipv6, 0, ipv6Size);
+          break;
+      }
+      return decodedPeerAddressIp;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      IPAddrType discriminant = IPAddrType.decode(stream);
+      switch (discriminant) {
+        case IPv4:
+          int ipv4Size = 4;
+          stream.skipOpaque(ipv4Size);
+          break;
+        case IPv6:
+          int ipv6Size = 16;
+          stream.skipOpaque(ipv6Size);
+          break;
+        default:
+          throw new IOException("Unknown PeerAddressIp discriminant: " + discriminant);
+      }
+    }
+
     public static PeerAddressIp fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static PeerAddressIp fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case IPv4:
+          writer.beginObject();
+          writer.name("i_pv4");
+          XdrJson.writeHex(writer, ipv4);
+          writer.endObject();
+          break;
+        case IPv6:
+          writer.beginObject();
+          writer.name("i_pv6");
+          XdrJson.writeHex(writer, ipv6);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static PeerAddressIp fromJson(JsonReader reader) throws IOException {
+      PeerAddressIp decodedPeerAddressIp = new PeerAddressIp();
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "i_pv4":
+          decodedPeerAddressIp.setDiscriminant(IPAddrType.IPv4);
+          decodedPeerAddressIp.ipv4 = XdrJson.readHex(reader, 4);
+          break;
+        case "i_pv6":
+          decodedPeerAddressIp.setDiscriminant(IPAddrType.IPv6);
+          decodedPeerAddressIp.ipv6 = XdrJson.readHex(reader, 16);
+          break;
+        default:
+          throw new IOException("Unknown PeerAddressIp arm: " + key);
+      }
+      reader.endObject();
+      return decodedPeerAddressIp;
+    }
+
+    public static PeerAddressIp fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PeerStats's original definition in the XDR file is:
@@ -76,6 +76,26 @@ public class PeerStats implements XdrElement {
     duplicateFetchMessageRecv.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += id.encodedSize();
+    size += versionStr.encodedSize();
+    size += messagesRead.encodedSize();
+    size += messagesWritten.encodedSize();
+    size += bytesRead.encodedSize();
+    size += bytesWritten.encodedSize();
+    size += secondsConnected.encodedSize();
+    size += uniqueFloodBytesRecv.encodedSize();
+    size += duplicateFloodBytesRecv.encodedSize();
+    size += uniqueFetchBytesRecv.encodedSize();
+    size += duplicateFetchBytesRecv.encodedSize();
+    size += uniqueFloodMessageRecv.encodedSize();
+    size += duplicateFloodMessageRecv.encodedSize();
+    size += uniqueFetchMessageRecv.encodedSize();
+    size += duplicateFetchMessageRecv.encodedSize();
+    return size;
+  }
+
   public static PeerStats decode(XdrDataInputStream stream) throws IOException {
     PeerStats decodedPeerStats = new PeerStats();
     decodedPeerStats.id = NodeID.decode(stream);
@@ -96,14 +116,160 @@ public class PeerStats implements XdrElement {
     return decodedPeerStats;
   }
 
+  public static PeerStats decodeInto(PeerStats existing, XdrDataInputStream stream)
+      throws IOException {
+    PeerStats decodedPeerStats = existing != null ? existing : new PeerStats();
+    decodedPeerStats.id = NodeID.decodeInto(decodedPeerStats.id, stream);
+    decodedPeerStats.versionStr = XdrString.decode(stream, 100);
+    decodedPeerStats.messagesRead = Uint64.decodeInto(decodedPeerStats.messagesRead, stream);
+    decodedPeerStats.messagesWritten = Uint64.decodeInto(decodedPeerStats.messagesWritten, stream);
+    decodedPeerStats.bytesRead = Uint64.decodeInto(decodedPeerStats.bytesRead, stream);
+    decodedPeerStats.bytesWritten = Uint64.decodeInto(decodedPeerStats.bytesWritten, stream);
+    decodedPeerStats.secondsConnected =
+        Uint64.decodeInto(decodedPeerStats.secondsConnected, stream);
+    decodedPeerStats.uniqueFloodBytesRecv =
+        Uint64.decodeInto(decodedPeerStats.uniqueFloodBytesRecv, stream);
+    decodedPeerStats.duplicateFloodBytesRecv =
+        Uint64.decodeInto(decodedPeerStats.duplicateFloodBytesRecv, stream);
+    decodedPeerStats.uniqueFetchBytesRecv =
+        Uint64.decodeInto(decodedPeerStats.uniqueFetchBytesRecv, stream);
+    decodedPeerStats.duplicateFetchBytesRecv =
+        Uint64.decodeInto(decodedPeerStats.duplicateFetchBytesRecv, stream);
+    decodedPeerStats.uniqueFloodMessageRecv =
+        Uint64.decodeInto(decodedPeerStats.uniqueFloodMessageRecv, stream);
+    decodedPeerStats.duplicateFloodMessageRecv =
+        Uint64.decodeInto(decodedPeerStats.duplicateFloodMessageRecv, stream);
+    decodedPeerStats.uniqueFetchMessageRecv =
+        Uint64.decodeInto(decodedPeerStats.uniqueFetchMessageRecv, stream);
+    decodedPeerStats.duplicateFetchMessageRecv =
+        Uint64.decodeInto(decodedPeerStats.duplicateFetchMessageRecv, stream);
+    return decodedPeerStats;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    NodeID.skip(stream);
+    XdrString.skip(stream, 100);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+  }
+
   public static PeerStats fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PeerStats fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("id");
+    id.toJson(writer);
+    writer.name("version_str");
+    versionStr.toJson(writer);
+    writer.name("messages_read");
+    messagesRead.toJson(writer);
+    writer.name("messages_written");
+    messagesWritten.toJson(writer);
+    writer.name("bytes_read");
+    bytesRead.toJson(writer);
+    writer.name("bytes_written");
+    bytesWritten.toJson(writer);
+    writer.name("seconds_connected");
+    secondsConnected.toJson(writer);
+    writer.name("unique_flood_bytes_recv");
+    uniqueFloodBytesRecv.toJson(writer);
+    writer.name("duplicate_flood_bytes_recv");
+    duplicateFloodBytesRecv.toJson(writer);
+    writer.name("unique_fetch_bytes_recv");
+    uniqueFetchBytesRecv.toJson(writer);
+    writer.name("duplicate_fetch_bytes_recv");
+    duplicateFetchBytesRecv.toJson(writer);
+    writer.name("unique_flood_message_recv");
+    uniqueFloodMessageRecv.toJson(writer);
+    writer.name("duplicate_flood_message_recv");
+    duplicateFloodMessageRecv.toJson(writer);
+    writer.name("unique_fetch_message_recv");
+    uniqueFetchMessageRecv.toJson(writer);
+    writer.name("duplicate_fetch_message_recv");
+    duplicateFetchMessageRecv.toJson(writer);
+    writer.endObject();
+  }
+
+  public static PeerStats fromJson(JsonReader reader) throws IOException {
+    PeerStats decodedPeerStats = new PeerStats();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "id":
+          decodedPeerStats.id = NodeID.fromJson(reader);
+          break;
+        case "version_str":
+          decodedPeerStats.versionStr = XdrString.fromJson(reader);
+          break;
+        case "messages_read":
+          decodedPeerStats.messagesRead = Uint64.fromJson(reader);
+          break;
+        case "messages_written":
+          decodedPeerStats.messagesWritten = Uint64.fromJson(reader);
+          break;
+        case "bytes_read":
+          decodedPeerStats.bytesRead = Uint64.fromJson(reader);
+          break;
+        case "bytes_written":
+          decodedPeerStats.bytesWritten = Uint64.fromJson(reader);
+          break;
+        case "seconds_connected":
+          decodedPeerStats.secondsConnected = Uint64.fromJson(reader);
+          break;
+        case "unique_flood_bytes_recv":
+          decodedPeerStats.uniqueFloodBytesRecv = Uint64.fromJson(reader);
+          break;
+        case "duplicate_flood_bytes_recv":
+          decodedPeerStats.duplicateFloodBytesRecv = Uint64.fromJson(reader);
+          break;
+        case "unique_fetch_bytes_recv":
+          decodedPeerStats.uniqueFetchBytesRecv = Uint64.fromJson(reader);
+          break;
+        case "duplicate_fetch_bytes_recv":
+          decodedPeerStats.duplicateFetchBytesRecv = Uint64.fromJson(reader);
+          break;
+        case "unique_flood_message_recv":
+          decodedPeerStats.uniqueFloodMessageRecv = Uint64.fromJson(reader);
+          break;
+        case "duplicate_flood_message_recv":
+          decodedPeerStats.duplicateFloodMessageRecv = Uint64.fromJson(reader);
+          break;
+        case "unique_fetch_message_recv":
+          decodedPeerStats.uniqueFetchMessageRecv = Uint64.fromJson(reader);
+          break;
+        case "duplicate_fetch_message_recv":
+          decodedPeerStats.duplicateFetchMessageRecv = Uint64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown PeerStats field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedPeerStats;
+  }
+
+  public static PeerStats fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
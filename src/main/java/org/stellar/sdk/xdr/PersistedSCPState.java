@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PersistedSCPState's original definition in the XDR file is:
@@ -45,6 +45,20 @@ public class PersistedSCPState implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case 0:
+        size += v0.encodedSize();
+        break;
+      case 1:
+        size += v1.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static PersistedSCPState decode(XdrDataInputStream stream) throws IOException {
     PersistedSCPState decodedPersistedSCPState = new PersistedSCPState();
     Integer discriminant = stream.readInt();
@@ -60,14 +74,90 @@ public class PersistedSCPState implements XdrElement {
     return decodedPersistedSCPState;
   }
 
+  public static PersistedSCPState decodeInto(PersistedSCPState existing, XdrDataInputStream stream)
+      throws IOException {
+    Integer discriminant = stream.readInt();
+    PersistedSCPState decodedPersistedSCPState =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new PersistedSCPState();
+    decodedPersistedSCPState.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        decodedPersistedSCPState.v0 =
+            PersistedSCPStateV0.decodeInto(decodedPersistedSCPState.v0, stream);
+        break;
+      case 1:
+        decodedPersistedSCPState.v1 =
+            PersistedSCPStateV1.decodeInto(decodedPersistedSCPState.v1, stream);
+        break;
+    }
+    return decodedPersistedSCPState;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        PersistedSCPStateV0.skip(stream);
+        break;
+      case 1:
+        PersistedSCPStateV1.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown PersistedSCPState discriminant: " + discriminant);
+    }
+  }
+
   public static PersistedSCPState fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PersistedSCPState fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case 0:
+        writer.beginObject();
+        writer.name("v0");
+        v0.toJson(writer);
+        writer.endObject();
+        break;
+      case 1:
+        writer.beginObject();
+        writer.name("v1");
+        v1.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static PersistedSCPState fromJson(JsonReader reader) throws IOException {
+    PersistedSCPState decodedPersistedSCPState = new PersistedSCPState();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v0":
+        decodedPersistedSCPState.setDiscriminant(0);
+        decodedPersistedSCPState.v0 = PersistedSCPStateV0.fromJson(reader);
+        break;
+      case "v1":
+        decodedPersistedSCPState.setDiscriminant(1);
+        decodedPersistedSCPState.v1 = PersistedSCPStateV1.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown PersistedSCPState arm: " + key);
+    }
+    reader.endObject();
+    return decodedPersistedSCPState;
+  }
+
+  public static PersistedSCPState fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
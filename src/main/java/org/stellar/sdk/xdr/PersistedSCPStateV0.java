@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PersistedSCPStateV0's original definition in the XDR file is:
@@ -50,19 +50,39 @@ public class PersistedSCPStateV0 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int scpEnvelopesSize = getScpEnvelopes().length;
+    size += 4;
+    for (int i = 0; i < scpEnvelopesSize; i++) {
+      size += scpEnvelopes[i].encodedSize();
+    }
+    int quorumSetsSize = getQuorumSets().length;
+    size += 4;
+    for (int i = 0; i < quorumSetsSize; i++) {
+      size += quorumSets[i].encodedSize();
+    }
+    int txSetsSize = getTxSets().length;
+    size += 4;
+    for (int i = 0; i < txSetsSize; i++) {
+      size += txSets[i].encodedSize();
+    }
+    return size;
+  }
+
   public static PersistedSCPStateV0 decode(XdrDataInputStream stream) throws IOException {
     PersistedSCPStateV0 decodedPersistedSCPStateV0 = new PersistedSCPStateV0();
-    int scpEnvelopesSize = stream.readInt();
+    int scpEnvelopesSize = stream.readLength(4);
     decodedPersistedSCPStateV0.scpEnvelopes = new SCPEnvelope[scpEnvelopesSize];
     for (int i = 0; i < scpEnvelopesSize; i++) {
       decodedPersistedSCPStateV0.scpEnvelopes[i] = SCPEnvelope.decode(stream);
     }
-    int quorumSetsSize = stream.readInt();
+    int quorumSetsSize = stream.readLength(4);
     decodedPersistedSCPStateV0.quorumSets = new SCPQuorumSet[quorumSetsSize];
     for (int i = 0; i < quorumSetsSize; i++) {
       decodedPersistedSCPStateV0.quorumSets[i] = SCPQuorumSet.decode(stream);
     }
-    int txSetsSize = stream.readInt();
+    int txSetsSize = stream.readLength(4);
     decodedPersistedSCPStateV0.txSets = new StoredTransactionSet[txSetsSize];
     for (int i = 0; i < txSetsSize; i++) {
       decodedPersistedSCPStateV0.txSets[i] = StoredTransactionSet.decode(stream);
@@ -70,14 +90,102 @@ public class PersistedSCPStateV0 implements XdrElement {
     return decodedPersistedSCPStateV0;
   }
 
+  public static PersistedSCPStateV0 decodeInto(
+      PersistedSCPStateV0 existing, XdrDataInputStream stream) throws IOException {
+    PersistedSCPStateV0 decodedPersistedSCPStateV0 =
+        existing != null ? existing : new PersistedSCPStateV0();
+    int scpEnvelopesSize = stream.readLength(4);
+    decodedPersistedSCPStateV0.scpEnvelopes =
+        XdrRecycler.resize(
+            decodedPersistedSCPStateV0.scpEnvelopes, scpEnvelopesSize, SCPEnvelope[]::new);
+    for (int i = 0; i < scpEnvelopesSize; i++) {
+      decodedPersistedSCPStateV0.scpEnvelopes[i] =
+          SCPEnvelope.decodeInto(decodedPersistedSCPStateV0.scpEnvelopes[i], stream);
+    }
+    int quorumSetsSize = stream.readLength(4);
+    decodedPersistedSCPStateV0.quorumSets =
+        XdrRecycler.resize(
+            decodedPersistedSCPStateV0.quorumSets, quorumSetsSize, SCPQuorumSet[]::new);
+    for (int i = 0; i < quorumSetsSize; i++) {
+      decodedPersistedSCPStateV0.quorumSets[i] =
+          SCPQuorumSet.decodeInto(decodedPersistedSCPStateV0.quorumSets[i], stream);
+    }
+    int txSetsSize = stream.readLength(4);
+    decodedPersistedSCPStateV0.txSets =
+        XdrRecycler.resize(
+            decodedPersistedSCPStateV0.txSets, txSetsSize, StoredTransactionSet[]::new);
+    for (int i = 0; i < txSetsSize; i++) {
+      decodedPersistedSCPStateV0.txSets[i] =
+          StoredTransactionSet.decodeInto(decodedPersistedSCPStateV0.txSets[i], stream);
+    }
+    return decodedPersistedSCPStateV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int scpEnvelopesSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < scpEnvelopesSize; i++) {
+      SCPEnvelope.skip(stream);
+    }
+    int quorumSetsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < quorumSetsSize; i++) {
+      SCPQuorumSet.skip(stream);
+    }
+    int txSetsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < txSetsSize; i++) {
+      StoredTransactionSet.skip(stream);
+    }
+  }
+
   public static PersistedSCPStateV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PersistedSCPStateV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("scp_envelopes");
+    XdrJson.writeArray(writer, scpEnvelopes);
+    writer.name("quorum_sets");
+    XdrJson.writeArray(writer, quorumSets);
+    writer.name("tx_sets");
+    XdrJson.writeArray(writer, txSets);
+    writer.endObject();
+  }
+
+  public static PersistedSCPStateV0 fromJson(JsonReader reader) throws IOException {
+    PersistedSCPStateV0 decodedPersistedSCPStateV0 = new PersistedSCPStateV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "scp_envelopes":
+          decodedPersistedSCPStateV0.scpEnvelopes =
+              XdrJson.readArray(reader, SCPEnvelope[]::new, SCPEnvelope::fromJson);
+          break;
+        case "quorum_sets":
+          decodedPersistedSCPStateV0.quorumSets =
+              XdrJson.readArray(reader, SCPQuorumSet[]::new, SCPQuorumSet::fromJson);
+          break;
+        case "tx_sets":
+          decodedPersistedSCPStateV0.txSets =
+              XdrJson.readArray(
+                  reader, StoredTransactionSet[]::new, StoredTransactionSet::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown PersistedSCPStateV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedPersistedSCPStateV0;
+  }
+
+  public static PersistedSCPStateV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
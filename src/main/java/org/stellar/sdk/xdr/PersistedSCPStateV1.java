@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PersistedSCPStateV1's original definition in the XDR file is:
@@ -44,14 +44,29 @@ public class PersistedSCPStateV1 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int scpEnvelopesSize = getScpEnvelopes().length;
+    size += 4;
+    for (int i = 0; i < scpEnvelopesSize; i++) {
+      size += scpEnvelopes[i].encodedSize();
+    }
+    int quorumSetsSize = getQuorumSets().length;
+    size += 4;
+    for (int i = 0; i < quorumSetsSize; i++) {
+      size += quorumSets[i].encodedSize();
+    }
+    return size;
+  }
+
   public static PersistedSCPStateV1 decode(XdrDataInputStream stream) throws IOException {
     PersistedSCPStateV1 decodedPersistedSCPStateV1 = new PersistedSCPStateV1();
-    int scpEnvelopesSize = stream.readInt();
+    int scpEnvelopesSize = stream.readLength(4);
     decodedPersistedSCPStateV1.scpEnvelopes = new SCPEnvelope[scpEnvelopesSize];
     for (int i = 0; i < scpEnvelopesSize; i++) {
       decodedPersistedSCPStateV1.scpEnvelopes[i] = SCPEnvelope.decode(stream);
     }
-    int quorumSetsSize = stream.readInt();
+    int quorumSetsSize = stream.readLength(4);
     decodedPersistedSCPStateV1.quorumSets = new SCPQuorumSet[quorumSetsSize];
     for (int i = 0; i < quorumSetsSize; i++) {
       decodedPersistedSCPStateV1.quorumSets[i] = SCPQuorumSet.decode(stream);
@@ -59,14 +74,83 @@ public class PersistedSCPStateV1 implements XdrElement {
     return decodedPersistedSCPStateV1;
   }
 
+  public static PersistedSCPStateV1 decodeInto(
+      PersistedSCPStateV1 existing, XdrDataInputStream stream) throws IOException {
+    PersistedSCPStateV1 decodedPersistedSCPStateV1 =
+        existing != null ? existing : new PersistedSCPStateV1();
+    int scpEnvelopesSize = stream.readLength(4);
+    decodedPersistedSCPStateV1.scpEnvelopes =
+        XdrRecycler.resize(
+            decodedPersistedSCPStateV1.scpEnvelopes, scpEnvelopesSize, SCPEnvelope[]::new);
+    for (int i = 0; i < scpEnvelopesSize; i++) {
+      decodedPersistedSCPStateV1.scpEnvelopes[i] =
+          SCPEnvelope.decodeInto(decodedPersistedSCPStateV1.scpEnvelopes[i], stream);
+    }
+    int quorumSetsSize = stream.readLength(4);
+    decodedPersistedSCPStateV1.quorumSets =
+        XdrRecycler.resize(
+            decodedPersistedSCPStateV1.quorumSets, quorumSetsSize, SCPQuorumSet[]::new);
+    for (int i = 0; i < quorumSetsSize; i++) {
+      decodedPersistedSCPStateV1.quorumSets[i] =
+          SCPQuorumSet.decodeInto(decodedPersistedSCPStateV1.quorumSets[i], stream);
+    }
+    return decodedPersistedSCPStateV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int scpEnvelopesSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < scpEnvelopesSize; i++) {
+      SCPEnvelope.skip(stream);
+    }
+    int quorumSetsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < quorumSetsSize; i++) {
+      SCPQuorumSet.skip(stream);
+    }
+  }
+
   public static PersistedSCPStateV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PersistedSCPStateV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("scp_envelopes");
+    XdrJson.writeArray(writer, scpEnvelopes);
+    writer.name("quorum_sets");
+    XdrJson.writeArray(writer, quorumSets);
+    writer.endObject();
+  }
+
+  public static PersistedSCPStateV1 fromJson(JsonReader reader) throws IOException {
+    PersistedSCPStateV1 decodedPersistedSCPStateV1 = new PersistedSCPStateV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "scp_envelopes":
+          decodedPersistedSCPStateV1.scpEnvelopes =
+              XdrJson.readArray(reader, SCPEnvelope[]::new, SCPEnvelope::fromJson);
+          break;
+        case "quorum_sets":
+          decodedPersistedSCPStateV1.quorumSets =
+              XdrJson.readArray(reader, SCPQuorumSet[]::new, SCPQuorumSet::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown PersistedSCPStateV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedPersistedSCPStateV1;
+  }
+
+  public static PersistedSCPStateV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
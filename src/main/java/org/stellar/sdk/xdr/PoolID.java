@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PoolID's original definition in the XDR file is:
@@ -27,20 +27,46 @@ public class PoolID implements XdrElement {
     PoolID.encode(stream);
   }
 
+  public int encodedSize() {
+    return PoolID.encodedSize();
+  }
+
   public static PoolID decode(XdrDataInputStream stream) throws IOException {
     PoolID decodedPoolID = new PoolID();
     decodedPoolID.PoolID = Hash.decode(stream);
     return decodedPoolID;
   }
 
+  public static PoolID decodeInto(PoolID existing, XdrDataInputStream stream) throws IOException {
+    PoolID decodedPoolID = existing != null ? existing : new PoolID();
+    decodedPoolID.PoolID = Hash.decodeInto(decodedPoolID.PoolID, stream);
+    return decodedPoolID;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+  }
+
   public static PoolID fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PoolID fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.value(XdrJson.encodePoolId(this));
+  }
+
+  public static PoolID fromJson(JsonReader reader) throws IOException {
+    return XdrJson.decodePoolId(reader.nextString());
+  }
+
+  public static PoolID fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
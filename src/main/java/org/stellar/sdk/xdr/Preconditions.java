@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Preconditions's original definition in the XDR file is:
@@ -49,6 +50,22 @@ public class Preconditions implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case PRECOND_NONE:
+        break;
+      case PRECOND_TIME:
+        size += timeBounds.encodedSize();
+        break;
+      case PRECOND_V2:
+        size += v2.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static Preconditions decode(XdrDataInputStream stream) throws IOException {
     Preconditions decodedPreconditions = new Preconditions();
     PreconditionType discriminant = PreconditionType.decode(stream);
@@ -66,14 +83,107 @@ public class Preconditions implements XdrElement {
     return decodedPreconditions;
   }
 
+  public static Preconditions decodeInto(Preconditions existing, XdrDataInputStream stream)
+      throws IOException {
+    PreconditionType discriminant = PreconditionType.decode(stream);
+    Preconditions decodedPreconditions =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new Preconditions();
+    decodedPreconditions.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case PRECOND_NONE:
+        break;
+      case PRECOND_TIME:
+        decodedPreconditions.timeBounds =
+            TimeBounds.decodeInto(decodedPreconditions.timeBounds, stream);
+        break;
+      case PRECOND_V2:
+        decodedPreconditions.v2 = PreconditionsV2.decodeInto(decodedPreconditions.v2, stream);
+        break;
+    }
+    return decodedPreconditions;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PreconditionType discriminant = PreconditionType.decode(stream);
+    switch (discriminant) {
+      case PRECOND_NONE:
+        break;
+      case PRECOND_TIME:
+        TimeBounds.skip(stream);
+        break;
+      case PRECOND_V2:
+        PreconditionsV2.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown Preconditions discriminant: " + discriminant);
+    }
+  }
+
   public static Preconditions fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Preconditions fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case PRECOND_NONE:
+        writer.value("none");
+        break;
+      case PRECOND_TIME:
+        writer.beginObject();
+        writer.name("time");
+        timeBounds.toJson(writer);
+        writer.endObject();
+        break;
+      case PRECOND_V2:
+        writer.beginObject();
+        writer.name("v2");
+        v2.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static Preconditions fromJson(JsonReader reader) throws IOException {
+    Preconditions decodedPreconditions = new Preconditions();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "none":
+          decodedPreconditions.setDiscriminant(PreconditionType.PRECOND_NONE);
+          break;
+        default:
+          throw new IOException("Unknown Preconditions arm: " + key);
+      }
+      return decodedPreconditions;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "time":
+        decodedPreconditions.setDiscriminant(PreconditionType.PRECOND_TIME);
+        decodedPreconditions.timeBounds = TimeBounds.fromJson(reader);
+        break;
+      case "v2":
+        decodedPreconditions.setDiscriminant(PreconditionType.PRECOND_V2);
+        decodedPreconditions.v2 = PreconditionsV2.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown Preconditions arm: " + key);
+    }
+    reader.endObject();
+    return decodedPreconditions;
+  }
+
+  public static Preconditions fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
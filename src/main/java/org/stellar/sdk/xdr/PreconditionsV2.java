@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PreconditionsV2's original definition in the XDR file is:
@@ -89,6 +89,36 @@ public class PreconditionsV2 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    if (timeBounds != null) {
+      size += 4;
+      size += timeBounds.encodedSize();
+    } else {
+      size += 4;
+    }
+    if (ledgerBounds != null) {
+      size += 4;
+      size += ledgerBounds.encodedSize();
+    } else {
+      size += 4;
+    }
+    if (minSeqNum != null) {
+      size += 4;
+      size += minSeqNum.encodedSize();
+    } else {
+      size += 4;
+    }
+    size += minSeqAge.encodedSize();
+    size += minSeqLedgerGap.encodedSize();
+    int extraSignersSize = getExtraSigners().length;
+    size += 4;
+    for (int i = 0; i < extraSignersSize; i++) {
+      size += extraSigners[i].encodedSize();
+    }
+    return size;
+  }
+
   public static PreconditionsV2 decode(XdrDataInputStream stream) throws IOException {
     PreconditionsV2 decodedPreconditionsV2 = new PreconditionsV2();
     int timeBoundsPresent = stream.readInt();
@@ -105,7 +135,7 @@ public class PreconditionsV2 implements XdrElement {
     }
     decodedPreconditionsV2.minSeqAge = Duration.decode(stream);
     decodedPreconditionsV2.minSeqLedgerGap = Uint32.decode(stream);
-    int extraSignersSize = stream.readInt();
+    int extraSignersSize = stream.readLength(4);
     decodedPreconditionsV2.extraSigners = new SignerKey[extraSignersSize];
     for (int i = 0; i < extraSignersSize; i++) {
       decodedPreconditionsV2.extraSigners[i] = SignerKey.decode(stream);
@@ -113,14 +143,125 @@ public class PreconditionsV2 implements XdrElement {
     return decodedPreconditionsV2;
   }
 
+  public static PreconditionsV2 decodeInto(PreconditionsV2 existing, XdrDataInputStream stream)
+      throws IOException {
+    PreconditionsV2 decodedPreconditionsV2 = existing != null ? existing : new PreconditionsV2();
+    int timeBoundsPresent = stream.readInt();
+    if (timeBoundsPresent != 0) {
+      decodedPreconditionsV2.timeBounds =
+          TimeBounds.decodeInto(decodedPreconditionsV2.timeBounds, stream);
+    } else {
+      decodedPreconditionsV2.timeBounds = null;
+    }
+    int ledgerBoundsPresent = stream.readInt();
+    if (ledgerBoundsPresent != 0) {
+      decodedPreconditionsV2.ledgerBounds =
+          LedgerBounds.decodeInto(decodedPreconditionsV2.ledgerBounds, stream);
+    } else {
+      decodedPreconditionsV2.ledgerBounds = null;
+    }
+    int minSeqNumPresent = stream.readInt();
+    if (minSeqNumPresent != 0) {
+      decodedPreconditionsV2.minSeqNum =
+          SequenceNumber.decodeInto(decodedPreconditionsV2.minSeqNum, stream);
+    } else {
+      decodedPreconditionsV2.minSeqNum = null;
+    }
+    decodedPreconditionsV2.minSeqAge =
+        Duration.decodeInto(decodedPreconditionsV2.minSeqAge, stream);
+    decodedPreconditionsV2.minSeqLedgerGap =
+        Uint32.decodeInto(decodedPreconditionsV2.minSeqLedgerGap, stream);
+    int extraSignersSize = stream.readLength(4);
+    decodedPreconditionsV2.extraSigners =
+        XdrRecycler.resize(decodedPreconditionsV2.extraSigners, extraSignersSize, SignerKey[]::new);
+    for (int i = 0; i < extraSignersSize; i++) {
+      decodedPreconditionsV2.extraSigners[i] =
+          SignerKey.decodeInto(decodedPreconditionsV2.extraSigners[i], stream);
+    }
+    return decodedPreconditionsV2;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    if (stream.readXdrBoolean()) {
+      TimeBounds.skip(stream);
+    }
+    if (stream.readXdrBoolean()) {
+      LedgerBounds.skip(stream);
+    }
+    if (stream.readXdrBoolean()) {
+      SequenceNumber.skip(stream);
+    }
+    Duration.skip(stream);
+    Uint32.skip(stream);
+    int extraSignersSize = stream.readLength(2, 4);
+    for (int i = 0; i < extraSignersSize; i++) {
+      SignerKey.skip(stream);
+    }
+  }
+
   public static PreconditionsV2 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PreconditionsV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("time_bounds");
+    XdrJson.writeOptional(writer, timeBounds);
+    writer.name("ledger_bounds");
+    XdrJson.writeOptional(writer, ledgerBounds);
+    writer.name("min_seq_num");
+    XdrJson.writeOptional(writer, minSeqNum);
+    writer.name("min_seq_age");
+    minSeqAge.toJson(writer);
+    writer.name("min_seq_ledger_gap");
+    minSeqLedgerGap.toJson(writer);
+    writer.name("extra_signers");
+    XdrJson.writeArray(writer, extraSigners);
+    writer.endObject();
+  }
+
+  public static PreconditionsV2 fromJson(JsonReader reader) throws IOException {
+    PreconditionsV2 decodedPreconditionsV2 = new PreconditionsV2();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "time_bounds":
+          decodedPreconditionsV2.timeBounds = XdrJson.readOptional(reader, TimeBounds::fromJson);
+          break;
+        case "ledger_bounds":
+          decodedPreconditionsV2.ledgerBounds =
+              XdrJson.readOptional(reader, LedgerBounds::fromJson);
+          break;
+        case "min_seq_num":
+          decodedPreconditionsV2.minSeqNum = XdrJson.readOptional(reader, SequenceNumber::fromJson);
+          break;
+        case "min_seq_age":
+          decodedPreconditionsV2.minSeqAge = Duration.fromJson(reader);
+          break;
+        case "min_seq_ledger_gap":
+          decodedPreconditionsV2.minSeqLedgerGap = Uint32.fromJson(reader);
+          break;
+        case "extra_signers":
+          decodedPreconditionsV2.extraSigners =
+              XdrJson.readArray(reader, SignerKey[]::new, SignerKey::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown PreconditionsV2 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedPreconditionsV2;
+  }
+
+  public static PreconditionsV2 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Price's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class Price implements XdrElement {
     d.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += n.encodedSize();
+    size += d.encodedSize();
+    return size;
+  }
+
   public static Price decode(XdrDataInputStream stream) throws IOException {
     Price decodedPrice = new Price();
     decodedPrice.n = Int32.decode(stream);
@@ -42,14 +49,59 @@ public class Price implements XdrElement {
     return decodedPrice;
   }
 
+  public static Price decodeInto(Price existing, XdrDataInputStream stream) throws IOException {
+    Price decodedPrice = existing != null ? existing : new Price();
+    decodedPrice.n = Int32.decodeInto(decodedPrice.n, stream);
+    decodedPrice.d = Int32.decodeInto(decodedPrice.d, stream);
+    return decodedPrice;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int32.skip(stream);
+    Int32.skip(stream);
+  }
+
   public static Price fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Price fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("n");
+    n.toJson(writer);
+    writer.name("d");
+    d.toJson(writer);
+    writer.endObject();
+  }
+
+  public static Price fromJson(JsonReader reader) throws IOException {
+    Price decodedPrice = new Price();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "n":
+          decodedPrice.n = Int32.fromJson(reader);
+          break;
+        case "d":
+          decodedPrice.d = Int32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown Price field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedPrice;
+  }
+
+  public static Price fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * PublicKey's original definition in the XDR file is:
@@ -39,7 +39,19 @@ public class PublicKey implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case PUBLIC_KEY_TYPE_ED25519:
+        size += ed25519.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static PublicKey decode(XdrDataInputStream stream) throws IOException {
+    int start = stream.getPosition();
     PublicKey decodedPublicKey = new PublicKey();
     PublicKeyType discriminant = PublicKeyType.decode(stream);
     decodedPublicKey.setDiscriminant(discriminant);
@@ -48,17 +60,57 @@ public class PublicKey implements XdrElement {
         decodedPublicKey.ed25519 = Uint256.decode(stream);
         break;
     }
+    return stream.intern(start, decodedPublicKey);
+  }
+
+  public static PublicKey decodeInto(PublicKey existing, XdrDataInputStream stream)
+      throws IOException {
+    if (stream.getInterner() != null) {
+      return decode(stream);
+    }
+    PublicKeyType discriminant = PublicKeyType.decode(stream);
+    PublicKey decodedPublicKey =
+        existing != null && discriminant.equals(existing.discriminant) ? existing : new PublicKey();
+    decodedPublicKey.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case PUBLIC_KEY_TYPE_ED25519:
+        decodedPublicKey.ed25519 = Uint256.decodeInto(decodedPublicKey.ed25519, stream);
+        break;
+    }
     return decodedPublicKey;
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PublicKeyType discriminant = PublicKeyType.decode(stream);
+    switch (discriminant) {
+      case PUBLIC_KEY_TYPE_ED25519:
+        Uint256.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown PublicKey discriminant: " + discriminant);
+    }
+  }
+
   public static PublicKey fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static PublicKey fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.value(XdrJson.encodePublicKey(this));
+  }
+
+  public static PublicKey fromJson(JsonReader reader) throws IOException {
+    return XdrJson.decodePublicKey(reader.nextString());
+  }
+
+  public static PublicKey fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * RestoreFootprintOp's original definition in the XDR file is:
@@ -32,20 +32,65 @@ public class RestoreFootprintOp implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    return ext.encodedSize();
+  }
+
   public static RestoreFootprintOp decode(XdrDataInputStream stream) throws IOException {
     RestoreFootprintOp decodedRestoreFootprintOp = new RestoreFootprintOp();
     decodedRestoreFootprintOp.ext = ExtensionPoint.decode(stream);
     return decodedRestoreFootprintOp;
   }
 
+  public static RestoreFootprintOp decodeInto(
+      RestoreFootprintOp existing, XdrDataInputStream stream) throws IOException {
+    RestoreFootprintOp decodedRestoreFootprintOp =
+        existing != null ? existing : new RestoreFootprintOp();
+    decodedRestoreFootprintOp.ext =
+        ExtensionPoint.decodeInto(decodedRestoreFootprintOp.ext, stream);
+    return decodedRestoreFootprintOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+  }
+
   public static RestoreFootprintOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static RestoreFootprintOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static RestoreFootprintOp fromJson(JsonReader reader) throws IOException {
+    RestoreFootprintOp decodedRestoreFootprintOp = new RestoreFootprintOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedRestoreFootprintOp.ext = ExtensionPoint.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown RestoreFootprintOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedRestoreFootprintOp;
+  }
+
+  public static RestoreFootprintOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
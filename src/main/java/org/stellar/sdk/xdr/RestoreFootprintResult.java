@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * RestoreFootprintResult's original definition in the XDR file is:
@@ -45,6 +45,20 @@ public class RestoreFootprintResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case RESTORE_FOOTPRINT_SUCCESS:
+        break;
+      case RESTORE_FOOTPRINT_MALFORMED:
+      case RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED:
+      case RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+    }
+    return size;
+  }
+
   public static RestoreFootprintResult decode(XdrDataInputStream stream) throws IOException {
     RestoreFootprintResult decodedRestoreFootprintResult = new RestoreFootprintResult();
     RestoreFootprintResultCode discriminant = RestoreFootprintResultCode.decode(stream);
@@ -60,14 +74,94 @@ public class RestoreFootprintResult implements XdrElement {
     return decodedRestoreFootprintResult;
   }
 
+  public static RestoreFootprintResult decodeInto(
+      RestoreFootprintResult existing, XdrDataInputStream stream) throws IOException {
+    RestoreFootprintResultCode discriminant = RestoreFootprintResultCode.decode(stream);
+    RestoreFootprintResult decodedRestoreFootprintResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new RestoreFootprintResult();
+    decodedRestoreFootprintResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case RESTORE_FOOTPRINT_SUCCESS:
+        break;
+      case RESTORE_FOOTPRINT_MALFORMED:
+      case RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED:
+      case RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+    }
+    return decodedRestoreFootprintResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    RestoreFootprintResultCode discriminant = RestoreFootprintResultCode.decode(stream);
+    switch (discriminant) {
+      case RESTORE_FOOTPRINT_SUCCESS:
+        break;
+      case RESTORE_FOOTPRINT_MALFORMED:
+      case RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED:
+      case RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown RestoreFootprintResult discriminant: " + discriminant);
+    }
+  }
+
   public static RestoreFootprintResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static RestoreFootprintResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case RESTORE_FOOTPRINT_SUCCESS:
+        writer.value("success");
+        break;
+      case RESTORE_FOOTPRINT_MALFORMED:
+        writer.value("malformed");
+        break;
+      case RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED:
+        writer.value("resource_limit_exceeded");
+        break;
+      case RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE:
+        writer.value("insufficient_refundable_fee");
+        break;
+    }
+  }
+
+  public static RestoreFootprintResult fromJson(JsonReader reader) throws IOException {
+    RestoreFootprintResult decodedRestoreFootprintResult = new RestoreFootprintResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedRestoreFootprintResult.setDiscriminant(
+            RestoreFootprintResultCode.RESTORE_FOOTPRINT_SUCCESS);
+        break;
+      case "malformed":
+        decodedRestoreFootprintResult.setDiscriminant(
+            RestoreFootprintResultCode.RESTORE_FOOTPRINT_MALFORMED);
+        break;
+      case "resource_limit_exceeded":
+        decodedRestoreFootprintResult.setDiscriminant(
+            RestoreFootprintResultCode.RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED);
+        break;
+      case "insufficient_refundable_fee":
+        decodedRestoreFootprintResult.setDiscriminant(
+            RestoreFootprintResultCode.RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE);
+        break;
+      default:
+        throw new IOException("Unknown RestoreFootprintResult arm: " + key);
+    }
+    return decodedRestoreFootprintResult;
+  }
+
+  public static RestoreFootprintResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
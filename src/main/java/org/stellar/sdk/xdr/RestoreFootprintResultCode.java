@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * RestoreFootprintResultCode's original definition in the XDR file is:
@@ -55,18 +55,63 @@ public enum RestoreFootprintResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static RestoreFootprintResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static RestoreFootprintResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case RESTORE_FOOTPRINT_SUCCESS:
+        writer.value("success");
+        break;
+      case RESTORE_FOOTPRINT_MALFORMED:
+        writer.value("malformed");
+        break;
+      case RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED:
+        writer.value("resource_limit_exceeded");
+        break;
+      case RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE:
+        writer.value("insufficient_refundable_fee");
+        break;
+    }
+  }
+
+  public static RestoreFootprintResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return RESTORE_FOOTPRINT_SUCCESS;
+      case "malformed":
+        return RESTORE_FOOTPRINT_MALFORMED;
+      case "resource_limit_exceeded":
+        return RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED;
+      case "insufficient_refundable_fee":
+        return RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE;
+      default:
+        throw new IOException("Unknown RestoreFootprintResultCode value: " + value);
+    }
+  }
+
+  public static RestoreFootprintResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * RevokeSponsorshipOp's original definition in the XDR file is:
@@ -49,6 +49,20 @@ public class RevokeSponsorshipOp implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_LEDGER_ENTRY:
+        size += ledgerKey.encodedSize();
+        break;
+      case REVOKE_SPONSORSHIP_SIGNER:
+        size += signer.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static RevokeSponsorshipOp decode(XdrDataInputStream stream) throws IOException {
     RevokeSponsorshipOp decodedRevokeSponsorshipOp = new RevokeSponsorshipOp();
     RevokeSponsorshipType discriminant = RevokeSponsorshipType.decode(stream);
@@ -64,17 +78,94 @@ public class RevokeSponsorshipOp implements XdrElement {
     return decodedRevokeSponsorshipOp;
   }
 
+  public static RevokeSponsorshipOp decodeInto(
+      RevokeSponsorshipOp existing, XdrDataInputStream stream) throws IOException {
+    RevokeSponsorshipType discriminant = RevokeSponsorshipType.decode(stream);
+    RevokeSponsorshipOp decodedRevokeSponsorshipOp =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new RevokeSponsorshipOp();
+    decodedRevokeSponsorshipOp.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_LEDGER_ENTRY:
+        decodedRevokeSponsorshipOp.ledgerKey =
+            LedgerKey.decodeInto(decodedRevokeSponsorshipOp.ledgerKey, stream);
+        break;
+      case REVOKE_SPONSORSHIP_SIGNER:
+        decodedRevokeSponsorshipOp.signer =
+            RevokeSponsorshipOpSigner.decodeInto(decodedRevokeSponsorshipOp.signer, stream);
+        break;
+    }
+    return decodedRevokeSponsorshipOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    RevokeSponsorshipType discriminant = RevokeSponsorshipType.decode(stream);
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_LEDGER_ENTRY:
+        LedgerKey.skip(stream);
+        break;
+      case REVOKE_SPONSORSHIP_SIGNER:
+        RevokeSponsorshipOpSigner.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown RevokeSponsorshipOp discriminant: " + discriminant);
+    }
+  }
+
   public static RevokeSponsorshipOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static RevokeSponsorshipOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_LEDGER_ENTRY:
+        writer.beginObject();
+        writer.name("ledger_entry");
+        ledgerKey.toJson(writer);
+        writer.endObject();
+        break;
+      case REVOKE_SPONSORSHIP_SIGNER:
+        writer.beginObject();
+        writer.name("signer");
+        signer.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static RevokeSponsorshipOp fromJson(JsonReader reader) throws IOException {
+    RevokeSponsorshipOp decodedRevokeSponsorshipOp = new RevokeSponsorshipOp();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "ledger_entry":
+        decodedRevokeSponsorshipOp.setDiscriminant(
+            RevokeSponsorshipType.REVOKE_SPONSORSHIP_LEDGER_ENTRY);
+        decodedRevokeSponsorshipOp.ledgerKey = LedgerKey.fromJson(reader);
+        break;
+      case "signer":
+        decodedRevokeSponsorshipOp.setDiscriminant(RevokeSponsorshipType.REVOKE_SPONSORSHIP_SIGNER);
+        decodedRevokeSponsorshipOp.signer = RevokeSponsorshipOpSigner.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown RevokeSponsorshipOp arm: " + key);
+    }
+    reader.endObject();
+    return decodedRevokeSponsorshipOp;
+  }
+
+  public static RevokeSponsorshipOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * RevokeSponsorshipOpSigner's original definition in the XDR file is:
    *
@@ -99,6 +190,13 @@ public class RevokeSponsorshipOp implements XdrElement {
       signerKey.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += accountID.encodedSize();
+      size += signerKey.encodedSize();
+      return size;
+    }
+
     public static RevokeSponsorshipOpSigner decode(XdrDataInputStream stream) throws IOException {
       RevokeSponsorshipOpSigner decodedRevokeSponsorshipOpSigner = new RevokeSponsorshipOpSigner();
       decodedRevokeSponsorshipOpSigner.accountID = AccountID.decode(stream);
@@ -106,15 +204,64 @@ public class RevokeSponsorshipOp implements XdrElement {
       return decodedRevokeSponsorshipOpSigner;
     }
 
+    public static RevokeSponsorshipOpSigner decodeInto(
+        RevokeSponsorshipOpSigner existing, XdrDataInputStream stream) throws IOException {
+      RevokeSponsorshipOpSigner decodedRevokeSponsorshipOpSigner =
+          existing != null ? existing : new RevokeSponsorshipOpSigner();
+      decodedRevokeSponsorshipOpSigner.accountID =
+          AccountID.decodeInto(decodedRevokeSponsorshipOpSigner.accountID, stream);
+      decodedRevokeSponsorshipOpSigner.signerKey =
+          SignerKey.decodeInto(decodedRevokeSponsorshipOpSigner.signerKey, stream);
+      return decodedRevokeSponsorshipOpSigner;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      AccountID.skip(stream);
+      SignerKey.skip(stream);
+    }
+
     public static RevokeSponsorshipOpSigner fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static RevokeSponsorshipOpSigner fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("account_id");
+      accountID.toJson(writer);
+      writer.name("signer_key");
+      signerKey.toJson(writer);
+      writer.endObject();
+    }
+
+    public static RevokeSponsorshipOpSigner fromJson(JsonReader reader) throws IOException {
+      RevokeSponsorshipOpSigner decodedRevokeSponsorshipOpSigner = new RevokeSponsorshipOpSigner();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "account_id":
+            decodedRevokeSponsorshipOpSigner.accountID = AccountID.fromJson(reader);
+            break;
+          case "signer_key":
+            decodedRevokeSponsorshipOpSigner.signerKey = SignerKey.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown RevokeSponsorshipOpSigner field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedRevokeSponsorshipOpSigner;
+    }
+
+    public static RevokeSponsorshipOpSigner fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * RevokeSponsorshipResult's original definition in the XDR file is:
@@ -49,6 +49,22 @@ public class RevokeSponsorshipResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_SUCCESS:
+        break;
+      case REVOKE_SPONSORSHIP_DOES_NOT_EXIST:
+      case REVOKE_SPONSORSHIP_NOT_SPONSOR:
+      case REVOKE_SPONSORSHIP_LOW_RESERVE:
+      case REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE:
+      case REVOKE_SPONSORSHIP_MALFORMED:
+        break;
+    }
+    return size;
+  }
+
   public static RevokeSponsorshipResult decode(XdrDataInputStream stream) throws IOException {
     RevokeSponsorshipResult decodedRevokeSponsorshipResult = new RevokeSponsorshipResult();
     RevokeSponsorshipResultCode discriminant = RevokeSponsorshipResultCode.decode(stream);
@@ -66,14 +82,112 @@ public class RevokeSponsorshipResult implements XdrElement {
     return decodedRevokeSponsorshipResult;
   }
 
+  public static RevokeSponsorshipResult decodeInto(
+      RevokeSponsorshipResult existing, XdrDataInputStream stream) throws IOException {
+    RevokeSponsorshipResultCode discriminant = RevokeSponsorshipResultCode.decode(stream);
+    RevokeSponsorshipResult decodedRevokeSponsorshipResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new RevokeSponsorshipResult();
+    decodedRevokeSponsorshipResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_SUCCESS:
+        break;
+      case REVOKE_SPONSORSHIP_DOES_NOT_EXIST:
+      case REVOKE_SPONSORSHIP_NOT_SPONSOR:
+      case REVOKE_SPONSORSHIP_LOW_RESERVE:
+      case REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE:
+      case REVOKE_SPONSORSHIP_MALFORMED:
+        break;
+    }
+    return decodedRevokeSponsorshipResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    RevokeSponsorshipResultCode discriminant = RevokeSponsorshipResultCode.decode(stream);
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_SUCCESS:
+        break;
+      case REVOKE_SPONSORSHIP_DOES_NOT_EXIST:
+      case REVOKE_SPONSORSHIP_NOT_SPONSOR:
+      case REVOKE_SPONSORSHIP_LOW_RESERVE:
+      case REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE:
+      case REVOKE_SPONSORSHIP_MALFORMED:
+        break;
+      default:
+        throw new IOException("Unknown RevokeSponsorshipResult discriminant: " + discriminant);
+    }
+  }
+
   public static RevokeSponsorshipResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static RevokeSponsorshipResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_SUCCESS:
+        writer.value("success");
+        break;
+      case REVOKE_SPONSORSHIP_DOES_NOT_EXIST:
+        writer.value("does_not_exist");
+        break;
+      case REVOKE_SPONSORSHIP_NOT_SPONSOR:
+        writer.value("not_sponsor");
+        break;
+      case REVOKE_SPONSORSHIP_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE:
+        writer.value("only_transferable");
+        break;
+      case REVOKE_SPONSORSHIP_MALFORMED:
+        writer.value("malformed");
+        break;
+    }
+  }
+
+  public static RevokeSponsorshipResult fromJson(JsonReader reader) throws IOException {
+    RevokeSponsorshipResult decodedRevokeSponsorshipResult = new RevokeSponsorshipResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedRevokeSponsorshipResult.setDiscriminant(
+            RevokeSponsorshipResultCode.REVOKE_SPONSORSHIP_SUCCESS);
+        break;
+      case "does_not_exist":
+        decodedRevokeSponsorshipResult.setDiscriminant(
+            RevokeSponsorshipResultCode.REVOKE_SPONSORSHIP_DOES_NOT_EXIST);
+        break;
+      case "not_sponsor":
+        decodedRevokeSponsorshipResult.setDiscriminant(
+            RevokeSponsorshipResultCode.REVOKE_SPONSORSHIP_NOT_SPONSOR);
+        break;
+      case "low_reserve":
+        decodedRevokeSponsorshipResult.setDiscriminant(
+            RevokeSponsorshipResultCode.REVOKE_SPONSORSHIP_LOW_RESERVE);
+        break;
+      case "only_transferable":
+        decodedRevokeSponsorshipResult.setDiscriminant(
+            RevokeSponsorshipResultCode.REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE);
+        break;
+      case "malformed":
+        decodedRevokeSponsorshipResult.setDiscriminant(
+            RevokeSponsorshipResultCode.REVOKE_SPONSORSHIP_MALFORMED);
+        break;
+      default:
+        throw new IOException("Unknown RevokeSponsorshipResult arm: " + key);
+    }
+    return decodedRevokeSponsorshipResult;
+  }
+
+  public static RevokeSponsorshipResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
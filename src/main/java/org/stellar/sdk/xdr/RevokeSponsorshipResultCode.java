@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * RevokeSponsorshipResultCode's original definition in the XDR file is:
@@ -63,18 +63,73 @@ public enum RevokeSponsorshipResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static RevokeSponsorshipResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static RevokeSponsorshipResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case REVOKE_SPONSORSHIP_SUCCESS:
+        writer.value("success");
+        break;
+      case REVOKE_SPONSORSHIP_DOES_NOT_EXIST:
+        writer.value("does_not_exist");
+        break;
+      case REVOKE_SPONSORSHIP_NOT_SPONSOR:
+        writer.value("not_sponsor");
+        break;
+      case REVOKE_SPONSORSHIP_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE:
+        writer.value("only_transferable");
+        break;
+      case REVOKE_SPONSORSHIP_MALFORMED:
+        writer.value("malformed");
+        break;
+    }
+  }
+
+  public static RevokeSponsorshipResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return REVOKE_SPONSORSHIP_SUCCESS;
+      case "does_not_exist":
+        return REVOKE_SPONSORSHIP_DOES_NOT_EXIST;
+      case "not_sponsor":
+        return REVOKE_SPONSORSHIP_NOT_SPONSOR;
+      case "low_reserve":
+        return REVOKE_SPONSORSHIP_LOW_RESERVE;
+      case "only_transferable":
+        return REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE;
+      case "malformed":
+        return REVOKE_SPONSORSHIP_MALFORMED;
+      default:
+        throw new IOException("Unknown RevokeSponsorshipResultCode value: " + value);
+    }
+  }
+
+  public static RevokeSponsorshipResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
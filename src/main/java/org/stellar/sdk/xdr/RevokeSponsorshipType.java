@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * RevokeSponsorshipType's original definition in the XDR file is:
@@ -44,18 +44,53 @@ public enum RevokeSponsorshipType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static RevokeSponsorshipType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static RevokeSponsorshipType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case REVOKE_SPONSORSHIP_LEDGER_ENTRY:
+        writer.value("ledger_entry");
+        break;
+      case REVOKE_SPONSORSHIP_SIGNER:
+        writer.value("signer");
+        break;
+    }
+  }
+
+  public static RevokeSponsorshipType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "ledger_entry":
+        return REVOKE_SPONSORSHIP_LEDGER_ENTRY;
+      case "signer":
+        return REVOKE_SPONSORSHIP_SIGNER;
+      default:
+        throw new IOException("Unknown RevokeSponsorshipType value: " + value);
+    }
+  }
+
+  public static RevokeSponsorshipType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCAddress's original definition in the XDR file is:
@@ -63,6 +63,29 @@ public class SCAddress implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SC_ADDRESS_TYPE_ACCOUNT:
+        size += accountId.encodedSize();
+        break;
+      case SC_ADDRESS_TYPE_CONTRACT:
+        size += contractId.encodedSize();
+        break;
+      case SC_ADDRESS_TYPE_MUXED_ACCOUNT:
+        size += muxedAccount.encodedSize();
+        break;
+      case SC_ADDRESS_TYPE_CLAIMABLE_BALANCE:
+        size += claimableBalanceId.encodedSize();
+        break;
+      case SC_ADDRESS_TYPE_LIQUIDITY_POOL:
+        size += liquidityPoolId.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCAddress decode(XdrDataInputStream stream) throws IOException {
     SCAddress decodedSCAddress = new SCAddress();
     SCAddressType discriminant = SCAddressType.decode(stream);
@@ -87,14 +110,120 @@ public class SCAddress implements XdrElement {
     return decodedSCAddress;
   }
 
+  public static SCAddress decodeInto(SCAddress existing, XdrDataInputStream stream)
+      throws IOException {
+    SCAddressType discriminant = SCAddressType.decode(stream);
+    SCAddress decodedSCAddress =
+        existing != null && discriminant.equals(existing.discriminant) ? existing : new SCAddress();
+    decodedSCAddress.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SC_ADDRESS_TYPE_ACCOUNT:
+        decodedSCAddress.accountId = AccountID.decodeInto(decodedSCAddress.accountId, stream);
+        break;
+      case SC_ADDRESS_TYPE_CONTRACT:
+        decodedSCAddress.contractId = ContractID.decodeInto(decodedSCAddress.contractId, stream);
+        break;
+      case SC_ADDRESS_TYPE_MUXED_ACCOUNT:
+        decodedSCAddress.muxedAccount =
+            MuxedEd25519Account.decodeInto(decodedSCAddress.muxedAccount, stream);
+        break;
+      case SC_ADDRESS_TYPE_CLAIMABLE_BALANCE:
+        decodedSCAddress.claimableBalanceId =
+            ClaimableBalanceID.decodeInto(decodedSCAddress.claimableBalanceId, stream);
+        break;
+      case SC_ADDRESS_TYPE_LIQUIDITY_POOL:
+        decodedSCAddress.liquidityPoolId =
+            PoolID.decodeInto(decodedSCAddress.liquidityPoolId, stream);
+        break;
+    }
+    return decodedSCAddress;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SCAddressType discriminant = SCAddressType.decode(stream);
+    switch (discriminant) {
+      case SC_ADDRESS_TYPE_ACCOUNT:
+        AccountID.skip(stream);
+        break;
+      case SC_ADDRESS_TYPE_CONTRACT:
+        ContractID.skip(stream);
+        break;
+      case SC_ADDRESS_TYPE_MUXED_ACCOUNT:
+        MuxedEd25519Account.skip(stream);
+        break;
+      case SC_ADDRESS_TYPE_CLAIMABLE_BALANCE:
+        ClaimableBalanceID.skip(stream);
+        break;
+      case SC_ADDRESS_TYPE_LIQUIDITY_POOL:
+        PoolID.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SCAddress discriminant: " + discriminant);
+    }
+  }
+
   public static SCAddress fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCAddress fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SC_ADDRESS_TYPE_ACCOUNT:
+        accountId.toJson(writer);
+        break;
+      case SC_ADDRESS_TYPE_CONTRACT:
+        contractId.toJson(writer);
+        break;
+      case SC_ADDRESS_TYPE_MUXED_ACCOUNT:
+        muxedAccount.toJson(writer);
+        break;
+      case SC_ADDRESS_TYPE_CLAIMABLE_BALANCE:
+        claimableBalanceId.toJson(writer);
+        break;
+      case SC_ADDRESS_TYPE_LIQUIDITY_POOL:
+        liquidityPoolId.toJson(writer);
+        break;
+    }
+  }
+
+  public static SCAddress fromJson(JsonReader reader) throws IOException {
+    String address = reader.nextString();
+    SCAddress decodedSCAddress = new SCAddress();
+    switch (address.isEmpty() ? 0 : address.charAt(0)) {
+      case 'G':
+        decodedSCAddress.setDiscriminant(SCAddressType.SC_ADDRESS_TYPE_ACCOUNT);
+        decodedSCAddress.accountId = new AccountID(XdrJson.decodePublicKey(address));
+        break;
+      case 'C':
+        decodedSCAddress.setDiscriminant(SCAddressType.SC_ADDRESS_TYPE_CONTRACT);
+        decodedSCAddress.contractId = XdrJson.decodeContractId(address);
+        break;
+      case 'M':
+        decodedSCAddress.setDiscriminant(SCAddressType.SC_ADDRESS_TYPE_MUXED_ACCOUNT);
+        decodedSCAddress.muxedAccount = XdrJson.decodeMuxedAccount(address);
+        break;
+      case 'B':
+        decodedSCAddress.setDiscriminant(SCAddressType.SC_ADDRESS_TYPE_CLAIMABLE_BALANCE);
+        decodedSCAddress.claimableBalanceId = XdrJson.decodeClaimableBalanceId(address);
+        break;
+      case 'L':
+        decodedSCAddress.setDiscriminant(SCAddressType.SC_ADDRESS_TYPE_LIQUIDITY_POOL);
+        decodedSCAddress.liquidityPoolId = XdrJson.decodePoolId(address);
+        break;
+      default:
+        throw new IOException("Unknown SCAddress: " + address);
+    }
+    return decodedSCAddress;
+  }
+
+  public static SCAddress fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
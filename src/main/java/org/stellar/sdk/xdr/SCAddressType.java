@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCAddressType's original definition in the XDR file is:
@@ -56,18 +56,68 @@ public enum SCAddressType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCAddressType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCAddressType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SC_ADDRESS_TYPE_ACCOUNT:
+        writer.value("account");
+        break;
+      case SC_ADDRESS_TYPE_CONTRACT:
+        writer.value("contract");
+        break;
+      case SC_ADDRESS_TYPE_MUXED_ACCOUNT:
+        writer.value("muxed_account");
+        break;
+      case SC_ADDRESS_TYPE_CLAIMABLE_BALANCE:
+        writer.value("claimable_balance");
+        break;
+      case SC_ADDRESS_TYPE_LIQUIDITY_POOL:
+        writer.value("liquidity_pool");
+        break;
+    }
+  }
+
+  public static SCAddressType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "account":
+        return SC_ADDRESS_TYPE_ACCOUNT;
+      case "contract":
+        return SC_ADDRESS_TYPE_CONTRACT;
+      case "muxed_account":
+        return SC_ADDRESS_TYPE_MUXED_ACCOUNT;
+      case "claimable_balance":
+        return SC_ADDRESS_TYPE_CLAIMABLE_BALANCE;
+      case "liquidity_pool":
+        return SC_ADDRESS_TYPE_LIQUIDITY_POOL;
+      default:
+        throw new IOException("Unknown SCAddressType value: " + value);
+    }
+  }
+
+  public static SCAddressType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
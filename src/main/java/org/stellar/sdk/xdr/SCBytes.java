@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCBytes's original definition in the XDR file is:
@@ -29,22 +29,57 @@ public class SCBytes implements XdrElement {
     stream.write(getSCBytes(), 0, SCBytesSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int SCBytesSize = SCBytes.length;
+    size += 4;
+    size += XdrDataOutputStream.paddedSize(SCBytesSize);
+    return size;
+  }
+
   public static SCBytes decode(XdrDataInputStream stream) throws IOException {
     SCBytes decodedSCBytes = new SCBytes();
-    int SCBytesSize = stream.readInt();
+    int SCBytesSize = stream.readLength(1);
     decodedSCBytes.SCBytes = new byte[SCBytesSize];
     stream.read(decodedSCBytes.SCBytes, 0, SCBytesSize);
     return decodedSCBytes;
   }
 
+  public static SCBytes decodeInto(SCBytes existing, XdrDataInputStream stream) throws IOException {
+    SCBytes decodedSCBytes = existing != null ? existing : new SCBytes();
+    int SCBytesSize = stream.readLength(1);
+    decodedSCBytes.SCBytes = XdrRecycler.resize(decodedSCBytes.SCBytes, SCBytesSize);
+    stream.read(decodedSCBytes.SCBytes, 0, SCBytesSize);
+    return decodedSCBytes;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int SCBytesSize = stream.readLength(Integer.MAX_VALUE, 1);
+    stream.skipOpaque(SCBytesSize);
+  }
+
   public static SCBytes fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCBytes fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeHex(writer, SCBytes);
+  }
+
+  public static SCBytes fromJson(JsonReader reader) throws IOException {
+    SCBytes decodedSCBytes = new SCBytes();
+    decodedSCBytes.SCBytes = XdrJson.readHex(reader);
+    return decodedSCBytes;
+  }
+
+  public static SCBytes fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
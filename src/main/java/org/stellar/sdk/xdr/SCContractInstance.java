@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCContractInstance's original definition in the XDR file is:
@@ -39,24 +39,107 @@ public class SCContractInstance implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += executable.encodedSize();
+    if (storage != null) {
+      size += 4;
+      size += storage.encodedSize();
+    } else {
+      size += 4;
+    }
+    return size;
+  }
+
   public static SCContractInstance decode(XdrDataInputStream stream) throws IOException {
-    SCContractInstance decodedSCContractInstance = new SCContractInstance();
-    decodedSCContractInstance.executable = ContractExecutable.decode(stream);
-    int storagePresent = stream.readInt();
-    if (storagePresent != 0) {
-      decodedSCContractInstance.storage = SCMap.decode(stream);
+    stream.increaseDepth();
+    try {
+      SCContractInstance decodedSCContractInstance = new SCContractInstance();
+      decodedSCContractInstance.executable = ContractExecutable.decode(stream);
+      int storagePresent = stream.readInt();
+      if (storagePresent != 0) {
+        decodedSCContractInstance.storage = SCMap.decode(stream);
+      }
+      return decodedSCContractInstance;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCContractInstance decodeInto(
+      SCContractInstance existing, XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCContractInstance decodedSCContractInstance =
+          existing != null ? existing : new SCContractInstance();
+      decodedSCContractInstance.executable =
+          ContractExecutable.decodeInto(decodedSCContractInstance.executable, stream);
+      int storagePresent = stream.readInt();
+      if (storagePresent != 0) {
+        decodedSCContractInstance.storage =
+            SCMap.decodeInto(decodedSCContractInstance.storage, stream);
+      } else {
+        decodedSCContractInstance.storage = null;
+      }
+      return decodedSCContractInstance;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      ContractExecutable.skip(stream);
+      if (stream.readXdrBoolean()) {
+        SCMap.skip(stream);
+      }
+    } finally {
+      stream.decreaseDepth();
     }
-    return decodedSCContractInstance;
   }
 
   public static SCContractInstance fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCContractInstance fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("executable");
+    executable.toJson(writer);
+    writer.name("storage");
+    XdrJson.writeOptional(writer, storage);
+    writer.endObject();
+  }
+
+  public static SCContractInstance fromJson(JsonReader reader) throws IOException {
+    SCContractInstance decodedSCContractInstance = new SCContractInstance();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "executable":
+          decodedSCContractInstance.executable = ContractExecutable.fromJson(reader);
+          break;
+        case "storage":
+          decodedSCContractInstance.storage = XdrJson.readOptional(reader, SCMap::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SCContractInstance field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCContractInstance;
+  }
+
+  public static SCContractInstance fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCEnvMetaEntry's original definition in the XDR file is:
@@ -42,6 +42,17 @@ public class SCEnvMetaEntry implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SC_ENV_META_KIND_INTERFACE_VERSION:
+        size += interfaceVersion.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCEnvMetaEntry decode(XdrDataInputStream stream) throws IOException {
     SCEnvMetaEntry decodedSCEnvMetaEntry = new SCEnvMetaEntry();
     SCEnvMetaKind discriminant = SCEnvMetaKind.decode(stream);
@@ -54,17 +65,77 @@ public class SCEnvMetaEntry implements XdrElement {
     return decodedSCEnvMetaEntry;
   }
 
+  public static SCEnvMetaEntry decodeInto(SCEnvMetaEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    SCEnvMetaKind discriminant = SCEnvMetaKind.decode(stream);
+    SCEnvMetaEntry decodedSCEnvMetaEntry =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SCEnvMetaEntry();
+    decodedSCEnvMetaEntry.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SC_ENV_META_KIND_INTERFACE_VERSION:
+        decodedSCEnvMetaEntry.interfaceVersion =
+            SCEnvMetaEntryInterfaceVersion.decodeInto(
+                decodedSCEnvMetaEntry.interfaceVersion, stream);
+        break;
+    }
+    return decodedSCEnvMetaEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SCEnvMetaKind discriminant = SCEnvMetaKind.decode(stream);
+    switch (discriminant) {
+      case SC_ENV_META_KIND_INTERFACE_VERSION:
+        SCEnvMetaEntryInterfaceVersion.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SCEnvMetaEntry discriminant: " + discriminant);
+    }
+  }
+
   public static SCEnvMetaEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCEnvMetaEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SC_ENV_META_KIND_INTERFACE_VERSION:
+        writer.beginObject();
+        writer.name("version");
+        interfaceVersion.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SCEnvMetaEntry fromJson(JsonReader reader) throws IOException {
+    SCEnvMetaEntry decodedSCEnvMetaEntry = new SCEnvMetaEntry();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "version":
+        decodedSCEnvMetaEntry.setDiscriminant(SCEnvMetaKind.SC_ENV_META_KIND_INTERFACE_VERSION);
+        decodedSCEnvMetaEntry.interfaceVersion = SCEnvMetaEntryInterfaceVersion.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SCEnvMetaEntry arm: " + key);
+    }
+    reader.endObject();
+    return decodedSCEnvMetaEntry;
+  }
+
+  public static SCEnvMetaEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * SCEnvMetaEntryInterfaceVersion's original definition in the XDR file is:
    *
@@ -88,6 +159,13 @@ public class SCEnvMetaEntry implements XdrElement {
       preRelease.encode(stream);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += protocol.encodedSize();
+      size += preRelease.encodedSize();
+      return size;
+    }
+
     public static SCEnvMetaEntryInterfaceVersion decode(XdrDataInputStream stream)
         throws IOException {
       SCEnvMetaEntryInterfaceVersion decodedSCEnvMetaEntryInterfaceVersion =
@@ -97,15 +175,65 @@ public class SCEnvMetaEntry implements XdrElement {
       return decodedSCEnvMetaEntryInterfaceVersion;
     }
 
+    public static SCEnvMetaEntryInterfaceVersion decodeInto(
+        SCEnvMetaEntryInterfaceVersion existing, XdrDataInputStream stream) throws IOException {
+      SCEnvMetaEntryInterfaceVersion decodedSCEnvMetaEntryInterfaceVersion =
+          existing != null ? existing : new SCEnvMetaEntryInterfaceVersion();
+      decodedSCEnvMetaEntryInterfaceVersion.protocol =
+          Uint32.decodeInto(decodedSCEnvMetaEntryInterfaceVersion.protocol, stream);
+      decodedSCEnvMetaEntryInterfaceVersion.preRelease =
+          Uint32.decodeInto(decodedSCEnvMetaEntryInterfaceVersion.preRelease, stream);
+      return decodedSCEnvMetaEntryInterfaceVersion;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Uint32.skip(stream);
+      Uint32.skip(stream);
+    }
+
     public static SCEnvMetaEntryInterfaceVersion fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static SCEnvMetaEntryInterfaceVersion fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("protocol");
+      protocol.toJson(writer);
+      writer.name("pre_release");
+      preRelease.toJson(writer);
+      writer.endObject();
+    }
+
+    public static SCEnvMetaEntryInterfaceVersion fromJson(JsonReader reader) throws IOException {
+      SCEnvMetaEntryInterfaceVersion decodedSCEnvMetaEntryInterfaceVersion =
+          new SCEnvMetaEntryInterfaceVersion();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "protocol":
+            decodedSCEnvMetaEntryInterfaceVersion.protocol = Uint32.fromJson(reader);
+            break;
+          case "pre_release":
+            decodedSCEnvMetaEntryInterfaceVersion.preRelease = Uint32.fromJson(reader);
+            break;
+          default:
+            throw new IOException("Unknown SCEnvMetaEntryInterfaceVersion field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedSCEnvMetaEntryInterfaceVersion;
+    }
+
+    public static SCEnvMetaEntryInterfaceVersion fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
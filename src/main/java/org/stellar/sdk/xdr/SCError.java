@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCError's original definition in the XDR file is:
@@ -61,6 +61,28 @@ public class SCError implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SCE_CONTRACT:
+        size += contractCode.encodedSize();
+        break;
+      case SCE_WASM_VM:
+      case SCE_CONTEXT:
+      case SCE_STORAGE:
+      case SCE_OBJECT:
+      case SCE_CRYPTO:
+      case SCE_EVENTS:
+      case SCE_BUDGET:
+      case SCE_VALUE:
+      case SCE_AUTH:
+        size += code.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCError decode(XdrDataInputStream stream) throws IOException {
     SCError decodedSCError = new SCError();
     SCErrorType discriminant = SCErrorType.decode(stream);
@@ -84,14 +106,181 @@ public class SCError implements XdrElement {
     return decodedSCError;
   }
 
+  public static SCError decodeInto(SCError existing, XdrDataInputStream stream) throws IOException {
+    SCErrorType discriminant = SCErrorType.decode(stream);
+    SCError decodedSCError =
+        existing != null && discriminant.equals(existing.discriminant) ? existing : new SCError();
+    decodedSCError.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SCE_CONTRACT:
+        decodedSCError.contractCode = Uint32.decodeInto(decodedSCError.contractCode, stream);
+        break;
+      case SCE_WASM_VM:
+      case SCE_CONTEXT:
+      case SCE_STORAGE:
+      case SCE_OBJECT:
+      case SCE_CRYPTO:
+      case SCE_EVENTS:
+      case SCE_BUDGET:
+      case SCE_VALUE:
+      case SCE_AUTH:
+        decodedSCError.code = SCErrorCode.decode(stream);
+        break;
+    }
+    return decodedSCError;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SCErrorType discriminant = SCErrorType.decode(stream);
+    switch (discriminant) {
+      case SCE_CONTRACT:
+        Uint32.skip(stream);
+        break;
+      case SCE_WASM_VM:
+      case SCE_CONTEXT:
+      case SCE_STORAGE:
+      case SCE_OBJECT:
+      case SCE_CRYPTO:
+      case SCE_EVENTS:
+      case SCE_BUDGET:
+      case SCE_VALUE:
+      case SCE_AUTH:
+        SCErrorCode.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SCError discriminant: " + discriminant);
+    }
+  }
+
   public static SCError fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCError fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SCE_CONTRACT:
+        writer.beginObject();
+        writer.name("contract");
+        contractCode.toJson(writer);
+        writer.endObject();
+        break;
+      case SCE_WASM_VM:
+        writer.beginObject();
+        writer.name("wasm_vm");
+        code.toJson(writer);
+        writer.endObject();
+        break;
+      case SCE_CONTEXT:
+        writer.beginObject();
+        writer.name("context");
+        code.toJson(writer);
+        writer.endObject();
+        break;
+      case SCE_STORAGE:
+        writer.beginObject();
+        writer.name("storage");
+        code.toJson(writer);
+        writer.endObject();
+        break;
+      case SCE_OBJECT:
+        writer.beginObject();
+        writer.name("object");
+        code.toJson(writer);
+        writer.endObject();
+        break;
+      case SCE_CRYPTO:
+        writer.beginObject();
+        writer.name("crypto");
+        code.toJson(writer);
+        writer.endObject();
+        break;
+      case SCE_EVENTS:
+        writer.beginObject();
+        writer.name("events");
+        code.toJson(writer);
+        writer.endObject();
+        break;
+      case SCE_BUDGET:
+        writer.beginObject();
+        writer.name("budget");
+        code.toJson(writer);
+        writer.endObject();
+        break;
+      case SCE_VALUE:
+        writer.beginObject();
+        writer.name("value");
+        code.toJson(writer);
+        writer.endObject();
+        break;
+      case SCE_AUTH:
+        writer.beginObject();
+        writer.name("auth");
+        code.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SCError fromJson(JsonReader reader) throws IOException {
+    SCError decodedSCError = new SCError();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "contract":
+        decodedSCError.setDiscriminant(SCErrorType.SCE_CONTRACT);
+        decodedSCError.contractCode = Uint32.fromJson(reader);
+        break;
+      case "wasm_vm":
+        decodedSCError.setDiscriminant(SCErrorType.SCE_WASM_VM);
+        decodedSCError.code = SCErrorCode.fromJson(reader);
+        break;
+      case "context":
+        decodedSCError.setDiscriminant(SCErrorType.SCE_CONTEXT);
+        decodedSCError.code = SCErrorCode.fromJson(reader);
+        break;
+      case "storage":
+        decodedSCError.setDiscriminant(SCErrorType.SCE_STORAGE);
+        decodedSCError.code = SCErrorCode.fromJson(reader);
+        break;
+      case "object":
+        decodedSCError.setDiscriminant(SCErrorType.SCE_OBJECT);
+        decodedSCError.code = SCErrorCode.fromJson(reader);
+        break;
+      case "crypto":
+        decodedSCError.setDiscriminant(SCErrorType.SCE_CRYPTO);
+        decodedSCError.code = SCErrorCode.fromJson(reader);
+        break;
+      case "events":
+        decodedSCError.setDiscriminant(SCErrorType.SCE_EVENTS);
+        decodedSCError.code = SCErrorCode.fromJson(reader);
+        break;
+      case "budget":
+        decodedSCError.setDiscriminant(SCErrorType.SCE_BUDGET);
+        decodedSCError.code = SCErrorCode.fromJson(reader);
+        break;
+      case "value":
+        decodedSCError.setDiscriminant(SCErrorType.SCE_VALUE);
+        decodedSCError.code = SCErrorCode.fromJson(reader);
+        break;
+      case "auth":
+        decodedSCError.setDiscriminant(SCErrorType.SCE_AUTH);
+        decodedSCError.code = SCErrorCode.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SCError arm: " + key);
+    }
+    reader.endObject();
+    return decodedSCError;
+  }
+
+  public static SCError fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCErrorCode's original definition in the XDR file is:
@@ -76,18 +76,93 @@ public enum SCErrorCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCErrorCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCErrorCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SCEC_ARITH_DOMAIN:
+        writer.value("arith_domain");
+        break;
+      case SCEC_INDEX_BOUNDS:
+        writer.value("index_bounds");
+        break;
+      case SCEC_INVALID_INPUT:
+        writer.value("invalid_input");
+        break;
+      case SCEC_MISSING_VALUE:
+        writer.value("missing_value");
+        break;
+      case SCEC_EXISTING_VALUE:
+        writer.value("existing_value");
+        break;
+      case SCEC_EXCEEDED_LIMIT:
+        writer.value("exceeded_limit");
+        break;
+      case SCEC_INVALID_ACTION:
+        writer.value("invalid_action");
+        break;
+      case SCEC_INTERNAL_ERROR:
+        writer.value("internal_error");
+        break;
+      case SCEC_UNEXPECTED_TYPE:
+        writer.value("unexpected_type");
+        break;
+      case SCEC_UNEXPECTED_SIZE:
+        writer.value("unexpected_size");
+        break;
+    }
+  }
+
+  public static SCErrorCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "arith_domain":
+        return SCEC_ARITH_DOMAIN;
+      case "index_bounds":
+        return SCEC_INDEX_BOUNDS;
+      case "invalid_input":
+        return SCEC_INVALID_INPUT;
+      case "missing_value":
+        return SCEC_MISSING_VALUE;
+      case "existing_value":
+        return SCEC_EXISTING_VALUE;
+      case "exceeded_limit":
+        return SCEC_EXCEEDED_LIMIT;
+      case "invalid_action":
+        return SCEC_INVALID_ACTION;
+      case "internal_error":
+        return SCEC_INTERNAL_ERROR;
+      case "unexpected_type":
+        return SCEC_UNEXPECTED_TYPE;
+      case "unexpected_size":
+        return SCEC_UNEXPECTED_SIZE;
+      default:
+        throw new IOException("Unknown SCErrorCode value: " + value);
+    }
+  }
+
+  public static SCErrorCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCErrorType's original definition in the XDR file is:
@@ -76,18 +76,93 @@ public enum SCErrorType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCErrorType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCErrorType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SCE_CONTRACT:
+        writer.value("contract");
+        break;
+      case SCE_WASM_VM:
+        writer.value("wasm_vm");
+        break;
+      case SCE_CONTEXT:
+        writer.value("context");
+        break;
+      case SCE_STORAGE:
+        writer.value("storage");
+        break;
+      case SCE_OBJECT:
+        writer.value("object");
+        break;
+      case SCE_CRYPTO:
+        writer.value("crypto");
+        break;
+      case SCE_EVENTS:
+        writer.value("events");
+        break;
+      case SCE_BUDGET:
+        writer.value("budget");
+        break;
+      case SCE_VALUE:
+        writer.value("value");
+        break;
+      case SCE_AUTH:
+        writer.value("auth");
+        break;
+    }
+  }
+
+  public static SCErrorType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "contract":
+        return SCE_CONTRACT;
+      case "wasm_vm":
+        return SCE_WASM_VM;
+      case "context":
+        return SCE_CONTEXT;
+      case "storage":
+        return SCE_STORAGE;
+      case "object":
+        return SCE_OBJECT;
+      case "crypto":
+        return SCE_CRYPTO;
+      case "events":
+        return SCE_EVENTS;
+      case "budget":
+        return SCE_BUDGET;
+      case "value":
+        return SCE_VALUE;
+      case "auth":
+        return SCE_AUTH;
+      default:
+        throw new IOException("Unknown SCErrorType value: " + value);
+    }
+  }
+
+  public static SCErrorType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCMap's original definition in the XDR file is:
@@ -31,24 +31,80 @@ public class SCMap implements XdrElement {
     }
   }
 
-  public static SCMap decode(XdrDataInputStream stream) throws IOException {
-    SCMap decodedSCMap = new SCMap();
-    int SCMapSize = stream.readInt();
-    decodedSCMap.SCMap = new SCMapEntry[SCMapSize];
+  public int encodedSize() {
+    int size = 0;
+    int SCMapSize = getSCMap().length;
+    size += 4;
     for (int i = 0; i < SCMapSize; i++) {
-      decodedSCMap.SCMap[i] = SCMapEntry.decode(stream);
+      size += SCMap[i].encodedSize();
+    }
+    return size;
+  }
+
+  public static SCMap decode(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCMap decodedSCMap = new SCMap();
+      int SCMapSize = stream.readLength(4);
+      decodedSCMap.SCMap = new SCMapEntry[SCMapSize];
+      for (int i = 0; i < SCMapSize; i++) {
+        decodedSCMap.SCMap[i] = SCMapEntry.decode(stream);
+      }
+      return decodedSCMap;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCMap decodeInto(SCMap existing, XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCMap decodedSCMap = existing != null ? existing : new SCMap();
+      int SCMapSize = stream.readLength(4);
+      decodedSCMap.SCMap = XdrRecycler.resize(decodedSCMap.SCMap, SCMapSize, SCMapEntry[]::new);
+      for (int i = 0; i < SCMapSize; i++) {
+        decodedSCMap.SCMap[i] = SCMapEntry.decodeInto(decodedSCMap.SCMap[i], stream);
+      }
+      return decodedSCMap;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      int SCMapSize = stream.readLength(Integer.MAX_VALUE, 4);
+      for (int i = 0; i < SCMapSize; i++) {
+        SCMapEntry.skip(stream);
+      }
+    } finally {
+      stream.decreaseDepth();
     }
-    return decodedSCMap;
   }
 
   public static SCMap fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCMap fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeArray(writer, SCMap);
+  }
+
+  public static SCMap fromJson(JsonReader reader) throws IOException {
+    SCMap decodedSCMap = new SCMap();
+    decodedSCMap.SCMap = XdrJson.readArray(reader, SCMapEntry[]::new, SCMapEntry::fromJson);
+    return decodedSCMap;
+  }
+
+  public static SCMap fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
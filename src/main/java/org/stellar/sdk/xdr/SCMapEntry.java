@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCMapEntry's original definition in the XDR file is:
@@ -35,21 +35,89 @@ public class SCMapEntry implements XdrElement {
     val.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += key.encodedSize();
+    size += val.encodedSize();
+    return size;
+  }
+
   public static SCMapEntry decode(XdrDataInputStream stream) throws IOException {
-    SCMapEntry decodedSCMapEntry = new SCMapEntry();
-    decodedSCMapEntry.key = SCVal.decode(stream);
-    decodedSCMapEntry.val = SCVal.decode(stream);
-    return decodedSCMapEntry;
+    stream.increaseDepth();
+    try {
+      SCMapEntry decodedSCMapEntry = new SCMapEntry();
+      decodedSCMapEntry.key = SCVal.decode(stream);
+      decodedSCMapEntry.val = SCVal.decode(stream);
+      return decodedSCMapEntry;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCMapEntry decodeInto(SCMapEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    stream.increaseDepth();
+    try {
+      SCMapEntry decodedSCMapEntry = existing != null ? existing : new SCMapEntry();
+      decodedSCMapEntry.key = SCVal.decodeInto(decodedSCMapEntry.key, stream);
+      decodedSCMapEntry.val = SCVal.decodeInto(decodedSCMapEntry.val, stream);
+      return decodedSCMapEntry;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCVal.skip(stream);
+      SCVal.skip(stream);
+    } finally {
+      stream.decreaseDepth();
+    }
   }
 
   public static SCMapEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCMapEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("key");
+    key.toJson(writer);
+    writer.name("val");
+    val.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCMapEntry fromJson(JsonReader reader) throws IOException {
+    SCMapEntry decodedSCMapEntry = new SCMapEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "key":
+          decodedSCMapEntry.key = SCVal.fromJson(reader);
+          break;
+        case "val":
+          decodedSCMapEntry.val = SCVal.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCMapEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCMapEntry;
+  }
+
+  public static SCMapEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
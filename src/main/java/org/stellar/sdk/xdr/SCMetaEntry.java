@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCMetaEntry's original definition in the XDR file is:
@@ -39,6 +39,17 @@ public class SCMetaEntry implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SC_META_V0:
+        size += v0.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCMetaEntry decode(XdrDataInputStream stream) throws IOException {
     SCMetaEntry decodedSCMetaEntry = new SCMetaEntry();
     SCMetaKind discriminant = SCMetaKind.decode(stream);
@@ -51,14 +62,72 @@ public class SCMetaEntry implements XdrElement {
     return decodedSCMetaEntry;
   }
 
+  public static SCMetaEntry decodeInto(SCMetaEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    SCMetaKind discriminant = SCMetaKind.decode(stream);
+    SCMetaEntry decodedSCMetaEntry =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SCMetaEntry();
+    decodedSCMetaEntry.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SC_META_V0:
+        decodedSCMetaEntry.v0 = SCMetaV0.decodeInto(decodedSCMetaEntry.v0, stream);
+        break;
+    }
+    return decodedSCMetaEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SCMetaKind discriminant = SCMetaKind.decode(stream);
+    switch (discriminant) {
+      case SC_META_V0:
+        SCMetaV0.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SCMetaEntry discriminant: " + discriminant);
+    }
+  }
+
   public static SCMetaEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCMetaEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SC_META_V0:
+        writer.beginObject();
+        writer.name("v0");
+        v0.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SCMetaEntry fromJson(JsonReader reader) throws IOException {
+    SCMetaEntry decodedSCMetaEntry = new SCMetaEntry();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v0":
+        decodedSCMetaEntry.setDiscriminant(SCMetaKind.SC_META_V0);
+        decodedSCMetaEntry.v0 = SCMetaV0.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SCMetaEntry arm: " + key);
+    }
+    reader.endObject();
+    return decodedSCMetaEntry;
+  }
+
+  public static SCMetaEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
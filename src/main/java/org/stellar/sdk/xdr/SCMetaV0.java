@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCMetaV0's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class SCMetaV0 implements XdrElement {
     val.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += key.encodedSize();
+    size += val.encodedSize();
+    return size;
+  }
+
   public static SCMetaV0 decode(XdrDataInputStream stream) throws IOException {
     SCMetaV0 decodedSCMetaV0 = new SCMetaV0();
     decodedSCMetaV0.key = XdrString.decode(stream, Integer.MAX_VALUE);
@@ -42,14 +49,60 @@ public class SCMetaV0 implements XdrElement {
     return decodedSCMetaV0;
   }
 
+  public static SCMetaV0 decodeInto(SCMetaV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    SCMetaV0 decodedSCMetaV0 = existing != null ? existing : new SCMetaV0();
+    decodedSCMetaV0.key = XdrString.decode(stream, Integer.MAX_VALUE);
+    decodedSCMetaV0.val = XdrString.decode(stream, Integer.MAX_VALUE);
+    return decodedSCMetaV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Integer.MAX_VALUE);
+    XdrString.skip(stream, Integer.MAX_VALUE);
+  }
+
   public static SCMetaV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCMetaV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("key");
+    key.toJson(writer);
+    writer.name("val");
+    val.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCMetaV0 fromJson(JsonReader reader) throws IOException {
+    SCMetaV0 decodedSCMetaV0 = new SCMetaV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "key":
+          decodedSCMetaV0.key = XdrString.fromJson(reader);
+          break;
+        case "val":
+          decodedSCMetaV0.val = XdrString.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCMetaV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCMetaV0;
+  }
+
+  public static SCMetaV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
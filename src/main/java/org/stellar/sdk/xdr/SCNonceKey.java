@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCNonceKey's original definition in the XDR file is:
@@ -31,20 +31,63 @@ public class SCNonceKey implements XdrElement {
     nonce.encode(stream);
   }
 
+  public int encodedSize() {
+    return nonce.encodedSize();
+  }
+
   public static SCNonceKey decode(XdrDataInputStream stream) throws IOException {
     SCNonceKey decodedSCNonceKey = new SCNonceKey();
     decodedSCNonceKey.nonce = Int64.decode(stream);
     return decodedSCNonceKey;
   }
 
+  public static SCNonceKey decodeInto(SCNonceKey existing, XdrDataInputStream stream)
+      throws IOException {
+    SCNonceKey decodedSCNonceKey = existing != null ? existing : new SCNonceKey();
+    decodedSCNonceKey.nonce = Int64.decodeInto(decodedSCNonceKey.nonce, stream);
+    return decodedSCNonceKey;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int64.skip(stream);
+  }
+
   public static SCNonceKey fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCNonceKey fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("nonce");
+    nonce.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCNonceKey fromJson(JsonReader reader) throws IOException {
+    SCNonceKey decodedSCNonceKey = new SCNonceKey();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "nonce":
+          decodedSCNonceKey.nonce = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCNonceKey field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCNonceKey;
+  }
+
+  public static SCNonceKey fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCPBallot's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class SCPBallot implements XdrElement {
     value.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += counter.encodedSize();
+    size += value.encodedSize();
+    return size;
+  }
+
   public static SCPBallot decode(XdrDataInputStream stream) throws IOException {
     SCPBallot decodedSCPBallot = new SCPBallot();
     decodedSCPBallot.counter = Uint32.decode(stream);
@@ -42,14 +49,60 @@ public class SCPBallot implements XdrElement {
     return decodedSCPBallot;
   }
 
+  public static SCPBallot decodeInto(SCPBallot existing, XdrDataInputStream stream)
+      throws IOException {
+    SCPBallot decodedSCPBallot = existing != null ? existing : new SCPBallot();
+    decodedSCPBallot.counter = Uint32.decodeInto(decodedSCPBallot.counter, stream);
+    decodedSCPBallot.value = Value.decodeInto(decodedSCPBallot.value, stream);
+    return decodedSCPBallot;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Value.skip(stream);
+  }
+
   public static SCPBallot fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCPBallot fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("counter");
+    counter.toJson(writer);
+    writer.name("value");
+    value.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCPBallot fromJson(JsonReader reader) throws IOException {
+    SCPBallot decodedSCPBallot = new SCPBallot();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "counter":
+          decodedSCPBallot.counter = Uint32.fromJson(reader);
+          break;
+        case "value":
+          decodedSCPBallot.value = Value.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCPBallot field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCPBallot;
+  }
+
+  public static SCPBallot fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
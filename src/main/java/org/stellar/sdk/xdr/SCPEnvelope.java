@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCPEnvelope's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class SCPEnvelope implements XdrElement {
     signature.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += statement.encodedSize();
+    size += signature.encodedSize();
+    return size;
+  }
+
   public static SCPEnvelope decode(XdrDataInputStream stream) throws IOException {
     SCPEnvelope decodedSCPEnvelope = new SCPEnvelope();
     decodedSCPEnvelope.statement = SCPStatement.decode(stream);
@@ -42,14 +49,60 @@ public class SCPEnvelope implements XdrElement {
     return decodedSCPEnvelope;
   }
 
+  public static SCPEnvelope decodeInto(SCPEnvelope existing, XdrDataInputStream stream)
+      throws IOException {
+    SCPEnvelope decodedSCPEnvelope = existing != null ? existing : new SCPEnvelope();
+    decodedSCPEnvelope.statement = SCPStatement.decodeInto(decodedSCPEnvelope.statement, stream);
+    decodedSCPEnvelope.signature = Signature.decodeInto(decodedSCPEnvelope.signature, stream);
+    return decodedSCPEnvelope;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SCPStatement.skip(stream);
+    Signature.skip(stream);
+  }
+
   public static SCPEnvelope fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCPEnvelope fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("statement");
+    statement.toJson(writer);
+    writer.name("signature");
+    signature.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCPEnvelope fromJson(JsonReader reader) throws IOException {
+    SCPEnvelope decodedSCPEnvelope = new SCPEnvelope();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "statement":
+          decodedSCPEnvelope.statement = SCPStatement.fromJson(reader);
+          break;
+        case "signature":
+          decodedSCPEnvelope.signature = Signature.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCPEnvelope field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCPEnvelope;
+  }
+
+  public static SCPEnvelope fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCPHistoryEntry's original definition in the XDR file is:
@@ -39,6 +39,17 @@ public class SCPHistoryEntry implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case 0:
+        size += v0.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCPHistoryEntry decode(XdrDataInputStream stream) throws IOException {
     SCPHistoryEntry decodedSCPHistoryEntry = new SCPHistoryEntry();
     Integer discriminant = stream.readInt();
@@ -51,14 +62,72 @@ public class SCPHistoryEntry implements XdrElement {
     return decodedSCPHistoryEntry;
   }
 
+  public static SCPHistoryEntry decodeInto(SCPHistoryEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    Integer discriminant = stream.readInt();
+    SCPHistoryEntry decodedSCPHistoryEntry =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SCPHistoryEntry();
+    decodedSCPHistoryEntry.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        decodedSCPHistoryEntry.v0 = SCPHistoryEntryV0.decodeInto(decodedSCPHistoryEntry.v0, stream);
+        break;
+    }
+    return decodedSCPHistoryEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        SCPHistoryEntryV0.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SCPHistoryEntry discriminant: " + discriminant);
+    }
+  }
+
   public static SCPHistoryEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCPHistoryEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case 0:
+        writer.beginObject();
+        writer.name("v0");
+        v0.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SCPHistoryEntry fromJson(JsonReader reader) throws IOException {
+    SCPHistoryEntry decodedSCPHistoryEntry = new SCPHistoryEntry();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v0":
+        decodedSCPHistoryEntry.setDiscriminant(0);
+        decodedSCPHistoryEntry.v0 = SCPHistoryEntryV0.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SCPHistoryEntry arm: " + key);
+    }
+    reader.endObject();
+    return decodedSCPHistoryEntry;
+  }
+
+  public static SCPHistoryEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCPHistoryEntryV0's original definition in the XDR file is:
@@ -39,9 +39,20 @@ public class SCPHistoryEntryV0 implements XdrElement {
     ledgerMessages.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int quorumSetsSize = getQuorumSets().length;
+    size += 4;
+    for (int i = 0; i < quorumSetsSize; i++) {
+      size += quorumSets[i].encodedSize();
+    }
+    size += ledgerMessages.encodedSize();
+    return size;
+  }
+
   public static SCPHistoryEntryV0 decode(XdrDataInputStream stream) throws IOException {
     SCPHistoryEntryV0 decodedSCPHistoryEntryV0 = new SCPHistoryEntryV0();
-    int quorumSetsSize = stream.readInt();
+    int quorumSetsSize = stream.readLength(4);
     decodedSCPHistoryEntryV0.quorumSets = new SCPQuorumSet[quorumSetsSize];
     for (int i = 0; i < quorumSetsSize; i++) {
       decodedSCPHistoryEntryV0.quorumSets[i] = SCPQuorumSet.decode(stream);
@@ -50,14 +61,73 @@ public class SCPHistoryEntryV0 implements XdrElement {
     return decodedSCPHistoryEntryV0;
   }
 
+  public static SCPHistoryEntryV0 decodeInto(SCPHistoryEntryV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    SCPHistoryEntryV0 decodedSCPHistoryEntryV0 =
+        existing != null ? existing : new SCPHistoryEntryV0();
+    int quorumSetsSize = stream.readLength(4);
+    decodedSCPHistoryEntryV0.quorumSets =
+        XdrRecycler.resize(
+            decodedSCPHistoryEntryV0.quorumSets, quorumSetsSize, SCPQuorumSet[]::new);
+    for (int i = 0; i < quorumSetsSize; i++) {
+      decodedSCPHistoryEntryV0.quorumSets[i] =
+          SCPQuorumSet.decodeInto(decodedSCPHistoryEntryV0.quorumSets[i], stream);
+    }
+    decodedSCPHistoryEntryV0.ledgerMessages =
+        LedgerSCPMessages.decodeInto(decodedSCPHistoryEntryV0.ledgerMessages, stream);
+    return decodedSCPHistoryEntryV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int quorumSetsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < quorumSetsSize; i++) {
+      SCPQuorumSet.skip(stream);
+    }
+    LedgerSCPMessages.skip(stream);
+  }
+
   public static SCPHistoryEntryV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCPHistoryEntryV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("quorum_sets");
+    XdrJson.writeArray(writer, quorumSets);
+    writer.name("ledger_messages");
+    ledgerMessages.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCPHistoryEntryV0 fromJson(JsonReader reader) throws IOException {
+    SCPHistoryEntryV0 decodedSCPHistoryEntryV0 = new SCPHistoryEntryV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "quorum_sets":
+          decodedSCPHistoryEntryV0.quorumSets =
+              XdrJson.readArray(reader, SCPQuorumSet[]::new, SCPQuorumSet::fromJson);
+          break;
+        case "ledger_messages":
+          decodedSCPHistoryEntryV0.ledgerMessages = LedgerSCPMessages.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCPHistoryEntryV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCPHistoryEntryV0;
+  }
+
+  public static SCPHistoryEntryV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCPNomination's original definition in the XDR file is:
@@ -46,15 +46,31 @@ public class SCPNomination implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += quorumSetHash.encodedSize();
+    int votesSize = getVotes().length;
+    size += 4;
+    for (int i = 0; i < votesSize; i++) {
+      size += votes[i].encodedSize();
+    }
+    int acceptedSize = getAccepted().length;
+    size += 4;
+    for (int i = 0; i < acceptedSize; i++) {
+      size += accepted[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCPNomination decode(XdrDataInputStream stream) throws IOException {
     SCPNomination decodedSCPNomination = new SCPNomination();
     decodedSCPNomination.quorumSetHash = Hash.decode(stream);
-    int votesSize = stream.readInt();
+    int votesSize = stream.readLength(4);
     decodedSCPNomination.votes = new Value[votesSize];
     for (int i = 0; i < votesSize; i++) {
       decodedSCPNomination.votes[i] = Value.decode(stream);
     }
-    int acceptedSize = stream.readInt();
+    int acceptedSize = stream.readLength(4);
     decodedSCPNomination.accepted = new Value[acceptedSize];
     for (int i = 0; i < acceptedSize; i++) {
       decodedSCPNomination.accepted[i] = Value.decode(stream);
@@ -62,14 +78,84 @@ public class SCPNomination implements XdrElement {
     return decodedSCPNomination;
   }
 
+  public static SCPNomination decodeInto(SCPNomination existing, XdrDataInputStream stream)
+      throws IOException {
+    SCPNomination decodedSCPNomination = existing != null ? existing : new SCPNomination();
+    decodedSCPNomination.quorumSetHash =
+        Hash.decodeInto(decodedSCPNomination.quorumSetHash, stream);
+    int votesSize = stream.readLength(4);
+    decodedSCPNomination.votes =
+        XdrRecycler.resize(decodedSCPNomination.votes, votesSize, Value[]::new);
+    for (int i = 0; i < votesSize; i++) {
+      decodedSCPNomination.votes[i] = Value.decodeInto(decodedSCPNomination.votes[i], stream);
+    }
+    int acceptedSize = stream.readLength(4);
+    decodedSCPNomination.accepted =
+        XdrRecycler.resize(decodedSCPNomination.accepted, acceptedSize, Value[]::new);
+    for (int i = 0; i < acceptedSize; i++) {
+      decodedSCPNomination.accepted[i] = Value.decodeInto(decodedSCPNomination.accepted[i], stream);
+    }
+    return decodedSCPNomination;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+    int votesSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < votesSize; i++) {
+      Value.skip(stream);
+    }
+    int acceptedSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < acceptedSize; i++) {
+      Value.skip(stream);
+    }
+  }
+
   public static SCPNomination fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCPNomination fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("quorum_set_hash");
+    quorumSetHash.toJson(writer);
+    writer.name("votes");
+    XdrJson.writeArray(writer, votes);
+    writer.name("accepted");
+    XdrJson.writeArray(writer, accepted);
+    writer.endObject();
+  }
+
+  public static SCPNomination fromJson(JsonReader reader) throws IOException {
+    SCPNomination decodedSCPNomination = new SCPNomination();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "quorum_set_hash":
+          decodedSCPNomination.quorumSetHash = Hash.fromJson(reader);
+          break;
+        case "votes":
+          decodedSCPNomination.votes = XdrJson.readArray(reader, Value[]::new, Value::fromJson);
+          break;
+        case "accepted":
+          decodedSCPNomination.accepted = XdrJson.readArray(reader, Value[]::new, Value::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SCPNomination field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCPNomination;
+  }
+
+  public static SCPNomination fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
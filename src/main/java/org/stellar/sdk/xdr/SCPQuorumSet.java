@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCPQuorumSet's original definition in the XDR file is:
@@ -46,30 +46,134 @@ public class SCPQuorumSet implements XdrElement {
     }
   }
 
-  public static SCPQuorumSet decode(XdrDataInputStream stream) throws IOException {
-    SCPQuorumSet decodedSCPQuorumSet = new SCPQuorumSet();
-    decodedSCPQuorumSet.threshold = Uint32.decode(stream);
-    int validatorsSize = stream.readInt();
-    decodedSCPQuorumSet.validators = new NodeID[validatorsSize];
+  public int encodedSize() {
+    int size = 0;
+    size += threshold.encodedSize();
+    int validatorsSize = getValidators().length;
+    size += 4;
     for (int i = 0; i < validatorsSize; i++) {
-      decodedSCPQuorumSet.validators[i] = NodeID.decode(stream);
+      size += validators[i].encodedSize();
     }
-    int innerSetsSize = stream.readInt();
-    decodedSCPQuorumSet.innerSets = new SCPQuorumSet[innerSetsSize];
+    int innerSetsSize = getInnerSets().length;
+    size += 4;
     for (int i = 0; i < innerSetsSize; i++) {
-      decodedSCPQuorumSet.innerSets[i] = SCPQuorumSet.decode(stream);
+      size += innerSets[i].encodedSize();
+    }
+    return size;
+  }
+
+  public static SCPQuorumSet decode(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCPQuorumSet decodedSCPQuorumSet = new SCPQuorumSet();
+      decodedSCPQuorumSet.threshold = Uint32.decode(stream);
+      int validatorsSize = stream.readLength(4);
+      decodedSCPQuorumSet.validators = new NodeID[validatorsSize];
+      for (int i = 0; i < validatorsSize; i++) {
+        decodedSCPQuorumSet.validators[i] = NodeID.decode(stream);
+      }
+      int innerSetsSize = stream.readLength(4);
+      decodedSCPQuorumSet.innerSets = new SCPQuorumSet[innerSetsSize];
+      for (int i = 0; i < innerSetsSize; i++) {
+        decodedSCPQuorumSet.innerSets[i] = SCPQuorumSet.decode(stream);
+      }
+      return decodedSCPQuorumSet;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCPQuorumSet decodeInto(SCPQuorumSet existing, XdrDataInputStream stream)
+      throws IOException {
+    stream.increaseDepth();
+    try {
+      SCPQuorumSet decodedSCPQuorumSet = existing != null ? existing : new SCPQuorumSet();
+      decodedSCPQuorumSet.threshold = Uint32.decodeInto(decodedSCPQuorumSet.threshold, stream);
+      int validatorsSize = stream.readLength(4);
+      decodedSCPQuorumSet.validators =
+          XdrRecycler.resize(decodedSCPQuorumSet.validators, validatorsSize, NodeID[]::new);
+      for (int i = 0; i < validatorsSize; i++) {
+        decodedSCPQuorumSet.validators[i] =
+            NodeID.decodeInto(decodedSCPQuorumSet.validators[i], stream);
+      }
+      int innerSetsSize = stream.readLength(4);
+      decodedSCPQuorumSet.innerSets =
+          XdrRecycler.resize(decodedSCPQuorumSet.innerSets, innerSetsSize, SCPQuorumSet[]::new);
+      for (int i = 0; i < innerSetsSize; i++) {
+        decodedSCPQuorumSet.innerSets[i] =
+            SCPQuorumSet.decodeInto(decodedSCPQuorumSet.innerSets[i], stream);
+      }
+      return decodedSCPQuorumSet;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      Uint32.skip(stream);
+      int validatorsSize = stream.readLength(Integer.MAX_VALUE, 4);
+      for (int i = 0; i < validatorsSize; i++) {
+        NodeID.skip(stream);
+      }
+      int innerSetsSize = stream.readLength(Integer.MAX_VALUE, 4);
+      for (int i = 0; i < innerSetsSize; i++) {
+        SCPQuorumSet.skip(stream);
+      }
+    } finally {
+      stream.decreaseDepth();
     }
-    return decodedSCPQuorumSet;
   }
 
   public static SCPQuorumSet fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCPQuorumSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("threshold");
+    threshold.toJson(writer);
+    writer.name("validators");
+    XdrJson.writeArray(writer, validators);
+    writer.name("inner_sets");
+    XdrJson.writeArray(writer, innerSets);
+    writer.endObject();
+  }
+
+  public static SCPQuorumSet fromJson(JsonReader reader) throws IOException {
+    SCPQuorumSet decodedSCPQuorumSet = new SCPQuorumSet();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "threshold":
+          decodedSCPQuorumSet.threshold = Uint32.fromJson(reader);
+          break;
+        case "validators":
+          decodedSCPQuorumSet.validators =
+              XdrJson.readArray(reader, NodeID[]::new, NodeID::fromJson);
+          break;
+        case "inner_sets":
+          decodedSCPQuorumSet.innerSets =
+              XdrJson.readArray(reader, SCPQuorumSet[]::new, SCPQuorumSet::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SCPQuorumSet field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCPQuorumSet;
+  }
+
+  public static SCPQuorumSet fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCPStatement's original definition in the XDR file is:
@@ -70,6 +70,14 @@ public class SCPStatement implements XdrElement {
     pledges.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += nodeID.encodedSize();
+    size += slotIndex.encodedSize();
+    size += pledges.encodedSize();
+    return size;
+  }
+
   public static SCPStatement decode(XdrDataInputStream stream) throws IOException {
     SCPStatement decodedSCPStatement = new SCPStatement();
     decodedSCPStatement.nodeID = NodeID.decode(stream);
@@ -78,17 +86,71 @@ public class SCPStatement implements XdrElement {
     return decodedSCPStatement;
   }
 
+  public static SCPStatement decodeInto(SCPStatement existing, XdrDataInputStream stream)
+      throws IOException {
+    SCPStatement decodedSCPStatement = existing != null ? existing : new SCPStatement();
+    decodedSCPStatement.nodeID = NodeID.decodeInto(decodedSCPStatement.nodeID, stream);
+    decodedSCPStatement.slotIndex = Uint64.decodeInto(decodedSCPStatement.slotIndex, stream);
+    decodedSCPStatement.pledges =
+        SCPStatementPledges.decodeInto(decodedSCPStatement.pledges, stream);
+    return decodedSCPStatement;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    NodeID.skip(stream);
+    Uint64.skip(stream);
+    SCPStatementPledges.skip(stream);
+  }
+
   public static SCPStatement fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCPStatement fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("node_id");
+    nodeID.toJson(writer);
+    writer.name("slot_index");
+    slotIndex.toJson(writer);
+    writer.name("pledges");
+    pledges.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCPStatement fromJson(JsonReader reader) throws IOException {
+    SCPStatement decodedSCPStatement = new SCPStatement();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "node_id":
+          decodedSCPStatement.nodeID = NodeID.fromJson(reader);
+          break;
+        case "slot_index":
+          decodedSCPStatement.slotIndex = Uint64.fromJson(reader);
+          break;
+        case "pledges":
+          decodedSCPStatement.pledges = SCPStatementPledges.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCPStatement field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCPStatement;
+  }
+
+  public static SCPStatement fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * SCPStatementPledges's original definition in the XDR file is:
    *
@@ -155,6 +217,26 @@ public class SCPStatement implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case SCP_ST_PREPARE:
+          size += prepare.encodedSize();
+          break;
+        case SCP_ST_CONFIRM:
+          size += confirm.encodedSize();
+          break;
+        case SCP_ST_EXTERNALIZE:
+          size += externalize.encodedSize();
+          break;
+        case SCP_ST_NOMINATE:
+          size += nominate.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static SCPStatementPledges decode(XdrDataInputStream stream) throws IOException {
       SCPStatementPledges decodedSCPStatementPledges = new SCPStatementPledges();
       SCPStatementType discriminant = SCPStatementType.decode(stream);
@@ -176,17 +258,127 @@ public class SCPStatement implements XdrElement {
       return decodedSCPStatementPledges;
     }
 
+    public static SCPStatementPledges decodeInto(
+        SCPStatementPledges existing, XdrDataInputStream stream) throws IOException {
+      SCPStatementType discriminant = SCPStatementType.decode(stream);
+      SCPStatementPledges decodedSCPStatementPledges =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new SCPStatementPledges();
+      decodedSCPStatementPledges.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case SCP_ST_PREPARE:
+          decodedSCPStatementPledges.prepare =
+              SCPStatementPrepare.decodeInto(decodedSCPStatementPledges.prepare, stream);
+          break;
+        case SCP_ST_CONFIRM:
+          decodedSCPStatementPledges.confirm =
+              SCPStatementConfirm.decodeInto(decodedSCPStatementPledges.confirm, stream);
+          break;
+        case SCP_ST_EXTERNALIZE:
+          decodedSCPStatementPledges.externalize =
+              SCPStatementExternalize.decodeInto(decodedSCPStatementPledges.externalize, stream);
+          break;
+        case SCP_ST_NOMINATE:
+          decodedSCPStatementPledges.nominate =
+              SCPNomination.decodeInto(decodedSCPStatementPledges.nominate, stream);
+          break;
+      }
+      return decodedSCPStatementPledges;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      SCPStatementType discriminant = SCPStatementType.decode(stream);
+      switch (discriminant) {
+        case SCP_ST_PREPARE:
+          SCPStatementPrepare.skip(stream);
+          break;
+        case SCP_ST_CONFIRM:
+          SCPStatementConfirm.skip(stream);
+          break;
+        case SCP_ST_EXTERNALIZE:
+          SCPStatementExternalize.skip(stream);
+          break;
+        case SCP_ST_NOMINATE:
+          SCPNomination.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown SCPStatementPledges discriminant: " + discriminant);
+      }
+    }
+
     public static SCPStatementPledges fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static SCPStatementPledges fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
 
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case SCP_ST_PREPARE:
+          writer.beginObject();
+          writer.name("prepare");
+          prepare.toJson(writer);
+          writer.endObject();
+          break;
+        case SCP_ST_CONFIRM:
+          writer.beginObject();
+          writer.name("confirm");
+          confirm.toJson(writer);
+          writer.endObject();
+          break;
+        case SCP_ST_EXTERNALIZE:
+          writer.beginObject();
+          writer.name("externalize");
+          externalize.toJson(writer);
+          writer.endObject();
+          break;
+        case SCP_ST_NOMINATE:
+          writer.beginObject();
+          writer.name("nominate");
+          nominate.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static SCPStatementPledges fromJson(JsonReader reader) throws IOException {
+      SCPStatementPledges decodedSCPStatementPledges = new SCPStatementPledges();
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "prepare":
+          decodedSCPStatementPledges.setDiscriminant(SCPStatementType.SCP_ST_PREPARE);
+          decodedSCPStatementPledges.prepare = SCPStatementPrepare.fromJson(reader);
+          break;
+        case "confirm":
+          decodedSCPStatementPledges.setDiscriminant(SCPStatementType.SCP_ST_CONFIRM);
+          decodedSCPStatementPledges.confirm = SCPStatementConfirm.fromJson(reader);
+          break;
+        case "externalize":
+          decodedSCPStatementPledges.setDiscriminant(SCPStatementType.SCP_ST_EXTERNALIZE);
+          decodedSCPStatementPledges.externalize = SCPStatementExternalize.fromJson(reader);
+          break;
+        case "nominate":
+          decodedSCPStatementPledges.setDiscriminant(SCPStatementType.SCP_ST_NOMINATE);
+          decodedSCPStatementPledges.nominate = SCPNomination.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCPStatementPledges arm: " + key);
+      }
+      reader.endObject();
+      return decodedSCPStatementPledges;
+    }
+
+    public static SCPStatementPledges fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
+
     /**
      * SCPStatementPrepare's original definition in the XDR file is:
      *
@@ -233,6 +425,27 @@ public class SCPStatement implements XdrElement {
         nH.encode(stream);
       }
 
+      public int encodedSize() {
+        int size = 0;
+        size += quorumSetHash.encodedSize();
+        size += ballot.encodedSize();
+        if (prepared != null) {
+          size += 4;
+          size += prepared.encodedSize();
+        } else {
+          size += 4;
+        }
+        if (preparedPrime != null) {
+          size += 4;
+          size += preparedPrime.encodedSize();
+        } else {
+          size += 4;
+        }
+        size += nC.encodedSize();
+        size += nH.encodedSize();
+        return size;
+      }
+
       public static SCPStatementPrepare decode(XdrDataInputStream stream) throws IOException {
         SCPStatementPrepare decodedSCPStatementPrepare = new SCPStatementPrepare();
         decodedSCPStatementPrepare.quorumSetHash = Hash.decode(stream);
@@ -250,16 +463,111 @@ public class SCPStatement implements XdrElement {
         return decodedSCPStatementPrepare;
       }
 
+      public static SCPStatementPrepare decodeInto(
+          SCPStatementPrepare existing, XdrDataInputStream stream) throws IOException {
+        SCPStatementPrepare decodedSCPStatementPrepare =
+            existing != null ? existing : new SCPStatementPrepare();
+        decodedSCPStatementPrepare.quorumSetHash =
+            Hash.decodeInto(decodedSCPStatementPrepare.quorumSetHash, stream);
+        decodedSCPStatementPrepare.ballot =
+            SCPBallot.decodeInto(decodedSCPStatementPrepare.ballot, stream);
+        int preparedPresent = stream.readInt();
+        if (preparedPresent != 0) {
+          decodedSCPStatementPrepare.prepared =
+              SCPBallot.decodeInto(decodedSCPStatementPrepare.prepared, stream);
+        } else {
+          decodedSCPStatementPrepare.prepared = null;
+        }
+        int preparedPrimePresent = stream.readInt();
+        if (preparedPrimePresent != 0) {
+          decodedSCPStatementPrepare.preparedPrime =
+              SCPBallot.decodeInto(decodedSCPStatementPrepare.preparedPrime, stream);
+        } else {
+          decodedSCPStatementPrepare.preparedPrime = null;
+        }
+        decodedSCPStatementPrepare.nC = Uint32.decodeInto(decodedSCPStatementPrepare.nC, stream);
+        decodedSCPStatementPrepare.nH = Uint32.decodeInto(decodedSCPStatementPrepare.nH, stream);
+        return decodedSCPStatementPrepare;
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        Hash.skip(stream);
+        SCPBallot.skip(stream);
+        if (stream.readXdrBoolean()) {
+          SCPBallot.skip(stream);
+        }
+        if (stream.readXdrBoolean()) {
+          SCPBallot.skip(stream);
+        }
+        Uint32.skip(stream);
+        Uint32.skip(stream);
+      }
+
       public static SCPStatementPrepare fromXdrBase64(String xdr) throws IOException {
-        byte[] bytes = Base64Factory.getInstance().decode(xdr);
-        return fromXdrByteArray(bytes);
+        XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+        return decode(xdrDataInputStream);
       }
 
       public static SCPStatementPrepare fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
         return decode(xdrDataInputStream);
       }
+
+      @Override
+      public void toJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("quorum_set_hash");
+        quorumSetHash.toJson(writer);
+        writer.name("ballot");
+        ballot.toJson(writer);
+        writer.name("prepared");
+        XdrJson.writeOptional(writer, prepared);
+        writer.name("prepared_prime");
+        XdrJson.writeOptional(writer, preparedPrime);
+        writer.name("n_c");
+        nC.toJson(writer);
+        writer.name("n_h");
+        nH.toJson(writer);
+        writer.endObject();
+      }
+
+      public static SCPStatementPrepare fromJson(JsonReader reader) throws IOException {
+        SCPStatementPrepare decodedSCPStatementPrepare = new SCPStatementPrepare();
+        reader.beginObject();
+        while (reader.hasNext()) {
+          String key = reader.nextName();
+          switch (key) {
+            case "quorum_set_hash":
+              decodedSCPStatementPrepare.quorumSetHash = Hash.fromJson(reader);
+              break;
+            case "ballot":
+              decodedSCPStatementPrepare.ballot = SCPBallot.fromJson(reader);
+              break;
+            case "prepared":
+              decodedSCPStatementPrepare.prepared =
+                  XdrJson.readOptional(reader, SCPBallot::fromJson);
+              break;
+            case "prepared_prime":
+              decodedSCPStatementPrepare.preparedPrime =
+                  XdrJson.readOptional(reader, SCPBallot::fromJson);
+              break;
+            case "n_c":
+              decodedSCPStatementPrepare.nC = Uint32.fromJson(reader);
+              break;
+            case "n_h":
+              decodedSCPStatementPrepare.nH = Uint32.fromJson(reader);
+              break;
+            default:
+              throw new IOException("Unknown SCPStatementPrepare field: " + key);
+          }
+        }
+        reader.endObject();
+        return decodedSCPStatementPrepare;
+      }
+
+      public static SCPStatementPrepare fromJson(String json) throws IOException {
+        return XdrJson.fromJson(json, reader -> fromJson(reader));
+      }
     }
 
     /**
@@ -295,6 +603,16 @@ public class SCPStatement implements XdrElement {
         quorumSetHash.encode(stream);
       }
 
+      public int encodedSize() {
+        int size = 0;
+        size += ballot.encodedSize();
+        size += nPrepared.encodedSize();
+        size += nCommit.encodedSize();
+        size += nH.encodedSize();
+        size += quorumSetHash.encodedSize();
+        return size;
+      }
+
       public static SCPStatementConfirm decode(XdrDataInputStream stream) throws IOException {
         SCPStatementConfirm decodedSCPStatementConfirm = new SCPStatementConfirm();
         decodedSCPStatementConfirm.ballot = SCPBallot.decode(stream);
@@ -305,16 +623,88 @@ public class SCPStatement implements XdrElement {
         return decodedSCPStatementConfirm;
       }
 
+      public static SCPStatementConfirm decodeInto(
+          SCPStatementConfirm existing, XdrDataInputStream stream) throws IOException {
+        SCPStatementConfirm decodedSCPStatementConfirm =
+            existing != null ? existing : new SCPStatementConfirm();
+        decodedSCPStatementConfirm.ballot =
+            SCPBallot.decodeInto(decodedSCPStatementConfirm.ballot, stream);
+        decodedSCPStatementConfirm.nPrepared =
+            Uint32.decodeInto(decodedSCPStatementConfirm.nPrepared, stream);
+        decodedSCPStatementConfirm.nCommit =
+            Uint32.decodeInto(decodedSCPStatementConfirm.nCommit, stream);
+        decodedSCPStatementConfirm.nH = Uint32.decodeInto(decodedSCPStatementConfirm.nH, stream);
+        decodedSCPStatementConfirm.quorumSetHash =
+            Hash.decodeInto(decodedSCPStatementConfirm.quorumSetHash, stream);
+        return decodedSCPStatementConfirm;
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        SCPBallot.skip(stream);
+        Uint32.skip(stream);
+        Uint32.skip(stream);
+        Uint32.skip(stream);
+        Hash.skip(stream);
+      }
+
       public static SCPStatementConfirm fromXdrBase64(String xdr) throws IOException {
-        byte[] bytes = Base64Factory.getInstance().decode(xdr);
-        return fromXdrByteArray(bytes);
+        XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+        return decode(xdrDataInputStream);
       }
 
       public static SCPStatementConfirm fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
         return decode(xdrDataInputStream);
       }
+
+      @Override
+      public void toJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("ballot");
+        ballot.toJson(writer);
+        writer.name("n_prepared");
+        nPrepared.toJson(writer);
+        writer.name("n_commit");
+        nCommit.toJson(writer);
+        writer.name("n_h");
+        nH.toJson(writer);
+        writer.name("quorum_set_hash");
+        quorumSetHash.toJson(writer);
+        writer.endObject();
+      }
+
+      public static SCPStatementConfirm fromJson(JsonReader reader) throws IOException {
+        SCPStatementConfirm decodedSCPStatementConfirm = new SCPStatementConfirm();
+        reader.beginObject();
+        while (reader.hasNext()) {
+          String key = reader.nextName();
+          switch (key) {
+            case "ballot":
+              decodedSCPStatementConfirm.ballot = SCPBallot.fromJson(reader);
+              break;
+            case "n_prepared":
+              decodedSCPStatementConfirm.nPrepared = Uint32.fromJson(reader);
+              break;
+            case "n_commit":
+              decodedSCPStatementConfirm.nCommit = Uint32.fromJson(reader);
+              break;
+            case "n_h":
+              decodedSCPStatementConfirm.nH = Uint32.fromJson(reader);
+              break;
+            case "quorum_set_hash":
+              decodedSCPStatementConfirm.quorumSetHash = Hash.fromJson(reader);
+              break;
+            default:
+              throw new IOException("Unknown SCPStatementConfirm field: " + key);
+          }
+        }
+        reader.endObject();
+        return decodedSCPStatementConfirm;
+      }
+
+      public static SCPStatementConfirm fromJson(String json) throws IOException {
+        return XdrJson.fromJson(json, reader -> fromJson(reader));
+      }
     }
 
     /**
@@ -344,6 +734,14 @@ public class SCPStatement implements XdrElement {
         commitQuorumSetHash.encode(stream);
       }
 
+      public int encodedSize() {
+        int size = 0;
+        size += commit.encodedSize();
+        size += nH.encodedSize();
+        size += commitQuorumSetHash.encodedSize();
+        return size;
+      }
+
       public static SCPStatementExternalize decode(XdrDataInputStream stream) throws IOException {
         SCPStatementExternalize decodedSCPStatementExternalize = new SCPStatementExternalize();
         decodedSCPStatementExternalize.commit = SCPBallot.decode(stream);
@@ -352,16 +750,73 @@ public class SCPStatement implements XdrElement {
         return decodedSCPStatementExternalize;
       }
 
+      public static SCPStatementExternalize decodeInto(
+          SCPStatementExternalize existing, XdrDataInputStream stream) throws IOException {
+        SCPStatementExternalize decodedSCPStatementExternalize =
+            existing != null ? existing : new SCPStatementExternalize();
+        decodedSCPStatementExternalize.commit =
+            SCPBallot.decodeInto(decodedSCPStatementExternalize.commit, stream);
+        decodedSCPStatementExternalize.nH =
+            Uint32.decodeInto(decodedSCPStatementExternalize.nH, stream);
+        decodedSCPStatementExternalize.commitQuorumSetHash =
+            Hash.decodeInto(decodedSCPStatementExternalize.commitQuorumSetHash, stream);
+        return decodedSCPStatementExternalize;
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        SCPBallot.skip(stream);
+        Uint32.skip(stream);
+        Hash.skip(stream);
+      }
+
       public static SCPStatementExternalize fromXdrBase64(String xdr) throws IOException {
-        byte[] bytes = Base64Factory.getInstance().decode(xdr);
-        return fromXdrByteArray(bytes);
+        XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+        return decode(xdrDataInputStream);
       }
 
       public static SCPStatementExternalize fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
         return decode(xdrDataInputStream);
       }
+
+      @Override
+      public void toJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("commit");
+        commit.toJson(writer);
+        writer.name("n_h");
+        nH.toJson(writer);
+        writer.name("commit_quorum_set_hash");
+        commitQuorumSetHash.toJson(writer);
+        writer.endObject();
+      }
+
+      public static SCPStatementExternalize fromJson(JsonReader reader) throws IOException {
+        SCPStatementExternalize decodedSCPStatementExternalize = new SCPStatementExternalize();
+        reader.beginObject();
+        while (reader.hasNext()) {
+          String key = reader.nextName();
+          switch (key) {
+            case "commit":
+              decodedSCPStatementExternalize.commit = SCPBallot.fromJson(reader);
+              break;
+            case "n_h":
+              decodedSCPStatementExternalize.nH = Uint32.fromJson(reader);
+              break;
+            case "commit_quorum_set_hash":
+              decodedSCPStatementExternalize.commitQuorumSetHash = Hash.fromJson(reader);
+              break;
+            default:
+              throw new IOException("Unknown SCPStatementExternalize field: " + key);
+          }
+        }
+        reader.endObject();
+        return decodedSCPStatementExternalize;
+      }
+
+      public static SCPStatementExternalize fromJson(String json) throws IOException {
+        return XdrJson.fromJson(json, reader -> fromJson(reader));
+      }
     }
   }
 }
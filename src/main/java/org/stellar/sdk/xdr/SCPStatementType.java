@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCPStatementType's original definition in the XDR file is:
@@ -52,18 +52,63 @@ public enum SCPStatementType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCPStatementType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCPStatementType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SCP_ST_PREPARE:
+        writer.value("prepare");
+        break;
+      case SCP_ST_CONFIRM:
+        writer.value("confirm");
+        break;
+      case SCP_ST_EXTERNALIZE:
+        writer.value("externalize");
+        break;
+      case SCP_ST_NOMINATE:
+        writer.value("nominate");
+        break;
+    }
+  }
+
+  public static SCPStatementType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "prepare":
+        return SCP_ST_PREPARE;
+      case "confirm":
+        return SCP_ST_CONFIRM;
+      case "externalize":
+        return SCP_ST_EXTERNALIZE;
+      case "nominate":
+        return SCP_ST_NOMINATE;
+      default:
+        throw new IOException("Unknown SCPStatementType value: " + value);
+    }
+  }
+
+  public static SCPStatementType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
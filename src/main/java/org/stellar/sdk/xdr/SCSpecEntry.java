@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecEntry's original definition in the XDR file is:
@@ -69,6 +69,32 @@ public class SCSpecEntry implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SC_SPEC_ENTRY_FUNCTION_V0:
+        size += functionV0.encodedSize();
+        break;
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        size += udtStructV0.encodedSize();
+        break;
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        size += udtUnionV0.encodedSize();
+        break;
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        size += udtEnumV0.encodedSize();
+        break;
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        size += udtErrorEnumV0.encodedSize();
+        break;
+      case SC_SPEC_ENTRY_EVENT_V0:
+        size += eventV0.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCSpecEntry decode(XdrDataInputStream stream) throws IOException {
     SCSpecEntry decodedSCSpecEntry = new SCSpecEntry();
     SCSpecEntryKind discriminant = SCSpecEntryKind.decode(stream);
@@ -96,14 +122,157 @@ public class SCSpecEntry implements XdrElement {
     return decodedSCSpecEntry;
   }
 
+  public static SCSpecEntry decodeInto(SCSpecEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    SCSpecEntryKind discriminant = SCSpecEntryKind.decode(stream);
+    SCSpecEntry decodedSCSpecEntry =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SCSpecEntry();
+    decodedSCSpecEntry.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SC_SPEC_ENTRY_FUNCTION_V0:
+        decodedSCSpecEntry.functionV0 =
+            SCSpecFunctionV0.decodeInto(decodedSCSpecEntry.functionV0, stream);
+        break;
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        decodedSCSpecEntry.udtStructV0 =
+            SCSpecUDTStructV0.decodeInto(decodedSCSpecEntry.udtStructV0, stream);
+        break;
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        decodedSCSpecEntry.udtUnionV0 =
+            SCSpecUDTUnionV0.decodeInto(decodedSCSpecEntry.udtUnionV0, stream);
+        break;
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        decodedSCSpecEntry.udtEnumV0 =
+            SCSpecUDTEnumV0.decodeInto(decodedSCSpecEntry.udtEnumV0, stream);
+        break;
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        decodedSCSpecEntry.udtErrorEnumV0 =
+            SCSpecUDTErrorEnumV0.decodeInto(decodedSCSpecEntry.udtErrorEnumV0, stream);
+        break;
+      case SC_SPEC_ENTRY_EVENT_V0:
+        decodedSCSpecEntry.eventV0 = SCSpecEventV0.decodeInto(decodedSCSpecEntry.eventV0, stream);
+        break;
+    }
+    return decodedSCSpecEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SCSpecEntryKind discriminant = SCSpecEntryKind.decode(stream);
+    switch (discriminant) {
+      case SC_SPEC_ENTRY_FUNCTION_V0:
+        SCSpecFunctionV0.skip(stream);
+        break;
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        SCSpecUDTStructV0.skip(stream);
+        break;
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        SCSpecUDTUnionV0.skip(stream);
+        break;
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        SCSpecUDTEnumV0.skip(stream);
+        break;
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        SCSpecUDTErrorEnumV0.skip(stream);
+        break;
+      case SC_SPEC_ENTRY_EVENT_V0:
+        SCSpecEventV0.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SCSpecEntry discriminant: " + discriminant);
+    }
+  }
+
   public static SCSpecEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SC_SPEC_ENTRY_FUNCTION_V0:
+        writer.beginObject();
+        writer.name("function_v0");
+        functionV0.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        writer.beginObject();
+        writer.name("udt_struct_v0");
+        udtStructV0.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        writer.beginObject();
+        writer.name("udt_union_v0");
+        udtUnionV0.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        writer.beginObject();
+        writer.name("udt_enum_v0");
+        udtEnumV0.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        writer.beginObject();
+        writer.name("udt_error_enum_v0");
+        udtErrorEnumV0.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_ENTRY_EVENT_V0:
+        writer.beginObject();
+        writer.name("event_v0");
+        eventV0.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SCSpecEntry fromJson(JsonReader reader) throws IOException {
+    SCSpecEntry decodedSCSpecEntry = new SCSpecEntry();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "function_v0":
+        decodedSCSpecEntry.setDiscriminant(SCSpecEntryKind.SC_SPEC_ENTRY_FUNCTION_V0);
+        decodedSCSpecEntry.functionV0 = SCSpecFunctionV0.fromJson(reader);
+        break;
+      case "udt_struct_v0":
+        decodedSCSpecEntry.setDiscriminant(SCSpecEntryKind.SC_SPEC_ENTRY_UDT_STRUCT_V0);
+        decodedSCSpecEntry.udtStructV0 = SCSpecUDTStructV0.fromJson(reader);
+        break;
+      case "udt_union_v0":
+        decodedSCSpecEntry.setDiscriminant(SCSpecEntryKind.SC_SPEC_ENTRY_UDT_UNION_V0);
+        decodedSCSpecEntry.udtUnionV0 = SCSpecUDTUnionV0.fromJson(reader);
+        break;
+      case "udt_enum_v0":
+        decodedSCSpecEntry.setDiscriminant(SCSpecEntryKind.SC_SPEC_ENTRY_UDT_ENUM_V0);
+        decodedSCSpecEntry.udtEnumV0 = SCSpecUDTEnumV0.fromJson(reader);
+        break;
+      case "udt_error_enum_v0":
+        decodedSCSpecEntry.setDiscriminant(SCSpecEntryKind.SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0);
+        decodedSCSpecEntry.udtErrorEnumV0 = SCSpecUDTErrorEnumV0.fromJson(reader);
+        break;
+      case "event_v0":
+        decodedSCSpecEntry.setDiscriminant(SCSpecEntryKind.SC_SPEC_ENTRY_EVENT_V0);
+        decodedSCSpecEntry.eventV0 = SCSpecEventV0.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SCSpecEntry arm: " + key);
+    }
+    reader.endObject();
+    return decodedSCSpecEntry;
+  }
+
+  public static SCSpecEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecEntryKind's original definition in the XDR file is:
@@ -60,18 +60,73 @@ public enum SCSpecEntryKind implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCSpecEntryKind fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecEntryKind fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SC_SPEC_ENTRY_FUNCTION_V0:
+        writer.value("function_v0");
+        break;
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        writer.value("udt_struct_v0");
+        break;
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        writer.value("udt_union_v0");
+        break;
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        writer.value("udt_enum_v0");
+        break;
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        writer.value("udt_error_enum_v0");
+        break;
+      case SC_SPEC_ENTRY_EVENT_V0:
+        writer.value("event_v0");
+        break;
+    }
+  }
+
+  public static SCSpecEntryKind fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "function_v0":
+        return SC_SPEC_ENTRY_FUNCTION_V0;
+      case "udt_struct_v0":
+        return SC_SPEC_ENTRY_UDT_STRUCT_V0;
+      case "udt_union_v0":
+        return SC_SPEC_ENTRY_UDT_UNION_V0;
+      case "udt_enum_v0":
+        return SC_SPEC_ENTRY_UDT_ENUM_V0;
+      case "udt_error_enum_v0":
+        return SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0;
+      case "event_v0":
+        return SC_SPEC_ENTRY_EVENT_V0;
+      default:
+        throw new IOException("Unknown SCSpecEntryKind value: " + value);
+    }
+  }
+
+  public static SCSpecEntryKind fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecEventDataFormat's original definition in the XDR file is:
@@ -48,18 +48,58 @@ public enum SCSpecEventDataFormat implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCSpecEventDataFormat fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecEventDataFormat fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SC_SPEC_EVENT_DATA_FORMAT_SINGLE_VALUE:
+        writer.value("single_value");
+        break;
+      case SC_SPEC_EVENT_DATA_FORMAT_VEC:
+        writer.value("vec");
+        break;
+      case SC_SPEC_EVENT_DATA_FORMAT_MAP:
+        writer.value("map");
+        break;
+    }
+  }
+
+  public static SCSpecEventDataFormat fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "single_value":
+        return SC_SPEC_EVENT_DATA_FORMAT_SINGLE_VALUE;
+      case "vec":
+        return SC_SPEC_EVENT_DATA_FORMAT_VEC;
+      case "map":
+        return SC_SPEC_EVENT_DATA_FORMAT_MAP;
+      default:
+        throw new IOException("Unknown SCSpecEventDataFormat value: " + value);
+    }
+  }
+
+  public static SCSpecEventDataFormat fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecEventParamLocationV0's original definition in the XDR file is:
@@ -44,18 +44,53 @@ public enum SCSpecEventParamLocationV0 implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCSpecEventParamLocationV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecEventParamLocationV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SC_SPEC_EVENT_PARAM_LOCATION_DATA:
+        writer.value("data");
+        break;
+      case SC_SPEC_EVENT_PARAM_LOCATION_TOPIC_LIST:
+        writer.value("topic_list");
+        break;
+    }
+  }
+
+  public static SCSpecEventParamLocationV0 fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "data":
+        return SC_SPEC_EVENT_PARAM_LOCATION_DATA;
+      case "topic_list":
+        return SC_SPEC_EVENT_PARAM_LOCATION_TOPIC_LIST;
+      default:
+        throw new IOException("Unknown SCSpecEventParamLocationV0 value: " + value);
+    }
+  }
+
+  public static SCSpecEventParamLocationV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecEventParamV0's original definition in the XDR file is:
@@ -41,6 +41,15 @@ public class SCSpecEventParamV0 implements XdrElement {
     location.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += name.encodedSize();
+    size += type.encodedSize();
+    size += location.encodedSize();
+    return size;
+  }
+
   public static SCSpecEventParamV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecEventParamV0 decodedSCSpecEventParamV0 = new SCSpecEventParamV0();
     decodedSCSpecEventParamV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
@@ -50,14 +59,76 @@ public class SCSpecEventParamV0 implements XdrElement {
     return decodedSCSpecEventParamV0;
   }
 
+  public static SCSpecEventParamV0 decodeInto(
+      SCSpecEventParamV0 existing, XdrDataInputStream stream) throws IOException {
+    SCSpecEventParamV0 decodedSCSpecEventParamV0 =
+        existing != null ? existing : new SCSpecEventParamV0();
+    decodedSCSpecEventParamV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecEventParamV0.name = XdrString.decode(stream, 30);
+    decodedSCSpecEventParamV0.type =
+        SCSpecTypeDef.decodeInto(decodedSCSpecEventParamV0.type, stream);
+    decodedSCSpecEventParamV0.location = SCSpecEventParamLocationV0.decode(stream);
+    return decodedSCSpecEventParamV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, 30);
+    SCSpecTypeDef.skip(stream);
+    SCSpecEventParamLocationV0.skip(stream);
+  }
+
   public static SCSpecEventParamV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecEventParamV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.name("type");
+    type.toJson(writer);
+    writer.name("location");
+    location.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecEventParamV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecEventParamV0 decodedSCSpecEventParamV0 = new SCSpecEventParamV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecEventParamV0.doc = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecEventParamV0.name = XdrString.fromJson(reader);
+          break;
+        case "type":
+          decodedSCSpecEventParamV0.type = SCSpecTypeDef.fromJson(reader);
+          break;
+        case "location":
+          decodedSCSpecEventParamV0.location = SCSpecEventParamLocationV0.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecEventParamV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecEventParamV0;
+  }
+
+  public static SCSpecEventParamV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecEventV0's original definition in the XDR file is:
@@ -55,17 +55,36 @@ public class SCSpecEventV0 implements XdrElement {
     dataFormat.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += lib.encodedSize();
+    size += name.encodedSize();
+    int prefixTopicsSize = getPrefixTopics().length;
+    size += 4;
+    for (int i = 0; i < prefixTopicsSize; i++) {
+      size += prefixTopics[i].encodedSize();
+    }
+    int paramsSize = getParams().length;
+    size += 4;
+    for (int i = 0; i < paramsSize; i++) {
+      size += params[i].encodedSize();
+    }
+    size += dataFormat.encodedSize();
+    return size;
+  }
+
   public static SCSpecEventV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecEventV0 decodedSCSpecEventV0 = new SCSpecEventV0();
     decodedSCSpecEventV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
     decodedSCSpecEventV0.lib = XdrString.decode(stream, 80);
     decodedSCSpecEventV0.name = SCSymbol.decode(stream);
-    int prefixTopicsSize = stream.readInt();
+    int prefixTopicsSize = stream.readLength(4);
     decodedSCSpecEventV0.prefixTopics = new SCSymbol[prefixTopicsSize];
     for (int i = 0; i < prefixTopicsSize; i++) {
       decodedSCSpecEventV0.prefixTopics[i] = SCSymbol.decode(stream);
     }
-    int paramsSize = stream.readInt();
+    int paramsSize = stream.readLength(4);
     decodedSCSpecEventV0.params = new SCSpecEventParamV0[paramsSize];
     for (int i = 0; i < paramsSize; i++) {
       decodedSCSpecEventV0.params[i] = SCSpecEventParamV0.decode(stream);
@@ -74,14 +93,108 @@ public class SCSpecEventV0 implements XdrElement {
     return decodedSCSpecEventV0;
   }
 
+  public static SCSpecEventV0 decodeInto(SCSpecEventV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    SCSpecEventV0 decodedSCSpecEventV0 = existing != null ? existing : new SCSpecEventV0();
+    decodedSCSpecEventV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecEventV0.lib = XdrString.decode(stream, 80);
+    decodedSCSpecEventV0.name = SCSymbol.decodeInto(decodedSCSpecEventV0.name, stream);
+    int prefixTopicsSize = stream.readLength(4);
+    decodedSCSpecEventV0.prefixTopics =
+        XdrRecycler.resize(decodedSCSpecEventV0.prefixTopics, prefixTopicsSize, SCSymbol[]::new);
+    for (int i = 0; i < prefixTopicsSize; i++) {
+      decodedSCSpecEventV0.prefixTopics[i] =
+          SCSymbol.decodeInto(decodedSCSpecEventV0.prefixTopics[i], stream);
+    }
+    int paramsSize = stream.readLength(4);
+    decodedSCSpecEventV0.params =
+        XdrRecycler.resize(decodedSCSpecEventV0.params, paramsSize, SCSpecEventParamV0[]::new);
+    for (int i = 0; i < paramsSize; i++) {
+      decodedSCSpecEventV0.params[i] =
+          SCSpecEventParamV0.decodeInto(decodedSCSpecEventV0.params[i], stream);
+    }
+    decodedSCSpecEventV0.dataFormat = SCSpecEventDataFormat.decode(stream);
+    return decodedSCSpecEventV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, 80);
+    SCSymbol.skip(stream);
+    int prefixTopicsSize = stream.readLength(2, 4);
+    for (int i = 0; i < prefixTopicsSize; i++) {
+      SCSymbol.skip(stream);
+    }
+    int paramsSize = stream.readLength(50, 4);
+    for (int i = 0; i < paramsSize; i++) {
+      SCSpecEventParamV0.skip(stream);
+    }
+    SCSpecEventDataFormat.skip(stream);
+  }
+
   public static SCSpecEventV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecEventV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("lib");
+    lib.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.name("prefix_topics");
+    XdrJson.writeArray(writer, prefixTopics);
+    writer.name("params");
+    XdrJson.writeArray(writer, params);
+    writer.name("data_format");
+    dataFormat.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecEventV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecEventV0 decodedSCSpecEventV0 = new SCSpecEventV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecEventV0.doc = XdrString.fromJson(reader);
+          break;
+        case "lib":
+          decodedSCSpecEventV0.lib = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecEventV0.name = SCSymbol.fromJson(reader);
+          break;
+        case "prefix_topics":
+          decodedSCSpecEventV0.prefixTopics =
+              XdrJson.readArray(reader, SCSymbol[]::new, SCSymbol::fromJson);
+          break;
+        case "params":
+          decodedSCSpecEventV0.params =
+              XdrJson.readArray(reader, SCSpecEventParamV0[]::new, SCSpecEventParamV0::fromJson);
+          break;
+        case "data_format":
+          decodedSCSpecEventV0.dataFormat = SCSpecEventDataFormat.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecEventV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecEventV0;
+  }
+
+  public static SCSpecEventV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
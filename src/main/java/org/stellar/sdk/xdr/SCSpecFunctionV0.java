@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecFunctionV0's original definition in the XDR file is:
@@ -49,16 +49,33 @@ public class SCSpecFunctionV0 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += name.encodedSize();
+    int inputsSize = getInputs().length;
+    size += 4;
+    for (int i = 0; i < inputsSize; i++) {
+      size += inputs[i].encodedSize();
+    }
+    int outputsSize = getOutputs().length;
+    size += 4;
+    for (int i = 0; i < outputsSize; i++) {
+      size += outputs[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecFunctionV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecFunctionV0 decodedSCSpecFunctionV0 = new SCSpecFunctionV0();
     decodedSCSpecFunctionV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
     decodedSCSpecFunctionV0.name = SCSymbol.decode(stream);
-    int inputsSize = stream.readInt();
+    int inputsSize = stream.readLength(4);
     decodedSCSpecFunctionV0.inputs = new SCSpecFunctionInputV0[inputsSize];
     for (int i = 0; i < inputsSize; i++) {
       decodedSCSpecFunctionV0.inputs[i] = SCSpecFunctionInputV0.decode(stream);
     }
-    int outputsSize = stream.readInt();
+    int outputsSize = stream.readLength(4);
     decodedSCSpecFunctionV0.outputs = new SCSpecTypeDef[outputsSize];
     for (int i = 0; i < outputsSize; i++) {
       decodedSCSpecFunctionV0.outputs[i] = SCSpecTypeDef.decode(stream);
@@ -66,14 +83,96 @@ public class SCSpecFunctionV0 implements XdrElement {
     return decodedSCSpecFunctionV0;
   }
 
+  public static SCSpecFunctionV0 decodeInto(SCSpecFunctionV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    SCSpecFunctionV0 decodedSCSpecFunctionV0 = existing != null ? existing : new SCSpecFunctionV0();
+    decodedSCSpecFunctionV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecFunctionV0.name = SCSymbol.decodeInto(decodedSCSpecFunctionV0.name, stream);
+    int inputsSize = stream.readLength(4);
+    decodedSCSpecFunctionV0.inputs =
+        XdrRecycler.resize(
+            decodedSCSpecFunctionV0.inputs, inputsSize, SCSpecFunctionInputV0[]::new);
+    for (int i = 0; i < inputsSize; i++) {
+      decodedSCSpecFunctionV0.inputs[i] =
+          SCSpecFunctionInputV0.decodeInto(decodedSCSpecFunctionV0.inputs[i], stream);
+    }
+    int outputsSize = stream.readLength(4);
+    decodedSCSpecFunctionV0.outputs =
+        XdrRecycler.resize(decodedSCSpecFunctionV0.outputs, outputsSize, SCSpecTypeDef[]::new);
+    for (int i = 0; i < outputsSize; i++) {
+      decodedSCSpecFunctionV0.outputs[i] =
+          SCSpecTypeDef.decodeInto(decodedSCSpecFunctionV0.outputs[i], stream);
+    }
+    return decodedSCSpecFunctionV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    SCSymbol.skip(stream);
+    int inputsSize = stream.readLength(10, 4);
+    for (int i = 0; i < inputsSize; i++) {
+      SCSpecFunctionInputV0.skip(stream);
+    }
+    int outputsSize = stream.readLength(1, 4);
+    for (int i = 0; i < outputsSize; i++) {
+      SCSpecTypeDef.skip(stream);
+    }
+  }
+
   public static SCSpecFunctionV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecFunctionV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.name("inputs");
+    XdrJson.writeArray(writer, inputs);
+    writer.name("outputs");
+    XdrJson.writeArray(writer, outputs);
+    writer.endObject();
+  }
+
+  public static SCSpecFunctionV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecFunctionV0 decodedSCSpecFunctionV0 = new SCSpecFunctionV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecFunctionV0.doc = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecFunctionV0.name = SCSymbol.fromJson(reader);
+          break;
+        case "inputs":
+          decodedSCSpecFunctionV0.inputs =
+              XdrJson.readArray(
+                  reader, SCSpecFunctionInputV0[]::new, SCSpecFunctionInputV0::fromJson);
+          break;
+        case "outputs":
+          decodedSCSpecFunctionV0.outputs =
+              XdrJson.readArray(reader, SCSpecTypeDef[]::new, SCSpecTypeDef::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecFunctionV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecFunctionV0;
+  }
+
+  public static SCSpecFunctionV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecType's original definition in the XDR file is:
@@ -146,18 +146,173 @@ public enum SCSpecType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCSpecType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SC_SPEC_TYPE_VAL:
+        writer.value("val");
+        break;
+      case SC_SPEC_TYPE_BOOL:
+        writer.value("bool");
+        break;
+      case SC_SPEC_TYPE_VOID:
+        writer.value("void");
+        break;
+      case SC_SPEC_TYPE_ERROR:
+        writer.value("error");
+        break;
+      case SC_SPEC_TYPE_U32:
+        writer.value("u32");
+        break;
+      case SC_SPEC_TYPE_I32:
+        writer.value("i32");
+        break;
+      case SC_SPEC_TYPE_U64:
+        writer.value("u64");
+        break;
+      case SC_SPEC_TYPE_I64:
+        writer.value("i64");
+        break;
+      case SC_SPEC_TYPE_TIMEPOINT:
+        writer.value("timepoint");
+        break;
+      case SC_SPEC_TYPE_DURATION:
+        writer.value("duration");
+        break;
+      case SC_SPEC_TYPE_U128:
+        writer.value("u128");
+        break;
+      case SC_SPEC_TYPE_I128:
+        writer.value("i128");
+        break;
+      case SC_SPEC_TYPE_U256:
+        writer.value("u256");
+        break;
+      case SC_SPEC_TYPE_I256:
+        writer.value("i256");
+        break;
+      case SC_SPEC_TYPE_BYTES:
+        writer.value("bytes");
+        break;
+      case SC_SPEC_TYPE_STRING:
+        writer.value("string");
+        break;
+      case SC_SPEC_TYPE_SYMBOL:
+        writer.value("symbol");
+        break;
+      case SC_SPEC_TYPE_ADDRESS:
+        writer.value("address");
+        break;
+      case SC_SPEC_TYPE_MUXED_ADDRESS:
+        writer.value("muxed_address");
+        break;
+      case SC_SPEC_TYPE_OPTION:
+        writer.value("option");
+        break;
+      case SC_SPEC_TYPE_RESULT:
+        writer.value("result");
+        break;
+      case SC_SPEC_TYPE_VEC:
+        writer.value("vec");
+        break;
+      case SC_SPEC_TYPE_MAP:
+        writer.value("map");
+        break;
+      case SC_SPEC_TYPE_TUPLE:
+        writer.value("tuple");
+        break;
+      case SC_SPEC_TYPE_BYTES_N:
+        writer.value("bytes_n");
+        break;
+      case SC_SPEC_TYPE_UDT:
+        writer.value("udt");
+        break;
+    }
+  }
+
+  public static SCSpecType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "val":
+        return SC_SPEC_TYPE_VAL;
+      case "bool":
+        return SC_SPEC_TYPE_BOOL;
+      case "void":
+        return SC_SPEC_TYPE_VOID;
+      case "error":
+        return SC_SPEC_TYPE_ERROR;
+      case "u32":
+        return SC_SPEC_TYPE_U32;
+      case "i32":
+        return SC_SPEC_TYPE_I32;
+      case "u64":
+        return SC_SPEC_TYPE_U64;
+      case "i64":
+        return SC_SPEC_TYPE_I64;
+      case "timepoint":
+        return SC_SPEC_TYPE_TIMEPOINT;
+      case "duration":
+        return SC_SPEC_TYPE_DURATION;
+      case "u128":
+        return SC_SPEC_TYPE_U128;
+      case "i128":
+        return SC_SPEC_TYPE_I128;
+      case "u256":
+        return SC_SPEC_TYPE_U256;
+      case "i256":
+        return SC_SPEC_TYPE_I256;
+      case "bytes":
+        return SC_SPEC_TYPE_BYTES;
+      case "string":
+        return SC_SPEC_TYPE_STRING;
+      case "symbol":
+        return SC_SPEC_TYPE_SYMBOL;
+      case "address":
+        return SC_SPEC_TYPE_ADDRESS;
+      case "muxed_address":
+        return SC_SPEC_TYPE_MUXED_ADDRESS;
+      case "option":
+        return SC_SPEC_TYPE_OPTION;
+      case "result":
+        return SC_SPEC_TYPE_RESULT;
+      case "vec":
+        return SC_SPEC_TYPE_VEC;
+      case "map":
+        return SC_SPEC_TYPE_MAP;
+      case "tuple":
+        return SC_SPEC_TYPE_TUPLE;
+      case "bytes_n":
+        return SC_SPEC_TYPE_BYTES_N;
+      case "udt":
+        return SC_SPEC_TYPE_UDT;
+      default:
+        throw new IOException("Unknown SCSpecType value: " + value);
+    }
+  }
+
+  public static SCSpecType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecTypeBytesN's original definition in the XDR file is:
@@ -32,20 +32,63 @@ public class SCSpecTypeBytesN implements XdrElement {
     n.encode(stream);
   }
 
+  public int encodedSize() {
+    return n.encodedSize();
+  }
+
   public static SCSpecTypeBytesN decode(XdrDataInputStream stream) throws IOException {
     SCSpecTypeBytesN decodedSCSpecTypeBytesN = new SCSpecTypeBytesN();
     decodedSCSpecTypeBytesN.n = Uint32.decode(stream);
     return decodedSCSpecTypeBytesN;
   }
 
+  public static SCSpecTypeBytesN decodeInto(SCSpecTypeBytesN existing, XdrDataInputStream stream)
+      throws IOException {
+    SCSpecTypeBytesN decodedSCSpecTypeBytesN = existing != null ? existing : new SCSpecTypeBytesN();
+    decodedSCSpecTypeBytesN.n = Uint32.decodeInto(decodedSCSpecTypeBytesN.n, stream);
+    return decodedSCSpecTypeBytesN;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+  }
+
   public static SCSpecTypeBytesN fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecTypeBytesN fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("n");
+    n.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecTypeBytesN fromJson(JsonReader reader) throws IOException {
+    SCSpecTypeBytesN decodedSCSpecTypeBytesN = new SCSpecTypeBytesN();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "n":
+          decodedSCSpecTypeBytesN.n = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecTypeBytesN field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecTypeBytesN;
+  }
+
+  public static SCSpecTypeBytesN fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
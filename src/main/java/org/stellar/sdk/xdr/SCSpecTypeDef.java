@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecTypeDef's original definition in the XDR file is:
@@ -115,11 +116,10 @@ public class SCSpecTypeDef implements XdrElement {
     }
   }
 
-  public static SCSpecTypeDef decode(XdrDataInputStream stream) throws IOException {
-    SCSpecTypeDef decodedSCSpecTypeDef = new SCSpecTypeDef();
-    SCSpecType discriminant = SCSpecType.decode(stream);
-    decodedSCSpecTypeDef.setDiscriminant(discriminant);
-    switch (decodedSCSpecTypeDef.getDiscriminant()) {
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
       case SC_SPEC_TYPE_VAL:
       case SC_SPEC_TYPE_BOOL:
       case SC_SPEC_TYPE_VOID:
@@ -141,38 +141,423 @@ public class SCSpecTypeDef implements XdrElement {
       case SC_SPEC_TYPE_MUXED_ADDRESS:
         break;
       case SC_SPEC_TYPE_OPTION:
-        decodedSCSpecTypeDef.option = SCSpecTypeOption.decode(stream);
+        size += option.encodedSize();
         break;
       case SC_SPEC_TYPE_RESULT:
-        decodedSCSpecTypeDef.result = SCSpecTypeResult.decode(stream);
+        size += result.encodedSize();
         break;
       case SC_SPEC_TYPE_VEC:
-        decodedSCSpecTypeDef.vec = SCSpecTypeVec.decode(stream);
+        size += vec.encodedSize();
         break;
       case SC_SPEC_TYPE_MAP:
-        decodedSCSpecTypeDef.map = SCSpecTypeMap.decode(stream);
+        size += map.encodedSize();
         break;
       case SC_SPEC_TYPE_TUPLE:
-        decodedSCSpecTypeDef.tuple = SCSpecTypeTuple.decode(stream);
+        size += tuple.encodedSize();
         break;
       case SC_SPEC_TYPE_BYTES_N:
-        decodedSCSpecTypeDef.bytesN = SCSpecTypeBytesN.decode(stream);
+        size += bytesN.encodedSize();
         break;
       case SC_SPEC_TYPE_UDT:
-        decodedSCSpecTypeDef.udt = SCSpecTypeUDT.decode(stream);
+        size += udt.encodedSize();
         break;
     }
-    return decodedSCSpecTypeDef;
+    return size;
+  }
+
+  public static SCSpecTypeDef decode(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeDef decodedSCSpecTypeDef = new SCSpecTypeDef();
+      SCSpecType discriminant = SCSpecType.decode(stream);
+      decodedSCSpecTypeDef.setDiscriminant(discriminant);
+      switch (decodedSCSpecTypeDef.getDiscriminant()) {
+        case SC_SPEC_TYPE_VAL:
+        case SC_SPEC_TYPE_BOOL:
+        case SC_SPEC_TYPE_VOID:
+        case SC_SPEC_TYPE_ERROR:
+        case SC_SPEC_TYPE_U32:
+        case SC_SPEC_TYPE_I32:
+        case SC_SPEC_TYPE_U64:
+        case SC_SPEC_TYPE_I64:
+        case SC_SPEC_TYPE_TIMEPOINT:
+        case SC_SPEC_TYPE_DURATION:
+        case SC_SPEC_TYPE_U128:
+        case SC_SPEC_TYPE_I128:
+        case SC_SPEC_TYPE_U256:
+        case SC_SPEC_TYPE_I256:
+        case SC_SPEC_TYPE_BYTES:
+        case SC_SPEC_TYPE_STRING:
+        case SC_SPEC_TYPE_SYMBOL:
+        case SC_SPEC_TYPE_ADDRESS:
+        case SC_SPEC_TYPE_MUXED_ADDRESS:
+          break;
+        case SC_SPEC_TYPE_OPTION:
+          decodedSCSpecTypeDef.option = SCSpecTypeOption.decode(stream);
+          break;
+        case SC_SPEC_TYPE_RESULT:
+          decodedSCSpecTypeDef.result = SCSpecTypeResult.decode(stream);
+          break;
+        case SC_SPEC_TYPE_VEC:
+          decodedSCSpecTypeDef.vec = SCSpecTypeVec.decode(stream);
+          break;
+        case SC_SPEC_TYPE_MAP:
+          decodedSCSpecTypeDef.map = SCSpecTypeMap.decode(stream);
+          break;
+        case SC_SPEC_TYPE_TUPLE:
+          decodedSCSpecTypeDef.tuple = SCSpecTypeTuple.decode(stream);
+          break;
+        case SC_SPEC_TYPE_BYTES_N:
+          decodedSCSpecTypeDef.bytesN = SCSpecTypeBytesN.decode(stream);
+          break;
+        case SC_SPEC_TYPE_UDT:
+          decodedSCSpecTypeDef.udt = SCSpecTypeUDT.decode(stream);
+          break;
+      }
+      return decodedSCSpecTypeDef;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCSpecTypeDef decodeInto(SCSpecTypeDef existing, XdrDataInputStream stream)
+      throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecType discriminant = SCSpecType.decode(stream);
+      SCSpecTypeDef decodedSCSpecTypeDef =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new SCSpecTypeDef();
+      decodedSCSpecTypeDef.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case SC_SPEC_TYPE_VAL:
+        case SC_SPEC_TYPE_BOOL:
+        case SC_SPEC_TYPE_VOID:
+        case SC_SPEC_TYPE_ERROR:
+        case SC_SPEC_TYPE_U32:
+        case SC_SPEC_TYPE_I32:
+        case SC_SPEC_TYPE_U64:
+        case SC_SPEC_TYPE_I64:
+        case SC_SPEC_TYPE_TIMEPOINT:
+        case SC_SPEC_TYPE_DURATION:
+        case SC_SPEC_TYPE_U128:
+        case SC_SPEC_TYPE_I128:
+        case SC_SPEC_TYPE_U256:
+        case SC_SPEC_TYPE_I256:
+        case SC_SPEC_TYPE_BYTES:
+        case SC_SPEC_TYPE_STRING:
+        case SC_SPEC_TYPE_SYMBOL:
+        case SC_SPEC_TYPE_ADDRESS:
+        case SC_SPEC_TYPE_MUXED_ADDRESS:
+          break;
+        case SC_SPEC_TYPE_OPTION:
+          decodedSCSpecTypeDef.option =
+              SCSpecTypeOption.decodeInto(decodedSCSpecTypeDef.option, stream);
+          break;
+        case SC_SPEC_TYPE_RESULT:
+          decodedSCSpecTypeDef.result =
+              SCSpecTypeResult.decodeInto(decodedSCSpecTypeDef.result, stream);
+          break;
+        case SC_SPEC_TYPE_VEC:
+          decodedSCSpecTypeDef.vec = SCSpecTypeVec.decodeInto(decodedSCSpecTypeDef.vec, stream);
+          break;
+        case SC_SPEC_TYPE_MAP:
+          decodedSCSpecTypeDef.map = SCSpecTypeMap.decodeInto(decodedSCSpecTypeDef.map, stream);
+          break;
+        case SC_SPEC_TYPE_TUPLE:
+          decodedSCSpecTypeDef.tuple =
+              SCSpecTypeTuple.decodeInto(decodedSCSpecTypeDef.tuple, stream);
+          break;
+        case SC_SPEC_TYPE_BYTES_N:
+          decodedSCSpecTypeDef.bytesN =
+              SCSpecTypeBytesN.decodeInto(decodedSCSpecTypeDef.bytesN, stream);
+          break;
+        case SC_SPEC_TYPE_UDT:
+          decodedSCSpecTypeDef.udt = SCSpecTypeUDT.decodeInto(decodedSCSpecTypeDef.udt, stream);
+          break;
+      }
+      return decodedSCSpecTypeDef;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecType discriminant = SCSpecType.decode(stream);
+      switch (discriminant) {
+        case SC_SPEC_TYPE_VAL:
+        case SC_SPEC_TYPE_BOOL:
+        case SC_SPEC_TYPE_VOID:
+        case SC_SPEC_TYPE_ERROR:
+        case SC_SPEC_TYPE_U32:
+        case SC_SPEC_TYPE_I32:
+        case SC_SPEC_TYPE_U64:
+        case SC_SPEC_TYPE_I64:
+        case SC_SPEC_TYPE_TIMEPOINT:
+        case SC_SPEC_TYPE_DURATION:
+        case SC_SPEC_TYPE_U128:
+        case SC_SPEC_TYPE_I128:
+        case SC_SPEC_TYPE_U256:
+        case SC_SPEC_TYPE_I256:
+        case SC_SPEC_TYPE_BYTES:
+        case SC_SPEC_TYPE_STRING:
+        case SC_SPEC_TYPE_SYMBOL:
+        case SC_SPEC_TYPE_ADDRESS:
+        case SC_SPEC_TYPE_MUXED_ADDRESS:
+          break;
+        case SC_SPEC_TYPE_OPTION:
+          SCSpecTypeOption.skip(stream);
+          break;
+        case SC_SPEC_TYPE_RESULT:
+          SCSpecTypeResult.skip(stream);
+          break;
+        case SC_SPEC_TYPE_VEC:
+          SCSpecTypeVec.skip(stream);
+          break;
+        case SC_SPEC_TYPE_MAP:
+          SCSpecTypeMap.skip(stream);
+          break;
+        case SC_SPEC_TYPE_TUPLE:
+          SCSpecTypeTuple.skip(stream);
+          break;
+        case SC_SPEC_TYPE_BYTES_N:
+          SCSpecTypeBytesN.skip(stream);
+          break;
+        case SC_SPEC_TYPE_UDT:
+          SCSpecTypeUDT.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecTypeDef discriminant: " + discriminant);
+      }
+    } finally {
+      stream.decreaseDepth();
+    }
   }
 
   public static SCSpecTypeDef fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecTypeDef fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SC_SPEC_TYPE_VAL:
+        writer.value("val");
+        break;
+      case SC_SPEC_TYPE_BOOL:
+        writer.value("bool");
+        break;
+      case SC_SPEC_TYPE_VOID:
+        writer.value("void");
+        break;
+      case SC_SPEC_TYPE_ERROR:
+        writer.value("error");
+        break;
+      case SC_SPEC_TYPE_U32:
+        writer.value("u32");
+        break;
+      case SC_SPEC_TYPE_I32:
+        writer.value("i32");
+        break;
+      case SC_SPEC_TYPE_U64:
+        writer.value("u64");
+        break;
+      case SC_SPEC_TYPE_I64:
+        writer.value("i64");
+        break;
+      case SC_SPEC_TYPE_TIMEPOINT:
+        writer.value("timepoint");
+        break;
+      case SC_SPEC_TYPE_DURATION:
+        writer.value("duration");
+        break;
+      case SC_SPEC_TYPE_U128:
+        writer.value("u128");
+        break;
+      case SC_SPEC_TYPE_I128:
+        writer.value("i128");
+        break;
+      case SC_SPEC_TYPE_U256:
+        writer.value("u256");
+        break;
+      case SC_SPEC_TYPE_I256:
+        writer.value("i256");
+        break;
+      case SC_SPEC_TYPE_BYTES:
+        writer.value("bytes");
+        break;
+      case SC_SPEC_TYPE_STRING:
+        writer.value("string");
+        break;
+      case SC_SPEC_TYPE_SYMBOL:
+        writer.value("symbol");
+        break;
+      case SC_SPEC_TYPE_ADDRESS:
+        writer.value("address");
+        break;
+      case SC_SPEC_TYPE_MUXED_ADDRESS:
+        writer.value("muxed_address");
+        break;
+      case SC_SPEC_TYPE_OPTION:
+        writer.beginObject();
+        writer.name("option");
+        option.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_TYPE_RESULT:
+        writer.beginObject();
+        writer.name("result");
+        result.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_TYPE_VEC:
+        writer.beginObject();
+        writer.name("vec");
+        vec.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_TYPE_MAP:
+        writer.beginObject();
+        writer.name("map");
+        map.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_TYPE_TUPLE:
+        writer.beginObject();
+        writer.name("tuple");
+        tuple.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_TYPE_BYTES_N:
+        writer.beginObject();
+        writer.name("bytes_n");
+        bytesN.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_TYPE_UDT:
+        writer.beginObject();
+        writer.name("udt");
+        udt.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SCSpecTypeDef fromJson(JsonReader reader) throws IOException {
+    SCSpecTypeDef decodedSCSpecTypeDef = new SCSpecTypeDef();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "val":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_VAL);
+          break;
+        case "bool":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_BOOL);
+          break;
+        case "void":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_VOID);
+          break;
+        case "error":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_ERROR);
+          break;
+        case "u32":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_U32);
+          break;
+        case "i32":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_I32);
+          break;
+        case "u64":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_U64);
+          break;
+        case "i64":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_I64);
+          break;
+        case "timepoint":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_TIMEPOINT);
+          break;
+        case "duration":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_DURATION);
+          break;
+        case "u128":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_U128);
+          break;
+        case "i128":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_I128);
+          break;
+        case "u256":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_U256);
+          break;
+        case "i256":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_I256);
+          break;
+        case "bytes":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_BYTES);
+          break;
+        case "string":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_STRING);
+          break;
+        case "symbol":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_SYMBOL);
+          break;
+        case "address":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_ADDRESS);
+          break;
+        case "muxed_address":
+          decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_MUXED_ADDRESS);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecTypeDef arm: " + key);
+      }
+      return decodedSCSpecTypeDef;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "option":
+        decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_OPTION);
+        decodedSCSpecTypeDef.option = SCSpecTypeOption.fromJson(reader);
+        break;
+      case "result":
+        decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_RESULT);
+        decodedSCSpecTypeDef.result = SCSpecTypeResult.fromJson(reader);
+        break;
+      case "vec":
+        decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_VEC);
+        decodedSCSpecTypeDef.vec = SCSpecTypeVec.fromJson(reader);
+        break;
+      case "map":
+        decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_MAP);
+        decodedSCSpecTypeDef.map = SCSpecTypeMap.fromJson(reader);
+        break;
+      case "tuple":
+        decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_TUPLE);
+        decodedSCSpecTypeDef.tuple = SCSpecTypeTuple.fromJson(reader);
+        break;
+      case "bytes_n":
+        decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_BYTES_N);
+        decodedSCSpecTypeDef.bytesN = SCSpecTypeBytesN.fromJson(reader);
+        break;
+      case "udt":
+        decodedSCSpecTypeDef.setDiscriminant(SCSpecType.SC_SPEC_TYPE_UDT);
+        decodedSCSpecTypeDef.udt = SCSpecTypeUDT.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SCSpecTypeDef arm: " + key);
+    }
+    reader.endObject();
+    return decodedSCSpecTypeDef;
+  }
+
+  public static SCSpecTypeDef fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecTypeMap's original definition in the XDR file is:
@@ -35,21 +35,90 @@ public class SCSpecTypeMap implements XdrElement {
     valueType.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += keyType.encodedSize();
+    size += valueType.encodedSize();
+    return size;
+  }
+
   public static SCSpecTypeMap decode(XdrDataInputStream stream) throws IOException {
-    SCSpecTypeMap decodedSCSpecTypeMap = new SCSpecTypeMap();
-    decodedSCSpecTypeMap.keyType = SCSpecTypeDef.decode(stream);
-    decodedSCSpecTypeMap.valueType = SCSpecTypeDef.decode(stream);
-    return decodedSCSpecTypeMap;
+    stream.increaseDepth();
+    try {
+      SCSpecTypeMap decodedSCSpecTypeMap = new SCSpecTypeMap();
+      decodedSCSpecTypeMap.keyType = SCSpecTypeDef.decode(stream);
+      decodedSCSpecTypeMap.valueType = SCSpecTypeDef.decode(stream);
+      return decodedSCSpecTypeMap;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCSpecTypeMap decodeInto(SCSpecTypeMap existing, XdrDataInputStream stream)
+      throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeMap decodedSCSpecTypeMap = existing != null ? existing : new SCSpecTypeMap();
+      decodedSCSpecTypeMap.keyType = SCSpecTypeDef.decodeInto(decodedSCSpecTypeMap.keyType, stream);
+      decodedSCSpecTypeMap.valueType =
+          SCSpecTypeDef.decodeInto(decodedSCSpecTypeMap.valueType, stream);
+      return decodedSCSpecTypeMap;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeDef.skip(stream);
+      SCSpecTypeDef.skip(stream);
+    } finally {
+      stream.decreaseDepth();
+    }
   }
 
   public static SCSpecTypeMap fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecTypeMap fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("key_type");
+    keyType.toJson(writer);
+    writer.name("value_type");
+    valueType.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecTypeMap fromJson(JsonReader reader) throws IOException {
+    SCSpecTypeMap decodedSCSpecTypeMap = new SCSpecTypeMap();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "key_type":
+          decodedSCSpecTypeMap.keyType = SCSpecTypeDef.fromJson(reader);
+          break;
+        case "value_type":
+          decodedSCSpecTypeMap.valueType = SCSpecTypeDef.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecTypeMap field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecTypeMap;
+  }
+
+  public static SCSpecTypeMap fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
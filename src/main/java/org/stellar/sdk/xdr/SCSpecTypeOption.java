@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecTypeOption's original definition in the XDR file is:
@@ -32,20 +32,80 @@ public class SCSpecTypeOption implements XdrElement {
     valueType.encode(stream);
   }
 
+  public int encodedSize() {
+    return valueType.encodedSize();
+  }
+
   public static SCSpecTypeOption decode(XdrDataInputStream stream) throws IOException {
-    SCSpecTypeOption decodedSCSpecTypeOption = new SCSpecTypeOption();
-    decodedSCSpecTypeOption.valueType = SCSpecTypeDef.decode(stream);
-    return decodedSCSpecTypeOption;
+    stream.increaseDepth();
+    try {
+      SCSpecTypeOption decodedSCSpecTypeOption = new SCSpecTypeOption();
+      decodedSCSpecTypeOption.valueType = SCSpecTypeDef.decode(stream);
+      return decodedSCSpecTypeOption;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCSpecTypeOption decodeInto(SCSpecTypeOption existing, XdrDataInputStream stream)
+      throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeOption decodedSCSpecTypeOption =
+          existing != null ? existing : new SCSpecTypeOption();
+      decodedSCSpecTypeOption.valueType =
+          SCSpecTypeDef.decodeInto(decodedSCSpecTypeOption.valueType, stream);
+      return decodedSCSpecTypeOption;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeDef.skip(stream);
+    } finally {
+      stream.decreaseDepth();
+    }
   }
 
   public static SCSpecTypeOption fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecTypeOption fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("value_type");
+    valueType.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecTypeOption fromJson(JsonReader reader) throws IOException {
+    SCSpecTypeOption decodedSCSpecTypeOption = new SCSpecTypeOption();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "value_type":
+          decodedSCSpecTypeOption.valueType = SCSpecTypeDef.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecTypeOption field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecTypeOption;
+  }
+
+  public static SCSpecTypeOption fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
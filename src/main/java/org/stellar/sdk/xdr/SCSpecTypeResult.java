@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecTypeResult's original definition in the XDR file is:
@@ -35,21 +35,92 @@ public class SCSpecTypeResult implements XdrElement {
     errorType.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += okType.encodedSize();
+    size += errorType.encodedSize();
+    return size;
+  }
+
   public static SCSpecTypeResult decode(XdrDataInputStream stream) throws IOException {
-    SCSpecTypeResult decodedSCSpecTypeResult = new SCSpecTypeResult();
-    decodedSCSpecTypeResult.okType = SCSpecTypeDef.decode(stream);
-    decodedSCSpecTypeResult.errorType = SCSpecTypeDef.decode(stream);
-    return decodedSCSpecTypeResult;
+    stream.increaseDepth();
+    try {
+      SCSpecTypeResult decodedSCSpecTypeResult = new SCSpecTypeResult();
+      decodedSCSpecTypeResult.okType = SCSpecTypeDef.decode(stream);
+      decodedSCSpecTypeResult.errorType = SCSpecTypeDef.decode(stream);
+      return decodedSCSpecTypeResult;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCSpecTypeResult decodeInto(SCSpecTypeResult existing, XdrDataInputStream stream)
+      throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeResult decodedSCSpecTypeResult =
+          existing != null ? existing : new SCSpecTypeResult();
+      decodedSCSpecTypeResult.okType =
+          SCSpecTypeDef.decodeInto(decodedSCSpecTypeResult.okType, stream);
+      decodedSCSpecTypeResult.errorType =
+          SCSpecTypeDef.decodeInto(decodedSCSpecTypeResult.errorType, stream);
+      return decodedSCSpecTypeResult;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeDef.skip(stream);
+      SCSpecTypeDef.skip(stream);
+    } finally {
+      stream.decreaseDepth();
+    }
   }
 
   public static SCSpecTypeResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecTypeResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ok_type");
+    okType.toJson(writer);
+    writer.name("error_type");
+    errorType.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecTypeResult fromJson(JsonReader reader) throws IOException {
+    SCSpecTypeResult decodedSCSpecTypeResult = new SCSpecTypeResult();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ok_type":
+          decodedSCSpecTypeResult.okType = SCSpecTypeDef.fromJson(reader);
+          break;
+        case "error_type":
+          decodedSCSpecTypeResult.errorType = SCSpecTypeDef.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecTypeResult field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecTypeResult;
+  }
+
+  public static SCSpecTypeResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecTypeTuple's original definition in the XDR file is:
@@ -36,24 +36,99 @@ public class SCSpecTypeTuple implements XdrElement {
     }
   }
 
-  public static SCSpecTypeTuple decode(XdrDataInputStream stream) throws IOException {
-    SCSpecTypeTuple decodedSCSpecTypeTuple = new SCSpecTypeTuple();
-    int valueTypesSize = stream.readInt();
-    decodedSCSpecTypeTuple.valueTypes = new SCSpecTypeDef[valueTypesSize];
+  public int encodedSize() {
+    int size = 0;
+    int valueTypesSize = getValueTypes().length;
+    size += 4;
     for (int i = 0; i < valueTypesSize; i++) {
-      decodedSCSpecTypeTuple.valueTypes[i] = SCSpecTypeDef.decode(stream);
+      size += valueTypes[i].encodedSize();
+    }
+    return size;
+  }
+
+  public static SCSpecTypeTuple decode(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeTuple decodedSCSpecTypeTuple = new SCSpecTypeTuple();
+      int valueTypesSize = stream.readLength(4);
+      decodedSCSpecTypeTuple.valueTypes = new SCSpecTypeDef[valueTypesSize];
+      for (int i = 0; i < valueTypesSize; i++) {
+        decodedSCSpecTypeTuple.valueTypes[i] = SCSpecTypeDef.decode(stream);
+      }
+      return decodedSCSpecTypeTuple;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCSpecTypeTuple decodeInto(SCSpecTypeTuple existing, XdrDataInputStream stream)
+      throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeTuple decodedSCSpecTypeTuple = existing != null ? existing : new SCSpecTypeTuple();
+      int valueTypesSize = stream.readLength(4);
+      decodedSCSpecTypeTuple.valueTypes =
+          XdrRecycler.resize(
+              decodedSCSpecTypeTuple.valueTypes, valueTypesSize, SCSpecTypeDef[]::new);
+      for (int i = 0; i < valueTypesSize; i++) {
+        decodedSCSpecTypeTuple.valueTypes[i] =
+            SCSpecTypeDef.decodeInto(decodedSCSpecTypeTuple.valueTypes[i], stream);
+      }
+      return decodedSCSpecTypeTuple;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      int valueTypesSize = stream.readLength(12, 4);
+      for (int i = 0; i < valueTypesSize; i++) {
+        SCSpecTypeDef.skip(stream);
+      }
+    } finally {
+      stream.decreaseDepth();
     }
-    return decodedSCSpecTypeTuple;
   }
 
   public static SCSpecTypeTuple fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecTypeTuple fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("value_types");
+    XdrJson.writeArray(writer, valueTypes);
+    writer.endObject();
+  }
+
+  public static SCSpecTypeTuple fromJson(JsonReader reader) throws IOException {
+    SCSpecTypeTuple decodedSCSpecTypeTuple = new SCSpecTypeTuple();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "value_types":
+          decodedSCSpecTypeTuple.valueTypes =
+              XdrJson.readArray(reader, SCSpecTypeDef[]::new, SCSpecTypeDef::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecTypeTuple field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecTypeTuple;
+  }
+
+  public static SCSpecTypeTuple fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
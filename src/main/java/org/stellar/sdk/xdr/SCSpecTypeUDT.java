@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecTypeUDT's original definition in the XDR file is:
@@ -32,20 +32,63 @@ public class SCSpecTypeUDT implements XdrElement {
     name.encode(stream);
   }
 
+  public int encodedSize() {
+    return name.encodedSize();
+  }
+
   public static SCSpecTypeUDT decode(XdrDataInputStream stream) throws IOException {
     SCSpecTypeUDT decodedSCSpecTypeUDT = new SCSpecTypeUDT();
     decodedSCSpecTypeUDT.name = XdrString.decode(stream, 60);
     return decodedSCSpecTypeUDT;
   }
 
+  public static SCSpecTypeUDT decodeInto(SCSpecTypeUDT existing, XdrDataInputStream stream)
+      throws IOException {
+    SCSpecTypeUDT decodedSCSpecTypeUDT = existing != null ? existing : new SCSpecTypeUDT();
+    decodedSCSpecTypeUDT.name = XdrString.decode(stream, 60);
+    return decodedSCSpecTypeUDT;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, 60);
+  }
+
   public static SCSpecTypeUDT fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecTypeUDT fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("name");
+    name.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecTypeUDT fromJson(JsonReader reader) throws IOException {
+    SCSpecTypeUDT decodedSCSpecTypeUDT = new SCSpecTypeUDT();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "name":
+          decodedSCSpecTypeUDT.name = XdrString.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecTypeUDT field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecTypeUDT;
+  }
+
+  public static SCSpecTypeUDT fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
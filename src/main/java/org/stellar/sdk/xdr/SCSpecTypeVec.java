@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecTypeVec's original definition in the XDR file is:
@@ -32,20 +32,79 @@ public class SCSpecTypeVec implements XdrElement {
     elementType.encode(stream);
   }
 
+  public int encodedSize() {
+    return elementType.encodedSize();
+  }
+
   public static SCSpecTypeVec decode(XdrDataInputStream stream) throws IOException {
-    SCSpecTypeVec decodedSCSpecTypeVec = new SCSpecTypeVec();
-    decodedSCSpecTypeVec.elementType = SCSpecTypeDef.decode(stream);
-    return decodedSCSpecTypeVec;
+    stream.increaseDepth();
+    try {
+      SCSpecTypeVec decodedSCSpecTypeVec = new SCSpecTypeVec();
+      decodedSCSpecTypeVec.elementType = SCSpecTypeDef.decode(stream);
+      return decodedSCSpecTypeVec;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCSpecTypeVec decodeInto(SCSpecTypeVec existing, XdrDataInputStream stream)
+      throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeVec decodedSCSpecTypeVec = existing != null ? existing : new SCSpecTypeVec();
+      decodedSCSpecTypeVec.elementType =
+          SCSpecTypeDef.decodeInto(decodedSCSpecTypeVec.elementType, stream);
+      return decodedSCSpecTypeVec;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCSpecTypeDef.skip(stream);
+    } finally {
+      stream.decreaseDepth();
+    }
   }
 
   public static SCSpecTypeVec fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecTypeVec fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("element_type");
+    elementType.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecTypeVec fromJson(JsonReader reader) throws IOException {
+    SCSpecTypeVec decodedSCSpecTypeVec = new SCSpecTypeVec();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "element_type":
+          decodedSCSpecTypeVec.elementType = SCSpecTypeDef.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecTypeVec field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecTypeVec;
+  }
+
+  public static SCSpecTypeVec fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
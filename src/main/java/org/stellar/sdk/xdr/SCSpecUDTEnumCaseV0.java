@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecUDTEnumCaseV0's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class SCSpecUDTEnumCaseV0 implements XdrElement {
     value.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += name.encodedSize();
+    size += value.encodedSize();
+    return size;
+  }
+
   public static SCSpecUDTEnumCaseV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecUDTEnumCaseV0 decodedSCSpecUDTEnumCaseV0 = new SCSpecUDTEnumCaseV0();
     decodedSCSpecUDTEnumCaseV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
@@ -46,14 +54,68 @@ public class SCSpecUDTEnumCaseV0 implements XdrElement {
     return decodedSCSpecUDTEnumCaseV0;
   }
 
+  public static SCSpecUDTEnumCaseV0 decodeInto(
+      SCSpecUDTEnumCaseV0 existing, XdrDataInputStream stream) throws IOException {
+    SCSpecUDTEnumCaseV0 decodedSCSpecUDTEnumCaseV0 =
+        existing != null ? existing : new SCSpecUDTEnumCaseV0();
+    decodedSCSpecUDTEnumCaseV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTEnumCaseV0.name = XdrString.decode(stream, 60);
+    decodedSCSpecUDTEnumCaseV0.value = Uint32.decodeInto(decodedSCSpecUDTEnumCaseV0.value, stream);
+    return decodedSCSpecUDTEnumCaseV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, 60);
+    Uint32.skip(stream);
+  }
+
   public static SCSpecUDTEnumCaseV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecUDTEnumCaseV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.name("value");
+    value.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecUDTEnumCaseV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecUDTEnumCaseV0 decodedSCSpecUDTEnumCaseV0 = new SCSpecUDTEnumCaseV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecUDTEnumCaseV0.doc = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecUDTEnumCaseV0.name = XdrString.fromJson(reader);
+          break;
+        case "value":
+          decodedSCSpecUDTEnumCaseV0.value = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecUDTEnumCaseV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecUDTEnumCaseV0;
+  }
+
+  public static SCSpecUDTEnumCaseV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecUDTEnumV0's original definition in the XDR file is:
@@ -45,12 +45,25 @@ public class SCSpecUDTEnumV0 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += lib.encodedSize();
+    size += name.encodedSize();
+    int casesSize = getCases().length;
+    size += 4;
+    for (int i = 0; i < casesSize; i++) {
+      size += cases[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecUDTEnumV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecUDTEnumV0 decodedSCSpecUDTEnumV0 = new SCSpecUDTEnumV0();
     decodedSCSpecUDTEnumV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
     decodedSCSpecUDTEnumV0.lib = XdrString.decode(stream, 80);
     decodedSCSpecUDTEnumV0.name = XdrString.decode(stream, 60);
-    int casesSize = stream.readInt();
+    int casesSize = stream.readLength(4);
     decodedSCSpecUDTEnumV0.cases = new SCSpecUDTEnumCaseV0[casesSize];
     for (int i = 0; i < casesSize; i++) {
       decodedSCSpecUDTEnumV0.cases[i] = SCSpecUDTEnumCaseV0.decode(stream);
@@ -58,14 +71,84 @@ public class SCSpecUDTEnumV0 implements XdrElement {
     return decodedSCSpecUDTEnumV0;
   }
 
+  public static SCSpecUDTEnumV0 decodeInto(SCSpecUDTEnumV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    SCSpecUDTEnumV0 decodedSCSpecUDTEnumV0 = existing != null ? existing : new SCSpecUDTEnumV0();
+    decodedSCSpecUDTEnumV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTEnumV0.lib = XdrString.decode(stream, 80);
+    decodedSCSpecUDTEnumV0.name = XdrString.decode(stream, 60);
+    int casesSize = stream.readLength(4);
+    decodedSCSpecUDTEnumV0.cases =
+        XdrRecycler.resize(decodedSCSpecUDTEnumV0.cases, casesSize, SCSpecUDTEnumCaseV0[]::new);
+    for (int i = 0; i < casesSize; i++) {
+      decodedSCSpecUDTEnumV0.cases[i] =
+          SCSpecUDTEnumCaseV0.decodeInto(decodedSCSpecUDTEnumV0.cases[i], stream);
+    }
+    return decodedSCSpecUDTEnumV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, 80);
+    XdrString.skip(stream, 60);
+    int casesSize = stream.readLength(50, 4);
+    for (int i = 0; i < casesSize; i++) {
+      SCSpecUDTEnumCaseV0.skip(stream);
+    }
+  }
+
   public static SCSpecUDTEnumV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecUDTEnumV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("lib");
+    lib.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.name("cases");
+    XdrJson.writeArray(writer, cases);
+    writer.endObject();
+  }
+
+  public static SCSpecUDTEnumV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecUDTEnumV0 decodedSCSpecUDTEnumV0 = new SCSpecUDTEnumV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecUDTEnumV0.doc = XdrString.fromJson(reader);
+          break;
+        case "lib":
+          decodedSCSpecUDTEnumV0.lib = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecUDTEnumV0.name = XdrString.fromJson(reader);
+          break;
+        case "cases":
+          decodedSCSpecUDTEnumV0.cases =
+              XdrJson.readArray(reader, SCSpecUDTEnumCaseV0[]::new, SCSpecUDTEnumCaseV0::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecUDTEnumV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecUDTEnumV0;
+  }
+
+  public static SCSpecUDTEnumV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecUDTErrorEnumV0's original definition in the XDR file is:
@@ -45,12 +45,25 @@ public class SCSpecUDTErrorEnumV0 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += lib.encodedSize();
+    size += name.encodedSize();
+    int casesSize = getCases().length;
+    size += 4;
+    for (int i = 0; i < casesSize; i++) {
+      size += cases[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecUDTErrorEnumV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecUDTErrorEnumV0 decodedSCSpecUDTErrorEnumV0 = new SCSpecUDTErrorEnumV0();
     decodedSCSpecUDTErrorEnumV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
     decodedSCSpecUDTErrorEnumV0.lib = XdrString.decode(stream, 80);
     decodedSCSpecUDTErrorEnumV0.name = XdrString.decode(stream, 60);
-    int casesSize = stream.readInt();
+    int casesSize = stream.readLength(4);
     decodedSCSpecUDTErrorEnumV0.cases = new SCSpecUDTErrorEnumCaseV0[casesSize];
     for (int i = 0; i < casesSize; i++) {
       decodedSCSpecUDTErrorEnumV0.cases[i] = SCSpecUDTErrorEnumCaseV0.decode(stream);
@@ -58,14 +71,87 @@ public class SCSpecUDTErrorEnumV0 implements XdrElement {
     return decodedSCSpecUDTErrorEnumV0;
   }
 
+  public static SCSpecUDTErrorEnumV0 decodeInto(
+      SCSpecUDTErrorEnumV0 existing, XdrDataInputStream stream) throws IOException {
+    SCSpecUDTErrorEnumV0 decodedSCSpecUDTErrorEnumV0 =
+        existing != null ? existing : new SCSpecUDTErrorEnumV0();
+    decodedSCSpecUDTErrorEnumV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTErrorEnumV0.lib = XdrString.decode(stream, 80);
+    decodedSCSpecUDTErrorEnumV0.name = XdrString.decode(stream, 60);
+    int casesSize = stream.readLength(4);
+    decodedSCSpecUDTErrorEnumV0.cases =
+        XdrRecycler.resize(
+            decodedSCSpecUDTErrorEnumV0.cases, casesSize, SCSpecUDTErrorEnumCaseV0[]::new);
+    for (int i = 0; i < casesSize; i++) {
+      decodedSCSpecUDTErrorEnumV0.cases[i] =
+          SCSpecUDTErrorEnumCaseV0.decodeInto(decodedSCSpecUDTErrorEnumV0.cases[i], stream);
+    }
+    return decodedSCSpecUDTErrorEnumV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, 80);
+    XdrString.skip(stream, 60);
+    int casesSize = stream.readLength(50, 4);
+    for (int i = 0; i < casesSize; i++) {
+      SCSpecUDTErrorEnumCaseV0.skip(stream);
+    }
+  }
+
   public static SCSpecUDTErrorEnumV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecUDTErrorEnumV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("lib");
+    lib.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.name("cases");
+    XdrJson.writeArray(writer, cases);
+    writer.endObject();
+  }
+
+  public static SCSpecUDTErrorEnumV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecUDTErrorEnumV0 decodedSCSpecUDTErrorEnumV0 = new SCSpecUDTErrorEnumV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecUDTErrorEnumV0.doc = XdrString.fromJson(reader);
+          break;
+        case "lib":
+          decodedSCSpecUDTErrorEnumV0.lib = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecUDTErrorEnumV0.name = XdrString.fromJson(reader);
+          break;
+        case "cases":
+          decodedSCSpecUDTErrorEnumV0.cases =
+              XdrJson.readArray(
+                  reader, SCSpecUDTErrorEnumCaseV0[]::new, SCSpecUDTErrorEnumCaseV0::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecUDTErrorEnumV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecUDTErrorEnumV0;
+  }
+
+  public static SCSpecUDTErrorEnumV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecUDTStructFieldV0's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class SCSpecUDTStructFieldV0 implements XdrElement {
     type.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += name.encodedSize();
+    size += type.encodedSize();
+    return size;
+  }
+
   public static SCSpecUDTStructFieldV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecUDTStructFieldV0 decodedSCSpecUDTStructFieldV0 = new SCSpecUDTStructFieldV0();
     decodedSCSpecUDTStructFieldV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
@@ -46,14 +54,69 @@ public class SCSpecUDTStructFieldV0 implements XdrElement {
     return decodedSCSpecUDTStructFieldV0;
   }
 
+  public static SCSpecUDTStructFieldV0 decodeInto(
+      SCSpecUDTStructFieldV0 existing, XdrDataInputStream stream) throws IOException {
+    SCSpecUDTStructFieldV0 decodedSCSpecUDTStructFieldV0 =
+        existing != null ? existing : new SCSpecUDTStructFieldV0();
+    decodedSCSpecUDTStructFieldV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTStructFieldV0.name = XdrString.decode(stream, 30);
+    decodedSCSpecUDTStructFieldV0.type =
+        SCSpecTypeDef.decodeInto(decodedSCSpecUDTStructFieldV0.type, stream);
+    return decodedSCSpecUDTStructFieldV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, 30);
+    SCSpecTypeDef.skip(stream);
+  }
+
   public static SCSpecUDTStructFieldV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecUDTStructFieldV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.name("type");
+    type.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecUDTStructFieldV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecUDTStructFieldV0 decodedSCSpecUDTStructFieldV0 = new SCSpecUDTStructFieldV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecUDTStructFieldV0.doc = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecUDTStructFieldV0.name = XdrString.fromJson(reader);
+          break;
+        case "type":
+          decodedSCSpecUDTStructFieldV0.type = SCSpecTypeDef.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecUDTStructFieldV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecUDTStructFieldV0;
+  }
+
+  public static SCSpecUDTStructFieldV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
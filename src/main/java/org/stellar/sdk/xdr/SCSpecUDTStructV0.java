@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecUDTStructV0's original definition in the XDR file is:
@@ -45,12 +45,25 @@ public class SCSpecUDTStructV0 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += lib.encodedSize();
+    size += name.encodedSize();
+    int fieldsSize = getFields().length;
+    size += 4;
+    for (int i = 0; i < fieldsSize; i++) {
+      size += fields[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecUDTStructV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecUDTStructV0 decodedSCSpecUDTStructV0 = new SCSpecUDTStructV0();
     decodedSCSpecUDTStructV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
     decodedSCSpecUDTStructV0.lib = XdrString.decode(stream, 80);
     decodedSCSpecUDTStructV0.name = XdrString.decode(stream, 60);
-    int fieldsSize = stream.readInt();
+    int fieldsSize = stream.readLength(4);
     decodedSCSpecUDTStructV0.fields = new SCSpecUDTStructFieldV0[fieldsSize];
     for (int i = 0; i < fieldsSize; i++) {
       decodedSCSpecUDTStructV0.fields[i] = SCSpecUDTStructFieldV0.decode(stream);
@@ -58,14 +71,87 @@ public class SCSpecUDTStructV0 implements XdrElement {
     return decodedSCSpecUDTStructV0;
   }
 
+  public static SCSpecUDTStructV0 decodeInto(SCSpecUDTStructV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    SCSpecUDTStructV0 decodedSCSpecUDTStructV0 =
+        existing != null ? existing : new SCSpecUDTStructV0();
+    decodedSCSpecUDTStructV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTStructV0.lib = XdrString.decode(stream, 80);
+    decodedSCSpecUDTStructV0.name = XdrString.decode(stream, 60);
+    int fieldsSize = stream.readLength(4);
+    decodedSCSpecUDTStructV0.fields =
+        XdrRecycler.resize(
+            decodedSCSpecUDTStructV0.fields, fieldsSize, SCSpecUDTStructFieldV0[]::new);
+    for (int i = 0; i < fieldsSize; i++) {
+      decodedSCSpecUDTStructV0.fields[i] =
+          SCSpecUDTStructFieldV0.decodeInto(decodedSCSpecUDTStructV0.fields[i], stream);
+    }
+    return decodedSCSpecUDTStructV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, 80);
+    XdrString.skip(stream, 60);
+    int fieldsSize = stream.readLength(40, 4);
+    for (int i = 0; i < fieldsSize; i++) {
+      SCSpecUDTStructFieldV0.skip(stream);
+    }
+  }
+
   public static SCSpecUDTStructV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecUDTStructV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("lib");
+    lib.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.name("fields");
+    XdrJson.writeArray(writer, fields);
+    writer.endObject();
+  }
+
+  public static SCSpecUDTStructV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecUDTStructV0 decodedSCSpecUDTStructV0 = new SCSpecUDTStructV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecUDTStructV0.doc = XdrString.fromJson(reader);
+          break;
+        case "lib":
+          decodedSCSpecUDTStructV0.lib = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecUDTStructV0.name = XdrString.fromJson(reader);
+          break;
+        case "fields":
+          decodedSCSpecUDTStructV0.fields =
+              XdrJson.readArray(
+                  reader, SCSpecUDTStructFieldV0[]::new, SCSpecUDTStructFieldV0::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecUDTStructV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecUDTStructV0;
+  }
+
+  public static SCSpecUDTStructV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecUDTUnionCaseTupleV0's original definition in the XDR file is:
@@ -42,11 +42,23 @@ public class SCSpecUDTUnionCaseTupleV0 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += name.encodedSize();
+    int typeSize = getType().length;
+    size += 4;
+    for (int i = 0; i < typeSize; i++) {
+      size += type[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecUDTUnionCaseTupleV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecUDTUnionCaseTupleV0 decodedSCSpecUDTUnionCaseTupleV0 = new SCSpecUDTUnionCaseTupleV0();
     decodedSCSpecUDTUnionCaseTupleV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
     decodedSCSpecUDTUnionCaseTupleV0.name = XdrString.decode(stream, 60);
-    int typeSize = stream.readInt();
+    int typeSize = stream.readLength(4);
     decodedSCSpecUDTUnionCaseTupleV0.type = new SCSpecTypeDef[typeSize];
     for (int i = 0; i < typeSize; i++) {
       decodedSCSpecUDTUnionCaseTupleV0.type[i] = SCSpecTypeDef.decode(stream);
@@ -54,14 +66,78 @@ public class SCSpecUDTUnionCaseTupleV0 implements XdrElement {
     return decodedSCSpecUDTUnionCaseTupleV0;
   }
 
+  public static SCSpecUDTUnionCaseTupleV0 decodeInto(
+      SCSpecUDTUnionCaseTupleV0 existing, XdrDataInputStream stream) throws IOException {
+    SCSpecUDTUnionCaseTupleV0 decodedSCSpecUDTUnionCaseTupleV0 =
+        existing != null ? existing : new SCSpecUDTUnionCaseTupleV0();
+    decodedSCSpecUDTUnionCaseTupleV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTUnionCaseTupleV0.name = XdrString.decode(stream, 60);
+    int typeSize = stream.readLength(4);
+    decodedSCSpecUDTUnionCaseTupleV0.type =
+        XdrRecycler.resize(decodedSCSpecUDTUnionCaseTupleV0.type, typeSize, SCSpecTypeDef[]::new);
+    for (int i = 0; i < typeSize; i++) {
+      decodedSCSpecUDTUnionCaseTupleV0.type[i] =
+          SCSpecTypeDef.decodeInto(decodedSCSpecUDTUnionCaseTupleV0.type[i], stream);
+    }
+    return decodedSCSpecUDTUnionCaseTupleV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, 60);
+    int typeSize = stream.readLength(12, 4);
+    for (int i = 0; i < typeSize; i++) {
+      SCSpecTypeDef.skip(stream);
+    }
+  }
+
   public static SCSpecUDTUnionCaseTupleV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecUDTUnionCaseTupleV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.name("type");
+    XdrJson.writeArray(writer, type);
+    writer.endObject();
+  }
+
+  public static SCSpecUDTUnionCaseTupleV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecUDTUnionCaseTupleV0 decodedSCSpecUDTUnionCaseTupleV0 = new SCSpecUDTUnionCaseTupleV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecUDTUnionCaseTupleV0.doc = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecUDTUnionCaseTupleV0.name = XdrString.fromJson(reader);
+          break;
+        case "type":
+          decodedSCSpecUDTUnionCaseTupleV0.type =
+              XdrJson.readArray(reader, SCSpecTypeDef[]::new, SCSpecTypeDef::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecUDTUnionCaseTupleV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecUDTUnionCaseTupleV0;
+  }
+
+  public static SCSpecUDTUnionCaseTupleV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecUDTUnionCaseV0's original definition in the XDR file is:
@@ -45,6 +45,20 @@ public class SCSpecUDTUnionCaseV0 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+        size += voidCase.encodedSize();
+        break;
+      case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+        size += tupleCase.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCSpecUDTUnionCaseV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecUDTUnionCaseV0 decodedSCSpecUDTUnionCaseV0 = new SCSpecUDTUnionCaseV0();
     SCSpecUDTUnionCaseV0Kind discriminant = SCSpecUDTUnionCaseV0Kind.decode(stream);
@@ -60,14 +74,92 @@ public class SCSpecUDTUnionCaseV0 implements XdrElement {
     return decodedSCSpecUDTUnionCaseV0;
   }
 
+  public static SCSpecUDTUnionCaseV0 decodeInto(
+      SCSpecUDTUnionCaseV0 existing, XdrDataInputStream stream) throws IOException {
+    SCSpecUDTUnionCaseV0Kind discriminant = SCSpecUDTUnionCaseV0Kind.decode(stream);
+    SCSpecUDTUnionCaseV0 decodedSCSpecUDTUnionCaseV0 =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SCSpecUDTUnionCaseV0();
+    decodedSCSpecUDTUnionCaseV0.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+        decodedSCSpecUDTUnionCaseV0.voidCase =
+            SCSpecUDTUnionCaseVoidV0.decodeInto(decodedSCSpecUDTUnionCaseV0.voidCase, stream);
+        break;
+      case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+        decodedSCSpecUDTUnionCaseV0.tupleCase =
+            SCSpecUDTUnionCaseTupleV0.decodeInto(decodedSCSpecUDTUnionCaseV0.tupleCase, stream);
+        break;
+    }
+    return decodedSCSpecUDTUnionCaseV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SCSpecUDTUnionCaseV0Kind discriminant = SCSpecUDTUnionCaseV0Kind.decode(stream);
+    switch (discriminant) {
+      case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+        SCSpecUDTUnionCaseVoidV0.skip(stream);
+        break;
+      case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+        SCSpecUDTUnionCaseTupleV0.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SCSpecUDTUnionCaseV0 discriminant: " + discriminant);
+    }
+  }
+
   public static SCSpecUDTUnionCaseV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecUDTUnionCaseV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+        writer.beginObject();
+        writer.name("void_v0");
+        voidCase.toJson(writer);
+        writer.endObject();
+        break;
+      case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+        writer.beginObject();
+        writer.name("tuple_v0");
+        tupleCase.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SCSpecUDTUnionCaseV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecUDTUnionCaseV0 decodedSCSpecUDTUnionCaseV0 = new SCSpecUDTUnionCaseV0();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "void_v0":
+        decodedSCSpecUDTUnionCaseV0.setDiscriminant(
+            SCSpecUDTUnionCaseV0Kind.SC_SPEC_UDT_UNION_CASE_VOID_V0);
+        decodedSCSpecUDTUnionCaseV0.voidCase = SCSpecUDTUnionCaseVoidV0.fromJson(reader);
+        break;
+      case "tuple_v0":
+        decodedSCSpecUDTUnionCaseV0.setDiscriminant(
+            SCSpecUDTUnionCaseV0Kind.SC_SPEC_UDT_UNION_CASE_TUPLE_V0);
+        decodedSCSpecUDTUnionCaseV0.tupleCase = SCSpecUDTUnionCaseTupleV0.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SCSpecUDTUnionCaseV0 arm: " + key);
+    }
+    reader.endObject();
+    return decodedSCSpecUDTUnionCaseV0;
+  }
+
+  public static SCSpecUDTUnionCaseV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecUDTUnionCaseV0Kind's original definition in the XDR file is:
@@ -44,18 +44,53 @@ public enum SCSpecUDTUnionCaseV0Kind implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCSpecUDTUnionCaseV0Kind fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecUDTUnionCaseV0Kind fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+        writer.value("void_v0");
+        break;
+      case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+        writer.value("tuple_v0");
+        break;
+    }
+  }
+
+  public static SCSpecUDTUnionCaseV0Kind fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "void_v0":
+        return SC_SPEC_UDT_UNION_CASE_VOID_V0;
+      case "tuple_v0":
+        return SC_SPEC_UDT_UNION_CASE_TUPLE_V0;
+      default:
+        throw new IOException("Unknown SCSpecUDTUnionCaseV0Kind value: " + value);
+    }
+  }
+
+  public static SCSpecUDTUnionCaseV0Kind fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecUDTUnionCaseVoidV0's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class SCSpecUDTUnionCaseVoidV0 implements XdrElement {
     name.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += name.encodedSize();
+    return size;
+  }
+
   public static SCSpecUDTUnionCaseVoidV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecUDTUnionCaseVoidV0 decodedSCSpecUDTUnionCaseVoidV0 = new SCSpecUDTUnionCaseVoidV0();
     decodedSCSpecUDTUnionCaseVoidV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
@@ -42,14 +49,61 @@ public class SCSpecUDTUnionCaseVoidV0 implements XdrElement {
     return decodedSCSpecUDTUnionCaseVoidV0;
   }
 
+  public static SCSpecUDTUnionCaseVoidV0 decodeInto(
+      SCSpecUDTUnionCaseVoidV0 existing, XdrDataInputStream stream) throws IOException {
+    SCSpecUDTUnionCaseVoidV0 decodedSCSpecUDTUnionCaseVoidV0 =
+        existing != null ? existing : new SCSpecUDTUnionCaseVoidV0();
+    decodedSCSpecUDTUnionCaseVoidV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTUnionCaseVoidV0.name = XdrString.decode(stream, 60);
+    return decodedSCSpecUDTUnionCaseVoidV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, 60);
+  }
+
   public static SCSpecUDTUnionCaseVoidV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecUDTUnionCaseVoidV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SCSpecUDTUnionCaseVoidV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecUDTUnionCaseVoidV0 decodedSCSpecUDTUnionCaseVoidV0 = new SCSpecUDTUnionCaseVoidV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecUDTUnionCaseVoidV0.doc = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecUDTUnionCaseVoidV0.name = XdrString.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecUDTUnionCaseVoidV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecUDTUnionCaseVoidV0;
+  }
+
+  public static SCSpecUDTUnionCaseVoidV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSpecUDTUnionV0's original definition in the XDR file is:
@@ -45,12 +45,25 @@ public class SCSpecUDTUnionV0 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += lib.encodedSize();
+    size += name.encodedSize();
+    int casesSize = getCases().length;
+    size += 4;
+    for (int i = 0; i < casesSize; i++) {
+      size += cases[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecUDTUnionV0 decode(XdrDataInputStream stream) throws IOException {
     SCSpecUDTUnionV0 decodedSCSpecUDTUnionV0 = new SCSpecUDTUnionV0();
     decodedSCSpecUDTUnionV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
     decodedSCSpecUDTUnionV0.lib = XdrString.decode(stream, 80);
     decodedSCSpecUDTUnionV0.name = XdrString.decode(stream, 60);
-    int casesSize = stream.readInt();
+    int casesSize = stream.readLength(4);
     decodedSCSpecUDTUnionV0.cases = new SCSpecUDTUnionCaseV0[casesSize];
     for (int i = 0; i < casesSize; i++) {
       decodedSCSpecUDTUnionV0.cases[i] = SCSpecUDTUnionCaseV0.decode(stream);
@@ -58,14 +71,85 @@ public class SCSpecUDTUnionV0 implements XdrElement {
     return decodedSCSpecUDTUnionV0;
   }
 
+  public static SCSpecUDTUnionV0 decodeInto(SCSpecUDTUnionV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    SCSpecUDTUnionV0 decodedSCSpecUDTUnionV0 = existing != null ? existing : new SCSpecUDTUnionV0();
+    decodedSCSpecUDTUnionV0.doc = XdrString.decode(stream, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTUnionV0.lib = XdrString.decode(stream, 80);
+    decodedSCSpecUDTUnionV0.name = XdrString.decode(stream, 60);
+    int casesSize = stream.readLength(4);
+    decodedSCSpecUDTUnionV0.cases =
+        XdrRecycler.resize(decodedSCSpecUDTUnionV0.cases, casesSize, SCSpecUDTUnionCaseV0[]::new);
+    for (int i = 0; i < casesSize; i++) {
+      decodedSCSpecUDTUnionV0.cases[i] =
+          SCSpecUDTUnionCaseV0.decodeInto(decodedSCSpecUDTUnionV0.cases[i], stream);
+    }
+    return decodedSCSpecUDTUnionV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, 80);
+    XdrString.skip(stream, 60);
+    int casesSize = stream.readLength(50, 4);
+    for (int i = 0; i < casesSize; i++) {
+      SCSpecUDTUnionCaseV0.skip(stream);
+    }
+  }
+
   public static SCSpecUDTUnionV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSpecUDTUnionV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("doc");
+    doc.toJson(writer);
+    writer.name("lib");
+    lib.toJson(writer);
+    writer.name("name");
+    name.toJson(writer);
+    writer.name("cases");
+    XdrJson.writeArray(writer, cases);
+    writer.endObject();
+  }
+
+  public static SCSpecUDTUnionV0 fromJson(JsonReader reader) throws IOException {
+    SCSpecUDTUnionV0 decodedSCSpecUDTUnionV0 = new SCSpecUDTUnionV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "doc":
+          decodedSCSpecUDTUnionV0.doc = XdrString.fromJson(reader);
+          break;
+        case "lib":
+          decodedSCSpecUDTUnionV0.lib = XdrString.fromJson(reader);
+          break;
+        case "name":
+          decodedSCSpecUDTUnionV0.name = XdrString.fromJson(reader);
+          break;
+        case "cases":
+          decodedSCSpecUDTUnionV0.cases =
+              XdrJson.readArray(
+                  reader, SCSpecUDTUnionCaseV0[]::new, SCSpecUDTUnionCaseV0::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SCSpecUDTUnionV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSCSpecUDTUnionV0;
+  }
+
+  public static SCSpecUDTUnionV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCString's original definition in the XDR file is:
@@ -27,20 +27,49 @@ public class SCString implements XdrElement {
     SCString.encode(stream);
   }
 
+  public int encodedSize() {
+    return SCString.encodedSize();
+  }
+
   public static SCString decode(XdrDataInputStream stream) throws IOException {
     SCString decodedSCString = new SCString();
     decodedSCString.SCString = XdrString.decode(stream, Integer.MAX_VALUE);
     return decodedSCString;
   }
 
+  public static SCString decodeInto(SCString existing, XdrDataInputStream stream)
+      throws IOException {
+    SCString decodedSCString = existing != null ? existing : new SCString();
+    decodedSCString.SCString = XdrString.decode(stream, Integer.MAX_VALUE);
+    return decodedSCString;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Integer.MAX_VALUE);
+  }
+
   public static SCString fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCString fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    SCString.toJson(writer);
+  }
+
+  public static SCString fromJson(JsonReader reader) throws IOException {
+    SCString decodedSCString = new SCString();
+    decodedSCString.SCString = XdrString.fromJson(reader);
+    return decodedSCString;
+  }
+
+  public static SCString fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCSymbol's original definition in the XDR file is:
@@ -27,20 +27,53 @@ public class SCSymbol implements XdrElement {
     SCSymbol.encode(stream);
   }
 
+  public int encodedSize() {
+    return SCSymbol.encodedSize();
+  }
+
   public static SCSymbol decode(XdrDataInputStream stream) throws IOException {
+    int start = stream.getPosition();
     SCSymbol decodedSCSymbol = new SCSymbol();
     decodedSCSymbol.SCSymbol = XdrString.decode(stream, Constants.SCSYMBOL_LIMIT);
+    return stream.intern(start, decodedSCSymbol);
+  }
+
+  public static SCSymbol decodeInto(SCSymbol existing, XdrDataInputStream stream)
+      throws IOException {
+    if (stream.getInterner() != null) {
+      return decode(stream);
+    }
+    SCSymbol decodedSCSymbol = existing != null ? existing : new SCSymbol();
+    decodedSCSymbol.SCSymbol = XdrString.decode(stream, Constants.SCSYMBOL_LIMIT);
     return decodedSCSymbol;
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, Constants.SCSYMBOL_LIMIT);
+  }
+
   public static SCSymbol fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCSymbol fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    SCSymbol.toJson(writer);
+  }
+
+  public static SCSymbol fromJson(JsonReader reader) throws IOException {
+    SCSymbol decodedSCSymbol = new SCSymbol();
+    decodedSCSymbol.SCSymbol = XdrString.fromJson(reader);
+    return decodedSCSymbol;
+  }
+
+  public static SCSymbol fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,15 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCVal's original definition in the XDR file is:
@@ -184,7 +186,154 @@ public class SCVal implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SCV_BOOL:
+        size += 4;
+        break;
+      case SCV_VOID:
+        break;
+      case SCV_ERROR:
+        size += error.encodedSize();
+        break;
+      case SCV_U32:
+        size += u32.encodedSize();
+        break;
+      case SCV_I32:
+        size += i32.encodedSize();
+        break;
+      case SCV_U64:
+        size += u64.encodedSize();
+        break;
+      case SCV_I64:
+        size += i64.encodedSize();
+        break;
+      case SCV_TIMEPOINT:
+        size += timepoint.encodedSize();
+        break;
+      case SCV_DURATION:
+        size += duration.encodedSize();
+        break;
+      case SCV_U128:
+        size += u128.encodedSize();
+        break;
+      case SCV_I128:
+        size += i128.encodedSize();
+        break;
+      case SCV_U256:
+        size += u256.encodedSize();
+        break;
+      case SCV_I256:
+        size += i256.encodedSize();
+        break;
+      case SCV_BYTES:
+        size += bytes.encodedSize();
+        break;
+      case SCV_STRING:
+        size += str.encodedSize();
+        break;
+      case SCV_SYMBOL:
+        size += sym.encodedSize();
+        break;
+      case SCV_VEC:
+        if (vec != null) {
+          size += 4;
+          size += vec.encodedSize();
+        } else {
+          size += 4;
+        }
+        break;
+      case SCV_MAP:
+        if (map != null) {
+          size += 4;
+          size += map.encodedSize();
+        } else {
+          size += 4;
+        }
+        break;
+      case SCV_ADDRESS:
+        size += address.encodedSize();
+        break;
+      case SCV_CONTRACT_INSTANCE:
+        size += instance.encodedSize();
+        break;
+      case SCV_LEDGER_KEY_CONTRACT_INSTANCE:
+        break;
+      case SCV_LEDGER_KEY_NONCE:
+        size += nonce_key.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCVal decode(XdrDataInputStream stream) throws IOException {
+    // Vectors, maps and contract instance storage can be nested deeper than the call stack
+    // allows, so their elements are decoded with an explicit stack of frames instead of
+    // recursion. The depth is counted as if each nested type was decoded recursively.
+    ArrayDeque<DecodeFrame> frames = new ArrayDeque<>();
+    try {
+      SCVal decodedSCVal = decodeValue(stream, frames);
+      while (!frames.isEmpty()) {
+        DecodeFrame frame = frames.peek();
+        if (frame.values != null) {
+          if (frame.index == frame.values.length) {
+            frames.pop();
+            frame.release(stream);
+          } else {
+            frame.values[frame.index++] = decodeValue(stream, frames);
+          }
+        } else if (frame.index == 2 * frame.entries.length) {
+          frames.pop();
+          frame.release(stream);
+        } else {
+          if (frame.index == 0) {
+            // The depth of the entry itself, which is the same for every entry of the map.
+            frame.enter(stream);
+          }
+          SCMapEntry entry = frame.entries[frame.index / 2];
+          if (frame.index++ % 2 == 0) {
+            entry.setKey(decodeValue(stream, frames));
+          } else {
+            entry.setVal(decodeValue(stream, frames));
+          }
+        }
+      }
+      return decodedSCVal;
+    } finally {
+      // Releases the depth of the frames that a decoding failure left unfinished.
+      for (DecodeFrame frame : frames) {
+        frame.release(stream);
+      }
+    }
+  }
+
+  public static SCVal decodeInto(SCVal existing, XdrDataInputStream stream) throws IOException {
+    return decode(stream);
+  }
+
+  /**
+   * Decodes a single value. The elements of a vector or map are not decoded; instead, a frame that
+   * they are decoded into is pushed onto {@code frames}.
+   */
+  private static SCVal decodeValue(XdrDataInputStream stream, ArrayDeque<DecodeFrame> frames)
+      throws IOException {
+    stream.increaseDepth();
+    int frameCount = frames.size();
+    try {
+      return decodeBody(stream, frames, frameCount);
+    } finally {
+      // Once a frame has been pushed, it releases the depth of the value along with its own.
+      if (frames.size() == frameCount) {
+        stream.decreaseDepth();
+      }
+    }
+  }
+
+  private static SCVal decodeBody(
+      XdrDataInputStream stream, ArrayDeque<DecodeFrame> frames, int frameCount)
+      throws IOException {
     SCVal decodedSCVal = new SCVal();
     SCValType discriminant = SCValType.decode(stream);
     decodedSCVal.setDiscriminant(discriminant);
@@ -239,20 +388,36 @@ public class SCVal implements XdrElement {
       case SCV_VEC:
         int vecPresent = stream.readInt();
         if (vecPresent != 0) {
-          decodedSCVal.vec = SCVec.decode(stream);
+          int SCVecSize = stream.readLength(4);
+          SCVal[] values = new SCVal[SCVecSize];
+          decodedSCVal.vec = new SCVec(values);
+          stream.increaseDepth();
+          frames.push(new DecodeFrame(values, null, 2));
         }
         break;
       case SCV_MAP:
         int mapPresent = stream.readInt();
         if (mapPresent != 0) {
-          decodedSCVal.map = SCMap.decode(stream);
+          decodedSCVal.map = decodeMapFrame(stream, frames, 2);
         }
         break;
       case SCV_ADDRESS:
         decodedSCVal.address = SCAddress.decode(stream);
         break;
       case SCV_CONTRACT_INSTANCE:
-        decodedSCVal.instance = SCContractInstance.decode(stream);
+        stream.increaseDepth();
+        try {
+          decodedSCVal.instance = new SCContractInstance();
+          decodedSCVal.instance.setExecutable(ContractExecutable.decode(stream));
+          int storagePresent = stream.readInt();
+          if (storagePresent != 0) {
+            decodedSCVal.instance.setStorage(decodeMapFrame(stream, frames, 3));
+          }
+        } finally {
+          if (frames.size() == frameCount) {
+            stream.decreaseDepth();
+          }
+        }
         break;
       case SCV_LEDGER_KEY_CONTRACT_INSTANCE:
         break;
@@ -263,14 +428,375 @@ public class SCVal implements XdrElement {
     return decodedSCVal;
   }
 
+  private static SCMap decodeMapFrame(
+      XdrDataInputStream stream, ArrayDeque<DecodeFrame> frames, int depth) throws IOException {
+    int SCMapSize = stream.readLength(4);
+    SCMapEntry[] entries = new SCMapEntry[SCMapSize];
+    for (int i = 0; i < SCMapSize; i++) {
+      entries[i] = new SCMapEntry();
+    }
+    stream.increaseDepth();
+    frames.push(new DecodeFrame(null, entries, depth));
+    return new SCMap(entries);
+  }
+
+  /** The elements of a vector or the entries of a map that are being decoded. */
+  private static final class DecodeFrame {
+    private final SCVal[] values;
+    private final SCMapEntry[] entries;
+    // The number of elements decoded so far, counting keys and values separately for maps.
+    private int index;
+    // The depth to release once all elements have been decoded.
+    private int depth;
+
+    private DecodeFrame(SCVal[] values, SCMapEntry[] entries, int depth) {
+      this.values = values;
+      this.entries = entries;
+      this.depth = depth;
+    }
+
+    private void enter(XdrDataInputStream stream) throws IOException {
+      stream.increaseDepth();
+      depth++;
+    }
+
+    private void release(XdrDataInputStream stream) {
+      for (int i = 0; i < depth; i++) {
+        stream.decreaseDepth();
+      }
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCValType discriminant = SCValType.decode(stream);
+      switch (discriminant) {
+        case SCV_BOOL:
+          stream.readXdrBoolean();
+          break;
+        case SCV_VOID:
+          break;
+        case SCV_ERROR:
+          SCError.skip(stream);
+          break;
+        case SCV_U32:
+          Uint32.skip(stream);
+          break;
+        case SCV_I32:
+          Int32.skip(stream);
+          break;
+        case SCV_U64:
+          Uint64.skip(stream);
+          break;
+        case SCV_I64:
+          Int64.skip(stream);
+          break;
+        case SCV_TIMEPOINT:
+          TimePoint.skip(stream);
+          break;
+        case SCV_DURATION:
+          Duration.skip(stream);
+          break;
+        case SCV_U128:
+          UInt128Parts.skip(stream);
+          break;
+        case SCV_I128:
+          Int128Parts.skip(stream);
+          break;
+        case SCV_U256:
+          UInt256Parts.skip(stream);
+          break;
+        case SCV_I256:
+          Int256Parts.skip(stream);
+          break;
+        case SCV_BYTES:
+          SCBytes.skip(stream);
+          break;
+        case SCV_STRING:
+          SCString.skip(stream);
+          break;
+        case SCV_SYMBOL:
+          SCSymbol.skip(stream);
+          break;
+        case SCV_VEC:
+          if (stream.readXdrBoolean()) {
+            SCVec.skip(stream);
+          }
+          break;
+        case SCV_MAP:
+          if (stream.readXdrBoolean()) {
+            SCMap.skip(stream);
+          }
+          break;
+        case SCV_ADDRESS:
+          SCAddress.skip(stream);
+          break;
+        case SCV_CONTRACT_INSTANCE:
+          SCContractInstance.skip(stream);
+          break;
+        case SCV_LEDGER_KEY_CONTRACT_INSTANCE:
+          break;
+        case SCV_LEDGER_KEY_NONCE:
+          SCNonceKey.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown SCVal discriminant: " + discriminant);
+      }
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
   public static SCVal fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCVal fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SCV_BOOL:
+        writer.beginObject();
+        writer.name("bool");
+        writer.value(b);
+        writer.endObject();
+        break;
+      case SCV_VOID:
+        writer.value("void");
+        break;
+      case SCV_ERROR:
+        writer.beginObject();
+        writer.name("error");
+        error.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_U32:
+        writer.beginObject();
+        writer.name("u32");
+        u32.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_I32:
+        writer.beginObject();
+        writer.name("i32");
+        i32.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_U64:
+        writer.beginObject();
+        writer.name("u64");
+        u64.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_I64:
+        writer.beginObject();
+        writer.name("i64");
+        i64.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_TIMEPOINT:
+        writer.beginObject();
+        writer.name("timepoint");
+        timepoint.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_DURATION:
+        writer.beginObject();
+        writer.name("duration");
+        duration.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_U128:
+        writer.beginObject();
+        writer.name("u128");
+        u128.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_I128:
+        writer.beginObject();
+        writer.name("i128");
+        i128.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_U256:
+        writer.beginObject();
+        writer.name("u256");
+        u256.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_I256:
+        writer.beginObject();
+        writer.name("i256");
+        i256.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_BYTES:
+        writer.beginObject();
+        writer.name("bytes");
+        bytes.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_STRING:
+        writer.beginObject();
+        writer.name("string");
+        str.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_SYMBOL:
+        writer.beginObject();
+        writer.name("symbol");
+        sym.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_VEC:
+        writer.beginObject();
+        writer.name("vec");
+        XdrJson.writeOptional(writer, vec);
+        writer.endObject();
+        break;
+      case SCV_MAP:
+        writer.beginObject();
+        writer.name("map");
+        XdrJson.writeOptional(writer, map);
+        writer.endObject();
+        break;
+      case SCV_ADDRESS:
+        writer.beginObject();
+        writer.name("address");
+        address.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_CONTRACT_INSTANCE:
+        writer.beginObject();
+        writer.name("contract_instance");
+        instance.toJson(writer);
+        writer.endObject();
+        break;
+      case SCV_LEDGER_KEY_CONTRACT_INSTANCE:
+        writer.value("ledger_key_contract_instance");
+        break;
+      case SCV_LEDGER_KEY_NONCE:
+        writer.beginObject();
+        writer.name("ledger_key_nonce");
+        nonce_key.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SCVal fromJson(JsonReader reader) throws IOException {
+    SCVal decodedSCVal = new SCVal();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "void":
+          decodedSCVal.setDiscriminant(SCValType.SCV_VOID);
+          break;
+        case "ledger_key_contract_instance":
+          decodedSCVal.setDiscriminant(SCValType.SCV_LEDGER_KEY_CONTRACT_INSTANCE);
+          break;
+        default:
+          throw new IOException("Unknown SCVal arm: " + key);
+      }
+      return decodedSCVal;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "bool":
+        decodedSCVal.setDiscriminant(SCValType.SCV_BOOL);
+        decodedSCVal.b = reader.nextBoolean();
+        break;
+      case "error":
+        decodedSCVal.setDiscriminant(SCValType.SCV_ERROR);
+        decodedSCVal.error = SCError.fromJson(reader);
+        break;
+      case "u32":
+        decodedSCVal.setDiscriminant(SCValType.SCV_U32);
+        decodedSCVal.u32 = Uint32.fromJson(reader);
+        break;
+      case "i32":
+        decodedSCVal.setDiscriminant(SCValType.SCV_I32);
+        decodedSCVal.i32 = Int32.fromJson(reader);
+        break;
+      case "u64":
+        decodedSCVal.setDiscriminant(SCValType.SCV_U64);
+        decodedSCVal.u64 = Uint64.fromJson(reader);
+        break;
+      case "i64":
+        decodedSCVal.setDiscriminant(SCValType.SCV_I64);
+        decodedSCVal.i64 = Int64.fromJson(reader);
+        break;
+      case "timepoint":
+        decodedSCVal.setDiscriminant(SCValType.SCV_TIMEPOINT);
+        decodedSCVal.timepoint = TimePoint.fromJson(reader);
+        break;
+      case "duration":
+        decodedSCVal.setDiscriminant(SCValType.SCV_DURATION);
+        decodedSCVal.duration = Duration.fromJson(reader);
+        break;
+      case "u128":
+        decodedSCVal.setDiscriminant(SCValType.SCV_U128);
+        decodedSCVal.u128 = UInt128Parts.fromJson(reader);
+        break;
+      case "i128":
+        decodedSCVal.setDiscriminant(SCValType.SCV_I128);
+        decodedSCVal.i128 = Int128Parts.fromJson(reader);
+        break;
+      case "u256":
+        decodedSCVal.setDiscriminant(SCValType.SCV_U256);
+        decodedSCVal.u256 = UInt256Parts.fromJson(reader);
+        break;
+      case "i256":
+        decodedSCVal.setDiscriminant(SCValType.SCV_I256);
+        decodedSCVal.i256 = Int256Parts.fromJson(reader);
+        break;
+      case "bytes":
+        decodedSCVal.setDiscriminant(SCValType.SCV_BYTES);
+        decodedSCVal.bytes = SCBytes.fromJson(reader);
+        break;
+      case "string":
+        decodedSCVal.setDiscriminant(SCValType.SCV_STRING);
+        decodedSCVal.str = SCString.fromJson(reader);
+        break;
+      case "symbol":
+        decodedSCVal.setDiscriminant(SCValType.SCV_SYMBOL);
+        decodedSCVal.sym = SCSymbol.fromJson(reader);
+        break;
+      case "vec":
+        decodedSCVal.setDiscriminant(SCValType.SCV_VEC);
+        decodedSCVal.vec = XdrJson.readOptional(reader, SCVec::fromJson);
+        break;
+      case "map":
+        decodedSCVal.setDiscriminant(SCValType.SCV_MAP);
+        decodedSCVal.map = XdrJson.readOptional(reader, SCMap::fromJson);
+        break;
+      case "address":
+        decodedSCVal.setDiscriminant(SCValType.SCV_ADDRESS);
+        decodedSCVal.address = SCAddress.fromJson(reader);
+        break;
+      case "contract_instance":
+        decodedSCVal.setDiscriminant(SCValType.SCV_CONTRACT_INSTANCE);
+        decodedSCVal.instance = SCContractInstance.fromJson(reader);
+        break;
+      case "ledger_key_nonce":
+        decodedSCVal.setDiscriminant(SCValType.SCV_LEDGER_KEY_NONCE);
+        decodedSCVal.nonce_key = SCNonceKey.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SCVal arm: " + key);
+    }
+    reader.endObject();
+    return decodedSCVal;
+  }
+
+  public static SCVal fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCValType's original definition in the XDR file is:
@@ -153,18 +153,153 @@ public enum SCValType implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCValType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCValType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SCV_BOOL:
+        writer.value("bool");
+        break;
+      case SCV_VOID:
+        writer.value("void");
+        break;
+      case SCV_ERROR:
+        writer.value("error");
+        break;
+      case SCV_U32:
+        writer.value("u32");
+        break;
+      case SCV_I32:
+        writer.value("i32");
+        break;
+      case SCV_U64:
+        writer.value("u64");
+        break;
+      case SCV_I64:
+        writer.value("i64");
+        break;
+      case SCV_TIMEPOINT:
+        writer.value("timepoint");
+        break;
+      case SCV_DURATION:
+        writer.value("duration");
+        break;
+      case SCV_U128:
+        writer.value("u128");
+        break;
+      case SCV_I128:
+        writer.value("i128");
+        break;
+      case SCV_U256:
+        writer.value("u256");
+        break;
+      case SCV_I256:
+        writer.value("i256");
+        break;
+      case SCV_BYTES:
+        writer.value("bytes");
+        break;
+      case SCV_STRING:
+        writer.value("string");
+        break;
+      case SCV_SYMBOL:
+        writer.value("symbol");
+        break;
+      case SCV_VEC:
+        writer.value("vec");
+        break;
+      case SCV_MAP:
+        writer.value("map");
+        break;
+      case SCV_ADDRESS:
+        writer.value("address");
+        break;
+      case SCV_CONTRACT_INSTANCE:
+        writer.value("contract_instance");
+        break;
+      case SCV_LEDGER_KEY_CONTRACT_INSTANCE:
+        writer.value("ledger_key_contract_instance");
+        break;
+      case SCV_LEDGER_KEY_NONCE:
+        writer.value("ledger_key_nonce");
+        break;
+    }
+  }
+
+  public static SCValType fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "bool":
+        return SCV_BOOL;
+      case "void":
+        return SCV_VOID;
+      case "error":
+        return SCV_ERROR;
+      case "u32":
+        return SCV_U32;
+      case "i32":
+        return SCV_I32;
+      case "u64":
+        return SCV_U64;
+      case "i64":
+        return SCV_I64;
+      case "timepoint":
+        return SCV_TIMEPOINT;
+      case "duration":
+        return SCV_DURATION;
+      case "u128":
+        return SCV_U128;
+      case "i128":
+        return SCV_I128;
+      case "u256":
+        return SCV_U256;
+      case "i256":
+        return SCV_I256;
+      case "bytes":
+        return SCV_BYTES;
+      case "string":
+        return SCV_STRING;
+      case "symbol":
+        return SCV_SYMBOL;
+      case "vec":
+        return SCV_VEC;
+      case "map":
+        return SCV_MAP;
+      case "address":
+        return SCV_ADDRESS;
+      case "contract_instance":
+        return SCV_CONTRACT_INSTANCE;
+      case "ledger_key_contract_instance":
+        return SCV_LEDGER_KEY_CONTRACT_INSTANCE;
+      case "ledger_key_nonce":
+        return SCV_LEDGER_KEY_NONCE;
+      default:
+        throw new IOException("Unknown SCValType value: " + value);
+    }
+  }
+
+  public static SCValType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SCVec's original definition in the XDR file is:
@@ -31,24 +31,80 @@ public class SCVec implements XdrElement {
     }
   }
 
-  public static SCVec decode(XdrDataInputStream stream) throws IOException {
-    SCVec decodedSCVec = new SCVec();
-    int SCVecSize = stream.readInt();
-    decodedSCVec.SCVec = new SCVal[SCVecSize];
+  public int encodedSize() {
+    int size = 0;
+    int SCVecSize = getSCVec().length;
+    size += 4;
     for (int i = 0; i < SCVecSize; i++) {
-      decodedSCVec.SCVec[i] = SCVal.decode(stream);
+      size += SCVec[i].encodedSize();
+    }
+    return size;
+  }
+
+  public static SCVec decode(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCVec decodedSCVec = new SCVec();
+      int SCVecSize = stream.readLength(4);
+      decodedSCVec.SCVec = new SCVal[SCVecSize];
+      for (int i = 0; i < SCVecSize; i++) {
+        decodedSCVec.SCVec[i] = SCVal.decode(stream);
+      }
+      return decodedSCVec;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SCVec decodeInto(SCVec existing, XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SCVec decodedSCVec = existing != null ? existing : new SCVec();
+      int SCVecSize = stream.readLength(4);
+      decodedSCVec.SCVec = XdrRecycler.resize(decodedSCVec.SCVec, SCVecSize, SCVal[]::new);
+      for (int i = 0; i < SCVecSize; i++) {
+        decodedSCVec.SCVec[i] = SCVal.decodeInto(decodedSCVec.SCVec[i], stream);
+      }
+      return decodedSCVec;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      int SCVecSize = stream.readLength(Integer.MAX_VALUE, 4);
+      for (int i = 0; i < SCVecSize; i++) {
+        SCVal.skip(stream);
+      }
+    } finally {
+      stream.decreaseDepth();
     }
-    return decodedSCVec;
   }
 
   public static SCVec fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SCVec fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeArray(writer, SCVec);
+  }
+
+  public static SCVec fromJson(JsonReader reader) throws IOException {
+    SCVec decodedSCVec = new SCVec();
+    decodedSCVec.SCVec = XdrJson.readArray(reader, SCVal[]::new, SCVal::fromJson);
+    return decodedSCVec;
+  }
+
+  public static SCVec fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SendMore's original definition in the XDR file is:
@@ -32,20 +32,63 @@ public class SendMore implements XdrElement {
     numMessages.encode(stream);
   }
 
+  public int encodedSize() {
+    return numMessages.encodedSize();
+  }
+
   public static SendMore decode(XdrDataInputStream stream) throws IOException {
     SendMore decodedSendMore = new SendMore();
     decodedSendMore.numMessages = Uint32.decode(stream);
     return decodedSendMore;
   }
 
+  public static SendMore decodeInto(SendMore existing, XdrDataInputStream stream)
+      throws IOException {
+    SendMore decodedSendMore = existing != null ? existing : new SendMore();
+    decodedSendMore.numMessages = Uint32.decodeInto(decodedSendMore.numMessages, stream);
+    return decodedSendMore;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+  }
+
   public static SendMore fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SendMore fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("num_messages");
+    numMessages.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SendMore fromJson(JsonReader reader) throws IOException {
+    SendMore decodedSendMore = new SendMore();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "num_messages":
+          decodedSendMore.numMessages = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SendMore field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSendMore;
+  }
+
+  public static SendMore fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
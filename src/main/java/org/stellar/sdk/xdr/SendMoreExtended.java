@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SendMoreExtended's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class SendMoreExtended implements XdrElement {
     numBytes.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += numMessages.encodedSize();
+    size += numBytes.encodedSize();
+    return size;
+  }
+
   public static SendMoreExtended decode(XdrDataInputStream stream) throws IOException {
     SendMoreExtended decodedSendMoreExtended = new SendMoreExtended();
     decodedSendMoreExtended.numMessages = Uint32.decode(stream);
@@ -42,14 +49,61 @@ public class SendMoreExtended implements XdrElement {
     return decodedSendMoreExtended;
   }
 
+  public static SendMoreExtended decodeInto(SendMoreExtended existing, XdrDataInputStream stream)
+      throws IOException {
+    SendMoreExtended decodedSendMoreExtended = existing != null ? existing : new SendMoreExtended();
+    decodedSendMoreExtended.numMessages =
+        Uint32.decodeInto(decodedSendMoreExtended.numMessages, stream);
+    decodedSendMoreExtended.numBytes = Uint32.decodeInto(decodedSendMoreExtended.numBytes, stream);
+    return decodedSendMoreExtended;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static SendMoreExtended fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SendMoreExtended fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("num_messages");
+    numMessages.toJson(writer);
+    writer.name("num_bytes");
+    numBytes.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SendMoreExtended fromJson(JsonReader reader) throws IOException {
+    SendMoreExtended decodedSendMoreExtended = new SendMoreExtended();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "num_messages":
+          decodedSendMoreExtended.numMessages = Uint32.fromJson(reader);
+          break;
+        case "num_bytes":
+          decodedSendMoreExtended.numBytes = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SendMoreExtended field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSendMoreExtended;
+  }
+
+  public static SendMoreExtended fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SequenceNumber's original definition in the XDR file is:
@@ -27,20 +27,50 @@ public class SequenceNumber implements XdrElement {
     SequenceNumber.encode(stream);
   }
 
+  public int encodedSize() {
+    return SequenceNumber.encodedSize();
+  }
+
   public static SequenceNumber decode(XdrDataInputStream stream) throws IOException {
     SequenceNumber decodedSequenceNumber = new SequenceNumber();
     decodedSequenceNumber.SequenceNumber = Int64.decode(stream);
     return decodedSequenceNumber;
   }
 
+  public static SequenceNumber decodeInto(SequenceNumber existing, XdrDataInputStream stream)
+      throws IOException {
+    SequenceNumber decodedSequenceNumber = existing != null ? existing : new SequenceNumber();
+    decodedSequenceNumber.SequenceNumber =
+        Int64.decodeInto(decodedSequenceNumber.SequenceNumber, stream);
+    return decodedSequenceNumber;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int64.skip(stream);
+  }
+
   public static SequenceNumber fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SequenceNumber fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    SequenceNumber.toJson(writer);
+  }
+
+  public static SequenceNumber fromJson(JsonReader reader) throws IOException {
+    SequenceNumber decodedSequenceNumber = new SequenceNumber();
+    decodedSequenceNumber.SequenceNumber = Int64.fromJson(reader);
+    return decodedSequenceNumber;
+  }
+
+  public static SequenceNumber fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
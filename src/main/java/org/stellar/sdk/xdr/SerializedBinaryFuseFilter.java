@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SerializedBinaryFuseFilter's original definition in the XDR file is:
@@ -64,6 +64,22 @@ public class SerializedBinaryFuseFilter implements XdrElement {
     stream.write(getFingerprints(), 0, fingerprintsSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += type.encodedSize();
+    size += inputHashSeed.encodedSize();
+    size += filterSeed.encodedSize();
+    size += segmentLength.encodedSize();
+    size += segementLengthMask.encodedSize();
+    size += segmentCount.encodedSize();
+    size += segmentCountLength.encodedSize();
+    size += fingerprintLength.encodedSize();
+    int fingerprintsSize = fingerprints.length;
+    size += 4;
+    size += XdrDataOutputStream.paddedSize(fingerprintsSize);
+    return size;
+  }
+
   public static SerializedBinaryFuseFilter decode(XdrDataInputStream stream) throws IOException {
     SerializedBinaryFuseFilter decodedSerializedBinaryFuseFilter = new SerializedBinaryFuseFilter();
     decodedSerializedBinaryFuseFilter.type = BinaryFuseFilterType.decode(stream);
@@ -74,20 +90,127 @@ public class SerializedBinaryFuseFilter implements XdrElement {
     decodedSerializedBinaryFuseFilter.segmentCount = Uint32.decode(stream);
     decodedSerializedBinaryFuseFilter.segmentCountLength = Uint32.decode(stream);
     decodedSerializedBinaryFuseFilter.fingerprintLength = Uint32.decode(stream);
-    int fingerprintsSize = stream.readInt();
+    int fingerprintsSize = stream.readLength(1);
     decodedSerializedBinaryFuseFilter.fingerprints = new byte[fingerprintsSize];
     stream.read(decodedSerializedBinaryFuseFilter.fingerprints, 0, fingerprintsSize);
     return decodedSerializedBinaryFuseFilter;
   }
 
+  public static SerializedBinaryFuseFilter decodeInto(
+      SerializedBinaryFuseFilter existing, XdrDataInputStream stream) throws IOException {
+    SerializedBinaryFuseFilter decodedSerializedBinaryFuseFilter =
+        existing != null ? existing : new SerializedBinaryFuseFilter();
+    decodedSerializedBinaryFuseFilter.type = BinaryFuseFilterType.decode(stream);
+    decodedSerializedBinaryFuseFilter.inputHashSeed =
+        ShortHashSeed.decodeInto(decodedSerializedBinaryFuseFilter.inputHashSeed, stream);
+    decodedSerializedBinaryFuseFilter.filterSeed =
+        ShortHashSeed.decodeInto(decodedSerializedBinaryFuseFilter.filterSeed, stream);
+    decodedSerializedBinaryFuseFilter.segmentLength =
+        Uint32.decodeInto(decodedSerializedBinaryFuseFilter.segmentLength, stream);
+    decodedSerializedBinaryFuseFilter.segementLengthMask =
+        Uint32.decodeInto(decodedSerializedBinaryFuseFilter.segementLengthMask, stream);
+    decodedSerializedBinaryFuseFilter.segmentCount =
+        Uint32.decodeInto(decodedSerializedBinaryFuseFilter.segmentCount, stream);
+    decodedSerializedBinaryFuseFilter.segmentCountLength =
+        Uint32.decodeInto(decodedSerializedBinaryFuseFilter.segmentCountLength, stream);
+    decodedSerializedBinaryFuseFilter.fingerprintLength =
+        Uint32.decodeInto(decodedSerializedBinaryFuseFilter.fingerprintLength, stream);
+    int fingerprintsSize = stream.readLength(1);
+    decodedSerializedBinaryFuseFilter.fingerprints =
+        XdrRecycler.resize(decodedSerializedBinaryFuseFilter.fingerprints, fingerprintsSize);
+    stream.read(decodedSerializedBinaryFuseFilter.fingerprints, 0, fingerprintsSize);
+    return decodedSerializedBinaryFuseFilter;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    BinaryFuseFilterType.skip(stream);
+    ShortHashSeed.skip(stream);
+    ShortHashSeed.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    int fingerprintsSize = stream.readLength(Integer.MAX_VALUE, 1);
+    stream.skipOpaque(fingerprintsSize);
+  }
+
   public static SerializedBinaryFuseFilter fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SerializedBinaryFuseFilter fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("type");
+    type.toJson(writer);
+    writer.name("input_hash_seed");
+    inputHashSeed.toJson(writer);
+    writer.name("filter_seed");
+    filterSeed.toJson(writer);
+    writer.name("segment_length");
+    segmentLength.toJson(writer);
+    writer.name("segement_length_mask");
+    segementLengthMask.toJson(writer);
+    writer.name("segment_count");
+    segmentCount.toJson(writer);
+    writer.name("segment_count_length");
+    segmentCountLength.toJson(writer);
+    writer.name("fingerprint_length");
+    fingerprintLength.toJson(writer);
+    writer.name("fingerprints");
+    XdrJson.writeHex(writer, fingerprints);
+    writer.endObject();
+  }
+
+  public static SerializedBinaryFuseFilter fromJson(JsonReader reader) throws IOException {
+    SerializedBinaryFuseFilter decodedSerializedBinaryFuseFilter = new SerializedBinaryFuseFilter();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "type":
+          decodedSerializedBinaryFuseFilter.type = BinaryFuseFilterType.fromJson(reader);
+          break;
+        case "input_hash_seed":
+          decodedSerializedBinaryFuseFilter.inputHashSeed = ShortHashSeed.fromJson(reader);
+          break;
+        case "filter_seed":
+          decodedSerializedBinaryFuseFilter.filterSeed = ShortHashSeed.fromJson(reader);
+          break;
+        case "segment_length":
+          decodedSerializedBinaryFuseFilter.segmentLength = Uint32.fromJson(reader);
+          break;
+        case "segement_length_mask":
+          decodedSerializedBinaryFuseFilter.segementLengthMask = Uint32.fromJson(reader);
+          break;
+        case "segment_count":
+          decodedSerializedBinaryFuseFilter.segmentCount = Uint32.fromJson(reader);
+          break;
+        case "segment_count_length":
+          decodedSerializedBinaryFuseFilter.segmentCountLength = Uint32.fromJson(reader);
+          break;
+        case "fingerprint_length":
+          decodedSerializedBinaryFuseFilter.fingerprintLength = Uint32.fromJson(reader);
+          break;
+        case "fingerprints":
+          decodedSerializedBinaryFuseFilter.fingerprints = XdrJson.readHex(reader);
+          break;
+        default:
+          throw new IOException("Unknown SerializedBinaryFuseFilter field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSerializedBinaryFuseFilter;
+  }
+
+  public static SerializedBinaryFuseFilter fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SetOptionsOp's original definition in the XDR file is:
@@ -108,6 +108,65 @@ public class SetOptionsOp implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    if (inflationDest != null) {
+      size += 4;
+      size += inflationDest.encodedSize();
+    } else {
+      size += 4;
+    }
+    if (clearFlags != null) {
+      size += 4;
+      size += clearFlags.encodedSize();
+    } else {
+      size += 4;
+    }
+    if (setFlags != null) {
+      size += 4;
+      size += setFlags.encodedSize();
+    } else {
+      size += 4;
+    }
+    if (masterWeight != null) {
+      size += 4;
+      size += masterWeight.encodedSize();
+    } else {
+      size += 4;
+    }
+    if (lowThreshold != null) {
+      size += 4;
+      size += lowThreshold.encodedSize();
+    } else {
+      size += 4;
+    }
+    if (medThreshold != null) {
+      size += 4;
+      size += medThreshold.encodedSize();
+    } else {
+      size += 4;
+    }
+    if (highThreshold != null) {
+      size += 4;
+      size += highThreshold.encodedSize();
+    } else {
+      size += 4;
+    }
+    if (homeDomain != null) {
+      size += 4;
+      size += homeDomain.encodedSize();
+    } else {
+      size += 4;
+    }
+    if (signer != null) {
+      size += 4;
+      size += signer.encodedSize();
+    } else {
+      size += 4;
+    }
+    return size;
+  }
+
   public static SetOptionsOp decode(XdrDataInputStream stream) throws IOException {
     SetOptionsOp decodedSetOptionsOp = new SetOptionsOp();
     int inflationDestPresent = stream.readInt();
@@ -149,14 +208,177 @@ public class SetOptionsOp implements XdrElement {
     return decodedSetOptionsOp;
   }
 
+  public static SetOptionsOp decodeInto(SetOptionsOp existing, XdrDataInputStream stream)
+      throws IOException {
+    SetOptionsOp decodedSetOptionsOp = existing != null ? existing : new SetOptionsOp();
+    int inflationDestPresent = stream.readInt();
+    if (inflationDestPresent != 0) {
+      decodedSetOptionsOp.inflationDest =
+          AccountID.decodeInto(decodedSetOptionsOp.inflationDest, stream);
+    } else {
+      decodedSetOptionsOp.inflationDest = null;
+    }
+    int clearFlagsPresent = stream.readInt();
+    if (clearFlagsPresent != 0) {
+      decodedSetOptionsOp.clearFlags = Uint32.decodeInto(decodedSetOptionsOp.clearFlags, stream);
+    } else {
+      decodedSetOptionsOp.clearFlags = null;
+    }
+    int setFlagsPresent = stream.readInt();
+    if (setFlagsPresent != 0) {
+      decodedSetOptionsOp.setFlags = Uint32.decodeInto(decodedSetOptionsOp.setFlags, stream);
+    } else {
+      decodedSetOptionsOp.setFlags = null;
+    }
+    int masterWeightPresent = stream.readInt();
+    if (masterWeightPresent != 0) {
+      decodedSetOptionsOp.masterWeight =
+          Uint32.decodeInto(decodedSetOptionsOp.masterWeight, stream);
+    } else {
+      decodedSetOptionsOp.masterWeight = null;
+    }
+    int lowThresholdPresent = stream.readInt();
+    if (lowThresholdPresent != 0) {
+      decodedSetOptionsOp.lowThreshold =
+          Uint32.decodeInto(decodedSetOptionsOp.lowThreshold, stream);
+    } else {
+      decodedSetOptionsOp.lowThreshold = null;
+    }
+    int medThresholdPresent = stream.readInt();
+    if (medThresholdPresent != 0) {
+      decodedSetOptionsOp.medThreshold =
+          Uint32.decodeInto(decodedSetOptionsOp.medThreshold, stream);
+    } else {
+      decodedSetOptionsOp.medThreshold = null;
+    }
+    int highThresholdPresent = stream.readInt();
+    if (highThresholdPresent != 0) {
+      decodedSetOptionsOp.highThreshold =
+          Uint32.decodeInto(decodedSetOptionsOp.highThreshold, stream);
+    } else {
+      decodedSetOptionsOp.highThreshold = null;
+    }
+    int homeDomainPresent = stream.readInt();
+    if (homeDomainPresent != 0) {
+      decodedSetOptionsOp.homeDomain = String32.decodeInto(decodedSetOptionsOp.homeDomain, stream);
+    } else {
+      decodedSetOptionsOp.homeDomain = null;
+    }
+    int signerPresent = stream.readInt();
+    if (signerPresent != 0) {
+      decodedSetOptionsOp.signer = Signer.decodeInto(decodedSetOptionsOp.signer, stream);
+    } else {
+      decodedSetOptionsOp.signer = null;
+    }
+    return decodedSetOptionsOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    if (stream.readXdrBoolean()) {
+      AccountID.skip(stream);
+    }
+    if (stream.readXdrBoolean()) {
+      Uint32.skip(stream);
+    }
+    if (stream.readXdrBoolean()) {
+      Uint32.skip(stream);
+    }
+    if (stream.readXdrBoolean()) {
+      Uint32.skip(stream);
+    }
+    if (stream.readXdrBoolean()) {
+      Uint32.skip(stream);
+    }
+    if (stream.readXdrBoolean()) {
+      Uint32.skip(stream);
+    }
+    if (stream.readXdrBoolean()) {
+      Uint32.skip(stream);
+    }
+    if (stream.readXdrBoolean()) {
+      String32.skip(stream);
+    }
+    if (stream.readXdrBoolean()) {
+      Signer.skip(stream);
+    }
+  }
+
   public static SetOptionsOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SetOptionsOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("inflation_dest");
+    XdrJson.writeOptional(writer, inflationDest);
+    writer.name("clear_flags");
+    XdrJson.writeOptional(writer, clearFlags);
+    writer.name("set_flags");
+    XdrJson.writeOptional(writer, setFlags);
+    writer.name("master_weight");
+    XdrJson.writeOptional(writer, masterWeight);
+    writer.name("low_threshold");
+    XdrJson.writeOptional(writer, lowThreshold);
+    writer.name("med_threshold");
+    XdrJson.writeOptional(writer, medThreshold);
+    writer.name("high_threshold");
+    XdrJson.writeOptional(writer, highThreshold);
+    writer.name("home_domain");
+    XdrJson.writeOptional(writer, homeDomain);
+    writer.name("signer");
+    XdrJson.writeOptional(writer, signer);
+    writer.endObject();
+  }
+
+  public static SetOptionsOp fromJson(JsonReader reader) throws IOException {
+    SetOptionsOp decodedSetOptionsOp = new SetOptionsOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "inflation_dest":
+          decodedSetOptionsOp.inflationDest = XdrJson.readOptional(reader, AccountID::fromJson);
+          break;
+        case "clear_flags":
+          decodedSetOptionsOp.clearFlags = XdrJson.readOptional(reader, Uint32::fromJson);
+          break;
+        case "set_flags":
+          decodedSetOptionsOp.setFlags = XdrJson.readOptional(reader, Uint32::fromJson);
+          break;
+        case "master_weight":
+          decodedSetOptionsOp.masterWeight = XdrJson.readOptional(reader, Uint32::fromJson);
+          break;
+        case "low_threshold":
+          decodedSetOptionsOp.lowThreshold = XdrJson.readOptional(reader, Uint32::fromJson);
+          break;
+        case "med_threshold":
+          decodedSetOptionsOp.medThreshold = XdrJson.readOptional(reader, Uint32::fromJson);
+          break;
+        case "high_threshold":
+          decodedSetOptionsOp.highThreshold = XdrJson.readOptional(reader, Uint32::fromJson);
+          break;
+        case "home_domain":
+          decodedSetOptionsOp.homeDomain = XdrJson.readOptional(reader, String32::fromJson);
+          break;
+        case "signer":
+          decodedSetOptionsOp.signer = XdrJson.readOptional(reader, Signer::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SetOptionsOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSetOptionsOp;
+  }
+
+  public static SetOptionsOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SetOptionsResult's original definition in the XDR file is:
@@ -59,6 +59,27 @@ public class SetOptionsResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SET_OPTIONS_SUCCESS:
+        break;
+      case SET_OPTIONS_LOW_RESERVE:
+      case SET_OPTIONS_TOO_MANY_SIGNERS:
+      case SET_OPTIONS_BAD_FLAGS:
+      case SET_OPTIONS_INVALID_INFLATION:
+      case SET_OPTIONS_CANT_CHANGE:
+      case SET_OPTIONS_UNKNOWN_FLAG:
+      case SET_OPTIONS_THRESHOLD_OUT_OF_RANGE:
+      case SET_OPTIONS_BAD_SIGNER:
+      case SET_OPTIONS_INVALID_HOME_DOMAIN:
+      case SET_OPTIONS_AUTH_REVOCABLE_REQUIRED:
+        break;
+    }
+    return size;
+  }
+
   public static SetOptionsResult decode(XdrDataInputStream stream) throws IOException {
     SetOptionsResult decodedSetOptionsResult = new SetOptionsResult();
     SetOptionsResultCode discriminant = SetOptionsResultCode.decode(stream);
@@ -81,14 +102,149 @@ public class SetOptionsResult implements XdrElement {
     return decodedSetOptionsResult;
   }
 
+  public static SetOptionsResult decodeInto(SetOptionsResult existing, XdrDataInputStream stream)
+      throws IOException {
+    SetOptionsResultCode discriminant = SetOptionsResultCode.decode(stream);
+    SetOptionsResult decodedSetOptionsResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SetOptionsResult();
+    decodedSetOptionsResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SET_OPTIONS_SUCCESS:
+        break;
+      case SET_OPTIONS_LOW_RESERVE:
+      case SET_OPTIONS_TOO_MANY_SIGNERS:
+      case SET_OPTIONS_BAD_FLAGS:
+      case SET_OPTIONS_INVALID_INFLATION:
+      case SET_OPTIONS_CANT_CHANGE:
+      case SET_OPTIONS_UNKNOWN_FLAG:
+      case SET_OPTIONS_THRESHOLD_OUT_OF_RANGE:
+      case SET_OPTIONS_BAD_SIGNER:
+      case SET_OPTIONS_INVALID_HOME_DOMAIN:
+      case SET_OPTIONS_AUTH_REVOCABLE_REQUIRED:
+        break;
+    }
+    return decodedSetOptionsResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SetOptionsResultCode discriminant = SetOptionsResultCode.decode(stream);
+    switch (discriminant) {
+      case SET_OPTIONS_SUCCESS:
+        break;
+      case SET_OPTIONS_LOW_RESERVE:
+      case SET_OPTIONS_TOO_MANY_SIGNERS:
+      case SET_OPTIONS_BAD_FLAGS:
+      case SET_OPTIONS_INVALID_INFLATION:
+      case SET_OPTIONS_CANT_CHANGE:
+      case SET_OPTIONS_UNKNOWN_FLAG:
+      case SET_OPTIONS_THRESHOLD_OUT_OF_RANGE:
+      case SET_OPTIONS_BAD_SIGNER:
+      case SET_OPTIONS_INVALID_HOME_DOMAIN:
+      case SET_OPTIONS_AUTH_REVOCABLE_REQUIRED:
+        break;
+      default:
+        throw new IOException("Unknown SetOptionsResult discriminant: " + discriminant);
+    }
+  }
+
   public static SetOptionsResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SetOptionsResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SET_OPTIONS_SUCCESS:
+        writer.value("success");
+        break;
+      case SET_OPTIONS_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case SET_OPTIONS_TOO_MANY_SIGNERS:
+        writer.value("too_many_signers");
+        break;
+      case SET_OPTIONS_BAD_FLAGS:
+        writer.value("bad_flags");
+        break;
+      case SET_OPTIONS_INVALID_INFLATION:
+        writer.value("invalid_inflation");
+        break;
+      case SET_OPTIONS_CANT_CHANGE:
+        writer.value("cant_change");
+        break;
+      case SET_OPTIONS_UNKNOWN_FLAG:
+        writer.value("unknown_flag");
+        break;
+      case SET_OPTIONS_THRESHOLD_OUT_OF_RANGE:
+        writer.value("threshold_out_of_range");
+        break;
+      case SET_OPTIONS_BAD_SIGNER:
+        writer.value("bad_signer");
+        break;
+      case SET_OPTIONS_INVALID_HOME_DOMAIN:
+        writer.value("invalid_home_domain");
+        break;
+      case SET_OPTIONS_AUTH_REVOCABLE_REQUIRED:
+        writer.value("auth_revocable_required");
+        break;
+    }
+  }
+
+  public static SetOptionsResult fromJson(JsonReader reader) throws IOException {
+    SetOptionsResult decodedSetOptionsResult = new SetOptionsResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedSetOptionsResult.setDiscriminant(SetOptionsResultCode.SET_OPTIONS_SUCCESS);
+        break;
+      case "low_reserve":
+        decodedSetOptionsResult.setDiscriminant(SetOptionsResultCode.SET_OPTIONS_LOW_RESERVE);
+        break;
+      case "too_many_signers":
+        decodedSetOptionsResult.setDiscriminant(SetOptionsResultCode.SET_OPTIONS_TOO_MANY_SIGNERS);
+        break;
+      case "bad_flags":
+        decodedSetOptionsResult.setDiscriminant(SetOptionsResultCode.SET_OPTIONS_BAD_FLAGS);
+        break;
+      case "invalid_inflation":
+        decodedSetOptionsResult.setDiscriminant(SetOptionsResultCode.SET_OPTIONS_INVALID_INFLATION);
+        break;
+      case "cant_change":
+        decodedSetOptionsResult.setDiscriminant(SetOptionsResultCode.SET_OPTIONS_CANT_CHANGE);
+        break;
+      case "unknown_flag":
+        decodedSetOptionsResult.setDiscriminant(SetOptionsResultCode.SET_OPTIONS_UNKNOWN_FLAG);
+        break;
+      case "threshold_out_of_range":
+        decodedSetOptionsResult.setDiscriminant(
+            SetOptionsResultCode.SET_OPTIONS_THRESHOLD_OUT_OF_RANGE);
+        break;
+      case "bad_signer":
+        decodedSetOptionsResult.setDiscriminant(SetOptionsResultCode.SET_OPTIONS_BAD_SIGNER);
+        break;
+      case "invalid_home_domain":
+        decodedSetOptionsResult.setDiscriminant(
+            SetOptionsResultCode.SET_OPTIONS_INVALID_HOME_DOMAIN);
+        break;
+      case "auth_revocable_required":
+        decodedSetOptionsResult.setDiscriminant(
+            SetOptionsResultCode.SET_OPTIONS_AUTH_REVOCABLE_REQUIRED);
+        break;
+      default:
+        throw new IOException("Unknown SetOptionsResult arm: " + key);
+    }
+    return decodedSetOptionsResult;
+  }
+
+  public static SetOptionsResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
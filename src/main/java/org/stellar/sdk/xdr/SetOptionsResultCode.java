@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SetOptionsResultCode's original definition in the XDR file is:
@@ -83,18 +83,98 @@ public enum SetOptionsResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SetOptionsResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SetOptionsResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SET_OPTIONS_SUCCESS:
+        writer.value("success");
+        break;
+      case SET_OPTIONS_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+      case SET_OPTIONS_TOO_MANY_SIGNERS:
+        writer.value("too_many_signers");
+        break;
+      case SET_OPTIONS_BAD_FLAGS:
+        writer.value("bad_flags");
+        break;
+      case SET_OPTIONS_INVALID_INFLATION:
+        writer.value("invalid_inflation");
+        break;
+      case SET_OPTIONS_CANT_CHANGE:
+        writer.value("cant_change");
+        break;
+      case SET_OPTIONS_UNKNOWN_FLAG:
+        writer.value("unknown_flag");
+        break;
+      case SET_OPTIONS_THRESHOLD_OUT_OF_RANGE:
+        writer.value("threshold_out_of_range");
+        break;
+      case SET_OPTIONS_BAD_SIGNER:
+        writer.value("bad_signer");
+        break;
+      case SET_OPTIONS_INVALID_HOME_DOMAIN:
+        writer.value("invalid_home_domain");
+        break;
+      case SET_OPTIONS_AUTH_REVOCABLE_REQUIRED:
+        writer.value("auth_revocable_required");
+        break;
+    }
+  }
+
+  public static SetOptionsResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return SET_OPTIONS_SUCCESS;
+      case "low_reserve":
+        return SET_OPTIONS_LOW_RESERVE;
+      case "too_many_signers":
+        return SET_OPTIONS_TOO_MANY_SIGNERS;
+      case "bad_flags":
+        return SET_OPTIONS_BAD_FLAGS;
+      case "invalid_inflation":
+        return SET_OPTIONS_INVALID_INFLATION;
+      case "cant_change":
+        return SET_OPTIONS_CANT_CHANGE;
+      case "unknown_flag":
+        return SET_OPTIONS_UNKNOWN_FLAG;
+      case "threshold_out_of_range":
+        return SET_OPTIONS_THRESHOLD_OUT_OF_RANGE;
+      case "bad_signer":
+        return SET_OPTIONS_BAD_SIGNER;
+      case "invalid_home_domain":
+        return SET_OPTIONS_INVALID_HOME_DOMAIN;
+      case "auth_revocable_required":
+        return SET_OPTIONS_AUTH_REVOCABLE_REQUIRED;
+      default:
+        throw new IOException("Unknown SetOptionsResultCode value: " + value);
+    }
+  }
+
+  public static SetOptionsResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
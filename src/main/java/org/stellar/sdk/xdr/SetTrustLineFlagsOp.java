@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SetTrustLineFlagsOp's original definition in the XDR file is:
@@ -42,6 +42,15 @@ public class SetTrustLineFlagsOp implements XdrElement {
     setFlags.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += trustor.encodedSize();
+    size += asset.encodedSize();
+    size += clearFlags.encodedSize();
+    size += setFlags.encodedSize();
+    return size;
+  }
+
   public static SetTrustLineFlagsOp decode(XdrDataInputStream stream) throws IOException {
     SetTrustLineFlagsOp decodedSetTrustLineFlagsOp = new SetTrustLineFlagsOp();
     decodedSetTrustLineFlagsOp.trustor = AccountID.decode(stream);
@@ -51,14 +60,78 @@ public class SetTrustLineFlagsOp implements XdrElement {
     return decodedSetTrustLineFlagsOp;
   }
 
+  public static SetTrustLineFlagsOp decodeInto(
+      SetTrustLineFlagsOp existing, XdrDataInputStream stream) throws IOException {
+    SetTrustLineFlagsOp decodedSetTrustLineFlagsOp =
+        existing != null ? existing : new SetTrustLineFlagsOp();
+    decodedSetTrustLineFlagsOp.trustor =
+        AccountID.decodeInto(decodedSetTrustLineFlagsOp.trustor, stream);
+    decodedSetTrustLineFlagsOp.asset = Asset.decodeInto(decodedSetTrustLineFlagsOp.asset, stream);
+    decodedSetTrustLineFlagsOp.clearFlags =
+        Uint32.decodeInto(decodedSetTrustLineFlagsOp.clearFlags, stream);
+    decodedSetTrustLineFlagsOp.setFlags =
+        Uint32.decodeInto(decodedSetTrustLineFlagsOp.setFlags, stream);
+    return decodedSetTrustLineFlagsOp;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+    Asset.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static SetTrustLineFlagsOp fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SetTrustLineFlagsOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("trustor");
+    trustor.toJson(writer);
+    writer.name("asset");
+    asset.toJson(writer);
+    writer.name("clear_flags");
+    clearFlags.toJson(writer);
+    writer.name("set_flags");
+    setFlags.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SetTrustLineFlagsOp fromJson(JsonReader reader) throws IOException {
+    SetTrustLineFlagsOp decodedSetTrustLineFlagsOp = new SetTrustLineFlagsOp();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "trustor":
+          decodedSetTrustLineFlagsOp.trustor = AccountID.fromJson(reader);
+          break;
+        case "asset":
+          decodedSetTrustLineFlagsOp.asset = Asset.fromJson(reader);
+          break;
+        case "clear_flags":
+          decodedSetTrustLineFlagsOp.clearFlags = Uint32.fromJson(reader);
+          break;
+        case "set_flags":
+          decodedSetTrustLineFlagsOp.setFlags = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SetTrustLineFlagsOp field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSetTrustLineFlagsOp;
+  }
+
+  public static SetTrustLineFlagsOp fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
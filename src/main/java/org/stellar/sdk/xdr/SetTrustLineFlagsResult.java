@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SetTrustLineFlagsResult's original definition in the XDR file is:
@@ -49,6 +49,22 @@ public class SetTrustLineFlagsResult implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SET_TRUST_LINE_FLAGS_SUCCESS:
+        break;
+      case SET_TRUST_LINE_FLAGS_MALFORMED:
+      case SET_TRUST_LINE_FLAGS_NO_TRUST_LINE:
+      case SET_TRUST_LINE_FLAGS_CANT_REVOKE:
+      case SET_TRUST_LINE_FLAGS_INVALID_STATE:
+      case SET_TRUST_LINE_FLAGS_LOW_RESERVE:
+        break;
+    }
+    return size;
+  }
+
   public static SetTrustLineFlagsResult decode(XdrDataInputStream stream) throws IOException {
     SetTrustLineFlagsResult decodedSetTrustLineFlagsResult = new SetTrustLineFlagsResult();
     SetTrustLineFlagsResultCode discriminant = SetTrustLineFlagsResultCode.decode(stream);
@@ -66,14 +82,112 @@ public class SetTrustLineFlagsResult implements XdrElement {
     return decodedSetTrustLineFlagsResult;
   }
 
+  public static SetTrustLineFlagsResult decodeInto(
+      SetTrustLineFlagsResult existing, XdrDataInputStream stream) throws IOException {
+    SetTrustLineFlagsResultCode discriminant = SetTrustLineFlagsResultCode.decode(stream);
+    SetTrustLineFlagsResult decodedSetTrustLineFlagsResult =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SetTrustLineFlagsResult();
+    decodedSetTrustLineFlagsResult.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SET_TRUST_LINE_FLAGS_SUCCESS:
+        break;
+      case SET_TRUST_LINE_FLAGS_MALFORMED:
+      case SET_TRUST_LINE_FLAGS_NO_TRUST_LINE:
+      case SET_TRUST_LINE_FLAGS_CANT_REVOKE:
+      case SET_TRUST_LINE_FLAGS_INVALID_STATE:
+      case SET_TRUST_LINE_FLAGS_LOW_RESERVE:
+        break;
+    }
+    return decodedSetTrustLineFlagsResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SetTrustLineFlagsResultCode discriminant = SetTrustLineFlagsResultCode.decode(stream);
+    switch (discriminant) {
+      case SET_TRUST_LINE_FLAGS_SUCCESS:
+        break;
+      case SET_TRUST_LINE_FLAGS_MALFORMED:
+      case SET_TRUST_LINE_FLAGS_NO_TRUST_LINE:
+      case SET_TRUST_LINE_FLAGS_CANT_REVOKE:
+      case SET_TRUST_LINE_FLAGS_INVALID_STATE:
+      case SET_TRUST_LINE_FLAGS_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown SetTrustLineFlagsResult discriminant: " + discriminant);
+    }
+  }
+
   public static SetTrustLineFlagsResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SetTrustLineFlagsResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SET_TRUST_LINE_FLAGS_SUCCESS:
+        writer.value("success");
+        break;
+      case SET_TRUST_LINE_FLAGS_MALFORMED:
+        writer.value("malformed");
+        break;
+      case SET_TRUST_LINE_FLAGS_NO_TRUST_LINE:
+        writer.value("no_trust_line");
+        break;
+      case SET_TRUST_LINE_FLAGS_CANT_REVOKE:
+        writer.value("cant_revoke");
+        break;
+      case SET_TRUST_LINE_FLAGS_INVALID_STATE:
+        writer.value("invalid_state");
+        break;
+      case SET_TRUST_LINE_FLAGS_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+    }
+  }
+
+  public static SetTrustLineFlagsResult fromJson(JsonReader reader) throws IOException {
+    SetTrustLineFlagsResult decodedSetTrustLineFlagsResult = new SetTrustLineFlagsResult();
+    String key = reader.nextString();
+    switch (key) {
+      case "success":
+        decodedSetTrustLineFlagsResult.setDiscriminant(
+            SetTrustLineFlagsResultCode.SET_TRUST_LINE_FLAGS_SUCCESS);
+        break;
+      case "malformed":
+        decodedSetTrustLineFlagsResult.setDiscriminant(
+            SetTrustLineFlagsResultCode.SET_TRUST_LINE_FLAGS_MALFORMED);
+        break;
+      case "no_trust_line":
+        decodedSetTrustLineFlagsResult.setDiscriminant(
+            SetTrustLineFlagsResultCode.SET_TRUST_LINE_FLAGS_NO_TRUST_LINE);
+        break;
+      case "cant_revoke":
+        decodedSetTrustLineFlagsResult.setDiscriminant(
+            SetTrustLineFlagsResultCode.SET_TRUST_LINE_FLAGS_CANT_REVOKE);
+        break;
+      case "invalid_state":
+        decodedSetTrustLineFlagsResult.setDiscriminant(
+            SetTrustLineFlagsResultCode.SET_TRUST_LINE_FLAGS_INVALID_STATE);
+        break;
+      case "low_reserve":
+        decodedSetTrustLineFlagsResult.setDiscriminant(
+            SetTrustLineFlagsResultCode.SET_TRUST_LINE_FLAGS_LOW_RESERVE);
+        break;
+      default:
+        throw new IOException("Unknown SetTrustLineFlagsResult arm: " + key);
+    }
+    return decodedSetTrustLineFlagsResult;
+  }
+
+  public static SetTrustLineFlagsResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SetTrustLineFlagsResultCode's original definition in the XDR file is:
@@ -64,18 +64,73 @@ public enum SetTrustLineFlagsResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SetTrustLineFlagsResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SetTrustLineFlagsResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case SET_TRUST_LINE_FLAGS_SUCCESS:
+        writer.value("success");
+        break;
+      case SET_TRUST_LINE_FLAGS_MALFORMED:
+        writer.value("malformed");
+        break;
+      case SET_TRUST_LINE_FLAGS_NO_TRUST_LINE:
+        writer.value("no_trust_line");
+        break;
+      case SET_TRUST_LINE_FLAGS_CANT_REVOKE:
+        writer.value("cant_revoke");
+        break;
+      case SET_TRUST_LINE_FLAGS_INVALID_STATE:
+        writer.value("invalid_state");
+        break;
+      case SET_TRUST_LINE_FLAGS_LOW_RESERVE:
+        writer.value("low_reserve");
+        break;
+    }
+  }
+
+  public static SetTrustLineFlagsResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "success":
+        return SET_TRUST_LINE_FLAGS_SUCCESS;
+      case "malformed":
+        return SET_TRUST_LINE_FLAGS_MALFORMED;
+      case "no_trust_line":
+        return SET_TRUST_LINE_FLAGS_NO_TRUST_LINE;
+      case "cant_revoke":
+        return SET_TRUST_LINE_FLAGS_CANT_REVOKE;
+      case "invalid_state":
+        return SET_TRUST_LINE_FLAGS_INVALID_STATE;
+      case "low_reserve":
+        return SET_TRUST_LINE_FLAGS_LOW_RESERVE;
+      default:
+        throw new IOException("Unknown SetTrustLineFlagsResultCode value: " + value);
+    }
+  }
+
+  public static SetTrustLineFlagsResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
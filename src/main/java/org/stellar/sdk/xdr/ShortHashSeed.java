@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ShortHashSeed's original definition in the XDR file is:
@@ -33,6 +33,13 @@ public class ShortHashSeed implements XdrElement {
     stream.write(getSeed(), 0, seedSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int seedSize = seed.length;
+    size += XdrDataOutputStream.paddedSize(seedSize);
+    return size;
+  }
+
   public static ShortHashSeed decode(XdrDataInputStream stream) throws IOException {
     ShortHashSeed decodedShortHashSeed = new ShortHashSeed();
     int seedSize = 16;
@@ -41,14 +48,56 @@ public class ShortHashSeed implements XdrElement {
     return decodedShortHashSeed;
   }
 
+  public static ShortHashSeed decodeInto(ShortHashSeed existing, XdrDataInputStream stream)
+      throws IOException {
+    ShortHashSeed decodedShortHashSeed = existing != null ? existing : new ShortHashSeed();
+    int seedSize = 16;
+    decodedShortHashSeed.seed = XdrRecycler.resize(decodedShortHashSeed.seed, seedSize);
+    stream.read(decodedShortHashSeed.seed, 0, seedSize);
+    return decodedShortHashSeed;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int seedSize = 16;
+    stream.skipOpaque(seedSize);
+  }
+
   public static ShortHashSeed fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ShortHashSeed fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("seed");
+    XdrJson.writeHex(writer, seed);
+    writer.endObject();
+  }
+
+  public static ShortHashSeed fromJson(JsonReader reader) throws IOException {
+    ShortHashSeed decodedShortHashSeed = new ShortHashSeed();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "seed":
+          decodedShortHashSeed.seed = XdrJson.readHex(reader, 16);
+          break;
+        default:
+          throw new IOException("Unknown ShortHashSeed field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedShortHashSeed;
+  }
+
+  public static ShortHashSeed fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Signature's original definition in the XDR file is:
@@ -29,22 +29,58 @@ public class Signature implements XdrElement {
     stream.write(getSignature(), 0, SignatureSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int SignatureSize = Signature.length;
+    size += 4;
+    size += XdrDataOutputStream.paddedSize(SignatureSize);
+    return size;
+  }
+
   public static Signature decode(XdrDataInputStream stream) throws IOException {
     Signature decodedSignature = new Signature();
-    int SignatureSize = stream.readInt();
+    int SignatureSize = stream.readLength(1);
     decodedSignature.Signature = new byte[SignatureSize];
     stream.read(decodedSignature.Signature, 0, SignatureSize);
     return decodedSignature;
   }
 
+  public static Signature decodeInto(Signature existing, XdrDataInputStream stream)
+      throws IOException {
+    Signature decodedSignature = existing != null ? existing : new Signature();
+    int SignatureSize = stream.readLength(1);
+    decodedSignature.Signature = XdrRecycler.resize(decodedSignature.Signature, SignatureSize);
+    stream.read(decodedSignature.Signature, 0, SignatureSize);
+    return decodedSignature;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int SignatureSize = stream.readLength(64, 1);
+    stream.skipOpaque(SignatureSize);
+  }
+
   public static Signature fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Signature fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeHex(writer, Signature);
+  }
+
+  public static Signature fromJson(JsonReader reader) throws IOException {
+    Signature decodedSignature = new Signature();
+    decodedSignature.Signature = XdrJson.readHex(reader);
+    return decodedSignature;
+  }
+
+  public static Signature fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
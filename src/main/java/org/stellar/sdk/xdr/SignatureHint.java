@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SignatureHint's original definition in the XDR file is:
@@ -28,6 +28,13 @@ public class SignatureHint implements XdrElement {
     stream.write(getSignatureHint(), 0, SignatureHintSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int SignatureHintSize = SignatureHint.length;
+    size += XdrDataOutputStream.paddedSize(SignatureHintSize);
+    return size;
+  }
+
   public static SignatureHint decode(XdrDataInputStream stream) throws IOException {
     SignatureHint decodedSignatureHint = new SignatureHint();
     int SignatureHintSize = 4;
@@ -36,14 +43,43 @@ public class SignatureHint implements XdrElement {
     return decodedSignatureHint;
   }
 
+  public static SignatureHint decodeInto(SignatureHint existing, XdrDataInputStream stream)
+      throws IOException {
+    SignatureHint decodedSignatureHint = existing != null ? existing : new SignatureHint();
+    int SignatureHintSize = 4;
+    decodedSignatureHint.SignatureHint =
+        XdrRecycler.resize(decodedSignatureHint.SignatureHint, SignatureHintSize);
+    stream.read(decodedSignatureHint.SignatureHint, 0, SignatureHintSize);
+    return decodedSignatureHint;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int SignatureHintSize = 4;
+    stream.skipOpaque(SignatureHintSize);
+  }
+
   public static SignatureHint fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SignatureHint fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeHex(writer, SignatureHint);
+  }
+
+  public static SignatureHint fromJson(JsonReader reader) throws IOException {
+    SignatureHint decodedSignatureHint = new SignatureHint();
+    decodedSignatureHint.SignatureHint = XdrJson.readHex(reader, 4);
+    return decodedSignatureHint;
+  }
+
+  public static SignatureHint fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
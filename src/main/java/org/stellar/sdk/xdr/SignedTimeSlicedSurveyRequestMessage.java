@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SignedTimeSlicedSurveyRequestMessage's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class SignedTimeSlicedSurveyRequestMessage implements XdrElement {
     request.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += requestSignature.encodedSize();
+    size += request.encodedSize();
+    return size;
+  }
+
   public static SignedTimeSlicedSurveyRequestMessage decode(XdrDataInputStream stream)
       throws IOException {
     SignedTimeSlicedSurveyRequestMessage decodedSignedTimeSlicedSurveyRequestMessage =
@@ -45,15 +52,68 @@ public class SignedTimeSlicedSurveyRequestMessage implements XdrElement {
     return decodedSignedTimeSlicedSurveyRequestMessage;
   }
 
+  public static SignedTimeSlicedSurveyRequestMessage decodeInto(
+      SignedTimeSlicedSurveyRequestMessage existing, XdrDataInputStream stream) throws IOException {
+    SignedTimeSlicedSurveyRequestMessage decodedSignedTimeSlicedSurveyRequestMessage =
+        existing != null ? existing : new SignedTimeSlicedSurveyRequestMessage();
+    decodedSignedTimeSlicedSurveyRequestMessage.requestSignature =
+        Signature.decodeInto(decodedSignedTimeSlicedSurveyRequestMessage.requestSignature, stream);
+    decodedSignedTimeSlicedSurveyRequestMessage.request =
+        TimeSlicedSurveyRequestMessage.decodeInto(
+            decodedSignedTimeSlicedSurveyRequestMessage.request, stream);
+    return decodedSignedTimeSlicedSurveyRequestMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Signature.skip(stream);
+    TimeSlicedSurveyRequestMessage.skip(stream);
+  }
+
   public static SignedTimeSlicedSurveyRequestMessage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SignedTimeSlicedSurveyRequestMessage fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("request_signature");
+    requestSignature.toJson(writer);
+    writer.name("request");
+    request.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SignedTimeSlicedSurveyRequestMessage fromJson(JsonReader reader)
+      throws IOException {
+    SignedTimeSlicedSurveyRequestMessage decodedSignedTimeSlicedSurveyRequestMessage =
+        new SignedTimeSlicedSurveyRequestMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "request_signature":
+          decodedSignedTimeSlicedSurveyRequestMessage.requestSignature = Signature.fromJson(reader);
+          break;
+        case "request":
+          decodedSignedTimeSlicedSurveyRequestMessage.request =
+              TimeSlicedSurveyRequestMessage.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SignedTimeSlicedSurveyRequestMessage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSignedTimeSlicedSurveyRequestMessage;
+  }
+
+  public static SignedTimeSlicedSurveyRequestMessage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
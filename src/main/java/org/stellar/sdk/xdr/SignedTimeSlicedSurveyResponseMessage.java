@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SignedTimeSlicedSurveyResponseMessage's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class SignedTimeSlicedSurveyResponseMessage implements XdrElement {
     response.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += responseSignature.encodedSize();
+    size += response.encodedSize();
+    return size;
+  }
+
   public static SignedTimeSlicedSurveyResponseMessage decode(XdrDataInputStream stream)
       throws IOException {
     SignedTimeSlicedSurveyResponseMessage decodedSignedTimeSlicedSurveyResponseMessage =
@@ -45,15 +52,71 @@ public class SignedTimeSlicedSurveyResponseMessage implements XdrElement {
     return decodedSignedTimeSlicedSurveyResponseMessage;
   }
 
+  public static SignedTimeSlicedSurveyResponseMessage decodeInto(
+      SignedTimeSlicedSurveyResponseMessage existing, XdrDataInputStream stream)
+      throws IOException {
+    SignedTimeSlicedSurveyResponseMessage decodedSignedTimeSlicedSurveyResponseMessage =
+        existing != null ? existing : new SignedTimeSlicedSurveyResponseMessage();
+    decodedSignedTimeSlicedSurveyResponseMessage.responseSignature =
+        Signature.decodeInto(
+            decodedSignedTimeSlicedSurveyResponseMessage.responseSignature, stream);
+    decodedSignedTimeSlicedSurveyResponseMessage.response =
+        TimeSlicedSurveyResponseMessage.decodeInto(
+            decodedSignedTimeSlicedSurveyResponseMessage.response, stream);
+    return decodedSignedTimeSlicedSurveyResponseMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Signature.skip(stream);
+    TimeSlicedSurveyResponseMessage.skip(stream);
+  }
+
   public static SignedTimeSlicedSurveyResponseMessage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SignedTimeSlicedSurveyResponseMessage fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("response_signature");
+    responseSignature.toJson(writer);
+    writer.name("response");
+    response.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SignedTimeSlicedSurveyResponseMessage fromJson(JsonReader reader)
+      throws IOException {
+    SignedTimeSlicedSurveyResponseMessage decodedSignedTimeSlicedSurveyResponseMessage =
+        new SignedTimeSlicedSurveyResponseMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "response_signature":
+          decodedSignedTimeSlicedSurveyResponseMessage.responseSignature =
+              Signature.fromJson(reader);
+          break;
+        case "response":
+          decodedSignedTimeSlicedSurveyResponseMessage.response =
+              TimeSlicedSurveyResponseMessage.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SignedTimeSlicedSurveyResponseMessage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSignedTimeSlicedSurveyResponseMessage;
+  }
+
+  public static SignedTimeSlicedSurveyResponseMessage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
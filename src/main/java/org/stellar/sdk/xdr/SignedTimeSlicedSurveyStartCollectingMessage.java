@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SignedTimeSlicedSurveyStartCollectingMessage's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class SignedTimeSlicedSurveyStartCollectingMessage implements XdrElement
     startCollecting.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += signature.encodedSize();
+    size += startCollecting.encodedSize();
+    return size;
+  }
+
   public static SignedTimeSlicedSurveyStartCollectingMessage decode(XdrDataInputStream stream)
       throws IOException {
     SignedTimeSlicedSurveyStartCollectingMessage
@@ -46,16 +53,75 @@ public class SignedTimeSlicedSurveyStartCollectingMessage implements XdrElement
     return decodedSignedTimeSlicedSurveyStartCollectingMessage;
   }
 
+  public static SignedTimeSlicedSurveyStartCollectingMessage decodeInto(
+      SignedTimeSlicedSurveyStartCollectingMessage existing, XdrDataInputStream stream)
+      throws IOException {
+    SignedTimeSlicedSurveyStartCollectingMessage
+        decodedSignedTimeSlicedSurveyStartCollectingMessage =
+            existing != null ? existing : new SignedTimeSlicedSurveyStartCollectingMessage();
+    decodedSignedTimeSlicedSurveyStartCollectingMessage.signature =
+        Signature.decodeInto(decodedSignedTimeSlicedSurveyStartCollectingMessage.signature, stream);
+    decodedSignedTimeSlicedSurveyStartCollectingMessage.startCollecting =
+        TimeSlicedSurveyStartCollectingMessage.decodeInto(
+            decodedSignedTimeSlicedSurveyStartCollectingMessage.startCollecting, stream);
+    return decodedSignedTimeSlicedSurveyStartCollectingMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Signature.skip(stream);
+    TimeSlicedSurveyStartCollectingMessage.skip(stream);
+  }
+
   public static SignedTimeSlicedSurveyStartCollectingMessage fromXdrBase64(String xdr)
       throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SignedTimeSlicedSurveyStartCollectingMessage fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("signature");
+    signature.toJson(writer);
+    writer.name("start_collecting");
+    startCollecting.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SignedTimeSlicedSurveyStartCollectingMessage fromJson(JsonReader reader)
+      throws IOException {
+    SignedTimeSlicedSurveyStartCollectingMessage
+        decodedSignedTimeSlicedSurveyStartCollectingMessage =
+            new SignedTimeSlicedSurveyStartCollectingMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "signature":
+          decodedSignedTimeSlicedSurveyStartCollectingMessage.signature =
+              Signature.fromJson(reader);
+          break;
+        case "start_collecting":
+          decodedSignedTimeSlicedSurveyStartCollectingMessage.startCollecting =
+              TimeSlicedSurveyStartCollectingMessage.fromJson(reader);
+          break;
+        default:
+          throw new IOException(
+              "Unknown SignedTimeSlicedSurveyStartCollectingMessage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSignedTimeSlicedSurveyStartCollectingMessage;
+  }
+
+  public static SignedTimeSlicedSurveyStartCollectingMessage fromJson(String json)
+      throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
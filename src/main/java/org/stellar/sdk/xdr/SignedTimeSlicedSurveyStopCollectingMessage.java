@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SignedTimeSlicedSurveyStopCollectingMessage's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class SignedTimeSlicedSurveyStopCollectingMessage implements XdrElement {
     stopCollecting.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += signature.encodedSize();
+    size += stopCollecting.encodedSize();
+    return size;
+  }
+
   public static SignedTimeSlicedSurveyStopCollectingMessage decode(XdrDataInputStream stream)
       throws IOException {
     SignedTimeSlicedSurveyStopCollectingMessage decodedSignedTimeSlicedSurveyStopCollectingMessage =
@@ -45,16 +52,72 @@ public class SignedTimeSlicedSurveyStopCollectingMessage implements XdrElement {
     return decodedSignedTimeSlicedSurveyStopCollectingMessage;
   }
 
+  public static SignedTimeSlicedSurveyStopCollectingMessage decodeInto(
+      SignedTimeSlicedSurveyStopCollectingMessage existing, XdrDataInputStream stream)
+      throws IOException {
+    SignedTimeSlicedSurveyStopCollectingMessage decodedSignedTimeSlicedSurveyStopCollectingMessage =
+        existing != null ? existing : new SignedTimeSlicedSurveyStopCollectingMessage();
+    decodedSignedTimeSlicedSurveyStopCollectingMessage.signature =
+        Signature.decodeInto(decodedSignedTimeSlicedSurveyStopCollectingMessage.signature, stream);
+    decodedSignedTimeSlicedSurveyStopCollectingMessage.stopCollecting =
+        TimeSlicedSurveyStopCollectingMessage.decodeInto(
+            decodedSignedTimeSlicedSurveyStopCollectingMessage.stopCollecting, stream);
+    return decodedSignedTimeSlicedSurveyStopCollectingMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Signature.skip(stream);
+    TimeSlicedSurveyStopCollectingMessage.skip(stream);
+  }
+
   public static SignedTimeSlicedSurveyStopCollectingMessage fromXdrBase64(String xdr)
       throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SignedTimeSlicedSurveyStopCollectingMessage fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("signature");
+    signature.toJson(writer);
+    writer.name("stop_collecting");
+    stopCollecting.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SignedTimeSlicedSurveyStopCollectingMessage fromJson(JsonReader reader)
+      throws IOException {
+    SignedTimeSlicedSurveyStopCollectingMessage decodedSignedTimeSlicedSurveyStopCollectingMessage =
+        new SignedTimeSlicedSurveyStopCollectingMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "signature":
+          decodedSignedTimeSlicedSurveyStopCollectingMessage.signature = Signature.fromJson(reader);
+          break;
+        case "stop_collecting":
+          decodedSignedTimeSlicedSurveyStopCollectingMessage.stopCollecting =
+              TimeSlicedSurveyStopCollectingMessage.fromJson(reader);
+          break;
+        default:
+          throw new IOException(
+              "Unknown SignedTimeSlicedSurveyStopCollectingMessage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSignedTimeSlicedSurveyStopCollectingMessage;
+  }
+
+  public static SignedTimeSlicedSurveyStopCollectingMessage fromJson(String json)
+      throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
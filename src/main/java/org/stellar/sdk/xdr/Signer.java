@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Signer's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class Signer implements XdrElement {
     weight.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += key.encodedSize();
+    size += weight.encodedSize();
+    return size;
+  }
+
   public static Signer decode(XdrDataInputStream stream) throws IOException {
     Signer decodedSigner = new Signer();
     decodedSigner.key = SignerKey.decode(stream);
@@ -42,14 +49,59 @@ public class Signer implements XdrElement {
     return decodedSigner;
   }
 
+  public static Signer decodeInto(Signer existing, XdrDataInputStream stream) throws IOException {
+    Signer decodedSigner = existing != null ? existing : new Signer();
+    decodedSigner.key = SignerKey.decodeInto(decodedSigner.key, stream);
+    decodedSigner.weight = Uint32.decodeInto(decodedSigner.weight, stream);
+    return decodedSigner;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SignerKey.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static Signer fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Signer fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("key");
+    key.toJson(writer);
+    writer.name("weight");
+    weight.toJson(writer);
+    writer.endObject();
+  }
+
+  public static Signer fromJson(JsonReader reader) throws IOException {
+    Signer decodedSigner = new Signer();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "key":
+          decodedSigner.key = SignerKey.fromJson(reader);
+          break;
+        case "weight":
+          decodedSigner.weight = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown Signer field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSigner;
+  }
+
+  public static Signer fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.StrKey;
 
 /**
  * SignerKey's original definition in the XDR file is:
@@ -65,6 +66,26 @@ public class SignerKey implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SIGNER_KEY_TYPE_ED25519:
+        size += ed25519.encodedSize();
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        size += preAuthTx.encodedSize();
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        size += hashX.encodedSize();
+        break;
+      case SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD:
+        size += ed25519SignedPayload.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SignerKey decode(XdrDataInputStream stream) throws IOException {
     SignerKey decodedSignerKey = new SignerKey();
     SignerKeyType discriminant = SignerKeyType.decode(stream);
@@ -86,17 +107,109 @@ public class SignerKey implements XdrElement {
     return decodedSignerKey;
   }
 
+  public static SignerKey decodeInto(SignerKey existing, XdrDataInputStream stream)
+      throws IOException {
+    SignerKeyType discriminant = SignerKeyType.decode(stream);
+    SignerKey decodedSignerKey =
+        existing != null && discriminant.equals(existing.discriminant) ? existing : new SignerKey();
+    decodedSignerKey.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SIGNER_KEY_TYPE_ED25519:
+        decodedSignerKey.ed25519 = Uint256.decodeInto(decodedSignerKey.ed25519, stream);
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        decodedSignerKey.preAuthTx = Uint256.decodeInto(decodedSignerKey.preAuthTx, stream);
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        decodedSignerKey.hashX = Uint256.decodeInto(decodedSignerKey.hashX, stream);
+        break;
+      case SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD:
+        decodedSignerKey.ed25519SignedPayload =
+            SignerKeyEd25519SignedPayload.decodeInto(decodedSignerKey.ed25519SignedPayload, stream);
+        break;
+    }
+    return decodedSignerKey;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SignerKeyType discriminant = SignerKeyType.decode(stream);
+    switch (discriminant) {
+      case SIGNER_KEY_TYPE_ED25519:
+        Uint256.skip(stream);
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        Uint256.skip(stream);
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        Uint256.skip(stream);
+        break;
+      case SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD:
+        SignerKeyEd25519SignedPayload.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SignerKey discriminant: " + discriminant);
+    }
+  }
+
   public static SignerKey fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SignerKey fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SIGNER_KEY_TYPE_ED25519:
+        writer.value(StrKey.encodeEd25519PublicKey(ed25519.getUint256()));
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        writer.value(StrKey.encodePreAuthTx(preAuthTx.getUint256()));
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        writer.value(StrKey.encodeSha256Hash(hashX.getUint256()));
+        break;
+      case SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD:
+        ed25519SignedPayload.toJson(writer);
+        break;
+    }
+  }
+
+  public static SignerKey fromJson(JsonReader reader) throws IOException {
+    String key = reader.nextString();
+    SignerKey decodedSignerKey = new SignerKey();
+    switch (key.isEmpty() ? 0 : key.charAt(0)) {
+      case 'G':
+        decodedSignerKey.setDiscriminant(SignerKeyType.SIGNER_KEY_TYPE_ED25519);
+        decodedSignerKey.ed25519 = new Uint256(StrKey.decodeEd25519PublicKey(key));
+        break;
+      case 'T':
+        decodedSignerKey.setDiscriminant(SignerKeyType.SIGNER_KEY_TYPE_PRE_AUTH_TX);
+        decodedSignerKey.preAuthTx = new Uint256(StrKey.decodePreAuthTx(key));
+        break;
+      case 'X':
+        decodedSignerKey.setDiscriminant(SignerKeyType.SIGNER_KEY_TYPE_HASH_X);
+        decodedSignerKey.hashX = new Uint256(StrKey.decodeSha256Hash(key));
+        break;
+      case 'P':
+        decodedSignerKey.setDiscriminant(SignerKeyType.SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD);
+        decodedSignerKey.ed25519SignedPayload =
+            SignerKeyEd25519SignedPayload.fromXdrByteArray(StrKey.decodeSignedPayload(key));
+        break;
+      default:
+        throw new IOException("Unknown SignerKey: " + key);
+    }
+    return decodedSignerKey;
+  }
+
+  public static SignerKey fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * SignerKeyEd25519SignedPayload's original definition in the XDR file is:
    *
@@ -125,26 +238,67 @@ public class SignerKey implements XdrElement {
       stream.write(getPayload(), 0, payloadSize);
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += ed25519.encodedSize();
+      int payloadSize = payload.length;
+      size += 4;
+      size += XdrDataOutputStream.paddedSize(payloadSize);
+      return size;
+    }
+
     public static SignerKeyEd25519SignedPayload decode(XdrDataInputStream stream)
         throws IOException {
       SignerKeyEd25519SignedPayload decodedSignerKeyEd25519SignedPayload =
           new SignerKeyEd25519SignedPayload();
       decodedSignerKeyEd25519SignedPayload.ed25519 = Uint256.decode(stream);
-      int payloadSize = stream.readInt();
+      int payloadSize = stream.readLength(1);
       decodedSignerKeyEd25519SignedPayload.payload = new byte[payloadSize];
       stream.read(decodedSignerKeyEd25519SignedPayload.payload, 0, payloadSize);
       return decodedSignerKeyEd25519SignedPayload;
     }
 
+    public static SignerKeyEd25519SignedPayload decodeInto(
+        SignerKeyEd25519SignedPayload existing, XdrDataInputStream stream) throws IOException {
+      SignerKeyEd25519SignedPayload decodedSignerKeyEd25519SignedPayload =
+          existing != null ? existing : new SignerKeyEd25519SignedPayload();
+      decodedSignerKeyEd25519SignedPayload.ed25519 =
+          Uint256.decodeInto(decodedSignerKeyEd25519SignedPayload.ed25519, stream);
+      int payloadSize = stream.readLength(1);
+      decodedSignerKeyEd25519SignedPayload.payload =
+          XdrRecycler.resize(decodedSignerKeyEd25519SignedPayload.payload, payloadSize);
+      stream.read(decodedSignerKeyEd25519SignedPayload.payload, 0, payloadSize);
+      return decodedSignerKeyEd25519SignedPayload;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Uint256.skip(stream);
+      int payloadSize = stream.readLength(64, 1);
+      stream.skipOpaque(payloadSize);
+    }
+
     public static SignerKeyEd25519SignedPayload fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static SignerKeyEd25519SignedPayload fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      // The strkey contains the XDR encoding of the key and the payload.
+      writer.value(StrKey.encodeSignedPayload(toXdrByteArray()));
+    }
+
+    public static SignerKeyEd25519SignedPayload fromJson(JsonReader reader) throws IOException {
+      return fromXdrByteArray(StrKey.decodeSignedPayload(reader.nextString()));
+    }
+
+    public static SignerKeyEd25519SignedPayload fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SimplePaymentResult's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class SimplePaymentResult implements XdrElement {
     amount.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += destination.encodedSize();
+    size += asset.encodedSize();
+    size += amount.encodedSize();
+    return size;
+  }
+
   public static SimplePaymentResult decode(XdrDataInputStream stream) throws IOException {
     SimplePaymentResult decodedSimplePaymentResult = new SimplePaymentResult();
     decodedSimplePaymentResult.destination = AccountID.decode(stream);
@@ -46,14 +54,69 @@ public class SimplePaymentResult implements XdrElement {
     return decodedSimplePaymentResult;
   }
 
+  public static SimplePaymentResult decodeInto(
+      SimplePaymentResult existing, XdrDataInputStream stream) throws IOException {
+    SimplePaymentResult decodedSimplePaymentResult =
+        existing != null ? existing : new SimplePaymentResult();
+    decodedSimplePaymentResult.destination =
+        AccountID.decodeInto(decodedSimplePaymentResult.destination, stream);
+    decodedSimplePaymentResult.asset = Asset.decodeInto(decodedSimplePaymentResult.asset, stream);
+    decodedSimplePaymentResult.amount = Int64.decodeInto(decodedSimplePaymentResult.amount, stream);
+    return decodedSimplePaymentResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static SimplePaymentResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SimplePaymentResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("destination");
+    destination.toJson(writer);
+    writer.name("asset");
+    asset.toJson(writer);
+    writer.name("amount");
+    amount.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SimplePaymentResult fromJson(JsonReader reader) throws IOException {
+    SimplePaymentResult decodedSimplePaymentResult = new SimplePaymentResult();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "destination":
+          decodedSimplePaymentResult.destination = AccountID.fromJson(reader);
+          break;
+        case "asset":
+          decodedSimplePaymentResult.asset = Asset.fromJson(reader);
+          break;
+        case "amount":
+          decodedSimplePaymentResult.amount = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SimplePaymentResult field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSimplePaymentResult;
+  }
+
+  public static SimplePaymentResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
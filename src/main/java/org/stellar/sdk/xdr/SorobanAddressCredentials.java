@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanAddressCredentials's original definition in the XDR file is:
@@ -41,6 +41,15 @@ public class SorobanAddressCredentials implements XdrElement {
     signature.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += address.encodedSize();
+    size += nonce.encodedSize();
+    size += signatureExpirationLedger.encodedSize();
+    size += signature.encodedSize();
+    return size;
+  }
+
   public static SorobanAddressCredentials decode(XdrDataInputStream stream) throws IOException {
     SorobanAddressCredentials decodedSorobanAddressCredentials = new SorobanAddressCredentials();
     decodedSorobanAddressCredentials.address = SCAddress.decode(stream);
@@ -50,14 +59,79 @@ public class SorobanAddressCredentials implements XdrElement {
     return decodedSorobanAddressCredentials;
   }
 
+  public static SorobanAddressCredentials decodeInto(
+      SorobanAddressCredentials existing, XdrDataInputStream stream) throws IOException {
+    SorobanAddressCredentials decodedSorobanAddressCredentials =
+        existing != null ? existing : new SorobanAddressCredentials();
+    decodedSorobanAddressCredentials.address =
+        SCAddress.decodeInto(decodedSorobanAddressCredentials.address, stream);
+    decodedSorobanAddressCredentials.nonce =
+        Int64.decodeInto(decodedSorobanAddressCredentials.nonce, stream);
+    decodedSorobanAddressCredentials.signatureExpirationLedger =
+        Uint32.decodeInto(decodedSorobanAddressCredentials.signatureExpirationLedger, stream);
+    decodedSorobanAddressCredentials.signature =
+        SCVal.decodeInto(decodedSorobanAddressCredentials.signature, stream);
+    return decodedSorobanAddressCredentials;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SCAddress.skip(stream);
+    Int64.skip(stream);
+    Uint32.skip(stream);
+    SCVal.skip(stream);
+  }
+
   public static SorobanAddressCredentials fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanAddressCredentials fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("address");
+    address.toJson(writer);
+    writer.name("nonce");
+    nonce.toJson(writer);
+    writer.name("signature_expiration_ledger");
+    signatureExpirationLedger.toJson(writer);
+    writer.name("signature");
+    signature.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SorobanAddressCredentials fromJson(JsonReader reader) throws IOException {
+    SorobanAddressCredentials decodedSorobanAddressCredentials = new SorobanAddressCredentials();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "address":
+          decodedSorobanAddressCredentials.address = SCAddress.fromJson(reader);
+          break;
+        case "nonce":
+          decodedSorobanAddressCredentials.nonce = Int64.fromJson(reader);
+          break;
+        case "signature_expiration_ledger":
+          decodedSorobanAddressCredentials.signatureExpirationLedger = Uint32.fromJson(reader);
+          break;
+        case "signature":
+          decodedSorobanAddressCredentials.signature = SCVal.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SorobanAddressCredentials field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSorobanAddressCredentials;
+  }
+
+  public static SorobanAddressCredentials fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
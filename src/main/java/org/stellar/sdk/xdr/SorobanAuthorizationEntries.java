@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanAuthorizationEntries's original definition in the XDR file is:
@@ -31,10 +31,20 @@ public class SorobanAuthorizationEntries implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int SorobanAuthorizationEntriesSize = getSorobanAuthorizationEntries().length;
+    size += 4;
+    for (int i = 0; i < SorobanAuthorizationEntriesSize; i++) {
+      size += SorobanAuthorizationEntries[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SorobanAuthorizationEntries decode(XdrDataInputStream stream) throws IOException {
     SorobanAuthorizationEntries decodedSorobanAuthorizationEntries =
         new SorobanAuthorizationEntries();
-    int SorobanAuthorizationEntriesSize = stream.readInt();
+    int SorobanAuthorizationEntriesSize = stream.readLength(4);
     decodedSorobanAuthorizationEntries.SorobanAuthorizationEntries =
         new SorobanAuthorizationEntry[SorobanAuthorizationEntriesSize];
     for (int i = 0; i < SorobanAuthorizationEntriesSize; i++) {
@@ -44,14 +54,56 @@ public class SorobanAuthorizationEntries implements XdrElement {
     return decodedSorobanAuthorizationEntries;
   }
 
+  public static SorobanAuthorizationEntries decodeInto(
+      SorobanAuthorizationEntries existing, XdrDataInputStream stream) throws IOException {
+    SorobanAuthorizationEntries decodedSorobanAuthorizationEntries =
+        existing != null ? existing : new SorobanAuthorizationEntries();
+    int SorobanAuthorizationEntriesSize = stream.readLength(4);
+    decodedSorobanAuthorizationEntries.SorobanAuthorizationEntries =
+        XdrRecycler.resize(
+            decodedSorobanAuthorizationEntries.SorobanAuthorizationEntries,
+            SorobanAuthorizationEntriesSize,
+            SorobanAuthorizationEntry[]::new);
+    for (int i = 0; i < SorobanAuthorizationEntriesSize; i++) {
+      decodedSorobanAuthorizationEntries.SorobanAuthorizationEntries[i] =
+          SorobanAuthorizationEntry.decodeInto(
+              decodedSorobanAuthorizationEntries.SorobanAuthorizationEntries[i], stream);
+    }
+    return decodedSorobanAuthorizationEntries;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int SorobanAuthorizationEntriesSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < SorobanAuthorizationEntriesSize; i++) {
+      SorobanAuthorizationEntry.skip(stream);
+    }
+  }
+
   public static SorobanAuthorizationEntries fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanAuthorizationEntries fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeArray(writer, SorobanAuthorizationEntries);
+  }
+
+  public static SorobanAuthorizationEntries fromJson(JsonReader reader) throws IOException {
+    SorobanAuthorizationEntries decodedSorobanAuthorizationEntries =
+        new SorobanAuthorizationEntries();
+    decodedSorobanAuthorizationEntries.SorobanAuthorizationEntries =
+        XdrJson.readArray(
+            reader, SorobanAuthorizationEntry[]::new, SorobanAuthorizationEntry::fromJson);
+    return decodedSorobanAuthorizationEntries;
+  }
+
+  public static SorobanAuthorizationEntries fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanAuthorizationEntry's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class SorobanAuthorizationEntry implements XdrElement {
     rootInvocation.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += credentials.encodedSize();
+    size += rootInvocation.encodedSize();
+    return size;
+  }
+
   public static SorobanAuthorizationEntry decode(XdrDataInputStream stream) throws IOException {
     SorobanAuthorizationEntry decodedSorobanAuthorizationEntry = new SorobanAuthorizationEntry();
     decodedSorobanAuthorizationEntry.credentials = SorobanCredentials.decode(stream);
@@ -42,14 +49,65 @@ public class SorobanAuthorizationEntry implements XdrElement {
     return decodedSorobanAuthorizationEntry;
   }
 
+  public static SorobanAuthorizationEntry decodeInto(
+      SorobanAuthorizationEntry existing, XdrDataInputStream stream) throws IOException {
+    SorobanAuthorizationEntry decodedSorobanAuthorizationEntry =
+        existing != null ? existing : new SorobanAuthorizationEntry();
+    decodedSorobanAuthorizationEntry.credentials =
+        SorobanCredentials.decodeInto(decodedSorobanAuthorizationEntry.credentials, stream);
+    decodedSorobanAuthorizationEntry.rootInvocation =
+        SorobanAuthorizedInvocation.decodeInto(
+            decodedSorobanAuthorizationEntry.rootInvocation, stream);
+    return decodedSorobanAuthorizationEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SorobanCredentials.skip(stream);
+    SorobanAuthorizedInvocation.skip(stream);
+  }
+
   public static SorobanAuthorizationEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanAuthorizationEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("credentials");
+    credentials.toJson(writer);
+    writer.name("root_invocation");
+    rootInvocation.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SorobanAuthorizationEntry fromJson(JsonReader reader) throws IOException {
+    SorobanAuthorizationEntry decodedSorobanAuthorizationEntry = new SorobanAuthorizationEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "credentials":
+          decodedSorobanAuthorizationEntry.credentials = SorobanCredentials.fromJson(reader);
+          break;
+        case "root_invocation":
+          decodedSorobanAuthorizationEntry.rootInvocation =
+              SorobanAuthorizedInvocation.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SorobanAuthorizationEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSorobanAuthorizationEntry;
+  }
+
+  public static SorobanAuthorizationEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanAuthorizedFunction's original definition in the XDR file is:
@@ -59,6 +59,23 @@ public class SorobanAuthorizedFunction implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CONTRACT_FN:
+        size += contractFn.encodedSize();
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_HOST_FN:
+        size += createContractHostFn.encodedSize();
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_V2_HOST_FN:
+        size += createContractV2HostFn.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SorobanAuthorizedFunction decode(XdrDataInputStream stream) throws IOException {
     SorobanAuthorizedFunction decodedSorobanAuthorizedFunction = new SorobanAuthorizedFunction();
     SorobanAuthorizedFunctionType discriminant = SorobanAuthorizedFunctionType.decode(stream);
@@ -78,14 +95,114 @@ public class SorobanAuthorizedFunction implements XdrElement {
     return decodedSorobanAuthorizedFunction;
   }
 
+  public static SorobanAuthorizedFunction decodeInto(
+      SorobanAuthorizedFunction existing, XdrDataInputStream stream) throws IOException {
+    SorobanAuthorizedFunctionType discriminant = SorobanAuthorizedFunctionType.decode(stream);
+    SorobanAuthorizedFunction decodedSorobanAuthorizedFunction =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SorobanAuthorizedFunction();
+    decodedSorobanAuthorizedFunction.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CONTRACT_FN:
+        decodedSorobanAuthorizedFunction.contractFn =
+            InvokeContractArgs.decodeInto(decodedSorobanAuthorizedFunction.contractFn, stream);
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_HOST_FN:
+        decodedSorobanAuthorizedFunction.createContractHostFn =
+            CreateContractArgs.decodeInto(
+                decodedSorobanAuthorizedFunction.createContractHostFn, stream);
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_V2_HOST_FN:
+        decodedSorobanAuthorizedFunction.createContractV2HostFn =
+            CreateContractArgsV2.decodeInto(
+                decodedSorobanAuthorizedFunction.createContractV2HostFn, stream);
+        break;
+    }
+    return decodedSorobanAuthorizedFunction;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SorobanAuthorizedFunctionType discriminant = SorobanAuthorizedFunctionType.decode(stream);
+    switch (discriminant) {
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CONTRACT_FN:
+        InvokeContractArgs.skip(stream);
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_HOST_FN:
+        CreateContractArgs.skip(stream);
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_V2_HOST_FN:
+        CreateContractArgsV2.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SorobanAuthorizedFunction discriminant: " + discriminant);
+    }
+  }
+
   public static SorobanAuthorizedFunction fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanAuthorizedFunction fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CONTRACT_FN:
+        writer.beginObject();
+        writer.name("contract_fn");
+        contractFn.toJson(writer);
+        writer.endObject();
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_HOST_FN:
+        writer.beginObject();
+        writer.name("create_contract_host_fn");
+        createContractHostFn.toJson(writer);
+        writer.endObject();
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_V2_HOST_FN:
+        writer.beginObject();
+        writer.name("create_contract_v2_host_fn");
+        createContractV2HostFn.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SorobanAuthorizedFunction fromJson(JsonReader reader) throws IOException {
+    SorobanAuthorizedFunction decodedSorobanAuthorizedFunction = new SorobanAuthorizedFunction();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "contract_fn":
+        decodedSorobanAuthorizedFunction.setDiscriminant(
+            SorobanAuthorizedFunctionType.SOROBAN_AUTHORIZED_FUNCTION_TYPE_CONTRACT_FN);
+        decodedSorobanAuthorizedFunction.contractFn = InvokeContractArgs.fromJson(reader);
+        break;
+      case "create_contract_host_fn":
+        decodedSorobanAuthorizedFunction.setDiscriminant(
+            SorobanAuthorizedFunctionType.SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_HOST_FN);
+        decodedSorobanAuthorizedFunction.createContractHostFn = CreateContractArgs.fromJson(reader);
+        break;
+      case "create_contract_v2_host_fn":
+        decodedSorobanAuthorizedFunction.setDiscriminant(
+            SorobanAuthorizedFunctionType
+                .SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_V2_HOST_FN);
+        decodedSorobanAuthorizedFunction.createContractV2HostFn =
+            CreateContractArgsV2.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SorobanAuthorizedFunction arm: " + key);
+    }
+    reader.endObject();
+    return decodedSorobanAuthorizedFunction;
+  }
+
+  public static SorobanAuthorizedFunction fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
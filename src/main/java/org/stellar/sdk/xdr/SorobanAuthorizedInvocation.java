@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanAuthorizedInvocation's original definition in the XDR file is:
@@ -39,28 +39,120 @@ public class SorobanAuthorizedInvocation implements XdrElement {
     }
   }
 
-  public static SorobanAuthorizedInvocation decode(XdrDataInputStream stream) throws IOException {
-    SorobanAuthorizedInvocation decodedSorobanAuthorizedInvocation =
-        new SorobanAuthorizedInvocation();
-    decodedSorobanAuthorizedInvocation.function = SorobanAuthorizedFunction.decode(stream);
-    int subInvocationsSize = stream.readInt();
-    decodedSorobanAuthorizedInvocation.subInvocations =
-        new SorobanAuthorizedInvocation[subInvocationsSize];
+  public int encodedSize() {
+    int size = 0;
+    size += function.encodedSize();
+    int subInvocationsSize = getSubInvocations().length;
+    size += 4;
     for (int i = 0; i < subInvocationsSize; i++) {
-      decodedSorobanAuthorizedInvocation.subInvocations[i] =
-          SorobanAuthorizedInvocation.decode(stream);
+      size += subInvocations[i].encodedSize();
+    }
+    return size;
+  }
+
+  public static SorobanAuthorizedInvocation decode(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SorobanAuthorizedInvocation decodedSorobanAuthorizedInvocation =
+          new SorobanAuthorizedInvocation();
+      decodedSorobanAuthorizedInvocation.function = SorobanAuthorizedFunction.decode(stream);
+      int subInvocationsSize = stream.readLength(4);
+      decodedSorobanAuthorizedInvocation.subInvocations =
+          new SorobanAuthorizedInvocation[subInvocationsSize];
+      for (int i = 0; i < subInvocationsSize; i++) {
+        decodedSorobanAuthorizedInvocation.subInvocations[i] =
+            SorobanAuthorizedInvocation.decode(stream);
+      }
+      return decodedSorobanAuthorizedInvocation;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static SorobanAuthorizedInvocation decodeInto(
+      SorobanAuthorizedInvocation existing, XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SorobanAuthorizedInvocation decodedSorobanAuthorizedInvocation =
+          existing != null ? existing : new SorobanAuthorizedInvocation();
+      decodedSorobanAuthorizedInvocation.function =
+          SorobanAuthorizedFunction.decodeInto(decodedSorobanAuthorizedInvocation.function, stream);
+      int subInvocationsSize = stream.readLength(4);
+      decodedSorobanAuthorizedInvocation.subInvocations =
+          XdrRecycler.resize(
+              decodedSorobanAuthorizedInvocation.subInvocations,
+              subInvocationsSize,
+              SorobanAuthorizedInvocation[]::new);
+      for (int i = 0; i < subInvocationsSize; i++) {
+        decodedSorobanAuthorizedInvocation.subInvocations[i] =
+            SorobanAuthorizedInvocation.decodeInto(
+                decodedSorobanAuthorizedInvocation.subInvocations[i], stream);
+      }
+      return decodedSorobanAuthorizedInvocation;
+    } finally {
+      stream.decreaseDepth();
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.increaseDepth();
+    try {
+      SorobanAuthorizedFunction.skip(stream);
+      int subInvocationsSize = stream.readLength(Integer.MAX_VALUE, 4);
+      for (int i = 0; i < subInvocationsSize; i++) {
+        SorobanAuthorizedInvocation.skip(stream);
+      }
+    } finally {
+      stream.decreaseDepth();
     }
-    return decodedSorobanAuthorizedInvocation;
   }
 
   public static SorobanAuthorizedInvocation fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanAuthorizedInvocation fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("function");
+    function.toJson(writer);
+    writer.name("sub_invocations");
+    XdrJson.writeArray(writer, subInvocations);
+    writer.endObject();
+  }
+
+  public static SorobanAuthorizedInvocation fromJson(JsonReader reader) throws IOException {
+    SorobanAuthorizedInvocation decodedSorobanAuthorizedInvocation =
+        new SorobanAuthorizedInvocation();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "function":
+          decodedSorobanAuthorizedInvocation.function = SorobanAuthorizedFunction.fromJson(reader);
+          break;
+        case "sub_invocations":
+          decodedSorobanAuthorizedInvocation.subInvocations =
+              XdrJson.readArray(
+                  reader,
+                  SorobanAuthorizedInvocation[]::new,
+                  SorobanAuthorizedInvocation::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SorobanAuthorizedInvocation field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSorobanAuthorizedInvocation;
+  }
+
+  public static SorobanAuthorizedInvocation fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
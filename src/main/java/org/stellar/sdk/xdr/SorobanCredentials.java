@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanCredentials's original definition in the XDR file is:
@@ -43,6 +44,19 @@ public class SorobanCredentials implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SOROBAN_CREDENTIALS_SOURCE_ACCOUNT:
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS:
+        size += address.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SorobanCredentials decode(XdrDataInputStream stream) throws IOException {
     SorobanCredentials decodedSorobanCredentials = new SorobanCredentials();
     SorobanCredentialsType discriminant = SorobanCredentialsType.decode(stream);
@@ -57,14 +71,93 @@ public class SorobanCredentials implements XdrElement {
     return decodedSorobanCredentials;
   }
 
+  public static SorobanCredentials decodeInto(
+      SorobanCredentials existing, XdrDataInputStream stream) throws IOException {
+    SorobanCredentialsType discriminant = SorobanCredentialsType.decode(stream);
+    SorobanCredentials decodedSorobanCredentials =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SorobanCredentials();
+    decodedSorobanCredentials.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SOROBAN_CREDENTIALS_SOURCE_ACCOUNT:
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS:
+        decodedSorobanCredentials.address =
+            SorobanAddressCredentials.decodeInto(decodedSorobanCredentials.address, stream);
+        break;
+    }
+    return decodedSorobanCredentials;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SorobanCredentialsType discriminant = SorobanCredentialsType.decode(stream);
+    switch (discriminant) {
+      case SOROBAN_CREDENTIALS_SOURCE_ACCOUNT:
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS:
+        SorobanAddressCredentials.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SorobanCredentials discriminant: " + discriminant);
+    }
+  }
+
   public static SorobanCredentials fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanCredentials fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SOROBAN_CREDENTIALS_SOURCE_ACCOUNT:
+        writer.value("source_account");
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS:
+        writer.beginObject();
+        writer.name("address");
+        address.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SorobanCredentials fromJson(JsonReader reader) throws IOException {
+    SorobanCredentials decodedSorobanCredentials = new SorobanCredentials();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "source_account":
+          decodedSorobanCredentials.setDiscriminant(
+              SorobanCredentialsType.SOROBAN_CREDENTIALS_SOURCE_ACCOUNT);
+          break;
+        default:
+          throw new IOException("Unknown SorobanCredentials arm: " + key);
+      }
+      return decodedSorobanCredentials;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "address":
+        decodedSorobanCredentials.setDiscriminant(
+            SorobanCredentialsType.SOROBAN_CREDENTIALS_ADDRESS);
+        decodedSorobanCredentials.address = SorobanAddressCredentials.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SorobanCredentials arm: " + key);
+    }
+    reader.endObject();
+    return decodedSorobanCredentials;
+  }
+
+  public static SorobanCredentials fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanResources's original definition in the XDR file is:
@@ -46,6 +46,15 @@ public class SorobanResources implements XdrElement {
     writeBytes.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += footprint.encodedSize();
+    size += instructions.encodedSize();
+    size += diskReadBytes.encodedSize();
+    size += writeBytes.encodedSize();
+    return size;
+  }
+
   public static SorobanResources decode(XdrDataInputStream stream) throws IOException {
     SorobanResources decodedSorobanResources = new SorobanResources();
     decodedSorobanResources.footprint = LedgerFootprint.decode(stream);
@@ -55,14 +64,78 @@ public class SorobanResources implements XdrElement {
     return decodedSorobanResources;
   }
 
+  public static SorobanResources decodeInto(SorobanResources existing, XdrDataInputStream stream)
+      throws IOException {
+    SorobanResources decodedSorobanResources = existing != null ? existing : new SorobanResources();
+    decodedSorobanResources.footprint =
+        LedgerFootprint.decodeInto(decodedSorobanResources.footprint, stream);
+    decodedSorobanResources.instructions =
+        Uint32.decodeInto(decodedSorobanResources.instructions, stream);
+    decodedSorobanResources.diskReadBytes =
+        Uint32.decodeInto(decodedSorobanResources.diskReadBytes, stream);
+    decodedSorobanResources.writeBytes =
+        Uint32.decodeInto(decodedSorobanResources.writeBytes, stream);
+    return decodedSorobanResources;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerFootprint.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static SorobanResources fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanResources fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("footprint");
+    footprint.toJson(writer);
+    writer.name("instructions");
+    instructions.toJson(writer);
+    writer.name("disk_read_bytes");
+    diskReadBytes.toJson(writer);
+    writer.name("write_bytes");
+    writeBytes.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SorobanResources fromJson(JsonReader reader) throws IOException {
+    SorobanResources decodedSorobanResources = new SorobanResources();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "footprint":
+          decodedSorobanResources.footprint = LedgerFootprint.fromJson(reader);
+          break;
+        case "instructions":
+          decodedSorobanResources.instructions = Uint32.fromJson(reader);
+          break;
+        case "disk_read_bytes":
+          decodedSorobanResources.diskReadBytes = Uint32.fromJson(reader);
+          break;
+        case "write_bytes":
+          decodedSorobanResources.writeBytes = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SorobanResources field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSorobanResources;
+  }
+
+  public static SorobanResources fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
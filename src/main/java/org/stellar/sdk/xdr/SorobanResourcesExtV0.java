@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanResourcesExtV0's original definition in the XDR file is:
@@ -39,9 +39,19 @@ public class SorobanResourcesExtV0 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int archivedSorobanEntriesSize = getArchivedSorobanEntries().length;
+    size += 4;
+    for (int i = 0; i < archivedSorobanEntriesSize; i++) {
+      size += archivedSorobanEntries[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SorobanResourcesExtV0 decode(XdrDataInputStream stream) throws IOException {
     SorobanResourcesExtV0 decodedSorobanResourcesExtV0 = new SorobanResourcesExtV0();
-    int archivedSorobanEntriesSize = stream.readInt();
+    int archivedSorobanEntriesSize = stream.readLength(4);
     decodedSorobanResourcesExtV0.archivedSorobanEntries = new Uint32[archivedSorobanEntriesSize];
     for (int i = 0; i < archivedSorobanEntriesSize; i++) {
       decodedSorobanResourcesExtV0.archivedSorobanEntries[i] = Uint32.decode(stream);
@@ -49,14 +59,67 @@ public class SorobanResourcesExtV0 implements XdrElement {
     return decodedSorobanResourcesExtV0;
   }
 
+  public static SorobanResourcesExtV0 decodeInto(
+      SorobanResourcesExtV0 existing, XdrDataInputStream stream) throws IOException {
+    SorobanResourcesExtV0 decodedSorobanResourcesExtV0 =
+        existing != null ? existing : new SorobanResourcesExtV0();
+    int archivedSorobanEntriesSize = stream.readLength(4);
+    decodedSorobanResourcesExtV0.archivedSorobanEntries =
+        XdrRecycler.resize(
+            decodedSorobanResourcesExtV0.archivedSorobanEntries,
+            archivedSorobanEntriesSize,
+            Uint32[]::new);
+    for (int i = 0; i < archivedSorobanEntriesSize; i++) {
+      decodedSorobanResourcesExtV0.archivedSorobanEntries[i] =
+          Uint32.decodeInto(decodedSorobanResourcesExtV0.archivedSorobanEntries[i], stream);
+    }
+    return decodedSorobanResourcesExtV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int archivedSorobanEntriesSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < archivedSorobanEntriesSize; i++) {
+      Uint32.skip(stream);
+    }
+  }
+
   public static SorobanResourcesExtV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanResourcesExtV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("archived_soroban_entries");
+    XdrJson.writeArray(writer, archivedSorobanEntries);
+    writer.endObject();
+  }
+
+  public static SorobanResourcesExtV0 fromJson(JsonReader reader) throws IOException {
+    SorobanResourcesExtV0 decodedSorobanResourcesExtV0 = new SorobanResourcesExtV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "archived_soroban_entries":
+          decodedSorobanResourcesExtV0.archivedSorobanEntries =
+              XdrJson.readArray(reader, Uint32[]::new, Uint32::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SorobanResourcesExtV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSorobanResourcesExtV0;
+  }
+
+  public static SorobanResourcesExtV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanTransactionData's original definition in the XDR file is:
@@ -53,6 +54,14 @@ public class SorobanTransactionData implements XdrElement {
     resourceFee.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += resources.encodedSize();
+    size += resourceFee.encodedSize();
+    return size;
+  }
+
   public static SorobanTransactionData decode(XdrDataInputStream stream) throws IOException {
     SorobanTransactionData decodedSorobanTransactionData = new SorobanTransactionData();
     decodedSorobanTransactionData.ext = SorobanTransactionDataExt.decode(stream);
@@ -61,17 +70,74 @@ public class SorobanTransactionData implements XdrElement {
     return decodedSorobanTransactionData;
   }
 
+  public static SorobanTransactionData decodeInto(
+      SorobanTransactionData existing, XdrDataInputStream stream) throws IOException {
+    SorobanTransactionData decodedSorobanTransactionData =
+        existing != null ? existing : new SorobanTransactionData();
+    decodedSorobanTransactionData.ext =
+        SorobanTransactionDataExt.decodeInto(decodedSorobanTransactionData.ext, stream);
+    decodedSorobanTransactionData.resources =
+        SorobanResources.decodeInto(decodedSorobanTransactionData.resources, stream);
+    decodedSorobanTransactionData.resourceFee =
+        Int64.decodeInto(decodedSorobanTransactionData.resourceFee, stream);
+    return decodedSorobanTransactionData;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SorobanTransactionDataExt.skip(stream);
+    SorobanResources.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static SorobanTransactionData fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanTransactionData fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("resources");
+    resources.toJson(writer);
+    writer.name("resource_fee");
+    resourceFee.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SorobanTransactionData fromJson(JsonReader reader) throws IOException {
+    SorobanTransactionData decodedSorobanTransactionData = new SorobanTransactionData();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedSorobanTransactionData.ext = SorobanTransactionDataExt.fromJson(reader);
+          break;
+        case "resources":
+          decodedSorobanTransactionData.resources = SorobanResources.fromJson(reader);
+          break;
+        case "resource_fee":
+          decodedSorobanTransactionData.resourceFee = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SorobanTransactionData field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSorobanTransactionData;
+  }
+
+  public static SorobanTransactionData fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * SorobanTransactionDataExt's original definition in the XDR file is:
    *
@@ -104,6 +170,19 @@ public class SorobanTransactionData implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += resourceExt.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static SorobanTransactionDataExt decode(XdrDataInputStream stream) throws IOException {
       SorobanTransactionDataExt decodedSorobanTransactionDataExt = new SorobanTransactionDataExt();
       Integer discriminant = stream.readInt();
@@ -118,15 +197,93 @@ public class SorobanTransactionData implements XdrElement {
       return decodedSorobanTransactionDataExt;
     }
 
+    public static SorobanTransactionDataExt decodeInto(
+        SorobanTransactionDataExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      SorobanTransactionDataExt decodedSorobanTransactionDataExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new SorobanTransactionDataExt();
+      decodedSorobanTransactionDataExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          decodedSorobanTransactionDataExt.resourceExt =
+              SorobanResourcesExtV0.decodeInto(
+                  decodedSorobanTransactionDataExt.resourceExt, stream);
+          break;
+      }
+      return decodedSorobanTransactionDataExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          SorobanResourcesExtV0.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown SorobanTransactionDataExt discriminant: " + discriminant);
+      }
+    }
+
     public static SorobanTransactionDataExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static SorobanTransactionDataExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 1:
+          writer.beginObject();
+          writer.name("v1");
+          resourceExt.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static SorobanTransactionDataExt fromJson(JsonReader reader) throws IOException {
+      SorobanTransactionDataExt decodedSorobanTransactionDataExt = new SorobanTransactionDataExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedSorobanTransactionDataExt.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown SorobanTransactionDataExt arm: " + key);
+        }
+        return decodedSorobanTransactionDataExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v1":
+          decodedSorobanTransactionDataExt.setDiscriminant(1);
+          decodedSorobanTransactionDataExt.resourceExt = SorobanResourcesExtV0.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SorobanTransactionDataExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedSorobanTransactionDataExt;
+    }
+
+    public static SorobanTransactionDataExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanTransactionMeta's original definition in the XDR file is:
@@ -55,16 +55,33 @@ public class SorobanTransactionMeta implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    int eventsSize = getEvents().length;
+    size += 4;
+    for (int i = 0; i < eventsSize; i++) {
+      size += events[i].encodedSize();
+    }
+    size += returnValue.encodedSize();
+    int diagnosticEventsSize = getDiagnosticEvents().length;
+    size += 4;
+    for (int i = 0; i < diagnosticEventsSize; i++) {
+      size += diagnosticEvents[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SorobanTransactionMeta decode(XdrDataInputStream stream) throws IOException {
     SorobanTransactionMeta decodedSorobanTransactionMeta = new SorobanTransactionMeta();
     decodedSorobanTransactionMeta.ext = SorobanTransactionMetaExt.decode(stream);
-    int eventsSize = stream.readInt();
+    int eventsSize = stream.readLength(4);
     decodedSorobanTransactionMeta.events = new ContractEvent[eventsSize];
     for (int i = 0; i < eventsSize; i++) {
       decodedSorobanTransactionMeta.events[i] = ContractEvent.decode(stream);
     }
     decodedSorobanTransactionMeta.returnValue = SCVal.decode(stream);
-    int diagnosticEventsSize = stream.readInt();
+    int diagnosticEventsSize = stream.readLength(4);
     decodedSorobanTransactionMeta.diagnosticEvents = new DiagnosticEvent[diagnosticEventsSize];
     for (int i = 0; i < diagnosticEventsSize; i++) {
       decodedSorobanTransactionMeta.diagnosticEvents[i] = DiagnosticEvent.decode(stream);
@@ -72,14 +89,100 @@ public class SorobanTransactionMeta implements XdrElement {
     return decodedSorobanTransactionMeta;
   }
 
+  public static SorobanTransactionMeta decodeInto(
+      SorobanTransactionMeta existing, XdrDataInputStream stream) throws IOException {
+    SorobanTransactionMeta decodedSorobanTransactionMeta =
+        existing != null ? existing : new SorobanTransactionMeta();
+    decodedSorobanTransactionMeta.ext =
+        SorobanTransactionMetaExt.decodeInto(decodedSorobanTransactionMeta.ext, stream);
+    int eventsSize = stream.readLength(4);
+    decodedSorobanTransactionMeta.events =
+        XdrRecycler.resize(decodedSorobanTransactionMeta.events, eventsSize, ContractEvent[]::new);
+    for (int i = 0; i < eventsSize; i++) {
+      decodedSorobanTransactionMeta.events[i] =
+          ContractEvent.decodeInto(decodedSorobanTransactionMeta.events[i], stream);
+    }
+    decodedSorobanTransactionMeta.returnValue =
+        SCVal.decodeInto(decodedSorobanTransactionMeta.returnValue, stream);
+    int diagnosticEventsSize = stream.readLength(4);
+    decodedSorobanTransactionMeta.diagnosticEvents =
+        XdrRecycler.resize(
+            decodedSorobanTransactionMeta.diagnosticEvents,
+            diagnosticEventsSize,
+            DiagnosticEvent[]::new);
+    for (int i = 0; i < diagnosticEventsSize; i++) {
+      decodedSorobanTransactionMeta.diagnosticEvents[i] =
+          DiagnosticEvent.decodeInto(decodedSorobanTransactionMeta.diagnosticEvents[i], stream);
+    }
+    return decodedSorobanTransactionMeta;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SorobanTransactionMetaExt.skip(stream);
+    int eventsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < eventsSize; i++) {
+      ContractEvent.skip(stream);
+    }
+    SCVal.skip(stream);
+    int diagnosticEventsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < diagnosticEventsSize; i++) {
+      DiagnosticEvent.skip(stream);
+    }
+  }
+
   public static SorobanTransactionMeta fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanTransactionMeta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("events");
+    XdrJson.writeArray(writer, events);
+    writer.name("return_value");
+    returnValue.toJson(writer);
+    writer.name("diagnostic_events");
+    XdrJson.writeArray(writer, diagnosticEvents);
+    writer.endObject();
+  }
+
+  public static SorobanTransactionMeta fromJson(JsonReader reader) throws IOException {
+    SorobanTransactionMeta decodedSorobanTransactionMeta = new SorobanTransactionMeta();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedSorobanTransactionMeta.ext = SorobanTransactionMetaExt.fromJson(reader);
+          break;
+        case "events":
+          decodedSorobanTransactionMeta.events =
+              XdrJson.readArray(reader, ContractEvent[]::new, ContractEvent::fromJson);
+          break;
+        case "return_value":
+          decodedSorobanTransactionMeta.returnValue = SCVal.fromJson(reader);
+          break;
+        case "diagnostic_events":
+          decodedSorobanTransactionMeta.diagnosticEvents =
+              XdrJson.readArray(reader, DiagnosticEvent[]::new, DiagnosticEvent::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SorobanTransactionMeta field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSorobanTransactionMeta;
+  }
+
+  public static SorobanTransactionMeta fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanTransactionMetaExt's original definition in the XDR file is:
@@ -43,6 +44,19 @@ public class SorobanTransactionMetaExt implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case 0:
+        break;
+      case 1:
+        size += v1.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SorobanTransactionMetaExt decode(XdrDataInputStream stream) throws IOException {
     SorobanTransactionMetaExt decodedSorobanTransactionMetaExt = new SorobanTransactionMetaExt();
     Integer discriminant = stream.readInt();
@@ -57,14 +71,91 @@ public class SorobanTransactionMetaExt implements XdrElement {
     return decodedSorobanTransactionMetaExt;
   }
 
+  public static SorobanTransactionMetaExt decodeInto(
+      SorobanTransactionMetaExt existing, XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    SorobanTransactionMetaExt decodedSorobanTransactionMetaExt =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SorobanTransactionMetaExt();
+    decodedSorobanTransactionMetaExt.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        break;
+      case 1:
+        decodedSorobanTransactionMetaExt.v1 =
+            SorobanTransactionMetaExtV1.decodeInto(decodedSorobanTransactionMetaExt.v1, stream);
+        break;
+    }
+    return decodedSorobanTransactionMetaExt;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        break;
+      case 1:
+        SorobanTransactionMetaExtV1.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SorobanTransactionMetaExt discriminant: " + discriminant);
+    }
+  }
+
   public static SorobanTransactionMetaExt fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanTransactionMetaExt fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case 0:
+        writer.value("v0");
+        break;
+      case 1:
+        writer.beginObject();
+        writer.name("v1");
+        v1.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SorobanTransactionMetaExt fromJson(JsonReader reader) throws IOException {
+    SorobanTransactionMetaExt decodedSorobanTransactionMetaExt = new SorobanTransactionMetaExt();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedSorobanTransactionMetaExt.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown SorobanTransactionMetaExt arm: " + key);
+      }
+      return decodedSorobanTransactionMetaExt;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v1":
+        decodedSorobanTransactionMetaExt.setDiscriminant(1);
+        decodedSorobanTransactionMetaExt.v1 = SorobanTransactionMetaExtV1.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SorobanTransactionMetaExt arm: " + key);
+    }
+    reader.endObject();
+    return decodedSorobanTransactionMetaExt;
+  }
+
+  public static SorobanTransactionMetaExt fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanTransactionMetaExtV1's original definition in the XDR file is:
@@ -67,6 +67,15 @@ public class SorobanTransactionMetaExtV1 implements XdrElement {
     rentFeeCharged.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += totalNonRefundableResourceFeeCharged.encodedSize();
+    size += totalRefundableResourceFeeCharged.encodedSize();
+    size += rentFeeCharged.encodedSize();
+    return size;
+  }
+
   public static SorobanTransactionMetaExtV1 decode(XdrDataInputStream stream) throws IOException {
     SorobanTransactionMetaExtV1 decodedSorobanTransactionMetaExtV1 =
         new SorobanTransactionMetaExtV1();
@@ -77,14 +86,84 @@ public class SorobanTransactionMetaExtV1 implements XdrElement {
     return decodedSorobanTransactionMetaExtV1;
   }
 
+  public static SorobanTransactionMetaExtV1 decodeInto(
+      SorobanTransactionMetaExtV1 existing, XdrDataInputStream stream) throws IOException {
+    SorobanTransactionMetaExtV1 decodedSorobanTransactionMetaExtV1 =
+        existing != null ? existing : new SorobanTransactionMetaExtV1();
+    decodedSorobanTransactionMetaExtV1.ext =
+        ExtensionPoint.decodeInto(decodedSorobanTransactionMetaExtV1.ext, stream);
+    decodedSorobanTransactionMetaExtV1.totalNonRefundableResourceFeeCharged =
+        Int64.decodeInto(
+            decodedSorobanTransactionMetaExtV1.totalNonRefundableResourceFeeCharged, stream);
+    decodedSorobanTransactionMetaExtV1.totalRefundableResourceFeeCharged =
+        Int64.decodeInto(
+            decodedSorobanTransactionMetaExtV1.totalRefundableResourceFeeCharged, stream);
+    decodedSorobanTransactionMetaExtV1.rentFeeCharged =
+        Int64.decodeInto(decodedSorobanTransactionMetaExtV1.rentFeeCharged, stream);
+    return decodedSorobanTransactionMetaExtV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+  }
+
   public static SorobanTransactionMetaExtV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanTransactionMetaExtV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("total_non_refundable_resource_fee_charged");
+    totalNonRefundableResourceFeeCharged.toJson(writer);
+    writer.name("total_refundable_resource_fee_charged");
+    totalRefundableResourceFeeCharged.toJson(writer);
+    writer.name("rent_fee_charged");
+    rentFeeCharged.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SorobanTransactionMetaExtV1 fromJson(JsonReader reader) throws IOException {
+    SorobanTransactionMetaExtV1 decodedSorobanTransactionMetaExtV1 =
+        new SorobanTransactionMetaExtV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedSorobanTransactionMetaExtV1.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "total_non_refundable_resource_fee_charged":
+          decodedSorobanTransactionMetaExtV1.totalNonRefundableResourceFeeCharged =
+              Int64.fromJson(reader);
+          break;
+        case "total_refundable_resource_fee_charged":
+          decodedSorobanTransactionMetaExtV1.totalRefundableResourceFeeCharged =
+              Int64.fromJson(reader);
+          break;
+        case "rent_fee_charged":
+          decodedSorobanTransactionMetaExtV1.rentFeeCharged = Int64.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SorobanTransactionMetaExtV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSorobanTransactionMetaExtV1;
+  }
+
+  public static SorobanTransactionMetaExtV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
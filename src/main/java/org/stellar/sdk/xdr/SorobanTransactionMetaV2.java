@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SorobanTransactionMetaV2's original definition in the XDR file is:
@@ -41,6 +41,18 @@ public class SorobanTransactionMetaV2 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    if (returnValue != null) {
+      size += 4;
+      size += returnValue.encodedSize();
+    } else {
+      size += 4;
+    }
+    return size;
+  }
+
   public static SorobanTransactionMetaV2 decode(XdrDataInputStream stream) throws IOException {
     SorobanTransactionMetaV2 decodedSorobanTransactionMetaV2 = new SorobanTransactionMetaV2();
     decodedSorobanTransactionMetaV2.ext = SorobanTransactionMetaExt.decode(stream);
@@ -51,14 +63,71 @@ public class SorobanTransactionMetaV2 implements XdrElement {
     return decodedSorobanTransactionMetaV2;
   }
 
+  public static SorobanTransactionMetaV2 decodeInto(
+      SorobanTransactionMetaV2 existing, XdrDataInputStream stream) throws IOException {
+    SorobanTransactionMetaV2 decodedSorobanTransactionMetaV2 =
+        existing != null ? existing : new SorobanTransactionMetaV2();
+    decodedSorobanTransactionMetaV2.ext =
+        SorobanTransactionMetaExt.decodeInto(decodedSorobanTransactionMetaV2.ext, stream);
+    int returnValuePresent = stream.readInt();
+    if (returnValuePresent != 0) {
+      decodedSorobanTransactionMetaV2.returnValue =
+          SCVal.decodeInto(decodedSorobanTransactionMetaV2.returnValue, stream);
+    } else {
+      decodedSorobanTransactionMetaV2.returnValue = null;
+    }
+    return decodedSorobanTransactionMetaV2;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SorobanTransactionMetaExt.skip(stream);
+    if (stream.readXdrBoolean()) {
+      SCVal.skip(stream);
+    }
+  }
+
   public static SorobanTransactionMetaV2 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SorobanTransactionMetaV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("return_value");
+    XdrJson.writeOptional(writer, returnValue);
+    writer.endObject();
+  }
+
+  public static SorobanTransactionMetaV2 fromJson(JsonReader reader) throws IOException {
+    SorobanTransactionMetaV2 decodedSorobanTransactionMetaV2 = new SorobanTransactionMetaV2();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedSorobanTransactionMetaV2.ext = SorobanTransactionMetaExt.fromJson(reader);
+          break;
+        case "return_value":
+          decodedSorobanTransactionMetaV2.returnValue =
+              XdrJson.readOptional(reader, SCVal::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown SorobanTransactionMetaV2 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSorobanTransactionMetaV2;
+  }
+
+  public static SorobanTransactionMetaV2 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
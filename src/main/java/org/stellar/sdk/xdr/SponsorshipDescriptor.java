@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SponsorshipDescriptor's original definition in the XDR file is:
@@ -32,6 +32,17 @@ public class SponsorshipDescriptor implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    if (SponsorshipDescriptor != null) {
+      size += 4;
+      size += SponsorshipDescriptor.encodedSize();
+    } else {
+      size += 4;
+    }
+    return size;
+  }
+
   public static SponsorshipDescriptor decode(XdrDataInputStream stream) throws IOException {
     SponsorshipDescriptor decodedSponsorshipDescriptor = new SponsorshipDescriptor();
     int SponsorshipDescriptorPresent = stream.readInt();
@@ -41,14 +52,49 @@ public class SponsorshipDescriptor implements XdrElement {
     return decodedSponsorshipDescriptor;
   }
 
+  public static SponsorshipDescriptor decodeInto(
+      SponsorshipDescriptor existing, XdrDataInputStream stream) throws IOException {
+    SponsorshipDescriptor decodedSponsorshipDescriptor =
+        existing != null ? existing : new SponsorshipDescriptor();
+    int SponsorshipDescriptorPresent = stream.readInt();
+    if (SponsorshipDescriptorPresent != 0) {
+      decodedSponsorshipDescriptor.SponsorshipDescriptor =
+          AccountID.decodeInto(decodedSponsorshipDescriptor.SponsorshipDescriptor, stream);
+    } else {
+      decodedSponsorshipDescriptor.SponsorshipDescriptor = null;
+    }
+    return decodedSponsorshipDescriptor;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    if (stream.readXdrBoolean()) {
+      AccountID.skip(stream);
+    }
+  }
+
   public static SponsorshipDescriptor fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SponsorshipDescriptor fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeOptional(writer, SponsorshipDescriptor);
+  }
+
+  public static SponsorshipDescriptor fromJson(JsonReader reader) throws IOException {
+    SponsorshipDescriptor decodedSponsorshipDescriptor = new SponsorshipDescriptor();
+    decodedSponsorshipDescriptor.SponsorshipDescriptor =
+        XdrJson.readOptional(reader, AccountID::fromJson);
+    return decodedSponsorshipDescriptor;
+  }
+
+  public static SponsorshipDescriptor fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * StateArchivalSettings's original definition in the XDR file is:
@@ -70,6 +70,21 @@ public class StateArchivalSettings implements XdrElement {
     startingEvictionScanLevel.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += maxEntryTTL.encodedSize();
+    size += minTemporaryTTL.encodedSize();
+    size += minPersistentTTL.encodedSize();
+    size += persistentRentRateDenominator.encodedSize();
+    size += tempRentRateDenominator.encodedSize();
+    size += maxEntriesToArchive.encodedSize();
+    size += liveSorobanStateSizeWindowSampleSize.encodedSize();
+    size += liveSorobanStateSizeWindowSamplePeriod.encodedSize();
+    size += evictionScanSize.encodedSize();
+    size += startingEvictionScanLevel.encodedSize();
+    return size;
+  }
+
   public static StateArchivalSettings decode(XdrDataInputStream stream) throws IOException {
     StateArchivalSettings decodedStateArchivalSettings = new StateArchivalSettings();
     decodedStateArchivalSettings.maxEntryTTL = Uint32.decode(stream);
@@ -85,14 +100,131 @@ public class StateArchivalSettings implements XdrElement {
     return decodedStateArchivalSettings;
   }
 
+  public static StateArchivalSettings decodeInto(
+      StateArchivalSettings existing, XdrDataInputStream stream) throws IOException {
+    StateArchivalSettings decodedStateArchivalSettings =
+        existing != null ? existing : new StateArchivalSettings();
+    decodedStateArchivalSettings.maxEntryTTL =
+        Uint32.decodeInto(decodedStateArchivalSettings.maxEntryTTL, stream);
+    decodedStateArchivalSettings.minTemporaryTTL =
+        Uint32.decodeInto(decodedStateArchivalSettings.minTemporaryTTL, stream);
+    decodedStateArchivalSettings.minPersistentTTL =
+        Uint32.decodeInto(decodedStateArchivalSettings.minPersistentTTL, stream);
+    decodedStateArchivalSettings.persistentRentRateDenominator =
+        Int64.decodeInto(decodedStateArchivalSettings.persistentRentRateDenominator, stream);
+    decodedStateArchivalSettings.tempRentRateDenominator =
+        Int64.decodeInto(decodedStateArchivalSettings.tempRentRateDenominator, stream);
+    decodedStateArchivalSettings.maxEntriesToArchive =
+        Uint32.decodeInto(decodedStateArchivalSettings.maxEntriesToArchive, stream);
+    decodedStateArchivalSettings.liveSorobanStateSizeWindowSampleSize =
+        Uint32.decodeInto(
+            decodedStateArchivalSettings.liveSorobanStateSizeWindowSampleSize, stream);
+    decodedStateArchivalSettings.liveSorobanStateSizeWindowSamplePeriod =
+        Uint32.decodeInto(
+            decodedStateArchivalSettings.liveSorobanStateSizeWindowSamplePeriod, stream);
+    decodedStateArchivalSettings.evictionScanSize =
+        Uint32.decodeInto(decodedStateArchivalSettings.evictionScanSize, stream);
+    decodedStateArchivalSettings.startingEvictionScanLevel =
+        Uint32.decodeInto(decodedStateArchivalSettings.startingEvictionScanLevel, stream);
+    return decodedStateArchivalSettings;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static StateArchivalSettings fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static StateArchivalSettings fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("max_entry_ttl");
+    maxEntryTTL.toJson(writer);
+    writer.name("min_temporary_ttl");
+    minTemporaryTTL.toJson(writer);
+    writer.name("min_persistent_ttl");
+    minPersistentTTL.toJson(writer);
+    writer.name("persistent_rent_rate_denominator");
+    persistentRentRateDenominator.toJson(writer);
+    writer.name("temp_rent_rate_denominator");
+    tempRentRateDenominator.toJson(writer);
+    writer.name("max_entries_to_archive");
+    maxEntriesToArchive.toJson(writer);
+    writer.name("live_soroban_state_size_window_sample_size");
+    liveSorobanStateSizeWindowSampleSize.toJson(writer);
+    writer.name("live_soroban_state_size_window_sample_period");
+    liveSorobanStateSizeWindowSamplePeriod.toJson(writer);
+    writer.name("eviction_scan_size");
+    evictionScanSize.toJson(writer);
+    writer.name("starting_eviction_scan_level");
+    startingEvictionScanLevel.toJson(writer);
+    writer.endObject();
+  }
+
+  public static StateArchivalSettings fromJson(JsonReader reader) throws IOException {
+    StateArchivalSettings decodedStateArchivalSettings = new StateArchivalSettings();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "max_entry_ttl":
+          decodedStateArchivalSettings.maxEntryTTL = Uint32.fromJson(reader);
+          break;
+        case "min_temporary_ttl":
+          decodedStateArchivalSettings.minTemporaryTTL = Uint32.fromJson(reader);
+          break;
+        case "min_persistent_ttl":
+          decodedStateArchivalSettings.minPersistentTTL = Uint32.fromJson(reader);
+          break;
+        case "persistent_rent_rate_denominator":
+          decodedStateArchivalSettings.persistentRentRateDenominator = Int64.fromJson(reader);
+          break;
+        case "temp_rent_rate_denominator":
+          decodedStateArchivalSettings.tempRentRateDenominator = Int64.fromJson(reader);
+          break;
+        case "max_entries_to_archive":
+          decodedStateArchivalSettings.maxEntriesToArchive = Uint32.fromJson(reader);
+          break;
+        case "live_soroban_state_size_window_sample_size":
+          decodedStateArchivalSettings.liveSorobanStateSizeWindowSampleSize =
+              Uint32.fromJson(reader);
+          break;
+        case "live_soroban_state_size_window_sample_period":
+          decodedStateArchivalSettings.liveSorobanStateSizeWindowSamplePeriod =
+              Uint32.fromJson(reader);
+          break;
+        case "eviction_scan_size":
+          decodedStateArchivalSettings.evictionScanSize = Uint32.fromJson(reader);
+          break;
+        case "starting_eviction_scan_level":
+          decodedStateArchivalSettings.startingEvictionScanLevel = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown StateArchivalSettings field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedStateArchivalSettings;
+  }
+
+  public static StateArchivalSettings fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
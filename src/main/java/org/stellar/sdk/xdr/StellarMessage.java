@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * StellarMessage's original definition in the XDR file is:
@@ -174,6 +174,81 @@ public class StellarMessage implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case ERROR_MSG:
+        size += error.encodedSize();
+        break;
+      case HELLO:
+        size += hello.encodedSize();
+        break;
+      case AUTH:
+        size += auth.encodedSize();
+        break;
+      case DONT_HAVE:
+        size += dontHave.encodedSize();
+        break;
+      case PEERS:
+        int peersSize = getPeers().length;
+        size += 4;
+        for (int i = 0; i < peersSize; i++) {
+          size += peers[i].encodedSize();
+        }
+        break;
+      case GET_TX_SET:
+        size += txSetHash.encodedSize();
+        break;
+      case TX_SET:
+        size += txSet.encodedSize();
+        break;
+      case GENERALIZED_TX_SET:
+        size += generalizedTxSet.encodedSize();
+        break;
+      case TRANSACTION:
+        size += transaction.encodedSize();
+        break;
+      case TIME_SLICED_SURVEY_REQUEST:
+        size += signedTimeSlicedSurveyRequestMessage.encodedSize();
+        break;
+      case TIME_SLICED_SURVEY_RESPONSE:
+        size += signedTimeSlicedSurveyResponseMessage.encodedSize();
+        break;
+      case TIME_SLICED_SURVEY_START_COLLECTING:
+        size += signedTimeSlicedSurveyStartCollectingMessage.encodedSize();
+        break;
+      case TIME_SLICED_SURVEY_STOP_COLLECTING:
+        size += signedTimeSlicedSurveyStopCollectingMessage.encodedSize();
+        break;
+      case GET_SCP_QUORUMSET:
+        size += qSetHash.encodedSize();
+        break;
+      case SCP_QUORUMSET:
+        size += qSet.encodedSize();
+        break;
+      case SCP_MESSAGE:
+        size += envelope.encodedSize();
+        break;
+      case GET_SCP_STATE:
+        size += getSCPLedgerSeq.encodedSize();
+        break;
+      case SEND_MORE:
+        size += sendMoreMessage.encodedSize();
+        break;
+      case SEND_MORE_EXTENDED:
+        size += sendMoreExtendedMessage.encodedSize();
+        break;
+      case FLOOD_ADVERT:
+        size += floodAdvert.encodedSize();
+        break;
+      case FLOOD_DEMAND:
+        size += floodDemand.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static StellarMessage decode(XdrDataInputStream stream) throws IOException {
     StellarMessage decodedStellarMessage = new StellarMessage();
     MessageType discriminant = MessageType.decode(stream);
@@ -192,7 +267,7 @@ public class StellarMessage implements XdrElement {
         decodedStellarMessage.dontHave = DontHave.decode(stream);
         break;
       case PEERS:
-        int peersSize = stream.readInt();
+        int peersSize = stream.readLength(4);
         decodedStellarMessage.peers = new PeerAddress[peersSize];
         for (int i = 0; i < peersSize; i++) {
           decodedStellarMessage.peers[i] = PeerAddress.decode(stream);
@@ -254,14 +329,425 @@ public class StellarMessage implements XdrElement {
     return decodedStellarMessage;
   }
 
+  public static StellarMessage decodeInto(StellarMessage existing, XdrDataInputStream stream)
+      throws IOException {
+    MessageType discriminant = MessageType.decode(stream);
+    StellarMessage decodedStellarMessage =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new StellarMessage();
+    decodedStellarMessage.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case ERROR_MSG:
+        decodedStellarMessage.error = Error.decodeInto(decodedStellarMessage.error, stream);
+        break;
+      case HELLO:
+        decodedStellarMessage.hello = Hello.decodeInto(decodedStellarMessage.hello, stream);
+        break;
+      case AUTH:
+        decodedStellarMessage.auth = Auth.decodeInto(decodedStellarMessage.auth, stream);
+        break;
+      case DONT_HAVE:
+        decodedStellarMessage.dontHave =
+            DontHave.decodeInto(decodedStellarMessage.dontHave, stream);
+        break;
+      case PEERS:
+        int peersSize = stream.readLength(4);
+        decodedStellarMessage.peers =
+            XdrRecycler.resize(decodedStellarMessage.peers, peersSize, PeerAddress[]::new);
+        for (int i = 0; i < peersSize; i++) {
+          decodedStellarMessage.peers[i] =
+              PeerAddress.decodeInto(decodedStellarMessage.peers[i], stream);
+        }
+        break;
+      case GET_TX_SET:
+        decodedStellarMessage.txSetHash =
+            Uint256.decodeInto(decodedStellarMessage.txSetHash, stream);
+        break;
+      case TX_SET:
+        decodedStellarMessage.txSet =
+            TransactionSet.decodeInto(decodedStellarMessage.txSet, stream);
+        break;
+      case GENERALIZED_TX_SET:
+        decodedStellarMessage.generalizedTxSet =
+            GeneralizedTransactionSet.decodeInto(decodedStellarMessage.generalizedTxSet, stream);
+        break;
+      case TRANSACTION:
+        decodedStellarMessage.transaction =
+            TransactionEnvelope.decodeInto(decodedStellarMessage.transaction, stream);
+        break;
+      case TIME_SLICED_SURVEY_REQUEST:
+        decodedStellarMessage.signedTimeSlicedSurveyRequestMessage =
+            SignedTimeSlicedSurveyRequestMessage.decodeInto(
+                decodedStellarMessage.signedTimeSlicedSurveyRequestMessage, stream);
+        break;
+      case TIME_SLICED_SURVEY_RESPONSE:
+        decodedStellarMessage.signedTimeSlicedSurveyResponseMessage =
+            SignedTimeSlicedSurveyResponseMessage.decodeInto(
+                decodedStellarMessage.signedTimeSlicedSurveyResponseMessage, stream);
+        break;
+      case TIME_SLICED_SURVEY_START_COLLECTING:
+        decodedStellarMessage.signedTimeSlicedSurveyStartCollectingMessage =
+            SignedTimeSlicedSurveyStartCollectingMessage.decodeInto(
+                decodedStellarMessage.signedTimeSlicedSurveyStartCollectingMessage, stream);
+        break;
+      case TIME_SLICED_SURVEY_STOP_COLLECTING:
+        decodedStellarMessage.signedTimeSlicedSurveyStopCollectingMessage =
+            SignedTimeSlicedSurveyStopCollectingMessage.decodeInto(
+                decodedStellarMessage.signedTimeSlicedSurveyStopCollectingMessage, stream);
+        break;
+      case GET_SCP_QUORUMSET:
+        decodedStellarMessage.qSetHash = Uint256.decodeInto(decodedStellarMessage.qSetHash, stream);
+        break;
+      case SCP_QUORUMSET:
+        decodedStellarMessage.qSet = SCPQuorumSet.decodeInto(decodedStellarMessage.qSet, stream);
+        break;
+      case SCP_MESSAGE:
+        decodedStellarMessage.envelope =
+            SCPEnvelope.decodeInto(decodedStellarMessage.envelope, stream);
+        break;
+      case GET_SCP_STATE:
+        decodedStellarMessage.getSCPLedgerSeq =
+            Uint32.decodeInto(decodedStellarMessage.getSCPLedgerSeq, stream);
+        break;
+      case SEND_MORE:
+        decodedStellarMessage.sendMoreMessage =
+            SendMore.decodeInto(decodedStellarMessage.sendMoreMessage, stream);
+        break;
+      case SEND_MORE_EXTENDED:
+        decodedStellarMessage.sendMoreExtendedMessage =
+            SendMoreExtended.decodeInto(decodedStellarMessage.sendMoreExtendedMessage, stream);
+        break;
+      case FLOOD_ADVERT:
+        decodedStellarMessage.floodAdvert =
+            FloodAdvert.decodeInto(decodedStellarMessage.floodAdvert, stream);
+        break;
+      case FLOOD_DEMAND:
+        decodedStellarMessage.floodDemand =
+            FloodDemand.decodeInto(decodedStellarMessage.floodDemand, stream);
+        break;
+    }
+    return decodedStellarMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    MessageType discriminant = MessageType.decode(stream);
+    switch (discriminant) {
+      case ERROR_MSG:
+        Error.skip(stream);
+        break;
+      case HELLO:
+        Hello.skip(stream);
+        break;
+      case AUTH:
+        Auth.skip(stream);
+        break;
+      case DONT_HAVE:
+        DontHave.skip(stream);
+        break;
+      case PEERS:
+        int peersSize = stream.readLength(100, 4);
+        for (int i = 0; i < peersSize; i++) {
+          PeerAddress.skip(stream);
+        }
+        break;
+      case GET_TX_SET:
+        Uint256.skip(stream);
+        break;
+      case TX_SET:
+        TransactionSet.skip(stream);
+        break;
+      case GENERALIZED_TX_SET:
+        GeneralizedTransactionSet.skip(stream);
+        break;
+      case TRANSACTION:
+        TransactionEnvelope.skip(stream);
+        break;
+      case TIME_SLICED_SURVEY_REQUEST:
+        SignedTimeSlicedSurveyRequestMessage.skip(stream);
+        break;
+      case TIME_SLICED_SURVEY_RESPONSE:
+        SignedTimeSlicedSurveyResponseMessage.skip(stream);
+        break;
+      case TIME_SLICED_SURVEY_START_COLLECTING:
+        SignedTimeSlicedSurveyStartCollectingMessage.skip(stream);
+        break;
+      case TIME_SLICED_SURVEY_STOP_COLLECTING:
+        SignedTimeSlicedSurveyStopCollectingMessage.skip(stream);
+        break;
+      case GET_SCP_QUORUMSET:
+        Uint256.skip(stream);
+        break;
+      case SCP_QUORUMSET:
+        SCPQuorumSet.skip(stream);
+        break;
+      case SCP_MESSAGE:
+        SCPEnvelope.skip(stream);
+        break;
+      case GET_SCP_STATE:
+        Uint32.skip(stream);
+        break;
+      case SEND_MORE:
+        SendMore.skip(stream);
+        break;
+      case SEND_MORE_EXTENDED:
+        SendMoreExtended.skip(stream);
+        break;
+      case FLOOD_ADVERT:
+        FloodAdvert.skip(stream);
+        break;
+      case FLOOD_DEMAND:
+        FloodDemand.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown StellarMessage discriminant: " + discriminant);
+    }
+  }
+
   public static StellarMessage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static StellarMessage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case ERROR_MSG:
+        writer.beginObject();
+        writer.name("error_msg");
+        error.toJson(writer);
+        writer.endObject();
+        break;
+      case HELLO:
+        writer.beginObject();
+        writer.name("hello");
+        hello.toJson(writer);
+        writer.endObject();
+        break;
+      case AUTH:
+        writer.beginObject();
+        writer.name("auth");
+        auth.toJson(writer);
+        writer.endObject();
+        break;
+      case DONT_HAVE:
+        writer.beginObject();
+        writer.name("dont_have");
+        dontHave.toJson(writer);
+        writer.endObject();
+        break;
+      case PEERS:
+        writer.beginObject();
+        writer.name("peers");
+        XdrJson.writeArray(writer, peers);
+        writer.endObject();
+        break;
+      case GET_TX_SET:
+        writer.beginObject();
+        writer.name("get_tx_set");
+        txSetHash.toJson(writer);
+        writer.endObject();
+        break;
+      case TX_SET:
+        writer.beginObject();
+        writer.name("tx_set");
+        txSet.toJson(writer);
+        writer.endObject();
+        break;
+      case GENERALIZED_TX_SET:
+        writer.beginObject();
+        writer.name("generalized_tx_set");
+        generalizedTxSet.toJson(writer);
+        writer.endObject();
+        break;
+      case TRANSACTION:
+        writer.beginObject();
+        writer.name("transaction");
+        transaction.toJson(writer);
+        writer.endObject();
+        break;
+      case TIME_SLICED_SURVEY_REQUEST:
+        writer.beginObject();
+        writer.name("time_sliced_survey_request");
+        signedTimeSlicedSurveyRequestMessage.toJson(writer);
+        writer.endObject();
+        break;
+      case TIME_SLICED_SURVEY_RESPONSE:
+        writer.beginObject();
+        writer.name("time_sliced_survey_response");
+        signedTimeSlicedSurveyResponseMessage.toJson(writer);
+        writer.endObject();
+        break;
+      case TIME_SLICED_SURVEY_START_COLLECTING:
+        writer.beginObject();
+        writer.name("time_sliced_survey_start_collecting");
+        signedTimeSlicedSurveyStartCollectingMessage.toJson(writer);
+        writer.endObject();
+        break;
+      case TIME_SLICED_SURVEY_STOP_COLLECTING:
+        writer.beginObject();
+        writer.name("time_sliced_survey_stop_collecting");
+        signedTimeSlicedSurveyStopCollectingMessage.toJson(writer);
+        writer.endObject();
+        break;
+      case GET_SCP_QUORUMSET:
+        writer.beginObject();
+        writer.name("get_scp_quorumset");
+        qSetHash.toJson(writer);
+        writer.endObject();
+        break;
+      case SCP_QUORUMSET:
+        writer.beginObject();
+        writer.name("scp_quorumset");
+        qSet.toJson(writer);
+        writer.endObject();
+        break;
+      case SCP_MESSAGE:
+        writer.beginObject();
+        writer.name("scp_message");
+        envelope.toJson(writer);
+        writer.endObject();
+        break;
+      case GET_SCP_STATE:
+        writer.beginObject();
+        writer.name("get_scp_state");
+        getSCPLedgerSeq.toJson(writer);
+        writer.endObject();
+        break;
+      case SEND_MORE:
+        writer.beginObject();
+        writer.name("send_more");
+        sendMoreMessage.toJson(writer);
+        writer.endObject();
+        break;
+      case SEND_MORE_EXTENDED:
+        writer.beginObject();
+        writer.name("send_more_extended");
+        sendMoreExtendedMessage.toJson(writer);
+        writer.endObject();
+        break;
+      case FLOOD_ADVERT:
+        writer.beginObject();
+        writer.name("flood_advert");
+        floodAdvert.toJson(writer);
+        writer.endObject();
+        break;
+      case FLOOD_DEMAND:
+        writer.beginObject();
+        writer.name("flood_demand");
+        floodDemand.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static StellarMessage fromJson(JsonReader reader) throws IOException {
+    StellarMessage decodedStellarMessage = new StellarMessage();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "error_msg":
+        decodedStellarMessage.setDiscriminant(MessageType.ERROR_MSG);
+        decodedStellarMessage.error = Error.fromJson(reader);
+        break;
+      case "hello":
+        decodedStellarMessage.setDiscriminant(MessageType.HELLO);
+        decodedStellarMessage.hello = Hello.fromJson(reader);
+        break;
+      case "auth":
+        decodedStellarMessage.setDiscriminant(MessageType.AUTH);
+        decodedStellarMessage.auth = Auth.fromJson(reader);
+        break;
+      case "dont_have":
+        decodedStellarMessage.setDiscriminant(MessageType.DONT_HAVE);
+        decodedStellarMessage.dontHave = DontHave.fromJson(reader);
+        break;
+      case "peers":
+        decodedStellarMessage.setDiscriminant(MessageType.PEERS);
+        decodedStellarMessage.peers =
+            XdrJson.readArray(reader, PeerAddress[]::new, PeerAddress::fromJson);
+        break;
+      case "get_tx_set":
+        decodedStellarMessage.setDiscriminant(MessageType.GET_TX_SET);
+        decodedStellarMessage.txSetHash = Uint256.fromJson(reader);
+        break;
+      case "tx_set":
+        decodedStellarMessage.setDiscriminant(MessageType.TX_SET);
+        decodedStellarMessage.txSet = TransactionSet.fromJson(reader);
+        break;
+      case "generalized_tx_set":
+        decodedStellarMessage.setDiscriminant(MessageType.GENERALIZED_TX_SET);
+        decodedStellarMessage.generalizedTxSet = GeneralizedTransactionSet.fromJson(reader);
+        break;
+      case "transaction":
+        decodedStellarMessage.setDiscriminant(MessageType.TRANSACTION);
+        decodedStellarMessage.transaction = TransactionEnvelope.fromJson(reader);
+        break;
+      case "time_sliced_survey_request":
+        decodedStellarMessage.setDiscriminant(MessageType.TIME_SLICED_SURVEY_REQUEST);
+        decodedStellarMessage.signedTimeSlicedSurveyRequestMessage =
+            SignedTimeSlicedSurveyRequestMessage.fromJson(reader);
+        break;
+      case "time_sliced_survey_response":
+        decodedStellarMessage.setDiscriminant(MessageType.TIME_SLICED_SURVEY_RESPONSE);
+        decodedStellarMessage.signedTimeSlicedSurveyResponseMessage =
+            SignedTimeSlicedSurveyResponseMessage.fromJson(reader);
+        break;
+      case "time_sliced_survey_start_collecting":
+        decodedStellarMessage.setDiscriminant(MessageType.TIME_SLICED_SURVEY_START_COLLECTING);
+        decodedStellarMessage.signedTimeSlicedSurveyStartCollectingMessage =
+            SignedTimeSlicedSurveyStartCollectingMessage.fromJson(reader);
+        break;
+      case "time_sliced_survey_stop_collecting":
+        decodedStellarMessage.setDiscriminant(MessageType.TIME_SLICED_SURVEY_STOP_COLLECTING);
+        decodedStellarMessage.signedTimeSlicedSurveyStopCollectingMessage =
+            SignedTimeSlicedSurveyStopCollectingMessage.fromJson(reader);
+        break;
+      case "get_scp_quorumset":
+        decodedStellarMessage.setDiscriminant(MessageType.GET_SCP_QUORUMSET);
+        decodedStellarMessage.qSetHash = Uint256.fromJson(reader);
+        break;
+      case "scp_quorumset":
+        decodedStellarMessage.setDiscriminant(MessageType.SCP_QUORUMSET);
+        decodedStellarMessage.qSet = SCPQuorumSet.fromJson(reader);
+        break;
+      case "scp_message":
+        decodedStellarMessage.setDiscriminant(MessageType.SCP_MESSAGE);
+        decodedStellarMessage.envelope = SCPEnvelope.fromJson(reader);
+        break;
+      case "get_scp_state":
+        decodedStellarMessage.setDiscriminant(MessageType.GET_SCP_STATE);
+        decodedStellarMessage.getSCPLedgerSeq = Uint32.fromJson(reader);
+        break;
+      case "send_more":
+        decodedStellarMessage.setDiscriminant(MessageType.SEND_MORE);
+        decodedStellarMessage.sendMoreMessage = SendMore.fromJson(reader);
+        break;
+      case "send_more_extended":
+        decodedStellarMessage.setDiscriminant(MessageType.SEND_MORE_EXTENDED);
+        decodedStellarMessage.sendMoreExtendedMessage = SendMoreExtended.fromJson(reader);
+        break;
+      case "flood_advert":
+        decodedStellarMessage.setDiscriminant(MessageType.FLOOD_ADVERT);
+        decodedStellarMessage.floodAdvert = FloodAdvert.fromJson(reader);
+        break;
+      case "flood_demand":
+        decodedStellarMessage.setDiscriminant(MessageType.FLOOD_DEMAND);
+        decodedStellarMessage.floodDemand = FloodDemand.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown StellarMessage arm: " + key);
+    }
+    reader.endObject();
+    return decodedStellarMessage;
+  }
+
+  public static StellarMessage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
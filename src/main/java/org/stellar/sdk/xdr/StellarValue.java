@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * StellarValue's original definition in the XDR file is:
@@ -60,11 +61,24 @@ public class StellarValue implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += txSetHash.encodedSize();
+    size += closeTime.encodedSize();
+    int upgradesSize = getUpgrades().length;
+    size += 4;
+    for (int i = 0; i < upgradesSize; i++) {
+      size += upgrades[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static StellarValue decode(XdrDataInputStream stream) throws IOException {
     StellarValue decodedStellarValue = new StellarValue();
     decodedStellarValue.txSetHash = Hash.decode(stream);
     decodedStellarValue.closeTime = TimePoint.decode(stream);
-    int upgradesSize = stream.readInt();
+    int upgradesSize = stream.readLength(4);
     decodedStellarValue.upgrades = new UpgradeType[upgradesSize];
     for (int i = 0; i < upgradesSize; i++) {
       decodedStellarValue.upgrades[i] = UpgradeType.decode(stream);
@@ -73,17 +87,87 @@ public class StellarValue implements XdrElement {
     return decodedStellarValue;
   }
 
+  public static StellarValue decodeInto(StellarValue existing, XdrDataInputStream stream)
+      throws IOException {
+    StellarValue decodedStellarValue = existing != null ? existing : new StellarValue();
+    decodedStellarValue.txSetHash = Hash.decodeInto(decodedStellarValue.txSetHash, stream);
+    decodedStellarValue.closeTime = TimePoint.decodeInto(decodedStellarValue.closeTime, stream);
+    int upgradesSize = stream.readLength(4);
+    decodedStellarValue.upgrades =
+        XdrRecycler.resize(decodedStellarValue.upgrades, upgradesSize, UpgradeType[]::new);
+    for (int i = 0; i < upgradesSize; i++) {
+      decodedStellarValue.upgrades[i] =
+          UpgradeType.decodeInto(decodedStellarValue.upgrades[i], stream);
+    }
+    decodedStellarValue.ext = StellarValueExt.decodeInto(decodedStellarValue.ext, stream);
+    return decodedStellarValue;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+    TimePoint.skip(stream);
+    int upgradesSize = stream.readLength(6, 4);
+    for (int i = 0; i < upgradesSize; i++) {
+      UpgradeType.skip(stream);
+    }
+    StellarValueExt.skip(stream);
+  }
+
   public static StellarValue fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static StellarValue fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx_set_hash");
+    txSetHash.toJson(writer);
+    writer.name("close_time");
+    closeTime.toJson(writer);
+    writer.name("upgrades");
+    XdrJson.writeArray(writer, upgrades);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static StellarValue fromJson(JsonReader reader) throws IOException {
+    StellarValue decodedStellarValue = new StellarValue();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx_set_hash":
+          decodedStellarValue.txSetHash = Hash.fromJson(reader);
+          break;
+        case "close_time":
+          decodedStellarValue.closeTime = TimePoint.fromJson(reader);
+          break;
+        case "upgrades":
+          decodedStellarValue.upgrades =
+              XdrJson.readArray(reader, UpgradeType[]::new, UpgradeType::fromJson);
+          break;
+        case "ext":
+          decodedStellarValue.ext = StellarValueExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown StellarValue field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedStellarValue;
+  }
+
+  public static StellarValue fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * StellarValueExt's original definition in the XDR file is:
    *
@@ -116,6 +200,19 @@ public class StellarValue implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case STELLAR_VALUE_BASIC:
+          break;
+        case STELLAR_VALUE_SIGNED:
+          size += lcValueSignature.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static StellarValueExt decode(XdrDataInputStream stream) throws IOException {
       StellarValueExt decodedStellarValueExt = new StellarValueExt();
       StellarValueType discriminant = StellarValueType.decode(stream);
@@ -130,15 +227,92 @@ public class StellarValue implements XdrElement {
       return decodedStellarValueExt;
     }
 
+    public static StellarValueExt decodeInto(StellarValueExt existing, XdrDataInputStream stream)
+        throws IOException {
+      StellarValueType discriminant = StellarValueType.decode(stream);
+      StellarValueExt decodedStellarValueExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new StellarValueExt();
+      decodedStellarValueExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case STELLAR_VALUE_BASIC:
+          break;
+        case STELLAR_VALUE_SIGNED:
+          decodedStellarValueExt.lcValueSignature =
+              LedgerCloseValueSignature.decodeInto(decodedStellarValueExt.lcValueSignature, stream);
+          break;
+      }
+      return decodedStellarValueExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      StellarValueType discriminant = StellarValueType.decode(stream);
+      switch (discriminant) {
+        case STELLAR_VALUE_BASIC:
+          break;
+        case STELLAR_VALUE_SIGNED:
+          LedgerCloseValueSignature.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown StellarValueExt discriminant: " + discriminant);
+      }
+    }
+
     public static StellarValueExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static StellarValueExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case STELLAR_VALUE_BASIC:
+          writer.value("basic");
+          break;
+        case STELLAR_VALUE_SIGNED:
+          writer.beginObject();
+          writer.name("signed");
+          lcValueSignature.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static StellarValueExt fromJson(JsonReader reader) throws IOException {
+      StellarValueExt decodedStellarValueExt = new StellarValueExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "basic":
+            decodedStellarValueExt.setDiscriminant(StellarValueType.STELLAR_VALUE_BASIC);
+            break;
+          default:
+            throw new IOException("Unknown StellarValueExt arm: " + key);
+        }
+        return decodedStellarValueExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "signed":
+          decodedStellarValueExt.setDiscriminant(StellarValueType.STELLAR_VALUE_SIGNED);
+          decodedStellarValueExt.lcValueSignature = LedgerCloseValueSignature.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown StellarValueExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedStellarValueExt;
+    }
+
+    public static StellarValueExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
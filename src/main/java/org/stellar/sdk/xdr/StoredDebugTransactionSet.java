@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * StoredDebugTransactionSet's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class StoredDebugTransactionSet implements XdrElement {
     scpValue.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += txSet.encodedSize();
+    size += ledgerSeq.encodedSize();
+    size += scpValue.encodedSize();
+    return size;
+  }
+
   public static StoredDebugTransactionSet decode(XdrDataInputStream stream) throws IOException {
     StoredDebugTransactionSet decodedStoredDebugTransactionSet = new StoredDebugTransactionSet();
     decodedStoredDebugTransactionSet.txSet = StoredTransactionSet.decode(stream);
@@ -46,14 +54,71 @@ public class StoredDebugTransactionSet implements XdrElement {
     return decodedStoredDebugTransactionSet;
   }
 
+  public static StoredDebugTransactionSet decodeInto(
+      StoredDebugTransactionSet existing, XdrDataInputStream stream) throws IOException {
+    StoredDebugTransactionSet decodedStoredDebugTransactionSet =
+        existing != null ? existing : new StoredDebugTransactionSet();
+    decodedStoredDebugTransactionSet.txSet =
+        StoredTransactionSet.decodeInto(decodedStoredDebugTransactionSet.txSet, stream);
+    decodedStoredDebugTransactionSet.ledgerSeq =
+        Uint32.decodeInto(decodedStoredDebugTransactionSet.ledgerSeq, stream);
+    decodedStoredDebugTransactionSet.scpValue =
+        StellarValue.decodeInto(decodedStoredDebugTransactionSet.scpValue, stream);
+    return decodedStoredDebugTransactionSet;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    StoredTransactionSet.skip(stream);
+    Uint32.skip(stream);
+    StellarValue.skip(stream);
+  }
+
   public static StoredDebugTransactionSet fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static StoredDebugTransactionSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx_set");
+    txSet.toJson(writer);
+    writer.name("ledger_seq");
+    ledgerSeq.toJson(writer);
+    writer.name("scp_value");
+    scpValue.toJson(writer);
+    writer.endObject();
+  }
+
+  public static StoredDebugTransactionSet fromJson(JsonReader reader) throws IOException {
+    StoredDebugTransactionSet decodedStoredDebugTransactionSet = new StoredDebugTransactionSet();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx_set":
+          decodedStoredDebugTransactionSet.txSet = StoredTransactionSet.fromJson(reader);
+          break;
+        case "ledger_seq":
+          decodedStoredDebugTransactionSet.ledgerSeq = Uint32.fromJson(reader);
+          break;
+        case "scp_value":
+          decodedStoredDebugTransactionSet.scpValue = StellarValue.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown StoredDebugTransactionSet field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedStoredDebugTransactionSet;
+  }
+
+  public static StoredDebugTransactionSet fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
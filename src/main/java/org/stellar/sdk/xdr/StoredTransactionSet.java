@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * StoredTransactionSet's original definition in the XDR file is:
@@ -45,6 +45,20 @@ public class StoredTransactionSet implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case 0:
+        size += txSet.encodedSize();
+        break;
+      case 1:
+        size += generalizedTxSet.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static StoredTransactionSet decode(XdrDataInputStream stream) throws IOException {
     StoredTransactionSet decodedStoredTransactionSet = new StoredTransactionSet();
     Integer discriminant = stream.readInt();
@@ -60,14 +74,91 @@ public class StoredTransactionSet implements XdrElement {
     return decodedStoredTransactionSet;
   }
 
+  public static StoredTransactionSet decodeInto(
+      StoredTransactionSet existing, XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    StoredTransactionSet decodedStoredTransactionSet =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new StoredTransactionSet();
+    decodedStoredTransactionSet.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        decodedStoredTransactionSet.txSet =
+            TransactionSet.decodeInto(decodedStoredTransactionSet.txSet, stream);
+        break;
+      case 1:
+        decodedStoredTransactionSet.generalizedTxSet =
+            GeneralizedTransactionSet.decodeInto(
+                decodedStoredTransactionSet.generalizedTxSet, stream);
+        break;
+    }
+    return decodedStoredTransactionSet;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        TransactionSet.skip(stream);
+        break;
+      case 1:
+        GeneralizedTransactionSet.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown StoredTransactionSet discriminant: " + discriminant);
+    }
+  }
+
   public static StoredTransactionSet fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static StoredTransactionSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case 0:
+        writer.beginObject();
+        writer.name("v0");
+        txSet.toJson(writer);
+        writer.endObject();
+        break;
+      case 1:
+        writer.beginObject();
+        writer.name("v1");
+        generalizedTxSet.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static StoredTransactionSet fromJson(JsonReader reader) throws IOException {
+    StoredTransactionSet decodedStoredTransactionSet = new StoredTransactionSet();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v0":
+        decodedStoredTransactionSet.setDiscriminant(0);
+        decodedStoredTransactionSet.txSet = TransactionSet.fromJson(reader);
+        break;
+      case "v1":
+        decodedStoredTransactionSet.setDiscriminant(1);
+        decodedStoredTransactionSet.generalizedTxSet = GeneralizedTransactionSet.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown StoredTransactionSet arm: " + key);
+    }
+    reader.endObject();
+    return decodedStoredTransactionSet;
+  }
+
+  public static StoredTransactionSet fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
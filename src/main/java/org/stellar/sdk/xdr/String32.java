@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * String32's original definition in the XDR file is:
@@ -27,20 +27,49 @@ public class String32 implements XdrElement {
     string32.encode(stream);
   }
 
+  public int encodedSize() {
+    return string32.encodedSize();
+  }
+
   public static String32 decode(XdrDataInputStream stream) throws IOException {
     String32 decodedString32 = new String32();
     decodedString32.string32 = XdrString.decode(stream, 32);
     return decodedString32;
   }
 
+  public static String32 decodeInto(String32 existing, XdrDataInputStream stream)
+      throws IOException {
+    String32 decodedString32 = existing != null ? existing : new String32();
+    decodedString32.string32 = XdrString.decode(stream, 32);
+    return decodedString32;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, 32);
+  }
+
   public static String32 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static String32 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    string32.toJson(writer);
+  }
+
+  public static String32 fromJson(JsonReader reader) throws IOException {
+    String32 decodedString32 = new String32();
+    decodedString32.string32 = XdrString.fromJson(reader);
+    return decodedString32;
+  }
+
+  public static String32 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
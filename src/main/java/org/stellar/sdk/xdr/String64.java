@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * String64's original definition in the XDR file is:
@@ -27,20 +27,49 @@ public class String64 implements XdrElement {
     string64.encode(stream);
   }
 
+  public int encodedSize() {
+    return string64.encodedSize();
+  }
+
   public static String64 decode(XdrDataInputStream stream) throws IOException {
     String64 decodedString64 = new String64();
     decodedString64.string64 = XdrString.decode(stream, 64);
     return decodedString64;
   }
 
+  public static String64 decodeInto(String64 existing, XdrDataInputStream stream)
+      throws IOException {
+    String64 decodedString64 = existing != null ? existing : new String64();
+    decodedString64.string64 = XdrString.decode(stream, 64);
+    return decodedString64;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrString.skip(stream, 64);
+  }
+
   public static String64 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static String64 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    string64.toJson(writer);
+  }
+
+  public static String64 fromJson(JsonReader reader) throws IOException {
+    String64 decodedString64 = new String64();
+    decodedString64.string64 = XdrString.fromJson(reader);
+    return decodedString64;
+  }
+
+  public static String64 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
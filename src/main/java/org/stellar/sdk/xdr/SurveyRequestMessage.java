@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SurveyRequestMessage's original definition in the XDR file is:
@@ -44,6 +44,16 @@ public class SurveyRequestMessage implements XdrElement {
     commandType.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += surveyorPeerID.encodedSize();
+    size += surveyedPeerID.encodedSize();
+    size += ledgerNum.encodedSize();
+    size += encryptionKey.encodedSize();
+    size += commandType.encodedSize();
+    return size;
+  }
+
   public static SurveyRequestMessage decode(XdrDataInputStream stream) throws IOException {
     SurveyRequestMessage decodedSurveyRequestMessage = new SurveyRequestMessage();
     decodedSurveyRequestMessage.surveyorPeerID = NodeID.decode(stream);
@@ -54,14 +64,86 @@ public class SurveyRequestMessage implements XdrElement {
     return decodedSurveyRequestMessage;
   }
 
+  public static SurveyRequestMessage decodeInto(
+      SurveyRequestMessage existing, XdrDataInputStream stream) throws IOException {
+    SurveyRequestMessage decodedSurveyRequestMessage =
+        existing != null ? existing : new SurveyRequestMessage();
+    decodedSurveyRequestMessage.surveyorPeerID =
+        NodeID.decodeInto(decodedSurveyRequestMessage.surveyorPeerID, stream);
+    decodedSurveyRequestMessage.surveyedPeerID =
+        NodeID.decodeInto(decodedSurveyRequestMessage.surveyedPeerID, stream);
+    decodedSurveyRequestMessage.ledgerNum =
+        Uint32.decodeInto(decodedSurveyRequestMessage.ledgerNum, stream);
+    decodedSurveyRequestMessage.encryptionKey =
+        Curve25519Public.decodeInto(decodedSurveyRequestMessage.encryptionKey, stream);
+    decodedSurveyRequestMessage.commandType = SurveyMessageCommandType.decode(stream);
+    return decodedSurveyRequestMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    NodeID.skip(stream);
+    NodeID.skip(stream);
+    Uint32.skip(stream);
+    Curve25519Public.skip(stream);
+    SurveyMessageCommandType.skip(stream);
+  }
+
   public static SurveyRequestMessage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SurveyRequestMessage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("surveyor_peer_id");
+    surveyorPeerID.toJson(writer);
+    writer.name("surveyed_peer_id");
+    surveyedPeerID.toJson(writer);
+    writer.name("ledger_num");
+    ledgerNum.toJson(writer);
+    writer.name("encryption_key");
+    encryptionKey.toJson(writer);
+    writer.name("command_type");
+    commandType.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SurveyRequestMessage fromJson(JsonReader reader) throws IOException {
+    SurveyRequestMessage decodedSurveyRequestMessage = new SurveyRequestMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "surveyor_peer_id":
+          decodedSurveyRequestMessage.surveyorPeerID = NodeID.fromJson(reader);
+          break;
+        case "surveyed_peer_id":
+          decodedSurveyRequestMessage.surveyedPeerID = NodeID.fromJson(reader);
+          break;
+        case "ledger_num":
+          decodedSurveyRequestMessage.ledgerNum = Uint32.fromJson(reader);
+          break;
+        case "encryption_key":
+          decodedSurveyRequestMessage.encryptionKey = Curve25519Public.fromJson(reader);
+          break;
+        case "command_type":
+          decodedSurveyRequestMessage.commandType = SurveyMessageCommandType.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SurveyRequestMessage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSurveyRequestMessage;
+  }
+
+  public static SurveyRequestMessage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SurveyResponseBody's original definition in the XDR file is:
@@ -39,6 +39,17 @@ public class SurveyResponseBody implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case SURVEY_TOPOLOGY_RESPONSE_V2:
+        size += topologyResponseBodyV2.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SurveyResponseBody decode(XdrDataInputStream stream) throws IOException {
     SurveyResponseBody decodedSurveyResponseBody = new SurveyResponseBody();
     SurveyMessageResponseType discriminant = SurveyMessageResponseType.decode(stream);
@@ -51,14 +62,75 @@ public class SurveyResponseBody implements XdrElement {
     return decodedSurveyResponseBody;
   }
 
+  public static SurveyResponseBody decodeInto(
+      SurveyResponseBody existing, XdrDataInputStream stream) throws IOException {
+    SurveyMessageResponseType discriminant = SurveyMessageResponseType.decode(stream);
+    SurveyResponseBody decodedSurveyResponseBody =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new SurveyResponseBody();
+    decodedSurveyResponseBody.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case SURVEY_TOPOLOGY_RESPONSE_V2:
+        decodedSurveyResponseBody.topologyResponseBodyV2 =
+            TopologyResponseBodyV2.decodeInto(
+                decodedSurveyResponseBody.topologyResponseBodyV2, stream);
+        break;
+    }
+    return decodedSurveyResponseBody;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SurveyMessageResponseType discriminant = SurveyMessageResponseType.decode(stream);
+    switch (discriminant) {
+      case SURVEY_TOPOLOGY_RESPONSE_V2:
+        TopologyResponseBodyV2.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown SurveyResponseBody discriminant: " + discriminant);
+    }
+  }
+
   public static SurveyResponseBody fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SurveyResponseBody fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case SURVEY_TOPOLOGY_RESPONSE_V2:
+        writer.beginObject();
+        writer.name("v2");
+        topologyResponseBodyV2.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static SurveyResponseBody fromJson(JsonReader reader) throws IOException {
+    SurveyResponseBody decodedSurveyResponseBody = new SurveyResponseBody();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v2":
+        decodedSurveyResponseBody.setDiscriminant(
+            SurveyMessageResponseType.SURVEY_TOPOLOGY_RESPONSE_V2);
+        decodedSurveyResponseBody.topologyResponseBodyV2 = TopologyResponseBodyV2.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown SurveyResponseBody arm: " + key);
+    }
+    reader.endObject();
+    return decodedSurveyResponseBody;
+  }
+
+  public static SurveyResponseBody fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * SurveyResponseMessage's original definition in the XDR file is:
@@ -44,6 +44,16 @@ public class SurveyResponseMessage implements XdrElement {
     encryptedBody.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += surveyorPeerID.encodedSize();
+    size += surveyedPeerID.encodedSize();
+    size += ledgerNum.encodedSize();
+    size += commandType.encodedSize();
+    size += encryptedBody.encodedSize();
+    return size;
+  }
+
   public static SurveyResponseMessage decode(XdrDataInputStream stream) throws IOException {
     SurveyResponseMessage decodedSurveyResponseMessage = new SurveyResponseMessage();
     decodedSurveyResponseMessage.surveyorPeerID = NodeID.decode(stream);
@@ -54,14 +64,86 @@ public class SurveyResponseMessage implements XdrElement {
     return decodedSurveyResponseMessage;
   }
 
+  public static SurveyResponseMessage decodeInto(
+      SurveyResponseMessage existing, XdrDataInputStream stream) throws IOException {
+    SurveyResponseMessage decodedSurveyResponseMessage =
+        existing != null ? existing : new SurveyResponseMessage();
+    decodedSurveyResponseMessage.surveyorPeerID =
+        NodeID.decodeInto(decodedSurveyResponseMessage.surveyorPeerID, stream);
+    decodedSurveyResponseMessage.surveyedPeerID =
+        NodeID.decodeInto(decodedSurveyResponseMessage.surveyedPeerID, stream);
+    decodedSurveyResponseMessage.ledgerNum =
+        Uint32.decodeInto(decodedSurveyResponseMessage.ledgerNum, stream);
+    decodedSurveyResponseMessage.commandType = SurveyMessageCommandType.decode(stream);
+    decodedSurveyResponseMessage.encryptedBody =
+        EncryptedBody.decodeInto(decodedSurveyResponseMessage.encryptedBody, stream);
+    return decodedSurveyResponseMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    NodeID.skip(stream);
+    NodeID.skip(stream);
+    Uint32.skip(stream);
+    SurveyMessageCommandType.skip(stream);
+    EncryptedBody.skip(stream);
+  }
+
   public static SurveyResponseMessage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static SurveyResponseMessage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("surveyor_peer_id");
+    surveyorPeerID.toJson(writer);
+    writer.name("surveyed_peer_id");
+    surveyedPeerID.toJson(writer);
+    writer.name("ledger_num");
+    ledgerNum.toJson(writer);
+    writer.name("command_type");
+    commandType.toJson(writer);
+    writer.name("encrypted_body");
+    encryptedBody.toJson(writer);
+    writer.endObject();
+  }
+
+  public static SurveyResponseMessage fromJson(JsonReader reader) throws IOException {
+    SurveyResponseMessage decodedSurveyResponseMessage = new SurveyResponseMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "surveyor_peer_id":
+          decodedSurveyResponseMessage.surveyorPeerID = NodeID.fromJson(reader);
+          break;
+        case "surveyed_peer_id":
+          decodedSurveyResponseMessage.surveyedPeerID = NodeID.fromJson(reader);
+          break;
+        case "ledger_num":
+          decodedSurveyResponseMessage.ledgerNum = Uint32.fromJson(reader);
+          break;
+        case "command_type":
+          decodedSurveyResponseMessage.commandType = SurveyMessageCommandType.fromJson(reader);
+          break;
+        case "encrypted_body":
+          decodedSurveyResponseMessage.encryptedBody = EncryptedBody.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown SurveyResponseMessage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedSurveyResponseMessage;
+  }
+
+  public static SurveyResponseMessage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TTLEntry's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class TTLEntry implements XdrElement {
     liveUntilLedgerSeq.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += keyHash.encodedSize();
+    size += liveUntilLedgerSeq.encodedSize();
+    return size;
+  }
+
   public static TTLEntry decode(XdrDataInputStream stream) throws IOException {
     TTLEntry decodedTTLEntry = new TTLEntry();
     decodedTTLEntry.keyHash = Hash.decode(stream);
@@ -42,14 +49,61 @@ public class TTLEntry implements XdrElement {
     return decodedTTLEntry;
   }
 
+  public static TTLEntry decodeInto(TTLEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    TTLEntry decodedTTLEntry = existing != null ? existing : new TTLEntry();
+    decodedTTLEntry.keyHash = Hash.decodeInto(decodedTTLEntry.keyHash, stream);
+    decodedTTLEntry.liveUntilLedgerSeq =
+        Uint32.decodeInto(decodedTTLEntry.liveUntilLedgerSeq, stream);
+    return decodedTTLEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static TTLEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TTLEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("key_hash");
+    keyHash.toJson(writer);
+    writer.name("live_until_ledger_seq");
+    liveUntilLedgerSeq.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TTLEntry fromJson(JsonReader reader) throws IOException {
+    TTLEntry decodedTTLEntry = new TTLEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "key_hash":
+          decodedTTLEntry.keyHash = Hash.fromJson(reader);
+          break;
+        case "live_until_ledger_seq":
+          decodedTTLEntry.liveUntilLedgerSeq = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TTLEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTTLEntry;
+  }
+
+  public static TTLEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
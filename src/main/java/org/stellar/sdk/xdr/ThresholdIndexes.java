@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * ThresholdIndexes's original definition in the XDR file is:
@@ -52,18 +52,63 @@ public enum ThresholdIndexes implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ThresholdIndexes fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static ThresholdIndexes fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case THRESHOLD_MASTER_WEIGHT:
+        writer.value("master_weight");
+        break;
+      case THRESHOLD_LOW:
+        writer.value("low");
+        break;
+      case THRESHOLD_MED:
+        writer.value("med");
+        break;
+      case THRESHOLD_HIGH:
+        writer.value("high");
+        break;
+    }
+  }
+
+  public static ThresholdIndexes fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "master_weight":
+        return THRESHOLD_MASTER_WEIGHT;
+      case "low":
+        return THRESHOLD_LOW;
+      case "med":
+        return THRESHOLD_MED;
+      case "high":
+        return THRESHOLD_HIGH;
+      default:
+        throw new IOException("Unknown ThresholdIndexes value: " + value);
+    }
+  }
+
+  public static ThresholdIndexes fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
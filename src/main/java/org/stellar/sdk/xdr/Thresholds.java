@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Thresholds's original definition in the XDR file is:
@@ -28,6 +28,13 @@ public class Thresholds implements XdrElement {
     stream.write(getThresholds(), 0, ThresholdsSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int ThresholdsSize = Thresholds.length;
+    size += XdrDataOutputStream.paddedSize(ThresholdsSize);
+    return size;
+  }
+
   public static Thresholds decode(XdrDataInputStream stream) throws IOException {
     Thresholds decodedThresholds = new Thresholds();
     int ThresholdsSize = 4;
@@ -36,14 +43,42 @@ public class Thresholds implements XdrElement {
     return decodedThresholds;
   }
 
+  public static Thresholds decodeInto(Thresholds existing, XdrDataInputStream stream)
+      throws IOException {
+    Thresholds decodedThresholds = existing != null ? existing : new Thresholds();
+    int ThresholdsSize = 4;
+    decodedThresholds.Thresholds = XdrRecycler.resize(decodedThresholds.Thresholds, ThresholdsSize);
+    stream.read(decodedThresholds.Thresholds, 0, ThresholdsSize);
+    return decodedThresholds;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int ThresholdsSize = 4;
+    stream.skipOpaque(ThresholdsSize);
+  }
+
   public static Thresholds fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Thresholds fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeHex(writer, Thresholds);
+  }
+
+  public static Thresholds fromJson(JsonReader reader) throws IOException {
+    Thresholds decodedThresholds = new Thresholds();
+    decodedThresholds.Thresholds = XdrJson.readHex(reader, 4);
+    return decodedThresholds;
+  }
+
+  public static Thresholds fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
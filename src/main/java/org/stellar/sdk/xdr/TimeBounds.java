@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TimeBounds's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class TimeBounds implements XdrElement {
     maxTime.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += minTime.encodedSize();
+    size += maxTime.encodedSize();
+    return size;
+  }
+
   public static TimeBounds decode(XdrDataInputStream stream) throws IOException {
     TimeBounds decodedTimeBounds = new TimeBounds();
     decodedTimeBounds.minTime = TimePoint.decode(stream);
@@ -42,14 +49,60 @@ public class TimeBounds implements XdrElement {
     return decodedTimeBounds;
   }
 
+  public static TimeBounds decodeInto(TimeBounds existing, XdrDataInputStream stream)
+      throws IOException {
+    TimeBounds decodedTimeBounds = existing != null ? existing : new TimeBounds();
+    decodedTimeBounds.minTime = TimePoint.decodeInto(decodedTimeBounds.minTime, stream);
+    decodedTimeBounds.maxTime = TimePoint.decodeInto(decodedTimeBounds.maxTime, stream);
+    return decodedTimeBounds;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    TimePoint.skip(stream);
+    TimePoint.skip(stream);
+  }
+
   public static TimeBounds fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TimeBounds fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("min_time");
+    minTime.toJson(writer);
+    writer.name("max_time");
+    maxTime.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TimeBounds fromJson(JsonReader reader) throws IOException {
+    TimeBounds decodedTimeBounds = new TimeBounds();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "min_time":
+          decodedTimeBounds.minTime = TimePoint.fromJson(reader);
+          break;
+        case "max_time":
+          decodedTimeBounds.maxTime = TimePoint.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TimeBounds field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTimeBounds;
+  }
+
+  public static TimeBounds fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TimePoint's original definition in the XDR file is:
@@ -27,20 +27,49 @@ public class TimePoint implements XdrElement {
     TimePoint.encode(stream);
   }
 
+  public int encodedSize() {
+    return TimePoint.encodedSize();
+  }
+
   public static TimePoint decode(XdrDataInputStream stream) throws IOException {
     TimePoint decodedTimePoint = new TimePoint();
     decodedTimePoint.TimePoint = Uint64.decode(stream);
     return decodedTimePoint;
   }
 
+  public static TimePoint decodeInto(TimePoint existing, XdrDataInputStream stream)
+      throws IOException {
+    TimePoint decodedTimePoint = existing != null ? existing : new TimePoint();
+    decodedTimePoint.TimePoint = Uint64.decodeInto(decodedTimePoint.TimePoint, stream);
+    return decodedTimePoint;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint64.skip(stream);
+  }
+
   public static TimePoint fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TimePoint fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    TimePoint.toJson(writer);
+  }
+
+  public static TimePoint fromJson(JsonReader reader) throws IOException {
+    TimePoint decodedTimePoint = new TimePoint();
+    decodedTimePoint.TimePoint = Uint64.fromJson(reader);
+    return decodedTimePoint;
+  }
+
+  public static TimePoint fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
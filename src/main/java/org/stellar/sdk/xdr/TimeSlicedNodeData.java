@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TimeSlicedNodeData's original definition in the XDR file is:
@@ -65,6 +65,21 @@ public class TimeSlicedNodeData implements XdrElement {
     maxOutboundPeerCount.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += addedAuthenticatedPeers.encodedSize();
+    size += droppedAuthenticatedPeers.encodedSize();
+    size += totalInboundPeerCount.encodedSize();
+    size += totalOutboundPeerCount.encodedSize();
+    size += p75SCPFirstToSelfLatencyMs.encodedSize();
+    size += p75SCPSelfToOtherLatencyMs.encodedSize();
+    size += lostSyncCount.encodedSize();
+    size += 4;
+    size += maxInboundPeerCount.encodedSize();
+    size += maxOutboundPeerCount.encodedSize();
+    return size;
+  }
+
   public static TimeSlicedNodeData decode(XdrDataInputStream stream) throws IOException {
     TimeSlicedNodeData decodedTimeSlicedNodeData = new TimeSlicedNodeData();
     decodedTimeSlicedNodeData.addedAuthenticatedPeers = Uint32.decode(stream);
@@ -80,14 +95,126 @@ public class TimeSlicedNodeData implements XdrElement {
     return decodedTimeSlicedNodeData;
   }
 
+  public static TimeSlicedNodeData decodeInto(
+      TimeSlicedNodeData existing, XdrDataInputStream stream) throws IOException {
+    TimeSlicedNodeData decodedTimeSlicedNodeData =
+        existing != null ? existing : new TimeSlicedNodeData();
+    decodedTimeSlicedNodeData.addedAuthenticatedPeers =
+        Uint32.decodeInto(decodedTimeSlicedNodeData.addedAuthenticatedPeers, stream);
+    decodedTimeSlicedNodeData.droppedAuthenticatedPeers =
+        Uint32.decodeInto(decodedTimeSlicedNodeData.droppedAuthenticatedPeers, stream);
+    decodedTimeSlicedNodeData.totalInboundPeerCount =
+        Uint32.decodeInto(decodedTimeSlicedNodeData.totalInboundPeerCount, stream);
+    decodedTimeSlicedNodeData.totalOutboundPeerCount =
+        Uint32.decodeInto(decodedTimeSlicedNodeData.totalOutboundPeerCount, stream);
+    decodedTimeSlicedNodeData.p75SCPFirstToSelfLatencyMs =
+        Uint32.decodeInto(decodedTimeSlicedNodeData.p75SCPFirstToSelfLatencyMs, stream);
+    decodedTimeSlicedNodeData.p75SCPSelfToOtherLatencyMs =
+        Uint32.decodeInto(decodedTimeSlicedNodeData.p75SCPSelfToOtherLatencyMs, stream);
+    decodedTimeSlicedNodeData.lostSyncCount =
+        Uint32.decodeInto(decodedTimeSlicedNodeData.lostSyncCount, stream);
+    decodedTimeSlicedNodeData.isValidator = stream.readInt() == 1 ? true : false;
+    decodedTimeSlicedNodeData.maxInboundPeerCount =
+        Uint32.decodeInto(decodedTimeSlicedNodeData.maxInboundPeerCount, stream);
+    decodedTimeSlicedNodeData.maxOutboundPeerCount =
+        Uint32.decodeInto(decodedTimeSlicedNodeData.maxOutboundPeerCount, stream);
+    return decodedTimeSlicedNodeData;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    stream.readXdrBoolean();
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static TimeSlicedNodeData fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TimeSlicedNodeData fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("added_authenticated_peers");
+    addedAuthenticatedPeers.toJson(writer);
+    writer.name("dropped_authenticated_peers");
+    droppedAuthenticatedPeers.toJson(writer);
+    writer.name("total_inbound_peer_count");
+    totalInboundPeerCount.toJson(writer);
+    writer.name("total_outbound_peer_count");
+    totalOutboundPeerCount.toJson(writer);
+    writer.name("p75_scp_first_to_self_latency_ms");
+    p75SCPFirstToSelfLatencyMs.toJson(writer);
+    writer.name("p75_scp_self_to_other_latency_ms");
+    p75SCPSelfToOtherLatencyMs.toJson(writer);
+    writer.name("lost_sync_count");
+    lostSyncCount.toJson(writer);
+    writer.name("is_validator");
+    writer.value(isValidator);
+    writer.name("max_inbound_peer_count");
+    maxInboundPeerCount.toJson(writer);
+    writer.name("max_outbound_peer_count");
+    maxOutboundPeerCount.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TimeSlicedNodeData fromJson(JsonReader reader) throws IOException {
+    TimeSlicedNodeData decodedTimeSlicedNodeData = new TimeSlicedNodeData();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "added_authenticated_peers":
+          decodedTimeSlicedNodeData.addedAuthenticatedPeers = Uint32.fromJson(reader);
+          break;
+        case "dropped_authenticated_peers":
+          decodedTimeSlicedNodeData.droppedAuthenticatedPeers = Uint32.fromJson(reader);
+          break;
+        case "total_inbound_peer_count":
+          decodedTimeSlicedNodeData.totalInboundPeerCount = Uint32.fromJson(reader);
+          break;
+        case "total_outbound_peer_count":
+          decodedTimeSlicedNodeData.totalOutboundPeerCount = Uint32.fromJson(reader);
+          break;
+        case "p75_scp_first_to_self_latency_ms":
+          decodedTimeSlicedNodeData.p75SCPFirstToSelfLatencyMs = Uint32.fromJson(reader);
+          break;
+        case "p75_scp_self_to_other_latency_ms":
+          decodedTimeSlicedNodeData.p75SCPSelfToOtherLatencyMs = Uint32.fromJson(reader);
+          break;
+        case "lost_sync_count":
+          decodedTimeSlicedNodeData.lostSyncCount = Uint32.fromJson(reader);
+          break;
+        case "is_validator":
+          decodedTimeSlicedNodeData.isValidator = reader.nextBoolean();
+          break;
+        case "max_inbound_peer_count":
+          decodedTimeSlicedNodeData.maxInboundPeerCount = Uint32.fromJson(reader);
+          break;
+        case "max_outbound_peer_count":
+          decodedTimeSlicedNodeData.maxOutboundPeerCount = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TimeSlicedNodeData field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTimeSlicedNodeData;
+  }
+
+  public static TimeSlicedNodeData fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TimeSlicedPeerData's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class TimeSlicedPeerData implements XdrElement {
     averageLatencyMs.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += peerStats.encodedSize();
+    size += averageLatencyMs.encodedSize();
+    return size;
+  }
+
   public static TimeSlicedPeerData decode(XdrDataInputStream stream) throws IOException {
     TimeSlicedPeerData decodedTimeSlicedPeerData = new TimeSlicedPeerData();
     decodedTimeSlicedPeerData.peerStats = PeerStats.decode(stream);
@@ -42,14 +49,63 @@ public class TimeSlicedPeerData implements XdrElement {
     return decodedTimeSlicedPeerData;
   }
 
+  public static TimeSlicedPeerData decodeInto(
+      TimeSlicedPeerData existing, XdrDataInputStream stream) throws IOException {
+    TimeSlicedPeerData decodedTimeSlicedPeerData =
+        existing != null ? existing : new TimeSlicedPeerData();
+    decodedTimeSlicedPeerData.peerStats =
+        PeerStats.decodeInto(decodedTimeSlicedPeerData.peerStats, stream);
+    decodedTimeSlicedPeerData.averageLatencyMs =
+        Uint32.decodeInto(decodedTimeSlicedPeerData.averageLatencyMs, stream);
+    return decodedTimeSlicedPeerData;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    PeerStats.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static TimeSlicedPeerData fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TimeSlicedPeerData fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("peer_stats");
+    peerStats.toJson(writer);
+    writer.name("average_latency_ms");
+    averageLatencyMs.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TimeSlicedPeerData fromJson(JsonReader reader) throws IOException {
+    TimeSlicedPeerData decodedTimeSlicedPeerData = new TimeSlicedPeerData();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "peer_stats":
+          decodedTimeSlicedPeerData.peerStats = PeerStats.fromJson(reader);
+          break;
+        case "average_latency_ms":
+          decodedTimeSlicedPeerData.averageLatencyMs = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TimeSlicedPeerData field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTimeSlicedPeerData;
+  }
+
+  public static TimeSlicedPeerData fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
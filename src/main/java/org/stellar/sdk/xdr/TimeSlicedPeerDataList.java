@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TimeSlicedPeerDataList's original definition in the XDR file is:
@@ -31,9 +31,19 @@ public class TimeSlicedPeerDataList implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int TimeSlicedPeerDataListSize = getTimeSlicedPeerDataList().length;
+    size += 4;
+    for (int i = 0; i < TimeSlicedPeerDataListSize; i++) {
+      size += TimeSlicedPeerDataList[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TimeSlicedPeerDataList decode(XdrDataInputStream stream) throws IOException {
     TimeSlicedPeerDataList decodedTimeSlicedPeerDataList = new TimeSlicedPeerDataList();
-    int TimeSlicedPeerDataListSize = stream.readInt();
+    int TimeSlicedPeerDataListSize = stream.readLength(4);
     decodedTimeSlicedPeerDataList.TimeSlicedPeerDataList =
         new TimeSlicedPeerData[TimeSlicedPeerDataListSize];
     for (int i = 0; i < TimeSlicedPeerDataListSize; i++) {
@@ -42,14 +52,54 @@ public class TimeSlicedPeerDataList implements XdrElement {
     return decodedTimeSlicedPeerDataList;
   }
 
+  public static TimeSlicedPeerDataList decodeInto(
+      TimeSlicedPeerDataList existing, XdrDataInputStream stream) throws IOException {
+    TimeSlicedPeerDataList decodedTimeSlicedPeerDataList =
+        existing != null ? existing : new TimeSlicedPeerDataList();
+    int TimeSlicedPeerDataListSize = stream.readLength(4);
+    decodedTimeSlicedPeerDataList.TimeSlicedPeerDataList =
+        XdrRecycler.resize(
+            decodedTimeSlicedPeerDataList.TimeSlicedPeerDataList,
+            TimeSlicedPeerDataListSize,
+            TimeSlicedPeerData[]::new);
+    for (int i = 0; i < TimeSlicedPeerDataListSize; i++) {
+      decodedTimeSlicedPeerDataList.TimeSlicedPeerDataList[i] =
+          TimeSlicedPeerData.decodeInto(
+              decodedTimeSlicedPeerDataList.TimeSlicedPeerDataList[i], stream);
+    }
+    return decodedTimeSlicedPeerDataList;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int TimeSlicedPeerDataListSize = stream.readLength(25, 4);
+    for (int i = 0; i < TimeSlicedPeerDataListSize; i++) {
+      TimeSlicedPeerData.skip(stream);
+    }
+  }
+
   public static TimeSlicedPeerDataList fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TimeSlicedPeerDataList fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeArray(writer, TimeSlicedPeerDataList);
+  }
+
+  public static TimeSlicedPeerDataList fromJson(JsonReader reader) throws IOException {
+    TimeSlicedPeerDataList decodedTimeSlicedPeerDataList = new TimeSlicedPeerDataList();
+    decodedTimeSlicedPeerDataList.TimeSlicedPeerDataList =
+        XdrJson.readArray(reader, TimeSlicedPeerData[]::new, TimeSlicedPeerData::fromJson);
+    return decodedTimeSlicedPeerDataList;
+  }
+
+  public static TimeSlicedPeerDataList fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TimeSlicedSurveyRequestMessage's original definition in the XDR file is:
@@ -41,6 +41,15 @@ public class TimeSlicedSurveyRequestMessage implements XdrElement {
     outboundPeersIndex.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += request.encodedSize();
+    size += nonce.encodedSize();
+    size += inboundPeersIndex.encodedSize();
+    size += outboundPeersIndex.encodedSize();
+    return size;
+  }
+
   public static TimeSlicedSurveyRequestMessage decode(XdrDataInputStream stream)
       throws IOException {
     TimeSlicedSurveyRequestMessage decodedTimeSlicedSurveyRequestMessage =
@@ -52,14 +61,80 @@ public class TimeSlicedSurveyRequestMessage implements XdrElement {
     return decodedTimeSlicedSurveyRequestMessage;
   }
 
+  public static TimeSlicedSurveyRequestMessage decodeInto(
+      TimeSlicedSurveyRequestMessage existing, XdrDataInputStream stream) throws IOException {
+    TimeSlicedSurveyRequestMessage decodedTimeSlicedSurveyRequestMessage =
+        existing != null ? existing : new TimeSlicedSurveyRequestMessage();
+    decodedTimeSlicedSurveyRequestMessage.request =
+        SurveyRequestMessage.decodeInto(decodedTimeSlicedSurveyRequestMessage.request, stream);
+    decodedTimeSlicedSurveyRequestMessage.nonce =
+        Uint32.decodeInto(decodedTimeSlicedSurveyRequestMessage.nonce, stream);
+    decodedTimeSlicedSurveyRequestMessage.inboundPeersIndex =
+        Uint32.decodeInto(decodedTimeSlicedSurveyRequestMessage.inboundPeersIndex, stream);
+    decodedTimeSlicedSurveyRequestMessage.outboundPeersIndex =
+        Uint32.decodeInto(decodedTimeSlicedSurveyRequestMessage.outboundPeersIndex, stream);
+    return decodedTimeSlicedSurveyRequestMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SurveyRequestMessage.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static TimeSlicedSurveyRequestMessage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TimeSlicedSurveyRequestMessage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("request");
+    request.toJson(writer);
+    writer.name("nonce");
+    nonce.toJson(writer);
+    writer.name("inbound_peers_index");
+    inboundPeersIndex.toJson(writer);
+    writer.name("outbound_peers_index");
+    outboundPeersIndex.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TimeSlicedSurveyRequestMessage fromJson(JsonReader reader) throws IOException {
+    TimeSlicedSurveyRequestMessage decodedTimeSlicedSurveyRequestMessage =
+        new TimeSlicedSurveyRequestMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "request":
+          decodedTimeSlicedSurveyRequestMessage.request = SurveyRequestMessage.fromJson(reader);
+          break;
+        case "nonce":
+          decodedTimeSlicedSurveyRequestMessage.nonce = Uint32.fromJson(reader);
+          break;
+        case "inbound_peers_index":
+          decodedTimeSlicedSurveyRequestMessage.inboundPeersIndex = Uint32.fromJson(reader);
+          break;
+        case "outbound_peers_index":
+          decodedTimeSlicedSurveyRequestMessage.outboundPeersIndex = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TimeSlicedSurveyRequestMessage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTimeSlicedSurveyRequestMessage;
+  }
+
+  public static TimeSlicedSurveyRequestMessage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TimeSlicedSurveyResponseMessage's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class TimeSlicedSurveyResponseMessage implements XdrElement {
     nonce.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += response.encodedSize();
+    size += nonce.encodedSize();
+    return size;
+  }
+
   public static TimeSlicedSurveyResponseMessage decode(XdrDataInputStream stream)
       throws IOException {
     TimeSlicedSurveyResponseMessage decodedTimeSlicedSurveyResponseMessage =
@@ -44,14 +51,64 @@ public class TimeSlicedSurveyResponseMessage implements XdrElement {
     return decodedTimeSlicedSurveyResponseMessage;
   }
 
+  public static TimeSlicedSurveyResponseMessage decodeInto(
+      TimeSlicedSurveyResponseMessage existing, XdrDataInputStream stream) throws IOException {
+    TimeSlicedSurveyResponseMessage decodedTimeSlicedSurveyResponseMessage =
+        existing != null ? existing : new TimeSlicedSurveyResponseMessage();
+    decodedTimeSlicedSurveyResponseMessage.response =
+        SurveyResponseMessage.decodeInto(decodedTimeSlicedSurveyResponseMessage.response, stream);
+    decodedTimeSlicedSurveyResponseMessage.nonce =
+        Uint32.decodeInto(decodedTimeSlicedSurveyResponseMessage.nonce, stream);
+    return decodedTimeSlicedSurveyResponseMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    SurveyResponseMessage.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static TimeSlicedSurveyResponseMessage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TimeSlicedSurveyResponseMessage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("response");
+    response.toJson(writer);
+    writer.name("nonce");
+    nonce.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TimeSlicedSurveyResponseMessage fromJson(JsonReader reader) throws IOException {
+    TimeSlicedSurveyResponseMessage decodedTimeSlicedSurveyResponseMessage =
+        new TimeSlicedSurveyResponseMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "response":
+          decodedTimeSlicedSurveyResponseMessage.response = SurveyResponseMessage.fromJson(reader);
+          break;
+        case "nonce":
+          decodedTimeSlicedSurveyResponseMessage.nonce = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TimeSlicedSurveyResponseMessage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTimeSlicedSurveyResponseMessage;
+  }
+
+  public static TimeSlicedSurveyResponseMessage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
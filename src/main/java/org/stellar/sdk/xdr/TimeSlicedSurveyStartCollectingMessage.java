@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TimeSlicedSurveyStartCollectingMessage's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class TimeSlicedSurveyStartCollectingMessage implements XdrElement {
     ledgerNum.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += surveyorID.encodedSize();
+    size += nonce.encodedSize();
+    size += ledgerNum.encodedSize();
+    return size;
+  }
+
   public static TimeSlicedSurveyStartCollectingMessage decode(XdrDataInputStream stream)
       throws IOException {
     TimeSlicedSurveyStartCollectingMessage decodedTimeSlicedSurveyStartCollectingMessage =
@@ -48,16 +56,76 @@ public class TimeSlicedSurveyStartCollectingMessage implements XdrElement {
     return decodedTimeSlicedSurveyStartCollectingMessage;
   }
 
+  public static TimeSlicedSurveyStartCollectingMessage decodeInto(
+      TimeSlicedSurveyStartCollectingMessage existing, XdrDataInputStream stream)
+      throws IOException {
+    TimeSlicedSurveyStartCollectingMessage decodedTimeSlicedSurveyStartCollectingMessage =
+        existing != null ? existing : new TimeSlicedSurveyStartCollectingMessage();
+    decodedTimeSlicedSurveyStartCollectingMessage.surveyorID =
+        NodeID.decodeInto(decodedTimeSlicedSurveyStartCollectingMessage.surveyorID, stream);
+    decodedTimeSlicedSurveyStartCollectingMessage.nonce =
+        Uint32.decodeInto(decodedTimeSlicedSurveyStartCollectingMessage.nonce, stream);
+    decodedTimeSlicedSurveyStartCollectingMessage.ledgerNum =
+        Uint32.decodeInto(decodedTimeSlicedSurveyStartCollectingMessage.ledgerNum, stream);
+    return decodedTimeSlicedSurveyStartCollectingMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    NodeID.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static TimeSlicedSurveyStartCollectingMessage fromXdrBase64(String xdr)
       throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TimeSlicedSurveyStartCollectingMessage fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("surveyor_id");
+    surveyorID.toJson(writer);
+    writer.name("nonce");
+    nonce.toJson(writer);
+    writer.name("ledger_num");
+    ledgerNum.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TimeSlicedSurveyStartCollectingMessage fromJson(JsonReader reader)
+      throws IOException {
+    TimeSlicedSurveyStartCollectingMessage decodedTimeSlicedSurveyStartCollectingMessage =
+        new TimeSlicedSurveyStartCollectingMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "surveyor_id":
+          decodedTimeSlicedSurveyStartCollectingMessage.surveyorID = NodeID.fromJson(reader);
+          break;
+        case "nonce":
+          decodedTimeSlicedSurveyStartCollectingMessage.nonce = Uint32.fromJson(reader);
+          break;
+        case "ledger_num":
+          decodedTimeSlicedSurveyStartCollectingMessage.ledgerNum = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TimeSlicedSurveyStartCollectingMessage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTimeSlicedSurveyStartCollectingMessage;
+  }
+
+  public static TimeSlicedSurveyStartCollectingMessage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TimeSlicedSurveyStopCollectingMessage's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class TimeSlicedSurveyStopCollectingMessage implements XdrElement {
     ledgerNum.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += surveyorID.encodedSize();
+    size += nonce.encodedSize();
+    size += ledgerNum.encodedSize();
+    return size;
+  }
+
   public static TimeSlicedSurveyStopCollectingMessage decode(XdrDataInputStream stream)
       throws IOException {
     TimeSlicedSurveyStopCollectingMessage decodedTimeSlicedSurveyStopCollectingMessage =
@@ -48,15 +56,75 @@ public class TimeSlicedSurveyStopCollectingMessage implements XdrElement {
     return decodedTimeSlicedSurveyStopCollectingMessage;
   }
 
+  public static TimeSlicedSurveyStopCollectingMessage decodeInto(
+      TimeSlicedSurveyStopCollectingMessage existing, XdrDataInputStream stream)
+      throws IOException {
+    TimeSlicedSurveyStopCollectingMessage decodedTimeSlicedSurveyStopCollectingMessage =
+        existing != null ? existing : new TimeSlicedSurveyStopCollectingMessage();
+    decodedTimeSlicedSurveyStopCollectingMessage.surveyorID =
+        NodeID.decodeInto(decodedTimeSlicedSurveyStopCollectingMessage.surveyorID, stream);
+    decodedTimeSlicedSurveyStopCollectingMessage.nonce =
+        Uint32.decodeInto(decodedTimeSlicedSurveyStopCollectingMessage.nonce, stream);
+    decodedTimeSlicedSurveyStopCollectingMessage.ledgerNum =
+        Uint32.decodeInto(decodedTimeSlicedSurveyStopCollectingMessage.ledgerNum, stream);
+    return decodedTimeSlicedSurveyStopCollectingMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    NodeID.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+
   public static TimeSlicedSurveyStopCollectingMessage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TimeSlicedSurveyStopCollectingMessage fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("surveyor_id");
+    surveyorID.toJson(writer);
+    writer.name("nonce");
+    nonce.toJson(writer);
+    writer.name("ledger_num");
+    ledgerNum.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TimeSlicedSurveyStopCollectingMessage fromJson(JsonReader reader)
+      throws IOException {
+    TimeSlicedSurveyStopCollectingMessage decodedTimeSlicedSurveyStopCollectingMessage =
+        new TimeSlicedSurveyStopCollectingMessage();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "surveyor_id":
+          decodedTimeSlicedSurveyStopCollectingMessage.surveyorID = NodeID.fromJson(reader);
+          break;
+        case "nonce":
+          decodedTimeSlicedSurveyStopCollectingMessage.nonce = Uint32.fromJson(reader);
+          break;
+        case "ledger_num":
+          decodedTimeSlicedSurveyStopCollectingMessage.ledgerNum = Uint32.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TimeSlicedSurveyStopCollectingMessage field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTimeSlicedSurveyStopCollectingMessage;
+  }
+
+  public static TimeSlicedSurveyStopCollectingMessage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
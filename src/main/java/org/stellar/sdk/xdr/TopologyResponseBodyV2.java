@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TopologyResponseBodyV2's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class TopologyResponseBodyV2 implements XdrElement {
     nodeData.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += inboundPeers.encodedSize();
+    size += outboundPeers.encodedSize();
+    size += nodeData.encodedSize();
+    return size;
+  }
+
   public static TopologyResponseBodyV2 decode(XdrDataInputStream stream) throws IOException {
     TopologyResponseBodyV2 decodedTopologyResponseBodyV2 = new TopologyResponseBodyV2();
     decodedTopologyResponseBodyV2.inboundPeers = TimeSlicedPeerDataList.decode(stream);
@@ -46,14 +54,71 @@ public class TopologyResponseBodyV2 implements XdrElement {
     return decodedTopologyResponseBodyV2;
   }
 
+  public static TopologyResponseBodyV2 decodeInto(
+      TopologyResponseBodyV2 existing, XdrDataInputStream stream) throws IOException {
+    TopologyResponseBodyV2 decodedTopologyResponseBodyV2 =
+        existing != null ? existing : new TopologyResponseBodyV2();
+    decodedTopologyResponseBodyV2.inboundPeers =
+        TimeSlicedPeerDataList.decodeInto(decodedTopologyResponseBodyV2.inboundPeers, stream);
+    decodedTopologyResponseBodyV2.outboundPeers =
+        TimeSlicedPeerDataList.decodeInto(decodedTopologyResponseBodyV2.outboundPeers, stream);
+    decodedTopologyResponseBodyV2.nodeData =
+        TimeSlicedNodeData.decodeInto(decodedTopologyResponseBodyV2.nodeData, stream);
+    return decodedTopologyResponseBodyV2;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    TimeSlicedPeerDataList.skip(stream);
+    TimeSlicedPeerDataList.skip(stream);
+    TimeSlicedNodeData.skip(stream);
+  }
+
   public static TopologyResponseBodyV2 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TopologyResponseBodyV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("inbound_peers");
+    inboundPeers.toJson(writer);
+    writer.name("outbound_peers");
+    outboundPeers.toJson(writer);
+    writer.name("node_data");
+    nodeData.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TopologyResponseBodyV2 fromJson(JsonReader reader) throws IOException {
+    TopologyResponseBodyV2 decodedTopologyResponseBodyV2 = new TopologyResponseBodyV2();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "inbound_peers":
+          decodedTopologyResponseBodyV2.inboundPeers = TimeSlicedPeerDataList.fromJson(reader);
+          break;
+        case "outbound_peers":
+          decodedTopologyResponseBodyV2.outboundPeers = TimeSlicedPeerDataList.fromJson(reader);
+          break;
+        case "node_data":
+          decodedTopologyResponseBodyV2.nodeData = TimeSlicedNodeData.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TopologyResponseBodyV2 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTopologyResponseBodyV2;
+  }
+
+  public static TopologyResponseBodyV2 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
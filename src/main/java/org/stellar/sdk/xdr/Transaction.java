@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Transaction's original definition in the XDR file is:
@@ -71,6 +72,22 @@ public class Transaction implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += sourceAccount.encodedSize();
+    size += fee.encodedSize();
+    size += seqNum.encodedSize();
+    size += cond.encodedSize();
+    size += memo.encodedSize();
+    int operationsSize = getOperations().length;
+    size += 4;
+    for (int i = 0; i < operationsSize; i++) {
+      size += operations[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static Transaction decode(XdrDataInputStream stream) throws IOException {
     Transaction decodedTransaction = new Transaction();
     decodedTransaction.sourceAccount = MuxedAccount.decode(stream);
@@ -78,7 +95,7 @@ public class Transaction implements XdrElement {
     decodedTransaction.seqNum = SequenceNumber.decode(stream);
     decodedTransaction.cond = Preconditions.decode(stream);
     decodedTransaction.memo = Memo.decode(stream);
-    int operationsSize = stream.readInt();
+    int operationsSize = stream.readLength(4);
     decodedTransaction.operations = new Operation[operationsSize];
     for (int i = 0; i < operationsSize; i++) {
       decodedTransaction.operations[i] = Operation.decode(stream);
@@ -87,17 +104,109 @@ public class Transaction implements XdrElement {
     return decodedTransaction;
   }
 
+  public static Transaction decodeInto(Transaction existing, XdrDataInputStream stream)
+      throws IOException {
+    Transaction decodedTransaction = existing != null ? existing : new Transaction();
+    decodedTransaction.sourceAccount =
+        MuxedAccount.decodeInto(decodedTransaction.sourceAccount, stream);
+    decodedTransaction.fee = Uint32.decodeInto(decodedTransaction.fee, stream);
+    decodedTransaction.seqNum = SequenceNumber.decodeInto(decodedTransaction.seqNum, stream);
+    decodedTransaction.cond = Preconditions.decodeInto(decodedTransaction.cond, stream);
+    decodedTransaction.memo = Memo.decodeInto(decodedTransaction.memo, stream);
+    int operationsSize = stream.readLength(4);
+    decodedTransaction.operations =
+        XdrRecycler.resize(decodedTransaction.operations, operationsSize, Operation[]::new);
+    for (int i = 0; i < operationsSize; i++) {
+      decodedTransaction.operations[i] =
+          Operation.decodeInto(decodedTransaction.operations[i], stream);
+    }
+    decodedTransaction.ext = TransactionExt.decodeInto(decodedTransaction.ext, stream);
+    return decodedTransaction;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    MuxedAccount.skip(stream);
+    Uint32.skip(stream);
+    SequenceNumber.skip(stream);
+    Preconditions.skip(stream);
+    Memo.skip(stream);
+    int operationsSize = stream.readLength(100, 4);
+    for (int i = 0; i < operationsSize; i++) {
+      Operation.skip(stream);
+    }
+    TransactionExt.skip(stream);
+  }
+
   public static Transaction fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Transaction fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("source_account");
+    sourceAccount.toJson(writer);
+    writer.name("fee");
+    fee.toJson(writer);
+    writer.name("seq_num");
+    seqNum.toJson(writer);
+    writer.name("cond");
+    cond.toJson(writer);
+    writer.name("memo");
+    memo.toJson(writer);
+    writer.name("operations");
+    XdrJson.writeArray(writer, operations);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static Transaction fromJson(JsonReader reader) throws IOException {
+    Transaction decodedTransaction = new Transaction();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "source_account":
+          decodedTransaction.sourceAccount = MuxedAccount.fromJson(reader);
+          break;
+        case "fee":
+          decodedTransaction.fee = Uint32.fromJson(reader);
+          break;
+        case "seq_num":
+          decodedTransaction.seqNum = SequenceNumber.fromJson(reader);
+          break;
+        case "cond":
+          decodedTransaction.cond = Preconditions.fromJson(reader);
+          break;
+        case "memo":
+          decodedTransaction.memo = Memo.fromJson(reader);
+          break;
+        case "operations":
+          decodedTransaction.operations =
+              XdrJson.readArray(reader, Operation[]::new, Operation::fromJson);
+          break;
+        case "ext":
+          decodedTransaction.ext = TransactionExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown Transaction field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransaction;
+  }
+
+  public static Transaction fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * TransactionExt's original definition in the XDR file is:
    *
@@ -130,6 +239,19 @@ public class Transaction implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += sorobanData.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static TransactionExt decode(XdrDataInputStream stream) throws IOException {
       TransactionExt decodedTransactionExt = new TransactionExt();
       Integer discriminant = stream.readInt();
@@ -144,15 +266,92 @@ public class Transaction implements XdrElement {
       return decodedTransactionExt;
     }
 
+    public static TransactionExt decodeInto(TransactionExt existing, XdrDataInputStream stream)
+        throws IOException {
+      Integer discriminant = stream.readInt();
+      TransactionExt decodedTransactionExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new TransactionExt();
+      decodedTransactionExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          decodedTransactionExt.sorobanData =
+              SorobanTransactionData.decodeInto(decodedTransactionExt.sorobanData, stream);
+          break;
+      }
+      return decodedTransactionExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          SorobanTransactionData.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown TransactionExt discriminant: " + discriminant);
+      }
+    }
+
     public static TransactionExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static TransactionExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 1:
+          writer.beginObject();
+          writer.name("v1");
+          sorobanData.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static TransactionExt fromJson(JsonReader reader) throws IOException {
+      TransactionExt decodedTransactionExt = new TransactionExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedTransactionExt.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown TransactionExt arm: " + key);
+        }
+        return decodedTransactionExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v1":
+          decodedTransactionExt.setDiscriminant(1);
+          decodedTransactionExt.sorobanData = SorobanTransactionData.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedTransactionExt;
+    }
+
+    public static TransactionExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
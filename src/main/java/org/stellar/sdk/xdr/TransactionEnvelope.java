@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionEnvelope's original definition in the XDR file is:
@@ -51,6 +51,23 @@ public class TransactionEnvelope implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case ENVELOPE_TYPE_TX_V0:
+        size += v0.encodedSize();
+        break;
+      case ENVELOPE_TYPE_TX:
+        size += v1.encodedSize();
+        break;
+      case ENVELOPE_TYPE_TX_FEE_BUMP:
+        size += feeBump.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static TransactionEnvelope decode(XdrDataInputStream stream) throws IOException {
     TransactionEnvelope decodedTransactionEnvelope = new TransactionEnvelope();
     EnvelopeType discriminant = EnvelopeType.decode(stream);
@@ -69,14 +86,107 @@ public class TransactionEnvelope implements XdrElement {
     return decodedTransactionEnvelope;
   }
 
+  public static TransactionEnvelope decodeInto(
+      TransactionEnvelope existing, XdrDataInputStream stream) throws IOException {
+    EnvelopeType discriminant = EnvelopeType.decode(stream);
+    TransactionEnvelope decodedTransactionEnvelope =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new TransactionEnvelope();
+    decodedTransactionEnvelope.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case ENVELOPE_TYPE_TX_V0:
+        decodedTransactionEnvelope.v0 =
+            TransactionV0Envelope.decodeInto(decodedTransactionEnvelope.v0, stream);
+        break;
+      case ENVELOPE_TYPE_TX:
+        decodedTransactionEnvelope.v1 =
+            TransactionV1Envelope.decodeInto(decodedTransactionEnvelope.v1, stream);
+        break;
+      case ENVELOPE_TYPE_TX_FEE_BUMP:
+        decodedTransactionEnvelope.feeBump =
+            FeeBumpTransactionEnvelope.decodeInto(decodedTransactionEnvelope.feeBump, stream);
+        break;
+    }
+    return decodedTransactionEnvelope;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    EnvelopeType discriminant = EnvelopeType.decode(stream);
+    switch (discriminant) {
+      case ENVELOPE_TYPE_TX_V0:
+        TransactionV0Envelope.skip(stream);
+        break;
+      case ENVELOPE_TYPE_TX:
+        TransactionV1Envelope.skip(stream);
+        break;
+      case ENVELOPE_TYPE_TX_FEE_BUMP:
+        FeeBumpTransactionEnvelope.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown TransactionEnvelope discriminant: " + discriminant);
+    }
+  }
+
   public static TransactionEnvelope fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionEnvelope fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case ENVELOPE_TYPE_TX_V0:
+        writer.beginObject();
+        writer.name("tx_v0");
+        v0.toJson(writer);
+        writer.endObject();
+        break;
+      case ENVELOPE_TYPE_TX:
+        writer.beginObject();
+        writer.name("tx");
+        v1.toJson(writer);
+        writer.endObject();
+        break;
+      case ENVELOPE_TYPE_TX_FEE_BUMP:
+        writer.beginObject();
+        writer.name("tx_fee_bump");
+        feeBump.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static TransactionEnvelope fromJson(JsonReader reader) throws IOException {
+    TransactionEnvelope decodedTransactionEnvelope = new TransactionEnvelope();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "tx_v0":
+        decodedTransactionEnvelope.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_TX_V0);
+        decodedTransactionEnvelope.v0 = TransactionV0Envelope.fromJson(reader);
+        break;
+      case "tx":
+        decodedTransactionEnvelope.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_TX);
+        decodedTransactionEnvelope.v1 = TransactionV1Envelope.fromJson(reader);
+        break;
+      case "tx_fee_bump":
+        decodedTransactionEnvelope.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_TX_FEE_BUMP);
+        decodedTransactionEnvelope.feeBump = FeeBumpTransactionEnvelope.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown TransactionEnvelope arm: " + key);
+    }
+    reader.endObject();
+    return decodedTransactionEnvelope;
+  }
+
+  public static TransactionEnvelope fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
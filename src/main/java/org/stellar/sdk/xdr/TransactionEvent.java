@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionEvent's original definition in the XDR file is:
@@ -34,6 +34,13 @@ public class TransactionEvent implements XdrElement {
     event.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += stage.encodedSize();
+    size += event.encodedSize();
+    return size;
+  }
+
   public static TransactionEvent decode(XdrDataInputStream stream) throws IOException {
     TransactionEvent decodedTransactionEvent = new TransactionEvent();
     decodedTransactionEvent.stage = TransactionEventStage.decode(stream);
@@ -41,14 +48,60 @@ public class TransactionEvent implements XdrElement {
     return decodedTransactionEvent;
   }
 
+  public static TransactionEvent decodeInto(TransactionEvent existing, XdrDataInputStream stream)
+      throws IOException {
+    TransactionEvent decodedTransactionEvent = existing != null ? existing : new TransactionEvent();
+    decodedTransactionEvent.stage = TransactionEventStage.decode(stream);
+    decodedTransactionEvent.event = ContractEvent.decodeInto(decodedTransactionEvent.event, stream);
+    return decodedTransactionEvent;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    TransactionEventStage.skip(stream);
+    ContractEvent.skip(stream);
+  }
+
   public static TransactionEvent fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionEvent fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("stage");
+    stage.toJson(writer);
+    writer.name("event");
+    event.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TransactionEvent fromJson(JsonReader reader) throws IOException {
+    TransactionEvent decodedTransactionEvent = new TransactionEvent();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "stage":
+          decodedTransactionEvent.stage = TransactionEventStage.fromJson(reader);
+          break;
+        case "event":
+          decodedTransactionEvent.event = ContractEvent.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionEvent field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionEvent;
+  }
+
+  public static TransactionEvent fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionEventStage's original definition in the XDR file is:
@@ -53,18 +53,58 @@ public enum TransactionEventStage implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static TransactionEventStage fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionEventStage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case TRANSACTION_EVENT_STAGE_BEFORE_ALL_TXS:
+        writer.value("before_all_txs");
+        break;
+      case TRANSACTION_EVENT_STAGE_AFTER_TX:
+        writer.value("after_tx");
+        break;
+      case TRANSACTION_EVENT_STAGE_AFTER_ALL_TXS:
+        writer.value("after_all_txs");
+        break;
+    }
+  }
+
+  public static TransactionEventStage fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "before_all_txs":
+        return TRANSACTION_EVENT_STAGE_BEFORE_ALL_TXS;
+      case "after_tx":
+        return TRANSACTION_EVENT_STAGE_AFTER_TX;
+      case "after_all_txs":
+        return TRANSACTION_EVENT_STAGE_AFTER_ALL_TXS;
+      default:
+        throw new IOException("Unknown TransactionEventStage value: " + value);
+    }
+  }
+
+  public static TransactionEventStage fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
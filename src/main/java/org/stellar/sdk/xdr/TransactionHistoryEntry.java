@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionHistoryEntry's original definition in the XDR file is:
@@ -47,6 +48,14 @@ public class TransactionHistoryEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerSeq.encodedSize();
+    size += txSet.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static TransactionHistoryEntry decode(XdrDataInputStream stream) throws IOException {
     TransactionHistoryEntry decodedTransactionHistoryEntry = new TransactionHistoryEntry();
     decodedTransactionHistoryEntry.ledgerSeq = Uint32.decode(stream);
@@ -55,17 +64,74 @@ public class TransactionHistoryEntry implements XdrElement {
     return decodedTransactionHistoryEntry;
   }
 
+  public static TransactionHistoryEntry decodeInto(
+      TransactionHistoryEntry existing, XdrDataInputStream stream) throws IOException {
+    TransactionHistoryEntry decodedTransactionHistoryEntry =
+        existing != null ? existing : new TransactionHistoryEntry();
+    decodedTransactionHistoryEntry.ledgerSeq =
+        Uint32.decodeInto(decodedTransactionHistoryEntry.ledgerSeq, stream);
+    decodedTransactionHistoryEntry.txSet =
+        TransactionSet.decodeInto(decodedTransactionHistoryEntry.txSet, stream);
+    decodedTransactionHistoryEntry.ext =
+        TransactionHistoryEntryExt.decodeInto(decodedTransactionHistoryEntry.ext, stream);
+    return decodedTransactionHistoryEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    TransactionSet.skip(stream);
+    TransactionHistoryEntryExt.skip(stream);
+  }
+
   public static TransactionHistoryEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionHistoryEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_seq");
+    ledgerSeq.toJson(writer);
+    writer.name("tx_set");
+    txSet.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TransactionHistoryEntry fromJson(JsonReader reader) throws IOException {
+    TransactionHistoryEntry decodedTransactionHistoryEntry = new TransactionHistoryEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_seq":
+          decodedTransactionHistoryEntry.ledgerSeq = Uint32.fromJson(reader);
+          break;
+        case "tx_set":
+          decodedTransactionHistoryEntry.txSet = TransactionSet.fromJson(reader);
+          break;
+        case "ext":
+          decodedTransactionHistoryEntry.ext = TransactionHistoryEntryExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionHistoryEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionHistoryEntry;
+  }
+
+  public static TransactionHistoryEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * TransactionHistoryEntryExt's original definition in the XDR file is:
    *
@@ -98,6 +164,19 @@ public class TransactionHistoryEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += generalizedTxSet.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static TransactionHistoryEntryExt decode(XdrDataInputStream stream) throws IOException {
       TransactionHistoryEntryExt decodedTransactionHistoryEntryExt =
           new TransactionHistoryEntryExt();
@@ -114,15 +193,95 @@ public class TransactionHistoryEntry implements XdrElement {
       return decodedTransactionHistoryEntryExt;
     }
 
+    public static TransactionHistoryEntryExt decodeInto(
+        TransactionHistoryEntryExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      TransactionHistoryEntryExt decodedTransactionHistoryEntryExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new TransactionHistoryEntryExt();
+      decodedTransactionHistoryEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          decodedTransactionHistoryEntryExt.generalizedTxSet =
+              GeneralizedTransactionSet.decodeInto(
+                  decodedTransactionHistoryEntryExt.generalizedTxSet, stream);
+          break;
+      }
+      return decodedTransactionHistoryEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          GeneralizedTransactionSet.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown TransactionHistoryEntryExt discriminant: " + discriminant);
+      }
+    }
+
     public static TransactionHistoryEntryExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static TransactionHistoryEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 1:
+          writer.beginObject();
+          writer.name("v1");
+          generalizedTxSet.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static TransactionHistoryEntryExt fromJson(JsonReader reader) throws IOException {
+      TransactionHistoryEntryExt decodedTransactionHistoryEntryExt =
+          new TransactionHistoryEntryExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedTransactionHistoryEntryExt.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown TransactionHistoryEntryExt arm: " + key);
+        }
+        return decodedTransactionHistoryEntryExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v1":
+          decodedTransactionHistoryEntryExt.setDiscriminant(1);
+          decodedTransactionHistoryEntryExt.generalizedTxSet =
+              GeneralizedTransactionSet.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionHistoryEntryExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedTransactionHistoryEntryExt;
+    }
+
+    public static TransactionHistoryEntryExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionHistoryResultEntry's original definition in the XDR file is:
@@ -45,6 +45,14 @@ public class TransactionHistoryResultEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerSeq.encodedSize();
+    size += txResultSet.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static TransactionHistoryResultEntry decode(XdrDataInputStream stream) throws IOException {
     TransactionHistoryResultEntry decodedTransactionHistoryResultEntry =
         new TransactionHistoryResultEntry();
@@ -54,17 +62,77 @@ public class TransactionHistoryResultEntry implements XdrElement {
     return decodedTransactionHistoryResultEntry;
   }
 
+  public static TransactionHistoryResultEntry decodeInto(
+      TransactionHistoryResultEntry existing, XdrDataInputStream stream) throws IOException {
+    TransactionHistoryResultEntry decodedTransactionHistoryResultEntry =
+        existing != null ? existing : new TransactionHistoryResultEntry();
+    decodedTransactionHistoryResultEntry.ledgerSeq =
+        Uint32.decodeInto(decodedTransactionHistoryResultEntry.ledgerSeq, stream);
+    decodedTransactionHistoryResultEntry.txResultSet =
+        TransactionResultSet.decodeInto(decodedTransactionHistoryResultEntry.txResultSet, stream);
+    decodedTransactionHistoryResultEntry.ext =
+        TransactionHistoryResultEntryExt.decodeInto(
+            decodedTransactionHistoryResultEntry.ext, stream);
+    return decodedTransactionHistoryResultEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint32.skip(stream);
+    TransactionResultSet.skip(stream);
+    TransactionHistoryResultEntryExt.skip(stream);
+  }
+
   public static TransactionHistoryResultEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionHistoryResultEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ledger_seq");
+    ledgerSeq.toJson(writer);
+    writer.name("tx_result_set");
+    txResultSet.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TransactionHistoryResultEntry fromJson(JsonReader reader) throws IOException {
+    TransactionHistoryResultEntry decodedTransactionHistoryResultEntry =
+        new TransactionHistoryResultEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ledger_seq":
+          decodedTransactionHistoryResultEntry.ledgerSeq = Uint32.fromJson(reader);
+          break;
+        case "tx_result_set":
+          decodedTransactionHistoryResultEntry.txResultSet = TransactionResultSet.fromJson(reader);
+          break;
+        case "ext":
+          decodedTransactionHistoryResultEntry.ext =
+              TransactionHistoryResultEntryExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionHistoryResultEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionHistoryResultEntry;
+  }
+
+  public static TransactionHistoryResultEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * TransactionHistoryResultEntryExt's original definition in the XDR file is:
    *
@@ -91,6 +159,16 @@ public class TransactionHistoryResultEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static TransactionHistoryResultEntryExt decode(XdrDataInputStream stream)
         throws IOException {
       TransactionHistoryResultEntryExt decodedTransactionHistoryResultEntryExt =
@@ -104,15 +182,67 @@ public class TransactionHistoryResultEntry implements XdrElement {
       return decodedTransactionHistoryResultEntryExt;
     }
 
+    public static TransactionHistoryResultEntryExt decodeInto(
+        TransactionHistoryResultEntryExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      TransactionHistoryResultEntryExt decodedTransactionHistoryResultEntryExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new TransactionHistoryResultEntryExt();
+      decodedTransactionHistoryResultEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedTransactionHistoryResultEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException(
+              "Unknown TransactionHistoryResultEntryExt discriminant: " + discriminant);
+      }
+    }
+
     public static TransactionHistoryResultEntryExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static TransactionHistoryResultEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static TransactionHistoryResultEntryExt fromJson(JsonReader reader) throws IOException {
+      TransactionHistoryResultEntryExt decodedTransactionHistoryResultEntryExt =
+          new TransactionHistoryResultEntryExt();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedTransactionHistoryResultEntryExt.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown TransactionHistoryResultEntryExt arm: " + key);
+      }
+      return decodedTransactionHistoryResultEntryExt;
+    }
+
+    public static TransactionHistoryResultEntryExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
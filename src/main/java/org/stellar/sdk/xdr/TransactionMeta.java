@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionMeta's original definition in the XDR file is:
@@ -67,13 +67,40 @@ public class TransactionMeta implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case 0:
+        int operationsSize = getOperations().length;
+        size += 4;
+        for (int i = 0; i < operationsSize; i++) {
+          size += operations[i].encodedSize();
+        }
+        break;
+      case 1:
+        size += v1.encodedSize();
+        break;
+      case 2:
+        size += v2.encodedSize();
+        break;
+      case 3:
+        size += v3.encodedSize();
+        break;
+      case 4:
+        size += v4.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static TransactionMeta decode(XdrDataInputStream stream) throws IOException {
     TransactionMeta decodedTransactionMeta = new TransactionMeta();
     Integer discriminant = stream.readInt();
     decodedTransactionMeta.setDiscriminant(discriminant);
     switch (decodedTransactionMeta.getDiscriminant()) {
       case 0:
-        int operationsSize = stream.readInt();
+        int operationsSize = stream.readLength(4);
         decodedTransactionMeta.operations = new OperationMeta[operationsSize];
         for (int i = 0; i < operationsSize; i++) {
           decodedTransactionMeta.operations[i] = OperationMeta.decode(stream);
@@ -95,14 +122,147 @@ public class TransactionMeta implements XdrElement {
     return decodedTransactionMeta;
   }
 
+  public static TransactionMeta decodeInto(TransactionMeta existing, XdrDataInputStream stream)
+      throws IOException {
+    Integer discriminant = stream.readInt();
+    TransactionMeta decodedTransactionMeta =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new TransactionMeta();
+    decodedTransactionMeta.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        int operationsSize = stream.readLength(4);
+        decodedTransactionMeta.operations =
+            XdrRecycler.resize(
+                decodedTransactionMeta.operations, operationsSize, OperationMeta[]::new);
+        for (int i = 0; i < operationsSize; i++) {
+          decodedTransactionMeta.operations[i] =
+              OperationMeta.decodeInto(decodedTransactionMeta.operations[i], stream);
+        }
+        break;
+      case 1:
+        decodedTransactionMeta.v1 = TransactionMetaV1.decodeInto(decodedTransactionMeta.v1, stream);
+        break;
+      case 2:
+        decodedTransactionMeta.v2 = TransactionMetaV2.decodeInto(decodedTransactionMeta.v2, stream);
+        break;
+      case 3:
+        decodedTransactionMeta.v3 = TransactionMetaV3.decodeInto(decodedTransactionMeta.v3, stream);
+        break;
+      case 4:
+        decodedTransactionMeta.v4 = TransactionMetaV4.decodeInto(decodedTransactionMeta.v4, stream);
+        break;
+    }
+    return decodedTransactionMeta;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        int operationsSize = stream.readLength(Integer.MAX_VALUE, 4);
+        for (int i = 0; i < operationsSize; i++) {
+          OperationMeta.skip(stream);
+        }
+        break;
+      case 1:
+        TransactionMetaV1.skip(stream);
+        break;
+      case 2:
+        TransactionMetaV2.skip(stream);
+        break;
+      case 3:
+        TransactionMetaV3.skip(stream);
+        break;
+      case 4:
+        TransactionMetaV4.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown TransactionMeta discriminant: " + discriminant);
+    }
+  }
+
   public static TransactionMeta fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionMeta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case 0:
+        writer.beginObject();
+        writer.name("v0");
+        XdrJson.writeArray(writer, operations);
+        writer.endObject();
+        break;
+      case 1:
+        writer.beginObject();
+        writer.name("v1");
+        v1.toJson(writer);
+        writer.endObject();
+        break;
+      case 2:
+        writer.beginObject();
+        writer.name("v2");
+        v2.toJson(writer);
+        writer.endObject();
+        break;
+      case 3:
+        writer.beginObject();
+        writer.name("v3");
+        v3.toJson(writer);
+        writer.endObject();
+        break;
+      case 4:
+        writer.beginObject();
+        writer.name("v4");
+        v4.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static TransactionMeta fromJson(JsonReader reader) throws IOException {
+    TransactionMeta decodedTransactionMeta = new TransactionMeta();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v0":
+        decodedTransactionMeta.setDiscriminant(0);
+        decodedTransactionMeta.operations =
+            XdrJson.readArray(reader, OperationMeta[]::new, OperationMeta::fromJson);
+        break;
+      case "v1":
+        decodedTransactionMeta.setDiscriminant(1);
+        decodedTransactionMeta.v1 = TransactionMetaV1.fromJson(reader);
+        break;
+      case "v2":
+        decodedTransactionMeta.setDiscriminant(2);
+        decodedTransactionMeta.v2 = TransactionMetaV2.fromJson(reader);
+        break;
+      case "v3":
+        decodedTransactionMeta.setDiscriminant(3);
+        decodedTransactionMeta.v3 = TransactionMetaV3.fromJson(reader);
+        break;
+      case "v4":
+        decodedTransactionMeta.setDiscriminant(4);
+        decodedTransactionMeta.v4 = TransactionMetaV4.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown TransactionMeta arm: " + key);
+    }
+    reader.endObject();
+    return decodedTransactionMeta;
+  }
+
+  public static TransactionMeta fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
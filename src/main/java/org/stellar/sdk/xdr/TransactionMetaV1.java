@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionMetaV1's original definition in the XDR file is:
@@ -39,10 +39,21 @@ public class TransactionMetaV1 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += txChanges.encodedSize();
+    int operationsSize = getOperations().length;
+    size += 4;
+    for (int i = 0; i < operationsSize; i++) {
+      size += operations[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionMetaV1 decode(XdrDataInputStream stream) throws IOException {
     TransactionMetaV1 decodedTransactionMetaV1 = new TransactionMetaV1();
     decodedTransactionMetaV1.txChanges = LedgerEntryChanges.decode(stream);
-    int operationsSize = stream.readInt();
+    int operationsSize = stream.readLength(4);
     decodedTransactionMetaV1.operations = new OperationMeta[operationsSize];
     for (int i = 0; i < operationsSize; i++) {
       decodedTransactionMetaV1.operations[i] = OperationMeta.decode(stream);
@@ -50,14 +61,73 @@ public class TransactionMetaV1 implements XdrElement {
     return decodedTransactionMetaV1;
   }
 
+  public static TransactionMetaV1 decodeInto(TransactionMetaV1 existing, XdrDataInputStream stream)
+      throws IOException {
+    TransactionMetaV1 decodedTransactionMetaV1 =
+        existing != null ? existing : new TransactionMetaV1();
+    decodedTransactionMetaV1.txChanges =
+        LedgerEntryChanges.decodeInto(decodedTransactionMetaV1.txChanges, stream);
+    int operationsSize = stream.readLength(4);
+    decodedTransactionMetaV1.operations =
+        XdrRecycler.resize(
+            decodedTransactionMetaV1.operations, operationsSize, OperationMeta[]::new);
+    for (int i = 0; i < operationsSize; i++) {
+      decodedTransactionMetaV1.operations[i] =
+          OperationMeta.decodeInto(decodedTransactionMetaV1.operations[i], stream);
+    }
+    return decodedTransactionMetaV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerEntryChanges.skip(stream);
+    int operationsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < operationsSize; i++) {
+      OperationMeta.skip(stream);
+    }
+  }
+
   public static TransactionMetaV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionMetaV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx_changes");
+    txChanges.toJson(writer);
+    writer.name("operations");
+    XdrJson.writeArray(writer, operations);
+    writer.endObject();
+  }
+
+  public static TransactionMetaV1 fromJson(JsonReader reader) throws IOException {
+    TransactionMetaV1 decodedTransactionMetaV1 = new TransactionMetaV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx_changes":
+          decodedTransactionMetaV1.txChanges = LedgerEntryChanges.fromJson(reader);
+          break;
+        case "operations":
+          decodedTransactionMetaV1.operations =
+              XdrJson.readArray(reader, OperationMeta[]::new, OperationMeta::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown TransactionMetaV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionMetaV1;
+  }
+
+  public static TransactionMetaV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
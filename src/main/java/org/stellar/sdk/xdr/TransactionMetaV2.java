@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionMetaV2's original definition in the XDR file is:
@@ -44,10 +44,22 @@ public class TransactionMetaV2 implements XdrElement {
     txChangesAfter.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += txChangesBefore.encodedSize();
+    int operationsSize = getOperations().length;
+    size += 4;
+    for (int i = 0; i < operationsSize; i++) {
+      size += operations[i].encodedSize();
+    }
+    size += txChangesAfter.encodedSize();
+    return size;
+  }
+
   public static TransactionMetaV2 decode(XdrDataInputStream stream) throws IOException {
     TransactionMetaV2 decodedTransactionMetaV2 = new TransactionMetaV2();
     decodedTransactionMetaV2.txChangesBefore = LedgerEntryChanges.decode(stream);
-    int operationsSize = stream.readInt();
+    int operationsSize = stream.readLength(4);
     decodedTransactionMetaV2.operations = new OperationMeta[operationsSize];
     for (int i = 0; i < operationsSize; i++) {
       decodedTransactionMetaV2.operations[i] = OperationMeta.decode(stream);
@@ -56,14 +68,81 @@ public class TransactionMetaV2 implements XdrElement {
     return decodedTransactionMetaV2;
   }
 
+  public static TransactionMetaV2 decodeInto(TransactionMetaV2 existing, XdrDataInputStream stream)
+      throws IOException {
+    TransactionMetaV2 decodedTransactionMetaV2 =
+        existing != null ? existing : new TransactionMetaV2();
+    decodedTransactionMetaV2.txChangesBefore =
+        LedgerEntryChanges.decodeInto(decodedTransactionMetaV2.txChangesBefore, stream);
+    int operationsSize = stream.readLength(4);
+    decodedTransactionMetaV2.operations =
+        XdrRecycler.resize(
+            decodedTransactionMetaV2.operations, operationsSize, OperationMeta[]::new);
+    for (int i = 0; i < operationsSize; i++) {
+      decodedTransactionMetaV2.operations[i] =
+          OperationMeta.decodeInto(decodedTransactionMetaV2.operations[i], stream);
+    }
+    decodedTransactionMetaV2.txChangesAfter =
+        LedgerEntryChanges.decodeInto(decodedTransactionMetaV2.txChangesAfter, stream);
+    return decodedTransactionMetaV2;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerEntryChanges.skip(stream);
+    int operationsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < operationsSize; i++) {
+      OperationMeta.skip(stream);
+    }
+    LedgerEntryChanges.skip(stream);
+  }
+
   public static TransactionMetaV2 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionMetaV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx_changes_before");
+    txChangesBefore.toJson(writer);
+    writer.name("operations");
+    XdrJson.writeArray(writer, operations);
+    writer.name("tx_changes_after");
+    txChangesAfter.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TransactionMetaV2 fromJson(JsonReader reader) throws IOException {
+    TransactionMetaV2 decodedTransactionMetaV2 = new TransactionMetaV2();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx_changes_before":
+          decodedTransactionMetaV2.txChangesBefore = LedgerEntryChanges.fromJson(reader);
+          break;
+        case "operations":
+          decodedTransactionMetaV2.operations =
+              XdrJson.readArray(reader, OperationMeta[]::new, OperationMeta::fromJson);
+          break;
+        case "tx_changes_after":
+          decodedTransactionMetaV2.txChangesAfter = LedgerEntryChanges.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionMetaV2 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionMetaV2;
+  }
+
+  public static TransactionMetaV2 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionMetaV3's original definition in the XDR file is:
@@ -57,11 +57,30 @@ public class TransactionMetaV3 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += txChangesBefore.encodedSize();
+    int operationsSize = getOperations().length;
+    size += 4;
+    for (int i = 0; i < operationsSize; i++) {
+      size += operations[i].encodedSize();
+    }
+    size += txChangesAfter.encodedSize();
+    if (sorobanMeta != null) {
+      size += 4;
+      size += sorobanMeta.encodedSize();
+    } else {
+      size += 4;
+    }
+    return size;
+  }
+
   public static TransactionMetaV3 decode(XdrDataInputStream stream) throws IOException {
     TransactionMetaV3 decodedTransactionMetaV3 = new TransactionMetaV3();
     decodedTransactionMetaV3.ext = ExtensionPoint.decode(stream);
     decodedTransactionMetaV3.txChangesBefore = LedgerEntryChanges.decode(stream);
-    int operationsSize = stream.readInt();
+    int operationsSize = stream.readLength(4);
     decodedTransactionMetaV3.operations = new OperationMeta[operationsSize];
     for (int i = 0; i < operationsSize; i++) {
       decodedTransactionMetaV3.operations[i] = OperationMeta.decode(stream);
@@ -74,14 +93,104 @@ public class TransactionMetaV3 implements XdrElement {
     return decodedTransactionMetaV3;
   }
 
+  public static TransactionMetaV3 decodeInto(TransactionMetaV3 existing, XdrDataInputStream stream)
+      throws IOException {
+    TransactionMetaV3 decodedTransactionMetaV3 =
+        existing != null ? existing : new TransactionMetaV3();
+    decodedTransactionMetaV3.ext = ExtensionPoint.decodeInto(decodedTransactionMetaV3.ext, stream);
+    decodedTransactionMetaV3.txChangesBefore =
+        LedgerEntryChanges.decodeInto(decodedTransactionMetaV3.txChangesBefore, stream);
+    int operationsSize = stream.readLength(4);
+    decodedTransactionMetaV3.operations =
+        XdrRecycler.resize(
+            decodedTransactionMetaV3.operations, operationsSize, OperationMeta[]::new);
+    for (int i = 0; i < operationsSize; i++) {
+      decodedTransactionMetaV3.operations[i] =
+          OperationMeta.decodeInto(decodedTransactionMetaV3.operations[i], stream);
+    }
+    decodedTransactionMetaV3.txChangesAfter =
+        LedgerEntryChanges.decodeInto(decodedTransactionMetaV3.txChangesAfter, stream);
+    int sorobanMetaPresent = stream.readInt();
+    if (sorobanMetaPresent != 0) {
+      decodedTransactionMetaV3.sorobanMeta =
+          SorobanTransactionMeta.decodeInto(decodedTransactionMetaV3.sorobanMeta, stream);
+    } else {
+      decodedTransactionMetaV3.sorobanMeta = null;
+    }
+    return decodedTransactionMetaV3;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    LedgerEntryChanges.skip(stream);
+    int operationsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < operationsSize; i++) {
+      OperationMeta.skip(stream);
+    }
+    LedgerEntryChanges.skip(stream);
+    if (stream.readXdrBoolean()) {
+      SorobanTransactionMeta.skip(stream);
+    }
+  }
+
   public static TransactionMetaV3 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionMetaV3 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("tx_changes_before");
+    txChangesBefore.toJson(writer);
+    writer.name("operations");
+    XdrJson.writeArray(writer, operations);
+    writer.name("tx_changes_after");
+    txChangesAfter.toJson(writer);
+    writer.name("soroban_meta");
+    XdrJson.writeOptional(writer, sorobanMeta);
+    writer.endObject();
+  }
+
+  public static TransactionMetaV3 fromJson(JsonReader reader) throws IOException {
+    TransactionMetaV3 decodedTransactionMetaV3 = new TransactionMetaV3();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedTransactionMetaV3.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "tx_changes_before":
+          decodedTransactionMetaV3.txChangesBefore = LedgerEntryChanges.fromJson(reader);
+          break;
+        case "operations":
+          decodedTransactionMetaV3.operations =
+              XdrJson.readArray(reader, OperationMeta[]::new, OperationMeta::fromJson);
+          break;
+        case "tx_changes_after":
+          decodedTransactionMetaV3.txChangesAfter = LedgerEntryChanges.fromJson(reader);
+          break;
+        case "soroban_meta":
+          decodedTransactionMetaV3.sorobanMeta =
+              XdrJson.readOptional(reader, SorobanTransactionMeta::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown TransactionMetaV3 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionMetaV3;
+  }
+
+  public static TransactionMetaV3 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionMetaV4's original definition in the XDR file is:
@@ -72,11 +72,40 @@ public class TransactionMetaV4 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += txChangesBefore.encodedSize();
+    int operationsSize = getOperations().length;
+    size += 4;
+    for (int i = 0; i < operationsSize; i++) {
+      size += operations[i].encodedSize();
+    }
+    size += txChangesAfter.encodedSize();
+    if (sorobanMeta != null) {
+      size += 4;
+      size += sorobanMeta.encodedSize();
+    } else {
+      size += 4;
+    }
+    int eventsSize = getEvents().length;
+    size += 4;
+    for (int i = 0; i < eventsSize; i++) {
+      size += events[i].encodedSize();
+    }
+    int diagnosticEventsSize = getDiagnosticEvents().length;
+    size += 4;
+    for (int i = 0; i < diagnosticEventsSize; i++) {
+      size += diagnosticEvents[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionMetaV4 decode(XdrDataInputStream stream) throws IOException {
     TransactionMetaV4 decodedTransactionMetaV4 = new TransactionMetaV4();
     decodedTransactionMetaV4.ext = ExtensionPoint.decode(stream);
     decodedTransactionMetaV4.txChangesBefore = LedgerEntryChanges.decode(stream);
-    int operationsSize = stream.readInt();
+    int operationsSize = stream.readLength(4);
     decodedTransactionMetaV4.operations = new OperationMetaV2[operationsSize];
     for (int i = 0; i < operationsSize; i++) {
       decodedTransactionMetaV4.operations[i] = OperationMetaV2.decode(stream);
@@ -86,12 +115,12 @@ public class TransactionMetaV4 implements XdrElement {
     if (sorobanMetaPresent != 0) {
       decodedTransactionMetaV4.sorobanMeta = SorobanTransactionMetaV2.decode(stream);
     }
-    int eventsSize = stream.readInt();
+    int eventsSize = stream.readLength(4);
     decodedTransactionMetaV4.events = new TransactionEvent[eventsSize];
     for (int i = 0; i < eventsSize; i++) {
       decodedTransactionMetaV4.events[i] = TransactionEvent.decode(stream);
     }
-    int diagnosticEventsSize = stream.readInt();
+    int diagnosticEventsSize = stream.readLength(4);
     decodedTransactionMetaV4.diagnosticEvents = new DiagnosticEvent[diagnosticEventsSize];
     for (int i = 0; i < diagnosticEventsSize; i++) {
       decodedTransactionMetaV4.diagnosticEvents[i] = DiagnosticEvent.decode(stream);
@@ -99,14 +128,141 @@ public class TransactionMetaV4 implements XdrElement {
     return decodedTransactionMetaV4;
   }
 
+  public static TransactionMetaV4 decodeInto(TransactionMetaV4 existing, XdrDataInputStream stream)
+      throws IOException {
+    TransactionMetaV4 decodedTransactionMetaV4 =
+        existing != null ? existing : new TransactionMetaV4();
+    decodedTransactionMetaV4.ext = ExtensionPoint.decodeInto(decodedTransactionMetaV4.ext, stream);
+    decodedTransactionMetaV4.txChangesBefore =
+        LedgerEntryChanges.decodeInto(decodedTransactionMetaV4.txChangesBefore, stream);
+    int operationsSize = stream.readLength(4);
+    decodedTransactionMetaV4.operations =
+        XdrRecycler.resize(
+            decodedTransactionMetaV4.operations, operationsSize, OperationMetaV2[]::new);
+    for (int i = 0; i < operationsSize; i++) {
+      decodedTransactionMetaV4.operations[i] =
+          OperationMetaV2.decodeInto(decodedTransactionMetaV4.operations[i], stream);
+    }
+    decodedTransactionMetaV4.txChangesAfter =
+        LedgerEntryChanges.decodeInto(decodedTransactionMetaV4.txChangesAfter, stream);
+    int sorobanMetaPresent = stream.readInt();
+    if (sorobanMetaPresent != 0) {
+      decodedTransactionMetaV4.sorobanMeta =
+          SorobanTransactionMetaV2.decodeInto(decodedTransactionMetaV4.sorobanMeta, stream);
+    } else {
+      decodedTransactionMetaV4.sorobanMeta = null;
+    }
+    int eventsSize = stream.readLength(4);
+    decodedTransactionMetaV4.events =
+        XdrRecycler.resize(decodedTransactionMetaV4.events, eventsSize, TransactionEvent[]::new);
+    for (int i = 0; i < eventsSize; i++) {
+      decodedTransactionMetaV4.events[i] =
+          TransactionEvent.decodeInto(decodedTransactionMetaV4.events[i], stream);
+    }
+    int diagnosticEventsSize = stream.readLength(4);
+    decodedTransactionMetaV4.diagnosticEvents =
+        XdrRecycler.resize(
+            decodedTransactionMetaV4.diagnosticEvents,
+            diagnosticEventsSize,
+            DiagnosticEvent[]::new);
+    for (int i = 0; i < diagnosticEventsSize; i++) {
+      decodedTransactionMetaV4.diagnosticEvents[i] =
+          DiagnosticEvent.decodeInto(decodedTransactionMetaV4.diagnosticEvents[i], stream);
+    }
+    return decodedTransactionMetaV4;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    LedgerEntryChanges.skip(stream);
+    int operationsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < operationsSize; i++) {
+      OperationMetaV2.skip(stream);
+    }
+    LedgerEntryChanges.skip(stream);
+    if (stream.readXdrBoolean()) {
+      SorobanTransactionMetaV2.skip(stream);
+    }
+    int eventsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < eventsSize; i++) {
+      TransactionEvent.skip(stream);
+    }
+    int diagnosticEventsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < diagnosticEventsSize; i++) {
+      DiagnosticEvent.skip(stream);
+    }
+  }
+
   public static TransactionMetaV4 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionMetaV4 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("tx_changes_before");
+    txChangesBefore.toJson(writer);
+    writer.name("operations");
+    XdrJson.writeArray(writer, operations);
+    writer.name("tx_changes_after");
+    txChangesAfter.toJson(writer);
+    writer.name("soroban_meta");
+    XdrJson.writeOptional(writer, sorobanMeta);
+    writer.name("events");
+    XdrJson.writeArray(writer, events);
+    writer.name("diagnostic_events");
+    XdrJson.writeArray(writer, diagnosticEvents);
+    writer.endObject();
+  }
+
+  public static TransactionMetaV4 fromJson(JsonReader reader) throws IOException {
+    TransactionMetaV4 decodedTransactionMetaV4 = new TransactionMetaV4();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedTransactionMetaV4.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "tx_changes_before":
+          decodedTransactionMetaV4.txChangesBefore = LedgerEntryChanges.fromJson(reader);
+          break;
+        case "operations":
+          decodedTransactionMetaV4.operations =
+              XdrJson.readArray(reader, OperationMetaV2[]::new, OperationMetaV2::fromJson);
+          break;
+        case "tx_changes_after":
+          decodedTransactionMetaV4.txChangesAfter = LedgerEntryChanges.fromJson(reader);
+          break;
+        case "soroban_meta":
+          decodedTransactionMetaV4.sorobanMeta =
+              XdrJson.readOptional(reader, SorobanTransactionMetaV2::fromJson);
+          break;
+        case "events":
+          decodedTransactionMetaV4.events =
+              XdrJson.readArray(reader, TransactionEvent[]::new, TransactionEvent::fromJson);
+          break;
+        case "diagnostic_events":
+          decodedTransactionMetaV4.diagnosticEvents =
+              XdrJson.readArray(reader, DiagnosticEvent[]::new, DiagnosticEvent::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown TransactionMetaV4 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionMetaV4;
+  }
+
+  public static TransactionMetaV4 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
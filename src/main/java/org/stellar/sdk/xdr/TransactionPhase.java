@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionPhase's original definition in the XDR file is:
@@ -49,13 +49,31 @@ public class TransactionPhase implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case 0:
+        int v0ComponentsSize = getV0Components().length;
+        size += 4;
+        for (int i = 0; i < v0ComponentsSize; i++) {
+          size += v0Components[i].encodedSize();
+        }
+        break;
+      case 1:
+        size += parallelTxsComponent.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static TransactionPhase decode(XdrDataInputStream stream) throws IOException {
     TransactionPhase decodedTransactionPhase = new TransactionPhase();
     Integer discriminant = stream.readInt();
     decodedTransactionPhase.setDiscriminant(discriminant);
     switch (decodedTransactionPhase.getDiscriminant()) {
       case 0:
-        int v0ComponentsSize = stream.readInt();
+        int v0ComponentsSize = stream.readLength(4);
         decodedTransactionPhase.v0Components = new TxSetComponent[v0ComponentsSize];
         for (int i = 0; i < v0ComponentsSize; i++) {
           decodedTransactionPhase.v0Components[i] = TxSetComponent.decode(stream);
@@ -68,14 +86,100 @@ public class TransactionPhase implements XdrElement {
     return decodedTransactionPhase;
   }
 
+  public static TransactionPhase decodeInto(TransactionPhase existing, XdrDataInputStream stream)
+      throws IOException {
+    Integer discriminant = stream.readInt();
+    TransactionPhase decodedTransactionPhase =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new TransactionPhase();
+    decodedTransactionPhase.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        int v0ComponentsSize = stream.readLength(4);
+        decodedTransactionPhase.v0Components =
+            XdrRecycler.resize(
+                decodedTransactionPhase.v0Components, v0ComponentsSize, TxSetComponent[]::new);
+        for (int i = 0; i < v0ComponentsSize; i++) {
+          decodedTransactionPhase.v0Components[i] =
+              TxSetComponent.decodeInto(decodedTransactionPhase.v0Components[i], stream);
+        }
+        break;
+      case 1:
+        decodedTransactionPhase.parallelTxsComponent =
+            ParallelTxsComponent.decodeInto(decodedTransactionPhase.parallelTxsComponent, stream);
+        break;
+    }
+    return decodedTransactionPhase;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Integer discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        int v0ComponentsSize = stream.readLength(Integer.MAX_VALUE, 4);
+        for (int i = 0; i < v0ComponentsSize; i++) {
+          TxSetComponent.skip(stream);
+        }
+        break;
+      case 1:
+        ParallelTxsComponent.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown TransactionPhase discriminant: " + discriminant);
+    }
+  }
+
   public static TransactionPhase fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionPhase fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case 0:
+        writer.beginObject();
+        writer.name("v0");
+        XdrJson.writeArray(writer, v0Components);
+        writer.endObject();
+        break;
+      case 1:
+        writer.beginObject();
+        writer.name("v1");
+        parallelTxsComponent.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static TransactionPhase fromJson(JsonReader reader) throws IOException {
+    TransactionPhase decodedTransactionPhase = new TransactionPhase();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "v0":
+        decodedTransactionPhase.setDiscriminant(0);
+        decodedTransactionPhase.v0Components =
+            XdrJson.readArray(reader, TxSetComponent[]::new, TxSetComponent::fromJson);
+        break;
+      case "v1":
+        decodedTransactionPhase.setDiscriminant(1);
+        decodedTransactionPhase.parallelTxsComponent = ParallelTxsComponent.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown TransactionPhase arm: " + key);
+    }
+    reader.endObject();
+    return decodedTransactionPhase;
+  }
+
+  public static TransactionPhase fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionResult's original definition in the XDR file is:
@@ -72,6 +73,14 @@ public class TransactionResult implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += feeCharged.encodedSize();
+    size += result.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static TransactionResult decode(XdrDataInputStream stream) throws IOException {
     TransactionResult decodedTransactionResult = new TransactionResult();
     decodedTransactionResult.feeCharged = Int64.decode(stream);
@@ -80,17 +89,74 @@ public class TransactionResult implements XdrElement {
     return decodedTransactionResult;
   }
 
+  public static TransactionResult decodeInto(TransactionResult existing, XdrDataInputStream stream)
+      throws IOException {
+    TransactionResult decodedTransactionResult =
+        existing != null ? existing : new TransactionResult();
+    decodedTransactionResult.feeCharged =
+        Int64.decodeInto(decodedTransactionResult.feeCharged, stream);
+    decodedTransactionResult.result =
+        TransactionResultResult.decodeInto(decodedTransactionResult.result, stream);
+    decodedTransactionResult.ext =
+        TransactionResultExt.decodeInto(decodedTransactionResult.ext, stream);
+    return decodedTransactionResult;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int64.skip(stream);
+    TransactionResultResult.skip(stream);
+    TransactionResultExt.skip(stream);
+  }
+
   public static TransactionResult fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("fee_charged");
+    feeCharged.toJson(writer);
+    writer.name("result");
+    result.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TransactionResult fromJson(JsonReader reader) throws IOException {
+    TransactionResult decodedTransactionResult = new TransactionResult();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "fee_charged":
+          decodedTransactionResult.feeCharged = Int64.fromJson(reader);
+          break;
+        case "result":
+          decodedTransactionResult.result = TransactionResultResult.fromJson(reader);
+          break;
+        case "ext":
+          decodedTransactionResult.ext = TransactionResultExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionResult field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionResult;
+  }
+
+  public static TransactionResult fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * TransactionResultResult's original definition in the XDR file is:
    *
@@ -166,6 +232,42 @@ public class TransactionResult implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case txFEE_BUMP_INNER_SUCCESS:
+        case txFEE_BUMP_INNER_FAILED:
+          size += innerResultPair.encodedSize();
+          break;
+        case txSUCCESS:
+        case txFAILED:
+          int resultsSize = getResults().length;
+          size += 4;
+          for (int i = 0; i < resultsSize; i++) {
+            size += results[i].encodedSize();
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+          break;
+      }
+      return size;
+    }
+
     public static TransactionResultResult decode(XdrDataInputStream stream) throws IOException {
       TransactionResultResult decodedTransactionResultResult = new TransactionResultResult();
       TransactionResultCode discriminant = TransactionResultCode.decode(stream);
@@ -178,7 +280,7 @@ public class TransactionResult implements XdrElement {
           break;
         case txSUCCESS:
         case txFAILED:
-          int resultsSize = stream.readInt();
+          int resultsSize = stream.readLength(4);
           decodedTransactionResultResult.results = new OperationResult[resultsSize];
           for (int i = 0; i < resultsSize; i++) {
             decodedTransactionResultResult.results[i] = OperationResult.decode(stream);
@@ -204,16 +306,266 @@ public class TransactionResult implements XdrElement {
       return decodedTransactionResultResult;
     }
 
+    public static TransactionResultResult decodeInto(
+        TransactionResultResult existing, XdrDataInputStream stream) throws IOException {
+      TransactionResultCode discriminant = TransactionResultCode.decode(stream);
+      TransactionResultResult decodedTransactionResultResult =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new TransactionResultResult();
+      decodedTransactionResultResult.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case txFEE_BUMP_INNER_SUCCESS:
+        case txFEE_BUMP_INNER_FAILED:
+          decodedTransactionResultResult.innerResultPair =
+              InnerTransactionResultPair.decodeInto(
+                  decodedTransactionResultResult.innerResultPair, stream);
+          break;
+        case txSUCCESS:
+        case txFAILED:
+          int resultsSize = stream.readLength(4);
+          decodedTransactionResultResult.results =
+              XdrRecycler.resize(
+                  decodedTransactionResultResult.results, resultsSize, OperationResult[]::new);
+          for (int i = 0; i < resultsSize; i++) {
+            decodedTransactionResultResult.results[i] =
+                OperationResult.decodeInto(decodedTransactionResultResult.results[i], stream);
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+          break;
+      }
+      return decodedTransactionResultResult;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      TransactionResultCode discriminant = TransactionResultCode.decode(stream);
+      switch (discriminant) {
+        case txFEE_BUMP_INNER_SUCCESS:
+        case txFEE_BUMP_INNER_FAILED:
+          InnerTransactionResultPair.skip(stream);
+          break;
+        case txSUCCESS:
+        case txFAILED:
+          int resultsSize = stream.readLength(Integer.MAX_VALUE, 4);
+          for (int i = 0; i < resultsSize; i++) {
+            OperationResult.skip(stream);
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+          break;
+        default:
+          throw new IOException("Unknown TransactionResultResult discriminant: " + discriminant);
+      }
+    }
+
     public static TransactionResultResult fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static TransactionResultResult fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case txFEE_BUMP_INNER_SUCCESS:
+          writer.beginObject();
+          writer.name("tx_fee_bump_inner_success");
+          innerResultPair.toJson(writer);
+          writer.endObject();
+          break;
+        case txFEE_BUMP_INNER_FAILED:
+          writer.beginObject();
+          writer.name("tx_fee_bump_inner_failed");
+          innerResultPair.toJson(writer);
+          writer.endObject();
+          break;
+        case txSUCCESS:
+          writer.beginObject();
+          writer.name("tx_success");
+          XdrJson.writeArray(writer, results);
+          writer.endObject();
+          break;
+        case txFAILED:
+          writer.beginObject();
+          writer.name("tx_failed");
+          XdrJson.writeArray(writer, results);
+          writer.endObject();
+          break;
+        case txTOO_EARLY:
+          writer.value("tx_too_early");
+          break;
+        case txTOO_LATE:
+          writer.value("tx_too_late");
+          break;
+        case txMISSING_OPERATION:
+          writer.value("tx_missing_operation");
+          break;
+        case txBAD_SEQ:
+          writer.value("tx_bad_seq");
+          break;
+        case txBAD_AUTH:
+          writer.value("tx_bad_auth");
+          break;
+        case txINSUFFICIENT_BALANCE:
+          writer.value("tx_insufficient_balance");
+          break;
+        case txNO_ACCOUNT:
+          writer.value("tx_no_account");
+          break;
+        case txINSUFFICIENT_FEE:
+          writer.value("tx_insufficient_fee");
+          break;
+        case txBAD_AUTH_EXTRA:
+          writer.value("tx_bad_auth_extra");
+          break;
+        case txINTERNAL_ERROR:
+          writer.value("tx_internal_error");
+          break;
+        case txNOT_SUPPORTED:
+          writer.value("tx_not_supported");
+          break;
+        case txBAD_SPONSORSHIP:
+          writer.value("tx_bad_sponsorship");
+          break;
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+          writer.value("tx_bad_min_seq_age_or_gap");
+          break;
+        case txMALFORMED:
+          writer.value("tx_malformed");
+          break;
+        case txSOROBAN_INVALID:
+          writer.value("tx_soroban_invalid");
+          break;
+      }
+    }
+
+    public static TransactionResultResult fromJson(JsonReader reader) throws IOException {
+      TransactionResultResult decodedTransactionResultResult = new TransactionResultResult();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "tx_too_early":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txTOO_EARLY);
+            break;
+          case "tx_too_late":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txTOO_LATE);
+            break;
+          case "tx_missing_operation":
+            decodedTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txMISSING_OPERATION);
+            break;
+          case "tx_bad_seq":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txBAD_SEQ);
+            break;
+          case "tx_bad_auth":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txBAD_AUTH);
+            break;
+          case "tx_insufficient_balance":
+            decodedTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txINSUFFICIENT_BALANCE);
+            break;
+          case "tx_no_account":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txNO_ACCOUNT);
+            break;
+          case "tx_insufficient_fee":
+            decodedTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txINSUFFICIENT_FEE);
+            break;
+          case "tx_bad_auth_extra":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txBAD_AUTH_EXTRA);
+            break;
+          case "tx_internal_error":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txINTERNAL_ERROR);
+            break;
+          case "tx_not_supported":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txNOT_SUPPORTED);
+            break;
+          case "tx_bad_sponsorship":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txBAD_SPONSORSHIP);
+            break;
+          case "tx_bad_min_seq_age_or_gap":
+            decodedTransactionResultResult.setDiscriminant(
+                TransactionResultCode.txBAD_MIN_SEQ_AGE_OR_GAP);
+            break;
+          case "tx_malformed":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txMALFORMED);
+            break;
+          case "tx_soroban_invalid":
+            decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txSOROBAN_INVALID);
+            break;
+          default:
+            throw new IOException("Unknown TransactionResultResult arm: " + key);
+        }
+        return decodedTransactionResultResult;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "tx_fee_bump_inner_success":
+          decodedTransactionResultResult.setDiscriminant(
+              TransactionResultCode.txFEE_BUMP_INNER_SUCCESS);
+          decodedTransactionResultResult.innerResultPair =
+              InnerTransactionResultPair.fromJson(reader);
+          break;
+        case "tx_fee_bump_inner_failed":
+          decodedTransactionResultResult.setDiscriminant(
+              TransactionResultCode.txFEE_BUMP_INNER_FAILED);
+          decodedTransactionResultResult.innerResultPair =
+              InnerTransactionResultPair.fromJson(reader);
+          break;
+        case "tx_success":
+          decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txSUCCESS);
+          decodedTransactionResultResult.results =
+              XdrJson.readArray(reader, OperationResult[]::new, OperationResult::fromJson);
+          break;
+        case "tx_failed":
+          decodedTransactionResultResult.setDiscriminant(TransactionResultCode.txFAILED);
+          decodedTransactionResultResult.results =
+              XdrJson.readArray(reader, OperationResult[]::new, OperationResult::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown TransactionResultResult arm: " + key);
+      }
+      reader.endObject();
+      return decodedTransactionResultResult;
+    }
+
+    public static TransactionResultResult fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 
   /**
@@ -242,6 +594,16 @@ public class TransactionResult implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static TransactionResultExt decode(XdrDataInputStream stream) throws IOException {
       TransactionResultExt decodedTransactionResultExt = new TransactionResultExt();
       Integer discriminant = stream.readInt();
@@ -253,15 +615,65 @@ public class TransactionResult implements XdrElement {
       return decodedTransactionResultExt;
     }
 
+    public static TransactionResultExt decodeInto(
+        TransactionResultExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      TransactionResultExt decodedTransactionResultExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new TransactionResultExt();
+      decodedTransactionResultExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedTransactionResultExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown TransactionResultExt discriminant: " + discriminant);
+      }
+    }
+
     public static TransactionResultExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static TransactionResultExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static TransactionResultExt fromJson(JsonReader reader) throws IOException {
+      TransactionResultExt decodedTransactionResultExt = new TransactionResultExt();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedTransactionResultExt.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown TransactionResultExt arm: " + key);
+      }
+      return decodedTransactionResultExt;
+    }
+
+    public static TransactionResultExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
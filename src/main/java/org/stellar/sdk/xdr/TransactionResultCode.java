@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionResultCode's original definition in the XDR file is:
@@ -116,18 +116,138 @@ public enum TransactionResultCode implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static TransactionResultCode fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case txFEE_BUMP_INNER_SUCCESS:
+        writer.value("tx_fee_bump_inner_success");
+        break;
+      case txSUCCESS:
+        writer.value("tx_success");
+        break;
+      case txFAILED:
+        writer.value("tx_failed");
+        break;
+      case txTOO_EARLY:
+        writer.value("tx_too_early");
+        break;
+      case txTOO_LATE:
+        writer.value("tx_too_late");
+        break;
+      case txMISSING_OPERATION:
+        writer.value("tx_missing_operation");
+        break;
+      case txBAD_SEQ:
+        writer.value("tx_bad_seq");
+        break;
+      case txBAD_AUTH:
+        writer.value("tx_bad_auth");
+        break;
+      case txINSUFFICIENT_BALANCE:
+        writer.value("tx_insufficient_balance");
+        break;
+      case txNO_ACCOUNT:
+        writer.value("tx_no_account");
+        break;
+      case txINSUFFICIENT_FEE:
+        writer.value("tx_insufficient_fee");
+        break;
+      case txBAD_AUTH_EXTRA:
+        writer.value("tx_bad_auth_extra");
+        break;
+      case txINTERNAL_ERROR:
+        writer.value("tx_internal_error");
+        break;
+      case txNOT_SUPPORTED:
+        writer.value("tx_not_supported");
+        break;
+      case txFEE_BUMP_INNER_FAILED:
+        writer.value("tx_fee_bump_inner_failed");
+        break;
+      case txBAD_SPONSORSHIP:
+        writer.value("tx_bad_sponsorship");
+        break;
+      case txBAD_MIN_SEQ_AGE_OR_GAP:
+        writer.value("tx_bad_min_seq_age_or_gap");
+        break;
+      case txMALFORMED:
+        writer.value("tx_malformed");
+        break;
+      case txSOROBAN_INVALID:
+        writer.value("tx_soroban_invalid");
+        break;
+    }
+  }
+
+  public static TransactionResultCode fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "tx_fee_bump_inner_success":
+        return txFEE_BUMP_INNER_SUCCESS;
+      case "tx_success":
+        return txSUCCESS;
+      case "tx_failed":
+        return txFAILED;
+      case "tx_too_early":
+        return txTOO_EARLY;
+      case "tx_too_late":
+        return txTOO_LATE;
+      case "tx_missing_operation":
+        return txMISSING_OPERATION;
+      case "tx_bad_seq":
+        return txBAD_SEQ;
+      case "tx_bad_auth":
+        return txBAD_AUTH;
+      case "tx_insufficient_balance":
+        return txINSUFFICIENT_BALANCE;
+      case "tx_no_account":
+        return txNO_ACCOUNT;
+      case "tx_insufficient_fee":
+        return txINSUFFICIENT_FEE;
+      case "tx_bad_auth_extra":
+        return txBAD_AUTH_EXTRA;
+      case "tx_internal_error":
+        return txINTERNAL_ERROR;
+      case "tx_not_supported":
+        return txNOT_SUPPORTED;
+      case "tx_fee_bump_inner_failed":
+        return txFEE_BUMP_INNER_FAILED;
+      case "tx_bad_sponsorship":
+        return txBAD_SPONSORSHIP;
+      case "tx_bad_min_seq_age_or_gap":
+        return txBAD_MIN_SEQ_AGE_OR_GAP;
+      case "tx_malformed":
+        return txMALFORMED;
+      case "tx_soroban_invalid":
+        return txSOROBAN_INVALID;
+      default:
+        throw new IOException("Unknown TransactionResultCode value: " + value);
+    }
+  }
+
+  public static TransactionResultCode fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
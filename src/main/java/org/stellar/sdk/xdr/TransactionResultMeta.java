@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionResultMeta's original definition in the XDR file is:
@@ -38,6 +38,14 @@ public class TransactionResultMeta implements XdrElement {
     txApplyProcessing.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += result.encodedSize();
+    size += feeProcessing.encodedSize();
+    size += txApplyProcessing.encodedSize();
+    return size;
+  }
+
   public static TransactionResultMeta decode(XdrDataInputStream stream) throws IOException {
     TransactionResultMeta decodedTransactionResultMeta = new TransactionResultMeta();
     decodedTransactionResultMeta.result = TransactionResultPair.decode(stream);
@@ -46,14 +54,71 @@ public class TransactionResultMeta implements XdrElement {
     return decodedTransactionResultMeta;
   }
 
+  public static TransactionResultMeta decodeInto(
+      TransactionResultMeta existing, XdrDataInputStream stream) throws IOException {
+    TransactionResultMeta decodedTransactionResultMeta =
+        existing != null ? existing : new TransactionResultMeta();
+    decodedTransactionResultMeta.result =
+        TransactionResultPair.decodeInto(decodedTransactionResultMeta.result, stream);
+    decodedTransactionResultMeta.feeProcessing =
+        LedgerEntryChanges.decodeInto(decodedTransactionResultMeta.feeProcessing, stream);
+    decodedTransactionResultMeta.txApplyProcessing =
+        TransactionMeta.decodeInto(decodedTransactionResultMeta.txApplyProcessing, stream);
+    return decodedTransactionResultMeta;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    TransactionResultPair.skip(stream);
+    LedgerEntryChanges.skip(stream);
+    TransactionMeta.skip(stream);
+  }
+
   public static TransactionResultMeta fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionResultMeta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("result");
+    result.toJson(writer);
+    writer.name("fee_processing");
+    feeProcessing.toJson(writer);
+    writer.name("tx_apply_processing");
+    txApplyProcessing.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TransactionResultMeta fromJson(JsonReader reader) throws IOException {
+    TransactionResultMeta decodedTransactionResultMeta = new TransactionResultMeta();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "result":
+          decodedTransactionResultMeta.result = TransactionResultPair.fromJson(reader);
+          break;
+        case "fee_processing":
+          decodedTransactionResultMeta.feeProcessing = LedgerEntryChanges.fromJson(reader);
+          break;
+        case "tx_apply_processing":
+          decodedTransactionResultMeta.txApplyProcessing = TransactionMeta.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionResultMeta field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionResultMeta;
+  }
+
+  public static TransactionResultMeta fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
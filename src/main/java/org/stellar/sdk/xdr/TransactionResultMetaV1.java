@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionResultMetaV1's original definition in the XDR file is:
@@ -46,6 +46,16 @@ public class TransactionResultMetaV1 implements XdrElement {
     postTxApplyFeeProcessing.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += result.encodedSize();
+    size += feeProcessing.encodedSize();
+    size += txApplyProcessing.encodedSize();
+    size += postTxApplyFeeProcessing.encodedSize();
+    return size;
+  }
+
   public static TransactionResultMetaV1 decode(XdrDataInputStream stream) throws IOException {
     TransactionResultMetaV1 decodedTransactionResultMetaV1 = new TransactionResultMetaV1();
     decodedTransactionResultMetaV1.ext = ExtensionPoint.decode(stream);
@@ -56,14 +66,89 @@ public class TransactionResultMetaV1 implements XdrElement {
     return decodedTransactionResultMetaV1;
   }
 
+  public static TransactionResultMetaV1 decodeInto(
+      TransactionResultMetaV1 existing, XdrDataInputStream stream) throws IOException {
+    TransactionResultMetaV1 decodedTransactionResultMetaV1 =
+        existing != null ? existing : new TransactionResultMetaV1();
+    decodedTransactionResultMetaV1.ext =
+        ExtensionPoint.decodeInto(decodedTransactionResultMetaV1.ext, stream);
+    decodedTransactionResultMetaV1.result =
+        TransactionResultPair.decodeInto(decodedTransactionResultMetaV1.result, stream);
+    decodedTransactionResultMetaV1.feeProcessing =
+        LedgerEntryChanges.decodeInto(decodedTransactionResultMetaV1.feeProcessing, stream);
+    decodedTransactionResultMetaV1.txApplyProcessing =
+        TransactionMeta.decodeInto(decodedTransactionResultMetaV1.txApplyProcessing, stream);
+    decodedTransactionResultMetaV1.postTxApplyFeeProcessing =
+        LedgerEntryChanges.decodeInto(
+            decodedTransactionResultMetaV1.postTxApplyFeeProcessing, stream);
+    return decodedTransactionResultMetaV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    ExtensionPoint.skip(stream);
+    TransactionResultPair.skip(stream);
+    LedgerEntryChanges.skip(stream);
+    TransactionMeta.skip(stream);
+    LedgerEntryChanges.skip(stream);
+  }
+
   public static TransactionResultMetaV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionResultMetaV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.name("result");
+    result.toJson(writer);
+    writer.name("fee_processing");
+    feeProcessing.toJson(writer);
+    writer.name("tx_apply_processing");
+    txApplyProcessing.toJson(writer);
+    writer.name("post_tx_apply_fee_processing");
+    postTxApplyFeeProcessing.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TransactionResultMetaV1 fromJson(JsonReader reader) throws IOException {
+    TransactionResultMetaV1 decodedTransactionResultMetaV1 = new TransactionResultMetaV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "ext":
+          decodedTransactionResultMetaV1.ext = ExtensionPoint.fromJson(reader);
+          break;
+        case "result":
+          decodedTransactionResultMetaV1.result = TransactionResultPair.fromJson(reader);
+          break;
+        case "fee_processing":
+          decodedTransactionResultMetaV1.feeProcessing = LedgerEntryChanges.fromJson(reader);
+          break;
+        case "tx_apply_processing":
+          decodedTransactionResultMetaV1.txApplyProcessing = TransactionMeta.fromJson(reader);
+          break;
+        case "post_tx_apply_fee_processing":
+          decodedTransactionResultMetaV1.postTxApplyFeeProcessing =
+              LedgerEntryChanges.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionResultMetaV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionResultMetaV1;
+  }
+
+  public static TransactionResultMetaV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
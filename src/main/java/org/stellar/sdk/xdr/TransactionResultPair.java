@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionResultPair's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class TransactionResultPair implements XdrElement {
     result.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += transactionHash.encodedSize();
+    size += result.encodedSize();
+    return size;
+  }
+
   public static TransactionResultPair decode(XdrDataInputStream stream) throws IOException {
     TransactionResultPair decodedTransactionResultPair = new TransactionResultPair();
     decodedTransactionResultPair.transactionHash = Hash.decode(stream);
@@ -42,14 +49,63 @@ public class TransactionResultPair implements XdrElement {
     return decodedTransactionResultPair;
   }
 
+  public static TransactionResultPair decodeInto(
+      TransactionResultPair existing, XdrDataInputStream stream) throws IOException {
+    TransactionResultPair decodedTransactionResultPair =
+        existing != null ? existing : new TransactionResultPair();
+    decodedTransactionResultPair.transactionHash =
+        Hash.decodeInto(decodedTransactionResultPair.transactionHash, stream);
+    decodedTransactionResultPair.result =
+        TransactionResult.decodeInto(decodedTransactionResultPair.result, stream);
+    return decodedTransactionResultPair;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+    TransactionResult.skip(stream);
+  }
+
   public static TransactionResultPair fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionResultPair fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("transaction_hash");
+    transactionHash.toJson(writer);
+    writer.name("result");
+    result.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TransactionResultPair fromJson(JsonReader reader) throws IOException {
+    TransactionResultPair decodedTransactionResultPair = new TransactionResultPair();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "transaction_hash":
+          decodedTransactionResultPair.transactionHash = Hash.fromJson(reader);
+          break;
+        case "result":
+          decodedTransactionResultPair.result = TransactionResult.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionResultPair field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionResultPair;
+  }
+
+  public static TransactionResultPair fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
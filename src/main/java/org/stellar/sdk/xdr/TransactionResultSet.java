@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionResultSet's original definition in the XDR file is:
@@ -36,9 +36,19 @@ public class TransactionResultSet implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int resultsSize = getResults().length;
+    size += 4;
+    for (int i = 0; i < resultsSize; i++) {
+      size += results[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionResultSet decode(XdrDataInputStream stream) throws IOException {
     TransactionResultSet decodedTransactionResultSet = new TransactionResultSet();
-    int resultsSize = stream.readInt();
+    int resultsSize = stream.readLength(4);
     decodedTransactionResultSet.results = new TransactionResultPair[resultsSize];
     for (int i = 0; i < resultsSize; i++) {
       decodedTransactionResultSet.results[i] = TransactionResultPair.decode(stream);
@@ -46,14 +56,66 @@ public class TransactionResultSet implements XdrElement {
     return decodedTransactionResultSet;
   }
 
+  public static TransactionResultSet decodeInto(
+      TransactionResultSet existing, XdrDataInputStream stream) throws IOException {
+    TransactionResultSet decodedTransactionResultSet =
+        existing != null ? existing : new TransactionResultSet();
+    int resultsSize = stream.readLength(4);
+    decodedTransactionResultSet.results =
+        XdrRecycler.resize(
+            decodedTransactionResultSet.results, resultsSize, TransactionResultPair[]::new);
+    for (int i = 0; i < resultsSize; i++) {
+      decodedTransactionResultSet.results[i] =
+          TransactionResultPair.decodeInto(decodedTransactionResultSet.results[i], stream);
+    }
+    return decodedTransactionResultSet;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int resultsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < resultsSize; i++) {
+      TransactionResultPair.skip(stream);
+    }
+  }
+
   public static TransactionResultSet fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionResultSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("results");
+    XdrJson.writeArray(writer, results);
+    writer.endObject();
+  }
+
+  public static TransactionResultSet fromJson(JsonReader reader) throws IOException {
+    TransactionResultSet decodedTransactionResultSet = new TransactionResultSet();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "results":
+          decodedTransactionResultSet.results =
+              XdrJson.readArray(
+                  reader, TransactionResultPair[]::new, TransactionResultPair::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown TransactionResultSet field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionResultSet;
+  }
+
+  public static TransactionResultSet fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
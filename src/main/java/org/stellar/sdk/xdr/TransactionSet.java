@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionSet's original definition in the XDR file is:
@@ -39,10 +39,21 @@ public class TransactionSet implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += previousLedgerHash.encodedSize();
+    int txsSize = getTxs().length;
+    size += 4;
+    for (int i = 0; i < txsSize; i++) {
+      size += txs[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionSet decode(XdrDataInputStream stream) throws IOException {
     TransactionSet decodedTransactionSet = new TransactionSet();
     decodedTransactionSet.previousLedgerHash = Hash.decode(stream);
-    int txsSize = stream.readInt();
+    int txsSize = stream.readLength(4);
     decodedTransactionSet.txs = new TransactionEnvelope[txsSize];
     for (int i = 0; i < txsSize; i++) {
       decodedTransactionSet.txs[i] = TransactionEnvelope.decode(stream);
@@ -50,14 +61,71 @@ public class TransactionSet implements XdrElement {
     return decodedTransactionSet;
   }
 
+  public static TransactionSet decodeInto(TransactionSet existing, XdrDataInputStream stream)
+      throws IOException {
+    TransactionSet decodedTransactionSet = existing != null ? existing : new TransactionSet();
+    decodedTransactionSet.previousLedgerHash =
+        Hash.decodeInto(decodedTransactionSet.previousLedgerHash, stream);
+    int txsSize = stream.readLength(4);
+    decodedTransactionSet.txs =
+        XdrRecycler.resize(decodedTransactionSet.txs, txsSize, TransactionEnvelope[]::new);
+    for (int i = 0; i < txsSize; i++) {
+      decodedTransactionSet.txs[i] =
+          TransactionEnvelope.decodeInto(decodedTransactionSet.txs[i], stream);
+    }
+    return decodedTransactionSet;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+    int txsSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < txsSize; i++) {
+      TransactionEnvelope.skip(stream);
+    }
+  }
+
   public static TransactionSet fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("previous_ledger_hash");
+    previousLedgerHash.toJson(writer);
+    writer.name("txs");
+    XdrJson.writeArray(writer, txs);
+    writer.endObject();
+  }
+
+  public static TransactionSet fromJson(JsonReader reader) throws IOException {
+    TransactionSet decodedTransactionSet = new TransactionSet();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "previous_ledger_hash":
+          decodedTransactionSet.previousLedgerHash = Hash.fromJson(reader);
+          break;
+        case "txs":
+          decodedTransactionSet.txs =
+              XdrJson.readArray(reader, TransactionEnvelope[]::new, TransactionEnvelope::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown TransactionSet field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionSet;
+  }
+
+  public static TransactionSet fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionSetV1's original definition in the XDR file is:
@@ -39,10 +39,21 @@ public class TransactionSetV1 implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += previousLedgerHash.encodedSize();
+    int phasesSize = getPhases().length;
+    size += 4;
+    for (int i = 0; i < phasesSize; i++) {
+      size += phases[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionSetV1 decode(XdrDataInputStream stream) throws IOException {
     TransactionSetV1 decodedTransactionSetV1 = new TransactionSetV1();
     decodedTransactionSetV1.previousLedgerHash = Hash.decode(stream);
-    int phasesSize = stream.readInt();
+    int phasesSize = stream.readLength(4);
     decodedTransactionSetV1.phases = new TransactionPhase[phasesSize];
     for (int i = 0; i < phasesSize; i++) {
       decodedTransactionSetV1.phases[i] = TransactionPhase.decode(stream);
@@ -50,14 +61,71 @@ public class TransactionSetV1 implements XdrElement {
     return decodedTransactionSetV1;
   }
 
+  public static TransactionSetV1 decodeInto(TransactionSetV1 existing, XdrDataInputStream stream)
+      throws IOException {
+    TransactionSetV1 decodedTransactionSetV1 = existing != null ? existing : new TransactionSetV1();
+    decodedTransactionSetV1.previousLedgerHash =
+        Hash.decodeInto(decodedTransactionSetV1.previousLedgerHash, stream);
+    int phasesSize = stream.readLength(4);
+    decodedTransactionSetV1.phases =
+        XdrRecycler.resize(decodedTransactionSetV1.phases, phasesSize, TransactionPhase[]::new);
+    for (int i = 0; i < phasesSize; i++) {
+      decodedTransactionSetV1.phases[i] =
+          TransactionPhase.decodeInto(decodedTransactionSetV1.phases[i], stream);
+    }
+    return decodedTransactionSetV1;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+    int phasesSize = stream.readLength(Integer.MAX_VALUE, 4);
+    for (int i = 0; i < phasesSize; i++) {
+      TransactionPhase.skip(stream);
+    }
+  }
+
   public static TransactionSetV1 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionSetV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("previous_ledger_hash");
+    previousLedgerHash.toJson(writer);
+    writer.name("phases");
+    XdrJson.writeArray(writer, phases);
+    writer.endObject();
+  }
+
+  public static TransactionSetV1 fromJson(JsonReader reader) throws IOException {
+    TransactionSetV1 decodedTransactionSetV1 = new TransactionSetV1();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "previous_ledger_hash":
+          decodedTransactionSetV1.previousLedgerHash = Hash.fromJson(reader);
+          break;
+        case "phases":
+          decodedTransactionSetV1.phases =
+              XdrJson.readArray(reader, TransactionPhase[]::new, TransactionPhase::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown TransactionSetV1 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionSetV1;
+  }
+
+  public static TransactionSetV1 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionSignaturePayload's original definition in the XDR file is:
@@ -43,6 +43,13 @@ public class TransactionSignaturePayload implements XdrElement {
     taggedTransaction.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += networkId.encodedSize();
+    size += taggedTransaction.encodedSize();
+    return size;
+  }
+
   public static TransactionSignaturePayload decode(XdrDataInputStream stream) throws IOException {
     TransactionSignaturePayload decodedTransactionSignaturePayload =
         new TransactionSignaturePayload();
@@ -52,17 +59,69 @@ public class TransactionSignaturePayload implements XdrElement {
     return decodedTransactionSignaturePayload;
   }
 
+  public static TransactionSignaturePayload decodeInto(
+      TransactionSignaturePayload existing, XdrDataInputStream stream) throws IOException {
+    TransactionSignaturePayload decodedTransactionSignaturePayload =
+        existing != null ? existing : new TransactionSignaturePayload();
+    decodedTransactionSignaturePayload.networkId =
+        Hash.decodeInto(decodedTransactionSignaturePayload.networkId, stream);
+    decodedTransactionSignaturePayload.taggedTransaction =
+        TransactionSignaturePayloadTaggedTransaction.decodeInto(
+            decodedTransactionSignaturePayload.taggedTransaction, stream);
+    return decodedTransactionSignaturePayload;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Hash.skip(stream);
+    TransactionSignaturePayloadTaggedTransaction.skip(stream);
+  }
+
   public static TransactionSignaturePayload fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionSignaturePayload fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("network_id");
+    networkId.toJson(writer);
+    writer.name("tagged_transaction");
+    taggedTransaction.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TransactionSignaturePayload fromJson(JsonReader reader) throws IOException {
+    TransactionSignaturePayload decodedTransactionSignaturePayload =
+        new TransactionSignaturePayload();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "network_id":
+          decodedTransactionSignaturePayload.networkId = Hash.fromJson(reader);
+          break;
+        case "tagged_transaction":
+          decodedTransactionSignaturePayload.taggedTransaction =
+              TransactionSignaturePayloadTaggedTransaction.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionSignaturePayload field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionSignaturePayload;
+  }
+
+  public static TransactionSignaturePayload fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * TransactionSignaturePayloadTaggedTransaction's original definition in the XDR file is:
    *
@@ -98,6 +157,20 @@ public class TransactionSignaturePayload implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          size += tx.encodedSize();
+          break;
+        case ENVELOPE_TYPE_TX_FEE_BUMP:
+          size += feeBump.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static TransactionSignaturePayloadTaggedTransaction decode(XdrDataInputStream stream)
         throws IOException {
       TransactionSignaturePayloadTaggedTransaction
@@ -117,17 +190,105 @@ public class TransactionSignaturePayload implements XdrElement {
       return decodedTransactionSignaturePayloadTaggedTransaction;
     }
 
+    public static TransactionSignaturePayloadTaggedTransaction decodeInto(
+        TransactionSignaturePayloadTaggedTransaction existing, XdrDataInputStream stream)
+        throws IOException {
+      EnvelopeType discriminant = EnvelopeType.decode(stream);
+      TransactionSignaturePayloadTaggedTransaction
+          decodedTransactionSignaturePayloadTaggedTransaction =
+              existing != null && discriminant.equals(existing.discriminant)
+                  ? existing
+                  : new TransactionSignaturePayloadTaggedTransaction();
+      decodedTransactionSignaturePayloadTaggedTransaction.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          decodedTransactionSignaturePayloadTaggedTransaction.tx =
+              Transaction.decodeInto(
+                  decodedTransactionSignaturePayloadTaggedTransaction.tx, stream);
+          break;
+        case ENVELOPE_TYPE_TX_FEE_BUMP:
+          decodedTransactionSignaturePayloadTaggedTransaction.feeBump =
+              FeeBumpTransaction.decodeInto(
+                  decodedTransactionSignaturePayloadTaggedTransaction.feeBump, stream);
+          break;
+      }
+      return decodedTransactionSignaturePayloadTaggedTransaction;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      EnvelopeType discriminant = EnvelopeType.decode(stream);
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          Transaction.skip(stream);
+          break;
+        case ENVELOPE_TYPE_TX_FEE_BUMP:
+          FeeBumpTransaction.skip(stream);
+          break;
+        default:
+          throw new IOException(
+              "Unknown TransactionSignaturePayloadTaggedTransaction discriminant: " + discriminant);
+      }
+    }
+
     public static TransactionSignaturePayloadTaggedTransaction fromXdrBase64(String xdr)
         throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static TransactionSignaturePayloadTaggedTransaction fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          writer.beginObject();
+          writer.name("tx");
+          tx.toJson(writer);
+          writer.endObject();
+          break;
+        case ENVELOPE_TYPE_TX_FEE_BUMP:
+          writer.beginObject();
+          writer.name("tx_fee_bump");
+          feeBump.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static TransactionSignaturePayloadTaggedTransaction fromJson(JsonReader reader)
+        throws IOException {
+      TransactionSignaturePayloadTaggedTransaction
+          decodedTransactionSignaturePayloadTaggedTransaction =
+              new TransactionSignaturePayloadTaggedTransaction();
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "tx":
+          decodedTransactionSignaturePayloadTaggedTransaction.setDiscriminant(
+              EnvelopeType.ENVELOPE_TYPE_TX);
+          decodedTransactionSignaturePayloadTaggedTransaction.tx = Transaction.fromJson(reader);
+          break;
+        case "tx_fee_bump":
+          decodedTransactionSignaturePayloadTaggedTransaction.setDiscriminant(
+              EnvelopeType.ENVELOPE_TYPE_TX_FEE_BUMP);
+          decodedTransactionSignaturePayloadTaggedTransaction.feeBump =
+              FeeBumpTransaction.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionSignaturePayloadTaggedTransaction arm: " + key);
+      }
+      reader.endObject();
+      return decodedTransactionSignaturePayloadTaggedTransaction;
+    }
+
+    public static TransactionSignaturePayloadTaggedTransaction fromJson(String json)
+        throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
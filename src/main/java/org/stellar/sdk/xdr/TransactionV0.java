@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionV0's original definition in the XDR file is:
@@ -64,6 +64,27 @@ public class TransactionV0 implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += sourceAccountEd25519.encodedSize();
+    size += fee.encodedSize();
+    size += seqNum.encodedSize();
+    if (timeBounds != null) {
+      size += 4;
+      size += timeBounds.encodedSize();
+    } else {
+      size += 4;
+    }
+    size += memo.encodedSize();
+    int operationsSize = getOperations().length;
+    size += 4;
+    for (int i = 0; i < operationsSize; i++) {
+      size += operations[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static TransactionV0 decode(XdrDataInputStream stream) throws IOException {
     TransactionV0 decodedTransactionV0 = new TransactionV0();
     decodedTransactionV0.sourceAccountEd25519 = Uint256.decode(stream);
@@ -74,7 +95,7 @@ public class TransactionV0 implements XdrElement {
       decodedTransactionV0.timeBounds = TimeBounds.decode(stream);
     }
     decodedTransactionV0.memo = Memo.decode(stream);
-    int operationsSize = stream.readInt();
+    int operationsSize = stream.readLength(4);
     decodedTransactionV0.operations = new Operation[operationsSize];
     for (int i = 0; i < operationsSize; i++) {
       decodedTransactionV0.operations[i] = Operation.decode(stream);
@@ -83,17 +104,117 @@ public class TransactionV0 implements XdrElement {
     return decodedTransactionV0;
   }
 
+  public static TransactionV0 decodeInto(TransactionV0 existing, XdrDataInputStream stream)
+      throws IOException {
+    TransactionV0 decodedTransactionV0 = existing != null ? existing : new TransactionV0();
+    decodedTransactionV0.sourceAccountEd25519 =
+        Uint256.decodeInto(decodedTransactionV0.sourceAccountEd25519, stream);
+    decodedTransactionV0.fee = Uint32.decodeInto(decodedTransactionV0.fee, stream);
+    decodedTransactionV0.seqNum = SequenceNumber.decodeInto(decodedTransactionV0.seqNum, stream);
+    int timeBoundsPresent = stream.readInt();
+    if (timeBoundsPresent != 0) {
+      decodedTransactionV0.timeBounds =
+          TimeBounds.decodeInto(decodedTransactionV0.timeBounds, stream);
+    } else {
+      decodedTransactionV0.timeBounds = null;
+    }
+    decodedTransactionV0.memo = Memo.decodeInto(decodedTransactionV0.memo, stream);
+    int operationsSize = stream.readLength(4);
+    decodedTransactionV0.operations =
+        XdrRecycler.resize(decodedTransactionV0.operations, operationsSize, Operation[]::new);
+    for (int i = 0; i < operationsSize; i++) {
+      decodedTransactionV0.operations[i] =
+          Operation.decodeInto(decodedTransactionV0.operations[i], stream);
+    }
+    decodedTransactionV0.ext = TransactionV0Ext.decodeInto(decodedTransactionV0.ext, stream);
+    return decodedTransactionV0;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint256.skip(stream);
+    Uint32.skip(stream);
+    SequenceNumber.skip(stream);
+    if (stream.readXdrBoolean()) {
+      TimeBounds.skip(stream);
+    }
+    Memo.skip(stream);
+    int operationsSize = stream.readLength(100, 4);
+    for (int i = 0; i < operationsSize; i++) {
+      Operation.skip(stream);
+    }
+    TransactionV0Ext.skip(stream);
+  }
+
   public static TransactionV0 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("source_account_ed25519");
+    sourceAccountEd25519.toJson(writer);
+    writer.name("fee");
+    fee.toJson(writer);
+    writer.name("seq_num");
+    seqNum.toJson(writer);
+    writer.name("time_bounds");
+    XdrJson.writeOptional(writer, timeBounds);
+    writer.name("memo");
+    memo.toJson(writer);
+    writer.name("operations");
+    XdrJson.writeArray(writer, operations);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TransactionV0 fromJson(JsonReader reader) throws IOException {
+    TransactionV0 decodedTransactionV0 = new TransactionV0();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "source_account_ed25519":
+          decodedTransactionV0.sourceAccountEd25519 = Uint256.fromJson(reader);
+          break;
+        case "fee":
+          decodedTransactionV0.fee = Uint32.fromJson(reader);
+          break;
+        case "seq_num":
+          decodedTransactionV0.seqNum = SequenceNumber.fromJson(reader);
+          break;
+        case "time_bounds":
+          decodedTransactionV0.timeBounds = XdrJson.readOptional(reader, TimeBounds::fromJson);
+          break;
+        case "memo":
+          decodedTransactionV0.memo = Memo.fromJson(reader);
+          break;
+        case "operations":
+          decodedTransactionV0.operations =
+              XdrJson.readArray(reader, Operation[]::new, Operation::fromJson);
+          break;
+        case "ext":
+          decodedTransactionV0.ext = TransactionV0Ext.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TransactionV0 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionV0;
+  }
+
+  public static TransactionV0 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * TransactionV0Ext's original definition in the XDR file is:
    *
@@ -120,6 +241,16 @@ public class TransactionV0 implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static TransactionV0Ext decode(XdrDataInputStream stream) throws IOException {
       TransactionV0Ext decodedTransactionV0Ext = new TransactionV0Ext();
       Integer discriminant = stream.readInt();
@@ -131,15 +262,65 @@ public class TransactionV0 implements XdrElement {
       return decodedTransactionV0Ext;
     }
 
+    public static TransactionV0Ext decodeInto(TransactionV0Ext existing, XdrDataInputStream stream)
+        throws IOException {
+      Integer discriminant = stream.readInt();
+      TransactionV0Ext decodedTransactionV0Ext =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new TransactionV0Ext();
+      decodedTransactionV0Ext.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedTransactionV0Ext;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown TransactionV0Ext discriminant: " + discriminant);
+      }
+    }
+
     public static TransactionV0Ext fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static TransactionV0Ext fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static TransactionV0Ext fromJson(JsonReader reader) throws IOException {
+      TransactionV0Ext decodedTransactionV0Ext = new TransactionV0Ext();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedTransactionV0Ext.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown TransactionV0Ext arm: " + key);
+      }
+      return decodedTransactionV0Ext;
+    }
+
+    public static TransactionV0Ext fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
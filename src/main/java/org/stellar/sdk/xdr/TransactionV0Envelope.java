@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionV0Envelope's original definition in the XDR file is:
@@ -41,10 +41,21 @@ public class TransactionV0Envelope implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += tx.encodedSize();
+    int signaturesSize = getSignatures().length;
+    size += 4;
+    for (int i = 0; i < signaturesSize; i++) {
+      size += signatures[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionV0Envelope decode(XdrDataInputStream stream) throws IOException {
     TransactionV0Envelope decodedTransactionV0Envelope = new TransactionV0Envelope();
     decodedTransactionV0Envelope.tx = TransactionV0.decode(stream);
-    int signaturesSize = stream.readInt();
+    int signaturesSize = stream.readLength(4);
     decodedTransactionV0Envelope.signatures = new DecoratedSignature[signaturesSize];
     for (int i = 0; i < signaturesSize; i++) {
       decodedTransactionV0Envelope.signatures[i] = DecoratedSignature.decode(stream);
@@ -52,14 +63,73 @@ public class TransactionV0Envelope implements XdrElement {
     return decodedTransactionV0Envelope;
   }
 
+  public static TransactionV0Envelope decodeInto(
+      TransactionV0Envelope existing, XdrDataInputStream stream) throws IOException {
+    TransactionV0Envelope decodedTransactionV0Envelope =
+        existing != null ? existing : new TransactionV0Envelope();
+    decodedTransactionV0Envelope.tx =
+        TransactionV0.decodeInto(decodedTransactionV0Envelope.tx, stream);
+    int signaturesSize = stream.readLength(4);
+    decodedTransactionV0Envelope.signatures =
+        XdrRecycler.resize(
+            decodedTransactionV0Envelope.signatures, signaturesSize, DecoratedSignature[]::new);
+    for (int i = 0; i < signaturesSize; i++) {
+      decodedTransactionV0Envelope.signatures[i] =
+          DecoratedSignature.decodeInto(decodedTransactionV0Envelope.signatures[i], stream);
+    }
+    return decodedTransactionV0Envelope;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    TransactionV0.skip(stream);
+    int signaturesSize = stream.readLength(20, 4);
+    for (int i = 0; i < signaturesSize; i++) {
+      DecoratedSignature.skip(stream);
+    }
+  }
+
   public static TransactionV0Envelope fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionV0Envelope fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx");
+    tx.toJson(writer);
+    writer.name("signatures");
+    XdrJson.writeArray(writer, signatures);
+    writer.endObject();
+  }
+
+  public static TransactionV0Envelope fromJson(JsonReader reader) throws IOException {
+    TransactionV0Envelope decodedTransactionV0Envelope = new TransactionV0Envelope();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx":
+          decodedTransactionV0Envelope.tx = TransactionV0.fromJson(reader);
+          break;
+        case "signatures":
+          decodedTransactionV0Envelope.signatures =
+              XdrJson.readArray(reader, DecoratedSignature[]::new, DecoratedSignature::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown TransactionV0Envelope field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionV0Envelope;
+  }
+
+  public static TransactionV0Envelope fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TransactionV1Envelope's original definition in the XDR file is:
@@ -41,10 +41,21 @@ public class TransactionV1Envelope implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += tx.encodedSize();
+    int signaturesSize = getSignatures().length;
+    size += 4;
+    for (int i = 0; i < signaturesSize; i++) {
+      size += signatures[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionV1Envelope decode(XdrDataInputStream stream) throws IOException {
     TransactionV1Envelope decodedTransactionV1Envelope = new TransactionV1Envelope();
     decodedTransactionV1Envelope.tx = Transaction.decode(stream);
-    int signaturesSize = stream.readInt();
+    int signaturesSize = stream.readLength(4);
     decodedTransactionV1Envelope.signatures = new DecoratedSignature[signaturesSize];
     for (int i = 0; i < signaturesSize; i++) {
       decodedTransactionV1Envelope.signatures[i] = DecoratedSignature.decode(stream);
@@ -52,14 +63,73 @@ public class TransactionV1Envelope implements XdrElement {
     return decodedTransactionV1Envelope;
   }
 
+  public static TransactionV1Envelope decodeInto(
+      TransactionV1Envelope existing, XdrDataInputStream stream) throws IOException {
+    TransactionV1Envelope decodedTransactionV1Envelope =
+        existing != null ? existing : new TransactionV1Envelope();
+    decodedTransactionV1Envelope.tx =
+        Transaction.decodeInto(decodedTransactionV1Envelope.tx, stream);
+    int signaturesSize = stream.readLength(4);
+    decodedTransactionV1Envelope.signatures =
+        XdrRecycler.resize(
+            decodedTransactionV1Envelope.signatures, signaturesSize, DecoratedSignature[]::new);
+    for (int i = 0; i < signaturesSize; i++) {
+      decodedTransactionV1Envelope.signatures[i] =
+          DecoratedSignature.decodeInto(decodedTransactionV1Envelope.signatures[i], stream);
+    }
+    return decodedTransactionV1Envelope;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Transaction.skip(stream);
+    int signaturesSize = stream.readLength(20, 4);
+    for (int i = 0; i < signaturesSize; i++) {
+      DecoratedSignature.skip(stream);
+    }
+  }
+
   public static TransactionV1Envelope fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TransactionV1Envelope fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("tx");
+    tx.toJson(writer);
+    writer.name("signatures");
+    XdrJson.writeArray(writer, signatures);
+    writer.endObject();
+  }
+
+  public static TransactionV1Envelope fromJson(JsonReader reader) throws IOException {
+    TransactionV1Envelope decodedTransactionV1Envelope = new TransactionV1Envelope();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "tx":
+          decodedTransactionV1Envelope.tx = Transaction.fromJson(reader);
+          break;
+        case "signatures":
+          decodedTransactionV1Envelope.signatures =
+              XdrJson.readArray(reader, DecoratedSignature[]::new, DecoratedSignature::fromJson);
+          break;
+        default:
+          throw new IOException("Unknown TransactionV1Envelope field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTransactionV1Envelope;
+  }
+
+  public static TransactionV1Envelope fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
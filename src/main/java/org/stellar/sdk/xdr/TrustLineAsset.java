@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TrustLineAsset's original definition in the XDR file is:
@@ -60,6 +61,25 @@ public class TrustLineAsset implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        size += alphaNum4.encodedSize();
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        size += alphaNum12.encodedSize();
+        break;
+      case ASSET_TYPE_POOL_SHARE:
+        size += liquidityPoolID.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static TrustLineAsset decode(XdrDataInputStream stream) throws IOException {
     TrustLineAsset decodedTrustLineAsset = new TrustLineAsset();
     AssetType discriminant = AssetType.decode(stream);
@@ -80,14 +100,125 @@ public class TrustLineAsset implements XdrElement {
     return decodedTrustLineAsset;
   }
 
+  public static TrustLineAsset decodeInto(TrustLineAsset existing, XdrDataInputStream stream)
+      throws IOException {
+    AssetType discriminant = AssetType.decode(stream);
+    TrustLineAsset decodedTrustLineAsset =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new TrustLineAsset();
+    decodedTrustLineAsset.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        decodedTrustLineAsset.alphaNum4 =
+            AlphaNum4.decodeInto(decodedTrustLineAsset.alphaNum4, stream);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        decodedTrustLineAsset.alphaNum12 =
+            AlphaNum12.decodeInto(decodedTrustLineAsset.alphaNum12, stream);
+        break;
+      case ASSET_TYPE_POOL_SHARE:
+        decodedTrustLineAsset.liquidityPoolID =
+            PoolID.decodeInto(decodedTrustLineAsset.liquidityPoolID, stream);
+        break;
+    }
+    return decodedTrustLineAsset;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AssetType discriminant = AssetType.decode(stream);
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        AlphaNum4.skip(stream);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        AlphaNum12.skip(stream);
+        break;
+      case ASSET_TYPE_POOL_SHARE:
+        PoolID.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown TrustLineAsset discriminant: " + discriminant);
+    }
+  }
+
   public static TrustLineAsset fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TrustLineAsset fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        writer.value("native");
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        writer.beginObject();
+        writer.name("credit_alphanum4");
+        alphaNum4.toJson(writer);
+        writer.endObject();
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        writer.beginObject();
+        writer.name("credit_alphanum12");
+        alphaNum12.toJson(writer);
+        writer.endObject();
+        break;
+      case ASSET_TYPE_POOL_SHARE:
+        writer.beginObject();
+        writer.name("pool_share");
+        liquidityPoolID.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static TrustLineAsset fromJson(JsonReader reader) throws IOException {
+    TrustLineAsset decodedTrustLineAsset = new TrustLineAsset();
+    if (reader.peek() == JsonToken.STRING) {
+      String key = reader.nextString();
+      switch (key) {
+        case "native":
+          decodedTrustLineAsset.setDiscriminant(AssetType.ASSET_TYPE_NATIVE);
+          break;
+        default:
+          throw new IOException("Unknown TrustLineAsset arm: " + key);
+      }
+      return decodedTrustLineAsset;
+    }
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "credit_alphanum4":
+        decodedTrustLineAsset.setDiscriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM4);
+        decodedTrustLineAsset.alphaNum4 = AlphaNum4.fromJson(reader);
+        break;
+      case "credit_alphanum12":
+        decodedTrustLineAsset.setDiscriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM12);
+        decodedTrustLineAsset.alphaNum12 = AlphaNum12.fromJson(reader);
+        break;
+      case "pool_share":
+        decodedTrustLineAsset.setDiscriminant(AssetType.ASSET_TYPE_POOL_SHARE);
+        decodedTrustLineAsset.liquidityPoolID = PoolID.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown TrustLineAsset arm: " + key);
+    }
+    reader.endObject();
+    return decodedTrustLineAsset;
+  }
+
+  public static TrustLineAsset fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
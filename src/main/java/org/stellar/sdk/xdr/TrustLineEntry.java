@@ -3,13 +3,14 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TrustLineEntry's original definition in the XDR file is:
@@ -70,6 +71,17 @@ public class TrustLineEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += accountID.encodedSize();
+    size += asset.encodedSize();
+    size += balance.encodedSize();
+    size += limit.encodedSize();
+    size += flags.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static TrustLineEntry decode(XdrDataInputStream stream) throws IOException {
     TrustLineEntry decodedTrustLineEntry = new TrustLineEntry();
     decodedTrustLineEntry.accountID = AccountID.decode(stream);
@@ -81,17 +93,91 @@ public class TrustLineEntry implements XdrElement {
     return decodedTrustLineEntry;
   }
 
+  public static TrustLineEntry decodeInto(TrustLineEntry existing, XdrDataInputStream stream)
+      throws IOException {
+    TrustLineEntry decodedTrustLineEntry = existing != null ? existing : new TrustLineEntry();
+    decodedTrustLineEntry.accountID = AccountID.decodeInto(decodedTrustLineEntry.accountID, stream);
+    decodedTrustLineEntry.asset = TrustLineAsset.decodeInto(decodedTrustLineEntry.asset, stream);
+    decodedTrustLineEntry.balance = Int64.decodeInto(decodedTrustLineEntry.balance, stream);
+    decodedTrustLineEntry.limit = Int64.decodeInto(decodedTrustLineEntry.limit, stream);
+    decodedTrustLineEntry.flags = Uint32.decodeInto(decodedTrustLineEntry.flags, stream);
+    decodedTrustLineEntry.ext = TrustLineEntryExt.decodeInto(decodedTrustLineEntry.ext, stream);
+    return decodedTrustLineEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    AccountID.skip(stream);
+    TrustLineAsset.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Uint32.skip(stream);
+    TrustLineEntryExt.skip(stream);
+  }
+
   public static TrustLineEntry fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TrustLineEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("account_id");
+    accountID.toJson(writer);
+    writer.name("asset");
+    asset.toJson(writer);
+    writer.name("balance");
+    balance.toJson(writer);
+    writer.name("limit");
+    limit.toJson(writer);
+    writer.name("flags");
+    flags.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TrustLineEntry fromJson(JsonReader reader) throws IOException {
+    TrustLineEntry decodedTrustLineEntry = new TrustLineEntry();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "account_id":
+          decodedTrustLineEntry.accountID = AccountID.fromJson(reader);
+          break;
+        case "asset":
+          decodedTrustLineEntry.asset = TrustLineAsset.fromJson(reader);
+          break;
+        case "balance":
+          decodedTrustLineEntry.balance = Int64.fromJson(reader);
+          break;
+        case "limit":
+          decodedTrustLineEntry.limit = Int64.fromJson(reader);
+          break;
+        case "flags":
+          decodedTrustLineEntry.flags = Uint32.fromJson(reader);
+          break;
+        case "ext":
+          decodedTrustLineEntry.ext = TrustLineEntryExt.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TrustLineEntry field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTrustLineEntry;
+  }
+
+  public static TrustLineEntry fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * TrustLineEntryExt's original definition in the XDR file is:
    *
@@ -136,6 +222,19 @@ public class TrustLineEntry implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static TrustLineEntryExt decode(XdrDataInputStream stream) throws IOException {
       TrustLineEntryExt decodedTrustLineEntryExt = new TrustLineEntryExt();
       Integer discriminant = stream.readInt();
@@ -150,17 +249,94 @@ public class TrustLineEntry implements XdrElement {
       return decodedTrustLineEntryExt;
     }
 
+    public static TrustLineEntryExt decodeInto(
+        TrustLineEntryExt existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      TrustLineEntryExt decodedTrustLineEntryExt =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new TrustLineEntryExt();
+      decodedTrustLineEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          decodedTrustLineEntryExt.v1 =
+              TrustLineEntryV1.decodeInto(decodedTrustLineEntryExt.v1, stream);
+          break;
+      }
+      return decodedTrustLineEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          TrustLineEntryV1.skip(stream);
+          break;
+        default:
+          throw new IOException("Unknown TrustLineEntryExt discriminant: " + discriminant);
+      }
+    }
+
     public static TrustLineEntryExt fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static TrustLineEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
 
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+        case 1:
+          writer.beginObject();
+          writer.name("v1");
+          v1.toJson(writer);
+          writer.endObject();
+          break;
+      }
+    }
+
+    public static TrustLineEntryExt fromJson(JsonReader reader) throws IOException {
+      TrustLineEntryExt decodedTrustLineEntryExt = new TrustLineEntryExt();
+      if (reader.peek() == JsonToken.STRING) {
+        String key = reader.nextString();
+        switch (key) {
+          case "v0":
+            decodedTrustLineEntryExt.setDiscriminant(0);
+            break;
+          default:
+            throw new IOException("Unknown TrustLineEntryExt arm: " + key);
+        }
+        return decodedTrustLineEntryExt;
+      }
+      reader.beginObject();
+      String key = reader.nextName();
+      switch (key) {
+        case "v1":
+          decodedTrustLineEntryExt.setDiscriminant(1);
+          decodedTrustLineEntryExt.v1 = TrustLineEntryV1.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TrustLineEntryExt arm: " + key);
+      }
+      reader.endObject();
+      return decodedTrustLineEntryExt;
+    }
+
+    public static TrustLineEntryExt fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
+
     /**
      * TrustLineEntryV1's original definition in the XDR file is:
      *
@@ -193,6 +369,13 @@ public class TrustLineEntry implements XdrElement {
         ext.encode(stream);
       }
 
+      public int encodedSize() {
+        int size = 0;
+        size += liabilities.encodedSize();
+        size += ext.encodedSize();
+        return size;
+      }
+
       public static TrustLineEntryV1 decode(XdrDataInputStream stream) throws IOException {
         TrustLineEntryV1 decodedTrustLineEntryV1 = new TrustLineEntryV1();
         decodedTrustLineEntryV1.liabilities = Liabilities.decode(stream);
@@ -200,17 +383,66 @@ public class TrustLineEntry implements XdrElement {
         return decodedTrustLineEntryV1;
       }
 
+      public static TrustLineEntryV1 decodeInto(
+          TrustLineEntryV1 existing, XdrDataInputStream stream) throws IOException {
+        TrustLineEntryV1 decodedTrustLineEntryV1 =
+            existing != null ? existing : new TrustLineEntryV1();
+        decodedTrustLineEntryV1.liabilities =
+            Liabilities.decodeInto(decodedTrustLineEntryV1.liabilities, stream);
+        decodedTrustLineEntryV1.ext =
+            TrustLineEntryV1Ext.decodeInto(decodedTrustLineEntryV1.ext, stream);
+        return decodedTrustLineEntryV1;
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        Liabilities.skip(stream);
+        TrustLineEntryV1Ext.skip(stream);
+      }
+
       public static TrustLineEntryV1 fromXdrBase64(String xdr) throws IOException {
-        byte[] bytes = Base64Factory.getInstance().decode(xdr);
-        return fromXdrByteArray(bytes);
+        XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+        return decode(xdrDataInputStream);
       }
 
       public static TrustLineEntryV1 fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
         return decode(xdrDataInputStream);
       }
 
+      @Override
+      public void toJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("liabilities");
+        liabilities.toJson(writer);
+        writer.name("ext");
+        ext.toJson(writer);
+        writer.endObject();
+      }
+
+      public static TrustLineEntryV1 fromJson(JsonReader reader) throws IOException {
+        TrustLineEntryV1 decodedTrustLineEntryV1 = new TrustLineEntryV1();
+        reader.beginObject();
+        while (reader.hasNext()) {
+          String key = reader.nextName();
+          switch (key) {
+            case "liabilities":
+              decodedTrustLineEntryV1.liabilities = Liabilities.fromJson(reader);
+              break;
+            case "ext":
+              decodedTrustLineEntryV1.ext = TrustLineEntryV1Ext.fromJson(reader);
+              break;
+            default:
+              throw new IOException("Unknown TrustLineEntryV1 field: " + key);
+          }
+        }
+        reader.endObject();
+        return decodedTrustLineEntryV1;
+      }
+
+      public static TrustLineEntryV1 fromJson(String json) throws IOException {
+        return XdrJson.fromJson(json, reader -> fromJson(reader));
+      }
+
       /**
        * TrustLineEntryV1Ext's original definition in the XDR file is:
        *
@@ -243,6 +475,19 @@ public class TrustLineEntry implements XdrElement {
           }
         }
 
+        public int encodedSize() {
+          int size = 0;
+          size += 4;
+          switch (discriminant) {
+            case 0:
+              break;
+            case 2:
+              size += v2.encodedSize();
+              break;
+          }
+          return size;
+        }
+
         public static TrustLineEntryV1Ext decode(XdrDataInputStream stream) throws IOException {
           TrustLineEntryV1Ext decodedTrustLineEntryV1Ext = new TrustLineEntryV1Ext();
           Integer discriminant = stream.readInt();
@@ -257,16 +502,93 @@ public class TrustLineEntry implements XdrElement {
           return decodedTrustLineEntryV1Ext;
         }
 
+        public static TrustLineEntryV1Ext decodeInto(
+            TrustLineEntryV1Ext existing, XdrDataInputStream stream) throws IOException {
+          Integer discriminant = stream.readInt();
+          TrustLineEntryV1Ext decodedTrustLineEntryV1Ext =
+              existing != null && discriminant.equals(existing.discriminant)
+                  ? existing
+                  : new TrustLineEntryV1Ext();
+          decodedTrustLineEntryV1Ext.setDiscriminant(discriminant);
+          switch (discriminant) {
+            case 0:
+              break;
+            case 2:
+              decodedTrustLineEntryV1Ext.v2 =
+                  TrustLineEntryExtensionV2.decodeInto(decodedTrustLineEntryV1Ext.v2, stream);
+              break;
+          }
+          return decodedTrustLineEntryV1Ext;
+        }
+
+        public static void skip(XdrDataInputStream stream) throws IOException {
+          Integer discriminant = stream.readInt();
+          switch (discriminant) {
+            case 0:
+              break;
+            case 2:
+              TrustLineEntryExtensionV2.skip(stream);
+              break;
+            default:
+              throw new IOException("Unknown TrustLineEntryV1Ext discriminant: " + discriminant);
+          }
+        }
+
         public static TrustLineEntryV1Ext fromXdrBase64(String xdr) throws IOException {
-          byte[] bytes = Base64Factory.getInstance().decode(xdr);
-          return fromXdrByteArray(bytes);
+          XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+          return decode(xdrDataInputStream);
         }
 
         public static TrustLineEntryV1Ext fromXdrByteArray(byte[] xdr) throws IOException {
-          ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-          XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+          XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
           return decode(xdrDataInputStream);
         }
+
+        @Override
+        public void toJson(JsonWriter writer) throws IOException {
+          switch (discriminant) {
+            case 0:
+              writer.value("v0");
+              break;
+            case 2:
+              writer.beginObject();
+              writer.name("v2");
+              v2.toJson(writer);
+              writer.endObject();
+              break;
+          }
+        }
+
+        public static TrustLineEntryV1Ext fromJson(JsonReader reader) throws IOException {
+          TrustLineEntryV1Ext decodedTrustLineEntryV1Ext = new TrustLineEntryV1Ext();
+          if (reader.peek() == JsonToken.STRING) {
+            String key = reader.nextString();
+            switch (key) {
+              case "v0":
+                decodedTrustLineEntryV1Ext.setDiscriminant(0);
+                break;
+              default:
+                throw new IOException("Unknown TrustLineEntryV1Ext arm: " + key);
+            }
+            return decodedTrustLineEntryV1Ext;
+          }
+          reader.beginObject();
+          String key = reader.nextName();
+          switch (key) {
+            case "v2":
+              decodedTrustLineEntryV1Ext.setDiscriminant(2);
+              decodedTrustLineEntryV1Ext.v2 = TrustLineEntryExtensionV2.fromJson(reader);
+              break;
+            default:
+              throw new IOException("Unknown TrustLineEntryV1Ext arm: " + key);
+          }
+          reader.endObject();
+          return decodedTrustLineEntryV1Ext;
+        }
+
+        public static TrustLineEntryV1Ext fromJson(String json) throws IOException {
+          return XdrJson.fromJson(json, reader -> fromJson(reader));
+        }
       }
     }
   }
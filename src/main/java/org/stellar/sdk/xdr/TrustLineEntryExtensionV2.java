@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TrustLineEntryExtensionV2's original definition in the XDR file is:
@@ -41,6 +41,13 @@ public class TrustLineEntryExtensionV2 implements XdrElement {
     ext.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += liquidityPoolUseCount.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static TrustLineEntryExtensionV2 decode(XdrDataInputStream stream) throws IOException {
     TrustLineEntryExtensionV2 decodedTrustLineEntryExtensionV2 = new TrustLineEntryExtensionV2();
     decodedTrustLineEntryExtensionV2.liquidityPoolUseCount = Int32.decode(stream);
@@ -48,17 +55,66 @@ public class TrustLineEntryExtensionV2 implements XdrElement {
     return decodedTrustLineEntryExtensionV2;
   }
 
+  public static TrustLineEntryExtensionV2 decodeInto(
+      TrustLineEntryExtensionV2 existing, XdrDataInputStream stream) throws IOException {
+    TrustLineEntryExtensionV2 decodedTrustLineEntryExtensionV2 =
+        existing != null ? existing : new TrustLineEntryExtensionV2();
+    decodedTrustLineEntryExtensionV2.liquidityPoolUseCount =
+        Int32.decodeInto(decodedTrustLineEntryExtensionV2.liquidityPoolUseCount, stream);
+    decodedTrustLineEntryExtensionV2.ext =
+        TrustLineEntryExtensionV2Ext.decodeInto(decodedTrustLineEntryExtensionV2.ext, stream);
+    return decodedTrustLineEntryExtensionV2;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Int32.skip(stream);
+    TrustLineEntryExtensionV2Ext.skip(stream);
+  }
+
   public static TrustLineEntryExtensionV2 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TrustLineEntryExtensionV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("liquidity_pool_use_count");
+    liquidityPoolUseCount.toJson(writer);
+    writer.name("ext");
+    ext.toJson(writer);
+    writer.endObject();
+  }
+
+  public static TrustLineEntryExtensionV2 fromJson(JsonReader reader) throws IOException {
+    TrustLineEntryExtensionV2 decodedTrustLineEntryExtensionV2 = new TrustLineEntryExtensionV2();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "liquidity_pool_use_count":
+          decodedTrustLineEntryExtensionV2.liquidityPoolUseCount = Int32.fromJson(reader);
+          break;
+        case "ext":
+          decodedTrustLineEntryExtensionV2.ext = TrustLineEntryExtensionV2Ext.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown TrustLineEntryExtensionV2 field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedTrustLineEntryExtensionV2;
+  }
+
+  public static TrustLineEntryExtensionV2 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * TrustLineEntryExtensionV2Ext's original definition in the XDR file is:
    *
@@ -85,6 +141,16 @@ public class TrustLineEntryExtensionV2 implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static TrustLineEntryExtensionV2Ext decode(XdrDataInputStream stream)
         throws IOException {
       TrustLineEntryExtensionV2Ext decodedTrustLineEntryExtensionV2Ext =
@@ -98,15 +164,67 @@ public class TrustLineEntryExtensionV2 implements XdrElement {
       return decodedTrustLineEntryExtensionV2Ext;
     }
 
+    public static TrustLineEntryExtensionV2Ext decodeInto(
+        TrustLineEntryExtensionV2Ext existing, XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      TrustLineEntryExtensionV2Ext decodedTrustLineEntryExtensionV2Ext =
+          existing != null && discriminant.equals(existing.discriminant)
+              ? existing
+              : new TrustLineEntryExtensionV2Ext();
+      decodedTrustLineEntryExtensionV2Ext.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedTrustLineEntryExtensionV2Ext;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      Integer discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException(
+              "Unknown TrustLineEntryExtensionV2Ext discriminant: " + discriminant);
+      }
+    }
+
     public static TrustLineEntryExtensionV2Ext fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static TrustLineEntryExtensionV2Ext fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      switch (discriminant) {
+        case 0:
+          writer.value("v0");
+          break;
+      }
+    }
+
+    public static TrustLineEntryExtensionV2Ext fromJson(JsonReader reader) throws IOException {
+      TrustLineEntryExtensionV2Ext decodedTrustLineEntryExtensionV2Ext =
+          new TrustLineEntryExtensionV2Ext();
+      String key = reader.nextString();
+      switch (key) {
+        case "v0":
+          decodedTrustLineEntryExtensionV2Ext.setDiscriminant(0);
+          break;
+        default:
+          throw new IOException("Unknown TrustLineEntryExtensionV2Ext arm: " + key);
+      }
+      return decodedTrustLineEntryExtensionV2Ext;
+    }
+
+    public static TrustLineEntryExtensionV2Ext fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
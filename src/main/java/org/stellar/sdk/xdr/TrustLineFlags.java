@@ -3,9 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TrustLineFlags's original definition in the XDR file is:
@@ -53,18 +53,58 @@ public enum TrustLineFlags implements XdrElement {
     }
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    decode(stream);
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  public int encodedSize() {
+    return 4;
+  }
+
   public static TrustLineFlags fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TrustLineFlags fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (this) {
+      case AUTHORIZED_FLAG:
+        writer.value("authorized_flag");
+        break;
+      case AUTHORIZED_TO_MAINTAIN_LIABILITIES_FLAG:
+        writer.value("authorized_to_maintain_liabilities_flag");
+        break;
+      case TRUSTLINE_CLAWBACK_ENABLED_FLAG:
+        writer.value("trustline_clawback_enabled_flag");
+        break;
+    }
+  }
+
+  public static TrustLineFlags fromJson(JsonReader reader) throws IOException {
+    String value = reader.nextString();
+    switch (value) {
+      case "authorized_flag":
+        return AUTHORIZED_FLAG;
+      case "authorized_to_maintain_liabilities_flag":
+        return AUTHORIZED_TO_MAINTAIN_LIABILITIES_FLAG;
+      case "trustline_clawback_enabled_flag":
+        return TRUSTLINE_CLAWBACK_ENABLED_FLAG;
+      default:
+        throw new IOException("Unknown TrustLineFlags value: " + value);
+    }
+  }
+
+  public static TrustLineFlags fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TxAdvertVector's original definition in the XDR file is:
@@ -31,9 +31,19 @@ public class TxAdvertVector implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int TxAdvertVectorSize = getTxAdvertVector().length;
+    size += 4;
+    for (int i = 0; i < TxAdvertVectorSize; i++) {
+      size += TxAdvertVector[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TxAdvertVector decode(XdrDataInputStream stream) throws IOException {
     TxAdvertVector decodedTxAdvertVector = new TxAdvertVector();
-    int TxAdvertVectorSize = stream.readInt();
+    int TxAdvertVectorSize = stream.readLength(4);
     decodedTxAdvertVector.TxAdvertVector = new Hash[TxAdvertVectorSize];
     for (int i = 0; i < TxAdvertVectorSize; i++) {
       decodedTxAdvertVector.TxAdvertVector[i] = Hash.decode(stream);
@@ -41,14 +51,48 @@ public class TxAdvertVector implements XdrElement {
     return decodedTxAdvertVector;
   }
 
+  public static TxAdvertVector decodeInto(TxAdvertVector existing, XdrDataInputStream stream)
+      throws IOException {
+    TxAdvertVector decodedTxAdvertVector = existing != null ? existing : new TxAdvertVector();
+    int TxAdvertVectorSize = stream.readLength(4);
+    decodedTxAdvertVector.TxAdvertVector =
+        XdrRecycler.resize(decodedTxAdvertVector.TxAdvertVector, TxAdvertVectorSize, Hash[]::new);
+    for (int i = 0; i < TxAdvertVectorSize; i++) {
+      decodedTxAdvertVector.TxAdvertVector[i] =
+          Hash.decodeInto(decodedTxAdvertVector.TxAdvertVector[i], stream);
+    }
+    return decodedTxAdvertVector;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int TxAdvertVectorSize = stream.readLength(1000, 4);
+    for (int i = 0; i < TxAdvertVectorSize; i++) {
+      Hash.skip(stream);
+    }
+  }
+
   public static TxAdvertVector fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TxAdvertVector fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeArray(writer, TxAdvertVector);
+  }
+
+  public static TxAdvertVector fromJson(JsonReader reader) throws IOException {
+    TxAdvertVector decodedTxAdvertVector = new TxAdvertVector();
+    decodedTxAdvertVector.TxAdvertVector = XdrJson.readArray(reader, Hash[]::new, Hash::fromJson);
+    return decodedTxAdvertVector;
+  }
+
+  public static TxAdvertVector fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
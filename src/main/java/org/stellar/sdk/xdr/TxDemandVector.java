@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TxDemandVector's original definition in the XDR file is:
@@ -31,9 +31,19 @@ public class TxDemandVector implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int TxDemandVectorSize = getTxDemandVector().length;
+    size += 4;
+    for (int i = 0; i < TxDemandVectorSize; i++) {
+      size += TxDemandVector[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TxDemandVector decode(XdrDataInputStream stream) throws IOException {
     TxDemandVector decodedTxDemandVector = new TxDemandVector();
-    int TxDemandVectorSize = stream.readInt();
+    int TxDemandVectorSize = stream.readLength(4);
     decodedTxDemandVector.TxDemandVector = new Hash[TxDemandVectorSize];
     for (int i = 0; i < TxDemandVectorSize; i++) {
       decodedTxDemandVector.TxDemandVector[i] = Hash.decode(stream);
@@ -41,14 +51,48 @@ public class TxDemandVector implements XdrElement {
     return decodedTxDemandVector;
   }
 
+  public static TxDemandVector decodeInto(TxDemandVector existing, XdrDataInputStream stream)
+      throws IOException {
+    TxDemandVector decodedTxDemandVector = existing != null ? existing : new TxDemandVector();
+    int TxDemandVectorSize = stream.readLength(4);
+    decodedTxDemandVector.TxDemandVector =
+        XdrRecycler.resize(decodedTxDemandVector.TxDemandVector, TxDemandVectorSize, Hash[]::new);
+    for (int i = 0; i < TxDemandVectorSize; i++) {
+      decodedTxDemandVector.TxDemandVector[i] =
+          Hash.decodeInto(decodedTxDemandVector.TxDemandVector[i], stream);
+    }
+    return decodedTxDemandVector;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int TxDemandVectorSize = stream.readLength(1000, 4);
+    for (int i = 0; i < TxDemandVectorSize; i++) {
+      Hash.skip(stream);
+    }
+  }
+
   public static TxDemandVector fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TxDemandVector fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeArray(writer, TxDemandVector);
+  }
+
+  public static TxDemandVector fromJson(JsonReader reader) throws IOException {
+    TxDemandVector decodedTxDemandVector = new TxDemandVector();
+    decodedTxDemandVector.TxDemandVector = XdrJson.readArray(reader, Hash[]::new, Hash::fromJson);
+    return decodedTxDemandVector;
+  }
+
+  public static TxDemandVector fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
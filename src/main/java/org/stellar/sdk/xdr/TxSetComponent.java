@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * TxSetComponent's original definition in the XDR file is:
@@ -43,6 +43,17 @@ public class TxSetComponent implements XdrElement {
     }
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    switch (discriminant) {
+      case TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE:
+        size += txsMaybeDiscountedFee.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static TxSetComponent decode(XdrDataInputStream stream) throws IOException {
     TxSetComponent decodedTxSetComponent = new TxSetComponent();
     TxSetComponentType discriminant = TxSetComponentType.decode(stream);
@@ -56,17 +67,79 @@ public class TxSetComponent implements XdrElement {
     return decodedTxSetComponent;
   }
 
+  public static TxSetComponent decodeInto(TxSetComponent existing, XdrDataInputStream stream)
+      throws IOException {
+    TxSetComponentType discriminant = TxSetComponentType.decode(stream);
+    TxSetComponent decodedTxSetComponent =
+        existing != null && discriminant.equals(existing.discriminant)
+            ? existing
+            : new TxSetComponent();
+    decodedTxSetComponent.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE:
+        decodedTxSetComponent.txsMaybeDiscountedFee =
+            TxSetComponentTxsMaybeDiscountedFee.decodeInto(
+                decodedTxSetComponent.txsMaybeDiscountedFee, stream);
+        break;
+    }
+    return decodedTxSetComponent;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    TxSetComponentType discriminant = TxSetComponentType.decode(stream);
+    switch (discriminant) {
+      case TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE:
+        TxSetComponentTxsMaybeDiscountedFee.skip(stream);
+        break;
+      default:
+        throw new IOException("Unknown TxSetComponent discriminant: " + discriminant);
+    }
+  }
+
   public static TxSetComponent fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static TxSetComponent fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    switch (discriminant) {
+      case TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE:
+        writer.beginObject();
+        writer.name("fee");
+        txsMaybeDiscountedFee.toJson(writer);
+        writer.endObject();
+        break;
+    }
+  }
+
+  public static TxSetComponent fromJson(JsonReader reader) throws IOException {
+    TxSetComponent decodedTxSetComponent = new TxSetComponent();
+    reader.beginObject();
+    String key = reader.nextName();
+    switch (key) {
+      case "fee":
+        decodedTxSetComponent.setDiscriminant(
+            TxSetComponentType.TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE);
+        decodedTxSetComponent.txsMaybeDiscountedFee =
+            TxSetComponentTxsMaybeDiscountedFee.fromJson(reader);
+        break;
+      default:
+        throw new IOException("Unknown TxSetComponent arm: " + key);
+    }
+    reader.endObject();
+    return decodedTxSetComponent;
+  }
+
+  public static TxSetComponent fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   /**
    * TxSetComponentTxsMaybeDiscountedFee's original definition in the XDR file is:
    *
@@ -100,6 +173,22 @@ public class TxSetComponent implements XdrElement {
       }
     }
 
+    public int encodedSize() {
+      int size = 0;
+      if (baseFee != null) {
+        size += 4;
+        size += baseFee.encodedSize();
+      } else {
+        size += 4;
+      }
+      int txsSize = getTxs().length;
+      size += 4;
+      for (int i = 0; i < txsSize; i++) {
+        size += txs[i].encodedSize();
+      }
+      return size;
+    }
+
     public static TxSetComponentTxsMaybeDiscountedFee decode(XdrDataInputStream stream)
         throws IOException {
       TxSetComponentTxsMaybeDiscountedFee decodedTxSetComponentTxsMaybeDiscountedFee =
@@ -108,7 +197,7 @@ public class TxSetComponent implements XdrElement {
       if (baseFeePresent != 0) {
         decodedTxSetComponentTxsMaybeDiscountedFee.baseFee = Int64.decode(stream);
       }
-      int txsSize = stream.readInt();
+      int txsSize = stream.readLength(4);
       decodedTxSetComponentTxsMaybeDiscountedFee.txs = new TransactionEnvelope[txsSize];
       for (int i = 0; i < txsSize; i++) {
         decodedTxSetComponentTxsMaybeDiscountedFee.txs[i] = TransactionEnvelope.decode(stream);
@@ -116,16 +205,88 @@ public class TxSetComponent implements XdrElement {
       return decodedTxSetComponentTxsMaybeDiscountedFee;
     }
 
+    public static TxSetComponentTxsMaybeDiscountedFee decodeInto(
+        TxSetComponentTxsMaybeDiscountedFee existing, XdrDataInputStream stream)
+        throws IOException {
+      TxSetComponentTxsMaybeDiscountedFee decodedTxSetComponentTxsMaybeDiscountedFee =
+          existing != null ? existing : new TxSetComponentTxsMaybeDiscountedFee();
+      int baseFeePresent = stream.readInt();
+      if (baseFeePresent != 0) {
+        decodedTxSetComponentTxsMaybeDiscountedFee.baseFee =
+            Int64.decodeInto(decodedTxSetComponentTxsMaybeDiscountedFee.baseFee, stream);
+      } else {
+        decodedTxSetComponentTxsMaybeDiscountedFee.baseFee = null;
+      }
+      int txsSize = stream.readLength(4);
+      decodedTxSetComponentTxsMaybeDiscountedFee.txs =
+          XdrRecycler.resize(
+              decodedTxSetComponentTxsMaybeDiscountedFee.txs, txsSize, TransactionEnvelope[]::new);
+      for (int i = 0; i < txsSize; i++) {
+        decodedTxSetComponentTxsMaybeDiscountedFee.txs[i] =
+            TransactionEnvelope.decodeInto(
+                decodedTxSetComponentTxsMaybeDiscountedFee.txs[i], stream);
+      }
+      return decodedTxSetComponentTxsMaybeDiscountedFee;
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      if (stream.readXdrBoolean()) {
+        Int64.skip(stream);
+      }
+      int txsSize = stream.readLength(Integer.MAX_VALUE, 4);
+      for (int i = 0; i < txsSize; i++) {
+        TransactionEnvelope.skip(stream);
+      }
+    }
+
     public static TxSetComponentTxsMaybeDiscountedFee fromXdrBase64(String xdr) throws IOException {
-      byte[] bytes = Base64Factory.getInstance().decode(xdr);
-      return fromXdrByteArray(bytes);
+      XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+      return decode(xdrDataInputStream);
     }
 
     public static TxSetComponentTxsMaybeDiscountedFee fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
       return decode(xdrDataInputStream);
     }
+
+    @Override
+    public void toJson(JsonWriter writer) throws IOException {
+      writer.beginObject();
+      writer.name("base_fee");
+      XdrJson.writeOptional(writer, baseFee);
+      writer.name("txs");
+      XdrJson.writeArray(writer, txs);
+      writer.endObject();
+    }
+
+    public static TxSetComponentTxsMaybeDiscountedFee fromJson(JsonReader reader)
+        throws IOException {
+      TxSetComponentTxsMaybeDiscountedFee decodedTxSetComponentTxsMaybeDiscountedFee =
+          new TxSetComponentTxsMaybeDiscountedFee();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String key = reader.nextName();
+        switch (key) {
+          case "base_fee":
+            decodedTxSetComponentTxsMaybeDiscountedFee.baseFee =
+                XdrJson.readOptional(reader, Int64::fromJson);
+            break;
+          case "txs":
+            decodedTxSetComponentTxsMaybeDiscountedFee.txs =
+                XdrJson.readArray(
+                    reader, TransactionEnvelope[]::new, TransactionEnvelope::fromJson);
+            break;
+          default:
+            throw new IOException("Unknown TxSetComponentTxsMaybeDiscountedFee field: " + key);
+        }
+      }
+      reader.endObject();
+      return decodedTxSetComponentTxsMaybeDiscountedFee;
+    }
+
+    public static TxSetComponentTxsMaybeDiscountedFee fromJson(String json) throws IOException {
+      return XdrJson.fromJson(json, reader -> fromJson(reader));
+    }
   }
 }
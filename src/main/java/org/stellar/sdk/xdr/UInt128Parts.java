@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * UInt128Parts's original definition in the XDR file is:
@@ -34,6 +34,13 @@ public class UInt128Parts implements XdrElement {
     lo.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += hi.encodedSize();
+    size += lo.encodedSize();
+    return size;
+  }
+
   public static UInt128Parts decode(XdrDataInputStream stream) throws IOException {
     UInt128Parts decodedUInt128Parts = new UInt128Parts();
     decodedUInt128Parts.hi = Uint64.decode(stream);
@@ -41,14 +48,44 @@ public class UInt128Parts implements XdrElement {
     return decodedUInt128Parts;
   }
 
+  public static UInt128Parts decodeInto(UInt128Parts existing, XdrDataInputStream stream)
+      throws IOException {
+    UInt128Parts decodedUInt128Parts = existing != null ? existing : new UInt128Parts();
+    decodedUInt128Parts.hi = Uint64.decodeInto(decodedUInt128Parts.hi, stream);
+    decodedUInt128Parts.lo = Uint64.decodeInto(decodedUInt128Parts.lo, stream);
+    return decodedUInt128Parts;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+  }
+
   public static UInt128Parts fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static UInt128Parts fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    long[] parts = {XdrJson.bits(hi), XdrJson.bits(lo)};
+    writer.value(XdrJson.joinParts(parts, false).toString());
+  }
+
+  public static UInt128Parts fromJson(JsonReader reader) throws IOException {
+    long[] parts = XdrJson.splitParts(XdrJson.readInteger(reader), 2, false);
+    UInt128Parts decodedUInt128Parts = new UInt128Parts();
+    decodedUInt128Parts.hi = XdrJson.uint64(parts[0]);
+    decodedUInt128Parts.lo = XdrJson.uint64(parts[1]);
+    return decodedUInt128Parts;
+  }
+
+  public static UInt128Parts fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
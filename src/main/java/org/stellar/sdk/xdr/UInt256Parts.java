@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * UInt256Parts's original definition in the XDR file is:
@@ -40,6 +40,15 @@ public class UInt256Parts implements XdrElement {
     lo_lo.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += hi_hi.encodedSize();
+    size += hi_lo.encodedSize();
+    size += lo_hi.encodedSize();
+    size += lo_lo.encodedSize();
+    return size;
+  }
+
   public static UInt256Parts decode(XdrDataInputStream stream) throws IOException {
     UInt256Parts decodedUInt256Parts = new UInt256Parts();
     decodedUInt256Parts.hi_hi = Uint64.decode(stream);
@@ -49,14 +58,52 @@ public class UInt256Parts implements XdrElement {
     return decodedUInt256Parts;
   }
 
+  public static UInt256Parts decodeInto(UInt256Parts existing, XdrDataInputStream stream)
+      throws IOException {
+    UInt256Parts decodedUInt256Parts = existing != null ? existing : new UInt256Parts();
+    decodedUInt256Parts.hi_hi = Uint64.decodeInto(decodedUInt256Parts.hi_hi, stream);
+    decodedUInt256Parts.hi_lo = Uint64.decodeInto(decodedUInt256Parts.hi_lo, stream);
+    decodedUInt256Parts.lo_hi = Uint64.decodeInto(decodedUInt256Parts.lo_hi, stream);
+    decodedUInt256Parts.lo_lo = Uint64.decodeInto(decodedUInt256Parts.lo_lo, stream);
+    return decodedUInt256Parts;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+    Uint64.skip(stream);
+  }
+
   public static UInt256Parts fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static UInt256Parts fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    long[] parts = {
+      XdrJson.bits(hi_hi), XdrJson.bits(hi_lo), XdrJson.bits(lo_hi), XdrJson.bits(lo_lo)
+    };
+    writer.value(XdrJson.joinParts(parts, false).toString());
+  }
+
+  public static UInt256Parts fromJson(JsonReader reader) throws IOException {
+    long[] parts = XdrJson.splitParts(XdrJson.readInteger(reader), 4, false);
+    UInt256Parts decodedUInt256Parts = new UInt256Parts();
+    decodedUInt256Parts.hi_hi = XdrJson.uint64(parts[0]);
+    decodedUInt256Parts.hi_lo = XdrJson.uint64(parts[1]);
+    decodedUInt256Parts.lo_hi = XdrJson.uint64(parts[2]);
+    decodedUInt256Parts.lo_lo = XdrJson.uint64(parts[3]);
+    return decodedUInt256Parts;
+  }
+
+  public static UInt256Parts fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
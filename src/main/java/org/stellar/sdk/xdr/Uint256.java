@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Uint256's original definition in the XDR file is:
@@ -28,6 +28,13 @@ public class Uint256 implements XdrElement {
     stream.write(getUint256(), 0, uint256Size);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int uint256Size = uint256.length;
+    size += XdrDataOutputStream.paddedSize(uint256Size);
+    return size;
+  }
+
   public static Uint256 decode(XdrDataInputStream stream) throws IOException {
     Uint256 decodedUint256 = new Uint256();
     int uint256Size = 32;
@@ -36,14 +43,41 @@ public class Uint256 implements XdrElement {
     return decodedUint256;
   }
 
+  public static Uint256 decodeInto(Uint256 existing, XdrDataInputStream stream) throws IOException {
+    Uint256 decodedUint256 = existing != null ? existing : new Uint256();
+    int uint256Size = 32;
+    decodedUint256.uint256 = XdrRecycler.resize(decodedUint256.uint256, uint256Size);
+    stream.read(decodedUint256.uint256, 0, uint256Size);
+    return decodedUint256;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int uint256Size = 32;
+    stream.skipOpaque(uint256Size);
+  }
+
   public static Uint256 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Uint256 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeHex(writer, uint256);
+  }
+
+  public static Uint256 fromJson(JsonReader reader) throws IOException {
+    Uint256 decodedUint256 = new Uint256();
+    decodedUint256.uint256 = XdrJson.readHex(reader, 32);
+    return decodedUint256;
+  }
+
+  public static Uint256 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
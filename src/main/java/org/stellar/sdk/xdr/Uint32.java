@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Uint32's original definition in the XDR file is:
@@ -27,20 +27,48 @@ public class Uint32 implements XdrElement {
     uint32.encode(stream);
   }
 
+  public int encodedSize() {
+    return uint32.encodedSize();
+  }
+
   public static Uint32 decode(XdrDataInputStream stream) throws IOException {
     Uint32 decodedUint32 = new Uint32();
     decodedUint32.uint32 = XdrUnsignedInteger.decode(stream);
     return decodedUint32;
   }
 
+  public static Uint32 decodeInto(Uint32 existing, XdrDataInputStream stream) throws IOException {
+    Uint32 decodedUint32 = existing != null ? existing : new Uint32();
+    decodedUint32.uint32 = XdrUnsignedInteger.decode(stream);
+    return decodedUint32;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrUnsignedInteger.skip(stream);
+  }
+
   public static Uint32 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Uint32 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    uint32.toJson(writer);
+  }
+
+  public static Uint32 fromJson(JsonReader reader) throws IOException {
+    Uint32 decodedUint32 = new Uint32();
+    decodedUint32.uint32 = XdrUnsignedInteger.fromJson(reader);
+    return decodedUint32;
+  }
+
+  public static Uint32 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
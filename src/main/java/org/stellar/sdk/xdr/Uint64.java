@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Uint64's original definition in the XDR file is:
@@ -27,20 +27,48 @@ public class Uint64 implements XdrElement {
     uint64.encode(stream);
   }
 
+  public int encodedSize() {
+    return uint64.encodedSize();
+  }
+
   public static Uint64 decode(XdrDataInputStream stream) throws IOException {
     Uint64 decodedUint64 = new Uint64();
     decodedUint64.uint64 = XdrUnsignedHyperInteger.decode(stream);
     return decodedUint64;
   }
 
+  public static Uint64 decodeInto(Uint64 existing, XdrDataInputStream stream) throws IOException {
+    Uint64 decodedUint64 = existing != null ? existing : new Uint64();
+    decodedUint64.uint64 = XdrUnsignedHyperInteger.decode(stream);
+    return decodedUint64;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    XdrUnsignedHyperInteger.skip(stream);
+  }
+
   public static Uint64 fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Uint64 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    uint64.toJson(writer);
+  }
+
+  public static Uint64 fromJson(JsonReader reader) throws IOException {
+    Uint64 decodedUint64 = new Uint64();
+    decodedUint64.uint64 = XdrUnsignedHyperInteger.fromJson(reader);
+    return decodedUint64;
+  }
+
+  public static Uint64 fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
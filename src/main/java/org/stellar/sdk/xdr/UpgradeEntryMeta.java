@@ -3,13 +3,13 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * UpgradeEntryMeta's original definition in the XDR file is:
@@ -35,6 +35,13 @@ public class UpgradeEntryMeta implements XdrElement {
     changes.encode(stream);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    size += upgrade.encodedSize();
+    size += changes.encodedSize();
+    return size;
+  }
+
   public static UpgradeEntryMeta decode(XdrDataInputStream stream) throws IOException {
     UpgradeEntryMeta decodedUpgradeEntryMeta = new UpgradeEntryMeta();
     decodedUpgradeEntryMeta.upgrade = LedgerUpgrade.decode(stream);
@@ -42,14 +49,62 @@ public class UpgradeEntryMeta implements XdrElement {
     return decodedUpgradeEntryMeta;
   }
 
+  public static UpgradeEntryMeta decodeInto(UpgradeEntryMeta existing, XdrDataInputStream stream)
+      throws IOException {
+    UpgradeEntryMeta decodedUpgradeEntryMeta = existing != null ? existing : new UpgradeEntryMeta();
+    decodedUpgradeEntryMeta.upgrade =
+        LedgerUpgrade.decodeInto(decodedUpgradeEntryMeta.upgrade, stream);
+    decodedUpgradeEntryMeta.changes =
+        LedgerEntryChanges.decodeInto(decodedUpgradeEntryMeta.changes, stream);
+    return decodedUpgradeEntryMeta;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    LedgerUpgrade.skip(stream);
+    LedgerEntryChanges.skip(stream);
+  }
+
   public static UpgradeEntryMeta fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static UpgradeEntryMeta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("upgrade");
+    upgrade.toJson(writer);
+    writer.name("changes");
+    changes.toJson(writer);
+    writer.endObject();
+  }
+
+  public static UpgradeEntryMeta fromJson(JsonReader reader) throws IOException {
+    UpgradeEntryMeta decodedUpgradeEntryMeta = new UpgradeEntryMeta();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      switch (key) {
+        case "upgrade":
+          decodedUpgradeEntryMeta.upgrade = LedgerUpgrade.fromJson(reader);
+          break;
+        case "changes":
+          decodedUpgradeEntryMeta.changes = LedgerEntryChanges.fromJson(reader);
+          break;
+        default:
+          throw new IOException("Unknown UpgradeEntryMeta field: " + key);
+      }
+    }
+    reader.endObject();
+    return decodedUpgradeEntryMeta;
+  }
+
+  public static UpgradeEntryMeta fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
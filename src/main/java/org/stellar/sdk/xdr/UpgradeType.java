@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * UpgradeType's original definition in the XDR file is:
@@ -29,22 +29,59 @@ public class UpgradeType implements XdrElement {
     stream.write(getUpgradeType(), 0, UpgradeTypeSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int UpgradeTypeSize = UpgradeType.length;
+    size += 4;
+    size += XdrDataOutputStream.paddedSize(UpgradeTypeSize);
+    return size;
+  }
+
   public static UpgradeType decode(XdrDataInputStream stream) throws IOException {
     UpgradeType decodedUpgradeType = new UpgradeType();
-    int UpgradeTypeSize = stream.readInt();
+    int UpgradeTypeSize = stream.readLength(1);
     decodedUpgradeType.UpgradeType = new byte[UpgradeTypeSize];
     stream.read(decodedUpgradeType.UpgradeType, 0, UpgradeTypeSize);
     return decodedUpgradeType;
   }
 
+  public static UpgradeType decodeInto(UpgradeType existing, XdrDataInputStream stream)
+      throws IOException {
+    UpgradeType decodedUpgradeType = existing != null ? existing : new UpgradeType();
+    int UpgradeTypeSize = stream.readLength(1);
+    decodedUpgradeType.UpgradeType =
+        XdrRecycler.resize(decodedUpgradeType.UpgradeType, UpgradeTypeSize);
+    stream.read(decodedUpgradeType.UpgradeType, 0, UpgradeTypeSize);
+    return decodedUpgradeType;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int UpgradeTypeSize = stream.readLength(128, 1);
+    stream.skipOpaque(UpgradeTypeSize);
+  }
+
   public static UpgradeType fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static UpgradeType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeHex(writer, UpgradeType);
+  }
+
+  public static UpgradeType fromJson(JsonReader reader) throws IOException {
+    UpgradeType decodedUpgradeType = new UpgradeType();
+    decodedUpgradeType.UpgradeType = XdrJson.readHex(reader);
+    return decodedUpgradeType;
+  }
+
+  public static UpgradeType fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
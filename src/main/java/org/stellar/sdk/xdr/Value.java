@@ -3,12 +3,12 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Value's original definition in the XDR file is:
@@ -29,22 +29,57 @@ public class Value implements XdrElement {
     stream.write(getValue(), 0, ValueSize);
   }
 
+  public int encodedSize() {
+    int size = 0;
+    int ValueSize = Value.length;
+    size += 4;
+    size += XdrDataOutputStream.paddedSize(ValueSize);
+    return size;
+  }
+
   public static Value decode(XdrDataInputStream stream) throws IOException {
     Value decodedValue = new Value();
-    int ValueSize = stream.readInt();
+    int ValueSize = stream.readLength(1);
     decodedValue.Value = new byte[ValueSize];
     stream.read(decodedValue.Value, 0, ValueSize);
     return decodedValue;
   }
 
+  public static Value decodeInto(Value existing, XdrDataInputStream stream) throws IOException {
+    Value decodedValue = existing != null ? existing : new Value();
+    int ValueSize = stream.readLength(1);
+    decodedValue.Value = XdrRecycler.resize(decodedValue.Value, ValueSize);
+    stream.read(decodedValue.Value, 0, ValueSize);
+    return decodedValue;
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    int ValueSize = stream.readLength(Integer.MAX_VALUE, 1);
+    stream.skipOpaque(ValueSize);
+  }
+
   public static Value fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static Value fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    XdrJson.writeHex(writer, Value);
+  }
+
+  public static Value fromJson(JsonReader reader) throws IOException {
+    Value decodedValue = new Value();
+    decodedValue.Value = XdrJson.readHex(reader);
+    return decodedValue;
+  }
+
+  public static Value fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
@@ -0,0 +1,169 @@
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Incremental base64 (RFC 4648, standard alphabet) used to decode and encode XDR directly from and
+ * to characters, without holding the whole payload as bytes in between.
+ *
+ * <p>Like {@link java.util.Base64#getDecoder()}, the decoder does not accept line breaks or other
+ * characters outside of the alphabet, and padding is optional.
+ */
+final class XdrBase64 {
+  private static final char[] ALPHABET =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+  private static final int[] VALUES = new int[128];
+
+  static {
+    Arrays.fill(VALUES, -1);
+    for (int i = 0; i < ALPHABET.length; i++) {
+      VALUES[ALPHABET[i]] = i;
+    }
+  }
+
+  private XdrBase64() {}
+
+  /** Returns the number of characters needed to encode {@code length} bytes, with padding. */
+  static int encodedLength(int length) {
+    return (length + 2) / 3 * 4;
+  }
+
+  /** Decodes a sequence of base64 characters into buffers, a chunk at a time. */
+  static final class Decoder {
+    private final CharSequence src;
+    // The end of the characters to decode, excluding padding.
+    private final int end;
+    private int pos;
+
+    Decoder(CharSequence src) {
+      this.src = src;
+      int end = src.length();
+      if (end > 0 && src.charAt(end - 1) == '=') {
+        end--;
+        if (end > 0 && src.charAt(end - 1) == '=') {
+          end--;
+        }
+        if (src.length() % 4 != 0) {
+          throw new IllegalArgumentException("Input byte array has incorrect ending byte");
+        }
+      }
+      this.end = end;
+    }
+
+    /** Returns the number of bytes that are left to decode. */
+    int remaining() {
+      return (end - pos) * 3 / 4;
+    }
+
+    /**
+     * Decodes as many characters as fit into the remaining space of the specified buffer, which
+     * must have room for at least three bytes.
+     *
+     * @throws IllegalArgumentException if the input is not valid base64
+     */
+    void decode(ByteBuffer out) {
+      while (end - pos >= 4 && out.remaining() >= 3) {
+        int bits = value(pos) << 18 | value(pos + 1) << 12 | value(pos + 2) << 6 | value(pos + 3);
+        out.put((byte) (bits >> 16)).put((byte) (bits >> 8)).put((byte) bits);
+        pos += 4;
+      }
+      int left = end - pos;
+      if (left == 0 || left >= 4 || out.remaining() < 3) {
+        return;
+      }
+      if (left == 1) {
+        throw new IllegalArgumentException(
+            "Last unit does not have enough valid bits, at index " + pos);
+      }
+      int bits = value(pos) << 18 | value(pos + 1) << 12;
+      if (left == 3) {
+        bits |= value(pos + 2) << 6;
+        out.put((byte) (bits >> 16)).put((byte) (bits >> 8));
+      } else {
+        out.put((byte) (bits >> 16));
+      }
+      pos = end;
+    }
+
+    private int value(int index) {
+      char c = src.charAt(index);
+      int value = c < 128 ? VALUES[c] : -1;
+      if (value < 0) {
+        throw new IllegalArgumentException(
+            "Illegal base64 character " + Integer.toHexString(c) + " at index " + index);
+      }
+      return value;
+    }
+  }
+
+  /**
+   * An output stream that base64 encodes the bytes written to it and appends the characters to an
+   * {@link Appendable}. {@link #finish()} must be called after the last byte has been written.
+   */
+  static final class Encoder extends OutputStream {
+    private final Appendable out;
+    private final char[] chars = new char[1024];
+    private int charCount;
+    // Up to two bytes that do not form a complete group yet.
+    private int bits;
+    private int bitCount;
+
+    Encoder(Appendable out) {
+      this.out = out;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      bits = bits << 8 | (b & 0xff);
+      bitCount += 8;
+      if (bitCount == 24) {
+        if (charCount > chars.length - 4) {
+          flushChars();
+        }
+        chars[charCount++] = ALPHABET[(bits >> 18) & 0x3f];
+        chars[charCount++] = ALPHABET[(bits >> 12) & 0x3f];
+        chars[charCount++] = ALPHABET[(bits >> 6) & 0x3f];
+        chars[charCount++] = ALPHABET[bits & 0x3f];
+        bits = 0;
+        bitCount = 0;
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      for (int i = off; i < off + len; i++) {
+        write(b[i]);
+      }
+    }
+
+    /** Encodes the remaining bytes with padding, and appends all characters to the output. */
+    void finish() throws IOException {
+      if (charCount > chars.length - 4) {
+        flushChars();
+      }
+      if (bitCount == 8) {
+        chars[charCount++] = ALPHABET[(bits >> 2) & 0x3f];
+        chars[charCount++] = ALPHABET[(bits << 4) & 0x3f];
+        chars[charCount++] = '=';
+        chars[charCount++] = '=';
+      } else if (bitCount == 16) {
+        chars[charCount++] = ALPHABET[(bits >> 10) & 0x3f];
+        chars[charCount++] = ALPHABET[(bits >> 4) & 0x3f];
+        chars[charCount++] = ALPHABET[(bits << 2) & 0x3f];
+        chars[charCount++] = '=';
+      }
+      bits = 0;
+      bitCount = 0;
+      flushChars();
+    }
+
+    private void flushChars() throws IOException {
+      out.append(CharBuffer.wrap(chars, 0, charCount));
+      charCount = 0;
+    }
+  }
+}
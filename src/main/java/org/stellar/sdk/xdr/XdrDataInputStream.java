@@ -1,26 +1,328 @@
 package org.stellar.sdk.xdr;
 
+import java.io.DataInput;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
-public class XdrDataInputStream extends DataInputStream {
+/**
+ * Reads XDR encoded data.
+ *
+ * <p>The stream can either wrap an arbitrary {@link InputStream}, or read directly from a {@code
+ * byte[]} or {@link ByteBuffer}. When reading from a buffer, multi-byte values are read in bulk and
+ * padding is checked inline, which avoids the per-byte call chain of the stream based
+ * implementation. The buffer based constructors should be preferred whenever the whole payload is
+ * already in memory.
+ *
+ * <p>{@link #fromBase64(CharSequence)} creates a stream that decodes base64 characters a chunk at a
+ * time while it is read, so the decoded bytes are never held in memory all at once.
+ *
+ * <p>Decoding is subject to the {@link XdrDecodeLimits} of the stream, see {@link
+ * #setLimits(XdrDecodeLimits)}.
+ */
+public class XdrDataInputStream extends InputStream implements DataInput {
 
-  // The underlying input stream
+  // The underlying input stream, null if this stream reads from a buffer.
   private final XdrInputStream mIn;
 
+  // The data input stream wrapping mIn, null if this stream reads from a buffer.
+  private final DataInputStream mData;
+
+  // The underlying buffer, null if this stream reads from an input stream. The buffer position
+  // always starts at 0.
+  private final ByteBuffer mBuffer;
+
+  // Refills mBuffer when it runs out of bytes, null if mBuffer holds the whole input.
+  private final XdrBase64.Decoder mBase64;
+
+  // The number of bytes read and discarded from the front of mBuffer by refills.
+  private int mDiscarded;
+
+  // Whether the limit of mBuffer has been lowered to the maximum input length.
+  private boolean mTruncated;
+
+  private XdrDecodeLimits mLimits = XdrDecodeLimits.DEFAULT;
+
+  // The current nesting depth of recursive types.
+  private int mDepth;
+
+  // Interns decoded values, null if values are not interned.
+  private XdrInterner mInterner;
+
   /**
    * Creates a XdrDataInputStream that uses the specified underlying InputStream.
    *
    * @param in the specified input stream
    */
   public XdrDataInputStream(InputStream in) {
-    super(new XdrInputStream(in));
-    mIn = (XdrInputStream) super.in;
+    mIn = new XdrInputStream(in);
+    mData = new DataInputStream(mIn);
+    mBuffer = null;
+    mBase64 = null;
+    limitInput();
+  }
+
+  /**
+   * Creates a XdrDataInputStream that reads directly from the specified byte array.
+   *
+   * @param buf the byte array to read from, it is not copied
+   */
+  public XdrDataInputStream(byte[] buf) {
+    this(buf, 0, buf.length);
+  }
+
+  /**
+   * Creates a XdrDataInputStream that reads directly from a region of the specified byte array.
+   *
+   * @param buf the byte array to read from, it is not copied
+   * @param offset the offset of the first byte to read
+   * @param length the number of bytes that can be read
+   */
+  public XdrDataInputStream(byte[] buf, int offset, int length) {
+    this(ByteBuffer.wrap(buf, offset, length));
+  }
+
+  /**
+   * Creates a XdrDataInputStream that reads directly from the remaining bytes of the specified
+   * buffer. The position of the specified buffer is not modified.
+   *
+   * @param buffer the buffer to read from, it is not copied
+   */
+  public XdrDataInputStream(ByteBuffer buffer) {
+    mIn = null;
+    mData = null;
+    // slice() always uses big-endian byte order, which is what XDR requires.
+    mBuffer = buffer.slice();
+    mBase64 = null;
+    limitInput();
+  }
+
+  private XdrDataInputStream(XdrBase64.Decoder base64, int bufferSize) {
+    mIn = null;
+    mData = null;
+    mBuffer = ByteBuffer.allocate(bufferSize);
+    mBuffer.limit(0);
+    mBase64 = base64;
+  }
+
+  /**
+   * Creates a XdrDataInputStream that decodes the specified base64 characters while it is read.
+   * Only a small buffer of decoded bytes is held in memory at any time.
+   *
+   * @param base64 the base64 encoded XDR, using the standard alphabet without line breaks
+   * @return the stream
+   * @throws IllegalArgumentException if the characters are not valid base64, this may only be
+   *     detected once the invalid characters are reached
+   */
+  public static XdrDataInputStream fromBase64(CharSequence base64) {
+    XdrBase64.Decoder decoder = new XdrBase64.Decoder(base64);
+    // Small payloads get a buffer that fits them, large ones are decoded 8 KiB at a time.
+    int bufferSize = Math.max(16, Math.min(8192, decoder.remaining() + 3));
+    return new XdrDataInputStream(decoder, bufferSize);
+  }
+
+  /** Returns the decoding limits of this stream. */
+  public XdrDecodeLimits getLimits() {
+    return mLimits;
+  }
+
+  /**
+   * Sets the decoding limits of this stream. The maximum input length counts from the start of the
+   * stream, including the bytes that have already been read.
+   *
+   * @param limits the new limits
+   */
+  public void setLimits(XdrDecodeLimits limits) {
+    if (limits == null) {
+      throw new NullPointerException("limits is marked non-null but is null");
+    }
+    mLimits = limits;
+    limitInput();
+  }
+
+  /** Returns the interner of this stream, or null if decoded values are not interned. */
+  public XdrInterner getInterner() {
+    return mInterner;
+  }
+
+  /**
+   * Sets the interner of this stream. Values of the types listed in {@link XdrInterner} that are
+   * decoded from this stream are then replaced by an equal instance that was decoded before, if the
+   * interner holds one.
+   *
+   * @param interner the interner, or null to stop interning values
+   */
+  public void setInterner(XdrInterner interner) {
+    mInterner = interner;
+  }
+
+  /**
+   * Interns a value that was just decoded from this stream, see {@link #setInterner(XdrInterner)}.
+   * The generated decoders of the interned types call this.
+   *
+   * @param start the position of the stream before the value was decoded
+   * @param value the decoded value
+   * @return the interned instance equal to the value, or the value itself if this stream has no
+   *     interner
+   * @throws IOException if the value cannot be encoded
+   */
+  public <T extends XdrElement> T intern(int start, T value) throws IOException {
+    if (mInterner == null) {
+      return value;
+    }
+    if (mBuffer != null && start >= mDiscarded) {
+      return mInterner.intern(value, mBuffer, start - mDiscarded, getPosition() - start);
+    }
+    // The encoded bytes are no longer available, so encode the value again to get its key.
+    byte[] encoded = value.toXdrByteArray();
+    return mInterner.intern(value, ByteBuffer.wrap(encoded), 0, encoded.length);
+  }
+
+  /**
+   * Enters a value of a recursive type. The generated decoders call this before decoding such a
+   * value, and {@link #decreaseDepth()} after it, even if decoding the value fails, so that the
+   * stream can still be used after a failure.
+   *
+   * @throws IOException if the maximum depth is exceeded
+   */
+  public void increaseDepth() throws IOException {
+    if (mDepth >= mLimits.getMaxDepth()) {
+      throw new IOException("Maximum decoding depth of " + mLimits.getMaxDepth() + " exceeded");
+    }
+    mDepth++;
+  }
+
+  /** Leaves a value of a recursive type, see {@link #increaseDepth()}. */
+  public void decreaseDepth() {
+    mDepth--;
+  }
+
+  /**
+   * Reads the length of a variable-length array or opaque, and checks it with {@link
+   * #checkLength(int, int)}. Unlike {@link #readLength(int, int)}, the maximum length declared in
+   * XDR is not checked, which is how decode reads lengths.
+   *
+   * @param minElementSize the minimum encoded size of one element
+   * @return the length
+   * @throws IOException if the length is negative, larger than the limits, or does not fit into the
+   *     rest of the input
+   */
+  public int readLength(int minElementSize) throws IOException {
+    int length = readInt();
+    checkLength(length, minElementSize);
+    return length;
+  }
+
+  /**
+   * Reads the length of a variable-length array, opaque or string, and checks it with {@link
+   * #checkLength(int, int)}.
+   *
+   * @param maxLength the maximum length declared in XDR
+   * @param minElementSize the minimum encoded size of one element
+   * @return the length
+   * @throws IOException if the length is negative, larger than {@code maxLength} or the limits, or
+   *     does not fit into the rest of the input
+   */
+  public int readLength(int maxLength, int minElementSize) throws IOException {
+    int length = readInt();
+    if (length > maxLength) {
+      throw new IOException("Length " + length + " exceeds the maximum length of " + maxLength);
+    }
+    checkLength(length, minElementSize);
+    return length;
+  }
+
+  /**
+   * Checks the length of a variable-length array, opaque or string before anything is allocated for
+   * it. The length must not be negative, must not exceed {@link XdrDecodeLimits#getMaxLength()} and
+   * that many elements must fit into the rest of the input or, if the length of the input is not
+   * known, into {@link XdrDecodeLimits#getMaxUnboundedSize()} bytes.
+   *
+   * @param length the number of elements
+   * @param minElementSize the minimum encoded size of one element, 4 for arrays of XDR values and 1
+   *     for opaques and strings
+   * @throws IOException if the length is not valid
+   */
+  public void checkLength(int length, int minElementSize) throws IOException {
+    if (length < 0) {
+      throw new IOException("Invalid length: " + length);
+    }
+    if (length > mLimits.getMaxLength()) {
+      throw new IOException(
+          "Length " + length + " exceeds the maximum length of " + mLimits.getMaxLength());
+    }
+    long size = (long) length * minElementSize;
+    long remaining = remainingInput();
+    if (remaining < 0) {
+      if (size > mLimits.getMaxUnboundedSize()) {
+        throw new IOException(
+            "Length "
+                + length
+                + " exceeds the maximum size of "
+                + mLimits.getMaxUnboundedSize()
+                + " bytes for input of unknown length");
+      }
+    } else if (size > remaining) {
+      throw new EOFException(
+          "Length " + length + " does not fit into the remaining " + remaining + " bytes");
+    }
+  }
+
+  /**
+   * Returns the number of bytes read from this stream so far. For a buffer-backed stream, this is
+   * the offset of the next byte to read relative to the start of the buffer. A stream wrapping an
+   * {@link InputStream} can read more than 2 GiB, in which case this returns {@link
+   * Integer#MAX_VALUE}.
+   */
+  public int getPosition() {
+    if (mBuffer == null) {
+      return (int) Math.min(mIn.mCount, Integer.MAX_VALUE);
+    }
+    return mDiscarded + mBuffer.position();
+  }
+
+  /**
+   * Skips an opaque value of the specified length and the XDR padding that follows it, without
+   * copying it anywhere.
+   *
+   * @param length the length of the opaque value, excluding padding
+   * @throws EOFException if the stream ends before the value does
+   * @throws IOException if the length is negative or the padding bytes are not zero
+   */
+  public void skipOpaque(int length) throws IOException {
+    if (length < 0) {
+      throw new IOException("negative opaque length: " + length);
+    }
+    if (mBuffer == null) {
+      if (mData.skipBytes(length) < length) {
+        throw new EOFException();
+      }
+      mIn.pad();
+      return;
+    }
+    if (skip(length) < length) {
+      throw endOfInput();
+    }
+    pad();
+  }
+
+  /**
+   * Reads an XDR boolean, which is also used as the presence flag of optional values.
+   *
+   * @throws IOException if the value is neither 0 nor 1
+   */
+  public boolean readXdrBoolean() throws IOException {
+    int value = readInt();
+    if (value != 0 && value != 1) {
+      throw new IOException("Invalid boolean value: " + value);
+    }
+    return value == 1;
   }
 
   public int[] readIntArray() throws IOException {
-    int l = readInt();
+    int l = readLength(Integer.MAX_VALUE, 4);
     return readIntArray(l);
   }
 
@@ -33,7 +335,7 @@ public class XdrDataInputStream extends DataInputStream {
   }
 
   public float[] readFloatArray() throws IOException {
-    int l = readInt();
+    int l = readLength(Integer.MAX_VALUE, 4);
     return readFloatArray(l);
   }
 
@@ -46,7 +348,7 @@ public class XdrDataInputStream extends DataInputStream {
   }
 
   public double[] readDoubleArray() throws IOException {
-    int l = readInt();
+    int l = readLength(Integer.MAX_VALUE, 8);
     return readDoubleArray(l);
   }
 
@@ -60,7 +362,283 @@ public class XdrDataInputStream extends DataInputStream {
 
   @Override
   public int read() throws IOException {
-    return super.read();
+    if (mBuffer == null) {
+      return mData.read();
+    }
+    if (!fill(1)) {
+      return -1;
+    }
+    return mBuffer.get() & 0xff;
+  }
+
+  /**
+   * Reads up to {@code len} bytes and, if all of them were read, consumes the XDR padding that
+   * follows them.
+   *
+   * @throws IOException if the padding bytes are not zero
+   */
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (mBuffer == null) {
+      return mData.read(b, off, len);
+    }
+    if (len == 0) {
+      return 0;
+    }
+    int read = readBuffered(b, off, len);
+    if (read == 0) {
+      return -1;
+    }
+    // Like the stream mode, a truncated read returns what was read without expecting padding.
+    if (read == len) {
+      pad();
+    }
+    return read;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    if (mBuffer == null) {
+      return mData.skip(n);
+    }
+    long skipped = 0;
+    while (skipped < n && fill(1)) {
+      int count = (int) Math.min(n - skipped, mBuffer.remaining());
+      mBuffer.position(mBuffer.position() + count);
+      skipped += count;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    if (mBuffer == null) {
+      return mData.available();
+    }
+    if (mBase64 == null || mTruncated) {
+      return mBuffer.remaining();
+    }
+    long remaining = (long) mBuffer.remaining() + mBase64.remaining();
+    long allowed = mLimits.getMaxInputLength() - getPosition();
+    return (int) Math.min(remaining, allowed);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (mBuffer == null) {
+      mData.close();
+    }
+  }
+
+  @Override
+  public void readFully(byte[] b) throws IOException {
+    readFully(b, 0, b.length);
+  }
+
+  @Override
+  public void readFully(byte[] b, int off, int len) throws IOException {
+    if (mBuffer == null) {
+      mData.readFully(b, off, len);
+      return;
+    }
+    if (readBuffered(b, off, len) < len) {
+      throw endOfInput();
+    }
+    pad();
+  }
+
+  @Override
+  public int skipBytes(int n) throws IOException {
+    if (mBuffer == null) {
+      return mData.skipBytes(n);
+    }
+    return (int) skip(n);
+  }
+
+  @Override
+  public boolean readBoolean() throws IOException {
+    return readByte() != 0;
+  }
+
+  @Override
+  public byte readByte() throws IOException {
+    if (mBuffer == null) {
+      return mData.readByte();
+    }
+    ensureRemaining(1);
+    return mBuffer.get();
+  }
+
+  @Override
+  public int readUnsignedByte() throws IOException {
+    return readByte() & 0xff;
+  }
+
+  @Override
+  public short readShort() throws IOException {
+    if (mBuffer == null) {
+      return mData.readShort();
+    }
+    ensureRemaining(2);
+    return mBuffer.getShort();
+  }
+
+  @Override
+  public int readUnsignedShort() throws IOException {
+    return readShort() & 0xffff;
+  }
+
+  @Override
+  public char readChar() throws IOException {
+    return (char) readShort();
+  }
+
+  @Override
+  public int readInt() throws IOException {
+    if (mBuffer == null) {
+      return mData.readInt();
+    }
+    ensureRemaining(4);
+    return mBuffer.getInt();
+  }
+
+  @Override
+  public long readLong() throws IOException {
+    if (mBuffer == null) {
+      return mData.readLong();
+    }
+    ensureRemaining(8);
+    return mBuffer.getLong();
+  }
+
+  @Override
+  public float readFloat() throws IOException {
+    return Float.intBitsToFloat(readInt());
+  }
+
+  @Override
+  public double readDouble() throws IOException {
+    return Double.longBitsToDouble(readLong());
+  }
+
+  /**
+   * @deprecated This method does not properly convert bytes to characters, see {@link
+   *     DataInputStream#readLine()}.
+   */
+  @Deprecated
+  @Override
+  public String readLine() throws IOException {
+    if (mBuffer == null) {
+      return mData.readLine();
+    }
+    if (!fill(1)) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder();
+    while (fill(1)) {
+      char c = (char) (mBuffer.get() & 0xff);
+      if (c == '\n') {
+        break;
+      }
+      if (c == '\r') {
+        if (fill(1) && mBuffer.get(mBuffer.position()) == '\n') {
+          mBuffer.get();
+        }
+        break;
+      }
+      sb.append(c);
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public String readUTF() throws IOException {
+    if (mBuffer == null) {
+      return mData.readUTF();
+    }
+    return DataInputStream.readUTF(this);
+  }
+
+  // Copies up to len bytes out of the buffer, refilling it as needed, without consuming padding.
+  private int readBuffered(byte[] b, int off, int len) {
+    int read = 0;
+    while (read < len && fill(1)) {
+      int count = Math.min(len - read, mBuffer.remaining());
+      mBuffer.get(b, off + read, count);
+      read += count;
+    }
+    return read;
+  }
+
+  private void ensureRemaining(int len) throws IOException {
+    if (!fill(len)) {
+      throw endOfInput();
+    }
+  }
+
+  // The number of bytes that can still be read, or -1 if that is not known.
+  private long remainingInput() throws IOException {
+    if (mBuffer == null) {
+      if (mLimits.getMaxInputLength() == Long.MAX_VALUE) {
+        return -1;
+      }
+      return mLimits.getMaxInputLength() - mIn.mCount;
+    }
+    return available();
+  }
+
+  // Lowers the limit of the buffer, or of the underlying stream, to the maximum input length.
+  private void limitInput() {
+    long maxInputLength = mLimits.getMaxInputLength();
+    if (mBuffer == null) {
+      mIn.mMaxCount = maxInputLength;
+      return;
+    }
+    if ((long) mDiscarded + mBuffer.limit() > maxInputLength) {
+      mBuffer.limit((int) Math.max(mBuffer.position(), maxInputLength - mDiscarded));
+      mTruncated = true;
+    }
+  }
+
+  private IOException endOfInput() {
+    if (mTruncated) {
+      return new IOException(
+          "Input exceeds the maximum length of " + mLimits.getMaxInputLength() + " bytes");
+    }
+    return new EOFException();
+  }
+
+  /**
+   * Makes sure that at least {@code len} bytes, which must not be more than the capacity of the
+   * buffer, remain in the buffer, decoding more base64 if needed.
+   *
+   * @return false if the input ends before that
+   */
+  private boolean fill(int len) {
+    if (mBuffer.remaining() >= len) {
+      return true;
+    }
+    if (mBase64 == null || mTruncated || mBase64.remaining() == 0) {
+      return false;
+    }
+    mDiscarded += mBuffer.position();
+    mBuffer.compact();
+    mBase64.decode(mBuffer);
+    mBuffer.flip();
+    limitInput();
+    return mBuffer.remaining() >= len;
+  }
+
+  private void pad() throws IOException {
+    int mod = getPosition() % 4;
+    if (mod == 0) {
+      return;
+    }
+    for (int pad = 4 - mod; pad > 0; pad--) {
+      if (!fill(1) || mBuffer.get() != 0) {
+        throw new IOException("non-zero padding");
+      }
+    }
   }
 
   /**
@@ -73,7 +651,10 @@ public class XdrDataInputStream extends DataInputStream {
     private final InputStream mIn;
 
     // The amount of bytes read so far.
-    private int mCount;
+    private long mCount;
+
+    // The maximum amount of bytes that can be read.
+    private long mMaxCount = Long.MAX_VALUE;
 
     public XdrInputStream(InputStream in) {
       mIn = in;
@@ -82,6 +663,7 @@ public class XdrDataInputStream extends DataInputStream {
 
     @Override
     public int read() throws IOException {
+      allowed(1);
       int read = mIn.read();
       if (read >= 0) {
         mCount++;
@@ -94,19 +676,55 @@ public class XdrDataInputStream extends DataInputStream {
       return read(b, 0, b.length);
     }
 
+    @Override
+    public long skip(long n) throws IOException {
+      // Unlike read(byte[], int, int), skipping never consumes padding.
+      long skipped = mIn.skip(allowed(n));
+      if (skipped > 0) {
+        mCount += skipped;
+      }
+      return skipped;
+    }
+
+    /**
+     * Reads exactly {@code len} bytes, unless the stream ends before that, and then consumes the
+     * XDR padding that follows them. Unlike the underlying stream, which may return fewer bytes
+     * than requested at any time, for example when it decompresses its input, this never stops in
+     * the middle of a value, so the padding is always consumed at the end of it.
+     */
     @Override
     public int read(byte[] b, int off, int len) throws IOException {
-      int read = mIn.read(b, off, len);
-      if (read > 0) {
-        mCount += read;
+      int toRead = (int) allowed(len);
+      int read = 0;
+      while (read < toRead) {
+        int count = mIn.read(b, off + read, toRead - read);
+        if (count < 0) {
+          break;
+        }
+        mCount += count;
+        read += count;
+      }
+      if (read == 0 && len > 0) {
+        return -1;
+      }
+      if (read > 0 && read == len) {
         pad();
       }
       return read;
     }
 
+    // Returns how many of len bytes can be read without exceeding the maximum amount of bytes.
+    private long allowed(long len) throws IOException {
+      long allowed = Math.min(len, mMaxCount - mCount);
+      if (allowed <= 0 && len > 0) {
+        throw new IOException("Input exceeds the maximum length of " + mMaxCount + " bytes");
+      }
+      return allowed;
+    }
+
     public void pad() throws IOException {
       int pad = 0;
-      int mod = mCount % 4;
+      int mod = (int) (mCount % 4);
       if (mod > 0) {
         pad = 4 - mod;
       }
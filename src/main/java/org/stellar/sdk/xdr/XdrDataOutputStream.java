@@ -1,16 +1,144 @@
 package org.stellar.sdk.xdr;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
 
-public class XdrDataOutputStream extends DataOutputStream {
+/**
+ * Writes XDR encoded data.
+ *
+ * <p>The stream can either wrap an arbitrary {@link OutputStream}, write directly into a
+ * caller-supplied {@code byte[]} or {@link ByteBuffer}, or write to a {@link WritableByteChannel}.
+ * When writing into a buffer, no intermediate arrays are allocated, so a single buffer can be
+ * reused to encode many values. Use {@link XdrElement#encodedSize()} to find out how much space a
+ * value needs.
+ *
+ * <p>Writing past the end of a buffer throws a {@link java.nio.BufferOverflowException}.
+ *
+ * <p>When writing to a channel, values are encoded into a staging buffer, preferably a direct one,
+ * which is written to the channel whenever it is full and on {@link #flush()}. Opaques and strings
+ * that do not fit into the rest of the staging buffer are not copied into it: they are written to
+ * the channel together with the staged bytes in a single gathering write if the channel is a {@link
+ * GatheringByteChannel}, such as a {@link java.nio.channels.FileChannel} or {@link
+ * java.nio.channels.SocketChannel}. The channel must be in blocking mode.
+ *
+ * <pre>
+ * try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+ *   XdrDataOutputStream stream = new XdrDataOutputStream(channel);
+ *   for (LedgerEntry entry : entries) {
+ *     entry.encode(stream);
+ *   }
+ *   stream.flush();
+ * }
+ * </pre>
+ */
+public class XdrDataOutputStream extends OutputStream implements DataOutput {
 
-  private final XdrOutputStream mOut;
+  /**
+   * The capacity of the direct staging buffer allocated by {@link
+   * #XdrDataOutputStream(WritableByteChannel)}.
+   */
+  public static final int DEFAULT_CHANNEL_BUFFER_SIZE = 64 * 1024;
+
+  // The underlying data output stream, null if this stream writes into a buffer.
+  private final DataOutputStream mData;
+
+  // The underlying buffer, or the staging buffer of mChannel, null if this stream writes into an
+  // output stream.
+  private final ByteBuffer mBuffer;
+
+  // Position in mBuffer where writing started, used to compute padding.
+  private final int mStart;
+
+  // The channel that mBuffer is drained into, null unless this stream writes to a channel.
+  private final WritableByteChannel mChannel;
+
+  // Number of bytes written to mChannel, used to compute padding.
+  private long mDrained;
 
   public XdrDataOutputStream(OutputStream out) {
-    super(new XdrOutputStream(out));
-    mOut = (XdrOutputStream) super.out;
+    mData = new DataOutputStream(new XdrOutputStream(out));
+    mBuffer = null;
+    mStart = 0;
+    mChannel = null;
+  }
+
+  /**
+   * Creates a XdrDataOutputStream that writes directly into the specified byte array, starting at
+   * index 0.
+   *
+   * @param buf the byte array to write into
+   */
+  public XdrDataOutputStream(byte[] buf) {
+    this(buf, 0, buf.length);
+  }
+
+  /**
+   * Creates a XdrDataOutputStream that writes directly into a region of the specified byte array.
+   *
+   * @param buf the byte array to write into
+   * @param offset the index of the first byte to write
+   * @param length the maximum number of bytes that can be written
+   */
+  public XdrDataOutputStream(byte[] buf, int offset, int length) {
+    this(ByteBuffer.wrap(buf, offset, length));
+  }
+
+  /**
+   * Creates a XdrDataOutputStream that writes directly into the specified buffer, starting at its
+   * current position. The position and byte order of the specified buffer are not modified.
+   *
+   * @param buffer the buffer to write into
+   */
+  public XdrDataOutputStream(ByteBuffer buffer) {
+    mData = null;
+    mBuffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    mStart = mBuffer.position();
+    mChannel = null;
+  }
+
+  /**
+   * Creates a XdrDataOutputStream that writes to the specified channel through a direct staging
+   * buffer of {@link #DEFAULT_CHANNEL_BUFFER_SIZE} bytes.
+   *
+   * @param channel the blocking channel to write to
+   */
+  public XdrDataOutputStream(WritableByteChannel channel) {
+    this(channel, ByteBuffer.allocateDirect(DEFAULT_CHANNEL_BUFFER_SIZE));
+  }
+
+  /**
+   * Creates a XdrDataOutputStream that writes to the specified channel through the specified
+   * staging buffer. The whole capacity of the buffer is used, and its position, limit and byte
+   * order are not modified. The buffer can be reused for another stream once this one has been
+   * flushed, which avoids allocating a direct buffer per stream.
+   *
+   * @param channel the blocking channel to write to
+   * @param buffer the staging buffer, which must hold at least 8 bytes
+   */
+  public XdrDataOutputStream(WritableByteChannel channel, ByteBuffer buffer) {
+    if (buffer.capacity() < 8) {
+      throw new IllegalArgumentException("Staging buffer too small: " + buffer.capacity());
+    }
+    mData = null;
+    mBuffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    mBuffer.clear();
+    mStart = 0;
+    mChannel = channel;
+  }
+
+  /**
+   * Returns the length of an opaque or string value of the specified length once XDR padding has
+   * been added, without the length prefix of variable length values.
+   */
+  public static int paddedSize(int length) {
+    return (length + 3) & ~3;
   }
 
   public void writeIntArray(int[] a) throws IOException {
@@ -46,6 +174,190 @@ public class XdrDataOutputStream extends DataOutputStream {
     }
   }
 
+  @Override
+  public void write(int b) throws IOException {
+    if (mBuffer == null) {
+      mData.write(b);
+      return;
+    }
+    ensureRemaining(1);
+    mBuffer.put((byte) b);
+  }
+
+  @Override
+  public void write(byte[] b) throws IOException {
+    write(b, 0, b.length);
+  }
+
+  /** Writes {@code len} bytes and then the XDR padding that follows them. */
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (mBuffer == null) {
+      mData.write(b, off, len);
+      return;
+    }
+    if (mChannel != null && len > mBuffer.remaining()) {
+      drain(ByteBuffer.wrap(b, off, len));
+    } else {
+      mBuffer.put(b, off, len);
+    }
+    if (len > 0) {
+      pad();
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (mBuffer == null) {
+      mData.flush();
+    } else if (mChannel != null) {
+      drain(null);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (mBuffer == null) {
+      mData.close();
+    } else if (mChannel != null) {
+      try {
+        drain(null);
+      } finally {
+        mChannel.close();
+      }
+    }
+  }
+
+  @Override
+  public void writeBoolean(boolean v) throws IOException {
+    write(v ? 1 : 0);
+  }
+
+  @Override
+  public void writeByte(int v) throws IOException {
+    write(v);
+  }
+
+  @Override
+  public void writeShort(int v) throws IOException {
+    if (mBuffer == null) {
+      mData.writeShort(v);
+      return;
+    }
+    ensureRemaining(2);
+    mBuffer.putShort((short) v);
+  }
+
+  @Override
+  public void writeChar(int v) throws IOException {
+    writeShort(v);
+  }
+
+  @Override
+  public void writeInt(int v) throws IOException {
+    if (mBuffer == null) {
+      mData.writeInt(v);
+      return;
+    }
+    ensureRemaining(4);
+    mBuffer.putInt(v);
+  }
+
+  @Override
+  public void writeLong(long v) throws IOException {
+    if (mBuffer == null) {
+      mData.writeLong(v);
+      return;
+    }
+    ensureRemaining(8);
+    mBuffer.putLong(v);
+  }
+
+  @Override
+  public void writeFloat(float v) throws IOException {
+    writeInt(Float.floatToIntBits(v));
+  }
+
+  @Override
+  public void writeDouble(double v) throws IOException {
+    writeLong(Double.doubleToLongBits(v));
+  }
+
+  @Override
+  public void writeBytes(String s) throws IOException {
+    if (mBuffer == null) {
+      mData.writeBytes(s);
+      return;
+    }
+    for (int i = 0; i < s.length(); i++) {
+      write(s.charAt(i));
+    }
+  }
+
+  @Override
+  public void writeChars(String s) throws IOException {
+    if (mBuffer == null) {
+      mData.writeChars(s);
+      return;
+    }
+    for (int i = 0; i < s.length(); i++) {
+      writeShort(s.charAt(i));
+    }
+  }
+
+  @Override
+  public void writeUTF(String s) throws IOException {
+    if (mBuffer == null) {
+      mData.writeUTF(s);
+      return;
+    }
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    new DataOutputStream(byteArrayOutputStream).writeUTF(s);
+    write(byteArrayOutputStream.toByteArray());
+  }
+
+  private void pad() throws IOException {
+    int mod = (int) ((mDrained + mBuffer.position() - mStart) % 4);
+    if (mod == 0) {
+      return;
+    }
+    ensureRemaining(4 - mod);
+    for (int pad = 4 - mod; pad > 0; pad--) {
+      mBuffer.put((byte) 0);
+    }
+  }
+
+  // Makes room for length bytes in the staging buffer when writing to a channel. When writing into
+  // a buffer, running out of room throws a BufferOverflowException on the next put.
+  private void ensureRemaining(int length) throws IOException {
+    if (mChannel != null && mBuffer.remaining() < length) {
+      drain(null);
+    }
+  }
+
+  // Writes the staged bytes, followed by the bytes remaining in payload unless it is null, to the
+  // channel, and empties the staging buffer.
+  private void drain(ByteBuffer payload) throws IOException {
+    mBuffer.flip();
+    try {
+      if (payload != null && mChannel instanceof GatheringByteChannel) {
+        ByteBuffer[] buffers = {mBuffer, payload};
+        while (payload.hasRemaining()) {
+          mDrained += ((GatheringByteChannel) mChannel).write(buffers);
+        }
+        return;
+      }
+      while (mBuffer.hasRemaining()) {
+        mDrained += mChannel.write(mBuffer);
+      }
+      while (payload != null && payload.hasRemaining()) {
+        mDrained += mChannel.write(payload);
+      }
+    } finally {
+      mBuffer.clear();
+    }
+  }
+
   private static final class XdrOutputStream extends OutputStream {
 
     private final OutputStream mOut;
@@ -0,0 +1,61 @@
+package org.stellar.sdk.xdr;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Limits enforced while decoding XDR, which protect against hostile or corrupt input.
+ *
+ * <p>Every {@link XdrDataInputStream} starts with the {@link #DEFAULT} limits, and can be given
+ * other limits with {@link XdrDataInputStream#setLimits(XdrDecodeLimits)}. The default limits
+ * restrict the depth, to the same value as stellar-core, and the size of the values read from input
+ * of unknown length. Exceeding a limit throws an {@link java.io.IOException}.
+ *
+ * <p>The length of an array, opaque or string is always checked before anything is allocated for
+ * it: against the remaining input when the length of the input is known, and against {@link
+ * #getMaxUnboundedSize()} otherwise.
+ */
+@Value
+@Builder(toBuilder = true)
+public class XdrDecodeLimits {
+  /** The default maximum depth, matching stellar-core and the Rust XDR library. */
+  public static final int DEFAULT_MAX_DEPTH = 500;
+
+  /** The default maximum size of a value read from input of unknown length, 16 MiB. */
+  public static final int DEFAULT_MAX_UNBOUNDED_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * Limits that restrict the depth to {@link #DEFAULT_MAX_DEPTH} and the size of the values read
+   * from input of unknown length to {@link #DEFAULT_MAX_UNBOUNDED_SIZE}.
+   */
+  public static final XdrDecodeLimits DEFAULT = XdrDecodeLimits.builder().build();
+
+  /** No limits at all. */
+  public static final XdrDecodeLimits NONE =
+      XdrDecodeLimits.builder()
+          .maxDepth(Integer.MAX_VALUE)
+          .maxUnboundedSize(Integer.MAX_VALUE)
+          .build();
+
+  /** The maximum number of bytes that can be read from a stream. */
+  @Builder.Default long maxInputLength = Long.MAX_VALUE;
+
+  /**
+   * The maximum nesting depth of recursive types, such as {@link SCVal} or {@link ClaimPredicate}.
+   */
+  @Builder.Default int maxDepth = DEFAULT_MAX_DEPTH;
+
+  /**
+   * The maximum number of elements of any variable-length array, or bytes of any opaque or string.
+   */
+  @Builder.Default int maxLength = Integer.MAX_VALUE;
+
+  /**
+   * The maximum encoded size, in bytes, of any variable-length array, opaque or string when the
+   * length of the input is not known, which is the case for streams wrapping an {@link
+   * java.io.InputStream} without a {@link #getMaxInputLength() maximum input length}. The length of
+   * such values cannot be checked against the remaining input, so this bounds what a hostile length
+   * prefix can make the decoder allocate.
+   */
+  @Builder.Default int maxUnboundedSize = DEFAULT_MAX_UNBOUNDED_SIZE;
+}
@@ -1,21 +1,121 @@
 package org.stellar.sdk.xdr;
 
+import com.google.gson.stream.JsonWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import org.stellar.sdk.Base64Factory;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 
 /** Common parent interface for all generated classes. */
 public interface XdrElement {
   void encode(XdrDataOutputStream stream) throws IOException;
 
+  /**
+   * Returns the exact number of bytes {@link #encode(XdrDataOutputStream)} writes for this value.
+   *
+   * <p>Generated classes compute the size from their fields, this default implementation encodes
+   * the value to find it out.
+   */
+  default int encodedSize() {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    try {
+      encode(new XdrDataOutputStream(byteArrayOutputStream));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return byteArrayOutputStream.size();
+  }
+
   default String toXdrBase64() throws IOException {
-    return Base64Factory.getInstance().encodeToString(toXdrByteArray());
+    StringBuilder sb = new StringBuilder(XdrBase64.encodedLength(encodedSize()));
+    toXdrBase64(sb);
+    return sb.toString();
+  }
+
+  /**
+   * Encodes this value as base64 and appends it to the specified {@link Appendable}, such as a
+   * {@link java.io.Writer} or {@link StringBuilder}. The characters are appended a chunk at a time
+   * while the value is encoded, so neither the encoded bytes nor the complete base64 string are
+   * held in memory.
+   *
+   * @param out the appendable to append the base64 characters to
+   */
+  default void toXdrBase64(Appendable out) throws IOException {
+    XdrBase64.Encoder encoder = new XdrBase64.Encoder(out);
+    encode(new XdrDataOutputStream(encoder));
+    encoder.finish();
   }
 
   default byte[] toXdrByteArray() throws IOException {
-    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-    XdrDataOutputStream xdrDataOutputStream = new XdrDataOutputStream(byteArrayOutputStream);
-    encode(xdrDataOutputStream);
-    return byteArrayOutputStream.toByteArray();
+    byte[] bytes = new byte[encodedSize()];
+    encode(new XdrDataOutputStream(bytes));
+    return bytes;
+  }
+
+  /**
+   * Encodes this value into the specified byte array.
+   *
+   * @param buffer the byte array to write into
+   * @param offset the index of the first byte to write
+   * @return the number of bytes written
+   * @throws BufferOverflowException if the value does not fit into the byte array
+   */
+  default int toXdrByteArray(byte[] buffer, int offset) throws IOException {
+    int size = encodedSize();
+    if (offset < 0 || size > buffer.length - offset) {
+      throw new BufferOverflowException();
+    }
+    encode(new XdrDataOutputStream(buffer, offset, size));
+    return size;
+  }
+
+  /**
+   * Encodes this value into the specified buffer, starting at its current position. On return, the
+   * position of the buffer is advanced by the number of bytes written.
+   *
+   * @param buffer the buffer to write into
+   * @return the number of bytes written
+   * @throws BufferOverflowException if the value does not fit into the remaining space of the
+   *     buffer
+   */
+  default int toXdrByteBuffer(ByteBuffer buffer) throws IOException {
+    int size = encodedSize();
+    if (size > buffer.remaining()) {
+      throw new BufferOverflowException();
+    }
+    encode(new XdrDataOutputStream(buffer));
+    buffer.position(buffer.position() + size);
+    return size;
+  }
+
+  /**
+   * Writes the JSON representation of this value, as described in SEP-51, to the specified writer.
+   * The value is written field by field without reflection, so many values can be streamed into one
+   * document, for example as the elements of an array. Every generated type has a matching static
+   * {@code fromJson(JsonReader)} method.
+   *
+   * @param writer the JSON writer to write to
+   */
+  void toJson(JsonWriter writer) throws IOException;
+
+  /**
+   * Writes the JSON representation of this value to the specified writer, see {@link
+   * #toJson(JsonWriter)}. The writer is flushed but not closed.
+   *
+   * @param writer the writer to write to
+   */
+  default void toJson(Writer writer) throws IOException {
+    JsonWriter jsonWriter = new JsonWriter(writer);
+    toJson(jsonWriter);
+    jsonWriter.flush();
+  }
+
+  /** Returns the JSON representation of this value, see {@link #toJson(JsonWriter)}. */
+  default String toJson() throws IOException {
+    StringWriter writer = new StringWriter();
+    toJson(writer);
+    return writer.toString();
   }
 }
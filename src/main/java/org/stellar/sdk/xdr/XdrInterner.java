@@ -0,0 +1,125 @@
+package org.stellar.sdk.xdr;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A bounded table of decoded XDR values, which lets identical values decoded by an {@link
+ * XdrDataInputStream} resolve to one shared instance. See {@link
+ * XdrDataInputStream#setInterner(XdrInterner)}.
+ *
+ * <p>Bulk decoding, for example of a day of {@link LedgerCloseMeta}, sees the same accounts, assets
+ * and symbols over and over again. Interning them keeps a single copy of each in memory instead of
+ * one per occurrence. The following types are interned: {@link AccountID}, {@link PublicKey},
+ * {@link Asset}, {@link AlphaNum4}, {@link AlphaNum12} and {@link SCSymbol}.
+ *
+ * <p>Values are keyed on their type and encoded bytes. The table is direct mapped: each key has a
+ * single slot, and a value that maps to an occupied slot replaces the value in it. The memory used
+ * by the table is therefore bounded by its capacity, and a value that is replaced is only kept
+ * alive by the objects referencing it.
+ *
+ * <p>An interner can be shared by streams decoding on different threads. Concurrent updates may
+ * cause a value not to be interned, but never return a value that is not equal to the decoded one.
+ *
+ * <p>Interned values are shared by everything decoded with the interner, so they must not be
+ * modified.
+ */
+public final class XdrInterner {
+  /** The capacity of an interner created with {@link #XdrInterner()}. */
+  public static final int DEFAULT_CAPACITY = 1 << 16;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final Entry[] entries;
+
+  /** Creates an interner with {@link #DEFAULT_CAPACITY} slots. */
+  public XdrInterner() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an interner.
+   *
+   * @param capacity the number of slots, rounded up to a power of two
+   * @throws IllegalArgumentException if the capacity is not positive or larger than 2^30
+   */
+  public XdrInterner(int capacity) {
+    if (capacity < 1 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+    int size = 1;
+    while (size < capacity) {
+      size <<= 1;
+    }
+    entries = new Entry[size];
+  }
+
+  /** Returns the number of slots of this interner. */
+  public int getCapacity() {
+    return entries.length;
+  }
+
+  /** Removes all values from this interner. */
+  public void clear() {
+    for (int i = 0; i < entries.length; i++) {
+      entries[i] = null;
+    }
+  }
+
+  /**
+   * Returns the interned instance equal to the specified value, or interns the value and returns
+   * it.
+   *
+   * @param value the decoded value
+   * @param encoded a buffer holding the encoded value
+   * @param offset the absolute offset of the encoded value in the buffer
+   * @param length the length of the encoded value
+   * @return the interned instance
+   */
+  @SuppressWarnings("unchecked")
+  <T> T intern(T value, ByteBuffer encoded, int offset, int length) {
+    Class<?> type = value.getClass();
+    int hash = type.hashCode();
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + encoded.get(offset + i);
+    }
+    hash ^= hash >>> 16;
+    int index = hash & (entries.length - 1);
+
+    Entry entry = entries[index];
+    if (entry != null && entry.matches(hash, type, encoded, offset, length)) {
+      return (T) entry.value;
+    }
+    byte[] key = new byte[length];
+    for (int i = 0; i < length; i++) {
+      key[i] = encoded.get(offset + i);
+    }
+    entries[index] = new Entry(hash, key, value);
+    return value;
+  }
+
+  // Entries are immutable, so they are safely published to other threads through their final
+  // fields even though the table is not synchronized.
+  private static final class Entry {
+    private final int hash;
+    private final byte[] key;
+    private final Object value;
+
+    private Entry(int hash, byte[] key, Object value) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+    }
+
+    private boolean matches(int hash, Class<?> type, ByteBuffer encoded, int offset, int length) {
+      if (this.hash != hash || value.getClass() != type || key.length != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (key[i] != encoded.get(offset + i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,350 @@
+package org.stellar.sdk.xdr;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.stellar.sdk.StrKey;
+
+/**
+ * Helpers for the {@code toJson} and {@code fromJson} methods of the generated types, which read
+ * and write the JSON representation of XDR described in <a
+ * href="https://github.com/stellar/stellar-protocol/blob/master/ecosystem/sep-0051.md">SEP-51</a>.
+ *
+ * <ul>
+ *   <li>Structs are objects with snake_case field names.
+ *   <li>Enums are strings, the snake_case name of the value without the prefix shared by all
+ *       values.
+ *   <li>Unions are the name of the arm as a string if the arm is void, otherwise an object with the
+ *       name of the arm as the only key.
+ *   <li>32-bit integers are numbers, 64-bit integers are strings, and 128-bit and 256-bit integer
+ *       parts are decimal strings of the whole value.
+ *   <li>Opaques are lowercase hex strings, strings and asset codes are strings in which bytes that
+ *       are not printable ASCII are escaped as {@code \xNN}.
+ *   <li>Keys, accounts, addresses and other identifiers are strkeys.
+ * </ul>
+ */
+final class XdrJson {
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private XdrJson() {}
+
+  /** Reads a value of some XDR type, typically a method reference to its {@code fromJson}. */
+  @FunctionalInterface
+  interface ElementReader<T> {
+    T read(JsonReader reader) throws IOException;
+  }
+
+  /** Reads exactly one value from a JSON document. */
+  static <T> T fromJson(String json, ElementReader<T> elementReader) throws IOException {
+    JsonReader reader = new JsonReader(new StringReader(json));
+    T value = elementReader.read(reader);
+    if (reader.peek() != JsonToken.END_DOCUMENT) {
+      throw new IOException("Unexpected JSON after the value: " + reader.peek());
+    }
+    return value;
+  }
+
+  static void writeArray(JsonWriter writer, XdrElement[] values) throws IOException {
+    writer.beginArray();
+    for (XdrElement value : values) {
+      value.toJson(writer);
+    }
+    writer.endArray();
+  }
+
+  static <T> T[] readArray(
+      JsonReader reader, IntFunction<T[]> newArray, ElementReader<T> elementReader)
+      throws IOException {
+    List<T> values = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      values.add(elementReader.read(reader));
+    }
+    reader.endArray();
+    return values.toArray(newArray.apply(values.size()));
+  }
+
+  static <T> T[] readArray(
+      JsonReader reader, int length, IntFunction<T[]> newArray, ElementReader<T> elementReader)
+      throws IOException {
+    T[] values = readArray(reader, newArray, elementReader);
+    if (values.length != length) {
+      throw new IOException("Expected " + length + " elements, but got " + values.length);
+    }
+    return values;
+  }
+
+  static void writeOptional(JsonWriter writer, XdrElement value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+    } else {
+      value.toJson(writer);
+    }
+  }
+
+  static <T> T readOptional(JsonReader reader, ElementReader<T> elementReader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    return elementReader.read(reader);
+  }
+
+  static void writeHex(JsonWriter writer, byte[] bytes) throws IOException {
+    char[] chars = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      chars[2 * i] = HEX[(bytes[i] >> 4) & 0xf];
+      chars[2 * i + 1] = HEX[bytes[i] & 0xf];
+    }
+    writer.value(new String(chars));
+  }
+
+  static byte[] readHex(JsonReader reader) throws IOException {
+    String hex = reader.nextString();
+    if (hex.length() % 2 != 0) {
+      throw new IOException("Invalid hex string: " + hex);
+    }
+    byte[] bytes = new byte[hex.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      int high = Character.digit(hex.charAt(2 * i), 16);
+      int low = Character.digit(hex.charAt(2 * i + 1), 16);
+      if (high < 0 || low < 0) {
+        throw new IOException("Invalid hex string: " + hex);
+      }
+      bytes[i] = (byte) (high << 4 | low);
+    }
+    return bytes;
+  }
+
+  static byte[] readHex(JsonReader reader, int length) throws IOException {
+    byte[] bytes = readHex(reader);
+    if (bytes.length != length) {
+      throw new IOException("Expected " + length + " bytes, but got " + bytes.length);
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns the bytes as a string, with {@code \0}, {@code \t}, {@code \n}, {@code \r}, {@code \\}
+   * and {@code \xNN} escapes for all bytes that are not printable ASCII.
+   */
+  static String escape(byte[] bytes, int length) {
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      int b = bytes[i] & 0xff;
+      switch (b) {
+        case 0:
+          sb.append("\\0");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        default:
+          if (b >= 0x20 && b < 0x7f) {
+            sb.append((char) b);
+          } else {
+            sb.append("\\x").append(HEX[b >> 4]).append(HEX[b & 0xf]);
+          }
+      }
+    }
+    return sb.toString();
+  }
+
+  /** Reverses {@link #escape(byte[], int)}. */
+  static byte[] unescape(String text) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= 0x80) {
+        throw new IOException("Non-ASCII character in escaped string: " + text);
+      }
+      if (c != '\\') {
+        bytes.write(c);
+        continue;
+      }
+      if (++i == text.length()) {
+        throw new IOException("Invalid escape sequence in string: " + text);
+      }
+      switch (text.charAt(i)) {
+        case '0':
+          bytes.write(0);
+          break;
+        case 't':
+          bytes.write('\t');
+          break;
+        case 'n':
+          bytes.write('\n');
+          break;
+        case 'r':
+          bytes.write('\r');
+          break;
+        case '\\':
+          bytes.write('\\');
+          break;
+        case 'x':
+          int high = i + 1 < text.length() ? Character.digit(text.charAt(i + 1), 16) : -1;
+          int low = i + 2 < text.length() ? Character.digit(text.charAt(i + 2), 16) : -1;
+          if (high < 0 || low < 0) {
+            throw new IOException("Invalid escape sequence in string: " + text);
+          }
+          bytes.write(high << 4 | low);
+          i += 2;
+          break;
+        default:
+          throw new IOException("Invalid escape sequence in string: " + text);
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  /** Writes an asset code without its trailing zero bytes. */
+  static void writeAssetCode(JsonWriter writer, byte[] code) throws IOException {
+    int length = code.length;
+    while (length > 0 && code[length - 1] == 0) {
+      length--;
+    }
+    writer.value(escape(code, length));
+  }
+
+  /** Reads an asset code and pads it with zero bytes to the specified length. */
+  static byte[] readAssetCode(JsonReader reader, int length) throws IOException {
+    byte[] code = unescape(reader.nextString());
+    if (code.length > length) {
+      throw new IOException("Asset code is longer than " + length + " bytes");
+    }
+    byte[] padded = new byte[length];
+    System.arraycopy(code, 0, padded, 0, code.length);
+    return padded;
+  }
+
+  /** Combines 64-bit parts, most significant first, of which only the first may be signed. */
+  static BigInteger joinParts(long[] parts, boolean signed) {
+    BigInteger value = signed ? BigInteger.valueOf(parts[0]) : unsigned(parts[0]);
+    for (int i = 1; i < parts.length; i++) {
+      value = value.shiftLeft(64).or(unsigned(parts[i]));
+    }
+    return value;
+  }
+
+  /**
+   * Splits an integer into {@code count} 64-bit parts, most significant first.
+   *
+   * @throws IOException if the integer does not fit into the parts
+   */
+  static long[] splitParts(BigInteger value, int count, boolean signed) throws IOException {
+    int bits = 64 * count;
+    BigInteger min = signed ? BigInteger.ONE.shiftLeft(bits - 1).negate() : BigInteger.ZERO;
+    BigInteger max = BigInteger.ONE.shiftLeft(signed ? bits - 1 : bits).subtract(BigInteger.ONE);
+    if (value.compareTo(min) < 0 || value.compareTo(max) > 0) {
+      throw new IOException("Integer out of range for " + bits + " bits: " + value);
+    }
+    long[] parts = new long[count];
+    for (int i = count - 1; i >= 0; i--) {
+      parts[i] = value.longValue();
+      value = value.shiftRight(64);
+    }
+    return parts;
+  }
+
+  static BigInteger readInteger(JsonReader reader) throws IOException {
+    String text = reader.nextString();
+    try {
+      return new BigInteger(text);
+    } catch (NumberFormatException e) {
+      throw new IOException("Invalid integer: " + text, e);
+    }
+  }
+
+  /** Returns the bits of an unsigned 64-bit integer as a long. */
+  static long bits(Uint64 value) {
+    return value.getUint64().getNumber().longValue();
+  }
+
+  /** Returns an unsigned 64-bit integer with the specified bits. */
+  static Uint64 uint64(long bits) {
+    return new Uint64(new XdrUnsignedHyperInteger(unsigned(bits)));
+  }
+
+  static String encodePublicKey(PublicKey publicKey) {
+    return StrKey.encodeEd25519PublicKey(publicKey.getEd25519().getUint256());
+  }
+
+  static PublicKey decodePublicKey(String strKey) {
+    PublicKey publicKey = new PublicKey();
+    publicKey.setDiscriminant(PublicKeyType.PUBLIC_KEY_TYPE_ED25519);
+    publicKey.setEd25519(new Uint256(StrKey.decodeEd25519PublicKey(strKey)));
+    return publicKey;
+  }
+
+  /** Encodes a muxed account as an M... strkey, which contains the key followed by the ID. */
+  static String encodeMuxedAccount(Uint256 ed25519, Uint64 id) {
+    ByteBuffer data = ByteBuffer.allocate(40);
+    data.put(ed25519.getUint256()).putLong(bits(id));
+    return StrKey.encodeMed25519PublicKey(data.array());
+  }
+
+  static MuxedEd25519Account decodeMuxedAccount(String strKey) {
+    ByteBuffer data = ByteBuffer.wrap(StrKey.decodeMed25519PublicKey(strKey));
+    byte[] ed25519 = new byte[32];
+    data.get(ed25519);
+    return new MuxedEd25519Account(uint64(data.getLong()), new Uint256(ed25519));
+  }
+
+  static String encodeContractId(ContractID contractId) {
+    return StrKey.encodeContract(contractId.getContractID().getHash());
+  }
+
+  static ContractID decodeContractId(String strKey) {
+    return new ContractID(new Hash(StrKey.decodeContract(strKey)));
+  }
+
+  static String encodePoolId(PoolID poolId) {
+    return StrKey.encodeLiquidityPool(poolId.getPoolID().getHash());
+  }
+
+  static PoolID decodePoolId(String strKey) {
+    return new PoolID(new Hash(StrKey.decodeLiquidityPool(strKey)));
+  }
+
+  /** Encodes a claimable balance ID as a B... strkey, which starts with the type of the ID. */
+  static String encodeClaimableBalanceId(ClaimableBalanceID claimableBalanceId) {
+    byte[] data = new byte[33];
+    data[0] = (byte) claimableBalanceId.getDiscriminant().getValue();
+    System.arraycopy(claimableBalanceId.getV0().getHash(), 0, data, 1, 32);
+    return StrKey.encodeClaimableBalance(data);
+  }
+
+  static ClaimableBalanceID decodeClaimableBalanceId(String strKey) {
+    byte[] data = StrKey.decodeClaimableBalance(strKey);
+    ClaimableBalanceID claimableBalanceId = new ClaimableBalanceID();
+    if (data[0] != ClaimableBalanceIDType.CLAIMABLE_BALANCE_ID_TYPE_V0.getValue()) {
+      throw new IllegalArgumentException("Unknown claimable balance ID type: " + data[0]);
+    }
+    claimableBalanceId.setDiscriminant(ClaimableBalanceIDType.CLAIMABLE_BALANCE_ID_TYPE_V0);
+    claimableBalanceId.setV0(new Hash(Arrays.copyOfRange(data, 1, data.length)));
+    return claimableBalanceId;
+  }
+
+  private static BigInteger unsigned(long value) {
+    BigInteger result = BigInteger.valueOf(value & Long.MAX_VALUE);
+    return value < 0 ? result.setBit(63) : result;
+  }
+}
@@ -0,0 +1,99 @@
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+import java.util.function.IntFunction;
+
+/**
+ * Recycles decoded XDR values, for loops that decode value after value of one type and drop each
+ * value before decoding the next.
+ *
+ * <p>The generated types have a static {@code decodeInto(existing, stream)} method, which decodes a
+ * value into an existing instance and returns it. Nested values and arrays of the existing instance
+ * are reused wherever the decoded value has the same shape: arrays of the same length, optional
+ * values that are present in both, and unions with the same discriminant. Everything else is
+ * allocated as by {@code decode}, and enums and the immutable {@link XdrString}, {@link
+ * XdrUnsignedInteger} and {@link XdrUnsignedHyperInteger} values are always decoded anew. {@link
+ * SCVal} values are not reused, since they are decoded iteratively, and neither are the interned
+ * types listed in {@link XdrInterner} when the stream has an interner.
+ *
+ * <p>A recycler keeps the last value it decoded on each thread and decodes the next one into it:
+ *
+ * <pre>
+ * XdrRecycler&lt;TransactionEnvelope&gt; envelopes =
+ *     new XdrRecycler&lt;&gt;(TransactionEnvelope::decodeInto);
+ * while (stream.available() &gt; 0) {
+ *   TransactionEnvelope envelope = envelopes.decode(stream);
+ *   // envelope and everything in it is overwritten by the next decode on this thread
+ * }
+ * </pre>
+ *
+ * <p>A value returned by a recycler must therefore not be kept or shared with another thread, and
+ * an instance passed to {@code decodeInto} must not be referenced from anywhere else. This includes
+ * values that were interned by a stream with an interner.
+ *
+ * @param <T> the type of the values
+ */
+public final class XdrRecycler<T extends XdrElement> {
+  private final Decoder<T> decoder;
+  private final ThreadLocal<T> values = new ThreadLocal<>();
+
+  /** Decodes a value into an existing instance, typically a reference to {@code decodeInto}. */
+  @FunctionalInterface
+  public interface Decoder<T> {
+    T decodeInto(T existing, XdrDataInputStream stream) throws IOException;
+  }
+
+  /**
+   * Creates a recycler.
+   *
+   * @param decoder the decoder of the type, such as {@code TransactionEnvelope::decodeInto}
+   */
+  public XdrRecycler(Decoder<T> decoder) {
+    this.decoder = decoder;
+  }
+
+  /**
+   * Decodes a value into the value last decoded by this recycler on the current thread, if any.
+   *
+   * @param stream the stream to decode from
+   * @return the decoded value, which is valid until the next call on the current thread
+   * @throws IOException if the value cannot be decoded
+   */
+  public T decode(XdrDataInputStream stream) throws IOException {
+    T value;
+    try {
+      value = decoder.decodeInto(values.get(), stream);
+    } catch (IOException | RuntimeException e) {
+      // Don't reuse a partially decoded value.
+      values.remove();
+      throw e;
+    }
+    values.set(value);
+    return value;
+  }
+
+  /** Drops the value kept for the current thread. */
+  public void clear() {
+    values.remove();
+  }
+
+  /** Returns {@code array} if it has the specified length, or a new array otherwise. */
+  static byte[] resize(byte[] array, int length) {
+    return array != null && array.length == length ? array : new byte[length];
+  }
+
+  /**
+   * Returns {@code array} if it has the specified length, or a new array of that length holding as
+   * many of the elements of {@code array} as fit, so that they can still be reused.
+   */
+  static <E> E[] resize(E[] array, int length, IntFunction<E[]> newArray) {
+    if (array != null && array.length == length) {
+      return array;
+    }
+    E[] resized = newArray.apply(length);
+    if (array != null) {
+      System.arraycopy(array, 0, resized, 0, Math.min(array.length, length));
+    }
+    return resized;
+  }
+}
@@ -1,10 +1,10 @@
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import lombok.Value;
-import org.stellar.sdk.Base64Factory;
 
 @Value
 public class XdrString implements XdrElement {
@@ -24,19 +24,34 @@ public class XdrString implements XdrElement {
     stream.write(this.bytes, 0, this.bytes.length);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4 + XdrDataOutputStream.paddedSize(this.bytes.length);
+  }
+
   public static XdrString decode(XdrDataInputStream stream, int maxSize) throws IOException {
     int size = stream.readInt();
     if (size > maxSize) {
       throw new IllegalArgumentException("String length " + size + " exceeds max size " + maxSize);
     }
+    stream.checkLength(size, 1);
     byte[] bytes = new byte[size];
     stream.read(bytes);
     return new XdrString(bytes);
   }
 
+  public static void skip(XdrDataInputStream stream, int maxSize) throws IOException {
+    int size = stream.readInt();
+    if (size > maxSize) {
+      throw new IllegalArgumentException("String length " + size + " exceeds max size " + maxSize);
+    }
+    stream.checkLength(size, 1);
+    stream.skipOpaque(size);
+  }
+
   public static XdrString fromXdrBase64(String xdr, int maxSize) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes, maxSize);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream, maxSize);
   }
 
   public static XdrString fromXdrBase64(String xdr) throws IOException {
@@ -44,8 +59,7 @@ public class XdrString implements XdrElement {
   }
 
   public static XdrString fromXdrByteArray(byte[] xdr, int maxSize) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream, maxSize);
   }
 
@@ -53,6 +67,19 @@ public class XdrString implements XdrElement {
     return fromXdrByteArray(xdr, Integer.MAX_VALUE);
   }
 
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.value(XdrJson.escape(bytes, bytes.length));
+  }
+
+  public static XdrString fromJson(JsonReader reader) throws IOException {
+    return new XdrString(XdrJson.unescape(reader.nextString()));
+  }
+
+  public static XdrString fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
+
   @Override
   public String toString() {
     return new String(bytes, StandardCharsets.UTF_8);
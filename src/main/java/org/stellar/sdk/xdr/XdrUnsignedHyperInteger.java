@@ -1,10 +1,10 @@
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.math.BigInteger;
 import lombok.Value;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Represents XDR Unsigned Hyper Integer.
@@ -38,6 +38,11 @@ public class XdrUnsignedHyperInteger implements XdrElement {
     stream.write(getBytes());
   }
 
+  @Override
+  public int encodedSize() {
+    return 8;
+  }
+
   public static XdrUnsignedHyperInteger decode(XdrDataInputStream stream) throws IOException {
     byte[] bytes = new byte[8];
     stream.readFully(bytes);
@@ -45,6 +50,10 @@ public class XdrUnsignedHyperInteger implements XdrElement {
     return new XdrUnsignedHyperInteger(uint64);
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.readLong();
+  }
+
   private byte[] getBytes() {
     byte[] bytes = number.toByteArray();
     byte[] paddedBytes = new byte[8];
@@ -56,13 +65,25 @@ public class XdrUnsignedHyperInteger implements XdrElement {
   }
 
   public static XdrUnsignedHyperInteger fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static XdrUnsignedHyperInteger fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.value(number.toString());
+  }
+
+  public static XdrUnsignedHyperInteger fromJson(JsonReader reader) throws IOException {
+    return new XdrUnsignedHyperInteger(XdrJson.readInteger(reader));
+  }
+
+  public static XdrUnsignedHyperInteger fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
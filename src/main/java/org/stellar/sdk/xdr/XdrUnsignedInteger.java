@@ -1,9 +1,9 @@
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import lombok.Value;
-import org.stellar.sdk.Base64Factory;
 
 /**
  * Represents XDR Unsigned Integer.
@@ -38,19 +38,40 @@ public class XdrUnsignedInteger implements XdrElement {
     return new XdrUnsignedInteger(uint32Value);
   }
 
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    stream.readInt();
+  }
+
   @Override
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(number.intValue());
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static XdrUnsignedInteger fromXdrBase64(String xdr) throws IOException {
-    byte[] bytes = Base64Factory.getInstance().decode(xdr);
-    return fromXdrByteArray(bytes);
+    XdrDataInputStream xdrDataInputStream = XdrDataInputStream.fromBase64(xdr);
+    return decode(xdrDataInputStream);
   }
 
   public static XdrUnsignedInteger fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(xdr);
     return decode(xdrDataInputStream);
   }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    writer.value(number);
+  }
+
+  public static XdrUnsignedInteger fromJson(JsonReader reader) throws IOException {
+    return new XdrUnsignedInteger(reader.nextLong());
+  }
+
+  public static XdrUnsignedInteger fromJson(String json) throws IOException {
+    return XdrJson.fromJson(json, reader -> fromJson(reader));
+  }
 }
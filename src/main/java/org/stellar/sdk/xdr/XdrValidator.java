@@ -0,0 +1,134 @@
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Checks the structure of XDR encoded values without decoding them.
+ *
+ * <p>Validation walks the encoded bytes with the {@code skip} method of a generated type, for
+ * example {@code TransactionEnvelope::skip}. It checks union discriminants, enum values, boolean
+ * and optional flags, the maximum length of arrays, opaques and strings, and padding, without
+ * allocating any model objects. It does not check anything that XDR itself does not express, such
+ * as signatures or the validity of an account ID.
+ *
+ * <pre>
+ * XdrValidator.validate(TransactionEnvelope::skip, xdr);
+ * </pre>
+ */
+public final class XdrValidator {
+  private XdrValidator() {}
+
+  /** Skips a value of some XDR type, typically a method reference to its {@code skip} method. */
+  @FunctionalInterface
+  public interface Skipper {
+    void skip(XdrDataInputStream stream) throws IOException;
+  }
+
+  /**
+   * Checks that the specified bytes are exactly one valid encoded value.
+   *
+   * @param type the type of the value
+   * @param xdr the encoded value
+   * @throws IOException if the bytes are not a valid encoded value, or have trailing bytes
+   */
+  public static void validate(Skipper type, byte[] xdr) throws IOException {
+    validate(type, ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Checks that the remaining bytes of the specified buffer are exactly one valid encoded value.
+   * The position of the buffer is not modified.
+   *
+   * @param type the type of the value
+   * @param xdr the encoded value
+   * @throws IOException if the bytes are not a valid encoded value, or have trailing bytes
+   */
+  public static void validate(Skipper type, ByteBuffer xdr) throws IOException {
+    int length = skip(type, xdr);
+    if (length != xdr.remaining()) {
+      throw new IOException(
+          "Encoded value is " + length + " bytes long, but " + xdr.remaining() + " were given");
+    }
+  }
+
+  /**
+   * Checks that the specified base64 string is exactly one valid encoded value. The string is
+   * decoded while it is checked, a chunk at a time.
+   *
+   * @param type the type of the value
+   * @param xdr the base64 encoded value
+   * @throws IOException if the string is not a valid encoded value, or has trailing bytes
+   */
+  public static void validateBase64(Skipper type, CharSequence xdr) throws IOException {
+    XdrDataInputStream stream;
+    try {
+      stream = XdrDataInputStream.fromBase64(xdr);
+    } catch (IllegalArgumentException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+    int length = skip(type, stream);
+    if (stream.available() != 0) {
+      throw new IOException(
+          "Encoded value is "
+              + length
+              + " bytes long, but "
+              + (length + stream.available())
+              + " were given");
+    }
+  }
+
+  /**
+   * Returns true if the specified bytes are exactly one valid encoded value, see {@link
+   * #validate(Skipper, byte[])}.
+   *
+   * @param type the type of the value
+   * @param xdr the encoded value
+   * @return true if the value is valid
+   */
+  public static boolean isValid(Skipper type, byte[] xdr) {
+    try {
+      validate(type, xdr);
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Checks the encoded value starting at the specified offset, and returns the offset of the first
+   * byte after it.
+   *
+   * @param type the type of the value
+   * @param xdr the byte array containing the encoded value
+   * @param offset the offset of the encoded value
+   * @return the offset of the end of the encoded value
+   * @throws IOException if the bytes are not a valid encoded value
+   */
+  public static int skip(Skipper type, byte[] xdr, int offset) throws IOException {
+    return offset + skip(type, ByteBuffer.wrap(xdr, offset, xdr.length - offset));
+  }
+
+  /**
+   * Checks the encoded value starting at the position of the specified buffer, and returns its
+   * length. The position of the buffer is not modified.
+   *
+   * @param type the type of the value
+   * @param xdr the buffer containing the encoded value
+   * @return the length of the encoded value
+   * @throws IOException if the bytes are not a valid encoded value
+   */
+  public static int skip(Skipper type, ByteBuffer xdr) throws IOException {
+    return skip(type, new XdrDataInputStream(xdr));
+  }
+
+  private static int skip(Skipper type, XdrDataInputStream stream) throws IOException {
+    try {
+      type.skip(stream);
+    } catch (IllegalArgumentException e) {
+      // Unknown enum values, strings that are too long and invalid base64.
+      throw new IOException(e.getMessage(), e);
+    }
+    return stream.getPosition();
+  }
+}
@@ -0,0 +1,137 @@
+package org.stellar.sdk.xdr;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * An immutable XDR value, held in its canonical encoding.
+ *
+ * <p>The generated types are mutable, so their {@code hashCode} and {@code equals} methods walk the
+ * whole object graph on every call. An {@code XdrValue} computes its hash code once, from the type
+ * and the encoded bytes, and its {@code equals} method compares hash codes before comparing bytes.
+ * This makes it a cheap key for hash maps and caches, for example of {@link LedgerKey} or {@link
+ * SCVal} values:
+ *
+ * <pre>
+ * Map&lt;XdrValue&lt;LedgerKey&gt;, LedgerEntry&gt; cache = new HashMap&lt;&gt;();
+ * cache.put(XdrValue.of(key, LedgerKey::decode), entry);
+ * </pre>
+ *
+ * <p>Two values are equal if they have the same type and encoding, which for XDR is the same as the
+ * generated {@code equals} method returning true.
+ *
+ * @param <T> the type of the value
+ */
+public final class XdrValue<T extends XdrElement> implements XdrElement {
+  private final Class<?> type;
+  private final Decoder<T> decoder;
+  private final byte[] xdr;
+  private final int hashCode;
+
+  /** Decodes a value of some XDR type, typically a method reference to its {@code decode}. */
+  @FunctionalInterface
+  public interface Decoder<T> {
+    T decode(XdrDataInputStream stream) throws IOException;
+  }
+
+  private XdrValue(Class<?> type, Decoder<T> decoder, byte[] xdr) {
+    this.type = type;
+    this.decoder = decoder;
+    this.xdr = xdr;
+    this.hashCode = 31 * type.getName().hashCode() + Arrays.hashCode(xdr);
+  }
+
+  /**
+   * Creates an immutable copy of the specified value. Later changes to the value do not affect the
+   * copy.
+   *
+   * @param value the value
+   * @param decoder the decoder of the type of the value, such as {@code SCVal::decode}
+   * @return the immutable value
+   * @throws IOException if the value cannot be encoded
+   */
+  public static <T extends XdrElement> XdrValue<T> of(T value, Decoder<T> decoder)
+      throws IOException {
+    return new XdrValue<>(value.getClass(), decoder, value.toXdrByteArray());
+  }
+
+  /**
+   * Creates an immutable value from its encoding. The bytes are copied and decoded once to check
+   * that they are exactly one valid value.
+   *
+   * @param xdr the encoded value
+   * @param decoder the decoder of the type of the value, such as {@code SCVal::decode}
+   * @return the immutable value
+   * @throws IOException if the bytes are not a valid encoded value, or have trailing bytes
+   */
+  public static <T extends XdrElement> XdrValue<T> fromXdrByteArray(byte[] xdr, Decoder<T> decoder)
+      throws IOException {
+    byte[] copy = xdr.clone();
+    XdrDataInputStream stream = new XdrDataInputStream(copy);
+    T value = decoder.decode(stream);
+    if (stream.available() != 0) {
+      throw new IOException("Trailing bytes after the encoded value: " + stream.available());
+    }
+    return new XdrValue<>(value.getClass(), decoder, copy);
+  }
+
+  /**
+   * Decodes the value. Every call returns a new instance, which the caller may modify.
+   *
+   * @return the decoded value
+   * @throws IOException if the value cannot be decoded
+   */
+  public T get() throws IOException {
+    return decoder.decode(new XdrDataInputStream(xdr));
+  }
+
+  @Override
+  public void encode(XdrDataOutputStream stream) throws IOException {
+    stream.write(xdr);
+  }
+
+  @Override
+  public int encodedSize() {
+    return xdr.length;
+  }
+
+  @Override
+  public byte[] toXdrByteArray() {
+    return xdr.clone();
+  }
+
+  @Override
+  public void toJson(JsonWriter writer) throws IOException {
+    get().toJson(writer);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof XdrValue)) {
+      return false;
+    }
+    XdrValue<?> other = (XdrValue<?>) object;
+    return hashCode == other.hashCode && type == other.type && Arrays.equals(xdr, other.xdr);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("XdrValue(type=").append(type.getSimpleName());
+    sb.append(", xdr=");
+    try {
+      toXdrBase64(sb);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return sb.append(')').toString();
+  }
+}
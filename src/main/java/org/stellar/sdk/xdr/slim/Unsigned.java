@@ -0,0 +1,21 @@
+package org.stellar.sdk.xdr.slim;
+
+import java.math.BigInteger;
+
+/** Conversions of unsigned 64-bit values, which the slim model stores in a {@code long}. */
+final class Unsigned {
+  private static final BigInteger TWO_64 = BigInteger.ONE.shiftLeft(64);
+
+  private Unsigned() {}
+
+  /**
+   * Returns the value of the bits of a {@code long} read as an unsigned 64-bit integer.
+   *
+   * @param value the bits
+   * @return the unsigned value
+   */
+  static BigInteger toBigInteger(long value) {
+    BigInteger result = BigInteger.valueOf(value);
+    return value >= 0 ? result : result.add(TWO_64);
+  }
+}
@@ -0,0 +1,27 @@
+/**
+ * Contains a slim form of the XDR types of ledger entries, transaction results, transaction meta
+ * and contract values.
+ *
+ * <p>The classes in {@link org.stellar.sdk.xdr} wrap every typedef and every integer in an object
+ * of its own: the sequence number of an account is a {@code SequenceNumber} holding an {@code
+ * Int64} holding a {@code Long}, and a {@code Hash} is an object holding a {@code byte[]}. Decoding
+ * a day of ledgers allocates and retains billions of these small objects. The classes in this
+ * package have the same names and encode and decode the same bytes, but store typedefs as their
+ * underlying type, integers as primitive {@code int} and {@code long} fields, and opaques and
+ * strings as {@code byte[]} fields.
+ *
+ * <p>Unsigned integers are stored in the signed primitive of the same width, so an {@code int}
+ * holding a {@code uint32} must be read with {@link Integer#toUnsignedLong(int)} and a {@code long}
+ * holding a {@code uint64} with {@link Long#toUnsignedString(long)} or similar. Optional integers
+ * are stored as {@link Integer} or {@link Long}, and are {@code null} when absent.
+ *
+ * <p>Every class can be converted from and to its counterpart in {@link org.stellar.sdk.xdr} with
+ * {@code fromXdr} and {@code toXdr}, so code that needs the full API of the regular classes, or
+ * JSON, can convert the few values it needs. Enums are shared with {@link org.stellar.sdk.xdr}.
+ *
+ * <p>Nested values are decoded recursively. The depth of contract values is limited by {@link
+ * org.stellar.sdk.xdr.XdrDecodeLimits#getMaxDepth()} as for the regular classes, but unlike {@link
+ * org.stellar.sdk.xdr.SCVal} the slim {@link org.stellar.sdk.xdr.slim.SCVal} uses the call stack to
+ * do so, and should not be decoded with a limit much larger than the default.
+ */
+package org.stellar.sdk.xdr.slim;
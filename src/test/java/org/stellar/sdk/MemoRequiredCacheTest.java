@@ -0,0 +1,38 @@
+package org.stellar.sdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class MemoRequiredCacheTest {
+  private static final long TTL_MILLIS = 60_000;
+
+  @Test
+  public void testExpiry() {
+    MemoRequiredCache cache = new MemoRequiredCache();
+    cache.put("A", true, TTL_MILLIS);
+    assertEquals(Boolean.TRUE, cache.get("A", TTL_MILLIS));
+    assertNull(cache.get("A", 0));
+    assertNull(cache.get("A", TTL_MILLIS));
+
+    cache.put("B", false, 0);
+    assertNull(cache.get("B", TTL_MILLIS));
+  }
+
+  @Test
+  public void testEvictsLeastRecentlyUsed() {
+    MemoRequiredCache cache = new MemoRequiredCache();
+    for (int i = 0; i < MemoRequiredCache.MAX_ENTRIES; i++) {
+      cache.put("account" + i, i % 2 == 0, TTL_MILLIS);
+    }
+    // Using the first account makes the second one the least recently used.
+    assertEquals(Boolean.TRUE, cache.get("account0", TTL_MILLIS));
+    cache.put("new", true, TTL_MILLIS);
+
+    assertNull(cache.get("account1", TTL_MILLIS));
+    assertEquals(Boolean.TRUE, cache.get("account0", TTL_MILLIS));
+    assertEquals(Boolean.FALSE, cache.get("account3", TTL_MILLIS));
+    assertEquals(Boolean.TRUE, cache.get("new", TTL_MILLIS));
+  }
+}
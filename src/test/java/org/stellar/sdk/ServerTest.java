@@ -1,11 +1,15 @@
 package org.stellar.sdk;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URISyntaxException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -232,6 +236,34 @@ public class ServerTest {
     }
   }
 
+  @Test
+  public void testSubmitTransactionFuture() throws Exception {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(successResponse));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(400).setBody(failureResponse));
+    mockWebServer.start();
+    HttpUrl baseUrl = mockWebServer.url("");
+    Server server = new Server(baseUrl.toString());
+
+    TransactionResponse response =
+        server
+            .submitTransactionFuture(this.buildTransaction(), true, Runnable::run)
+            .get(10, TimeUnit.SECONDS);
+    assertEquals(response.getLedger(), Long.valueOf(826150L));
+    assertEquals(
+        response.getHash(), "2634d2cf5adcbd3487d1df042166eef53830115844fdde1588828667bf93ff42");
+
+    try {
+      server
+          .submitTransactionFuture(this.buildTransaction(), true, Runnable::run)
+          .get(10, TimeUnit.SECONDS);
+      fail("submitTransactionFuture didn't complete exceptionally");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof BadRequestException);
+      assertEquals(400, ((BadRequestException) e.getCause()).getCode().intValue());
+    }
+  }
+
   @Test
   public void testSubmitTransactionTimeout() throws IOException {
     MockWebServer mockWebServer = new MockWebServer();
@@ -747,6 +779,60 @@ public class ServerTest {
     }
   }
 
+  @Test
+  public void testCheckMemoRequiredFuture() throws Exception {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(buildTestCheckMemoRequiredMockDispatcher());
+    mockWebServer.start();
+    HttpUrl baseUrl = mockWebServer.url("");
+    Server server = new Server(baseUrl.toString());
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    KeyPair source =
+        KeyPair.fromSecretSeed("SDQXFKA32UVQHUTLYJ42N56ZUEM5PNVVI4XE7EA5QFMLA2DHDCQX3GPY");
+    Account account = new Account(source.getAccountId(), 1L);
+    Transaction transaction =
+        new TransactionBuilder(account, Network.PUBLIC)
+            .addOperation(
+                PaymentOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_NO_FOUND)
+                    .asset(new AssetTypeNative())
+                    .amount(BigDecimal.valueOf(10))
+                    .build())
+            .addOperation(
+                PaymentOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_NO_MEMO_REQUIRED)
+                    .asset(new AssetTypeNative())
+                    .amount(BigDecimal.valueOf(10))
+                    .build())
+            .addOperation(
+                PaymentOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_MEMO_REQUIRED_B)
+                    .asset(new AssetTypeNative())
+                    .amount(BigDecimal.valueOf(10))
+                    .build())
+            .setTimeout(TransactionPreconditions.TIMEOUT_INFINITE)
+            .setBaseFee(100)
+            .build();
+    transaction.sign(source);
+    try {
+      server.submitTransactionFuture(transaction, executor).get(10, TimeUnit.SECONDS);
+      fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof AccountRequiresMemoException);
+      AccountRequiresMemoException cause = (AccountRequiresMemoException) e.getCause();
+      assertEquals(2, cause.getOperationIndex());
+      assertEquals(DESTINATION_ACCOUNT_MEMO_REQUIRED_B, cause.getAccountId());
+    } finally {
+      executor.shutdown();
+    }
+
+    // Skipping the check submits the transaction.
+    TransactionResponse response =
+        server.submitTransactionFuture(transaction, true, Runnable::run).get(10, TimeUnit.SECONDS);
+    assertEquals(Long.valueOf(826150L), response.getLedger());
+  }
+
   @Test
   public void testCheckMemoRequiredWithPathPaymentStrictReceiveOperationNoMemo()
       throws IOException {
@@ -1220,6 +1306,47 @@ public class ServerTest {
     server.submitTransaction(feeBump(transaction));
   }
 
+  @Test
+  public void testCheckMemoRequiredCache() throws IOException, AccountRequiresMemoException {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(buildTestCheckMemoRequiredMockDispatcher());
+    mockWebServer.start();
+    HttpUrl baseUrl = mockWebServer.url("");
+    Server server = new Server(baseUrl.toString());
+
+    KeyPair source =
+        KeyPair.fromSecretSeed("SDQXFKA32UVQHUTLYJ42N56ZUEM5PNVVI4XE7EA5QFMLA2DHDCQX3GPY");
+    Account account = new Account(source.getAccountId(), 1L);
+    Transaction transaction =
+        new TransactionBuilder(account, Network.PUBLIC)
+            .addOperation(
+                PaymentOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_NO_MEMO_REQUIRED)
+                    .asset(new AssetTypeNative())
+                    .amount(BigDecimal.valueOf(10))
+                    .build())
+            .addOperation(
+                PaymentOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_NO_FOUND)
+                    .asset(new AssetTypeNative())
+                    .amount(BigDecimal.valueOf(10))
+                    .build())
+            .setTimeout(TransactionPreconditions.TIMEOUT_INFINITE)
+            .setBaseFee(100)
+            .build();
+    transaction.sign(source);
+
+    // Both destinations are loaded once, including the one which does not exist.
+    server.submitTransaction(transaction);
+    server.submitTransaction(transaction);
+    assertEquals(4, mockWebServer.getRequestCount());
+
+    server.setMemoRequiredCacheTtlMillis(0);
+    server.submitTransaction(transaction);
+    assertEquals(7, mockWebServer.getRequestCount());
+    mockWebServer.shutdown();
+  }
+
   @Test
   public void testCheckMemoRequiredFetchAccountError()
       throws IOException, AccountRequiresMemoException {
@@ -10,6 +10,7 @@ import static org.junit.Assert.fail;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -132,6 +133,47 @@ public class TransactionTest {
     assertEquals(1, transaction.getSignatures().size());
   }
 
+  @Test
+  public void testHashIsHashOfSignatureBase() {
+    KeyPair source =
+        KeyPair.fromAccountId("GBBM6BKZPEHWYO3E3YKREDPQXMS4VK35YLNU7NFBRI26RAN7GI5POFBB");
+    KeyPair destination =
+        KeyPair.fromAccountId("GDJJRRMBK4IWLEPJGIE6SXD2LP7REGZODU7WDC3I2D6MR37F4XSHBKX2");
+
+    Account account = new Account(source.getAccountId(), 0L);
+
+    Transaction transaction =
+        new Transaction(
+            account.getAccountId(),
+            Transaction.MIN_BASE_FEE,
+            account.getIncrementedSequenceNumber(),
+            new org.stellar.sdk.operations.Operation[] {
+              CreateAccountOperation.builder()
+                  .destination(destination.getAccountId())
+                  .startingBalance(BigDecimal.valueOf(2000))
+                  .build()
+            },
+            Memo.text("Hello world!"),
+            new TransactionPreconditions(
+                null, null, null, BigInteger.ZERO, 0, new ArrayList<SignerKey>()),
+            null,
+            Network.PUBLIC);
+    assertArrayEquals(Util.hash(transaction.signatureBase()), transaction.hash());
+
+    FeeBumpTransaction feeBump =
+        FeeBumpTransaction.createWithBaseFee(
+            destination.getAccountId(), Transaction.MIN_BASE_FEE * 2, transaction);
+    assertArrayEquals(Util.hash(feeBump.signatureBase()), feeBump.hash());
+
+    // The network id is cached, but callers get their own copy.
+    byte[] networkId = Network.PUBLIC.getNetworkId();
+    networkId[0]++;
+    assertArrayEquals(
+        Util.hash(Network.PUBLIC.getNetworkPassphrase().getBytes(StandardCharsets.UTF_8)),
+        Network.PUBLIC.getNetworkId());
+    assertEquals(new Network(Network.PUBLIC.getNetworkPassphrase()), Network.PUBLIC);
+  }
+
   @Test
   public void testSha256HashSigning() {
     KeyPair source =
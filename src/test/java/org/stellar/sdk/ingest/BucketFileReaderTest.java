@@ -0,0 +1,396 @@
+package org.stellar.sdk.ingest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.xdr.AccountEntry;
+import org.stellar.sdk.xdr.AccountID;
+import org.stellar.sdk.xdr.AlphaNum4;
+import org.stellar.sdk.xdr.AssetCode4;
+import org.stellar.sdk.xdr.AssetType;
+import org.stellar.sdk.xdr.BucketEntry;
+import org.stellar.sdk.xdr.BucketEntryType;
+import org.stellar.sdk.xdr.BucketMetadata;
+import org.stellar.sdk.xdr.ContractCodeCostInputs;
+import org.stellar.sdk.xdr.ContractCodeEntry;
+import org.stellar.sdk.xdr.ContractDataDurability;
+import org.stellar.sdk.xdr.ContractDataEntry;
+import org.stellar.sdk.xdr.ContractID;
+import org.stellar.sdk.xdr.ExtensionPoint;
+import org.stellar.sdk.xdr.Hash;
+import org.stellar.sdk.xdr.Int64;
+import org.stellar.sdk.xdr.LedgerEntry;
+import org.stellar.sdk.xdr.LedgerEntryType;
+import org.stellar.sdk.xdr.LedgerKey;
+import org.stellar.sdk.xdr.PublicKey;
+import org.stellar.sdk.xdr.PublicKeyType;
+import org.stellar.sdk.xdr.SCAddress;
+import org.stellar.sdk.xdr.SCAddressType;
+import org.stellar.sdk.xdr.SCSymbol;
+import org.stellar.sdk.xdr.SCVal;
+import org.stellar.sdk.xdr.SCValType;
+import org.stellar.sdk.xdr.SequenceNumber;
+import org.stellar.sdk.xdr.String32;
+import org.stellar.sdk.xdr.TTLEntry;
+import org.stellar.sdk.xdr.Thresholds;
+import org.stellar.sdk.xdr.TrustLineAsset;
+import org.stellar.sdk.xdr.TrustLineEntry;
+import org.stellar.sdk.xdr.Uint256;
+import org.stellar.sdk.xdr.Uint32;
+import org.stellar.sdk.xdr.XdrString;
+import org.stellar.sdk.xdr.XdrUnsignedInteger;
+
+public class BucketFileReaderTest {
+  private static final int ACCOUNT_COUNT = 50;
+
+  private Path bucketPath;
+  private Path indexPath;
+
+  private static AccountID accountID(int seed) {
+    byte[] key = new byte[32];
+    key[0] = (byte) seed;
+    key[31] = (byte) (seed >> 8);
+    return new AccountID(
+        PublicKey.builder()
+            .discriminant(PublicKeyType.PUBLIC_KEY_TYPE_ED25519)
+            .ed25519(new Uint256(key))
+            .build());
+  }
+
+  private static Uint32 uint32(long value) {
+    return new Uint32(new XdrUnsignedInteger(value));
+  }
+
+  private static LedgerEntry ledgerEntry(LedgerEntry.LedgerEntryData data) {
+    return LedgerEntry.builder()
+        .lastModifiedLedgerSeq(uint32(7))
+        .data(data)
+        .ext(LedgerEntry.LedgerEntryExt.builder().discriminant(0).build())
+        .build();
+  }
+
+  private static LedgerEntry account(int seed) {
+    AccountEntry account =
+        AccountEntry.builder()
+            .accountID(accountID(seed))
+            .balance(new Int64(1000L * seed))
+            .seqNum(new SequenceNumber(new Int64((long) seed)))
+            .numSubEntries(uint32(0))
+            .flags(uint32(0))
+            .homeDomain(new String32(new XdrString("")))
+            .thresholds(new Thresholds(new byte[] {1, 0, 0, 0}))
+            .signers(new org.stellar.sdk.xdr.Signer[0])
+            .ext(AccountEntry.AccountEntryExt.builder().discriminant(0).build())
+            .build();
+    return ledgerEntry(
+        LedgerEntry.LedgerEntryData.builder()
+            .discriminant(LedgerEntryType.ACCOUNT)
+            .account(account)
+            .build());
+  }
+
+  private static TrustLineAsset usd(int issuer) {
+    return TrustLineAsset.builder()
+        .discriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM4)
+        .alphaNum4(new AlphaNum4(new AssetCode4(new byte[] {'U', 'S', 'D', 0}), accountID(issuer)))
+        .build();
+  }
+
+  private static LedgerEntry trustLine(int seed, int issuer) {
+    TrustLineEntry trustLine =
+        TrustLineEntry.builder()
+            .accountID(accountID(seed))
+            .asset(usd(issuer))
+            .balance(new Int64(5L))
+            .limit(new Int64(100L))
+            .flags(uint32(1))
+            .ext(TrustLineEntry.TrustLineEntryExt.builder().discriminant(0).build())
+            .build();
+    return ledgerEntry(
+        LedgerEntry.LedgerEntryData.builder()
+            .discriminant(LedgerEntryType.TRUSTLINE)
+            .trustLine(trustLine)
+            .build());
+  }
+
+  private static SCAddress contract() {
+    return SCAddress.builder()
+        .discriminant(SCAddressType.SC_ADDRESS_TYPE_CONTRACT)
+        .contractId(new ContractID(new Hash(new byte[32])))
+        .build();
+  }
+
+  private static SCVal symbol(String value) {
+    return SCVal.builder()
+        .discriminant(SCValType.SCV_SYMBOL)
+        .sym(new SCSymbol(new XdrString(value)))
+        .build();
+  }
+
+  private static LedgerEntry contractData() {
+    ContractDataEntry contractData =
+        ContractDataEntry.builder()
+            .ext(ExtensionPoint.builder().discriminant(0).build())
+            .contract(contract())
+            .key(symbol("balance"))
+            .durability(ContractDataDurability.PERSISTENT)
+            .val(symbol("value"))
+            .build();
+    return ledgerEntry(
+        LedgerEntry.LedgerEntryData.builder()
+            .discriminant(LedgerEntryType.CONTRACT_DATA)
+            .contractData(contractData)
+            .build());
+  }
+
+  private static LedgerEntry contractCode() {
+    ExtensionPoint v0 = ExtensionPoint.builder().discriminant(0).build();
+    ContractCodeCostInputs costInputs =
+        ContractCodeCostInputs.builder()
+            .ext(v0)
+            .nInstructions(uint32(1))
+            .nFunctions(uint32(2))
+            .nGlobals(uint32(3))
+            .nTableEntries(uint32(4))
+            .nTypes(uint32(5))
+            .nDataSegments(uint32(6))
+            .nElemSegments(uint32(7))
+            .nImports(uint32(8))
+            .nExports(uint32(9))
+            .nDataSegmentBytes(uint32(10))
+            .build();
+    // The v1 extension puts the cost inputs in front of the hash, which is the key.
+    ContractCodeEntry contractCode =
+        ContractCodeEntry.builder()
+            .ext(
+                ContractCodeEntry.ContractCodeEntryExt.builder()
+                    .discriminant(1)
+                    .v1(
+                        new ContractCodeEntry.ContractCodeEntryExt.ContractCodeEntryV1(
+                            v0, costInputs))
+                    .build())
+            .hash(new Hash(new byte[32]))
+            .code(new byte[] {0, 'a', 's', 'm'})
+            .build();
+    return ledgerEntry(
+        LedgerEntry.LedgerEntryData.builder()
+            .discriminant(LedgerEntryType.CONTRACT_CODE)
+            .contractCode(contractCode)
+            .build());
+  }
+
+  private static LedgerEntry ttl() {
+    byte[] hash = new byte[32];
+    hash[0] = 9;
+    return ledgerEntry(
+        LedgerEntry.LedgerEntryData.builder()
+            .discriminant(LedgerEntryType.TTL)
+            .ttl(new TTLEntry(new Hash(hash), uint32(1000)))
+            .build());
+  }
+
+  private static LedgerKey accountKey(int seed) {
+    return LedgerKey.builder()
+        .discriminant(LedgerEntryType.ACCOUNT)
+        .account(new LedgerKey.LedgerKeyAccount(accountID(seed)))
+        .build();
+  }
+
+  private static LedgerKey trustLineKey(int seed, int issuer) {
+    return LedgerKey.builder()
+        .discriminant(LedgerEntryType.TRUSTLINE)
+        .trustLine(new LedgerKey.LedgerKeyTrustLine(accountID(seed), usd(issuer)))
+        .build();
+  }
+
+  private static LedgerKey contractDataKey() {
+    return LedgerKey.builder()
+        .discriminant(LedgerEntryType.CONTRACT_DATA)
+        .contractData(
+            new LedgerKey.LedgerKeyContractData(
+                contract(), symbol("balance"), ContractDataDurability.PERSISTENT))
+        .build();
+  }
+
+  private static LedgerKey contractCodeKey() {
+    return LedgerKey.builder()
+        .discriminant(LedgerEntryType.CONTRACT_CODE)
+        .contractCode(new LedgerKey.LedgerKeyContractCode(new Hash(new byte[32])))
+        .build();
+  }
+
+  private static LedgerKey ttlKey() {
+    return LedgerKey.builder()
+        .discriminant(LedgerEntryType.TTL)
+        .ttl(new LedgerKey.LedgerKeyTtl(ttl().getData().getTtl().getKeyHash()))
+        .build();
+  }
+
+  private static BucketEntry live(LedgerEntry entry) {
+    return BucketEntry.builder().discriminant(BucketEntryType.LIVEENTRY).liveEntry(entry).build();
+  }
+
+  private static BucketEntry dead(LedgerKey key) {
+    return BucketEntry.builder().discriminant(BucketEntryType.DEADENTRY).deadEntry(key).build();
+  }
+
+  private static BucketEntry metadata() {
+    return BucketEntry.builder()
+        .discriminant(BucketEntryType.METAENTRY)
+        .metaEntry(
+            BucketMetadata.builder()
+                .ledgerVersion(uint32(23))
+                .ext(BucketMetadata.BucketMetadataExt.builder().discriminant(0).build())
+                .build())
+        .build();
+  }
+
+  private List<BucketEntry> entries() throws IOException {
+    List<BucketEntry> entries = new ArrayList<>();
+    entries.add(metadata());
+    // Written in reverse, so that the index has to sort them.
+    for (int seed = ACCOUNT_COUNT; seed > 0; seed--) {
+      entries.add(live(account(seed)));
+    }
+    entries.add(live(trustLine(3, 1)));
+    entries.add(live(trustLine(3, 2)));
+    entries.add(
+        BucketEntry.builder()
+            .discriminant(BucketEntryType.INITENTRY)
+            .liveEntry(contractData())
+            .build());
+    entries.add(live(contractCode()));
+    entries.add(live(ttl()));
+    entries.add(dead(accountKey(ACCOUNT_COUNT + 1)));
+    return entries;
+  }
+
+  private void writeBucket(List<BucketEntry> entries) throws IOException {
+    try (XdrRecordWriter writer = XdrRecordWriter.open(bucketPath)) {
+      for (BucketEntry entry : entries) {
+        writer.write(entry);
+      }
+    }
+  }
+
+  @Before
+  public void setUp() throws IOException {
+    bucketPath = Files.createTempFile("bucket", ".xdr");
+    indexPath = bucketPath.resolveSibling(bucketPath.getFileName() + BucketFileReader.INDEX_SUFFIX);
+    writeBucket(entries());
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(bucketPath);
+    Files.deleteIfExists(indexPath);
+  }
+
+  @Test
+  public void testKeyOf() throws IOException {
+    LedgerEntry[] entries = {account(1), trustLine(3, 1), contractData(), contractCode(), ttl()};
+    LedgerKey[] keys = {
+      accountKey(1), trustLineKey(3, 1), contractDataKey(), contractCodeKey(), ttlKey()
+    };
+    for (int i = 0; i < entries.length; i++) {
+      assertArrayEquals(
+          keys[i].toXdrByteArray(),
+          BucketFileReader.keyOf(ByteBuffer.wrap(live(entries[i]).toXdrByteArray())));
+    }
+    assertArrayEquals(
+        keys[0].toXdrByteArray(),
+        BucketFileReader.keyOf(ByteBuffer.wrap(dead(keys[0]).toXdrByteArray())));
+    assertNull(BucketFileReader.keyOf(ByteBuffer.wrap(metadata().toXdrByteArray())));
+  }
+
+  @Test
+  public void testPointLookups() throws IOException {
+    BucketFileReader reader = BucketFileReader.open(bucketPath);
+    assertTrue(Files.exists(indexPath));
+    assertEquals(ACCOUNT_COUNT + 6, reader.getEntryCount());
+    assertEquals(metadata(), reader.getMetadata());
+
+    for (int seed = 1; seed <= ACCOUNT_COUNT; seed++) {
+      assertEquals(account(seed), reader.getLedgerEntry(accountKey(seed)));
+    }
+    assertEquals(trustLine(3, 2), reader.getLedgerEntry(trustLineKey(3, 2)));
+    assertEquals(contractData(), reader.getLedgerEntry(contractDataKey()));
+    assertEquals(contractCode(), reader.getLedgerEntry(contractCodeKey()));
+    assertEquals(ttl(), reader.getLedgerEntry(ttlKey()));
+    assertArrayEquals(live(ttl()).toXdrByteArray(), toByteArray(reader.getXdr(ttlKey())));
+
+    // Deleted and missing entries.
+    assertEquals(dead(accountKey(ACCOUNT_COUNT + 1)), reader.get(accountKey(ACCOUNT_COUNT + 1)));
+    assertNull(reader.getLedgerEntry(accountKey(ACCOUNT_COUNT + 1)));
+    assertNull(reader.get(accountKey(ACCOUNT_COUNT + 2)));
+    assertNull(reader.get(trustLineKey(3, 3)));
+  }
+
+  @Test
+  public void testRangeLookups() throws IOException {
+    BucketFileReader reader = BucketFileReader.open(bucketPath);
+    Iterator<BucketEntry> trustLines = reader.range(trustLineKey(3, 0), trustLineKey(4, 0));
+    assertEquals(live(trustLine(3, 1)), trustLines.next());
+    assertEquals(live(trustLine(3, 2)), trustLines.next());
+    assertFalse(trustLines.hasNext());
+
+    int count = 0;
+    byte[] previous = null;
+    for (Iterator<ByteBuffer> all = reader.rangeXdr(null, null); all.hasNext(); count++) {
+      byte[] key = BucketFileReader.keyOf(all.next());
+      if (previous != null) {
+        assertTrue(compareUnsigned(previous, key) < 0);
+      }
+      previous = key;
+    }
+    assertEquals(reader.getEntryCount(), count);
+    assertFalse(reader.rangeXdr(accountKey(2), accountKey(2)).hasNext());
+  }
+
+  @Test
+  public void testIndexIsPersisted() throws IOException {
+    BucketFileReader.open(bucketPath);
+    FileTime indexTime = FileTime.fromMillis(1000);
+    Files.setLastModifiedTime(indexPath, indexTime);
+    BucketFileReader reader = BucketFileReader.open(bucketPath);
+    assertEquals(indexTime, Files.getLastModifiedTime(indexPath));
+    assertEquals(account(1), reader.getLedgerEntry(accountKey(1)));
+
+    // A changed bucket gets a new index.
+    List<BucketEntry> entries = entries();
+    entries.add(live(account(ACCOUNT_COUNT + 2)));
+    writeBucket(entries);
+    reader = BucketFileReader.open(bucketPath);
+    assertEquals(account(ACCOUNT_COUNT + 2), reader.getLedgerEntry(accountKey(ACCOUNT_COUNT + 2)));
+  }
+
+  private static byte[] toByteArray(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  private static int compareUnsigned(byte[] a, byte[] b) {
+    for (int i = 0; i < Math.min(a.length, b.length); i++) {
+      int diff = (a[i] & 0xff) - (b[i] & 0xff);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return a.length - b.length;
+  }
+}
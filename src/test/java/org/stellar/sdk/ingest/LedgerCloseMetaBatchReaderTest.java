@@ -0,0 +1,214 @@
+package org.stellar.sdk.ingest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.LedgerCloseMetaBatch;
+import org.stellar.sdk.xdr.Uint32;
+import org.stellar.sdk.xdr.XdrInterner;
+import org.stellar.sdk.xdr.XdrUnsignedInteger;
+
+public class LedgerCloseMetaBatchReaderTest {
+  private static final int START_SEQUENCE = 100;
+  private static final int LEDGER_COUNT = 5;
+
+  private LedgerCloseMeta[] ledgers;
+  private byte[] encoded;
+
+  @Before
+  public void setUp() throws IOException {
+    ledgers = new LedgerCloseMeta[LEDGER_COUNT];
+    for (int i = 0; i < LEDGER_COUNT; i++) {
+      // Mix ledger versions, so that ledgers have different sizes.
+      ledgers[i] =
+          i % 2 == 0
+              ? LedgerCloseMetaFixtures.v2Ledger(START_SEQUENCE + i)
+              : LedgerCloseMetaFixtures.v1Ledger();
+    }
+    LedgerCloseMetaBatch batch = new LedgerCloseMetaBatch();
+    batch.setStartSequence(new Uint32(new XdrUnsignedInteger((long) START_SEQUENCE)));
+    batch.setEndSequence(
+        new Uint32(new XdrUnsignedInteger((long) START_SEQUENCE + LEDGER_COUNT - 1)));
+    batch.setLedgerCloseMetas(ledgers);
+    encoded = batch.toXdrByteArray();
+  }
+
+  private LedgerCloseMetaBatchReader[] readers() throws IOException {
+    return new LedgerCloseMetaBatchReader[] {
+      LedgerCloseMetaBatchReader.fromXdrByteBuffer(ByteBuffer.wrap(encoded)),
+      LedgerCloseMetaBatchReader.fromInputStream(new ByteArrayInputStream(encoded)),
+      LedgerCloseMetaBatchReader.fromInputStream(new ShortReadInputStream(encoded))
+    };
+  }
+
+  @Test
+  public void testReadAll() throws IOException {
+    for (LedgerCloseMetaBatchReader reader : readers()) {
+      assertEquals(START_SEQUENCE, reader.getStartSequence());
+      assertEquals(START_SEQUENCE + LEDGER_COUNT - 1, reader.getEndSequence());
+      assertEquals(LEDGER_COUNT, reader.getLedgerCount());
+      for (int i = 0; i < LEDGER_COUNT; i++) {
+        assertTrue(reader.hasNext());
+        assertEquals(START_SEQUENCE + i, reader.getNextSequence());
+        if (i % 2 == 0) {
+          assertEquals(ledgers[i], reader.next());
+        } else {
+          ByteBuffer xdr = reader.nextXdr();
+          byte[] bytes = new byte[xdr.remaining()];
+          xdr.get(bytes);
+          assertArrayEquals(ledgers[i].toXdrByteArray(), bytes);
+        }
+      }
+      assertFalse(reader.hasNext());
+      try {
+        reader.next();
+        fail("Didn't throw NoSuchElementException");
+      } catch (NoSuchElementException expectedException) {
+      }
+      reader.close();
+    }
+  }
+
+  @Test
+  public void testNextView() throws IOException {
+    for (LedgerCloseMetaBatchReader reader : readers()) {
+      for (int i = 0; i < LEDGER_COUNT; i++) {
+        LedgerCloseMetaView view = reader.nextView();
+        assertEquals(ledgers[i].getDiscriminant().intValue(), view.getVersion());
+        assertEquals(ledgers[i], view.toLedgerCloseMeta());
+      }
+    }
+  }
+
+  @Test
+  public void testSeek() throws IOException {
+    for (LedgerCloseMetaBatchReader reader : readers()) {
+      reader.seek(START_SEQUENCE + 2);
+      assertEquals(ledgers[2], reader.next());
+      reader.seek(START_SEQUENCE + 4);
+      assertEquals(ledgers[4], reader.next());
+      assertFalse(reader.hasNext());
+      try {
+        reader.seek(START_SEQUENCE + LEDGER_COUNT);
+        fail("Didn't throw IllegalArgumentException");
+      } catch (IllegalArgumentException expectedException) {
+      }
+    }
+  }
+
+  @Test
+  public void testSeekBackwards() throws IOException {
+    LedgerCloseMetaBatchReader reader =
+        LedgerCloseMetaBatchReader.fromXdrByteBuffer(ByteBuffer.wrap(encoded));
+    reader.seek(START_SEQUENCE + 3);
+    reader.seek(START_SEQUENCE + 1);
+    assertEquals(ledgers[1], reader.next());
+    assertEquals(ledgers[2], reader.next());
+
+    LedgerCloseMetaBatchReader streamReader =
+        LedgerCloseMetaBatchReader.fromInputStream(new ByteArrayInputStream(encoded));
+    streamReader.seek(START_SEQUENCE + 3);
+    try {
+      streamReader.seek(START_SEQUENCE + 1);
+      fail("Didn't throw IllegalArgumentException");
+    } catch (IllegalArgumentException expectedException) {
+    }
+  }
+
+  @Test
+  public void testParallelIterator() throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      for (LedgerCloseMetaBatchReader reader : readers()) {
+        reader.seek(START_SEQUENCE + 1);
+        Iterator<LedgerCloseMeta> iterator = reader.parallelIterator(executor, 2);
+        for (int i = 1; i < LEDGER_COUNT; i++) {
+          assertTrue(iterator.hasNext());
+          assertEquals(ledgers[i], iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testInterner() throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      for (LedgerCloseMetaBatchReader reader : readers()) {
+        XdrInterner interner = new XdrInterner(16);
+        reader.setInterner(interner);
+        assertEquals(ledgers[0], reader.next());
+        Iterator<LedgerCloseMeta> iterator = reader.parallelIterator(executor, 2);
+        for (int i = 1; i < LEDGER_COUNT; i++) {
+          assertEquals(ledgers[i], iterator.next());
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testOpenFile() throws IOException {
+    Path path = Files.createTempFile("ledgers", ".xdr");
+    try {
+      Files.write(path, encoded);
+      try (LedgerCloseMetaBatchReader reader = LedgerCloseMetaBatchReader.open(path)) {
+        for (int i = 0; i < LEDGER_COUNT; i++) {
+          assertEquals(ledgers[i], reader.next());
+        }
+        assertFalse(reader.hasNext());
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testInvalidLedgerCount() {
+    ByteBuffer header = ByteBuffer.allocate(16);
+    header.putInt(START_SEQUENCE).putInt(START_SEQUENCE).putInt(2).putInt(0);
+    header.flip();
+    try {
+      LedgerCloseMetaBatchReader.fromXdrByteBuffer(header);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+
+  /**
+   * Returns 1 to 3 bytes per read, like streams that decompress their input, which may return fewer
+   * bytes than requested at any time.
+   */
+  private static final class ShortReadInputStream extends FilterInputStream {
+    private int reads;
+
+    ShortReadInputStream(byte[] bytes) {
+      super(new ByteArrayInputStream(bytes));
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      return super.read(b, off, Math.min(len, 1 + reads++ % 3));
+    }
+  }
+}
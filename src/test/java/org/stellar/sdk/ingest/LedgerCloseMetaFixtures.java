@@ -0,0 +1,149 @@
+package org.stellar.sdk.ingest;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import org.stellar.sdk.xdr.DependentTxCluster;
+import org.stellar.sdk.xdr.ExtensionPoint;
+import org.stellar.sdk.xdr.GeneralizedTransactionSet;
+import org.stellar.sdk.xdr.Hash;
+import org.stellar.sdk.xdr.Int64;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.LedgerCloseMetaV1;
+import org.stellar.sdk.xdr.LedgerCloseMetaV2;
+import org.stellar.sdk.xdr.LedgerEntryChange;
+import org.stellar.sdk.xdr.LedgerEntryChanges;
+import org.stellar.sdk.xdr.LedgerEntryType;
+import org.stellar.sdk.xdr.LedgerKey;
+import org.stellar.sdk.xdr.ParallelTxExecutionStage;
+import org.stellar.sdk.xdr.ParallelTxsComponent;
+import org.stellar.sdk.xdr.TransactionEnvelope;
+import org.stellar.sdk.xdr.TransactionMeta;
+import org.stellar.sdk.xdr.TransactionPhase;
+import org.stellar.sdk.xdr.TransactionResult;
+import org.stellar.sdk.xdr.TransactionResultMetaV1;
+import org.stellar.sdk.xdr.TransactionResultPair;
+import org.stellar.sdk.xdr.TransactionSetV1;
+import org.stellar.sdk.xdr.TxSetComponent;
+import org.stellar.sdk.xdr.TxSetComponentType;
+import org.stellar.sdk.xdr.Uint32;
+import org.stellar.sdk.xdr.XdrUnsignedInteger;
+
+/** Builds ledger close meta for tests from the Stellar RPC responses in the test resources. */
+public class LedgerCloseMetaFixtures {
+  private static JsonObject readResult(String path) throws IOException {
+    String json = new String(Files.readAllBytes(Paths.get(path)));
+    return JsonParser.parseString(json).getAsJsonObject().getAsJsonObject("result");
+  }
+
+  /** Returns the version 1 ledger close meta of the first ledger in get_ledgers.json. */
+  public static LedgerCloseMeta v1Ledger() throws IOException {
+    JsonObject ledger =
+        readResult("src/test/resources/soroban_server/get_ledgers.json")
+            .getAsJsonArray("ledgers")
+            .get(0)
+            .getAsJsonObject();
+    return LedgerCloseMeta.fromXdrBase64(ledger.get("metadataXdr").getAsString());
+  }
+
+  /**
+   * Returns a version 2 ledger close meta with the header of {@link #v1Ledger()} and the
+   * transactions of get_transactions.json, whose sequence number is {@code ledgerSeq}.
+   */
+  public static LedgerCloseMeta v2Ledger(int ledgerSeq) throws IOException {
+    LedgerCloseMetaV1 v1 = v1Ledger().getV1();
+    JsonArray transactions =
+        readResult("src/test/resources/soroban_server/get_transactions.json")
+            .getAsJsonArray("transactions");
+
+    int txCount = transactions.size();
+    TransactionEnvelope[] envelopes = new TransactionEnvelope[txCount];
+    TransactionResultMetaV1[] txProcessing = new TransactionResultMetaV1[txCount];
+    for (int i = 0; i < txCount; i++) {
+      JsonObject tx = transactions.get(i).getAsJsonObject();
+      envelopes[i] = TransactionEnvelope.fromXdrBase64(tx.get("envelopeXdr").getAsString());
+      TransactionResultPair result =
+          TransactionResultPair.builder()
+              .transactionHash(new Hash(new byte[32]))
+              .result(TransactionResult.fromXdrBase64(tx.get("resultXdr").getAsString()))
+              .build();
+      txProcessing[i] =
+          TransactionResultMetaV1.builder()
+              .ext(ExtensionPoint.builder().discriminant(0).build())
+              .result(result)
+              .feeProcessing(new LedgerEntryChanges(new LedgerEntryChange[0]))
+              .txApplyProcessing(
+                  TransactionMeta.fromXdrBase64(tx.get("resultMetaXdr").getAsString()))
+              .postTxApplyFeeProcessing(new LedgerEntryChanges(new LedgerEntryChange[0]))
+              .build();
+    }
+
+    // Put the first envelope into a classic phase and the rest into a parallel Soroban phase.
+    TransactionEnvelope[] parallelEnvelopes = new TransactionEnvelope[txCount - 1];
+    System.arraycopy(envelopes, 1, parallelEnvelopes, 0, txCount - 1);
+    TransactionPhase classicPhase =
+        TransactionPhase.builder()
+            .discriminant(0)
+            .v0Components(
+                new TxSetComponent[] {
+                  TxSetComponent.builder()
+                      .discriminant(TxSetComponentType.TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE)
+                      .txsMaybeDiscountedFee(
+                          TxSetComponent.TxSetComponentTxsMaybeDiscountedFee.builder()
+                              .baseFee(new Int64(100L))
+                              .txs(new TransactionEnvelope[] {envelopes[0]})
+                              .build())
+                      .build()
+                })
+            .build();
+    TransactionPhase sorobanPhase =
+        TransactionPhase.builder()
+            .discriminant(1)
+            .parallelTxsComponent(
+                ParallelTxsComponent.builder()
+                    .executionStages(
+                        new ParallelTxExecutionStage[] {
+                          new ParallelTxExecutionStage(
+                              new DependentTxCluster[] {new DependentTxCluster(parallelEnvelopes)})
+                        })
+                    .build())
+            .build();
+    GeneralizedTransactionSet txSet =
+        GeneralizedTransactionSet.builder()
+            .discriminant(1)
+            .v1TxSet(
+                TransactionSetV1.builder()
+                    .previousLedgerHash(new Hash(new byte[32]))
+                    .phases(new TransactionPhase[] {classicPhase, sorobanPhase})
+                    .build())
+            .build();
+
+    LedgerKey evictedKey =
+        LedgerKey.builder()
+            .discriminant(LedgerEntryType.CONTRACT_CODE)
+            .contractCode(
+                LedgerKey.LedgerKeyContractCode.builder().hash(new Hash(new byte[32])).build())
+            .build();
+
+    v1.getLedgerHeader()
+        .getHeader()
+        .setLedgerSeq(new Uint32(new XdrUnsignedInteger((long) ledgerSeq)));
+    return LedgerCloseMeta.builder()
+        .discriminant(2)
+        .v2(
+            LedgerCloseMetaV2.builder()
+                .ext(v1.getExt())
+                .ledgerHeader(v1.getLedgerHeader())
+                .txSet(txSet)
+                .txProcessing(txProcessing)
+                .upgradesProcessing(v1.getUpgradesProcessing())
+                .scpInfo(v1.getScpInfo())
+                .totalByteSizeOfLiveSorobanState(v1.getTotalByteSizeOfLiveSorobanState())
+                .evictedKeys(new LedgerKey[] {evictedKey})
+                .build())
+        .build();
+  }
+}
@@ -0,0 +1,167 @@
+package org.stellar.sdk.ingest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import org.stellar.sdk.xdr.DependentTxCluster;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.LedgerCloseMetaV0;
+import org.stellar.sdk.xdr.LedgerCloseMetaV2;
+import org.stellar.sdk.xdr.TransactionEnvelope;
+import org.stellar.sdk.xdr.TransactionResultMetaV1;
+import org.stellar.sdk.xdr.TransactionSet;
+import org.stellar.sdk.xdr.XdrElement;
+
+public class LedgerCloseMetaViewTest {
+  private static byte[] bytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  private static void assertXdrEquals(XdrElement expected, ByteBuffer actual) throws IOException {
+    assertArrayEquals(expected.toXdrByteArray(), bytes(actual));
+  }
+
+  @Test
+  public void testV2Ledger() throws IOException {
+    LedgerCloseMeta meta = LedgerCloseMetaFixtures.v2Ledger(100);
+    LedgerCloseMetaV2 v2 = meta.getV2();
+    LedgerCloseMetaView view = LedgerCloseMetaView.fromXdrByteArray(meta.toXdrByteArray());
+
+    assertEquals(2, view.getVersion());
+    assertEquals(v2.getExt(), view.getExt());
+    assertEquals(v2.getLedgerHeader(), view.getLedgerHeader());
+    assertXdrEquals(v2.getLedgerHeader(), view.getLedgerHeaderXdr());
+    assertNull(view.getTxSet());
+    assertEquals(v2.getTxSet(), view.getGeneralizedTxSet());
+    assertXdrEquals(v2.getTxSet(), view.getTxSetXdr());
+
+    assertEquals(5, view.getTransactionEnvelopeCount());
+    assertEquals(
+        v2.getTxSet()
+            .getV1TxSet()
+            .getPhases()[0]
+            .getV0Components()[0]
+            .getTxsMaybeDiscountedFee()
+            .getTxs()[0],
+        view.getTransactionEnvelope(0));
+    DependentTxCluster cluster =
+        v2.getTxSet()
+            .getV1TxSet()
+            .getPhases()[1]
+            .getParallelTxsComponent()
+            .getExecutionStages()[0]
+            .getParallelTxExecutionStage()[0];
+    for (int i = 1; i < 5; i++) {
+      assertEquals(cluster.getDependentTxCluster()[i - 1], view.getTransactionEnvelope(i));
+      assertXdrEquals(cluster.getDependentTxCluster()[i - 1], view.getTransactionEnvelopeXdr(i));
+    }
+
+    assertEquals(5, view.getTransactionCount());
+    for (int i = 0; i < 5; i++) {
+      TransactionResultMetaV1 txProcessing = v2.getTxProcessing()[i];
+      assertXdrEquals(txProcessing, view.getTxProcessingXdr(i));
+      assertEquals(txProcessing.getResult(), view.getTransactionResult(i));
+      assertXdrEquals(txProcessing.getResult(), view.getTransactionResultXdr(i));
+      assertEquals(txProcessing.getFeeProcessing(), view.getFeeProcessing(i));
+      assertXdrEquals(txProcessing.getFeeProcessing(), view.getFeeProcessingXdr(i));
+      assertEquals(txProcessing.getTxApplyProcessing(), view.getTransactionMeta(i));
+      assertXdrEquals(txProcessing.getTxApplyProcessing(), view.getTransactionMetaXdr(i));
+      assertEquals(txProcessing.getPostTxApplyFeeProcessing(), view.getPostTxApplyFeeProcessing(i));
+    }
+
+    assertArrayEquals(v2.getUpgradesProcessing(), view.getUpgradesProcessing());
+    assertArrayEquals(v2.getScpInfo(), view.getScpInfo());
+    assertEquals(
+        v2.getTotalByteSizeOfLiveSorobanState(), view.getTotalByteSizeOfLiveSorobanState());
+    assertEquals(1, view.getEvictedKeyCount());
+    assertEquals(v2.getEvictedKeys()[0], view.getEvictedKey(0));
+    assertXdrEquals(v2.getEvictedKeys()[0], view.getEvictedKeyXdr(0));
+
+    assertEquals(meta, view.toLedgerCloseMeta());
+  }
+
+  @Test
+  public void testV1Ledger() throws IOException {
+    LedgerCloseMeta meta = LedgerCloseMetaFixtures.v1Ledger();
+    LedgerCloseMetaView view = LedgerCloseMetaView.fromXdrBase64(meta.toXdrBase64());
+
+    assertEquals(1, view.getVersion());
+    assertEquals(meta.getV1().getLedgerHeader(), view.getLedgerHeader());
+    assertEquals(meta.getV1().getTxProcessing().length, view.getTransactionCount());
+    assertNull(view.getPostTxApplyFeeProcessingXdr(0));
+    assertEquals(meta, view.toLedgerCloseMeta());
+  }
+
+  @Test
+  public void testToLedgerCloseMetaInParallel() throws IOException {
+    LedgerCloseMeta v1 = LedgerCloseMetaFixtures.v1Ledger();
+    LedgerCloseMeta v0 =
+        LedgerCloseMeta.builder()
+            .discriminant(0)
+            .v0(
+                LedgerCloseMetaV0.builder()
+                    .ledgerHeader(v1.getV1().getLedgerHeader())
+                    .txSet(
+                        new TransactionSet(
+                            v1.getV1().getTxSet().getV1TxSet().getPreviousLedgerHash(),
+                            new TransactionEnvelope[0]))
+                    .txProcessing(v1.getV1().getTxProcessing())
+                    .upgradesProcessing(v1.getV1().getUpgradesProcessing())
+                    .scpInfo(v1.getV1().getScpInfo())
+                    .build())
+            .build();
+
+    // Enough transactions to be split into several tasks.
+    LedgerCloseMeta large = LedgerCloseMetaFixtures.v2Ledger(100);
+    TransactionResultMetaV1[] txProcessing = large.getV2().getTxProcessing();
+    TransactionResultMetaV1[] repeated = new TransactionResultMetaV1[txProcessing.length * 200];
+    for (int i = 0; i < repeated.length; i++) {
+      repeated[i] = txProcessing[i % txProcessing.length];
+    }
+    large.getV2().setTxProcessing(repeated);
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (LedgerCloseMeta meta :
+          new LedgerCloseMeta[] {v0, v1, LedgerCloseMetaFixtures.v2Ledger(100), large}) {
+        LedgerCloseMetaView view = LedgerCloseMetaView.fromXdrByteArray(meta.toXdrByteArray());
+        assertEquals(meta, view.toLedgerCloseMeta(pool));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testViewOverBufferWithTrailingBytes() throws IOException {
+    byte[] encoded = LedgerCloseMetaFixtures.v2Ledger(100).toXdrByteArray();
+    ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 12);
+    buffer.position(4);
+    buffer.put(encoded);
+    buffer.position(4);
+
+    LedgerCloseMetaView view = LedgerCloseMetaView.fromXdrByteBuffer(buffer);
+
+    assertEquals(4, buffer.position());
+    assertArrayEquals(encoded, bytes(view.getXdr()));
+  }
+
+  @Test
+  public void testTruncatedLedger() throws IOException {
+    byte[] encoded = LedgerCloseMetaFixtures.v2Ledger(100).toXdrByteArray();
+    try {
+      LedgerCloseMetaView.fromXdrByteArray(Arrays.copyOf(encoded, encoded.length - 4));
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+}
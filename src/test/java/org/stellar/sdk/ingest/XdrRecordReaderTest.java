@@ -0,0 +1,201 @@
+package org.stellar.sdk.ingest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.xdr.Int32;
+import org.stellar.sdk.xdr.TransactionHistoryResultEntry;
+import org.stellar.sdk.xdr.TransactionResultMetaV1;
+import org.stellar.sdk.xdr.TransactionResultPair;
+import org.stellar.sdk.xdr.TransactionResultSet;
+import org.stellar.sdk.xdr.Uint32;
+import org.stellar.sdk.xdr.XdrUnsignedInteger;
+
+public class XdrRecordReaderTest {
+  private static final int START_SEQUENCE = 100;
+  private static final int RECORD_COUNT = 20;
+
+  private TransactionHistoryResultEntry[] entries;
+  private byte[] encoded;
+
+  @Before
+  public void setUp() throws IOException {
+    entries = new TransactionHistoryResultEntry[RECORD_COUNT];
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      TransactionResultMetaV1[] txProcessing =
+          LedgerCloseMetaFixtures.v2Ledger(START_SEQUENCE + i).getV2().getTxProcessing();
+      // Vary the number of results, so that records have different sizes.
+      TransactionResultPair[] results = new TransactionResultPair[i % 3];
+      for (int j = 0; j < results.length; j++) {
+        results[j] = txProcessing[j % txProcessing.length].getResult();
+      }
+      entries[i] =
+          TransactionHistoryResultEntry.builder()
+              .ledgerSeq(new Uint32(new XdrUnsignedInteger(START_SEQUENCE + i)))
+              .txResultSet(new TransactionResultSet(results))
+              .ext(
+                  TransactionHistoryResultEntry.TransactionHistoryResultEntryExt.builder()
+                      .discriminant(0)
+                      .build())
+              .build();
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (XdrRecordWriter writer = XdrRecordWriter.fromOutputStream(out)) {
+      for (TransactionHistoryResultEntry entry : entries) {
+        writer.write(entry);
+      }
+    }
+    encoded = out.toByteArray();
+  }
+
+  private XdrRecordReader<TransactionHistoryResultEntry> reader(byte[] xdr) {
+    return XdrRecordReader.fromInputStream(
+        new ByteArrayInputStream(xdr), TransactionHistoryResultEntry::decode);
+  }
+
+  private static byte[] marker(boolean last, int length) {
+    return ByteBuffer.allocate(4).putInt(last ? 0x80000000 | length : length).array();
+  }
+
+  @Test
+  public void testReadAll() throws IOException {
+    XdrRecordReader<TransactionHistoryResultEntry> reader = reader(encoded);
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      assertTrue(reader.hasNext());
+      assertEquals(entries[i], reader.next());
+    }
+    assertFalse(reader.hasNext());
+    try {
+      reader.next();
+      fail("Didn't throw NoSuchElementException");
+    } catch (NoSuchElementException expectedException) {
+    }
+  }
+
+  @Test
+  public void testRecordFormat() throws IOException {
+    byte[] xdr = entries[0].toXdrByteArray();
+    assertArrayEquals(marker(true, xdr.length), Arrays.copyOf(encoded, 4));
+    assertArrayEquals(xdr, Arrays.copyOfRange(encoded, 4, 4 + xdr.length));
+
+    XdrRecordReader<TransactionHistoryResultEntry> reader = reader(encoded);
+    reader.skip();
+    assertArrayEquals(entries[1].toXdrByteArray(), reader.nextXdr());
+    assertEquals(entries[2], reader.next());
+  }
+
+  @Test
+  public void testMultipleFragments() throws IOException {
+    byte[] xdr = entries[2].toXdrByteArray();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(marker(false, 5));
+    out.write(xdr, 0, 5);
+    out.write(marker(false, 0));
+    out.write(marker(true, xdr.length - 5));
+    out.write(xdr, 5, xdr.length - 5);
+    XdrRecordReader<TransactionHistoryResultEntry> reader = reader(out.toByteArray());
+    assertEquals(entries[2], reader.next());
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  public void testGzipFile() throws IOException {
+    Path path = Files.createTempFile("results", ".xdr.gz");
+    try {
+      try (XdrRecordWriter writer = XdrRecordWriter.open(path)) {
+        for (TransactionHistoryResultEntry entry : entries) {
+          writer.write(entry);
+        }
+      }
+      byte[] compressed = Files.readAllBytes(path);
+      assertEquals(0x1f, compressed[0]);
+      assertEquals((byte) 0x8b, compressed[1]);
+
+      try (XdrRecordReader<TransactionHistoryResultEntry> reader =
+          XdrRecordReader.open(path, TransactionHistoryResultEntry::decode)) {
+        for (int i = 0; i < RECORD_COUNT; i++) {
+          assertEquals(entries[i], reader.next());
+        }
+        assertFalse(reader.hasNext());
+      }
+
+      // Plain files are read as they are.
+      Files.write(path, encoded);
+      try (XdrRecordReader<TransactionHistoryResultEntry> reader =
+          XdrRecordReader.open(path, TransactionHistoryResultEntry::decode)) {
+        assertEquals(entries[0], reader.next());
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testParallelIterator() throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      XdrRecordReader<TransactionHistoryResultEntry> reader = reader(encoded);
+      assertEquals(entries[0], reader.next());
+      Iterator<TransactionHistoryResultEntry> iterator = reader.parallelIterator(executor, 3);
+      for (int i = 1; i < RECORD_COUNT; i++) {
+        assertTrue(iterator.hasNext());
+        assertEquals(entries[i], iterator.next());
+      }
+      assertFalse(iterator.hasNext());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testInvalidRecords() throws IOException {
+    XdrRecordReader<TransactionHistoryResultEntry> reader =
+        reader(Arrays.copyOf(encoded, encoded.length - 1));
+    for (int i = 0; i < RECORD_COUNT - 1; i++) {
+      reader.next();
+    }
+    try {
+      reader.next();
+      fail("Didn't throw EOFException");
+    } catch (EOFException expectedException) {
+    }
+
+    reader = reader(encoded);
+    reader.setMaxRecordSize(entries[1].encodedSize() - 1);
+    reader.next();
+    try {
+      reader.next();
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+
+    // A record holding more than one value.
+    byte[] xdr = entries[0].toXdrByteArray();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(marker(true, xdr.length + 4));
+    out.write(xdr);
+    out.write(new Int32(0).toXdrByteArray());
+    try {
+      reader(out.toByteArray()).next();
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+}
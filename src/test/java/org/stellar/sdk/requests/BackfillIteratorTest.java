@@ -0,0 +1,120 @@
+package org.stellar.sdk.requests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.TOID;
+import org.stellar.sdk.responses.TransactionResponse;
+
+public class BackfillIteratorTest {
+  private static final int LEDGER_COUNT = 20;
+  private static final int TRANSACTIONS_PER_LEDGER = 3;
+
+  private MockWebServer mockWebServer;
+  private final List<Long> transactions = new ArrayList<>();
+  private final List<String> cursors = new ArrayList<>();
+
+  @Before
+  public void setUp() throws IOException {
+    for (int ledger = 1; ledger <= LEDGER_COUNT; ledger++) {
+      for (int order = 1; order <= TRANSACTIONS_PER_LEDGER; order++) {
+        transactions.add(new TOID(ledger, order, 0).toInt64());
+      }
+    }
+    mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            HttpUrl url = request.getRequestUrl();
+            long cursor = Long.parseLong(url.queryParameter("cursor"));
+            int limit = Integer.parseInt(url.queryParameter("limit"));
+            synchronized (cursors) {
+              cursors.add(url.queryParameter("cursor"));
+            }
+            List<String> records = new ArrayList<>();
+            long last = cursor;
+            for (long toid : transactions) {
+              if (toid > cursor && records.size() < limit) {
+                records.add("{\"paging_token\": \"" + toid + "\"}");
+                last = toid;
+              }
+            }
+            HttpUrl next =
+                url.newBuilder().setQueryParameter("cursor", String.valueOf(last)).build();
+            return new MockResponse()
+                .setResponseCode(200)
+                .setBody(
+                    "{\"_links\": {\"next\": {\"href\": \""
+                        + next
+                        + "\"}}, \"_embedded\": {\"records\": ["
+                        + String.join(",", records)
+                        + "]}}");
+          }
+        });
+    mockWebServer.start();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    mockWebServer.shutdown();
+  }
+
+  private TransactionsRequestBuilder transactions() {
+    return new TransactionsRequestBuilder(new OkHttpClient(), mockWebServer.url("/"));
+  }
+
+  private List<Long> expected(int fromLedger, int toLedger) {
+    TOID.TOIDRange range = TOID.ledgerRangeInclusive(fromLedger, toLedger);
+    return transactions.stream()
+        .filter(toid -> toid >= range.getStart() && toid < range.getEnd())
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  public void testBackfill() {
+    BackfillOptions options =
+        BackfillOptions.builder().ledgersPerWindow(3).parallelism(2).limit(2).build();
+    List<Long> toids = new ArrayList<>();
+    try (BackfillIterator<TransactionResponse> iterator = transactions().backfill(2, 15, options)) {
+      while (iterator.hasNext()) {
+        toids.add(Long.parseLong(iterator.next().getPagingToken()));
+      }
+    }
+    assertEquals(expected(2, 15), toids);
+
+    // Windows start at ledgers 2, 5, 8, 11 and 14, and stop at the ledger after them.
+    for (int ledger = 2; ledger <= 14; ledger += 3) {
+      assertTrue(cursors.contains(String.valueOf(new TOID(ledger, 0, 0).toInt64())));
+    }
+    for (String cursor : cursors) {
+      assertTrue(TOID.fromInt64(Long.parseLong(cursor)).getLedgerSequence() <= 16);
+    }
+  }
+
+  @Test
+  public void testStreamFromFirstLedger() {
+    BackfillOptions options = BackfillOptions.builder().ledgersPerWindow(7).build();
+    try (BackfillIterator<TransactionResponse> iterator =
+        transactions().backfill(1, LEDGER_COUNT, options)) {
+      List<Long> toids =
+          iterator.stream()
+              .map(transaction -> Long.parseLong(transaction.getPagingToken()))
+              .collect(Collectors.toList());
+      assertEquals(transactions, toids);
+    }
+  }
+}
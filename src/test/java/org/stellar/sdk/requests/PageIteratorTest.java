@@ -0,0 +1,143 @@
+package org.stellar.sdk.requests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.exception.BadResponseException;
+import org.stellar.sdk.responses.LedgerResponse;
+
+public class PageIteratorTest {
+  private static final int LEDGER_COUNT = 25;
+
+  private MockWebServer mockWebServer;
+  private final List<String> limits = new ArrayList<>();
+
+  @Before
+  public void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    mockWebServer.shutdown();
+  }
+
+  // Serves ledgers 1 to LEDGER_COUNT in pages, and fails once the cursor reaches failAt.
+  private void serveLedgers(final int failAt) {
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            HttpUrl url = request.getRequestUrl();
+            String cursor = url.queryParameter("cursor");
+            int from = cursor == null ? 1 : Integer.parseInt(cursor) + 1;
+            int limit = Integer.parseInt(url.queryParameter("limit"));
+            synchronized (limits) {
+              limits.add(url.queryParameter("limit"));
+            }
+            if (from >= failAt) {
+              return new MockResponse().setResponseCode(500).setBody("{}");
+            }
+            int to = Math.min(LEDGER_COUNT, from + limit - 1);
+            StringBuilder records = new StringBuilder();
+            for (int i = from; i <= to; i++) {
+              records.append(i == from ? "" : ",").append("{\"sequence\": ").append(i).append("}");
+            }
+            HttpUrl next = url.newBuilder().setQueryParameter("cursor", String.valueOf(to)).build();
+            return new MockResponse()
+                .setResponseCode(200)
+                .setBody(
+                    "{\"_links\": {\"next\": {\"href\": \""
+                        + next
+                        + "\"}}, \"_embedded\": {\"records\": ["
+                        + records
+                        + "]}}");
+          }
+        });
+  }
+
+  private LedgersRequestBuilder ledgers() {
+    return new LedgersRequestBuilder(new OkHttpClient(), mockWebServer.url("/"));
+  }
+
+  @Test
+  public void testIterator() {
+    serveLedgers(Integer.MAX_VALUE);
+    try (PageIterator<LedgerResponse> iterator = ledgers().limit(10).iterator()) {
+      for (long i = 1; i <= LEDGER_COUNT; i++) {
+        assertTrue(iterator.hasNext());
+        assertEquals(Long.valueOf(i), iterator.next().getSequence());
+      }
+      assertFalse(iterator.hasNext());
+    }
+    // Three pages of records and the empty page after them.
+    assertEquals(4, limits.size());
+  }
+
+  @Test
+  public void testStream() {
+    serveLedgers(Integer.MAX_VALUE);
+    PageFetchOptions options = PageFetchOptions.builder().prefetchPages(1).build();
+    try (Stream<LedgerResponse> ledgers = ledgers().limit(7).iterator(options).stream()) {
+      List<Long> sequences =
+          ledgers
+              .map(LedgerResponse::getSequence)
+              .filter(sequence -> sequence % 5 == 0)
+              .collect(Collectors.toList());
+      assertEquals(5, sequences.size());
+      assertEquals(Long.valueOf(25), sequences.get(4));
+    }
+  }
+
+  @Test
+  public void testAdaptiveLimit() {
+    serveLedgers(Integer.MAX_VALUE);
+    // Local pages are always faster than the target, so the limit doubles up to maxLimit.
+    PageFetchOptions options =
+        PageFetchOptions.builder().targetPageLatencyMillis(60_000).minLimit(2).maxLimit(8).build();
+    try (PageIterator<LedgerResponse> iterator = ledgers().limit(2).iterator(options)) {
+      int count = 0;
+      while (iterator.hasNext()) {
+        iterator.next();
+        count++;
+      }
+      assertEquals(LEDGER_COUNT, count);
+    }
+    assertEquals("2", limits.get(0));
+    assertEquals("4", limits.get(1));
+    assertEquals("8", limits.get(2));
+    assertEquals("8", limits.get(3));
+  }
+
+  @Test
+  public void testFailure() {
+    serveLedgers(11);
+    try (PageIterator<LedgerResponse> iterator = ledgers().limit(5).iterator()) {
+      // The records received before the failure are returned first.
+      for (long i = 1; i <= 10; i++) {
+        assertEquals(Long.valueOf(i), iterator.next().getSequence());
+      }
+      iterator.hasNext();
+      fail("Didn't throw BadResponseException");
+    } catch (BadResponseException e) {
+      assertEquals(500, e.getCode().intValue());
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package org.stellar.sdk.requests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class RequestCoalescerTest {
+  private static final int THREADS = 8;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  // Starts THREADS identical requests, and completes the call once they have all been started.
+  private List<Future<Object>> executeConcurrently(
+      RequestCoalescer coalescer, AtomicInteger calls, RuntimeException failure) {
+    CountDownLatch started = new CountDownLatch(THREADS);
+    List<Future<Object>> results = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      results.add(
+          executor.submit(
+              () -> {
+                started.countDown();
+                return coalescer.execute(
+                    "key",
+                    () -> {
+                      calls.incrementAndGet();
+                      await(started);
+                      // Leaves time for the last threads to join the call.
+                      sleep(200);
+                      if (failure != null) {
+                        throw failure;
+                      }
+                      return new Object();
+                    });
+              }));
+    }
+    return results;
+  }
+
+  @Test
+  public void testExecuteSharesResult() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    AtomicInteger calls = new AtomicInteger();
+    List<Future<Object>> results = executeConcurrently(coalescer, calls, null);
+
+    Object first = results.get(0).get(10, TimeUnit.SECONDS);
+    for (Future<Object> result : results) {
+      assertSame(first, result.get(10, TimeUnit.SECONDS));
+    }
+    assertEquals(1, calls.get());
+
+    // The call has completed, so the next request makes a new one.
+    assertNotSame(first, coalescer.execute("key", Object::new));
+  }
+
+  @Test
+  public void testExecuteSharesException() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    AtomicInteger calls = new AtomicInteger();
+    IllegalStateException failure = new IllegalStateException("failed");
+    List<Future<Object>> results = executeConcurrently(coalescer, calls, failure);
+
+    for (Future<Object> result : results) {
+      try {
+        result.get(10, TimeUnit.SECONDS);
+        fail();
+      } catch (ExecutionException e) {
+        assertSame(failure, e.getCause());
+      }
+    }
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void testExecuteDifferentKeys() {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    assertEquals("a", coalescer.execute("a", () -> coalescer.execute("b", () -> "a")));
+  }
+
+  @Test
+  public void testEnqueueSharesCall() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    CompletableFuture<Object> call = new CompletableFuture<>();
+    AtomicInteger calls = new AtomicInteger();
+
+    AtomicInteger joinerExecutions = new AtomicInteger();
+    Executor joinerExecutor =
+        command -> {
+          joinerExecutions.incrementAndGet();
+          command.run();
+        };
+
+    CompletableFuture<Object> first =
+        coalescer.enqueue(
+            "key",
+            () -> {
+              calls.incrementAndGet();
+              return call;
+            },
+            Runnable::run);
+    CompletableFuture<Object> second =
+        coalescer.enqueue("key", CompletableFuture::new, Runnable::run);
+    CompletableFuture<Object> third =
+        coalescer.enqueue("key", CompletableFuture::new, joinerExecutor);
+
+    // Cancelling the future of a caller does not cancel the call for the others.
+    second.cancel(true);
+    assertFalse(call.isCancelled());
+
+    Object result = new Object();
+    call.complete(result);
+    assertSame(result, first.get(10, TimeUnit.SECONDS));
+    assertSame(result, third.get(10, TimeUnit.SECONDS));
+    assertEquals(1, calls.get());
+    // A caller joining the call is completed on its own executor.
+    assertEquals(1, joinerExecutions.get());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package org.stellar.sdk.requests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.responses.LedgerResponse;
+import org.stellar.sdk.responses.Page;
+
+public class ResponseCacheTest {
+  private static final String HASH =
+      "5bd5c7d4c8a9f9df53b3c4ba2ae76a7fc6b6b7c0b1f6d73db9b1fb4b6e64d2a0";
+  private static final String LEDGER = "{\"sequence\": 5, \"hash\": \"" + HASH + "\"}";
+  private static final String LEDGERS =
+      "{\"_links\": {}, \"_embedded\": {\"records\": [" + LEDGER + "]}}";
+
+  private MockWebServer mockWebServer;
+
+  @Before
+  public void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    mockWebServer.shutdown();
+  }
+
+  private LedgersRequestBuilder ledgers(ResponseCache cache) {
+    LedgersRequestBuilder builder =
+        new LedgersRequestBuilder(new OkHttpClient(), mockWebServer.url("/"));
+    builder.setResponseCache(cache);
+    return builder;
+  }
+
+  @Test
+  public void testIsImmutable() {
+    HttpUrl base = HttpUrl.get("https://horizon.stellar.org/");
+    assertTrue(ResponseCache.isImmutable(base.resolve("ledgers/5")));
+    assertTrue(ResponseCache.isImmutable(base.resolve("transactions/" + HASH)));
+    assertTrue(ResponseCache.isImmutable(base.resolve("operations/123")));
+    // Empty until the ledger closes.
+    assertFalse(ResponseCache.isImmutable(base.resolve("ledgers/5/transactions?limit=10")));
+    assertFalse(ResponseCache.isImmutable(base.resolve("ledgers/5/operations")));
+    assertFalse(ResponseCache.isImmutable(base.resolve("ledgers/5/payments")));
+    assertFalse(ResponseCache.isImmutable(base.resolve("ledgers/5/effects")));
+    assertFalse(ResponseCache.isImmutable(base.resolve("transactions/" + HASH + "/effects")));
+    assertFalse(ResponseCache.isImmutable(base.resolve("operations/123/effects")));
+    assertFalse(ResponseCache.isImmutable(base.resolve("ledgers")));
+    assertFalse(ResponseCache.isImmutable(base.resolve("accounts/GABC")));
+    assertFalse(ResponseCache.isImmutable(base.resolve("transactions/abc")));
+    assertFalse(ResponseCache.isImmutable(base.resolve("ledgers/5/offers")));
+  }
+
+  @Test
+  public void testImmutableResponseIsFetchedOnce() {
+    ResponseCache cache = new LruResponseCache(1 << 20);
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(LEDGER));
+
+    LedgerResponse first = ledgers(cache).ledger(5);
+    LedgerResponse second = ledgers(cache).ledger(5);
+    assertEquals(Long.valueOf(5), first.getSequence());
+    assertSame(first, second);
+    assertEquals(1, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  public void testCacheIsNotShared() {
+    for (int i = 0; i < 3; i++) {
+      mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(LEDGER));
+    }
+
+    ledgers(new LruResponseCache(1 << 20)).ledger(5);
+    ledgers(new LruResponseCache(1 << 20)).ledger(5);
+    ledgers(null).ledger(5);
+    assertEquals(3, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  public void testEtagRevalidation() throws InterruptedException {
+    ResponseCache cache = new LruResponseCache(1 << 20);
+    mockWebServer.enqueue(
+        new MockResponse().setResponseCode(200).setHeader("ETag", "\"v1\"").setBody(LEDGERS));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+
+    Page<LedgerResponse> first = ledgers(cache).execute();
+    Page<LedgerResponse> second = ledgers(cache).execute();
+    assertSame(first, second);
+    assertEquals(HASH, second.getRecords().get(0).getHash());
+
+    assertNull(mockWebServer.takeRequest().getHeader("If-None-Match"));
+    RecordedRequest revalidation = mockWebServer.takeRequest();
+    assertEquals("\"v1\"", revalidation.getHeader("If-None-Match"));
+  }
+
+  @Test
+  public void testParsedPerType() {
+    CachedResponse cached = new CachedResponse(LEDGER, null);
+    TypeToken<LedgerResponse> ledgerType = new TypeToken<LedgerResponse>() {};
+    TypeToken<JsonObject> jsonType = new TypeToken<JsonObject>() {};
+
+    LedgerResponse ledger = cached.parse(ledgerType);
+    JsonObject json = cached.parse(jsonType);
+    assertEquals(HASH, ledger.getHash());
+    assertEquals(HASH, json.get("hash").getAsString());
+    assertSame(ledger, cached.parse(ledgerType));
+    assertSame(json, cached.parse(jsonType));
+  }
+
+  @Test
+  public void testSpillToDisk() throws IOException {
+    Path directory = Files.createTempDirectory("responses");
+    HttpUrl first = HttpUrl.get("https://horizon.stellar.org/ledgers/1");
+    HttpUrl second = HttpUrl.get("https://horizon.stellar.org/ledgers/2");
+
+    LruResponseCache cache = new LruResponseCache(2L * LEDGER.length(), directory, 1 << 20);
+    cache.put(first, new CachedResponse(LEDGER, "\"v1\""));
+    cache.put(second, new CachedResponse(LEDGER, null));
+
+    // The first response was spilled, and is found again by a new cache over the same directory.
+    LruResponseCache reopened = new LruResponseCache(1 << 20, directory, 1 << 20);
+    CachedResponse spilled = reopened.get(first);
+    assertEquals(LEDGER, spilled.getBody());
+    assertEquals("\"v1\"", spilled.getEtag());
+    assertNull(reopened.get(second));
+    assertEquals(LEDGER, cache.get(second).getBody());
+  }
+
+  @Test
+  public void testDiskSizeOfDeletedFile() throws IOException {
+    Path directory = Files.createTempDirectory("responses");
+    HttpUrl[] urls = new HttpUrl[4];
+    for (int i = 0; i < urls.length; i++) {
+      urls[i] = HttpUrl.get("https://horizon.stellar.org/ledgers/" + i);
+    }
+    // Room for one response in memory and two on disk.
+    LruResponseCache cache =
+        new LruResponseCache(2L * LEDGER.length(), directory, 2L * (LEDGER.length() + 1));
+    cache.put(urls[0], new CachedResponse(LEDGER, null));
+    cache.put(urls[1], new CachedResponse(LEDGER, null));
+
+    // The spilled file disappears, which must release the disk space it was counted for.
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+      for (Path file : files) {
+        Files.delete(file);
+      }
+    }
+    assertNull(cache.get(urls[0]));
+
+    cache.put(urls[2], new CachedResponse(LEDGER, null));
+    cache.put(urls[3], new CachedResponse(LEDGER, null));
+    assertEquals(LEDGER, cache.get(urls[1]).getBody());
+    assertEquals(LEDGER, cache.get(urls[2]).getBody());
+  }
+}
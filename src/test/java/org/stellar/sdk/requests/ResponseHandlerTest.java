@@ -1,14 +1,22 @@
 package org.stellar.sdk.requests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
 import org.junit.Assert;
 import org.junit.Test;
 import org.stellar.sdk.exception.TooManyRequestsException;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.responses.AccountResponse;
+import org.stellar.sdk.responses.Page;
 
 public class ResponseHandlerTest {
 
@@ -61,4 +69,74 @@ public class ResponseHandlerTest {
       mockWebServer.close();
     }
   }
+
+  @Test
+  public void testParseStreamedBody() throws IOException {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.start();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(200)
+            .setBody(
+                "{\"_links\": {}, \"_embedded\": {\"records\": [{\"paging_token\": \"1\"}]}}"));
+
+    OkHttpClient okHttpClient = new OkHttpClient().newBuilder().build();
+    try {
+      Page<AccountResponse> page =
+          AccountsRequestBuilder.execute(okHttpClient, mockWebServer.url("/"));
+      assertEquals(1, page.getRecords().size());
+      assertEquals("1", page.getRecords().get(0).getPagingToken());
+    } finally {
+      mockWebServer.shutdown();
+      mockWebServer.close();
+    }
+  }
+
+  @Test
+  public void testDisconnectDuringStreamedBody() throws IOException {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.start();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(200)
+            .setBody("{\"_embedded\": {\"records\": [{\"paging_token\": \"1\"}]}}")
+            .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+
+    OkHttpClient okHttpClient = new OkHttpClient().newBuilder().build();
+    try {
+      AccountsRequestBuilder.execute(okHttpClient, mockWebServer.url("/"));
+      Assert.fail();
+    } catch (UnexpectedException e) {
+      assertTrue(e.getCause() instanceof IOException);
+    } finally {
+      mockWebServer.shutdown();
+      mockWebServer.close();
+    }
+  }
+
+  @Test
+  public void testTooManyRequestsFuture()
+      throws IOException, InterruptedException, TimeoutException {
+    MockResponse response = new MockResponse();
+    response.setResponseCode(429);
+    response.setHeader("Retry-After", "10");
+
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.start();
+    mockWebServer.enqueue(response);
+
+    OkHttpClient okHttpClient = new OkHttpClient().newBuilder().build();
+    try {
+      new AccountsRequestBuilder(okHttpClient, mockWebServer.url("/"))
+          .executeFuture(Runnable::run)
+          .get(10, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof TooManyRequestsException);
+      assertEquals(10, ((TooManyRequestsException) e.getCause()).getRetryAfter().intValue());
+    } finally {
+      mockWebServer.shutdown();
+      mockWebServer.close();
+    }
+  }
 }
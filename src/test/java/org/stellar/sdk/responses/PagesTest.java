@@ -29,6 +29,20 @@ public class PagesTest {
         page.getLinks().getPrev().getHref());
   }
 
+  @Test(expected = UnsupportedOperationException.class)
+  public void testInvalidEffectType() {
+    String json = "{\"_links\": {}, \"_embedded\": {\"records\": [{\"type_i\": 99}]}}";
+    TypeToken<Page<EffectResponse>> type = new TypeToken<Page<EffectResponse>>() {};
+    GsonSingleton.getInstance().fromJson(json, type.getType());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidOperationType() {
+    String json = "{\"_links\": {}, \"_embedded\": {\"records\": [{\"type_i\": 99}]}}";
+    TypeToken<Page<OperationResponse>> type = new TypeToken<Page<OperationResponse>>() {};
+    GsonSingleton.getInstance().fromJson(json, type.getType());
+  }
+
   @Test
   public void testAccounts() throws IOException {
     String filePath = "src/test/resources/responses/pages/accounts.json";
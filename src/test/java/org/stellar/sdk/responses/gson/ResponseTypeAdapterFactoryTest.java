@@ -0,0 +1,219 @@
+package org.stellar.sdk.responses.gson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.stellar.sdk.responses.LedgerResponse;
+import org.stellar.sdk.responses.Page;
+import org.stellar.sdk.responses.TransactionResponse;
+import org.stellar.sdk.responses.effects.*;
+import org.stellar.sdk.responses.operations.*;
+
+public class ResponseTypeAdapterFactoryTest {
+  // Reads the records by reflection only.
+  private static final Gson REFLECTIVE = new Gson();
+
+  @Test
+  public void testLedger() throws IOException {
+    assertSameAsReflective("src/test/resources/responses/ledger.json", LedgerResponse.class);
+  }
+
+  @Test
+  public void testTransactions() throws IOException {
+    for (String file :
+        new String[] {
+          "transaction.json",
+          "transaction_failed.json",
+          "transaction_fee_bump.json",
+          "transaction_muxed_id.json"
+        }) {
+      assertSameAsReflective("src/test/resources/responses/" + file, TransactionResponse.class);
+    }
+  }
+
+  @Test
+  public void testLedgerPage() throws IOException {
+    assertPageSameAsReflective(
+        "src/test/resources/responses/pages/ledgers.json",
+        new TypeToken<Page<LedgerResponse>>() {},
+        LedgerResponse.class);
+  }
+
+  @Test
+  public void testTransactionPage() throws IOException {
+    assertPageSameAsReflective(
+        "src/test/resources/responses/pages/transactions.json",
+        new TypeToken<Page<TransactionResponse>>() {},
+        TransactionResponse.class);
+  }
+
+  @Test
+  public void testUnknownFieldsAndNull() {
+    Gson gson = GsonSingleton.getInstance();
+    LedgerResponse ledger =
+        gson.fromJson(
+            "{\"unknown\": {\"nested\": [1, 2]}, \"sequence\": 7, \"hash\": null}",
+            LedgerResponse.class);
+    assertEquals(7L, ledger.getSequence().longValue());
+    assertNull(ledger.getHash());
+    assertNull(gson.fromJson("null", TransactionResponse.class));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void testOperationTypes() {
+    Map<Integer, Class<?>> classes = new LinkedHashMap<>();
+    classes.put(0, CreateAccountOperationResponse.class);
+    classes.put(1, PaymentOperationResponse.class);
+    classes.put(2, PathPaymentStrictReceiveOperationResponse.class);
+    classes.put(3, ManageSellOfferOperationResponse.class);
+    classes.put(4, CreatePassiveSellOfferOperationResponse.class);
+    classes.put(5, SetOptionsOperationResponse.class);
+    classes.put(6, ChangeTrustOperationResponse.class);
+    classes.put(7, AllowTrustOperationResponse.class);
+    classes.put(8, AccountMergeOperationResponse.class);
+    classes.put(9, InflationOperationResponse.class);
+    classes.put(10, ManageDataOperationResponse.class);
+    classes.put(11, BumpSequenceOperationResponse.class);
+    classes.put(12, ManageBuyOfferOperationResponse.class);
+    classes.put(13, PathPaymentStrictSendOperationResponse.class);
+    classes.put(14, CreateClaimableBalanceOperationResponse.class);
+    classes.put(15, ClaimClaimableBalanceOperationResponse.class);
+    classes.put(16, BeginSponsoringFutureReservesOperationResponse.class);
+    classes.put(17, EndSponsoringFutureReservesOperationResponse.class);
+    classes.put(18, RevokeSponsorshipOperationResponse.class);
+    classes.put(19, ClawbackOperationResponse.class);
+    classes.put(20, ClawbackClaimableBalanceOperationResponse.class);
+    classes.put(21, SetTrustLineFlagsOperationResponse.class);
+    classes.put(22, LiquidityPoolDepositOperationResponse.class);
+    classes.put(23, LiquidityPoolWithdrawOperationResponse.class);
+    classes.put(24, InvokeHostFunctionOperationResponse.class);
+    classes.put(25, ExtendFootprintTTLOperationResponse.class);
+    classes.put(26, RestoreFootprintOperationResponse.class);
+    for (Map.Entry<Integer, Class<?>> entry : classes.entrySet()) {
+      OperationResponse operation =
+          GsonSingleton.getInstance()
+              .fromJson("{\"type_i\": " + entry.getKey() + "}", OperationResponse.class);
+      assertEquals(entry.getValue(), operation.getClass());
+    }
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void testEffectTypes() {
+    Map<Integer, Class<?>> classes = new LinkedHashMap<>();
+    classes.put(0, AccountCreatedEffectResponse.class);
+    classes.put(1, AccountRemovedEffectResponse.class);
+    classes.put(2, AccountCreditedEffectResponse.class);
+    classes.put(3, AccountDebitedEffectResponse.class);
+    classes.put(4, AccountThresholdsUpdatedEffectResponse.class);
+    classes.put(5, AccountHomeDomainUpdatedEffectResponse.class);
+    classes.put(6, AccountFlagsUpdatedEffectResponse.class);
+    classes.put(7, AccountInflationDestinationUpdatedEffectResponse.class);
+    classes.put(10, SignerCreatedEffectResponse.class);
+    classes.put(11, SignerRemovedEffectResponse.class);
+    classes.put(12, SignerUpdatedEffectResponse.class);
+    classes.put(20, TrustlineCreatedEffectResponse.class);
+    classes.put(21, TrustlineRemovedEffectResponse.class);
+    classes.put(22, TrustlineUpdatedEffectResponse.class);
+    classes.put(23, TrustlineAuthorizedEffectResponse.class);
+    classes.put(24, TrustlineDeauthorizedEffectResponse.class);
+    classes.put(25, TrustlineAuthorizedToMaintainLiabilitiesEffectResponse.class);
+    classes.put(26, TrustlineFlagsUpdatedEffectResponse.class);
+    classes.put(30, OfferCreatedEffectResponse.class);
+    classes.put(31, OfferRemovedEffectResponse.class);
+    classes.put(32, OfferUpdatedEffectResponse.class);
+    classes.put(33, TradeEffectResponse.class);
+    classes.put(40, DataCreatedEffectResponse.class);
+    classes.put(41, DataRemovedEffectResponse.class);
+    classes.put(42, DataUpdatedEffectResponse.class);
+    classes.put(43, SequenceBumpedEffectResponse.class);
+    classes.put(50, ClaimableBalanceCreatedEffectResponse.class);
+    classes.put(51, ClaimableBalanceClaimantCreatedEffectResponse.class);
+    classes.put(52, ClaimableBalanceClaimedEffectResponse.class);
+    classes.put(60, AccountSponsorshipCreatedEffectResponse.class);
+    classes.put(61, AccountSponsorshipUpdatedEffectResponse.class);
+    classes.put(62, AccountSponsorshipRemovedEffectResponse.class);
+    classes.put(63, TrustlineSponsorshipCreatedEffectResponse.class);
+    classes.put(64, TrustlineSponsorshipUpdatedEffectResponse.class);
+    classes.put(65, TrustlineSponsorshipRemovedEffectResponse.class);
+    classes.put(66, DataSponsorshipCreatedEffectResponse.class);
+    classes.put(67, DataSponsorshipUpdatedEffectResponse.class);
+    classes.put(68, DataSponsorshipRemovedEffectResponse.class);
+    classes.put(69, ClaimableBalanceSponsorshipCreatedEffectResponse.class);
+    classes.put(70, ClaimableBalanceSponsorshipUpdatedEffectResponse.class);
+    classes.put(71, ClaimableBalanceSponsorshipRemovedEffectResponse.class);
+    classes.put(72, SignerSponsorshipCreatedEffectResponse.class);
+    classes.put(73, SignerSponsorshipUpdatedEffectResponse.class);
+    classes.put(74, SignerSponsorshipRemovedEffectResponse.class);
+    classes.put(80, ClaimableBalanceClawedBackEffectResponse.class);
+    classes.put(90, LiquidityPoolDepositedEffectResponse.class);
+    classes.put(91, LiquidityPoolWithdrewEffectResponse.class);
+    classes.put(92, LiquidityPoolTradeEffectResponse.class);
+    classes.put(93, LiquidityPoolCreatedEffectResponse.class);
+    classes.put(94, LiquidityPoolRemovedEffectResponse.class);
+    classes.put(95, LiquidityPoolRevokedEffectResponse.class);
+    classes.put(96, ContractCreditedEffectResponse.class);
+    classes.put(97, ContractDebitedEffectResponse.class);
+    for (Map.Entry<Integer, Class<?>> entry : classes.entrySet()) {
+      EffectResponse effect =
+          GsonSingleton.getInstance()
+              .fromJson("{\"type_i\": " + entry.getKey() + "}", EffectResponse.class);
+      assertEquals(entry.getValue(), effect.getClass());
+    }
+  }
+
+  @Test
+  public void testInvalidOperationTypes() {
+    for (int type : new int[] {-1, 27, 99, Integer.MAX_VALUE}) {
+      try {
+        GsonSingleton.getInstance().fromJson("{\"type_i\": " + type + "}", OperationResponse.class);
+        fail("type_i " + type);
+      } catch (IllegalArgumentException e) {
+        assertEquals("Invalid operation type", e.getMessage());
+      }
+    }
+  }
+
+  @Test
+  public void testInvalidEffectTypes() {
+    for (int type : new int[] {-1, 8, 9, 13, 34, 75, 81, 98, 99, Integer.MAX_VALUE}) {
+      try {
+        GsonSingleton.getInstance().fromJson("{\"type_i\": " + type + "}", EffectResponse.class);
+        fail("type_i " + type);
+      } catch (UnsupportedOperationException e) {
+        assertEquals("Invalid effect type", e.getMessage());
+      }
+    }
+  }
+
+  private static <T> void assertSameAsReflective(String filePath, Class<T> type)
+      throws IOException {
+    String json = new String(Files.readAllBytes(Paths.get(filePath)));
+    assertEquals(REFLECTIVE.fromJson(json, type), GsonSingleton.getInstance().fromJson(json, type));
+  }
+
+  private static <T> void assertPageSameAsReflective(
+      String filePath, TypeToken<Page<T>> pageType, Class<T> type) throws IOException {
+    String json = new String(Files.readAllBytes(Paths.get(filePath)));
+    Page<T> page = GsonSingleton.getInstance().fromJson(json, pageType.getType());
+    JsonElement records =
+        JsonParser.parseString(json).getAsJsonObject().getAsJsonObject("_embedded").get("records");
+    assertEquals(records.getAsJsonArray().size(), page.getRecords().size());
+    for (int i = 0; i < page.getRecords().size(); i++) {
+      assertEquals(
+          REFLECTIVE.fromJson(records.getAsJsonArray().get(i), type), page.getRecords().get(i));
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.stellar.sdk.xdr;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Base64;
+import java.util.Random;
+import org.junit.Test;
+
+public class XdrBase64Test {
+  private static SCVal bytesValue(int length) {
+    byte[] bytes = new byte[length];
+    new Random(length).nextBytes(bytes);
+    SCVal value = new SCVal();
+    value.setDiscriminant(SCValType.SCV_BYTES);
+    value.setBytes(new SCBytes(bytes));
+    return value;
+  }
+
+  @Test
+  public void testRoundTripAcrossChunks() throws IOException {
+    // Cover every padding length, and payloads larger than the decoding buffer.
+    for (int length : new int[] {0, 1, 2, 3, 4, 5, 8191, 8192, 8193, 20000, 20001, 20002}) {
+      SCVal value = bytesValue(length);
+      String expected = Base64.getEncoder().encodeToString(value.toXdrByteArray());
+
+      assertEquals(expected, value.toXdrBase64());
+      assertEquals(value, SCVal.fromXdrBase64(expected));
+    }
+  }
+
+  @Test
+  public void testDecodeWithoutPadding() throws IOException {
+    Int64 value = new Int64(-2L);
+    String base64 = value.toXdrBase64();
+    assertEquals("//////////4=", base64);
+    assertEquals(value, Int64.fromXdrBase64("//////////4"));
+  }
+
+  @Test
+  public void testToXdrBase64Appendable() throws IOException {
+    SCVal value = bytesValue(5000);
+    StringWriter writer = new StringWriter();
+    writer.write('[');
+    value.toXdrBase64(writer);
+    writer.write(']');
+    assertEquals("[" + value.toXdrBase64() + "]", writer.toString());
+  }
+
+  @Test
+  public void testFromBase64Stream() throws IOException {
+    SCVal value = bytesValue(10000);
+    StringBuilder base64 = new StringBuilder(value.toXdrBase64());
+    XdrDataInputStream stream = XdrDataInputStream.fromBase64(base64);
+    assertEquals(value.encodedSize(), stream.available());
+    assertEquals(value, SCVal.decode(stream));
+    assertEquals(value.encodedSize(), stream.getPosition());
+    assertEquals(0, stream.available());
+    assertEquals(-1, stream.read());
+  }
+
+  @Test
+  public void testReadFullyAcrossChunks() throws IOException {
+    byte[] bytes = new byte[20000];
+    new Random(1).nextBytes(bytes);
+    XdrDataInputStream stream =
+        XdrDataInputStream.fromBase64(Base64.getEncoder().encodeToString(bytes));
+    byte[] read = new byte[bytes.length];
+    stream.readFully(read);
+    assertArrayEquals(bytes, read);
+  }
+
+  @Test
+  public void testInvalidCharacter() throws IOException {
+    try {
+      Int64.fromXdrBase64("//////////4*");
+      fail("Didn't throw IllegalArgumentException");
+    } catch (IllegalArgumentException expectedException) {
+    }
+  }
+
+  @Test
+  public void testInvalidPadding() throws IOException {
+    try {
+      Int64.fromXdrBase64("//////////4==");
+      fail("Didn't throw IllegalArgumentException");
+    } catch (IllegalArgumentException expectedException) {
+    }
+  }
+}
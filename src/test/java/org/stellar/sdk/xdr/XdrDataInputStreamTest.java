@@ -0,0 +1,111 @@
+package org.stellar.sdk.xdr;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import org.junit.Test;
+
+public class XdrDataInputStreamTest {
+  private static final String TX_ENVELOPE =
+      "AAAAACq1Ixcw1fchtF5aLTSw1zaYAYjb3WbBRd4jqYJKThB9AAAAZAA8tDoAAAALAAAAAAAAAAEAAAAZR29sZCBwYXltZW50IGZvciBzZXJ2aWNlcwAAAAAAAAEAAAAAAAAAAQAAAAARREGslec48mbJJygIwZoLvRtL6/gGL4ss2TOpnOUOhgAAAAFHT0xEAAAAACq1Ixcw1fchtF5aLTSw1zaYAYjb3WbBRd4jqYJKThB9AAAAADuaygAAAAAAAAAAAA==";
+
+  @Test
+  public void testBufferAndStreamDecodeTheSame() throws IOException {
+    byte[] bytes = TransactionEnvelope.fromXdrBase64(TX_ENVELOPE).toXdrByteArray();
+
+    TransactionEnvelope fromStream =
+        TransactionEnvelope.decode(new XdrDataInputStream(new ByteArrayInputStream(bytes)));
+    TransactionEnvelope fromArray = TransactionEnvelope.decode(new XdrDataInputStream(bytes));
+    TransactionEnvelope fromBuffer =
+        TransactionEnvelope.decode(new XdrDataInputStream(ByteBuffer.wrap(bytes)));
+
+    assertEquals(fromStream, fromArray);
+    assertEquals(fromStream, fromBuffer);
+    assertArrayEquals(bytes, fromArray.toXdrByteArray());
+  }
+
+  @Test
+  public void testReadFromArrayRegion() throws IOException {
+    byte[] bytes = {9, 9, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 2, 9};
+    XdrDataInputStream stream = new XdrDataInputStream(bytes, 2, 12);
+    assertEquals(1, stream.readInt());
+    assertEquals(2L, stream.readLong());
+    assertEquals(0, stream.available());
+    assertEquals(-1, stream.read());
+  }
+
+  @Test
+  public void testReadFromBufferDoesNotMoveBufferPosition() throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0, 0, 0, 0, 0, 0, 0, 7});
+    buffer.position(4);
+    XdrDataInputStream stream = new XdrDataInputStream(buffer);
+    assertEquals(7, stream.readInt());
+    assertEquals(4, buffer.position());
+  }
+
+  @Test
+  public void testReadIntPastEndThrows() throws IOException {
+    XdrDataInputStream stream = new XdrDataInputStream(new byte[] {0, 0, 1});
+    try {
+      stream.readInt();
+      fail("Didn't throw EOFException");
+    } catch (EOFException expectedException) {
+    }
+  }
+
+  @Test
+  public void testNonZeroPadding() {
+    byte[] bytes = {0, 0, 0, 2, 'a', 'b', 1, 0};
+    try {
+      DataValue.decode(new XdrDataInputStream(bytes));
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("non-zero padding", expectedException.getMessage());
+    }
+  }
+
+  @Test
+  public void testTruncatedReadReturnsTheBytesRead() throws IOException {
+    byte[] bytes = {'a', 'b', 'c'};
+    XdrDataInputStream[] streams = {
+      new XdrDataInputStream(new ByteArrayInputStream(bytes)),
+      new XdrDataInputStream(bytes),
+      new XdrDataInputStream(ByteBuffer.wrap(bytes)),
+      XdrDataInputStream.fromBase64(Base64.getEncoder().encodeToString(bytes))
+    };
+    for (XdrDataInputStream stream : streams) {
+      byte[] read = new byte[5];
+      assertEquals(3, stream.read(read, 0, 5));
+      assertArrayEquals(new byte[] {'a', 'b', 'c', 0, 0}, read);
+      assertEquals(-1, stream.read(read, 0, 5));
+    }
+  }
+
+  @Test
+  public void testStreamLongerThan2GiB() throws IOException {
+    InputStream zeros =
+        new InputStream() {
+          @Override
+          public int read() {
+            return 0;
+          }
+
+          @Override
+          public long skip(long n) {
+            return n;
+          }
+        };
+    XdrDataInputStream stream = new XdrDataInputStream(zeros);
+    stream.skipOpaque(Integer.MAX_VALUE);
+    stream.skipOpaque(Integer.MAX_VALUE);
+    assertEquals(0, stream.readInt());
+    assertEquals(Integer.MAX_VALUE, stream.getPosition());
+  }
+}
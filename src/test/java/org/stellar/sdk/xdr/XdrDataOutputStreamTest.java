@@ -0,0 +1,195 @@
+package org.stellar.sdk.xdr;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class XdrDataOutputStreamTest {
+  private static final String TX_ENVELOPE =
+      "AAAAACq1Ixcw1fchtF5aLTSw1zaYAYjb3WbBRd4jqYJKThB9AAAAZAA8tDoAAAALAAAAAAAAAAEAAAAZR29sZCBwYXltZW50IGZvciBzZXJ2aWNlcwAAAAAAAAEAAAAAAAAAAQAAAAARREGslec48mbJJygIwZoLvRtL6/gGL4ss2TOpnOUOhgAAAAFHT0xEAAAAACq1Ixcw1fchtF5aLTSw1zaYAYjb3WbBRd4jqYJKThB9AAAAADuaygAAAAAAAAAAAA==";
+
+  private static byte[] encodeWithStream(XdrElement element) throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    element.encode(new XdrDataOutputStream(byteArrayOutputStream));
+    return byteArrayOutputStream.toByteArray();
+  }
+
+  @Test
+  public void testEncodedSize() throws IOException {
+    TransactionEnvelope envelope = TransactionEnvelope.fromXdrBase64(TX_ENVELOPE);
+    assertEquals(encodeWithStream(envelope).length, envelope.encodedSize());
+
+    SCVal symbol = new SCVal();
+    symbol.setDiscriminant(SCValType.SCV_SYMBOL);
+    symbol.setSym(new SCSymbol(new XdrString("hello")));
+    assertEquals(16, symbol.encodedSize());
+    assertEquals(encodeWithStream(symbol).length, symbol.encodedSize());
+  }
+
+  @Test
+  public void testToXdrByteArray() throws IOException {
+    TransactionEnvelope envelope = TransactionEnvelope.fromXdrBase64(TX_ENVELOPE);
+    assertArrayEquals(encodeWithStream(envelope), envelope.toXdrByteArray());
+  }
+
+  @Test
+  public void testToXdrByteArrayWithOffset() throws IOException {
+    TransactionEnvelope envelope = TransactionEnvelope.fromXdrBase64(TX_ENVELOPE);
+    byte[] expected = encodeWithStream(envelope);
+    byte[] buffer = new byte[expected.length + 8];
+
+    int written = envelope.toXdrByteArray(buffer, 3);
+
+    assertEquals(expected.length, written);
+    assertArrayEquals(expected, Arrays.copyOfRange(buffer, 3, 3 + written));
+  }
+
+  @Test
+  public void testToXdrByteBuffer() throws IOException {
+    TransactionEnvelope envelope = TransactionEnvelope.fromXdrBase64(TX_ENVELOPE);
+    byte[] expected = encodeWithStream(envelope);
+    ByteBuffer buffer =
+        ByteBuffer.allocateDirect(expected.length + 2).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.position(2);
+
+    int written = envelope.toXdrByteBuffer(buffer);
+
+    assertEquals(expected.length, written);
+    assertEquals(expected.length + 2, buffer.position());
+    assertEquals(ByteOrder.LITTLE_ENDIAN, buffer.order());
+    byte[] actual = new byte[written];
+    buffer.position(2);
+    buffer.get(actual);
+    assertArrayEquals(expected, actual);
+  }
+
+  @Test
+  public void testToXdrByteArrayTooSmall() throws IOException {
+    TransactionEnvelope envelope = TransactionEnvelope.fromXdrBase64(TX_ENVELOPE);
+    try {
+      envelope.toXdrByteArray(new byte[envelope.encodedSize()], 1);
+      fail("Didn't throw BufferOverflowException");
+    } catch (BufferOverflowException expectedException) {
+    }
+  }
+
+  @Test
+  public void testPaddingWrittenIntoBuffer() throws IOException {
+    byte[] buffer = new byte[12];
+    Arrays.fill(buffer, (byte) 0xff);
+    new DataValue(new byte[] {'a', 'b'}).encode(new XdrDataOutputStream(buffer, 2, 8));
+    assertArrayEquals(
+        new byte[] {(byte) 0xff, (byte) 0xff, 0, 0, 0, 2, 'a', 'b', 0, 0, (byte) 0xff, (byte) 0xff},
+        buffer);
+  }
+
+  // A gathering channel that writes at most 5 bytes per call, like a congested socket.
+  private static class SlowChannel implements GatheringByteChannel {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int gatheringWrites;
+    boolean open = true;
+
+    @Override
+    public int write(ByteBuffer src) {
+      int length = Math.min(5, src.remaining());
+      for (int i = 0; i < length; i++) {
+        out.write(src.get());
+      }
+      return length;
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) {
+      gatheringWrites++;
+      for (int i = offset; i < offset + length; i++) {
+        if (srcs[i].hasRemaining()) {
+          return write(srcs[i]);
+        }
+      }
+      return 0;
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs) {
+      return write(srcs, 0, srcs.length);
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+  }
+
+  @Test
+  public void testWriteToChannel() throws IOException {
+    TransactionEnvelope envelope = TransactionEnvelope.fromXdrBase64(TX_ENVELOPE);
+    byte[] expected = encodeWithStream(envelope);
+    for (int size = 8; size <= expected.length + 4; size++) {
+      ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+      XdrDataOutputStream stream =
+          new XdrDataOutputStream(
+              Channels.newChannel(byteArrayOutputStream), ByteBuffer.allocate(size));
+      envelope.encode(stream);
+      envelope.encode(stream);
+      stream.flush();
+      byte[] actual = byteArrayOutputStream.toByteArray();
+      assertArrayEquals(expected, Arrays.copyOfRange(actual, 0, expected.length));
+      assertArrayEquals(expected, Arrays.copyOfRange(actual, expected.length, actual.length));
+
+      SlowChannel channel = new SlowChannel();
+      stream = new XdrDataOutputStream(channel, ByteBuffer.allocateDirect(size));
+      envelope.encode(stream);
+      stream.close();
+      assertArrayEquals(expected, channel.out.toByteArray());
+      assertFalse(channel.isOpen());
+    }
+  }
+
+  @Test
+  public void testLargeOpaqueIsGathered() throws IOException {
+    byte[] code = new byte[1001];
+    Arrays.fill(code, (byte) 7);
+    SCVal value = new SCVal();
+    value.setDiscriminant(SCValType.SCV_BYTES);
+    value.setBytes(new SCBytes(code));
+    byte[] expected = encodeWithStream(value);
+
+    SlowChannel channel = new SlowChannel();
+    XdrDataOutputStream stream = new XdrDataOutputStream(channel);
+    value.encode(stream);
+    assertEquals(0, channel.out.size());
+    stream.flush();
+    assertArrayEquals(expected, channel.out.toByteArray());
+    assertEquals(0, channel.gatheringWrites);
+
+    channel = new SlowChannel();
+    stream = new XdrDataOutputStream(channel, ByteBuffer.allocateDirect(64));
+    value.encode(stream);
+    stream.flush();
+    assertArrayEquals(expected, channel.out.toByteArray());
+    assertTrue(channel.gatheringWrites > 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testChannelBufferTooSmall() {
+    new XdrDataOutputStream(
+        Channels.newChannel(new ByteArrayOutputStream()), ByteBuffer.allocate(4));
+  }
+}
@@ -0,0 +1,313 @@
+package org.stellar.sdk.xdr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import org.junit.Test;
+
+public class XdrDecodeLimitsTest {
+  // SCV_VEC with one element, nested depth times, around SCV_VOID.
+  private static byte[] nestedVec(int depth) {
+    ByteBuffer buffer = ByteBuffer.allocate(depth * 12 + 4);
+    for (int i = 0; i < depth; i++) {
+      buffer.putInt(SCValType.SCV_VEC.getValue()).putInt(1).putInt(1);
+    }
+    buffer.putInt(SCValType.SCV_VOID.getValue());
+    return buffer.array();
+  }
+
+  private static SCVal symbol(String value) {
+    return SCVal.builder()
+        .discriminant(SCValType.SCV_SYMBOL)
+        .sym(new SCSymbol(new XdrString(value)))
+        .build();
+  }
+
+  @Test
+  public void testDefaultDepthLimit() throws IOException {
+    // Each level is an SCVal and an SCVec, so 250 levels and the void value fit into 500.
+    SCVal value = SCVal.fromXdrByteArray(nestedVec(249));
+    assertEquals(SCValType.SCV_VEC, value.getDiscriminant());
+    XdrValidator.validate(SCVal::skip, nestedVec(249));
+
+    try {
+      SCVal.fromXdrByteArray(nestedVec(250));
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("Maximum decoding depth of 500 exceeded", expectedException.getMessage());
+    }
+    assertFalse(XdrValidator.isValid(SCVal::skip, nestedVec(250)));
+  }
+
+  @Test
+  public void testDepthIsReleasedAfterEachValue() throws IOException {
+    byte[] value = nestedVec(4);
+    XdrDataInputStream stream =
+        new XdrDataInputStream(ByteBuffer.allocate(2 * value.length).put(value).put(value).array());
+    stream.setLimits(XdrDecodeLimits.builder().maxDepth(9).build());
+    SCVal.decode(stream);
+    SCVal.decode(stream);
+    assertEquals(0, stream.available());
+  }
+
+  @Test
+  public void testDepthIsReleasedAfterFailure() throws IOException {
+    byte[] invalid = nestedVec(4);
+    // Replaces the innermost SCV_VOID with an unknown type.
+    ByteBuffer.wrap(invalid).putInt(invalid.length - 4, -1);
+    byte[] valid = nestedVec(4);
+    XdrDataInputStream stream =
+        new XdrDataInputStream(
+            ByteBuffer.allocate(4 * valid.length)
+                .put(invalid)
+                .put(valid)
+                .put(invalid)
+                .put(valid)
+                .array());
+    stream.setLimits(XdrDecodeLimits.builder().maxDepth(9).build());
+    try {
+      SCVal.decode(stream);
+      fail("Didn't throw IllegalArgumentException");
+    } catch (IllegalArgumentException expectedException) {
+    }
+    SCVal.decode(stream);
+    try {
+      SCVal.skip(stream);
+      fail("Didn't throw IllegalArgumentException");
+    } catch (IllegalArgumentException expectedException) {
+    }
+    SCVal.skip(stream);
+    assertEquals(0, stream.available());
+  }
+
+  @Test
+  public void testDeepValueDecodesIteratively() throws IOException {
+    int depth = 100000;
+    XdrDataInputStream stream = new XdrDataInputStream(nestedVec(depth));
+    stream.setLimits(XdrDecodeLimits.NONE);
+    SCVal value = SCVal.decode(stream);
+    assertEquals(0, stream.available());
+    for (int i = 0; i < depth; i++) {
+      assertEquals(SCValType.SCV_VEC, value.getDiscriminant());
+      assertEquals(1, value.getVec().getSCVec().length);
+      value = value.getVec().getSCVec()[0];
+    }
+    assertEquals(SCValType.SCV_VOID, value.getDiscriminant());
+  }
+
+  @Test
+  public void testNestedMapsRoundTrip() throws IOException {
+    SCVal vec =
+        SCVal.builder()
+            .discriminant(SCValType.SCV_VEC)
+            .vec(new SCVec(new SCVal[] {symbol("a"), symbol("b")}))
+            .build();
+    SCMap storage = new SCMap(new SCMapEntry[] {new SCMapEntry(symbol("c"), vec)});
+    SCVal instance =
+        SCVal.builder()
+            .discriminant(SCValType.SCV_CONTRACT_INSTANCE)
+            .instance(
+                new SCContractInstance(
+                    ContractExecutable.builder()
+                        .discriminant(ContractExecutableType.CONTRACT_EXECUTABLE_STELLAR_ASSET)
+                        .build(),
+                    storage))
+            .build();
+    SCVal emptyVec =
+        SCVal.builder().discriminant(SCValType.SCV_VEC).vec(new SCVec(new SCVal[0])).build();
+    SCVal absentMap = SCVal.builder().discriminant(SCValType.SCV_MAP).build();
+    SCVal map =
+        SCVal.builder()
+            .discriminant(SCValType.SCV_MAP)
+            .map(
+                new SCMap(
+                    new SCMapEntry[] {
+                      new SCMapEntry(instance, emptyVec), new SCMapEntry(absentMap, vec)
+                    }))
+            .build();
+
+    SCVal decoded = SCVal.fromXdrByteArray(map.toXdrByteArray());
+    assertEquals(map, decoded);
+    assertNull(decoded.getMap().getSCMap()[1].getKey().getMap());
+
+    // An SCVal, the instance, its storage map and the map entry are four levels.
+    XdrDataInputStream stream = new XdrDataInputStream(instance.toXdrByteArray());
+    stream.setLimits(XdrDecodeLimits.builder().maxDepth(4 + 2 + 1).build());
+    assertEquals(instance, SCVal.decode(stream));
+    stream = new XdrDataInputStream(instance.toXdrByteArray());
+    stream.setLimits(XdrDecodeLimits.builder().maxDepth(4 + 2).build());
+    try {
+      SCVal.decode(stream);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+
+  @Test
+  public void testDecodeDoesNotCheckTheMaximumLengthOfXdr() throws IOException {
+    // signerSponsoringIDs is declared as SponsorshipDescriptor<MAX_SIGNERS>, MAX_SIGNERS being 20.
+    ByteBuffer buffer = ByteBuffer.allocate(4 * 25);
+    buffer.putInt(0).putInt(0).putInt(21);
+    for (int i = 0; i < 21; i++) {
+      buffer.putInt(0);
+    }
+    buffer.putInt(0);
+    byte[] bytes = buffer.array();
+
+    assertEquals(
+        21, AccountEntryExtensionV2.fromXdrByteArray(bytes).getSignerSponsoringIDs().length);
+    try {
+      XdrValidator.validate(AccountEntryExtensionV2::skip, bytes);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+
+  @Test
+  public void testMaxLength() throws IOException {
+    byte[] bytes = new SCBytes(new byte[100]).toXdrByteArray();
+    XdrDataInputStream stream = new XdrDataInputStream(bytes);
+    stream.setLimits(XdrDecodeLimits.builder().maxLength(100).build());
+    assertEquals(100, SCBytes.decode(stream).getSCBytes().length);
+
+    stream = new XdrDataInputStream(bytes);
+    stream.setLimits(XdrDecodeLimits.builder().maxLength(99).build());
+    try {
+      SCBytes.decode(stream);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("Length 100 exceeds the maximum length of 99", expectedException.getMessage());
+    }
+  }
+
+  @Test
+  public void testLengthLargerThanInputIsRejectedBeforeAllocation() throws IOException {
+    byte[] bytes =
+        ByteBuffer.allocate(16)
+            .putInt(SCValType.SCV_VEC.getValue())
+            .putInt(1)
+            .putInt(Integer.MAX_VALUE)
+            .putInt(0)
+            .array();
+    try {
+      SCVal.fromXdrByteArray(bytes);
+      fail("Didn't throw EOFException");
+    } catch (EOFException expectedException) {
+      assertEquals(
+          "Length 2147483647 does not fit into the remaining 4 bytes",
+          expectedException.getMessage());
+    }
+    try {
+      SCVal.fromXdrBase64(Base64.getEncoder().encodeToString(bytes));
+      fail("Didn't throw EOFException");
+    } catch (EOFException expectedException) {
+    }
+  }
+
+  @Test
+  public void testLengthFromStreamOfUnknownLengthIsBounded() throws IOException {
+    byte[] bytes =
+        ByteBuffer.allocate(12)
+            .putInt(SCValType.SCV_BYTES.getValue())
+            .putInt(XdrDecodeLimits.DEFAULT_MAX_UNBOUNDED_SIZE + 1)
+            .putInt(0)
+            .array();
+    try {
+      SCVal.decode(new XdrDataInputStream(new ByteArrayInputStream(bytes)));
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals(
+          "Length 16777217 exceeds the maximum size of 16777216 bytes for input of unknown length",
+          expectedException.getMessage());
+    }
+
+    // With a maximum input length, the length is only checked against the remaining input.
+    XdrDataInputStream stream = new XdrDataInputStream(new ByteArrayInputStream(bytes));
+    stream.setLimits(XdrDecodeLimits.builder().maxInputLength(bytes.length).build());
+    try {
+      SCVal.decode(stream);
+      fail("Didn't throw EOFException");
+    } catch (EOFException expectedException) {
+      assertEquals(
+          "Length 16777217 does not fit into the remaining 4 bytes",
+          expectedException.getMessage());
+    }
+  }
+
+  @Test
+  public void testNegativeLength() throws IOException {
+    byte[] bytes = ByteBuffer.allocate(8).putInt(-1).putInt(0).array();
+    try {
+      DataValue.fromXdrByteArray(bytes);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("Invalid length: -1", expectedException.getMessage());
+    }
+  }
+
+  @Test
+  public void testMaxInputLengthInBufferMode() throws IOException {
+    byte[] bytes = new byte[16];
+    XdrDataInputStream stream = new XdrDataInputStream(bytes);
+    stream.setLimits(XdrDecodeLimits.builder().maxInputLength(12).build());
+    assertEquals(12, stream.available());
+    Int64.decode(stream);
+    try {
+      Int64.decode(stream);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("Input exceeds the maximum length of 12 bytes", expectedException.getMessage());
+    }
+  }
+
+  @Test
+  public void testMaxInputLengthInStreamMode() throws IOException {
+    byte[] bytes = new byte[16];
+    XdrDataInputStream stream = new XdrDataInputStream(new ByteArrayInputStream(bytes));
+    stream.setLimits(XdrDecodeLimits.builder().maxInputLength(12).build());
+    Int64.decode(stream);
+    try {
+      Int64.decode(stream);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("Input exceeds the maximum length of 12 bytes", expectedException.getMessage());
+    }
+  }
+
+  @Test
+  public void testMaxInputLengthInBase64Mode() throws IOException {
+    byte[] bytes = new byte[16];
+    Arrays.fill(bytes, (byte) 1);
+    XdrDataInputStream stream =
+        XdrDataInputStream.fromBase64(Base64.getEncoder().encodeToString(bytes));
+    stream.setLimits(XdrDecodeLimits.builder().maxInputLength(12).build());
+    assertEquals(12, stream.available());
+    Int64.decode(stream);
+    try {
+      Int64.decode(stream);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("Input exceeds the maximum length of 12 bytes", expectedException.getMessage());
+    }
+  }
+
+  @Test
+  public void testStreamsStartWithTheDefaultLimits() throws IOException {
+    byte[] bytes = new byte[4];
+    assertEquals(XdrDecodeLimits.DEFAULT, new XdrDataInputStream(bytes).getLimits());
+    assertEquals(
+        XdrDecodeLimits.DEFAULT,
+        new XdrDataInputStream(new ByteArrayInputStream(bytes)).getLimits());
+    assertEquals(
+        XdrDecodeLimits.DEFAULT,
+        XdrDataInputStream.fromBase64(Base64.getEncoder().encodeToString(bytes)).getLimits());
+  }
+}
@@ -0,0 +1,140 @@
+package org.stellar.sdk.xdr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import org.junit.Test;
+
+public class XdrInternerTest {
+  private static PublicKey publicKey(int seed) {
+    byte[] key = new byte[32];
+    key[0] = (byte) seed;
+    return PublicKey.builder()
+        .discriminant(PublicKeyType.PUBLIC_KEY_TYPE_ED25519)
+        .ed25519(new Uint256(key))
+        .build();
+  }
+
+  private static Asset asset(String code, int issuer) {
+    byte[] assetCode = new byte[4];
+    System.arraycopy(code.getBytes(), 0, assetCode, 0, code.length());
+    return Asset.builder()
+        .discriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM4)
+        .alphaNum4(new AlphaNum4(new AssetCode4(assetCode), new AccountID(publicKey(issuer))))
+        .build();
+  }
+
+  private static byte[] repeat(XdrElement value, int count) throws IOException {
+    byte[] encoded = value.toXdrByteArray();
+    ByteBuffer buffer = ByteBuffer.allocate(encoded.length * count);
+    for (int i = 0; i < count; i++) {
+      buffer.put(encoded);
+    }
+    return buffer.array();
+  }
+
+  @Test
+  public void testNotInternedByDefault() throws IOException {
+    XdrDataInputStream stream = new XdrDataInputStream(repeat(asset("USD", 1), 2));
+    assertNotSame(Asset.decode(stream), Asset.decode(stream));
+  }
+
+  @Test
+  public void testInternBuffer() throws IOException {
+    Asset asset = asset("USD", 1);
+    XdrDataInputStream stream = new XdrDataInputStream(repeat(asset, 2));
+    stream.setInterner(new XdrInterner());
+    Asset first = Asset.decode(stream);
+    assertEquals(asset, first);
+    assertSame(first, Asset.decode(stream));
+  }
+
+  @Test
+  public void testInternStream() throws IOException {
+    Asset asset = asset("USD", 1);
+    XdrDataInputStream stream = new XdrDataInputStream(new ByteArrayInputStream(repeat(asset, 2)));
+    stream.setInterner(new XdrInterner());
+    Asset first = Asset.decode(stream);
+    assertEquals(asset, first);
+    assertSame(first, Asset.decode(stream));
+  }
+
+  @Test
+  public void testInternBase64AcrossChunks() throws IOException {
+    Asset asset = asset("USD", 1);
+    XdrDataInputStream stream =
+        XdrDataInputStream.fromBase64(Base64.getEncoder().encodeToString(repeat(asset, 1000)));
+    stream.setInterner(new XdrInterner());
+    Asset first = Asset.decode(stream);
+    assertEquals(asset, first);
+    for (int i = 1; i < 1000; i++) {
+      assertSame(first, Asset.decode(stream));
+    }
+  }
+
+  @Test
+  public void testNestedValuesAreShared() throws IOException {
+    XdrInterner interner = new XdrInterner();
+    XdrDataInputStream stream = new XdrDataInputStream(asset("USD", 1).toXdrByteArray());
+    stream.setInterner(interner);
+    Asset usd = Asset.decode(stream);
+    stream = new XdrDataInputStream(asset("EUR", 1).toXdrByteArray());
+    stream.setInterner(interner);
+    Asset eur = Asset.decode(stream);
+    assertSame(usd.getAlphaNum4().getIssuer(), eur.getAlphaNum4().getIssuer());
+  }
+
+  @Test
+  public void testKeyedOnType() throws IOException {
+    // A PublicKey and an AccountID holding it have the same encoding.
+    XdrDataInputStream stream = new XdrDataInputStream(repeat(publicKey(1), 2));
+    stream.setInterner(new XdrInterner());
+    PublicKey publicKey = PublicKey.decode(stream);
+    AccountID accountId = AccountID.decode(stream);
+    assertSame(publicKey, accountId.getAccountID());
+  }
+
+  @Test
+  public void testCollisionsReplaceValues() throws IOException {
+    XdrInterner interner = new XdrInterner(1);
+    assertEquals(1, interner.getCapacity());
+    for (int i = 0; i < 10; i++) {
+      Asset asset = asset("USD", i % 3);
+      XdrDataInputStream stream = new XdrDataInputStream(asset.toXdrByteArray());
+      stream.setInterner(interner);
+      assertEquals(asset, Asset.decode(stream));
+    }
+  }
+
+  @Test
+  public void testClear() throws IOException {
+    XdrInterner interner = new XdrInterner();
+    byte[] encoded = new SCSymbol(new XdrString("transfer")).toXdrByteArray();
+    XdrDataInputStream stream = new XdrDataInputStream(encoded);
+    stream.setInterner(interner);
+    SCSymbol first = SCSymbol.decode(stream);
+    interner.clear();
+    stream = new XdrDataInputStream(encoded);
+    stream.setInterner(interner);
+    SCSymbol second = SCSymbol.decode(stream);
+    assertEquals(first, second);
+    assertNotSame(first, second);
+  }
+
+  @Test
+  public void testCapacity() {
+    assertEquals(XdrInterner.DEFAULT_CAPACITY, new XdrInterner().getCapacity());
+    assertEquals(1024, new XdrInterner(1000).getCapacity());
+    try {
+      new XdrInterner(0);
+      fail("Didn't throw IllegalArgumentException");
+    } catch (IllegalArgumentException expectedException) {
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package org.stellar.sdk.xdr;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import org.junit.Test;
+import org.stellar.sdk.StrKey;
+
+public class XdrJsonTest {
+  private static final String ACCOUNT_ID =
+      "GCLSA43RTV6VG44QZKXQTJVI27BM2AIKEFO5JSUHPLFRNEYMVRPPRIE6";
+
+  private static final String ENVELOPE =
+      "AAAAAgAAAACXIHNxnX1Tc5DKrwmmqNfCzQEKIV3Uyod6yxaTDKxe+AABkscCiGb5AEhGoQAAAAEAAAAAAAAAAAAAAABm"
+          + "i7XhAAAAAAAAAAEAAAAAAAAAAwAAAAAAAAABWFJQAAAAAABvF6+da84qsKUGM1pUpaqkjO/azcr/o0SbYbgrLCrf"
+          + "EQAAAAAZ/l3JAAPQmQATEtAAAAAAXiu/0wAAAAAAAAABDKxe+AAAAEBjBC+6aoTFhL2RdhnIfUp4HEz1ICC9iolT"
+          + "ZGXx4+9+U+2VhlERtzZ73tg+0P4hhcjhwIJIxjCPNnjXtTcVqM4H";
+
+  private static final String ENVELOPE_JSON =
+      "{\"tx\":{\"tx\":{"
+          + "\"source_account\":\"GCLSA43RTV6VG44QZKXQTJVI27BM2AIKEFO5JSUHPLFRNEYMVRPPRIE6\","
+          + "\"fee\":103111,"
+          + "\"seq_num\":\"182509004546131617\","
+          + "\"cond\":{\"time\":{\"min_time\":\"0\",\"max_time\":\"1720432097\"}},"
+          + "\"memo\":\"none\","
+          + "\"operations\":[{\"source_account\":null,\"body\":{\"manage_sell_offer\":{"
+          + "\"selling\":\"native\","
+          + "\"buying\":{\"credit_alphanum4\":{\"asset_code\":\"XRP\","
+          + "\"issuer\":\"GBXRPL45NPHCVMFFAYZVUVFFVKSIZ362ZXFP7I2ETNQ3QKZMFLPRDTD5\"}},"
+          + "\"amount\":\"436100553\","
+          + "\"price\":{\"n\":250009,\"d\":1250000},"
+          + "\"offer_id\":\"1579925459\"}}}],"
+          + "\"ext\":\"v0\"},"
+          + "\"signatures\":[{\"hint\":\"0cac5ef8\",\"signature\":\"63042fba6a84c584bd917619c87d4a78"
+          + "1c4cf52020bd8a89536465f1e3ef7e53ed95865111b7367bded83ed0fe2185c8e1c08248c6308f3678d7b5"
+          + "3715a8ce07\"}]}}";
+
+  private static SCVal i128(BigInteger value) throws IOException {
+    return SCVal.fromJson("{\"i128\":\"" + value + "\"}");
+  }
+
+  @Test
+  public void testTransactionEnvelope() throws IOException {
+    TransactionEnvelope envelope = TransactionEnvelope.fromXdrBase64(ENVELOPE);
+    assertEquals(ENVELOPE_JSON, envelope.toJson());
+    assertEquals(envelope, TransactionEnvelope.fromJson(ENVELOPE_JSON));
+  }
+
+  @Test
+  public void testFieldOrderAndWhitespaceAreIgnored() throws IOException {
+    assertEquals(
+        new Price(new Int32(1), new Int32(2)), Price.fromJson("{ \"d\" : 2,\n \"n\" : 1 }"));
+  }
+
+  @Test
+  public void testToJsonWriter() throws IOException {
+    TransactionEnvelope envelope = TransactionEnvelope.fromXdrBase64(ENVELOPE);
+    StringWriter writer = new StringWriter();
+    envelope.toJson(writer);
+    assertEquals(ENVELOPE_JSON, writer.toString());
+  }
+
+  @Test
+  public void testEnumsAndVoidArms() throws IOException {
+    // The prefix shared by all values is dropped.
+    assertEquals("\"void\"", SCValType.SCV_VOID.toJson());
+    assertEquals(SCValType.SCV_CONTRACT_INSTANCE, SCValType.fromJson("\"contract_instance\""));
+    assertEquals("\"credit_alphanum4\"", AssetType.ASSET_TYPE_CREDIT_ALPHANUM4.toJson());
+    assertEquals("\"void\"", SCVal.builder().discriminant(SCValType.SCV_VOID).build().toJson());
+    assertEquals(
+        SCVal.builder().discriminant(SCValType.SCV_VOID).build(), SCVal.fromJson("\"void\""));
+  }
+
+  @Test
+  public void testIntegers() throws IOException {
+    SCVal u32 =
+        SCVal.builder()
+            .discriminant(SCValType.SCV_U32)
+            .u32(new Uint32(new XdrUnsignedInteger(4294967295L)))
+            .build();
+    assertEquals("{\"u32\":4294967295}", u32.toJson());
+    assertEquals(u32, SCVal.fromJson(u32.toJson()));
+
+    Uint64 u64 = new Uint64(new XdrUnsignedHyperInteger(new BigInteger("18446744073709551615")));
+    assertEquals("\"18446744073709551615\"", u64.toJson());
+    assertEquals(u64, Uint64.fromJson(u64.toJson()));
+
+    assertEquals("\"-9223372036854775808\"", new Int64(Long.MIN_VALUE).toJson());
+  }
+
+  @Test
+  public void testLargeIntegers() throws IOException {
+    BigInteger min = BigInteger.ONE.shiftLeft(127).negate();
+    BigInteger max = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+    for (BigInteger value : new BigInteger[] {min, BigInteger.valueOf(-1), BigInteger.ZERO, max}) {
+      SCVal scVal = i128(value);
+      assertEquals("{\"i128\":\"" + value + "\"}", scVal.toJson());
+      assertEquals(scVal, SCVal.fromXdrByteArray(scVal.toXdrByteArray()));
+    }
+    assertEquals(-1L, i128(BigInteger.valueOf(-1)).getI128().getHi().getInt64().longValue());
+
+    BigInteger u256 = BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE);
+    SCVal scVal = SCVal.fromJson("{\"u256\":\"" + u256 + "\"}");
+    assertEquals(-1L, scVal.getU256().getLo_lo().getUint64().getNumber().longValue());
+    assertEquals("{\"u256\":\"" + u256 + "\"}", scVal.toJson());
+
+    try {
+      i128(max.add(BigInteger.ONE));
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+    try {
+      SCVal.fromJson("{\"u128\":\"-1\"}");
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+
+  @Test
+  public void testOpaquesAndStrings() throws IOException {
+    SCVal bytes =
+        SCVal.builder()
+            .discriminant(SCValType.SCV_BYTES)
+            .bytes(new SCBytes(new byte[] {0, 1, (byte) 0xab, (byte) 0xff}))
+            .build();
+    assertEquals("{\"bytes\":\"0001abff\"}", bytes.toJson());
+    assertEquals(bytes, SCVal.fromJson("{\"bytes\":\"0001ABFF\"}"));
+
+    XdrString string = new XdrString(new byte[] {'a', 0, '\n', '\\', '"', (byte) 0xe9});
+    assertEquals("\"a\\\\0\\\\n\\\\\\\\\\\"\\\\xe9\"", string.toJson());
+    assertArrayEquals(string.getBytes(), XdrString.fromJson(string.toJson()).getBytes());
+
+    try {
+      Hash.fromJson("\"00\"");
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+
+  @Test
+  public void testAssetCodes() throws IOException {
+    AssetCode12 code = new AssetCode12(new byte[] {'A', 'B', 'C', 'D', 'E', 0, 0, 0, 0, 0, 0, 0});
+    assertEquals("\"ABCDE\"", code.toJson());
+    assertEquals(code, AssetCode12.fromJson("\"ABCDE\""));
+
+    try {
+      AssetCode4.fromJson("\"ABCDE\"");
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+
+  @Test
+  public void testStrKeys() throws IOException {
+    AccountID accountId = AccountID.fromJson("\"" + ACCOUNT_ID + "\"");
+    assertArrayEquals(
+        StrKey.decodeEd25519PublicKey(ACCOUNT_ID),
+        accountId.getAccountID().getEd25519().getUint256());
+    assertEquals("\"" + ACCOUNT_ID + "\"", accountId.toJson());
+
+    String muxed = "MA7QYNF7SOWQ3GLR2BGMZEHXAVIRZA4KVWLTJJFC7MGXUA74P7UJVAAAAAAAAAAAAAJLK";
+    MuxedAccount muxedAccount = MuxedAccount.fromJson("\"" + muxed + "\"");
+    assertEquals(StrKey.decodeMuxedAccount(muxed), muxedAccount);
+    assertEquals("\"" + muxed + "\"", muxedAccount.toJson());
+
+    String contract = StrKey.encodeContract(new byte[32]);
+    SCAddress address = SCAddress.fromJson("\"" + contract + "\"");
+    assertEquals(SCAddressType.SC_ADDRESS_TYPE_CONTRACT, address.getDiscriminant());
+    assertEquals("\"" + contract + "\"", address.toJson());
+
+    try {
+      AccountID.fromJson("\"" + contract + "\"");
+      fail("Didn't throw IllegalArgumentException");
+    } catch (IllegalArgumentException expectedException) {
+    }
+  }
+
+  @Test
+  public void testUnknownNames() throws IOException {
+    try {
+      Price.fromJson("{\"n\":1,\"x\":2}");
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("Unknown Price field: x", expectedException.getMessage());
+    }
+    try {
+      SCVal.fromJson("{\"nope\":1}");
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("Unknown SCVal arm: nope", expectedException.getMessage());
+    }
+    try {
+      SCValType.fromJson("\"nope\"");
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("Unknown SCValType value: nope", expectedException.getMessage());
+    }
+  }
+
+  @Test
+  public void testTrailingInput() throws IOException {
+    try {
+      Int32.fromJson("1 2");
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+}
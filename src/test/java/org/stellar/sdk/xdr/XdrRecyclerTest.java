@@ -0,0 +1,173 @@
+package org.stellar.sdk.xdr;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.stellar.sdk.ingest.LedgerCloseMetaFixtures;
+
+public class XdrRecyclerTest {
+  private static Asset asset(String code, int issuer) {
+    byte[] assetCode = new byte[4];
+    System.arraycopy(code.getBytes(), 0, assetCode, 0, code.length());
+    byte[] key = new byte[32];
+    key[0] = (byte) issuer;
+    PublicKey publicKey =
+        PublicKey.builder()
+            .discriminant(PublicKeyType.PUBLIC_KEY_TYPE_ED25519)
+            .ed25519(new Uint256(key))
+            .build();
+    return Asset.builder()
+        .discriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM4)
+        .alphaNum4(new AlphaNum4(new AssetCode4(assetCode), new AccountID(publicKey)))
+        .build();
+  }
+
+  private static SCVal symbols(String... values) {
+    SCVal[] vec = new SCVal[values.length];
+    for (int i = 0; i < values.length; i++) {
+      vec[i] =
+          SCVal.builder()
+              .discriminant(SCValType.SCV_SYMBOL)
+              .sym(new SCSymbol(new XdrString(values[i])))
+              .build();
+    }
+    return SCVal.builder().discriminant(SCValType.SCV_VEC).vec(new SCVec(vec)).build();
+  }
+
+  private static ContractEvent event(SCVal... topics) {
+    return ContractEvent.builder()
+        .ext(ExtensionPoint.builder().discriminant(0).build())
+        .type(ContractEventType.CONTRACT)
+        .body(
+            ContractEvent.ContractEventBody.builder()
+                .discriminant(0)
+                .v0(
+                    ContractEvent.ContractEventBody.ContractEventV0.builder()
+                        .topics(topics)
+                        .data(SCVal.builder().discriminant(SCValType.SCV_VOID).build())
+                        .build())
+                .build())
+        .build();
+  }
+
+  @Test
+  public void testDecodeIntoReusesInstance() throws IOException {
+    ContractEvent first = event(symbols("transfer"), symbols("from", "to"));
+    ContractEvent second = event(symbols("mint"), symbols("to", "amount"));
+    ContractEvent decoded =
+        ContractEvent.decodeInto(null, new XdrDataInputStream(first.toXdrByteArray()));
+    assertEquals(first, decoded);
+    SCVal[] topics = decoded.getBody().getV0().getTopics();
+
+    ContractEvent reused =
+        ContractEvent.decodeInto(decoded, new XdrDataInputStream(second.toXdrByteArray()));
+    assertSame(decoded, reused);
+    assertSame(topics, reused.getBody().getV0().getTopics());
+    assertEquals(second, reused);
+  }
+
+  @Test
+  public void testDecodeIntoDifferentShape() throws IOException {
+    ContractEvent decoded =
+        ContractEvent.decodeInto(
+            null, new XdrDataInputStream(event(symbols("a"), symbols("b")).toXdrByteArray()));
+    ContractEvent longer = event(symbols("a"), symbols("b"), symbols("c"));
+    assertEquals(
+        longer, ContractEvent.decodeInto(decoded, new XdrDataInputStream(longer.toXdrByteArray())));
+    ContractEvent shorter = event(symbols("a"));
+    assertEquals(
+        shorter,
+        ContractEvent.decodeInto(decoded, new XdrDataInputStream(shorter.toXdrByteArray())));
+
+    // An instance is only reused for the same arm of a union, so the other arms stay null.
+    Asset asset = Asset.decodeInto(null, new XdrDataInputStream(asset("USD", 1).toXdrByteArray()));
+    Asset nativeAsset = Asset.builder().discriminant(AssetType.ASSET_TYPE_NATIVE).build();
+    Asset decodedNative =
+        Asset.decodeInto(asset, new XdrDataInputStream(nativeAsset.toXdrByteArray()));
+    assertNotSame(asset, decodedNative);
+    assertEquals(nativeAsset, decodedNative);
+  }
+
+  @Test
+  public void testInternedValuesAreNotModified() throws IOException {
+    XdrDataInputStream stream = new XdrDataInputStream(asset("USD", 1).toXdrByteArray());
+    stream.setInterner(new XdrInterner());
+    Asset usd = Asset.decode(stream);
+
+    stream = new XdrDataInputStream(asset("EUR", 2).toXdrByteArray());
+    stream.setInterner(new XdrInterner());
+    Asset eur = Asset.decodeInto(usd, stream);
+    assertNotSame(usd, eur);
+    assertEquals(asset("USD", 1), usd);
+    assertEquals(asset("EUR", 2), eur);
+  }
+
+  @Test
+  public void testRecycler() throws IOException {
+    TransactionResultMetaV1[] txProcessing =
+        LedgerCloseMetaFixtures.v2Ledger(1).getV2().getTxProcessing();
+    XdrRecycler<TransactionMeta> recycler = new XdrRecycler<>(TransactionMeta::decodeInto);
+    TransactionMeta last = null;
+    for (int i = 0; i < 3; i++) {
+      for (TransactionResultMetaV1 meta : txProcessing) {
+        TransactionMeta expected = meta.getTxApplyProcessing();
+        byte[] xdr = expected.toXdrByteArray();
+        TransactionMeta decoded = recycler.decode(new XdrDataInputStream(xdr));
+        assertEquals(expected, decoded);
+        assertArrayEquals(xdr, decoded.toXdrByteArray());
+        if (last != null && decoded.getDiscriminant().equals(last.getDiscriminant())) {
+          assertSame(last, decoded);
+        }
+        last = decoded;
+      }
+    }
+  }
+
+  @Test
+  public void testRecyclerIsPerThread() throws Exception {
+    byte[] xdr = asset("USD", 1).toXdrByteArray();
+    XdrRecycler<Asset> recycler = new XdrRecycler<>(Asset::decodeInto);
+    Asset asset = recycler.decode(new XdrDataInputStream(xdr));
+    assertSame(asset, recycler.decode(new XdrDataInputStream(xdr)));
+
+    AtomicReference<Asset> other = new AtomicReference<>();
+    Thread thread =
+        new Thread(
+            () -> {
+              try {
+                other.set(recycler.decode(new XdrDataInputStream(xdr)));
+              } catch (IOException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+    thread.start();
+    thread.join();
+    assertEquals(asset, other.get());
+    assertNotSame(asset, other.get());
+
+    recycler.clear();
+    assertNotSame(asset, recycler.decode(new XdrDataInputStream(xdr)));
+  }
+
+  @Test
+  public void testRecyclerDropsValueOnError() throws IOException {
+    byte[] xdr = asset("USD", 1).toXdrByteArray();
+    XdrRecycler<Asset> recycler = new XdrRecycler<>(Asset::decodeInto);
+    Asset asset = recycler.decode(new XdrDataInputStream(xdr));
+    try {
+      recycler.decode(new XdrDataInputStream(Arrays.copyOf(xdr, 6)));
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+    Asset decoded = recycler.decode(new XdrDataInputStream(xdr));
+    assertNotSame(asset, decoded);
+    assertEquals(asset("USD", 1), decoded);
+  }
+}
@@ -0,0 +1,130 @@
+package org.stellar.sdk.xdr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.Test;
+import org.stellar.sdk.Base64Factory;
+
+public class XdrValidatorTest {
+  // A v1 transaction envelope with time bounds, no memo and one operation.
+  private static final String TX_ENVELOPE =
+      "AAAAAgAAAACXIHNxnX1Tc5DKrwmmqNfCzQEKIV3Uyod6yxaTDKxe+AABkscCiGb5AEhGoQAAAAEAAAAAAAAAAAAAAABmi7XhAAAAAAAAAAEAAAAAAAAAAwAAAAAAAAABWFJQAAAAAABvF6+da84qsKUGM1pUpaqkjO/azcr/o0SbYbgrLCrfEQAAAAAZ/l3JAAPQmQATEtAAAAAAXiu/0wAAAAAAAAABDKxe+AAAAEBjBC+6aoTFhL2RdhnIfUp4HEz1ICC9iolTZGXx4+9+U+2VhlERtzZ73tg+0P4hhcjhwIJIxjCPNnjXtTcVqM4H";
+  private static final int MEMO_OFFSET = 72;
+  private static final int OPERATIONS_SIZE_OFFSET = 76;
+
+  private static byte[] envelope() {
+    return Base64Factory.getInstance().decode(TX_ENVELOPE);
+  }
+
+  private static byte[] withInt(byte[] bytes, int offset, int value) {
+    ByteBuffer.wrap(bytes).putInt(offset, value);
+    return bytes;
+  }
+
+  private static void assertInvalid(byte[] bytes) {
+    try {
+      XdrValidator.validate(TransactionEnvelope::skip, bytes);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+
+  @Test
+  public void testValidEnvelope() throws IOException {
+    byte[] bytes = envelope();
+    XdrValidator.validate(TransactionEnvelope::skip, bytes);
+    XdrValidator.validateBase64(TransactionEnvelope::skip, TX_ENVELOPE);
+    assertTrue(XdrValidator.isValid(TransactionEnvelope::skip, bytes));
+    assertEquals(
+        bytes.length, XdrValidator.skip(TransactionEnvelope::skip, ByteBuffer.wrap(bytes)));
+  }
+
+  @Test
+  public void testSkipReturnsEndOffset() throws IOException {
+    byte[] bytes = envelope();
+    byte[] twoEnvelopes = new byte[bytes.length * 2 + 4];
+    System.arraycopy(bytes, 0, twoEnvelopes, 4, bytes.length);
+    System.arraycopy(bytes, 0, twoEnvelopes, 4 + bytes.length, bytes.length);
+
+    int end = XdrValidator.skip(TransactionEnvelope::skip, twoEnvelopes, 4);
+    assertEquals(4 + bytes.length, end);
+    assertEquals(
+        twoEnvelopes.length, XdrValidator.skip(TransactionEnvelope::skip, twoEnvelopes, end));
+  }
+
+  @Test
+  public void testTrailingBytes() {
+    byte[] bytes = Arrays.copyOf(envelope(), envelope().length + 4);
+    assertInvalid(bytes);
+    assertFalse(XdrValidator.isValid(TransactionEnvelope::skip, bytes));
+  }
+
+  @Test
+  public void testTruncated() {
+    byte[] bytes = envelope();
+    assertInvalid(Arrays.copyOf(bytes, bytes.length - 4));
+  }
+
+  @Test
+  public void testUnknownUnionDiscriminant() {
+    // ENVELOPE_TYPE_SCP is a valid EnvelopeType, but not a valid TransactionEnvelope.
+    assertInvalid(withInt(envelope(), 0, EnvelopeType.ENVELOPE_TYPE_SCP.getValue()));
+  }
+
+  @Test
+  public void testUnknownEnumValue() {
+    assertInvalid(withInt(envelope(), MEMO_OFFSET, 42));
+  }
+
+  @Test
+  public void testArrayTooLong() {
+    assertInvalid(withInt(envelope(), OPERATIONS_SIZE_OFFSET, Constants.MAX_OPS_PER_TX + 1));
+    assertInvalid(withInt(envelope(), OPERATIONS_SIZE_OFFSET, -1));
+  }
+
+  @Test
+  public void testStringTooLong() {
+    ByteBuffer memo = ByteBuffer.allocate(40);
+    memo.putInt(MemoType.MEMO_TEXT.getValue()).putInt(29);
+    try {
+      XdrValidator.validate(Memo::skip, memo.array());
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+
+  @Test
+  public void testNonZeroPadding() throws IOException {
+    ByteBuffer memo = ByteBuffer.allocate(12);
+    memo.putInt(MemoType.MEMO_TEXT.getValue()).putInt(3).put(new byte[] {'a', 'b', 'c'});
+    XdrValidator.validate(Memo::skip, memo.array());
+
+    memo.put((byte) 1);
+    try {
+      XdrValidator.validate(Memo::skip, memo.array());
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+
+  @Test
+  public void testInvalidOptionalFlag() throws IOException {
+    ByteBuffer preconditions = ByteBuffer.allocate(28);
+    // No time bounds, ledger bounds, min sequence number or extra signers.
+    preconditions.putInt(0).putInt(0).putInt(0).putLong(0).putInt(0).putInt(0);
+    XdrValidator.validate(PreconditionsV2::skip, preconditions.array());
+
+    preconditions.putInt(0, 2);
+    try {
+      XdrValidator.validate(PreconditionsV2::skip, preconditions.array());
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+}
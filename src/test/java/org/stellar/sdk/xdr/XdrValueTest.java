@@ -0,0 +1,109 @@
+package org.stellar.sdk.xdr;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class XdrValueTest {
+  private static SCVal symbol(String value) {
+    return SCVal.builder()
+        .discriminant(SCValType.SCV_SYMBOL)
+        .sym(new SCSymbol(new XdrString(value)))
+        .build();
+  }
+
+  private static PublicKey publicKey() {
+    return PublicKey.builder()
+        .discriminant(PublicKeyType.PUBLIC_KEY_TYPE_ED25519)
+        .ed25519(new Uint256(new byte[32]))
+        .build();
+  }
+
+  @Test
+  public void testEquality() throws IOException {
+    XdrValue<SCVal> amount = XdrValue.of(symbol("amount"), SCVal::decode);
+    assertEquals(amount, XdrValue.of(symbol("amount"), SCVal::decode));
+    assertEquals(amount.hashCode(), XdrValue.of(symbol("amount"), SCVal::decode).hashCode());
+    assertNotEquals(amount, XdrValue.of(symbol("clawback"), SCVal::decode));
+    assertEquals(
+        amount, XdrValue.fromXdrByteArray(symbol("amount").toXdrByteArray(), SCVal::decode));
+  }
+
+  @Test
+  public void testTypeIsPartOfEquality() throws IOException {
+    // A PublicKey and an AccountID holding it have the same encoding.
+    XdrValue<PublicKey> publicKey = XdrValue.of(publicKey(), PublicKey::decode);
+    XdrValue<AccountID> accountId = XdrValue.of(new AccountID(publicKey()), AccountID::decode);
+    assertArrayEquals(publicKey.toXdrByteArray(), accountId.toXdrByteArray());
+    assertNotEquals(publicKey, accountId);
+  }
+
+  @Test
+  public void testMapKey() throws IOException {
+    Map<XdrValue<SCVal>, SCVal> map = new HashMap<>();
+    for (String key : new String[] {"amount", "authorized", "clawback"}) {
+      map.put(XdrValue.of(symbol(key), SCVal::decode), symbol(key + "Value"));
+    }
+    assertEquals(
+        symbol("authorizedValue"), map.get(XdrValue.of(symbol("authorized"), SCVal::decode)));
+  }
+
+  @Test
+  public void testImmutable() throws IOException {
+    SCVal value = symbol("amount");
+    XdrValue<SCVal> immutable = XdrValue.of(value, SCVal::decode);
+    int hashCode = immutable.hashCode();
+    value.setSym(new SCSymbol(new XdrString("changed")));
+    assertEquals(symbol("amount"), immutable.get());
+    assertEquals(hashCode, immutable.hashCode());
+
+    SCVal decoded = immutable.get();
+    assertNotSame(decoded, immutable.get());
+    decoded.setSym(new SCSymbol(new XdrString("changed")));
+    assertEquals(symbol("amount"), immutable.get());
+
+    byte[] xdr = immutable.toXdrByteArray();
+    xdr[xdr.length - 1] = 1;
+    assertEquals(symbol("amount"), immutable.get());
+  }
+
+  @Test
+  public void testEncode() throws IOException {
+    SCVal value = symbol("amount");
+    XdrValue<SCVal> immutable = XdrValue.of(value, SCVal::decode);
+    assertEquals(value.encodedSize(), immutable.encodedSize());
+    assertEquals(value.toXdrBase64(), immutable.toXdrBase64());
+    assertEquals(value.toJson(), immutable.toJson());
+
+    // The encoding can be written in place of the value, here as the elements of an SCVec.
+    SCVec vec = new SCVec(new SCVal[] {value, value});
+    byte[] expected = vec.toXdrByteArray();
+    byte[] actual = new byte[expected.length];
+    XdrDataOutputStream stream = new XdrDataOutputStream(actual);
+    stream.writeInt(2);
+    immutable.encode(stream);
+    immutable.encode(stream);
+    assertArrayEquals(expected, actual);
+
+    assertEquals("XdrValue(type=SCVal, xdr=" + value.toXdrBase64() + ")", immutable.toString());
+  }
+
+  @Test
+  public void testFromXdrByteArrayRejectsTrailingBytes() throws IOException {
+    byte[] xdr = symbol("amount").toXdrByteArray();
+    byte[] padded = new byte[xdr.length + 4];
+    System.arraycopy(xdr, 0, padded, 0, xdr.length);
+    try {
+      XdrValue.fromXdrByteArray(padded, SCVal::decode);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+}
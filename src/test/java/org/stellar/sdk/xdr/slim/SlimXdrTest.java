@@ -0,0 +1,220 @@
+package org.stellar.sdk.xdr.slim;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import org.junit.Test;
+import org.stellar.sdk.ingest.LedgerCloseMetaFixtures;
+import org.stellar.sdk.xdr.AccountID;
+import org.stellar.sdk.xdr.Int64;
+import org.stellar.sdk.xdr.LedgerEntryType;
+import org.stellar.sdk.xdr.PublicKeyType;
+import org.stellar.sdk.xdr.SCMapEntry;
+import org.stellar.sdk.xdr.SCSymbol;
+import org.stellar.sdk.xdr.SCValType;
+import org.stellar.sdk.xdr.SCVec;
+import org.stellar.sdk.xdr.SequenceNumber;
+import org.stellar.sdk.xdr.SponsorshipDescriptor;
+import org.stellar.sdk.xdr.String32;
+import org.stellar.sdk.xdr.Thresholds;
+import org.stellar.sdk.xdr.Uint256;
+import org.stellar.sdk.xdr.Uint32;
+import org.stellar.sdk.xdr.Uint64;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+import org.stellar.sdk.xdr.XdrDecodeLimits;
+import org.stellar.sdk.xdr.XdrElement;
+import org.stellar.sdk.xdr.XdrString;
+import org.stellar.sdk.xdr.XdrUnsignedHyperInteger;
+import org.stellar.sdk.xdr.XdrUnsignedInteger;
+
+public class SlimXdrTest {
+  private static org.stellar.sdk.xdr.PublicKey publicKey(int seed) {
+    byte[] key = new byte[32];
+    key[0] = (byte) seed;
+    return org.stellar.sdk.xdr.PublicKey.builder()
+        .discriminant(PublicKeyType.PUBLIC_KEY_TYPE_ED25519)
+        .ed25519(new Uint256(key))
+        .build();
+  }
+
+  private static org.stellar.sdk.xdr.LedgerEntry accountEntry() {
+    org.stellar.sdk.xdr.AccountEntryExtensionV2 v2 =
+        org.stellar.sdk.xdr.AccountEntryExtensionV2.builder()
+            .numSponsored(new Uint32(new XdrUnsignedInteger(0xFFFFFFFFL)))
+            .numSponsoring(new Uint32(new XdrUnsignedInteger(1)))
+            .signerSponsoringIDs(
+                new SponsorshipDescriptor[] {
+                  new SponsorshipDescriptor(new AccountID(publicKey(2))),
+                  new SponsorshipDescriptor(null)
+                })
+            .ext(
+                org.stellar.sdk.xdr.AccountEntryExtensionV2.AccountEntryExtensionV2Ext.builder()
+                    .discriminant(0)
+                    .build())
+            .build();
+    org.stellar.sdk.xdr.AccountEntry account =
+        org.stellar.sdk.xdr.AccountEntry.builder()
+            .accountID(new AccountID(publicKey(1)))
+            .balance(new Int64(1234567890123L))
+            .seqNum(new SequenceNumber(new Int64(42L)))
+            .numSubEntries(new Uint32(new XdrUnsignedInteger(2)))
+            .flags(new Uint32(new XdrUnsignedInteger(0)))
+            .homeDomain(new String32(new XdrString("stellar.org")))
+            .thresholds(new Thresholds(new byte[] {1, 0, 0, 0}))
+            .signers(new org.stellar.sdk.xdr.Signer[0])
+            .ext(
+                org.stellar.sdk.xdr.AccountEntry.AccountEntryExt.builder()
+                    .discriminant(1)
+                    .v1(
+                        org.stellar.sdk.xdr.AccountEntryExtensionV1.builder()
+                            .liabilities(
+                                org.stellar.sdk.xdr.Liabilities.builder()
+                                    .buying(new Int64(0L))
+                                    .selling(new Int64(0L))
+                                    .build())
+                            .ext(
+                                org.stellar.sdk.xdr.AccountEntryExtensionV1
+                                    .AccountEntryExtensionV1Ext.builder()
+                                    .discriminant(2)
+                                    .v2(v2)
+                                    .build())
+                            .build())
+                    .build())
+            .build();
+    return org.stellar.sdk.xdr.LedgerEntry.builder()
+        .lastModifiedLedgerSeq(new Uint32(new XdrUnsignedInteger(100)))
+        .data(
+            org.stellar.sdk.xdr.LedgerEntry.LedgerEntryData.builder()
+                .discriminant(LedgerEntryType.ACCOUNT)
+                .account(account)
+                .build())
+        .ext(org.stellar.sdk.xdr.LedgerEntry.LedgerEntryExt.builder().discriminant(0).build())
+        .build();
+  }
+
+  private static org.stellar.sdk.xdr.SCVal symbol(String value) {
+    return org.stellar.sdk.xdr.SCVal.builder()
+        .discriminant(SCValType.SCV_SYMBOL)
+        .sym(new SCSymbol(new XdrString(value)))
+        .build();
+  }
+
+  private static org.stellar.sdk.xdr.SCVal u64(BigInteger value) {
+    return org.stellar.sdk.xdr.SCVal.builder()
+        .discriminant(SCValType.SCV_U64)
+        .u64(new Uint64(new XdrUnsignedHyperInteger(value)))
+        .build();
+  }
+
+  private static void assertRoundTrip(XdrElement regular, XdrElement slim) throws IOException {
+    byte[] xdr = regular.toXdrByteArray();
+    assertArrayEquals(xdr, slim.toXdrByteArray());
+    assertEquals(xdr.length, slim.encodedSize());
+    assertEquals(regular.toJson(), slim.toJson());
+  }
+
+  @Test
+  public void testLedgerEntry() throws IOException {
+    org.stellar.sdk.xdr.LedgerEntry regular = accountEntry();
+    LedgerEntry slim = LedgerEntry.fromXdrByteArray(regular.toXdrByteArray());
+    assertRoundTrip(regular, slim);
+    assertEquals(slim, LedgerEntry.fromXdr(regular));
+    assertEquals(slim.hashCode(), LedgerEntry.fromXdr(regular).hashCode());
+    assertEquals(regular, slim.toXdr());
+
+    assertEquals(100, slim.getLastModifiedLedgerSeq());
+    AccountEntry account = slim.getData().getAccount();
+    assertEquals(1234567890123L, account.getBalance());
+    assertEquals(42L, account.getSeqNum());
+    assertArrayEquals("stellar.org".getBytes(), account.getHomeDomain());
+    assertEquals(1, account.getAccountID().getEd25519()[0]);
+    assertNull(account.getInflationDest());
+
+    org.stellar.sdk.xdr.AccountEntryExtensionV2 v2 =
+        regular.getData().getAccount().getExt().getV1().getExt().getV2();
+    AccountEntryExtensionV2 slimV2 = account.getExt().getV1().getExt().getV2();
+    assertEquals(0xFFFFFFFFL, Integer.toUnsignedLong(slimV2.getNumSponsored()));
+    assertEquals(2, slimV2.getSignerSponsoringIDs()[0].getEd25519()[0]);
+    assertNull(slimV2.getSignerSponsoringIDs()[1]);
+    assertEquals(v2, slimV2.toXdr());
+  }
+
+  @Test
+  public void testSCVal() throws IOException {
+    BigInteger max = XdrUnsignedHyperInteger.MAX_VALUE;
+    SCMapEntry entry = new SCMapEntry(symbol("amount"), u64(max));
+    org.stellar.sdk.xdr.SCVal map =
+        org.stellar.sdk.xdr.SCVal.builder()
+            .discriminant(SCValType.SCV_MAP)
+            .map(new org.stellar.sdk.xdr.SCMap(new SCMapEntry[] {entry}))
+            .build();
+    org.stellar.sdk.xdr.SCVal regular =
+        org.stellar.sdk.xdr.SCVal.builder()
+            .discriminant(SCValType.SCV_VEC)
+            .vec(new SCVec(new org.stellar.sdk.xdr.SCVal[] {map, u64(BigInteger.ONE)}))
+            .build();
+
+    SCVal slim = SCVal.fromXdrByteArray(regular.toXdrByteArray());
+    assertRoundTrip(regular, slim);
+    assertEquals(slim, SCVal.fromXdr(regular));
+    assertEquals(regular, slim.toXdr());
+
+    SCVal value = slim.getVec()[0].getMap()[0].getVal();
+    assertEquals(SCValType.SCV_U64, value.getDiscriminant());
+    assertEquals(-1L, value.getU64());
+    assertEquals(max, value.toXdr().getU64().getUint64().getNumber());
+    assertArrayEquals("amount".getBytes(), slim.getVec()[0].getMap()[0].getKey().getSym());
+    assertEquals(1L, slim.getVec()[1].getU64());
+
+    org.stellar.sdk.xdr.SCVal none =
+        org.stellar.sdk.xdr.SCVal.builder().discriminant(SCValType.SCV_VEC).build();
+    assertRoundTrip(none, SCVal.fromXdr(none));
+    assertNull(SCVal.fromXdrByteArray(none.toXdrByteArray()).getVec());
+  }
+
+  @Test
+  public void testSCValDepthLimit() throws IOException {
+    org.stellar.sdk.xdr.SCVal value = symbol("leaf");
+    for (int i = 0; i < 10; i++) {
+      value =
+          org.stellar.sdk.xdr.SCVal.builder()
+              .discriminant(SCValType.SCV_VEC)
+              .vec(new SCVec(new org.stellar.sdk.xdr.SCVal[] {value}))
+              .build();
+    }
+    byte[] xdr = value.toXdrByteArray();
+
+    // Each level is an SCVal and an SCVec, and the leaf is one more SCVal.
+    XdrDataInputStream stream = new XdrDataInputStream(xdr);
+    stream.setLimits(XdrDecodeLimits.builder().maxDepth(21).build());
+    assertEquals(SCVal.fromXdr(value), SCVal.decode(stream));
+
+    stream = new XdrDataInputStream(xdr);
+    stream.setLimits(XdrDecodeLimits.builder().maxDepth(20).build());
+    try {
+      SCVal.decode(stream);
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+    }
+  }
+
+  @Test
+  public void testTransactionResultMeta() throws IOException {
+    org.stellar.sdk.xdr.TransactionResultMetaV1[] txProcessing =
+        LedgerCloseMetaFixtures.v2Ledger(100).getV2().getTxProcessing();
+    for (org.stellar.sdk.xdr.TransactionResultMetaV1 regular : txProcessing) {
+      TransactionResultMetaV1 slim =
+          TransactionResultMetaV1.fromXdrByteArray(regular.toXdrByteArray());
+      assertRoundTrip(regular, slim);
+      assertEquals(slim, TransactionResultMetaV1.fromXdr(regular));
+      assertEquals(regular, slim.toXdr());
+      assertEquals(
+          regular.getResult().getResult().getFeeCharged().getInt64().longValue(),
+          slim.getResult().getResult().getFeeCharged());
+    }
+  }
+}